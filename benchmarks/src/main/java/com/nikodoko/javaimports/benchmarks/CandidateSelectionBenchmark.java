@@ -0,0 +1,94 @@
+package com.nikodoko.javaimports.benchmarks;
+
+import com.nikodoko.javaimports.common.Identifier;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.ImportProvider;
+import com.nikodoko.javaimports.common.Selector;
+import com.nikodoko.javaimports.fixer.candidates.BasicCandidateSelectionStrategy;
+import com.nikodoko.javaimports.fixer.candidates.BestCandidates;
+import com.nikodoko.javaimports.fixer.candidates.Candidate;
+import com.nikodoko.javaimports.fixer.candidates.CandidateFinder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Finds and selects the best candidates for a file with many unresolved identifiers, each of them
+ * having many candidates, the way {@code Fixer} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CandidateSelectionBenchmark {
+  @Param({"100"})
+  int unresolved;
+
+  @Param({"10", "100", "1000"})
+  int candidatesPerIdentifier;
+
+  List<List<String>> selectors;
+  CandidateFinder finder;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    Map<Candidate.Source, Map<String, List<Import>>> universe = new HashMap<>();
+    selectors = new ArrayList<>();
+    for (int i = 0; i < unresolved; i++) {
+      String name = "Name" + i;
+      // Some identifiers are used through their enclosing class
+      selectors.add(i % 4 == 0 ? List.of("Outer" + i, name) : List.of(name));
+      for (int j = 0; j < candidatesPerIdentifier; j++) {
+        Candidate.Source source = Candidate.Source.values()[random.nextInt(3)];
+        List<String> selector = new ArrayList<>();
+        // Deep packages, with a few of them shared to exercise the common scope filter
+        selector.addAll(
+            List.of("com", "bench", "module" + random.nextInt(20), "pkg" + random.nextInt(200)));
+        if (j % 2 == 0) {
+          selector.add("Outer" + i);
+        }
+        selector.add(name);
+        universe
+            .computeIfAbsent(source, k -> new HashMap<>())
+            .computeIfAbsent(name, k -> new ArrayList<>())
+            .add(new Import(Selector.of(selector), false));
+      }
+    }
+
+    finder = new CandidateFinder();
+    for (var e : universe.entrySet()) {
+      finder.add(e.getKey(), provider(e.getValue()));
+    }
+  }
+
+  private static ImportProvider provider(Map<String, List<Import>> imports) {
+    return (Identifier i) -> imports.getOrDefault(i.toString(), List.of());
+  }
+
+  @Benchmark
+  public BestCandidates findAndSelect() {
+    List<Selector> toFind = new ArrayList<>(selectors.size());
+    for (List<String> selector : selectors) {
+      toFind.add(Selector.of(selector));
+    }
+
+    return new BasicCandidateSelectionStrategy().selectBest(finder.find(toFind));
+  }
+}
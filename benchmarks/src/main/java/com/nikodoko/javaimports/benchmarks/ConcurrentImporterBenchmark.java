@@ -0,0 +1,87 @@
+package com.nikodoko.javaimports.benchmarks;
+
+import com.nikodoko.javaimports.Importer;
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Fixes the target file of a {@link SyntheticProject} with a single {@link Importer} shared by all
+ * threads, the way an editor integration serving many requests at once would.
+ *
+ * <p>Compare the throughput of {@code concurrent} with the one of {@code sequential} to see how
+ * well requests scale with threads. Each thread also checks that its last result is the same as the
+ * one of a request made alone, so that contention cannot silently change results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ConcurrentImporterBenchmark {
+  SyntheticProject project;
+  Options options;
+  Importer importer;
+  String expected;
+
+  @Setup
+  public void setup() throws Exception {
+    project = SyntheticProject.generate(10, 100, 10);
+    options =
+        Options.builder()
+            .repository(project.repository())
+            .stdlib(StdlibProviders.java8())
+            .cache(project.cache())
+            .build();
+    importer = new Importer(options);
+    expected = importer.addUsedImports(project.target(), project.code());
+    ScalingBenchmark.check(expected);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    options.close();
+    project.delete();
+  }
+
+  @State(Scope.Thread)
+  public static class LastResult {
+    String fixed;
+
+    @TearDown(Level.Iteration)
+    public void check(ConcurrentImporterBenchmark benchmark) {
+      if (fixed != null && !fixed.equals(benchmark.expected)) {
+        throw new IllegalStateException(
+            "concurrent result differs from the sequential one:\n" + fixed);
+      }
+    }
+  }
+
+  @Benchmark
+  @Threads(8)
+  public String concurrent(LastResult last) throws Exception {
+    last.fixed = importer.addUsedImports(project.target(), project.code());
+    return last.fixed;
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String sequential(LastResult last) throws Exception {
+    last.fixed = importer.addUsedImports(project.target(), project.code());
+    return last.fixed;
+  }
+}
@@ -0,0 +1,153 @@
+package com.nikodoko.javaimports.benchmarks;
+
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.common.Identifier;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import com.nikodoko.javaimports.environment.Environment;
+import com.nikodoko.javaimports.fixer.Fixer;
+import com.nikodoko.javaimports.fixer.Result;
+import com.nikodoko.javaimports.parser.ParsedFile;
+import com.nikodoko.javaimports.parser.Parser;
+import com.nikodoko.javaimports.stdlib.StdlibProvider;
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Fixes a file using the stdlib and an environment that both count how many identifiers they are
+ * asked about, the way {@code Importer} does once siblings are not enough.
+ *
+ * <p>The {@code stdlibLookups} and {@code environmentLookups} secondary results count the
+ * identifiers looked up in total, divide them by the {@code fixes} one to get lookups per fix.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FixerBenchmark {
+  @Param({"100"})
+  int unresolved;
+
+  ParsedFile file;
+  Options options;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Lookups {
+    public long stdlibLookups;
+    public long environmentLookups;
+    public long fixes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      stdlibLookups = 0;
+      environmentLookups = 0;
+      fixes = 0;
+    }
+  }
+
+  @Setup
+  public void setup() throws Exception {
+    var stdlibTypes = List.of("List", "Map", "Duration", "Optional", "Stream", "Path", "Files");
+    var code = new StringBuilder("package com.bench;\n\nclass Main {\n");
+    for (int i = 0; i < unresolved; i++) {
+      // Half of the identifiers come from the stdlib, the other half from the environment
+      var type = i % 2 == 0 ? stdlibTypes.get((i / 2) % stdlibTypes.size()) : "External" + i;
+      code.append(String.format("  %s f%d;\n", type, i));
+    }
+    code.append("}\n");
+
+    options = Options.defaults();
+    file = new Parser(options).parse(Paths.get("Main.java"), code.toString()).orElseThrow();
+  }
+
+  @Benchmark
+  public Result fix(Lookups lookups) {
+    lookups.fixes++;
+    var fixer = Fixer.init(file, options);
+    fixer.addStdlibProvider(new CountingStdlib(StdlibProviders.java8(), lookups));
+    fixer.addEnvironment(new CountingEnvironment(lookups));
+    return fixer.lastTryToFix();
+  }
+
+  private static class CountingStdlib implements StdlibProvider {
+    final StdlibProvider delegate;
+    final Lookups lookups;
+
+    CountingStdlib(StdlibProvider delegate, Lookups lookups) {
+      this.delegate = delegate;
+      this.lookups = lookups;
+    }
+
+    @Override
+    public Map<String, Import> find(Iterable<String> identifiers) {
+      identifiers.forEach(__ -> lookups.stdlibLookups++);
+      return delegate.find(identifiers);
+    }
+
+    @Override
+    public boolean isInJavaLang(String identifier) {
+      return delegate.isInJavaLang(identifier);
+    }
+
+    @Override
+    public Collection<Import> findImports(Identifier i) {
+      lookups.stdlibLookups++;
+      return delegate.findImports(i);
+    }
+  }
+
+  private static class CountingEnvironment implements Environment {
+    final Lookups lookups;
+
+    CountingEnvironment(Lookups lookups) {
+      this.lookups = lookups;
+    }
+
+    @Override
+    public Optional<Import> search(String identifier) {
+      lookups.environmentLookups++;
+      return importFor(identifier);
+    }
+
+    @Override
+    public Collection<Import> findImports(Identifier i) {
+      lookups.environmentLookups++;
+      return importFor(i.toString()).map(List::of).orElse(List.of());
+    }
+
+    @Override
+    public Set<ParsedFile> filesInPackage(String packageName) {
+      return Set.of();
+    }
+
+    private static Optional<Import> importFor(String identifier) {
+      if (!identifier.startsWith("External")) {
+        return Optional.empty();
+      }
+
+      return Optional.of(new Import(Selector.of("com", "external", identifier), false));
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.nikodoko.javaimports.benchmarks;
+
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.environment.JarLoader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scans a synthetic jar for the classes it contains, the way dependencies found in a pom or a
+ * Gradle build are.
+ *
+ * <p>The jar is generated in a temporary directory, so this does not depend on the local Maven
+ * repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JarLoaderBenchmark {
+  // Roughly the size of a small library, and of guava
+  @Param({"100", "2000"})
+  int classes;
+
+  Path dir;
+  Path jar;
+  JarLoader loader;
+
+  @Setup
+  public void setup() throws IOException {
+    dir = Files.createTempDirectory("javaimports-bench");
+    jar = dir.resolve("dependency.jar");
+    List<String> entries = new ArrayList<>();
+    for (int i = 0; i < classes; i++) {
+      var name = String.format("com/bench/module%d/pkg%d/Class%d", i % 7, i % 31, i);
+      // Real jars also contain nested and anonymous classes, that are skipped
+      entries.addAll(List.of(name, name + "$Inner", name + "$1"));
+    }
+    SyntheticProject.writeJar(jar, entries);
+
+    loader = new JarLoader();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.delete(jar);
+    Files.delete(dir);
+  }
+
+  @Benchmark
+  public List<Import> load() throws IOException {
+    return loader.load(jar);
+  }
+}
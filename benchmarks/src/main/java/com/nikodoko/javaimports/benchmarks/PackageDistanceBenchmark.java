@@ -0,0 +1,58 @@
+package com.nikodoko.javaimports.benchmarks;
+
+import com.nikodoko.javaimports.environment.PackageDistance;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Computes the distance from the package of a file to the packages of many candidates, the way
+ * environments rank imports found in a project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PackageDistanceBenchmark {
+  @Param({"1000"})
+  int packages;
+
+  List<String> others;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    others = new ArrayList<>(packages);
+    for (int i = 0; i < packages; i++) {
+      others.add(
+          String.format(
+              "com.bench.module%d.pkg%d.sub%d",
+              random.nextInt(5), random.nextInt(20), random.nextInt(5)));
+    }
+  }
+
+  @Benchmark
+  public int to() {
+    var distance = PackageDistance.from("com.bench.module2.pkg7.sub1");
+    int total = 0;
+    for (String other : others) {
+      total += distance.to(other);
+    }
+
+    return total;
+  }
+}
@@ -0,0 +1,94 @@
+package com.nikodoko.javaimports.benchmarks;
+
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.parser.ParsedFile;
+import com.nikodoko.javaimports.parser.Parser;
+import com.nikodoko.javaimports.parser.internal.UnresolvedIdentifierScanner;
+import com.sun.source.tree.CompilationUnitTree;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses a generated file, and scans an already parsed one for unresolved identifiers.
+ *
+ * <p>{@code parse} is what {@code Importer} pays for the target file and each of its siblings,
+ * {@code scan} is the part of it that is not spent in javac.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+  // A typical class, and one the size of a generated parser
+  @Param({"10", "2000"})
+  int methods;
+
+  Path path;
+  String code;
+  Parser parser;
+  CompilationUnitTree unit;
+
+  @Setup
+  public void setup() throws Exception {
+    path = Paths.get("Main.java");
+    code = generate(methods);
+    parser = new Parser(Options.defaults());
+    unit = Parser.getCompilationUnit(path.toString(), code);
+  }
+
+  static String generate(int methods) {
+    var code = new StringBuilder("package com.bench;\n\nimport java.util.List;\n\n");
+    code.append("public class Main extends Base implements Api {\n");
+    code.append("  private final Map<String, List<Item>> items = new HashMap<>();\n\n");
+    for (int i = 0; i < methods; i++) {
+      code.append(String.format("  public Optional<Result> method%d(Item item, int n) {\n", i));
+      code.append("    int total = 0;\n");
+      code.append("    for (int j = 0; j < n; j++) {\n");
+      code.append(String.format("      total += helper%d(item, j) + CONSTANT;\n", i % 50));
+      code.append("    }\n");
+      code.append("    var values = items.get(item.name());\n");
+      code.append("    Runnable r = () -> Logger.log(\"total: \" + total);\n");
+      code.append("    try {\n");
+      code.append("      values.stream().map(Item::name).forEach(System.out::println);\n");
+      code.append("    } catch (IllegalStateException e) {\n");
+      code.append("      throw new ApiException(e);\n");
+      code.append("    }\n");
+      code.append(String.format("    return Optional.of(new Result%d(total));\n", i % 20));
+      code.append("  }\n\n");
+      if (i % 100 == 99) {
+        code.append(String.format("  static class Nested%d extends Base {\n", i));
+        code.append("    Item item;\n");
+        code.append("  }\n\n");
+      }
+    }
+    code.append("}\n");
+    return code.toString();
+  }
+
+  @Benchmark
+  public Optional<ParsedFile> parse() throws Exception {
+    return parser.parse(path, code);
+  }
+
+  @Benchmark
+  public UnresolvedIdentifierScanner scan() {
+    var scanner = new UnresolvedIdentifierScanner();
+    scanner.scan(unit, null);
+    return scanner;
+  }
+}
@@ -0,0 +1,152 @@
+package com.nikodoko.javaimports.benchmarks;
+
+import com.nikodoko.javaimports.Importer;
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Fixes the target file of a {@link SyntheticProject} of increasing size, end to end.
+ *
+ * <p>{@code cold} measures a single request in a fresh JVM, the way the CLI runs: static caches
+ * (resolved versions, reactor indexes...) persist across {@link Importer}s, so creating a new one
+ * is not enough to start cold. Each fork only measures one request, and its score is the
+ * distribution of these requests over all forks.
+ *
+ * <p>{@code warm} reuses the same {@link Importer} with a cache directory, the way an editor
+ * integration would. Its results are sampled, so that JMH reports latency percentiles.
+ *
+ * <p>Run it with its {@link #main} to also get the peak heap of each configuration (through {@link
+ * PeakHeapProfiler}): {@code java -cp benchmarks/target/benchmarks.jar
+ * com.nikodoko.javaimports.benchmarks.ScalingBenchmark [JMH options]}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ScalingBenchmark {
+  public enum Size {
+    SMALL(10, 100, 10),
+    MEDIUM(50, 1000, 50),
+    LARGE(100, 3000, 100);
+
+    final int packages;
+    final int files;
+    final int jars;
+
+    Size(int packages, int files, int jars) {
+      this.packages = packages;
+      this.files = files;
+      this.jars = jars;
+    }
+  }
+
+  @Param({"SMALL", "MEDIUM", "LARGE"})
+  Size size;
+
+  SyntheticProject project;
+
+  @Setup
+  public void setup() throws Exception {
+    project = SyntheticProject.generate(size.packages, size.files, size.jars);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    project.delete();
+  }
+
+  static Options.Builder options(SyntheticProject project) {
+    return Options.builder().repository(project.repository()).stdlib(StdlibProviders.java8());
+  }
+
+  // Make sure the project is realistic enough for all sources of imports to be used
+  static void check(String fixed) {
+    for (String expected : new String[] {"java.time.Duration", "com.bench.deps", "com.bench.app"}) {
+      if (!fixed.contains("import " + expected)) {
+        throw new IllegalStateException("missing import of " + expected + " in:\n" + fixed);
+      }
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class WarmImporter {
+    Options options;
+    Importer importer;
+
+    @Setup
+    public void setup(ScalingBenchmark benchmark) throws Exception {
+      // Reusing an importer only pays off with a place to cache what it computed
+      options = options(benchmark.project).cache(benchmark.project.cache()).build();
+      importer = new Importer(options);
+      check(importer.addUsedImports(benchmark.project.target(), benchmark.project.code()));
+    }
+
+    @TearDown
+    public void tearDown() {
+      options.close();
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class ColdImporter {
+    Options options;
+    Importer importer;
+    String fixed;
+
+    @Setup
+    public void setup(ScalingBenchmark benchmark) {
+      options = options(benchmark.project).build();
+      importer = new Importer(options);
+    }
+
+    @TearDown
+    public void tearDown() {
+      options.close();
+      // Checked afterwards, as fixing the file beforehand would warm the caches
+      check(fixed);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Warmup(iterations = 0)
+  @Measurement(iterations = 1)
+  @Fork(value = 10, jvmArgsAppend = "-Xmx2g")
+  public String cold(ColdImporter cold) throws Exception {
+    cold.fixed = cold.importer.addUsedImports(project.target(), project.code());
+    return cold.fixed;
+  }
+
+  @Benchmark
+  public String warm(WarmImporter warm) throws Exception {
+    return warm.importer.addUsedImports(project.target(), project.code());
+  }
+
+  public static void main(String[] args) throws Exception {
+    new Runner(
+            new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(ScalingBenchmark.class.getName())
+                .addProfiler(PeakHeapProfiler.class)
+                .build())
+        .run();
+  }
+}
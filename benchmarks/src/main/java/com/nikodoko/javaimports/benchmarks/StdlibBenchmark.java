@@ -0,0 +1,84 @@
+package com.nikodoko.javaimports.benchmarks;
+
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.stdlib.StdlibProvider;
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import com.nikodoko.javaimports.stdlib.internal.api.v8.Java8Stdlib;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Looks up identifiers in the Java 8 stdlib, directly and through the provider {@code Fixer} uses.
+ *
+ * <p>Most identifiers of a real file are not in the stdlib, so lookups mix hits and misses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StdlibBenchmark {
+  private static final List<String> IN_STDLIB =
+      List.of(
+          "List",
+          "Map",
+          "Optional",
+          "Duration",
+          "Stream",
+          "Path",
+          "Files",
+          "Entry",
+          "Collectors",
+          "Function",
+          "Executor",
+          "TimeUnit",
+          "Objects",
+          "Pattern",
+          "BigDecimal",
+          "Instant");
+
+  @Param({"100"})
+  int identifiers;
+
+  List<String> toFind;
+  Java8Stdlib stdlib;
+  StdlibProvider provider;
+
+  @Setup
+  public void setup() {
+    toFind = new ArrayList<>(identifiers);
+    for (int i = 0; i < identifiers; i++) {
+      toFind.add(i % 2 == 0 ? IN_STDLIB.get((i / 2) % IN_STDLIB.size()) : "Missing" + i);
+    }
+
+    stdlib = new Java8Stdlib();
+    provider = StdlibProviders.java8();
+  }
+
+  @Benchmark
+  public void getClassesFor(Blackhole bh) {
+    for (String identifier : toFind) {
+      bh.consume(stdlib.getClassesFor(identifier));
+    }
+  }
+
+  @Benchmark
+  public Map<String, Import> find() {
+    return provider.find(toFind);
+  }
+}
@@ -0,0 +1,245 @@
+package com.nikodoko.javaimports.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * A generated Maven project, along with a local repository containing its dependencies, to see how
+ * {@code javaimports} scales with the size of its inputs.
+ *
+ * <p>The project has {@code packages} packages under {@code com.bench.app} holding {@code files}
+ * files in total. The first class of each package extends the one of the previous package, so that
+ * the target file (the first file of the last package) sits at the bottom of a hierarchy as deep as
+ * there are packages. The repository follows the layout of {@code core/src/test/resources/
+ * testrepository}, with {@code jars} artifacts that each contain {@link #CLASSES_PER_JAR} classes.
+ *
+ * <p>The target file uses classes from its package, from other packages, from the stdlib and from
+ * the dependencies, as well as members inherited from the whole hierarchy.
+ */
+public final class SyntheticProject {
+  static final int CLASSES_PER_JAR = 100;
+
+  private static final String GROUP_ID = "com.bench.deps";
+
+  private final Path root;
+  private final Path target;
+  private final String code;
+
+  private SyntheticProject(Path root, Path target, String code) {
+    this.root = root;
+    this.target = target;
+    this.code = code;
+  }
+
+  /** Generates a project in a new temporary directory. */
+  public static SyntheticProject generate(int packages, int files, int jars) throws IOException {
+    if (packages < 1 || files < packages) {
+      throw new IllegalArgumentException(
+          String.format("cannot spread %d files across %d packages", files, packages));
+    }
+
+    Path root = Files.createTempDirectory("javaimports-synthetic");
+    writeRepository(root.resolve("repository"), jars);
+    Path project = root.resolve("project");
+    writePom(project.resolve("pom.xml"), jars);
+
+    Path sources = project.resolve("src/main/java/com/bench/app");
+    int filesPerPackage = files / packages;
+    for (int p = 0; p < packages; p++) {
+      // The last package gets the remaining files
+      int count = p == packages - 1 ? files - filesPerPackage * (packages - 1) : filesPerPackage;
+      for (int f = 0; f < count; f++) {
+        write(sources.resolve(pkg(p)).resolve(className(p, f) + ".java"), source(p, f));
+      }
+    }
+
+    Path target = sources.resolve(pkg(packages - 1)).resolve(className(packages - 1, 0) + ".java");
+    String code = target(packages, filesPerPackage, jars);
+    write(target, code);
+    return new SyntheticProject(root, target, code);
+  }
+
+  /** The local repository holding the dependencies of the project. */
+  public Path repository() {
+    return root.resolve("repository");
+  }
+
+  /** An empty directory, that can be used as a cache. */
+  public Path cache() {
+    return root.resolve("cache");
+  }
+
+  /** The file to fix. */
+  public Path target() {
+    return target;
+  }
+
+  /** The content of the file to fix. */
+  public String code() {
+    return code;
+  }
+
+  /** Deletes the project and its repository. */
+  public void delete() throws IOException {
+    try (Stream<Path> paths = Files.walk(root)) {
+      for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  /**
+   * Writes a jar at {@code path}, containing (empty) class files for {@code classes}, a list of
+   * slash separated class names without their extension.
+   */
+  static void writeJar(Path path, List<String> classes) throws IOException {
+    Files.createDirectories(path.getParent());
+    try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(path))) {
+      byte[] content = new byte[512];
+      for (String name : classes) {
+        out.putNextEntry(new JarEntry(name + ".class"));
+        out.write(content);
+        out.closeEntry();
+      }
+
+      out.putNextEntry(new JarEntry("META-INF/LICENSE"));
+      out.closeEntry();
+    }
+  }
+
+  private static void writeRepository(Path repository, int jars) throws IOException {
+    for (int k = 0; k < jars; k++) {
+      Path dir = repository.resolve(GROUP_ID.replace('.', '/')).resolve(artifact(k)).resolve("1.0");
+      List<String> classes = new ArrayList<>();
+      for (int c = 0; c < CLASSES_PER_JAR; c++) {
+        String name = String.format("com/bench/deps/dep%d/pkg%d/%s", k, c % 5, depClass(k, c));
+        classes.add(name);
+        // Real jars also contain nested and anonymous classes
+        classes.add(name + "$Inner");
+        classes.add(name + "$1");
+      }
+
+      writeJar(dir.resolve(artifact(k) + "-1.0.jar"), classes);
+      write(dir.resolve(artifact(k) + "-1.0.pom"), pom(artifact(k), ""));
+    }
+  }
+
+  private static void writePom(Path path, int jars) throws IOException {
+    StringBuilder dependencies = new StringBuilder("  <dependencies>\n");
+    for (int k = 0; k < jars; k++) {
+      dependencies.append(
+          String.format(
+              "    <dependency>\n"
+                  + "      <groupId>%s</groupId>\n"
+                  + "      <artifactId>%s</artifactId>\n"
+                  + "      <version>1.0</version>\n"
+                  + "    </dependency>\n",
+              GROUP_ID, artifact(k)));
+    }
+    dependencies.append("  </dependencies>\n");
+    write(path, pom("app", dependencies.toString()));
+  }
+
+  private static String pom(String artifactId, String dependencies) {
+    return String.format(
+        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+            + "  <modelVersion>4.0.0</modelVersion>\n"
+            + "  <groupId>%s</groupId>\n"
+            + "  <artifactId>%s</artifactId>\n"
+            + "  <version>1.0</version>\n"
+            + "%s"
+            + "</project>\n",
+        GROUP_ID, artifactId, dependencies);
+  }
+
+  private static String source(int p, int f) {
+    StringBuilder code = new StringBuilder();
+    code.append(String.format("package com.bench.app.%s;\n\n", pkg(p)));
+    boolean inHierarchy = f == 0 && p > 0;
+    if (inHierarchy) {
+      code.append(String.format("import com.bench.app.%s.%s;\n", pkg(p - 1), className(p - 1, 0)));
+    }
+    code.append("import java.util.List;\n\n");
+    code.append(String.format("public class %s", className(p, f)));
+    if (inHierarchy) {
+      code.append(" extends ").append(className(p - 1, 0));
+    }
+    code.append(" {\n");
+    code.append(String.format("  protected List<String> field%d_%d;\n\n", p, f));
+    code.append(String.format("  protected int helper%d_%d(int n) {\n", p, f));
+    code.append("    int total = 0;\n");
+    code.append("    for (int i = 0; i < n; i++) {\n");
+    code.append("      total += i;\n");
+    code.append("    }\n\n");
+    code.append("    return total;\n");
+    code.append("  }\n");
+    code.append("}\n");
+    return code.toString();
+  }
+
+  private static String target(int packages, int filesPerPackage, int jars) {
+    int p = packages - 1;
+    StringBuilder code = new StringBuilder();
+    code.append(String.format("package com.bench.app.%s;\n\n", pkg(p)));
+    code.append(String.format("public class %s", className(p, 0)));
+    if (p > 0) {
+      code.append(" extends ").append(className(p - 1, 0));
+    }
+    code.append(" {\n");
+    code.append("  Map<String, List<Object>> usages = new HashMap<>();\n\n");
+    code.append("  void use() {\n");
+    for (int f = 1; f < filesPerPackage; f += Math.max(1, filesPerPackage / 5)) {
+      // Siblings
+      code.append(String.format("    %s sibling%d = new %1$s();\n", className(p, f), f));
+    }
+    for (int other = 0; other < p; other += Math.max(1, packages / 10)) {
+      // Classes from other packages of the project
+      int f = Math.min(1, filesPerPackage - 1);
+      code.append(String.format("    %s other%d = null;\n", className(other, f), other));
+    }
+    for (int k = 0; k < jars; k += Math.max(1, jars / 10)) {
+      // Classes from the dependencies
+      code.append(String.format("    %s dep%d = null;\n", depClass(k, k % CLASSES_PER_JAR), k));
+    }
+    for (int ancestor = 0; ancestor < p; ancestor++) {
+      // Members inherited from the whole hierarchy
+      code.append(String.format("    field%d_0 = List.of();\n", ancestor));
+      code.append(String.format("    helper%d_0(%d);\n", ancestor, ancestor));
+    }
+    code.append("    Duration timeout = Duration.ofSeconds(1);\n");
+    code.append("  }\n");
+    code.append("}\n");
+    return code.toString();
+  }
+
+  private static void write(Path path, String content) throws IOException {
+    Files.createDirectories(path.getParent());
+    Files.write(path, content.getBytes(UTF_8));
+  }
+
+  private static String pkg(int p) {
+    return "pkg" + p;
+  }
+
+  private static String className(int p, int f) {
+    return String.format("Class%dx%d", p, f);
+  }
+
+  private static String artifact(int k) {
+    return "dep" + k;
+  }
+
+  private static String depClass(int k, int c) {
+    return String.format("Dep%dClass%d", k, c);
+  }
+}
@@ -0,0 +1,11 @@
+package com.nikodoko.javaimports.cds;
+
+// Fixed while building the AppCDS archive (see the appcds profile): its missing imports come from
+// the stdlib, from javaimports itself and from its dependencies, so that training loads the classes
+// used by all the steps of a typical run. It is not compiled.
+class Training {
+  Map<String, List<Path>> files = new HashMap<>();
+  Duration timeout = Duration.ofSeconds(1);
+  ImmutableList<Options> options = ImmutableList.of(Options.defaults());
+  Importer importer = new Importer(options.get(0));
+}
@@ -0,0 +1,91 @@
+package com.nikodoko.javaimports;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Lets a request made to an {@link Importer} be cancelled from another thread, or after a deadline.
+ *
+ * <p>Long running steps (parsing files, scanning jars...) regularly call {@link
+ * #throwIfCancelled()}, so that a cancelled request stops doing any work shortly after.
+ *
+ * <p>Steps that can give partial results tell the two apart: a request that is cancelled does not
+ * need any result, while a request past its deadline wants whatever could be found in time.
+ */
+public final class Cancellation {
+  private static final Cancellation NEVER = new Cancellation(false, null, 0);
+
+  private final boolean cancellable;
+  // The cancellation this one was derived from, optionally null
+  private final Cancellation parent;
+  // In System.nanoTime() terms, only meaningful with a parent
+  private final long deadline;
+  private volatile boolean cancelled = false;
+
+  private Cancellation(boolean cancellable, Cancellation parent, long deadline) {
+    this.cancellable = cancellable;
+    this.parent = parent;
+    this.deadline = deadline;
+  }
+
+  /** Returns a new {@code Cancellation}, that is not cancelled yet. */
+  public static Cancellation create() {
+    return new Cancellation(true, null, 0);
+  }
+
+  /** Returns a {@code Cancellation} that can never be cancelled. */
+  public static Cancellation never() {
+    return NEVER;
+  }
+
+  /**
+   * Returns a new {@code Cancellation} that expires {@code timeout} from now, and that is cancelled
+   * whenever this one is.
+   */
+  public Cancellation withDeadline(Duration timeout) {
+    return new Cancellation(true, this, System.nanoTime() + timeout.toNanos());
+  }
+
+  /** Returns the {@code Cancellation} this one was derived from, if it only adds a deadline. */
+  public Cancellation withoutDeadline() {
+    return parent == null ? this : parent.withoutDeadline();
+  }
+
+  /** Cancels this {@code Cancellation}, does nothing if it is already cancelled. */
+  public void cancel() {
+    if (cancellable) {
+      cancelled = true;
+    }
+  }
+
+  /** Whether this {@code Cancellation} was explicitly cancelled. */
+  public boolean isCancelled() {
+    return cancelled || (parent != null && parent.isCancelled());
+  }
+
+  /** Whether the deadline of this {@code Cancellation} has passed. */
+  public boolean isExpired() {
+    return remainingNanos() <= 0;
+  }
+
+  /** The time left before the deadline, in nanoseconds ({@code Long.MAX_VALUE} if none). */
+  public long remainingNanos() {
+    long remaining = parent == null ? Long.MAX_VALUE : deadline - System.nanoTime();
+    return parent == null ? remaining : Math.min(remaining, parent.remainingNanos());
+  }
+
+  /**
+   * Throws a {@link CancellationException} if this {@code Cancellation} is cancelled or expired.
+   *
+   * @throws CancellationException if this {@code Cancellation} is cancelled or expired
+   */
+  public void throwIfCancelled() {
+    if (isCancelled()) {
+      throw new CancellationException("request was cancelled");
+    }
+
+    if (isExpired()) {
+      throw new CancellationException("request is past its deadline");
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.nikodoko.javaimports;
+
+import com.google.common.base.MoreObjects;
+
+/** Source code fixed by an {@link Importer}, and how it was fixed. */
+public final class Fixed {
+  private final String code;
+  private final boolean deadlineExceeded;
+
+  Fixed(String code, boolean deadlineExceeded) {
+    this.code = code;
+    this.deadlineExceeded = deadlineExceeded;
+  }
+
+  /** The fixed source code. */
+  public String code() {
+    return code;
+  }
+
+  /**
+   * Whether the {@code Importer} ran out of time (see {@link Options#deadline()}), in which case
+   * imports that it did not have the time to find may be missing.
+   */
+  public boolean deadlineExceeded() {
+    return deadlineExceeded;
+  }
+
+  /** Debugging support. */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("code", code)
+        .add("deadlineExceeded", deadlineExceeded)
+        .toString();
+  }
+}
@@ -4,10 +4,11 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import com.google.common.collect.Range;
+import com.nikodoko.javaimports.Profile.Phase;
+import com.nikodoko.javaimports.common.Import;
 import com.nikodoko.javaimports.environment.Environments;
 import com.nikodoko.javaimports.fixer.Fixer;
 import com.nikodoko.javaimports.fixer.Result;
-import com.nikodoko.javaimports.parser.Import;
 import com.nikodoko.javaimports.parser.ParsedFile;
 import com.nikodoko.javaimports.parser.Parser;
 import java.io.IOError;
@@ -22,6 +23,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -30,13 +36,16 @@ import java.util.stream.Collectors;
  * Finds all unresolved identifiers in a source file (variables, methods and classes that are used
  * but not declared in this source file) and tries to add appropriate import clauses when needed,
  * using various approaches.
+ *
+ * <p>An {@code Importer} keeps no state across calls to {@link #addUsedImports}, so it can be
+ * shared by threads fixing different files concurrently.
  */
 public final class Importer {
   private static final Logger log = Logger.getLogger(Importer.class.getName());
   private static final Clock clock = Clock.systemDefaultZone();
 
-  private Options options;
-  private Parser parser;
+  private final Options options;
+  private final Parser parser;
 
   /** An {@code Importer} constructor with default options */
   public Importer() {
@@ -76,18 +85,47 @@ public final class Importer {
    */
   public String addUsedImports(final Path filename, final String javaCode)
       throws ImporterException {
+    return fix(filename, javaCode).code();
+  }
+
+  /**
+   * Same as {@link #addUsedImports}, but also tells whether the {@link Options#deadline()} was
+   * exceeded, in which case the fixed code is only what could be found in time.
+   *
+   * @param filename the absolute path to the file to fix
+   * @param javaCode the source code to fix
+   * @throws ImporterException if the source code cannot be parsed
+   */
+  public Fixed fix(final Path filename, final String javaCode) throws ImporterException {
+    if (options.deadline().isPresent()) {
+      // Start the clock for this request only
+      return new Importer(options.forRequest(options.cancellation())).fix(filename, javaCode);
+    }
+
     long start = clock.millis();
-    try {
-      Optional<ParsedFile> f = parser.parse(filename, javaCode);
+    try (Profile.Timer total = options.profile().time(Phase.TOTAL)) {
+      Optional<ParsedFile> f;
+      try (Profile.Timer t = options.profile().time(Phase.TARGET_PARSE)) {
+        f = parser.parse(filename, javaCode);
+      } catch (CancellationException e) {
+        throwIfCancelled(e);
+        return new Fixed(javaCode, true);
+      }
+
       if (f.isEmpty()) {
         if (options.debug()) {
           log.log(Level.WARNING, "file is empty");
         }
-        return javaCode;
+        return new Fixed(javaCode, false);
       }
 
       Result fixes = getFixes(filename, f.get());
-      return applyFixes(f.get(), javaCode, fixes);
+      boolean deadlineExceeded = options.cancellation().isExpired();
+      if (options.debug() && deadlineExceeded) {
+        log.log(Level.WARNING, "deadline exceeded, imports might be missing");
+      }
+
+      return new Fixed(applyFixes(f.get(), javaCode, fixes), deadlineExceeded);
     } finally {
       if (options.debug()) {
         log.log(Level.INFO, String.format("total time: %d ms", clock.millis() - start));
@@ -95,6 +133,47 @@ public final class Importer {
     }
   }
 
+  /**
+   * Same as {@link #addUsedImports}, but runs in the background (in the {@link
+   * ForkJoinPool#commonPool()}).
+   *
+   * @see #addUsedImportsAsync(Path, String, Executor)
+   */
+  public CompletableFuture<String> addUsedImportsAsync(final Path filename, final String javaCode) {
+    return addUsedImportsAsync(filename, javaCode, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Same as {@link #addUsedImports}, but runs in the background using {@code executor}.
+   *
+   * <p>Cancelling the returned future stops the request: parsing, scanning dependencies, etc. will
+   * stop shortly after, without waiting for the whole request to complete.
+   *
+   * @param filename the absolute path to the file to fix
+   * @param javaCode the source code to fix
+   * @param executor the executor running the request
+   * @return a future completing with the fixed source code, or exceptionally with an {@link
+   *     ImporterException} if the source code cannot be parsed
+   */
+  public CompletableFuture<String> addUsedImportsAsync(
+      final Path filename, final String javaCode, Executor executor) {
+    Cancellation cancellation = Cancellation.create();
+    Importer importer = new Importer(options.forRequest(cancellation));
+    CompletableFuture<String> fixed =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return importer.addUsedImports(filename, javaCode);
+              } catch (ImporterException e) {
+                throw new CompletionException(e);
+              }
+            },
+            executor);
+    // Cancelling the future does not interrupt the task, so let the task know instead
+    fixed.whenComplete((__, ___) -> cancellation.cancel());
+    return fixed;
+  }
+
   private Result getFixes(Path filename, ParsedFile f) throws ImporterException {
     Fixer fixer = Fixer.init(f, options);
     // Initial run with the current file only.
@@ -110,7 +189,12 @@ public final class Importer {
     }
 
     // Add package information
-    Set<ParsedFile> siblings = parseSiblings(filename);
+    throwIfCancelled();
+    Set<ParsedFile> siblings;
+    try (Profile.Timer t = options.profile().time(Phase.SIBLING_PARSE)) {
+      siblings = parseSiblings(filename);
+    }
+
     fixer.addSiblings(siblings);
     r = fixer.tryToFix();
 
@@ -123,12 +207,30 @@ public final class Importer {
     // If other files in the package contain identifiers that also are in the standard library, we
     // want to resolve them before so as to avoid adding uneeded imports, so we need to add both the
     // stdlib provider and the resolver at the same time.
+    throwIfCancelled();
     fixer.addStdlibProvider(options.stdlib());
-    fixer.addEnvironment(Environments.autoSelect(filename, f.packageName(), options));
+    // Past the deadline, the (much cheaper) stdlib is all we can afford
+    if (!options.cancellation().isExpired()) {
+      fixer.addEnvironment(Environments.autoSelect(filename, f.packageName(), options));
+    }
 
     return fixer.lastTryToFix();
   }
 
+  // Past the deadline, requests keep going with what they found so far: only stop them when they
+  // are explicitly cancelled
+  private void throwIfCancelled() {
+    if (options.cancellation().isCancelled()) {
+      throw new CancellationException("request was cancelled");
+    }
+  }
+
+  private void throwIfCancelled(CancellationException e) {
+    if (options.cancellation().isCancelled()) {
+      throw e;
+    }
+  }
+
   // Find and parse all java files in the directory of filename, excepting filename itself
   private Set<ParsedFile> parseSiblings(final Path filename) throws ImporterException {
     Map<Path, String> sources = new HashMap<>();
@@ -145,6 +247,7 @@ public final class Importer {
               .collect(Collectors.toList());
 
       for (Path p : paths) {
+        throwIfCancelled();
         sources.put(p, new String(Files.readAllBytes(p), UTF_8));
       }
     } catch (IOException e) {
@@ -160,6 +263,9 @@ public final class Importer {
         parser.parse(source.getKey(), source.getValue()).ifPresent(siblings::add);
       } catch (ImporterException e) {
         exceptions.add(e);
+      } catch (CancellationException e) {
+        throwIfCancelled(e);
+        break;
       }
     }
 
@@ -170,14 +276,14 @@ public final class Importer {
     return siblings;
   }
 
-  private String buildImportStatements(Set<Import> fixes) {
+  private static String buildImportStatements(Set<Import> fixes) {
     // XXX: we don't really need to order imports alphabetically here, but we do it simply because
     // it's harder to test if the order is not deterministic
     return fixes.stream().map(Import::asStatement).sorted().collect(Collectors.joining(""));
   }
 
-  // Add all fixes to the original source code
-  private String applyFixes(ParsedFile file, final String original, Result result) {
+  // Add all fixes to the original source code (package-private for AllocationBudgetTest)
+  static String applyFixes(ParsedFile file, final String original, Result result) {
     if (result.fixes().isEmpty() && file.duplicates().isEmpty()) {
       return original;
     }
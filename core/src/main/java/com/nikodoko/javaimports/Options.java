@@ -3,22 +3,155 @@ package com.nikodoko.javaimports;
 import com.nikodoko.javaimports.stdlib.StdlibProvider;
 import com.nikodoko.javaimports.stdlib.StdlibProviders;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
-/** {@link Importer} options */
-public class Options {
+/**
+ * {@link Importer} options
+ *
+ * <p>Options own the thread pools they were explicitly configured with, and should be closed once
+ * the importers using them are not needed anymore. Options that do not set a number of threads
+ * share a default pool instead. All threads are daemon threads, so options that are never closed
+ * will not prevent the JVM from exiting.
+ */
+public class Options implements AutoCloseable {
   boolean debug;
   Optional<Path> repository;
   StdlibProvider stdlib;
   Executor executor;
+  Executor ioExecutor;
+  Executor parseExecutor;
+  Optional<Path> cache;
+  Optional<Path> classpath;
+  Optional<Duration> deadline;
+  boolean warmCaches;
+  boolean staticImports;
+  Profile profile;
+  Cancellation cancellation = Cancellation.never();
+  // The pools created by (and to be shut down with) these options
+  final List<ExecutorService> pools = new ArrayList<>();
 
   public Options(boolean debug, Optional<Path> repository, StdlibProvider stdlib, int numThreads) {
+    this(debug, repository, stdlib, numThreads, Optional.empty(), Optional.empty());
+  }
+
+  public Options(
+      boolean debug,
+      Optional<Path> repository,
+      StdlibProvider stdlib,
+      int numThreads,
+      Optional<Path> cache,
+      Optional<Path> classpath) {
+    this(
+        debug,
+        repository,
+        stdlib,
+        OptionalInt.of(numThreads),
+        OptionalInt.empty(),
+        OptionalInt.empty(),
+        cache,
+        classpath,
+        Optional.empty(),
+        false,
+        false,
+        Profile.disabled());
+  }
+
+  private Options(
+      boolean debug,
+      Optional<Path> repository,
+      StdlibProvider stdlib,
+      OptionalInt numThreads,
+      OptionalInt ioThreads,
+      OptionalInt parseThreads,
+      Optional<Path> cache,
+      Optional<Path> classpath,
+      Optional<Duration> deadline,
+      boolean warmCaches,
+      boolean staticImports,
+      Profile profile) {
     this.debug = debug;
     this.repository = repository;
     this.stdlib = stdlib;
-    this.executor = numThreads != 0 ? Executors.newFixedThreadPool(numThreads) : Runnable::run;
+    this.executor =
+        numThreads.isPresent() ? executor(numThreads.getAsInt(), "javaimports") : DefaultPool.POOL;
+    this.ioExecutor =
+        ioThreads.isPresent() ? executor(ioThreads.getAsInt(), "javaimports-io") : executor;
+    this.parseExecutor =
+        parseThreads.isPresent()
+            ? executor(parseThreads.getAsInt(), "javaimports-parse")
+            : executor;
+    this.cache = cache;
+    this.classpath = classpath;
+    this.deadline = deadline;
+    this.warmCaches = warmCaches;
+    this.staticImports = staticImports;
+    this.profile = profile;
+  }
+
+  // Shares everything with other, including its executors (but does not own them)
+  private Options(Options other, Cancellation cancellation) {
+    this.debug = other.debug;
+    this.repository = other.repository;
+    this.stdlib = other.stdlib;
+    this.executor = other.executor;
+    this.ioExecutor = other.ioExecutor;
+    this.parseExecutor = other.parseExecutor;
+    this.cache = other.cache;
+    this.classpath = other.classpath;
+    // Already part of the cancellation
+    this.deadline = Optional.empty();
+    this.warmCaches = other.warmCaches;
+    this.staticImports = other.staticImports;
+    this.profile = other.profile;
+    this.cancellation = cancellation;
+  }
+
+  // Created on first use only, and never shut down
+  private static final class DefaultPool {
+    // Work-stealing pools use daemon threads already
+    static final ExecutorService POOL = Executors.newWorkStealingPool();
+  }
+
+  // No threads runs tasks in the calling thread, a negative number of threads means as many as
+  // there are available processors
+  private Executor executor(int numThreads, String name) {
+    if (numThreads == 0) {
+      return Runnable::run;
+    }
+
+    // Work-stealing pools use daemon threads already
+    ExecutorService pool =
+        numThreads < 0
+            ? Executors.newWorkStealingPool()
+            : Executors.newFixedThreadPool(numThreads, daemonThreads(name));
+    pools.add(pool);
+    return pool;
+  }
+
+  private static ThreadFactory daemonThreads(String name) {
+    AtomicInteger count = new AtomicInteger();
+    return r -> {
+      Thread t = new Thread(r, name + "-" + count.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    };
+  }
+
+  /**
+   * Returns a copy of these options, to use for a single request cancelled by {@code c}. The
+   * deadline of the request (if any) starts now.
+   */
+  Options forRequest(Cancellation c) {
+    return new Options(this, deadline.map(c::withDeadline).orElse(c));
   }
 
   /** Specific directory to use as a dependency repository. */
@@ -41,11 +174,97 @@ public class Options {
     return executor;
   }
 
+  /**
+   * The executor to use to run tasks mostly waiting on I/O, like reading jars. Same as {@link
+   * #executor()} unless configured otherwise.
+   */
+  public Executor ioExecutor() {
+    return ioExecutor;
+  }
+
+  /**
+   * The executor to use to parse source files. Same as {@link #executor()} unless configured
+   * otherwise.
+   */
+  public Executor parseExecutor() {
+    return parseExecutor;
+  }
+
+  /** Directory where results that are expensive to compute can be cached across runs. */
+  public Optional<Path> cache() {
+    return cache;
+  }
+
+  /**
+   * A precomputed classpath to use instead of resolving dependencies from build files: either a
+   * file listing jars (like the output of {@code mvn dependency:build-classpath}) or a directory of
+   * jars.
+   */
+  public Optional<Path> classpath() {
+    return classpath;
+  }
+
+  /**
+   * How long a request can take before the {@code Importer} stops looking for imports, and uses
+   * whatever it found so far.
+   */
+  public Optional<Duration> deadline() {
+    return deadline;
+  }
+
+  /**
+   * Whether dependencies still loading when the deadline is reached should keep loading in the
+   * background. What they find is stored in the {@link #cache()} directory (if any), where the next
+   * requests read it.
+   */
+  public boolean warmCaches() {
+    return warmCaches;
+  }
+
+  /**
+   * Whether unresolved identifiers can be fixed with static imports of the members of dependencies
+   * (from the symbol index generated by the Maven plugin). Disabled by default, as member names
+   * like {@code of} or {@code valueOf} are shared by many types and often refer to something else.
+   */
+  public boolean staticImports() {
+    return staticImports;
+  }
+
+  /** Where to record how long each phase takes, disabled by default. */
+  public Profile profile() {
+    return profile;
+  }
+
+  /** Lets long running tasks know when to stop, as the request they are part of was cancelled. */
+  public Cancellation cancellation() {
+    return cancellation;
+  }
+
+  /**
+   * Shuts down the thread pools created by these options (the default pool is shared, and never
+   * shut down). Tasks already submitted still run, but importers using these options cannot be used
+   * anymore.
+   */
+  @Override
+  public void close() {
+    for (ExecutorService pool : pools) {
+      pool.shutdown();
+    }
+  }
+
   public static class Builder {
     boolean debug;
     Path repository;
     StdlibProvider stdlib;
-    int numThreads;
+    OptionalInt numThreads = OptionalInt.empty();
+    OptionalInt ioThreads = OptionalInt.empty();
+    OptionalInt parseThreads = OptionalInt.empty();
+    Path cache;
+    Path classpath;
+    Duration deadline;
+    boolean warmCaches;
+    boolean staticImports;
+    Profile profile = Profile.disabled();
 
     public Builder() {}
 
@@ -64,13 +283,72 @@ public class Options {
       return this;
     }
 
+    /**
+     * Number of threads to run parallel tasks with, {@code 0} to run them in the calling thread and
+     * a negative number to use all available processors. Defaults to a work-stealing pool using all
+     * available processors, shared by all options that do not set it.
+     */
     public Builder numThreads(int numThreads) {
-      this.numThreads = numThreads;
+      this.numThreads = OptionalInt.of(numThreads);
+      return this;
+    }
+
+    /** Number of threads dedicated to reading jars, instead of sharing the main ones. */
+    public Builder ioThreads(int ioThreads) {
+      this.ioThreads = OptionalInt.of(ioThreads);
+      return this;
+    }
+
+    /** Number of threads dedicated to parsing source files, instead of sharing the main ones. */
+    public Builder parseThreads(int parseThreads) {
+      this.parseThreads = OptionalInt.of(parseThreads);
+      return this;
+    }
+
+    public Builder cache(Path cache) {
+      this.cache = cache;
+      return this;
+    }
+
+    public Builder classpath(Path classpath) {
+      this.classpath = classpath;
+      return this;
+    }
+
+    public Builder deadline(Duration deadline) {
+      this.deadline = deadline;
+      return this;
+    }
+
+    public Builder warmCaches(boolean warmCaches) {
+      this.warmCaches = warmCaches;
+      return this;
+    }
+
+    public Builder staticImports(boolean staticImports) {
+      this.staticImports = staticImports;
+      return this;
+    }
+
+    public Builder profile(Profile profile) {
+      this.profile = profile;
       return this;
     }
 
     public Options build() {
-      return new Options(debug, Optional.ofNullable(repository), stdlib, numThreads);
+      return new Options(
+          debug,
+          Optional.ofNullable(repository),
+          stdlib,
+          numThreads,
+          ioThreads,
+          parseThreads,
+          Optional.ofNullable(cache),
+          Optional.ofNullable(classpath),
+          Optional.ofNullable(deadline),
+          warmCaches,
+          staticImports,
+          profile);
     }
   }
 
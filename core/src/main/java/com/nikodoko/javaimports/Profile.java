@@ -0,0 +1,186 @@
+package com.nikodoko.javaimports;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how long each phase of a run takes, and counts what is done along the way.
+ *
+ * <p>Phases can run in parallel, so their times are summed across threads: they tell where time is
+ * spent rather than how long the run took (see {@link Phase#TOTAL} for that).
+ *
+ * <p>A {@code Profile} can be shared by threads, and used for several runs, in which case it
+ * accumulates all of them.
+ */
+public final class Profile {
+  private static final Profile DISABLED = new Profile(false);
+  private static final Timer NO_TIMER = () -> {};
+
+  /** What a run spends time on. */
+  public enum Phase {
+    /** The whole run */
+    TOTAL,
+    /** Parsing the file to fix */
+    TARGET_PARSE,
+    /** Parsing the files in the same directory */
+    SIBLING_PARSE,
+    /** Finding the files of the project */
+    PROJECT_WALK,
+    /** Parsing the files of the project */
+    PROJECT_PARSE,
+    /** Reading build files (poms, build.gradle) and resolving dependencies */
+    POM_LOADING,
+    /** Scanning jars and directories of compiled classes */
+    JAR_SCANNING,
+    /** Indexing what was loaded, to look symbols up */
+    INDEX_BUILD,
+    /** Finding and selecting candidates for unresolved identifiers */
+    CANDIDATE_SELECTION,
+    /** Formatting the fixed file */
+    FORMATTING,
+  }
+
+  /** What a run counts. */
+  public enum Counter {
+    FILES_PARSED,
+    JARS_OPENED,
+    CANDIDATES_CONSIDERED,
+    CACHE_HITS,
+    CACHE_MISSES,
+  }
+
+  /** Times a phase until closed. */
+  public interface Timer extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  private final boolean enabled;
+  private final LongAdder[] nanos = adders(Phase.values().length);
+  private final LongAdder[] runs = adders(Phase.values().length);
+  private final LongAdder[] counts = adders(Counter.values().length);
+
+  private Profile(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  private static LongAdder[] adders(int size) {
+    LongAdder[] adders = new LongAdder[size];
+    for (int i = 0; i < size; i++) {
+      adders[i] = new LongAdder();
+    }
+
+    return adders;
+  }
+
+  /** Returns a new, empty {@code Profile}. */
+  public static Profile create() {
+    return new Profile(true);
+  }
+
+  /** Returns a {@code Profile} that records nothing, at no cost. */
+  public static Profile disabled() {
+    return DISABLED;
+  }
+
+  /** Starts timing {@code phase}, until the returned timer is closed. */
+  public Timer time(Phase phase) {
+    if (!enabled) {
+      return NO_TIMER;
+    }
+
+    long start = System.nanoTime();
+    return () -> {
+      nanos[phase.ordinal()].add(System.nanoTime() - start);
+      runs[phase.ordinal()].increment();
+    };
+  }
+
+  /** Adds {@code n} to {@code counter}. */
+  public void count(Counter counter, long n) {
+    if (enabled) {
+      counts[counter.ordinal()].add(n);
+    }
+  }
+
+  /** Adds one to {@code counter}. */
+  public void increment(Counter counter) {
+    count(counter, 1);
+  }
+
+  /** The time spent in {@code phase} so far, in nanoseconds. */
+  public long nanos(Phase phase) {
+    return nanos[phase.ordinal()].sum();
+  }
+
+  /** How many times {@code phase} was timed so far. */
+  public long runs(Phase phase) {
+    return runs[phase.ordinal()].sum();
+  }
+
+  /** The value of {@code counter} so far. */
+  public long count(Counter counter) {
+    return counts[counter.ordinal()].sum();
+  }
+
+  /**
+   * Returns this profile as a JSON object, with phases (time in milliseconds and number of runs)
+   * and counters keyed by their lowercase names.
+   */
+  public String toJson() {
+    return toJson(Map.of());
+  }
+
+  /** Same as {@link #toJson()}, with {@code metadata} (like a version) added as string fields. */
+  public String toJson(Map<String, String> metadata) {
+    StringBuilder json = new StringBuilder("{\n");
+    for (Map.Entry<String, String> field : new TreeMap<>(metadata).entrySet()) {
+      json.append(String.format("  %s: %s,\n", quote(field.getKey()), quote(field.getValue())));
+    }
+
+    json.append("  \"phases\": {");
+    String separator = "\n";
+    for (Phase phase : Phase.values()) {
+      json.append(separator)
+          .append(
+              String.format(
+                  Locale.ROOT,
+                  "    \"%s\": {\"ms\": %.3f, \"runs\": %d}",
+                  key(phase),
+                  nanos(phase) / 1_000_000.0,
+                  runs(phase)));
+      separator = ",\n";
+    }
+
+    json.append("\n  },\n  \"counters\": {");
+    separator = "\n";
+    for (Counter counter : Counter.values()) {
+      json.append(separator)
+          .append(String.format(Locale.ROOT, "    \"%s\": %d", key(counter), count(counter)));
+      separator = ",\n";
+    }
+
+    return json.append("\n  }\n}\n").toString();
+  }
+
+  private static String quote(String s) {
+    StringBuilder quoted = new StringBuilder("\"");
+    for (char c : s.toCharArray()) {
+      if (c == '"' || c == '\\') {
+        quoted.append('\\').append(c);
+      } else if (c < 0x20) {
+        quoted.append(String.format("\\u%04x", (int) c));
+      } else {
+        quoted.append(c);
+      }
+    }
+
+    return quoted.append('"').toString();
+  }
+
+  private static String key(Enum<?> e) {
+    return e.name().toLowerCase(Locale.ROOT);
+  }
+}
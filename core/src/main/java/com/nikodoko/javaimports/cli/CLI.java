@@ -4,9 +4,11 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 import com.google.googlejavaformat.java.Formatter;
 import com.google.googlejavaformat.java.FormatterException;
+import com.nikodoko.javaimports.Fixed;
 import com.nikodoko.javaimports.Importer;
 import com.nikodoko.javaimports.ImporterException;
 import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.Profile;
 import com.nikodoko.javaimports.stdlib.StdlibProviders;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
@@ -14,7 +16,9 @@ import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Map;
 
 /** The main class for the CLI */
 public final class CLI {
@@ -68,8 +72,8 @@ public final class CLI {
     return params;
   }
 
-  private String googleFormat(String code) {
-    try {
+  private String googleFormat(String code, Profile profile) {
+    try (Profile.Timer t = profile.time(Profile.Phase.FORMATTING)) {
       return new Formatter().formatSourceAndFixImports(code);
     } catch (FormatterException e) {
       // Formatting is not vital, so print a warning and continue
@@ -80,6 +84,33 @@ public final class CLI {
     return code;
   }
 
+  // Follows the XDG base directory specification, defaulting to ~/.cache
+  private static Path cacheDirectory() {
+    String xdgCacheHome = System.getenv("XDG_CACHE_HOME");
+    if (xdgCacheHome != null && !xdgCacheHome.isEmpty()) {
+      return Paths.get(xdgCacheHome, "javaimports");
+    }
+
+    return Paths.get(System.getProperty("user.home"), ".cache", "javaimports");
+  }
+
+  private void writeProfile(Profile profile, String file) {
+    // Unknown when not running from a jar
+    String version = CLI.class.getPackage().getImplementationVersion();
+    String json = profile.toJson(version == null ? Map.of() : Map.of("version", version));
+    if (file == null) {
+      errWriter.print(json);
+      return;
+    }
+
+    try {
+      Files.write(Paths.get(file), json.getBytes(UTF_8));
+    } catch (IOException e) {
+      // The profile is not vital, so print a warning and continue
+      errWriter.println("WARNING: could not write profile to " + file + ": " + e.getMessage());
+    }
+  }
+
   private int parse(String... args) throws UsageException {
     CLIOptions params = processArgs(args);
 
@@ -104,15 +135,38 @@ public final class CLI {
     }
 
     // TODO: make stdlib version a CLI option
-    Options opts =
+    Options.Builder builder =
         Options.builder()
             .debug(params.verbose())
             .stdlib(StdlibProviders.java8())
-            .numThreads(8)
-            .build();
+            .cache(cacheDirectory());
+    if (params.classpathFile() != null) {
+      builder.classpath(Paths.get(params.classpathFile()).toAbsolutePath());
+    }
+
+    if (params.ioThreads() != null) {
+      builder.ioThreads(params.ioThreads());
+    }
+
+    if (params.parseThreads() != null) {
+      builder.parseThreads(params.parseThreads());
+    }
+
+    if (params.deadlineMs() != null) {
+      builder.deadline(Duration.ofMillis(params.deadlineMs()));
+    }
+
+    Profile profile = params.profile() ? Profile.create() : Profile.disabled();
+    builder.profile(profile);
+
     String fixed;
-    try {
-      fixed = new Importer(opts).addUsedImports(path, input);
+    try (Options opts = builder.build()) {
+      Fixed result = new Importer(opts).fix(path, input);
+      if (result.deadlineExceeded()) {
+        errWriter.println("WARNING: deadline exceeded, some imports might be missing");
+      }
+
+      fixed = result.code();
     } catch (ImporterException e) {
       for (ImporterException.ImporterDiagnostic d : e.diagnostics()) {
         errWriter.println(d);
@@ -122,7 +176,11 @@ public final class CLI {
     }
 
     if (!params.fixOnly()) {
-      fixed = googleFormat(fixed);
+      fixed = googleFormat(fixed, profile);
+    }
+
+    if (params.profile()) {
+      writeProfile(profile, params.profileFile());
     }
 
     if (!params.replace()) {
@@ -8,6 +8,12 @@ final class CLIOptions {
   private final boolean replace;
   private final boolean fixOnly;
   private final boolean verbose;
+  private final String classpathFile;
+  private final Integer ioThreads;
+  private final Integer parseThreads;
+  private final Long deadlineMs;
+  private final boolean profile;
+  private final String profileFile;
 
   CLIOptions(
       String file,
@@ -15,13 +21,25 @@ final class CLIOptions {
       boolean version,
       boolean replace,
       boolean fixOnly,
-      boolean verbose) {
+      boolean verbose,
+      String classpathFile,
+      Integer ioThreads,
+      Integer parseThreads,
+      Long deadlineMs,
+      boolean profile,
+      String profileFile) {
     this.file = file;
     this.help = help;
     this.version = version;
     this.replace = replace;
     this.fixOnly = fixOnly;
     this.verbose = verbose;
+    this.classpathFile = classpathFile;
+    this.ioThreads = ioThreads;
+    this.parseThreads = parseThreads;
+    this.deadlineMs = deadlineMs;
+    this.profile = profile;
+    this.profileFile = profileFile;
   }
 
   /** The file to operate on */
@@ -53,6 +71,36 @@ final class CLIOptions {
     return version;
   }
 
+  /** A file (or directory of jars) to use as the classpath instead of resolving dependencies */
+  String classpathFile() {
+    return classpathFile;
+  }
+
+  /** Number of threads reading jars, optionally null */
+  Integer ioThreads() {
+    return ioThreads;
+  }
+
+  /** Number of threads parsing source files, optionally null */
+  Integer parseThreads() {
+    return parseThreads;
+  }
+
+  /** How long to look for imports before settling for what was found, optionally null */
+  Long deadlineMs() {
+    return deadlineMs;
+  }
+
+  /** Whether to output a profile of the run */
+  boolean profile() {
+    return profile;
+  }
+
+  /** Where to write the profile of the run, optionally null to print it to stderr */
+  String profileFile() {
+    return profileFile;
+  }
+
   static class Builder {
     private String file;
     private boolean help;
@@ -60,6 +108,12 @@ final class CLIOptions {
     private boolean replace;
     private boolean fixOnly;
     private boolean verbose;
+    private String classpathFile;
+    private Integer ioThreads;
+    private Integer parseThreads;
+    private Long deadlineMs;
+    private boolean profile;
+    private String profileFile;
 
     Builder file(String file) {
       this.file = file;
@@ -91,8 +145,50 @@ final class CLIOptions {
       return this;
     }
 
+    Builder classpathFile(String classpathFile) {
+      this.classpathFile = classpathFile;
+      return this;
+    }
+
+    Builder ioThreads(int ioThreads) {
+      this.ioThreads = ioThreads;
+      return this;
+    }
+
+    Builder parseThreads(int parseThreads) {
+      this.parseThreads = parseThreads;
+      return this;
+    }
+
+    Builder deadlineMs(long deadlineMs) {
+      this.deadlineMs = deadlineMs;
+      return this;
+    }
+
+    Builder profile(boolean profile) {
+      this.profile = profile;
+      return this;
+    }
+
+    Builder profileFile(String profileFile) {
+      this.profileFile = profileFile;
+      return this;
+    }
+
     CLIOptions build() {
-      return new CLIOptions(file, help, version, replace, fixOnly, verbose);
+      return new CLIOptions(
+          file,
+          help,
+          version,
+          replace,
+          fixOnly,
+          verbose,
+          classpathFile,
+          ioThreads,
+          parseThreads,
+          deadlineMs,
+          profile,
+          profileFile);
     }
   }
 
@@ -71,6 +71,29 @@ public class CLIOptionsParser {
         case "--version":
         case "-version":
           optsBuilder.version(true);
+          break;
+        case "--classpath-file":
+          if (fv.value == null || fv.value.isEmpty()) {
+            throw new IllegalArgumentException("--classpath-file expects a value");
+          }
+
+          optsBuilder.classpathFile(fv.value);
+          break;
+        case "--io-threads":
+          optsBuilder.ioThreads(parseThreads(fv));
+          break;
+        case "--parse-threads":
+          optsBuilder.parseThreads(parseThreads(fv));
+          break;
+        case "--deadline-ms":
+          optsBuilder.deadlineMs(parseDeadline(fv));
+          break;
+        case "--profile":
+          optsBuilder.profile(true);
+          if (fv.value != null && !fv.value.isEmpty()) {
+            optsBuilder.profileFile(fv.value);
+          }
+
           break;
         default:
           throw new IllegalArgumentException("unexpected flag: " + fv.flag);
@@ -79,4 +102,30 @@ public class CLIOptionsParser {
 
     return optsBuilder.build();
   }
+
+  private static int parseThreads(FlagAndValue fv) {
+    try {
+      int threads = Integer.parseInt(fv.value);
+      if (threads >= 0) {
+        return threads;
+      }
+    } catch (NumberFormatException e) {
+      // Handled below
+    }
+
+    throw new IllegalArgumentException(fv.flag + " expects a number of threads");
+  }
+
+  private static long parseDeadline(FlagAndValue fv) {
+    try {
+      long deadline = Long.parseLong(fv.value);
+      if (deadline >= 0) {
+        return deadline;
+      }
+    } catch (NumberFormatException e) {
+      // Handled below
+    }
+
+    throw new IllegalArgumentException(fv.flag + " expects a number of milliseconds");
+  }
 }
@@ -11,8 +11,19 @@ public class UsageException extends Exception {
     "Usage: javaimports [options] file",
     "",
     "Options:",
+    "  --classpath-file=<path>",
+    "    Use the jars listed in this file (as output by mvn dependency:build-classpath), or",
+    "    contained in this directory, instead of resolving dependencies.",
+    "  --deadline-ms=<n>",
+    "    Stop looking for imports after n milliseconds, and use what was found so far.",
     "  --fix-only",
     "    Do not format ouput, simply add and remove imports.",
+    "  --io-threads=<n>",
+    "    Read dependencies using n dedicated threads (0 to read them in the main thread).",
+    "  --parse-threads=<n>",
+    "    Parse project files using n dedicated threads (0 to parse them in the main thread).",
+    "  --profile, --profile=<path>",
+    "    Print how long each phase took (and what it did) as JSON to stderr, or to this file.",
     "  --replace, -replace, -r, -w",
     "    Write result to source file instead of stdout.",
     "  --verbose, -verbose, -v",
@@ -1,18 +1,35 @@
 package com.nikodoko.javaimports.common;
 
-import java.util.Objects;
-
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * A single java identifier.
+ *
+ * <p>Identifiers are interned: there is only one instance per value, so that they can be compared
+ * by reference and do not get duplicated across the (many) selectors that contain them. Interning
+ * is weak, so that identifiers that are not used anymore can still be garbage collected.
+ */
 public final class Identifier {
+  private static final Interner<Identifier> interned = Interners.newWeakInterner();
+
   private final String value;
+  private final int hash;
 
-  public Identifier(String value) {
+  private Identifier(String value) {
     this.value = value;
+    this.hash = value.hashCode();
+  }
+
+  /** Returns the {@code Identifier} for {@code value}. */
+  public static Identifier of(String value) {
+    return interned.intern(new Identifier(value));
   }
 
   @Override
   public boolean equals(Object o) {
-    if (o == null) {
-      return false;
+    if (this == o) {
+      return true;
     }
 
     if (!(o instanceof Identifier)) {
@@ -20,12 +37,12 @@ public final class Identifier {
     }
 
     var that = (Identifier) o;
-    return Objects.equals(this.value, that.value);
+    return this.hash == that.hash && this.value.equals(that.value);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(value);
+    return hash;
   }
 
   @Override
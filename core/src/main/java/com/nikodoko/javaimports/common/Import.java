@@ -3,15 +3,43 @@ package com.nikodoko.javaimports.common;
 import com.google.common.base.MoreObjects;
 import java.util.Objects;
 
+/**
+ * An {@code Import} is something that can be imported, like {@code java.util.List} or (statically)
+ * {@code java.util.Collections.emptyList}.
+ *
+ * <p>This is the only representation of imports used from the moment they are loaded (from the
+ * stdlib, dependencies or source files) until they are added to the fixed file.
+ */
 public final class Import {
   public final Selector selector;
   public final boolean isStatic;
+  // Lazily computed, racy but idempotent
+  private Selector qualifier;
 
   public Import(Selector selector, boolean isStatic) {
     this.selector = selector;
     this.isStatic = isStatic;
   }
 
+  /** Returns the identifier under which this import can be used, {@code List} in our example. */
+  public Identifier name() {
+    return selector.identifier();
+  }
+
+  /** Returns the scope this import is imported from, {@code java.util} in our example. */
+  public Selector qualifier() {
+    if (qualifier == null) {
+      qualifier = selector.scope();
+    }
+
+    return qualifier;
+  }
+
+  /** Creates a fully qualified import statement from this {@code Import}. */
+  public String asStatement() {
+    return String.format("import %s%s;", isStatic ? "static " : "", selector);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (o == null) {
@@ -1,8 +1,55 @@
 package com.nikodoko.javaimports.common;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @FunctionalInterface
 public interface ImportProvider {
   public Collection<Import> findImports(Identifier i);
+
+  /**
+   * Finds imports for all {@code identifiers} at once. Identifiers for which no import was found
+   * are absent from the result.
+   *
+   * <p>The default implementation looks identifiers up one by one, providers that can answer in a
+   * single pass (an index for instance) should override it.
+   */
+  public default Map<Identifier, Collection<Import>> findImports(
+      Collection<Identifier> identifiers) {
+    Map<Identifier, Collection<Import>> found = new HashMap<>();
+    for (Identifier i : identifiers) {
+      Collection<Import> imports = findImports(i);
+      if (!imports.isEmpty()) {
+        found.put(i, imports);
+      }
+    }
+
+    return found;
+  }
+
+  /**
+   * Finds imports whose selector ends with {@code selector}, like {@code java.util.Map.Entry} for
+   * {@code Map.Entry}.
+   *
+   * <p>The default implementation filters the imports found for the rightmost identifier of {@code
+   * selector}, providers that index selectors by suffix should override it.
+   */
+  public default Collection<Import> findImports(Selector selector) {
+    Collection<Import> imports = findImports(selector.identifier());
+    if (selector.size() == 1) {
+      return imports;
+    }
+
+    List<Import> matching = new ArrayList<>();
+    for (Import i : imports) {
+      if (i.selector.endsWith(selector)) {
+        matching.add(i);
+      }
+    }
+
+    return matching;
+  }
 }
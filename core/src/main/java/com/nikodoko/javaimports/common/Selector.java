@@ -2,46 +2,70 @@ package com.nikodoko.javaimports.common;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * A {@code Selector} describes a single java identifier or selector expression (list of identifiers
  * separated by a dot).
+ *
+ * <p>Selectors are immutable and used as keys all over the place, so they store their identifiers
+ * in an array and compute their hash code once.
  */
 public final class Selector {
-  private final LinkedList<Identifier> identifiers;
+  private final Identifier[] identifiers;
+  private final int hash;
+  // Lazily computed, racy but idempotent
+  private String string;
 
-  private Selector(Collection<Identifier> identifiers) {
-    if (identifiers.isEmpty()) {
+  private Selector(Identifier[] identifiers) {
+    if (identifiers.length == 0) {
       throw new IllegalArgumentException(
           "cannot construct selector from an empty list of identifiers");
     }
 
-    this.identifiers = new LinkedList<>(identifiers);
+    this.identifiers = identifiers;
+    this.hash = Arrays.hashCode(identifiers);
   }
 
   /** Converts a sequence of one or more strings to a {@code Selector}. */
   public static Selector of(String first, String... more) {
-    var identifiers = new ArrayList<String>();
-    identifiers.add(first);
-    identifiers.addAll(Arrays.asList(more));
-    return of(identifiers);
+    var identifiers = new Identifier[more.length + 1];
+    identifiers[0] = Identifier.of(first);
+    for (int i = 0; i < more.length; i++) {
+      identifiers[i + 1] = Identifier.of(more[i]);
+    }
+
+    return new Selector(identifiers);
   }
 
   public static Selector of(Iterable<String> identifiers) {
-    var l = new LinkedList<Identifier>();
-    identifiers.forEach(s -> l.add(new Identifier(s)));
-    return new Selector(l);
+    var l = new ArrayList<Identifier>();
+    identifiers.forEach(s -> l.add(Identifier.of(s)));
+    return new Selector(l.toArray(new Identifier[0]));
+  }
+
+  /** Converts a dot-separated string (like {@code "java.util.List"}) to a {@code Selector}. */
+  public static Selector parse(String selector) {
+    List<Identifier> identifiers = new ArrayList<>();
+    int start = 0;
+    int end;
+    while ((end = selector.indexOf('.', start)) >= 0) {
+      identifiers.add(Identifier.of(selector.substring(start, end)));
+      start = end + 1;
+    }
+    identifiers.add(Identifier.of(selector.substring(start)));
+
+    return new Selector(identifiers.toArray(new Identifier[0]));
   }
 
   /** Returns the rightmost identifier of this {@code Selector}. */
   public Identifier identifier() {
-    return identifiers.getLast();
+    return identifiers[identifiers.length - 1];
+  }
+
+  // The identifier at the given index, starting from the leftmost one
+  Identifier identifierAt(int index) {
+    return identifiers[index];
   }
 
   /**
@@ -49,15 +73,13 @@ public final class Selector {
    * {@code Selector} is.
    */
   public Selector scope() {
-    return new Selector(identifiers.subList(0, identifiers.size() - 1));
+    return new Selector(Arrays.copyOf(identifiers, identifiers.length - 1));
   }
 
   // TODO: tentative API
   public Selector combine(Selector other) {
-    var combined =
-        Stream.concat(identifiers.stream(), other.identifiers.stream())
-            .collect(Collectors.toList());
-
+    var combined = Arrays.copyOf(identifiers, identifiers.length + other.identifiers.length);
+    System.arraycopy(other.identifiers, 0, combined, identifiers.length, other.identifiers.length);
     return new Selector(combined);
   }
 
@@ -66,7 +88,7 @@ public final class Selector {
    * contains.
    */
   public int size() {
-    return identifiers.size();
+    return identifiers.length;
   }
 
   /**
@@ -83,14 +105,13 @@ public final class Selector {
    * @exception IllegalArgumentException if {@code other} cannot be joined to this {@code Selector}
    */
   public Selector join(Selector other) {
-    if (!other.identifiers.peekFirst().equals(identifiers.peekLast())) {
+    if (!other.identifiers[0].equals(identifier())) {
       throw new IllegalArgumentException("cannot join these selectors");
     }
 
-    var combined =
-        Stream.concat(identifiers.stream(), other.identifiers.stream().skip(1))
-            .collect(Collectors.toList());
-
+    var combined = Arrays.copyOf(identifiers, identifiers.length + other.identifiers.length - 1);
+    System.arraycopy(
+        other.identifiers, 1, combined, identifiers.length, other.identifiers.length - 1);
     return new Selector(combined);
   }
 
@@ -114,38 +135,51 @@ public final class Selector {
           String.format("%s cannot be subtracted from %s", other, this));
     }
 
+    if (other.identifiers.length == 1) {
+      return this;
+    }
+
     // The +1 is to keep the last common identifier
-    var cutoff = identifiers.size() - other.identifiers.size() + 1;
-    return new Selector(List.copyOf(identifiers.subList(0, cutoff)));
+    var cutoff = identifiers.length - other.identifiers.length + 1;
+    return new Selector(Arrays.copyOf(identifiers, cutoff));
   }
 
   /** Returns true if this {@code Selector} ends with {@code other}. */
   public boolean endsWith(Selector other) {
-    var thisLength = identifiers.size();
-    var otherLength = other.identifiers.size();
-    if (otherLength > thisLength) {
+    var offset = identifiers.length - other.identifiers.length;
+    if (offset < 0) {
       return false;
     }
 
-    return identifiers.subList(thisLength - otherLength, thisLength).equals(other.identifiers);
+    // Start from the end, where selectors are the most likely to differ
+    for (int i = other.identifiers.length - 1; i >= 0; i--) {
+      if (!identifiers[offset + i].equals(other.identifiers[i])) {
+        return false;
+      }
+    }
+
+    return true;
   }
 
   /** Returns true if this {@code Selector} starts wit {@code other}. */
   public boolean startsWith(Selector other) {
-    var thisLength = identifiers.size();
-    var otherLength = other.identifiers.size();
-    if (otherLength > thisLength) {
+    if (other.identifiers.length > identifiers.length) {
       return false;
     }
 
-    return identifiers.subList(0, otherLength).equals(other.identifiers);
+    for (int i = 0; i < other.identifiers.length; i++) {
+      if (!identifiers[i].equals(other.identifiers[i])) {
+        return false;
+      }
+    }
+
+    return true;
   }
 
   @Override
   public boolean equals(Object o) {
-    if (o == null) {
-
-      return false;
+    if (this == o) {
+      return true;
     }
 
     if (!(o instanceof Selector)) {
@@ -153,16 +187,25 @@ public final class Selector {
     }
 
     var that = (Selector) o;
-    return Objects.equals(this.identifiers, that.identifiers);
+    return this.hash == that.hash && Arrays.equals(this.identifiers, that.identifiers);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(identifiers);
+    return hash;
   }
 
   @Override
   public String toString() {
-    return identifiers.stream().map(Identifier::toString).collect(Collectors.joining("."));
+    if (string == null) {
+      var joined = new StringBuilder(identifiers[0].toString());
+      for (int i = 1; i < identifiers.length; i++) {
+        joined.append('.').append(identifiers[i]);
+      }
+
+      string = joined.toString();
+    }
+
+    return string;
   }
 }
@@ -0,0 +1,129 @@
+package com.nikodoko.javaimports.common;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of imports by the suffixes of their selectors, so that all imports ending with {@code
+ * Map.Entry} can be found without looking at all the imports named {@code Entry}.
+ *
+ * <p>This is a trie over the identifiers of selectors, read from right to left. To keep it small
+ * when it contains lots of imports (most of which do not share more than their name), imports are
+ * kept in buckets that are only split by their next identifier once they grow too big.
+ */
+public final class SuffixTrie {
+  static final int BUCKET_SIZE = 16;
+
+  private static final class Entry {
+    final int order;
+    final Import i;
+
+    Entry(int order, Import i) {
+      this.order = order;
+      this.i = i;
+    }
+  }
+
+  private static final class Node {
+    // The number of rightmost identifiers all imports below this node have in common
+    final int depth;
+    // Imports below this node, until it is split
+    List<Entry> bucket = new ArrayList<>();
+    // Once split, imports with exactly depth identifiers, and the others by their next identifier
+    List<Entry> complete;
+    Map<Identifier, Node> children;
+
+    Node(int depth) {
+      this.depth = depth;
+    }
+
+    boolean isSplit() {
+      return children != null;
+    }
+  }
+
+  private final Node root = new Node(0);
+  private int size = 0;
+
+  /** Adds {@code i} to this trie, after all the imports already added. */
+  public void add(Import i) {
+    add(root, new Entry(size++, i));
+  }
+
+  private void add(Node node, Entry entry) {
+    var selector = entry.i.selector;
+    while (node.isSplit()) {
+      if (selector.size() == node.depth) {
+        node.complete.add(entry);
+        return;
+      }
+
+      var next = selector.identifierAt(selector.size() - 1 - node.depth);
+      var depth = node.depth + 1;
+      node = node.children.computeIfAbsent(next, __ -> new Node(depth));
+    }
+
+    node.bucket.add(entry);
+    if (node.bucket.size() > BUCKET_SIZE) {
+      split(node);
+    }
+  }
+
+  private void split(Node node) {
+    var entries = node.bucket;
+    node.bucket = null;
+    node.complete = new ArrayList<>();
+    node.children = new HashMap<>();
+    for (Entry entry : entries) {
+      add(node, entry);
+    }
+  }
+
+  /** Returns the number of imports in this trie. */
+  public int size() {
+    return size;
+  }
+
+  /** Returns all imports whose selector ends with {@code suffix}, in the order they were added. */
+  public List<Import> endingWith(Selector suffix) {
+    var node = root;
+    while (node.isSplit() && node.depth < suffix.size()) {
+      node = node.children.get(suffix.identifierAt(suffix.size() - 1 - node.depth));
+      if (node == null) {
+        return List.of();
+      }
+    }
+
+    List<Entry> found = new ArrayList<>();
+    collect(node, suffix, found);
+    found.sort(Comparator.comparingInt(e -> e.order));
+
+    List<Import> imports = new ArrayList<>(found.size());
+    for (Entry entry : found) {
+      imports.add(entry.i);
+    }
+
+    return imports;
+  }
+
+  private void collect(Node node, Selector suffix, List<Entry> found) {
+    if (!node.isSplit()) {
+      // Imports in a bucket only have node.depth identifiers in common
+      for (Entry entry : node.bucket) {
+        if (node.depth >= suffix.size() || entry.i.selector.endsWith(suffix)) {
+          found.add(entry);
+        }
+      }
+
+      return;
+    }
+
+    found.addAll(node.complete);
+    for (Node child : node.children.values()) {
+      collect(child, suffix, found);
+    }
+  }
+}
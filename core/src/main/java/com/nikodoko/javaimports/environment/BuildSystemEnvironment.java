@@ -0,0 +1,222 @@
+package com.nikodoko.javaimports.environment;
+
+import com.google.common.collect.Sets;
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.Profile;
+import com.nikodoko.javaimports.Profile.Phase;
+import com.nikodoko.javaimports.common.Identifier;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import com.nikodoko.javaimports.common.SuffixTrie;
+import com.nikodoko.javaimports.parser.ParsedFile;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An environment backed by a build system (like Maven or Gradle), whose importable symbols are the
+ * ones of the project files and of the dependencies declared in its build files.
+ *
+ * <p>The project is parsed and dependencies are loaded lazily, the first time they are needed.
+ * Subclasses only need to know how to parse the project and how to load its dependencies.
+ */
+public abstract class BuildSystemEnvironment implements Environment {
+  private static final Logger log = Logger.getLogger(BuildSystemEnvironment.class.getName());
+  private static final Clock clock = Clock.systemDefaultZone();
+
+  protected final Path root;
+  protected final Path fileBeingResolved;
+  protected final String pkgBeingResolved;
+  protected final Options options;
+  private final PackageDistance distance;
+
+  private final Map<String, Import> bestAvailableImports = new HashMap<>();
+  // All available imports (except the ones only found by lookup), by order of preference
+  private final SuffixTrie availableImports = new SuffixTrie();
+  private JavaProject project;
+  private int importCount;
+  // Environments can be shared by threads: lazy initialization happens once, under this object's
+  // lock, and these flags make its results visible to threads that do not take it
+  private volatile boolean projectIsParsed = false;
+  private volatile boolean isInitialized = false;
+
+  protected BuildSystemEnvironment(
+      Path root, Path fileBeingResolved, String pkgBeingResolved, Options options) {
+    this.root = root;
+    this.fileBeingResolved = fileBeingResolved;
+    this.pkgBeingResolved = pkgBeingResolved;
+    this.options = options;
+    this.distance = PackageDistance.from(pkgBeingResolved);
+  }
+
+  /** Parses the project files (except {@link #fileBeingResolved}). */
+  protected abstract JavaProject parseProject();
+
+  /** Finds the imports provided by the dependencies of the project. */
+  protected abstract List<Import> importsInDependencies();
+
+  /** Finds the imports provided by the project itself, once it is parsed. */
+  protected List<Import> importsInProject() {
+    return importsIn(project);
+  }
+
+  /** The top level types declared in the files of {@code project}. */
+  protected static List<Import> importsIn(JavaProject project) {
+    List<Import> imports = new ArrayList<>();
+    for (ParsedFile file : project.allFiles()) {
+      Selector pkg = Selector.parse(file.packageName());
+      for (String identifier : file.topLevelDeclarations()) {
+        imports.add(new Import(pkg.combine(Selector.of(identifier)), false));
+      }
+    }
+
+    return imports;
+  }
+
+  /**
+   * Imports named {@code identifier} that are not among the ones found by {@link
+   * #importsInDependencies()}, because they are looked up elsewhere (like an index).
+   */
+  protected List<Import> lookup(String identifier) {
+    return List.of();
+  }
+
+  /** Same as {@link #lookup(String)}, for many identifiers at once. */
+  protected Map<String, List<Import>> lookup(Collection<String> identifiers) {
+    return Map.of();
+  }
+
+  /** Same as {@link #lookup(String)}, for imports ending with {@code selector}. */
+  protected List<Import> lookup(Selector selector) {
+    return List.of();
+  }
+
+  @Override
+  public Set<ParsedFile> filesInPackage(String packageName) {
+    return Sets.newHashSet(project().filesInPackage(packageName));
+  }
+
+  @Override
+  public Optional<Import> search(String identifier) {
+    initIfNeeded();
+    return best(Optional.ofNullable(bestAvailableImports.get(identifier)), lookup(identifier));
+  }
+
+  @Override
+  public Collection<Import> findImports(Identifier i) {
+    return search(i.toString()).map(List::of).orElse(List.of());
+  }
+
+  @Override
+  public Map<Identifier, Collection<Import>> findImports(Collection<Identifier> identifiers) {
+    initIfNeeded();
+    List<String> names =
+        identifiers.stream().map(Identifier::toString).collect(Collectors.toList());
+    Map<String, List<Import>> found = lookup(names);
+    Map<Identifier, Collection<Import>> best = new HashMap<>();
+    for (Identifier i : identifiers) {
+      best(
+              Optional.ofNullable(bestAvailableImports.get(i.toString())),
+              found.getOrDefault(i.toString(), List.of()))
+          .ifPresent(b -> best.put(i, List.of(b)));
+    }
+
+    return best;
+  }
+
+  @Override
+  public Collection<Import> findImports(Selector selector) {
+    initIfNeeded();
+    Optional<Import> available = availableImports.endingWith(selector).stream().findFirst();
+    return best(available, lookup(selector)).map(List::of).orElse(List.of());
+  }
+
+  private Optional<Import> best(Optional<Import> available, List<Import> found) {
+    // Favor available imports in case of a tie
+    return Stream.concat(available.stream(), found.stream())
+        .filter(i -> !i.isStatic || options.staticImports())
+        .reduce(BinaryOperator.minBy(preference()));
+  }
+
+  // Static members share their names with a lot of things (think of, get...), so even when they
+  // are enabled only use them when no type has that name
+  private Comparator<Import> preference() {
+    return Comparator.comparing((Import i) -> i.isStatic)
+        .thenComparingInt(i -> distance.to(i.qualifier().toString()));
+  }
+
+  /** The parsed project, parsing it if this was not done yet. */
+  protected final JavaProject project() {
+    if (!projectIsParsed) {
+      parseProjectIfNeeded();
+    }
+
+    return project;
+  }
+
+  private synchronized void parseProjectIfNeeded() {
+    if (projectIsParsed) {
+      return;
+    }
+
+    project = parseProject();
+    projectIsParsed = true;
+  }
+
+  /** The number of imports found when initializing, including duplicates. */
+  protected final int importCount() {
+    return importCount;
+  }
+
+  protected final boolean isInitialized() {
+    return isInitialized;
+  }
+
+  private void initIfNeeded() {
+    if (!isInitialized) {
+      init();
+    }
+  }
+
+  /** Parses the project and loads its dependencies, if this was not done yet. */
+  protected synchronized void init() {
+    if (isInitialized) {
+      return;
+    }
+
+    project();
+
+    long start = clock.millis();
+    List<Import> imports = new ArrayList<>();
+    // When given a classpath, dependencies are handled by a ClasspathEnvironment
+    if (options.classpath().isEmpty()) {
+      imports.addAll(importsInDependencies());
+    }
+
+    try (Profile.Timer t = options.profile().time(Phase.INDEX_BUILD)) {
+      imports.addAll(importsInProject());
+      Collections.sort(imports, preference());
+      for (Import i : imports) {
+        bestAvailableImports.putIfAbsent(i.name().toString(), i);
+        availableImports.add(i);
+      }
+    }
+
+    importCount = imports.size();
+    isInitialized = true;
+    log.log(Level.INFO, String.format("init completed in %d ms", clock.millis() - start));
+  }
+}
@@ -1,7 +1,7 @@
 package com.nikodoko.javaimports.environment;
 
+import com.nikodoko.javaimports.common.Import;
 import com.nikodoko.javaimports.common.ImportProvider;
-import com.nikodoko.javaimports.parser.Import;
 import com.nikodoko.javaimports.parser.ParsedFile;
 import java.util.Optional;
 import java.util.Set;
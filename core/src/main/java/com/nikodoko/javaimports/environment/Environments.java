@@ -2,8 +2,10 @@ package com.nikodoko.javaimports.environment;
 
 import com.nikodoko.javaimports.Options;
 import com.nikodoko.javaimports.common.Identifier;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.environment.classpath.ClasspathEnvironment;
+import com.nikodoko.javaimports.environment.gradle.GradleEnvironment;
 import com.nikodoko.javaimports.environment.maven.MavenEnvironment;
-import com.nikodoko.javaimports.parser.Import;
 import com.nikodoko.javaimports.parser.ParsedFile;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -27,7 +29,7 @@ public class Environments {
     }
 
     @Override
-    public Collection<com.nikodoko.javaimports.common.Import> findImports(Identifier i) {
+    public Collection<Import> findImports(Identifier i) {
       return List.of();
     }
   }
@@ -36,7 +38,24 @@ public class Environments {
     return new DummyEnvironment();
   }
 
+  /**
+   * Forgets what environments memoize for the whole process, so that the next ones start as a new
+   * process would (disk caches are kept).
+   */
+  public static void forgetMemoized() {
+    MavenEnvironment.forgetMemoized();
+  }
+
   public static Environment autoSelect(Path filename, String pkg, Options options) {
+    Environment project = autoSelectProject(filename, pkg, options);
+    if (options.classpath().isPresent()) {
+      return new ClasspathEnvironment(options.classpath().get(), project, pkg, options);
+    }
+
+    return project;
+  }
+
+  private static Environment autoSelectProject(Path filename, String pkg, Options options) {
     Path current = filename.getParent();
     while (current != null) {
       Path potentialPom = Paths.get(current.toString(), "pom.xml");
@@ -44,6 +63,10 @@ public class Environments {
         return new MavenEnvironment(current, filename, pkg, options);
       }
 
+      if (GradleEnvironment.isProjectRoot(current)) {
+        return new GradleEnvironment(current, filename, pkg, options);
+      }
+
       current = current.getParent();
     }
 
@@ -0,0 +1,136 @@
+package com.nikodoko.javaimports.environment;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.hash.Hashing;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persists the imports found in a jar or a directory of classes (or sources) in a cache directory,
+ * so that later runs do not need to scan it again.
+ *
+ * <p>Entries are keyed by the path they were found in, and are only valid as long as its {@link
+ * #stamp} does not change. Each entry is a text file starting with its stamp and path, followed by
+ * one import per line.
+ */
+public final class ImportCache {
+  private static final String DIRECTORY = "imports";
+  private static final String STATIC = "static ";
+
+  private ImportCache() {}
+
+  /**
+   * Returns a value that changes whenever {@code path} is modified: its size and modification time
+   * for a file, and the number of entries and their latest modification time for a directory (that
+   * is walked recursively, as adding or recompiling a class in a subpackage does not modify its
+   * parent directories).
+   */
+  public static String stamp(Path path) {
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+      if (!attributes.isDirectory()) {
+        return String.format("%d:%d", attributes.size(), attributes.lastModifiedTime().toMillis());
+      }
+
+      long[] countAndLatest = new long[2];
+      Files.walkFileTree(
+          path,
+          new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+              visit(attrs);
+              return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+              visit(attrs);
+              return FileVisitResult.CONTINUE;
+            }
+
+            // Deleting an entry modifies its parent directory, which is counted as well
+            private void visit(BasicFileAttributes attrs) {
+              countAndLatest[0]++;
+              countAndLatest[1] = Math.max(countAndLatest[1], attrs.lastModifiedTime().toMillis());
+            }
+          });
+
+      return String.format("%d:%d", countAndLatest[0], countAndLatest[1]);
+    } catch (IOException e) {
+      return "-1";
+    }
+  }
+
+  /**
+   * Returns the imports cached for {@code path}, if they were cached with the same {@code stamp}.
+   */
+  public static Optional<List<Import>> read(Path cacheDirectory, Path path, String stamp) {
+    try (BufferedReader in = Files.newBufferedReader(entry(cacheDirectory, path), UTF_8)) {
+      // Entries for different paths could share a file name, hence the path in the header
+      if (!header(path, stamp).equals(in.readLine())) {
+        return Optional.empty();
+      }
+
+      List<Import> imports = new ArrayList<>();
+      String line;
+      while ((line = in.readLine()) != null) {
+        boolean isStatic = line.startsWith(STATIC);
+        String selector = isStatic ? line.substring(STATIC.length()) : line;
+        imports.add(new Import(Selector.parse(selector), isStatic));
+      }
+
+      return Optional.of(imports);
+    } catch (IOException | RuntimeException e) {
+      // The cache is only an optimization, ignore entries that are missing or cannot be read
+      return Optional.empty();
+    }
+  }
+
+  /** Caches {@code imports} for {@code path}, atomically replacing any previous entry. */
+  public static void write(Path cacheDirectory, Path path, String stamp, Collection<Import> imports)
+      throws IOException {
+    Path entry = entry(cacheDirectory, path);
+    Files.createDirectories(entry.getParent());
+    // Write to a temporary file first, so that concurrent runs never see a partial entry
+    Path tmp = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+    try {
+      try (BufferedWriter out = Files.newBufferedWriter(tmp, UTF_8)) {
+        out.write(header(path, stamp));
+        out.newLine();
+        for (Import i : imports) {
+          out.write(i.isStatic ? STATIC + i.selector : i.selector.toString());
+          out.newLine();
+        }
+      }
+
+      Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  private static Path entry(Path cacheDirectory, Path path) {
+    String key = path.toAbsolutePath().normalize().toString();
+    return cacheDirectory
+        .resolve(DIRECTORY)
+        .resolve(Hashing.sha256().hashString(key, UTF_8).toString() + ".txt");
+  }
+
+  private static String header(Path path, String stamp) {
+    return stamp + " " + path.toAbsolutePath().normalize();
+  }
+}
@@ -0,0 +1,202 @@
+package com.nikodoko.javaimports.environment;
+
+import com.nikodoko.javaimports.Cancellation;
+import com.nikodoko.javaimports.Profile;
+import com.nikodoko.javaimports.Profile.Counter;
+import com.nikodoko.javaimports.Profile.Phase;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Loads a .jar or a directory of compiled classes (like {@code target/classes}), extracting all
+ * importable symbols.
+ *
+ * <p>Given a cache directory, the imports found in jars are cached there (see {@link ImportCache}),
+ * so that a jar is only scanned once across runs, even when its scan completes after the request
+ * that started it.
+ */
+// TODO: handle static imports
+public class JarLoader {
+  private static final String SUBCLASS_SEPARATOR = "$";
+  private static final String JAVA_9_MODULE_INFO = "module-info.class";
+
+  private final Cancellation cancellation;
+  private final Profile profile;
+  private Optional<Path> cache = Optional.empty();
+
+  public JarLoader() {
+    this(Cancellation.never());
+  }
+
+  /** A {@code JarLoader} that stops loading anything once {@code cancellation} is cancelled. */
+  public JarLoader(Cancellation cancellation) {
+    this(cancellation, Profile.disabled());
+  }
+
+  /** Same as {@link #JarLoader(Cancellation)}, recording what it does in {@code profile}. */
+  public JarLoader(Cancellation cancellation, Profile profile) {
+    this.cancellation = cancellation;
+    this.profile = profile;
+  }
+
+  /** Caches the imports found in jars in {@code cache}, if present. */
+  public JarLoader cachingIn(Optional<Path> cache) {
+    this.cache = cache;
+    return this;
+  }
+
+  public List<Import> load(Path dependency) throws IOException {
+    try (Profile.Timer t = profile.time(Phase.JAR_SCANNING)) {
+      if (Files.isDirectory(dependency)) {
+        return scanDirectory(dependency, c -> true);
+      }
+
+      if (cache.isEmpty()) {
+        return scanJar(dependency);
+      }
+
+      return scanJarUsingCache(dependency, cache.get());
+    }
+  }
+
+  /**
+   * Loads a directory of compiled classes, keeping only the class files (relative to {@code
+   * directory}) matching {@code filter}.
+   */
+  public List<Import> load(Path directory, Predicate<Path> filter) throws IOException {
+    try (Profile.Timer t = profile.time(Phase.JAR_SCANNING)) {
+      return scanDirectory(directory, filter);
+    }
+  }
+
+  private List<Import> scanJarUsingCache(Path jar, Path cache) throws IOException {
+    String stamp = ImportCache.stamp(jar);
+    Optional<List<Import>> cached = ImportCache.read(cache, jar, stamp);
+    if (cached.isPresent()) {
+      profile.increment(Counter.CACHE_HITS);
+      return cached.get();
+    }
+
+    profile.increment(Counter.CACHE_MISSES);
+    List<Import> imports = scanJar(jar);
+    try {
+      ImportCache.write(cache, jar, stamp, imports);
+    } catch (IOException e) {
+      // The cache is only an optimization, the jar will be scanned again next time
+    }
+
+    return imports;
+  }
+
+  private List<Import> scanJar(Path jar) throws IOException {
+    cancellation.throwIfCancelled();
+    profile.increment(Counter.JARS_OPENED);
+    JarScanEvent event = new JarScanEvent();
+    event.begin();
+    int entries = 0;
+    List<Import> imports = new ArrayList<>();
+    try (JarInputStream in = new JarInputStream(new FileInputStream(jar.toString()))) {
+      JarEntry entry;
+      while ((entry = in.getNextJarEntry()) != null) {
+        entries++;
+        cancellation.throwIfCancelled();
+        // XXX: this will get all classes, including private and protected ones
+        // Classes in the default package cannot be imported
+        if (entry.getName().contains("/") && isValidImport(entry.getName())) {
+          imports.add(parseImport(Paths.get(entry.getName())));
+        }
+      }
+    }
+
+    event.end();
+    if (event.shouldCommit()) {
+      event.path = jar.toString();
+      event.entries = entries;
+      event.imports = imports.size();
+      event.bytes = Files.size(jar);
+      event.commit();
+    }
+
+    return imports;
+  }
+
+  private List<Import> scanDirectory(Path directory, Predicate<Path> filter) throws IOException {
+    JarScanEvent event = new JarScanEvent();
+    event.begin();
+    int[] entries = {0};
+    List<Import> imports;
+    try (Stream<Path> classes = Files.walk(directory)) {
+      imports =
+          classes
+              .peek(
+                  __ -> {
+                    entries[0]++;
+                    cancellation.throwIfCancelled();
+                  })
+              .map(directory::relativize)
+              // Classes in the default package cannot be imported
+              .filter(p -> p.getParent() != null && isValidImport(p.toString()))
+              .filter(filter)
+              .map(this::parseImport)
+              .collect(Collectors.toList());
+    }
+
+    event.end();
+    if (event.shouldCommit()) {
+      event.path = directory.toString();
+      event.entries = entries[0];
+      event.imports = imports.size();
+      event.commit();
+    }
+
+    return imports;
+  }
+
+  private Import parseImport(Path jarEntry) {
+    String separator = jarEntry.getFileSystem().getSeparator();
+    String entry = jarEntry.toString();
+    // Subclasses are addressable by their name, so a/b/C$D.class becomes a.b.C.D
+    String qualifiedName =
+        entry
+            .substring(0, entry.lastIndexOf("."))
+            .replace(separator, ".")
+            .replace(SUBCLASS_SEPARATOR, ".");
+    return new Import(Selector.parse(qualifiedName), false);
+  }
+
+  // TODO: we could be smarter and parse the module-info file to know what to import and what to
+  // ignore.
+  private boolean isValidImport(String entry) {
+    return entry.endsWith(".class")
+        && !entry.endsWith(JAVA_9_MODULE_INFO)
+        && !isAnonymousOrLocal(entry);
+  }
+
+  // Anonymous and local classes (and their subclasses) are compiled to Outer$1.class,
+  // Outer$1Local.class, Outer$1$Inner.class, etc.
+  private boolean isAnonymousOrLocal(String entry) {
+    int separator = entry.indexOf(SUBCLASS_SEPARATOR);
+    while (separator >= 0 && separator + 1 < entry.length()) {
+      if (Character.isDigit(entry.charAt(separator + 1))) {
+        return true;
+      }
+
+      separator = entry.indexOf(SUBCLASS_SEPARATOR, separator + 1);
+    }
+
+    return false;
+  }
+}
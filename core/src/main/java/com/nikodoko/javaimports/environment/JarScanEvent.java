@@ -0,0 +1,33 @@
+package com.nikodoko.javaimports.environment;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** A Flight Recorder event recorded each time a jar (or a directory of classes) is scanned. */
+@Name("com.nikodoko.javaimports.JarScan")
+@Label("Jar Scan")
+@Category("Javaimports")
+@Description("Scanning of a jar or of a directory of compiled classes for importable symbols")
+@StackTrace(false)
+class JarScanEvent extends Event {
+  @Label("Path")
+  String path;
+
+  @Label("Entries")
+  @Description("Entries read, importable or not")
+  int entries;
+
+  @Label("Imports")
+  @Description("Importable symbols found")
+  int imports;
+
+  @Label("Size")
+  @Description("Size of the jar, zero for directories")
+  @DataAmount
+  long bytes;
+}
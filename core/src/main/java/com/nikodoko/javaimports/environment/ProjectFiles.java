@@ -0,0 +1,147 @@
+package com.nikodoko.javaimports.environment;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.nikodoko.javaimports.Cancellation;
+import com.nikodoko.javaimports.ImporterException;
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.parser.ParsedFile;
+import com.nikodoko.javaimports.parser.Parser;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/** Finds and parses the java files of a project, whatever its build system. */
+public final class ProjectFiles {
+  private static final int MAX_DEPTH = 100;
+
+  private ProjectFiles() {}
+
+  /**
+   * Finds all .java files under {@code root}, without descending into directories named like one of
+   * {@code skipped} (like build outputs, that can hold thousands of generated files).
+   *
+   * @throws CancellationException once {@code cancellation} is explicitly cancelled
+   */
+  public static List<Path> find(Path root, Set<String> skipped, Cancellation cancellation)
+      throws IOException {
+    List<Path> found = new ArrayList<>();
+    Files.walkFileTree(
+        root,
+        EnumSet.noneOf(FileVisitOption.class),
+        MAX_DEPTH,
+        new SimpleFileVisitor<Path>() {
+          @Override
+          public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            throwIfCancelled(cancellation);
+            if (!dir.equals(root) && skipped.contains(dir.getFileName().toString())) {
+              return FileVisitResult.SKIP_SUBTREE;
+            }
+
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            throwIfCancelled(cancellation);
+            if (file.toString().endsWith(".java")) {
+              found.add(file);
+            }
+
+            return FileVisitResult.CONTINUE;
+          }
+        });
+
+    return found;
+  }
+
+  // Once the request is cancelled, nobody is waiting for the files anymore (past the deadline, the
+  // walk goes on as the request still uses what it finds)
+  private static void throwIfCancelled(Cancellation cancellation) {
+    if (cancellation.isCancelled()) {
+      throw new CancellationException("request was cancelled");
+    }
+  }
+
+  /**
+   * Parses {@code files} in parallel on the {@link Options#parseExecutor()}, in order. Files that
+   * cannot be read or parsed are left out and passed to {@code onError}, from the calling thread.
+   *
+   * <p>Past the deadline, files that were not parsed yet are left out as well.
+   *
+   * @throws CancellationException if the request is explicitly cancelled
+   */
+  public static List<ParsedFile> parse(
+      List<Path> files, Options options, BiConsumer<Path, Exception> onError) {
+    var futures =
+        files.stream()
+            .map(
+                f ->
+                    CompletableFuture.supplyAsync(() -> parse(f, options), options.parseExecutor()))
+            .collect(Collectors.toList());
+
+    List<ParsedFile> parsed = new ArrayList<>();
+    for (int i = 0; i < files.size(); i++) {
+      Parsed p = join(futures.get(i));
+      p.file.ifPresent(parsed::add);
+      if (p.error != null) {
+        onError.accept(files.get(i), p.error);
+      }
+    }
+
+    return parsed;
+  }
+
+  private static final class Parsed {
+    final Optional<ParsedFile> file;
+    final Exception error;
+
+    Parsed(Optional<ParsedFile> file, Exception error) {
+      this.file = file;
+      this.error = error;
+    }
+  }
+
+  private static Parsed parse(Path file, Options options) {
+    try {
+      String source = new String(Files.readAllBytes(file), UTF_8);
+      return new Parsed(new Parser(options).parse(file, source), null);
+    } catch (IOException | ImporterException e) {
+      return new Parsed(Optional.empty(), e);
+    } catch (CancellationException e) {
+      // Past the deadline, keep going with what was parsed so far
+      if (options.cancellation().isCancelled()) {
+        throw e;
+      }
+
+      return new Parsed(Optional.empty(), null);
+    }
+  }
+
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      // Cancellation happened in another thread, let callers handle it as if it happened in theirs
+      if (e.getCause() instanceof CancellationException) {
+        throw (CancellationException) e.getCause();
+      }
+
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,387 @@
+package com.nikodoko.javaimports.environment;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * A read-only table of importable symbols, stored in a file and memory-mapped instead of being
+ * loaded on the heap.
+ *
+ * <p>Looking up a name only touches a few pages of the file, so opening a table is almost free
+ * whatever its size, and processes using the same table share it through the page cache. The file
+ * is made of:
+ *
+ * <ul>
+ *   <li>a header: {@code int magic, int version},
+ *   <li>a package table: {@code int count, int[count + 1] offsets, byte[] data}, holding all
+ *       qualifiers (sorted, UTF-8 encoded),
+ *   <li>a name dictionary: {@code int count, int blockCount, int[blockCount] offsets, byte[] data},
+ *       holding all names (sorted by their UTF-8 bytes) in blocks of {@value #BLOCK_SIZE}.
+ * </ul>
+ *
+ * <p>Names are front-coded: the first name of a block is stored as is, the others as the length of
+ * the prefix they share with the previous name followed by the rest of their bytes. Each name is
+ * followed by its postings, the qualifiers it can be imported from along with whether it is a
+ * static import. All these numbers are variable-length integers. Lookups are a binary search on the
+ * first name of each block followed by a scan of at most one block.
+ */
+public final class SymbolTable {
+  static final int BLOCK_SIZE = 16;
+
+  private static final int MAGIC = 0x4A494458; // "JIDX"
+  private static final int VERSION = 2;
+
+  private final ByteBuffer buffer;
+  private final int qualifierCount;
+  private final int qualifierOffsets;
+  private final int qualifierData;
+  private final int nameCount;
+  private final int blockCount;
+  private final int blockOffsets;
+  private final int nameData;
+
+  private SymbolTable(ByteBuffer buffer) throws IOException {
+    this.buffer = buffer;
+    try {
+      if (buffer.getInt(0) != MAGIC) {
+        throw new IOException("not a symbol table");
+      }
+
+      int version = buffer.getInt(4);
+      if (version != VERSION) {
+        throw new IOException("unsupported symbol table version " + version);
+      }
+
+      qualifierCount = buffer.getInt(8);
+      qualifierOffsets = 12;
+      qualifierData = qualifierOffsets + 4 * (qualifierCount + 1);
+      int names = qualifierData + buffer.getInt(qualifierOffsets + 4 * qualifierCount);
+      nameCount = buffer.getInt(names);
+      blockCount = buffer.getInt(names + 4);
+      blockOffsets = names + 8;
+      nameData = blockOffsets + 4 * blockCount;
+    } catch (IndexOutOfBoundsException e) {
+      throw new IOException("truncated symbol table", e);
+    }
+  }
+
+  /** Memory-maps the table in {@code file}. */
+  public static SymbolTable map(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      // The mapping remains valid after the channel is closed
+      return new SymbolTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /** Writes a table containing {@code imports} to {@code file}, atomically replacing it. */
+  public static void write(Path file, Collection<Import> imports) throws IOException {
+    TreeSet<String> sortedQualifiers = new TreeSet<>();
+    for (Import i : imports) {
+      sortedQualifiers.add(i.qualifier().toString());
+    }
+
+    Map<String, Integer> qualifiers = new HashMap<>();
+    for (String qualifier : sortedQualifiers) {
+      qualifiers.put(qualifier, qualifiers.size());
+    }
+
+    Map<String, TreeSet<Integer>> postings = new HashMap<>();
+    for (Import i : imports) {
+      postings
+          .computeIfAbsent(i.name().toString(), k -> new TreeSet<>())
+          .add(qualifiers.get(i.qualifier().toString()) << 1 | (i.isStatic ? 1 : 0));
+    }
+
+    // Sorted like lookups will compare them
+    List<Map.Entry<byte[], TreeSet<Integer>>> names = new ArrayList<>(postings.size());
+    postings.forEach((name, p) -> names.add(Map.entry(name.getBytes(UTF_8), p)));
+    names.sort((a, b) -> Arrays.compareUnsigned(a.getKey(), b.getKey()));
+
+    ByteArrayOutputStream qualifierData = new ByteArrayOutputStream();
+    int[] qualifierOffsets = new int[sortedQualifiers.size() + 1];
+    int q = 0;
+    for (String qualifier : sortedQualifiers) {
+      qualifierOffsets[q++] = qualifierData.size();
+      qualifierData.write(qualifier.getBytes(UTF_8));
+    }
+    qualifierOffsets[q] = qualifierData.size();
+
+    ByteArrayOutputStream nameData = new ByteArrayOutputStream();
+    int[] blockOffsets = new int[(names.size() + BLOCK_SIZE - 1) / BLOCK_SIZE];
+    byte[] previous = new byte[0];
+    int n = 0;
+    for (Map.Entry<byte[], TreeSet<Integer>> entry : names) {
+      byte[] name = entry.getKey();
+      int shared = 0;
+      if (n % BLOCK_SIZE == 0) {
+        blockOffsets[n / BLOCK_SIZE] = nameData.size();
+      } else {
+        shared = Arrays.mismatch(previous, name);
+      }
+
+      writeVarint(nameData, shared);
+      writeVarint(nameData, name.length - shared);
+      nameData.write(name, shared, name.length - shared);
+      writeVarint(nameData, entry.getValue().size());
+      for (int posting : entry.getValue()) {
+        writeVarint(nameData, posting);
+      }
+
+      previous = name;
+      n++;
+    }
+
+    ByteBuffer header =
+        ByteBuffer.allocate(4 * (3 + qualifierOffsets.length))
+            .putInt(MAGIC)
+            .putInt(VERSION)
+            .putInt(sortedQualifiers.size());
+    Arrays.stream(qualifierOffsets).forEach(header::putInt);
+    ByteBuffer dictionary =
+        ByteBuffer.allocate(4 * (2 + blockOffsets.length))
+            .putInt(names.size())
+            .putInt(blockOffsets.length);
+    Arrays.stream(blockOffsets).forEach(dictionary::putInt);
+
+    Path parent = file.toAbsolutePath().getParent();
+    Files.createDirectories(parent);
+    Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream out = Files.newOutputStream(tmp)) {
+        out.write(header.array());
+        qualifierData.writeTo(out);
+        out.write(dictionary.array());
+        nameData.writeTo(out);
+      }
+
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  /** The number of distinct names in this table. */
+  public int size() {
+    return nameCount;
+  }
+
+  /** Returns all the imports named {@code name}, in no particular order. */
+  public List<Import> lookup(String name) {
+    byte[] target = name.getBytes(UTF_8);
+    return lookup(target, name, findBlock(target, 0), new HashMap<>(), null);
+  }
+
+  /**
+   * Returns all the imports whose selector ends with {@code selector}, in no particular order.
+   *
+   * <p>Imports whose qualifier does not end with the scope of {@code selector} are skipped without
+   * being decoded.
+   */
+  public List<Import> lookup(Selector selector) {
+    String name = selector.identifier().toString();
+    byte[] target = name.getBytes(UTF_8);
+    byte[] scope = selector.size() == 1 ? null : selector.scope().toString().getBytes(UTF_8);
+    return lookup(target, name, findBlock(target, 0), new HashMap<>(), scope);
+  }
+
+  /**
+   * Returns all the imports named like one of {@code names}, by name. Names without any import are
+   * absent from the result.
+   *
+   * <p>This sorts {@code names} and looks them up in a single sweep of the table.
+   */
+  public Map<String, List<Import>> lookup(Collection<String> names) {
+    List<Map.Entry<byte[], String>> targets = new ArrayList<>(names.size());
+    for (String name : names) {
+      targets.add(Map.entry(name.getBytes(UTF_8), name));
+    }
+    targets.sort((a, b) -> Arrays.compareUnsigned(a.getKey(), b.getKey()));
+
+    Map<String, List<Import>> found = new HashMap<>();
+    // Names are likely to share qualifiers, only decode each of them once
+    Map<Integer, Selector> qualifiers = new HashMap<>();
+    int from = 0;
+    for (Map.Entry<byte[], String> target : targets) {
+      int block = findBlock(target.getKey(), from);
+      if (block < 0) {
+        continue;
+      }
+
+      from = block;
+      List<Import> imports = lookup(target.getKey(), target.getValue(), block, qualifiers, null);
+      if (!imports.isEmpty()) {
+        found.put(target.getValue(), imports);
+      }
+    }
+
+    return found;
+  }
+
+  // Only returns imports whose qualifier ends with scope, if not null
+  private List<Import> lookup(
+      byte[] target, String name, int block, Map<Integer, Selector> qualifiers, byte[] scope) {
+    if (block < 0) {
+      return List.of();
+    }
+
+    ByteBuffer in = buffer.duplicate();
+    in.position(nameData + buffer.getInt(blockOffsets + 4 * block));
+    int remaining = Math.min(BLOCK_SIZE, nameCount - block * BLOCK_SIZE);
+    byte[] current = new byte[target.length];
+    int length = 0;
+    try {
+      for (int i = 0; i < remaining; i++) {
+        int shared = readVarint(in);
+        int suffix = readVarint(in);
+        // Only the first target.length bytes matter, longer names are skipped
+        int kept = Math.max(0, Math.min(suffix, target.length - shared));
+        if (shared <= target.length) {
+          in.get(current, shared, kept);
+        }
+        in.position(in.position() + suffix - kept);
+        length = shared + suffix;
+
+        int cmp = compare(current, Math.min(length, target.length), length, target);
+        if (cmp == 0) {
+          return postings(in, name, qualifiers, scope);
+        }
+
+        if (cmp > 0) {
+          return List.of();
+        }
+
+        skipPostings(in);
+      }
+    } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+      // Corrupted table, nothing we can do
+    }
+
+    return List.of();
+  }
+
+  // Index of the last block whose first name is at most target, -1 if there is none. Blocks before
+  // from are known to only contain smaller names.
+  private int findBlock(byte[] target, int from) {
+    int lo = from;
+    int hi = blockCount - 1;
+    int found = -1;
+    while (lo <= hi) {
+      int mid = (lo + hi) >>> 1;
+      ByteBuffer in = buffer.duplicate();
+      in.position(nameData + buffer.getInt(blockOffsets + 4 * mid));
+      readVarint(in); // always 0 for the first name
+      byte[] first = new byte[readVarint(in)];
+      in.get(first);
+      if (Arrays.compareUnsigned(first, target) <= 0) {
+        found = mid;
+        lo = mid + 1;
+      } else {
+        hi = mid - 1;
+      }
+    }
+
+    return found;
+  }
+
+  // Compares a name of which we only know the first known bytes (out of length) to target
+  private static int compare(byte[] name, int known, int length, byte[] target) {
+    int cmp = Arrays.compareUnsigned(name, 0, known, target, 0, Math.min(known, target.length));
+    if (cmp != 0) {
+      return cmp;
+    }
+
+    return Integer.compare(length, target.length);
+  }
+
+  private List<Import> postings(
+      ByteBuffer in, String name, Map<Integer, Selector> qualifiers, byte[] scope) {
+    Selector selector = Selector.of(name);
+    int count = readVarint(in);
+    List<Import> imports = new ArrayList<>(scope == null ? count : 1);
+    for (int i = 0; i < count; i++) {
+      int posting = readVarint(in);
+      if (scope != null && !qualifierEndsWith(posting >>> 1, scope)) {
+        continue;
+      }
+
+      Selector qualifier =
+          qualifiers.computeIfAbsent(posting >>> 1, q -> Selector.parse(qualifier(q)));
+      imports.add(new Import(qualifier.combine(selector), (posting & 1) == 1));
+    }
+
+    return imports;
+  }
+
+  private void skipPostings(ByteBuffer in) {
+    int count = readVarint(in);
+    for (int i = 0; i < count; i++) {
+      readVarint(in);
+    }
+  }
+
+  // True if the qualifier is scope, or ends with "." followed by scope
+  private boolean qualifierEndsWith(int index, byte[] scope) {
+    int start = buffer.getInt(qualifierOffsets + 4 * index);
+    int end = buffer.getInt(qualifierOffsets + 4 * (index + 1));
+    int from = end - scope.length;
+    if (from < start || (from > start && buffer.get(qualifierData + from - 1) != '.')) {
+      return false;
+    }
+
+    for (int i = 0; i < scope.length; i++) {
+      if (buffer.get(qualifierData + from + i) != scope[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private String qualifier(int index) {
+    int start = buffer.getInt(qualifierOffsets + 4 * index);
+    int end = buffer.getInt(qualifierOffsets + 4 * (index + 1));
+    byte[] bytes = new byte[end - start];
+    ByteBuffer in = buffer.duplicate();
+    in.position(qualifierData + start);
+    in.get(bytes);
+    return new String(bytes, UTF_8);
+  }
+
+  private static void writeVarint(ByteArrayOutputStream out, int value) {
+    while ((value & ~0x7F) != 0) {
+      out.write((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.write(value);
+  }
+
+  private static int readVarint(ByteBuffer in) {
+    int value = 0;
+    for (int shift = 0; ; shift += 7) {
+      byte b = in.get();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+  }
+}
@@ -0,0 +1,207 @@
+package com.nikodoko.javaimports.environment.classpath;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.Profile;
+import com.nikodoko.javaimports.Profile.Phase;
+import com.nikodoko.javaimports.common.Identifier;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import com.nikodoko.javaimports.common.SuffixTrie;
+import com.nikodoko.javaimports.environment.Environment;
+import com.nikodoko.javaimports.environment.JarLoader;
+import com.nikodoko.javaimports.environment.PackageDistance;
+import com.nikodoko.javaimports.parser.ParsedFile;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An environment whose dependencies come from a precomputed classpath (for instance the output of
+ * {@code mvn dependency:build-classpath}) instead of being resolved from build files.
+ *
+ * <p>The classpath is either a file listing jars (or directories of classes) separated by the
+ * platform path separator or new lines, or a directory containing jars. This is both faster and
+ * more complete than resolving dependencies ourselves, as it includes transitive dependencies.
+ *
+ * <p>Project files are still handled by the build-system-specific environment this wraps.
+ */
+public class ClasspathEnvironment implements Environment {
+  private static final Logger log = Logger.getLogger(ClasspathEnvironment.class.getName());
+  private static final Clock clock = Clock.systemDefaultZone();
+  private static final Pattern SEPARATOR =
+      Pattern.compile("[\\r\\n]+|" + Pattern.quote(File.pathSeparator));
+
+  private final Path classpath;
+  private final Environment project;
+  private final PackageDistance distance;
+  private final Options options;
+
+  private Map<String, Import> bestAvailableImports = new HashMap<>();
+  // All imports in the classpath, by order of preference
+  private SuffixTrie availableImports = new SuffixTrie();
+  // Environments can be shared by threads: lazy initialization happens once, under this object's
+  // lock, and this flag makes its results visible to threads that do not take it
+  private volatile boolean isInitialized = false;
+
+  public ClasspathEnvironment(
+      Path classpath, Environment project, String pkgBeingResolved, Options options) {
+    this.classpath = classpath;
+    this.project = project;
+    this.distance = PackageDistance.from(pkgBeingResolved);
+    this.options = options;
+  }
+
+  @Override
+  public Set<ParsedFile> filesInPackage(String packageName) {
+    return project.filesInPackage(packageName);
+  }
+
+  @Override
+  public Optional<Import> search(String identifier) {
+    if (!isInitialized) {
+      init();
+    }
+
+    Optional<Import> inProject = project.search(identifier);
+    Optional<Import> inClasspath = Optional.ofNullable(bestAvailableImports.get(identifier));
+    return best(inProject, inClasspath);
+  }
+
+  @Override
+  public Collection<Import> findImports(Identifier i) {
+    return search(i.toString()).map(List::of).orElse(List.of());
+  }
+
+  @Override
+  public Collection<Import> findImports(Selector selector) {
+    if (!isInitialized) {
+      init();
+    }
+
+    Optional<Import> inProject = project.findImports(selector).stream().findFirst();
+    Optional<Import> inClasspath = availableImports.endingWith(selector).stream().findFirst();
+    return best(inProject, inClasspath).map(List::of).orElse(List.of());
+  }
+
+  private Optional<Import> best(Optional<Import> inProject, Optional<Import> inClasspath) {
+    if (inProject.isEmpty() || inClasspath.isEmpty()) {
+      return inProject.isPresent() ? inProject : inClasspath;
+    }
+
+    // Favor the project in case of a tie
+    return distance.to(inClasspath.get().qualifier().toString())
+            < distance.to(inProject.get().qualifier().toString())
+        ? inClasspath
+        : inProject;
+  }
+
+  private synchronized void init() {
+    if (isInitialized) {
+      return;
+    }
+
+    long start = clock.millis();
+    List<Path> entries = entries();
+    List<Import> imports = load(entries);
+    try (Profile.Timer t = options.profile().time(Phase.INDEX_BUILD)) {
+      Collections.sort(
+          imports,
+          (a, b) -> distance.to(a.qualifier().toString()) - distance.to(b.qualifier().toString()));
+      for (Import i : imports) {
+        bestAvailableImports.putIfAbsent(i.name().toString(), i);
+        availableImports.add(i);
+      }
+    }
+
+    isInitialized = true;
+    if (options.debug()) {
+      log.info(
+          String.format(
+              "loaded %d imports from %d classpath entries in %d ms",
+              imports.size(), entries.size(), clock.millis() - start));
+    }
+  }
+
+  private List<Path> entries() {
+    try {
+      if (Files.isDirectory(classpath)) {
+        try (Stream<Path> files = Files.list(classpath)) {
+          return files.filter(f -> f.toString().endsWith(".jar")).collect(Collectors.toList());
+        }
+      }
+
+      List<Path> entries = new ArrayList<>();
+      for (String entry : SEPARATOR.split(new String(Files.readAllBytes(classpath), UTF_8))) {
+        if (!entry.isBlank()) {
+          // Relative entries are relative to the classpath file
+          entries.add(classpath.toAbsolutePath().resolveSibling(entry.trim()));
+        }
+      }
+
+      return entries;
+    } catch (IOException e) {
+      if (options.debug()) {
+        log.log(Level.WARNING, String.format("could not read classpath %s", classpath), e);
+      }
+
+      return List.of();
+    }
+  }
+
+  private List<Import> load(List<Path> entries) {
+    var futures =
+        entries.stream()
+            .map(e -> CompletableFuture.supplyAsync(() -> load(e), options.ioExecutor()))
+            .collect(Collectors.toList());
+
+    return futures.stream()
+        .map(CompletableFuture::join)
+        .flatMap(List::stream)
+        .collect(Collectors.toList());
+  }
+
+  private List<Import> load(Path entry) {
+    if (!Files.exists(entry)) {
+      return List.of();
+    }
+
+    try {
+      return new JarLoader(options.cancellation(), options.profile())
+          .cachingIn(options.cache())
+          .load(entry);
+    } catch (IOException e) {
+      // No matter what happens, we don't want to fail the whole importing process just for that.
+      if (options.debug()) {
+        log.log(Level.WARNING, String.format("could not load classpath entry %s", entry), e);
+      }
+
+      return List.of();
+    } catch (CancellationException e) {
+      // Past the deadline, keep going with what was loaded so far
+      if (options.cancellation().isCancelled()) {
+        throw e;
+      }
+
+      return List.of();
+    }
+  }
+}
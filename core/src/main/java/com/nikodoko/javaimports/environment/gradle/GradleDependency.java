@@ -0,0 +1,63 @@
+package com.nikodoko.javaimports.environment.gradle;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+
+/** Encapsulates a Gradle dependency, identified by its Maven coordinates. */
+class GradleDependency {
+  final String group;
+  final String name;
+  final String version;
+
+  GradleDependency(String group, String name, String version) {
+    checkNotNull(group, "gradle dependency does not accept a null group");
+    checkNotNull(name, "gradle dependency does not accept a null name");
+    this.group = group;
+    this.name = name;
+    this.version = version;
+  }
+
+  /**
+   * Whether this dependency has a fixed version, as opposed to no version (managed by a platform
+   * for instance), a dynamic one ({@code 1.+}, {@code latest.release}, {@code [1.0,2.0)}) or one
+   * that is computed by the build ({@code $guavaVersion}).
+   */
+  boolean hasPlainVersion() {
+    return version != null
+        && !version.isEmpty()
+        && !version.startsWith("latest.")
+        && version.chars().noneMatch(c -> "+[]()$,".indexOf(c) >= 0);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == null) {
+      return false;
+    }
+
+    if (!(o instanceof GradleDependency)) {
+      return false;
+    }
+
+    GradleDependency d = (GradleDependency) o;
+    return Objects.equals(d.group, group)
+        && Objects.equals(d.name, name)
+        && Objects.equals(d.version, version);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(group, name, version);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("group", group)
+        .add("name", name)
+        .add("version", version)
+        .toString();
+  }
+}
@@ -0,0 +1,332 @@
+package com.nikodoko.javaimports.environment.gradle;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.base.MoreObjects;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the dependencies of a Gradle project without running Gradle.
+ *
+ * <p>If the project has a {@code gradle.lockfile}, it is used as is: it lists all resolved
+ * dependencies, transitive ones included. Otherwise, dependencies declared in the build file are
+ * read using a few regular expressions, which is good enough for the common notations:
+ *
+ * <pre>
+ *   implementation 'com.google.guava:guava:28.1-jre'
+ *   implementation("com.google.guava:guava:28.1-jre")
+ *   implementation group: 'com.google.guava', name: 'guava', version: '28.1-jre'
+ *   implementation(libs.guava)
+ *   implementation(libs.bundles.guava)
+ *   implementation project(':other')
+ * </pre>
+ *
+ * <p>Libraries and bundles of libraries prefixed with {@code libs} refer to the version catalog
+ * ({@code gradle/libs.versions.toml}) of the build. Other projects of the build are found under the
+ * directory of its settings file, following their path (projects with a custom {@code projectDir}
+ * are not supported).
+ */
+class GradleDependencyFinder {
+  static final class Result {
+    final List<GradleDependency> dependencies = new ArrayList<>();
+    // Roots of the other projects of the build that are dependencies
+    final List<Path> projects = new ArrayList<>();
+    final List<GradleEnvironmentException> errors = new ArrayList<>();
+
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("dependencies", dependencies)
+          .add("projects", projects)
+          .add("errors", errors)
+          .toString();
+    }
+  }
+
+  static final List<String> BUILD_FILES = List.of("build.gradle", "build.gradle.kts");
+  private static final List<String> SETTINGS_FILES =
+      List.of("settings.gradle", "settings.gradle.kts");
+  private static final String LOCKFILE = "gradle.lockfile";
+  private static final Path CATALOG = Path.of("gradle", "libs.versions.toml");
+
+  private static final String CONFIGURATION =
+      "\\b(?:api|implementation|compileOnly|compileOnlyApi|runtimeOnly|compile|runtime"
+          + "|testImplementation|testCompileOnly|testRuntimeOnly|testCompile"
+          + "|annotationProcessor)\\s*\\(?\\s*";
+  // group:name[:version[:classifier]][@extension]
+  private static final Pattern STRING_NOTATION =
+      Pattern.compile(
+          CONFIGURATION
+              + "[\"']([^\\s:\"'$]+):([^\\s:\"'@]+)(?::([^\\s:\"'@]+))?(?::[^\"'@]*)?(?:@\\w+)?[\"']");
+  private static final Pattern MAP_NOTATION =
+      Pattern.compile(
+          CONFIGURATION
+              + "\\(?\\s*group\\s*[:=]\\s*[\"']([^\"']+)[\"']\\s*,\\s*name\\s*[:=]\\s*[\"']([^\"']+)[\"']"
+              + "(?:\\s*,\\s*version\\s*[:=]\\s*[\"']([^\"']+)[\"'])?");
+  private static final Pattern CATALOG_NOTATION =
+      Pattern.compile(CONFIGURATION + "libs\\.([\\w.]+?)(?:\\.get\\(\\))?\\s*[)\\s{]");
+  private static final Pattern PROJECT_NOTATION =
+      Pattern.compile(
+          CONFIGURATION + "project\\s*\\(\\s*(?:path\\s*[:=]\\s*)?[\"'](:[^\"']*)[\"']");
+  private static final Pattern LOCKFILE_ENTRY =
+      Pattern.compile("^([^#:=\\s]+):([^:=\\s]+):([^:=\\s]+)=", Pattern.MULTILINE);
+
+  private static final Pattern TOML_SECTION = Pattern.compile("^\\s*\\[([\\w.-]+)\\]\\s*$");
+  private static final Pattern TOML_ENTRY = Pattern.compile("^\\s*([\\w.-]+)\\s*=\\s*(.+?)\\s*$");
+  private static final Pattern TOML_STRING = Pattern.compile("^\"([^\"]*)\"$");
+  private static final Pattern TOML_INLINE_ENTRY =
+      Pattern.compile("([\\w.-]+)\\s*=\\s*\"([^\"]*)\"");
+  private static final Pattern TOML_ARRAY = Pattern.compile("^\\[(.*)\\]$");
+  private static final Pattern TOML_ARRAY_ELEMENT = Pattern.compile("\"([^\"]*)\"");
+
+  private final Result result = new Result();
+
+  Result findAll(Path moduleRoot) {
+    Optional<Path> buildFile = buildFile(moduleRoot);
+    Optional<String> content = Optional.empty();
+    if (buildFile.isPresent()) {
+      try {
+        content = Optional.of(read(buildFile.get()));
+      } catch (IOException e) {
+        result.errors.add(new GradleEnvironmentException("could not read " + buildFile.get(), e));
+      }
+    }
+
+    // Lockfiles only list external dependencies
+    Path buildRoot = buildRoot(moduleRoot);
+    content.ifPresent(c -> result.projects.addAll(parseProjects(c, buildRoot)));
+
+    Path lockfile = moduleRoot.resolve(LOCKFILE);
+    if (Files.exists(lockfile)) {
+      try {
+        result.dependencies.addAll(parseLockfile(read(lockfile)));
+        return result;
+      } catch (IOException e) {
+        result.errors.add(new GradleEnvironmentException("could not read " + lockfile, e));
+      }
+    }
+
+    if (content.isEmpty()) {
+      return result;
+    }
+
+    Map<String, List<GradleDependency>> catalog = Map.of();
+    Optional<Path> catalogFile = catalog(moduleRoot);
+    if (catalogFile.isPresent()) {
+      try {
+        catalog = parseCatalog(read(catalogFile.get()));
+      } catch (IOException e) {
+        result.errors.add(new GradleEnvironmentException("could not read " + catalogFile.get(), e));
+      }
+    }
+
+    result.dependencies.addAll(parseBuildFile(content.get(), catalog));
+    return result;
+  }
+
+  static Optional<Path> buildFile(Path moduleRoot) {
+    return BUILD_FILES.stream().map(moduleRoot::resolve).filter(Files::exists).findFirst();
+  }
+
+  static List<GradleDependency> parseLockfile(String content) {
+    List<GradleDependency> dependencies = new ArrayList<>();
+    Matcher m = LOCKFILE_ENTRY.matcher(content);
+    while (m.find()) {
+      dependencies.add(new GradleDependency(m.group(1), m.group(2), m.group(3)));
+    }
+
+    return dependencies;
+  }
+
+  static List<GradleDependency> parseBuildFile(
+      String content, Map<String, List<GradleDependency>> catalog) {
+    Set<GradleDependency> dependencies = new LinkedHashSet<>();
+    for (Pattern notation : List.of(STRING_NOTATION, MAP_NOTATION)) {
+      Matcher m = notation.matcher(content);
+      while (m.find()) {
+        dependencies.add(new GradleDependency(m.group(1), m.group(2), m.group(3)));
+      }
+    }
+
+    Matcher m = CATALOG_NOTATION.matcher(content);
+    while (m.find()) {
+      dependencies.addAll(catalog.getOrDefault(normalizeAlias(m.group(1)), List.of()));
+    }
+
+    return new ArrayList<>(dependencies);
+  }
+
+  // Project paths are relative to the root of the build, with ':' as a separator
+  static List<Path> parseProjects(String content, Path buildRoot) {
+    Set<Path> projects = new LinkedHashSet<>();
+    Matcher m = PROJECT_NOTATION.matcher(content);
+    while (m.find()) {
+      Path project = buildRoot;
+      for (String name : m.group(1).split(":")) {
+        if (!name.isEmpty()) {
+          project = project.resolve(name);
+        }
+      }
+
+      projects.add(project);
+    }
+
+    return new ArrayList<>(projects);
+  }
+
+  /**
+   * Parses the {@code [libraries]} and {@code [bundles]} of a version catalog, returning them by
+   * normalized alias (prefixed with {@code bundles.} for bundles, as in build files).
+   *
+   * <p>This is not a TOML parser, but catalogs usually stick to one entry per line.
+   */
+  static Map<String, List<GradleDependency>> parseCatalog(String content) {
+    Map<String, String> versions = new HashMap<>();
+    Map<String, Map<String, String>> libraries = new HashMap<>();
+    Map<String, List<String>> bundles = new HashMap<>();
+    String section = "";
+    for (String line : content.split("\\R")) {
+      line = line.replaceFirst("\\s#.*$", "");
+      Matcher m = TOML_SECTION.matcher(line);
+      if (m.matches()) {
+        section = m.group(1);
+        continue;
+      }
+
+      m = TOML_ENTRY.matcher(line);
+      if (!m.matches()) {
+        continue;
+      }
+
+      String key = m.group(1);
+      String value = m.group(2);
+      Matcher string = TOML_STRING.matcher(value);
+      if (section.equals("versions") && string.matches()) {
+        versions.put(key, string.group(1));
+      } else if (section.equals("libraries")) {
+        libraries.put(normalizeAlias(key), libraryFields(value));
+      } else if (section.equals("bundles")) {
+        bundles.put(normalizeAlias(key), bundleLibraries(value));
+      }
+    }
+
+    Map<String, List<GradleDependency>> catalog = new HashMap<>();
+    for (Map.Entry<String, Map<String, String>> library : libraries.entrySet()) {
+      Map<String, String> fields = library.getValue();
+      String[] module = fields.getOrDefault("module", "").split(":");
+      String group = module.length >= 2 ? module[0] : fields.get("group");
+      String name = module.length >= 2 ? module[1] : fields.get("name");
+      String version =
+          fields.containsKey("version.ref")
+              ? versions.get(fields.get("version.ref"))
+              : fields.get("version");
+      if (group != null && name != null) {
+        catalog.put(library.getKey(), List.of(new GradleDependency(group, name, version)));
+      }
+    }
+
+    for (Map.Entry<String, List<String>> bundle : bundles.entrySet()) {
+      List<GradleDependency> dependencies = new ArrayList<>();
+      for (String library : bundle.getValue()) {
+        dependencies.addAll(catalog.getOrDefault(library, List.of()));
+      }
+
+      catalog.put("bundles." + bundle.getKey(), dependencies);
+    }
+
+    return catalog;
+  }
+
+  // A bundle is an array of library aliases: ["guava", "commons-lang"]
+  private static List<String> bundleLibraries(String value) {
+    List<String> libraries = new ArrayList<>();
+    Matcher array = TOML_ARRAY.matcher(value);
+    if (!array.matches()) {
+      return libraries;
+    }
+
+    Matcher m = TOML_ARRAY_ELEMENT.matcher(array.group(1));
+    while (m.find()) {
+      libraries.add(normalizeAlias(m.group(1)));
+    }
+
+    return libraries;
+  }
+
+  // Either "group:name:version" or { module = "group:name", version.ref = "ref" } and similar
+  private static Map<String, String> libraryFields(String value) {
+    Map<String, String> fields = new HashMap<>();
+    Matcher string = TOML_STRING.matcher(value);
+    if (string.matches()) {
+      String[] coordinates = string.group(1).split(":");
+      if (coordinates.length >= 2) {
+        fields.put("module", coordinates[0] + ":" + coordinates[1]);
+      }
+      if (coordinates.length >= 3) {
+        fields.put("version", coordinates[2]);
+      }
+
+      return fields;
+    }
+
+    Matcher m = TOML_INLINE_ENTRY.matcher(value);
+    while (m.find()) {
+      fields.put(m.group(1), m.group(2));
+    }
+
+    return fields;
+  }
+
+  // Aliases are accessed with dots in build files, whatever the separator used in the catalog
+  private static String normalizeAlias(String alias) {
+    return alias.replace('-', '.').replace('_', '.');
+  }
+
+  // The root of the build holds its settings file, the module is its own build without one
+  private static Path buildRoot(Path moduleRoot) {
+    Path current = moduleRoot;
+    while (current != null) {
+      Path dir = current;
+      if (SETTINGS_FILES.stream().anyMatch(s -> Files.exists(dir.resolve(s)))) {
+        return dir;
+      }
+
+      current = current.getParent();
+    }
+
+    return moduleRoot;
+  }
+
+  // The catalog lives next to the settings file, at the root of the build
+  private static Optional<Path> catalog(Path moduleRoot) {
+    Path current = moduleRoot;
+    while (current != null) {
+      if (Files.exists(current.resolve(CATALOG))) {
+        return Optional.of(current.resolve(CATALOG));
+      }
+
+      Path dir = current;
+      if (SETTINGS_FILES.stream().anyMatch(s -> Files.exists(dir.resolve(s)))) {
+        break;
+      }
+
+      current = current.getParent();
+    }
+
+    return Optional.empty();
+  }
+
+  private static String read(Path file) throws IOException {
+    return new String(Files.readAllBytes(file), UTF_8);
+  }
+}
@@ -0,0 +1,49 @@
+package com.nikodoko.javaimports.environment.gradle;
+
+import com.nikodoko.javaimports.environment.maven.MavenVersionResolver;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Resolves Gradle dependencies to their jar in the Gradle module cache, without running Gradle.
+ *
+ * <p>The cache ({@code ~/.gradle/caches/modules-2/files-2.1}) stores each file of an artifact as
+ * {@code <group>/<name>/<version>/<sha1>/<file>}, the group being kept as is.
+ */
+class GradleDependencyResolver {
+  private final Path repository;
+  private final MavenVersionResolver versions;
+
+  private GradleDependencyResolver(Path repository, MavenVersionResolver versions) {
+    this.repository = repository;
+    this.versions = versions;
+  }
+
+  static GradleDependencyResolver withRepository(Path repository) {
+    return withRepository(repository, MavenVersionResolver.withCache(Optional.empty()));
+  }
+
+  static GradleDependencyResolver withRepository(Path repository, MavenVersionResolver versions) {
+    return new GradleDependencyResolver(repository, versions);
+  }
+
+  Path resolve(GradleDependency dependency) throws IOException {
+    Path artifactDirectory = repository.resolve(dependency.group).resolve(dependency.name);
+    String version = dependency.version;
+    if (!dependency.hasPlainVersion()) {
+      version = versions.latestVersion(artifactDirectory);
+    }
+
+    String jar = String.format("%s-%s.jar", dependency.name, version);
+    try (Stream<Path> hashes = Files.list(artifactDirectory.resolve(version))) {
+      return hashes
+          .map(h -> h.resolve(jar))
+          .filter(Files::exists)
+          .findFirst()
+          .orElseThrow(() -> new IOException(String.format("no %s in %s", jar, artifactDirectory)));
+    }
+  }
+}
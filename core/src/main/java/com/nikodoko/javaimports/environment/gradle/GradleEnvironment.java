@@ -0,0 +1,161 @@
+package com.nikodoko.javaimports.environment.gradle;
+
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.Profile;
+import com.nikodoko.javaimports.Profile.Phase;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.environment.BuildSystemEnvironment;
+import com.nikodoko.javaimports.environment.JarLoader;
+import com.nikodoko.javaimports.environment.JavaProject;
+import com.nikodoko.javaimports.environment.maven.MavenVersionResolver;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Encapsulates a Gradle project environment, scanning project files and dependencies for importable
+ * symbols.
+ *
+ * <p>Invoking Gradle is way too slow, so dependencies are read from the build files and resolved
+ * straight from the Gradle module cache. Dependencies that were never downloaded by Gradle are
+ * ignored.
+ */
+public class GradleEnvironment extends BuildSystemEnvironment {
+  private static final Logger log = Logger.getLogger(GradleEnvironment.class.getName());
+  private static final Clock clock = Clock.systemDefaultZone();
+
+  private final GradleDependencyResolver resolver;
+  private final MavenVersionResolver versions;
+
+  public GradleEnvironment(
+      Path root, Path fileBeingResolved, String pkgBeingResolved, Options options) {
+    super(root, fileBeingResolved, pkgBeingResolved, options);
+    var repository =
+        options.repository().isPresent() ? options.repository().get() : defaultRepository();
+    this.versions = MavenVersionResolver.withCache(options.cache(), options.profile());
+    this.resolver = GradleDependencyResolver.withRepository(repository, versions);
+  }
+
+  /** Returns whether {@code directory} is the root of a Gradle project. */
+  public static boolean isProjectRoot(Path directory) {
+    return GradleDependencyFinder.buildFile(directory).isPresent();
+  }
+
+  private static Path defaultRepository() {
+    String gradleHome = System.getenv("GRADLE_USER_HOME");
+    Path home =
+        gradleHome != null
+            ? Paths.get(gradleHome)
+            : Paths.get(System.getProperty("user.home"), ".gradle");
+    return home.resolve(Paths.get("caches", "modules-2", "files-2.1"));
+  }
+
+  @Override
+  protected JavaProject parseProject() {
+    long start = clock.millis();
+    GradleProjectParser.Result parsed =
+        new GradleProjectParser(root, options).parseAllExcept(fileBeingResolved);
+    if (options.debug()) {
+      log.info(String.format("parsed project in %d ms", clock.millis() - start));
+      parsed.errors.forEach(e -> log.log(Level.WARNING, "error parsing project", e));
+    }
+
+    return parsed.project;
+  }
+
+  @Override
+  protected List<Import> importsInDependencies() {
+    return extractImportsInDependencies();
+  }
+
+  private List<Import> extractImportsInDependencies() {
+    GradleDependencyFinder.Result found;
+    try (Profile.Timer t = options.profile().time(Phase.POM_LOADING)) {
+      found = new GradleDependencyFinder().findAll(root);
+    }
+
+    if (options.debug()) {
+      log.info(
+          String.format(
+              "found %d dependencies: %s", found.dependencies.size(), found.dependencies));
+      found.errors.forEach(e -> log.log(Level.WARNING, "error finding dependencies", e));
+    }
+
+    var futures =
+        found.dependencies.stream()
+            .map(d -> CompletableFuture.supplyAsync(() -> resolveAndLoad(d), options.ioExecutor()))
+            .collect(Collectors.toList());
+    List<Import> imports = new ArrayList<>();
+    for (Path project : found.projects) {
+      imports.addAll(importsInProject(project));
+    }
+    futures.forEach(f -> imports.addAll(f.join()));
+
+    try {
+      versions.persist();
+    } catch (IOException e) {
+      // The cache is only an optimization, it is fine to recompute everything next time
+      if (options.debug()) {
+        log.log(Level.WARNING, "could not persist resolved versions", e);
+      }
+    }
+
+    return imports;
+  }
+
+  // Other projects of the build are parsed, as they might never have been built
+  private List<Import> importsInProject(Path project) {
+    // Already parsed as part of this project
+    if (project.startsWith(root)) {
+      return List.of();
+    }
+
+    GradleProjectParser.Result parsed =
+        new GradleProjectParser(project, options).parseAllExcept(null);
+    if (options.debug()) {
+      parsed.errors.forEach(e -> log.log(Level.WARNING, "error parsing project " + project, e));
+    }
+
+    return importsIn(parsed.project);
+  }
+
+  private List<Import> resolveAndLoad(GradleDependency dependency) {
+    long start = clock.millis();
+    try {
+      Path jar = resolver.resolve(dependency);
+      List<Import> imports =
+          new JarLoader(options.cancellation(), options.profile())
+              .cachingIn(options.cache())
+              .load(jar);
+      if (options.debug()) {
+        log.info(
+            String.format(
+                "loaded %d imports in %d ms (%s)", imports.size(), clock.millis() - start, jar));
+      }
+
+      return imports;
+    } catch (IOException e) {
+      // No matter what happens, we don't want to fail the whole importing process just for that.
+      if (options.debug()) {
+        log.log(Level.WARNING, String.format("could not resolve dependency %s", dependency), e);
+      }
+
+      return List.of();
+    } catch (CancellationException e) {
+      // Past the deadline, keep going with what was loaded so far
+      if (options.cancellation().isCancelled()) {
+        throw e;
+      }
+
+      return List.of();
+    }
+  }
+}
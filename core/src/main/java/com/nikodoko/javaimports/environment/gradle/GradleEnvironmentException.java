@@ -0,0 +1,7 @@
+package com.nikodoko.javaimports.environment.gradle;
+
+class GradleEnvironmentException extends Exception {
+  GradleEnvironmentException(String msg, Exception cause) {
+    super(msg, cause);
+  }
+}
@@ -0,0 +1,66 @@
+package com.nikodoko.javaimports.environment.gradle;
+
+import com.google.common.base.MoreObjects;
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.Profile;
+import com.nikodoko.javaimports.Profile.Phase;
+import com.nikodoko.javaimports.environment.JavaProject;
+import com.nikodoko.javaimports.environment.ProjectFiles;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/** Parses all java files in a given Gradle project, leaving out build outputs. */
+class GradleProjectParser {
+  static final class Result {
+    final JavaProject project = new JavaProject();
+    final List<GradleEnvironmentException> errors = new ArrayList<>();
+
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("project", project)
+          .add("errors", errors)
+          .toString();
+    }
+  }
+
+  // Build outputs, that can hold thousands of generated files
+  private static final Set<String> IGNORED_DIRECTORIES = Set.of("build", ".gradle");
+
+  private final Path root;
+  private final Options options;
+
+  GradleProjectParser(Path root, Options options) {
+    this.root = root;
+    this.options = options;
+  }
+
+  Result parseAllExcept(Path excluded) {
+    Result result = new Result();
+    List<Path> files;
+    try (Profile.Timer t = options.profile().time(Phase.PROJECT_WALK)) {
+      files =
+          ProjectFiles.find(root, IGNORED_DIRECTORIES, options.cancellation()).stream()
+              .filter(p -> !p.equals(excluded))
+              .collect(Collectors.toList());
+    } catch (IOException e) {
+      result.errors.add(new GradleEnvironmentException("could not find files", e));
+      return result;
+    }
+
+    try (Profile.Timer t = options.profile().time(Phase.PROJECT_PARSE)) {
+      ProjectFiles.parse(
+              files,
+              options,
+              (file, e) ->
+                  result.errors.add(
+                      new GradleEnvironmentException("could not parse file at " + file, e)))
+          .forEach(result.project::add);
+    }
+
+    return result;
+  }
+}
@@ -0,0 +1,30 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** A Flight Recorder event recorded when a Maven environment loads the project and dependencies. */
+@Name("com.nikodoko.javaimports.MavenEnvironmentInit")
+@Label("Maven Environment Init")
+@Category("Javaimports")
+@Description("Loading of a Maven project and of its dependencies")
+@StackTrace(false)
+class EnvironmentInitEvent extends Event {
+  @Label("Project Root")
+  String root;
+
+  @Label("Project Files")
+  @Description("Files parsed, as opposed to indexed from their compiled output")
+  int files;
+
+  @Label("Available Imports")
+  int imports;
+
+  @Label("Symbol Index Used")
+  @Description("Whether dependencies were looked up in the index built by the Maven plugin")
+  boolean indexed;
+}
@@ -0,0 +1,163 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import com.google.common.base.MoreObjects;
+import com.nikodoko.javaimports.common.Import;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The compiled output of a Maven module ({@code target/classes} and {@code target/test-classes}).
+ *
+ * <p>Listing class files is much cheaper than parsing sources, so sources that have not been
+ * modified since they were last compiled (their class file is at least as recent as them) are
+ * indexed from their compiled output. The others still need to be parsed.
+ *
+ * <p>Only the classes of such sources are indexed: other class files may be left over from sources
+ * that were since renamed or deleted.
+ */
+class MavenCompiledOutput {
+  static final class Result {
+    // Sources that must be parsed, as they are not compiled or were modified since
+    final List<Path> toParse = new ArrayList<>();
+    // Sources indexed from their compiled output, by package
+    final Map<String, List<Path>> compiled = new HashMap<>();
+    final List<Import> imports = new ArrayList<>();
+    final List<MavenEnvironmentException> errors = new ArrayList<>();
+
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("toParse", toParse)
+          .add("compiled", compiled)
+          .add("imports", imports)
+          .add("errors", errors)
+          .toString();
+    }
+  }
+
+  // Where a source is compiled to
+  private static final class Location {
+    final Path classes;
+    // Relative to classes, without extension
+    final Path type;
+
+    Location(Path classes, Path type) {
+      this.classes = classes;
+      this.type = type;
+    }
+
+    Path classFile() {
+      return classes.resolve(type + ".class");
+    }
+  }
+
+  private static final Map<Path, Path> OUTPUTS =
+      Map.of(
+          Path.of("src", "main", "java"), Path.of("target", "classes"),
+          Path.of("src", "test", "java"), Path.of("target", "test-classes"));
+
+  private final Path root;
+
+  MavenCompiledOutput(Path root) {
+    this.root = root;
+  }
+
+  /**
+   * Splits {@code sources} between the ones that can be indexed from their compiled output and the
+   * ones that must be parsed, and indexes the former.
+   *
+   * <p>Sources in {@code packageToParse} are always parsed, as callers need all the information
+   * about them. The {@code excluded} source is never indexed.
+   */
+  Result index(List<Path> sources, String packageToParse, Path excluded) {
+    Result result = new Result();
+    // Top level types (relative to their classes directory) that can come from compiled output.
+    // Class files of other types are ignored, as they can be stale (their source was modified,
+    // renamed or deleted since it was last compiled)
+    Map<Path, Set<Path>> upToDate = new HashMap<>();
+    for (Path source : sources) {
+      Optional<Location> location = locate(source);
+      if (location.isEmpty()) {
+        if (!source.equals(excluded)) {
+          result.toParse.add(source);
+        }
+
+        continue;
+      }
+
+      Location l = location.get();
+      String pkg = packageOf(l.type);
+      if (source.equals(excluded)) {
+        continue;
+      }
+
+      if (pkg.equals(packageToParse) || !isUpToDate(source, l.classFile())) {
+        result.toParse.add(source);
+        continue;
+      }
+
+      upToDate.computeIfAbsent(l.classes, k -> new HashSet<>()).add(l.type);
+      result.compiled.computeIfAbsent(pkg, k -> new ArrayList<>()).add(source);
+    }
+
+    for (Map.Entry<Path, Set<Path>> e : upToDate.entrySet()) {
+      try {
+        result.imports.addAll(
+            new MavenDependencyLoader()
+                .load(e.getKey(), c -> e.getValue().contains(topLevelType(c))));
+      } catch (IOException ex) {
+        result.errors.add(
+            new MavenEnvironmentException("could not load classes in " + e.getKey(), ex));
+      }
+    }
+
+    return result;
+  }
+
+  private Optional<Location> locate(Path source) {
+    Path relative = root.relativize(source);
+    for (Map.Entry<Path, Path> output : OUTPUTS.entrySet()) {
+      if (!relative.startsWith(output.getKey())) {
+        continue;
+      }
+
+      Path type = output.getKey().relativize(relative);
+      String filename = type.getFileName().toString();
+      type = type.resolveSibling(filename.substring(0, filename.length() - ".java".length()));
+      return Optional.of(new Location(root.resolve(output.getValue()), type));
+    }
+
+    return Optional.empty();
+  }
+
+  private static boolean isUpToDate(Path source, Path classFile) {
+    try {
+      return Files.getLastModifiedTime(classFile).compareTo(Files.getLastModifiedTime(source)) >= 0;
+    } catch (IOException e) {
+      // Most likely not compiled
+      return false;
+    }
+  }
+
+  private static String packageOf(Path type) {
+    Path parent = type.getParent();
+    return parent == null
+        ? ""
+        : parent.toString().replace(type.getFileSystem().getSeparator(), ".");
+  }
+
+  // Nested classes are compiled to Outer$Nested.class
+  private static Path topLevelType(Path classFile) {
+    String filename = classFile.getFileName().toString();
+    int end = filename.indexOf('$');
+    String name = filename.substring(0, end >= 0 ? end : filename.length() - ".class".length());
+    return classFile.resolveSibling(name);
+  }
+}
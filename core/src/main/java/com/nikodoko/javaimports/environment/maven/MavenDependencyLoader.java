@@ -1,58 +1,46 @@
 package com.nikodoko.javaimports.environment.maven;
 
-import com.nikodoko.javaimports.parser.Import;
-import java.io.FileInputStream;
+import com.nikodoko.javaimports.Cancellation;
+import com.nikodoko.javaimports.Profile;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.environment.JarLoader;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.jar.JarEntry;
-import java.util.jar.JarInputStream;
+import java.util.Optional;
+import java.util.function.Predicate;
 
-/** Loads a .jar, extracting all importable symbols. */
-// TODO: handle static imports
+/** Loads a Maven dependency, extracting all importable symbols. */
 class MavenDependencyLoader {
-  private static final String SUBCLASS_SEPARATOR = "$";
-  private static final String JAVA_9_MODULE_INFO = "module-info.class";
+  private final JarLoader loader;
 
-  List<Import> load(Path dependency) throws IOException {
-    return scanJar(dependency);
+  MavenDependencyLoader() {
+    this(Cancellation.never());
+  }
+
+  MavenDependencyLoader(Cancellation cancellation) {
+    this(cancellation, Profile.disabled());
   }
 
-  private List<Import> scanJar(Path jar) throws IOException {
-    List<Import> imports = new ArrayList<>();
-    try (JarInputStream in = new JarInputStream(new FileInputStream(jar.toString()))) {
-      JarEntry entry;
-      while ((entry = in.getNextJarEntry()) != null) {
-        // XXX: this will get all classes, including private and protected ones
-        if (isValidImport(entry)) {
-          imports.add(parseImport(Paths.get(entry.getName())));
-        }
-      }
-    }
-
-    return imports;
+  MavenDependencyLoader(Cancellation cancellation, Profile profile) {
+    this.loader = new JarLoader(cancellation, profile);
   }
 
-  private Import parseImport(Path jarEntry) {
-    String pkg = jarEntry.getParent().toString().replace("/", ".");
-    String filename = jarEntry.getFileName().toString();
-    String name = filename.substring(0, filename.lastIndexOf("."));
-    if (!name.contains(SUBCLASS_SEPARATOR)) {
-      return new Import(name, pkg, false);
-    }
-
-    // Make the subclass addressable by its name
-    String extraPkg =
-        name.substring(0, name.lastIndexOf(SUBCLASS_SEPARATOR)).replace(SUBCLASS_SEPARATOR, ".");
-    String subclassName = name.substring(name.lastIndexOf(SUBCLASS_SEPARATOR) + 1, name.length());
-    return new Import(subclassName, String.join(".", pkg, extraPkg), false);
+  /** Caches the imports found in jars in {@code cache}, if present. */
+  MavenDependencyLoader cachingIn(Optional<Path> cache) {
+    loader.cachingIn(cache);
+    return this;
+  }
+
+  List<Import> load(Path dependency) throws IOException {
+    return loader.load(dependency);
   }
 
-  // TODO: we could be smarter and parse the module-info file to know what to import and what to
-  // ignore.
-  private boolean isValidImport(JarEntry entry) {
-    return entry.getName().endsWith(".class") && !entry.getName().equals(JAVA_9_MODULE_INFO);
+  /**
+   * Loads a directory of compiled classes, keeping only the class files (relative to {@code
+   * directory}) matching {@code filter}.
+   */
+  List<Import> load(Path directory, Predicate<Path> filter) throws IOException {
+    return loader.load(directory, filter);
   }
 }
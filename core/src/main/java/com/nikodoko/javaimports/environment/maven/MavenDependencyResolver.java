@@ -2,13 +2,9 @@ package com.nikodoko.javaimports.environment.maven;
 
 import com.google.common.base.MoreObjects;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /** Resolves Maven dependencies to their location on disk. */
 class MavenDependencyResolver {
@@ -27,13 +23,19 @@ class MavenDependencyResolver {
   }
 
   private final Path repository;
+  private final MavenVersionResolver versions;
 
-  private MavenDependencyResolver(Path repository) {
+  private MavenDependencyResolver(Path repository, MavenVersionResolver versions) {
     this.repository = repository;
+    this.versions = versions;
   }
 
   static MavenDependencyResolver withRepository(Path repository) {
-    return new MavenDependencyResolver(repository);
+    return withRepository(repository, MavenVersionResolver.withCache(Optional.empty()));
+  }
+
+  static MavenDependencyResolver withRepository(Path repository, MavenVersionResolver versions) {
+    return new MavenDependencyResolver(repository, versions);
   }
 
   PrimaryArtifact resolve(MavenDependency dependency) throws IOException {
@@ -47,7 +49,7 @@ class MavenDependencyResolver {
     Path dependencyRepository = directoryFor(dependency);
     String version = dependency.version;
     if (!dependency.hasPlainVersion()) {
-      version = getLatestAvailableVersion(dependencyRepository).name;
+      version = versions.latestVersion(dependencyRepository);
     }
 
     return Paths.get(
@@ -62,16 +64,4 @@ class MavenDependencyResolver {
   private String artifactName(String artifactId, String version) {
     return String.format("%s-%s", artifactId, version);
   }
-
-  private MavenDependencyVersion getLatestAvailableVersion(Path dependencyRepository)
-      throws IOException {
-    List<MavenDependencyVersion> versions =
-        Files.find(dependencyRepository, 1, (path, attributes) -> Files.isDirectory(path))
-            .map(p -> MavenDependencyVersion.of(p.getFileName().toString()))
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .collect(Collectors.toList());
-
-    return Collections.max(versions);
-  }
 }
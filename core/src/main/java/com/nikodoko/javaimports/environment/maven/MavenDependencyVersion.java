@@ -1,23 +1,39 @@
 package com.nikodoko.javaimports.environment.maven;
 
 import com.google.common.base.MoreObjects;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * A Maven version, ordered the way Maven orders them.
+ *
+ * <p>This follows the rules of Maven's {@code ComparableVersion}: versions are split into numeric
+ * and qualifier items (on {@code .}, {@code -} and transitions between digits and letters), and
+ * known qualifiers are ordered {@code alpha < beta < milestone < rc < snapshot < (release) < sp},
+ * unknown qualifiers coming after these. The version is parsed once, so that comparisons are cheap.
+ */
 class MavenDependencyVersion implements Comparable<MavenDependencyVersion> {
-  // Supports "exotic" versioning, like guava's "26.0-jre"
+  // Supports "exotic" versioning, like guava's "26.0-jre" or "1.0-rc1"
   private static final Pattern VERSION_REGEX =
-      Pattern.compile("(?:\\D+)?(?<versionNumber>\\d+(?:\\.\\d+)+)(?:\\D+)?");
+      Pattern.compile("(?:\\D+)?(?<versionNumber>\\d+(?:\\.\\d+)+)(?:\\D.*)?");
   static final MavenDependencyVersion INVALID = new MavenDependencyVersion("INVALID", "INVALID");
 
-  String name;
-  String number;
+  final String name;
+  final String number;
+  private final ListItem key;
 
   MavenDependencyVersion(String name, String number) {
     this.name = name;
     this.number = number;
+    this.key = parse(name);
   }
 
   static Optional<MavenDependencyVersion> of(String name) {
@@ -44,23 +60,235 @@ class MavenDependencyVersion implements Comparable<MavenDependencyVersion> {
   }
 
   @Override
-  public int compareTo(MavenDependencyVersion other) {
-    String[] numbers = number.split("\\.");
-    String[] otherNumbers = other.number.split("\\.");
-    int maxLength = Math.max(numbers.length, otherNumbers.length);
-    for (int i = 0; i < maxLength; i++) {
-      Integer number = i < numbers.length ? Integer.parseInt(numbers[i]) : 0;
-      Integer otherNumber = i < otherNumbers.length ? Integer.parseInt(otherNumbers[i]) : 0;
-      Integer res = number.compareTo(otherNumber);
-
-      if (res != 0) return res;
-    }
+  public int hashCode() {
+    return Objects.hash(name, number);
+  }
 
-    return 0;
+  @Override
+  public int compareTo(MavenDependencyVersion other) {
+    return key.compareTo(other.key);
   }
 
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this).add("name", name).add("number", number).toString();
   }
+
+  private static ListItem parse(String version) {
+    version = version.toLowerCase(Locale.ENGLISH);
+    ListItem list = new ListItem();
+    ListItem root = list;
+    Deque<ListItem> stack = new ArrayDeque<>();
+    stack.push(list);
+
+    boolean isDigit = false;
+    int start = 0;
+    for (int i = 0; i < version.length(); i++) {
+      char c = version.charAt(i);
+      if (c == '.') {
+        list.add(i == start ? IntItem.ZERO : item(isDigit, version.substring(start, i)));
+        start = i + 1;
+      } else if (c == '-') {
+        list.add(i == start ? IntItem.ZERO : item(isDigit, version.substring(start, i)));
+        start = i + 1;
+        list = list.sublist();
+        stack.push(list);
+      } else if (Character.isDigit(c)) {
+        if (!isDigit && i > start) {
+          list.add(new StringItem(version.substring(start, i), true));
+          start = i;
+          list = list.sublist();
+          stack.push(list);
+        }
+
+        isDigit = true;
+      } else {
+        if (isDigit && i > start) {
+          list.add(item(true, version.substring(start, i)));
+          start = i;
+          list = list.sublist();
+          stack.push(list);
+        }
+
+        isDigit = false;
+      }
+    }
+
+    if (version.length() > start) {
+      list.add(item(isDigit, version.substring(start)));
+    }
+
+    while (!stack.isEmpty()) {
+      stack.pop().normalize();
+    }
+
+    return root;
+  }
+
+  private static Item item(boolean isDigit, String value) {
+    return isDigit ? new IntItem(value) : new StringItem(value, false);
+  }
+
+  /** Items are compared to null when the other version has less items at this level. */
+  private interface Item {
+    int compareTo(Item other);
+
+    boolean isNull();
+  }
+
+  private static final class IntItem implements Item {
+    static final IntItem ZERO = new IntItem("0");
+
+    final BigInteger value;
+
+    IntItem(String value) {
+      this.value = new BigInteger(value);
+    }
+
+    @Override
+    public int compareTo(Item other) {
+      if (other == null) {
+        return isNull() ? 0 : 1;
+      }
+
+      if (other instanceof IntItem) {
+        return value.compareTo(((IntItem) other).value);
+      }
+
+      // 1.1 > 1-sp and 1.1 > 1-1
+      return 1;
+    }
+
+    @Override
+    public boolean isNull() {
+      return value.signum() == 0;
+    }
+  }
+
+  private static final class StringItem implements Item {
+    private static final List<String> QUALIFIERS =
+        List.of("alpha", "beta", "milestone", "rc", "snapshot", "", "sp");
+    private static final String RELEASE = String.valueOf(QUALIFIERS.indexOf(""));
+
+    // A comparable representation of the qualifier, so that comparisons are simple string ones
+    final String comparable;
+
+    StringItem(String value, boolean followedByDigit) {
+      if (followedByDigit && value.length() == 1) {
+        // a1 = alpha-1, b1 = beta-1, m1 = milestone-1
+        switch (value.charAt(0)) {
+          case 'a':
+            value = "alpha";
+            break;
+          case 'b':
+            value = "beta";
+            break;
+          case 'm':
+            value = "milestone";
+            break;
+          default:
+            break;
+        }
+      }
+
+      this.comparable = comparable(alias(value));
+    }
+
+    private static String alias(String value) {
+      switch (value) {
+        case "ga":
+        case "final":
+        case "release":
+          return "";
+        case "cr":
+          return "rc";
+        default:
+          return value;
+      }
+    }
+
+    private static String comparable(String qualifier) {
+      int i = QUALIFIERS.indexOf(qualifier);
+      return i == -1 ? QUALIFIERS.size() + "-" + qualifier : String.valueOf(i);
+    }
+
+    @Override
+    public int compareTo(Item other) {
+      if (other == null) {
+        // 1-rc < 1, 1-ga > 1
+        return comparable.compareTo(RELEASE);
+      }
+
+      if (other instanceof StringItem) {
+        return comparable.compareTo(((StringItem) other).comparable);
+      }
+
+      // 1.any < 1.1 and 1-any < 1-1
+      return -1;
+    }
+
+    @Override
+    public boolean isNull() {
+      return comparable.equals(RELEASE);
+    }
+  }
+
+  private static final class ListItem implements Item {
+    final List<Item> items = new ArrayList<>();
+
+    void add(Item item) {
+      items.add(item);
+    }
+
+    ListItem sublist() {
+      ListItem sublist = new ListItem();
+      items.add(sublist);
+      return sublist;
+    }
+
+    // Removes trailing null items, so that 1.0.0 = 1 and 1-ga = 1
+    void normalize() {
+      for (int i = items.size() - 1; i >= 0; i--) {
+        Item item = items.get(i);
+        if (item.isNull()) {
+          items.remove(i);
+        } else if (!(item instanceof ListItem)) {
+          break;
+        }
+      }
+    }
+
+    @Override
+    public int compareTo(Item other) {
+      if (other == null) {
+        return items.isEmpty() ? 0 : items.get(0).compareTo(null);
+      }
+
+      if (other instanceof IntItem) {
+        return -1;
+      }
+
+      if (other instanceof StringItem) {
+        return 1;
+      }
+
+      List<Item> otherItems = ((ListItem) other).items;
+      for (int i = 0; i < Math.max(items.size(), otherItems.size()); i++) {
+        Item left = i < items.size() ? items.get(i) : null;
+        Item right = i < otherItems.size() ? otherItems.get(i) : null;
+        int result =
+            left == null ? (right == null ? 0 : -right.compareTo(null)) : left.compareTo(right);
+        if (result != 0) {
+          return result;
+        }
+      }
+
+      return 0;
+    }
+
+    @Override
+    public boolean isNull() {
+      return items.isEmpty();
+    }
+  }
 }
@@ -1,26 +1,32 @@
 package com.nikodoko.javaimports.environment.maven;
 
 import com.google.common.collect.Iterables;
-import com.google.common.collect.Sets;
+import com.nikodoko.javaimports.Cancellation;
 import com.nikodoko.javaimports.Options;
-import com.nikodoko.javaimports.common.Identifier;
-import com.nikodoko.javaimports.environment.Environment;
+import com.nikodoko.javaimports.Profile;
+import com.nikodoko.javaimports.Profile.Counter;
+import com.nikodoko.javaimports.Profile.Phase;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import com.nikodoko.javaimports.environment.BuildSystemEnvironment;
 import com.nikodoko.javaimports.environment.JavaProject;
-import com.nikodoko.javaimports.environment.PackageDistance;
-import com.nikodoko.javaimports.parser.Import;
+import com.nikodoko.javaimports.environment.SymbolTable;
 import com.nikodoko.javaimports.parser.ParsedFile;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -30,112 +36,198 @@ import java.util.stream.Stream;
  * Encapsulates a Maven project environment, scanning project files and dependencies for importable
  * symbols.
  */
-public class MavenEnvironment implements Environment {
+public class MavenEnvironment extends BuildSystemEnvironment {
   private static Logger log = Logger.getLogger(MavenEnvironment.class.getName());
   private static final Path DEFAULT_REPOSITORY =
       Paths.get(System.getProperty("user.home"), ".m2/repository");
   private static final Clock clock = Clock.systemDefaultZone();
 
-  private final Path root;
-  private final Path fileBeingResolved;
-  private final Options options;
-  private final PackageDistance distance;
   private final MavenDependencyResolver resolver;
+  private final MavenVersionResolver versions;
 
-  private Map<String, Import> bestAvailableImports = new HashMap<>();
-  private JavaProject project;
-  private boolean projectIsParsed = false;
-  private boolean isInitialized = false;
+  // Symbols of the dependencies, when indexed at build time
+  private Optional<SymbolTable> index = Optional.empty();
+  // Imports in project files that were indexed from their compiled output instead of being parsed
+  private List<Import> compiledImports;
+  // Project files that were not parsed, by package
+  private Map<String, List<Path>> notParsed;
+  // Dependencies still loading in the background once the deadline was reached
+  private final List<CompletableFuture<LoadedDependency>> stillLoading = new ArrayList<>();
+
+  /**
+   * Forgets what Maven environments memoize for the whole process (reactors and their indexes,
+   * resolved versions), so that the next ones start as a new process would, except for disk caches.
+   */
+  public static void forgetMemoized() {
+    MavenReactor.forgetAll();
+    MavenVersionResolver.forgetAll();
+  }
 
   public MavenEnvironment(
       Path root, Path fileBeingResolved, String pkgBeingResolved, Options options) {
-    this.root = root;
-    this.fileBeingResolved = fileBeingResolved;
-    this.options = options;
-    this.distance = PackageDistance.from(pkgBeingResolved);
+    super(root, fileBeingResolved, pkgBeingResolved, options);
     var repository =
         options.repository().isPresent() ? options.repository().get() : DEFAULT_REPOSITORY;
-    this.resolver = MavenDependencyResolver.withRepository(repository);
+    this.versions = MavenVersionResolver.withCache(options.cache(), options.profile());
+    this.resolver = MavenDependencyResolver.withRepository(repository, versions);
   }
 
   @Override
-  public Set<ParsedFile> filesInPackage(String packageName) {
-    parseProjectIfNeeded();
-    return Sets.newHashSet(project.filesInPackage(packageName));
+  public synchronized Set<ParsedFile> filesInPackage(String packageName) {
+    JavaProject project = project();
+    List<Path> toParse = notParsed.remove(packageName);
+    if (toParse != null) {
+      MavenProjectParser.Result parsed = new MavenProjectParser(root, options).parse(toParse);
+      parsed.project.allFiles().forEach(project::add);
+    }
+
+    return super.filesInPackage(packageName);
   }
 
   @Override
-  public Optional<Import> search(String identifier) {
-    if (!isInitialized) {
-      init();
-    }
+  protected List<Import> lookup(String identifier) {
+    return index.map(idx -> idx.lookup(identifier)).orElse(List.of());
+  }
+
+  @Override
+  protected Map<String, List<Import>> lookup(Collection<String> identifiers) {
+    return index.map(idx -> idx.lookup(identifiers)).orElse(Map.of());
+  }
 
-    return Optional.ofNullable(bestAvailableImports.get(identifier));
+  @Override
+  protected List<Import> lookup(Selector selector) {
+    return index.map(idx -> idx.lookup(selector)).orElse(List.of());
   }
 
   @Override
-  public Collection<com.nikodoko.javaimports.common.Import> findImports(Identifier i) {
-    if (!isInitialized) {
-      init();
+  protected synchronized void init() {
+    if (isInitialized()) {
+      return;
     }
 
-    var best = bestAvailableImports.get(i.toString());
-    if (best == null) {
-      return List.of();
+    EnvironmentInitEvent event = new EnvironmentInitEvent();
+    event.begin();
+    super.init();
+    event.end();
+    if (event.shouldCommit()) {
+      event.root = root.toString();
+      event.files = Iterables.size(project().allFiles());
+      event.imports = importCount();
+      event.indexed = index.isPresent();
+      event.commit();
     }
+  }
 
-    return List.of(best.toNew());
+  @Override
+  protected List<Import> importsInDependencies() {
+    index = openIndex();
+    return index.isPresent() ? List.of() : extractImportsInDependencies();
   }
 
-  private void init() {
-    parseProjectIfNeeded();
+  @Override
+  protected List<Import> importsInProject() {
+    List<Import> imports = new ArrayList<>(compiledImports);
+    imports.addAll(super.importsInProject());
+    return imports;
+  }
 
+  @Override
+  protected JavaProject parseProject() {
     long start = clock.millis();
-    List<Import> imports = extractImportsInDependencies();
-    for (ParsedFile file : project.allFiles()) {
-      imports.addAll(extractImports(file));
-    }
 
-    Collections.sort(imports, (a, b) -> distance.to(a.qualifier()) - distance.to(b.qualifier()));
-    for (Import i : imports) {
-      if (bestAvailableImports.containsKey(i.name())) {
-        continue;
+    List<Path> sources = List.of();
+    try (Profile.Timer t = options.profile().time(Phase.PROJECT_WALK)) {
+      sources = MavenProjectFinder.withRoot(root).cancelledBy(options.cancellation()).findAll();
+    } catch (IOException e) {
+      if (options.debug()) {
+        log.log(Level.WARNING, "could not find project files", e);
       }
-
-      bestAvailableImports.put(i.name(), i);
     }
 
-    isInitialized = true;
-    log.log(Level.INFO, String.format("init completed in %d ms", clock.millis() - start));
-  }
-
-  private void parseProjectIfNeeded() {
-    if (projectIsParsed) {
-      return;
+    // Only parse what we cannot get from the compiled output
+    MavenCompiledOutput.Result compiled;
+    try (Profile.Timer t = options.profile().time(Phase.INDEX_BUILD)) {
+      compiled = new MavenCompiledOutput(root).index(sources, pkgBeingResolved, fileBeingResolved);
     }
-    long start = clock.millis();
 
-    MavenProjectParser parser = new MavenProjectParser(root, options).excluding(fileBeingResolved);
-    MavenProjectParser.Result parsed = parser.parseAll();
+    MavenProjectParser.Result parsed =
+        new MavenProjectParser(root, options).parse(compiled.toParse);
     if (options.debug()) {
       log.info(
           String.format(
-              "parsed project in %d ms (total of %d files)",
-              clock.millis() - start, Iterables.size(parsed.project.allFiles())));
+              "parsed project in %d ms (total of %d files, %d more indexed from compiled output)",
+              clock.millis() - start,
+              Iterables.size(parsed.project.allFiles()),
+              compiled.compiled.values().stream().mapToInt(List::size).sum()));
 
+      compiled.errors.forEach(e -> log.log(Level.WARNING, "error indexing project", e));
       parsed.errors.forEach(e -> log.log(Level.WARNING, "error parsing project", e));
     }
 
-    project = parsed.project;
-    projectIsParsed = true;
+    compiledImports = compiled.imports;
+    notParsed = compiled.compiled;
+    return parsed.project;
+  }
+
+  // The index generated by the Maven plugin, if it is up to date
+  private Optional<SymbolTable> openIndex() {
+    long start = clock.millis();
+    try (Profile.Timer t = options.profile().time(Phase.INDEX_BUILD)) {
+      var indexed = MavenSymbolIndex.openIfFresh(root);
+      options.profile().increment(indexed.isPresent() ? Counter.CACHE_HITS : Counter.CACHE_MISSES);
+      if (options.debug() && indexed.isPresent()) {
+        log.info(
+            String.format(
+                "opened symbol index of %d names in %d ms",
+                indexed.get().size(), clock.millis() - start));
+      }
+
+      return indexed;
+    } catch (IOException e) {
+      // Fall back to resolving dependencies ourselves
+      if (options.debug()) {
+        log.log(Level.WARNING, "could not read symbol index", e);
+      }
+
+      return Optional.empty();
+    }
   }
 
   private List<Import> extractImportsInDependencies() {
-    MavenDependencyFinder.Result direct = new MavenDependencyFinder().findAll(root);
+    MavenDependencyFinder.Result direct;
+    try (Profile.Timer t = options.profile().time(Phase.POM_LOADING)) {
+      direct = new MavenDependencyFinder().findAll(root);
+    }
+
+    MavenReactor reactor = MavenReactor.containing(root);
+    if (options.debug()) {
+      log.info(String.format("using reactor %s", reactor));
+    }
+
+    // Sibling modules are indexed from the reactor rather than from the repository, as they might
+    // not have been installed (or not recently)
+    List<Import> inSiblings = new ArrayList<>();
+    List<MavenDependency> external = new ArrayList<>();
+    for (MavenDependency dependency : direct.dependencies) {
+      var module = reactor.moduleFor(dependency);
+      if (module.isEmpty()) {
+        external.add(dependency);
+        continue;
+      }
+
+      try {
+        inSiblings.addAll(reactor.importsIn(module.get(), options));
+      } catch (CancellationException e) {
+        // Past the deadline, keep going with what was loaded so far
+        if (options.cancellation().isCancelled()) {
+          throw e;
+        }
+      }
+    }
 
     var versionlessDirectDependencies =
         direct.dependencies.stream().map(d -> d.hideVersion()).collect(Collectors.toSet());
-    var loadedDirect = resolveAndLoad(direct.dependencies);
+    var loadedDirect = resolveAndLoad(external);
     var indirectDependencies =
         loadedDirect.stream()
             // Limit to empty dependencies, and get their dependencies
@@ -155,6 +247,13 @@ public class MavenEnvironment implements Environment {
             .map(d -> d.showVersion())
             .collect(Collectors.toList());
     var loadedIndirect = resolveAndLoad(indirectDependencies);
+    persistResolvedVersions();
+    if (!stillLoading.isEmpty()) {
+      // Remember the versions resolved in the background for the next runs
+      CompletableFuture.allOf(stillLoading.stream().toArray(CompletableFuture[]::new))
+          .whenComplete((__, ___) -> persistResolvedVersions());
+    }
+
     if (options.debug()) {
       log.info(
           String.format("found %d direct dependencies: %s", direct.dependencies.size(), direct));
@@ -163,11 +262,24 @@ public class MavenEnvironment implements Environment {
               "found %d indirect dependencies: %s",
               indirectDependencies.size(), indirectDependencies));
     }
-    return Stream.concat(loadedDirect.stream(), loadedIndirect.stream())
-        .flatMap(d -> d.importables.stream())
+    return Stream.concat(
+            inSiblings.stream(),
+            Stream.concat(loadedDirect.stream(), loadedIndirect.stream())
+                .flatMap(d -> d.importables.stream()))
         .collect(Collectors.toList());
   }
 
+  private void persistResolvedVersions() {
+    try {
+      versions.persist();
+    } catch (IOException e) {
+      // The cache is only an optimization, it is fine to recompute everything next time
+      if (options.debug()) {
+        log.log(Level.WARNING, "could not persist resolved versions", e);
+      }
+    }
+  }
+
   private static class LoadedDependency {
     final List<Import> importables;
     final List<MavenDependency> dependencies;
@@ -178,28 +290,70 @@ public class MavenEnvironment implements Environment {
     }
   }
 
+  // Returns the dependencies that could be loaded before the deadline, if any
   private List<LoadedDependency> resolveAndLoad(List<MavenDependency> dependencies) {
+    // When warming caches, loading is not bound by the deadline and continues in the background
+    var cancellation =
+        options.warmCaches() ? options.cancellation().withoutDeadline() : options.cancellation();
     var futures =
         dependencies.stream()
-            .map(d -> CompletableFuture.supplyAsync(() -> resolveAndLoad(d), options.executor()))
+            .map(
+                d ->
+                    CompletableFuture.supplyAsync(
+                        () -> resolveAndLoad(d, cancellation), options.ioExecutor()))
             .collect(Collectors.toList());
 
-    CompletableFuture.allOf(futures.stream().toArray(CompletableFuture[]::new)).join();
-    return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    try {
+      CompletableFuture.allOf(futures.stream().toArray(CompletableFuture[]::new))
+          .get(options.cancellation().remainingNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException | ExecutionException e) {
+      // Only happens past the deadline (or when cancelled), dependencies are handled one by one
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("interrupted while loading dependencies");
+    }
+
+    if (options.cancellation().isCancelled()) {
+      throw new CancellationException("request was cancelled");
+    }
+
+    List<LoadedDependency> loaded = new ArrayList<>();
+    for (var future : futures) {
+      if (!future.isDone()) {
+        stillLoading.add(future);
+      } else if (!future.isCompletedExceptionally()) {
+        loaded.add(future.join());
+      }
+    }
+
+    return loaded;
   }
 
-  private LoadedDependency resolveAndLoad(MavenDependency dependency) {
+  private LoadedDependency resolveAndLoad(MavenDependency dependency, Cancellation cancellation) {
     LoadedDependency loaded = new LoadedDependency(List.of(), List.of());
     long start = clock.millis();
     try {
-      var location = resolver.resolve(dependency);
+      MavenDependencyResolver.PrimaryArtifact location;
+      try (Profile.Timer t = options.profile().time(Phase.POM_LOADING)) {
+        location = resolver.resolve(dependency);
+      }
+
       if (options.debug()) {
         log.info(String.format("looking for dependency %s at %s", dependency, location));
       }
 
-      var importables = new MavenDependencyLoader().load(location.jar);
-      var dependencies = new MavenPomLoader().load(location.pom).dependencies;
+      var importables =
+          new MavenDependencyLoader(cancellation, options.profile())
+              .cachingIn(options.cache())
+              .load(location.jar);
+      List<MavenDependency> dependencies;
+      try (Profile.Timer t = options.profile().time(Phase.POM_LOADING)) {
+        dependencies = new MavenPomLoader().load(location.pom).dependencies;
+      }
+
       loaded = new LoadedDependency(importables, dependencies);
+    } catch (CancellationException e) {
+      throw e;
     } catch (Exception e) {
       // No matter what happens, we don't want to fail the whole importing process just for that.
       if (options.debug()) {
@@ -220,13 +374,4 @@ public class MavenEnvironment implements Environment {
 
     return loaded;
   }
-
-  private List<Import> extractImports(ParsedFile file) {
-    List<Import> imports = new ArrayList<>();
-    for (String identifier : file.topLevelDeclarations()) {
-      imports.add(new Import(identifier, file.packageName(), false));
-    }
-
-    return imports;
-  }
 }
@@ -0,0 +1,51 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
+import org.apache.maven.model.io.DefaultModelReader;
+
+/**
+ * Reads a POM using maven-core's {@link DefaultModelReader}.
+ *
+ * <p>This is only used as a fallback when {@link MavenPomReader} fails, as it is much more
+ * expensive to load. Because maven-core is an optional dependency, this class must not be
+ * referenced before checking that it is available.
+ */
+class MavenModelPomReader {
+  MavenPom read(Path pom) throws IOException {
+    Model model = new DefaultModelReader().read(pom.toFile(), null);
+    MavenPom read = new MavenPom();
+    read.groupId = MavenPom.absentIfBlank(model.getGroupId());
+    read.artifactId = MavenPom.absentIfBlank(model.getArtifactId());
+    read.version = MavenPom.absentIfBlank(model.getVersion());
+    Parent parent = model.getParent();
+    if (parent != null
+        && MavenPom.absentIfBlank(parent.getGroupId()) != null
+        && MavenPom.absentIfBlank(parent.getArtifactId()) != null) {
+      read.parent =
+          new MavenDependency(
+              parent.getGroupId().trim(),
+              parent.getArtifactId().trim(),
+              MavenPom.absentIfBlank(parent.getVersion()));
+    }
+
+    model.getProperties().forEach((k, v) -> read.properties.put(k.toString(), v.toString()));
+    for (Dependency dependency : model.getDependencies()) {
+      String groupId = MavenPom.absentIfBlank(dependency.getGroupId());
+      String artifactId = MavenPom.absentIfBlank(dependency.getArtifactId());
+      if (groupId == null || artifactId == null) {
+        continue;
+      }
+
+      read.dependencies.add(
+          new MavenDependency(
+              groupId, artifactId, MavenPom.absentIfBlank(dependency.getVersion())));
+    }
+
+    read.modules.addAll(model.getModules());
+    return read;
+  }
+}
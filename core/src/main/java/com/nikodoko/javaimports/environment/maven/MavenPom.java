@@ -0,0 +1,107 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import com.google.common.base.MoreObjects;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The subset of a POM that is relevant to {@code javaimports}: the project coordinates, its parent,
+ * its properties, its dependencies and its modules.
+ */
+class MavenPom {
+  private static final Pattern parameterPattern = Pattern.compile("\\$\\{(?<parameter>[^}]+)\\}");
+
+  // Any of these can be null, in which case they are inherited from the parent (if any)
+  String groupId;
+  String artifactId;
+  String version;
+  MavenDependency parent;
+  final Map<String, String> properties = new HashMap<>();
+  final List<MavenDependency> dependencies = new ArrayList<>();
+  // As declared, so relative to the directory containing this POM
+  final List<String> modules = new ArrayList<>();
+
+  /** Returns {@code value}, or null if it is blank (like an empty {@code <version/>} element). */
+  static String absentIfBlank(String value) {
+    return value == null || value.isBlank() ? null : value.trim();
+  }
+
+  Optional<MavenDependency> parent() {
+    return Optional.ofNullable(parent);
+  }
+
+  String groupId() {
+    if (groupId == null && parent != null) {
+      return parent.groupId;
+    }
+
+    return groupId;
+  }
+
+  String version() {
+    if (version == null && parent != null) {
+      return parent.version;
+    }
+
+    return version;
+  }
+
+  /**
+   * Replaces all {@code ${parameter}} occurences in {@code value} that can be resolved using this
+   * POM only, leaving the others untouched.
+   */
+  String interpolate(String value) {
+    if (value == null || value.indexOf('$') < 0) {
+      return value;
+    }
+
+    Matcher m = parameterPattern.matcher(value);
+    StringBuilder sb = new StringBuilder();
+    while (m.find()) {
+      String resolved = lookup(m.group("parameter"));
+      m.appendReplacement(sb, Matcher.quoteReplacement(resolved != null ? resolved : m.group()));
+    }
+
+    m.appendTail(sb);
+    return sb.toString();
+  }
+
+  private String lookup(String parameter) {
+    switch (parameter) {
+      case "project.version":
+      case "pom.version":
+      case "version":
+        return version();
+      case "project.groupId":
+      case "pom.groupId":
+      case "groupId":
+        return groupId();
+      case "project.artifactId":
+      case "pom.artifactId":
+      case "artifactId":
+        return artifactId;
+      case "project.parent.version":
+        return parent != null ? parent.version : null;
+      default:
+        return properties.get(parameter);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("groupId", groupId)
+        .add("artifactId", artifactId)
+        .add("version", version)
+        .add("parent", parent)
+        .add("properties", properties)
+        .add("dependencies", dependencies)
+        .add("modules", modules)
+        .toString();
+  }
+}
@@ -5,8 +5,6 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import org.apache.maven.model.Dependency;
-import org.apache.maven.model.io.DefaultModelReader;
 
 public class MavenPomLoader {
   static final class Result {
@@ -21,6 +19,8 @@ public class MavenPomLoader {
     }
   }
 
+  private static final String MODEL_READER = "org.apache.maven.model.io.DefaultModelReader";
+
   private Result result = new Result();
 
   Result load(Path pom) {
@@ -38,14 +38,37 @@ public class MavenPomLoader {
   }
 
   private void scan(Path pom) throws IOException {
-    var model = new DefaultModelReader().read(pom.toFile(), null);
-    var dependencies = model.getDependencies();
-    dependencies.stream().forEach(this::addDependency);
+    var read = read(pom);
+    read.dependencies.stream().forEach(d -> addDependency(read, d));
+  }
+
+  private MavenPom read(Path pom) throws IOException {
+    try {
+      return new MavenPomReader().read(pom);
+    } catch (IOException e) {
+      // The streaming reader is strict, give maven-core a chance if we have it at hand
+      if (!isOnClasspath(MODEL_READER)) {
+        throw e;
+      }
+
+      return new MavenModelPomReader().read(pom);
+    }
+  }
+
+  private static boolean isOnClasspath(String className) {
+    try {
+      Class.forName(className, false, MavenPomLoader.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
   }
 
-  private void addDependency(Dependency dependency) {
+  private void addDependency(MavenPom pom, MavenDependency dependency) {
     result.dependencies.add(
         new MavenDependency(
-            dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion()));
+            pom.interpolate(dependency.groupId),
+            dependency.artifactId,
+            pom.interpolate(dependency.version)));
   }
 }
@@ -0,0 +1,120 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * A streaming POM reader, that only extracts what {@code javaimports} needs (see {@link MavenPom})
+ * and skips everything else.
+ *
+ * <p>It relies on {@link XmlCursor}, that understands just enough XML to read a POM. This avoids
+ * loading a full XML stack on startup, and anything it cannot handle is reported as an {@link
+ * IOException}.
+ */
+class MavenPomReader {
+  MavenPom read(Path pom) throws IOException {
+    XmlCursor cursor = XmlCursor.open(pom);
+    if (!cursor.nextChild() || !cursor.name().equals("project")) {
+      throw cursor.error("expected a <project> element");
+    }
+
+    return readProject(cursor);
+  }
+
+  private MavenPom readProject(XmlCursor cursor) throws IOException {
+    MavenPom pom = new MavenPom();
+    while (cursor.nextChild()) {
+      switch (cursor.name()) {
+        case "groupId":
+          pom.groupId = coordinate(cursor);
+          break;
+        case "artifactId":
+          pom.artifactId = coordinate(cursor);
+          break;
+        case "version":
+          pom.version = coordinate(cursor);
+          break;
+        case "parent":
+          pom.parent = readCoordinates(cursor);
+          break;
+        case "properties":
+          readProperties(cursor, pom);
+          break;
+        case "dependencies":
+          readDependencies(cursor, pom);
+          break;
+        case "modules":
+          readModules(cursor, pom);
+          break;
+        default:
+          cursor.skip();
+      }
+    }
+
+    return pom;
+  }
+
+  private void readProperties(XmlCursor cursor, MavenPom pom) throws IOException {
+    while (cursor.nextChild()) {
+      pom.properties.put(cursor.name(), cursor.text());
+    }
+  }
+
+  private void readModules(XmlCursor cursor, MavenPom pom) throws IOException {
+    while (cursor.nextChild()) {
+      if (!cursor.name().equals("module")) {
+        cursor.skip();
+        continue;
+      }
+
+      pom.modules.add(cursor.text());
+    }
+  }
+
+  private void readDependencies(XmlCursor cursor, MavenPom pom) throws IOException {
+    while (cursor.nextChild()) {
+      if (!cursor.name().equals("dependency")) {
+        cursor.skip();
+        continue;
+      }
+
+      MavenDependency dependency = readCoordinates(cursor);
+      if (dependency != null) {
+        pom.dependencies.add(dependency);
+      }
+    }
+  }
+
+  // Returns null if the coordinates are incomplete
+  private MavenDependency readCoordinates(XmlCursor cursor) throws IOException {
+    String groupId = null;
+    String artifactId = null;
+    String version = null;
+    while (cursor.nextChild()) {
+      switch (cursor.name()) {
+        case "groupId":
+          groupId = coordinate(cursor);
+          break;
+        case "artifactId":
+          artifactId = coordinate(cursor);
+          break;
+        case "version":
+          version = coordinate(cursor);
+          break;
+        default:
+          cursor.skip();
+      }
+    }
+
+    if (groupId == null || artifactId == null) {
+      return null;
+    }
+
+    return new MavenDependency(groupId, artifactId, version);
+  }
+
+  // Empty coordinates are treated as missing, so that they are inherited as well
+  private String coordinate(XmlCursor cursor) throws IOException {
+    return MavenPom.absentIfBlank(cursor.text());
+  }
+}
@@ -1,12 +1,13 @@
 package com.nikodoko.javaimports.environment.maven;
 
+import com.nikodoko.javaimports.Cancellation;
+import com.nikodoko.javaimports.environment.ProjectFiles;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /** Finds all .java files in a project. */
@@ -15,6 +16,7 @@ import java.util.stream.Collectors;
 class MavenProjectFinder {
   private final Path root;
   private final List<Path> excluded = new ArrayList<>();
+  private Cancellation cancellation = Cancellation.never();
 
   private MavenProjectFinder(Path root) {
     this.root = root;
@@ -28,11 +30,15 @@ class MavenProjectFinder {
     this.excluded.addAll(Arrays.asList(files));
   }
 
-  List<Path> findAll() throws IOException {
-    return Files.find(root, 100, this::nonExcludedJavaFile).collect(Collectors.toList());
+  /** Stops looking for files once {@code cancellation} is explicitly cancelled. */
+  MavenProjectFinder cancelledBy(Cancellation cancellation) {
+    this.cancellation = cancellation;
+    return this;
   }
 
-  private boolean nonExcludedJavaFile(Path path, BasicFileAttributes attr) {
-    return path.toString().endsWith(".java") && !excluded.contains(path);
+  List<Path> findAll() throws IOException {
+    return ProjectFiles.find(root, Set.of(), cancellation).stream()
+        .filter(p -> !excluded.contains(p))
+        .collect(Collectors.toList());
   }
 }
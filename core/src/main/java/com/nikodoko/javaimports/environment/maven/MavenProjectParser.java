@@ -1,21 +1,15 @@
 package com.nikodoko.javaimports.environment.maven;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
-
 import com.google.common.base.MoreObjects;
-import com.nikodoko.javaimports.ImporterException;
 import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.Profile;
+import com.nikodoko.javaimports.Profile.Phase;
 import com.nikodoko.javaimports.environment.JavaProject;
-import com.nikodoko.javaimports.parser.ParsedFile;
-import com.nikodoko.javaimports.parser.Parser;
+import com.nikodoko.javaimports.environment.ProjectFiles;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 /** Parses all java files in a given project. */
 class MavenProjectParser {
@@ -36,17 +30,6 @@ class MavenProjectParser {
     }
   }
 
-  // TODO: maybe abstract this to a utils class
-  static final class Pair<L, R> {
-    final L left;
-    final R right;
-
-    Pair(L left, R right) {
-      this.left = left;
-      this.right = right;
-    }
-  }
-
   private final MavenProjectFinder finder;
   private final Options options;
 
@@ -54,7 +37,7 @@ class MavenProjectParser {
   private final JavaProject project = new JavaProject();
 
   public MavenProjectParser(Path root, Options options) {
-    this.finder = MavenProjectFinder.withRoot(root);
+    this.finder = MavenProjectFinder.withRoot(root).cancelledBy(options.cancellation());
     this.options = options;
   }
 
@@ -64,24 +47,19 @@ class MavenProjectParser {
   }
 
   Result parseAll() {
-    var futures =
-        tryToFindAllFiles().stream()
-            .map(path -> CompletableFuture.supplyAsync(() -> tryToParse(path), options.executor()))
-            .collect(Collectors.toList());
-
-    CompletableFuture.allOf(futures.stream().toArray(CompletableFuture[]::new)).join();
-    futures.stream()
-        .map(CompletableFuture::join)
-        .forEach(
-            pair -> {
-              if (pair.left != null && pair.left.isPresent()) {
-                project.add(pair.left.get());
-              }
+    return parse(tryToFindAllFiles());
+  }
 
-              if (pair.right != null) {
-                errors.add(pair.right);
-              }
-            });
+  /** Parses {@code files} only, without looking for files in the project. */
+  Result parse(List<Path> files) {
+    try (Profile.Timer t = options.profile().time(Phase.PROJECT_PARSE)) {
+      ProjectFiles.parse(
+              files,
+              options,
+              (path, e) ->
+                  errors.add(new MavenEnvironmentException("could not parse file at " + path, e)))
+          .forEach(project::add);
+    }
 
     return new Result(errors, project);
   }
@@ -94,19 +72,4 @@ class MavenProjectParser {
       return List.of();
     }
   }
-
-  private Pair<Optional<ParsedFile>, MavenEnvironmentException> tryToParse(Path path) {
-    try {
-      var result = new Pair(parseFile(path), null);
-      return result;
-    } catch (IOException | ImporterException e) {
-      return new Pair(
-          null, new MavenEnvironmentException("could not parse file at " + path.toString(), e));
-    }
-  }
-
-  private Optional<ParsedFile> parseFile(Path path) throws IOException, ImporterException {
-    String source = new String(Files.readAllBytes(path), UTF_8);
-    return new Parser(options).parse(path, source);
-  }
 }
@@ -0,0 +1,238 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import com.google.common.base.MoreObjects;
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.Profile.Counter;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import com.nikodoko.javaimports.environment.ImportCache;
+import com.nikodoko.javaimports.parser.ParsedFile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A Maven reactor, made of an aggregator POM and all the modules it (transitively) declares.
+ *
+ * <p>Reactors are discovered once per process and shared by the environments of all their modules.
+ * This way, the symbols exported by a module are only indexed once (or once across runs, with a
+ * cache directory), no matter how many files of its siblings are resolved. Modules are indexed from
+ * their compiled classes when available, and from their sources otherwise.
+ */
+class MavenReactor {
+  private static class Index {
+    final String stamp;
+    final List<Import> imports;
+
+    Index(String stamp, List<Import> imports) {
+      this.stamp = stamp;
+      this.imports = imports;
+    }
+  }
+
+  private static final Logger log = Logger.getLogger(MavenReactor.class.getName());
+  private static final String POM = "pom.xml";
+  private static final Path CLASSES = Path.of("target", "classes");
+  private static final Path SOURCES = Path.of("src", "main", "java");
+
+  // Keyed by reactor root
+  private static final Map<Path, MavenReactor> reactors = new ConcurrentHashMap<>();
+
+  final Path root;
+  // Timestamp of the root POM, for the reactor to be discovered again when it changes
+  private final long timestamp;
+  private final Map<MavenDependency.Versionless, Path> modules;
+  private final Map<Path, Index> indexes = new ConcurrentHashMap<>();
+
+  private MavenReactor(Path root, long timestamp, Map<MavenDependency.Versionless, Path> modules) {
+    this.root = root;
+    this.timestamp = timestamp;
+    this.modules = modules;
+  }
+
+  /** Returns the reactor {@code module} belongs to, which is made of this module only if none. */
+  static MavenReactor containing(Path module) {
+    Path root = findRoot(module.toAbsolutePath().normalize());
+    long timestamp = timestamp(root.resolve(POM));
+    MavenReactor reactor = reactors.get(root);
+    if (reactor == null || reactor.timestamp != timestamp) {
+      reactor = load(root, timestamp);
+      reactors.put(root, reactor);
+    }
+
+    return reactor;
+  }
+
+  /** Forgets all the reactors discovered so far, along with their in-memory indexes. */
+  static void forgetAll() {
+    reactors.clear();
+  }
+
+  /** Returns the directory of the module matching {@code dependency}, if part of this reactor. */
+  Optional<Path> moduleFor(MavenDependency dependency) {
+    return Optional.ofNullable(modules.get(dependency.hideVersion()));
+  }
+
+  /**
+   * Returns all symbols exported by {@code module}, indexing it if needed.
+   *
+   * <p>Indexes are kept in memory and, if there is a cache directory, on disk so that they are
+   * shared across runs. They remain valid until a file of the indexed directory is added, removed
+   * or modified.
+   */
+  List<Import> importsIn(Path module, Options options) {
+    Path classes = module.resolve(CLASSES);
+    Path indexed = Files.isDirectory(classes) ? classes : module.resolve(SOURCES);
+    String stamp = ImportCache.stamp(indexed);
+    Index index = indexes.get(indexed);
+    if (index != null && index.stamp.equals(stamp)) {
+      options.profile().increment(Counter.CACHE_HITS);
+      return index.imports;
+    }
+
+    Optional<List<Import>> persisted =
+        options.cache().flatMap(cache -> ImportCache.read(cache, indexed, stamp));
+    if (persisted.isPresent()) {
+      options.profile().increment(Counter.CACHE_HITS);
+      indexes.put(indexed, new Index(stamp, persisted.get()));
+      return persisted.get();
+    }
+
+    options.profile().increment(Counter.CACHE_MISSES);
+    // Concurrent environments might index the same module, but this is harmless
+    index = new Index(stamp, indexed == classes ? load(classes, options) : parse(indexed, options));
+    // Past the deadline, the module might only be partially indexed
+    if (!options.cancellation().isExpired()) {
+      indexes.put(indexed, index);
+      persist(indexed, index, options);
+    }
+
+    return index.imports;
+  }
+
+  private void persist(Path indexed, Index index, Options options) {
+    if (options.cache().isEmpty()) {
+      return;
+    }
+
+    try {
+      ImportCache.write(options.cache().get(), indexed, index.stamp, index.imports);
+    } catch (IOException e) {
+      log.log(Level.WARNING, String.format("could not cache the index of %s", indexed), e);
+    }
+  }
+
+  private List<Import> load(Path classes, Options options) {
+    try {
+      return new MavenDependencyLoader(options.cancellation(), options.profile()).load(classes);
+    } catch (IOException e) {
+      log.log(Level.WARNING, String.format("could not load classes in %s", classes), e);
+      return List.of();
+    }
+  }
+
+  private List<Import> parse(Path sources, Options options) {
+    if (!Files.isDirectory(sources)) {
+      return List.of();
+    }
+
+    MavenProjectParser.Result parsed = new MavenProjectParser(sources, options).parseAll();
+    if (options.debug()) {
+      parsed.errors.forEach(e -> log.log(Level.WARNING, "error parsing module", e));
+    }
+
+    List<Import> imports = new ArrayList<>();
+    for (ParsedFile file : parsed.project.allFiles()) {
+      Selector pkg = Selector.parse(file.packageName());
+      for (String identifier : file.topLevelDeclarations()) {
+        imports.add(new Import(pkg.combine(Selector.of(identifier)), false));
+      }
+    }
+
+    return imports;
+  }
+
+  private static long timestamp(Path path) {
+    try {
+      return Files.getLastModifiedTime(path).toMillis();
+    } catch (IOException e) {
+      return -1;
+    }
+  }
+
+  // Walks up parent directories, as long as they are aggregating the module we come from
+  private static Path findRoot(Path module) {
+    Path root = module;
+    Path parent = module.getParent();
+    while (parent != null && Files.exists(parent.resolve(POM))) {
+      Optional<MavenPom> pom = read(parent);
+      if (pom.isEmpty() || !modulesOf(parent, pom.get()).contains(root)) {
+        break;
+      }
+
+      root = parent;
+      parent = parent.getParent();
+    }
+
+    return root;
+  }
+
+  private static List<Path> modulesOf(Path directory, MavenPom pom) {
+    List<Path> modules = new ArrayList<>();
+    for (String module : pom.modules) {
+      Path path = directory.resolve(module).normalize();
+      // Modules can point to a POM file directly
+      modules.add(Files.isRegularFile(path) ? path.getParent() : path);
+    }
+
+    return modules;
+  }
+
+  private static MavenReactor load(Path root, long timestamp) {
+    Map<MavenDependency.Versionless, Path> modules = new HashMap<>();
+    Set<Path> visited = new HashSet<>();
+    Deque<Path> toVisit = new ArrayDeque<>(List.of(root));
+    while (!toVisit.isEmpty()) {
+      Path module = toVisit.pop();
+      Optional<MavenPom> pom = visited.add(module) ? read(module) : Optional.empty();
+      if (pom.isEmpty()) {
+        continue;
+      }
+
+      String groupId = pom.get().groupId();
+      String artifactId = pom.get().artifactId;
+      if (groupId != null && artifactId != null) {
+        modules.putIfAbsent(new MavenDependency(groupId, artifactId, null).hideVersion(), module);
+      }
+
+      toVisit.addAll(modulesOf(module, pom.get()));
+    }
+
+    return new MavenReactor(root, timestamp, modules);
+  }
+
+  private static Optional<MavenPom> read(Path directory) {
+    try {
+      return Optional.of(new MavenPomReader().read(directory.resolve(POM)));
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("root", root).add("modules", modules).toString();
+  }
+}
@@ -0,0 +1,73 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.environment.SymbolTable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * A compact index of all importable symbols of a Maven module (dependency types, their static
+ * members and project types), generated at build time by the javaimports Maven plugin.
+ *
+ * <p>It lives in {@code target/javaimports-index.bin}, is stored as a {@link SymbolTable} and is
+ * considered fresh as long as it is more recent than the module's {@code pom.xml} and than the jars
+ * it was generated from (listed in {@code target/javaimports-index.classpath}).
+ */
+public final class MavenSymbolIndex {
+  public static final Path LOCATION = Path.of("target", "javaimports-index.bin");
+  static final Path CLASSPATH = Path.of("target", "javaimports-index.classpath");
+
+  private MavenSymbolIndex() {}
+
+  /**
+   * Writes {@code imports}, found in the {@code classpath} of the module at {@code root}, to its
+   * index, replacing it atomically if it already exists.
+   */
+  public static void write(Path root, Collection<Import> imports, Collection<Path> classpath)
+      throws IOException {
+    Path entries = root.resolve(CLASSPATH);
+    Files.createDirectories(entries.getParent());
+    Files.write(
+        entries,
+        classpath.stream().map(p -> p.toAbsolutePath().toString()).collect(Collectors.toList()),
+        UTF_8);
+    // Written last, so that it is at least as recent as the classpath
+    SymbolTable.write(root.resolve(LOCATION), imports);
+  }
+
+  /**
+   * Opens the index of the module at {@code root}, if it exists and is more recent than its {@code
+   * pom.xml} and the jars it was generated from.
+   */
+  static Optional<SymbolTable> openIfFresh(Path root) throws IOException {
+    Path index = root.resolve(LOCATION);
+    try {
+      FileTime generated = Files.getLastModifiedTime(index);
+      if (generated.compareTo(Files.getLastModifiedTime(root.resolve("pom.xml"))) < 0) {
+        return Optional.empty();
+      }
+
+      for (String entry : Files.readAllLines(root.resolve(CLASSPATH), UTF_8)) {
+        // Directories (like the module's own classes) change on every compilation, and the project
+        // is indexed from its sources and compiled output anyway
+        Path path = Path.of(entry);
+        if (!Files.isDirectory(path) && generated.compareTo(Files.getLastModifiedTime(path)) < 0) {
+          return Optional.empty();
+        }
+      }
+    } catch (NoSuchFileException e) {
+      // Either not generated, or a jar it was generated from is gone
+      return Optional.empty();
+    }
+
+    return Optional.of(SymbolTable.map(index));
+  }
+}
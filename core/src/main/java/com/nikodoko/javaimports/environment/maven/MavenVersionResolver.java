@@ -0,0 +1,231 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import com.nikodoko.javaimports.Profile;
+import com.nikodoko.javaimports.Profile.Counter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Finds the latest version of an artifact available in a local repository.
+ *
+ * <p>Available versions are read from {@code maven-metadata-local.xml} when present, and from the
+ * artifact directory listing otherwise. Results are memoized for the whole process (separately for
+ * each cache directory) and, if a cache directory is provided, on disk. They remain valid as long
+ * as the artifact directory is not modified, which is what happens when a new version gets
+ * installed.
+ *
+ * <p>Any repository with one directory per version works, including the Gradle module cache.
+ */
+public class MavenVersionResolver {
+  private static class Entry {
+    final long timestamp;
+    final String version;
+
+    Entry(long timestamp, String version) {
+      this.timestamp = timestamp;
+      this.version = version;
+    }
+  }
+
+  // What is memoized for a cache file, shared by all the resolvers of this process using it
+  private static class CacheState {
+    // Keyed by artifact directory
+    final Map<Path, Entry> memoized = new ConcurrentHashMap<>();
+    final AtomicBoolean loaded = new AtomicBoolean(false);
+    final AtomicBoolean hasChanged = new AtomicBoolean(false);
+  }
+
+  static final String CACHE_FILE = "maven-versions.properties";
+  private static final String METADATA = "maven-metadata-local.xml";
+
+  private static final Map<Path, CacheState> states = new ConcurrentHashMap<>();
+  // For resolvers without a cache file, that only memoize in memory
+  private static final CacheState IN_MEMORY = new CacheState();
+
+  private final Optional<Path> cache;
+  private final CacheState state;
+  private final Profile profile;
+
+  private MavenVersionResolver(Optional<Path> cache, Profile profile) {
+    this.cache = cache.map(c -> c.resolve(CACHE_FILE));
+    this.state =
+        this.cache.map(c -> states.computeIfAbsent(c, k -> new CacheState())).orElse(IN_MEMORY);
+    this.profile = profile;
+  }
+
+  public static MavenVersionResolver withCache(Optional<Path> cacheDirectory) {
+    return withCache(cacheDirectory, Profile.disabled());
+  }
+
+  /** Same as {@link #withCache(Optional)}, counting cache hits and misses in {@code profile}. */
+  public static MavenVersionResolver withCache(Optional<Path> cacheDirectory, Profile profile) {
+    return new MavenVersionResolver(cacheDirectory, profile);
+  }
+
+  /**
+   * Forgets the versions memoized so far. Resolvers that already exist keep theirs, and cache files
+   * are left untouched.
+   */
+  static void forgetAll() {
+    states.clear();
+    IN_MEMORY.memoized.clear();
+  }
+
+  /** Returns the name of the latest version available in {@code artifactDirectory}. */
+  public String latestVersion(Path artifactDirectory) throws IOException {
+    loadCacheIfNeeded();
+
+    long timestamp = Files.getLastModifiedTime(artifactDirectory).toMillis();
+    Entry entry = state.memoized.get(artifactDirectory);
+    if (entry != null && entry.timestamp == timestamp) {
+      profile.increment(Counter.CACHE_HITS);
+      return entry.version;
+    }
+
+    profile.increment(Counter.CACHE_MISSES);
+    String version = findLatestVersion(artifactDirectory);
+    state.memoized.put(artifactDirectory, new Entry(timestamp, version));
+    state.hasChanged.set(true);
+    return version;
+  }
+
+  /** Writes memoized versions to the disk cache, if any and if there is something new. */
+  public void persist() throws IOException {
+    if (cache.isEmpty() || !state.hasChanged.getAndSet(false)) {
+      return;
+    }
+
+    Properties properties = new Properties();
+    state.memoized.forEach(
+        (directory, entry) ->
+            properties.setProperty(
+                directory.toString(), String.format("%d:%s", entry.timestamp, entry.version)));
+
+    // Write to a temporary file first, so that concurrent runs never see a partial cache
+    Path file = cache.get();
+    Files.createDirectories(file.getParent());
+    Path tmp = Files.createTempFile(file.getParent(), CACHE_FILE, ".tmp");
+    try {
+      try (OutputStream out = Files.newOutputStream(tmp)) {
+        properties.store(out, null);
+      }
+
+      Files.move(tmp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  private void loadCacheIfNeeded() {
+    if (cache.isEmpty() || state.loaded.getAndSet(true) || !Files.exists(cache.get())) {
+      return;
+    }
+
+    Properties properties = new Properties();
+    try (InputStream in = Files.newInputStream(cache.get())) {
+      properties.load(in);
+    } catch (IOException | IllegalArgumentException e) {
+      // The cache is only an optimization, ignore it if it cannot be read
+      return;
+    }
+
+    for (String directory : properties.stringPropertyNames()) {
+      String value = properties.getProperty(directory);
+      int separator = value.indexOf(':');
+      if (separator < 0) {
+        continue;
+      }
+
+      try {
+        long timestamp = Long.parseLong(value.substring(0, separator));
+        state.memoized.putIfAbsent(
+            Path.of(directory), new Entry(timestamp, value.substring(separator + 1)));
+      } catch (NumberFormatException e) {
+        // Ignore corrupted entries
+      }
+    }
+  }
+
+  private String findLatestVersion(Path artifactDirectory) throws IOException {
+    Path metadata = artifactDirectory.resolve(METADATA);
+    if (Files.exists(metadata)) {
+      try {
+        Optional<MavenDependencyVersion> latest = latest(readMetadata(metadata));
+        // Versions can be removed from the repository without updating the metadata
+        if (latest.isPresent() && Files.isDirectory(artifactDirectory.resolve(latest.get().name))) {
+          return latest.get().name;
+        }
+      } catch (IOException e) {
+        // Fall back to listing the directory
+      }
+    }
+
+    List<String> versions;
+    try (Stream<Path> paths = Files.list(artifactDirectory)) {
+      versions =
+          paths
+              .filter(Files::isDirectory)
+              .map(p -> p.getFileName().toString())
+              .collect(Collectors.toList());
+    }
+
+    return latest(versions)
+        .orElseThrow(() -> new IOException("no version available in " + artifactDirectory))
+        .name;
+  }
+
+  private Optional<MavenDependencyVersion> latest(List<String> versions) {
+    List<MavenDependencyVersion> parsed =
+        versions.stream()
+            .map(MavenDependencyVersion::of)
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .collect(Collectors.toList());
+
+    return parsed.isEmpty() ? Optional.empty() : Optional.of(Collections.max(parsed));
+  }
+
+  private List<String> readMetadata(Path metadata) throws IOException {
+    List<String> versions = new ArrayList<>();
+    XmlCursor cursor = XmlCursor.open(metadata);
+    if (!cursor.nextChild() || !cursor.name().equals("metadata")) {
+      throw cursor.error("expected a <metadata> element");
+    }
+
+    while (cursor.nextChild()) {
+      if (!cursor.name().equals("versioning")) {
+        cursor.skip();
+        continue;
+      }
+
+      while (cursor.nextChild()) {
+        if (!cursor.name().equals("versions")) {
+          cursor.skip();
+          continue;
+        }
+
+        while (cursor.nextChild()) {
+          versions.add(cursor.text());
+        }
+      }
+    }
+
+    return versions;
+  }
+}
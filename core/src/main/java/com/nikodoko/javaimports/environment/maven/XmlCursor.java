@@ -0,0 +1,273 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Walks through an XML document one element at a time.
+ *
+ * <p>This is a minimal pull parser, that understands just enough XML to read Maven files (elements,
+ * comments, CDATA sections and predefined entities) without loading a full XML stack.
+ *
+ * <p>The cursor is always positioned on an element, starting with the (virtual) document root:
+ * {@link #nextChild()} moves to the next child of the current element, while {@link #text()} and
+ * {@link #skip()} consume the current element entirely.
+ */
+class XmlCursor {
+  private static final Pattern encodingPattern =
+      Pattern.compile("^\\s*<\\?xml[^>]*encoding\\s*=\\s*[\"'](?<encoding>[^\"']+)[\"']");
+
+  private final String xml;
+  private final Path source;
+  private int pos = 0;
+  private String name;
+  // Whether the current element is of the form <name/>
+  private boolean isEmpty = false;
+
+  private XmlCursor(String xml, Path source) {
+    this.xml = xml;
+    this.source = source;
+  }
+
+  /** Opens a cursor at the beginning of {@code file}, honoring its declared encoding if any. */
+  static XmlCursor open(Path file) throws IOException {
+    return new XmlCursor(decode(Files.readAllBytes(file)), file);
+  }
+
+  private static String decode(byte[] bytes) {
+    Charset charset = UTF_8;
+    String prolog = new String(bytes, 0, Math.min(bytes.length, 200), ISO_8859_1);
+    Matcher m = encodingPattern.matcher(prolog);
+    if (m.find() && Charset.isSupported(m.group("encoding"))) {
+      charset = Charset.forName(m.group("encoding"));
+    }
+
+    String decoded = new String(bytes, charset);
+    // Skip the byte order mark, if any
+    return decoded.startsWith("\uFEFF") ? decoded.substring(1) : decoded;
+  }
+
+  /** The local name of the current element. */
+  String name() {
+    return name;
+  }
+
+  /**
+   * Moves to the next child of the current element, or returns false (and moves past the end of the
+   * current element) if there is none.
+   */
+  boolean nextChild() throws IOException {
+    if (isEmpty) {
+      isEmpty = false;
+      return false;
+    }
+
+    while (true) {
+      moveToNextTag();
+      if (xml.startsWith("</", pos)) {
+        skipEndTag();
+        return false;
+      }
+
+      if (!skipMarkup(null)) {
+        readStartTag();
+        return true;
+      }
+    }
+  }
+
+  /** Returns the text content of the current element, which must not have children. */
+  String text() throws IOException {
+    if (isEmpty) {
+      isEmpty = false;
+      return "";
+    }
+
+    StringBuilder text = new StringBuilder();
+    while (true) {
+      int start = pos;
+      moveToNextTag();
+      decodeInto(text, start, pos);
+      if (xml.startsWith("</", pos)) {
+        skipEndTag();
+        return text.toString().trim();
+      }
+
+      if (!skipMarkup(text)) {
+        throw error("unexpected element in text content");
+      }
+    }
+  }
+
+  /** Skips the current element and all its children. */
+  void skip() throws IOException {
+    while (nextChild()) {
+      skip();
+    }
+  }
+
+  private void moveToNextTag() throws IOException {
+    pos = xml.indexOf('<', pos);
+    if (pos < 0) {
+      pos = xml.length();
+      throw error("unexpected end of document");
+    }
+  }
+
+  // Skips comments, processing instructions, doctypes and CDATA sections (appending the content
+  // of the latter to text if not null). Returns false if there was nothing to skip.
+  private boolean skipMarkup(StringBuilder text) throws IOException {
+    if (xml.startsWith("<!--", pos)) {
+      pos = endOf("-->");
+      return true;
+    }
+
+    if (xml.startsWith("<![CDATA[", pos)) {
+      int start = pos + "<![CDATA[".length();
+      pos = endOf("]]>");
+      if (text != null) {
+        text.append(xml, start, pos - "]]>".length());
+      }
+
+      return true;
+    }
+
+    if (xml.startsWith("<?", pos)) {
+      pos = endOf("?>");
+      return true;
+    }
+
+    if (xml.startsWith("<!", pos)) {
+      // We do not support internal DTD subsets, as POMs are not supposed to use them
+      pos = endOf(">");
+      return true;
+    }
+
+    return false;
+  }
+
+  private void readStartTag() throws IOException {
+    int start = ++pos;
+    while (pos < xml.length() && !isNameEnd(xml.charAt(pos))) {
+      pos++;
+    }
+
+    String qualified = xml.substring(start, pos);
+    if (qualified.isEmpty()) {
+      throw error("invalid element");
+    }
+
+    name = qualified.substring(qualified.indexOf(':') + 1);
+    skipAttributes();
+  }
+
+  private void skipAttributes() throws IOException {
+    while (pos < xml.length()) {
+      char c = xml.charAt(pos);
+      if (c == '"' || c == '\'') {
+        int end = xml.indexOf(c, pos + 1);
+        if (end < 0) {
+          break;
+        }
+
+        pos = end + 1;
+        continue;
+      }
+
+      if (c == '>') {
+        isEmpty = xml.charAt(pos - 1) == '/';
+        pos++;
+        return;
+      }
+
+      pos++;
+    }
+
+    throw error("unterminated element");
+  }
+
+  private void skipEndTag() throws IOException {
+    pos = endOf(">");
+  }
+
+  private int endOf(String delimiter) throws IOException {
+    int end = xml.indexOf(delimiter, pos);
+    if (end < 0) {
+      pos = xml.length();
+      throw error("unterminated markup");
+    }
+
+    return end + delimiter.length();
+  }
+
+  private void decodeInto(StringBuilder text, int start, int end) throws IOException {
+    int amp = xml.indexOf('&', start);
+    while (amp >= 0 && amp < end) {
+      text.append(xml, start, amp);
+      int semicolon = xml.indexOf(';', amp);
+      if (semicolon < 0 || semicolon > end) {
+        throw error("unterminated entity");
+      }
+
+      text.append(decodeEntity(xml.substring(amp + 1, semicolon)));
+      start = semicolon + 1;
+      amp = xml.indexOf('&', start);
+    }
+
+    text.append(xml, start, end);
+  }
+
+  private String decodeEntity(String entity) throws IOException {
+    switch (entity) {
+      case "lt":
+        return "<";
+      case "gt":
+        return ">";
+      case "amp":
+        return "&";
+      case "quot":
+        return "\"";
+      case "apos":
+        return "'";
+      default:
+        break;
+    }
+
+    try {
+      if (entity.startsWith("#x")) {
+        return new String(Character.toChars(Integer.parseInt(entity.substring(2), 16)));
+      }
+
+      if (entity.startsWith("#")) {
+        return new String(Character.toChars(Integer.parseInt(entity.substring(1))));
+      }
+    } catch (IllegalArgumentException e) {
+      // Handled below
+    }
+
+    throw error("unsupported entity &" + entity + ";");
+  }
+
+  private static boolean isNameEnd(char c) {
+    return Character.isWhitespace(c) || c == '>' || c == '/';
+  }
+
+  /** Returns an exception pointing at the current position in the document. */
+  IOException error(String message) {
+    int line = 1;
+    for (int i = 0; i < Math.min(pos, xml.length()); i++) {
+      if (xml.charAt(i) == '\n') {
+        line++;
+      }
+    }
+
+    return new IOException(String.format("%s:%d: %s", source, line, message));
+  }
+}
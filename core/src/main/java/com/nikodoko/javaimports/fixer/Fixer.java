@@ -1,20 +1,20 @@
 package com.nikodoko.javaimports.fixer;
 
 import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.Profile;
+import com.nikodoko.javaimports.Profile.Counter;
+import com.nikodoko.javaimports.Profile.Phase;
+import com.nikodoko.javaimports.common.Import;
 import com.nikodoko.javaimports.common.Selector;
 import com.nikodoko.javaimports.environment.Environment;
 import com.nikodoko.javaimports.fixer.candidates.BasicCandidateSelectionStrategy;
 import com.nikodoko.javaimports.fixer.candidates.Candidate;
 import com.nikodoko.javaimports.fixer.candidates.CandidateFinder;
-import com.nikodoko.javaimports.fixer.candidates.Candidates;
 import com.nikodoko.javaimports.fixer.internal.LoadResult;
 import com.nikodoko.javaimports.fixer.internal.Loader;
-import com.nikodoko.javaimports.parser.Import;
 import com.nikodoko.javaimports.parser.ParsedFile;
 import com.nikodoko.javaimports.stdlib.StdlibProvider;
-import java.util.Collection;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -31,6 +31,8 @@ public class Fixer {
   private static Logger log = Logger.getLogger(Fixer.class.getName());
 
   private Loader loader;
+  // The latest information added, for diagnostics
+  private String stage = "file";
 
   private Fixer(ParsedFile file, Options options) {
     this.file = file;
@@ -62,31 +64,42 @@ public class Fixer {
             .filter(s -> s.packageName().equals(file.packageName()))
             .collect(Collectors.toSet());
 
+    stage = "siblings";
     loader.addSiblings(siblingsOfSamePackage);
     siblingsOfSamePackage.stream().forEach(f -> candidates.add(Candidate.Source.SIBLING, f));
   }
 
   public void addStdlibProvider(StdlibProvider provider) {
+    stage = "stdlib";
     loader.addStdlibProvider(provider);
     candidates.add(Candidate.Source.STDLIB, provider);
   }
 
   public void addEnvironment(Environment resolver) {
+    stage = "environment";
     loader.addEnvironment(resolver);
     candidates.add(Candidate.Source.EXTERNAL, resolver);
   }
 
   private Result loadAndTryToFix(boolean lastTry) {
+    FixerStageEvent event = new FixerStageEvent();
+    event.begin();
     loader.load();
     if (options.debug()) {
       log.info("load completed: " + loader.result().toString());
     }
 
-    if (loader.result().isEmpty()) {
-      return Result.complete();
+    Result result = loader.result().isEmpty() ? Result.complete() : fix(lastTry);
+    event.end();
+    if (event.shouldCommit()) {
+      event.pkg = file.packageName();
+      event.stage = stage;
+      event.unresolved = allUnresolved(loader.result()).size();
+      event.remaining = event.unresolved - result.fixes().size();
+      event.commit();
     }
 
-    return fix(lastTry);
+    return result;
   }
 
   // Given an intermediate load result, use all the candidates gathered so far to find imports to
@@ -101,8 +114,7 @@ public class Fixer {
     }
 
     var unresolved = allUnresolved(loaded);
-    // var fixes = findFixes(unresolved, loaded);
-    var fixes = findFixes(unresolved, List.of());
+    var fixes = findFixes(unresolved);
     var allGood = fixes.size() == unresolved.size();
 
     if (allGood) {
@@ -112,17 +124,6 @@ public class Fixer {
     return Result.incomplete(fixes);
   }
 
-  private Set<Import> findFixes(Set<String> unresolved, LoadResult loaded) {
-    Set<Import> fixes =
-        unresolved.stream()
-            .map(loaded.candidates::get)
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-
-    return fixes;
-  }
-
   private Set<String> allUnresolved(LoadResult loaded) {
     var allUnresolved = new HashSet<String>();
     allUnresolved.addAll(loaded.unresolved);
@@ -130,17 +131,21 @@ public class Fixer {
     return allUnresolved;
   }
 
-  private Set<Import> findFixes(Set<String> unresolved, Collection<Import> current) {
-    var selectors = unresolved.stream().map(Selector::of).collect(Collectors.toList());
-    var candidates = selectors.stream().map(this.candidates::find).reduce(Candidates::merge).get();
-    var best = new BasicCandidateSelectionStrategy().selectBest(candidates);
-
-    return selectors.stream()
-        .map(best::forSelector)
-        .filter(Optional::isPresent)
-        .map(Optional::get)
-        .map(Import::fromNew)
-        .collect(Collectors.toSet());
+  private Set<Import> findFixes(Set<String> unresolved) {
+    try (Profile.Timer t = options.profile().time(Phase.CANDIDATE_SELECTION)) {
+      var selectors = unresolved.stream().map(Selector::of).collect(Collectors.toList());
+      var candidates = this.candidates.find(selectors);
+      for (Selector selector : candidates.selectors()) {
+        options.profile().count(Counter.CANDIDATES_CONSIDERED, candidates.getFor(selector).size());
+      }
+
+      var best = new BasicCandidateSelectionStrategy().selectBest(candidates);
+      return selectors.stream()
+          .map(best::forSelector)
+          .filter(Optional::isPresent)
+          .map(Optional::get)
+          .collect(Collectors.toSet());
+    }
   }
 
   /**
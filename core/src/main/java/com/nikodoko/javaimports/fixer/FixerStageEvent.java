@@ -0,0 +1,31 @@
+package com.nikodoko.javaimports.fixer;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** A Flight Recorder event recorded each time a {@link Fixer} tries to fix a file. */
+@Name("com.nikodoko.javaimports.FixerStage")
+@Label("Fixer Stage")
+@Category("Javaimports")
+@Description("An attempt at fixing a file with the information gathered so far")
+@StackTrace(false)
+class FixerStageEvent extends Event {
+  @Label("Package")
+  String pkg;
+
+  @Label("Stage")
+  @Description("The information used: file, siblings, stdlib or environment")
+  String stage;
+
+  @Label("Unresolved Identifiers")
+  @Description("Identifiers to find imports for at the start of this stage")
+  int unresolved;
+
+  @Label("Remaining Identifiers")
+  @Description("Identifiers still without an import at the end of this stage")
+  int remaining;
+}
@@ -5,28 +5,18 @@ import com.nikodoko.javaimports.fixer.candidates.filters.CandidateFilters;
 public class BasicCandidateSelectionStrategy implements CandidateSelectionStrategy {
   @Override
   public BestCandidates selectBest(Candidates candidates) {
-    var filtered = bestSource(candidates);
-    filtered = mostCommonScope(filtered);
-    filtered = sourceSpecificRules(filtered);
-    return takeFirst(filtered);
+    // All filters narrow down the same table in place
+    var table = CandidateTable.of(candidates);
+    CandidateFilters.mostRelevantSource().filter(table);
+    CandidateFilters.mostCommonScope().filter(table);
+    CandidateFilters.sourceSpecificRules().filter(table);
+    return takeFirst(table);
   }
 
-  private Candidates bestSource(Candidates candidates) {
-    return CandidateFilters.mostRelevantSource().filter(candidates);
-  }
-
-  private Candidates mostCommonScope(Candidates candidates) {
-    return CandidateFilters.mostCommonScope().filter(candidates);
-  }
-
-  private Candidates sourceSpecificRules(Candidates candidates) {
-    return CandidateFilters.sourceSpecificRules().filter(candidates);
-  }
-
-  private BestCandidates takeFirst(Candidates candidates) {
+  private BestCandidates takeFirst(CandidateTable candidates) {
     var best = BestCandidates.builder();
-    for (var selector : candidates.selectors()) {
-      best.put(selector, candidates.getFor(selector).get(0).i);
+    for (int s = 0; s < candidates.selectorCount(); s++) {
+      best.put(candidates.selector(s), candidates.importAt(candidates.first(s)));
     }
 
     return best.build();
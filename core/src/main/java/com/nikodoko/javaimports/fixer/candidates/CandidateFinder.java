@@ -5,15 +5,19 @@ import com.nikodoko.javaimports.common.Import;
 import com.nikodoko.javaimports.common.ImportProvider;
 import com.nikodoko.javaimports.common.Selector;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Set;
 
 public class CandidateFinder {
-  private Map<Candidate.Source, List<ImportProvider>> providers = new HashMap<>();
+  // Iterates over sources in declaration order, which is also their priority order
+  private Map<Candidate.Source, List<ImportProvider>> providers =
+      new EnumMap<>(Candidate.Source.class);
 
   public void add(Candidate.Source source, ImportProvider... additional) {
     var current = providers.computeIfAbsent(source, __ -> new ArrayList<>());
@@ -21,21 +25,77 @@ public class CandidateFinder {
   }
 
   public Candidates find(Selector selector) {
-    var candidates =
-        findForIdentifier(selector.identifier())
-            .filter(c -> matchesSelector(c, selector))
-            .map(c -> truncate(c, selector))
-            .collect(Collectors.toList());
-    if (candidates.size() == 0) {
+    return find(List.of(selector));
+  }
+
+  /**
+   * Finds candidates for all {@code selectors} at once, querying each provider a single time.
+   *
+   * <p>Providers are queried one source at a time, by decreasing priority ({@code SIBLING}, then
+   * {@code STDLIB}, then {@code EXTERNAL}). A selector that has candidates from a source is not
+   * looked up in the following ones: only candidates of the most relevant source are ever selected
+   * anyway, and this spares lower priority (and often more expensive) providers from doing any work
+   * when higher priority ones already found everything.
+   */
+  public Candidates find(Collection<Selector> selectors) {
+    // Single identifiers are looked up all at once, qualified selectors (like Map.Entry) one by one
+    // as providers can then directly find the imports ending with them
+    Map<Identifier, Selector> pendingIdentifiers = new HashMap<>();
+    Set<Selector> pendingQualified = new HashSet<>();
+    for (Selector selector : selectors) {
+      if (selector.size() == 1) {
+        pendingIdentifiers.put(selector.identifier(), selector);
+      } else {
+        pendingQualified.add(selector);
+      }
+    }
+
+    Map<Selector, List<Candidate>> found = new HashMap<>();
+    for (var e : providers.entrySet()) {
+      if (pendingIdentifiers.isEmpty() && pendingQualified.isEmpty()) {
+        break;
+      }
+
+      for (ImportProvider provider : e.getValue()) {
+        if (!pendingIdentifiers.isEmpty()) {
+          provider
+              .findImports(pendingIdentifiers.keySet())
+              .forEach(
+                  (identifier, imports) ->
+                      addCandidates(
+                          found, pendingIdentifiers.get(identifier), imports, e.getKey()));
+        }
+
+        for (Selector selector : pendingQualified) {
+          addCandidates(found, selector, provider.findImports(selector), e.getKey());
+        }
+      }
+
+      pendingIdentifiers.values().removeIf(found::containsKey);
+      pendingQualified.removeIf(found::containsKey);
+    }
+
+    if (found.isEmpty()) {
       return Candidates.EMPTY;
     }
 
-    return Candidates.forSelector(selector).add(candidates).build();
+    return new Candidates(found);
   }
 
-  // A candidate matches a selector if the underlying import's selector ends with it.
-  private boolean matchesSelector(Candidate candidate, Selector selector) {
-    return candidate.i.selector.endsWith(selector);
+  // Imports are expected to end with the selector, as guaranteed by ImportProvider
+  private void addCandidates(
+      Map<Selector, List<Candidate>> found,
+      Selector selector,
+      Collection<Import> imports,
+      Candidate.Source source) {
+    if (imports.isEmpty()) {
+      return;
+    }
+
+    var candidates = found.computeIfAbsent(selector, __ -> new ArrayList<>());
+    for (Import i : imports) {
+      candidates.add(truncate(new Candidate(i, source), selector));
+    }
   }
 
   private Candidate truncate(Candidate candidate, Selector selector) {
@@ -43,16 +103,4 @@ public class CandidateFinder {
         new Import(candidate.i.selector.subtract(selector), candidate.i.isStatic);
     return new Candidate(importForSelector, candidate.s);
   }
-
-  private Stream<Candidate> findForIdentifier(Identifier identifier) {
-    return providers.entrySet().stream()
-        .flatMap(e -> generateCandidates(e.getKey(), e.getValue(), identifier));
-  }
-
-  private Stream<Candidate> generateCandidates(
-      Candidate.Source source, List<ImportProvider> providers, Identifier identifier) {
-    return providers.stream()
-        .flatMap(p -> p.findImports(identifier).stream())
-        .map(i -> new Candidate(i, source));
-  }
 }
@@ -0,0 +1,125 @@
+package com.nikodoko.javaimports.fixer.candidates;
+
+import com.google.common.base.MoreObjects;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import java.util.BitSet;
+
+/**
+ * A columnar view of {@link Candidates}, that filters can narrow down in place.
+ *
+ * <p>Each row is a candidate, and the rows of a given selector are contiguous: the rows of the
+ * selector with id {@code s} go from {@link #start(int)} (inclusive) to {@link #end(int)}
+ * (exclusive), in the order in which {@code Candidates} lists them. Columns hold the import and
+ * source of each candidate. Filtering a candidate out only marks its row as removed.
+ */
+public final class CandidateTable {
+  private final Selector[] selectors;
+  private final int[] offsets;
+  private final Import[] imports;
+  private final Candidate.Source[] sources;
+  private final BitSet removed;
+
+  private CandidateTable(
+      Selector[] selectors, int[] offsets, Import[] imports, Candidate.Source[] sources) {
+    this.selectors = selectors;
+    this.offsets = offsets;
+    this.imports = imports;
+    this.sources = sources;
+    this.removed = new BitSet(imports.length);
+  }
+
+  public static CandidateTable of(Candidates candidates) {
+    var selectors = candidates.selectors().toArray(new Selector[0]);
+    var offsets = new int[selectors.length + 1];
+    for (int s = 0; s < selectors.length; s++) {
+      offsets[s + 1] = offsets[s] + candidates.getFor(selectors[s]).size();
+    }
+
+    var rows = offsets[selectors.length];
+    var imports = new Import[rows];
+    var sources = new Candidate.Source[rows];
+    int row = 0;
+    for (Selector selector : selectors) {
+      for (Candidate c : candidates.getFor(selector)) {
+        imports[row] = c.i;
+        sources[row] = c.s;
+        row++;
+      }
+    }
+
+    return new CandidateTable(selectors, offsets, imports, sources);
+  }
+
+  /** The number of selectors in this table, selector ids go from 0 to this number (exclusive). */
+  public int selectorCount() {
+    return selectors.length;
+  }
+
+  public Selector selector(int s) {
+    return selectors[s];
+  }
+
+  /** The first row of the selector with id {@code s}. */
+  public int start(int s) {
+    return offsets[s];
+  }
+
+  /** The row following the last row of the selector with id {@code s}. */
+  public int end(int s) {
+    return offsets[s + 1];
+  }
+
+  public Import importAt(int row) {
+    return imports[row];
+  }
+
+  public Candidate.Source source(int row) {
+    return sources[row];
+  }
+
+  /** The scope of the candidate in {@code row}, {@code java.util} for {@code java.util.List}. */
+  public Selector scope(int row) {
+    return imports[row].qualifier();
+  }
+
+  public boolean isRemoved(int row) {
+    return removed.get(row);
+  }
+
+  public void remove(int row) {
+    removed.set(row);
+  }
+
+  /** The number of rows of the selector with id {@code s} that have not been removed. */
+  public int remaining(int s) {
+    int remaining = 0;
+    for (int row = first(s); row >= 0 && row < end(s); row = removed.nextClearBit(row + 1)) {
+      remaining++;
+    }
+
+    return remaining;
+  }
+
+  /** The first row of the selector with id {@code s} that has not been removed, or -1. */
+  public int first(int s) {
+    var row = removed.nextClearBit(start(s));
+    return row < end(s) ? row : -1;
+  }
+
+  @Override
+  public String toString() {
+    var helper = MoreObjects.toStringHelper(this);
+    for (int s = 0; s < selectors.length; s++) {
+      var remaining = new StringBuilder("[");
+      for (int row = start(s); row < end(s); row++) {
+        if (!isRemoved(row)) {
+          remaining.append(remaining.length() > 1 ? ", " : "").append(imports[row].selector);
+        }
+      }
+      helper.add(selectors[s].toString(), remaining.append("]"));
+    }
+
+    return helper.toString();
+  }
+}
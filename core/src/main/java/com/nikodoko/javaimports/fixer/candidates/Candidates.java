@@ -16,7 +16,7 @@ public class Candidates {
 
   private final Map<Selector, List<Candidate>> candidates;
 
-  private Candidates(Map<Selector, List<Candidate>> candidates) {
+  Candidates(Map<Selector, List<Candidate>> candidates) {
     this.candidates = candidates;
   }
 
@@ -1,7 +1,8 @@
 package com.nikodoko.javaimports.fixer.candidates.filters;
 
-import com.nikodoko.javaimports.fixer.candidates.Candidates;
+import com.nikodoko.javaimports.fixer.candidates.CandidateTable;
 
 public interface CandidateFilter {
-  Candidates filter(Candidates candidates);
+  /** Removes the less relevant candidates from {@code candidates}, in place. */
+  void filter(CandidateTable candidates);
 }
@@ -1,12 +1,10 @@
 package com.nikodoko.javaimports.fixer.candidates.filters;
 
-import com.nikodoko.javaimports.common.Selector;
 import com.nikodoko.javaimports.fixer.candidates.Candidate;
-import com.nikodoko.javaimports.fixer.candidates.Candidates;
-import java.util.List;
+import com.nikodoko.javaimports.fixer.candidates.CandidateTable;
 
 public class CandidateFilters {
-  private static CandidateFilter NOOP = candidates -> candidates;
+  private static final StdlibCandidateFilter STDLIB = new StdlibCandidateFilter();
 
   public static CandidateFilter mostRelevantSource() {
     return new SourceCandidateFilter();
@@ -17,33 +15,28 @@ public class CandidateFilters {
   }
 
   public static CandidateFilter sourceSpecificRules() {
-    return candidates ->
-        candidates.selectors().stream()
-            .map(s -> filterCandidatesOfSameSource(s, candidates.getFor(s)))
-            .reduce(Candidates::merge)
-            .orElse(Candidates.EMPTY);
+    return CandidateFilters::filterCandidatesOfSameSource;
   }
 
-  private static Candidates filterCandidatesOfSameSource(Selector s, List<Candidate> candidates) {
-    if (candidates.isEmpty()) {
-      throw new IllegalArgumentException("Why do we have a selector with no candidates?");
-    }
-
-    var source = candidates.get(0).s;
-    if (candidates.stream().filter(c -> c.s != source).count() != 0) {
-      throw new IllegalArgumentException(
-          String.format("Candidates for selector %s have different sources"));
-    }
-
-    return rulesForSource(source).filter(Candidates.forSelector(s).add(candidates).build());
-  }
-
-  private static CandidateFilter rulesForSource(Candidate.Source source) {
-    switch (source) {
-      case STDLIB:
-        return new StdlibCandidateFilter();
-      default:
-        return NOOP;
+  private static void filterCandidatesOfSameSource(CandidateTable candidates) {
+    for (int s = 0; s < candidates.selectorCount(); s++) {
+      var first = candidates.first(s);
+      if (first < 0) {
+        throw new IllegalArgumentException("Why do we have a selector with no candidates?");
+      }
+
+      var source = candidates.source(first);
+      for (int row = first; row < candidates.end(s); row++) {
+        if (!candidates.isRemoved(row) && candidates.source(row) != source) {
+          throw new IllegalArgumentException(
+              String.format(
+                  "Candidates for selector %s have different sources", candidates.selector(s)));
+        }
+      }
+
+      if (source == Candidate.Source.STDLIB) {
+        STDLIB.filter(candidates, s);
+      }
     }
   }
 }
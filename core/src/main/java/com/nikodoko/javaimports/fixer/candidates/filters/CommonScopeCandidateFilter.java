@@ -1,75 +1,49 @@
 package com.nikodoko.javaimports.fixer.candidates.filters;
 
 import com.nikodoko.javaimports.common.Selector;
-import com.nikodoko.javaimports.fixer.candidates.Candidate;
-import com.nikodoko.javaimports.fixer.candidates.Candidates;
-import java.util.ArrayList;
-import java.util.Collections;
+import com.nikodoko.javaimports.fixer.candidates.CandidateTable;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 class CommonScopeCandidateFilter implements CandidateFilter {
-  private static class ScopeCounter {
-    private Map<Selector, Integer> scopeCounter = new HashMap<>();
-
-    void add(List<Candidate> candidates) {
-      candidates.stream()
-          .map(c -> scope(c))
-          .forEach(scope -> scopeCounter.put(scope, get(scope) + 1));
-    }
-
-    int get(Selector scope) {
-      return scopeCounter.getOrDefault(scope, 0);
-    }
-  }
-
-  // Candidates that are the only choice for their selector
-  private List<Candidate> selected = new ArrayList<>();
-  private ScopeCounter scopeCounter = new ScopeCounter();
-
   @Override
-  public Candidates filter(Candidates candidates) {
-    extractNonAmbiguous(candidates);
-    buildScopeCounter();
-
-    return candidates.selectors().stream()
-        .map(s -> mostRelevantforSelector(s, candidates.getFor(s)))
-        .reduce(Candidates::merge)
-        .orElse(Candidates.EMPTY);
+  public void filter(CandidateTable candidates) {
+    var scopeCounter = countNonAmbiguousScopes(candidates);
+    for (int s = 0; s < candidates.selectorCount(); s++) {
+      var topCount = highestCount(candidates, s, scopeCounter);
+      for (int row = candidates.start(s); row < candidates.end(s); row++) {
+        if (!candidates.isRemoved(row) && count(candidates, row, scopeCounter) != topCount) {
+          candidates.remove(row);
+        }
+      }
+    }
   }
 
-  private void extractNonAmbiguous(Candidates candidates) {
-    var nonAmbiguous =
-        candidates.selectors().stream()
-            .filter(s -> candidates.getFor(s).size() == 1)
-            .flatMap(s -> candidates.getFor(s).stream())
-            .collect(Collectors.toList());
-    selected.addAll(nonAmbiguous);
-  }
+  // Counts the scopes of candidates that are the only choice for their selector. There are
+  // usually few of them, so this stays small even when there are lots of candidates.
+  private Map<Selector, Integer> countNonAmbiguousScopes(CandidateTable candidates) {
+    Map<Selector, Integer> scopeCounter = new HashMap<>();
+    for (int s = 0; s < candidates.selectorCount(); s++) {
+      if (candidates.remaining(s) == 1) {
+        scopeCounter.merge(candidates.scope(candidates.first(s)), 1, Integer::sum);
+      }
+    }
 
-  private void buildScopeCounter() {
-    scopeCounter.add(selected);
+    return scopeCounter;
   }
 
-  private Candidates mostRelevantforSelector(Selector selector, List<Candidate> candidates) {
-    var topCount = highestCount(candidates);
-    var best =
-        candidates.stream()
-            .filter(c -> scopeCounter.get(scope(c)) == topCount)
-            .collect(Collectors.toList());
-    return Candidates.forSelector(selector).add(best).build();
-  }
+  private int highestCount(CandidateTable candidates, int s, Map<Selector, Integer> scopeCounter) {
+    var top = -1;
+    for (int row = candidates.start(s); row < candidates.end(s); row++) {
+      if (!candidates.isRemoved(row)) {
+        top = Math.max(top, count(candidates, row, scopeCounter));
+      }
+    }
 
-  private int highestCount(List<Candidate> candidates) {
-    var top =
-        Collections.max(
-            candidates, (c1, c2) -> scopeCounter.get(scope(c1)) - scopeCounter.get(scope(c2)));
-    return scopeCounter.get(scope(top));
+    return top;
   }
 
-  private static Selector scope(Candidate candidate) {
-    return candidate.i.selector.scope();
+  private static int count(CandidateTable candidates, int row, Map<Selector, Integer> counter) {
+    return counter.getOrDefault(candidates.scope(row), 0);
   }
 }
@@ -1,35 +1,36 @@
 package com.nikodoko.javaimports.fixer.candidates.filters;
 
-import com.nikodoko.javaimports.common.Selector;
 import com.nikodoko.javaimports.fixer.candidates.Candidate;
-import com.nikodoko.javaimports.fixer.candidates.Candidates;
-import java.util.Collections;
-import java.util.List;
-import java.util.stream.Collectors;
+import com.nikodoko.javaimports.fixer.candidates.CandidateTable;
 
 class SourceCandidateFilter implements CandidateFilter {
   public SourceCandidateFilter() {}
 
   @Override
-  public Candidates filter(Candidates candidates) {
-    return candidates.selectors().stream()
-        .map(s -> mostRelevantForSelector(s, candidates.getFor(s)))
-        .reduce(Candidates::merge)
-        .orElse(Candidates.EMPTY);
+  public void filter(CandidateTable candidates) {
+    for (int s = 0; s < candidates.selectorCount(); s++) {
+      var best = mostRelevantSourceValue(candidates, s);
+      for (int row = candidates.start(s); row < candidates.end(s); row++) {
+        if (sourceValue(candidates.source(row)) != best) {
+          candidates.remove(row);
+        }
+      }
+    }
   }
 
-  private Candidates mostRelevantForSelector(Selector selector, List<Candidate> candidates) {
-    var source = mostRelevantSource(candidates);
-    var relevant = candidates.stream().filter(c -> c.s == source).collect(Collectors.toList());
-    return Candidates.forSelector(selector).add(relevant).build();
-  }
+  private int mostRelevantSourceValue(CandidateTable candidates, int s) {
+    var best = -1;
+    for (int row = candidates.start(s); row < candidates.end(s); row++) {
+      if (!candidates.isRemoved(row)) {
+        best = Math.max(best, sourceValue(candidates.source(row)));
+      }
+    }
 
-  private Candidate.Source mostRelevantSource(List<Candidate> candidates) {
-    return Collections.max(candidates, (c1, c2) -> sourceValue(c1) - sourceValue(c2)).s;
+    return best;
   }
 
-  private int sourceValue(Candidate candidate) {
-    switch (candidate.s) {
+  private int sourceValue(Candidate.Source source) {
+    switch (source) {
       case SIBLING:
         return 2;
       case STDLIB:
@@ -2,48 +2,67 @@ package com.nikodoko.javaimports.fixer.candidates.filters;
 
 import com.nikodoko.javaimports.common.Selector;
 import com.nikodoko.javaimports.fixer.candidates.Candidate;
-import com.nikodoko.javaimports.fixer.candidates.Candidates;
-import java.util.Collections;
-import java.util.List;
-import java.util.stream.Collectors;
+import com.nikodoko.javaimports.fixer.candidates.CandidateTable;
 
 class StdlibCandidateFilter implements CandidateFilter {
   private static final Selector JAVA_UTIL = Selector.of("java", "util");
 
   @Override
-  public Candidates filter(Candidates candidates) {
-    return candidates.selectors().stream()
-        .map(s -> mostRelevantForSelector(s, candidates.getFor(s)))
-        .reduce(Candidates::merge)
-        .orElse(Candidates.EMPTY);
+  public void filter(CandidateTable candidates) {
+    for (int s = 0; s < candidates.selectorCount(); s++) {
+      filter(candidates, s);
+    }
   }
 
-  private Candidates mostRelevantForSelector(Selector selector, List<Candidate> candidates) {
-    if (candidates.stream().filter(c -> c.s != Candidate.Source.STDLIB).count() != 0) {
-      throw new IllegalArgumentException("Some candidates do not come from the stdlib");
+  /** Only filters the candidates of the selector with id {@code s}. */
+  void filter(CandidateTable candidates, int s) {
+    for (int row = candidates.start(s); row < candidates.end(s); row++) {
+      if (!candidates.isRemoved(row) && candidates.source(row) != Candidate.Source.STDLIB) {
+        throw new IllegalArgumentException("Some candidates do not come from the stdlib");
+      }
     }
 
-    var shortest = selectShortest(candidates);
-    var relevant = selectJavaUtilIfAny(shortest);
-
-    return Candidates.forSelector(selector).add(relevant).build();
+    selectShortest(candidates, s);
+    selectJavaUtilIfAny(candidates, s);
   }
 
-  private List<Candidate> selectShortest(List<Candidate> candidates) {
-    var byLength = candidates.stream().collect(Collectors.groupingBy(c -> c.i.selector.size()));
-    var minLength = Collections.min(byLength.keySet());
-    return byLength.get(minLength);
+  private void selectShortest(CandidateTable candidates, int s) {
+    var minLength = Integer.MAX_VALUE;
+    for (int row = candidates.start(s); row < candidates.end(s); row++) {
+      if (!candidates.isRemoved(row)) {
+        minLength = Math.min(minLength, length(candidates, row));
+      }
+    }
+
+    for (int row = candidates.start(s); row < candidates.end(s); row++) {
+      if (length(candidates, row) != minLength) {
+        candidates.remove(row);
+      }
+    }
   }
 
-  private List<Candidate> selectJavaUtilIfAny(List<Candidate> candidates) {
-    var inJavaUtil =
-        candidates.stream()
-            .filter(c -> c.i.selector.startsWith(JAVA_UTIL))
-            .collect(Collectors.toList());
-    if (inJavaUtil.isEmpty()) {
-      return candidates;
+  private void selectJavaUtilIfAny(CandidateTable candidates, int s) {
+    var anyInJavaUtil = false;
+    for (int row = candidates.start(s); row < candidates.end(s); row++) {
+      anyInJavaUtil |= !candidates.isRemoved(row) && isInJavaUtil(candidates, row);
+    }
+
+    if (!anyInJavaUtil) {
+      return;
+    }
+
+    for (int row = candidates.start(s); row < candidates.end(s); row++) {
+      if (!isInJavaUtil(candidates, row)) {
+        candidates.remove(row);
+      }
     }
+  }
+
+  private static int length(CandidateTable candidates, int row) {
+    return candidates.importAt(row).selector.size();
+  }
 
-    return inJavaUtil;
+  private static boolean isInJavaUtil(CandidateTable candidates, int row) {
+    return candidates.importAt(row).selector.startsWith(JAVA_UTIL);
   }
 }
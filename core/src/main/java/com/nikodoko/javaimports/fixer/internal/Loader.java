@@ -1,19 +1,15 @@
 package com.nikodoko.javaimports.fixer.internal;
 
-import com.google.common.collect.ImmutableSet;
 import com.nikodoko.javaimports.Options;
 import com.nikodoko.javaimports.environment.Environment;
 import com.nikodoko.javaimports.environment.Environments;
 import com.nikodoko.javaimports.parser.ClassExtender;
 import com.nikodoko.javaimports.parser.ClassHierarchies;
 import com.nikodoko.javaimports.parser.ClassHierarchy;
-import com.nikodoko.javaimports.parser.Import;
 import com.nikodoko.javaimports.parser.ParsedFile;
 import com.nikodoko.javaimports.stdlib.StdlibProvider;
 import com.nikodoko.javaimports.stdlib.StdlibProviders;
 import java.util.HashSet;
-import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -75,10 +71,6 @@ public class Loader {
     resolveAllJavaLang();
     resolveUsingImports();
     resolveUsingSiblings();
-
-    addSiblingImportsAsCandidates();
-    addStdlibCandidates();
-    addExternalCandidates();
   }
 
   private void resolveAllJavaLang() {
@@ -92,34 +84,6 @@ public class Loader {
     result.unresolved = difference(result.unresolved, inJavaLang);
   }
 
-  private void addExternalCandidates() {
-    allStillUnresolved().stream()
-        .map(environment::search)
-        .filter(Optional::isPresent)
-        .forEach(candidate -> result.candidates.add(Candidates.Priority.EXTERNAL, candidate.get()));
-  }
-
-  private void addStdlibCandidates() {
-    Map<String, Import> stdlibCandidates = stdlib.find(allStillUnresolved());
-    result.candidates.add(Candidates.Priority.STDLIB, stdlibCandidates.values());
-  }
-
-  private void addSiblingImportsAsCandidates() {
-    for (ParsedFile sibling : siblings) {
-      result.candidates.add(Candidates.Priority.SIBLING, sibling.imports().values());
-    }
-  }
-
-  private Set<String> allStillUnresolved() {
-    ImmutableSet.Builder builder = ImmutableSet.builder().addAll(result.unresolved);
-    for (ClassExtender orphan : result.orphans) {
-      builder.addAll(orphan.notYetResolved());
-    }
-
-    Set<String> all = builder.build();
-    return all;
-  }
-
   // FIXME: this does not do anything about the situation where we import a class that we extend
   // in the file. The problem is that we would need informations on the methods provided by said
   // class so that we can decide which identifiers are still unresoled.
@@ -0,0 +1,28 @@
+package com.nikodoko.javaimports.parser;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** A Flight Recorder event recorded each time a file is parsed. */
+@Name("com.nikodoko.javaimports.Parse")
+@Label("Parse")
+@Category("Javaimports")
+@Description("Parsing of a source file")
+@StackTrace(false)
+class ParseEvent extends Event {
+  @Label("File")
+  String file;
+
+  @Label("Size")
+  @DataAmount
+  long bytes;
+
+  @Label("Unresolved Identifiers")
+  @Description("Identifiers used but not declared in the file")
+  int unresolved;
+}
@@ -3,7 +3,9 @@ package com.nikodoko.javaimports.parser;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.Range;
 import com.nikodoko.javaimports.common.Identifier;
+import com.nikodoko.javaimports.common.Import;
 import com.nikodoko.javaimports.common.ImportProvider;
+import com.nikodoko.javaimports.common.Selector;
 import com.nikodoko.javaimports.parser.internal.ClassEntity;
 import com.nikodoko.javaimports.parser.internal.Scope;
 import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
@@ -76,9 +78,9 @@ public class ParsedFile implements ImportProvider {
     // to
     // consider only one of them (and mark the others as duplicates)
     for (JCImport existingImport : unit.getImports()) {
-      Import i = Import.fromJcImport(existingImport);
-      if (!imports.containsKey(i.name())) {
-        imports.put(i.name(), i);
+      Import i = toImport(existingImport);
+      if (!imports.containsKey(i.name().toString())) {
+        imports.put(i.name().toString(), i);
         continue;
       }
 
@@ -88,6 +90,11 @@ public class ParsedFile implements ImportProvider {
     return new ParsedFile(packageName, packageEndPos, duplicates, imports);
   }
 
+  private static Import toImport(JCImport statement) {
+    return new Import(
+        Selector.parse(statement.getQualifiedIdentifier().toString()), statement.isStatic());
+  }
+
   /** The position of the end of this {@code ParsedFile}'s package clause */
   public int packageEndPos() {
     return packageEndPos;
@@ -144,12 +151,12 @@ public class ParsedFile implements ImportProvider {
   }
 
   // TODO: remove
-  public Collection<com.nikodoko.javaimports.common.Import> findImports(Identifier i) {
+  public Collection<Import> findImports(Identifier i) {
     if (!imports.containsKey(i.toString())) {
       return List.of();
     }
 
-    return List.of(imports.get(i.toString()).toNew());
+    return List.of(imports.get(i.toString()));
   }
 
   /** Debugging support. */
@@ -5,6 +5,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import com.google.common.collect.ImmutableList;
 import com.nikodoko.javaimports.ImporterException;
 import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.Profile.Counter;
 import com.nikodoko.javaimports.parser.internal.UnresolvedIdentifierScanner;
 import com.sun.tools.javac.file.JavacFileManager;
 import com.sun.tools.javac.parser.JavacParser;
@@ -58,12 +59,16 @@ public class Parser {
    */
   public Optional<ParsedFile> parse(final Path filename, final String javaCode)
       throws ImporterException {
+    options.cancellation().throwIfCancelled();
     long start = clock.millis();
+    ParseEvent event = new ParseEvent();
+    event.begin();
     // Parse the code into a compilation unit containing the AST
     JCCompilationUnit unit = getCompilationUnit(filename.toString(), javaCode);
     // A lot of what we do relies on having a package clause, consider the file empty if it does not
     // have one.
     if (unit.getPackageName() == null) {
+      commit(event, filename, javaCode, 0);
       return Optional.empty();
     }
 
@@ -75,6 +80,8 @@ public class Parser {
     ParsedFile f = ParsedFile.fromCompilationUnit(unit);
     f.topScope(scanner.topScope());
     f.classHierarchy(scanner.topClass());
+    options.profile().increment(Counter.FILES_PARSED);
+    commit(event, filename, javaCode, f.notYetResolved().size());
     if (options.debug()) {
       log.info(String.format("completed parsing in %d ms: %s", clock.millis() - start, f));
     }
@@ -82,6 +89,16 @@ public class Parser {
     return Optional.of(f);
   }
 
+  private static void commit(ParseEvent event, Path filename, String javaCode, int unresolved) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.file = filename.toString();
+      event.bytes = javaCode.getBytes(UTF_8).length;
+      event.unresolved = unresolved;
+      event.commit();
+    }
+  }
+
   /** Return true if the diagnostic is an error diagnostic. */
   private static boolean isErrorDiagnostic(Diagnostic<?> d) {
     return d.getKind() == Diagnostic.Kind.ERROR;
@@ -1,19 +1,32 @@
 package com.nikodoko.javaimports.stdlib;
 
 import com.nikodoko.javaimports.common.Identifier;
-import com.nikodoko.javaimports.parser.Import;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
 import com.nikodoko.javaimports.stdlib.internal.Stdlib;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class BasicStdlibProvider implements StdlibProvider {
-  private Stdlib stdlib;
-  private Map<String, Integer> usedPackages = new HashMap<>();
+  private static final Selector JAVA_LANG = Selector.parse("java.lang");
+  private static final Selector JAVA_UTIL = Selector.parse("java.util");
+
+  private static final String STATIC = "static ";
+  private static final Import[] NONE = new Import[0];
+
+  // A provider is shared by all the requests made with the same Options, so it does not keep any
+  // per-request state
+  private final Stdlib stdlib;
+  // The stdlib only stores qualified names, as building thousands of imports when loading it would
+  // slow down startup noticeably. We build them when first needed instead. Identifiers that are not
+  // in the stdlib are not memoized, as any identifier of any project would end up here.
+  private final Map<String, Import[]> imports = new ConcurrentHashMap<>();
 
   BasicStdlibProvider(Stdlib stdlib) {
     this.stdlib = stdlib;
@@ -21,15 +34,10 @@ public class BasicStdlibProvider implements StdlibProvider {
 
   @Override
   public boolean isInJavaLang(String identifier) {
-    Import[] matches = stdlib.getClassesFor(identifier);
-    if (matches == null) {
-      return false;
-    }
-
-    for (Import match : matches) {
+    for (Import match : importsFor(identifier)) {
       // We don't want to catch classes like java.lang.Thread.State, as those will need to be
       // imported.
-      if (match.qualifier().equals("java.lang")) {
+      if (match.qualifier().equals(JAVA_LANG)) {
         return true;
       }
     }
@@ -40,10 +48,10 @@ public class BasicStdlibProvider implements StdlibProvider {
   @Override
   public Map<String, Import> find(Iterable<String> identifiers) {
     Map<String, Import> candidates = findExactlyOneMatch(identifiers);
-    updateUsedPackages(candidates.values());
+    Map<Selector, Integer> usedPackages = countPackages(candidates.values());
     for (String identifier : identifiers) {
       if (hasMultipleMatches(identifier)) {
-        candidates.put(identifier, findBestMatch(identifier));
+        candidates.put(identifier, findBestMatch(identifier, usedPackages));
       }
     }
 
@@ -51,27 +59,51 @@ public class BasicStdlibProvider implements StdlibProvider {
   }
 
   @Override
-  public Collection<com.nikodoko.javaimports.common.Import> findImports(Identifier i) {
-    var found = stdlib.getClassesFor(i.toString());
-    if (found == null) {
-      return List.of();
+  public Collection<Import> findImports(Identifier i) {
+    // The arrays are shared, do not let anyone modify them
+    return Collections.unmodifiableList(Arrays.asList(importsFor(i.toString())));
+  }
+
+  private Import[] importsFor(String identifier) {
+    Import[] found = imports.get(identifier);
+    if (found != null) {
+      return found;
+    }
+
+    String[] names = stdlib.getClassesFor(identifier);
+    if (names == null) {
+      return NONE;
     }
 
-    return Arrays.stream(found).map(Import::toNew).collect(Collectors.toList());
+    return imports.computeIfAbsent(identifier, __ -> load(names));
   }
 
-  private void updateUsedPackages(Iterable<Import> imports) {
+  private Import[] load(String[] names) {
+    Import[] loaded = new Import[names.length];
+    for (int i = 0; i < names.length; i++) {
+      boolean isStatic = names[i].startsWith(STATIC);
+      String name = isStatic ? names[i].substring(STATIC.length()) : names[i];
+      loaded[i] = new Import(Selector.parse(name), isStatic);
+    }
+
+    return loaded;
+  }
+
+  private Map<Selector, Integer> countPackages(Iterable<Import> imports) {
+    Map<Selector, Integer> usedPackages = new HashMap<>();
     for (Import i : imports) {
       int currentUsageCount = usedPackages.getOrDefault(i.qualifier(), 0);
       usedPackages.put(i.qualifier(), currentUsageCount + 1);
     }
+
+    return usedPackages;
   }
 
   private Map<String, Import> findExactlyOneMatch(Iterable<String> identifiers) {
     Map<String, Import> candidates = new HashMap<>();
     for (String identifier : identifiers) {
-      Import[] found = stdlib.getClassesFor(identifier);
-      if (found == null || found.length != 1) {
+      Import[] found = importsFor(identifier);
+      if (found.length != 1) {
         continue;
       }
 
@@ -82,14 +114,11 @@ public class BasicStdlibProvider implements StdlibProvider {
   }
 
   private boolean hasMultipleMatches(String identifier) {
-    Import[] matches = stdlib.getClassesFor(identifier);
-    return matches != null && matches.length > 1;
+    return importsFor(identifier).length > 1;
   }
 
-  private Import findBestMatch(String identifier) {
-    Import[] matches = stdlib.getClassesFor(identifier);
-
-    List<Import> filtered = selectMostUsedPackages(matches);
+  private Import findBestMatch(String identifier, Map<Selector, Integer> usedPackages) {
+    List<Import> filtered = selectMostUsedPackages(importsFor(identifier), usedPackages);
     filtered = selectShortestPaths(filtered);
     if (filtered.size() == 1) {
       return filtered.get(0);
@@ -98,7 +127,8 @@ public class BasicStdlibProvider implements StdlibProvider {
     return selectJavaUtilOrFirstOne(filtered);
   }
 
-  private List<Import> selectMostUsedPackages(Import[] imports) {
+  private List<Import> selectMostUsedPackages(
+      Import[] imports, Map<Selector, Integer> usedPackages) {
     List<Import> candidates = new ArrayList<>();
     int maxUsage = -1;
     for (Import i : imports) {
@@ -122,20 +152,20 @@ public class BasicStdlibProvider implements StdlibProvider {
   // more common imports have a shorter import path.
   private List<Import> selectShortestPaths(List<Import> imports) {
     List<Import> candidates = new ArrayList<>();
-    int currentShortestPath = imports.get(0).pathLength();
+    int currentShortestPath = imports.get(0).selector.size();
     for (Import i : imports) {
-      if (i.pathLength() > currentShortestPath) {
+      if (i.selector.size() > currentShortestPath) {
         continue;
       }
 
-      if (i.pathLength() == currentShortestPath) {
+      if (i.selector.size() == currentShortestPath) {
         candidates.add(i);
         continue;
       }
 
       candidates = new ArrayList<Import>();
       candidates.add(i);
-      currentShortestPath = i.pathLength();
+      currentShortestPath = i.selector.size();
     }
 
     return candidates;
@@ -145,7 +175,7 @@ public class BasicStdlibProvider implements StdlibProvider {
   // and java.awt (and we almost always want the first one).
   private Import selectJavaUtilOrFirstOne(List<Import> imports) {
     for (Import i : imports) {
-      if (i.isInJavaUtil()) {
+      if (i.qualifier().equals(JAVA_UTIL)) {
         return i;
       }
     }
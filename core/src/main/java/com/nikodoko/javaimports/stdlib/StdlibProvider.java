@@ -1,7 +1,7 @@
 package com.nikodoko.javaimports.stdlib;
 
+import com.nikodoko.javaimports.common.Import;
 import com.nikodoko.javaimports.common.ImportProvider;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public interface StdlibProvider extends ImportProvider {
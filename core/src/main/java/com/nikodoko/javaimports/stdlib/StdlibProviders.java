@@ -1,7 +1,7 @@
 package com.nikodoko.javaimports.stdlib;
 
 import com.nikodoko.javaimports.common.Identifier;
-import com.nikodoko.javaimports.parser.Import;
+import com.nikodoko.javaimports.common.Import;
 import com.nikodoko.javaimports.stdlib.internal.api.v8.Java8Stdlib;
 import java.util.Collection;
 import java.util.HashMap;
@@ -23,7 +23,7 @@ public class StdlibProviders {
     }
 
     @Override
-    public Collection<com.nikodoko.javaimports.common.Import> findImports(Identifier i) {
+    public Collection<Import> findImports(Identifier i) {
       return List.of();
     }
   }
@@ -41,7 +41,7 @@ public class GenerateStdlib {
     boolean isStatic;
 
     public void output(PrintWriter out) {
-      out.printf("new Import(\"%s\",\"%s\",%b)", name, pkg, isStatic);
+      out.printf("\"%s%s.%s\"", isStatic ? "static " : "", pkg, name);
     }
   }
 
@@ -73,11 +73,10 @@ public class GenerateStdlib {
       return new String[] {
         "// Code generated by GenerateStdlib.java. DO NOT EDIT.",
         String.format("package com.nikodoko.javaimports.stdlib.internal.api.v%s;", version),
-        "import com.nikodoko.javaimports.parser.Import;",
         "import com.nikodoko.javaimports.stdlib.internal.Stdlib;",
         String.format("public class %s implements Stdlib {", filename()),
-        "public Import[] getClassesFor(String identifier) {",
-        "Import[] classes = null;",
+        "public String[] getClassesFor(String identifier) {",
+        "String[] classes = null;",
       };
     }
 
@@ -127,10 +126,9 @@ public class GenerateStdlib {
         "// Code generated by GenerateStdlib.java. DO NOT EDIT.",
         String.format("package com.nikodoko.javaimports.stdlib.internal.api.v%s;", version),
         "import com.google.common.collect.ImmutableMap;",
-        "import com.nikodoko.javaimports.parser.Import;",
         "import java.util.Map;",
         String.format("public class %s {", filename()),
-        "static final Map<String, Import[]> CLASSES = new ImmutableMap.Builder<String, Import[]>()",
+        "static final Map<String, String[]> CLASSES = new ImmutableMap.Builder<String, String[]>()",
       };
     }
 
@@ -146,7 +144,7 @@ public class GenerateStdlib {
       }
 
       for (Map.Entry<String, List<Importable>> importablesOfName : importables.entrySet()) {
-        out.printf(".put(\"%s\", new Import[] {", importablesOfName.getKey());
+        out.printf(".put(\"%s\", new String[] {", importablesOfName.getKey());
         for (Importable i : importablesOfName.getValue()) {
           i.output(out);
           out.print(",");
@@ -1,7 +1,9 @@
 package com.nikodoko.javaimports.stdlib.internal;
 
-import com.nikodoko.javaimports.parser.Import;
-
 public interface Stdlib {
-  public Import[] getClassesFor(String identifier);
+  /**
+   * Returns the fully qualified names of the classes (or, prefixed with {@code "static "}, of the
+   * static members) that can be imported under {@code identifier}, or null if there is none.
+   */
+  public String[] getClassesFor(String identifier);
 }
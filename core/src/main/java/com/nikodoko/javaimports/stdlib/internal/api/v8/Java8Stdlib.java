@@ -1,12 +1,11 @@
 // Code generated by GenerateStdlib.java. DO NOT EDIT.
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
-import com.nikodoko.javaimports.parser.Import;
 import com.nikodoko.javaimports.stdlib.internal.Stdlib;
 
 public class Java8Stdlib implements Stdlib {
-  public Import[] getClassesFor(String identifier) {
-    Import[] classes = null;
+  public String[] getClassesFor(String identifier) {
+    String[] classes = null;
     classes = Java8StdlibChunk0.CLASSES.get(identifier);
     if (classes != null) {
       return classes;
@@ -2,1595 +2,1570 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk0 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "CipherOutputStream",
-              new Import[] {
-                new Import("CipherOutputStream", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.CipherOutputStream",
               })
           .put(
               "setSecurityManager",
-              new Import[] {
-                new Import("setSecurityManager", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.setSecurityManager",
               })
           .put(
               "CurrencyNameProvider",
-              new Import[] {
-                new Import("CurrencyNameProvider", "java.util.spi", false),
+              new String[] {
+                "java.util.spi.CurrencyNameProvider",
               })
           .put(
               "setStrikeThrough",
-              new Import[] {
-                new Import("setStrikeThrough", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setStrikeThrough",
               })
           .put(
               "ArrayList",
-              new Import[] {
-                new Import("ArrayList", "java.util", false),
+              new String[] {
+                "java.util.ArrayList",
               })
           .put(
               "OTHER_NUMBER",
-              new Import[] {
-                new Import("OTHER_NUMBER", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.OTHER_NUMBER",
               })
           .put(
               "FRANCE",
-              new Import[] {
-                new Import("FRANCE", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.FRANCE",
               })
           .put(
               "deletePrevCharAction",
-              new Import[] {
-                new Import("deletePrevCharAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.deletePrevCharAction",
               })
           .put(
               "LineEvent",
-              new Import[] {
-                new Import("LineEvent", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.LineEvent",
               })
           .put(
               "ThaiBuddhistEra",
-              new Import[] {
-                new Import("ThaiBuddhistEra", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.ThaiBuddhistEra",
               })
           .put(
               "INVALID_ACCESS_ERR",
-              new Import[] {
-                new Import("INVALID_ACCESS_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.INVALID_ACCESS_ERR",
               })
           .put(
               "ParserAdapter",
-              new Import[] {
-                new Import("ParserAdapter", "org.xml.sax.helpers", false),
+              new String[] {
+                "org.xml.sax.helpers.ParserAdapter",
               })
           .put(
               "YEAR",
-              new Import[] {
-                new Import("YEAR", "java.text.DateFormat.Field", true),
-                new Import("YEAR", "java.util.Calendar", true),
+              new String[] {
+                "static java.text.DateFormat.Field.YEAR", "static java.util.Calendar.YEAR",
               })
           .put(
               "isJavaIdentifierPart",
-              new Import[] {
-                new Import("isJavaIdentifierPart", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isJavaIdentifierPart",
               })
           .put(
               "OPEN_TYPE_FIELD",
-              new Import[] {
-                new Import("OPEN_TYPE_FIELD", "javax.management.JMX", true),
+              new String[] {
+                "static javax.management.JMX.OPEN_TYPE_FIELD",
               })
           .put(
               "PrintServiceLookup",
-              new Import[] {
-                new Import("PrintServiceLookup", "javax.print", false),
+              new String[] {
+                "javax.print.PrintServiceLookup",
               })
           .put(
               "NOWRAP",
-              new Import[] {
-                new Import("NOWRAP", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.NOWRAP",
               })
           .put(
               "ResultSet",
-              new Import[] {
-                new Import("ResultSet", "java.sql", false),
+              new String[] {
+                "java.sql.ResultSet",
               })
           .put(
               "StreamCorruptedException",
-              new Import[] {
-                new Import("StreamCorruptedException", "java.io", false),
+              new String[] {
+                "java.io.StreamCorruptedException",
               })
           .put(
               "ACTION_LINK",
-              new Import[] {
-                new Import("ACTION_LINK", "java.awt.dnd.DnDConstants", true),
+              new String[] {
+                "static java.awt.dnd.DnDConstants.ACTION_LINK",
               })
           .put(
               "BasicTableHeaderUI",
-              new Import[] {
-                new Import("BasicTableHeaderUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicTableHeaderUI",
               })
           .put(
               "collectArguments",
-              new Import[] {
-                new Import("collectArguments", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.collectArguments",
               })
           .put(
               "EnumMap",
-              new Import[] {
-                new Import("EnumMap", "java.util", false),
+              new String[] {
+                "java.util.EnumMap",
               })
           .put(
               "OPC_LIFE_OVER",
-              new Import[] {
-                new Import(
-                    "OPC_LIFE_OVER", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.OPC_LIFE_OVER",
               })
           .put(
               "ColorSpaceType",
-              new Import[] {
-                new Import("ColorSpaceType", "java.awt.MultipleGradientPaint", false),
+              new String[] {
+                "java.awt.MultipleGradientPaint.ColorSpaceType",
               })
           .put(
               "ACTION_INSERT_BEFORE",
-              new Import[] {
-                new Import("ACTION_INSERT_BEFORE", "org.w3c.dom.ls.LSParser", true),
+              new String[] {
+                "static org.w3c.dom.ls.LSParser.ACTION_INSERT_BEFORE",
               })
           .put(
               "VERTICAL_CENTER",
-              new Import[] {
-                new Import("VERTICAL_CENTER", "javax.swing.SpringLayout", true),
+              new String[] {
+                "static javax.swing.SpringLayout.VERTICAL_CENTER",
               })
           .put(
               "MediaSizeName",
-              new Import[] {
-                new Import("MediaSizeName", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.MediaSizeName",
               })
           .put(
               "STOP",
-              new Import[] {
-                new Import("STOP", "javax.sound.midi.ShortMessage", true),
-                new Import("STOP", "javax.sound.sampled.LineEvent.Type", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.STOP",
+                "static javax.sound.sampled.LineEvent.Type.STOP",
               })
           .put(
               "POPUP_MENU_SEPARATOR",
-              new Import[] {
-                new Import("POPUP_MENU_SEPARATOR", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.POPUP_MENU_SEPARATOR",
               })
           .put(
               "newProxyInstance",
-              new Import[] {
-                new Import("newProxyInstance", "java.lang.reflect.Proxy", true),
-                new Import(
-                    "newProxyInstance", "javax.management.MBeanServerInvocationHandler", true),
+              new String[] {
+                "static java.lang.reflect.Proxy.newProxyInstance",
+                "static javax.management.MBeanServerInvocationHandler.newProxyInstance",
               })
           .put(
               "TYPE_CMYK",
-              new Import[] {
-                new Import("TYPE_CMYK", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_CMYK",
               })
           .put(
               "tk_boolean",
-              new Import[] {
-                new Import("tk_boolean", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_boolean",
               })
           .put(
               "NegativeArraySizeException",
-              new Import[] {
-                new Import("NegativeArraySizeException", "java.lang", false),
+              new String[] {
+                "java.lang.NegativeArraySizeException",
               })
           .put(
               "ptSegDist",
-              new Import[] {
-                new Import("ptSegDist", "java.awt.geom.Line2D", true),
+              new String[] {
+                "static java.awt.geom.Line2D.ptSegDist",
               })
           .put(
               "Customizer",
-              new Import[] {
-                new Import("Customizer", "java.beans", false),
+              new String[] {
+                "java.beans.Customizer",
               })
           .put(
               "OfDouble",
-              new Import[] {
-                new Import("OfDouble", "java.util.PrimitiveIterator", false),
-                new Import("OfDouble", "java.util.Spliterator", false),
+              new String[] {
+                "java.util.PrimitiveIterator.OfDouble", "java.util.Spliterator.OfDouble",
               })
           .put(
               "TableModel",
-              new Import[] {
-                new Import("TableModel", "javax.swing.table", false),
+              new String[] {
+                "javax.swing.table.TableModel",
               })
           .put(
               "A",
-              new Import[] {
-                new Import("A", "java.awt.PageAttributes.MediaType", true),
-                new Import("A", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("A", "javax.print.attribute.standard.MediaSize.Engineering", true),
-                new Import("A", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.A",
+                "static javax.print.attribute.standard.MediaSizeName.A",
+                "static javax.print.attribute.standard.MediaSize.Engineering.A",
+                "static javax.swing.text.html.HTML.Tag.A",
               })
           .put(
               "TYPE_RGB",
-              new Import[] {
-                new Import("TYPE_RGB", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_RGB",
               })
           .put(
               "B",
-              new Import[] {
-                new Import("B", "java.awt.PageAttributes.MediaType", true),
-                new Import("B", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("B", "javax.print.attribute.standard.MediaSize.Engineering", true),
-                new Import("B", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.B",
+                "static javax.print.attribute.standard.MediaSizeName.B",
+                "static javax.print.attribute.standard.MediaSize.Engineering.B",
+                "static javax.swing.text.html.HTML.Tag.B",
               })
           .put(
               "IconElementName",
-              new Import[] {
-                new Import("IconElementName", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.IconElementName",
               })
           .put(
               "C",
-              new Import[] {
-                new Import("C", "java.awt.PageAttributes.MediaType", true),
-                new Import("C", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("C", "javax.print.attribute.standard.MediaSize.Engineering", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.C",
+                "static javax.print.attribute.standard.MediaSizeName.C",
+                "static javax.print.attribute.standard.MediaSize.Engineering.C",
               })
           .put(
               "D",
-              new Import[] {
-                new Import("D", "java.awt.PageAttributes.MediaType", true),
-                new Import("D", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("D", "javax.print.attribute.standard.MediaSize.Engineering", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.D",
+                "static javax.print.attribute.standard.MediaSizeName.D",
+                "static javax.print.attribute.standard.MediaSize.Engineering.D",
               })
           .put(
               "E",
-              new Import[] {
-                new Import("E", "java.awt.PageAttributes.MediaType", true),
-                new Import("E", "java.lang.Math", true),
-                new Import("E", "java.lang.StrictMath", true),
-                new Import("E", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("E", "javax.print.attribute.standard.MediaSize.Engineering", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.E",
+                "static java.lang.Math.E",
+                "static java.lang.StrictMath.E",
+                "static javax.print.attribute.standard.MediaSizeName.E",
+                "static javax.print.attribute.standard.MediaSize.Engineering.E",
               })
           .put(
               "LABELED_BY_PROPERTY",
-              new Import[] {
-                new Import("LABELED_BY_PROPERTY", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.LABELED_BY_PROPERTY",
               })
           .put(
               "TextHitInfo",
-              new Import[] {
-                new Import("TextHitInfo", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.TextHitInfo",
               })
           .put(
               "TC_MAX",
-              new Import[] {
-                new Import("TC_MAX", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_MAX",
               })
           .put(
               "PROMPT",
-              new Import[] {
-                new Import("PROMPT", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.PROMPT",
               })
           .put(
               "I",
-              new Import[] {
-                new Import("I", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.I",
               })
           .put(
               "MultiViewportUI",
-              new Import[] {
-                new Import("MultiViewportUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiViewportUI",
               })
           .put(
               "JAXBContext",
-              new Import[] {
-                new Import("JAXBContext", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.JAXBContext",
               })
           .put(
               "WebServiceRefs",
-              new Import[] {
-                new Import("WebServiceRefs", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.WebServiceRefs",
               })
           .put(
               "WINDOW_GAINED_FOCUS",
-              new Import[] {
-                new Import("WINDOW_GAINED_FOCUS", "java.awt.event.WindowEvent", true),
+              new String[] {
+                "static java.awt.event.WindowEvent.WINDOW_GAINED_FOCUS",
               })
           .put(
               "Font",
-              new Import[] {
-                new Import("Font", "java.awt", false),
+              new String[] {
+                "java.awt.Font",
               })
           .put(
               "N",
-              new Import[] {
-                new Import("N", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.N",
               })
           .put(
               "RowSetInternal",
-              new Import[] {
-                new Import("RowSetInternal", "javax.sql", false),
+              new String[] {
+                "javax.sql.RowSetInternal",
               })
           .put(
               "P",
-              new Import[] {
-                new Import("P", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.P",
               })
           .put(
               "summarizingLong",
-              new Import[] {
-                new Import("summarizingLong", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.summarizingLong",
               })
           .put(
               "USER_EXCEPTION",
-              new Import[] {
-                new Import("USER_EXCEPTION", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.USER_EXCEPTION",
               })
           .put(
               "S",
-              new Import[] {
-                new Import("S", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.S",
               })
           .put(
               "readUTF",
-              new Import[] {
-                new Import("readUTF", "java.io.DataInputStream", true),
+              new String[] {
+                "static java.io.DataInputStream.readUTF",
               })
           .put(
               "U",
-              new Import[] {
-                new Import("U", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.U",
               })
           .put(
               "CannotProceedException",
-              new Import[] {
-                new Import("CannotProceedException", "javax.naming", false),
+              new String[] {
+                "javax.naming.CannotProceedException",
               })
           .put(
               "InvalidParameterSpecException",
-              new Import[] {
-                new Import("InvalidParameterSpecException", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.InvalidParameterSpecException",
               })
           .put(
               "MATHEMATICAL_OPERATORS",
-              new Import[] {
-                new Import("MATHEMATICAL_OPERATORS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MATHEMATICAL_OPERATORS",
               })
           .put(
               "Rdn",
-              new Import[] {
-                new Import("Rdn", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.Rdn",
               })
           .put(
               "connect",
-              new Import[] {
-                new Import("connect", "javax.management.remote.JMXConnectorFactory", true),
-                new Import("connect", "javax.rmi.PortableRemoteObject", true),
+              new String[] {
+                "static javax.management.remote.JMXConnectorFactory.connect",
+                "static javax.rmi.PortableRemoteObject.connect",
               })
           .put(
               "COMM_FAILURE",
-              new Import[] {
-                new Import("COMM_FAILURE", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.COMM_FAILURE",
               })
           .put(
               "HashDocAttributeSet",
-              new Import[] {
-                new Import("HashDocAttributeSet", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.HashDocAttributeSet",
               })
           .put(
               "SUPPORTED",
-              new Import[] {
-                new Import("SUPPORTED", "javax.print.attribute.standard.ColorSupported", true),
+              new String[] {
+                "static javax.print.attribute.standard.ColorSupported.SUPPORTED",
               })
           .put(
               "SAAJResult",
-              new Import[] {
-                new Import("SAAJResult", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SAAJResult",
               })
           .put(
               "Acl",
-              new Import[] {
-                new Import("Acl", "java.security.acl", false),
+              new String[] {
+                "java.security.acl.Acl",
               })
           .put(
               "POSITIVE_SCROLL",
-              new Import[] {
-                new Import("POSITIVE_SCROLL", "javax.swing.plaf.basic.BasicSliderUI", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicSliderUI.POSITIVE_SCROLL",
               })
           .put(
               "IllegalAccessError",
-              new Import[] {
-                new Import("IllegalAccessError", "java.lang", false),
+              new String[] {
+                "java.lang.IllegalAccessError",
               })
           .put(
               "importedKeyRestrict",
-              new Import[] {
-                new Import("importedKeyRestrict", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.importedKeyRestrict",
               })
           .put(
               "NoninvertibleTransformException",
-              new Import[] {
-                new Import("NoninvertibleTransformException", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.NoninvertibleTransformException",
               })
           .put(
               "Ref",
-              new Import[] {
-                new Import("Ref", "java.sql", false),
+              new String[] {
+                "java.sql.Ref",
               })
           .put(
               "PERMILLE",
-              new Import[] {
-                new Import("PERMILLE", "java.text.NumberFormat.Field", true),
+              new String[] {
+                "static java.text.NumberFormat.Field.PERMILLE",
               })
           .put(
               "OPTION_TYPE_PROPERTY",
-              new Import[] {
-                new Import("OPTION_TYPE_PROPERTY", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.OPTION_TYPE_PROPERTY",
               })
           .put(
               "ListModel",
-              new Import[] {
-                new Import("ListModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.ListModel",
               })
           .put(
               "WSDL_DESCRIPTION",
-              new Import[] {
-                new Import("WSDL_DESCRIPTION", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.handler.MessageContext.WSDL_DESCRIPTION",
               })
           .put(
               "NUM_COLORS",
-              new Import[] {
-                new Import("NUM_COLORS", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.NUM_COLORS",
               })
           .put(
               "unmodifiableSortedSet",
-              new Import[] {
-                new Import("unmodifiableSortedSet", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.unmodifiableSortedSet",
               })
           .put(
               "setBoolean",
-              new Import[] {
-                new Import("setBoolean", "java.lang.reflect.Array", true),
+              new String[] {
+                "static java.lang.reflect.Array.setBoolean",
               })
           .put(
               "getLineSpacing",
-              new Import[] {
-                new Import("getLineSpacing", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.getLineSpacing",
               })
           .put(
               "emptyIterator",
-              new Import[] {
-                new Import("emptyIterator", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.emptyIterator",
               })
           .put(
               "MonitorInfo",
-              new Import[] {
-                new Import("MonitorInfo", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.MonitorInfo",
               })
           .put(
               "Attributes2Impl",
-              new Import[] {
-                new Import("Attributes2Impl", "org.xml.sax.ext", false),
+              new String[] {
+                "org.xml.sax.ext.Attributes2Impl",
               })
           .put(
               "FOCUS_EVENT_MASK",
-              new Import[] {
-                new Import("FOCUS_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.FOCUS_EVENT_MASK",
               })
           .put(
               "SCALE_AREA_AVERAGING",
-              new Import[] {
-                new Import("SCALE_AREA_AVERAGING", "java.awt.Image", true),
+              new String[] {
+                "static java.awt.Image.SCALE_AREA_AVERAGING",
               })
           .put(
               "AnnotatedConstruct",
-              new Import[] {
-                new Import("AnnotatedConstruct", "javax.lang.model", false),
+              new String[] {
+                "javax.lang.model.AnnotatedConstruct",
               })
           .put(
               "ElementEdit",
-              new Import[] {
-                new Import("ElementEdit", "javax.swing.text.AbstractDocument", false),
+              new String[] {
+                "javax.swing.text.AbstractDocument.ElementEdit",
               })
           .put(
               "DOCUMENT_POSITION_PRECEDING",
-              new Import[] {
-                new Import("DOCUMENT_POSITION_PRECEDING", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.DOCUMENT_POSITION_PRECEDING",
               })
           .put(
               "empty",
-              new Import[] {
-                new Import("empty", "java.util.Optional", true),
-                new Import("empty", "java.util.OptionalDouble", true),
-                new Import("empty", "java.util.OptionalInt", true),
-                new Import("empty", "java.util.OptionalLong", true),
-                new Import("empty", "java.util.stream.DoubleStream", true),
-                new Import("empty", "java.util.stream.IntStream", true),
-                new Import("empty", "java.util.stream.LongStream", true),
-                new Import("empty", "java.util.stream.Stream", true),
+              new String[] {
+                "static java.util.Optional.empty",
+                "static java.util.OptionalDouble.empty",
+                "static java.util.OptionalInt.empty",
+                "static java.util.OptionalLong.empty",
+                "static java.util.stream.DoubleStream.empty",
+                "static java.util.stream.IntStream.empty",
+                "static java.util.stream.LongStream.empty",
+                "static java.util.stream.Stream.empty",
               })
           .put(
               "HandshakeCompletedEvent",
-              new Import[] {
-                new Import("HandshakeCompletedEvent", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.HandshakeCompletedEvent",
               })
           .put(
               "TRANSLUCENT",
-              new Import[] {
-                new Import("TRANSLUCENT", "java.awt.Transparency", true),
+              new String[] {
+                "static java.awt.Transparency.TRANSLUCENT",
               })
           .put(
               "FileSystem",
-              new Import[] {
-                new Import("FileSystem", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.FileSystem",
               })
           .put(
               "AllPermission",
-              new Import[] {
-                new Import("AllPermission", "java.security", false),
+              new String[] {
+                "java.security.AllPermission",
               })
           .put(
               "SINGLE_DOCUMENT",
-              new Import[] {
-                new Import(
-                    "SINGLE_DOCUMENT",
-                    "javax.print.attribute.standard.MultipleDocumentHandling",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.MultipleDocumentHandling.SINGLE_DOCUMENT",
               })
           .put(
               "MetalCheckBoxIcon",
-              new Import[] {
-                new Import("MetalCheckBoxIcon", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalCheckBoxIcon",
               })
           .put(
               "SSLSocketFactory",
-              new Import[] {
-                new Import("SSLSocketFactory", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLSocketFactory",
               })
           .put(
               "ImplicitActivationPolicyOperations",
-              new Import[] {
-                new Import("ImplicitActivationPolicyOperations", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ImplicitActivationPolicyOperations",
               })
           .put(
               "DynAnySeqHelper",
-              new Import[] {
-                new Import("DynAnySeqHelper", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynAnySeqHelper",
               })
           .put(
               "STRICT",
-              new Import[] {
-                new Import("STRICT", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.STRICT",
               })
           .put(
               "SyncFactoryException",
-              new Import[] {
-                new Import("SyncFactoryException", "javax.sql.rowset.spi", false),
+              new String[] {
+                "javax.sql.rowset.spi.SyncFactoryException",
               })
           .put(
               "CLASS_DISPLAY",
-              new Import[] {
-                new Import("CLASS_DISPLAY", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.CLASS_DISPLAY",
               })
           .put(
               "TOGGLE_CLICK_COUNT_PROPERTY",
-              new Import[] {
-                new Import("TOGGLE_CLICK_COUNT_PROPERTY", "javax.swing.JTree", true),
+              new String[] {
+                "static javax.swing.JTree.TOGGLE_CLICK_COUNT_PROPERTY",
               })
           .put(
               "getRadioButtonMenuItemIcon",
-              new Import[] {
-                new Import(
-                    "getRadioButtonMenuItemIcon", "javax.swing.plaf.basic.BasicIconFactory", true),
-                new Import(
-                    "getRadioButtonMenuItemIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicIconFactory.getRadioButtonMenuItemIcon",
+                "static javax.swing.plaf.metal.MetalIconFactory.getRadioButtonMenuItemIcon",
               })
           .put(
               "SimpleEntry",
-              new Import[] {
-                new Import("SimpleEntry", "java.util.AbstractMap", false),
+              new String[] {
+                "java.util.AbstractMap.SimpleEntry",
               })
           .put(
               "ACCESSIBLE_NAME_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_NAME_PROPERTY", "javax.accessibility.AccessibleContext", true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_NAME_PROPERTY",
               })
           .put(
               "HTTP",
-              new Import[] {
-                new Import(
-                    "HTTP", "javax.print.attribute.standard.ReferenceUriSchemesSupported", true),
+              new String[] {
+                "static javax.print.attribute.standard.ReferenceUriSchemesSupported.HTTP",
               })
           .put(
               "UPPERCASE_LETTER",
-              new Import[] {
-                new Import("UPPERCASE_LETTER", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.UPPERCASE_LETTER",
               })
           .put(
               "BACKGROUND_COLOR",
-              new Import[] {
-                new Import("BACKGROUND_COLOR", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BACKGROUND_COLOR",
               })
           .put(
               "RescaleOp",
-              new Import[] {
-                new Import("RescaleOp", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.RescaleOp",
               })
           .put(
               "getChar",
-              new Import[] {
-                new Import("getChar", "java.lang.reflect.Array", true),
+              new String[] {
+                "static java.lang.reflect.Array.getChar",
               })
           .put(
               "MouseInfo",
-              new Import[] {
-                new Import("MouseInfo", "java.awt", false),
+              new String[] {
+                "java.awt.MouseInfo",
               })
           .put(
               "ENDTOT",
-              new Import[] {
-                new Import("ENDTOT", "java.util.jar.JarEntry", true),
-                new Import("ENDTOT", "java.util.jar.JarFile", true),
-                new Import("ENDTOT", "java.util.jar.JarInputStream", true),
-                new Import("ENDTOT", "java.util.jar.JarOutputStream", true),
-                new Import("ENDTOT", "java.util.zip.ZipEntry", true),
-                new Import("ENDTOT", "java.util.zip.ZipFile", true),
-                new Import("ENDTOT", "java.util.zip.ZipInputStream", true),
-                new Import("ENDTOT", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.ENDTOT",
+                "static java.util.jar.JarFile.ENDTOT",
+                "static java.util.jar.JarInputStream.ENDTOT",
+                "static java.util.jar.JarOutputStream.ENDTOT",
+                "static java.util.zip.ZipEntry.ENDTOT",
+                "static java.util.zip.ZipFile.ENDTOT",
+                "static java.util.zip.ZipInputStream.ENDTOT",
+                "static java.util.zip.ZipOutputStream.ENDTOT",
               })
           .put(
               "setDefaultLocale",
-              new Import[] {
-                new Import("setDefaultLocale", "javax.swing.JComponent", true),
+              new String[] {
+                "static javax.swing.JComponent.setDefaultLocale",
               })
           .put(
               "NOTATION",
-              new Import[] {
-                new Import("NOTATION", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.NOTATION",
               })
           .put(
               "icSigGrayTRCTag",
-              new Import[] {
-                new Import("icSigGrayTRCTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigGrayTRCTag",
               })
           .put(
               "reverseBytes",
-              new Import[] {
-                new Import("reverseBytes", "java.lang.Character", true),
-                new Import("reverseBytes", "java.lang.Integer", true),
-                new Import("reverseBytes", "java.lang.Long", true),
-                new Import("reverseBytes", "java.lang.Short", true),
+              new String[] {
+                "static java.lang.Character.reverseBytes",
+                "static java.lang.Integer.reverseBytes",
+                "static java.lang.Long.reverseBytes",
+                "static java.lang.Short.reverseBytes",
               })
           .put(
               "ROW_HEIGHT_PROPERTY",
-              new Import[] {
-                new Import("ROW_HEIGHT_PROPERTY", "javax.swing.JTree", true),
+              new String[] {
+                "static javax.swing.JTree.ROW_HEIGHT_PROPERTY",
               })
           .put(
               "RowId",
-              new Import[] {
-                new Import("RowId", "java.sql", false),
+              new String[] {
+                "java.sql.RowId",
               })
           .put(
               "Form",
-              new Import[] {
-                new Import("Form", "java.text.Normalizer", false),
+              new String[] {
+                "java.text.Normalizer.Form",
               })
           .put(
               "ObjectView",
-              new Import[] {
-                new Import("ObjectView", "javax.swing.text.html", false),
+              new String[] {
+                "javax.swing.text.html.ObjectView",
               })
           .put(
               "AdapterNonExistentHelper",
-              new Import[] {
-                new Import("AdapterNonExistentHelper", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.AdapterNonExistentHelper",
               })
           .put(
               "LineNumberReader",
-              new Import[] {
-                new Import("LineNumberReader", "java.io", false),
+              new String[] {
+                "java.io.LineNumberReader",
               })
           .put(
               "ObjectReferenceTemplateSeqHelper",
-              new Import[] {
-                new Import(
-                    "ObjectReferenceTemplateSeqHelper", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper",
               })
           .put(
               "MidiFileFormat",
-              new Import[] {
-                new Import("MidiFileFormat", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.MidiFileFormat",
               })
           .put(
               "WebFault",
-              new Import[] {
-                new Import("WebFault", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.WebFault",
               })
           .put(
               "setAttribute",
-              new Import[] {
-                new Import("setAttribute", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.setAttribute",
               })
           .put(
               "MutableAttributeSet",
-              new Import[] {
-                new Import("MutableAttributeSet", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.MutableAttributeSet",
               })
           .put(
               "WebServicePermission",
-              new Import[] {
-                new Import("WebServicePermission", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.WebServicePermission",
               })
           .put(
               "ORBInitInfoOperations",
-              new Import[] {
-                new Import("ORBInitInfoOperations", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ORBInitInfoOperations",
               })
           .put(
               "provider",
-              new Import[] {
-                new Import("provider", "java.nio.channels.spi.AsynchronousChannelProvider", true),
-                new Import("provider", "java.nio.channels.spi.SelectorProvider", true),
-                new Import("provider", "javax.xml.ws.spi.Provider", true),
+              new String[] {
+                "static java.nio.channels.spi.AsynchronousChannelProvider.provider",
+                "static java.nio.channels.spi.SelectorProvider.provider",
+                "static javax.xml.ws.spi.Provider.provider",
               })
           .put(
               "SINGLE_THREAD_MODEL",
-              new Import[] {
-                new Import("SINGLE_THREAD_MODEL", "org.omg.PortableServer.ThreadPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.ThreadPolicyValue.SINGLE_THREAD_MODEL",
               })
           .put(
               "PROGRESS",
-              new Import[] {
-                new Import("PROGRESS", "java.util.jar.Pack200.Packer", true),
-                new Import("PROGRESS", "java.util.jar.Pack200.Unpacker", true),
+              new String[] {
+                "static java.util.jar.Pack200.Packer.PROGRESS",
+                "static java.util.jar.Pack200.Unpacker.PROGRESS",
               })
           .put(
               "KeyboardFocusManager",
-              new Import[] {
-                new Import("KeyboardFocusManager", "java.awt", false),
+              new String[] {
+                "java.awt.KeyboardFocusManager",
               })
           .put(
               "MEMORY_COLLECTION_THRESHOLD_EXCEEDED",
-              new Import[] {
-                new Import(
-                    "MEMORY_COLLECTION_THRESHOLD_EXCEEDED",
-                    "java.lang.management.MemoryNotificationInfo",
-                    true),
+              new String[] {
+                "static"
+                    + " java.lang.management.MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED",
               })
           .put(
               "IllegalFormatFlagsException",
-              new Import[] {
-                new Import("IllegalFormatFlagsException", "java.util", false),
+              new String[] {
+                "java.util.IllegalFormatFlagsException",
               })
           .put(
               "CONTENTS_CHANGED",
-              new Import[] {
-                new Import("CONTENTS_CHANGED", "javax.swing.event.ListDataEvent", true),
+              new String[] {
+                "static javax.swing.event.ListDataEvent.CONTENTS_CHANGED",
               })
           .put(
               "COLOR_CHOOSER",
-              new Import[] {
-                new Import("COLOR_CHOOSER", "javax.accessibility.AccessibleRole", true),
-                new Import("COLOR_CHOOSER", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.COLOR_CHOOSER",
+                "static javax.swing.plaf.synth.Region.COLOR_CHOOSER",
               })
           .put(
               "FILENAME",
-              new Import[] {
-                new Import("FILENAME", "javax.script.ScriptEngine", true),
+              new String[] {
+                "static javax.script.ScriptEngine.FILENAME",
               })
           .put(
               "FactoryConfigurationError",
-              new Import[] {
-                new Import("FactoryConfigurationError", "javax.xml.parsers", false),
-                new Import("FactoryConfigurationError", "javax.xml.stream", false),
+              new String[] {
+                "javax.xml.parsers.FactoryConfigurationError",
+                "javax.xml.stream.FactoryConfigurationError",
               })
           .put(
               "CodeSigner",
-              new Import[] {
-                new Import("CodeSigner", "java.security", false),
+              new String[] {
+                "java.security.CodeSigner",
               })
           .put(
               "ICON_COLOR_16x16",
-              new Import[] {
-                new Import("ICON_COLOR_16x16", "java.beans.BeanInfo", true),
+              new String[] {
+                "static java.beans.BeanInfo.ICON_COLOR_16x16",
               })
           .put(
               "icSigBlueMatrixColumnTag",
-              new Import[] {
-                new Import("icSigBlueMatrixColumnTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigBlueMatrixColumnTag",
               })
           .put(
               "BIG",
-              new Import[] {
-                new Import("BIG", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.BIG",
               })
           .put(
               "JComboBox",
-              new Import[] {
-                new Import("JComboBox", "javax.swing", false),
+              new String[] {
+                "javax.swing.JComboBox",
               })
           .put(
               "KEY_TYPED",
-              new Import[] {
-                new Import("KEY_TYPED", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.KEY_TYPED",
               })
           .put(
               "Raster",
-              new Import[] {
-                new Import("Raster", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.Raster",
               })
           .put(
               "methodModifiers",
-              new Import[] {
-                new Import("methodModifiers", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.methodModifiers",
               })
           .put(
               "MEROITIC_HIEROGLYPHS",
-              new Import[] {
-                new Import("MEROITIC_HIEROGLYPHS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MEROITIC_HIEROGLYPHS",
               })
           .put(
               "BIT",
-              new Import[] {
-                new Import("BIT", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.BIT",
               })
           .put(
               "ENDCOM",
-              new Import[] {
-                new Import("ENDCOM", "java.util.jar.JarEntry", true),
-                new Import("ENDCOM", "java.util.jar.JarFile", true),
-                new Import("ENDCOM", "java.util.jar.JarInputStream", true),
-                new Import("ENDCOM", "java.util.jar.JarOutputStream", true),
-                new Import("ENDCOM", "java.util.zip.ZipEntry", true),
-                new Import("ENDCOM", "java.util.zip.ZipFile", true),
-                new Import("ENDCOM", "java.util.zip.ZipInputStream", true),
-                new Import("ENDCOM", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.ENDCOM",
+                "static java.util.jar.JarFile.ENDCOM",
+                "static java.util.jar.JarInputStream.ENDCOM",
+                "static java.util.jar.JarOutputStream.ENDCOM",
+                "static java.util.zip.ZipEntry.ENDCOM",
+                "static java.util.zip.ZipFile.ENDCOM",
+                "static java.util.zip.ZipInputStream.ENDCOM",
+                "static java.util.zip.ZipOutputStream.ENDCOM",
               })
           .put(
               "OAEPParameterSpec",
-              new Import[] {
-                new Import("OAEPParameterSpec", "javax.crypto.spec", false),
+              new String[] {
+                "javax.crypto.spec.OAEPParameterSpec",
               })
           .put(
               "ObjectName",
-              new Import[] {
-                new Import("ObjectName", "javax.management", false),
+              new String[] {
+                "javax.management.ObjectName",
               })
           .put(
               "MutableTreeNode",
-              new Import[] {
-                new Import("MutableTreeNode", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.MutableTreeNode",
               })
           .put(
               "NOT_FOUND_ERR",
-              new Import[] {
-                new Import("NOT_FOUND_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.NOT_FOUND_ERR",
               })
           .put(
               "localTime",
-              new Import[] {
-                new Import("localTime", "java.time.temporal.TemporalQueries", true),
+              new String[] {
+                "static java.time.temporal.TemporalQueries.localTime",
               })
           .put(
               "SQLClientInfoException",
-              new Import[] {
-                new Import("SQLClientInfoException", "java.sql", false),
+              new String[] {
+                "java.sql.SQLClientInfoException",
               })
           .put(
               "SQLTransientConnectionException",
-              new Import[] {
-                new Import("SQLTransientConnectionException", "java.sql", false),
+              new String[] {
+                "java.sql.SQLTransientConnectionException",
               })
           .put(
               "ACTION",
-              new Import[] {
-                new Import("ACTION", "javax.management.MBeanOperationInfo", true),
-                new Import("ACTION", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.management.MBeanOperationInfo.ACTION",
+                "static javax.swing.text.html.HTML.Attribute.ACTION",
               })
           .put(
               "IOError",
-              new Import[] {
-                new Import("IOError", "java.io", false),
+              new String[] {
+                "java.io.IOError",
               })
           .put(
               "selectionPreviousWordAction",
-              new Import[] {
-                new Import(
-                    "selectionPreviousWordAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectionPreviousWordAction",
               })
           .put(
               "NOTE_ON",
-              new Import[] {
-                new Import("NOTE_ON", "javax.sound.midi.ShortMessage", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.NOTE_ON",
               })
           .put(
               "guardWithTest",
-              new Import[] {
-                new Import("guardWithTest", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.guardWithTest",
               })
           .put(
               "AlreadyBound",
-              new Import[] {
-                new Import("AlreadyBound", "org.omg.CosNaming.NamingContextPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.AlreadyBound",
               })
           .put(
               "RENDERABLE_IMAGE",
-              new Import[] {
-                new Import("RENDERABLE_IMAGE", "javax.print.DocFlavor.SERVICE_FORMATTED", true),
+              new String[] {
+                "static javax.print.DocFlavor.SERVICE_FORMATTED.RENDERABLE_IMAGE",
               })
           .put(
               "icPerceptual",
-              new Import[] {
-                new Import("icPerceptual", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icPerceptual",
               })
           .put(
               "ARG_INOUT",
-              new Import[] {
-                new Import("ARG_INOUT", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ARG_INOUT",
               })
           .put(
               "TC_REFERENCE",
-              new Import[] {
-                new Import("TC_REFERENCE", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_REFERENCE",
               })
           .put(
               "procedureNullableUnknown",
-              new Import[] {
-                new Import("procedureNullableUnknown", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.procedureNullableUnknown",
               })
           .put(
               "VERTICAL_SPLIT",
-              new Import[] {
-                new Import("VERTICAL_SPLIT", "javax.swing.JSplitPane", true),
+              new String[] {
+                "static javax.swing.JSplitPane.VERTICAL_SPLIT",
               })
           .put(
               "ACTION_FIRST",
-              new Import[] {
-                new Import("ACTION_FIRST", "java.awt.event.ActionEvent", true),
+              new String[] {
+                "static java.awt.event.ActionEvent.ACTION_FIRST",
               })
           .put(
               "OctetSeqHolder",
-              new Import[] {
-                new Import("OctetSeqHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.OctetSeqHolder",
               })
           .put(
               "LEGAL_VALUES_FIELD",
-              new Import[] {
-                new Import("LEGAL_VALUES_FIELD", "javax.management.JMX", true),
+              new String[] {
+                "static javax.management.JMX.LEGAL_VALUES_FIELD",
               })
           .put(
               "AUTOSENSE",
-              new Import[] {
-                new Import("AUTOSENSE", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("AUTOSENSE", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("AUTOSENSE", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.AUTOSENSE",
+                "static javax.print.DocFlavor.INPUT_STREAM.AUTOSENSE",
+                "static javax.print.DocFlavor.URL.AUTOSENSE",
               })
           .put(
               "getAncestorNamed",
-              new Import[] {
-                new Import("getAncestorNamed", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.getAncestorNamed",
               })
           .put(
               "PAUSED",
-              new Import[] {
-                new Import("PAUSED", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.PAUSED",
               })
           .put(
               "MultipleGradientPaint",
-              new Import[] {
-                new Import("MultipleGradientPaint", "java.awt", false),
+              new String[] {
+                "java.awt.MultipleGradientPaint",
               })
           .put(
               "javaJVMLocalObjectMimeType",
-              new Import[] {
-                new Import("javaJVMLocalObjectMimeType", "java.awt.datatransfer.DataFlavor", true),
+              new String[] {
+                "static java.awt.datatransfer.DataFlavor.javaJVMLocalObjectMimeType",
               })
           .put(
               "TypeVariable",
-              new Import[] {
-                new Import("TypeVariable", "java.lang.reflect", false),
-                new Import("TypeVariable", "javax.lang.model.type", false),
+              new String[] {
+                "java.lang.reflect.TypeVariable", "javax.lang.model.type.TypeVariable",
               })
           .put(
               "KeyTab",
-              new Import[] {
-                new Import("KeyTab", "javax.security.auth.kerberos", false),
+              new String[] {
+                "javax.security.auth.kerberos.KeyTab",
               })
           .put(
               "GYEAR",
-              new Import[] {
-                new Import("GYEAR", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.GYEAR",
               })
           .put(
               "SortingFocusTraversalPolicy",
-              new Import[] {
-                new Import("SortingFocusTraversalPolicy", "javax.swing", false),
+              new String[] {
+                "javax.swing.SortingFocusTraversalPolicy",
               })
           .put(
               "NCLOB",
-              new Import[] {
-                new Import("NCLOB", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.NCLOB",
               })
           .put(
               "constructorsIn",
-              new Import[] {
-                new Import("constructorsIn", "javax.lang.model.util.ElementFilter", true),
+              new String[] {
+                "static javax.lang.model.util.ElementFilter.constructorsIn",
               })
           .put(
               "W3C_XML_SCHEMA_INSTANCE_NS_URI",
-              new Import[] {
-                new Import("W3C_XML_SCHEMA_INSTANCE_NS_URI", "javax.xml.XMLConstants", true),
+              new String[] {
+                "static javax.xml.XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI",
               })
           .put(
               "ComponentInputMap",
-              new Import[] {
-                new Import("ComponentInputMap", "javax.swing", false),
+              new String[] {
+                "javax.swing.ComponentInputMap",
               })
           .put(
               "IllegalFormatCodePointException",
-              new Import[] {
-                new Import("IllegalFormatCodePointException", "java.util", false),
+              new String[] {
+                "java.util.IllegalFormatCodePointException",
               })
           .put(
               "ANCIENT_SYMBOLS",
-              new Import[] {
-                new Import("ANCIENT_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ANCIENT_SYMBOLS",
               })
           .put(
               "DatatypeConfigurationException",
-              new Import[] {
-                new Import("DatatypeConfigurationException", "javax.xml.datatype", false),
+              new String[] {
+                "javax.xml.datatype.DatatypeConfigurationException",
               })
           .put(
               "VK_SPACE",
-              new Import[] {
-                new Import("VK_SPACE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_SPACE",
               })
           .put(
               "LockInfo",
-              new Import[] {
-                new Import("LockInfo", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.LockInfo",
               })
           .put(
               "hash",
-              new Import[] {
-                new Import("hash", "java.util.Objects", true),
+              new String[] {
+                "static java.util.Objects.hash",
               })
           .put(
               "MOVE_CURSOR",
-              new Import[] {
-                new Import("MOVE_CURSOR", "java.awt.Cursor", true),
-                new Import("MOVE_CURSOR", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Cursor.MOVE_CURSOR", "static java.awt.Frame.MOVE_CURSOR",
               })
           .put(
               "ZipError",
-              new Import[] {
-                new Import("ZipError", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.ZipError",
               })
           .put(
               "pink",
-              new Import[] {
-                new Import("pink", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.pink",
               })
           .put(
               "icHdrManufacturer",
-              new Import[] {
-                new Import("icHdrManufacturer", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrManufacturer",
               })
           .put(
               "HyperlinkEvent",
-              new Import[] {
-                new Import("HyperlinkEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.HyperlinkEvent",
               })
           .put(
               "LOW_SURROGATES",
-              new Import[] {
-                new Import("LOW_SURROGATES", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.LOW_SURROGATES",
               })
           .put(
               "dk_Operation",
-              new Import[] {
-                new Import("dk_Operation", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Operation",
               })
           .put(
               "SND",
-              new Import[] {
-                new Import("SND", "javax.sound.sampled.AudioFileFormat.Type", true),
+              new String[] {
+                "static javax.sound.sampled.AudioFileFormat.Type.SND",
               })
           .put(
               "MAXIMIZED_HORIZ",
-              new Import[] {
-                new Import("MAXIMIZED_HORIZ", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Frame.MAXIMIZED_HORIZ",
               })
           .put(
               "TemplatesHandler",
-              new Import[] {
-                new Import("TemplatesHandler", "javax.xml.transform.sax", false),
+              new String[] {
+                "javax.xml.transform.sax.TemplatesHandler",
               })
           .put(
               "SetOverrideType",
-              new Import[] {
-                new Import("SetOverrideType", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.SetOverrideType",
               })
           .put(
               "instantiate",
-              new Import[] {
-                new Import("instantiate", "java.beans.Beans", true),
+              new String[] {
+                "static java.beans.Beans.instantiate",
               })
           .put(
               "ImageTypeSpecifier",
-              new Import[] {
-                new Import("ImageTypeSpecifier", "javax.imageio", false),
+              new String[] {
+                "javax.imageio.ImageTypeSpecifier",
               })
           .put(
               "DATASOURCE_ROW_LOCK",
-              new Import[] {
-                new Import("DATASOURCE_ROW_LOCK", "javax.sql.rowset.spi.SyncProvider", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncProvider.DATASOURCE_ROW_LOCK",
               })
           .put(
               "CompletableFuture",
-              new Import[] {
-                new Import("CompletableFuture", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.CompletableFuture",
               })
           .put(
               "BEFORE_FIRST_LINE",
-              new Import[] {
-                new Import("BEFORE_FIRST_LINE", "java.awt.BorderLayout", true),
+              new String[] {
+                "static java.awt.BorderLayout.BEFORE_FIRST_LINE",
               })
           .put(
               "getWindowBackground",
-              new Import[] {
-                new Import("getWindowBackground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getWindowBackground",
               })
           .put(
               "STAPLE_BOTTOM_RIGHT",
-              new Import[] {
-                new Import(
-                    "STAPLE_BOTTOM_RIGHT", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.STAPLE_BOTTOM_RIGHT",
               })
           .put(
               "ARGUMENT",
-              new Import[] {
-                new Import("ARGUMENT", "java.text.MessageFormat.Field", true),
+              new String[] {
+                "static java.text.MessageFormat.Field.ARGUMENT",
               })
           .put(
               "VK_DEAD_DIAERESIS",
-              new Import[] {
-                new Import("VK_DEAD_DIAERESIS", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DEAD_DIAERESIS",
               })
           .put(
               "InvalidRelationIdException",
-              new Import[] {
-                new Import("InvalidRelationIdException", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.InvalidRelationIdException",
               })
           .put(
               "_missing_node",
-              new Import[] {
-                new Import(
-                    "_missing_node", "org.omg.CosNaming.NamingContextPackage.NotFoundReason", true),
+              new String[] {
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundReason._missing_node",
               })
           .put(
               "ServantAlreadyActive",
-              new Import[] {
-                new Import("ServantAlreadyActive", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.ServantAlreadyActive",
               })
           .put(
               "lookupPrintServices",
-              new Import[] {
-                new Import("lookupPrintServices", "java.awt.print.PrinterJob", true),
-                new Import("lookupPrintServices", "javax.print.PrintServiceLookup", true),
+              new String[] {
+                "static java.awt.print.PrinterJob.lookupPrintServices",
+                "static javax.print.PrintServiceLookup.lookupPrintServices",
               })
           .put(
               "DataBuffer",
-              new Import[] {
-                new Import("DataBuffer", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.DataBuffer",
               })
           .put(
               "SpaceAbove",
-              new Import[] {
-                new Import("SpaceAbove", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.SpaceAbove",
               })
           .put(
               "RMIIIOPServerImpl",
-              new Import[] {
-                new Import("RMIIIOPServerImpl", "javax.management.remote.rmi", false),
+              new String[] {
+                "javax.management.remote.rmi.RMIIIOPServerImpl",
               })
           .put(
               "XA_RBOTHER",
-              new Import[] {
-                new Import("XA_RBOTHER", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_RBOTHER",
               })
           .put(
               "IDEOGRAPHIC_DESCRIPTION_CHARACTERS",
-              new Import[] {
-                new Import(
-                    "IDEOGRAPHIC_DESCRIPTION_CHARACTERS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.IDEOGRAPHIC_DESCRIPTION_CHARACTERS",
               })
           .put(
               "LONGNVARCHAR",
-              new Import[] {
-                new Import("LONGNVARCHAR", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.LONGNVARCHAR",
               })
           .put(
               "InflaterInputStream",
-              new Import[] {
-                new Import("InflaterInputStream", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.InflaterInputStream",
               })
           .put(
               "getDefaultCursor",
-              new Import[] {
-                new Import("getDefaultCursor", "java.awt.Cursor", true),
+              new String[] {
+                "static java.awt.Cursor.getDefaultCursor",
               })
           .put(
               "CharacterCodingException",
-              new Import[] {
-                new Import("CharacterCodingException", "java.nio.charset", false),
+              new String[] {
+                "java.nio.charset.CharacterCodingException",
               })
           .put(
               "NOVEMBER",
-              new Import[] {
-                new Import("NOVEMBER", "java.util.Calendar", true),
-                new Import("NOVEMBER", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static java.util.Calendar.NOVEMBER",
+                "static javax.xml.datatype.DatatypeConstants.NOVEMBER",
               })
           .put(
               "FILE_CHOOSER",
-              new Import[] {
-                new Import("FILE_CHOOSER", "javax.accessibility.AccessibleRole", true),
-                new Import("FILE_CHOOSER", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.FILE_CHOOSER",
+                "static javax.swing.plaf.synth.Region.FILE_CHOOSER",
               })
           .put(
               "MinguoDate",
-              new Import[] {
-                new Import("MinguoDate", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.MinguoDate",
               })
           .put(
               "FailedLoginException",
-              new Import[] {
-                new Import("FailedLoginException", "javax.security.auth.login", false),
+              new String[] {
+                "javax.security.auth.login.FailedLoginException",
               })
           .put(
               "disable",
-              new Import[] {
-                new Import("disable", "java.lang.Compiler", true),
+              new String[] {
+                "static java.lang.Compiler.disable",
               })
           .put(
               "BufferedReader",
-              new Import[] {
-                new Import("BufferedReader", "java.io", false),
+              new String[] {
+                "java.io.BufferedReader",
               })
           .put(
               "BoxView",
-              new Import[] {
-                new Import("BoxView", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.BoxView",
               })
           .put(
               "_ServantLocatorStub",
-              new Import[] {
-                new Import("_ServantLocatorStub", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer._ServantLocatorStub",
               })
           .put(
               "SQLOutputImpl",
-              new Import[] {
-                new Import("SQLOutputImpl", "javax.sql.rowset.serial", false),
+              new String[] {
+                "javax.sql.rowset.serial.SQLOutputImpl",
               })
           .put(
               "getAllAttributeKeys",
-              new Import[] {
-                new Import("getAllAttributeKeys", "javax.swing.text.html.CSS", true),
-                new Import("getAllAttributeKeys", "javax.swing.text.html.HTML", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.getAllAttributeKeys",
+                "static javax.swing.text.html.HTML.getAllAttributeKeys",
               })
           .put(
               "DataBufferDouble",
-              new Import[] {
-                new Import("DataBufferDouble", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.DataBufferDouble",
               })
           .put(
               "DiscardOldestPolicy",
-              new Import[] {
-                new Import("DiscardOldestPolicy", "java.util.concurrent.ThreadPoolExecutor", false),
+              new String[] {
+                "java.util.concurrent.ThreadPoolExecutor.DiscardOldestPolicy",
               })
           .put(
               "JLayer",
-              new Import[] {
-                new Import("JLayer", "javax.swing", false),
+              new String[] {
+                "javax.swing.JLayer",
               })
           .put(
               "ValidatorHandler",
-              new Import[] {
-                new Import("ValidatorHandler", "javax.xml.validation", false),
+              new String[] {
+                "javax.xml.validation.ValidatorHandler",
               })
           .put(
               "StatementEvent",
-              new Import[] {
-                new Import("StatementEvent", "javax.sql", false),
+              new String[] {
+                "javax.sql.StatementEvent",
               })
           .put(
               "EventType",
-              new Import[] {
-                new Import("EventType", "javax.swing.event.DocumentEvent", false),
-                new Import("EventType", "javax.swing.event.HyperlinkEvent", false),
+              new String[] {
+                "javax.swing.event.DocumentEvent.EventType",
+                "javax.swing.event.HyperlinkEvent.EventType",
               })
           .put(
               "VK_KP_RIGHT",
-              new Import[] {
-                new Import("VK_KP_RIGHT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_KP_RIGHT",
               })
           .put(
               "cos",
-              new Import[] {
-                new Import("cos", "java.lang.Math", true),
-                new Import("cos", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.cos", "static java.lang.StrictMath.cos",
               })
           .put(
               "expm1",
-              new Import[] {
-                new Import("expm1", "java.lang.Math", true),
-                new Import("expm1", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.expm1", "static java.lang.StrictMath.expm1",
               })
           .put(
               "HijrahChronology",
-              new Import[] {
-                new Import("HijrahChronology", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.HijrahChronology",
               })
           .put(
               "OUT_BOTTOM",
-              new Import[] {
-                new Import("OUT_BOTTOM", "java.awt.geom.Rectangle2D", true),
+              new String[] {
+                "static java.awt.geom.Rectangle2D.OUT_BOTTOM",
               })
           .put(
               "getBundle",
-              new Import[] {
-                new Import("getBundle", "java.util.ResourceBundle", true),
+              new String[] {
+                "static java.util.ResourceBundle.getBundle",
               })
           .put(
               "StringSelection",
-              new Import[] {
-                new Import("StringSelection", "java.awt.datatransfer", false),
+              new String[] {
+                "java.awt.datatransfer.StringSelection",
               })
           .put(
               "READ_WRITE",
-              new Import[] {
-                new Import("READ_WRITE", "java.nio.channels.FileChannel.MapMode", true),
+              new String[] {
+                "static java.nio.channels.FileChannel.MapMode.READ_WRITE",
               })
           .put(
               "AdapterActivator",
-              new Import[] {
-                new Import("AdapterActivator", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.AdapterActivator",
               })
           .put(
               "CONFIG",
-              new Import[] {
-                new Import("CONFIG", "java.util.logging.Level", true),
+              new String[] {
+                "static java.util.logging.Level.CONFIG",
               })
           .put(
               "Random",
-              new Import[] {
-                new Import("Random", "java.util", false),
+              new String[] {
+                "java.util.Random",
               })
           .put(
               "XMLSignature",
-              new Import[] {
-                new Import("XMLSignature", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "javax.xml.crypto.dsig.XMLSignature",
               })
           .put(
               "_DISCARDING",
-              new Import[] {
-                new Import("_DISCARDING", "org.omg.PortableServer.POAManagerPackage.State", true),
+              new String[] {
+                "static org.omg.PortableServer.POAManagerPackage.State._DISCARDING",
               })
           .put(
               "SUBSTITUTION_PERMISSION",
-              new Import[] {
-                new Import("SUBSTITUTION_PERMISSION", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.SUBSTITUTION_PERMISSION",
               })
           .put(
               "LambdaConversionException",
-              new Import[] {
-                new Import("LambdaConversionException", "java.lang.invoke", false),
+              new String[] {
+                "java.lang.invoke.LambdaConversionException",
               })
           .put(
               "TableCellEditor",
-              new Import[] {
-                new Import("TableCellEditor", "javax.swing.table", false),
+              new String[] {
+                "javax.swing.table.TableCellEditor",
               })
           .put(
               "emptyNavigableMap",
-              new Import[] {
-                new Import("emptyNavigableMap", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.emptyNavigableMap",
               })
           .put(
               "NO_PERMISSION",
-              new Import[] {
-                new Import("NO_PERMISSION", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.NO_PERMISSION",
               })
           .put(
               "GridBagLayoutInfo",
-              new Import[] {
-                new Import("GridBagLayoutInfo", "java.awt", false),
+              new String[] {
+                "java.awt.GridBagLayoutInfo",
               })
           .put(
               "LayoutPath",
-              new Import[] {
-                new Import("LayoutPath", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.LayoutPath",
               })
           .put(
               "Inet4Address",
-              new Import[] {
-                new Import("Inet4Address", "java.net", false),
+              new String[] {
+                "java.net.Inet4Address",
               })
           .put(
               "C10",
-              new Import[] {
-                new Import("C10", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.C10",
               })
           .put(
               "icSigCalibrationDateTimeTag",
-              new Import[] {
-                new Import("icSigCalibrationDateTimeTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigCalibrationDateTimeTag",
               })
           .put(
               "javaFileListFlavor",
-              new Import[] {
-                new Import("javaFileListFlavor", "java.awt.datatransfer.DataFlavor", true),
+              new String[] {
+                "static java.awt.datatransfer.DataFlavor.javaFileListFlavor",
               })
           .put(
               "releaseMBeanServer",
-              new Import[] {
-                new Import("releaseMBeanServer", "javax.management.MBeanServerFactory", true),
+              new String[] {
+                "static javax.management.MBeanServerFactory.releaseMBeanServer",
               })
           .put(
               "synchronizedNavigableSet",
-              new Import[] {
-                new Import("synchronizedNavigableSet", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.synchronizedNavigableSet",
               })
           .put(
               "SyncFactory",
-              new Import[] {
-                new Import("SyncFactory", "javax.sql.rowset.spi", false),
+              new String[] {
+                "javax.sql.rowset.spi.SyncFactory",
               })
           .put(
               "HEBREW",
-              new Import[] {
-                new Import("HEBREW", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.HEBREW",
               })
           .put(
               "ADDRESS",
-              new Import[] {
-                new Import("ADDRESS", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.ADDRESS",
               })
           .put(
               "PlatformManagedObject",
-              new Import[] {
-                new Import("PlatformManagedObject", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.PlatformManagedObject",
               })
           .put(
               "WEIGHT_SEMIBOLD",
-              new Import[] {
-                new Import("WEIGHT_SEMIBOLD", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WEIGHT_SEMIBOLD",
               })
           .put(
               "EncryptedPrivateKeyInfo",
-              new Import[] {
-                new Import("EncryptedPrivateKeyInfo", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.EncryptedPrivateKeyInfo",
               })
           .put(
               "DefaultLoaderRepository",
-              new Import[] {
-                new Import("DefaultLoaderRepository", "javax.management", false),
-                new Import("DefaultLoaderRepository", "javax.management.loading", false),
+              new String[] {
+                "javax.management.DefaultLoaderRepository",
+                "javax.management.loading.DefaultLoaderRepository",
               })
           .put(
               "NON_RETAIN",
-              new Import[] {
-                new Import(
-                    "NON_RETAIN", "org.omg.PortableServer.ServantRetentionPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.ServantRetentionPolicyValue.NON_RETAIN",
               })
           .put(
               "MidiUnavailableException",
-              new Import[] {
-                new Import("MidiUnavailableException", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.MidiUnavailableException",
               })
           .put(
               "DuplicateFormatFlagsException",
-              new Import[] {
-                new Import("DuplicateFormatFlagsException", "java.util", false),
+              new String[] {
+                "java.util.DuplicateFormatFlagsException",
               })
           .put(
               "ACTIVE",
-              new Import[] {
-                new Import("ACTIVE", "javax.accessibility.AccessibleState", true),
-                new Import("ACTIVE", "org.omg.PortableInterceptor", false),
-                new Import("ACTIVE", "org.omg.PortableServer.POAManagerPackage.State", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.ACTIVE",
+                "org.omg.PortableInterceptor.ACTIVE",
+                "static org.omg.PortableServer.POAManagerPackage.State.ACTIVE",
               })
           .put(
               "SRC",
-              new Import[] {
-                new Import("SRC", "java.awt.AlphaComposite", true),
-                new Import("SRC", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static java.awt.AlphaComposite.SRC",
+                "static javax.swing.text.html.HTML.Attribute.SRC",
               })
           .put(
               "SQLFeatureNotSupportedException",
-              new Import[] {
-                new Import("SQLFeatureNotSupportedException", "java.sql", false),
+              new String[] {
+                "java.sql.SQLFeatureNotSupportedException",
               })
           .put(
               "isUnderline",
-              new Import[] {
-                new Import("isUnderline", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.isUnderline",
               })
           .put(
               "Semaphore",
-              new Import[] {
-                new Import("Semaphore", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.Semaphore",
               })
           .put(
               "Any",
-              new Import[] {
-                new Import("Any", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.Any",
               })
           .put(
               "compileClass",
-              new Import[] {
-                new Import("compileClass", "java.lang.Compiler", true),
+              new String[] {
+                "static java.lang.Compiler.compileClass",
               })
           .put(
               "REPORTER",
-              new Import[] {
-                new Import("REPORTER", "javax.xml.stream.XMLInputFactory", true),
+              new String[] {
+                "static javax.xml.stream.XMLInputFactory.REPORTER",
               })
           .put(
               "Function",
-              new Import[] {
-                new Import("Function", "java.util.function", false),
+              new String[] {
+                "java.util.function.Function",
               })
           .put(
               "times",
-              new Import[] {
-                new Import("times", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.times",
               })
           .put(
               "getConfiguration",
-              new Import[] {
-                new Import("getConfiguration", "javax.security.auth.login.Configuration", true),
+              new String[] {
+                "static javax.security.auth.login.Configuration.getConfiguration",
               })
           .put(
               "getFileChooserListViewIcon",
-              new Import[] {
-                new Import(
-                    "getFileChooserListViewIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getFileChooserListViewIcon",
               })
           .put(
               "FOCUS_FIRST",
-              new Import[] {
-                new Import("FOCUS_FIRST", "java.awt.event.FocusEvent", true),
+              new String[] {
+                "static java.awt.event.FocusEvent.FOCUS_FIRST",
               })
           .put(
               "STRIKE",
-              new Import[] {
-                new Import("STRIKE", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.STRIKE",
               })
           .put(
               "setRootFrame",
-              new Import[] {
-                new Import("setRootFrame", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.setRootFrame",
               })
           .put(
               "CS_PYCC",
-              new Import[] {
-                new Import("CS_PYCC", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.CS_PYCC",
               })
           .put(
               "OpenMBeanInfo",
-              new Import[] {
-                new Import("OpenMBeanInfo", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.OpenMBeanInfo",
               })
           .put(
               "XADataSource",
-              new Import[] {
-                new Import("XADataSource", "javax.sql", false),
+              new String[] {
+                "javax.sql.XADataSource",
               })
           .build();
 }
@@ -2,1582 +2,1548 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk1 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "WEIGHT_BOLD",
-              new Import[] {
-                new Import("WEIGHT_BOLD", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WEIGHT_BOLD",
               })
           .put(
               "AttributeView",
-              new Import[] {
-                new Import("AttributeView", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.AttributeView",
               })
           .put(
               "EMBEDDED_BY",
-              new Import[] {
-                new Import("EMBEDDED_BY", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.EMBEDDED_BY",
               })
           .put(
               "INHERIT",
-              new Import[] {
-                new Import("INHERIT", "java.lang.ProcessBuilder.Redirect", true),
+              new String[] {
+                "static java.lang.ProcessBuilder.Redirect.INHERIT",
               })
           .put(
               "X509CRL",
-              new Import[] {
-                new Import("X509CRL", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.X509CRL",
               })
           .put(
               "ValueBase",
-              new Import[] {
-                new Import("ValueBase", "org.omg.CORBA.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.ValueBase",
               })
           .put(
               "ROLLOVER_SELECTED_ICON_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ROLLOVER_SELECTED_ICON_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.ROLLOVER_SELECTED_ICON_CHANGED_PROPERTY",
               })
           .put(
               "Document",
-              new Import[] {
-                new Import("Document", "javax.swing.text", false),
-                new Import("Document", "org.w3c.dom", false),
+              new String[] {
+                "javax.swing.text.Document", "org.w3c.dom.Document",
               })
           .put(
               "Superscript",
-              new Import[] {
-                new Import("Superscript", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.Superscript",
               })
           .put(
               "ITALIC_ACTION",
-              new Import[] {
-                new Import("ITALIC_ACTION", "javax.swing.text.html.HTMLEditorKit", true),
+              new String[] {
+                "static javax.swing.text.html.HTMLEditorKit.ITALIC_ACTION",
               })
           .put(
               "getTreeHardDriveIcon",
-              new Import[] {
-                new Import("getTreeHardDriveIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getTreeHardDriveIcon",
               })
           .put(
               "ServantRetentionPolicyOperations",
-              new Import[] {
-                new Import("ServantRetentionPolicyOperations", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ServantRetentionPolicyOperations",
               })
           .put(
               "ACCEPT_ALL",
-              new Import[] {
-                new Import("ACCEPT_ALL", "java.net.CookiePolicy", true),
+              new String[] {
+                "static java.net.CookiePolicy.ACCEPT_ALL",
               })
           .put(
               "MimeHeaders",
-              new Import[] {
-                new Import("MimeHeaders", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.MimeHeaders",
               })
           .put(
               "LONG_STANDALONE",
-              new Import[] {
-                new Import("LONG_STANDALONE", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.LONG_STANDALONE",
               })
           .put(
               "isLeap",
-              new Import[] {
-                new Import("isLeap", "java.time.Year", true),
+              new String[] {
+                "static java.time.Year.isLeap",
               })
           .put(
               "UnknownException",
-              new Import[] {
-                new Import("UnknownException", "org.omg.CORBA.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.UnknownException",
               })
           .put(
               "MISCELLANEOUS_SYMBOLS_AND_PICTOGRAPHS",
-              new Import[] {
-                new Import(
-                    "MISCELLANEOUS_SYMBOLS_AND_PICTOGRAPHS",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MISCELLANEOUS_SYMBOLS_AND_PICTOGRAPHS",
               })
           .put(
               "BlockingQueue",
-              new Import[] {
-                new Import("BlockingQueue", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.BlockingQueue",
               })
           .put(
               "SUB",
-              new Import[] {
-                new Import("SUB", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.SUB",
               })
           .put(
               "IRObjectOperations",
-              new Import[] {
-                new Import("IRObjectOperations", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.IRObjectOperations",
               })
           .put(
               "KEY_ANTIALIASING",
-              new Import[] {
-                new Import("KEY_ANTIALIASING", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.KEY_ANTIALIASING",
               })
           .put(
               "SO_REUSEADDR",
-              new Import[] {
-                new Import("SO_REUSEADDR", "java.net.SocketOptions", true),
-                new Import("SO_REUSEADDR", "java.net.StandardSocketOptions", true),
+              new String[] {
+                "static java.net.SocketOptions.SO_REUSEADDR",
+                "static java.net.StandardSocketOptions.SO_REUSEADDR",
               })
           .put(
               "setFailureHandler",
-              new Import[] {
-                new Import("setFailureHandler", "java.rmi.server.RMISocketFactory", true),
+              new String[] {
+                "static java.rmi.server.RMISocketFactory.setFailureHandler",
               })
           .put(
               "getFileChooserUpFolderIcon",
-              new Import[] {
-                new Import(
-                    "getFileChooserUpFolderIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getFileChooserUpFolderIcon",
               })
           .put(
               "SUP",
-              new Import[] {
-                new Import("SUP", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.SUP",
               })
           .put(
               "PooledConnection",
-              new Import[] {
-                new Import("PooledConnection", "javax.sql", false),
+              new String[] {
+                "javax.sql.PooledConnection",
               })
           .put(
               "BACKGROUND_ATTACHMENT",
-              new Import[] {
-                new Import("BACKGROUND_ATTACHMENT", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BACKGROUND_ATTACHMENT",
               })
           .put(
               "MOUSE_ENTER",
-              new Import[] {
-                new Import("MOUSE_ENTER", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.MOUSE_ENTER",
               })
           .put(
               "ACCESSIBLE_CARET_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_CARET_PROPERTY", "javax.accessibility.AccessibleContext", true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_CARET_PROPERTY",
               })
           .put(
               "VARCHAR",
-              new Import[] {
-                new Import("VARCHAR", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.VARCHAR",
               })
           .put(
               "VMID",
-              new Import[] {
-                new Import("VMID", "java.rmi.dgc", false),
+              new String[] {
+                "java.rmi.dgc.VMID",
               })
           .put(
               "ServantObject",
-              new Import[] {
-                new Import("ServantObject", "org.omg.CORBA.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.ServantObject",
               })
           .put(
               "VK_COLON",
-              new Import[] {
-                new Import("VK_COLON", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_COLON",
               })
           .put(
               "isParityAdjusted",
-              new Import[] {
-                new Import("isParityAdjusted", "javax.crypto.spec.DESKeySpec", true),
-                new Import("isParityAdjusted", "javax.crypto.spec.DESedeKeySpec", true),
+              new String[] {
+                "static javax.crypto.spec.DESKeySpec.isParityAdjusted",
+                "static javax.crypto.spec.DESedeKeySpec.isParityAdjusted",
               })
           .put(
               "Group",
-              new Import[] {
-                new Import("Group", "java.security.acl", false),
+              new String[] {
+                "java.security.acl.Group",
               })
           .put(
               "GRAY",
-              new Import[] {
-                new Import("GRAY", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.GRAY",
               })
           .put(
               "Instrumentation",
-              new Import[] {
-                new Import("Instrumentation", "java.lang.instrument", false),
+              new String[] {
+                "java.lang.instrument.Instrumentation",
               })
           .put(
               "CellEditorListener",
-              new Import[] {
-                new Import("CellEditorListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.CellEditorListener",
               })
           .put(
               "VariableElement",
-              new Import[] {
-                new Import("VariableElement", "javax.lang.model.element", false),
+              new String[] {
+                "javax.lang.model.element.VariableElement",
               })
           .put(
               "JobKOctetsSupported",
-              new Import[] {
-                new Import("JobKOctetsSupported", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobKOctetsSupported",
               })
           .put(
               "DragSourceContext",
-              new Import[] {
-                new Import("DragSourceContext", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DragSourceContext",
               })
           .put(
               "printShort",
-              new Import[] {
-                new Import("printShort", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printShort",
               })
           .put(
               "InvalidObjectException",
-              new Import[] {
-                new Import("InvalidObjectException", "java.io", false),
+              new String[] {
+                "java.io.InvalidObjectException",
               })
           .put(
               "SQLInvalidAuthorizationSpecException",
-              new Import[] {
-                new Import("SQLInvalidAuthorizationSpecException", "java.sql", false),
+              new String[] {
+                "java.sql.SQLInvalidAuthorizationSpecException",
               })
           .put(
               "DstIn",
-              new Import[] {
-                new Import("DstIn", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.DstIn",
               })
           .put(
               "isUnicodeIdentifierStart",
-              new Import[] {
-                new Import("isUnicodeIdentifierStart", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isUnicodeIdentifierStart",
               })
           .put(
               "INITIAL_CONTEXT_FACTORY",
-              new Import[] {
-                new Import("INITIAL_CONTEXT_FACTORY", "javax.naming.Context", true),
+              new String[] {
+                "static javax.naming.Context.INITIAL_CONTEXT_FACTORY",
               })
           .put(
               "PRINTABLE",
-              new Import[] {
-                new Import("PRINTABLE", "java.awt.PageAttributes.OriginType", true),
-                new Import("PRINTABLE", "javax.print.DocFlavor.SERVICE_FORMATTED", true),
+              new String[] {
+                "static java.awt.PageAttributes.OriginType.PRINTABLE",
+                "static javax.print.DocFlavor.SERVICE_FORMATTED.PRINTABLE",
               })
           .put(
               "DRAFT",
-              new Import[] {
-                new Import("DRAFT", "java.awt.PageAttributes.PrintQualityType", true),
-                new Import("DRAFT", "javax.print.attribute.standard.PrintQuality", true),
+              new String[] {
+                "static java.awt.PageAttributes.PrintQualityType.DRAFT",
+                "static javax.print.attribute.standard.PrintQuality.DRAFT",
               })
           .put(
               "isWeak",
-              new Import[] {
-                new Import("isWeak", "javax.crypto.spec.DESKeySpec", true),
+              new String[] {
+                "static javax.crypto.spec.DESKeySpec.isWeak",
               })
           .put(
               "FREE_MEM",
-              new Import[] {
-                new Import("FREE_MEM", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.FREE_MEM",
               })
           .put(
               "dk_Alias",
-              new Import[] {
-                new Import("dk_Alias", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Alias",
               })
           .put(
               "getInvocationHandler",
-              new Import[] {
-                new Import("getInvocationHandler", "java.lang.reflect.Proxy", true),
+              new String[] {
+                "static java.lang.reflect.Proxy.getInvocationHandler",
               })
           .put(
               "ISO_B5_ENVELOPE",
-              new Import[] {
-                new Import("ISO_B5_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_B5_ENVELOPE",
               })
           .put(
               "functionNullable",
-              new Import[] {
-                new Import("functionNullable", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.functionNullable",
               })
           .put(
               "OTHER",
-              new Import[] {
-                new Import("OTHER", "java.sql.Types", true),
-                new Import("OTHER", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static java.sql.Types.OTHER",
+                "static javax.print.attribute.standard.PrinterStateReason.OTHER",
               })
           .put(
               "ALTERNATE",
-              new Import[] {
-                new Import("ALTERNATE", "java.util.FormattableFlags", true),
+              new String[] {
+                "static java.util.FormattableFlags.ALTERNATE",
               })
           .put(
               "FLOWS_TO_PROPERTY",
-              new Import[] {
-                new Import("FLOWS_TO_PROPERTY", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.FLOWS_TO_PROPERTY",
               })
           .put(
               "Runnable",
-              new Import[] {
-                new Import("Runnable", "java.lang", false),
+              new String[] {
+                "java.lang.Runnable",
               })
           .put(
               "columnNullableUnknown",
-              new Import[] {
-                new Import("columnNullableUnknown", "java.sql.DatabaseMetaData", true),
-                new Import("columnNullableUnknown", "java.sql.ResultSetMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.columnNullableUnknown",
+                "static java.sql.ResultSetMetaData.columnNullableUnknown",
               })
           .put(
               "BasicSplitPaneUI",
-              new Import[] {
-                new Import("BasicSplitPaneUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicSplitPaneUI",
               })
           .put(
               "getBlack",
-              new Import[] {
-                new Import("getBlack", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getBlack",
               })
           .put(
               "EXCLUSIVE_WITH_COMMENTS",
-              new Import[] {
-                new Import(
-                    "EXCLUSIVE_WITH_COMMENTS",
-                    "javax.xml.crypto.dsig.CanonicalizationMethod",
-                    true),
+              new String[] {
+                "static javax.xml.crypto.dsig.CanonicalizationMethod.EXCLUSIVE_WITH_COMMENTS",
               })
           .put(
               "DynAnyFactoryOperations",
-              new Import[] {
-                new Import("DynAnyFactoryOperations", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynAnyFactoryOperations",
               })
           .put(
               "IdUniquenessPolicy",
-              new Import[] {
-                new Import("IdUniquenessPolicy", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.IdUniquenessPolicy",
               })
           .put(
               "POAHelper",
-              new Import[] {
-                new Import("POAHelper", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.POAHelper",
               })
           .put(
               "Exchanger",
-              new Import[] {
-                new Import("Exchanger", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.Exchanger",
               })
           .put(
               "JarURLConnection",
-              new Import[] {
-                new Import("JarURLConnection", "java.net", false),
+              new String[] {
+                "java.net.JarURLConnection",
               })
           .put(
               "LEPCHA",
-              new Import[] {
-                new Import("LEPCHA", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.LEPCHA",
               })
           .put(
               "KRB_NT_PRINCIPAL",
-              new Import[] {
-                new Import(
-                    "KRB_NT_PRINCIPAL", "javax.security.auth.kerberos.KerberosPrincipal", true),
+              new String[] {
+                "static javax.security.auth.kerberos.KerberosPrincipal.KRB_NT_PRINCIPAL",
               })
           .put(
               "RemarshalException",
-              new Import[] {
-                new Import("RemarshalException", "org.omg.CORBA.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.RemarshalException",
               })
           .put(
               "TAG_GLYF",
-              new Import[] {
-                new Import("TAG_GLYF", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_GLYF",
               })
           .put(
               "icSigCmykData",
-              new Import[] {
-                new Import("icSigCmykData", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigCmykData",
               })
           .put(
               "IdUniquenessPolicyValue",
-              new Import[] {
-                new Import("IdUniquenessPolicyValue", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.IdUniquenessPolicyValue",
               })
           .put(
               "TAG_VHEA",
-              new Import[] {
-                new Import("TAG_VHEA", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_VHEA",
               })
           .put(
               "dropArguments",
-              new Import[] {
-                new Import("dropArguments", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.dropArguments",
               })
           .put(
               "ReadWriteLock",
-              new Import[] {
-                new Import("ReadWriteLock", "java.util.concurrent.locks", false),
+              new String[] {
+                "java.util.concurrent.locks.ReadWriteLock",
               })
           .put(
               "LABEL",
-              new Import[] {
-                new Import("LABEL", "javax.accessibility.AccessibleRole", true),
-                new Import("LABEL", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.LABEL",
+                "static javax.swing.plaf.synth.Region.LABEL",
               })
           .put(
               "AtomicMoveNotSupportedException",
-              new Import[] {
-                new Import("AtomicMoveNotSupportedException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.AtomicMoveNotSupportedException",
               })
           .put(
               "NamingExceptionEvent",
-              new Import[] {
-                new Import("NamingExceptionEvent", "javax.naming.event", false),
+              new String[] {
+                "javax.naming.event.NamingExceptionEvent",
               })
           .put(
               "parseTime",
-              new Import[] {
-                new Import("parseTime", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.parseTime",
               })
           .put(
               "unmodifiableNavigableSet",
-              new Import[] {
-                new Import("unmodifiableNavigableSet", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.unmodifiableNavigableSet",
               })
           .put(
               "POLICY_FORWARD_SECRECY",
-              new Import[] {
-                new Import("POLICY_FORWARD_SECRECY", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.POLICY_FORWARD_SECRECY",
               })
           .put(
               "ECFieldFp",
-              new Import[] {
-                new Import("ECFieldFp", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.ECFieldFp",
               })
           .put(
               "PublicKey",
-              new Import[] {
-                new Import("PublicKey", "java.security", false),
+              new String[] {
+                "java.security.PublicKey",
               })
           .put(
               "NO_FIELDS",
-              new Import[] {
-                new Import("NO_FIELDS", "java.io.ObjectStreamClass", true),
+              new String[] {
+                "static java.io.ObjectStreamClass.NO_FIELDS",
               })
           .put(
               "ObjectInstance",
-              new Import[] {
-                new Import("ObjectInstance", "javax.management", false),
+              new String[] {
+                "javax.management.ObjectInstance",
               })
           .put(
               "HTTP_NOT_AUTHORITATIVE",
-              new Import[] {
-                new Import("HTTP_NOT_AUTHORITATIVE", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_NOT_AUTHORITATIVE",
               })
           .put(
               "JRadioButtonMenuItem",
-              new Import[] {
-                new Import("JRadioButtonMenuItem", "javax.swing", false),
+              new String[] {
+                "javax.swing.JRadioButtonMenuItem",
               })
           .put(
               "isWhitespace",
-              new Import[] {
-                new Import("isWhitespace", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isWhitespace",
               })
           .put(
               "DEFAULT_KEYMAP",
-              new Import[] {
-                new Import("DEFAULT_KEYMAP", "javax.swing.text.JTextComponent", true),
+              new String[] {
+                "static javax.swing.text.JTextComponent.DEFAULT_KEYMAP",
               })
           .put(
               "AtomicReferenceFieldUpdater",
-              new Import[] {
-                new Import("AtomicReferenceFieldUpdater", "java.util.concurrent.atomic", false),
+              new String[] {
+                "java.util.concurrent.atomic.AtomicReferenceFieldUpdater",
               })
           .put(
               "POSITIVE_INFINITY",
-              new Import[] {
-                new Import("POSITIVE_INFINITY", "java.lang.Double", true),
-                new Import("POSITIVE_INFINITY", "java.lang.Float", true),
+              new String[] {
+                "static java.lang.Double.POSITIVE_INFINITY",
+                "static java.lang.Float.POSITIVE_INFINITY",
               })
           .put(
               "YEARS",
-              new Import[] {
-                new Import("YEARS", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.YEARS",
               })
           .put(
               "TRANSPORT_AND_MAP_SYMBOLS",
-              new Import[] {
-                new Import("TRANSPORT_AND_MAP_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.TRANSPORT_AND_MAP_SYMBOLS",
               })
           .put(
               "Renderer",
-              new Import[] {
-                new Import("Renderer", "javax.swing", false),
+              new String[] {
+                "javax.swing.Renderer",
               })
           .put(
               "ofMonths",
-              new Import[] {
-                new Import("ofMonths", "java.time.Period", true),
+              new String[] {
+                "static java.time.Period.ofMonths",
               })
           .put(
               "Region",
-              new Import[] {
-                new Import("Region", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.Region",
               })
           .put(
               "AlgorithmMethod",
-              new Import[] {
-                new Import("AlgorithmMethod", "javax.xml.crypto", false),
+              new String[] {
+                "javax.xml.crypto.AlgorithmMethod",
               })
           .put(
               "ServerRequest",
-              new Import[] {
-                new Import("ServerRequest", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ServerRequest",
               })
           .put(
               "LDAPCertStoreParameters",
-              new Import[] {
-                new Import("LDAPCertStoreParameters", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.LDAPCertStoreParameters",
               })
           .put(
               "getInactiveSystemTextColor",
-              new Import[] {
-                new Import(
-                    "getInactiveSystemTextColor", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getInactiveSystemTextColor",
               })
           .put(
               "AbstractExecutorService",
-              new Import[] {
-                new Import("AbstractExecutorService", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.AbstractExecutorService",
               })
           .put(
               "ENTERED",
-              new Import[] {
-                new Import("ENTERED", "javax.swing.event.HyperlinkEvent.EventType", true),
+              new String[] {
+                "static javax.swing.event.HyperlinkEvent.EventType.ENTERED",
               })
           .put(
               "GeneralPath",
-              new Import[] {
-                new Import("GeneralPath", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.GeneralPath",
               })
           .put(
               "SQLException",
-              new Import[] {
-                new Import("SQLException", "java.sql", false),
+              new String[] {
+                "java.sql.SQLException",
               })
           .put(
               "IntSupplier",
-              new Import[] {
-                new Import("IntSupplier", "java.util.function", false),
+              new String[] {
+                "java.util.function.IntSupplier",
               })
           .put(
               "GradientPaint",
-              new Import[] {
-                new Import("GradientPaint", "java.awt", false),
+              new String[] {
+                "java.awt.GradientPaint",
               })
           .put(
               "SDATA",
-              new Import[] {
-                new Import("SDATA", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.SDATA",
               })
           .put(
               "XA_HEURMIX",
-              new Import[] {
-                new Import("XA_HEURMIX", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_HEURMIX",
               })
           .put(
               "getNextWord",
-              new Import[] {
-                new Import("getNextWord", "javax.swing.text.Utilities", true),
+              new String[] {
+                "static javax.swing.text.Utilities.getNextWord",
               })
           .put(
               "negateExact",
-              new Import[] {
-                new Import("negateExact", "java.lang.Math", true),
+              new String[] {
+                "static java.lang.Math.negateExact",
               })
           .put(
               "NEXT",
-              new Import[] {
-                new Import("NEXT", "javax.swing.SwingConstants", true),
+              new String[] {
+                "static javax.swing.SwingConstants.NEXT",
               })
           .put(
               "COMPONENT_ADDED",
-              new Import[] {
-                new Import("COMPONENT_ADDED", "java.awt.event.ContainerEvent", true),
+              new String[] {
+                "static java.awt.event.ContainerEvent.COMPONENT_ADDED",
               })
           .put(
               "_USE_SERVANT_MANAGER",
-              new Import[] {
-                new Import(
-                    "_USE_SERVANT_MANAGER",
-                    "org.omg.PortableServer.RequestProcessingPolicyValue",
-                    true),
+              new String[] {
+                "static org.omg.PortableServer.RequestProcessingPolicyValue._USE_SERVANT_MANAGER",
               })
           .put(
               "isDesktopSupported",
-              new Import[] {
-                new Import("isDesktopSupported", "java.awt.Desktop", true),
+              new String[] {
+                "static java.awt.Desktop.isDesktopSupported",
               })
           .put(
               "AbstractCellEditor",
-              new Import[] {
-                new Import("AbstractCellEditor", "javax.swing", false),
+              new String[] {
+                "javax.swing.AbstractCellEditor",
               })
           .put(
               "LOG_OPTION",
-              new Import[] {
-                new Import("LOG_OPTION", "javax.swing.DebugGraphics", true),
+              new String[] {
+                "static javax.swing.DebugGraphics.LOG_OPTION",
               })
           .put(
               "ColorChooserUI",
-              new Import[] {
-                new Import("ColorChooserUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.ColorChooserUI",
               })
           .put(
               "DIRECTIONALITY_RIGHT_TO_LEFT_OVERRIDE",
-              new Import[] {
-                new Import("DIRECTIONALITY_RIGHT_TO_LEFT_OVERRIDE", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_RIGHT_TO_LEFT_OVERRIDE",
               })
           .put(
               "StubDelegate",
-              new Import[] {
-                new Import("StubDelegate", "javax.rmi.CORBA", false),
+              new String[] {
+                "javax.rmi.CORBA.StubDelegate",
               })
           .put(
               "DayOfWeek",
-              new Import[] {
-                new Import("DayOfWeek", "java.time", false),
+              new String[] {
+                "java.time.DayOfWeek",
               })
           .put(
               "JMXPrincipal",
-              new Import[] {
-                new Import("JMXPrincipal", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.JMXPrincipal",
               })
           .put(
               "Purpose",
-              new Import[] {
-                new Import("Purpose", "javax.xml.crypto.KeySelector", false),
+              new String[] {
+                "javax.xml.crypto.KeySelector.Purpose",
               })
           .put(
               "SUPERSCRIPT_SUB",
-              new Import[] {
-                new Import("SUPERSCRIPT_SUB", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.SUPERSCRIPT_SUB",
               })
           .put(
               "getDefaultProviderInstance",
-              new Import[] {
-                new Import("getDefaultProviderInstance", "java.rmi.server.RMIClassLoader", true),
+              new String[] {
+                "static java.rmi.server.RMIClassLoader.getDefaultProviderInstance",
               })
           .put(
               "getValue",
-              new Import[] {
-                new Import("getValue", "javax.xml.bind.JAXBIntrospector", true),
+              new String[] {
+                "static javax.xml.bind.JAXBIntrospector.getValue",
               })
           .put(
               "WINDOW_DEACTIVATED",
-              new Import[] {
-                new Import("WINDOW_DEACTIVATED", "java.awt.event.WindowEvent", true),
+              new String[] {
+                "static java.awt.event.WindowEvent.WINDOW_DEACTIVATED",
               })
           .put(
               "RSAMultiPrimePrivateCrtKey",
-              new Import[] {
-                new Import("RSAMultiPrimePrivateCrtKey", "java.security.interfaces", false),
+              new String[] {
+                "java.security.interfaces.RSAMultiPrimePrivateCrtKey",
               })
           .put(
               "ENDTAG",
-              new Import[] {
-                new Import("ENDTAG", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("ENDTAG", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.ENDTAG",
+                "static javax.swing.text.html.parser.DTDConstants.ENDTAG",
               })
           .put(
               "ACTION_PERFORMED",
-              new Import[] {
-                new Import("ACTION_PERFORMED", "java.awt.event.ActionEvent", true),
+              new String[] {
+                "static java.awt.event.ActionEvent.ACTION_PERFORMED",
               })
           .put(
               "INPUT_TRAY_MISSING",
-              new Import[] {
-                new Import(
-                    "INPUT_TRAY_MISSING",
-                    "javax.print.attribute.standard.PrinterStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.INPUT_TRAY_MISSING",
               })
           .put(
               "NEWS",
-              new Import[] {
-                new Import(
-                    "NEWS", "javax.print.attribute.standard.ReferenceUriSchemesSupported", true),
+              new String[] {
+                "static javax.print.attribute.standard.ReferenceUriSchemesSupported.NEWS",
               })
           .put(
               "DHPublicKeySpec",
-              new Import[] {
-                new Import("DHPublicKeySpec", "javax.crypto.spec", false),
+              new String[] {
+                "javax.crypto.spec.DHPublicKeySpec",
               })
           .put(
               "PrintServiceAttributeEvent",
-              new Import[] {
-                new Import("PrintServiceAttributeEvent", "javax.print.event", false),
+              new String[] {
+                "javax.print.event.PrintServiceAttributeEvent",
               })
           .put(
               "MINUTES",
-              new Import[] {
-                new Import("MINUTES", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.MINUTES",
               })
           .put(
               "reducing",
-              new Import[] {
-                new Import("reducing", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.reducing",
               })
           .put(
               "XMLInputFactory",
-              new Import[] {
-                new Import("XMLInputFactory", "javax.xml.stream", false),
+              new String[] {
+                "javax.xml.stream.XMLInputFactory",
               })
           .put(
               "ObjectStreamConstants",
-              new Import[] {
-                new Import("ObjectStreamConstants", "java.io", false),
+              new String[] {
+                "java.io.ObjectStreamConstants",
               })
           .put(
               "TreeExpansionListener",
-              new Import[] {
-                new Import("TreeExpansionListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.TreeExpansionListener",
               })
           .put(
               "LinkController",
-              new Import[] {
-                new Import("LinkController", "javax.swing.text.html.HTMLEditorKit", false),
+              new String[] {
+                "javax.swing.text.html.HTMLEditorKit.LinkController",
               })
           .put(
               "PARAGRAPH",
-              new Import[] {
-                new Import("PARAGRAPH", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.PARAGRAPH",
               })
           .put(
               "NoSuchAlgorithmException",
-              new Import[] {
-                new Import("NoSuchAlgorithmException", "java.security", false),
+              new String[] {
+                "java.security.NoSuchAlgorithmException",
               })
           .put(
               "FONT_CHOOSER",
-              new Import[] {
-                new Import("FONT_CHOOSER", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.FONT_CHOOSER",
               })
           .put(
               "DECIMAL_SEPARATOR",
-              new Import[] {
-                new Import("DECIMAL_SEPARATOR", "java.text.NumberFormat.Field", true),
+              new String[] {
+                "static java.text.NumberFormat.Field.DECIMAL_SEPARATOR",
               })
           .put(
               "Locator",
-              new Import[] {
-                new Import("Locator", "org.xml.sax", false),
+              new String[] {
+                "org.xml.sax.Locator",
               })
           .put(
               "DEFAULT_NS_PREFIX",
-              new Import[] {
-                new Import("DEFAULT_NS_PREFIX", "javax.xml.XMLConstants", true),
+              new String[] {
+                "static javax.xml.XMLConstants.DEFAULT_NS_PREFIX",
               })
           .put(
               "ProgressBarUI",
-              new Import[] {
-                new Import("ProgressBarUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.ProgressBarUI",
               })
           .put(
               "SplitPaneBorder",
-              new Import[] {
-                new Import("SplitPaneBorder", "javax.swing.plaf.basic.BasicBorders", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicBorders.SplitPaneBorder",
               })
           .put(
               "READER",
-              new Import[] {
-                new Import("READER", "javax.print.DocFlavor", false),
+              new String[] {
+                "javax.print.DocFlavor.READER",
               })
           .put(
               "VK_NUM_LOCK",
-              new Import[] {
-                new Import("VK_NUM_LOCK", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_NUM_LOCK",
               })
           .put(
               "UIDefaults",
-              new Import[] {
-                new Import("UIDefaults", "javax.swing", false),
+              new String[] {
+                "javax.swing.UIDefaults",
               })
           .put(
               "AbstractPreferences",
-              new Import[] {
-                new Import("AbstractPreferences", "java.util.prefs", false),
+              new String[] {
+                "java.util.prefs.AbstractPreferences",
               })
           .put(
               "MBeanPermission",
-              new Import[] {
-                new Import("MBeanPermission", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanPermission",
               })
           .put(
               "HORIZONTAL_ALIGNMENT_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "HORIZONTAL_ALIGNMENT_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.HORIZONTAL_ALIGNMENT_CHANGED_PROPERTY",
               })
           .put(
               "AccessibleSelection",
-              new Import[] {
-                new Import("AccessibleSelection", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleSelection",
               })
           .put(
               "LongSummaryStatistics",
-              new Import[] {
-                new Import("LongSummaryStatistics", "java.util", false),
+              new String[] {
+                "java.util.LongSummaryStatistics",
               })
           .put(
               "NodeSetData",
-              new Import[] {
-                new Import("NodeSetData", "javax.xml.crypto", false),
+              new String[] {
+                "javax.xml.crypto.NodeSetData",
               })
           .put(
               "NotSerializableException",
-              new Import[] {
-                new Import("NotSerializableException", "java.io", false),
+              new String[] {
+                "java.io.NotSerializableException",
               })
           .put(
               "AccessibleAction",
-              new Import[] {
-                new Import("AccessibleAction", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleAction",
               })
           .put(
               "parseString",
-              new Import[] {
-                new Import("parseString", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.parseString",
               })
           .put(
               "StateValue",
-              new Import[] {
-                new Import("StateValue", "javax.swing.SwingWorker", false),
+              new String[] {
+                "javax.swing.SwingWorker.StateValue",
               })
           .put(
               "Externalizable",
-              new Import[] {
-                new Import("Externalizable", "java.io", false),
+              new String[] {
+                "java.io.Externalizable",
               })
           .put(
               "Object",
-              new Import[] {
-                new Import("Object", "java.lang", false),
-                new Import("Object", "org.omg.CORBA", false),
+              new String[] {
+                "java.lang.Object", "org.omg.CORBA.Object",
               })
           .put(
               "setItalic",
-              new Import[] {
-                new Import("setItalic", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setItalic",
               })
           .put(
               "SERVICE_OFF_LINE",
-              new Import[] {
-                new Import(
-                    "SERVICE_OFF_LINE", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.SERVICE_OFF_LINE",
               })
           .put(
               "ENV_10X15",
-              new Import[] {
-                new Import("ENV_10X15", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ENV_10X15",
               })
           .put(
               "ENV_10X14",
-              new Import[] {
-                new Import("ENV_10X14", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ENV_10X14",
               })
           .put(
               "ENV_10X13",
-              new Import[] {
-                new Import("ENV_10X13", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ENV_10X13",
               })
           .put(
               "DIRECTIONALITY_RIGHT_TO_LEFT_EMBEDDING",
-              new Import[] {
-                new Import("DIRECTIONALITY_RIGHT_TO_LEFT_EMBEDDING", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_RIGHT_TO_LEFT_EMBEDDING",
               })
           .put(
               "ViewFactory",
-              new Import[] {
-                new Import("ViewFactory", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.ViewFactory",
               })
           .put(
               "OK_CANCEL_OPTION",
-              new Import[] {
-                new Import(
-                    "OK_CANCEL_OPTION", "javax.security.auth.callback.ConfirmationCallback", true),
-                new Import("OK_CANCEL_OPTION", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.security.auth.callback.ConfirmationCallback.OK_CANCEL_OPTION",
+                "static javax.swing.JOptionPane.OK_CANCEL_OPTION",
               })
           .put(
               "METHOD_ATTRIBUTE_PFX",
-              new Import[] {
-                new Import("METHOD_ATTRIBUTE_PFX", "java.util.jar.Pack200.Packer", true),
+              new String[] {
+                "static java.util.jar.Pack200.Packer.METHOD_ATTRIBUTE_PFX",
               })
           .put(
               "ClassDefinition",
-              new Import[] {
-                new Import("ClassDefinition", "java.lang.instrument", false),
+              new String[] {
+                "java.lang.instrument.ClassDefinition",
               })
           .put(
               "EDGE_STITCH_BOTTOM",
-              new Import[] {
-                new Import("EDGE_STITCH_BOTTOM", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.EDGE_STITCH_BOTTOM",
               })
           .put(
               "BufferedWriter",
-              new Import[] {
-                new Import("BufferedWriter", "java.io", false),
+              new String[] {
+                "java.io.BufferedWriter",
               })
           .put(
               "getAudioInputStream",
-              new Import[] {
-                new Import("getAudioInputStream", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.sampled.AudioSystem.getAudioInputStream",
               })
           .put(
               "setPosixFilePermissions",
-              new Import[] {
-                new Import("setPosixFilePermissions", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.setPosixFilePermissions",
               })
           .put(
               "fromMillis",
-              new Import[] {
-                new Import("fromMillis", "java.nio.file.attribute.FileTime", true),
+              new String[] {
+                "static java.nio.file.attribute.FileTime.fromMillis",
               })
           .put(
               "SimpleTimeZone",
-              new Import[] {
-                new Import("SimpleTimeZone", "java.util", false),
+              new String[] {
+                "java.util.SimpleTimeZone",
               })
           .put(
               "AudioFileWriter",
-              new Import[] {
-                new Import("AudioFileWriter", "javax.sound.sampled.spi", false),
+              new String[] {
+                "javax.sound.sampled.spi.AudioFileWriter",
               })
           .put(
               "ParseConversionEventImpl",
-              new Import[] {
-                new Import("ParseConversionEventImpl", "javax.xml.bind.helpers", false),
+              new String[] {
+                "javax.xml.bind.helpers.ParseConversionEventImpl",
               })
           .put(
               "SpinnerUI",
-              new Import[] {
-                new Import("SpinnerUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.SpinnerUI",
               })
           .put(
               "ThreadGroup",
-              new Import[] {
-                new Import("ThreadGroup", "java.lang", false),
+              new String[] {
+                "java.lang.ThreadGroup",
               })
           .put(
               "DomHandler",
-              new Import[] {
-                new Import("DomHandler", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.DomHandler",
               })
           .put(
               "CertPath",
-              new Import[] {
-                new Import("CertPath", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertPath",
               })
           .put(
               "X509CRLSelector",
-              new Import[] {
-                new Import("X509CRLSelector", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.X509CRLSelector",
               })
           .put(
               "XmlAdapter",
-              new Import[] {
-                new Import("XmlAdapter", "javax.xml.bind.annotation.adapters", false),
+              new String[] {
+                "javax.xml.bind.annotation.adapters.XmlAdapter",
               })
           .put(
               "ADJUSTMENT_FIRST",
-              new Import[] {
-                new Import("ADJUSTMENT_FIRST", "java.awt.event.AdjustmentEvent", true),
+              new String[] {
+                "static java.awt.event.AdjustmentEvent.ADJUSTMENT_FIRST",
               })
           .put(
               "EventException",
-              new Import[] {
-                new Import("EventException", "org.w3c.dom.events", false),
+              new String[] {
+                "org.w3c.dom.events.EventException",
               })
           .put(
               "_tk_octet",
-              new Import[] {
-                new Import("_tk_octet", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_octet",
               })
           .put(
               "PSource",
-              new Import[] {
-                new Import("PSource", "javax.crypto.spec", false),
+              new String[] {
+                "javax.crypto.spec.PSource",
               })
           .put(
               "NORM_PRIORITY",
-              new Import[] {
-                new Import("NORM_PRIORITY", "java.lang.Thread", true),
+              new String[] {
+                "static java.lang.Thread.NORM_PRIORITY",
               })
           .put(
               "MAX_NAME_LENGTH",
-              new Import[] {
-                new Import("MAX_NAME_LENGTH", "java.util.prefs.Preferences", true),
+              new String[] {
+                "static java.util.prefs.Preferences.MAX_NAME_LENGTH",
               })
           .put(
               "KeyAlreadyExistsException",
-              new Import[] {
-                new Import("KeyAlreadyExistsException", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.KeyAlreadyExistsException",
               })
           .put(
               "SESSION_MAINTAIN_PROPERTY",
-              new Import[] {
-                new Import("SESSION_MAINTAIN_PROPERTY", "javax.xml.ws.BindingProvider", true),
+              new String[] {
+                "static javax.xml.ws.BindingProvider.SESSION_MAINTAIN_PROPERTY",
               })
           .put(
               "HINTS_OBSERVED",
-              new Import[] {
-                new Import("HINTS_OBSERVED", "java.awt.image.renderable.RenderableImage", true),
+              new String[] {
+                "static java.awt.image.renderable.RenderableImage.HINTS_OBSERVED",
               })
           .put(
               "checkedList",
-              new Import[] {
-                new Import("checkedList", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.checkedList",
               })
           .put(
               "Type",
-              new Import[] {
-                new Import("Type", "java.awt.Window", false),
-                new Import("Type", "java.lang.ProcessBuilder.Redirect", false),
-                new Import("Type", "java.lang.reflect", false),
-                new Import("Type", "java.net.Proxy", false),
-                new Import("Type", "java.security.KeyRep", false),
-                new Import("Type", "javax.sound.sampled.AudioFileFormat", false),
-                new Import("Type", "javax.sound.sampled.BooleanControl", false),
-                new Import("Type", "javax.sound.sampled.CompoundControl", false),
-                new Import("Type", "javax.sound.sampled.Control", false),
-                new Import("Type", "javax.sound.sampled.EnumControl", false),
-                new Import("Type", "javax.sound.sampled.FloatControl", false),
-                new Import("Type", "javax.sound.sampled.LineEvent", false),
-                new Import("Type", "javax.swing.event.RowSorterEvent", false),
+              new String[] {
+                "java.awt.Window.Type",
+                "java.lang.ProcessBuilder.Redirect.Type",
+                "java.lang.reflect.Type",
+                "java.net.Proxy.Type",
+                "java.security.KeyRep.Type",
+                "javax.sound.sampled.AudioFileFormat.Type",
+                "javax.sound.sampled.BooleanControl.Type",
+                "javax.sound.sampled.CompoundControl.Type",
+                "javax.sound.sampled.Control.Type",
+                "javax.sound.sampled.EnumControl.Type",
+                "javax.sound.sampled.FloatControl.Type",
+                "javax.sound.sampled.LineEvent.Type",
+                "javax.swing.event.RowSorterEvent.Type",
               })
           .put(
               "TAB",
-              new Import[] {
-                new Import("TAB", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.TAB",
               })
           .put(
               "Characteristics",
-              new Import[] {
-                new Import("Characteristics", "java.util.stream.Collector", false),
+              new String[] {
+                "java.util.stream.Collector.Characteristics",
               })
           .put(
               "SignatureProperties",
-              new Import[] {
-                new Import("SignatureProperties", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "javax.xml.crypto.dsig.SignatureProperties",
               })
           .put(
               "icSigSpace3CLR",
-              new Import[] {
-                new Import("icSigSpace3CLR", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigSpace3CLR",
               })
           .put(
               "IntToLongFunction",
-              new Import[] {
-                new Import("IntToLongFunction", "java.util.function", false),
+              new String[] {
+                "java.util.function.IntToLongFunction",
               })
           .put(
               "MissingFormatWidthException",
-              new Import[] {
-                new Import("MissingFormatWidthException", "java.util", false),
+              new String[] {
+                "java.util.MissingFormatWidthException",
               })
           .put(
               "OpenMBeanAttributeInfoSupport",
-              new Import[] {
-                new Import("OpenMBeanAttributeInfoSupport", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.OpenMBeanAttributeInfoSupport",
               })
           .put(
               "ButtonModel",
-              new Import[] {
-                new Import("ButtonModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.ButtonModel",
               })
           .put(
               "NVList",
-              new Import[] {
-                new Import("NVList", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.NVList",
               })
           .put(
               "KHMER",
-              new Import[] {
-                new Import("KHMER", "java.awt.font.NumericShaper", true),
-                new Import("KHMER", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.KHMER",
+                "static java.lang.Character.UnicodeBlock.KHMER",
               })
           .put(
               "MultiTableUI",
-              new Import[] {
-                new Import("MultiTableUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiTableUI",
               })
           .put(
               "UNDERLINE_LOW_GRAY",
-              new Import[] {
-                new Import("UNDERLINE_LOW_GRAY", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.UNDERLINE_LOW_GRAY",
               })
           .put(
               "PagedResultsResponseControl",
-              new Import[] {
-                new Import("PagedResultsResponseControl", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.PagedResultsResponseControl",
               })
           .put(
               "RoundingMode",
-              new Import[] {
-                new Import("RoundingMode", "java.math", false),
+              new String[] {
+                "java.math.RoundingMode",
               })
           .put(
               "SELECTION_MODE_PROPERTY",
-              new Import[] {
-                new Import(
-                    "SELECTION_MODE_PROPERTY", "javax.swing.tree.DefaultTreeSelectionModel", true),
+              new String[] {
+                "static javax.swing.tree.DefaultTreeSelectionModel.SELECTION_MODE_PROPERTY",
               })
           .put(
               "NODE_IMPORTED",
-              new Import[] {
-                new Import("NODE_IMPORTED", "org.w3c.dom.UserDataHandler", true),
+              new String[] {
+                "static org.w3c.dom.UserDataHandler.NODE_IMPORTED",
               })
           .put(
               "DIALOG_TITLE_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("DIALOG_TITLE_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.DIALOG_TITLE_CHANGED_PROPERTY",
               })
           .put(
               "NamingContextExt",
-              new Import[] {
-                new Import("NamingContextExt", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextExt",
               })
           .put(
               "DoubleToLongFunction",
-              new Import[] {
-                new Import("DoubleToLongFunction", "java.util.function", false),
+              new String[] {
+                "java.util.function.DoubleToLongFunction",
               })
           .put(
               "PagesPerMinute",
-              new Import[] {
-                new Import("PagesPerMinute", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PagesPerMinute",
               })
           .put(
               "DSAKeyPairGenerator",
-              new Import[] {
-                new Import("DSAKeyPairGenerator", "java.security.interfaces", false),
+              new String[] {
+                "java.security.interfaces.DSAKeyPairGenerator",
               })
           .put(
               "LOCSIZ",
-              new Import[] {
-                new Import("LOCSIZ", "java.util.jar.JarEntry", true),
-                new Import("LOCSIZ", "java.util.jar.JarFile", true),
-                new Import("LOCSIZ", "java.util.jar.JarInputStream", true),
-                new Import("LOCSIZ", "java.util.jar.JarOutputStream", true),
-                new Import("LOCSIZ", "java.util.zip.ZipEntry", true),
-                new Import("LOCSIZ", "java.util.zip.ZipFile", true),
-                new Import("LOCSIZ", "java.util.zip.ZipInputStream", true),
-                new Import("LOCSIZ", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.LOCSIZ",
+                "static java.util.jar.JarFile.LOCSIZ",
+                "static java.util.jar.JarInputStream.LOCSIZ",
+                "static java.util.jar.JarOutputStream.LOCSIZ",
+                "static java.util.zip.ZipEntry.LOCSIZ",
+                "static java.util.zip.ZipFile.LOCSIZ",
+                "static java.util.zip.ZipInputStream.LOCSIZ",
+                "static java.util.zip.ZipOutputStream.LOCSIZ",
               })
           .put(
               "MULTIPLE",
-              new Import[] {
-                new Import("MULTIPLE", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.MULTIPLE",
               })
           .put(
               "clearProperty",
-              new Import[] {
-                new Import("clearProperty", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.clearProperty",
               })
           .put(
               "DOCUMENT_POSITION_CONTAINED_BY",
-              new Import[] {
-                new Import("DOCUMENT_POSITION_CONTAINED_BY", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.DOCUMENT_POSITION_CONTAINED_BY",
               })
           .put(
               "RESERVED_ID_MAX",
-              new Import[] {
-                new Import("RESERVED_ID_MAX", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.RESERVED_ID_MAX",
               })
           .put(
               "SUPERSCRIPTS_AND_SUBSCRIPTS",
-              new Import[] {
-                new Import("SUPERSCRIPTS_AND_SUBSCRIPTS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SUPERSCRIPTS_AND_SUBSCRIPTS",
               })
           .put(
               "MalformedLinkException",
-              new Import[] {
-                new Import("MalformedLinkException", "javax.naming", false),
+              new String[] {
+                "javax.naming.MalformedLinkException",
               })
           .put(
               "getProvider",
-              new Import[] {
-                new Import("getProvider", "java.security.Security", true),
+              new String[] {
+                "static java.security.Security.getProvider",
               })
           .put(
               "OctetSeqHelper",
-              new Import[] {
-                new Import("OctetSeqHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.OctetSeqHelper",
               })
           .put(
               "activeCaptionBorder",
-              new Import[] {
-                new Import("activeCaptionBorder", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.activeCaptionBorder",
               })
           .put(
               "createGroup",
-              new Import[] {
-                new Import("createGroup", "java.rmi.activation.ActivationGroup", true),
+              new String[] {
+                "static java.rmi.activation.ActivationGroup.createGroup",
               })
           .put(
               "SQLRecoverableException",
-              new Import[] {
-                new Import("SQLRecoverableException", "java.sql", false),
+              new String[] {
+                "java.sql.SQLRecoverableException",
               })
           .put(
               "PRIVATE_MEMBER",
-              new Import[] {
-                new Import("PRIVATE_MEMBER", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.PRIVATE_MEMBER",
               })
           .put(
               "getDefaultToolkit",
-              new Import[] {
-                new Import("getDefaultToolkit", "java.awt.Toolkit", true),
+              new String[] {
+                "static java.awt.Toolkit.getDefaultToolkit",
               })
           .put(
               "probeContentType",
-              new Import[] {
-                new Import("probeContentType", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.probeContentType",
               })
           .put(
               "InvalidValueHelper",
-              new Import[] {
-                new Import("InvalidValueHelper", "org.omg.DynamicAny.DynAnyPackage", false),
+              new String[] {
+                "org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper",
               })
           .put(
               "format",
-              new Import[] {
-                new Import("format", "java.lang.String", true),
-                new Import("format", "java.text.MessageFormat", true),
+              new String[] {
+                "static java.lang.String.format", "static java.text.MessageFormat.format",
               })
           .put(
               "X509EncodedKeySpec",
-              new Import[] {
-                new Import("X509EncodedKeySpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.X509EncodedKeySpec",
               })
           .put(
               "InvalidOpenTypeException",
-              new Import[] {
-                new Import("InvalidOpenTypeException", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.InvalidOpenTypeException",
               })
           .put(
               "ProcessingEnvironment",
-              new Import[] {
-                new Import("ProcessingEnvironment", "javax.annotation.processing", false),
+              new String[] {
+                "javax.annotation.processing.ProcessingEnvironment",
               })
           .put(
               "setLong",
-              new Import[] {
-                new Import("setLong", "java.lang.reflect.Array", true),
+              new String[] {
+                "static java.lang.reflect.Array.setLong",
               })
           .put(
               "ENCLOSING_MARK",
-              new Import[] {
-                new Import("ENCLOSING_MARK", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.ENCLOSING_MARK",
               })
           .put(
               "AlreadyBoundException",
-              new Import[] {
-                new Import("AlreadyBoundException", "java.nio.channels", false),
-                new Import("AlreadyBoundException", "java.rmi", false),
+              new String[] {
+                "java.nio.channels.AlreadyBoundException", "java.rmi.AlreadyBoundException",
               })
           .put(
               "LOCSIG",
-              new Import[] {
-                new Import("LOCSIG", "java.util.jar.JarEntry", true),
-                new Import("LOCSIG", "java.util.jar.JarFile", true),
-                new Import("LOCSIG", "java.util.jar.JarInputStream", true),
-                new Import("LOCSIG", "java.util.jar.JarOutputStream", true),
-                new Import("LOCSIG", "java.util.zip.ZipEntry", true),
-                new Import("LOCSIG", "java.util.zip.ZipFile", true),
-                new Import("LOCSIG", "java.util.zip.ZipInputStream", true),
-                new Import("LOCSIG", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.LOCSIG",
+                "static java.util.jar.JarFile.LOCSIG",
+                "static java.util.jar.JarInputStream.LOCSIG",
+                "static java.util.jar.JarOutputStream.LOCSIG",
+                "static java.util.zip.ZipEntry.LOCSIG",
+                "static java.util.zip.ZipFile.LOCSIG",
+                "static java.util.zip.ZipInputStream.LOCSIG",
+                "static java.util.zip.ZipOutputStream.LOCSIG",
               })
           .put(
               "METHOD",
-              new Import[] {
-                new Import("METHOD", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("METHOD", "javax.xml.transform.OutputKeys", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.METHOD",
+                "static javax.xml.transform.OutputKeys.METHOD",
               })
           .put(
               "MemoryManagerMXBean",
-              new Import[] {
-                new Import("MemoryManagerMXBean", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.MemoryManagerMXBean",
               })
           .put(
               "URLDecoder",
-              new Import[] {
-                new Import("URLDecoder", "java.net", false),
+              new String[] {
+                "java.net.URLDecoder",
               })
           .put(
               "TABLE_HEADER",
-              new Import[] {
-                new Import("TABLE_HEADER", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.TABLE_HEADER",
               })
           .put(
               "YELLOW",
-              new Import[] {
-                new Import("YELLOW", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.YELLOW",
               })
           .put(
               "NullType",
-              new Import[] {
-                new Import("NullType", "javax.lang.model.type", false),
+              new String[] {
+                "javax.lang.model.type.NullType",
               })
           .put(
               "WrongPolicyHelper",
-              new Import[] {
-                new Import("WrongPolicyHelper", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.WrongPolicyHelper",
               })
           .put(
               "WEIGHT_DEMILIGHT",
-              new Import[] {
-                new Import("WEIGHT_DEMILIGHT", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WEIGHT_DEMILIGHT",
               })
           .put(
               "getSecurityContext",
-              new Import[] {
-                new Import("getSecurityContext", "java.rmi.server.RMIClassLoader", true),
+              new String[] {
+                "static java.rmi.server.RMIClassLoader.getSecurityContext",
               })
           .put(
               "PortUnreachableException",
-              new Import[] {
-                new Import("PortUnreachableException", "java.net", false),
+              new String[] {
+                "java.net.PortUnreachableException",
               })
           .put(
               "LAST_DIVIDER_LOCATION_PROPERTY",
-              new Import[] {
-                new Import("LAST_DIVIDER_LOCATION_PROPERTY", "javax.swing.JSplitPane", true),
+              new String[] {
+                "static javax.swing.JSplitPane.LAST_DIVIDER_LOCATION_PROPERTY",
               })
           .put(
               "CopyOnWriteArraySet",
-              new Import[] {
-                new Import("CopyOnWriteArraySet", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.CopyOnWriteArraySet",
               })
           .put(
               "ValueMemberHelper",
-              new Import[] {
-                new Import("ValueMemberHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ValueMemberHelper",
               })
           .put(
               "X509ExtendedKeyManager",
-              new Import[] {
-                new Import("X509ExtendedKeyManager", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.X509ExtendedKeyManager",
               })
           .put(
               "RenderingHints",
-              new Import[] {
-                new Import("RenderingHints", "java.awt", false),
+              new String[] {
+                "java.awt.RenderingHints",
               })
           .put(
               "createMBeanServer",
-              new Import[] {
-                new Import("createMBeanServer", "javax.management.MBeanServerFactory", true),
+              new String[] {
+                "static javax.management.MBeanServerFactory.createMBeanServer",
               })
           .put(
               "AdditionalComments",
-              new Import[] {
-                new Import("AdditionalComments", "javax.swing.text.html.HTMLDocument", true),
+              new String[] {
+                "static javax.swing.text.html.HTMLDocument.AdditionalComments",
               })
           .put(
               "PortInfo",
-              new Import[] {
-                new Import("PortInfo", "javax.xml.ws.handler", false),
+              new String[] {
+                "javax.xml.ws.handler.PortInfo",
               })
           .put(
               "SW_RESIZE_CURSOR",
-              new Import[] {
-                new Import("SW_RESIZE_CURSOR", "java.awt.Cursor", true),
-                new Import("SW_RESIZE_CURSOR", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Cursor.SW_RESIZE_CURSOR", "static java.awt.Frame.SW_RESIZE_CURSOR",
               })
           .put(
               "OBJ_ADAPTER",
-              new Import[] {
-                new Import("OBJ_ADAPTER", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.OBJ_ADAPTER",
               })
           .put(
               "getImageReadersBySuffix",
-              new Import[] {
-                new Import("getImageReadersBySuffix", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getImageReadersBySuffix",
               })
           .put(
               "dk_Union",
-              new Import[] {
-                new Import("dk_Union", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Union",
               })
           .put(
               "lowestOneBit",
-              new Import[] {
-                new Import("lowestOneBit", "java.lang.Integer", true),
-                new Import("lowestOneBit", "java.lang.Long", true),
+              new String[] {
+                "static java.lang.Integer.lowestOneBit", "static java.lang.Long.lowestOneBit",
               })
           .put(
               "MidiDeviceTransmitter",
-              new Import[] {
-                new Import("MidiDeviceTransmitter", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.MidiDeviceTransmitter",
               })
           .put(
               "LinkRef",
-              new Import[] {
-                new Import("LinkRef", "javax.naming", false),
+              new String[] {
+                "javax.naming.LinkRef",
               })
           .put(
               "COLOR_ACTION",
-              new Import[] {
-                new Import("COLOR_ACTION", "javax.swing.text.html.HTMLEditorKit", true),
+              new String[] {
+                "static javax.swing.text.html.HTMLEditorKit.COLOR_ACTION",
               })
           .put(
               "PERSISTENT",
-              new Import[] {
-                new Import("PERSISTENT", "org.omg.PortableServer.LifespanPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.LifespanPolicyValue.PERSISTENT",
               })
           .put(
               "STATUS_BAR",
-              new Import[] {
-                new Import("STATUS_BAR", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.STATUS_BAR",
               })
           .put(
               "DIRECTORY_PANE",
-              new Import[] {
-                new Import("DIRECTORY_PANE", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.DIRECTORY_PANE",
               })
           .put(
               "ZoneId",
-              new Import[] {
-                new Import("ZoneId", "java.time", false),
+              new String[] {
+                "java.time.ZoneId",
               })
           .put(
               "getInternalFrameMinimizeIcon",
-              new Import[] {
-                new Import(
-                    "getInternalFrameMinimizeIcon",
-                    "javax.swing.plaf.metal.MetalIconFactory",
-                    true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getInternalFrameMinimizeIcon",
               })
           .put(
               "MASTER_GAIN",
-              new Import[] {
-                new Import("MASTER_GAIN", "javax.sound.sampled.FloatControl.Type", true),
+              new String[] {
+                "static javax.sound.sampled.FloatControl.Type.MASTER_GAIN",
               })
           .put(
               "DNS_URL",
-              new Import[] {
-                new Import("DNS_URL", "javax.naming.Context", true),
+              new String[] {
+                "static javax.naming.Context.DNS_URL",
               })
           .put(
               "deleteIfExists",
-              new Import[] {
-                new Import("deleteIfExists", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.deleteIfExists",
               })
           .put(
               "LAYOUT_NO_LIMIT_CONTEXT",
-              new Import[] {
-                new Import("LAYOUT_NO_LIMIT_CONTEXT", "java.awt.Font", true),
+              new String[] {
+                "static java.awt.Font.LAYOUT_NO_LIMIT_CONTEXT",
               })
           .put(
               "PRIMARY",
-              new Import[] {
-                new Import("PRIMARY", "java.text.Collator", true),
+              new String[] {
+                "static java.text.Collator.PRIMARY",
               })
           .put(
               "DefaultRowSorter",
-              new Import[] {
-                new Import("DefaultRowSorter", "javax.swing", false),
+              new String[] {
+                "javax.swing.DefaultRowSorter",
               })
           .put(
               "XSLT",
-              new Import[] {
-                new Import("XSLT", "javax.xml.crypto.dsig.Transform", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.Transform.XSLT",
               })
           .put(
               "VK_INSERT",
-              new Import[] {
-                new Import("VK_INSERT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_INSERT",
               })
           .put(
               "PROGRAM_CHANGE",
-              new Import[] {
-                new Import("PROGRAM_CHANGE", "javax.sound.midi.ShortMessage", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.PROGRAM_CHANGE",
               })
           .put(
               "SortResponseControl",
-              new Import[] {
-                new Import("SortResponseControl", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.SortResponseControl",
               })
           .put(
               "FileHandler",
-              new Import[] {
-                new Import("FileHandler", "java.util.logging", false),
+              new String[] {
+                "java.util.logging.FileHandler",
               })
           .put(
               "Array",
-              new Import[] {
-                new Import("Array", "java.lang.reflect", false),
-                new Import("Array", "java.sql", false),
+              new String[] {
+                "java.lang.reflect.Array", "java.sql.Array",
               })
           .put(
               "VK_ALT",
-              new Import[] {
-                new Import("VK_ALT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_ALT",
               })
           .put(
               "GMONTH",
-              new Import[] {
-                new Import("GMONTH", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.GMONTH",
               })
           .put(
               "walkFileTree",
-              new Import[] {
-                new Import("walkFileTree", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.walkFileTree",
               })
           .put(
               "Joinable",
-              new Import[] {
-                new Import("Joinable", "javax.sql.rowset", false),
+              new String[] {
+                "javax.sql.rowset.Joinable",
               })
           .put(
               "ISO_LOCAL_DATE",
-              new Import[] {
-                new Import("ISO_LOCAL_DATE", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE",
               })
           .put(
               "OverlayLayout",
-              new Import[] {
-                new Import("OverlayLayout", "javax.swing", false),
+              new String[] {
+                "javax.swing.OverlayLayout",
               })
           .put(
               "PRIORITY_INTERCHAR",
-              new Import[] {
-                new Import("PRIORITY_INTERCHAR", "java.awt.font.GlyphJustificationInfo", true),
+              new String[] {
+                "static java.awt.font.GlyphJustificationInfo.PRIORITY_INTERCHAR",
               })
           .put(
               "TEN",
-              new Import[] {
-                new Import("TEN", "java.math.BigDecimal", true),
-                new Import("TEN", "java.math.BigInteger", true),
+              new String[] {
+                "static java.math.BigDecimal.TEN", "static java.math.BigInteger.TEN",
               })
           .put(
               "BAD_MECH",
-              new Import[] {
-                new Import("BAD_MECH", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.BAD_MECH",
               })
           .put(
               "getUserTextColor",
-              new Import[] {
-                new Import("getUserTextColor", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getUserTextColor",
               })
           .put(
               "ClientInfoStatus",
-              new Import[] {
-                new Import("ClientInfoStatus", "java.sql", false),
+              new String[] {
+                "java.sql.ClientInfoStatus",
               })
           .put(
               "BasicMenuBarUI",
-              new Import[] {
-                new Import("BasicMenuBarUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicMenuBarUI",
               })
           .build();
 }
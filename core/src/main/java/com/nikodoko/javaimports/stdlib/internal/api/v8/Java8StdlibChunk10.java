@@ -2,1567 +2,1540 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk10 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "TAG_OS2",
-              new Import[] {
-                new Import("TAG_OS2", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_OS2",
               })
           .put(
               "PrintJobAttribute",
-              new Import[] {
-                new Import("PrintJobAttribute", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.PrintJobAttribute",
               })
           .put(
               "DOMSource",
-              new Import[] {
-                new Import("DOMSource", "javax.xml.transform.dom", false),
+              new String[] {
+                "javax.xml.transform.dom.DOMSource",
               })
           .put(
               "Subset",
-              new Import[] {
-                new Import("Subset", "java.lang.Character", false),
+              new String[] {
+                "java.lang.Character.Subset",
               })
           .put(
               "BORDER_COLOR",
-              new Import[] {
-                new Import("BORDER_COLOR", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_COLOR",
               })
           .put(
               "MIDNIGHT",
-              new Import[] {
-                new Import("MIDNIGHT", "java.time.LocalTime", true),
+              new String[] {
+                "static java.time.LocalTime.MIDNIGHT",
               })
           .put(
               "DynAnyHelper",
-              new Import[] {
-                new Import("DynAnyHelper", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynAnyHelper",
               })
           .put(
               "CertSelector",
-              new Import[] {
-                new Import("CertSelector", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertSelector",
               })
           .put(
               "NT_MACHINE_UID_NAME",
-              new Import[] {
-                new Import("NT_MACHINE_UID_NAME", "org.ietf.jgss.GSSName", true),
+              new String[] {
+                "static org.ietf.jgss.GSSName.NT_MACHINE_UID_NAME",
               })
           .put(
               "DocAttributeSet",
-              new Import[] {
-                new Import("DocAttributeSet", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.DocAttributeSet",
               })
           .put(
               "MARGIN_BOTTOM",
-              new Import[] {
-                new Import("MARGIN_BOTTOM", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.MARGIN_BOTTOM",
               })
           .put(
               "RenderableImage",
-              new Import[] {
-                new Import("RenderableImage", "java.awt.image.renderable", false),
+              new String[] {
+                "java.awt.image.renderable.RenderableImage",
               })
           .put(
               "UnknownGroupException",
-              new Import[] {
-                new Import("UnknownGroupException", "java.rmi.activation", false),
+              new String[] {
+                "java.rmi.activation.UnknownGroupException",
               })
           .put(
               "tk_null",
-              new Import[] {
-                new Import("tk_null", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_null",
               })
           .put(
               "DIRECTIONALITY_BOUNDARY_NEUTRAL",
-              new Import[] {
-                new Import("DIRECTIONALITY_BOUNDARY_NEUTRAL", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_BOUNDARY_NEUTRAL",
               })
           .put(
               "Background",
-              new Import[] {
-                new Import("Background", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.Background",
               })
           .put(
               "IIOReadWarningListener",
-              new Import[] {
-                new Import("IIOReadWarningListener", "javax.imageio.event", false),
+              new String[] {
+                "javax.imageio.event.IIOReadWarningListener",
               })
           .put(
               "getByIndex",
-              new Import[] {
-                new Import("getByIndex", "java.net.NetworkInterface", true),
+              new String[] {
+                "static java.net.NetworkInterface.getByIndex",
               })
           .put(
               "newScheduledThreadPool",
-              new Import[] {
-                new Import("newScheduledThreadPool", "java.util.concurrent.Executors", true),
+              new String[] {
+                "static java.util.concurrent.Executors.newScheduledThreadPool",
               })
           .put(
               "INTERPRETER_RESOURCE_UNAVAILABLE",
-              new Import[] {
-                new Import(
-                    "INTERPRETER_RESOURCE_UNAVAILABLE",
-                    "javax.print.attribute.standard.PrinterStateReason",
-                    true),
+              new String[] {
+                "static"
+                    + " javax.print.attribute.standard.PrinterStateReason.INTERPRETER_RESOURCE_UNAVAILABLE",
               })
           .put(
               "CRLSelector",
-              new Import[] {
-                new Import("CRLSelector", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CRLSelector",
               })
           .put(
               "SocketTimeoutException",
-              new Import[] {
-                new Import("SocketTimeoutException", "java.net", false),
+              new String[] {
+                "java.net.SocketTimeoutException",
               })
           .put(
               "CertPathRep",
-              new Import[] {
-                new Import("CertPathRep", "java.security.cert.CertPath", false),
+              new String[] {
+                "java.security.cert.CertPath.CertPathRep",
               })
           .put(
               "_tk_wstring",
-              new Import[] {
-                new Import("_tk_wstring", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_wstring",
               })
           .put(
               "URISchemeNotSupported",
-              new Import[] {
-                new Import("URISchemeNotSupported", "javax.print.URIException", true),
+              new String[] {
+                "static javax.print.URIException.URISchemeNotSupported",
               })
           .put(
               "PAGE_START",
-              new Import[] {
-                new Import("PAGE_START", "java.awt.BorderLayout", true),
-                new Import("PAGE_START", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.BorderLayout.PAGE_START",
+                "static java.awt.GridBagConstraints.PAGE_START",
               })
           .put(
               "ZoneRules",
-              new Import[] {
-                new Import("ZoneRules", "java.time.zone", false),
+              new String[] {
+                "java.time.zone.ZoneRules",
               })
           .put(
               "EndOfLineStringProperty",
-              new Import[] {
-                new Import("EndOfLineStringProperty", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.EndOfLineStringProperty",
               })
           .put(
               "_tk_char",
-              new Import[] {
-                new Import("_tk_char", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_char",
               })
           .put(
               "IMAGE_INCOMPATIBLE",
-              new Import[] {
-                new Import("IMAGE_INCOMPATIBLE", "java.awt.image.VolatileImage", true),
+              new String[] {
+                "static java.awt.image.VolatileImage.IMAGE_INCOMPATIBLE",
               })
           .put(
               "REJANG",
-              new Import[] {
-                new Import("REJANG", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.REJANG",
               })
           .put(
               "LongSeqHolder",
-              new Import[] {
-                new Import("LongSeqHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.LongSeqHolder",
               })
           .put(
               "ElementIterator",
-              new Import[] {
-                new Import("ElementIterator", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.ElementIterator",
               })
           .put(
               "solveCubic",
-              new Import[] {
-                new Import("solveCubic", "java.awt.geom.CubicCurve2D", true),
+              new String[] {
+                "static java.awt.geom.CubicCurve2D.solveCubic",
               })
           .put(
               "LITTLE_ENDIAN",
-              new Import[] {
-                new Import("LITTLE_ENDIAN", "java.nio.ByteOrder", true),
+              new String[] {
+                "static java.nio.ByteOrder.LITTLE_ENDIAN",
               })
           .put(
               "createUIs",
-              new Import[] {
-                new Import("createUIs", "javax.swing.plaf.multi.MultiLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.multi.MultiLookAndFeel.createUIs",
               })
           .put(
               "LOCVER",
-              new Import[] {
-                new Import("LOCVER", "java.util.jar.JarEntry", true),
-                new Import("LOCVER", "java.util.jar.JarFile", true),
-                new Import("LOCVER", "java.util.jar.JarInputStream", true),
-                new Import("LOCVER", "java.util.jar.JarOutputStream", true),
-                new Import("LOCVER", "java.util.zip.ZipEntry", true),
-                new Import("LOCVER", "java.util.zip.ZipFile", true),
-                new Import("LOCVER", "java.util.zip.ZipInputStream", true),
-                new Import("LOCVER", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.LOCVER",
+                "static java.util.jar.JarFile.LOCVER",
+                "static java.util.jar.JarInputStream.LOCVER",
+                "static java.util.jar.JarOutputStream.LOCVER",
+                "static java.util.zip.ZipEntry.LOCVER",
+                "static java.util.zip.ZipFile.LOCVER",
+                "static java.util.zip.ZipInputStream.LOCVER",
+                "static java.util.zip.ZipOutputStream.LOCVER",
               })
           .put(
               "UNIQUE_ID",
-              new Import[] {
-                new Import("UNIQUE_ID", "org.omg.PortableServer.IdUniquenessPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.IdUniquenessPolicyValue.UNIQUE_ID",
               })
           .put(
               "VK_ALL_CANDIDATES",
-              new Import[] {
-                new Import("VK_ALL_CANDIDATES", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_ALL_CANDIDATES",
               })
           .put(
               "AEADBadTagException",
-              new Import[] {
-                new Import("AEADBadTagException", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.AEADBadTagException",
               })
           .put(
               "HashPrintServiceAttributeSet",
-              new Import[] {
-                new Import("HashPrintServiceAttributeSet", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.HashPrintServiceAttributeSet",
               })
           .put(
               "LINE_HEIGHT",
-              new Import[] {
-                new Import("LINE_HEIGHT", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.LINE_HEIGHT",
               })
           .put(
               "getSyncFactory",
-              new Import[] {
-                new Import("getSyncFactory", "javax.sql.rowset.spi.SyncFactory", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncFactory.getSyncFactory",
               })
           .put(
               "tk_short",
-              new Import[] {
-                new Import("tk_short", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_short",
               })
           .put(
               "URI_SOAP_1_2_ROLE_NEXT",
-              new Import[] {
-                new Import("URI_SOAP_1_2_ROLE_NEXT", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.URI_SOAP_1_2_ROLE_NEXT",
               })
           .put(
               "PrinterResolution",
-              new Import[] {
-                new Import("PrinterResolution", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PrinterResolution",
               })
           .put(
               "RSAPrivateKeySpec",
-              new Import[] {
-                new Import("RSAPrivateKeySpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.RSAPrivateKeySpec",
               })
           .put(
               "VK_PLUS",
-              new Import[] {
-                new Import("VK_PLUS", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_PLUS",
               })
           .put(
               "requireNonNull",
-              new Import[] {
-                new Import("requireNonNull", "java.util.Objects", true),
+              new String[] {
+                "static java.util.Objects.requireNonNull",
               })
           .put(
               "TT_NUMBER",
-              new Import[] {
-                new Import("TT_NUMBER", "java.io.StreamTokenizer", true),
+              new String[] {
+                "static java.io.StreamTokenizer.TT_NUMBER",
               })
           .put(
               "synchronizedList",
-              new Import[] {
-                new Import("synchronizedList", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.synchronizedList",
               })
           .put(
               "SchemaViolationException",
-              new Import[] {
-                new Import("SchemaViolationException", "javax.naming.directory", false),
+              new String[] {
+                "javax.naming.directory.SchemaViolationException",
               })
           .put(
               "TableRowSorter",
-              new Import[] {
-                new Import("TableRowSorter", "javax.swing.table", false),
+              new String[] {
+                "javax.swing.table.TableRowSorter",
               })
           .put(
               "FileCacheImageOutputStream",
-              new Import[] {
-                new Import("FileCacheImageOutputStream", "javax.imageio.stream", false),
+              new String[] {
+                "javax.imageio.stream.FileCacheImageOutputStream",
               })
           .put(
               "HTTP_RESPONSE_CODE",
-              new Import[] {
-                new Import("HTTP_RESPONSE_CODE", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.handler.MessageContext.HTTP_RESPONSE_CODE",
               })
           .put(
               "Context",
-              new Import[] {
-                new Import("Context", "javax.naming", false),
-                new Import("Context", "org.omg.CORBA", false),
+              new String[] {
+                "javax.naming.Context", "org.omg.CORBA.Context",
               })
           .put(
               "SOAP_1_2_CONTENT_TYPE",
-              new Import[] {
-                new Import("SOAP_1_2_CONTENT_TYPE", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.SOAP_1_2_CONTENT_TYPE",
               })
           .put(
               "getLastModifiedTime",
-              new Import[] {
-                new Import("getLastModifiedTime", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.getLastModifiedTime",
               })
           .put(
               "PrinterLocation",
-              new Import[] {
-                new Import("PrinterLocation", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PrinterLocation",
               })
           .put(
               "QueuedJobCount",
-              new Import[] {
-                new Import("QueuedJobCount", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.QueuedJobCount",
               })
           .put(
               "DynFixedOperations",
-              new Import[] {
-                new Import("DynFixedOperations", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynFixedOperations",
               })
           .put(
               "defaultThreadFactory",
-              new Import[] {
-                new Import("defaultThreadFactory", "java.util.concurrent.Executors", true),
+              new String[] {
+                "static java.util.concurrent.Executors.defaultThreadFactory",
               })
           .put(
               "TreeSelectionEvent",
-              new Import[] {
-                new Import("TreeSelectionEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.TreeSelectionEvent",
               })
           .put(
               "JOB_TRANSFORMING",
-              new Import[] {
-                new Import(
-                    "JOB_TRANSFORMING", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.JOB_TRANSFORMING",
               })
           .put(
               "CLASS_ABSTRACT",
-              new Import[] {
-                new Import("CLASS_ABSTRACT", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.CLASS_ABSTRACT",
               })
           .put(
               "getCommonPoolParallelism",
-              new Import[] {
-                new Import("getCommonPoolParallelism", "java.util.concurrent.ForkJoinPool", true),
+              new String[] {
+                "static java.util.concurrent.ForkJoinPool.getCommonPoolParallelism",
               })
           .put(
               "setAlignment",
-              new Import[] {
-                new Import("setAlignment", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setAlignment",
               })
           .put(
               "SingleSelectionModel",
-              new Import[] {
-                new Import("SingleSelectionModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.SingleSelectionModel",
               })
           .put(
               "InvalidSlotHelper",
-              new Import[] {
-                new Import("InvalidSlotHelper", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.InvalidSlotHelper",
               })
           .put(
               "ComponentColorModel",
-              new Import[] {
-                new Import("ComponentColorModel", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.ComponentColorModel",
               })
           .put(
               "functionColumnIn",
-              new Import[] {
-                new Import("functionColumnIn", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.functionColumnIn",
               })
           .put(
               "JOB_QUEUED",
-              new Import[] {
-                new Import("JOB_QUEUED", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.JOB_QUEUED",
               })
           .put(
               "DATA_CONVERSION",
-              new Import[] {
-                new Import("DATA_CONVERSION", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.DATA_CONVERSION",
               })
           .put(
               "setShort",
-              new Import[] {
-                new Import("setShort", "java.lang.reflect.Array", true),
+              new String[] {
+                "static java.lang.reflect.Array.setShort",
               })
           .put(
               "getTimeInstance",
-              new Import[] {
-                new Import("getTimeInstance", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.getTimeInstance",
               })
           .put(
               "TitledBorder",
-              new Import[] {
-                new Import("TitledBorder", "javax.swing.border", false),
+              new String[] {
+                "javax.swing.border.TitledBorder",
               })
           .put(
               "DelayQueue",
-              new Import[] {
-                new Import("DelayQueue", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.DelayQueue",
               })
           .put(
               "DateTimeAtCompleted",
-              new Import[] {
-                new Import("DateTimeAtCompleted", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.DateTimeAtCompleted",
               })
           .put(
               "Ellipse2D",
-              new Import[] {
-                new Import("Ellipse2D", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.Ellipse2D",
               })
           .put(
               "IGNORE_ALL_BEANINFO",
-              new Import[] {
-                new Import("IGNORE_ALL_BEANINFO", "java.beans.Introspector", true),
+              new String[] {
+                "static java.beans.Introspector.IGNORE_ALL_BEANINFO",
               })
           .put(
               "SaslClient",
-              new Import[] {
-                new Import("SaslClient", "javax.security.sasl", false),
+              new String[] {
+                "javax.security.sasl.SaslClient",
               })
           .put(
               "DEFECTIVE_TOKEN",
-              new Import[] {
-                new Import("DEFECTIVE_TOKEN", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.DEFECTIVE_TOKEN",
               })
           .put(
               "DynValueCommonOperations",
-              new Import[] {
-                new Import("DynValueCommonOperations", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynValueCommonOperations",
               })
           .put(
               "PageFormat",
-              new Import[] {
-                new Import("PageFormat", "java.awt.print", false),
+              new String[] {
+                "java.awt.print.PageFormat",
               })
           .put(
               "LIMBU",
-              new Import[] {
-                new Import("LIMBU", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.LIMBU",
               })
           .put(
               "BasicToolTipUI",
-              new Import[] {
-                new Import("BasicToolTipUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicToolTipUI",
               })
           .put(
               "JToggleButton",
-              new Import[] {
-                new Import("JToggleButton", "javax.swing", false),
+              new String[] {
+                "javax.swing.JToggleButton",
               })
           .put(
               "DefaultCaret",
-              new Import[] {
-                new Import("DefaultCaret", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.DefaultCaret",
               })
           .put(
               "NORTH",
-              new Import[] {
-                new Import("NORTH", "java.awt.BorderLayout", true),
-                new Import("NORTH", "java.awt.GridBagConstraints", true),
-                new Import("NORTH", "javax.swing.SpringLayout", true),
-                new Import("NORTH", "javax.swing.SwingConstants", true),
+              new String[] {
+                "static java.awt.BorderLayout.NORTH",
+                "static java.awt.GridBagConstraints.NORTH",
+                "static javax.swing.SpringLayout.NORTH",
+                "static javax.swing.SwingConstants.NORTH",
               })
           .put(
               "JobImpressions",
-              new Import[] {
-                new Import("JobImpressions", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobImpressions",
               })
           .put(
               "singletonMap",
-              new Import[] {
-                new Import("singletonMap", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.singletonMap",
               })
           .put(
               "XMLFilterImpl",
-              new Import[] {
-                new Import("XMLFilterImpl", "org.xml.sax.helpers", false),
+              new String[] {
+                "org.xml.sax.helpers.XMLFilterImpl",
               })
           .put(
               "DynAnyOperations",
-              new Import[] {
-                new Import("DynAnyOperations", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynAnyOperations",
               })
           .put(
               "VALUE_ANTIALIAS_DEFAULT",
-              new Import[] {
-                new Import("VALUE_ANTIALIAS_DEFAULT", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_ANTIALIAS_DEFAULT",
               })
           .put(
               "AsynchronousChannel",
-              new Import[] {
-                new Import("AsynchronousChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.AsynchronousChannel",
               })
           .put(
               "XmlElementWrapper",
-              new Import[] {
-                new Import("XmlElementWrapper", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlElementWrapper",
               })
           .put(
               "HashSet",
-              new Import[] {
-                new Import("HashSet", "java.util", false),
+              new String[] {
+                "java.util.HashSet",
               })
           .put(
               "SORTED",
-              new Import[] {
-                new Import("SORTED", "java.util.Spliterator", true),
+              new String[] {
+                "static java.util.Spliterator.SORTED",
               })
           .put(
               "AbstractList",
-              new Import[] {
-                new Import("AbstractList", "java.util", false),
+              new String[] {
+                "java.util.AbstractList",
               })
           .put(
               "RESIZE_WEIGHT_PROPERTY",
-              new Import[] {
-                new Import("RESIZE_WEIGHT_PROPERTY", "javax.swing.JSplitPane", true),
+              new String[] {
+                "static javax.swing.JSplitPane.RESIZE_WEIGHT_PROPERTY",
               })
           .put(
               "SURROGATE",
-              new Import[] {
-                new Import("SURROGATE", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.SURROGATE",
               })
           .put(
               "EMPTY_MAP",
-              new Import[] {
-                new Import("EMPTY_MAP", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.EMPTY_MAP",
               })
           .put(
               "synchronizedNavigableMap",
-              new Import[] {
-                new Import("synchronizedNavigableMap", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.synchronizedNavigableMap",
               })
           .put(
               "GRADE_CHECK_MODIFIED_AT_COMMIT",
-              new Import[] {
-                new Import(
-                    "GRADE_CHECK_MODIFIED_AT_COMMIT", "javax.sql.rowset.spi.SyncProvider", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncProvider.GRADE_CHECK_MODIFIED_AT_COMMIT",
               })
           .put(
               "parameterModeUnknown",
-              new Import[] {
-                new Import("parameterModeUnknown", "java.sql.ParameterMetaData", true),
+              new String[] {
+                "static java.sql.ParameterMetaData.parameterModeUnknown",
               })
           .put(
               "RequestProcessingPolicy",
-              new Import[] {
-                new Import("RequestProcessingPolicy", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.RequestProcessingPolicy",
               })
           .put(
               "ICON_MONO_32x32",
-              new Import[] {
-                new Import("ICON_MONO_32x32", "java.beans.BeanInfo", true),
+              new String[] {
+                "static java.beans.BeanInfo.ICON_MONO_32x32",
               })
           .put(
               "X_AXIS",
-              new Import[] {
-                new Import("X_AXIS", "javax.swing.BoxLayout", true),
-                new Import("X_AXIS", "javax.swing.text.View", true),
+              new String[] {
+                "static javax.swing.BoxLayout.X_AXIS", "static javax.swing.text.View.X_AXIS",
               })
           .put(
               "SynthPanelUI",
-              new Import[] {
-                new Import("SynthPanelUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthPanelUI",
               })
           .put(
               "DISABLED",
-              new Import[] {
-                new Import("DISABLED", "javax.swing.plaf.synth.SynthConstants", true),
+              new String[] {
+                "static javax.swing.plaf.synth.SynthConstants.DISABLED",
               })
           .put(
               "RGBImageFilter",
-              new Import[] {
-                new Import("RGBImageFilter", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.RGBImageFilter",
               })
           .put(
               "BasicTableUI",
-              new Import[] {
-                new Import("BasicTableUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicTableUI",
               })
           .put(
               "CopiesSupported",
-              new Import[] {
-                new Import("CopiesSupported", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.CopiesSupported",
               })
           .put(
               "HORIZONTAL_SCROLLBAR",
-              new Import[] {
-                new Import("HORIZONTAL_SCROLLBAR", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.HORIZONTAL_SCROLLBAR",
               })
           .put(
               "DynValueBox",
-              new Import[] {
-                new Import("DynValueBox", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynValueBox",
               })
           .put(
               "LONGVARBINARY",
-              new Import[] {
-                new Import("LONGVARBINARY", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.LONGVARBINARY",
               })
           .put(
               "BYTE_ARRAY",
-              new Import[] {
-                new Import("BYTE_ARRAY", "javax.print.DocFlavor", false),
+              new String[] {
+                "javax.print.DocFlavor.BYTE_ARRAY",
               })
           .put(
               "bestRowTemporary",
-              new Import[] {
-                new Import("bestRowTemporary", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.bestRowTemporary",
               })
           .put(
               "AuthenticationNotSupportedException",
-              new Import[] {
-                new Import("AuthenticationNotSupportedException", "javax.naming", false),
+              new String[] {
+                "javax.naming.AuthenticationNotSupportedException",
               })
           .put(
               "EndpointContext",
-              new Import[] {
-                new Import("EndpointContext", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.EndpointContext",
               })
           .put(
               "BELOW_BASELINE_LEADING",
-              new Import[] {
-                new Import("BELOW_BASELINE_LEADING", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.BELOW_BASELINE_LEADING",
               })
           .put(
               "Appendable",
-              new Import[] {
-                new Import("Appendable", "java.lang", false),
+              new String[] {
+                "java.lang.Appendable",
               })
           .put(
               "LOCEXT",
-              new Import[] {
-                new Import("LOCEXT", "java.util.jar.JarEntry", true),
-                new Import("LOCEXT", "java.util.jar.JarFile", true),
-                new Import("LOCEXT", "java.util.jar.JarInputStream", true),
-                new Import("LOCEXT", "java.util.jar.JarOutputStream", true),
-                new Import("LOCEXT", "java.util.zip.ZipEntry", true),
-                new Import("LOCEXT", "java.util.zip.ZipFile", true),
-                new Import("LOCEXT", "java.util.zip.ZipInputStream", true),
-                new Import("LOCEXT", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.LOCEXT",
+                "static java.util.jar.JarFile.LOCEXT",
+                "static java.util.jar.JarInputStream.LOCEXT",
+                "static java.util.jar.JarOutputStream.LOCEXT",
+                "static java.util.zip.ZipEntry.LOCEXT",
+                "static java.util.zip.ZipFile.LOCEXT",
+                "static java.util.zip.ZipInputStream.LOCEXT",
+                "static java.util.zip.ZipOutputStream.LOCEXT",
               })
           .put(
               "HTTP_LENGTH_REQUIRED",
-              new Import[] {
-                new Import("HTTP_LENGTH_REQUIRED", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_LENGTH_REQUIRED",
               })
           .put(
               "CookiePolicy",
-              new Import[] {
-                new Import("CookiePolicy", "java.net", false),
+              new String[] {
+                "java.net.CookiePolicy",
               })
           .put(
               "PRIORITY_KASHIDA",
-              new Import[] {
-                new Import("PRIORITY_KASHIDA", "java.awt.font.GlyphJustificationInfo", true),
+              new String[] {
+                "static java.awt.font.GlyphJustificationInfo.PRIORITY_KASHIDA",
               })
           .put(
               "TCP_NODELAY",
-              new Import[] {
-                new Import("TCP_NODELAY", "java.net.SocketOptions", true),
-                new Import("TCP_NODELAY", "java.net.StandardSocketOptions", true),
+              new String[] {
+                "static java.net.SocketOptions.TCP_NODELAY",
+                "static java.net.StandardSocketOptions.TCP_NODELAY",
               })
           .put(
               "replaceAll",
-              new Import[] {
-                new Import("replaceAll", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.replaceAll",
               })
           .put(
               "typePredNone",
-              new Import[] {
-                new Import("typePredNone", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.typePredNone",
               })
           .put(
               "VK_EURO_SIGN",
-              new Import[] {
-                new Import("VK_EURO_SIGN", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_EURO_SIGN",
               })
           .put(
               "MIN_NORMAL",
-              new Import[] {
-                new Import("MIN_NORMAL", "java.lang.Double", true),
-                new Import("MIN_NORMAL", "java.lang.Float", true),
+              new String[] {
+                "static java.lang.Double.MIN_NORMAL", "static java.lang.Float.MIN_NORMAL",
               })
           .put(
               "PrivilegedAction",
-              new Import[] {
-                new Import("PrivilegedAction", "java.security", false),
+              new String[] {
+                "java.security.PrivilegedAction",
               })
           .put(
               "HTTPS",
-              new Import[] {
-                new Import(
-                    "HTTPS", "javax.print.attribute.standard.ReferenceUriSchemesSupported", true),
+              new String[] {
+                "static javax.print.attribute.standard.ReferenceUriSchemesSupported.HTTPS",
               })
           .put(
               "WritableRaster",
-              new Import[] {
-                new Import("WritableRaster", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.WritableRaster",
               })
           .put(
               "imageFlavor",
-              new Import[] {
-                new Import("imageFlavor", "java.awt.datatransfer.DataFlavor", true),
+              new String[] {
+                "static java.awt.datatransfer.DataFlavor.imageFlavor",
               })
           .put(
               "CTRL_MASK",
-              new Import[] {
-                new Import("CTRL_MASK", "java.awt.Event", true),
-                new Import("CTRL_MASK", "java.awt.event.ActionEvent", true),
-                new Import("CTRL_MASK", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.Event.CTRL_MASK",
+                "static java.awt.event.ActionEvent.CTRL_MASK",
+                "static java.awt.event.InputEvent.CTRL_MASK",
               })
           .put(
               "PixelGrabber",
-              new Import[] {
-                new Import("PixelGrabber", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.PixelGrabber",
               })
           .put(
               "isFinal",
-              new Import[] {
-                new Import("isFinal", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.isFinal",
               })
           .put(
               "NotIdentifiableEventImpl",
-              new Import[] {
-                new Import("NotIdentifiableEventImpl", "javax.xml.bind.helpers", false),
+              new String[] {
+                "javax.xml.bind.helpers.NotIdentifiableEventImpl",
               })
           .put(
               "ZoneOffsetTransition",
-              new Import[] {
-                new Import("ZoneOffsetTransition", "java.time.zone", false),
+              new String[] {
+                "java.time.zone.ZoneOffsetTransition",
               })
           .put(
               "filterTags",
-              new Import[] {
-                new Import("filterTags", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.filterTags",
               })
           .put(
               "setConfiguration",
-              new Import[] {
-                new Import("setConfiguration", "javax.security.auth.login.Configuration", true),
+              new String[] {
+                "static javax.security.auth.login.Configuration.setConfiguration",
               })
           .put(
               "MenuDragMouseListener",
-              new Import[] {
-                new Import("MenuDragMouseListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.MenuDragMouseListener",
               })
           .put(
               "SerialArray",
-              new Import[] {
-                new Import("SerialArray", "javax.sql.rowset.serial", false),
+              new String[] {
+                "javax.sql.rowset.serial.SerialArray",
               })
           .put(
               "TransformerFactoryConfigurationError",
-              new Import[] {
-                new Import("TransformerFactoryConfigurationError", "javax.xml.transform", false),
+              new String[] {
+                "javax.xml.transform.TransformerFactoryConfigurationError",
               })
           .put(
               "BasicOptionPaneUI",
-              new Import[] {
-                new Import("BasicOptionPaneUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicOptionPaneUI",
               })
           .put(
               "STAPLE_DUAL_TOP",
-              new Import[] {
-                new Import("STAPLE_DUAL_TOP", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.STAPLE_DUAL_TOP",
               })
           .put(
               "createHorizontalGlue",
-              new Import[] {
-                new Import("createHorizontalGlue", "javax.swing.Box", true),
+              new String[] {
+                "static javax.swing.Box.createHorizontalGlue",
               })
           .put(
               "StreamReaderDelegate",
-              new Import[] {
-                new Import("StreamReaderDelegate", "javax.xml.stream.util", false),
+              new String[] {
+                "javax.xml.stream.util.StreamReaderDelegate",
               })
           .put(
               "ExecutorService",
-              new Import[] {
-                new Import("ExecutorService", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ExecutorService",
               })
           .put(
               "asin",
-              new Import[] {
-                new Import("asin", "java.lang.Math", true),
-                new Import("asin", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.asin", "static java.lang.StrictMath.asin",
               })
           .put(
               "TableStringConverter",
-              new Import[] {
-                new Import("TableStringConverter", "javax.swing.table", false),
+              new String[] {
+                "javax.swing.table.TableStringConverter",
               })
           .put(
               "OpenMBeanOperationInfo",
-              new Import[] {
-                new Import("OpenMBeanOperationInfo", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.OpenMBeanOperationInfo",
               })
           .put(
               "XmlAccessType",
-              new Import[] {
-                new Import("XmlAccessType", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlAccessType",
               })
           .put(
               "PAGE_EXISTS",
-              new Import[] {
-                new Import("PAGE_EXISTS", "java.awt.print.Printable", true),
+              new String[] {
+                "static java.awt.print.Printable.PAGE_EXISTS",
               })
           .put(
               "icSigProfileDescriptionTag",
-              new Import[] {
-                new Import("icSigProfileDescriptionTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigProfileDescriptionTag",
               })
           .put(
               "MalformedURLException",
-              new Import[] {
-                new Import("MalformedURLException", "java.net", false),
+              new String[] {
+                "java.net.MalformedURLException",
               })
           .put(
               "BasicButtonListener",
-              new Import[] {
-                new Import("BasicButtonListener", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicButtonListener",
               })
           .put(
               "CONREF",
-              new Import[] {
-                new Import("CONREF", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.CONREF",
               })
           .put(
               "MatteBorderUIResource",
-              new Import[] {
-                new Import("MatteBorderUIResource", "javax.swing.plaf.BorderUIResource", false),
+              new String[] {
+                "javax.swing.plaf.BorderUIResource.MatteBorderUIResource",
               })
           .put(
               "FILE_HIDING_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("FILE_HIDING_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.FILE_HIDING_CHANGED_PROPERTY",
               })
           .put(
               "JFrame",
-              new Import[] {
-                new Import("JFrame", "javax.swing", false),
+              new String[] {
+                "javax.swing.JFrame",
               })
           .put(
               "getAWTKeyStrokeForEvent",
-              new Import[] {
-                new Import("getAWTKeyStrokeForEvent", "java.awt.AWTKeyStroke", true),
+              new String[] {
+                "static java.awt.AWTKeyStroke.getAWTKeyStrokeForEvent",
               })
           .put(
               "SOUTH",
-              new Import[] {
-                new Import("SOUTH", "java.awt.BorderLayout", true),
-                new Import("SOUTH", "java.awt.GridBagConstraints", true),
-                new Import("SOUTH", "javax.swing.SpringLayout", true),
-                new Import("SOUTH", "javax.swing.SwingConstants", true),
+              new String[] {
+                "static java.awt.BorderLayout.SOUTH",
+                "static java.awt.GridBagConstraints.SOUTH",
+                "static javax.swing.SpringLayout.SOUTH",
+                "static javax.swing.SwingConstants.SOUTH",
               })
           .put(
               "Vector",
-              new Import[] {
-                new Import("Vector", "java.util", false),
+              new String[] {
+                "java.util.Vector",
               })
           .put(
               "PREFERRED_SIZE",
-              new Import[] {
-                new Import("PREFERRED_SIZE", "javax.swing.GroupLayout", true),
+              new String[] {
+                "static javax.swing.GroupLayout.PREFERRED_SIZE",
               })
           .put(
               "TYPE_SCROLL_SENSITIVE",
-              new Import[] {
-                new Import("TYPE_SCROLL_SENSITIVE", "java.sql.ResultSet", true),
+              new String[] {
+                "static java.sql.ResultSet.TYPE_SCROLL_SENSITIVE",
               })
           .put(
               "TreeExpansionEvent",
-              new Import[] {
-                new Import("TreeExpansionEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.TreeExpansionEvent",
               })
           .put(
               "createDirectories",
-              new Import[] {
-                new Import("createDirectories", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.createDirectories",
               })
           .put(
               "typeNullableUnknown",
-              new Import[] {
-                new Import("typeNullableUnknown", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.typeNullableUnknown",
               })
           .put(
               "ReflectionException",
-              new Import[] {
-                new Import("ReflectionException", "javax.management", false),
+              new String[] {
+                "javax.management.ReflectionException",
               })
           .put(
               "getDataTypeSize",
-              new Import[] {
-                new Import("getDataTypeSize", "java.awt.image.DataBuffer", true),
+              new String[] {
+                "static java.awt.image.DataBuffer.getDataTypeSize",
               })
           .put(
               "VK_KP_DOWN",
-              new Import[] {
-                new Import("VK_KP_DOWN", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_KP_DOWN",
               })
           .put(
               "Unpacker",
-              new Import[] {
-                new Import("Unpacker", "java.util.jar.Pack200", false),
+              new String[] {
+                "java.util.jar.Pack200.Unpacker",
               })
           .put(
               "X509Certificate",
-              new Import[] {
-                new Import("X509Certificate", "java.security.cert", false),
-                new Import("X509Certificate", "javax.security.cert", false),
+              new String[] {
+                "java.security.cert.X509Certificate", "javax.security.cert.X509Certificate",
               })
           .put(
               "completedFuture",
-              new Import[] {
-                new Import("completedFuture", "java.util.concurrent.CompletableFuture", true),
+              new String[] {
+                "static java.util.concurrent.CompletableFuture.completedFuture",
               })
           .put(
               "LETTERLIKE_SYMBOLS",
-              new Import[] {
-                new Import("LETTERLIKE_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.LETTERLIKE_SYMBOLS",
               })
           .put(
               "ECParameterSpec",
-              new Import[] {
-                new Import("ECParameterSpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.ECParameterSpec",
               })
           .put(
               "Byte",
-              new Import[] {
-                new Import("Byte", "java.lang", false),
+              new String[] {
+                "java.lang.Byte",
               })
           .put(
               "AUTO_RESIZE_SUBSEQUENT_COLUMNS",
-              new Import[] {
-                new Import("AUTO_RESIZE_SUBSEQUENT_COLUMNS", "javax.swing.JTable", true),
+              new String[] {
+                "static javax.swing.JTable.AUTO_RESIZE_SUBSEQUENT_COLUMNS",
               })
           .put(
               "DataOutput",
-              new Import[] {
-                new Import("DataOutput", "java.io", false),
+              new String[] {
+                "java.io.DataOutput",
               })
           .put(
               "TMSTARTRSCAN",
-              new Import[] {
-                new Import("TMSTARTRSCAN", "javax.transaction.xa.XAResource", true),
+              new String[] {
+                "static javax.transaction.xa.XAResource.TMSTARTRSCAN",
               })
           .put(
               "typeNullable",
-              new Import[] {
-                new Import("typeNullable", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.typeNullable",
               })
           .put(
               "NOSHADE",
-              new Import[] {
-                new Import("NOSHADE", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.NOSHADE",
               })
           .put(
               "DetailEntry",
-              new Import[] {
-                new Import("DetailEntry", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.DetailEntry",
               })
           .put(
               "PopupMenuListener",
-              new Import[] {
-                new Import("PopupMenuListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.PopupMenuListener",
               })
           .put(
               "Reader",
-              new Import[] {
-                new Import("Reader", "java.io", false),
+              new String[] {
+                "java.io.Reader",
               })
           .put(
               "getMidiDeviceInfo",
-              new Import[] {
-                new Import("getMidiDeviceInfo", "javax.sound.midi.MidiSystem", true),
+              new String[] {
+                "static javax.sound.midi.MidiSystem.getMidiDeviceInfo",
               })
           .put(
               "StreamSupport",
-              new Import[] {
-                new Import("StreamSupport", "java.util.stream", false),
+              new String[] {
+                "java.util.stream.StreamSupport",
               })
           .put(
               "DragSourceListener",
-              new Import[] {
-                new Import("DragSourceListener", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DragSourceListener",
               })
           .put(
               "DynStruct",
-              new Import[] {
-                new Import("DynStruct", "org.omg.CORBA", false),
-                new Import("DynStruct", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.CORBA.DynStruct", "org.omg.DynamicAny.DynStruct",
               })
           .put(
               "LAST_LINE_END",
-              new Import[] {
-                new Import("LAST_LINE_END", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.LAST_LINE_END",
               })
           .put(
               "DragSourceEvent",
-              new Import[] {
-                new Import("DragSourceEvent", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DragSourceEvent",
               })
           .put(
               "SYRIAC",
-              new Import[] {
-                new Import("SYRIAC", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SYRIAC",
               })
           .put(
               "TOPDOWNLEFTRIGHT",
-              new Import[] {
-                new Import("TOPDOWNLEFTRIGHT", "java.awt.image.ImageConsumer", true),
+              new String[] {
+                "static java.awt.image.ImageConsumer.TOPDOWNLEFTRIGHT",
               })
           .put(
               "UnknownEncoding",
-              new Import[] {
-                new Import("UnknownEncoding", "org.omg.IOP.CodecFactoryPackage", false),
+              new String[] {
+                "org.omg.IOP.CodecFactoryPackage.UnknownEncoding",
               })
           .put(
               "RELAXNG_NS_URI",
-              new Import[] {
-                new Import("RELAXNG_NS_URI", "javax.xml.XMLConstants", true),
+              new String[] {
+                "static javax.xml.XMLConstants.RELAXNG_NS_URI",
               })
           .put(
               "CHEROKEE",
-              new Import[] {
-                new Import("CHEROKEE", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CHEROKEE",
               })
           .put(
               "MISCELLANEOUS_SYMBOLS_AND_ARROWS",
-              new Import[] {
-                new Import(
-                    "MISCELLANEOUS_SYMBOLS_AND_ARROWS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MISCELLANEOUS_SYMBOLS_AND_ARROWS",
               })
           .put(
               "PopupMenuBorder",
-              new Import[] {
-                new Import("PopupMenuBorder", "javax.swing.plaf.metal.MetalBorders", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalBorders.PopupMenuBorder",
               })
           .put(
               "TAG_HEAD",
-              new Import[] {
-                new Import("TAG_HEAD", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_HEAD",
               })
           .put(
               "ROUND_FLOOR",
-              new Import[] {
-                new Import("ROUND_FLOOR", "java.math.BigDecimal", true),
+              new String[] {
+                "static java.math.BigDecimal.ROUND_FLOOR",
               })
           .put(
               "PlatformLoggingMXBean",
-              new Import[] {
-                new Import("PlatformLoggingMXBean", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.PlatformLoggingMXBean",
               })
           .put(
               "SecretKeyFactory",
-              new Import[] {
-                new Import("SecretKeyFactory", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.SecretKeyFactory",
               })
           .put(
               "CONCURRENT",
-              new Import[] {
-                new Import("CONCURRENT", "java.util.Spliterator", true),
+              new String[] {
+                "static java.util.Spliterator.CONCURRENT",
               })
           .put(
               "FontFamily",
-              new Import[] {
-                new Import("FontFamily", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.FontFamily",
               })
           .put(
               "NUMERIC",
-              new Import[] {
-                new Import("NUMERIC", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.NUMERIC",
               })
           .put(
               "PANEL",
-              new Import[] {
-                new Import("PANEL", "javax.accessibility.AccessibleRole", true),
-                new Import("PANEL", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.PANEL",
+                "static javax.swing.plaf.synth.Region.PANEL",
               })
           .put(
               "JavaFileManager",
-              new Import[] {
-                new Import("JavaFileManager", "javax.tools", false),
+              new String[] {
+                "javax.tools.JavaFileManager",
               })
           .put(
               "LIGATURE",
-              new Import[] {
-                new Import("LIGATURE", "java.awt.font.GlyphMetrics", true),
+              new String[] {
+                "static java.awt.font.GlyphMetrics.LIGATURE",
               })
           .put(
               "menu",
-              new Import[] {
-                new Import("menu", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.menu",
               })
           .put(
               "ANCIENT_GREEK_MUSICAL_NOTATION",
-              new Import[] {
-                new Import(
-                    "ANCIENT_GREEK_MUSICAL_NOTATION", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ANCIENT_GREEK_MUSICAL_NOTATION",
               })
           .put(
               "attributeNullable",
-              new Import[] {
-                new Import("attributeNullable", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.attributeNullable",
               })
           .put(
               "RequiredModelMBean",
-              new Import[] {
-                new Import("RequiredModelMBean", "javax.management.modelmbean", false),
+              new String[] {
+                "javax.management.modelmbean.RequiredModelMBean",
               })
           .put(
               "getLong",
-              new Import[] {
-                new Import("getLong", "java.lang.Long", true),
-                new Import("getLong", "java.lang.reflect.Array", true),
+              new String[] {
+                "static java.lang.Long.getLong", "static java.lang.reflect.Array.getLong",
               })
           .put(
               "EventContext",
-              new Import[] {
-                new Import("EventContext", "javax.naming.event", false),
+              new String[] {
+                "javax.naming.event.EventContext",
               })
           .put(
               "SIDE",
-              new Import[] {
-                new Import("SIDE", "javax.print.attribute.standard.MediaTray", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaTray.SIDE",
               })
           .put(
               "XAER_RMFAIL",
-              new Import[] {
-                new Import("XAER_RMFAIL", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XAER_RMFAIL",
               })
           .put(
               "JOB_CANCELED",
-              new Import[] {
-                new Import("JOB_CANCELED", "javax.print.event.PrintJobEvent", true),
+              new String[] {
+                "static javax.print.event.PrintJobEvent.JOB_CANCELED",
               })
           .put(
               "AttributeSet",
-              new Import[] {
-                new Import("AttributeSet", "javax.print.attribute", false),
-                new Import("AttributeSet", "javax.swing.text", false),
+              new String[] {
+                "javax.print.attribute.AttributeSet", "javax.swing.text.AttributeSet",
               })
           .put(
               "RADIO_BUTTON",
-              new Import[] {
-                new Import("RADIO_BUTTON", "javax.accessibility.AccessibleRole", true),
-                new Import("RADIO_BUTTON", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.RADIO_BUTTON",
+                "static javax.swing.plaf.synth.Region.RADIO_BUTTON",
               })
           .put(
               "NameClassPair",
-              new Import[] {
-                new Import("NameClassPair", "javax.naming", false),
+              new String[] {
+                "javax.naming.NameClassPair",
               })
           .put(
               "PrintServiceAttributeListener",
-              new Import[] {
-                new Import("PrintServiceAttributeListener", "javax.print.event", false),
+              new String[] {
+                "javax.print.event.PrintServiceAttributeListener",
               })
           .put(
               "OctetStreamData",
-              new Import[] {
-                new Import("OctetStreamData", "javax.xml.crypto", false),
+              new String[] {
+                "javax.xml.crypto.OctetStreamData",
               })
           .put(
               "VALUE_COLOR_RENDER_SPEED",
-              new Import[] {
-                new Import("VALUE_COLOR_RENDER_SPEED", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_COLOR_RENDER_SPEED",
               })
           .put(
               "InstantiationException",
-              new Import[] {
-                new Import("InstantiationException", "java.lang", false),
+              new String[] {
+                "java.lang.InstantiationException",
               })
           .put(
               "icSigMediaWhitePointTag",
-              new Import[] {
-                new Import("icSigMediaWhitePointTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigMediaWhitePointTag",
               })
           .put(
               "NAMESPACE",
-              new Import[] {
-                new Import("NAMESPACE", "javax.xml.stream.XMLStreamConstants", true),
+              new String[] {
+                "static javax.xml.stream.XMLStreamConstants.NAMESPACE",
               })
           .put(
               "SRC_ATOP",
-              new Import[] {
-                new Import("SRC_ATOP", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.SRC_ATOP",
               })
           .put(
               "rotate",
-              new Import[] {
-                new Import("rotate", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.rotate",
               })
           .put(
               "HIGH",
-              new Import[] {
-                new Import("HIGH", "java.awt.PageAttributes.PrintQualityType", true),
-                new Import("HIGH", "javax.print.attribute.standard.PrintQuality", true),
+              new String[] {
+                "static java.awt.PageAttributes.PrintQualityType.HIGH",
+                "static javax.print.attribute.standard.PrintQuality.HIGH",
               })
           .put(
               "DESELECTED",
-              new Import[] {
-                new Import("DESELECTED", "java.awt.event.ItemEvent", true),
+              new String[] {
+                "static java.awt.event.ItemEvent.DESELECTED",
               })
           .put(
               "THURSDAY",
-              new Import[] {
-                new Import("THURSDAY", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.THURSDAY",
               })
           .put(
               "MOUSE_PRESSED",
-              new Import[] {
-                new Import("MOUSE_PRESSED", "java.awt.event.MouseEvent", true),
+              new String[] {
+                "static java.awt.event.MouseEvent.MOUSE_PRESSED",
               })
           .put(
               "XMLFormatter",
-              new Import[] {
-                new Import("XMLFormatter", "java.util.logging", false),
+              new String[] {
+                "java.util.logging.XMLFormatter",
               })
           .put(
               "getSystemScope",
-              new Import[] {
-                new Import("getSystemScope", "java.security.IdentityScope", true),
+              new String[] {
+                "static java.security.IdentityScope.getSystemScope",
               })
           .put(
               "BasicScrollPaneUI",
-              new Import[] {
-                new Import("BasicScrollPaneUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicScrollPaneUI",
               })
           .put(
               "DECREMENT",
-              new Import[] {
-                new Import("DECREMENT", "javax.accessibility.AccessibleAction", true),
+              new String[] {
+                "static javax.accessibility.AccessibleAction.DECREMENT",
               })
           .put(
               "IndirectionException",
-              new Import[] {
-                new Import("IndirectionException", "org.omg.CORBA.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.IndirectionException",
               })
           .put(
               "CDATASection",
-              new Import[] {
-                new Import("CDATASection", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.CDATASection",
               })
           .put(
               "BufferedInputStream",
-              new Import[] {
-                new Import("BufferedInputStream", "java.io", false),
+              new String[] {
+                "java.io.BufferedInputStream",
               })
           .put(
               "_dk_ValueBox",
-              new Import[] {
-                new Import("_dk_ValueBox", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_ValueBox",
               })
           .put(
               "SIGN",
-              new Import[] {
-                new Import("SIGN", "java.text.NumberFormat.Field", true),
-                new Import("SIGN", "javax.xml.crypto.KeySelector.Purpose", true),
+              new String[] {
+                "static java.text.NumberFormat.Field.SIGN",
+                "static javax.xml.crypto.KeySelector.Purpose.SIGN",
               })
           .put(
               "createHandler",
-              new Import[] {
-                new Import("createHandler", "java.beans.XMLDecoder", true),
+              new String[] {
+                "static java.beans.XMLDecoder.createHandler",
               })
           .put(
               "UserPrincipalLookupService",
-              new Import[] {
-                new Import("UserPrincipalLookupService", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.UserPrincipalLookupService",
               })
           .put(
               "Sequencer",
-              new Import[] {
-                new Import("Sequencer", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.Sequencer",
               })
           .put(
               "NO_MODIFICATION_ALLOWED_ERR",
-              new Import[] {
-                new Import("NO_MODIFICATION_ALLOWED_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.NO_MODIFICATION_ALLOWED_ERR",
               })
           .put(
               "PosixFilePermission",
-              new Import[] {
-                new Import("PosixFilePermission", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.PosixFilePermission",
               })
           .put(
               "IDREFS",
-              new Import[] {
-                new Import("IDREFS", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.IDREFS",
               })
           .put(
               "ScriptEngine",
-              new Import[] {
-                new Import("ScriptEngine", "javax.script", false),
+              new String[] {
+                "javax.script.ScriptEngine",
               })
           .put(
               "DynUnionHelper",
-              new Import[] {
-                new Import("DynUnionHelper", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynUnionHelper",
               })
           .put(
               "SOAP_RECEIVER_FAULT",
-              new Import[] {
-                new Import("SOAP_RECEIVER_FAULT", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.SOAP_RECEIVER_FAULT",
               })
           .put(
               "MouseMotionAdapter",
-              new Import[] {
-                new Import("MouseMotionAdapter", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.MouseMotionAdapter",
               })
           .put(
               "getKeyModifiersText",
-              new Import[] {
-                new Import("getKeyModifiersText", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.getKeyModifiersText",
               })
           .put(
               "SCRIPT",
-              new Import[] {
-                new Import("SCRIPT", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.SCRIPT",
               })
           .put(
               "_DynAnyStub",
-              new Import[] {
-                new Import("_DynAnyStub", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny._DynAnyStub",
               })
           .put(
               "ByteArrayInputStream",
-              new Import[] {
-                new Import("ByteArrayInputStream", "java.io", false),
+              new String[] {
+                "java.io.ByteArrayInputStream",
               })
           .put(
               "CancellationException",
-              new Import[] {
-                new Import("CancellationException", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.CancellationException",
               })
           .put(
               "ForkJoinWorkerThreadFactory",
-              new Import[] {
-                new Import(
-                    "ForkJoinWorkerThreadFactory", "java.util.concurrent.ForkJoinPool", false),
+              new String[] {
+                "java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory",
               })
           .put(
               "getAcceleratorSelectedForeground",
-              new Import[] {
-                new Import(
-                    "getAcceleratorSelectedForeground",
-                    "javax.swing.plaf.metal.MetalLookAndFeel",
-                    true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getAcceleratorSelectedForeground",
               })
           .put(
               "DateFormatter",
-              new Import[] {
-                new Import("DateFormatter", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.DateFormatter",
               })
           .put(
               "Throwable",
-              new Import[] {
-                new Import("Throwable", "java.lang", false),
+              new String[] {
+                "java.lang.Throwable",
               })
           .put(
               "Visibility",
-              new Import[] {
-                new Import("Visibility", "java.beans", false),
+              new String[] {
+                "java.beans.Visibility",
               })
           .put(
               "LIFESPAN_POLICY_ID",
-              new Import[] {
-                new Import("LIFESPAN_POLICY_ID", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.LIFESPAN_POLICY_ID",
               })
           .put(
               "newJMXConnectorServer",
-              new Import[] {
-                new Import(
-                    "newJMXConnectorServer",
-                    "javax.management.remote.JMXConnectorServerFactory",
-                    true),
+              new String[] {
+                "static javax.management.remote.JMXConnectorServerFactory.newJMXConnectorServer",
               })
           .put(
               "UnsupportedClassVersionError",
-              new Import[] {
-                new Import("UnsupportedClassVersionError", "java.lang", false),
+              new String[] {
+                "java.lang.UnsupportedClassVersionError",
               })
           .put(
               "IP_MULTICAST_IF",
-              new Import[] {
-                new Import("IP_MULTICAST_IF", "java.net.SocketOptions", true),
-                new Import("IP_MULTICAST_IF", "java.net.StandardSocketOptions", true),
+              new String[] {
+                "static java.net.SocketOptions.IP_MULTICAST_IF",
+                "static java.net.StandardSocketOptions.IP_MULTICAST_IF",
               })
           .put(
               "SignatureMethodParameterSpec",
-              new Import[] {
-                new Import("SignatureMethodParameterSpec", "javax.xml.crypto.dsig.spec", false),
+              new String[] {
+                "javax.xml.crypto.dsig.spec.SignatureMethodParameterSpec",
               })
           .put(
               "isSurrogatePair",
-              new Import[] {
-                new Import("isSurrogatePair", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isSurrogatePair",
               })
           .put(
               "CHILD_POLICY_SEQUENCE",
-              new Import[] {
-                new Import(
-                    "CHILD_POLICY_SEQUENCE", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.CHILD_POLICY_SEQUENCE",
               })
           .put(
               "installColorsAndFont",
-              new Import[] {
-                new Import("installColorsAndFont", "javax.swing.LookAndFeel", true),
+              new String[] {
+                "static javax.swing.LookAndFeel.installColorsAndFont",
               })
           .put(
               "RelationException",
-              new Import[] {
-                new Import("RelationException", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RelationException",
               })
           .put(
               "IMP_LIMIT",
-              new Import[] {
-                new Import("IMP_LIMIT", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.IMP_LIMIT",
               })
           .put(
               "KeyGenerator",
-              new Import[] {
-                new Import("KeyGenerator", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.KeyGenerator",
               })
           .put(
               "StyledTextAction",
-              new Import[] {
-                new Import("StyledTextAction", "javax.swing.text.StyledEditorKit", false),
+              new String[] {
+                "javax.swing.text.StyledEditorKit.StyledTextAction",
               })
           .put(
               "AnySeqHelper",
-              new Import[] {
-                new Import("AnySeqHelper", "org.omg.CORBA", false),
-                new Import("AnySeqHelper", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.CORBA.AnySeqHelper", "org.omg.DynamicAny.AnySeqHelper",
               })
           .put(
               "ToDoubleFunction",
-              new Import[] {
-                new Import("ToDoubleFunction", "java.util.function", false),
+              new String[] {
+                "java.util.function.ToDoubleFunction",
               })
           .put(
               "MultiProgressBarUI",
-              new Import[] {
-                new Import("MultiProgressBarUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiProgressBarUI",
               })
           .put(
               "POAManagerOperations",
-              new Import[] {
-                new Import("POAManagerOperations", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.POAManagerOperations",
               })
           .put(
               "PaintEvent",
-              new Import[] {
-                new Import("PaintEvent", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.PaintEvent",
               })
           .put(
               "TEXTAREA",
-              new Import[] {
-                new Import("TEXTAREA", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.TEXTAREA",
               })
           .put(
               "initialSubString",
-              new Import[] {
-                new Import("initialSubString", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.initialSubString",
               })
           .put(
               "createMatteBorder",
-              new Import[] {
-                new Import("createMatteBorder", "javax.swing.BorderFactory", true),
+              new String[] {
+                "static javax.swing.BorderFactory.createMatteBorder",
               })
           .put(
               "JViewport",
-              new Import[] {
-                new Import("JViewport", "javax.swing", false),
+              new String[] {
+                "javax.swing.JViewport",
               })
           .put(
               "notExists",
-              new Import[] {
-                new Import("notExists", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.notExists",
               })
           .put(
               "PUBLIC_KEY",
-              new Import[] {
-                new Import("PUBLIC_KEY", "javax.crypto.Cipher", true),
+              new String[] {
+                "static javax.crypto.Cipher.PUBLIC_KEY",
               })
           .put(
               "VK_CLOSE_BRACKET",
-              new Import[] {
-                new Import("VK_CLOSE_BRACKET", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_CLOSE_BRACKET",
               })
           .put(
               "writeAttributeSet",
-              new Import[] {
-                new Import("writeAttributeSet", "javax.swing.text.StyleContext", true),
+              new String[] {
+                "static javax.swing.text.StyleContext.writeAttributeSet",
               })
           .put(
               "S_RESIZE_CURSOR",
-              new Import[] {
-                new Import("S_RESIZE_CURSOR", "java.awt.Cursor", true),
-                new Import("S_RESIZE_CURSOR", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Cursor.S_RESIZE_CURSOR", "static java.awt.Frame.S_RESIZE_CURSOR",
               })
           .put(
               "COUNTING_ROD_NUMERALS",
-              new Import[] {
-                new Import("COUNTING_ROD_NUMERALS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.COUNTING_ROD_NUMERALS",
               })
           .put(
               "createIndexed",
-              new Import[] {
-                new Import("createIndexed", "javax.imageio.ImageTypeSpecifier", true),
+              new String[] {
+                "static javax.imageio.ImageTypeSpecifier.createIndexed",
               })
           .put(
               "ConcurrentLinkedDeque",
-              new Import[] {
-                new Import("ConcurrentLinkedDeque", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ConcurrentLinkedDeque",
               })
           .put(
               "POLICY_NOANONYMOUS",
-              new Import[] {
-                new Import("POLICY_NOANONYMOUS", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.POLICY_NOANONYMOUS",
               })
           .put(
               "UNWRAP_MODE",
-              new Import[] {
-                new Import("UNWRAP_MODE", "javax.crypto.Cipher", true),
+              new String[] {
+                "static javax.crypto.Cipher.UNWRAP_MODE",
               })
           .put(
               "_tk_void",
-              new Import[] {
-                new Import("_tk_void", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_void",
               })
           .put(
               "DefaultFocusManager",
-              new Import[] {
-                new Import("DefaultFocusManager", "javax.swing", false),
+              new String[] {
+                "javax.swing.DefaultFocusManager",
               })
           .put(
               "ConvolveOp",
-              new Import[] {
-                new Import("ConvolveOp", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.ConvolveOp",
               })
           .put(
               "getSeparatorBackground",
-              new Import[] {
-                new Import(
-                    "getSeparatorBackground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getSeparatorBackground",
               })
           .put(
               "SynthDesktopIconUI",
-              new Import[] {
-                new Import("SynthDesktopIconUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthDesktopIconUI",
               })
           .put(
               "NotificationListener",
-              new Import[] {
-                new Import("NotificationListener", "javax.management", false),
+              new String[] {
+                "javax.management.NotificationListener",
               })
           .build();
 }
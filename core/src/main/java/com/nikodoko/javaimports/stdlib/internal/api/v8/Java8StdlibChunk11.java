@@ -2,1665 +2,1647 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk11 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "ListEditor",
-              new Import[] {
-                new Import("ListEditor", "javax.swing.JSpinner", false),
+              new String[] {
+                "javax.swing.JSpinner.ListEditor",
               })
           .put(
               "BUFFERED_OPTION",
-              new Import[] {
-                new Import("BUFFERED_OPTION", "javax.swing.DebugGraphics", true),
+              new String[] {
+                "static javax.swing.DebugGraphics.BUFFERED_OPTION",
               })
           .put(
               "BorderUIResource",
-              new Import[] {
-                new Import("BorderUIResource", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.BorderUIResource",
               })
           .put(
               "NoServant",
-              new Import[] {
-                new Import("NoServant", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.NoServant",
               })
           .put(
               "String",
-              new Import[] {
-                new Import("String", "java.lang", false),
+              new String[] {
+                "java.lang.String",
               })
           .put(
               "NO_SYNC",
-              new Import[] {
-                new Import("NO_SYNC", "javax.sound.midi.Sequencer.SyncMode", true),
+              new String[] {
+                "static javax.sound.midi.Sequencer.SyncMode.NO_SYNC",
               })
           .put(
               "_tk_union",
-              new Import[] {
-                new Import("_tk_union", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_union",
               })
           .put(
               "TaggedComponentHolder",
-              new Import[] {
-                new Import("TaggedComponentHolder", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.TaggedComponentHolder",
               })
           .put(
               "Runtime",
-              new Import[] {
-                new Import("Runtime", "java.lang", false),
+              new String[] {
+                "java.lang.Runtime",
               })
           .put(
               "JMXConnector",
-              new Import[] {
-                new Import("JMXConnector", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.JMXConnector",
               })
           .put(
               "ListCellRenderer",
-              new Import[] {
-                new Import("ListCellRenderer", "javax.swing", false),
+              new String[] {
+                "javax.swing.ListCellRenderer",
               })
           .put(
               "ImageInputStreamImpl",
-              new Import[] {
-                new Import("ImageInputStreamImpl", "javax.imageio.stream", false),
+              new String[] {
+                "javax.imageio.stream.ImageInputStreamImpl",
               })
           .put(
               "NOFRAMES",
-              new Import[] {
-                new Import("NOFRAMES", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.NOFRAMES",
               })
           .put(
               "DoubleUnaryOperator",
-              new Import[] {
-                new Import("DoubleUnaryOperator", "java.util.function", false),
+              new String[] {
+                "java.util.function.DoubleUnaryOperator",
               })
           .put(
               "WEIGHT_HEAVY",
-              new Import[] {
-                new Import("WEIGHT_HEAVY", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WEIGHT_HEAVY",
               })
           .put(
               "LOWSRC",
-              new Import[] {
-                new Import("LOWSRC", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.LOWSRC",
               })
           .put(
               "toUnicode",
-              new Import[] {
-                new Import("toUnicode", "java.net.IDN", true),
+              new String[] {
+                "static java.net.IDN.toUnicode",
               })
           .put(
               "LEFT",
-              new Import[] {
-                new Import("LEFT", "java.awt.Event", true),
-                new Import("LEFT", "java.awt.FlowLayout", true),
-                new Import("LEFT", "java.awt.Label", true),
-                new Import("LEFT", "javax.swing.JSplitPane", true),
-                new Import("LEFT", "javax.swing.SwingConstants", true),
-                new Import("LEFT", "javax.swing.border.TitledBorder", true),
+              new String[] {
+                "static java.awt.Event.LEFT",
+                "static java.awt.FlowLayout.LEFT",
+                "static java.awt.Label.LEFT",
+                "static javax.swing.JSplitPane.LEFT",
+                "static javax.swing.SwingConstants.LEFT",
+                "static javax.swing.border.TitledBorder.LEFT",
               })
           .put(
               "SIZE",
-              new Import[] {
-                new Import("SIZE", "java.awt.font.TextAttribute", true),
-                new Import("SIZE", "java.lang.Byte", true),
-                new Import("SIZE", "java.lang.Character", true),
-                new Import("SIZE", "java.lang.Double", true),
-                new Import("SIZE", "java.lang.Float", true),
-                new Import("SIZE", "java.lang.Integer", true),
-                new Import("SIZE", "java.lang.Long", true),
-                new Import("SIZE", "java.lang.Short", true),
-                new Import("SIZE", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.SIZE",
+                "static java.lang.Byte.SIZE",
+                "static java.lang.Character.SIZE",
+                "static java.lang.Double.SIZE",
+                "static java.lang.Float.SIZE",
+                "static java.lang.Integer.SIZE",
+                "static java.lang.Long.SIZE",
+                "static java.lang.Short.SIZE",
+                "static javax.swing.text.html.HTML.Attribute.SIZE",
               })
           .put(
               "AclEntryPermission",
-              new Import[] {
-                new Import("AclEntryPermission", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.AclEntryPermission",
               })
           .put(
               "concat",
-              new Import[] {
-                new Import("concat", "java.util.stream.DoubleStream", true),
-                new Import("concat", "java.util.stream.IntStream", true),
-                new Import("concat", "java.util.stream.LongStream", true),
-                new Import("concat", "java.util.stream.Stream", true),
+              new String[] {
+                "static java.util.stream.DoubleStream.concat",
+                "static java.util.stream.IntStream.concat",
+                "static java.util.stream.LongStream.concat",
+                "static java.util.stream.Stream.concat",
               })
           .put(
               "_NamingContextStub",
-              new Import[] {
-                new Import("_NamingContextStub", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming._NamingContextStub",
               })
           .put(
               "toBinaryString",
-              new Import[] {
-                new Import("toBinaryString", "java.lang.Integer", true),
-                new Import("toBinaryString", "java.lang.Long", true),
+              new String[] {
+                "static java.lang.Integer.toBinaryString", "static java.lang.Long.toBinaryString",
               })
           .put(
               "Xor",
-              new Import[] {
-                new Import("Xor", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.Xor",
               })
           .put(
               "INUSE_ATTRIBUTE_ERR",
-              new Import[] {
-                new Import("INUSE_ATTRIBUTE_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.INUSE_ATTRIBUTE_ERR",
               })
           .put(
               "Clob",
-              new Import[] {
-                new Import("Clob", "java.sql", false),
+              new String[] {
+                "java.sql.Clob",
               })
           .put(
               "newChannel",
-              new Import[] {
-                new Import("newChannel", "java.nio.channels.Channels", true),
+              new String[] {
+                "static java.nio.channels.Channels.newChannel",
               })
           .put(
               "MBeanFeatureInfo",
-              new Import[] {
-                new Import("MBeanFeatureInfo", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanFeatureInfo",
               })
           .put(
               "BOPOMOFO_EXTENDED",
-              new Import[] {
-                new Import("BOPOMOFO_EXTENDED", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.BOPOMOFO_EXTENDED",
               })
           .put(
               "emptySet",
-              new Import[] {
-                new Import("emptySet", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.emptySet",
               })
           .put(
               "COVER",
-              new Import[] {
-                new Import("COVER", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.COVER",
               })
           .put(
               "MultiButtonUI",
-              new Import[] {
-                new Import("MultiButtonUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiButtonUI",
               })
           .put(
               "getAllStackTraces",
-              new Import[] {
-                new Import("getAllStackTraces", "java.lang.Thread", true),
+              new String[] {
+                "static java.lang.Thread.getAllStackTraces",
               })
           .put(
               "getNumericValue",
-              new Import[] {
-                new Import("getNumericValue", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.getNumericValue",
               })
           .put(
               "HTTP_ACCEPTED",
-              new Import[] {
-                new Import("HTTP_ACCEPTED", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_ACCEPTED",
               })
           .put(
               "ScriptContext",
-              new Import[] {
-                new Import("ScriptContext", "javax.script", false),
+              new String[] {
+                "javax.script.ScriptContext",
               })
           .put(
               "JPEG",
-              new Import[] {
-                new Import("JPEG", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("JPEG", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("JPEG", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.JPEG",
+                "static javax.print.DocFlavor.INPUT_STREAM.JPEG",
+                "static javax.print.DocFlavor.URL.JPEG",
               })
           .put(
               "isWritable",
-              new Import[] {
-                new Import("isWritable", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.isWritable",
               })
           .put(
               "runAsync",
-              new Import[] {
-                new Import("runAsync", "java.util.concurrent.CompletableFuture", true),
+              new String[] {
+                "static java.util.concurrent.CompletableFuture.runAsync",
               })
           .put(
               "SMALL",
-              new Import[] {
-                new Import("SMALL", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.SMALL",
               })
           .put(
               "createRigidArea",
-              new Import[] {
-                new Import("createRigidArea", "javax.swing.Box", true),
+              new String[] {
+                "static javax.swing.Box.createRigidArea",
               })
           .put(
               "AttributesImpl",
-              new Import[] {
-                new Import("AttributesImpl", "org.xml.sax.helpers", false),
+              new String[] {
+                "org.xml.sax.helpers.AttributesImpl",
               })
           .put(
               "LIST_SELECT",
-              new Import[] {
-                new Import("LIST_SELECT", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.LIST_SELECT",
               })
           .put(
               "HTTP_BAD_METHOD",
-              new Import[] {
-                new Import("HTTP_BAD_METHOD", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_BAD_METHOD",
               })
           .put(
               "StandardJavaFileManager",
-              new Import[] {
-                new Import("StandardJavaFileManager", "javax.tools", false),
+              new String[] {
+                "javax.tools.StandardJavaFileManager",
               })
           .put(
               "getLogWriter",
-              new Import[] {
-                new Import("getLogWriter", "java.sql.DriverManager", true),
+              new String[] {
+                "static java.sql.DriverManager.getLogWriter",
               })
           .put(
               "EXPONENT_SYMBOL",
-              new Import[] {
-                new Import("EXPONENT_SYMBOL", "java.text.NumberFormat.Field", true),
+              new String[] {
+                "static java.text.NumberFormat.Field.EXPONENT_SYMBOL",
               })
           .put(
               "Path",
-              new Import[] {
-                new Import("Path", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.Path",
               })
           .put(
               "OperationNotSupportedException",
-              new Import[] {
-                new Import("OperationNotSupportedException", "javax.naming", false),
+              new String[] {
+                "javax.naming.OperationNotSupportedException",
               })
           .put(
               "ActionMap",
-              new Import[] {
-                new Import("ActionMap", "javax.swing", false),
+              new String[] {
+                "javax.swing.ActionMap",
               })
           .put(
               "NamingContextOperations",
-              new Import[] {
-                new Import("NamingContextOperations", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextOperations",
               })
           .put(
               "Hashtable",
-              new Import[] {
-                new Import("Hashtable", "java.util", false),
+              new String[] {
+                "java.util.Hashtable",
               })
           .put(
               "getMidiFileTypes",
-              new Import[] {
-                new Import("getMidiFileTypes", "javax.sound.midi.MidiSystem", true),
+              new String[] {
+                "static javax.sound.midi.MidiSystem.getMidiFileTypes",
               })
           .put(
               "_tk_enum",
-              new Import[] {
-                new Import("_tk_enum", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_enum",
               })
           .put(
               "JMXServerErrorException",
-              new Import[] {
-                new Import("JMXServerErrorException", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.JMXServerErrorException",
               })
           .put(
               "CRLReason",
-              new Import[] {
-                new Import("CRLReason", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CRLReason",
               })
           .put(
               "createPackedRaster",
-              new Import[] {
-                new Import("createPackedRaster", "java.awt.image.Raster", true),
+              new String[] {
+                "static java.awt.image.Raster.createPackedRaster",
               })
           .put(
               "MAX_PRIORITY",
-              new Import[] {
-                new Import("MAX_PRIORITY", "java.lang.Thread", true),
+              new String[] {
+                "static java.lang.Thread.MAX_PRIORITY",
               })
           .put(
               "UnionMember",
-              new Import[] {
-                new Import("UnionMember", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.UnionMember",
               })
           .put(
               "ParserCallback",
-              new Import[] {
-                new Import("ParserCallback", "javax.swing.text.html.HTMLEditorKit", false),
+              new String[] {
+                "javax.swing.text.html.HTMLEditorKit.ParserCallback",
               })
           .put(
               "NameComponentHelper",
-              new Import[] {
-                new Import("NameComponentHelper", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.NameComponentHelper",
               })
           .put(
               "TabSet",
-              new Import[] {
-                new Import("TabSet", "javax.swing.text.StyleConstants", true),
-                new Import("TabSet", "javax.swing.text", false),
+              new String[] {
+                "static javax.swing.text.StyleConstants.TabSet", "javax.swing.text.TabSet",
               })
           .put(
               "isNull",
-              new Import[] {
-                new Import("isNull", "java.util.Objects", true),
+              new String[] {
+                "static java.util.Objects.isNull",
               })
           .put(
               "TemporalAdjusters",
-              new Import[] {
-                new Import("TemporalAdjusters", "java.time.temporal", false),
+              new String[] {
+                "java.time.temporal.TemporalAdjusters",
               })
           .put(
               "Socket",
-              new Import[] {
-                new Import("Socket", "java.net", false),
+              new String[] {
+                "java.net.Socket",
               })
           .put(
               "getTransmitter",
-              new Import[] {
-                new Import("getTransmitter", "javax.sound.midi.MidiSystem", true),
+              new String[] {
+                "static javax.sound.midi.MidiSystem.getTransmitter",
               })
           .put(
               "InternalFrameListener",
-              new Import[] {
-                new Import("InternalFrameListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.InternalFrameListener",
               })
           .put(
               "getName",
-              new Import[] {
-                new Import("getName", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.getName",
               })
           .put(
               "AuthenticationException",
-              new Import[] {
-                new Import("AuthenticationException", "javax.naming", false),
-                new Import("AuthenticationException", "javax.security.sasl", false),
+              new String[] {
+                "javax.naming.AuthenticationException",
+                "javax.security.sasl.AuthenticationException",
               })
           .put(
               "VK_BEGIN",
-              new Import[] {
-                new Import("VK_BEGIN", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_BEGIN",
               })
           .put(
               "MODIFIER_LETTER",
-              new Import[] {
-                new Import("MODIFIER_LETTER", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.MODIFIER_LETTER",
               })
           .put(
               "VK_DEAD_BREVE",
-              new Import[] {
-                new Import("VK_DEAD_BREVE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DEAD_BREVE",
               })
           .put(
               "UNSEQ_TOKEN",
-              new Import[] {
-                new Import("UNSEQ_TOKEN", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.UNSEQ_TOKEN",
               })
           .put(
               "DefaultMenuLayout",
-              new Import[] {
-                new Import("DefaultMenuLayout", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.DefaultMenuLayout",
               })
           .put(
               "Servant",
-              new Import[] {
-                new Import("Servant", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.Servant",
               })
           .put(
               "PrintJobListener",
-              new Import[] {
-                new Import("PrintJobListener", "javax.print.event", false),
+              new String[] {
+                "javax.print.event.PrintJobListener",
               })
           .put(
               "NA_9X11_ENVELOPE",
-              new Import[] {
-                new Import("NA_9X11_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_9X11_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.NA_9X11_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSizeName.NA_9X11_ENVELOPE",
               })
           .put(
               "X509CRLEntry",
-              new Import[] {
-                new Import("X509CRLEntry", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.X509CRLEntry",
               })
           .put(
               "CONTAINER_EVENT_MASK",
-              new Import[] {
-                new Import("CONTAINER_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.CONTAINER_EVENT_MASK",
               })
           .put(
               "ServerRequestInfoOperations",
-              new Import[] {
-                new Import("ServerRequestInfoOperations", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ServerRequestInfoOperations",
               })
           .put(
               "SCROLL_PAGE_UP",
-              new Import[] {
-                new Import("SCROLL_PAGE_UP", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.SCROLL_PAGE_UP",
               })
           .put(
               "TYPE_FLIP",
-              new Import[] {
-                new Import("TYPE_FLIP", "java.awt.geom.AffineTransform", true),
+              new String[] {
+                "static java.awt.geom.AffineTransform.TYPE_FLIP",
               })
           .put(
               "getPasteAction",
-              new Import[] {
-                new Import("getPasteAction", "javax.swing.TransferHandler", true),
+              new String[] {
+                "static javax.swing.TransferHandler.getPasteAction",
               })
           .put(
               "TYPE_XYZ",
-              new Import[] {
-                new Import("TYPE_XYZ", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_XYZ",
               })
           .put(
               "HTTP_ENTITY_TOO_LARGE",
-              new Import[] {
-                new Import("HTTP_ENTITY_TOO_LARGE", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_ENTITY_TOO_LARGE",
               })
           .put(
               "tk_sequence",
-              new Import[] {
-                new Import("tk_sequence", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_sequence",
               })
           .put(
               "MenuBarBorder",
-              new Import[] {
-                new Import("MenuBarBorder", "javax.swing.plaf.basic.BasicBorders", false),
-                new Import("MenuBarBorder", "javax.swing.plaf.metal.MetalBorders", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicBorders.MenuBarBorder",
+                "javax.swing.plaf.metal.MetalBorders.MenuBarBorder",
               })
           .put(
               "MidiMessage",
-              new Import[] {
-                new Import("MidiMessage", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.MidiMessage",
               })
           .put(
               "ServerError",
-              new Import[] {
-                new Import("ServerError", "java.rmi", false),
+              new String[] {
+                "java.rmi.ServerError",
               })
           .put(
               "Canvas",
-              new Import[] {
-                new Import("Canvas", "java.awt", false),
+              new String[] {
+                "java.awt.Canvas",
               })
           .put(
               "DesktopPaneUI",
-              new Import[] {
-                new Import("DesktopPaneUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.DesktopPaneUI",
               })
           .put(
               "linesIntersect",
-              new Import[] {
-                new Import("linesIntersect", "java.awt.geom.Line2D", true),
+              new String[] {
+                "static java.awt.geom.Line2D.linesIntersect",
               })
           .put(
               "_tk_alias",
-              new Import[] {
-                new Import("_tk_alias", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_alias",
               })
           .put(
               "NoSuchMechanismException",
-              new Import[] {
-                new Import("NoSuchMechanismException", "javax.xml.crypto", false),
+              new String[] {
+                "javax.xml.crypto.NoSuchMechanismException",
               })
           .put(
               "StAXSource",
-              new Import[] {
-                new Import("StAXSource", "javax.xml.transform.stax", false),
+              new String[] {
+                "javax.xml.transform.stax.StAXSource",
               })
           .put(
               "WEEK_BASED_YEARS",
-              new Import[] {
-                new Import("WEEK_BASED_YEARS", "java.time.temporal.IsoFields", true),
-                new Import("WEEK_BASED_YEARS", "java.time.temporal.WeekFields", true),
+              new String[] {
+                "static java.time.temporal.IsoFields.WEEK_BASED_YEARS",
+                "static java.time.temporal.WeekFields.WEEK_BASED_YEARS",
               })
           .put(
               "DocumentEvent",
-              new Import[] {
-                new Import("DocumentEvent", "javax.swing.event", false),
-                new Import("DocumentEvent", "org.w3c.dom.events", false),
+              new String[] {
+                "javax.swing.event.DocumentEvent", "org.w3c.dom.events.DocumentEvent",
               })
           .put(
               "WARNING",
-              new Import[] {
-                new Import("WARNING", "java.util.logging.Level", true),
-                new Import("WARNING", "javax.print.attribute.standard.Severity", true),
-                new Import("WARNING", "javax.security.auth.callback.ConfirmationCallback", true),
-                new Import("WARNING", "javax.security.auth.callback.TextOutputCallback", true),
-                new Import("WARNING", "javax.xml.bind.ValidationEvent", true),
+              new String[] {
+                "static java.util.logging.Level.WARNING",
+                "static javax.print.attribute.standard.Severity.WARNING",
+                "static javax.security.auth.callback.ConfirmationCallback.WARNING",
+                "static javax.security.auth.callback.TextOutputCallback.WARNING",
+                "static javax.xml.bind.ValidationEvent.WARNING",
               })
           .put(
               "BOOLEAN",
-              new Import[] {
-                new Import("BOOLEAN", "java.sql.Types", true),
-                new Import("BOOLEAN", "javax.management.openmbean.SimpleType", true),
-                new Import("BOOLEAN", "javax.xml.xpath.XPathConstants", true),
+              new String[] {
+                "static java.sql.Types.BOOLEAN",
+                "static javax.management.openmbean.SimpleType.BOOLEAN",
+                "static javax.xml.xpath.XPathConstants.BOOLEAN",
               })
           .put(
               "EXTCRC",
-              new Import[] {
-                new Import("EXTCRC", "java.util.jar.JarEntry", true),
-                new Import("EXTCRC", "java.util.jar.JarFile", true),
-                new Import("EXTCRC", "java.util.jar.JarInputStream", true),
-                new Import("EXTCRC", "java.util.jar.JarOutputStream", true),
-                new Import("EXTCRC", "java.util.zip.ZipEntry", true),
-                new Import("EXTCRC", "java.util.zip.ZipFile", true),
-                new Import("EXTCRC", "java.util.zip.ZipInputStream", true),
-                new Import("EXTCRC", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.EXTCRC",
+                "static java.util.jar.JarFile.EXTCRC",
+                "static java.util.jar.JarInputStream.EXTCRC",
+                "static java.util.jar.JarOutputStream.EXTCRC",
+                "static java.util.zip.ZipEntry.EXTCRC",
+                "static java.util.zip.ZipFile.EXTCRC",
+                "static java.util.zip.ZipInputStream.EXTCRC",
+                "static java.util.zip.ZipOutputStream.EXTCRC",
               })
           .put(
               "CompositeDataView",
-              new Import[] {
-                new Import("CompositeDataView", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.CompositeDataView",
               })
           .put(
               "Stack",
-              new Import[] {
-                new Import("Stack", "java.util", false),
+              new String[] {
+                "java.util.Stack",
               })
           .put(
               "MultiDesktopPaneUI",
-              new Import[] {
-                new Import("MultiDesktopPaneUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiDesktopPaneUI",
               })
           .put(
               "Responses",
-              new Import[] {
-                new Import("Responses", "javax.xml.ws.soap.AddressingFeature", false),
+              new String[] {
+                "javax.xml.ws.soap.AddressingFeature.Responses",
               })
           .put(
               "FILE_VERSION",
-              new Import[] {
-                new Import("FILE_VERSION", "javax.swing.text.html.parser.DTD", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTD.FILE_VERSION",
               })
           .put(
               "dk_Value",
-              new Import[] {
-                new Import("dk_Value", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Value",
               })
           .put(
               "BORDER_TOP_WIDTH",
-              new Import[] {
-                new Import("BORDER_TOP_WIDTH", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_TOP_WIDTH",
               })
           .put(
               "LongSeqHelper",
-              new Import[] {
-                new Import("LongSeqHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.LongSeqHelper",
               })
           .put(
               "CharacterData",
-              new Import[] {
-                new Import("CharacterData", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.CharacterData",
               })
           .put(
               "TabularDataSupport",
-              new Import[] {
-                new Import("TabularDataSupport", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.TabularDataSupport",
               })
           .put(
               "getAccessibleChild",
-              new Import[] {
-                new Import("getAccessibleChild", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.getAccessibleChild",
               })
           .put(
               "INFORMATION_MESSAGE",
-              new Import[] {
-                new Import("INFORMATION_MESSAGE", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.INFORMATION_MESSAGE",
               })
           .put(
               "logicalXor",
-              new Import[] {
-                new Import("logicalXor", "java.lang.Boolean", true),
+              new String[] {
+                "static java.lang.Boolean.logicalXor",
               })
           .put(
               "ISO_8859_1",
-              new Import[] {
-                new Import("ISO_8859_1", "java.nio.charset.StandardCharsets", true),
+              new String[] {
+                "static java.nio.charset.StandardCharsets.ISO_8859_1",
               })
           .put(
               "DataBindingException",
-              new Import[] {
-                new Import("DataBindingException", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.DataBindingException",
               })
           .put(
               "TRANSIENT",
-              new Import[] {
-                new Import("TRANSIENT", "java.lang.reflect.Modifier", true),
-                new Import("TRANSIENT", "javax.accessibility.AccessibleState", true),
-                new Import("TRANSIENT", "org.omg.CORBA", false),
-                new Import("TRANSIENT", "org.omg.PortableServer.LifespanPolicyValue", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.TRANSIENT",
+                "static javax.accessibility.AccessibleState.TRANSIENT",
+                "org.omg.CORBA.TRANSIENT",
+                "static org.omg.PortableServer.LifespanPolicyValue.TRANSIENT",
               })
           .put(
               "Border",
-              new Import[] {
-                new Import("Border", "javax.swing.border", false),
+              new String[] {
+                "javax.swing.border.Border",
               })
           .put(
               "SC_WRITE_METHOD",
-              new Import[] {
-                new Import("SC_WRITE_METHOD", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.SC_WRITE_METHOD",
               })
           .put(
               "NameValuePairSeqHelper",
-              new Import[] {
-                new Import("NameValuePairSeqHelper", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.NameValuePairSeqHelper",
               })
           .put(
               "ActivationInstantiator",
-              new Import[] {
-                new Import("ActivationInstantiator", "java.rmi.activation", false),
+              new String[] {
+                "java.rmi.activation.ActivationInstantiator",
               })
           .put(
               "YES",
-              new Import[] {
-                new Import("YES", "javax.security.auth.callback.ConfirmationCallback", true),
+              new String[] {
+                "static javax.security.auth.callback.ConfirmationCallback.YES",
               })
           .put(
               "Bias",
-              new Import[] {
-                new Import("Bias", "javax.swing.text.Position", false),
+              new String[] {
+                "javax.swing.text.Position.Bias",
               })
           .put(
               "SOAP_MUSTUNDERSTAND_FAULT",
-              new Import[] {
-                new Import("SOAP_MUSTUNDERSTAND_FAULT", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.SOAP_MUSTUNDERSTAND_FAULT",
               })
           .put(
               "Properties",
-              new Import[] {
-                new Import("Properties", "java.util", false),
+              new String[] {
+                "java.util.Properties",
               })
           .put(
               "FOCUSED",
-              new Import[] {
-                new Import("FOCUSED", "javax.accessibility.AccessibleState", true),
-                new Import("FOCUSED", "javax.swing.plaf.synth.SynthConstants", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.FOCUSED",
+                "static javax.swing.plaf.synth.SynthConstants.FOCUSED",
               })
           .put(
               "CANONICAL_DECOMPOSITION",
-              new Import[] {
-                new Import("CANONICAL_DECOMPOSITION", "java.text.Collator", true),
+              new String[] {
+                "static java.text.Collator.CANONICAL_DECOMPOSITION",
               })
           .put(
               "HIDE_ON_CLOSE",
-              new Import[] {
-                new Import("HIDE_ON_CLOSE", "javax.swing.WindowConstants", true),
+              new String[] {
+                "static javax.swing.WindowConstants.HIDE_ON_CLOSE",
               })
           .put(
               "ListDataEvent",
-              new Import[] {
-                new Import("ListDataEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.ListDataEvent",
               })
           .put(
               "CharacterConstants",
-              new Import[] {
-                new Import("CharacterConstants", "javax.swing.text.StyleConstants", false),
+              new String[] {
+                "javax.swing.text.StyleConstants.CharacterConstants",
               })
           .put(
               "DoubleAdder",
-              new Import[] {
-                new Import("DoubleAdder", "java.util.concurrent.atomic", false),
+              new String[] {
+                "java.util.concurrent.atomic.DoubleAdder",
               })
           .put(
               "ImageFilter",
-              new Import[] {
-                new Import("ImageFilter", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.ImageFilter",
               })
           .put(
               "AbstractQueuedLongSynchronizer",
-              new Import[] {
-                new Import("AbstractQueuedLongSynchronizer", "java.util.concurrent.locks", false),
+              new String[] {
+                "java.util.concurrent.locks.AbstractQueuedLongSynchronizer",
               })
           .put(
               "icSigYCbCrData",
-              new Import[] {
-                new Import("icSigYCbCrData", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigYCbCrData",
               })
           .put(
               "FileReader",
-              new Import[] {
-                new Import("FileReader", "java.io", false),
+              new String[] {
+                "java.io.FileReader",
               })
           .put(
               "SyncMode",
-              new Import[] {
-                new Import("SyncMode", "javax.sound.midi.Sequencer", false),
+              new String[] {
+                "javax.sound.midi.Sequencer.SyncMode",
               })
           .put(
               "SkeletonNotFoundException",
-              new Import[] {
-                new Import("SkeletonNotFoundException", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.SkeletonNotFoundException",
               })
           .put(
               "ConcurrentSkipListMap",
-              new Import[] {
-                new Import("ConcurrentSkipListMap", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ConcurrentSkipListMap",
               })
           .put(
               "CENTER_ALIGNMENT",
-              new Import[] {
-                new Import("CENTER_ALIGNMENT", "java.awt.Component", true),
+              new String[] {
+                "static java.awt.Component.CENTER_ALIGNMENT",
               })
           .put(
               "getImageWritersBySuffix",
-              new Import[] {
-                new Import("getImageWritersBySuffix", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getImageWritersBySuffix",
               })
           .put(
               "firstDayOfMonth",
-              new Import[] {
-                new Import("firstDayOfMonth", "java.time.temporal.TemporalAdjusters", true),
+              new String[] {
+                "static java.time.temporal.TemporalAdjusters.firstDayOfMonth",
               })
           .put(
               "SOAPFaultException",
-              new Import[] {
-                new Import("SOAPFaultException", "javax.xml.ws.soap", false),
+              new String[] {
+                "javax.xml.ws.soap.SOAPFaultException",
               })
           .put(
               "AdapterNonExistent",
-              new Import[] {
-                new Import("AdapterNonExistent", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.AdapterNonExistent",
               })
           .put(
               "DefaultFormatterFactory",
-              new Import[] {
-                new Import("DefaultFormatterFactory", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.DefaultFormatterFactory",
               })
           .put(
               "removeKeymap",
-              new Import[] {
-                new Import("removeKeymap", "javax.swing.text.JTextComponent", true),
+              new String[] {
+                "static javax.swing.text.JTextComponent.removeKeymap",
               })
           .put(
               "BOPOMOFO",
-              new Import[] {
-                new Import("BOPOMOFO", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.BOPOMOFO",
               })
           .put(
               "InvalidAddress",
-              new Import[] {
-                new Import("InvalidAddress", "org.omg.CosNaming.NamingContextExtPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextExtPackage.InvalidAddress",
               })
           .put(
               "HierarchyEvent",
-              new Import[] {
-                new Import("HierarchyEvent", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.HierarchyEvent",
               })
           .put(
               "PAGE_END",
-              new Import[] {
-                new Import("PAGE_END", "java.awt.BorderLayout", true),
-                new Import("PAGE_END", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.BorderLayout.PAGE_END",
+                "static java.awt.GridBagConstraints.PAGE_END",
               })
           .put(
               "VALUE_DITHER_DISABLE",
-              new Import[] {
-                new Import("VALUE_DITHER_DISABLE", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_DITHER_DISABLE",
               })
           .put(
               "getLocalGraphicsEnvironment",
-              new Import[] {
-                new Import("getLocalGraphicsEnvironment", "java.awt.GraphicsEnvironment", true),
+              new String[] {
+                "static java.awt.GraphicsEnvironment.getLocalGraphicsEnvironment",
               })
           .put(
               "CoderResult",
-              new Import[] {
-                new Import("CoderResult", "java.nio.charset", false),
+              new String[] {
+                "java.nio.charset.CoderResult",
               })
           .put(
               "SynthPainter",
-              new Import[] {
-                new Import("SynthPainter", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthPainter",
               })
           .put(
               "MILLISECOND_FIELD",
-              new Import[] {
-                new Import("MILLISECOND_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.MILLISECOND_FIELD",
               })
           .put(
               "ORBInitializerOperations",
-              new Import[] {
-                new Import("ORBInitializerOperations", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ORBInitializerOperations",
               })
           .put(
               "tk_long",
-              new Import[] {
-                new Import("tk_long", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_long",
               })
           .put(
               "enable",
-              new Import[] {
-                new Import("enable", "java.lang.Compiler", true),
+              new String[] {
+                "static java.lang.Compiler.enable",
               })
           .put(
               "BasicSpinnerUI",
-              new Import[] {
-                new Import("BasicSpinnerUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicSpinnerUI",
               })
           .put(
               "activeCaptionText",
-              new Import[] {
-                new Import("activeCaptionText", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.activeCaptionText",
               })
           .put(
               "AccessibleKeyBinding",
-              new Import[] {
-                new Import("AccessibleKeyBinding", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleKeyBinding",
               })
           .put(
               "UnknownTypeException",
-              new Import[] {
-                new Import("UnknownTypeException", "javax.lang.model.type", false),
+              new String[] {
+                "javax.lang.model.type.UnknownTypeException",
               })
           .put(
               "_dk_AbstractInterface",
-              new Import[] {
-                new Import("_dk_AbstractInterface", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_AbstractInterface",
               })
           .put(
               "dk_Native",
-              new Import[] {
-                new Import("dk_Native", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Native",
               })
           .put(
               "InvalidRelationTypeException",
-              new Import[] {
-                new Import("InvalidRelationTypeException", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.InvalidRelationTypeException",
               })
           .put(
               "FileTypeDetector",
-              new Import[] {
-                new Import("FileTypeDetector", "java.nio.file.spi", false),
+              new String[] {
+                "java.nio.file.spi.FileTypeDetector",
               })
           .put(
               "KeyAgreementSpi",
-              new Import[] {
-                new Import("KeyAgreementSpi", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.KeyAgreementSpi",
               })
           .put(
               "LONG_FORMAT",
-              new Import[] {
-                new Import("LONG_FORMAT", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.LONG_FORMAT",
               })
           .put(
               "getSystemDocumentationTool",
-              new Import[] {
-                new Import("getSystemDocumentationTool", "javax.tools.ToolProvider", true),
+              new String[] {
+                "static javax.tools.ToolProvider.getSystemDocumentationTool",
               })
           .put(
               "createRaisedSoftBevelBorder",
-              new Import[] {
-                new Import("createRaisedSoftBevelBorder", "javax.swing.BorderFactory", true),
+              new String[] {
+                "static javax.swing.BorderFactory.createRaisedSoftBevelBorder",
               })
           .put(
               "LIVE_DRAG_MODE",
-              new Import[] {
-                new Import("LIVE_DRAG_MODE", "javax.swing.JDesktopPane", true),
+              new String[] {
+                "static javax.swing.JDesktopPane.LIVE_DRAG_MODE",
               })
           .put(
               "RunTimeOperations",
-              new Import[] {
-                new Import("RunTimeOperations", "org.omg.SendingContext", false),
+              new String[] {
+                "org.omg.SendingContext.RunTimeOperations",
               })
           .put(
               "AppletContext",
-              new Import[] {
-                new Import("AppletContext", "java.applet", false),
+              new String[] {
+                "java.applet.AppletContext",
               })
           .put(
               "START_PUNCTUATION",
-              new Import[] {
-                new Import("START_PUNCTUATION", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.START_PUNCTUATION",
               })
           .put(
               "GenericDeclaration",
-              new Import[] {
-                new Import("GenericDeclaration", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.GenericDeclaration",
               })
           .put(
               "FileInputStream",
-              new Import[] {
-                new Import("FileInputStream", "java.io", false),
+              new String[] {
+                "java.io.FileInputStream",
               })
           .put(
               "SELECTED",
-              new Import[] {
-                new Import("SELECTED", "java.awt.event.ItemEvent", true),
-                new Import("SELECTED", "javax.accessibility.AccessibleState", true),
-                new Import("SELECTED", "javax.swing.DefaultButtonModel", true),
-                new Import("SELECTED", "javax.swing.plaf.synth.SynthConstants", true),
-                new Import("SELECTED", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static java.awt.event.ItemEvent.SELECTED",
+                "static javax.accessibility.AccessibleState.SELECTED",
+                "static javax.swing.DefaultButtonModel.SELECTED",
+                "static javax.swing.plaf.synth.SynthConstants.SELECTED",
+                "static javax.swing.text.html.HTML.Attribute.SELECTED",
               })
           .put(
               "OceanTheme",
-              new Import[] {
-                new Import("OceanTheme", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.OceanTheme",
               })
           .put(
               "RMIClassLoader",
-              new Import[] {
-                new Import("RMIClassLoader", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.RMIClassLoader",
               })
           .put(
               "Bidi",
-              new Import[] {
-                new Import("Bidi", "java.text", false),
+              new String[] {
+                "java.text.Bidi",
               })
           .put(
               "EtchedBorderUIResource",
-              new Import[] {
-                new Import("EtchedBorderUIResource", "javax.swing.plaf.BorderUIResource", false),
+              new String[] {
+                "javax.swing.plaf.BorderUIResource.EtchedBorderUIResource",
               })
           .put(
               "ROLE_NOT_READABLE",
-              new Import[] {
-                new Import("ROLE_NOT_READABLE", "javax.management.relation.RoleStatus", true),
+              new String[] {
+                "static javax.management.relation.RoleStatus.ROLE_NOT_READABLE",
               })
           .put(
               "OperatingSystemMXBean",
-              new Import[] {
-                new Import("OperatingSystemMXBean", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.OperatingSystemMXBean",
               })
           .put(
               "Locator2Impl",
-              new Import[] {
-                new Import("Locator2Impl", "org.xml.sax.ext", false),
+              new String[] {
+                "org.xml.sax.ext.Locator2Impl",
               })
           .put(
               "ImageIcon",
-              new Import[] {
-                new Import("ImageIcon", "javax.swing", false),
+              new String[] {
+                "javax.swing.ImageIcon",
               })
           .put(
               "TYPE_FORWARD_ONLY",
-              new Import[] {
-                new Import("TYPE_FORWARD_ONLY", "java.sql.ResultSet", true),
+              new String[] {
+                "static java.sql.ResultSet.TYPE_FORWARD_ONLY",
               })
           .put(
               "DAY_OF_MONTH",
-              new Import[] {
-                new Import("DAY_OF_MONTH", "java.text.DateFormat.Field", true),
-                new Import("DAY_OF_MONTH", "java.util.Calendar", true),
+              new String[] {
+                "static java.text.DateFormat.Field.DAY_OF_MONTH",
+                "static java.util.Calendar.DAY_OF_MONTH",
               })
           .put(
               "ExecutableElement",
-              new Import[] {
-                new Import("ExecutableElement", "javax.lang.model.element", false),
+              new String[] {
+                "javax.lang.model.element.ExecutableElement",
               })
           .put(
               "backwardAction",
-              new Import[] {
-                new Import("backwardAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.backwardAction",
               })
           .put(
               "packagesIn",
-              new Import[] {
-                new Import("packagesIn", "javax.lang.model.util.ElementFilter", true),
+              new String[] {
+                "static javax.lang.model.util.ElementFilter.packagesIn",
               })
           .put(
               "TabularData",
-              new Import[] {
-                new Import("TabularData", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.TabularData",
               })
           .put(
               "SynthTreeUI",
-              new Import[] {
-                new Import("SynthTreeUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthTreeUI",
               })
           .put(
               "Clip",
-              new Import[] {
-                new Import("Clip", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.Clip",
               })
           .put(
               "Invocable",
-              new Import[] {
-                new Import("Invocable", "javax.script", false),
+              new String[] {
+                "javax.script.Invocable",
               })
           .put(
               "WrongPolicy",
-              new Import[] {
-                new Import("WrongPolicy", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.WrongPolicy",
               })
           .put(
               "DefaultTreeSelectionModel",
-              new Import[] {
-                new Import("DefaultTreeSelectionModel", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.DefaultTreeSelectionModel",
               })
           .put(
               "versionColumnNotPseudo",
-              new Import[] {
-                new Import("versionColumnNotPseudo", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.versionColumnNotPseudo",
               })
           .put(
               "SAXParseException",
-              new Import[] {
-                new Import("SAXParseException", "org.xml.sax", false),
+              new String[] {
+                "org.xml.sax.SAXParseException",
               })
           .put(
               "MonitorMBean",
-              new Import[] {
-                new Import("MonitorMBean", "javax.management.monitor", false),
+              new String[] {
+                "javax.management.monitor.MonitorMBean",
               })
           .put(
               "DOUBLE",
-              new Import[] {
-                new Import("DOUBLE", "java.sql.Types", true),
-                new Import("DOUBLE", "javax.management.openmbean.SimpleType", true),
+              new String[] {
+                "static java.sql.Types.DOUBLE",
+                "static javax.management.openmbean.SimpleType.DOUBLE",
               })
           .put(
               "MetalIconFactory",
-              new Import[] {
-                new Import("MetalIconFactory", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalIconFactory",
               })
           .put(
               "CloneNotSupportedException",
-              new Import[] {
-                new Import("CloneNotSupportedException", "java.lang", false),
+              new String[] {
+                "java.lang.CloneNotSupportedException",
               })
           .put(
               "secondaryOrder",
-              new Import[] {
-                new Import("secondaryOrder", "java.text.CollationElementIterator", true),
+              new String[] {
+                "static java.text.CollationElementIterator.secondaryOrder",
               })
           .put(
               "privilegedThreadFactory",
-              new Import[] {
-                new Import("privilegedThreadFactory", "java.util.concurrent.Executors", true),
+              new String[] {
+                "static java.util.concurrent.Executors.privilegedThreadFactory",
               })
           .put(
               "SQLTransactionRollbackException",
-              new Import[] {
-                new Import("SQLTransactionRollbackException", "java.sql", false),
+              new String[] {
+                "java.sql.SQLTransactionRollbackException",
               })
           .put(
               "SCROLLBARS_VERTICAL_ONLY",
-              new Import[] {
-                new Import("SCROLLBARS_VERTICAL_ONLY", "java.awt.TextArea", true),
+              new String[] {
+                "static java.awt.TextArea.SCROLLBARS_VERTICAL_ONLY",
               })
           .put(
               "ARABIC_MATHEMATICAL_ALPHABETIC_SYMBOLS",
-              new Import[] {
-                new Import(
-                    "ARABIC_MATHEMATICAL_ALPHABETIC_SYMBOLS",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ARABIC_MATHEMATICAL_ALPHABETIC_SYMBOLS",
               })
           .put(
               "FileVisitResult",
-              new Import[] {
-                new Import("FileVisitResult", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.FileVisitResult",
               })
           .put(
               "PENDING",
-              new Import[] {
-                new Import("PENDING", "javax.print.attribute.standard.JobState", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobState.PENDING",
               })
           .put(
               "GlyphJustificationInfo",
-              new Import[] {
-                new Import("GlyphJustificationInfo", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.GlyphJustificationInfo",
               })
           .put(
               "RESIZABLE",
-              new Import[] {
-                new Import("RESIZABLE", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.RESIZABLE",
               })
           .put(
               "FAILURE",
-              new Import[] {
-                new Import("FAILURE", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.FAILURE",
               })
           .put(
               "WINDOW",
-              new Import[] {
-                new Import("WINDOW", "java.awt.SystemColor", true),
-                new Import("WINDOW", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static java.awt.SystemColor.WINDOW",
+                "static javax.accessibility.AccessibleRole.WINDOW",
               })
           .put(
               "getSynthesizer",
-              new Import[] {
-                new Import("getSynthesizer", "javax.sound.midi.MidiSystem", true),
+              new String[] {
+                "static javax.sound.midi.MidiSystem.getSynthesizer",
               })
           .put(
               "Xid",
-              new Import[] {
-                new Import("Xid", "javax.transaction.xa", false),
+              new String[] {
+                "javax.transaction.xa.Xid",
               })
           .put(
               "ReverbType",
-              new Import[] {
-                new Import("ReverbType", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.ReverbType",
               })
           .put(
               "VERSION",
-              new Import[] {
-                new Import("VERSION", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("VERSION", "javax.xml.transform.OutputKeys", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.VERSION",
+                "static javax.xml.transform.OutputKeys.VERSION",
               })
           .put(
               "DateFormatSymbolsProvider",
-              new Import[] {
-                new Import("DateFormatSymbolsProvider", "java.text.spi", false),
+              new String[] {
+                "java.text.spi.DateFormatSymbolsProvider",
               })
           .put(
               "DstAtop",
-              new Import[] {
-                new Import("DstAtop", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.DstAtop",
               })
           .put(
               "ONE_HOUR",
-              new Import[] {
-                new Import("ONE_HOUR", "javax.management.timer.Timer", true),
+              new String[] {
+                "static javax.management.timer.Timer.ONE_HOUR",
               })
           .put(
               "IdentityHashMap",
-              new Import[] {
-                new Import("IdentityHashMap", "java.util", false),
+              new String[] {
+                "java.util.IdentityHashMap",
               })
           .put(
               "AudioSystem",
-              new Import[] {
-                new Import("AudioSystem", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.AudioSystem",
               })
           .put(
               "ACCELERATOR_KEY",
-              new Import[] {
-                new Import("ACCELERATOR_KEY", "javax.swing.Action", true),
+              new String[] {
+                "static javax.swing.Action.ACCELERATOR_KEY",
               })
           .put(
               "createCompoundBorder",
-              new Import[] {
-                new Import("createCompoundBorder", "javax.swing.BorderFactory", true),
+              new String[] {
+                "static javax.swing.BorderFactory.createCompoundBorder",
               })
           .put(
               "atan",
-              new Import[] {
-                new Import("atan", "java.lang.Math", true),
-                new Import("atan", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.atan", "static java.lang.StrictMath.atan",
               })
           .put(
               "BooleanSeqHolder",
-              new Import[] {
-                new Import("BooleanSeqHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.BooleanSeqHolder",
               })
           .put(
               "SANS_SERIF",
-              new Import[] {
-                new Import("SANS_SERIF", "java.awt.Font", true),
+              new String[] {
+                "static java.awt.Font.SANS_SERIF",
               })
           .put(
               "SPECIAL_SYSTEM_EXCLUSIVE",
-              new Import[] {
-                new Import("SPECIAL_SYSTEM_EXCLUSIVE", "javax.sound.midi.SysexMessage", true),
+              new String[] {
+                "static javax.sound.midi.SysexMessage.SPECIAL_SYSTEM_EXCLUSIVE",
               })
           .put(
               "TAG_HDMX",
-              new Import[] {
-                new Import("TAG_HDMX", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_HDMX",
               })
           .put(
               "SimpleAttributeSet",
-              new Import[] {
-                new Import("SimpleAttributeSet", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.SimpleAttributeSet",
               })
           .put(
               "_dk_Repository",
-              new Import[] {
-                new Import("_dk_Repository", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Repository",
               })
           .put(
               "GZIPOutputStream",
-              new Import[] {
-                new Import("GZIPOutputStream", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.GZIPOutputStream",
               })
           .put(
               "from",
-              new Import[] {
-                new Import("from", "java.lang.ProcessBuilder.Redirect", true),
-                new Import("from", "java.lang.management.LockInfo", true),
-                new Import("from", "java.lang.management.MemoryNotificationInfo", true),
-                new Import("from", "java.lang.management.MemoryUsage", true),
-                new Import("from", "java.lang.management.MonitorInfo", true),
-                new Import("from", "java.lang.management.ThreadInfo", true),
-                new Import("from", "java.nio.file.attribute.FileTime", true),
-                new Import("from", "java.sql.Timestamp", true),
-                new Import("from", "java.time.DayOfWeek", true),
-                new Import("from", "java.time.Duration", true),
-                new Import("from", "java.time.Instant", true),
-                new Import("from", "java.time.LocalDate", true),
-                new Import("from", "java.time.LocalDateTime", true),
-                new Import("from", "java.time.LocalTime", true),
-                new Import("from", "java.time.Month", true),
-                new Import("from", "java.time.MonthDay", true),
-                new Import("from", "java.time.OffsetDateTime", true),
-                new Import("from", "java.time.OffsetTime", true),
-                new Import("from", "java.time.Period", true),
-                new Import("from", "java.time.Year", true),
-                new Import("from", "java.time.YearMonth", true),
-                new Import("from", "java.time.ZoneId", true),
-                new Import("from", "java.time.ZoneOffset", true),
-                new Import("from", "java.time.ZonedDateTime", true),
-                new Import("from", "java.time.chrono.ChronoLocalDate", true),
-                new Import("from", "java.time.chrono.ChronoLocalDateTime", true),
-                new Import("from", "java.time.chrono.ChronoZonedDateTime", true),
-                new Import("from", "java.time.chrono.Chronology", true),
-                new Import("from", "java.time.chrono.HijrahDate", true),
-                new Import("from", "java.time.chrono.JapaneseDate", true),
-                new Import("from", "java.time.chrono.MinguoDate", true),
-                new Import("from", "java.time.chrono.ThaiBuddhistDate", true),
-                new Import("from", "java.util.Date", true),
-                new Import("from", "java.util.GregorianCalendar", true),
+              new String[] {
+                "static java.lang.ProcessBuilder.Redirect.from",
+                "static java.lang.management.LockInfo.from",
+                "static java.lang.management.MemoryNotificationInfo.from",
+                "static java.lang.management.MemoryUsage.from",
+                "static java.lang.management.MonitorInfo.from",
+                "static java.lang.management.ThreadInfo.from",
+                "static java.nio.file.attribute.FileTime.from",
+                "static java.sql.Timestamp.from",
+                "static java.time.DayOfWeek.from",
+                "static java.time.Duration.from",
+                "static java.time.Instant.from",
+                "static java.time.LocalDate.from",
+                "static java.time.LocalDateTime.from",
+                "static java.time.LocalTime.from",
+                "static java.time.Month.from",
+                "static java.time.MonthDay.from",
+                "static java.time.OffsetDateTime.from",
+                "static java.time.OffsetTime.from",
+                "static java.time.Period.from",
+                "static java.time.Year.from",
+                "static java.time.YearMonth.from",
+                "static java.time.ZoneId.from",
+                "static java.time.ZoneOffset.from",
+                "static java.time.ZonedDateTime.from",
+                "static java.time.chrono.ChronoLocalDate.from",
+                "static java.time.chrono.ChronoLocalDateTime.from",
+                "static java.time.chrono.ChronoZonedDateTime.from",
+                "static java.time.chrono.Chronology.from",
+                "static java.time.chrono.HijrahDate.from",
+                "static java.time.chrono.JapaneseDate.from",
+                "static java.time.chrono.MinguoDate.from",
+                "static java.time.chrono.ThaiBuddhistDate.from",
+                "static java.util.Date.from",
+                "static java.util.GregorianCalendar.from",
               })
           .put(
               "createDirectory",
-              new Import[] {
-                new Import("createDirectory", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.createDirectory",
               })
           .put(
               "SearchControls",
-              new Import[] {
-                new Import("SearchControls", "javax.naming.directory", false),
+              new String[] {
+                "javax.naming.directory.SearchControls",
               })
           .put(
               "beginParagraphAction",
-              new Import[] {
-                new Import("beginParagraphAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.beginParagraphAction",
               })
           .put(
               "SynthPopupMenuUI",
-              new Import[] {
-                new Import("SynthPopupMenuUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthPopupMenuUI",
               })
           .put(
               "SchemaFactory",
-              new Import[] {
-                new Import("SchemaFactory", "javax.xml.validation", false),
+              new String[] {
+                "javax.xml.validation.SchemaFactory",
               })
           .put(
               "getControl",
-              new Import[] {
-                new Import("getControl", "java.util.ResourceBundle.Control", true),
-                new Import("getControl", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static java.util.ResourceBundle.Control.getControl",
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getControl",
               })
           .put(
               "PDLOverrideSupported",
-              new Import[] {
-                new Import("PDLOverrideSupported", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PDLOverrideSupported",
               })
           .put(
               "SUNDAY",
-              new Import[] {
-                new Import("SUNDAY", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.SUNDAY",
               })
           .put(
               "tk_ulong",
-              new Import[] {
-                new Import("tk_ulong", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_ulong",
               })
           .put(
               "getNumberInstance",
-              new Import[] {
-                new Import("getNumberInstance", "java.text.NumberFormat", true),
+              new String[] {
+                "static java.text.NumberFormat.getNumberInstance",
               })
           .put(
               "MXBEAN_FIELD",
-              new Import[] {
-                new Import("MXBEAN_FIELD", "javax.management.JMX", true),
+              new String[] {
+                "static javax.management.JMX.MXBEAN_FIELD",
               })
           .put(
               "UNSUPPORTED_COMPRESSION",
-              new Import[] {
-                new Import(
-                    "UNSUPPORTED_COMPRESSION",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.UNSUPPORTED_COMPRESSION",
               })
           .put(
               "icSigLuminanceTag",
-              new Import[] {
-                new Import("icSigLuminanceTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigLuminanceTag",
               })
           .put(
               "ExceptionDetailMessage",
-              new Import[] {
-                new Import("ExceptionDetailMessage", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.ExceptionDetailMessage",
               })
           .put(
               "ptSegDistSq",
-              new Import[] {
-                new Import("ptSegDistSq", "java.awt.geom.Line2D", true),
+              new String[] {
+                "static java.awt.geom.Line2D.ptSegDistSq",
               })
           .put(
               "INTERNAL_FRAME_CLOSING",
-              new Import[] {
-                new Import("INTERNAL_FRAME_CLOSING", "javax.swing.event.InternalFrameEvent", true),
+              new String[] {
+                "static javax.swing.event.InternalFrameEvent.INTERNAL_FRAME_CLOSING",
               })
           .put(
               "CONTROL_PICTURES",
-              new Import[] {
-                new Import("CONTROL_PICTURES", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CONTROL_PICTURES",
               })
           .put(
               "Content",
-              new Import[] {
-                new Import("Content", "javax.swing.text.AbstractDocument", false),
+              new String[] {
+                "javax.swing.text.AbstractDocument.Content",
               })
           .put(
               "HORIZONTAL",
-              new Import[] {
-                new Import("HORIZONTAL", "java.awt.Adjustable", true),
-                new Import("HORIZONTAL", "java.awt.GridBagConstraints", true),
-                new Import("HORIZONTAL", "java.awt.Scrollbar", true),
-                new Import("HORIZONTAL", "javax.accessibility.AccessibleState", true),
-                new Import("HORIZONTAL", "javax.swing.SwingConstants", true),
+              new String[] {
+                "static java.awt.Adjustable.HORIZONTAL",
+                "static java.awt.GridBagConstraints.HORIZONTAL",
+                "static java.awt.Scrollbar.HORIZONTAL",
+                "static javax.accessibility.AccessibleState.HORIZONTAL",
+                "static javax.swing.SwingConstants.HORIZONTAL",
               })
           .put(
               "DropTarget",
-              new Import[] {
-                new Import("DropTarget", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DropTarget",
               })
           .put(
               "FontRenderContext",
-              new Import[] {
-                new Import("FontRenderContext", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.FontRenderContext",
               })
           .put(
               "TC_RESET",
-              new Import[] {
-                new Import("TC_RESET", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_RESET",
               })
           .put(
               "MESSAGE_PROPERTY",
-              new Import[] {
-                new Import("MESSAGE_PROPERTY", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.MESSAGE_PROPERTY",
               })
           .put(
               "toChars",
-              new Import[] {
-                new Import("toChars", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.toChars",
               })
           .put(
               "DirectoryIteratorException",
-              new Import[] {
-                new Import("DirectoryIteratorException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.DirectoryIteratorException",
               })
           .put(
               "WSDL_INTERFACE",
-              new Import[] {
-                new Import("WSDL_INTERFACE", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.handler.MessageContext.WSDL_INTERFACE",
               })
           .put(
               "TAG_VMTX",
-              new Import[] {
-                new Import("TAG_VMTX", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_VMTX",
               })
           .put(
               "BoxLayout",
-              new Import[] {
-                new Import("BoxLayout", "javax.swing", false),
+              new String[] {
+                "javax.swing.BoxLayout",
               })
           .put(
               "bestRowNotPseudo",
-              new Import[] {
-                new Import("bestRowNotPseudo", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.bestRowNotPseudo",
               })
           .put(
               "DOCTYPE_PUBLIC",
-              new Import[] {
-                new Import("DOCTYPE_PUBLIC", "javax.xml.transform.OutputKeys", true),
+              new String[] {
+                "static javax.xml.transform.OutputKeys.DOCTYPE_PUBLIC",
               })
           .put(
               "TextFieldBorder",
-              new Import[] {
-                new Import("TextFieldBorder", "javax.swing.plaf.metal.MetalBorders", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalBorders.TextFieldBorder",
               })
           .put(
               "WebServiceClient",
-              new Import[] {
-                new Import("WebServiceClient", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.WebServiceClient",
               })
           .put(
               "setBackground",
-              new Import[] {
-                new Import("setBackground", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setBackground",
               })
           .put(
               "PageAttributes",
-              new Import[] {
-                new Import("PageAttributes", "java.awt", false),
+              new String[] {
+                "java.awt.PageAttributes",
               })
           .put(
               "parseDecimal",
-              new Import[] {
-                new Import("parseDecimal", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.parseDecimal",
               })
           .put(
               "MIN_SUPPLEMENTARY_CODE_POINT",
-              new Import[] {
-                new Import("MIN_SUPPLEMENTARY_CODE_POINT", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.MIN_SUPPLEMENTARY_CODE_POINT",
               })
           .put(
               "ComponentPlacement",
-              new Import[] {
-                new Import("ComponentPlacement", "javax.swing.LayoutStyle", false),
+              new String[] {
+                "javax.swing.LayoutStyle.ComponentPlacement",
               })
           .put(
               "WHEN_FOCUSED",
-              new Import[] {
-                new Import("WHEN_FOCUSED", "javax.swing.JComponent", true),
+              new String[] {
+                "static javax.swing.JComponent.WHEN_FOCUSED",
               })
           .put(
               "arrayElementGetter",
-              new Import[] {
-                new Import("arrayElementGetter", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.arrayElementGetter",
               })
           .put(
               "VALUE_RENDER_QUALITY",
-              new Import[] {
-                new Import("VALUE_RENDER_QUALITY", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_RENDER_QUALITY",
               })
           .put(
               "CertPathBuilderException",
-              new Import[] {
-                new Import("CertPathBuilderException", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertPathBuilderException",
               })
           .put(
               "_not_context",
-              new Import[] {
-                new Import(
-                    "_not_context", "org.omg.CosNaming.NamingContextPackage.NotFoundReason", true),
+              new String[] {
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundReason._not_context",
               })
           .put(
               "EASTERN_ARABIC",
-              new Import[] {
-                new Import("EASTERN_ARABIC", "java.awt.font.NumericShaper", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.EASTERN_ARABIC",
               })
           .put(
               "WINDOW_MOVED",
-              new Import[] {
-                new Import("WINDOW_MOVED", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.WINDOW_MOVED",
               })
           .put(
               "icSigSpace4CLR",
-              new Import[] {
-                new Import("icSigSpace4CLR", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigSpace4CLR",
               })
           .put(
               "decodeJavaMIMEType",
-              new Import[] {
-                new Import("decodeJavaMIMEType", "java.awt.datatransfer.SystemFlavorMap", true),
+              new String[] {
+                "static java.awt.datatransfer.SystemFlavorMap.decodeJavaMIMEType",
               })
           .put(
               "BORDER_PAINTED_FLAT_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("BORDER_PAINTED_FLAT_CHANGED_PROPERTY", "javax.swing.JCheckBox", true),
+              new String[] {
+                "static javax.swing.JCheckBox.BORDER_PAINTED_FLAT_CHANGED_PROPERTY",
               })
           .put(
               "value",
-              new Import[] {
-                new Import("value", "javax.management.Query", true),
-                new Import("value", "org.omg.CORBA.ARG_IN", true),
-                new Import("value", "org.omg.CORBA.ARG_INOUT", true),
-                new Import("value", "org.omg.CORBA.ARG_OUT", true),
-                new Import("value", "org.omg.CORBA.BAD_POLICY", true),
-                new Import("value", "org.omg.CORBA.BAD_POLICY_TYPE", true),
-                new Import("value", "org.omg.CORBA.BAD_POLICY_VALUE", true),
-                new Import("value", "org.omg.CORBA.CTX_RESTRICT_SCOPE", true),
-                new Import("value", "org.omg.CORBA.OMGVMCID", true),
-                new Import("value", "org.omg.CORBA.PRIVATE_MEMBER", true),
-                new Import("value", "org.omg.CORBA.PUBLIC_MEMBER", true),
-                new Import("value", "org.omg.CORBA.UNSUPPORTED_POLICY", true),
-                new Import("value", "org.omg.CORBA.UNSUPPORTED_POLICY_VALUE", true),
-                new Import("value", "org.omg.CORBA.VM_ABSTRACT", true),
-                new Import("value", "org.omg.CORBA.VM_CUSTOM", true),
-                new Import("value", "org.omg.CORBA.VM_NONE", true),
-                new Import("value", "org.omg.CORBA.VM_TRUNCATABLE", true),
-                new Import("value", "org.omg.IOP.CodeSets", true),
-                new Import("value", "org.omg.IOP.ENCODING_CDR_ENCAPS", true),
-                new Import("value", "org.omg.IOP.ExceptionDetailMessage", true),
-                new Import("value", "org.omg.IOP.RMICustomMaxStreamFormat", true),
-                new Import("value", "org.omg.IOP.TAG_ALTERNATE_IIOP_ADDRESS", true),
-                new Import("value", "org.omg.IOP.TAG_CODE_SETS", true),
-                new Import("value", "org.omg.IOP.TAG_INTERNET_IOP", true),
-                new Import("value", "org.omg.IOP.TAG_JAVA_CODEBASE", true),
-                new Import("value", "org.omg.IOP.TAG_MULTIPLE_COMPONENTS", true),
-                new Import("value", "org.omg.IOP.TAG_ORB_TYPE", true),
-                new Import("value", "org.omg.IOP.TAG_POLICIES", true),
-                new Import("value", "org.omg.IOP.TAG_RMI_CUSTOM_MAX_STREAM_FORMAT", true),
-                new Import("value", "org.omg.IOP.TransactionService", true),
-                new Import("value", "org.omg.Messaging.SYNC_WITH_TRANSPORT", true),
-                new Import("value", "org.omg.PortableInterceptor.ACTIVE", true),
-                new Import("value", "org.omg.PortableInterceptor.DISCARDING", true),
-                new Import("value", "org.omg.PortableInterceptor.HOLDING", true),
-                new Import("value", "org.omg.PortableInterceptor.INACTIVE", true),
-                new Import("value", "org.omg.PortableInterceptor.LOCATION_FORWARD", true),
-                new Import("value", "org.omg.PortableInterceptor.NON_EXISTENT", true),
-                new Import("value", "org.omg.PortableInterceptor.SUCCESSFUL", true),
-                new Import("value", "org.omg.PortableInterceptor.SYSTEM_EXCEPTION", true),
-                new Import("value", "org.omg.PortableInterceptor.TRANSPORT_RETRY", true),
-                new Import("value", "org.omg.PortableInterceptor.UNKNOWN", true),
-                new Import("value", "org.omg.PortableInterceptor.USER_EXCEPTION", true),
-                new Import("value", "org.omg.PortableServer.ID_ASSIGNMENT_POLICY_ID", true),
-                new Import("value", "org.omg.PortableServer.ID_UNIQUENESS_POLICY_ID", true),
-                new Import("value", "org.omg.PortableServer.IMPLICIT_ACTIVATION_POLICY_ID", true),
-                new Import("value", "org.omg.PortableServer.LIFESPAN_POLICY_ID", true),
-                new Import("value", "org.omg.PortableServer.REQUEST_PROCESSING_POLICY_ID", true),
-                new Import("value", "org.omg.PortableServer.SERVANT_RETENTION_POLICY_ID", true),
-                new Import("value", "org.omg.PortableServer.THREAD_POLICY_ID", true),
+              new String[] {
+                "static javax.management.Query.value",
+                "static org.omg.CORBA.ARG_IN.value",
+                "static org.omg.CORBA.ARG_INOUT.value",
+                "static org.omg.CORBA.ARG_OUT.value",
+                "static org.omg.CORBA.BAD_POLICY.value",
+                "static org.omg.CORBA.BAD_POLICY_TYPE.value",
+                "static org.omg.CORBA.BAD_POLICY_VALUE.value",
+                "static org.omg.CORBA.CTX_RESTRICT_SCOPE.value",
+                "static org.omg.CORBA.OMGVMCID.value",
+                "static org.omg.CORBA.PRIVATE_MEMBER.value",
+                "static org.omg.CORBA.PUBLIC_MEMBER.value",
+                "static org.omg.CORBA.UNSUPPORTED_POLICY.value",
+                "static org.omg.CORBA.UNSUPPORTED_POLICY_VALUE.value",
+                "static org.omg.CORBA.VM_ABSTRACT.value",
+                "static org.omg.CORBA.VM_CUSTOM.value",
+                "static org.omg.CORBA.VM_NONE.value",
+                "static org.omg.CORBA.VM_TRUNCATABLE.value",
+                "static org.omg.IOP.CodeSets.value",
+                "static org.omg.IOP.ENCODING_CDR_ENCAPS.value",
+                "static org.omg.IOP.ExceptionDetailMessage.value",
+                "static org.omg.IOP.RMICustomMaxStreamFormat.value",
+                "static org.omg.IOP.TAG_ALTERNATE_IIOP_ADDRESS.value",
+                "static org.omg.IOP.TAG_CODE_SETS.value",
+                "static org.omg.IOP.TAG_INTERNET_IOP.value",
+                "static org.omg.IOP.TAG_JAVA_CODEBASE.value",
+                "static org.omg.IOP.TAG_MULTIPLE_COMPONENTS.value",
+                "static org.omg.IOP.TAG_ORB_TYPE.value",
+                "static org.omg.IOP.TAG_POLICIES.value",
+                "static org.omg.IOP.TAG_RMI_CUSTOM_MAX_STREAM_FORMAT.value",
+                "static org.omg.IOP.TransactionService.value",
+                "static org.omg.Messaging.SYNC_WITH_TRANSPORT.value",
+                "static org.omg.PortableInterceptor.ACTIVE.value",
+                "static org.omg.PortableInterceptor.DISCARDING.value",
+                "static org.omg.PortableInterceptor.HOLDING.value",
+                "static org.omg.PortableInterceptor.INACTIVE.value",
+                "static org.omg.PortableInterceptor.LOCATION_FORWARD.value",
+                "static org.omg.PortableInterceptor.NON_EXISTENT.value",
+                "static org.omg.PortableInterceptor.SUCCESSFUL.value",
+                "static org.omg.PortableInterceptor.SYSTEM_EXCEPTION.value",
+                "static org.omg.PortableInterceptor.TRANSPORT_RETRY.value",
+                "static org.omg.PortableInterceptor.UNKNOWN.value",
+                "static org.omg.PortableInterceptor.USER_EXCEPTION.value",
+                "static org.omg.PortableServer.ID_ASSIGNMENT_POLICY_ID.value",
+                "static org.omg.PortableServer.ID_UNIQUENESS_POLICY_ID.value",
+                "static org.omg.PortableServer.IMPLICIT_ACTIVATION_POLICY_ID.value",
+                "static org.omg.PortableServer.LIFESPAN_POLICY_ID.value",
+                "static org.omg.PortableServer.REQUEST_PROCESSING_POLICY_ID.value",
+                "static org.omg.PortableServer.SERVANT_RETENTION_POLICY_ID.value",
+                "static org.omg.PortableServer.THREAD_POLICY_ID.value",
               })
           .put(
               "FileSystems",
-              new Import[] {
-                new Import("FileSystems", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.FileSystems",
               })
           .put(
               "lookup",
-              new Import[] {
-                new Import("lookup", "java.io.ObjectStreamClass", true),
-                new Import("lookup", "java.lang.invoke.MethodHandles", true),
-                new Import("lookup", "java.rmi.Naming", true),
-                new Import("lookup", "java.util.Locale", true),
+              new String[] {
+                "static java.io.ObjectStreamClass.lookup",
+                "static java.lang.invoke.MethodHandles.lookup",
+                "static java.rmi.Naming.lookup",
+                "static java.util.Locale.lookup",
               })
           .put(
               "AccessibleAttributeSequence",
-              new Import[] {
-                new Import("AccessibleAttributeSequence", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleAttributeSequence",
               })
           .put(
               "MODE_DEFAULT",
-              new Import[] {
-                new Import("MODE_DEFAULT", "javax.imageio.ImageWriteParam", true),
+              new String[] {
+                "static javax.imageio.ImageWriteParam.MODE_DEFAULT",
               })
           .put(
               "SwitchPoint",
-              new Import[] {
-                new Import("SwitchPoint", "java.lang.invoke", false),
+              new String[] {
+                "java.lang.invoke.SwitchPoint",
               })
           .put(
               "TMSUCCESS",
-              new Import[] {
-                new Import("TMSUCCESS", "javax.transaction.xa.XAResource", true),
+              new String[] {
+                "static javax.transaction.xa.XAResource.TMSUCCESS",
               })
           .put(
               "procedureColumnResult",
-              new Import[] {
-                new Import("procedureColumnResult", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.procedureColumnResult",
               })
           .put(
               "MINI_SCALE",
-              new Import[] {
-                new Import("MINI_SCALE", "javax.swing.plaf.nimbus.NimbusStyle", true),
+              new String[] {
+                "static javax.swing.plaf.nimbus.NimbusStyle.MINI_SCALE",
               })
           .put(
               "CHORD",
-              new Import[] {
-                new Import("CHORD", "java.awt.geom.Arc2D", true),
+              new String[] {
+                "static java.awt.geom.Arc2D.CHORD",
               })
           .put(
               "SignatureSpi",
-              new Import[] {
-                new Import("SignatureSpi", "java.security", false),
+              new String[] {
+                "java.security.SignatureSpi",
               })
           .put(
               "MetalLabelUI",
-              new Import[] {
-                new Import("MetalLabelUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalLabelUI",
               })
           .put(
               "Response",
-              new Import[] {
-                new Import("Response", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.Response",
               })
           .put(
               "DECLARE",
-              new Import[] {
-                new Import("DECLARE", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.DECLARE",
               })
           .put(
               "VALUE_RANGE_MIN_MAX_INCLUSIVE",
-              new Import[] {
-                new Import(
-                    "VALUE_RANGE_MIN_MAX_INCLUSIVE",
-                    "javax.imageio.metadata.IIOMetadataFormat",
-                    true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.VALUE_RANGE_MIN_MAX_INCLUSIVE",
               })
           .put(
               "JOB_RESTARTABLE",
-              new Import[] {
-                new Import(
-                    "JOB_RESTARTABLE", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.JOB_RESTARTABLE",
               })
           .put(
               "isLineSupported",
-              new Import[] {
-                new Import("isLineSupported", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.sampled.AudioSystem.isLineSupported",
               })
           .put(
               "SUBCLASS_IMPLEMENTATION_PERMISSION",
-              new Import[] {
-                new Import(
-                    "SUBCLASS_IMPLEMENTATION_PERMISSION", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.SUBCLASS_IMPLEMENTATION_PERMISSION",
               })
           .put(
               "getClientHost",
-              new Import[] {
-                new Import("getClientHost", "java.rmi.server.RemoteServer", true),
+              new String[] {
+                "static java.rmi.server.RemoteServer.getClientHost",
               })
           .put(
               "EMPTY_LIST",
-              new Import[] {
-                new Import("EMPTY_LIST", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.EMPTY_LIST",
               })
           .put(
               "WrongMethodTypeException",
-              new Import[] {
-                new Import("WrongMethodTypeException", "java.lang.invoke", false),
+              new String[] {
+                "java.lang.invoke.WrongMethodTypeException",
               })
           .put(
               "SplittableRandom",
-              new Import[] {
-                new Import("SplittableRandom", "java.util", false),
+              new String[] {
+                "java.util.SplittableRandom",
               })
           .build();
 }
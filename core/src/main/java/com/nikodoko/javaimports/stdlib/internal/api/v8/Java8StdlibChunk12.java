@@ -2,1719 +2,1671 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk12 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "MimeTypeParseException",
-              new Import[] {
-                new Import("MimeTypeParseException", "java.awt.datatransfer", false),
-                new Import("MimeTypeParseException", "javax.activation", false),
+              new String[] {
+                "java.awt.datatransfer.MimeTypeParseException",
+                "javax.activation.MimeTypeParseException",
               })
           .put(
               "ClassValue",
-              new Import[] {
-                new Import("ClassValue", "java.lang", false),
+              new String[] {
+                "java.lang.ClassValue",
               })
           .put(
               "getAudioFileFormat",
-              new Import[] {
-                new Import("getAudioFileFormat", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.sampled.AudioSystem.getAudioFileFormat",
               })
           .put(
               "getFrameForComponent",
-              new Import[] {
-                new Import("getFrameForComponent", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.getFrameForComponent",
               })
           .put(
               "createFromBufferedImageType",
-              new Import[] {
-                new Import("createFromBufferedImageType", "javax.imageio.ImageTypeSpecifier", true),
+              new String[] {
+                "static javax.imageio.ImageTypeSpecifier.createFromBufferedImageType",
               })
           .put(
               "tk_void",
-              new Import[] {
-                new Import("tk_void", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_void",
               })
           .put(
               "nativeOrder",
-              new Import[] {
-                new Import("nativeOrder", "java.nio.ByteOrder", true),
+              new String[] {
+                "static java.nio.ByteOrder.nativeOrder",
               })
           .put(
               "setFollowRedirects",
-              new Import[] {
-                new Import("setFollowRedirects", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.setFollowRedirects",
               })
           .put(
               "LocalDate",
-              new Import[] {
-                new Import("LocalDate", "java.time", false),
+              new String[] {
+                "java.time.LocalDate",
               })
           .put(
               "HSPACE",
-              new Import[] {
-                new Import("HSPACE", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.HSPACE",
               })
           .put(
               "icSigBToA2Tag",
-              new Import[] {
-                new Import("icSigBToA2Tag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigBToA2Tag",
               })
           .put(
               "TAG_FPGM",
-              new Import[] {
-                new Import("TAG_FPGM", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_FPGM",
               })
           .put(
               "ReferenceType",
-              new Import[] {
-                new Import("ReferenceType", "javax.lang.model.type", false),
+              new String[] {
+                "javax.lang.model.type.ReferenceType",
               })
           .put(
               "PROGRESS_MONITOR",
-              new Import[] {
-                new Import("PROGRESS_MONITOR", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.PROGRESS_MONITOR",
               })
           .put(
               "MIN_VALUE_FIELD",
-              new Import[] {
-                new Import("MIN_VALUE_FIELD", "javax.management.JMX", true),
+              new String[] {
+                "static javax.management.JMX.MIN_VALUE_FIELD",
               })
           .put(
               "ERROR",
-              new Import[] {
-                new Import("ERROR", "java.awt.image.ImageObserver", true),
-                new Import("ERROR", "java.util.jar.Pack200.Packer", true),
-                new Import("ERROR", "javax.print.attribute.standard.Severity", true),
-                new Import("ERROR", "javax.security.auth.callback.ConfirmationCallback", true),
-                new Import("ERROR", "javax.security.auth.callback.TextOutputCallback", true),
-                new Import("ERROR", "javax.xml.bind.ValidationEvent", true),
+              new String[] {
+                "static java.awt.image.ImageObserver.ERROR",
+                "static java.util.jar.Pack200.Packer.ERROR",
+                "static javax.print.attribute.standard.Severity.ERROR",
+                "static javax.security.auth.callback.ConfirmationCallback.ERROR",
+                "static javax.security.auth.callback.TextOutputCallback.ERROR",
+                "static javax.xml.bind.ValidationEvent.ERROR",
               })
           .put(
               "PrimitiveType",
-              new Import[] {
-                new Import("PrimitiveType", "javax.lang.model.type", false),
+              new String[] {
+                "javax.lang.model.type.PrimitiveType",
               })
           .put(
               "MetalRootPaneUI",
-              new Import[] {
-                new Import("MetalRootPaneUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalRootPaneUI",
               })
           .put(
               "summarizingDouble",
-              new Import[] {
-                new Import("summarizingDouble", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.summarizingDouble",
               })
           .put(
               "ENGINE_SCOPE",
-              new Import[] {
-                new Import("ENGINE_SCOPE", "javax.script.ScriptContext", true),
+              new String[] {
+                "static javax.script.ScriptContext.ENGINE_SCOPE",
               })
           .put(
               "TypeInfoProvider",
-              new Import[] {
-                new Import("TypeInfoProvider", "javax.xml.validation", false),
+              new String[] {
+                "javax.xml.validation.TypeInfoProvider",
               })
           .put(
               "HttpHandler",
-              new Import[] {
-                new Import("HttpHandler", "javax.xml.ws.spi.http", false),
+              new String[] {
+                "javax.xml.ws.spi.http.HttpHandler",
               })
           .put(
               "ERRORED",
-              new Import[] {
-                new Import("ERRORED", "java.awt.MediaTracker", true),
+              new String[] {
+                "static java.awt.MediaTracker.ERRORED",
               })
           .put(
               "NoConnectionPendingException",
-              new Import[] {
-                new Import("NoConnectionPendingException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.NoConnectionPendingException",
               })
           .put(
               "NSDECL",
-              new Import[] {
-                new Import("NSDECL", "org.xml.sax.helpers.NamespaceSupport", true),
+              new String[] {
+                "static org.xml.sax.helpers.NamespaceSupport.NSDECL",
               })
           .put(
               "TAG_TYP1",
-              new Import[] {
-                new Import("TAG_TYP1", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_TYP1",
               })
           .put(
               "printLong",
-              new Import[] {
-                new Import("printLong", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printLong",
               })
           .put(
               "LifespanPolicyValue",
-              new Import[] {
-                new Import("LifespanPolicyValue", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.LifespanPolicyValue",
               })
           .put(
               "BIGINT",
-              new Import[] {
-                new Import("BIGINT", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.BIGINT",
               })
           .put(
               "BUTTON3_DOWN_MASK",
-              new Import[] {
-                new Import("BUTTON3_DOWN_MASK", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.event.InputEvent.BUTTON3_DOWN_MASK",
               })
           .put(
               "getStateToBind",
-              new Import[] {
-                new Import("getStateToBind", "javax.naming.spi.DirectoryManager", true),
-                new Import("getStateToBind", "javax.naming.spi.NamingManager", true),
+              new String[] {
+                "static javax.naming.spi.DirectoryManager.getStateToBind",
+                "static javax.naming.spi.NamingManager.getStateToBind",
               })
           .put(
               "URIReferenceException",
-              new Import[] {
-                new Import("URIReferenceException", "javax.xml.crypto", false),
+              new String[] {
+                "javax.xml.crypto.URIReferenceException",
               })
           .put(
               "UserDefinedFileAttributeView",
-              new Import[] {
-                new Import("UserDefinedFileAttributeView", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.UserDefinedFileAttributeView",
               })
           .put(
               "LocateRegistry",
-              new Import[] {
-                new Import("LocateRegistry", "java.rmi.registry", false),
+              new String[] {
+                "java.rmi.registry.LocateRegistry",
               })
           .put(
               "hostEncoding",
-              new Import[] {
-                new Import("hostEncoding", "javax.print.DocFlavor", true),
+              new String[] {
+                "static javax.print.DocFlavor.hostEncoding",
               })
           .put(
               "VK_CANCEL",
-              new Import[] {
-                new Import("VK_CANCEL", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_CANCEL",
               })
           .put(
               "FloatSeqHelper",
-              new Import[] {
-                new Import("FloatSeqHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.FloatSeqHelper",
               })
           .put(
               "flushFromCaches",
-              new Import[] {
-                new Import("flushFromCaches", "java.beans.Introspector", true),
+              new String[] {
+                "static java.beans.Introspector.flushFromCaches",
               })
           .put(
               "icSigSpace5CLR",
-              new Import[] {
-                new Import("icSigSpace5CLR", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigSpace5CLR",
               })
           .put(
               "COMPONENT_RESIZED",
-              new Import[] {
-                new Import("COMPONENT_RESIZED", "java.awt.event.ComponentEvent", true),
+              new String[] {
+                "static java.awt.event.ComponentEvent.COMPONENT_RESIZED",
               })
           .put(
               "ActivationGroupID",
-              new Import[] {
-                new Import("ActivationGroupID", "java.rmi.activation", false),
+              new String[] {
+                "java.rmi.activation.ActivationGroupID",
               })
           .put(
               "Processor",
-              new Import[] {
-                new Import("Processor", "javax.annotation.processing", false),
+              new String[] {
+                "javax.annotation.processing.Processor",
               })
           .put(
               "DefaultSelectionType",
-              new Import[] {
-                new Import("DefaultSelectionType", "java.awt.JobAttributes", false),
+              new String[] {
+                "java.awt.JobAttributes.DefaultSelectionType",
               })
           .put(
               "UnicodeBlock",
-              new Import[] {
-                new Import("UnicodeBlock", "java.lang.Character", false),
+              new String[] {
+                "java.lang.Character.UnicodeBlock",
               })
           .put(
               "getContinuationContext",
-              new Import[] {
-                new Import("getContinuationContext", "javax.naming.spi.NamingManager", true),
+              new String[] {
+                "static javax.naming.spi.NamingManager.getContinuationContext",
               })
           .put(
               "CharBuffer",
-              new Import[] {
-                new Import("CharBuffer", "java.nio", false),
+              new String[] {
+                "java.nio.CharBuffer",
               })
           .put(
               "ImageWriter",
-              new Import[] {
-                new Import("ImageWriter", "javax.imageio", false),
+              new String[] {
+                "javax.imageio.ImageWriter",
               })
           .put(
               "VERTICAL_WRAP",
-              new Import[] {
-                new Import("VERTICAL_WRAP", "javax.swing.JList", true),
+              new String[] {
+                "static javax.swing.JList.VERTICAL_WRAP",
               })
           .put(
               "readAllLines",
-              new Import[] {
-                new Import("readAllLines", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.readAllLines",
               })
           .put(
               "dk_ValueBox",
-              new Import[] {
-                new Import("dk_ValueBox", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_ValueBox",
               })
           .put(
               "Retention",
-              new Import[] {
-                new Import("Retention", "java.lang.annotation", false),
+              new String[] {
+                "java.lang.annotation.Retention",
               })
           .put(
               "PersistenceDelegate",
-              new Import[] {
-                new Import("PersistenceDelegate", "java.beans", false),
+              new String[] {
+                "java.beans.PersistenceDelegate",
               })
           .put(
               "icSigRedTRCTag",
-              new Import[] {
-                new Import("icSigRedTRCTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigRedTRCTag",
               })
           .put(
               "ElementNameAttribute",
-              new Import[] {
-                new Import("ElementNameAttribute", "javax.swing.text.AbstractDocument", true),
+              new String[] {
+                "static javax.swing.text.AbstractDocument.ElementNameAttribute",
               })
           .put(
               "AbstractQueue",
-              new Import[] {
-                new Import("AbstractQueue", "java.util", false),
+              new String[] {
+                "java.util.AbstractQueue",
               })
           .put(
               "Copies",
-              new Import[] {
-                new Import("Copies", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.Copies",
               })
           .put(
               "XmlAttachmentRef",
-              new Import[] {
-                new Import("XmlAttachmentRef", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlAttachmentRef",
               })
           .put(
               "getRules",
-              new Import[] {
-                new Import("getRules", "java.time.zone.ZoneRulesProvider", true),
+              new String[] {
+                "static java.time.zone.ZoneRulesProvider.getRules",
               })
           .put(
               "PreferenceChangeListener",
-              new Import[] {
-                new Import("PreferenceChangeListener", "java.util.prefs", false),
+              new String[] {
+                "java.util.prefs.PreferenceChangeListener",
               })
           .put(
               "AttributeUndoableEdit",
-              new Import[] {
-                new Import(
-                    "AttributeUndoableEdit", "javax.swing.text.DefaultStyledDocument", false),
+              new String[] {
+                "javax.swing.text.DefaultStyledDocument.AttributeUndoableEdit",
               })
           .put(
               "ComposedTextAttribute",
-              new Import[] {
-                new Import("ComposedTextAttribute", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.ComposedTextAttribute",
               })
           .put(
               "INV_FLAG",
-              new Import[] {
-                new Import("INV_FLAG", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.INV_FLAG",
               })
           .put(
               "Lease",
-              new Import[] {
-                new Import("Lease", "java.rmi.dgc", false),
+              new String[] {
+                "java.rmi.dgc.Lease",
               })
           .put(
               "unmodifiableNavigableMap",
-              new Import[] {
-                new Import("unmodifiableNavigableMap", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.unmodifiableNavigableMap",
               })
           .put(
               "PADDING_BOTTOM",
-              new Import[] {
-                new Import("PADDING_BOTTOM", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.PADDING_BOTTOM",
               })
           .put(
               "CacheRequest",
-              new Import[] {
-                new Import("CacheRequest", "java.net", false),
+              new String[] {
+                "java.net.CacheRequest",
               })
           .put(
               "NORTH_EAST",
-              new Import[] {
-                new Import("NORTH_EAST", "javax.swing.SwingConstants", true),
+              new String[] {
+                "static javax.swing.SwingConstants.NORTH_EAST",
               })
           .put(
               "SOAPMessageContext",
-              new Import[] {
-                new Import("SOAPMessageContext", "javax.xml.ws.handler.soap", false),
+              new String[] {
+                "javax.xml.ws.handler.soap.SOAPMessageContext",
               })
           .put(
               "setLogger",
-              new Import[] {
-                new Import("setLogger", "javax.sql.rowset.spi.SyncFactory", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncFactory.setLogger",
               })
           .put(
               "UnderlineAction",
-              new Import[] {
-                new Import("UnderlineAction", "javax.swing.text.StyledEditorKit", false),
+              new String[] {
+                "javax.swing.text.StyledEditorKit.UnderlineAction",
               })
           .put(
               "IvParameterSpec",
-              new Import[] {
-                new Import("IvParameterSpec", "javax.crypto.spec", false),
+              new String[] {
+                "javax.crypto.spec.IvParameterSpec",
               })
           .put(
               "ToLongBiFunction",
-              new Import[] {
-                new Import("ToLongBiFunction", "java.util.function", false),
+              new String[] {
+                "java.util.function.ToLongBiFunction",
               })
           .put(
               "UNION",
-              new Import[] {
-                new Import("UNION", "javax.xml.crypto.dsig.spec.XPathType.Filter", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.spec.XPathType.Filter.UNION",
               })
           .put(
               "SrcOver",
-              new Import[] {
-                new Import("SrcOver", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.SrcOver",
               })
           .put(
               "icSigColorSpaceClass",
-              new Import[] {
-                new Import("icSigColorSpaceClass", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigColorSpaceClass",
               })
           .put(
               "tk_Principal",
-              new Import[] {
-                new Import("tk_Principal", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_Principal",
               })
           .put(
               "SynthMenuItemUI",
-              new Import[] {
-                new Import("SynthMenuItemUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthMenuItemUI",
               })
           .put(
               "UndoableEdit",
-              new Import[] {
-                new Import("UndoableEdit", "javax.swing.undo", false),
+              new String[] {
+                "javax.swing.undo.UndoableEdit",
               })
           .put(
               "indexOfSubList",
-              new Import[] {
-                new Import("indexOfSubList", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.indexOfSubList",
               })
           .put(
               "FileTime",
-              new Import[] {
-                new Import("FileTime", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.FileTime",
               })
           .put(
               "InternalFrameEvent",
-              new Import[] {
-                new Import("InternalFrameEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.InternalFrameEvent",
               })
           .put(
               "UtilDelegate",
-              new Import[] {
-                new Import("UtilDelegate", "javax.rmi.CORBA", false),
+              new String[] {
+                "javax.rmi.CORBA.UtilDelegate",
               })
           .put(
               "MemoryCacheImageOutputStream",
-              new Import[] {
-                new Import("MemoryCacheImageOutputStream", "javax.imageio.stream", false),
+              new String[] {
+                "javax.imageio.stream.MemoryCacheImageOutputStream",
               })
           .put(
               "IDN",
-              new Import[] {
-                new Import("IDN", "java.net", false),
+              new String[] {
+                "java.net.IDN",
               })
           .put(
               "TaggedComponentHelper",
-              new Import[] {
-                new Import("TaggedComponentHelper", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.TaggedComponentHelper",
               })
           .put(
               "Binding",
-              new Import[] {
-                new Import("Binding", "javax.naming", false),
-                new Import("Binding", "javax.xml.ws", false),
-                new Import("Binding", "org.omg.CosNaming", false),
+              new String[] {
+                "javax.naming.Binding", "javax.xml.ws.Binding", "org.omg.CosNaming.Binding",
               })
           .put(
               "ServantManagerOperations",
-              new Import[] {
-                new Import("ServantManagerOperations", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ServantManagerOperations",
               })
           .put(
               "BORDER_PAINTED_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("BORDER_PAINTED_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.BORDER_PAINTED_CHANGED_PROPERTY",
               })
           .put(
               "newFileSystem",
-              new Import[] {
-                new Import("newFileSystem", "java.nio.file.FileSystems", true),
+              new String[] {
+                "static java.nio.file.FileSystems.newFileSystem",
               })
           .put(
               "tk_value",
-              new Import[] {
-                new Import("tk_value", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_value",
               })
           .put(
               "TEXT_HTML_US_ASCII",
-              new Import[] {
-                new Import("TEXT_HTML_US_ASCII", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_HTML_US_ASCII", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_HTML_US_ASCII", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.TEXT_HTML_US_ASCII",
+                "static javax.print.DocFlavor.INPUT_STREAM.TEXT_HTML_US_ASCII",
+                "static javax.print.DocFlavor.URL.TEXT_HTML_US_ASCII",
               })
           .put(
               "MembershipKey",
-              new Import[] {
-                new Import("MembershipKey", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.MembershipKey",
               })
           .put(
               "removePropertyChangeListener",
-              new Import[] {
-                new Import("removePropertyChangeListener", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.removePropertyChangeListener",
               })
           .put(
               "GEOMETRIC_SHAPES",
-              new Import[] {
-                new Import("GEOMETRIC_SHAPES", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.GEOMETRIC_SHAPES",
               })
           .put(
               "FULL",
-              new Import[] {
-                new Import("FULL", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.FULL",
               })
           .put(
               "installBorder",
-              new Import[] {
-                new Import("installBorder", "javax.swing.LookAndFeel", true),
+              new String[] {
+                "static javax.swing.LookAndFeel.installBorder",
               })
           .put(
               "ImplicitActivationPolicyValue",
-              new Import[] {
-                new Import("ImplicitActivationPolicyValue", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ImplicitActivationPolicyValue",
               })
           .put(
               "DynValueCommon",
-              new Import[] {
-                new Import("DynValueCommon", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynValueCommon",
               })
           .put(
               "ENV_9",
-              new Import[] {
-                new Import("ENV_9", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ENV_9",
               })
           .put(
               "RequestInfoOperations",
-              new Import[] {
-                new Import("RequestInfoOperations", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.RequestInfoOperations",
               })
           .put(
               "replaceUIInputMap",
-              new Import[] {
-                new Import("replaceUIInputMap", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.replaceUIInputMap",
               })
           .put(
               "FloatSeqHolder",
-              new Import[] {
-                new Import("FloatSeqHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.FloatSeqHolder",
               })
           .put(
               "SCROLL_BEGIN",
-              new Import[] {
-                new Import("SCROLL_BEGIN", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.SCROLL_BEGIN",
               })
           .put(
               "getOwnerlessWindows",
-              new Import[] {
-                new Import("getOwnerlessWindows", "java.awt.Window", true),
+              new String[] {
+                "static java.awt.Window.getOwnerlessWindows",
               })
           .put(
               "CookieHandler",
-              new Import[] {
-                new Import("CookieHandler", "java.net", false),
+              new String[] {
+                "java.net.CookieHandler",
               })
           .put(
               "getHTMLBaseline",
-              new Import[] {
-                new Import("getHTMLBaseline", "javax.swing.plaf.basic.BasicHTML", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicHTML.getHTMLBaseline",
               })
           .put(
               "RMIClassLoaderSpi",
-              new Import[] {
-                new Import("RMIClassLoaderSpi", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.RMIClassLoaderSpi",
               })
           .put(
               "Scanner",
-              new Import[] {
-                new Import("Scanner", "java.util", false),
+              new String[] {
+                "java.util.Scanner",
               })
           .put(
               "joining",
-              new Import[] {
-                new Import("joining", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.joining",
               })
           .put(
               "NUTOKENS",
-              new Import[] {
-                new Import("NUTOKENS", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.NUTOKENS",
               })
           .put(
               "TAG_GSUB",
-              new Import[] {
-                new Import("TAG_GSUB", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_GSUB",
               })
           .put(
               "TORIGHT_TOTOP",
-              new Import[] {
-                new Import(
-                    "TORIGHT_TOTOP", "javax.print.attribute.standard.PresentationDirection", true),
+              new String[] {
+                "static javax.print.attribute.standard.PresentationDirection.TORIGHT_TOTOP",
               })
           .put(
               "Transformer",
-              new Import[] {
-                new Import("Transformer", "javax.xml.transform", false),
+              new String[] {
+                "javax.xml.transform.Transformer",
               })
           .put(
               "getSystemLookAndFeelClassName",
-              new Import[] {
-                new Import("getSystemLookAndFeelClassName", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.getSystemLookAndFeelClassName",
               })
           .put(
               "distance",
-              new Import[] {
-                new Import("distance", "java.awt.geom.Point2D", true),
+              new String[] {
+                "static java.awt.geom.Point2D.distance",
               })
           .put(
               "ErrorManager",
-              new Import[] {
-                new Import("ErrorManager", "java.util.logging", false),
+              new String[] {
+                "java.util.logging.ErrorManager",
               })
           .put(
               "TAIWAN",
-              new Import[] {
-                new Import("TAIWAN", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.TAIWAN",
               })
           .put(
               "_dk_Union",
-              new Import[] {
-                new Import("_dk_Union", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Union",
               })
           .put(
               "averagingLong",
-              new Import[] {
-                new Import("averagingLong", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.averagingLong",
               })
           .put(
               "getPrimaryControlDarkShadow",
-              new Import[] {
-                new Import(
-                    "getPrimaryControlDarkShadow", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getPrimaryControlDarkShadow",
               })
           .put(
               "ExtendedSSLSession",
-              new Import[] {
-                new Import("ExtendedSSLSession", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.ExtendedSSLSession",
               })
           .put(
               "KANJI",
-              new Import[] {
-                new Import("KANJI", "java.awt.im.InputSubset", true),
+              new String[] {
+                "static java.awt.im.InputSubset.KANJI",
               })
           .put(
               "NavigationFilter",
-              new Import[] {
-                new Import("NavigationFilter", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.NavigationFilter",
               })
           .put(
               "DefaultMoveDrop",
-              new Import[] {
-                new Import("DefaultMoveDrop", "java.awt.dnd.DragSource", true),
+              new String[] {
+                "static java.awt.dnd.DragSource.DefaultMoveDrop",
               })
           .put(
               "SPEAKER",
-              new Import[] {
-                new Import("SPEAKER", "javax.sound.sampled.Port.Info", true),
+              new String[] {
+                "static javax.sound.sampled.Port.Info.SPEAKER",
               })
           .put(
               "MODIFICATION",
-              new Import[] {
-                new Import("MODIFICATION", "org.w3c.dom.events.MutationEvent", true),
+              new String[] {
+                "static org.w3c.dom.events.MutationEvent.MODIFICATION",
               })
           .put(
               "START_ELEMENT",
-              new Import[] {
-                new Import("START_ELEMENT", "javax.xml.stream.XMLStreamConstants", true),
+              new String[] {
+                "static javax.xml.stream.XMLStreamConstants.START_ELEMENT",
               })
           .put(
               "RowFilter",
-              new Import[] {
-                new Import("RowFilter", "javax.swing", false),
+              new String[] {
+                "javax.swing.RowFilter",
               })
           .put(
               "JOB_QUEUED_FOR_MARKER",
-              new Import[] {
-                new Import(
-                    "JOB_QUEUED_FOR_MARKER", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.JOB_QUEUED_FOR_MARKER",
               })
           .put(
               "getSourceLineInfo",
-              new Import[] {
-                new Import("getSourceLineInfo", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.sampled.AudioSystem.getSourceLineInfo",
               })
           .put(
               "NullPointerException",
-              new Import[] {
-                new Import("NullPointerException", "java.lang", false),
+              new String[] {
+                "java.lang.NullPointerException",
               })
           .put(
               "getCutAction",
-              new Import[] {
-                new Import("getCutAction", "javax.swing.TransferHandler", true),
+              new String[] {
+                "static javax.swing.TransferHandler.getCutAction",
               })
           .put(
               "SSLSessionBindingListener",
-              new Import[] {
-                new Import("SSLSessionBindingListener", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLSessionBindingListener",
               })
           .put(
               "DynSequenceOperations",
-              new Import[] {
-                new Import("DynSequenceOperations", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynSequenceOperations",
               })
           .put(
               "Component",
-              new Import[] {
-                new Import("Component", "java.awt", false),
+              new String[] {
+                "java.awt.Component",
               })
           .put(
               "ExcellentBreakWeight",
-              new Import[] {
-                new Import("ExcellentBreakWeight", "javax.swing.text.View", true),
+              new String[] {
+                "static javax.swing.text.View.ExcellentBreakWeight",
               })
           .put(
               "DocumentFragment",
-              new Import[] {
-                new Import("DocumentFragment", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.DocumentFragment",
               })
           .put(
               "JDIALOG_UI",
-              new Import[] {
-                new Import("JDIALOG_UI", "javax.print.ServiceUIFactory", true),
+              new String[] {
+                "static javax.print.ServiceUIFactory.JDIALOG_UI",
               })
           .put(
               "WebServiceRef",
-              new Import[] {
-                new Import("WebServiceRef", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.WebServiceRef",
               })
           .put(
               "ToolProvider",
-              new Import[] {
-                new Import("ToolProvider", "javax.tools", false),
+              new String[] {
+                "javax.tools.ToolProvider",
               })
           .put(
               "DragSourceAdapter",
-              new Import[] {
-                new Import("DragSourceAdapter", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DragSourceAdapter",
               })
           .put(
               "HORIZONTAL_SCROLLBAR_ALWAYS",
-              new Import[] {
-                new Import("HORIZONTAL_SCROLLBAR_ALWAYS", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.HORIZONTAL_SCROLLBAR_ALWAYS",
               })
           .put(
               "BasicPanelUI",
-              new Import[] {
-                new Import("BasicPanelUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicPanelUI",
               })
           .put(
               "getDefaultFileTypeMap",
-              new Import[] {
-                new Import("getDefaultFileTypeMap", "javax.activation.FileTypeMap", true),
+              new String[] {
+                "static javax.activation.FileTypeMap.getDefaultFileTypeMap",
               })
           .put(
               "TIFINAGH",
-              new Import[] {
-                new Import("TIFINAGH", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.TIFINAGH",
               })
           .put(
               "BeanContextServicesSupport",
-              new Import[] {
-                new Import("BeanContextServicesSupport", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextServicesSupport",
               })
           .put(
               "GUJARATI",
-              new Import[] {
-                new Import("GUJARATI", "java.awt.font.NumericShaper", true),
-                new Import("GUJARATI", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.GUJARATI",
+                "static java.lang.Character.UnicodeBlock.GUJARATI",
               })
           .put(
               "Info",
-              new Import[] {
-                new Import("Info", "javax.sound.midi.MidiDevice", false),
-                new Import("Info", "javax.sound.sampled.DataLine", false),
-                new Import("Info", "javax.sound.sampled.Line", false),
-                new Import("Info", "javax.sound.sampled.Mixer", false),
-                new Import("Info", "javax.sound.sampled.Port", false),
+              new String[] {
+                "javax.sound.midi.MidiDevice.Info",
+                "javax.sound.sampled.DataLine.Info",
+                "javax.sound.sampled.Line.Info",
+                "javax.sound.sampled.Mixer.Info",
+                "javax.sound.sampled.Port.Info",
               })
           .put(
               "helpQuiesce",
-              new Import[] {
-                new Import("helpQuiesce", "java.util.concurrent.ForkJoinTask", true),
+              new String[] {
+                "static java.util.concurrent.ForkJoinTask.helpQuiesce",
               })
           .put(
               "setFlashColor",
-              new Import[] {
-                new Import("setFlashColor", "javax.swing.DebugGraphics", true),
+              new String[] {
+                "static javax.swing.DebugGraphics.setFlashColor",
               })
           .put(
               "DoubleSupplier",
-              new Import[] {
-                new Import("DoubleSupplier", "java.util.function", false),
+              new String[] {
+                "java.util.function.DoubleSupplier",
               })
           .put(
               "JulianFields",
-              new Import[] {
-                new Import("JulianFields", "java.time.temporal", false),
+              new String[] {
+                "java.time.temporal.JulianFields",
               })
           .put(
               "ENCRYPT_MODE",
-              new Import[] {
-                new Import("ENCRYPT_MODE", "javax.crypto.Cipher", true),
+              new String[] {
+                "static javax.crypto.Cipher.ENCRYPT_MODE",
               })
           .put(
               "setSuperscript",
-              new Import[] {
-                new Import("setSuperscript", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setSuperscript",
               })
           .put(
               "SocketImpl",
-              new Import[] {
-                new Import("SocketImpl", "java.net", false),
+              new String[] {
+                "java.net.SocketImpl",
               })
           .put(
               "DefaultKeyboardFocusManager",
-              new Import[] {
-                new Import("DefaultKeyboardFocusManager", "java.awt", false),
+              new String[] {
+                "java.awt.DefaultKeyboardFocusManager",
               })
           .put(
               "CallbackHandlerProtection",
-              new Import[] {
-                new Import("CallbackHandlerProtection", "java.security.KeyStore", false),
+              new String[] {
+                "java.security.KeyStore.CallbackHandlerProtection",
               })
           .put(
               "TYPE_CCLR",
-              new Import[] {
-                new Import("TYPE_CCLR", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_CCLR",
               })
           .put(
               "INTERNAL_CLOCK",
-              new Import[] {
-                new Import("INTERNAL_CLOCK", "javax.sound.midi.Sequencer.SyncMode", true),
+              new String[] {
+                "static javax.sound.midi.Sequencer.SyncMode.INTERNAL_CLOCK",
               })
           .put(
               "PRINT_SCREEN",
-              new Import[] {
-                new Import("PRINT_SCREEN", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.PRINT_SCREEN",
               })
           .put(
               "PRIORITY_WHITESPACE",
-              new Import[] {
-                new Import("PRIORITY_WHITESPACE", "java.awt.font.GlyphJustificationInfo", true),
+              new String[] {
+                "static java.awt.font.GlyphJustificationInfo.PRIORITY_WHITESPACE",
               })
           .put(
               "UNDEFINED",
-              new Import[] {
-                new Import("UNDEFINED", "java.awt.BufferCapabilities.FlipContents", true),
+              new String[] {
+                "static java.awt.BufferCapabilities.FlipContents.UNDEFINED",
               })
           .put(
               "ACCESSIBLE_HYPERTEXT_OFFSET",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_HYPERTEXT_OFFSET", "javax.accessibility.AccessibleContext", true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_HYPERTEXT_OFFSET",
               })
           .put(
               "TYPE_BYTE_INDEXED",
-              new Import[] {
-                new Import("TYPE_BYTE_INDEXED", "java.awt.image.BufferedImage", true),
+              new String[] {
+                "static java.awt.image.BufferedImage.TYPE_BYTE_INDEXED",
               })
           .put(
               "MethodHandles",
-              new Import[] {
-                new Import("MethodHandles", "java.lang.invoke", false),
+              new String[] {
+                "java.lang.invoke.MethodHandles",
               })
           .put(
               "DocumentHandler",
-              new Import[] {
-                new Import("DocumentHandler", "org.xml.sax", false),
+              new String[] {
+                "org.xml.sax.DocumentHandler",
               })
           .put(
               "DECIMAL_DIGIT_NUMBER",
-              new Import[] {
-                new Import("DECIMAL_DIGIT_NUMBER", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DECIMAL_DIGIT_NUMBER",
               })
           .put(
               "JOB_PRINTING",
-              new Import[] {
-                new Import("JOB_PRINTING", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.JOB_PRINTING",
               })
           .put(
               "BYTE",
-              new Import[] {
-                new Import("BYTE", "javax.management.openmbean.SimpleType", true),
+              new String[] {
+                "static javax.management.openmbean.SimpleType.BYTE",
               })
           .put(
               "drawStringUnderlineCharAt",
-              new Import[] {
-                new Import(
-                    "drawStringUnderlineCharAt", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicGraphicsUtils.drawStringUnderlineCharAt",
               })
           .put(
               "FileDataSource",
-              new Import[] {
-                new Import("FileDataSource", "javax.activation", false),
+              new String[] {
+                "javax.activation.FileDataSource",
               })
           .put(
               "BinaryOperator",
-              new Import[] {
-                new Import("BinaryOperator", "java.util.function", false),
+              new String[] {
+                "java.util.function.BinaryOperator",
               })
           .put(
               "Sides",
-              new Import[] {
-                new Import("Sides", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.Sides",
               })
           .put(
               "atan2",
-              new Import[] {
-                new Import("atan2", "java.lang.Math", true),
-                new Import("atan2", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.atan2", "static java.lang.StrictMath.atan2",
               })
           .put(
               "PARAMETER",
-              new Import[] {
-                new Import("PARAMETER", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.PARAMETER",
               })
           .put(
               "procedureColumnIn",
-              new Import[] {
-                new Import("procedureColumnIn", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.procedureColumnIn",
               })
           .put(
               "filterReturnValue",
-              new Import[] {
-                new Import("filterReturnValue", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.filterReturnValue",
               })
           .put(
               "Documented",
-              new Import[] {
-                new Import("Documented", "java.lang.annotation", false),
+              new String[] {
+                "java.lang.annotation.Documented",
               })
           .put(
               "getAllByName",
-              new Import[] {
-                new Import("getAllByName", "java.net.InetAddress", true),
+              new String[] {
+                "static java.net.InetAddress.getAllByName",
               })
           .put(
               "LITERAL",
-              new Import[] {
-                new Import("LITERAL", "java.util.regex.Pattern", true),
+              new String[] {
+                "static java.util.regex.Pattern.LITERAL",
               })
           .put(
               "DoublePredicate",
-              new Import[] {
-                new Import("DoublePredicate", "java.util.function", false),
+              new String[] {
+                "java.util.function.DoublePredicate",
               })
           .put(
               "STRENGTH",
-              new Import[] {
-                new Import("STRENGTH", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.STRENGTH",
               })
           .put(
               "dk_Struct",
-              new Import[] {
-                new Import("dk_Struct", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Struct",
               })
           .put(
               "columnNullable",
-              new Import[] {
-                new Import("columnNullable", "java.sql.DatabaseMetaData", true),
-                new Import("columnNullable", "java.sql.ResultSetMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.columnNullable",
+                "static java.sql.ResultSetMetaData.columnNullable",
               })
           .put(
               "TEXT_HTML_UTF_16BE",
-              new Import[] {
-                new Import("TEXT_HTML_UTF_16BE", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_HTML_UTF_16BE", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_HTML_UTF_16BE", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.TEXT_HTML_UTF_16BE",
+                "static javax.print.DocFlavor.INPUT_STREAM.TEXT_HTML_UTF_16BE",
+                "static javax.print.DocFlavor.URL.TEXT_HTML_UTF_16BE",
               })
           .put(
               "BELOW_BASELINE_TRAILING",
-              new Import[] {
-                new Import("BELOW_BASELINE_TRAILING", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.BELOW_BASELINE_TRAILING",
               })
           .put(
               "VK_DEAD_VOICED_SOUND",
-              new Import[] {
-                new Import("VK_DEAD_VOICED_SOUND", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DEAD_VOICED_SOUND",
               })
           .put(
               "XMLEncoder",
-              new Import[] {
-                new Import("XMLEncoder", "java.beans", false),
+              new String[] {
+                "java.beans.XMLEncoder",
               })
           .put(
               "VK_FULL_WIDTH",
-              new Import[] {
-                new Import("VK_FULL_WIDTH", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_FULL_WIDTH",
               })
           .put(
               "WINDOW_DEICONIFY",
-              new Import[] {
-                new Import("WINDOW_DEICONIFY", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.WINDOW_DEICONIFY",
               })
           .put(
               "TEXT_VALUE_CHANGED",
-              new Import[] {
-                new Import("TEXT_VALUE_CHANGED", "java.awt.event.TextEvent", true),
+              new String[] {
+                "static java.awt.event.TextEvent.TEXT_VALUE_CHANGED",
               })
           .put(
               "compileClasses",
-              new Import[] {
-                new Import("compileClasses", "java.lang.Compiler", true),
+              new String[] {
+                "static java.lang.Compiler.compileClasses",
               })
           .put(
               "convertRectangle",
-              new Import[] {
-                new Import("convertRectangle", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.convertRectangle",
               })
           .put(
               "DOMImplementationLS",
-              new Import[] {
-                new Import("DOMImplementationLS", "org.w3c.dom.ls", false),
+              new String[] {
+                "org.w3c.dom.ls.DOMImplementationLS",
               })
           .put(
               "SELECTED_ICON_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("SELECTED_ICON_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.SELECTED_ICON_CHANGED_PROPERTY",
               })
           .put(
               "deregisterDriver",
-              new Import[] {
-                new Import("deregisterDriver", "java.sql.DriverManager", true),
+              new String[] {
+                "static java.sql.DriverManager.deregisterDriver",
               })
           .put(
               "Savepoint",
-              new Import[] {
-                new Import("Savepoint", "java.sql", false),
+              new String[] {
+                "java.sql.Savepoint",
               })
           .put(
               "WSDL_SERVICE",
-              new Import[] {
-                new Import("WSDL_SERVICE", "javax.xml.ws.Endpoint", true),
-                new Import("WSDL_SERVICE", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.Endpoint.WSDL_SERVICE",
+                "static javax.xml.ws.handler.MessageContext.WSDL_SERVICE",
               })
           .put(
               "COMMENT",
-              new Import[] {
-                new Import("COMMENT", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("COMMENT", "javax.swing.text.html.HTML.Tag", true),
-                new Import("COMMENT", "javax.xml.stream.XMLStreamConstants", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.COMMENT",
+                "static javax.swing.text.html.HTML.Tag.COMMENT",
+                "static javax.xml.stream.XMLStreamConstants.COMMENT",
               })
           .put(
               "FRAMEBITS",
-              new Import[] {
-                new Import("FRAMEBITS", "java.awt.image.ImageObserver", true),
+              new String[] {
+                "static java.awt.image.ImageObserver.FRAMEBITS",
               })
           .put(
               "MetalComboBoxButton",
-              new Import[] {
-                new Import("MetalComboBoxButton", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalComboBoxButton",
               })
           .put(
               "VK_COMPOSE",
-              new Import[] {
-                new Import("VK_COMPOSE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_COMPOSE",
               })
           .put(
               "TYPE_4BYTE_ABGR",
-              new Import[] {
-                new Import("TYPE_4BYTE_ABGR", "java.awt.image.BufferedImage", true),
+              new String[] {
+                "static java.awt.image.BufferedImage.TYPE_4BYTE_ABGR",
               })
           .put(
               "SURROGATES_AREA",
-              new Import[] {
-                new Import("SURROGATES_AREA", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SURROGATES_AREA",
               })
           .put(
               "getDrivers",
-              new Import[] {
-                new Import("getDrivers", "java.sql.DriverManager", true),
+              new String[] {
+                "static java.sql.DriverManager.getDrivers",
               })
           .put(
               "yield",
-              new Import[] {
-                new Import("yield", "java.lang.Thread", true),
+              new String[] {
+                "static java.lang.Thread.yield",
               })
           .put(
               "Toolkit",
-              new Import[] {
-                new Import("Toolkit", "java.awt", false),
+              new String[] {
+                "java.awt.Toolkit",
               })
           .put(
               "domainMatches",
-              new Import[] {
-                new Import("domainMatches", "java.net.HttpCookie", true),
+              new String[] {
+                "static java.net.HttpCookie.domainMatches",
               })
           .put(
               "ObjIntConsumer",
-              new Import[] {
-                new Import("ObjIntConsumer", "java.util.function", false),
+              new String[] {
+                "java.util.function.ObjIntConsumer",
               })
           .put(
               "ALIGN_LEFT",
-              new Import[] {
-                new Import("ALIGN_LEFT", "javax.swing.text.StyleConstants", true),
-                new Import("ALIGN_LEFT", "javax.swing.text.TabStop", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.ALIGN_LEFT",
+                "static javax.swing.text.TabStop.ALIGN_LEFT",
               })
           .put(
               "dk_Primitive",
-              new Import[] {
-                new Import("dk_Primitive", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Primitive",
               })
           .put(
               "RelationTypeNotFoundException",
-              new Import[] {
-                new Import("RelationTypeNotFoundException", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RelationTypeNotFoundException",
               })
           .put(
               "WindowListener",
-              new Import[] {
-                new Import("WindowListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.WindowListener",
               })
           .put(
               "EXTENSION_INSTALLATION",
-              new Import[] {
-                new Import("EXTENSION_INSTALLATION", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.EXTENSION_INSTALLATION",
               })
           .put(
               "SidesType",
-              new Import[] {
-                new Import("SidesType", "java.awt.JobAttributes", false),
+              new String[] {
+                "java.awt.JobAttributes.SidesType",
               })
           .put(
               "SimpleFormatter",
-              new Import[] {
-                new Import("SimpleFormatter", "java.util.logging", false),
+              new String[] {
+                "java.util.logging.SimpleFormatter",
               })
           .put(
               "SSLPeerUnverifiedException",
-              new Import[] {
-                new Import("SSLPeerUnverifiedException", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLPeerUnverifiedException",
               })
           .put(
               "selectionBeginWordAction",
-              new Import[] {
-                new Import("selectionBeginWordAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectionBeginWordAction",
               })
           .put(
               "XmlSchemaTypes",
-              new Import[] {
-                new Import("XmlSchemaTypes", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlSchemaTypes",
               })
           .put(
               "AnnotatedArrayType",
-              new Import[] {
-                new Import("AnnotatedArrayType", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.AnnotatedArrayType",
               })
           .put(
               "toSet",
-              new Import[] {
-                new Import("toSet", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.toSet",
               })
           .put(
               "getRadioButtonIcon",
-              new Import[] {
-                new Import("getRadioButtonIcon", "javax.swing.plaf.basic.BasicIconFactory", true),
-                new Import("getRadioButtonIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicIconFactory.getRadioButtonIcon",
+                "static javax.swing.plaf.metal.MetalIconFactory.getRadioButtonIcon",
               })
           .put(
               "TypeCodeHolder",
-              new Import[] {
-                new Import("TypeCodeHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.TypeCodeHolder",
               })
           .put(
               "DSA_SHA1",
-              new Import[] {
-                new Import("DSA_SHA1", "javax.xml.crypto.dsig.SignatureMethod", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.SignatureMethod.DSA_SHA1",
               })
           .put(
               "TYPE_8CLR",
-              new Import[] {
-                new Import("TYPE_8CLR", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_8CLR",
               })
           .put(
               "ComponentIdHelper",
-              new Import[] {
-                new Import("ComponentIdHelper", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.ComponentIdHelper",
               })
           .put(
               "toCodePoint",
-              new Import[] {
-                new Import("toCodePoint", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.toCodePoint",
               })
           .put(
               "WEST",
-              new Import[] {
-                new Import("WEST", "java.awt.BorderLayout", true),
-                new Import("WEST", "java.awt.GridBagConstraints", true),
-                new Import("WEST", "javax.swing.SpringLayout", true),
-                new Import("WEST", "javax.swing.SwingConstants", true),
+              new String[] {
+                "static java.awt.BorderLayout.WEST",
+                "static java.awt.GridBagConstraints.WEST",
+                "static javax.swing.SpringLayout.WEST",
+                "static javax.swing.SwingConstants.WEST",
               })
           .put(
               "precision",
-              new Import[] {
-                new Import("precision", "java.time.temporal.TemporalQueries", true),
+              new String[] {
+                "static java.time.temporal.TemporalQueries.precision",
               })
           .put(
               "DECIMAL",
-              new Import[] {
-                new Import("DECIMAL", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.DECIMAL",
               })
           .put(
               "IIOServiceProvider",
-              new Import[] {
-                new Import("IIOServiceProvider", "javax.imageio.spi", false),
+              new String[] {
+                "javax.imageio.spi.IIOServiceProvider",
               })
           .put(
               "DEFAULT_PROPERTY_NAME",
-              new Import[] {
-                new Import("DEFAULT_PROPERTY_NAME", "javax.xml.xpath.XPathFactory", true),
+              new String[] {
+                "static javax.xml.xpath.XPathFactory.DEFAULT_PROPERTY_NAME",
               })
           .put(
               "unmodifiableView",
-              new Import[] {
-                new Import("unmodifiableView", "javax.print.attribute.AttributeSetUtilities", true),
+              new String[] {
+                "static javax.print.attribute.AttributeSetUtilities.unmodifiableView",
               })
           .put(
               "SO_LINGER",
-              new Import[] {
-                new Import("SO_LINGER", "java.net.SocketOptions", true),
-                new Import("SO_LINGER", "java.net.StandardSocketOptions", true),
+              new String[] {
+                "static java.net.SocketOptions.SO_LINGER",
+                "static java.net.StandardSocketOptions.SO_LINGER",
               })
           .put(
               "JOB_INTERPRETING",
-              new Import[] {
-                new Import(
-                    "JOB_INTERPRETING", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.JOB_INTERPRETING",
               })
           .put(
               "ServantActivatorHelper",
-              new Import[] {
-                new Import("ServantActivatorHelper", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ServantActivatorHelper",
               })
           .put(
               "FILTER_ACCEPT",
-              new Import[] {
-                new Import("FILTER_ACCEPT", "org.w3c.dom.ls.LSParserFilter", true),
+              new String[] {
+                "static org.w3c.dom.ls.LSParserFilter.FILTER_ACCEPT",
               })
           .put(
               "DynValueOperations",
-              new Import[] {
-                new Import("DynValueOperations", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynValueOperations",
               })
           .put(
               "CookieManager",
-              new Import[] {
-                new Import("CookieManager", "java.net", false),
+              new String[] {
+                "java.net.CookieManager",
               })
           .put(
               "SILENT",
-              new Import[] {
-                new Import("SILENT", "java.rmi.server.LogStream", true),
+              new String[] {
+                "static java.rmi.server.LogStream.SILENT",
               })
           .put(
               "DAY_OF_YEAR_FIELD",
-              new Import[] {
-                new Import("DAY_OF_YEAR_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.DAY_OF_YEAR_FIELD",
               })
           .put(
               "DSAParameterSpec",
-              new Import[] {
-                new Import("DSAParameterSpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.DSAParameterSpec",
               })
           .put(
               "ErrorHandler",
-              new Import[] {
-                new Import("ErrorHandler", "org.xml.sax", false),
+              new String[] {
+                "org.xml.sax.ErrorHandler",
               })
           .put(
               "ofNanoOfDay",
-              new Import[] {
-                new Import("ofNanoOfDay", "java.time.LocalTime", true),
+              new String[] {
+                "static java.time.LocalTime.ofNanoOfDay",
               })
           .put(
               "NA_6X9_ENVELOPE",
-              new Import[] {
-                new Import("NA_6X9_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import("NA_6X9_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("NA_6X9_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.NA_6X9_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSizeName.NA_6X9_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSize.NA.NA_6X9_ENVELOPE",
               })
           .put(
               "read",
-              new Import[] {
-                new Import("read", "java.rmi.server.ObjID", true),
-                new Import("read", "java.rmi.server.UID", true),
-                new Import("read", "javax.imageio.ImageIO", true),
-                new Import("read", "org.omg.CORBA.AnySeqHelper", true),
-                new Import("read", "org.omg.CORBA.BooleanSeqHelper", true),
-                new Import("read", "org.omg.CORBA.CharSeqHelper", true),
-                new Import("read", "org.omg.CORBA.CompletionStatusHelper", true),
-                new Import("read", "org.omg.CORBA.CurrentHelper", true),
-                new Import("read", "org.omg.CORBA.DefinitionKindHelper", true),
-                new Import("read", "org.omg.CORBA.DoubleSeqHelper", true),
-                new Import("read", "org.omg.CORBA.FieldNameHelper", true),
-                new Import("read", "org.omg.CORBA.FloatSeqHelper", true),
-                new Import("read", "org.omg.CORBA.IDLTypeHelper", true),
-                new Import("read", "org.omg.CORBA.IdentifierHelper", true),
-                new Import("read", "org.omg.CORBA.LongLongSeqHelper", true),
-                new Import("read", "org.omg.CORBA.LongSeqHelper", true),
-                new Import("read", "org.omg.CORBA.NameValuePairHelper", true),
-                new Import("read", "org.omg.CORBA.ObjectHelper", true),
-                new Import("read", "org.omg.CORBA.OctetSeqHelper", true),
-                new Import("read", "org.omg.CORBA.ParameterModeHelper", true),
-                new Import("read", "org.omg.CORBA.PolicyErrorCodeHelper", true),
-                new Import("read", "org.omg.CORBA.PolicyErrorHelper", true),
-                new Import("read", "org.omg.CORBA.PolicyHelper", true),
-                new Import("read", "org.omg.CORBA.PolicyListHelper", true),
-                new Import("read", "org.omg.CORBA.PolicyTypeHelper", true),
-                new Import("read", "org.omg.CORBA.RepositoryIdHelper", true),
-                new Import("read", "org.omg.CORBA.ServiceDetailHelper", true),
-                new Import("read", "org.omg.CORBA.ServiceInformationHelper", true),
-                new Import("read", "org.omg.CORBA.SetOverrideTypeHelper", true),
-                new Import("read", "org.omg.CORBA.ShortSeqHelper", true),
-                new Import("read", "org.omg.CORBA.StringSeqHelper", true),
-                new Import("read", "org.omg.CORBA.StringValueHelper", true),
-                new Import("read", "org.omg.CORBA.StructMemberHelper", true),
-                new Import("read", "org.omg.CORBA.ULongLongSeqHelper", true),
-                new Import("read", "org.omg.CORBA.ULongSeqHelper", true),
-                new Import("read", "org.omg.CORBA.UShortSeqHelper", true),
-                new Import("read", "org.omg.CORBA.UnionMemberHelper", true),
-                new Import("read", "org.omg.CORBA.UnknownUserExceptionHelper", true),
-                new Import("read", "org.omg.CORBA.ValueBaseHelper", true),
-                new Import("read", "org.omg.CORBA.ValueMemberHelper", true),
-                new Import("read", "org.omg.CORBA.VersionSpecHelper", true),
-                new Import("read", "org.omg.CORBA.VisibilityHelper", true),
-                new Import("read", "org.omg.CORBA.WCharSeqHelper", true),
-                new Import("read", "org.omg.CORBA.WStringSeqHelper", true),
-                new Import("read", "org.omg.CORBA.WStringValueHelper", true),
-                new Import("read", "org.omg.CORBA.WrongTransactionHelper", true),
-                new Import("read", "org.omg.CosNaming.BindingHelper", true),
-                new Import("read", "org.omg.CosNaming.BindingIteratorHelper", true),
-                new Import("read", "org.omg.CosNaming.BindingListHelper", true),
-                new Import("read", "org.omg.CosNaming.BindingTypeHelper", true),
-                new Import("read", "org.omg.CosNaming.IstringHelper", true),
-                new Import("read", "org.omg.CosNaming.NameComponentHelper", true),
-                new Import("read", "org.omg.CosNaming.NameHelper", true),
-                new Import("read", "org.omg.CosNaming.NamingContextExtHelper", true),
-                new Import("read", "org.omg.CosNaming.NamingContextHelper", true),
-                new Import("read", "org.omg.CosNaming.NamingContextExtPackage.AddressHelper", true),
-                new Import(
-                    "read", "org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper", true),
-                new Import(
-                    "read", "org.omg.CosNaming.NamingContextExtPackage.StringNameHelper", true),
-                new Import(
-                    "read", "org.omg.CosNaming.NamingContextExtPackage.URLStringHelper", true),
-                new Import(
-                    "read", "org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper", true),
-                new Import(
-                    "read", "org.omg.CosNaming.NamingContextPackage.CannotProceedHelper", true),
-                new Import(
-                    "read", "org.omg.CosNaming.NamingContextPackage.InvalidNameHelper", true),
-                new Import("read", "org.omg.CosNaming.NamingContextPackage.NotEmptyHelper", true),
-                new Import("read", "org.omg.CosNaming.NamingContextPackage.NotFoundHelper", true),
-                new Import(
-                    "read", "org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper", true),
-                new Import("read", "org.omg.DynamicAny.AnySeqHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynAnyFactoryHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynAnyHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynAnySeqHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynArrayHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynEnumHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynFixedHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynSequenceHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynStructHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynUnionHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynValueHelper", true),
-                new Import("read", "org.omg.DynamicAny.FieldNameHelper", true),
-                new Import("read", "org.omg.DynamicAny.NameDynAnyPairHelper", true),
-                new Import("read", "org.omg.DynamicAny.NameDynAnyPairSeqHelper", true),
-                new Import("read", "org.omg.DynamicAny.NameValuePairHelper", true),
-                new Import("read", "org.omg.DynamicAny.NameValuePairSeqHelper", true),
-                new Import(
-                    "read",
-                    "org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper",
-                    true),
-                new Import("read", "org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper", true),
-                new Import("read", "org.omg.IOP.CodecFactoryHelper", true),
-                new Import("read", "org.omg.IOP.ComponentIdHelper", true),
-                new Import("read", "org.omg.IOP.IORHelper", true),
-                new Import("read", "org.omg.IOP.MultipleComponentProfileHelper", true),
-                new Import("read", "org.omg.IOP.ProfileIdHelper", true),
-                new Import("read", "org.omg.IOP.ServiceContextHelper", true),
-                new Import("read", "org.omg.IOP.ServiceContextListHelper", true),
-                new Import("read", "org.omg.IOP.ServiceIdHelper", true),
-                new Import("read", "org.omg.IOP.TaggedComponentHelper", true),
-                new Import("read", "org.omg.IOP.TaggedProfileHelper", true),
-                new Import("read", "org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper", true),
-                new Import("read", "org.omg.IOP.CodecPackage.FormatMismatchHelper", true),
-                new Import("read", "org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper", true),
-                new Import("read", "org.omg.IOP.CodecPackage.TypeMismatchHelper", true),
-                new Import("read", "org.omg.Messaging.SyncScopeHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.AdapterManagerIdHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.AdapterNameHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.AdapterStateHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.CurrentHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.ForwardRequestHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.IORInterceptor_3_0Helper", true),
-                new Import("read", "org.omg.PortableInterceptor.InvalidSlotHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.ORBIdHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.ObjectIdHelper", true),
-                new Import(
-                    "read", "org.omg.PortableInterceptor.ObjectReferenceFactoryHelper", true),
-                new Import(
-                    "read", "org.omg.PortableInterceptor.ObjectReferenceTemplateHelper", true),
-                new Import(
-                    "read", "org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.ServerIdHelper", true),
-                new Import(
-                    "read",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper",
-                    true),
-                new Import(
-                    "read",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper",
-                    true),
-                new Import(
-                    "read", "org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper", true),
-                new Import("read", "org.omg.PortableServer.CurrentHelper", true),
-                new Import("read", "org.omg.PortableServer.ForwardRequestHelper", true),
-                new Import("read", "org.omg.PortableServer.POAHelper", true),
-                new Import("read", "org.omg.PortableServer.ServantActivatorHelper", true),
-                new Import("read", "org.omg.PortableServer.ServantLocatorHelper", true),
-                new Import("read", "org.omg.PortableServer.CurrentPackage.NoContextHelper", true),
-                new Import(
-                    "read", "org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper", true),
-                new Import(
-                    "read", "org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper", true),
-                new Import(
-                    "read", "org.omg.PortableServer.POAPackage.AdapterNonExistentHelper", true),
-                new Import("read", "org.omg.PortableServer.POAPackage.InvalidPolicyHelper", true),
-                new Import("read", "org.omg.PortableServer.POAPackage.NoServantHelper", true),
-                new Import(
-                    "read", "org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper", true),
-                new Import("read", "org.omg.PortableServer.POAPackage.ObjectNotActiveHelper", true),
-                new Import(
-                    "read", "org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper", true),
-                new Import(
-                    "read", "org.omg.PortableServer.POAPackage.ServantNotActiveHelper", true),
-                new Import("read", "org.omg.PortableServer.POAPackage.WrongAdapterHelper", true),
-                new Import("read", "org.omg.PortableServer.POAPackage.WrongPolicyHelper", true),
+              new String[] {
+                "static java.rmi.server.ObjID.read",
+                "static java.rmi.server.UID.read",
+                "static javax.imageio.ImageIO.read",
+                "static org.omg.CORBA.AnySeqHelper.read",
+                "static org.omg.CORBA.BooleanSeqHelper.read",
+                "static org.omg.CORBA.CharSeqHelper.read",
+                "static org.omg.CORBA.CompletionStatusHelper.read",
+                "static org.omg.CORBA.CurrentHelper.read",
+                "static org.omg.CORBA.DefinitionKindHelper.read",
+                "static org.omg.CORBA.DoubleSeqHelper.read",
+                "static org.omg.CORBA.FieldNameHelper.read",
+                "static org.omg.CORBA.FloatSeqHelper.read",
+                "static org.omg.CORBA.IDLTypeHelper.read",
+                "static org.omg.CORBA.IdentifierHelper.read",
+                "static org.omg.CORBA.LongLongSeqHelper.read",
+                "static org.omg.CORBA.LongSeqHelper.read",
+                "static org.omg.CORBA.NameValuePairHelper.read",
+                "static org.omg.CORBA.ObjectHelper.read",
+                "static org.omg.CORBA.OctetSeqHelper.read",
+                "static org.omg.CORBA.ParameterModeHelper.read",
+                "static org.omg.CORBA.PolicyErrorCodeHelper.read",
+                "static org.omg.CORBA.PolicyErrorHelper.read",
+                "static org.omg.CORBA.PolicyHelper.read",
+                "static org.omg.CORBA.PolicyListHelper.read",
+                "static org.omg.CORBA.PolicyTypeHelper.read",
+                "static org.omg.CORBA.RepositoryIdHelper.read",
+                "static org.omg.CORBA.ServiceDetailHelper.read",
+                "static org.omg.CORBA.ServiceInformationHelper.read",
+                "static org.omg.CORBA.SetOverrideTypeHelper.read",
+                "static org.omg.CORBA.ShortSeqHelper.read",
+                "static org.omg.CORBA.StringSeqHelper.read",
+                "static org.omg.CORBA.StringValueHelper.read",
+                "static org.omg.CORBA.StructMemberHelper.read",
+                "static org.omg.CORBA.ULongLongSeqHelper.read",
+                "static org.omg.CORBA.ULongSeqHelper.read",
+                "static org.omg.CORBA.UShortSeqHelper.read",
+                "static org.omg.CORBA.UnionMemberHelper.read",
+                "static org.omg.CORBA.UnknownUserExceptionHelper.read",
+                "static org.omg.CORBA.ValueBaseHelper.read",
+                "static org.omg.CORBA.ValueMemberHelper.read",
+                "static org.omg.CORBA.VersionSpecHelper.read",
+                "static org.omg.CORBA.VisibilityHelper.read",
+                "static org.omg.CORBA.WCharSeqHelper.read",
+                "static org.omg.CORBA.WStringSeqHelper.read",
+                "static org.omg.CORBA.WStringValueHelper.read",
+                "static org.omg.CORBA.WrongTransactionHelper.read",
+                "static org.omg.CosNaming.BindingHelper.read",
+                "static org.omg.CosNaming.BindingIteratorHelper.read",
+                "static org.omg.CosNaming.BindingListHelper.read",
+                "static org.omg.CosNaming.BindingTypeHelper.read",
+                "static org.omg.CosNaming.IstringHelper.read",
+                "static org.omg.CosNaming.NameComponentHelper.read",
+                "static org.omg.CosNaming.NameHelper.read",
+                "static org.omg.CosNaming.NamingContextExtHelper.read",
+                "static org.omg.CosNaming.NamingContextHelper.read",
+                "static org.omg.CosNaming.NamingContextExtPackage.AddressHelper.read",
+                "static org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper.read",
+                "static org.omg.CosNaming.NamingContextExtPackage.StringNameHelper.read",
+                "static org.omg.CosNaming.NamingContextExtPackage.URLStringHelper.read",
+                "static org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper.read",
+                "static org.omg.CosNaming.NamingContextPackage.CannotProceedHelper.read",
+                "static org.omg.CosNaming.NamingContextPackage.InvalidNameHelper.read",
+                "static org.omg.CosNaming.NamingContextPackage.NotEmptyHelper.read",
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundHelper.read",
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper.read",
+                "static org.omg.DynamicAny.AnySeqHelper.read",
+                "static org.omg.DynamicAny.DynAnyFactoryHelper.read",
+                "static org.omg.DynamicAny.DynAnyHelper.read",
+                "static org.omg.DynamicAny.DynAnySeqHelper.read",
+                "static org.omg.DynamicAny.DynArrayHelper.read",
+                "static org.omg.DynamicAny.DynEnumHelper.read",
+                "static org.omg.DynamicAny.DynFixedHelper.read",
+                "static org.omg.DynamicAny.DynSequenceHelper.read",
+                "static org.omg.DynamicAny.DynStructHelper.read",
+                "static org.omg.DynamicAny.DynUnionHelper.read",
+                "static org.omg.DynamicAny.DynValueHelper.read",
+                "static org.omg.DynamicAny.FieldNameHelper.read",
+                "static org.omg.DynamicAny.NameDynAnyPairHelper.read",
+                "static org.omg.DynamicAny.NameDynAnyPairSeqHelper.read",
+                "static org.omg.DynamicAny.NameValuePairHelper.read",
+                "static org.omg.DynamicAny.NameValuePairSeqHelper.read",
+                "static org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper.read",
+                "static org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper.read",
+                "static org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper.read",
+                "static org.omg.IOP.CodecFactoryHelper.read",
+                "static org.omg.IOP.ComponentIdHelper.read",
+                "static org.omg.IOP.IORHelper.read",
+                "static org.omg.IOP.MultipleComponentProfileHelper.read",
+                "static org.omg.IOP.ProfileIdHelper.read",
+                "static org.omg.IOP.ServiceContextHelper.read",
+                "static org.omg.IOP.ServiceContextListHelper.read",
+                "static org.omg.IOP.ServiceIdHelper.read",
+                "static org.omg.IOP.TaggedComponentHelper.read",
+                "static org.omg.IOP.TaggedProfileHelper.read",
+                "static org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper.read",
+                "static org.omg.IOP.CodecPackage.FormatMismatchHelper.read",
+                "static org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper.read",
+                "static org.omg.IOP.CodecPackage.TypeMismatchHelper.read",
+                "static org.omg.Messaging.SyncScopeHelper.read",
+                "static org.omg.PortableInterceptor.AdapterManagerIdHelper.read",
+                "static org.omg.PortableInterceptor.AdapterNameHelper.read",
+                "static org.omg.PortableInterceptor.AdapterStateHelper.read",
+                "static org.omg.PortableInterceptor.CurrentHelper.read",
+                "static org.omg.PortableInterceptor.ForwardRequestHelper.read",
+                "static org.omg.PortableInterceptor.IORInterceptor_3_0Helper.read",
+                "static org.omg.PortableInterceptor.InvalidSlotHelper.read",
+                "static org.omg.PortableInterceptor.ORBIdHelper.read",
+                "static org.omg.PortableInterceptor.ObjectIdHelper.read",
+                "static org.omg.PortableInterceptor.ObjectReferenceFactoryHelper.read",
+                "static org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.read",
+                "static org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper.read",
+                "static org.omg.PortableInterceptor.ServerIdHelper.read",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper.read",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper.read",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper.read",
+                "static org.omg.PortableServer.CurrentHelper.read",
+                "static org.omg.PortableServer.ForwardRequestHelper.read",
+                "static org.omg.PortableServer.POAHelper.read",
+                "static org.omg.PortableServer.ServantActivatorHelper.read",
+                "static org.omg.PortableServer.ServantLocatorHelper.read",
+                "static org.omg.PortableServer.CurrentPackage.NoContextHelper.read",
+                "static org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper.read",
+                "static org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper.read",
+                "static org.omg.PortableServer.POAPackage.AdapterNonExistentHelper.read",
+                "static org.omg.PortableServer.POAPackage.InvalidPolicyHelper.read",
+                "static org.omg.PortableServer.POAPackage.NoServantHelper.read",
+                "static org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper.read",
+                "static org.omg.PortableServer.POAPackage.ObjectNotActiveHelper.read",
+                "static org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper.read",
+                "static org.omg.PortableServer.POAPackage.ServantNotActiveHelper.read",
+                "static org.omg.PortableServer.POAPackage.WrongAdapterHelper.read",
+                "static org.omg.PortableServer.POAPackage.WrongPolicyHelper.read",
               })
           .put(
               "NORTH_WEST",
-              new Import[] {
-                new Import("NORTH_WEST", "javax.swing.SwingConstants", true),
+              new String[] {
+                "static javax.swing.SwingConstants.NORTH_WEST",
               })
           .put(
               "newSingleThreadScheduledExecutor",
-              new Import[] {
-                new Import(
-                    "newSingleThreadScheduledExecutor", "java.util.concurrent.Executors", true),
+              new String[] {
+                "static java.util.concurrent.Executors.newSingleThreadScheduledExecutor",
               })
           .put(
               "DropTargetEvent",
-              new Import[] {
-                new Import("DropTargetEvent", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DropTargetEvent",
               })
           .put(
               "acos",
-              new Import[] {
-                new Import("acos", "java.lang.Math", true),
-                new Import("acos", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.acos", "static java.lang.StrictMath.acos",
               })
           .put(
               "orFilter",
-              new Import[] {
-                new Import("orFilter", "javax.swing.RowFilter", true),
+              new String[] {
+                "static javax.swing.RowFilter.orFilter",
               })
           .put(
               "KAYAH_LI",
-              new Import[] {
-                new Import("KAYAH_LI", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.KAYAH_LI",
               })
           .put(
               "getUI",
-              new Import[] {
-                new Import("getUI", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.getUI",
               })
           .put(
               "SQLXML",
-              new Import[] {
-                new Import("SQLXML", "java.sql", false),
-                new Import("SQLXML", "java.sql.Types", true),
+              new String[] {
+                "java.sql.SQLXML", "static java.sql.Types.SQLXML",
               })
           .put(
               "BLOCK_DECREMENT",
-              new Import[] {
-                new Import("BLOCK_DECREMENT", "java.awt.event.AdjustmentEvent", true),
+              new String[] {
+                "static java.awt.event.AdjustmentEvent.BLOCK_DECREMENT",
               })
           .put(
               "IsoEra",
-              new Import[] {
-                new Import("IsoEra", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.IsoEra",
               })
           .put(
               "RSAPrivateKey",
-              new Import[] {
-                new Import("RSAPrivateKey", "java.security.interfaces", false),
+              new String[] {
+                "java.security.interfaces.RSAPrivateKey",
               })
           .put(
               "CONNECTOR_PUNCTUATION",
-              new Import[] {
-                new Import("CONNECTOR_PUNCTUATION", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.CONNECTOR_PUNCTUATION",
               })
           .put(
               "RSAOtherPrimeInfo",
-              new Import[] {
-                new Import("RSAOtherPrimeInfo", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.RSAOtherPrimeInfo",
               })
           .put(
               "typeNoNulls",
-              new Import[] {
-                new Import("typeNoNulls", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.typeNoNulls",
               })
           .put(
               "BidiLevel",
-              new Import[] {
-                new Import("BidiLevel", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.BidiLevel",
               })
           .put(
               "LinkedBlockingDeque",
-              new Import[] {
-                new Import("LinkedBlockingDeque", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.LinkedBlockingDeque",
               })
           .put(
               "ABOVE_BASELINE",
-              new Import[] {
-                new Import("ABOVE_BASELINE", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.ABOVE_BASELINE",
               })
           .put(
               "DataOutputStream",
-              new Import[] {
-                new Import("DataOutputStream", "java.io", false),
-                new Import("DataOutputStream", "org.omg.CORBA", false),
+              new String[] {
+                "java.io.DataOutputStream", "org.omg.CORBA.DataOutputStream",
               })
           .put(
               "IllegalPathStateException",
-              new Import[] {
-                new Import("IllegalPathStateException", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.IllegalPathStateException",
               })
           .put(
               "SQLSyntaxErrorException",
-              new Import[] {
-                new Import("SQLSyntaxErrorException", "java.sql", false),
+              new String[] {
+                "java.sql.SQLSyntaxErrorException",
               })
           .put(
               "InvalidTransactionException",
-              new Import[] {
-                new Import("InvalidTransactionException", "javax.transaction", false),
+              new String[] {
+                "javax.transaction.InvalidTransactionException",
               })
           .put(
               "icSigYxyData",
-              new Import[] {
-                new Import("icSigYxyData", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigYxyData",
               })
           .put(
               "UndoableEditListener",
-              new Import[] {
-                new Import("UndoableEditListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.UndoableEditListener",
               })
           .put(
               "JPEGHuffmanTable",
-              new Import[] {
-                new Import("JPEGHuffmanTable", "javax.imageio.plugins.jpeg", false),
+              new String[] {
+                "javax.imageio.plugins.jpeg.JPEGHuffmanTable",
               })
           .put(
               "Format",
-              new Import[] {
-                new Import("Format", "java.text", false),
+              new String[] {
+                "java.text.Format",
               })
           .put(
               "ActiveValue",
-              new Import[] {
-                new Import("ActiveValue", "javax.swing.UIDefaults", false),
+              new String[] {
+                "javax.swing.UIDefaults.ActiveValue",
               })
           .put(
               "XA_HEURRB",
-              new Import[] {
-                new Import("XA_HEURRB", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_HEURRB",
               })
           .put(
               "parsedLeapSecond",
-              new Import[] {
-                new Import("parsedLeapSecond", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.parsedLeapSecond",
               })
           .put(
               "ClassLoader",
-              new Import[] {
-                new Import("ClassLoader", "java.lang", false),
+              new String[] {
+                "java.lang.ClassLoader",
               })
           .put(
               "getFileNameMap",
-              new Import[] {
-                new Import("getFileNameMap", "java.net.URLConnection", true),
+              new String[] {
+                "static java.net.URLConnection.getFileNameMap",
               })
           .put(
               "OUT_LEFT",
-              new Import[] {
-                new Import("OUT_LEFT", "java.awt.geom.Rectangle2D", true),
+              new String[] {
+                "static java.awt.geom.Rectangle2D.OUT_LEFT",
               })
           .put(
               "attr",
-              new Import[] {
-                new Import("attr", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.attr",
               })
           .put(
               "JAXB_NO_NAMESPACE_SCHEMA_LOCATION",
-              new Import[] {
-                new Import("JAXB_NO_NAMESPACE_SCHEMA_LOCATION", "javax.xml.bind.Marshaller", true),
+              new String[] {
+                "static javax.xml.bind.Marshaller.JAXB_NO_NAMESPACE_SCHEMA_LOCATION",
               })
           .put(
               "PATH_INFO",
-              new Import[] {
-                new Import("PATH_INFO", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.handler.MessageContext.PATH_INFO",
               })
           .put(
               "ResolveResult",
-              new Import[] {
-                new Import("ResolveResult", "javax.naming.spi", false),
+              new String[] {
+                "javax.naming.spi.ResolveResult",
               })
           .put(
               "PrincipalHolder",
-              new Import[] {
-                new Import("PrincipalHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.PrincipalHolder",
               })
           .put(
               "FONT_FAMILY",
-              new Import[] {
-                new Import("FONT_FAMILY", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.FONT_FAMILY",
               })
           .put(
               "CLASSID",
-              new Import[] {
-                new Import("CLASSID", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.CLASSID",
               })
           .put(
               "PROCESSING_TO_STOP_POINT",
-              new Import[] {
-                new Import(
-                    "PROCESSING_TO_STOP_POINT",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.PROCESSING_TO_STOP_POINT",
               })
           .put(
               "getTextFieldBorder",
-              new Import[] {
-                new Import("getTextFieldBorder", "javax.swing.plaf.basic.BasicBorders", true),
-                new Import("getTextFieldBorder", "javax.swing.plaf.metal.MetalBorders", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicBorders.getTextFieldBorder",
+                "static javax.swing.plaf.metal.MetalBorders.getTextFieldBorder",
               })
           .put(
               "OGHAM",
-              new Import[] {
-                new Import("OGHAM", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.OGHAM",
               })
           .put(
               "VK_INPUT_METHOD_ON_OFF",
-              new Import[] {
-                new Import("VK_INPUT_METHOD_ON_OFF", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_INPUT_METHOD_ON_OFF",
               })
           .put(
               "CJK_COMPATIBILITY_IDEOGRAPHS_SUPPLEMENT",
-              new Import[] {
-                new Import(
-                    "CJK_COMPATIBILITY_IDEOGRAPHS_SUPPLEMENT",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CJK_COMPATIBILITY_IDEOGRAPHS_SUPPLEMENT",
               })
           .put(
               "INTERNAL_FRAME_CLOSED",
-              new Import[] {
-                new Import("INTERNAL_FRAME_CLOSED", "javax.swing.event.InternalFrameEvent", true),
+              new String[] {
+                "static javax.swing.event.InternalFrameEvent.INTERNAL_FRAME_CLOSED",
               })
           .put(
               "FILE_VIEW_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("FILE_VIEW_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.FILE_VIEW_CHANGED_PROPERTY",
               })
           .put(
               "getAvailableIDs",
-              new Import[] {
-                new Import("getAvailableIDs", "java.util.TimeZone", true),
+              new String[] {
+                "static java.util.TimeZone.getAvailableIDs",
               })
           .put(
               "Manifest",
-              new Import[] {
-                new Import("Manifest", "java.util.jar", false),
-                new Import("Manifest", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "java.util.jar.Manifest", "javax.xml.crypto.dsig.Manifest",
               })
           .put(
               "XA_HEURCOM",
-              new Import[] {
-                new Import("XA_HEURCOM", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_HEURCOM",
               })
           .put(
               "FLAG_SERIALIZABLE",
-              new Import[] {
-                new Import("FLAG_SERIALIZABLE", "java.lang.invoke.LambdaMetafactory", true),
+              new String[] {
+                "static java.lang.invoke.LambdaMetafactory.FLAG_SERIALIZABLE",
               })
           .put(
               "HIERARCHY_EVENT_MASK",
-              new Import[] {
-                new Import("HIERARCHY_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.HIERARCHY_EVENT_MASK",
               })
           .put(
               "adjustSizes",
-              new Import[] {
-                new Import("adjustSizes", "javax.swing.SizeRequirements", true),
+              new String[] {
+                "static javax.swing.SizeRequirements.adjustSizes",
               })
           .put(
               "toStub",
-              new Import[] {
-                new Import("toStub", "java.rmi.server.RemoteObject", true),
-                new Import("toStub", "javax.rmi.PortableRemoteObject", true),
+              new String[] {
+                "static java.rmi.server.RemoteObject.toStub",
+                "static javax.rmi.PortableRemoteObject.toStub",
               })
           .put(
               "getCompilationMXBean",
-              new Import[] {
-                new Import("getCompilationMXBean", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.getCompilationMXBean",
               })
           .put(
               "LSException",
-              new Import[] {
-                new Import("LSException", "org.w3c.dom.ls", false),
+              new String[] {
+                "org.w3c.dom.ls.LSException",
               })
           .build();
 }
@@ -2,1582 +2,1556 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk13 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "ABOVE_BASELINE_TRAILING",
-              new Import[] {
-                new Import("ABOVE_BASELINE_TRAILING", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.ABOVE_BASELINE_TRAILING",
               })
           .put(
               "VK_UNDEFINED",
-              new Import[] {
-                new Import("VK_UNDEFINED", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_UNDEFINED",
               })
           .put(
               "KEY_FRACTIONALMETRICS",
-              new Import[] {
-                new Import("KEY_FRACTIONALMETRICS", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.KEY_FRACTIONALMETRICS",
               })
           .put(
               "ThreadPolicy",
-              new Import[] {
-                new Import("ThreadPolicy", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ThreadPolicy",
               })
           .put(
               "ParameterDescriptor",
-              new Import[] {
-                new Import("ParameterDescriptor", "java.beans", false),
+              new String[] {
+                "java.beans.ParameterDescriptor",
               })
           .put(
               "DYNAMIC_SOAP_PROTOCOL",
-              new Import[] {
-                new Import("DYNAMIC_SOAP_PROTOCOL", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.DYNAMIC_SOAP_PROTOCOL",
               })
           .put(
               "MALAYALAM",
-              new Import[] {
-                new Import("MALAYALAM", "java.awt.font.NumericShaper", true),
-                new Import("MALAYALAM", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.MALAYALAM",
+                "static java.lang.Character.UnicodeBlock.MALAYALAM",
               })
           .put(
               "ALINK",
-              new Import[] {
-                new Import("ALINK", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.ALINK",
               })
           .put(
               "ptLineDist",
-              new Import[] {
-                new Import("ptLineDist", "java.awt.geom.Line2D", true),
+              new String[] {
+                "static java.awt.geom.Line2D.ptLineDist",
               })
           .put(
               "UnknownUserExceptionHelper",
-              new Import[] {
-                new Import("UnknownUserExceptionHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.UnknownUserExceptionHelper",
               })
           .put(
               "getHighlightedTextColor",
-              new Import[] {
-                new Import(
-                    "getHighlightedTextColor", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getHighlightedTextColor",
               })
           .put(
               "ClosedByInterruptException",
-              new Import[] {
-                new Import("ClosedByInterruptException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.ClosedByInterruptException",
               })
           .put(
               "STANDALONE",
-              new Import[] {
-                new Import("STANDALONE", "javax.xml.transform.OutputKeys", true),
+              new String[] {
+                "static javax.xml.transform.OutputKeys.STANDALONE",
               })
           .put(
               "Codec",
-              new Import[] {
-                new Import("Codec", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.Codec",
               })
           .put(
               "setSpaceBelow",
-              new Import[] {
-                new Import("setSpaceBelow", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setSpaceBelow",
               })
           .put(
               "COPIED",
-              new Import[] {
-                new Import("COPIED", "java.awt.BufferCapabilities.FlipContents", true),
+              new String[] {
+                "static java.awt.BufferCapabilities.FlipContents.COPIED",
               })
           .put(
               "XmlNsForm",
-              new Import[] {
-                new Import("XmlNsForm", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlNsForm",
               })
           .put(
               "Phaser",
-              new Import[] {
-                new Import("Phaser", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.Phaser",
               })
           .put(
               "EDITOR_PANE",
-              new Import[] {
-                new Import("EDITOR_PANE", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.EDITOR_PANE",
               })
           .put(
               "FileOwnerAttributeView",
-              new Import[] {
-                new Import("FileOwnerAttributeView", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.FileOwnerAttributeView",
               })
           .put(
               "IMPLICIT_ACTIVATION",
-              new Import[] {
-                new Import(
-                    "IMPLICIT_ACTIVATION",
-                    "org.omg.PortableServer.ImplicitActivationPolicyValue",
-                    true),
+              new String[] {
+                "static org.omg.PortableServer.ImplicitActivationPolicyValue.IMPLICIT_ACTIVATION",
               })
           .put(
               "BIND",
-              new Import[] {
-                new Import("BIND", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.BIND",
               })
           .put(
               "ITEM_STATE_CHANGED",
-              new Import[] {
-                new Import("ITEM_STATE_CHANGED", "java.awt.event.ItemEvent", true),
+              new String[] {
+                "static java.awt.event.ItemEvent.ITEM_STATE_CHANGED",
               })
           .put(
               "SynthFormattedTextFieldUI",
-              new Import[] {
-                new Import("SynthFormattedTextFieldUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthFormattedTextFieldUI",
               })
           .put(
               "SOAP11HTTP_BINDING",
-              new Import[] {
-                new Import("SOAP11HTTP_BINDING", "javax.xml.ws.soap.SOAPBinding", true),
+              new String[] {
+                "static javax.xml.ws.soap.SOAPBinding.SOAP11HTTP_BINDING",
               })
           .put(
               "InvalidClassException",
-              new Import[] {
-                new Import("InvalidClassException", "java.io", false),
+              new String[] {
+                "java.io.InvalidClassException",
               })
           .put(
               "getImageReader",
-              new Import[] {
-                new Import("getImageReader", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getImageReader",
               })
           .put(
               "ValueOutputStream",
-              new Import[] {
-                new Import("ValueOutputStream", "org.omg.CORBA.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.ValueOutputStream",
               })
           .put(
               "createDialog",
-              new Import[] {
-                new Import("createDialog", "javax.swing.JColorChooser", true),
+              new String[] {
+                "static javax.swing.JColorChooser.createDialog",
               })
           .put(
               "ICONIFIED",
-              new Import[] {
-                new Import("ICONIFIED", "java.awt.Frame", true),
-                new Import("ICONIFIED", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static java.awt.Frame.ICONIFIED",
+                "static javax.accessibility.AccessibleState.ICONIFIED",
               })
           .put(
               "XmlRegistry",
-              new Import[] {
-                new Import("XmlRegistry", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlRegistry",
               })
           .put(
               "CUSTOM_DIALOG",
-              new Import[] {
-                new Import("CUSTOM_DIALOG", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.CUSTOM_DIALOG",
               })
           .put(
               "IMPERIAL_ARAMAIC",
-              new Import[] {
-                new Import("IMPERIAL_ARAMAIC", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.IMPERIAL_ARAMAIC",
               })
           .put(
               "VK_ALT_GRAPH",
-              new Import[] {
-                new Import("VK_ALT_GRAPH", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_ALT_GRAPH",
               })
           .put(
               "AbstractMarshallerImpl",
-              new Import[] {
-                new Import("AbstractMarshallerImpl", "javax.xml.bind.helpers", false),
+              new String[] {
+                "javax.xml.bind.helpers.AbstractMarshallerImpl",
               })
           .put(
               "Watchable",
-              new Import[] {
-                new Import("Watchable", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.Watchable",
               })
           .put(
               "PASS",
-              new Import[] {
-                new Import("PASS", "java.util.jar.Pack200.Packer", true),
+              new String[] {
+                "static java.util.jar.Pack200.Packer.PASS",
               })
           .put(
               "FileSystemNotFoundException",
-              new Import[] {
-                new Import("FileSystemNotFoundException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.FileSystemNotFoundException",
               })
           .put(
               "NotificationFilterSupport",
-              new Import[] {
-                new Import("NotificationFilterSupport", "javax.management", false),
+              new String[] {
+                "javax.management.NotificationFilterSupport",
               })
           .put(
               "XPathFactoryConfigurationException",
-              new Import[] {
-                new Import("XPathFactoryConfigurationException", "javax.xml.xpath", false),
+              new String[] {
+                "javax.xml.xpath.XPathFactoryConfigurationException",
               })
           .put(
               "OMGVMCID",
-              new Import[] {
-                new Import("OMGVMCID", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.OMGVMCID",
               })
           .put(
               "icSigGreenColorantTag",
-              new Import[] {
-                new Import("icSigGreenColorantTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigGreenColorantTag",
               })
           .put(
               "TYPE_PRINTER",
-              new Import[] {
-                new Import("TYPE_PRINTER", "java.awt.GraphicsDevice", true),
+              new String[] {
+                "static java.awt.GraphicsDevice.TYPE_PRINTER",
               })
           .put(
               "_tk_value_box",
-              new Import[] {
-                new Import("_tk_value_box", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_value_box",
               })
           .put(
               "partitioningBy",
-              new Import[] {
-                new Import("partitioningBy", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.partitioningBy",
               })
           .put(
               "LARGE_KEY",
-              new Import[] {
-                new Import("LARGE_KEY", "javax.swing.plaf.nimbus.NimbusStyle", true),
+              new String[] {
+                "static javax.swing.plaf.nimbus.NimbusStyle.LARGE_KEY",
               })
           .put(
               "SupportedSourceVersion",
-              new Import[] {
-                new Import("SupportedSourceVersion", "javax.annotation.processing", false),
+              new String[] {
+                "javax.annotation.processing.SupportedSourceVersion",
               })
           .put(
               "setBold",
-              new Import[] {
-                new Import("setBold", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setBold",
               })
           .put(
               "SHA512_224",
-              new Import[] {
-                new Import("SHA512_224", "java.security.spec.MGF1ParameterSpec", true),
+              new String[] {
+                "static java.security.spec.MGF1ParameterSpec.SHA512_224",
               })
           .put(
               "WEIGHT_LIGHT",
-              new Import[] {
-                new Import("WEIGHT_LIGHT", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WEIGHT_LIGHT",
               })
           .put(
               "Entry",
-              new Import[] {
-                new Import("Entry", "java.security.KeyStore", false),
-                new Import("Entry", "java.util.Map", false),
-                new Import("Entry", "javax.swing.RowFilter", false),
+              new String[] {
+                "java.security.KeyStore.Entry",
+                "java.util.Map.Entry",
+                "javax.swing.RowFilter.Entry",
               })
           .put(
               "_ServantActivatorStub",
-              new Import[] {
-                new Import("_ServantActivatorStub", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer._ServantActivatorStub",
               })
           .put(
               "MAHJONG_TILES",
-              new Import[] {
-                new Import("MAHJONG_TILES", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MAHJONG_TILES",
               })
           .put(
               "BORDER_BOTTOM_WIDTH",
-              new Import[] {
-                new Import("BORDER_BOTTOM_WIDTH", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_BOTTOM_WIDTH",
               })
           .put(
               "infoText",
-              new Import[] {
-                new Import("infoText", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.infoText",
               })
           .put(
               "MethodType",
-              new Import[] {
-                new Import("MethodType", "java.lang.invoke", false),
-                new Import("MethodType", "javax.swing.text.html.FormSubmitEvent", false),
+              new String[] {
+                "java.lang.invoke.MethodType", "javax.swing.text.html.FormSubmitEvent.MethodType",
               })
           .put(
               "_dk_Value",
-              new Import[] {
-                new Import("_dk_Value", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Value",
               })
           .put(
               "packagePrefix",
-              new Import[] {
-                new Import("packagePrefix", "java.rmi.server.LoaderHandler", true),
-                new Import("packagePrefix", "java.rmi.server.RemoteRef", true),
+              new String[] {
+                "static java.rmi.server.LoaderHandler.packagePrefix",
+                "static java.rmi.server.RemoteRef.packagePrefix",
               })
           .put(
               "ISO",
-              new Import[] {
-                new Import("ISO", "java.time.temporal.WeekFields", true),
-                new Import("ISO", "javax.print.attribute.standard.MediaSize", false),
+              new String[] {
+                "static java.time.temporal.WeekFields.ISO",
+                "javax.print.attribute.standard.MediaSize.ISO",
               })
           .put(
               "getAlignedSizeRequirements",
-              new Import[] {
-                new Import("getAlignedSizeRequirements", "javax.swing.SizeRequirements", true),
+              new String[] {
+                "static javax.swing.SizeRequirements.getAlignedSizeRequirements",
               })
           .put(
               "getDefaultStyleContext",
-              new Import[] {
-                new Import("getDefaultStyleContext", "javax.swing.text.StyleContext", true),
+              new String[] {
+                "static javax.swing.text.StyleContext.getDefaultStyleContext",
               })
           .put(
               "DESKTOP",
-              new Import[] {
-                new Import("DESKTOP", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.DESKTOP",
               })
           .put(
               "INCH",
-              new Import[] {
-                new Import("INCH", "javax.print.attribute.Size2DSyntax", true),
-                new Import("INCH", "javax.print.attribute.standard.MediaPrintableArea", true),
+              new String[] {
+                "static javax.print.attribute.Size2DSyntax.INCH",
+                "static javax.print.attribute.standard.MediaPrintableArea.INCH",
               })
           .put(
               "tk_longdouble",
-              new Import[] {
-                new Import("tk_longdouble", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_longdouble",
               })
           .put(
               "icSigXYZData",
-              new Import[] {
-                new Import("icSigXYZData", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigXYZData",
               })
           .put(
               "DefaultStyledDocument",
-              new Import[] {
-                new Import("DefaultStyledDocument", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.DefaultStyledDocument",
               })
           .put(
               "RUNIC",
-              new Import[] {
-                new Import("RUNIC", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.RUNIC",
               })
           .put(
               "TextInputCallback",
-              new Import[] {
-                new Import("TextInputCallback", "javax.security.auth.callback", false),
+              new String[] {
+                "javax.security.auth.callback.TextInputCallback",
               })
           .put(
               "icTagType",
-              new Import[] {
-                new Import("icTagType", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icTagType",
               })
           .put(
               "CJK_UNIFIED_IDEOGRAPHS_EXTENSION_B",
-              new Import[] {
-                new Import(
-                    "CJK_UNIFIED_IDEOGRAPHS_EXTENSION_B", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS_EXTENSION_B",
               })
           .put(
               "CJK_UNIFIED_IDEOGRAPHS_EXTENSION_A",
-              new Import[] {
-                new Import(
-                    "CJK_UNIFIED_IDEOGRAPHS_EXTENSION_A", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS_EXTENSION_A",
               })
           .put(
               "CJK_UNIFIED_IDEOGRAPHS_EXTENSION_D",
-              new Import[] {
-                new Import(
-                    "CJK_UNIFIED_IDEOGRAPHS_EXTENSION_D", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS_EXTENSION_D",
               })
           .put(
               "CJK_UNIFIED_IDEOGRAPHS_EXTENSION_C",
-              new Import[] {
-                new Import(
-                    "CJK_UNIFIED_IDEOGRAPHS_EXTENSION_C", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS_EXTENSION_C",
               })
           .put(
               "getSpaceBelow",
-              new Import[] {
-                new Import("getSpaceBelow", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.getSpaceBelow",
               })
           .put(
               "StringRefAddr",
-              new Import[] {
-                new Import("StringRefAddr", "javax.naming", false),
+              new String[] {
+                "javax.naming.StringRefAddr",
               })
           .put(
               "OptionalLong",
-              new Import[] {
-                new Import("OptionalLong", "java.util", false),
+              new String[] {
+                "java.util.OptionalLong",
               })
           .put(
               "TYPE_4BYTE_ABGR_PRE",
-              new Import[] {
-                new Import("TYPE_4BYTE_ABGR_PRE", "java.awt.image.BufferedImage", true),
+              new String[] {
+                "static java.awt.image.BufferedImage.TYPE_4BYTE_ABGR_PRE",
               })
           .put(
               "IORInterceptor_3_0",
-              new Import[] {
-                new Import("IORInterceptor_3_0", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.IORInterceptor_3_0",
               })
           .put(
               "Separator",
-              new Import[] {
-                new Import("Separator", "javax.swing.JPopupMenu", false),
-                new Import("Separator", "javax.swing.JToolBar", false),
+              new String[] {
+                "javax.swing.JPopupMenu.Separator", "javax.swing.JToolBar.Separator",
               })
           .put(
               "DialogType",
-              new Import[] {
-                new Import("DialogType", "java.awt.JobAttributes", false),
+              new String[] {
+                "java.awt.JobAttributes.DialogType",
               })
           .put(
               "DOWN",
-              new Import[] {
-                new Import("DOWN", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.DOWN",
               })
           .put(
               "PROPERTIES",
-              new Import[] {
-                new Import("PROPERTIES", "java.awt.image.ImageObserver", true),
+              new String[] {
+                "static java.awt.image.ImageObserver.PROPERTIES",
               })
           .put(
               "WINDOW_CLOSED",
-              new Import[] {
-                new Import("WINDOW_CLOSED", "java.awt.event.WindowEvent", true),
+              new String[] {
+                "static java.awt.event.WindowEvent.WINDOW_CLOSED",
               })
           .put(
               "IP_MULTICAST_IF2",
-              new Import[] {
-                new Import("IP_MULTICAST_IF2", "java.net.SocketOptions", true),
+              new String[] {
+                "static java.net.SocketOptions.IP_MULTICAST_IF2",
               })
           .put(
               "INFO",
-              new Import[] {
-                new Import("INFO", "java.awt.SystemColor", true),
-                new Import("INFO", "java.util.logging.Level", true),
-                new Import("INFO", "javax.management.MBeanOperationInfo", true),
+              new String[] {
+                "static java.awt.SystemColor.INFO",
+                "static java.util.logging.Level.INFO",
+                "static javax.management.MBeanOperationInfo.INFO",
               })
           .put(
               "DefaultTextUI",
-              new Import[] {
-                new Import("DefaultTextUI", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.DefaultTextUI",
               })
           .put(
               "NARROW_FORMAT",
-              new Import[] {
-                new Import("NARROW_FORMAT", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.NARROW_FORMAT",
               })
           .put(
               "FileSystemException",
-              new Import[] {
-                new Import("FileSystemException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.FileSystemException",
               })
           .put(
               "HTTP_NOT_MODIFIED",
-              new Import[] {
-                new Import("HTTP_NOT_MODIFIED", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_NOT_MODIFIED",
               })
           .put(
               "LEAD_DOTS",
-              new Import[] {
-                new Import("LEAD_DOTS", "javax.swing.text.TabStop", true),
+              new String[] {
+                "static javax.swing.text.TabStop.LEAD_DOTS",
               })
           .put(
               "Underline",
-              new Import[] {
-                new Import("Underline", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.Underline",
               })
           .put(
               "BLOCKQUOTE",
-              new Import[] {
-                new Import("BLOCKQUOTE", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.BLOCKQUOTE",
               })
           .put(
               "ListenerNotFoundException",
-              new Import[] {
-                new Import("ListenerNotFoundException", "javax.management", false),
+              new String[] {
+                "javax.management.ListenerNotFoundException",
               })
           .put(
               "Collections",
-              new Import[] {
-                new Import("Collections", "java.util", false),
+              new String[] {
+                "java.util.Collections",
               })
           .put(
               "Override",
-              new Import[] {
-                new Import("Override", "java.lang", false),
+              new String[] {
+                "java.lang.Override",
               })
           .put(
               "ENDOFF",
-              new Import[] {
-                new Import("ENDOFF", "java.util.jar.JarEntry", true),
-                new Import("ENDOFF", "java.util.jar.JarFile", true),
-                new Import("ENDOFF", "java.util.jar.JarInputStream", true),
-                new Import("ENDOFF", "java.util.jar.JarOutputStream", true),
-                new Import("ENDOFF", "java.util.zip.ZipEntry", true),
-                new Import("ENDOFF", "java.util.zip.ZipFile", true),
-                new Import("ENDOFF", "java.util.zip.ZipInputStream", true),
-                new Import("ENDOFF", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.ENDOFF",
+                "static java.util.jar.JarFile.ENDOFF",
+                "static java.util.jar.JarInputStream.ENDOFF",
+                "static java.util.jar.JarOutputStream.ENDOFF",
+                "static java.util.zip.ZipEntry.ENDOFF",
+                "static java.util.zip.ZipFile.ENDOFF",
+                "static java.util.zip.ZipInputStream.ENDOFF",
+                "static java.util.zip.ZipOutputStream.ENDOFF",
               })
           .put(
               "icSigAToB2Tag",
-              new Import[] {
-                new Import("icSigAToB2Tag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigAToB2Tag",
               })
           .put(
               "ProtectionParameter",
-              new Import[] {
-                new Import("ProtectionParameter", "java.security.KeyStore", false),
+              new String[] {
+                "java.security.KeyStore.ProtectionParameter",
               })
           .put(
               "AdapterNameHelper",
-              new Import[] {
-                new Import("AdapterNameHelper", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.AdapterNameHelper",
               })
           .put(
               "ObjectReferenceFactory",
-              new Import[] {
-                new Import("ObjectReferenceFactory", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ObjectReferenceFactory",
               })
           .put(
               "ATTRIBUTE",
-              new Import[] {
-                new Import("ATTRIBUTE", "javax.xml.stream.XMLStreamConstants", true),
+              new String[] {
+                "static javax.xml.stream.XMLStreamConstants.ATTRIBUTE",
               })
           .put(
               "MARGIN_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("MARGIN_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.MARGIN_CHANGED_PROPERTY",
               })
           .put(
               "META_DOWN_MASK",
-              new Import[] {
-                new Import("META_DOWN_MASK", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.event.InputEvent.META_DOWN_MASK",
               })
           .put(
               "getDefaultChooserPanels",
-              new Import[] {
-                new Import(
-                    "getDefaultChooserPanels",
-                    "javax.swing.colorchooser.ColorChooserComponentFactory",
-                    true),
+              new String[] {
+                "static"
+                    + " javax.swing.colorchooser.ColorChooserComponentFactory.getDefaultChooserPanels",
               })
           .put(
               "getDefaultQueue",
-              new Import[] {
-                new Import("getDefaultQueue", "javax.swing.text.LayoutQueue", true),
+              new String[] {
+                "static javax.swing.text.LayoutQueue.getDefaultQueue",
               })
           .put(
               "SAXNotSupportedException",
-              new Import[] {
-                new Import("SAXNotSupportedException", "org.xml.sax", false),
+              new String[] {
+                "org.xml.sax.SAXNotSupportedException",
               })
           .put(
               "FLASH_OPTION",
-              new Import[] {
-                new Import("FLASH_OPTION", "javax.swing.DebugGraphics", true),
+              new String[] {
+                "static javax.swing.DebugGraphics.FLASH_OPTION",
               })
           .put(
               "EndTagType",
-              new Import[] {
-                new Import(
-                    "EndTagType", "javax.swing.text.DefaultStyledDocument.ElementSpec", true),
+              new String[] {
+                "static javax.swing.text.DefaultStyledDocument.ElementSpec.EndTagType",
               })
           .put(
               "FontSize",
-              new Import[] {
-                new Import("FontSize", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.FontSize",
               })
           .put(
               "isDigit",
-              new Import[] {
-                new Import("isDigit", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isDigit",
               })
           .put(
               "Objects",
-              new Import[] {
-                new Import("Objects", "java.util", false),
+              new String[] {
+                "java.util.Objects",
               })
           .put(
               "BinaryRefAddr",
-              new Import[] {
-                new Import("BinaryRefAddr", "javax.naming", false),
+              new String[] {
+                "javax.naming.BinaryRefAddr",
               })
           .put(
               "ServiceUIFactory",
-              new Import[] {
-                new Import("ServiceUIFactory", "javax.print", false),
+              new String[] {
+                "javax.print.ServiceUIFactory",
               })
           .put(
               "JUSTIFICATION_NONE",
-              new Import[] {
-                new Import("JUSTIFICATION_NONE", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.JUSTIFICATION_NONE",
               })
           .put(
               "getAttributeKey",
-              new Import[] {
-                new Import("getAttributeKey", "javax.swing.text.html.HTML", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.getAttributeKey",
               })
           .put(
               "SecurityManager",
-              new Import[] {
-                new Import("SecurityManager", "java.lang", false),
+              new String[] {
+                "java.lang.SecurityManager",
               })
           .put(
               "withCachedThreadPool",
-              new Import[] {
-                new Import(
-                    "withCachedThreadPool", "java.nio.channels.AsynchronousChannelGroup", true),
+              new String[] {
+                "static java.nio.channels.AsynchronousChannelGroup.withCachedThreadPool",
               })
           .put(
               "DigestMethod",
-              new Import[] {
-                new Import("DigestMethod", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "javax.xml.crypto.dsig.DigestMethod",
               })
           .put(
               "MISCELLANEOUS_SYMBOLS",
-              new Import[] {
-                new Import("MISCELLANEOUS_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MISCELLANEOUS_SYMBOLS",
               })
           .put(
               "ALL_STYLES",
-              new Import[] {
-                new Import("ALL_STYLES", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.ALL_STYLES",
               })
           .put(
               "comparingByValue",
-              new Import[] {
-                new Import("comparingByValue", "java.util.Map.Entry", true),
+              new String[] {
+                "static java.util.Map.Entry.comparingByValue",
               })
           .put(
               "SSLHandshakeException",
-              new Import[] {
-                new Import("SSLHandshakeException", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLHandshakeException",
               })
           .put(
               "CONTENT_PANE_PROPERTY",
-              new Import[] {
-                new Import("CONTENT_PANE_PROPERTY", "javax.swing.JInternalFrame", true),
+              new String[] {
+                "static javax.swing.JInternalFrame.CONTENT_PANE_PROPERTY",
               })
           .put(
               "StandardProtocolFamily",
-              new Import[] {
-                new Import("StandardProtocolFamily", "java.net", false),
+              new String[] {
+                "java.net.StandardProtocolFamily",
               })
           .put(
               "allOf",
-              new Import[] {
-                new Import("allOf", "java.util.EnumSet", true),
-                new Import("allOf", "java.util.concurrent.CompletableFuture", true),
+              new String[] {
+                "static java.util.EnumSet.allOf",
+                "static java.util.concurrent.CompletableFuture.allOf",
               })
           .put(
               "ScrollPaneUI",
-              new Import[] {
-                new Import("ScrollPaneUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.ScrollPaneUI",
               })
           .put(
               "CODEBASE",
-              new Import[] {
-                new Import("CODEBASE", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.CODEBASE",
               })
           .put(
               "unmappableForLength",
-              new Import[] {
-                new Import("unmappableForLength", "java.nio.charset.CoderResult", true),
+              new String[] {
+                "static java.nio.charset.CoderResult.unmappableForLength",
               })
           .put(
               "TimerTask",
-              new Import[] {
-                new Import("TimerTask", "java.util", false),
+              new String[] {
+                "java.util.TimerTask",
               })
           .put(
               "UnmarshalException",
-              new Import[] {
-                new Import("UnmarshalException", "java.rmi", false),
-                new Import("UnmarshalException", "javax.xml.bind", false),
+              new String[] {
+                "java.rmi.UnmarshalException", "javax.xml.bind.UnmarshalException",
               })
           .put(
               "KANA_SUPPLEMENT",
-              new Import[] {
-                new Import("KANA_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.KANA_SUPPLEMENT",
               })
           .put(
               "SOAP12HTTP_MTOM_BINDING",
-              new Import[] {
-                new Import("SOAP12HTTP_MTOM_BINDING", "javax.xml.ws.soap.SOAPBinding", true),
+              new String[] {
+                "static javax.xml.ws.soap.SOAPBinding.SOAP12HTTP_MTOM_BINDING",
               })
           .put(
               "controlLtHighlight",
-              new Import[] {
-                new Import("controlLtHighlight", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.controlLtHighlight",
               })
           .put(
               "getImageWriters",
-              new Import[] {
-                new Import("getImageWriters", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getImageWriters",
               })
           .put(
               "NotificationBroadcasterSupport",
-              new Import[] {
-                new Import("NotificationBroadcasterSupport", "javax.management", false),
+              new String[] {
+                "javax.management.NotificationBroadcasterSupport",
               })
           .put(
               "PCM_FLOAT",
-              new Import[] {
-                new Import("PCM_FLOAT", "javax.sound.sampled.AudioFormat.Encoding", true),
+              new String[] {
+                "static javax.sound.sampled.AudioFormat.Encoding.PCM_FLOAT",
               })
           .put(
               "ofDateAdjuster",
-              new Import[] {
-                new Import("ofDateAdjuster", "java.time.temporal.TemporalAdjusters", true),
+              new String[] {
+                "static java.time.temporal.TemporalAdjusters.ofDateAdjuster",
               })
           .put(
               "IIOMetadataFormat",
-              new Import[] {
-                new Import("IIOMetadataFormat", "javax.imageio.metadata", false),
+              new String[] {
+                "javax.imageio.metadata.IIOMetadataFormat",
               })
           .put(
               "QName",
-              new Import[] {
-                new Import("QName", "javax.xml.namespace", false),
+              new String[] {
+                "javax.xml.namespace.QName",
               })
           .put(
               "JOB_INCOMING",
-              new Import[] {
-                new Import("JOB_INCOMING", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.JOB_INCOMING",
               })
           .put(
               "supplyAsync",
-              new Import[] {
-                new Import("supplyAsync", "java.util.concurrent.CompletableFuture", true),
+              new String[] {
+                "static java.util.concurrent.CompletableFuture.supplyAsync",
               })
           .put(
               "FILLER",
-              new Import[] {
-                new Import("FILLER", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.FILLER",
               })
           .put(
               "AttributeModificationException",
-              new Import[] {
-                new Import("AttributeModificationException", "javax.naming.directory", false),
+              new String[] {
+                "javax.naming.directory.AttributeModificationException",
               })
           .put(
               "COMBINING_SPACING_MARK",
-              new Import[] {
-                new Import("COMBINING_SPACING_MARK", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.COMBINING_SPACING_MARK",
               })
           .put(
               "ActivityRequiredException",
-              new Import[] {
-                new Import("ActivityRequiredException", "javax.activity", false),
+              new String[] {
+                "javax.activity.ActivityRequiredException",
               })
           .put(
               "NONE_OPTION",
-              new Import[] {
-                new Import("NONE_OPTION", "javax.swing.DebugGraphics", true),
+              new String[] {
+                "static javax.swing.DebugGraphics.NONE_OPTION",
               })
           .put(
               "AccessibleHypertext",
-              new Import[] {
-                new Import("AccessibleHypertext", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleHypertext",
               })
           .put(
               "MIAO",
-              new Import[] {
-                new Import("MIAO", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MIAO",
               })
           .put(
               "InvalidRelationServiceException",
-              new Import[] {
-                new Import("InvalidRelationServiceException", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.InvalidRelationServiceException",
               })
           .put(
               "OTHER_PUNCTUATION",
-              new Import[] {
-                new Import("OTHER_PUNCTUATION", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.OTHER_PUNCTUATION",
               })
           .put(
               "getWindowTitleFont",
-              new Import[] {
-                new Import("getWindowTitleFont", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getWindowTitleFont",
               })
           .put(
               "YOU_3",
-              new Import[] {
-                new Import("YOU_3", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.YOU_3",
               })
           .put(
               "YOU_2",
-              new Import[] {
-                new Import("YOU_2", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.YOU_2",
               })
           .put(
               "YOU_1",
-              new Import[] {
-                new Import("YOU_1", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.YOU_1",
               })
           .put(
               "YOU_7",
-              new Import[] {
-                new Import("YOU_7", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.YOU_7",
               })
           .put(
               "WORD_SPACING",
-              new Import[] {
-                new Import("WORD_SPACING", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.WORD_SPACING",
               })
           .put(
               "YOU_6",
-              new Import[] {
-                new Import("YOU_6", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.YOU_6",
               })
           .put(
               "YOU_5",
-              new Import[] {
-                new Import("YOU_5", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.YOU_5",
               })
           .put(
               "YOU_4",
-              new Import[] {
-                new Import("YOU_4", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.YOU_4",
               })
           .put(
               "LineSpacing",
-              new Import[] {
-                new Import("LineSpacing", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.LineSpacing",
               })
           .put(
               "BORDER_TOP_COLOR",
-              new Import[] {
-                new Import("BORDER_TOP_COLOR", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_TOP_COLOR",
               })
           .put(
               "SystemTray",
-              new Import[] {
-                new Import("SystemTray", "java.awt", false),
+              new String[] {
+                "java.awt.SystemTray",
               })
           .put(
               "URIDereferencer",
-              new Import[] {
-                new Import("URIDereferencer", "javax.xml.crypto", false),
+              new String[] {
+                "javax.xml.crypto.URIDereferencer",
               })
           .put(
               "PrintService",
-              new Import[] {
-                new Import("PrintService", "javax.print", false),
+              new String[] {
+                "javax.print.PrintService",
               })
           .put(
               "MAXIMIZED_BOTH",
-              new Import[] {
-                new Import("MAXIMIZED_BOTH", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Frame.MAXIMIZED_BOTH",
               })
           .put(
               "intStream",
-              new Import[] {
-                new Import("intStream", "java.util.stream.StreamSupport", true),
+              new String[] {
+                "static java.util.stream.StreamSupport.intStream",
               })
           .put(
               "getPrimaryControl",
-              new Import[] {
-                new Import("getPrimaryControl", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getPrimaryControl",
               })
           .put(
               "EditorKit",
-              new Import[] {
-                new Import("EditorKit", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.EditorKit",
               })
           .put(
               "MissingFormatArgumentException",
-              new Import[] {
-                new Import("MissingFormatArgumentException", "java.util", false),
+              new String[] {
+                "java.util.MissingFormatArgumentException",
               })
           .put(
               "MetalPopupMenuSeparatorUI",
-              new Import[] {
-                new Import("MetalPopupMenuSeparatorUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalPopupMenuSeparatorUI",
               })
           .put(
               "MetaMessage",
-              new Import[] {
-                new Import("MetaMessage", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.MetaMessage",
               })
           .put(
               "ofYearDay",
-              new Import[] {
-                new Import("ofYearDay", "java.time.LocalDate", true),
+              new String[] {
+                "static java.time.LocalDate.ofYearDay",
               })
           .put(
               "MARKER_SUPPLY_LOW",
-              new Import[] {
-                new Import(
-                    "MARKER_SUPPLY_LOW", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.MARKER_SUPPLY_LOW",
               })
           .put(
               "Unmarshaller",
-              new Import[] {
-                new Import("Unmarshaller", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.Unmarshaller",
               })
           .put(
               "HTTP_MOVED_PERM",
-              new Import[] {
-                new Import("HTTP_MOVED_PERM", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_MOVED_PERM",
               })
           .put(
               "EnumConstantNotPresentException",
-              new Import[] {
-                new Import("EnumConstantNotPresentException", "java.lang", false),
+              new String[] {
+                "java.lang.EnumConstantNotPresentException",
               })
           .put(
               "DIRECTIONALITY_EUROPEAN_NUMBER",
-              new Import[] {
-                new Import("DIRECTIONALITY_EUROPEAN_NUMBER", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_EUROPEAN_NUMBER",
               })
           .put(
               "RelationSupport",
-              new Import[] {
-                new Import("RelationSupport", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RelationSupport",
               })
           .put(
               "SCROLLS_ON_EXPAND_PROPERTY",
-              new Import[] {
-                new Import("SCROLLS_ON_EXPAND_PROPERTY", "javax.swing.JTree", true),
+              new String[] {
+                "static javax.swing.JTree.SCROLLS_ON_EXPAND_PROPERTY",
               })
           .put(
               "RMI_CLIENT_SOCKET_FACTORY_ATTRIBUTE",
-              new Import[] {
-                new Import(
-                    "RMI_CLIENT_SOCKET_FACTORY_ATTRIBUTE",
-                    "javax.management.remote.rmi.RMIConnectorServer",
-                    true),
+              new String[] {
+                "static"
+                    + " javax.management.remote.rmi.RMIConnectorServer.RMI_CLIENT_SOCKET_FACTORY_ATTRIBUTE",
               })
           .put(
               "REBIND",
-              new Import[] {
-                new Import("REBIND", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.REBIND",
               })
           .put(
               "VK_CLEAR",
-              new Import[] {
-                new Import("VK_CLEAR", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_CLEAR",
               })
           .put(
               "MEDIA_NEEDED",
-              new Import[] {
-                new Import(
-                    "MEDIA_NEEDED", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.MEDIA_NEEDED",
               })
           .put(
               "MultiDesktopIconUI",
-              new Import[] {
-                new Import("MultiDesktopIconUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiDesktopIconUI",
               })
           .put(
               "Flushable",
-              new Import[] {
-                new Import("Flushable", "java.io", false),
+              new String[] {
+                "java.io.Flushable",
               })
           .put(
               "InputMismatchException",
-              new Import[] {
-                new Import("InputMismatchException", "java.util", false),
+              new String[] {
+                "java.util.InputMismatchException",
               })
           .put(
               "LEADING",
-              new Import[] {
-                new Import("LEADING", "java.awt.FlowLayout", true),
-                new Import("LEADING", "javax.swing.SwingConstants", true),
-                new Import("LEADING", "javax.swing.border.TitledBorder", true),
+              new String[] {
+                "static java.awt.FlowLayout.LEADING",
+                "static javax.swing.SwingConstants.LEADING",
+                "static javax.swing.border.TitledBorder.LEADING",
               })
           .put(
               "WRITE_FAILURE",
-              new Import[] {
-                new Import("WRITE_FAILURE", "java.util.logging.ErrorManager", true),
+              new String[] {
+                "static java.util.logging.ErrorManager.WRITE_FAILURE",
               })
           .put(
               "menuText",
-              new Import[] {
-                new Import("menuText", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.menuText",
               })
           .put(
               "ClosedFileSystemException",
-              new Import[] {
-                new Import("ClosedFileSystemException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.ClosedFileSystemException",
               })
           .put(
               "MONTH_FIELD",
-              new Import[] {
-                new Import("MONTH_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.MONTH_FIELD",
               })
           .put(
               "createVerticalBox",
-              new Import[] {
-                new Import("createVerticalBox", "javax.swing.Box", true),
+              new String[] {
+                "static javax.swing.Box.createVerticalBox",
               })
           .put(
               "VK_PAGE_DOWN",
-              new Import[] {
-                new Import("VK_PAGE_DOWN", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_PAGE_DOWN",
               })
           .put(
               "LOCHOW",
-              new Import[] {
-                new Import("LOCHOW", "java.util.jar.JarEntry", true),
-                new Import("LOCHOW", "java.util.jar.JarFile", true),
-                new Import("LOCHOW", "java.util.jar.JarInputStream", true),
-                new Import("LOCHOW", "java.util.jar.JarOutputStream", true),
-                new Import("LOCHOW", "java.util.zip.ZipEntry", true),
-                new Import("LOCHOW", "java.util.zip.ZipFile", true),
-                new Import("LOCHOW", "java.util.zip.ZipInputStream", true),
-                new Import("LOCHOW", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.LOCHOW",
+                "static java.util.jar.JarFile.LOCHOW",
+                "static java.util.jar.JarInputStream.LOCHOW",
+                "static java.util.jar.JarOutputStream.LOCHOW",
+                "static java.util.zip.ZipEntry.LOCHOW",
+                "static java.util.zip.ZipFile.LOCHOW",
+                "static java.util.zip.ZipInputStream.LOCHOW",
+                "static java.util.zip.ZipOutputStream.LOCHOW",
               })
           .put(
               "HORIZONTAL_CENTER",
-              new Import[] {
-                new Import("HORIZONTAL_CENTER", "javax.swing.SpringLayout", true),
+              new String[] {
+                "static javax.swing.SpringLayout.HORIZONTAL_CENTER",
               })
           .put(
               "ATTRIBUTE_NODE",
-              new Import[] {
-                new Import("ATTRIBUTE_NODE", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.ATTRIBUTE_NODE",
               })
           .put(
               "FETCH_REVERSE",
-              new Import[] {
-                new Import("FETCH_REVERSE", "java.sql.ResultSet", true),
+              new String[] {
+                "static java.sql.ResultSet.FETCH_REVERSE",
               })
           .put(
               "BadLocationException",
-              new Import[] {
-                new Import("BadLocationException", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.BadLocationException",
               })
           .put(
               "getShearInstance",
-              new Import[] {
-                new Import("getShearInstance", "java.awt.geom.AffineTransform", true),
+              new String[] {
+                "static java.awt.geom.AffineTransform.getShearInstance",
               })
           .put(
               "RemoteCall",
-              new Import[] {
-                new Import("RemoteCall", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.RemoteCall",
               })
           .put(
               "MODIFICATION_TIME",
-              new Import[] {
-                new Import("MODIFICATION_TIME", "java.util.jar.Pack200.Packer", true),
+              new String[] {
+                "static java.util.jar.Pack200.Packer.MODIFICATION_TIME",
               })
           .put(
               "NAMES",
-              new Import[] {
-                new Import("NAMES", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.NAMES",
               })
           .put(
               "Shape",
-              new Import[] {
-                new Import("Shape", "java.awt", false),
+              new String[] {
+                "java.awt.Shape",
               })
           .put(
               "TAG_BDAT",
-              new Import[] {
-                new Import("TAG_BDAT", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_BDAT",
               })
           .put(
               "PROPERTYNAME",
-              new Import[] {
-                new Import("PROPERTYNAME", "java.beans.DesignMode", true),
+              new String[] {
+                "static java.beans.DesignMode.PROPERTYNAME",
               })
           .put(
               "TRANSACTION_UNAVAILABLE",
-              new Import[] {
-                new Import("TRANSACTION_UNAVAILABLE", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.TRANSACTION_UNAVAILABLE",
               })
           .put(
               "JTextPane",
-              new Import[] {
-                new Import("JTextPane", "javax.swing", false),
+              new String[] {
+                "javax.swing.JTextPane",
               })
           .put(
               "getEtchedBorderUIResource",
-              new Import[] {
-                new Import("getEtchedBorderUIResource", "javax.swing.plaf.BorderUIResource", true),
+              new String[] {
+                "static javax.swing.plaf.BorderUIResource.getEtchedBorderUIResource",
               })
           .put(
               "SplashScreen",
-              new Import[] {
-                new Import("SplashScreen", "java.awt", false),
+              new String[] {
+                "java.awt.SplashScreen",
               })
           .put(
               "JobMediaSheetsCompleted",
-              new Import[] {
-                new Import("JobMediaSheetsCompleted", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobMediaSheetsCompleted",
               })
           .put(
               "BufferOverflowException",
-              new Import[] {
-                new Import("BufferOverflowException", "java.nio", false),
+              new String[] {
+                "java.nio.BufferOverflowException",
               })
           .put(
               "DefaultTreeCellEditor",
-              new Import[] {
-                new Import("DefaultTreeCellEditor", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.DefaultTreeCellEditor",
               })
           .put(
               "DropMode",
-              new Import[] {
-                new Import("DropMode", "javax.swing", false),
+              new String[] {
+                "javax.swing.DropMode",
               })
           .put(
               "_DynUnionStub",
-              new Import[] {
-                new Import("_DynUnionStub", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny._DynUnionStub",
               })
           .put(
               "setBidiLevel",
-              new Import[] {
-                new Import("setBidiLevel", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setBidiLevel",
               })
           .put(
               "DynArrayHelper",
-              new Import[] {
-                new Import("DynArrayHelper", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynArrayHelper",
               })
           .put(
               "MAX_WEIGHT",
-              new Import[] {
-                new Import("MAX_WEIGHT", "java.util.Locale.LanguageRange", true),
+              new String[] {
+                "static java.util.Locale.LanguageRange.MAX_WEIGHT",
               })
           .put(
               "LOWER_RIGHT_CORNER",
-              new Import[] {
-                new Import("LOWER_RIGHT_CORNER", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.LOWER_RIGHT_CORNER",
               })
           .put(
               "MediaName",
-              new Import[] {
-                new Import("MediaName", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.MediaName",
               })
           .put(
               "getBeanInfo",
-              new Import[] {
-                new Import("getBeanInfo", "java.beans.Introspector", true),
+              new String[] {
+                "static java.beans.Introspector.getBeanInfo",
               })
           .put(
               "OperationsException",
-              new Import[] {
-                new Import("OperationsException", "javax.management", false),
+              new String[] {
+                "javax.management.OperationsException",
               })
           .put(
               "CalendarDataProvider",
-              new Import[] {
-                new Import("CalendarDataProvider", "java.util.spi", false),
+              new String[] {
+                "java.util.spi.CalendarDataProvider",
               })
           .put(
               "HTTP_REQUEST_HEADERS",
-              new Import[] {
-                new Import("HTTP_REQUEST_HEADERS", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.handler.MessageContext.HTTP_REQUEST_HEADERS",
               })
           .put(
               "AsynchronousChannelGroup",
-              new Import[] {
-                new Import("AsynchronousChannelGroup", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.AsynchronousChannelGroup",
               })
           .put(
               "ButtonAreaLayout",
-              new Import[] {
-                new Import("ButtonAreaLayout", "javax.swing.plaf.basic.BasicOptionPaneUI", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicOptionPaneUI.ButtonAreaLayout",
               })
           .put(
               "IllegalMonitorStateException",
-              new Import[] {
-                new Import("IllegalMonitorStateException", "java.lang", false),
+              new String[] {
+                "java.lang.IllegalMonitorStateException",
               })
           .put(
               "Principal",
-              new Import[] {
-                new Import("Principal", "java.security", false),
-                new Import("Principal", "org.omg.CORBA", false),
+              new String[] {
+                "java.security.Principal", "org.omg.CORBA.Principal",
               })
           .put(
               "GridBagConstraints",
-              new Import[] {
-                new Import("GridBagConstraints", "java.awt", false),
+              new String[] {
+                "java.awt.GridBagConstraints",
               })
           .put(
               "DefaultButtonModel",
-              new Import[] {
-                new Import("DefaultButtonModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.DefaultButtonModel",
               })
           .put(
               "InsetsUIResource",
-              new Import[] {
-                new Import("InsetsUIResource", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.InsetsUIResource",
               })
           .put(
               "listRoots",
-              new Import[] {
-                new Import("listRoots", "java.io.File", true),
+              new String[] {
+                "static java.io.File.listRoots",
               })
           .put(
               "INPUT",
-              new Import[] {
-                new Import("INPUT", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.INPUT",
               })
           .put(
               "getRuntimeMXBean",
-              new Import[] {
-                new Import("getRuntimeMXBean", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.getRuntimeMXBean",
               })
           .put(
               "SELECTED_RAW_TEXT_HIGHLIGHT",
-              new Import[] {
-                new Import("SELECTED_RAW_TEXT_HIGHLIGHT", "java.awt.im.InputMethodHighlight", true),
+              new String[] {
+                "static java.awt.im.InputMethodHighlight.SELECTED_RAW_TEXT_HIGHLIGHT",
               })
           .put(
               "getCurrencyInstance",
-              new Import[] {
-                new Import("getCurrencyInstance", "java.text.NumberFormat", true),
+              new String[] {
+                "static java.text.NumberFormat.getCurrencyInstance",
               })
           .put(
               "FOCUS_PAINTED_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("FOCUS_PAINTED_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.FOCUS_PAINTED_CHANGED_PROPERTY",
               })
           .put(
               "NA_LETTER_WHITE",
-              new Import[] {
-                new Import("NA_LETTER_WHITE", "javax.print.attribute.standard.MediaName", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaName.NA_LETTER_WHITE",
               })
           .put(
               "RMISocketFactory",
-              new Import[] {
-                new Import("RMISocketFactory", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.RMISocketFactory",
               })
           .put(
               "setDouble",
-              new Import[] {
-                new Import("setDouble", "java.lang.reflect.Array", true),
+              new String[] {
+                "static java.lang.reflect.Array.setDouble",
               })
           .put(
               "NO_ROLE_WITH_NAME",
-              new Import[] {
-                new Import("NO_ROLE_WITH_NAME", "javax.management.relation.RoleStatus", true),
+              new String[] {
+                "static javax.management.relation.RoleStatus.NO_ROLE_WITH_NAME",
               })
           .put(
               "AssertionError",
-              new Import[] {
-                new Import("AssertionError", "java.lang", false),
+              new String[] {
+                "java.lang.AssertionError",
               })
           .put(
               "AccessibleExtendedComponent",
-              new Import[] {
-                new Import("AccessibleExtendedComponent", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleExtendedComponent",
               })
           .put(
               "AnySeqHolder",
-              new Import[] {
-                new Import("AnySeqHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.AnySeqHolder",
               })
           .put(
               "JSlider",
-              new Import[] {
-                new Import("JSlider", "javax.swing", false),
+              new String[] {
+                "javax.swing.JSlider",
               })
           .put(
               "MultiSeparatorUI",
-              new Import[] {
-                new Import("MultiSeparatorUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiSeparatorUI",
               })
           .put(
               "tertiaryOrder",
-              new Import[] {
-                new Import("tertiaryOrder", "java.text.CollationElementIterator", true),
+              new String[] {
+                "static java.text.CollationElementIterator.tertiaryOrder",
               })
           .put(
               "TC_CLASS",
-              new Import[] {
-                new Import("TC_CLASS", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_CLASS",
               })
           .put(
               "HORIZONTAL_SCROLLBAR_NEVER",
-              new Import[] {
-                new Import("HORIZONTAL_SCROLLBAR_NEVER", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER",
               })
           .put(
               "DynArray",
-              new Import[] {
-                new Import("DynArray", "org.omg.CORBA", false),
-                new Import("DynArray", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.CORBA.DynArray", "org.omg.DynamicAny.DynArray",
               })
           .put(
               "DONE",
-              new Import[] {
-                new Import("DONE", "java.text.BreakIterator", true),
-                new Import("DONE", "java.text.CharacterIterator", true),
+              new String[] {
+                "static java.text.BreakIterator.DONE", "static java.text.CharacterIterator.DONE",
               })
           .put(
               "IMG",
-              new Import[] {
-                new Import("IMG", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.IMG",
               })
           .put(
               "Channel",
-              new Import[] {
-                new Import("Channel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.Channel",
               })
           .put(
               "AclEntry",
-              new Import[] {
-                new Import("AclEntry", "java.nio.file.attribute", false),
-                new Import("AclEntry", "java.security.acl", false),
+              new String[] {
+                "java.nio.file.attribute.AclEntry", "java.security.acl.AclEntry",
               })
           .put(
               "TIME_WITH_TIMEZONE",
-              new Import[] {
-                new Import("TIME_WITH_TIMEZONE", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.TIME_WITH_TIMEZONE",
               })
           .put(
               "DOMLocator",
-              new Import[] {
-                new Import("DOMLocator", "javax.xml.transform.dom", false),
-                new Import("DOMLocator", "org.w3c.dom", false),
+              new String[] {
+                "javax.xml.transform.dom.DOMLocator", "org.w3c.dom.DOMLocator",
               })
           .put(
               "TimerNotification",
-              new Import[] {
-                new Import("TimerNotification", "javax.management.timer", false),
+              new String[] {
+                "javax.management.timer.TimerNotification",
               })
           .put(
               "SynthTextAreaUI",
-              new Import[] {
-                new Import("SynthTextAreaUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthTextAreaUI",
               })
           .put(
               "DSAPrivateKeySpec",
-              new Import[] {
-                new Import("DSAPrivateKeySpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.DSAPrivateKeySpec",
               })
           .put(
               "PUSH_BUTTON",
-              new Import[] {
-                new Import("PUSH_BUTTON", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.PUSH_BUTTON",
               })
           .put(
               "WHEN_ANCESTOR_OF_FOCUSED_COMPONENT",
-              new Import[] {
-                new Import("WHEN_ANCESTOR_OF_FOCUSED_COMPONENT", "javax.swing.JComponent", true),
+              new String[] {
+                "static javax.swing.JComponent.WHEN_ANCESTOR_OF_FOCUSED_COMPONENT",
               })
           .put(
               "NMTOKENS",
-              new Import[] {
-                new Import("NMTOKENS", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.NMTOKENS",
               })
           .put(
               "ShortBufferException",
-              new Import[] {
-                new Import("ShortBufferException", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.ShortBufferException",
               })
           .put(
               "ArrayStoreException",
-              new Import[] {
-                new Import("ArrayStoreException", "java.lang", false),
+              new String[] {
+                "java.lang.ArrayStoreException",
               })
           .put(
               "JOB_CANCELED_BY_USER",
-              new Import[] {
-                new Import(
-                    "JOB_CANCELED_BY_USER", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.JOB_CANCELED_BY_USER",
               })
           .put(
               "IS_MAXIMUM_PROPERTY",
-              new Import[] {
-                new Import("IS_MAXIMUM_PROPERTY", "javax.swing.JInternalFrame", true),
+              new String[] {
+                "static javax.swing.JInternalFrame.IS_MAXIMUM_PROPERTY",
               })
           .put(
               "HTTP_CLIENT_TIMEOUT",
-              new Import[] {
-                new Import("HTTP_CLIENT_TIMEOUT", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_CLIENT_TIMEOUT",
               })
           .put(
               "IMG_BORDER",
-              new Import[] {
-                new Import("IMG_BORDER", "javax.swing.text.html.HTMLEditorKit", true),
+              new String[] {
+                "static javax.swing.text.html.HTMLEditorKit.IMG_BORDER",
               })
           .put(
               "EntityDeclaration",
-              new Import[] {
-                new Import("EntityDeclaration", "javax.xml.stream.events", false),
+              new String[] {
+                "javax.xml.stream.events.EntityDeclaration",
               })
           .put(
               "TEXT_HTML_HOST",
-              new Import[] {
-                new Import("TEXT_HTML_HOST", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_HTML_HOST", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_HTML_HOST", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.TEXT_HTML_HOST",
+                "static javax.print.DocFlavor.INPUT_STREAM.TEXT_HTML_HOST",
+                "static javax.print.DocFlavor.URL.TEXT_HTML_HOST",
               })
           .put(
               "MetalInternalFrameUI",
-              new Import[] {
-                new Import("MetalInternalFrameUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalInternalFrameUI",
               })
           .put(
               "getAttribute",
-              new Import[] {
-                new Import("getAttribute", "java.nio.file.Files", true),
-                new Import("getAttribute", "javax.swing.text.html.CSS", true),
+              new String[] {
+                "static java.nio.file.Files.getAttribute",
+                "static javax.swing.text.html.CSS.getAttribute",
               })
           .put(
               "arrayElementSetter",
-              new Import[] {
-                new Import("arrayElementSetter", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.arrayElementSetter",
               })
           .put(
               "AclEntryFlag",
-              new Import[] {
-                new Import("AclEntryFlag", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.AclEntryFlag",
               })
           .put(
               "ServantActivatorPOA",
-              new Import[] {
-                new Import("ServantActivatorPOA", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ServantActivatorPOA",
               })
           .put(
               "textText",
-              new Import[] {
-                new Import("textText", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.textText",
               })
           .put(
               "ChangeListener",
-              new Import[] {
-                new Import("ChangeListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.ChangeListener",
               })
           .put(
               "EAST",
-              new Import[] {
-                new Import("EAST", "java.awt.BorderLayout", true),
-                new Import("EAST", "java.awt.GridBagConstraints", true),
-                new Import("EAST", "javax.swing.SpringLayout", true),
-                new Import("EAST", "javax.swing.SwingConstants", true),
+              new String[] {
+                "static java.awt.BorderLayout.EAST",
+                "static java.awt.GridBagConstraints.EAST",
+                "static javax.swing.SpringLayout.EAST",
+                "static javax.swing.SwingConstants.EAST",
               })
           .put(
               "setAll",
-              new Import[] {
-                new Import("setAll", "java.util.Arrays", true),
+              new String[] {
+                "static java.util.Arrays.setAll",
               })
           .put(
               "INDETERMINATE",
-              new Import[] {
-                new Import("INDETERMINATE", "javax.accessibility.AccessibleState", true),
-                new Import("INDETERMINATE", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.INDETERMINATE",
+                "static javax.xml.datatype.DatatypeConstants.INDETERMINATE",
               })
           .put(
               "TEXT_HTML_UTF_16",
-              new Import[] {
-                new Import("TEXT_HTML_UTF_16", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_HTML_UTF_16", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_HTML_UTF_16", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.TEXT_HTML_UTF_16",
+                "static javax.print.DocFlavor.INPUT_STREAM.TEXT_HTML_UTF_16",
+                "static javax.print.DocFlavor.URL.TEXT_HTML_UTF_16",
               })
           .put(
               "BORDER_BOTTOM_COLOR",
-              new Import[] {
-                new Import("BORDER_BOTTOM_COLOR", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_BOTTOM_COLOR",
               })
           .put(
               "getProperty",
-              new Import[] {
-                new Import("getProperty", "java.awt.Toolkit", true),
-                new Import("getProperty", "java.lang.System", true),
-                new Import("getProperty", "java.security.Security", true),
+              new String[] {
+                "static java.awt.Toolkit.getProperty",
+                "static java.lang.System.getProperty",
+                "static java.security.Security.getProperty",
               })
           .put(
               "CLOB",
-              new Import[] {
-                new Import("CLOB", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.CLOB",
               })
           .put(
               "CENOFF",
-              new Import[] {
-                new Import("CENOFF", "java.util.jar.JarEntry", true),
-                new Import("CENOFF", "java.util.jar.JarFile", true),
-                new Import("CENOFF", "java.util.jar.JarInputStream", true),
-                new Import("CENOFF", "java.util.jar.JarOutputStream", true),
-                new Import("CENOFF", "java.util.zip.ZipEntry", true),
-                new Import("CENOFF", "java.util.zip.ZipFile", true),
-                new Import("CENOFF", "java.util.zip.ZipInputStream", true),
-                new Import("CENOFF", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENOFF",
+                "static java.util.jar.JarFile.CENOFF",
+                "static java.util.jar.JarInputStream.CENOFF",
+                "static java.util.jar.JarOutputStream.CENOFF",
+                "static java.util.zip.ZipEntry.CENOFF",
+                "static java.util.zip.ZipFile.CENOFF",
+                "static java.util.zip.ZipInputStream.CENOFF",
+                "static java.util.zip.ZipOutputStream.CENOFF",
               })
           .put(
               "LogicalHandler",
-              new Import[] {
-                new Import("LogicalHandler", "javax.xml.ws.handler", false),
+              new String[] {
+                "javax.xml.ws.handler.LogicalHandler",
               })
           .put(
               "setBeanInfoSearchPath",
-              new Import[] {
-                new Import("setBeanInfoSearchPath", "java.beans.Introspector", true),
+              new String[] {
+                "static java.beans.Introspector.setBeanInfoSearchPath",
               })
           .put(
               "AsynchronousServerSocketChannel",
-              new Import[] {
-                new Import("AsynchronousServerSocketChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.AsynchronousServerSocketChannel",
               })
           .put(
               "importedKeySetNull",
-              new Import[] {
-                new Import("importedKeySetNull", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.importedKeySetNull",
               })
           .put(
               "FileNameExtensionFilter",
-              new Import[] {
-                new Import("FileNameExtensionFilter", "javax.swing.filechooser", false),
+              new String[] {
+                "javax.swing.filechooser.FileNameExtensionFilter",
               })
           .put(
               "XmlSchemaType",
-              new Import[] {
-                new Import("XmlSchemaType", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlSchemaType",
               })
           .put(
               "IOR",
-              new Import[] {
-                new Import("IOR", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.IOR",
               })
           .put(
               "FileDescriptor",
-              new Import[] {
-                new Import("FileDescriptor", "java.io", false),
+              new String[] {
+                "java.io.FileDescriptor",
               })
           .put(
               "ChangeEvent",
-              new Import[] {
-                new Import("ChangeEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.ChangeEvent",
               })
           .put(
               "TreeCellEditor",
-              new Import[] {
-                new Import("TreeCellEditor", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.TreeCellEditor",
               })
           .put(
               "DHPrivateKeySpec",
-              new Import[] {
-                new Import("DHPrivateKeySpec", "javax.crypto.spec", false),
+              new String[] {
+                "javax.crypto.spec.DHPrivateKeySpec",
               })
           .put(
               "X500Principal",
-              new Import[] {
-                new Import("X500Principal", "javax.security.auth.x500", false),
+              new String[] {
+                "javax.security.auth.x500.X500Principal",
               })
           .put(
               "DEFAULT_OBJECT_MODEL_URI",
-              new Import[] {
-                new Import("DEFAULT_OBJECT_MODEL_URI", "javax.xml.xpath.XPathFactory", true),
+              new String[] {
+                "static javax.xml.xpath.XPathFactory.DEFAULT_OBJECT_MODEL_URI",
               })
           .put(
               "WEIGHT_MEDIUM",
-              new Import[] {
-                new Import("WEIGHT_MEDIUM", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WEIGHT_MEDIUM",
               })
           .put(
               "REF_invokeInterface",
-              new Import[] {
-                new Import("REF_invokeInterface", "java.lang.invoke.MethodHandleInfo", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandleInfo.REF_invokeInterface",
               })
           .put(
               "LogManager",
-              new Import[] {
-                new Import("LogManager", "java.util.logging", false),
+              new String[] {
+                "java.util.logging.LogManager",
               })
           .build();
 }
@@ -2,1609 +2,1573 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk14 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "SimpleFileVisitor",
-              new Import[] {
-                new Import("SimpleFileVisitor", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.SimpleFileVisitor",
               })
           .put(
               "AccessibleEditableText",
-              new Import[] {
-                new Import("AccessibleEditableText", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleEditableText",
               })
           .put(
               "NameComponent",
-              new Import[] {
-                new Import("NameComponent", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.NameComponent",
               })
           .put(
               "MISCELLANEOUS_MATHEMATICAL_SYMBOLS_A",
-              new Import[] {
-                new Import(
-                    "MISCELLANEOUS_MATHEMATICAL_SYMBOLS_A",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MISCELLANEOUS_MATHEMATICAL_SYMBOLS_A",
               })
           .put(
               "AttributeChangeNotificationFilter",
-              new Import[] {
-                new Import("AttributeChangeNotificationFilter", "javax.management", false),
+              new String[] {
+                "javax.management.AttributeChangeNotificationFilter",
               })
           .put(
               "X500PrivateCredential",
-              new Import[] {
-                new Import("X500PrivateCredential", "javax.security.auth.x500", false),
+              new String[] {
+                "javax.security.auth.x500.X500PrivateCredential",
               })
           .put(
               "MISCELLANEOUS_MATHEMATICAL_SYMBOLS_B",
-              new Import[] {
-                new Import(
-                    "MISCELLANEOUS_MATHEMATICAL_SYMBOLS_B",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MISCELLANEOUS_MATHEMATICAL_SYMBOLS_B",
               })
           .put(
               "ForwardingJavaFileObject",
-              new Import[] {
-                new Import("ForwardingJavaFileObject", "javax.tools", false),
+              new String[] {
+                "javax.tools.ForwardingJavaFileObject",
               })
           .put(
               "SecureClassLoader",
-              new Import[] {
-                new Import("SecureClassLoader", "java.security", false),
+              new String[] {
+                "java.security.SecureClassLoader",
               })
           .put(
               "TONER_LOW",
-              new Import[] {
-                new Import("TONER_LOW", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.TONER_LOW",
               })
           .put(
               "WEDNESDAY",
-              new Import[] {
-                new Import("WEDNESDAY", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.WEDNESDAY",
               })
           .put(
               "ObjectFactory",
-              new Import[] {
-                new Import("ObjectFactory", "javax.naming.spi", false),
+              new String[] {
+                "javax.naming.spi.ObjectFactory",
               })
           .put(
               "NormalizedStringAdapter",
-              new Import[] {
-                new Import("NormalizedStringAdapter", "javax.xml.bind.annotation.adapters", false),
+              new String[] {
+                "javax.xml.bind.annotation.adapters.NormalizedStringAdapter",
               })
           .put(
               "X509KeyManager",
-              new Import[] {
-                new Import("X509KeyManager", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.X509KeyManager",
               })
           .put(
               "BALINESE",
-              new Import[] {
-                new Import("BALINESE", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.BALINESE",
               })
           .put(
               "TimeUnit",
-              new Import[] {
-                new Import("TimeUnit", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.TimeUnit",
               })
           .put(
               "RUNTIME_MXBEAN_NAME",
-              new Import[] {
-                new Import("RUNTIME_MXBEAN_NAME", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.RUNTIME_MXBEAN_NAME",
               })
           .put(
               "VK_LEFT_PARENTHESIS",
-              new Import[] {
-                new Import("VK_LEFT_PARENTHESIS", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_LEFT_PARENTHESIS",
               })
           .put(
               "LayoutStyle",
-              new Import[] {
-                new Import("LayoutStyle", "javax.swing", false),
+              new String[] {
+                "javax.swing.LayoutStyle",
               })
           .put(
               "Wrapper",
-              new Import[] {
-                new Import("Wrapper", "java.sql", false),
+              new String[] {
+                "java.sql.Wrapper",
               })
           .put(
               "FieldBorder",
-              new Import[] {
-                new Import("FieldBorder", "javax.swing.plaf.basic.BasicBorders", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicBorders.FieldBorder",
               })
           .put(
               "PSpecified",
-              new Import[] {
-                new Import("PSpecified", "javax.crypto.spec.PSource", false),
+              new String[] {
+                "javax.crypto.spec.PSource.PSpecified",
               })
           .put(
               "ARROW_BUTTON",
-              new Import[] {
-                new Import("ARROW_BUTTON", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.ARROW_BUTTON",
               })
           .put(
               "not_context",
-              new Import[] {
-                new Import(
-                    "not_context", "org.omg.CosNaming.NamingContextPackage.NotFoundReason", true),
+              new String[] {
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundReason.not_context",
               })
           .put(
               "StartTagType",
-              new Import[] {
-                new Import(
-                    "StartTagType", "javax.swing.text.DefaultStyledDocument.ElementSpec", true),
+              new String[] {
+                "static javax.swing.text.DefaultStyledDocument.ElementSpec.StartTagType",
               })
           .put(
               "COMPONENT_SHOWN",
-              new Import[] {
-                new Import("COMPONENT_SHOWN", "java.awt.event.ComponentEvent", true),
+              new String[] {
+                "static java.awt.event.ComponentEvent.COMPONENT_SHOWN",
               })
           .put(
               "POSTURE_REGULAR",
-              new Import[] {
-                new Import("POSTURE_REGULAR", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.POSTURE_REGULAR",
               })
           .put(
               "APPROVE_BUTTON_MNEMONIC_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "APPROVE_BUTTON_MNEMONIC_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.APPROVE_BUTTON_MNEMONIC_CHANGED_PROPERTY",
               })
           .put(
               "LongStream",
-              new Import[] {
-                new Import("LongStream", "java.util.stream", false),
+              new String[] {
+                "java.util.stream.LongStream",
               })
           .put(
               "setSharedInstance",
-              new Import[] {
-                new Import("setSharedInstance", "javax.swing.PopupFactory", true),
+              new String[] {
+                "static javax.swing.PopupFactory.setSharedInstance",
               })
           .put(
               "DocumentFilter",
-              new Import[] {
-                new Import("DocumentFilter", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.DocumentFilter",
               })
           .put(
               "ImageCapabilities",
-              new Import[] {
-                new Import("ImageCapabilities", "java.awt", false),
+              new String[] {
+                "java.awt.ImageCapabilities",
               })
           .put(
               "NA_8X10",
-              new Import[] {
-                new Import("NA_8X10", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("NA_8X10", "javax.print.attribute.standard.MediaSize.NA", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSizeName.NA_8X10",
+                "static javax.print.attribute.standard.MediaSize.NA.NA_8X10",
               })
           .put(
               "MultiDocPrintService",
-              new Import[] {
-                new Import("MultiDocPrintService", "javax.print", false),
+              new String[] {
+                "javax.print.MultiDocPrintService",
               })
           .put(
               "AttributedCharacterIterator",
-              new Import[] {
-                new Import("AttributedCharacterIterator", "java.text", false),
+              new String[] {
+                "java.text.AttributedCharacterIterator",
               })
           .put(
               "URLStreamHandler",
-              new Import[] {
-                new Import("URLStreamHandler", "java.net", false),
+              new String[] {
+                "java.net.URLStreamHandler",
               })
           .put(
               "ForcedBreakWeight",
-              new Import[] {
-                new Import("ForcedBreakWeight", "javax.swing.text.View", true),
+              new String[] {
+                "static javax.swing.text.View.ForcedBreakWeight",
               })
           .put(
               "doAs",
-              new Import[] {
-                new Import("doAs", "javax.security.auth.Subject", true),
+              new String[] {
+                "static javax.security.auth.Subject.doAs",
               })
           .put(
               "scanForPlugins",
-              new Import[] {
-                new Import("scanForPlugins", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.scanForPlugins",
               })
           .put(
               "ContextNotEmptyException",
-              new Import[] {
-                new Import("ContextNotEmptyException", "javax.naming", false),
+              new String[] {
+                "javax.naming.ContextNotEmptyException",
               })
           .put(
               "BasicToolBarSeparatorUI",
-              new Import[] {
-                new Import("BasicToolBarSeparatorUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicToolBarSeparatorUI",
               })
           .put(
               "WrongAdapterHelper",
-              new Import[] {
-                new Import("WrongAdapterHelper", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.WrongAdapterHelper",
               })
           .put(
               "ParserDelegator",
-              new Import[] {
-                new Import("ParserDelegator", "javax.swing.text.html.parser", false),
+              new String[] {
+                "javax.swing.text.html.parser.ParserDelegator",
               })
           .put(
               "VK_CIRCUMFLEX",
-              new Import[] {
-                new Import("VK_CIRCUMFLEX", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_CIRCUMFLEX",
               })
           .put(
               "intersects",
-              new Import[] {
-                new Import("intersects", "java.awt.geom.Path2D", true),
+              new String[] {
+                "static java.awt.geom.Path2D.intersects",
               })
           .put(
               "HTTP_REQ_TOO_LONG",
-              new Import[] {
-                new Import("HTTP_REQ_TOO_LONG", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_REQ_TOO_LONG",
               })
           .put(
               "UnknownError",
-              new Import[] {
-                new Import("UnknownError", "java.lang", false),
+              new String[] {
+                "java.lang.UnknownError",
               })
           .put(
               "MARKER_WASTE_ALMOST_FULL",
-              new Import[] {
-                new Import(
-                    "MARKER_WASTE_ALMOST_FULL",
-                    "javax.print.attribute.standard.PrinterStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.MARKER_WASTE_ALMOST_FULL",
               })
           .put(
               "XMLFilter",
-              new Import[] {
-                new Import("XMLFilter", "org.xml.sax", false),
+              new String[] {
+                "org.xml.sax.XMLFilter",
               })
           .put(
               "AttributeValueExp",
-              new Import[] {
-                new Import("AttributeValueExp", "javax.management", false),
+              new String[] {
+                "javax.management.AttributeValueExp",
               })
           .put(
               "HashAttributeSet",
-              new Import[] {
-                new Import("HashAttributeSet", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.HashAttributeSet",
               })
           .put(
               "EMBEDS_PROPERTY",
-              new Import[] {
-                new Import("EMBEDS_PROPERTY", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.EMBEDS_PROPERTY",
               })
           .put(
               "BASELINE",
-              new Import[] {
-                new Import("BASELINE", "java.awt.GridBagConstraints", true),
-                new Import("BASELINE", "javax.swing.SpringLayout", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.BASELINE",
+                "static javax.swing.SpringLayout.BASELINE",
               })
           .put(
               "INTERNAL_FRAME_LAST",
-              new Import[] {
-                new Import("INTERNAL_FRAME_LAST", "javax.swing.event.InternalFrameEvent", true),
+              new String[] {
+                "static javax.swing.event.InternalFrameEvent.INTERNAL_FRAME_LAST",
               })
           .put(
               "ItalicAction",
-              new Import[] {
-                new Import("ItalicAction", "javax.swing.text.StyledEditorKit", false),
+              new String[] {
+                "javax.swing.text.StyledEditorKit.ItalicAction",
               })
           .put(
               "SignatureValue",
-              new Import[] {
-                new Import("SignatureValue", "javax.xml.crypto.dsig.XMLSignature", false),
+              new String[] {
+                "javax.xml.crypto.dsig.XMLSignature.SignatureValue",
               })
           .put(
               "BasicCaret",
-              new Import[] {
-                new Import("BasicCaret", "javax.swing.plaf.basic.BasicTextUI", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicTextUI.BasicCaret",
               })
           .put(
               "firstInMonth",
-              new Import[] {
-                new Import("firstInMonth", "java.time.temporal.TemporalAdjusters", true),
+              new String[] {
+                "static java.time.temporal.TemporalAdjusters.firstInMonth",
               })
           .put(
               "INV_IDENT",
-              new Import[] {
-                new Import("INV_IDENT", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.INV_IDENT",
               })
           .put(
               "checkedSet",
-              new Import[] {
-                new Import("checkedSet", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.checkedSet",
               })
           .put(
               "ConcurrentHashMap",
-              new Import[] {
-                new Import("ConcurrentHashMap", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ConcurrentHashMap",
               })
           .put(
               "DISPOSE_ON_CLOSE",
-              new Import[] {
-                new Import("DISPOSE_ON_CLOSE", "javax.swing.WindowConstants", true),
+              new String[] {
+                "static javax.swing.WindowConstants.DISPOSE_ON_CLOSE",
               })
           .put(
               "SynthContext",
-              new Import[] {
-                new Import("SynthContext", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthContext",
               })
           .put(
               "DocumentParser",
-              new Import[] {
-                new Import("DocumentParser", "javax.swing.text.html.parser", false),
+              new String[] {
+                "javax.swing.text.html.parser.DocumentParser",
               })
           .put(
               "THREAD_MXBEAN_NAME",
-              new Import[] {
-                new Import("THREAD_MXBEAN_NAME", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.THREAD_MXBEAN_NAME",
               })
           .put(
               "XAException",
-              new Import[] {
-                new Import("XAException", "javax.transaction.xa", false),
+              new String[] {
+                "javax.transaction.xa.XAException",
               })
           .put(
               "UnknownHostException",
-              new Import[] {
-                new Import("UnknownHostException", "java.net", false),
-                new Import("UnknownHostException", "java.rmi", false),
+              new String[] {
+                "java.net.UnknownHostException", "java.rmi.UnknownHostException",
               })
           .put(
               "InvalidAttributeIdentifierException",
-              new Import[] {
-                new Import("InvalidAttributeIdentifierException", "javax.naming.directory", false),
+              new String[] {
+                "javax.naming.directory.InvalidAttributeIdentifierException",
               })
           .put(
               "getRowEnd",
-              new Import[] {
-                new Import("getRowEnd", "javax.swing.text.Utilities", true),
+              new String[] {
+                "static javax.swing.text.Utilities.getRowEnd",
               })
           .put(
               "dumpStack",
-              new Import[] {
-                new Import("dumpStack", "java.lang.Thread", true),
+              new String[] {
+                "static java.lang.Thread.dumpStack",
               })
           .put(
               "getBreakLocation",
-              new Import[] {
-                new Import("getBreakLocation", "javax.swing.text.Utilities", true),
+              new String[] {
+                "static javax.swing.text.Utilities.getBreakLocation",
               })
           .put(
               "MEETEI_MAYEK_EXTENSIONS",
-              new Import[] {
-                new Import("MEETEI_MAYEK_EXTENSIONS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MEETEI_MAYEK_EXTENSIONS",
               })
           .put(
               "MBeanServerInvocationHandler",
-              new Import[] {
-                new Import("MBeanServerInvocationHandler", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanServerInvocationHandler",
               })
           .put(
               "SearchResult",
-              new Import[] {
-                new Import("SearchResult", "javax.naming.directory", false),
+              new String[] {
+                "javax.naming.directory.SearchResult",
               })
           .put(
               "INTERNAL_FRAME_OPENED",
-              new Import[] {
-                new Import("INTERNAL_FRAME_OPENED", "javax.swing.event.InternalFrameEvent", true),
+              new String[] {
+                "static javax.swing.event.InternalFrameEvent.INTERNAL_FRAME_OPENED",
               })
           .put(
               "newWorkStealingPool",
-              new Import[] {
-                new Import("newWorkStealingPool", "java.util.concurrent.Executors", true),
+              new String[] {
+                "static java.util.concurrent.Executors.newWorkStealingPool",
               })
           .put(
               "XmlMixed",
-              new Import[] {
-                new Import("XmlMixed", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlMixed",
               })
           .put(
               "PlainView",
-              new Import[] {
-                new Import("PlainView", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.PlainView",
               })
           .put(
               "OPEN",
-              new Import[] {
-                new Import("OPEN", "java.awt.geom.Arc2D", true),
-                new Import("OPEN", "javax.sound.sampled.LineEvent.Type", true),
+              new String[] {
+                "static java.awt.geom.Arc2D.OPEN", "static javax.sound.sampled.LineEvent.Type.OPEN",
               })
           .put(
               "SeekableByteChannel",
-              new Import[] {
-                new Import("SeekableByteChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.SeekableByteChannel",
               })
           .put(
               "UShortSeqHolder",
-              new Import[] {
-                new Import("UShortSeqHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.UShortSeqHolder",
               })
           .put(
               "StrikeThrough",
-              new Import[] {
-                new Import("StrikeThrough", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.StrikeThrough",
               })
           .put(
               "plainTextFlavor",
-              new Import[] {
-                new Import("plainTextFlavor", "java.awt.datatransfer.DataFlavor", true),
+              new String[] {
+                "static java.awt.datatransfer.DataFlavor.plainTextFlavor",
               })
           .put(
               "MARCH",
-              new Import[] {
-                new Import("MARCH", "java.util.Calendar", true),
-                new Import("MARCH", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static java.util.Calendar.MARCH",
+                "static javax.xml.datatype.DatatypeConstants.MARCH",
               })
           .put(
               "MILLISECOND",
-              new Import[] {
-                new Import("MILLISECOND", "java.text.DateFormat.Field", true),
-                new Import("MILLISECOND", "java.util.Calendar", true),
+              new String[] {
+                "static java.text.DateFormat.Field.MILLISECOND",
+                "static java.util.Calendar.MILLISECOND",
               })
           .put(
               "SpinnerListModel",
-              new Import[] {
-                new Import("SpinnerListModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.SpinnerListModel",
               })
           .put(
               "PrintServiceAttributeSet",
-              new Import[] {
-                new Import("PrintServiceAttributeSet", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.PrintServiceAttributeSet",
               })
           .put(
               "Validator",
-              new Import[] {
-                new Import("Validator", "javax.xml.bind", false),
-                new Import("Validator", "javax.xml.validation", false),
+              new String[] {
+                "javax.xml.bind.Validator", "javax.xml.validation.Validator",
               })
           .put(
               "getSubject",
-              new Import[] {
-                new Import("getSubject", "javax.security.auth.Subject", true),
+              new String[] {
+                "static javax.security.auth.Subject.getSubject",
               })
           .put(
               "ROUND_HALF_UP",
-              new Import[] {
-                new Import("ROUND_HALF_UP", "java.math.BigDecimal", true),
+              new String[] {
+                "static java.math.BigDecimal.ROUND_HALF_UP",
               })
           .put(
               "DynEnumHelper",
-              new Import[] {
-                new Import("DynEnumHelper", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynEnumHelper",
               })
           .put(
               "ServantLocatorHelper",
-              new Import[] {
-                new Import("ServantLocatorHelper", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ServantLocatorHelper",
               })
           .put(
               "BooleanHolder",
-              new Import[] {
-                new Import("BooleanHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.BooleanHolder",
               })
           .put(
               "isNaN",
-              new Import[] {
-                new Import("isNaN", "java.lang.Double", true),
-                new Import("isNaN", "java.lang.Float", true),
+              new String[] {
+                "static java.lang.Double.isNaN", "static java.lang.Float.isNaN",
               })
           .put(
               "ReadPendingException",
-              new Import[] {
-                new Import("ReadPendingException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.ReadPendingException",
               })
           .put(
               "IdUniquenessPolicyOperations",
-              new Import[] {
-                new Import("IdUniquenessPolicyOperations", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.IdUniquenessPolicyOperations",
               })
           .put(
               "WritableRenderedImage",
-              new Import[] {
-                new Import("WritableRenderedImage", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.WritableRenderedImage",
               })
           .put(
               "CollationKey",
-              new Import[] {
-                new Import("CollationKey", "java.text", false),
+              new String[] {
+                "java.text.CollationKey",
               })
           .put(
               "DESERET",
-              new Import[] {
-                new Import("DESERET", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.DESERET",
               })
           .put(
               "inForkJoinPool",
-              new Import[] {
-                new Import("inForkJoinPool", "java.util.concurrent.ForkJoinTask", true),
+              new String[] {
+                "static java.util.concurrent.ForkJoinTask.inForkJoinPool",
               })
           .put(
               "ALT_DOWN_MASK",
-              new Import[] {
-                new Import("ALT_DOWN_MASK", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.event.InputEvent.ALT_DOWN_MASK",
               })
           .put(
               "ORIENTATION_PROPERTY",
-              new Import[] {
-                new Import("ORIENTATION_PROPERTY", "javax.swing.JSplitPane", true),
+              new String[] {
+                "static javax.swing.JSplitPane.ORIENTATION_PROPERTY",
               })
           .put(
               "XMLValidateContext",
-              new Import[] {
-                new Import("XMLValidateContext", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "javax.xml.crypto.dsig.XMLValidateContext",
               })
           .put(
               "getWriterFormatNames",
-              new Import[] {
-                new Import("getWriterFormatNames", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getWriterFormatNames",
               })
           .put(
               "sinh",
-              new Import[] {
-                new Import("sinh", "java.lang.Math", true),
-                new Import("sinh", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.sinh", "static java.lang.StrictMath.sinh",
               })
           .put(
               "JobAttributes",
-              new Import[] {
-                new Import("JobAttributes", "java.awt", false),
+              new String[] {
+                "java.awt.JobAttributes",
               })
           .put(
               "SaslClientFactory",
-              new Import[] {
-                new Import("SaslClientFactory", "javax.security.sasl", false),
+              new String[] {
+                "javax.security.sasl.SaslClientFactory",
               })
           .put(
               "InvalidSeq",
-              new Import[] {
-                new Import("InvalidSeq", "org.omg.CORBA.DynAnyPackage", false),
+              new String[] {
+                "org.omg.CORBA.DynAnyPackage.InvalidSeq",
               })
           .put(
               "BasicGraphicsUtils",
-              new Import[] {
-                new Import("BasicGraphicsUtils", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicGraphicsUtils",
               })
           .put(
               "USE_ALL_BEANINFO",
-              new Import[] {
-                new Import("USE_ALL_BEANINFO", "java.beans.Introspector", true),
+              new String[] {
+                "static java.beans.Introspector.USE_ALL_BEANINFO",
               })
           .put(
               "numberOfLeadingZeros",
-              new Import[] {
-                new Import("numberOfLeadingZeros", "java.lang.Integer", true),
-                new Import("numberOfLeadingZeros", "java.lang.Long", true),
+              new String[] {
+                "static java.lang.Integer.numberOfLeadingZeros",
+                "static java.lang.Long.numberOfLeadingZeros",
               })
           .put(
               "ReferralException",
-              new Import[] {
-                new Import("ReferralException", "javax.naming", false),
+              new String[] {
+                "javax.naming.ReferralException",
               })
           .put(
               "InsertBreakAction",
-              new Import[] {
-                new Import("InsertBreakAction", "javax.swing.text.DefaultEditorKit", false),
+              new String[] {
+                "javax.swing.text.DefaultEditorKit.InsertBreakAction",
               })
           .put(
               "_dk_Alias",
-              new Import[] {
-                new Import("_dk_Alias", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Alias",
               })
           .put(
               "BasicDesktopIconUI",
-              new Import[] {
-                new Import("BasicDesktopIconUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicDesktopIconUI",
               })
           .put(
               "getMenuItemCheckIcon",
-              new Import[] {
-                new Import("getMenuItemCheckIcon", "javax.swing.plaf.basic.BasicIconFactory", true),
-                new Import("getMenuItemCheckIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicIconFactory.getMenuItemCheckIcon",
+                "static javax.swing.plaf.metal.MetalIconFactory.getMenuItemCheckIcon",
               })
           .put(
               "FileAttributeView",
-              new Import[] {
-                new Import("FileAttributeView", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.FileAttributeView",
               })
           .put(
               "CANCEL_OPTION",
-              new Import[] {
-                new Import("CANCEL_OPTION", "javax.swing.JFileChooser", true),
-                new Import("CANCEL_OPTION", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JFileChooser.CANCEL_OPTION",
+                "static javax.swing.JOptionPane.CANCEL_OPTION",
               })
           .put(
               "scrollbar",
-              new Import[] {
-                new Import("scrollbar", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.scrollbar",
               })
           .put(
               "Action",
-              new Import[] {
-                new Import("Action", "java.awt.Desktop", false),
-                new Import("Action", "javax.swing", false),
-                new Import("Action", "javax.xml.ws", false),
+              new String[] {
+                "java.awt.Desktop.Action", "javax.swing.Action", "javax.xml.ws.Action",
               })
           .put(
               "ENV_PERSONAL",
-              new Import[] {
-                new Import("ENV_PERSONAL", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ENV_PERSONAL",
               })
           .put(
               "AdapterManagerIdHelper",
-              new Import[] {
-                new Import("AdapterManagerIdHelper", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.AdapterManagerIdHelper",
               })
           .put(
               "PAINT_EVENT_MASK",
-              new Import[] {
-                new Import("PAINT_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.PAINT_EVENT_MASK",
               })
           .put(
               "DefaultDesktopManager",
-              new Import[] {
-                new Import("DefaultDesktopManager", "javax.swing", false),
+              new String[] {
+                "javax.swing.DefaultDesktopManager",
               })
           .put(
               "MenuListener",
-              new Import[] {
-                new Import("MenuListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.MenuListener",
               })
           .put(
               "MidiEvent",
-              new Import[] {
-                new Import("MidiEvent", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.MidiEvent",
               })
           .put(
               "Channels",
-              new Import[] {
-                new Import("Channels", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.Channels",
               })
           .put(
               "SIGNATURE_VERSION",
-              new Import[] {
-                new Import("SIGNATURE_VERSION", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.SIGNATURE_VERSION",
               })
           .put(
               "NODE_DELETED",
-              new Import[] {
-                new Import("NODE_DELETED", "org.w3c.dom.UserDataHandler", true),
+              new String[] {
+                "static org.w3c.dom.UserDataHandler.NODE_DELETED",
               })
           .put(
               "Proxy",
-              new Import[] {
-                new Import("Proxy", "java.lang.reflect", false),
-                new Import("Proxy", "java.net", false),
+              new String[] {
+                "java.lang.reflect.Proxy", "java.net.Proxy",
               })
           .put(
               "selectionEndAction",
-              new Import[] {
-                new Import("selectionEndAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectionEndAction",
               })
           .put(
               "TEXT_HTML_UTF_16LE",
-              new Import[] {
-                new Import("TEXT_HTML_UTF_16LE", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_HTML_UTF_16LE", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_HTML_UTF_16LE", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.TEXT_HTML_UTF_16LE",
+                "static javax.print.DocFlavor.INPUT_STREAM.TEXT_HTML_UTF_16LE",
+                "static javax.print.DocFlavor.URL.TEXT_HTML_UTF_16LE",
               })
           .put(
               "TC_ENDBLOCKDATA",
-              new Import[] {
-                new Import("TC_ENDBLOCKDATA", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_ENDBLOCKDATA",
               })
           .put(
               "SPACE_SEPARATOR",
-              new Import[] {
-                new Import("SPACE_SEPARATOR", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.SPACE_SEPARATOR",
               })
           .put(
               "DHKey",
-              new Import[] {
-                new Import("DHKey", "javax.crypto.interfaces", false),
+              new String[] {
+                "javax.crypto.interfaces.DHKey",
               })
           .put(
               "MANUAL",
-              new Import[] {
-                new Import("MANUAL", "javax.print.attribute.standard.MediaTray", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaTray.MANUAL",
               })
           .put(
               "icSigHsvData",
-              new Import[] {
-                new Import("icSigHsvData", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigHsvData",
               })
           .put(
               "setDefaultCommandMap",
-              new Import[] {
-                new Import("setDefaultCommandMap", "javax.activation.CommandMap", true),
+              new String[] {
+                "static javax.activation.CommandMap.setDefaultCommandMap",
               })
           .put(
               "AbstractDoubleSpliterator",
-              new Import[] {
-                new Import("AbstractDoubleSpliterator", "java.util.Spliterators", false),
+              new String[] {
+                "java.util.Spliterators.AbstractDoubleSpliterator",
               })
           .put(
               "Preferences",
-              new Import[] {
-                new Import("Preferences", "java.util.prefs", false),
+              new String[] {
+                "java.util.prefs.Preferences",
               })
           .put(
               "addPropertyChangeListener",
-              new Import[] {
-                new Import("addPropertyChangeListener", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.addPropertyChangeListener",
               })
           .put(
               "DATATYPE_DOUBLE",
-              new Import[] {
-                new Import("DATATYPE_DOUBLE", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.DATATYPE_DOUBLE",
               })
           .put(
               "BASIC_LATIN",
-              new Import[] {
-                new Import("BASIC_LATIN", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.BASIC_LATIN",
               })
           .put(
               "getAncestorOfClass",
-              new Import[] {
-                new Import("getAncestorOfClass", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.getAncestorOfClass",
               })
           .put(
               "HTTPBinding",
-              new Import[] {
-                new Import("HTTPBinding", "javax.xml.ws.http", false),
+              new String[] {
+                "javax.xml.ws.http.HTTPBinding",
               })
           .put(
               "ServantRetentionPolicyValue",
-              new Import[] {
-                new Import("ServantRetentionPolicyValue", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ServantRetentionPolicyValue",
               })
           .put(
               "PutField",
-              new Import[] {
-                new Import("PutField", "java.io.ObjectOutputStream", false),
+              new String[] {
+                "java.io.ObjectOutputStream.PutField",
               })
           .put(
               "MemoryType",
-              new Import[] {
-                new Import("MemoryType", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.MemoryType",
               })
           .put(
               "BORDER_BOTTOM",
-              new Import[] {
-                new Import("BORDER_BOTTOM", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_BOTTOM",
               })
           .put(
               "SHORT_STANDALONE",
-              new Import[] {
-                new Import("SHORT_STANDALONE", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.SHORT_STANDALONE",
               })
           .put(
               "ConfirmationCallback",
-              new Import[] {
-                new Import("ConfirmationCallback", "javax.security.auth.callback", false),
+              new String[] {
+                "javax.security.auth.callback.ConfirmationCallback",
               })
           .put(
               "SimpleScriptContext",
-              new Import[] {
-                new Import("SimpleScriptContext", "javax.script", false),
+              new String[] {
+                "javax.script.SimpleScriptContext",
               })
           .put(
               "LocaleNameProvider",
-              new Import[] {
-                new Import("LocaleNameProvider", "java.util.spi", false),
+              new String[] {
+                "java.util.spi.LocaleNameProvider",
               })
           .put(
               "ALIGN_BAR",
-              new Import[] {
-                new Import("ALIGN_BAR", "javax.swing.text.TabStop", true),
+              new String[] {
+                "static javax.swing.text.TabStop.ALIGN_BAR",
               })
           .put(
               "SecurityException",
-              new Import[] {
-                new Import("SecurityException", "java.lang", false),
+              new String[] {
+                "java.lang.SecurityException",
               })
           .put(
               "parse",
-              new Import[] {
-                new Import("parse", "java.net.HttpCookie", true),
-                new Import("parse", "java.time.Duration", true),
-                new Import("parse", "java.time.Instant", true),
-                new Import("parse", "java.time.LocalDate", true),
-                new Import("parse", "java.time.LocalDateTime", true),
-                new Import("parse", "java.time.LocalTime", true),
-                new Import("parse", "java.time.MonthDay", true),
-                new Import("parse", "java.time.OffsetDateTime", true),
-                new Import("parse", "java.time.OffsetTime", true),
-                new Import("parse", "java.time.Period", true),
-                new Import("parse", "java.time.Year", true),
-                new Import("parse", "java.time.YearMonth", true),
-                new Import("parse", "java.time.ZonedDateTime", true),
-                new Import("parse", "java.util.Date", true),
-                new Import("parse", "java.util.Locale.LanguageRange", true),
-                new Import("parse", "java.util.logging.Level", true),
+              new String[] {
+                "static java.net.HttpCookie.parse",
+                "static java.time.Duration.parse",
+                "static java.time.Instant.parse",
+                "static java.time.LocalDate.parse",
+                "static java.time.LocalDateTime.parse",
+                "static java.time.LocalTime.parse",
+                "static java.time.MonthDay.parse",
+                "static java.time.OffsetDateTime.parse",
+                "static java.time.OffsetTime.parse",
+                "static java.time.Period.parse",
+                "static java.time.Year.parse",
+                "static java.time.YearMonth.parse",
+                "static java.time.ZonedDateTime.parse",
+                "static java.util.Date.parse",
+                "static java.util.Locale.LanguageRange.parse",
+                "static java.util.logging.Level.parse",
               })
           .put(
               "IllegalComponentStateException",
-              new Import[] {
-                new Import("IllegalComponentStateException", "java.awt", false),
+              new String[] {
+                "java.awt.IllegalComponentStateException",
               })
           .put(
               "UShortSeqHelper",
-              new Import[] {
-                new Import("UShortSeqHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.UShortSeqHelper",
               })
           .put(
               "VK_SEMICOLON",
-              new Import[] {
-                new Import("VK_SEMICOLON", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_SEMICOLON",
               })
           .put(
               "SHA512_256",
-              new Import[] {
-                new Import("SHA512_256", "java.security.spec.MGF1ParameterSpec", true),
+              new String[] {
+                "static java.security.spec.MGF1ParameterSpec.SHA512_256",
               })
           .put(
               "OUTPUT_AREA_FULL",
-              new Import[] {
-                new Import(
-                    "OUTPUT_AREA_FULL", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.OUTPUT_AREA_FULL",
               })
           .put(
               "SampleModel",
-              new Import[] {
-                new Import("SampleModel", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.SampleModel",
               })
           .put(
               "isDefined",
-              new Import[] {
-                new Import("isDefined", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isDefined",
               })
           .put(
               "FilteredImageSource",
-              new Import[] {
-                new Import("FilteredImageSource", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.FilteredImageSource",
               })
           .put(
               "StreamDescriptionProperty",
-              new Import[] {
-                new Import("StreamDescriptionProperty", "javax.swing.text.Document", true),
+              new String[] {
+                "static javax.swing.text.Document.StreamDescriptionProperty",
               })
           .put(
               "SAXParserFactory",
-              new Import[] {
-                new Import("SAXParserFactory", "javax.xml.parsers", false),
+              new String[] {
+                "javax.xml.parsers.SAXParserFactory",
               })
           .put(
               "AclNotFoundException",
-              new Import[] {
-                new Import("AclNotFoundException", "java.security.acl", false),
+              new String[] {
+                "java.security.acl.AclNotFoundException",
               })
           .put(
               "SynthSpinnerUI",
-              new Import[] {
-                new Import("SynthSpinnerUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthSpinnerUI",
               })
           .put(
               "IIOByteBuffer",
-              new Import[] {
-                new Import("IIOByteBuffer", "javax.imageio.stream", false),
+              new String[] {
+                "javax.imageio.stream.IIOByteBuffer",
               })
           .put(
               "HTTP_RESET",
-              new Import[] {
-                new Import("HTTP_RESET", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_RESET",
               })
           .put(
               "inactive",
-              new Import[] {
-                new Import("inactive", "java.rmi.activation.Activatable", true),
+              new String[] {
+                "static java.rmi.activation.Activatable.inactive",
               })
           .put(
               "ComponentInputMapUIResource",
-              new Import[] {
-                new Import("ComponentInputMapUIResource", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.ComponentInputMapUIResource",
               })
           .put(
               "OutputDeviceAssigned",
-              new Import[] {
-                new Import("OutputDeviceAssigned", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.OutputDeviceAssigned",
               })
           .put(
               "MacSpi",
-              new Import[] {
-                new Import("MacSpi", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.MacSpi",
               })
           .put(
               "getEncoder",
-              new Import[] {
-                new Import("getEncoder", "java.util.Base64", true),
+              new String[] {
+                "static java.util.Base64.getEncoder",
               })
           .put(
               "icSigColorantTableTag",
-              new Import[] {
-                new Import("icSigColorantTableTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigColorantTableTag",
               })
           .put(
               "ERROR_OPTION",
-              new Import[] {
-                new Import("ERROR_OPTION", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.ERROR_OPTION",
               })
           .put(
               "SIMPLIFIED_CHINESE",
-              new Import[] {
-                new Import("SIMPLIFIED_CHINESE", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.SIMPLIFIED_CHINESE",
               })
           .put(
               "InputEvent",
-              new Import[] {
-                new Import("InputEvent", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.InputEvent",
               })
           .put(
               "join",
-              new Import[] {
-                new Import("join", "java.lang.String", true),
+              new String[] {
+                "static java.lang.String.join",
               })
           .put(
               "NONUPDATABLE_VIEW_SYNC",
-              new Import[] {
-                new Import("NONUPDATABLE_VIEW_SYNC", "javax.sql.rowset.spi.SyncProvider", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncProvider.NONUPDATABLE_VIEW_SYNC",
               })
           .put(
               "SerializablePermission",
-              new Import[] {
-                new Import("SerializablePermission", "java.io", false),
+              new String[] {
+                "java.io.SerializablePermission",
               })
           .put(
               "FETCH_UNKNOWN",
-              new Import[] {
-                new Import("FETCH_UNKNOWN", "java.sql.ResultSet", true),
+              new String[] {
+                "static java.sql.ResultSet.FETCH_UNKNOWN",
               })
           .put(
               "RemoteServer",
-              new Import[] {
-                new Import("RemoteServer", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.RemoteServer",
               })
           .put(
               "getMenuBackground",
-              new Import[] {
-                new Import("getMenuBackground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getMenuBackground",
               })
           .put(
               "BATAK",
-              new Import[] {
-                new Import("BATAK", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.BATAK",
               })
           .put(
               "Selector",
-              new Import[] {
-                new Import("Selector", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.Selector",
               })
           .put(
               "AbortPolicy",
-              new Import[] {
-                new Import("AbortPolicy", "java.util.concurrent.ThreadPoolExecutor", false),
+              new String[] {
+                "java.util.concurrent.ThreadPoolExecutor.AbortPolicy",
               })
           .put(
               "_tk_ulonglong",
-              new Import[] {
-                new Import("_tk_ulonglong", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_ulonglong",
               })
           .put(
               "IS_CLOSED_PROPERTY",
-              new Import[] {
-                new Import("IS_CLOSED_PROPERTY", "javax.swing.JInternalFrame", true),
+              new String[] {
+                "static javax.swing.JInternalFrame.IS_CLOSED_PROPERTY",
               })
           .put(
               "DefaultFocusTraversalPolicy",
-              new Import[] {
-                new Import("DefaultFocusTraversalPolicy", "java.awt", false),
+              new String[] {
+                "java.awt.DefaultFocusTraversalPolicy",
               })
           .put(
               "doubleToLongBits",
-              new Import[] {
-                new Import("doubleToLongBits", "java.lang.Double", true),
+              new String[] {
+                "static java.lang.Double.doubleToLongBits",
               })
           .put(
               "compareUnsigned",
-              new Import[] {
-                new Import("compareUnsigned", "java.lang.Integer", true),
-                new Import("compareUnsigned", "java.lang.Long", true),
+              new String[] {
+                "static java.lang.Integer.compareUnsigned", "static java.lang.Long.compareUnsigned",
               })
           .put(
               "getPlatformManagementInterfaces",
-              new Import[] {
-                new Import(
-                    "getPlatformManagementInterfaces",
-                    "java.lang.management.ManagementFactory",
-                    true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.getPlatformManagementInterfaces",
               })
           .put(
               "BORDER",
-              new Import[] {
-                new Import("BORDER", "javax.swing.text.html.CSS.Attribute", true),
-                new Import("BORDER", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER",
+                "static javax.swing.text.html.HTML.Attribute.BORDER",
               })
           .put(
               "VALUE_ANTIALIAS_ON",
-              new Import[] {
-                new Import("VALUE_ANTIALIAS_ON", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_ANTIALIAS_ON",
               })
           .put(
               "HTTP_CREATED",
-              new Import[] {
-                new Import("HTTP_CREATED", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_CREATED",
               })
           .put(
               "TAG_GDEF",
-              new Import[] {
-                new Import("TAG_GDEF", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_GDEF",
               })
           .put(
               "StampedLock",
-              new Import[] {
-                new Import("StampedLock", "java.util.concurrent.locks", false),
+              new String[] {
+                "java.util.concurrent.locks.StampedLock",
               })
           .put(
               "Inflater",
-              new Import[] {
-                new Import("Inflater", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.Inflater",
               })
           .put(
               "BoxedValueHelper",
-              new Import[] {
-                new Import("BoxedValueHelper", "org.omg.CORBA.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.BoxedValueHelper",
               })
           .put(
               "COLUMN_WIDTH_PROPERTY",
-              new Import[] {
-                new Import("COLUMN_WIDTH_PROPERTY", "javax.swing.table.TableColumn", true),
+              new String[] {
+                "static javax.swing.table.TableColumn.COLUMN_WIDTH_PROPERTY",
               })
           .put(
               "DropTargetDropEvent",
-              new Import[] {
-                new Import("DropTargetDropEvent", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DropTargetDropEvent",
               })
           .put(
               "LIST_DIRECTORY",
-              new Import[] {
-                new Import("LIST_DIRECTORY", "java.nio.file.attribute.AclEntryPermission", true),
+              new String[] {
+                "static java.nio.file.attribute.AclEntryPermission.LIST_DIRECTORY",
               })
           .put(
               "getInteriorRectangle",
-              new Import[] {
-                new Import("getInteriorRectangle", "javax.swing.border.AbstractBorder", true),
+              new String[] {
+                "static javax.swing.border.AbstractBorder.getInteriorRectangle",
               })
           .put(
               "WritePendingException",
-              new Import[] {
-                new Import("WritePendingException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.WritePendingException",
               })
           .put(
               "procedureColumnOut",
-              new Import[] {
-                new Import("procedureColumnOut", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.procedureColumnOut",
               })
           .put(
               "KeyManagementException",
-              new Import[] {
-                new Import("KeyManagementException", "java.security", false),
+              new String[] {
+                "java.security.KeyManagementException",
               })
           .put(
               "ElementScanner8",
-              new Import[] {
-                new Import("ElementScanner8", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.ElementScanner8",
               })
           .put(
               "ElementScanner7",
-              new Import[] {
-                new Import("ElementScanner7", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.ElementScanner7",
               })
           .put(
               "ALIGN",
-              new Import[] {
-                new Import("ALIGN", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.ALIGN",
               })
           .put(
               "createRaster",
-              new Import[] {
-                new Import("createRaster", "java.awt.image.Raster", true),
+              new String[] {
+                "static java.awt.image.Raster.createRaster",
               })
           .put(
               "ElementScanner6",
-              new Import[] {
-                new Import("ElementScanner6", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.ElementScanner6",
               })
           .put(
               "BindingType",
-              new Import[] {
-                new Import("BindingType", "javax.xml.ws", false),
-                new Import("BindingType", "org.omg.CosNaming", false),
+              new String[] {
+                "javax.xml.ws.BindingType", "org.omg.CosNaming.BindingType",
               })
           .put(
               "TEXT_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("TEXT_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.TEXT_CHANGED_PROPERTY",
               })
           .put(
               "BACKGROUND_POSITION",
-              new Import[] {
-                new Import("BACKGROUND_POSITION", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BACKGROUND_POSITION",
               })
           .put(
               "IDREF",
-              new Import[] {
-                new Import("IDREF", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.IDREF",
               })
           .put(
               "BindingTypeHolder",
-              new Import[] {
-                new Import("BindingTypeHolder", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.BindingTypeHolder",
               })
           .put(
               "VIEWPORT",
-              new Import[] {
-                new Import("VIEWPORT", "javax.accessibility.AccessibleRole", true),
-                new Import("VIEWPORT", "javax.swing.ScrollPaneConstants", true),
-                new Import("VIEWPORT", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.VIEWPORT",
+                "static javax.swing.ScrollPaneConstants.VIEWPORT",
+                "static javax.swing.plaf.synth.Region.VIEWPORT",
               })
           .put(
               "CryptoPrimitive",
-              new Import[] {
-                new Import("CryptoPrimitive", "java.security", false),
+              new String[] {
+                "java.security.CryptoPrimitive",
               })
           .put(
               "DatagramChannel",
-              new Import[] {
-                new Import("DatagramChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.DatagramChannel",
               })
           .put(
               "Deque",
-              new Import[] {
-                new Import("Deque", "java.util", false),
+              new String[] {
+                "java.util.Deque",
               })
           .put(
               "Annotation",
-              new Import[] {
-                new Import("Annotation", "java.lang.annotation", false),
-                new Import("Annotation", "java.text", false),
+              new String[] {
+                "java.lang.annotation.Annotation", "java.text.Annotation",
               })
           .put(
               "NamingSecurityException",
-              new Import[] {
-                new Import("NamingSecurityException", "javax.naming", false),
+              new String[] {
+                "javax.naming.NamingSecurityException",
               })
           .put(
               "Panel",
-              new Import[] {
-                new Import("Panel", "java.awt", false),
+              new String[] {
+                "java.awt.Panel",
               })
           .put(
               "InputMethodRequests",
-              new Import[] {
-                new Import("InputMethodRequests", "java.awt.im", false),
+              new String[] {
+                "java.awt.im.InputMethodRequests",
               })
           .put(
               "ThreadFactory",
-              new Import[] {
-                new Import("ThreadFactory", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ThreadFactory",
               })
           .put(
               "LETTER",
-              new Import[] {
-                new Import("LETTER", "java.awt.PageAttributes.MediaType", true),
-                new Import("LETTER", "javax.print.attribute.standard.MediaSize.NA", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.LETTER",
+                "static javax.print.attribute.standard.MediaSize.NA.LETTER",
               })
           .put(
               "XPathType",
-              new Import[] {
-                new Import("XPathType", "javax.xml.crypto.dsig.spec", false),
+              new String[] {
+                "javax.xml.crypto.dsig.spec.XPathType",
               })
           .put(
               "ActionEvent",
-              new Import[] {
-                new Import("ActionEvent", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.ActionEvent",
               })
           .put(
               "ofEpochMilli",
-              new Import[] {
-                new Import("ofEpochMilli", "java.time.Instant", true),
+              new String[] {
+                "static java.time.Instant.ofEpochMilli",
               })
           .put(
               "OBJECT_SCOPE",
-              new Import[] {
-                new Import("OBJECT_SCOPE", "javax.naming.directory.SearchControls", true),
-                new Import("OBJECT_SCOPE", "javax.naming.event.EventContext", true),
+              new String[] {
+                "static javax.naming.directory.SearchControls.OBJECT_SCOPE",
+                "static javax.naming.event.EventContext.OBJECT_SCOPE",
               })
           .put(
               "VALUE",
-              new Import[] {
-                new Import("VALUE", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.VALUE",
               })
           .put(
               "getAccessibleAt",
-              new Import[] {
-                new Import("getAccessibleAt", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.getAccessibleAt",
               })
           .put(
               "AccessException",
-              new Import[] {
-                new Import("AccessException", "java.rmi", false),
+              new String[] {
+                "java.rmi.AccessException",
               })
           .put(
               "DiscardPolicy",
-              new Import[] {
-                new Import("DiscardPolicy", "java.util.concurrent.ThreadPoolExecutor", false),
+              new String[] {
+                "java.util.concurrent.ThreadPoolExecutor.DiscardPolicy",
               })
           .put(
               "JAXB_CONTEXT_FACTORY",
-              new Import[] {
-                new Import("JAXB_CONTEXT_FACTORY", "javax.xml.bind.JAXBContext", true),
+              new String[] {
+                "static javax.xml.bind.JAXBContext.JAXB_CONTEXT_FACTORY",
               })
           .put(
               "LdapReferralException",
-              new Import[] {
-                new Import("LdapReferralException", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.LdapReferralException",
               })
           .put(
               "DOMStructure",
-              new Import[] {
-                new Import("DOMStructure", "javax.xml.crypto.dom", false),
+              new String[] {
+                "javax.xml.crypto.dom.DOMStructure",
               })
           .put(
               "Lookup",
-              new Import[] {
-                new Import("Lookup", "java.lang.invoke.MethodHandles", false),
+              new String[] {
+                "java.lang.invoke.MethodHandles.Lookup",
               })
           .put(
               "MINUTE",
-              new Import[] {
-                new Import("MINUTE", "java.text.DateFormat.Field", true),
-                new Import("MINUTE", "java.util.Calendar", true),
+              new String[] {
+                "static java.text.DateFormat.Field.MINUTE", "static java.util.Calendar.MINUTE",
               })
           .put(
               "VK_NONCONVERT",
-              new Import[] {
-                new Import("VK_NONCONVERT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_NONCONVERT",
               })
           .put(
               "BLIT_SCROLL_MODE",
-              new Import[] {
-                new Import("BLIT_SCROLL_MODE", "javax.swing.JViewport", true),
+              new String[] {
+                "static javax.swing.JViewport.BLIT_SCROLL_MODE",
               })
           .put(
               "BufferUnderflowException",
-              new Import[] {
-                new Import("BufferUnderflowException", "java.nio", false),
+              new String[] {
+                "java.nio.BufferUnderflowException",
               })
           .put(
               "EXTSIZ",
-              new Import[] {
-                new Import("EXTSIZ", "java.util.jar.JarEntry", true),
-                new Import("EXTSIZ", "java.util.jar.JarFile", true),
-                new Import("EXTSIZ", "java.util.jar.JarInputStream", true),
-                new Import("EXTSIZ", "java.util.jar.JarOutputStream", true),
-                new Import("EXTSIZ", "java.util.zip.ZipEntry", true),
-                new Import("EXTSIZ", "java.util.zip.ZipFile", true),
-                new Import("EXTSIZ", "java.util.zip.ZipInputStream", true),
-                new Import("EXTSIZ", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.EXTSIZ",
+                "static java.util.jar.JarFile.EXTSIZ",
+                "static java.util.jar.JarInputStream.EXTSIZ",
+                "static java.util.jar.JarOutputStream.EXTSIZ",
+                "static java.util.zip.ZipEntry.EXTSIZ",
+                "static java.util.zip.ZipFile.EXTSIZ",
+                "static java.util.zip.ZipInputStream.EXTSIZ",
+                "static java.util.zip.ZipOutputStream.EXTSIZ",
               })
           .put(
               "LOCHDR",
-              new Import[] {
-                new Import("LOCHDR", "java.util.jar.JarEntry", true),
-                new Import("LOCHDR", "java.util.jar.JarFile", true),
-                new Import("LOCHDR", "java.util.jar.JarInputStream", true),
-                new Import("LOCHDR", "java.util.jar.JarOutputStream", true),
-                new Import("LOCHDR", "java.util.zip.ZipEntry", true),
-                new Import("LOCHDR", "java.util.zip.ZipFile", true),
-                new Import("LOCHDR", "java.util.zip.ZipInputStream", true),
-                new Import("LOCHDR", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.LOCHDR",
+                "static java.util.jar.JarFile.LOCHDR",
+                "static java.util.jar.JarInputStream.LOCHDR",
+                "static java.util.jar.JarOutputStream.LOCHDR",
+                "static java.util.zip.ZipEntry.LOCHDR",
+                "static java.util.zip.ZipFile.LOCHDR",
+                "static java.util.zip.ZipInputStream.LOCHDR",
+                "static java.util.zip.ZipOutputStream.LOCHDR",
               })
           .put(
               "Tool",
-              new Import[] {
-                new Import("Tool", "javax.tools", false),
+              new String[] {
+                "javax.tools.Tool",
               })
           .put(
               "JoinFractureDirection",
-              new Import[] {
-                new Import(
-                    "JoinFractureDirection",
-                    "javax.swing.text.DefaultStyledDocument.ElementSpec",
-                    true),
+              new String[] {
+                "static javax.swing.text.DefaultStyledDocument.ElementSpec.JoinFractureDirection",
               })
           .put(
               "Receiver",
-              new Import[] {
-                new Import("Receiver", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.Receiver",
               })
           .put(
               "icSigPreview1Tag",
-              new Import[] {
-                new Import("icSigPreview1Tag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigPreview1Tag",
               })
           .put(
               "beginWordAction",
-              new Import[] {
-                new Import("beginWordAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.beginWordAction",
               })
           .put(
               "icSigHlsData",
-              new Import[] {
-                new Import("icSigHlsData", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigHlsData",
               })
           .put(
               "FONT_WEIGHT",
-              new Import[] {
-                new Import("FONT_WEIGHT", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.FONT_WEIGHT",
               })
           .put(
               "EntityResolver",
-              new Import[] {
-                new Import("EntityResolver", "org.xml.sax", false),
+              new String[] {
+                "org.xml.sax.EntityResolver",
               })
           .put(
               "OBJECT",
-              new Import[] {
-                new Import("OBJECT", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.OBJECT",
               })
           .put(
               "Double",
-              new Import[] {
-                new Import("Double", "java.awt.geom.Arc2D", false),
-                new Import("Double", "java.awt.geom.CubicCurve2D", false),
-                new Import("Double", "java.awt.geom.Ellipse2D", false),
-                new Import("Double", "java.awt.geom.Line2D", false),
-                new Import("Double", "java.awt.geom.Path2D", false),
-                new Import("Double", "java.awt.geom.Point2D", false),
-                new Import("Double", "java.awt.geom.QuadCurve2D", false),
-                new Import("Double", "java.awt.geom.Rectangle2D", false),
-                new Import("Double", "java.awt.geom.RoundRectangle2D", false),
-                new Import("Double", "java.lang", false),
+              new String[] {
+                "java.awt.geom.Arc2D.Double",
+                "java.awt.geom.CubicCurve2D.Double",
+                "java.awt.geom.Ellipse2D.Double",
+                "java.awt.geom.Line2D.Double",
+                "java.awt.geom.Path2D.Double",
+                "java.awt.geom.Point2D.Double",
+                "java.awt.geom.QuadCurve2D.Double",
+                "java.awt.geom.Rectangle2D.Double",
+                "java.awt.geom.RoundRectangle2D.Double",
+                "java.lang.Double",
               })
           .put(
               "EXTSIG",
-              new Import[] {
-                new Import("EXTSIG", "java.util.jar.JarEntry", true),
-                new Import("EXTSIG", "java.util.jar.JarFile", true),
-                new Import("EXTSIG", "java.util.jar.JarInputStream", true),
-                new Import("EXTSIG", "java.util.jar.JarOutputStream", true),
-                new Import("EXTSIG", "java.util.zip.ZipEntry", true),
-                new Import("EXTSIG", "java.util.zip.ZipFile", true),
-                new Import("EXTSIG", "java.util.zip.ZipInputStream", true),
-                new Import("EXTSIG", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.EXTSIG",
+                "static java.util.jar.JarFile.EXTSIG",
+                "static java.util.jar.JarInputStream.EXTSIG",
+                "static java.util.jar.JarOutputStream.EXTSIG",
+                "static java.util.zip.ZipEntry.EXTSIG",
+                "static java.util.zip.ZipFile.EXTSIG",
+                "static java.util.zip.ZipInputStream.EXTSIG",
+                "static java.util.zip.ZipOutputStream.EXTSIG",
               })
           .put(
               "CredentialNotFoundException",
-              new Import[] {
-                new Import("CredentialNotFoundException", "javax.security.auth.login", false),
+              new String[] {
+                "javax.security.auth.login.CredentialNotFoundException",
               })
           .put(
               "UTC_TIME",
-              new Import[] {
-                new Import("UTC_TIME", "java.util.SimpleTimeZone", true),
+              new String[] {
+                "static java.util.SimpleTimeZone.UTC_TIME",
               })
           .put(
               "getURLContext",
-              new Import[] {
-                new Import("getURLContext", "javax.naming.spi.NamingManager", true),
+              new String[] {
+                "static javax.naming.spi.NamingManager.getURLContext",
               })
           .put(
               "setIcon",
-              new Import[] {
-                new Import("setIcon", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setIcon",
               })
           .put(
               "SC_SERIALIZABLE",
-              new Import[] {
-                new Import("SC_SERIALIZABLE", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.SC_SERIALIZABLE",
               })
           .put(
               "DEFAULT_CLASS_LOADER_NAME",
-              new Import[] {
-                new Import(
-                    "DEFAULT_CLASS_LOADER_NAME",
-                    "javax.management.remote.JMXConnectorServerFactory",
-                    true),
+              new String[] {
+                "static"
+                    + " javax.management.remote.JMXConnectorServerFactory.DEFAULT_CLASS_LOADER_NAME",
               })
           .put(
               "forwardAction",
-              new Import[] {
-                new Import("forwardAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.forwardAction",
               })
           .put(
               "GSSCredential",
-              new Import[] {
-                new Import("GSSCredential", "org.ietf.jgss", false),
+              new String[] {
+                "org.ietf.jgss.GSSCredential",
               })
           .put(
               "WINDOW_LAST",
-              new Import[] {
-                new Import("WINDOW_LAST", "java.awt.event.WindowEvent", true),
+              new String[] {
+                "static java.awt.event.WindowEvent.WINDOW_LAST",
               })
           .put(
               "KeyStroke",
-              new Import[] {
-                new Import("KeyStroke", "javax.swing", false),
+              new String[] {
+                "javax.swing.KeyStroke",
               })
           .put(
               "setInitialContextFactoryBuilder",
-              new Import[] {
-                new Import(
-                    "setInitialContextFactoryBuilder", "javax.naming.spi.NamingManager", true),
+              new String[] {
+                "static javax.naming.spi.NamingManager.setInitialContextFactoryBuilder",
               })
           .put(
               "setLogStream",
-              new Import[] {
-                new Import("setLogStream", "java.sql.DriverManager", true),
-                new Import("setLogStream", "javax.swing.DebugGraphics", true),
+              new String[] {
+                "static java.sql.DriverManager.setLogStream",
+                "static javax.swing.DebugGraphics.setLogStream",
               })
           .put(
               "ofHoursMinutesSeconds",
-              new Import[] {
-                new Import("ofHoursMinutesSeconds", "java.time.ZoneOffset", true),
+              new String[] {
+                "static java.time.ZoneOffset.ofHoursMinutesSeconds",
               })
           .put(
               "Dictionary",
-              new Import[] {
-                new Import("Dictionary", "java.util", false),
+              new String[] {
+                "java.util.Dictionary",
               })
           .put(
               "DragGestureEvent",
-              new Import[] {
-                new Import("DragGestureEvent", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DragGestureEvent",
               })
           .put(
               "LineListener",
-              new Import[] {
-                new Import("LineListener", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.LineListener",
               })
           .put(
               "LineUnavailableException",
-              new Import[] {
-                new Import("LineUnavailableException", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.LineUnavailableException",
               })
           .put(
               "PrinterException",
-              new Import[] {
-                new Import("PrinterException", "java.awt.print", false),
+              new String[] {
+                "java.awt.print.PrinterException",
               })
           .put(
               "LastOwnerException",
-              new Import[] {
-                new Import("LastOwnerException", "java.security.acl", false),
+              new String[] {
+                "java.security.acl.LastOwnerException",
               })
           .put(
               "getLocalBounds",
-              new Import[] {
-                new Import("getLocalBounds", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.getLocalBounds",
               })
           .put(
               "InlineView",
-              new Import[] {
-                new Import("InlineView", "javax.swing.text.html", false),
+              new String[] {
+                "javax.swing.text.html.InlineView",
               })
           .put(
               "BeanContextSupport",
-              new Import[] {
-                new Import("BeanContextSupport", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextSupport",
               })
           .put(
               "WindowConstants",
-              new Import[] {
-                new Import("WindowConstants", "javax.swing", false),
+              new String[] {
+                "javax.swing.WindowConstants",
               })
           .put(
               "ThreadInfo",
-              new Import[] {
-                new Import("ThreadInfo", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.ThreadInfo",
               })
           .put(
               "NetworkChannel",
-              new Import[] {
-                new Import("NetworkChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.NetworkChannel",
               })
           .put(
               "DPCM",
-              new Import[] {
-                new Import("DPCM", "javax.print.attribute.ResolutionSyntax", true),
+              new String[] {
+                "static javax.print.attribute.ResolutionSyntax.DPCM",
               })
           .put(
               "getLoopbackAddress",
-              new Import[] {
-                new Import("getLoopbackAddress", "java.net.InetAddress", true),
+              new String[] {
+                "static java.net.InetAddress.getLoopbackAddress",
               })
           .put(
               "console",
-              new Import[] {
-                new Import("console", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.console",
               })
           .put(
               "Comment",
-              new Import[] {
-                new Import("Comment", "javax.xml.stream.events", false),
-                new Import("Comment", "org.w3c.dom", false),
+              new String[] {
+                "javax.xml.stream.events.Comment", "org.w3c.dom.Comment",
               })
           .put(
               "DoubleHolder",
-              new Import[] {
-                new Import("DoubleHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.DoubleHolder",
               })
           .put(
               "SINGLEFRAMEDONE",
-              new Import[] {
-                new Import("SINGLEFRAMEDONE", "java.awt.image.ImageConsumer", true),
+              new String[] {
+                "static java.awt.image.ImageConsumer.SINGLEFRAMEDONE",
               })
           .put(
               "ChoiceFormat",
-              new Import[] {
-                new Import("ChoiceFormat", "java.text", false),
+              new String[] {
+                "java.text.ChoiceFormat",
               })
           .put(
               "isWrapperInstance",
-              new Import[] {
-                new Import("isWrapperInstance", "java.lang.invoke.MethodHandleProxies", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandleProxies.isWrapperInstance",
               })
           .put(
               "control",
-              new Import[] {
-                new Import("control", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.control",
               })
           .put(
               "OrientationRequestedType",
-              new Import[] {
-                new Import("OrientationRequestedType", "java.awt.PageAttributes", false),
+              new String[] {
+                "java.awt.PageAttributes.OrientationRequestedType",
               })
           .put(
               "AbstractListModel",
-              new Import[] {
-                new Import("AbstractListModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.AbstractListModel",
               })
           .put(
               "BUGINESE",
-              new Import[] {
-                new Import("BUGINESE", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.BUGINESE",
               })
           .put(
               "TrustedCertificateEntry",
-              new Import[] {
-                new Import("TrustedCertificateEntry", "java.security.KeyStore", false),
+              new String[] {
+                "java.security.KeyStore.TrustedCertificateEntry",
               })
           .put(
               "FileImageInputStream",
-              new Import[] {
-                new Import("FileImageInputStream", "javax.imageio.stream", false),
+              new String[] {
+                "javax.imageio.stream.FileImageInputStream",
               })
           .put(
               "Size2DSyntax",
-              new Import[] {
-                new Import("Size2DSyntax", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.Size2DSyntax",
               })
           .put(
               "OBJECT_NOT_EXIST",
-              new Import[] {
-                new Import("OBJECT_NOT_EXIST", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.OBJECT_NOT_EXIST",
               })
           .put(
               "VK_STOP",
-              new Import[] {
-                new Import("VK_STOP", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_STOP",
               })
           .put(
               "ENABLED",
-              new Import[] {
-                new Import("ENABLED", "javax.accessibility.AccessibleState", true),
-                new Import("ENABLED", "javax.swing.DefaultButtonModel", true),
-                new Import("ENABLED", "javax.swing.plaf.synth.SynthConstants", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.ENABLED",
+                "static javax.swing.DefaultButtonModel.ENABLED",
+                "static javax.swing.plaf.synth.SynthConstants.ENABLED",
               })
           .build();
 }
@@ -2,1571 +2,1542 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk15 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "VK_QUOTEDBL",
-              new Import[] {
-                new Import("VK_QUOTEDBL", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_QUOTEDBL",
               })
           .put(
               "CertificateFactorySpi",
-              new Import[] {
-                new Import("CertificateFactorySpi", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertificateFactorySpi",
               })
           .put(
               "summarizingInt",
-              new Import[] {
-                new Import("summarizingInt", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.summarizingInt",
               })
           .put(
               "WEEK_OF_MONTH",
-              new Import[] {
-                new Import("WEEK_OF_MONTH", "java.text.DateFormat.Field", true),
-                new Import("WEEK_OF_MONTH", "java.util.Calendar", true),
+              new String[] {
+                "static java.text.DateFormat.Field.WEEK_OF_MONTH",
+                "static java.util.Calendar.WEEK_OF_MONTH",
               })
           .put(
               "PreferencesFactory",
-              new Import[] {
-                new Import("PreferencesFactory", "java.util.prefs", false),
+              new String[] {
+                "java.util.prefs.PreferencesFactory",
               })
           .put(
               "isDescendingFrom",
-              new Import[] {
-                new Import("isDescendingFrom", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.isDescendingFrom",
               })
           .put(
               "setOwner",
-              new Import[] {
-                new Import("setOwner", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.setOwner",
               })
           .put(
               "OrientationRequested",
-              new Import[] {
-                new Import("OrientationRequested", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.OrientationRequested",
               })
           .put(
               "OpenDataException",
-              new Import[] {
-                new Import("OpenDataException", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.OpenDataException",
               })
           .put(
               "nextOrSame",
-              new Import[] {
-                new Import("nextOrSame", "java.time.temporal.TemporalAdjusters", true),
+              new String[] {
+                "static java.time.temporal.TemporalAdjusters.nextOrSame",
               })
           .put(
               "InitialLdapContext",
-              new Import[] {
-                new Import("InitialLdapContext", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.InitialLdapContext",
               })
           .put(
               "SynthButtonUI",
-              new Import[] {
-                new Import("SynthButtonUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthButtonUI",
               })
           .put(
               "MAXBQUALSIZE",
-              new Import[] {
-                new Import("MAXBQUALSIZE", "javax.transaction.xa.Xid", true),
+              new String[] {
+                "static javax.transaction.xa.Xid.MAXBQUALSIZE",
               })
           .put(
               "MessageDigest",
-              new Import[] {
-                new Import("MessageDigest", "java.security", false),
+              new String[] {
+                "java.security.MessageDigest",
               })
           .put(
               "typePredBasic",
-              new Import[] {
-                new Import("typePredBasic", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.typePredBasic",
               })
           .put(
               "KeySelectionManager",
-              new Import[] {
-                new Import("KeySelectionManager", "javax.swing.JComboBox", false),
+              new String[] {
+                "javax.swing.JComboBox.KeySelectionManager",
               })
           .put(
               "showConfirmDialog",
-              new Import[] {
-                new Import("showConfirmDialog", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.showConfirmDialog",
               })
           .put(
               "SecureRandom",
-              new Import[] {
-                new Import("SecureRandom", "java.security", false),
+              new String[] {
+                "java.security.SecureRandom",
               })
           .put(
               "SecretKeyEntry",
-              new Import[] {
-                new Import("SecretKeyEntry", "java.security.KeyStore", false),
+              new String[] {
+                "java.security.KeyStore.SecretKeyEntry",
               })
           .put(
               "getPrimitiveArrayType",
-              new Import[] {
-                new Import("getPrimitiveArrayType", "javax.management.openmbean.ArrayType", true),
+              new String[] {
+                "static javax.management.openmbean.ArrayType.getPrimitiveArrayType",
               })
           .put(
               "DatatypeConverter",
-              new Import[] {
-                new Import("DatatypeConverter", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.DatatypeConverter",
               })
           .put(
               "SAVE_FILE",
-              new Import[] {
-                new Import("SAVE_FILE", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.SAVE_FILE",
               })
           .put(
               "PropertyVetoException",
-              new Import[] {
-                new Import("PropertyVetoException", "java.beans", false),
+              new String[] {
+                "java.beans.PropertyVetoException",
               })
           .put(
               "ORIYA",
-              new Import[] {
-                new Import("ORIYA", "java.awt.font.NumericShaper", true),
-                new Import("ORIYA", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.ORIYA",
+                "static java.lang.Character.UnicodeBlock.ORIYA",
               })
           .put(
               "SOAP_VERSIONMISMATCH_FAULT",
-              new Import[] {
-                new Import("SOAP_VERSIONMISMATCH_FAULT", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.SOAP_VERSIONMISMATCH_FAULT",
               })
           .put(
               "size",
-              new Import[] {
-                new Import("size", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.size",
               })
           .put(
               "URLPermission",
-              new Import[] {
-                new Import("URLPermission", "java.net", false),
+              new String[] {
+                "java.net.URLPermission",
               })
           .put(
               "getWriterFileSuffixes",
-              new Import[] {
-                new Import("getWriterFileSuffixes", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getWriterFileSuffixes",
               })
           .put(
               "InvalidApplicationException",
-              new Import[] {
-                new Import("InvalidApplicationException", "javax.management", false),
+              new String[] {
+                "javax.management.InvalidApplicationException",
               })
           .put(
               "getLogManager",
-              new Import[] {
-                new Import("getLogManager", "java.util.logging.LogManager", true),
+              new String[] {
+                "static java.util.logging.LogManager.getLogManager",
               })
           .put(
               "ShortBuffer",
-              new Import[] {
-                new Import("ShortBuffer", "java.nio", false),
+              new String[] {
+                "java.nio.ShortBuffer",
               })
           .put(
               "icHdrProfileID",
-              new Import[] {
-                new Import("icHdrProfileID", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrProfileID",
               })
           .put(
               "FieldView",
-              new Import[] {
-                new Import("FieldView", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.FieldView",
               })
           .put(
               "AddressingFeature",
-              new Import[] {
-                new Import("AddressingFeature", "javax.xml.ws.soap", false),
+              new String[] {
+                "javax.xml.ws.soap.AddressingFeature",
               })
           .put(
               "UnknownServiceException",
-              new Import[] {
-                new Import("UnknownServiceException", "java.net", false),
+              new String[] {
+                "java.net.UnknownServiceException",
               })
           .put(
               "PKIXReason",
-              new Import[] {
-                new Import("PKIXReason", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.PKIXReason",
               })
           .put(
               "DataHandler",
-              new Import[] {
-                new Import("DataHandler", "javax.activation", false),
+              new String[] {
+                "javax.activation.DataHandler",
               })
           .put(
               "WrongTransaction",
-              new Import[] {
-                new Import("WrongTransaction", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.WrongTransaction",
               })
           .put(
               "ObjectReferenceFactoryHolder",
-              new Import[] {
-                new Import("ObjectReferenceFactoryHolder", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ObjectReferenceFactoryHolder",
               })
           .put(
               "synchronizedView",
-              new Import[] {
-                new Import("synchronizedView", "javax.print.attribute.AttributeSetUtilities", true),
+              new String[] {
+                "static javax.print.attribute.AttributeSetUtilities.synchronizedView",
               })
           .put(
               "TMENDRSCAN",
-              new Import[] {
-                new Import("TMENDRSCAN", "javax.transaction.xa.XAResource", true),
+              new String[] {
+                "static javax.transaction.xa.XAResource.TMENDRSCAN",
               })
           .put(
               "createValueHandler",
-              new Import[] {
-                new Import("createValueHandler", "javax.rmi.CORBA.Util", true),
+              new String[] {
+                "static javax.rmi.CORBA.Util.createValueHandler",
               })
           .put(
               "RespectBindingFeature",
-              new Import[] {
-                new Import("RespectBindingFeature", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.RespectBindingFeature",
               })
           .put(
               "ObjectReferenceTemplateHelper",
-              new Import[] {
-                new Import("ObjectReferenceTemplateHelper", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ObjectReferenceTemplateHelper",
               })
           .put(
               "DESedeKeySpec",
-              new Import[] {
-                new Import("DESedeKeySpec", "javax.crypto.spec", false),
+              new String[] {
+                "javax.crypto.spec.DESedeKeySpec",
               })
           .put(
               "GapContent",
-              new Import[] {
-                new Import("GapContent", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.GapContent",
               })
           .put(
               "OverlappingFileLockException",
-              new Import[] {
-                new Import("OverlappingFileLockException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.OverlappingFileLockException",
               })
           .put(
               "COMPONENT_MOVED",
-              new Import[] {
-                new Import("COMPONENT_MOVED", "java.awt.event.ComponentEvent", true),
+              new String[] {
+                "static java.awt.event.ComponentEvent.COMPONENT_MOVED",
               })
           .put(
               "CJK_COMPATIBILITY_FORMS",
-              new Import[] {
-                new Import("CJK_COMPATIBILITY_FORMS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CJK_COMPATIBILITY_FORMS",
               })
           .put(
               "_USE_ACTIVE_OBJECT_MAP_ONLY",
-              new Import[] {
-                new Import(
-                    "_USE_ACTIVE_OBJECT_MAP_ONLY",
-                    "org.omg.PortableServer.RequestProcessingPolicyValue",
-                    true),
+              new String[] {
+                "static"
+                    + " org.omg.PortableServer.RequestProcessingPolicyValue._USE_ACTIVE_OBJECT_MAP_ONLY",
               })
           .put(
               "MULTISELECTABLE",
-              new Import[] {
-                new Import("MULTISELECTABLE", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.MULTISELECTABLE",
               })
           .put(
               "getLoggingMXBean",
-              new Import[] {
-                new Import("getLoggingMXBean", "java.util.logging.LogManager", true),
+              new String[] {
+                "static java.util.logging.LogManager.getLoggingMXBean",
               })
           .put(
               "InvalidKeyException",
-              new Import[] {
-                new Import("InvalidKeyException", "java.security", false),
-                new Import("InvalidKeyException", "javax.management.openmbean", false),
+              new String[] {
+                "java.security.InvalidKeyException",
+                "javax.management.openmbean.InvalidKeyException",
               })
           .put(
               "JarFile",
-              new Import[] {
-                new Import("JarFile", "java.util.jar", false),
+              new String[] {
+                "java.util.jar.JarFile",
               })
           .put(
               "CheckedInputStream",
-              new Import[] {
-                new Import("CheckedInputStream", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.CheckedInputStream",
               })
           .put(
               "TEXT_PLAIN_UTF_16BE",
-              new Import[] {
-                new Import("TEXT_PLAIN_UTF_16BE", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_PLAIN_UTF_16BE", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_PLAIN_UTF_16BE", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.TEXT_PLAIN_UTF_16BE",
+                "static javax.print.DocFlavor.INPUT_STREAM.TEXT_PLAIN_UTF_16BE",
+                "static javax.print.DocFlavor.URL.TEXT_PLAIN_UTF_16BE",
               })
           .put(
               "AtomicLong",
-              new Import[] {
-                new Import("AtomicLong", "java.util.concurrent.atomic", false),
+              new String[] {
+                "java.util.concurrent.atomic.AtomicLong",
               })
           .put(
               "SELECTED_FILE_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("SELECTED_FILE_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.SELECTED_FILE_CHANGED_PROPERTY",
               })
           .put(
               "ComponentView",
-              new Import[] {
-                new Import("ComponentView", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.ComponentView",
               })
           .put(
               "isBmpCodePoint",
-              new Import[] {
-                new Import("isBmpCodePoint", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isBmpCodePoint",
               })
           .put(
               "RegisterableService",
-              new Import[] {
-                new Import("RegisterableService", "javax.imageio.spi", false),
+              new String[] {
+                "javax.imageio.spi.RegisterableService",
               })
           .put(
               "InternalFrameAdapter",
-              new Import[] {
-                new Import("InternalFrameAdapter", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.InternalFrameAdapter",
               })
           .put(
               "isTransient",
-              new Import[] {
-                new Import("isTransient", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.isTransient",
               })
           .put(
               "ElementKindVisitor7",
-              new Import[] {
-                new Import("ElementKindVisitor7", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.ElementKindVisitor7",
               })
           .put(
               "ElementKindVisitor6",
-              new Import[] {
-                new Import("ElementKindVisitor6", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.ElementKindVisitor6",
               })
           .put(
               "ElementKindVisitor8",
-              new Import[] {
-                new Import("ElementKindVisitor8", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.ElementKindVisitor8",
               })
           .put(
               "Comparable",
-              new Import[] {
-                new Import("Comparable", "java.lang", false),
+              new String[] {
+                "java.lang.Comparable",
               })
           .put(
               "ParameterStyle",
-              new Import[] {
-                new Import("ParameterStyle", "javax.jws.soap.SOAPBinding", false),
+              new String[] {
+                "javax.jws.soap.SOAPBinding.ParameterStyle",
               })
           .put(
               "RowSetEvent",
-              new Import[] {
-                new Import("RowSetEvent", "javax.sql", false),
+              new String[] {
+                "javax.sql.RowSetEvent",
               })
           .put(
               "icSigColorantOrderTag",
-              new Import[] {
-                new Import("icSigColorantOrderTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigColorantOrderTag",
               })
           .put(
               "GarbageCollectorMXBean",
-              new Import[] {
-                new Import("GarbageCollectorMXBean", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.GarbageCollectorMXBean",
               })
           .put(
               "Transmitter",
-              new Import[] {
-                new Import("Transmitter", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.Transmitter",
               })
           .put(
               "UIManager",
-              new Import[] {
-                new Import("UIManager", "javax.swing", false),
+              new String[] {
+                "javax.swing.UIManager",
               })
           .put(
               "functionReturn",
-              new Import[] {
-                new Import("functionReturn", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.functionReturn",
               })
           .put(
               "invokeLater",
-              new Import[] {
-                new Import("invokeLater", "java.awt.EventQueue", true),
-                new Import("invokeLater", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static java.awt.EventQueue.invokeLater",
+                "static javax.swing.SwingUtilities.invokeLater",
               })
           .put(
               "replaceUIActionMap",
-              new Import[] {
-                new Import("replaceUIActionMap", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.replaceUIActionMap",
               })
           .put(
               "Checkbox",
-              new Import[] {
-                new Import("Checkbox", "java.awt", false),
+              new String[] {
+                "java.awt.Checkbox",
               })
           .put(
               "OPTIONS_PROPERTY",
-              new Import[] {
-                new Import("OPTIONS_PROPERTY", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.OPTIONS_PROPERTY",
               })
           .put(
               "getDimension",
-              new Import[] {
-                new Import("getDimension", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.getDimension",
               })
           .put(
               "isExecutable",
-              new Import[] {
-                new Import("isExecutable", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.isExecutable",
               })
           .put(
               "WebResult",
-              new Import[] {
-                new Import("WebResult", "javax.jws", false),
+              new String[] {
+                "javax.jws.WebResult",
               })
           .put(
               "parseInteger",
-              new Import[] {
-                new Import("parseInteger", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.parseInteger",
               })
           .put(
               "BasicProgressBarUI",
-              new Import[] {
-                new Import("BasicProgressBarUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicProgressBarUI",
               })
           .put(
               "MessageType",
-              new Import[] {
-                new Import("MessageType", "java.awt.TrayIcon", false),
+              new String[] {
+                "java.awt.TrayIcon.MessageType",
               })
           .put(
               "ContentHandlerFactory",
-              new Import[] {
-                new Import("ContentHandlerFactory", "java.net", false),
+              new String[] {
+                "java.net.ContentHandlerFactory",
               })
           .put(
               "ZoneOffsetTransitionRule",
-              new Import[] {
-                new Import("ZoneOffsetTransitionRule", "java.time.zone", false),
+              new String[] {
+                "java.time.zone.ZoneOffsetTransitionRule",
               })
           .put(
               "LabelView",
-              new Import[] {
-                new Import("LabelView", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.LabelView",
               })
           .put(
               "TAG_POST",
-              new Import[] {
-                new Import("TAG_POST", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_POST",
               })
           .put(
               "IIOException",
-              new Import[] {
-                new Import("IIOException", "javax.imageio", false),
+              new String[] {
+                "javax.imageio.IIOException",
               })
           .put(
               "ServantLocator",
-              new Import[] {
-                new Import("ServantLocator", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ServantLocator",
               })
           .put(
               "AbstractIntSpliterator",
-              new Import[] {
-                new Import("AbstractIntSpliterator", "java.util.Spliterators", false),
+              new String[] {
+                "java.util.Spliterators.AbstractIntSpliterator",
               })
           .put(
               "HandshakeCompletedListener",
-              new Import[] {
-                new Import("HandshakeCompletedListener", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.HandshakeCompletedListener",
               })
           .put(
               "PADDING_LEFT",
-              new Import[] {
-                new Import("PADDING_LEFT", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.PADDING_LEFT",
               })
           .put(
               "BufferPoolMXBean",
-              new Import[] {
-                new Import("BufferPoolMXBean", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.BufferPoolMXBean",
               })
           .put(
               "ObjID",
-              new Import[] {
-                new Import("ObjID", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.ObjID",
               })
           .put(
               "SheetCollate",
-              new Import[] {
-                new Import("SheetCollate", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.SheetCollate",
               })
           .put(
               "BigDecimalLayoutForm",
-              new Import[] {
-                new Import("BigDecimalLayoutForm", "java.util.Formatter", false),
+              new String[] {
+                "java.util.Formatter.BigDecimalLayoutForm",
               })
           .put(
               "SHA512",
-              new Import[] {
-                new Import("SHA512", "java.security.spec.MGF1ParameterSpec", true),
-                new Import("SHA512", "javax.xml.crypto.dsig.DigestMethod", true),
+              new String[] {
+                "static java.security.spec.MGF1ParameterSpec.SHA512",
+                "static javax.xml.crypto.dsig.DigestMethod.SHA512",
               })
           .put(
               "AlgorithmParameters",
-              new Import[] {
-                new Import("AlgorithmParameters", "java.security", false),
+              new String[] {
+                "java.security.AlgorithmParameters",
               })
           .put(
               "createUnresolved",
-              new Import[] {
-                new Import("createUnresolved", "java.net.InetSocketAddress", true),
+              new String[] {
+                "static java.net.InetSocketAddress.createUnresolved",
               })
           .put(
               "CertificateNotYetValidException",
-              new Import[] {
-                new Import("CertificateNotYetValidException", "java.security.cert", false),
-                new Import("CertificateNotYetValidException", "javax.security.cert", false),
+              new String[] {
+                "java.security.cert.CertificateNotYetValidException",
+                "javax.security.cert.CertificateNotYetValidException",
               })
           .put(
               "NavigableSet",
-              new Import[] {
-                new Import("NavigableSet", "java.util", false),
+              new String[] {
+                "java.util.NavigableSet",
               })
           .put(
               "TYPE_INT_ARGB_PRE",
-              new Import[] {
-                new Import("TYPE_INT_ARGB_PRE", "java.awt.image.BufferedImage", true),
+              new String[] {
+                "static java.awt.image.BufferedImage.TYPE_INT_ARGB_PRE",
               })
           .put(
               "SAURASHTRA",
-              new Import[] {
-                new Import("SAURASHTRA", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SAURASHTRA",
               })
           .put(
               "AlgorithmParameterGenerator",
-              new Import[] {
-                new Import("AlgorithmParameterGenerator", "java.security", false),
+              new String[] {
+                "java.security.AlgorithmParameterGenerator",
               })
           .put(
               "DirectoryNotEmptyException",
-              new Import[] {
-                new Import("DirectoryNotEmptyException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.DirectoryNotEmptyException",
               })
           .put(
               "SOAPMessageHandlers",
-              new Import[] {
-                new Import("SOAPMessageHandlers", "javax.jws.soap", false),
+              new String[] {
+                "javax.jws.soap.SOAPMessageHandlers",
               })
           .put(
               "MetalLookAndFeel",
-              new Import[] {
-                new Import("MetalLookAndFeel", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalLookAndFeel",
               })
           .put(
               "ListPainter",
-              new Import[] {
-                new Import("ListPainter", "javax.swing.text.html.StyleSheet", false),
+              new String[] {
+                "javax.swing.text.html.StyleSheet.ListPainter",
               })
           .put(
               "XmlAnyAttribute",
-              new Import[] {
-                new Import("XmlAnyAttribute", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlAnyAttribute",
               })
           .put(
               "MENU_TEXT",
-              new Import[] {
-                new Import("MENU_TEXT", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.MENU_TEXT",
               })
           .put(
               "VirtualMachineError",
-              new Import[] {
-                new Import("VirtualMachineError", "java.lang", false),
+              new String[] {
+                "java.lang.VirtualMachineError",
               })
           .put(
               "Skeleton",
-              new Import[] {
-                new Import("Skeleton", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.Skeleton",
               })
           .put(
               "ComponentAdapter",
-              new Import[] {
-                new Import("ComponentAdapter", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.ComponentAdapter",
               })
           .put(
               "singleton",
-              new Import[] {
-                new Import("singleton", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.singleton",
               })
           .put(
               "ParagraphAttribute",
-              new Import[] {
-                new Import("ParagraphAttribute", "javax.swing.text.AttributeSet", false),
+              new String[] {
+                "javax.swing.text.AttributeSet.ParagraphAttribute",
               })
           .put(
               "JAXB_ENCODING",
-              new Import[] {
-                new Import("JAXB_ENCODING", "javax.xml.bind.Marshaller", true),
+              new String[] {
+                "static javax.xml.bind.Marshaller.JAXB_ENCODING",
               })
           .put(
               "TaggedProfileHelper",
-              new Import[] {
-                new Import("TaggedProfileHelper", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.TaggedProfileHelper",
               })
           .put(
               "ATTEMPTED",
-              new Import[] {
-                new Import(
-                    "ATTEMPTED", "javax.print.attribute.standard.PDLOverrideSupported", true),
+              new String[] {
+                "static javax.print.attribute.standard.PDLOverrideSupported.ATTEMPTED",
               })
           .put(
               "NamedNodeMap",
-              new Import[] {
-                new Import("NamedNodeMap", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.NamedNodeMap",
               })
           .put(
               "ReferenceQueue",
-              new Import[] {
-                new Import("ReferenceQueue", "java.lang.ref", false),
+              new String[] {
+                "java.lang.ref.ReferenceQueue",
               })
           .put(
               "getDeepestComponentAt",
-              new Import[] {
-                new Import("getDeepestComponentAt", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.getDeepestComponentAt",
               })
           .put(
               "GLASS_PANE",
-              new Import[] {
-                new Import("GLASS_PANE", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.GLASS_PANE",
               })
           .put(
               "GenericArrayType",
-              new Import[] {
-                new Import("GenericArrayType", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.GenericArrayType",
               })
           .put(
               "DEFAULT_MODALITY_TYPE",
-              new Import[] {
-                new Import("DEFAULT_MODALITY_TYPE", "java.awt.Dialog", true),
+              new String[] {
+                "static java.awt.Dialog.DEFAULT_MODALITY_TYPE",
               })
           .put(
               "ByteBuffer",
-              new Import[] {
-                new Import("ByteBuffer", "java.nio", false),
+              new String[] {
+                "java.nio.ByteBuffer",
               })
           .put(
               "InitialContext",
-              new Import[] {
-                new Import("InitialContext", "javax.naming", false),
+              new String[] {
+                "javax.naming.InitialContext",
               })
           .put(
               "Subject",
-              new Import[] {
-                new Import("Subject", "javax.security.auth", false),
+              new String[] {
+                "javax.security.auth.Subject",
               })
           .put(
               "DEFLATE",
-              new Import[] {
-                new Import("DEFLATE", "javax.print.attribute.standard.Compression", true),
+              new String[] {
+                "static javax.print.attribute.standard.Compression.DEFLATE",
               })
           .put(
               "AbstractBorder",
-              new Import[] {
-                new Import("AbstractBorder", "javax.swing.border", false),
+              new String[] {
+                "javax.swing.border.AbstractBorder",
               })
           .put(
               "UnknownTag",
-              new Import[] {
-                new Import("UnknownTag", "javax.swing.text.html.HTML", false),
+              new String[] {
+                "javax.swing.text.html.HTML.UnknownTag",
               })
           .put(
               "CONCUR_UPDATABLE",
-              new Import[] {
-                new Import("CONCUR_UPDATABLE", "java.sql.ResultSet", true),
+              new String[] {
+                "static java.sql.ResultSet.CONCUR_UPDATABLE",
               })
           .put(
               "PrinterGraphics",
-              new Import[] {
-                new Import("PrinterGraphics", "java.awt.print", false),
+              new String[] {
+                "java.awt.print.PrinterGraphics",
               })
           .put(
               "AccessController",
-              new Import[] {
-                new Import("AccessController", "java.security", false),
+              new String[] {
+                "java.security.AccessController",
               })
           .put(
               "JDesktopIcon",
-              new Import[] {
-                new Import("JDesktopIcon", "javax.swing.JInternalFrame", false),
+              new String[] {
+                "javax.swing.JInternalFrame.JDesktopIcon",
               })
           .put(
               "_TRANSIENT",
-              new Import[] {
-                new Import("_TRANSIENT", "org.omg.PortableServer.LifespanPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.LifespanPolicyValue._TRANSIENT",
               })
           .put(
               "JIS",
-              new Import[] {
-                new Import("JIS", "javax.print.attribute.standard.MediaSize", false),
+              new String[] {
+                "javax.print.attribute.standard.MediaSize.JIS",
               })
           .put(
               "FATAL_ERROR",
-              new Import[] {
-                new Import("FATAL_ERROR", "javax.xml.bind.ValidationEvent", true),
+              new String[] {
+                "static javax.xml.bind.ValidationEvent.FATAL_ERROR",
               })
           .put(
               "TAG_INTERNET_IOP",
-              new Import[] {
-                new Import("TAG_INTERNET_IOP", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.TAG_INTERNET_IOP",
               })
           .put(
               "ProxyLazyValue",
-              new Import[] {
-                new Import("ProxyLazyValue", "javax.swing.UIDefaults", false),
+              new String[] {
+                "javax.swing.UIDefaults.ProxyLazyValue",
               })
           .put(
               "procedureColumnReturn",
-              new Import[] {
-                new Import("procedureColumnReturn", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.procedureColumnReturn",
               })
           .put(
               "MULTI_SELECTION_ENABLED_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "MULTI_SELECTION_ENABLED_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.MULTI_SELECTION_ENABLED_CHANGED_PROPERTY",
               })
           .put(
               "DynFixed",
-              new Import[] {
-                new Import("DynFixed", "org.omg.CORBA", false),
-                new Import("DynFixed", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.CORBA.DynFixed", "org.omg.DynamicAny.DynFixed",
               })
           .put(
               "ParameterModeHolder",
-              new Import[] {
-                new Import("ParameterModeHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ParameterModeHolder",
               })
           .put(
               "MetalMenuBarUI",
-              new Import[] {
-                new Import("MetalMenuBarUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalMenuBarUI",
               })
           .put(
               "ThreadPoolExecutor",
-              new Import[] {
-                new Import("ThreadPoolExecutor", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ThreadPoolExecutor",
               })
           .put(
               "JOB_COMPLETED_WITH_ERRORS",
-              new Import[] {
-                new Import(
-                    "JOB_COMPLETED_WITH_ERRORS",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.JOB_COMPLETED_WITH_ERRORS",
               })
           .put(
               "ServerRuntimeException",
-              new Import[] {
-                new Import("ServerRuntimeException", "java.rmi", false),
+              new String[] {
+                "java.rmi.ServerRuntimeException",
               })
           .put(
               "DATATYPE_STRING",
-              new Import[] {
-                new Import("DATATYPE_STRING", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.DATATYPE_STRING",
               })
           .put(
               "TYPE_Yxy",
-              new Import[] {
-                new Import("TYPE_Yxy", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_Yxy",
               })
           .put(
               "ActivationMonitor",
-              new Import[] {
-                new Import("ActivationMonitor", "java.rmi.activation", false),
+              new String[] {
+                "java.rmi.activation.ActivationMonitor",
               })
           .put(
               "isMXBeanInterface",
-              new Import[] {
-                new Import("isMXBeanInterface", "javax.management.JMX", true),
+              new String[] {
+                "static javax.management.JMX.isMXBeanInterface",
               })
           .put(
               "PARAM_OUT",
-              new Import[] {
-                new Import("PARAM_OUT", "org.omg.CORBA.ParameterMode", true),
+              new String[] {
+                "static org.omg.CORBA.ParameterMode.PARAM_OUT",
               })
           .put(
               "deepToString",
-              new Import[] {
-                new Import("deepToString", "java.util.Arrays", true),
+              new String[] {
+                "static java.util.Arrays.deepToString",
               })
           .put(
               "newWriter",
-              new Import[] {
-                new Import("newWriter", "java.nio.channels.Channels", true),
+              new String[] {
+                "static java.nio.channels.Channels.newWriter",
               })
           .put(
               "ECPrivateKeySpec",
-              new Import[] {
-                new Import("ECPrivateKeySpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.ECPrivateKeySpec",
               })
           .put(
               "copySign",
-              new Import[] {
-                new Import("copySign", "java.lang.Math", true),
-                new Import("copySign", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.copySign", "static java.lang.StrictMath.copySign",
               })
           .put(
               "XMLEventConsumer",
-              new Import[] {
-                new Import("XMLEventConsumer", "javax.xml.stream.util", false),
+              new String[] {
+                "javax.xml.stream.util.XMLEventConsumer",
               })
           .put(
               "ACTIVE_CAPTION_TEXT",
-              new Import[] {
-                new Import("ACTIVE_CAPTION_TEXT", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.ACTIVE_CAPTION_TEXT",
               })
           .put(
               "ImageTranscoder",
-              new Import[] {
-                new Import("ImageTranscoder", "javax.imageio", false),
+              new String[] {
+                "javax.imageio.ImageTranscoder",
               })
           .put(
               "getExtendedKeyCodeForChar",
-              new Import[] {
-                new Import("getExtendedKeyCodeForChar", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.getExtendedKeyCodeForChar",
               })
           .put(
               "getTreeFolderIcon",
-              new Import[] {
-                new Import("getTreeFolderIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getTreeFolderIcon",
               })
           .put(
               "TableColumnModel",
-              new Import[] {
-                new Import("TableColumnModel", "javax.swing.table", false),
+              new String[] {
+                "javax.swing.table.TableColumnModel",
               })
           .put(
               "NULL_NS_URI",
-              new Import[] {
-                new Import("NULL_NS_URI", "javax.xml.XMLConstants", true),
+              new String[] {
+                "static javax.xml.XMLConstants.NULL_NS_URI",
               })
           .put(
               "PartialResultException",
-              new Import[] {
-                new Import("PartialResultException", "javax.naming", false),
+              new String[] {
+                "javax.naming.PartialResultException",
               })
           .put(
               "CENNAM",
-              new Import[] {
-                new Import("CENNAM", "java.util.jar.JarEntry", true),
-                new Import("CENNAM", "java.util.jar.JarFile", true),
-                new Import("CENNAM", "java.util.jar.JarInputStream", true),
-                new Import("CENNAM", "java.util.jar.JarOutputStream", true),
-                new Import("CENNAM", "java.util.zip.ZipEntry", true),
-                new Import("CENNAM", "java.util.zip.ZipFile", true),
-                new Import("CENNAM", "java.util.zip.ZipInputStream", true),
-                new Import("CENNAM", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENNAM",
+                "static java.util.jar.JarFile.CENNAM",
+                "static java.util.jar.JarInputStream.CENNAM",
+                "static java.util.jar.JarOutputStream.CENNAM",
+                "static java.util.zip.ZipEntry.CENNAM",
+                "static java.util.zip.ZipFile.CENNAM",
+                "static java.util.zip.ZipInputStream.CENNAM",
+                "static java.util.zip.ZipOutputStream.CENNAM",
               })
           .put(
               "TAG_JAVA_CODEBASE",
-              new Import[] {
-                new Import("TAG_JAVA_CODEBASE", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.TAG_JAVA_CODEBASE",
               })
           .put(
               "AbstractMap",
-              new Import[] {
-                new Import("AbstractMap", "java.util", false),
+              new String[] {
+                "java.util.AbstractMap",
               })
           .put(
               "UNSELECTED_CONVERTED_TEXT_HIGHLIGHT",
-              new Import[] {
-                new Import(
-                    "UNSELECTED_CONVERTED_TEXT_HIGHLIGHT",
-                    "java.awt.im.InputMethodHighlight",
-                    true),
+              new String[] {
+                "static java.awt.im.InputMethodHighlight.UNSELECTED_CONVERTED_TEXT_HIGHLIGHT",
               })
           .put(
               "NA_9x12_ENVELOPE",
-              new Import[] {
-                new Import("NA_9x12_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.NA.NA_9x12_ENVELOPE",
               })
           .put(
               "defaultManager",
-              new Import[] {
-                new Import("defaultManager", "javax.swing.MenuSelectionManager", true),
+              new String[] {
+                "static javax.swing.MenuSelectionManager.defaultManager",
               })
           .put(
               "AtomicLongFieldUpdater",
-              new Import[] {
-                new Import("AtomicLongFieldUpdater", "java.util.concurrent.atomic", false),
+              new String[] {
+                "java.util.concurrent.atomic.AtomicLongFieldUpdater",
               })
           .put(
               "Alignment",
-              new Import[] {
-                new Import("Alignment", "javax.swing.GroupLayout", false),
-                new Import("Alignment", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "javax.swing.GroupLayout.Alignment",
+                "static javax.swing.text.StyleConstants.Alignment",
               })
           .put(
               "VALIDATION_ERR",
-              new Import[] {
-                new Import("VALIDATION_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.VALIDATION_ERR",
               })
           .put(
               "ColorModel",
-              new Import[] {
-                new Import("ColorModel", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.ColorModel",
               })
           .put(
               "Checksum",
-              new Import[] {
-                new Import("Checksum", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.Checksum",
               })
           .put(
               "TYPE_3CLR",
-              new Import[] {
-                new Import("TYPE_3CLR", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_3CLR",
               })
           .put(
               "StackOverflowError",
-              new Import[] {
-                new Import("StackOverflowError", "java.lang", false),
+              new String[] {
+                "java.lang.StackOverflowError",
               })
           .put(
               "between",
-              new Import[] {
-                new Import("between", "java.time.Duration", true),
-                new Import("between", "java.time.Period", true),
-                new Import("between", "java.time.chrono.ChronoPeriod", true),
-                new Import("between", "javax.management.Query", true),
+              new String[] {
+                "static java.time.Duration.between",
+                "static java.time.Period.between",
+                "static java.time.chrono.ChronoPeriod.between",
+                "static javax.management.Query.between",
               })
           .put(
               "BORDER_RIGHT_COLOR",
-              new Import[] {
-                new Import("BORDER_RIGHT_COLOR", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_RIGHT_COLOR",
               })
           .put(
               "ElementSpec",
-              new Import[] {
-                new Import("ElementSpec", "javax.swing.text.DefaultStyledDocument", false),
+              new String[] {
+                "javax.swing.text.DefaultStyledDocument.ElementSpec",
               })
           .put(
               "getInstanceStrong",
-              new Import[] {
-                new Import("getInstanceStrong", "java.security.SecureRandom", true),
+              new String[] {
+                "static java.security.SecureRandom.getInstanceStrong",
               })
           .put(
               "VK_BACK_SPACE",
-              new Import[] {
-                new Import("VK_BACK_SPACE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_BACK_SPACE",
               })
           .put(
               "ListDataListener",
-              new Import[] {
-                new Import("ListDataListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.ListDataListener",
               })
           .put(
               "ScatteringByteChannel",
-              new Import[] {
-                new Import("ScatteringByteChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.ScatteringByteChannel",
               })
           .put(
               "UNIFIED_CANADIAN_ABORIGINAL_SYLLABICS_EXTENDED",
-              new Import[] {
-                new Import(
-                    "UNIFIED_CANADIAN_ABORIGINAL_SYLLABICS_EXTENDED",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
+              new String[] {
+                "static"
+                    + " java.lang.Character.UnicodeBlock.UNIFIED_CANADIAN_ABORIGINAL_SYLLABICS_EXTENDED",
               })
           .put(
               "ServiceLoader",
-              new Import[] {
-                new Import("ServiceLoader", "java.util", false),
+              new String[] {
+                "java.util.ServiceLoader",
               })
           .put(
               "getSaslServerFactories",
-              new Import[] {
-                new Import("getSaslServerFactories", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.getSaslServerFactories",
               })
           .put(
               "Resources",
-              new Import[] {
-                new Import("Resources", "javax.annotation", false),
+              new String[] {
+                "javax.annotation.Resources",
               })
           .put(
               "logicalOr",
-              new Import[] {
-                new Import("logicalOr", "java.lang.Boolean", true),
+              new String[] {
+                "static java.lang.Boolean.logicalOr",
               })
           .put(
               "getAlgorithms",
-              new Import[] {
-                new Import("getAlgorithms", "java.security.Security", true),
+              new String[] {
+                "static java.security.Security.getAlgorithms",
               })
           .put(
               "CompoundBorderUIResource",
-              new Import[] {
-                new Import("CompoundBorderUIResource", "javax.swing.plaf.BorderUIResource", false),
+              new String[] {
+                "javax.swing.plaf.BorderUIResource.CompoundBorderUIResource",
               })
           .put(
               "StdDCChrominance",
-              new Import[] {
-                new Import("StdDCChrominance", "javax.imageio.plugins.jpeg.JPEGHuffmanTable", true),
+              new String[] {
+                "static javax.imageio.plugins.jpeg.JPEGHuffmanTable.StdDCChrominance",
               })
           .put(
               "AttachmentMarshaller",
-              new Import[] {
-                new Import("AttachmentMarshaller", "javax.xml.bind.attachment", false),
+              new String[] {
+                "javax.xml.bind.attachment.AttachmentMarshaller",
               })
           .put(
               "SynthTableUI",
-              new Import[] {
-                new Import("SynthTableUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthTableUI",
               })
           .put(
               "PolicyTypeHelper",
-              new Import[] {
-                new Import("PolicyTypeHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.PolicyTypeHelper",
               })
           .put(
               "tk_abstract_interface",
-              new Import[] {
-                new Import("tk_abstract_interface", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_abstract_interface",
               })
           .put(
               "FOCUS",
-              new Import[] {
-                new Import("FOCUS", "javax.swing.plaf.synth.ColorType", true),
+              new String[] {
+                "static javax.swing.plaf.synth.ColorType.FOCUS",
               })
           .put(
               "PERSONAL",
-              new Import[] {
-                new Import("PERSONAL", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.PERSONAL",
               })
           .put(
               "DataBufferShort",
-              new Import[] {
-                new Import("DataBufferShort", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.DataBufferShort",
               })
           .put(
               "AccessibleTableModelChange",
-              new Import[] {
-                new Import("AccessibleTableModelChange", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleTableModelChange",
               })
           .put(
               "CANVAS",
-              new Import[] {
-                new Import("CANVAS", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.CANVAS",
               })
           .put(
               "ResolutionSyntax",
-              new Import[] {
-                new Import("ResolutionSyntax", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.ResolutionSyntax",
               })
           .put(
               "AppletStub",
-              new Import[] {
-                new Import("AppletStub", "java.applet", false),
+              new String[] {
+                "java.applet.AppletStub",
               })
           .put(
               "EventListener",
-              new Import[] {
-                new Import("EventListener", "java.util", false),
-                new Import("EventListener", "org.w3c.dom.events", false),
+              new String[] {
+                "java.util.EventListener", "org.w3c.dom.events.EventListener",
               })
           .put(
               "JAXB_FRAGMENT",
-              new Import[] {
-                new Import("JAXB_FRAGMENT", "javax.xml.bind.Marshaller", true),
+              new String[] {
+                "static javax.xml.bind.Marshaller.JAXB_FRAGMENT",
               })
           .put(
               "JMRuntimeException",
-              new Import[] {
-                new Import("JMRuntimeException", "javax.management", false),
+              new String[] {
+                "javax.management.JMRuntimeException",
               })
           .put(
               "INDEFINITE_LIFETIME",
-              new Import[] {
-                new Import("INDEFINITE_LIFETIME", "org.ietf.jgss.GSSContext", true),
-                new Import("INDEFINITE_LIFETIME", "org.ietf.jgss.GSSCredential", true),
+              new String[] {
+                "static org.ietf.jgss.GSSContext.INDEFINITE_LIFETIME",
+                "static org.ietf.jgss.GSSCredential.INDEFINITE_LIFETIME",
               })
           .put(
               "ContainerEvent",
-              new Import[] {
-                new Import("ContainerEvent", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.ContainerEvent",
               })
           .put(
               "referenceKindToString",
-              new Import[] {
-                new Import("referenceKindToString", "java.lang.invoke.MethodHandleInfo", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandleInfo.referenceKindToString",
               })
           .put(
               "DomainManagerOperations",
-              new Import[] {
-                new Import("DomainManagerOperations", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.DomainManagerOperations",
               })
           .put(
               "SEG_QUADTO",
-              new Import[] {
-                new Import("SEG_QUADTO", "java.awt.geom.PathIterator", true),
+              new String[] {
+                "static java.awt.geom.PathIterator.SEG_QUADTO",
               })
           .put(
               "CompoundEdit",
-              new Import[] {
-                new Import("CompoundEdit", "javax.swing.undo", false),
+              new String[] {
+                "javax.swing.undo.CompoundEdit",
               })
           .put(
               "Reference",
-              new Import[] {
-                new Import("Reference", "java.lang.ref", false),
-                new Import("Reference", "javax.naming", false),
-                new Import("Reference", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "java.lang.ref.Reference",
+                "javax.naming.Reference",
+                "javax.xml.crypto.dsig.Reference",
               })
           .put(
               "createEmptyBorder",
-              new Import[] {
-                new Import("createEmptyBorder", "javax.swing.BorderFactory", true),
+              new String[] {
+                "static javax.swing.BorderFactory.createEmptyBorder",
               })
           .put(
               "bestRowPseudo",
-              new Import[] {
-                new Import("bestRowPseudo", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.bestRowPseudo",
               })
           .put(
               "AlignmentAction",
-              new Import[] {
-                new Import("AlignmentAction", "javax.swing.text.StyledEditorKit", false),
+              new String[] {
+                "javax.swing.text.StyledEditorKit.AlignmentAction",
               })
           .put(
               "setLastModifiedTime",
-              new Import[] {
-                new Import("setLastModifiedTime", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.setLastModifiedTime",
               })
           .put(
               "copyOf",
-              new Import[] {
-                new Import("copyOf", "java.util.Arrays", true),
-                new Import("copyOf", "java.util.EnumSet", true),
+              new String[] {
+                "static java.util.Arrays.copyOf", "static java.util.EnumSet.copyOf",
               })
           .put(
               "DialogTypeSelection",
-              new Import[] {
-                new Import("DialogTypeSelection", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.DialogTypeSelection",
               })
           .put(
               "getIcon",
-              new Import[] {
-                new Import("getIcon", "javax.swing.UIManager", true),
-                new Import("getIcon", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.UIManager.getIcon",
+                "static javax.swing.text.StyleConstants.getIcon",
               })
           .put(
               "IMG_ALIGN_MIDDLE",
-              new Import[] {
-                new Import("IMG_ALIGN_MIDDLE", "javax.swing.text.html.HTMLEditorKit", true),
+              new String[] {
+                "static javax.swing.text.html.HTMLEditorKit.IMG_ALIGN_MIDDLE",
               })
           .put(
               "POLY_PRESSURE",
-              new Import[] {
-                new Import("POLY_PRESSURE", "javax.sound.midi.ShortMessage", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.POLY_PRESSURE",
               })
           .put(
               "SequenceInputStream",
-              new Import[] {
-                new Import("SequenceInputStream", "java.io", false),
+              new String[] {
+                "java.io.SequenceInputStream",
               })
           .put(
               "JMX",
-              new Import[] {
-                new Import("JMX", "javax.management", false),
+              new String[] {
+                "javax.management.JMX",
               })
           .put(
               "TYPE_INT_RGB",
-              new Import[] {
-                new Import("TYPE_INT_RGB", "java.awt.image.BufferedImage", true),
+              new String[] {
+                "static java.awt.image.BufferedImage.TYPE_INT_RGB",
               })
           .put(
               "VALUE_INTERPOLATION_NEAREST_NEIGHBOR",
-              new Import[] {
-                new Import("VALUE_INTERPOLATION_NEAREST_NEIGHBOR", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR",
               })
           .put(
               "SONG_SELECT",
-              new Import[] {
-                new Import("SONG_SELECT", "javax.sound.midi.ShortMessage", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.SONG_SELECT",
               })
           .put(
               "E_RESIZE_CURSOR",
-              new Import[] {
-                new Import("E_RESIZE_CURSOR", "java.awt.Cursor", true),
-                new Import("E_RESIZE_CURSOR", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Cursor.E_RESIZE_CURSOR", "static java.awt.Frame.E_RESIZE_CURSOR",
               })
           .put(
               "AttributeInUseException",
-              new Import[] {
-                new Import("AttributeInUseException", "javax.naming.directory", false),
+              new String[] {
+                "javax.naming.directory.AttributeInUseException",
               })
           .put(
               "NA_NUMBER_11_ENVELOPE",
-              new Import[] {
-                new Import("NA_NUMBER_11_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_NUMBER_11_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "NA_NUMBER_11_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.NA_NUMBER_11_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSizeName.NA_NUMBER_11_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSize.NA.NA_NUMBER_11_ENVELOPE",
               })
           .put(
               "Policy",
-              new Import[] {
-                new Import("Policy", "java.security", false),
-                new Import("Policy", "javax.security.auth", false),
-                new Import("Policy", "org.omg.CORBA", false),
+              new String[] {
+                "java.security.Policy", "javax.security.auth.Policy", "org.omg.CORBA.Policy",
               })
           .put(
               "managedBlock",
-              new Import[] {
-                new Import("managedBlock", "java.util.concurrent.ForkJoinPool", true),
+              new String[] {
+                "static java.util.concurrent.ForkJoinPool.managedBlock",
               })
           .put(
               "LazyValue",
-              new Import[] {
-                new Import("LazyValue", "javax.swing.UIDefaults", false),
+              new String[] {
+                "javax.swing.UIDefaults.LazyValue",
               })
           .put(
               "CertificateParsingException",
-              new Import[] {
-                new Import("CertificateParsingException", "java.security.cert", false),
-                new Import("CertificateParsingException", "javax.security.cert", false),
+              new String[] {
+                "java.security.cert.CertificateParsingException",
+                "javax.security.cert.CertificateParsingException",
               })
           .put(
               "AttributeContext",
-              new Import[] {
-                new Import("AttributeContext", "javax.swing.text.AbstractDocument", false),
+              new String[] {
+                "javax.swing.text.AbstractDocument.AttributeContext",
               })
           .put(
               "DATE_EDITOR",
-              new Import[] {
-                new Import("DATE_EDITOR", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.DATE_EDITOR",
               })
           .put(
               "Mixer",
-              new Import[] {
-                new Import("Mixer", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.Mixer",
               })
           .put(
               "ForkJoinTask",
-              new Import[] {
-                new Import("ForkJoinTask", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ForkJoinTask",
               })
           .put(
               "BeanContextServiceRevokedEvent",
-              new Import[] {
-                new Import("BeanContextServiceRevokedEvent", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextServiceRevokedEvent",
               })
           .put(
               "ACCESSIBLE_CHILD_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_CHILD_PROPERTY", "javax.accessibility.AccessibleContext", true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_CHILD_PROPERTY",
               })
           .put(
               "isJavaLetter",
-              new Import[] {
-                new Import("isJavaLetter", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isJavaLetter",
               })
           .put(
               "importedKeyCascade",
-              new Import[] {
-                new Import("importedKeyCascade", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.importedKeyCascade",
               })
           .put(
               "UnsupportedAudioFileException",
-              new Import[] {
-                new Import("UnsupportedAudioFileException", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.UnsupportedAudioFileException",
               })
           .put(
               "InvalidName",
-              new Import[] {
-                new Import("InvalidName", "org.omg.CORBA.ORBPackage", false),
-                new Import("InvalidName", "org.omg.CosNaming.NamingContextPackage", false),
-                new Import("InvalidName", "org.omg.PortableInterceptor.ORBInitInfoPackage", false),
+              new String[] {
+                "org.omg.CORBA.ORBPackage.InvalidName",
+                "org.omg.CosNaming.NamingContextPackage.InvalidName",
+                "org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidName",
               })
           .put(
               "computeStringWidth",
-              new Import[] {
-                new Import("computeStringWidth", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.computeStringWidth",
               })
           .put(
               "Encoder",
-              new Import[] {
-                new Import("Encoder", "java.beans", false),
-                new Import("Encoder", "java.util.Base64", false),
+              new String[] {
+                "java.beans.Encoder", "java.util.Base64.Encoder",
               })
           .put(
               "_tk_except",
-              new Import[] {
-                new Import("_tk_except", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_except",
               })
           .put(
               "TRANSFORM",
-              new Import[] {
-                new Import("TRANSFORM", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.TRANSFORM",
               })
           .put(
               "NamingException",
-              new Import[] {
-                new Import("NamingException", "javax.naming", false),
+              new String[] {
+                "javax.naming.NamingException",
               })
           .put(
               "ACCESSIBLE_TABLE_COLUMN_HEADER_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TABLE_COLUMN_HEADER_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
+              new String[] {
+                "static"
+                    + " javax.accessibility.AccessibleContext.ACCESSIBLE_TABLE_COLUMN_HEADER_CHANGED",
               })
           .put(
               "SYNCHRONIZED",
-              new Import[] {
-                new Import("SYNCHRONIZED", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.SYNCHRONIZED",
               })
           .put(
               "RowSetWriter",
-              new Import[] {
-                new Import("RowSetWriter", "javax.sql", false),
+              new String[] {
+                "javax.sql.RowSetWriter",
               })
           .put(
               "FORMATTED_TEXT_FIELD",
-              new Import[] {
-                new Import("FORMATTED_TEXT_FIELD", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.FORMATTED_TEXT_FIELD",
               })
           .put(
               "icSigAbstractClass",
-              new Import[] {
-                new Import("icSigAbstractClass", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigAbstractClass",
               })
           .put(
               "ValidationEventHandler",
-              new Import[] {
-                new Import("ValidationEventHandler", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.ValidationEventHandler",
               })
           .put(
               "ISO_C4_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C4_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C4_ENVELOPE",
               })
           .put(
               "SIMPLIFIED_HANZI",
-              new Import[] {
-                new Import("SIMPLIFIED_HANZI", "java.awt.im.InputSubset", true),
+              new String[] {
+                "static java.awt.im.InputSubset.SIMPLIFIED_HANZI",
               })
           .put(
               "SetOfIntegerSyntax",
-              new Import[] {
-                new Import("SetOfIntegerSyntax", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.SetOfIntegerSyntax",
               })
           .put(
               "VK_DECIMAL",
-              new Import[] {
-                new Import("VK_DECIMAL", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DECIMAL",
               })
           .put(
               "BeanContextServiceAvailableEvent",
-              new Import[] {
-                new Import("BeanContextServiceAvailableEvent", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextServiceAvailableEvent",
               })
           .put(
               "IDENTICAL",
-              new Import[] {
-                new Import("IDENTICAL", "java.text.Collator", true),
+              new String[] {
+                "static java.text.Collator.IDENTICAL",
               })
           .put(
               "comparing",
-              new Import[] {
-                new Import("comparing", "java.util.Comparator", true),
+              new String[] {
+                "static java.util.Comparator.comparing",
               })
           .put(
               "SynthProgressBarUI",
-              new Import[] {
-                new Import("SynthProgressBarUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthProgressBarUI",
               })
           .put(
               "IS_VALIDATING",
-              new Import[] {
-                new Import("IS_VALIDATING", "javax.xml.stream.XMLInputFactory", true),
+              new String[] {
+                "static javax.xml.stream.XMLInputFactory.IS_VALIDATING",
               })
           .put(
               "LongConsumer",
-              new Import[] {
-                new Import("LongConsumer", "java.util.function", false),
+              new String[] {
+                "java.util.function.LongConsumer",
               })
           .put(
               "NetPermission",
-              new Import[] {
-                new Import("NetPermission", "java.net", false),
+              new String[] {
+                "java.net.NetPermission",
               })
           .put(
               "PostConstruct",
-              new Import[] {
-                new Import("PostConstruct", "javax.annotation", false),
+              new String[] {
+                "javax.annotation.PostConstruct",
               })
           .put(
               "icSigMediaBlackPointTag",
-              new Import[] {
-                new Import("icSigMediaBlackPointTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigMediaBlackPointTag",
               })
           .put(
               "MouseInputAdapter",
-              new Import[] {
-                new Import("MouseInputAdapter", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.MouseInputAdapter",
               })
           .put(
               "HandshakeStatus",
-              new Import[] {
-                new Import("HandshakeStatus", "javax.net.ssl.SSLEngineResult", false),
+              new String[] {
+                "javax.net.ssl.SSLEngineResult.HandshakeStatus",
               })
           .put(
               "BasicAttributes",
-              new Import[] {
-                new Import("BasicAttributes", "javax.naming.directory", false),
+              new String[] {
+                "javax.naming.directory.BasicAttributes",
               })
           .put(
               "PALETTE_LAYER",
-              new Import[] {
-                new Import("PALETTE_LAYER", "javax.swing.JLayeredPane", true),
+              new String[] {
+                "static javax.swing.JLayeredPane.PALETTE_LAYER",
               })
           .put(
               "BindingTypeHelper",
-              new Import[] {
-                new Import("BindingTypeHelper", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.BindingTypeHelper",
               })
           .put(
               "X509Extension",
-              new Import[] {
-                new Import("X509Extension", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.X509Extension",
               })
           .put(
               "RoundRectangle2D",
-              new Import[] {
-                new Import("RoundRectangle2D", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.RoundRectangle2D",
               })
           .put(
               "BeanContextChild",
-              new Import[] {
-                new Import("BeanContextChild", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextChild",
               })
           .put(
               "BEST_SPEED",
-              new Import[] {
-                new Import("BEST_SPEED", "java.util.zip.Deflater", true),
+              new String[] {
+                "static java.util.zip.Deflater.BEST_SPEED",
               })
           .put(
               "ENTITY_DECLARATION",
-              new Import[] {
-                new Import("ENTITY_DECLARATION", "javax.xml.stream.XMLStreamConstants", true),
+              new String[] {
+                "static javax.xml.stream.XMLStreamConstants.ENTITY_DECLARATION",
               })
           .put(
               "versionColumnPseudo",
-              new Import[] {
-                new Import("versionColumnPseudo", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.versionColumnPseudo",
               })
           .put(
               "SwingConstants",
-              new Import[] {
-                new Import("SwingConstants", "javax.swing", false),
+              new String[] {
+                "javax.swing.SwingConstants",
               })
           .put(
               "UndoManager",
-              new Import[] {
-                new Import("UndoManager", "javax.swing.undo", false),
+              new String[] {
+                "javax.swing.undo.UndoManager",
               })
           .put(
               "SyncResolver",
-              new Import[] {
-                new Import("SyncResolver", "javax.sql.rowset.spi", false),
+              new String[] {
+                "javax.sql.rowset.spi.SyncResolver",
               })
           .put(
               "BORDER_RIGHT_WIDTH",
-              new Import[] {
-                new Import("BORDER_RIGHT_WIDTH", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_RIGHT_WIDTH",
               })
           .put(
               "ICC_ProfileRGB",
-              new Import[] {
-                new Import("ICC_ProfileRGB", "java.awt.color", false),
+              new String[] {
+                "java.awt.color.ICC_ProfileRGB",
               })
           .put(
               "AccessibleContext",
-              new Import[] {
-                new Import("AccessibleContext", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleContext",
               })
           .put(
               "getShort",
-              new Import[] {
-                new Import("getShort", "java.lang.reflect.Array", true),
+              new String[] {
+                "static java.lang.reflect.Array.getShort",
               })
           .put(
               "DirStateFactory",
-              new Import[] {
-                new Import("DirStateFactory", "javax.naming.spi", false),
+              new String[] {
+                "javax.naming.spi.DirStateFactory",
               })
           .put(
               "EnumSet",
-              new Import[] {
-                new Import("EnumSet", "java.util", false),
+              new String[] {
+                "java.util.EnumSet",
               })
           .put(
               "getObjectInstance",
-              new Import[] {
-                new Import("getObjectInstance", "javax.naming.spi.DirectoryManager", true),
-                new Import("getObjectInstance", "javax.naming.spi.NamingManager", true),
+              new String[] {
+                "static javax.naming.spi.DirectoryManager.getObjectInstance",
+                "static javax.naming.spi.NamingManager.getObjectInstance",
               })
           .put(
               "match",
-              new Import[] {
-                new Import("match", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.match",
               })
           .put(
               "CanonicalizationMethod",
-              new Import[] {
-                new Import("CanonicalizationMethod", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "javax.xml.crypto.dsig.CanonicalizationMethod",
               })
           .put(
               "EDITBAR",
-              new Import[] {
-                new Import("EDITBAR", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.EDITBAR",
               })
           .put(
               "DATATYPEFACTORY_IMPLEMENTATION_CLASS",
-              new Import[] {
-                new Import(
-                    "DATATYPEFACTORY_IMPLEMENTATION_CLASS",
-                    "javax.xml.datatype.DatatypeFactory",
-                    true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeFactory.DATATYPEFACTORY_IMPLEMENTATION_CLASS",
               })
           .put(
               "ServantActivatorOperations",
-              new Import[] {
-                new Import("ServantActivatorOperations", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ServantActivatorOperations",
               })
           .put(
               "ZipOutputStream",
-              new Import[] {
-                new Import("ZipOutputStream", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.ZipOutputStream",
               })
           .put(
               "PROCESSING_INSTRUCTION",
-              new Import[] {
-                new Import("PROCESSING_INSTRUCTION", "javax.xml.stream.XMLStreamConstants", true),
+              new String[] {
+                "static javax.xml.stream.XMLStreamConstants.PROCESSING_INSTRUCTION",
               })
           .put(
               "DATASOURCE_TABLE_LOCK",
-              new Import[] {
-                new Import("DATASOURCE_TABLE_LOCK", "javax.sql.rowset.spi.SyncProvider", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncProvider.DATASOURCE_TABLE_LOCK",
               })
           .put(
               "AccessMode",
-              new Import[] {
-                new Import("AccessMode", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.AccessMode",
               })
           .put(
               "NameComponentHolder",
-              new Import[] {
-                new Import("NameComponentHolder", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.NameComponentHolder",
               })
           .build();
 }
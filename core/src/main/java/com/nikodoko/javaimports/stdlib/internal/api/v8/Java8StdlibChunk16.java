@@ -2,1572 +2,1549 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk16 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "ScrollPaneAdjustable",
-              new Import[] {
-                new Import("ScrollPaneAdjustable", "java.awt", false),
+              new String[] {
+                "java.awt.ScrollPaneAdjustable",
               })
           .put(
               "Node",
-              new Import[] {
-                new Import("Node", "javax.xml.soap", false),
-                new Import("Node", "org.w3c.dom", false),
+              new String[] {
+                "javax.xml.soap.Node", "org.w3c.dom.Node",
               })
           .put(
               "RowSet",
-              new Import[] {
-                new Import("RowSet", "javax.sql", false),
+              new String[] {
+                "javax.sql.RowSet",
               })
           .put(
               "BasicSliderUI",
-              new Import[] {
-                new Import("BasicSliderUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicSliderUI",
               })
           .put(
               "ResponseWrapper",
-              new Import[] {
-                new Import("ResponseWrapper", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.ResponseWrapper",
               })
           .put(
               "MenuShortcut",
-              new Import[] {
-                new Import("MenuShortcut", "java.awt", false),
+              new String[] {
+                "java.awt.MenuShortcut",
               })
           .put(
               "INVITE",
-              new Import[] {
-                new Import("INVITE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.INVITE",
               })
           .put(
               "getFailureHandler",
-              new Import[] {
-                new Import("getFailureHandler", "java.rmi.server.RMISocketFactory", true),
+              new String[] {
+                "static java.rmi.server.RMISocketFactory.getFailureHandler",
               })
           .put(
               "DOCUMENT_FORMAT_ERROR",
-              new Import[] {
-                new Import(
-                    "DOCUMENT_FORMAT_ERROR", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.DOCUMENT_FORMAT_ERROR",
               })
           .put(
               "AtomicReferenceArray",
-              new Import[] {
-                new Import("AtomicReferenceArray", "java.util.concurrent.atomic", false),
+              new String[] {
+                "java.util.concurrent.atomic.AtomicReferenceArray",
               })
           .put(
               "leq",
-              new Import[] {
-                new Import("leq", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.leq",
               })
           .put(
               "NO_DECOMPOSITION",
-              new Import[] {
-                new Import("NO_DECOMPOSITION", "java.text.Collator", true),
+              new String[] {
+                "static java.text.Collator.NO_DECOMPOSITION",
               })
           .put(
               "ImplicitActivationPolicy",
-              new Import[] {
-                new Import("ImplicitActivationPolicy", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ImplicitActivationPolicy",
               })
           .put(
               "TYPE1_FONT",
-              new Import[] {
-                new Import("TYPE1_FONT", "java.awt.Font", true),
+              new String[] {
+                "static java.awt.Font.TYPE1_FONT",
               })
           .put(
               "URI_NS_SOAP_1_2_ENCODING",
-              new Import[] {
-                new Import("URI_NS_SOAP_1_2_ENCODING", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.URI_NS_SOAP_1_2_ENCODING",
               })
           .put(
               "IncompatibleClassChangeError",
-              new Import[] {
-                new Import("IncompatibleClassChangeError", "java.lang", false),
+              new String[] {
+                "java.lang.IncompatibleClassChangeError",
               })
           .put(
               "getSeparatorForeground",
-              new Import[] {
-                new Import(
-                    "getSeparatorForeground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getSeparatorForeground",
               })
           .put(
               "_tk_abstract_interface",
-              new Import[] {
-                new Import("_tk_abstract_interface", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_abstract_interface",
               })
           .put(
               "PITCH_BEND",
-              new Import[] {
-                new Import("PITCH_BEND", "javax.sound.midi.ShortMessage", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.PITCH_BEND",
               })
           .put(
               "INITIAL_VALUE_PROPERTY",
-              new Import[] {
-                new Import("INITIAL_VALUE_PROPERTY", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.INITIAL_VALUE_PROPERTY",
               })
           .put(
               "PARAM_INOUT",
-              new Import[] {
-                new Import("PARAM_INOUT", "org.omg.CORBA.ParameterMode", true),
+              new String[] {
+                "static org.omg.CORBA.ParameterMode.PARAM_INOUT",
               })
           .put(
               "ORBInitInfo",
-              new Import[] {
-                new Import("ORBInitInfo", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ORBInitInfo",
               })
           .put(
               "ListSelectionListener",
-              new Import[] {
-                new Import("ListSelectionListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.ListSelectionListener",
               })
           .put(
               "selectionForwardAction",
-              new Import[] {
-                new Import("selectionForwardAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectionForwardAction",
               })
           .put(
               "getQueuedTaskCount",
-              new Import[] {
-                new Import("getQueuedTaskCount", "java.util.concurrent.ForkJoinTask", true),
+              new String[] {
+                "static java.util.concurrent.ForkJoinTask.getQueuedTaskCount",
               })
           .put(
               "EXPANDS_SELECTED_PATHS_PROPERTY",
-              new Import[] {
-                new Import("EXPANDS_SELECTED_PATHS_PROPERTY", "javax.swing.JTree", true),
+              new String[] {
+                "static javax.swing.JTree.EXPANDS_SELECTED_PATHS_PROPERTY",
               })
           .put(
               "BASELINE_TRAILING",
-              new Import[] {
-                new Import("BASELINE_TRAILING", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.BASELINE_TRAILING",
               })
           .put(
               "KATAKANA",
-              new Import[] {
-                new Import("KATAKANA", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.KATAKANA",
               })
           .put(
               "icSigCopyrightTag",
-              new Import[] {
-                new Import("icSigCopyrightTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigCopyrightTag",
               })
           .put(
               "XAER_NOTA",
-              new Import[] {
-                new Import("XAER_NOTA", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XAER_NOTA",
               })
           .put(
               "ISO_C3_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C3_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C3_ENVELOPE",
               })
           .put(
               "InternalError",
-              new Import[] {
-                new Import("InternalError", "java.lang", false),
+              new String[] {
+                "java.lang.InternalError",
               })
           .put(
               "getGrooveInsets",
-              new Import[] {
-                new Import("getGrooveInsets", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicGraphicsUtils.getGrooveInsets",
               })
           .put(
               "MethodHandle",
-              new Import[] {
-                new Import("MethodHandle", "java.lang.invoke", false),
+              new String[] {
+                "java.lang.invoke.MethodHandle",
               })
           .put(
               "getFileStore",
-              new Import[] {
-                new Import("getFileStore", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.getFileStore",
               })
           .put(
               "FONT_CHANGE_SMALLER",
-              new Import[] {
-                new Import("FONT_CHANGE_SMALLER", "javax.swing.text.html.HTMLEditorKit", true),
+              new String[] {
+                "static javax.swing.text.html.HTMLEditorKit.FONT_CHANGE_SMALLER",
               })
           .put(
               "INVALID_STATE_ERR",
-              new Import[] {
-                new Import("INVALID_STATE_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.INVALID_STATE_ERR",
               })
           .put(
               "SynthSplitPaneUI",
-              new Import[] {
-                new Import("SynthSplitPaneUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthSplitPaneUI",
               })
           .put(
               "Highlight",
-              new Import[] {
-                new Import("Highlight", "javax.swing.text.Highlighter", false),
+              new String[] {
+                "javax.swing.text.Highlighter.Highlight",
               })
           .put(
               "JAXB",
-              new Import[] {
-                new Import("JAXB", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.JAXB",
               })
           .put(
               "createEtchedBorder",
-              new Import[] {
-                new Import("createEtchedBorder", "javax.swing.BorderFactory", true),
+              new String[] {
+                "static javax.swing.BorderFactory.createEtchedBorder",
               })
           .put(
               "XMLEventFactory",
-              new Import[] {
-                new Import("XMLEventFactory", "javax.xml.stream", false),
+              new String[] {
+                "javax.xml.stream.XMLEventFactory",
               })
           .put(
               "getAllTags",
-              new Import[] {
-                new Import("getAllTags", "javax.swing.text.html.HTML", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.getAllTags",
               })
           .put(
               "TransformService",
-              new Import[] {
-                new Import("TransformService", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "javax.xml.crypto.dsig.TransformService",
               })
           .put(
               "USERNAME_PROPERTY",
-              new Import[] {
-                new Import("USERNAME_PROPERTY", "javax.xml.ws.BindingProvider", true),
+              new String[] {
+                "static javax.xml.ws.BindingProvider.USERNAME_PROPERTY",
               })
           .put(
               "AncestorEvent",
-              new Import[] {
-                new Import("AncestorEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.AncestorEvent",
               })
           .put(
               "isFinite",
-              new Import[] {
-                new Import("isFinite", "java.lang.Double", true),
-                new Import("isFinite", "java.lang.Float", true),
+              new String[] {
+                "static java.lang.Double.isFinite", "static java.lang.Float.isFinite",
               })
           .put(
               "JobStateReasons",
-              new Import[] {
-                new Import("JobStateReasons", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobStateReasons",
               })
           .put(
               "TRACKING_LOOSE",
-              new Import[] {
-                new Import("TRACKING_LOOSE", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.TRACKING_LOOSE",
               })
           .put(
               "SQLDataException",
-              new Import[] {
-                new Import("SQLDataException", "java.sql", false),
+              new String[] {
+                "java.sql.SQLDataException",
               })
           .put(
               "CallableStatement",
-              new Import[] {
-                new Import("CallableStatement", "java.sql", false),
+              new String[] {
+                "java.sql.CallableStatement",
               })
           .put(
               "builder",
-              new Import[] {
-                new Import("builder", "java.util.stream.DoubleStream", true),
-                new Import("builder", "java.util.stream.IntStream", true),
-                new Import("builder", "java.util.stream.LongStream", true),
-                new Import("builder", "java.util.stream.Stream", true),
+              new String[] {
+                "static java.util.stream.DoubleStream.builder",
+                "static java.util.stream.IntStream.builder",
+                "static java.util.stream.LongStream.builder",
+                "static java.util.stream.Stream.builder",
               })
           .put(
               "COPTIC",
-              new Import[] {
-                new Import("COPTIC", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.COPTIC",
               })
           .put(
               "CLOSE_CURRENT_RESULT",
-              new Import[] {
-                new Import("CLOSE_CURRENT_RESULT", "java.sql.Statement", true),
+              new String[] {
+                "static java.sql.Statement.CLOSE_CURRENT_RESULT",
               })
           .put(
               "DefaultValidationEventHandler",
-              new Import[] {
-                new Import("DefaultValidationEventHandler", "javax.xml.bind.helpers", false),
+              new String[] {
+                "javax.xml.bind.helpers.DefaultValidationEventHandler",
               })
           .put(
               "DateTimeAtProcessing",
-              new Import[] {
-                new Import("DateTimeAtProcessing", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.DateTimeAtProcessing",
               })
           .put(
               "drawLoweredBezel",
-              new Import[] {
-                new Import("drawLoweredBezel", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicGraphicsUtils.drawLoweredBezel",
               })
           .put(
               "Repeatable",
-              new Import[] {
-                new Import("Repeatable", "java.lang.annotation", false),
+              new String[] {
+                "java.lang.annotation.Repeatable",
               })
           .put(
               "VALUE_RENDER_SPEED",
-              new Import[] {
-                new Import("VALUE_RENDER_SPEED", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_RENDER_SPEED",
               })
           .put(
               "DINGBATS",
-              new Import[] {
-                new Import("DINGBATS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.DINGBATS",
               })
           .put(
               "BasicToggleButtonUI",
-              new Import[] {
-                new Import("BasicToggleButtonUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicToggleButtonUI",
               })
           .put(
               "newDirectoryStream",
-              new Import[] {
-                new Import("newDirectoryStream", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.newDirectoryStream",
               })
           .put(
               "DocPrintJob",
-              new Import[] {
-                new Import("DocPrintJob", "javax.print", false),
+              new String[] {
+                "javax.print.DocPrintJob",
               })
           .put(
               "SCROLL_BAR_TRACK",
-              new Import[] {
-                new Import("SCROLL_BAR_TRACK", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.SCROLL_BAR_TRACK",
               })
           .put(
               "SELECTABLE",
-              new Import[] {
-                new Import("SELECTABLE", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.SELECTABLE",
               })
           .put(
               "NA_9x11_ENVELOPE",
-              new Import[] {
-                new Import("NA_9x11_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.NA.NA_9x11_ENVELOPE",
               })
           .put(
               "MathContext",
-              new Import[] {
-                new Import("MathContext", "java.math", false),
+              new String[] {
+                "java.math.MathContext",
               })
           .put(
               "ALIGN_DECIMAL",
-              new Import[] {
-                new Import("ALIGN_DECIMAL", "javax.swing.text.TabStop", true),
+              new String[] {
+                "static javax.swing.text.TabStop.ALIGN_DECIMAL",
               })
           .put(
               "KAITHI",
-              new Import[] {
-                new Import("KAITHI", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.KAITHI",
               })
           .put(
               "RequestProcessingPolicyValue",
-              new Import[] {
-                new Import("RequestProcessingPolicyValue", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.RequestProcessingPolicyValue",
               })
           .put(
               "RIGHT_TO_LEFT",
-              new Import[] {
-                new Import("RIGHT_TO_LEFT", "java.awt.ComponentOrientation", true),
+              new String[] {
+                "static java.awt.ComponentOrientation.RIGHT_TO_LEFT",
               })
           .put(
               "ICON_PROPERTY",
-              new Import[] {
-                new Import("ICON_PROPERTY", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.ICON_PROPERTY",
               })
           .put(
               "MULTI_LINE",
-              new Import[] {
-                new Import("MULTI_LINE", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.MULTI_LINE",
               })
           .put(
               "TreeSelectionModel",
-              new Import[] {
-                new Import("TreeSelectionModel", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.TreeSelectionModel",
               })
           .put(
               "InterruptedByTimeoutException",
-              new Import[] {
-                new Import("InterruptedByTimeoutException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.InterruptedByTimeoutException",
               })
           .put(
               "ACTION_LAST",
-              new Import[] {
-                new Import("ACTION_LAST", "java.awt.event.ActionEvent", true),
+              new String[] {
+                "static java.awt.event.ActionEvent.ACTION_LAST",
               })
           .put(
               "AnnotatedElement",
-              new Import[] {
-                new Import("AnnotatedElement", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.AnnotatedElement",
               })
           .put(
               "TAKRI",
-              new Import[] {
-                new Import("TAKRI", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.TAKRI",
               })
           .put(
               "AbstractWriter",
-              new Import[] {
-                new Import("AbstractWriter", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.AbstractWriter",
               })
           .put(
               "FormSubmitEvent",
-              new Import[] {
-                new Import("FormSubmitEvent", "javax.swing.text.html", false),
+              new String[] {
+                "javax.swing.text.html.FormSubmitEvent",
               })
           .put(
               "CONCUR_READ_ONLY",
-              new Import[] {
-                new Import("CONCUR_READ_ONLY", "java.sql.ResultSet", true),
+              new String[] {
+                "static java.sql.ResultSet.CONCUR_READ_ONLY",
               })
           .put(
               "getInternalFrameAltMaximizeIcon",
-              new Import[] {
-                new Import(
-                    "getInternalFrameAltMaximizeIcon",
-                    "javax.swing.plaf.metal.MetalIconFactory",
-                    true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getInternalFrameAltMaximizeIcon",
               })
           .put(
               "RMIFailureHandler",
-              new Import[] {
-                new Import("RMIFailureHandler", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.RMIFailureHandler",
               })
           .put(
               "ofDefaultLocale",
-              new Import[] {
-                new Import("ofDefaultLocale", "java.time.format.DecimalStyle", true),
+              new String[] {
+                "static java.time.format.DecimalStyle.ofDefaultLocale",
               })
           .put(
               "ProxySelector",
-              new Import[] {
-                new Import("ProxySelector", "java.net", false),
+              new String[] {
+                "java.net.ProxySelector",
               })
           .put(
               "ISO_LOCAL_TIME",
-              new Import[] {
-                new Import("ISO_LOCAL_TIME", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ISO_LOCAL_TIME",
               })
           .put(
               "ECField",
-              new Import[] {
-                new Import("ECField", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.ECField",
               })
           .put(
               "TEXT_DECORATION",
-              new Import[] {
-                new Import("TEXT_DECORATION", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.TEXT_DECORATION",
               })
           .put(
               "ServantLocatorOperations",
-              new Import[] {
-                new Import("ServantLocatorOperations", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ServantLocatorOperations",
               })
           .put(
               "XMLReporter",
-              new Import[] {
-                new Import("XMLReporter", "javax.xml.stream", false),
+              new String[] {
+                "javax.xml.stream.XMLReporter",
               })
           .put(
               "compile",
-              new Import[] {
-                new Import("compile", "java.util.regex.Pattern", true),
+              new String[] {
+                "static java.util.regex.Pattern.compile",
               })
           .put(
               "UnknownUserExceptionHolder",
-              new Import[] {
-                new Import("UnknownUserExceptionHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.UnknownUserExceptionHolder",
               })
           .put(
               "AccessibleRelation",
-              new Import[] {
-                new Import("AccessibleRelation", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleRelation",
               })
           .put(
               "VK_UNDO",
-              new Import[] {
-                new Import("VK_UNDO", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_UNDO",
               })
           .put(
               "BasicIconFactory",
-              new Import[] {
-                new Import("BasicIconFactory", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicIconFactory",
               })
           .put(
               "OP_WRITE",
-              new Import[] {
-                new Import("OP_WRITE", "java.nio.channels.SelectionKey", true),
+              new String[] {
+                "static java.nio.channels.SelectionKey.OP_WRITE",
               })
           .put(
               "HTTP_NO_CONTENT",
-              new Import[] {
-                new Import("HTTP_NO_CONTENT", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_NO_CONTENT",
               })
           .put(
               "ofSeconds",
-              new Import[] {
-                new Import("ofSeconds", "java.time.Duration", true),
+              new String[] {
+                "static java.time.Duration.ofSeconds",
               })
           .put(
               "LongLongSeqHelper",
-              new Import[] {
-                new Import("LongLongSeqHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.LongLongSeqHelper",
               })
           .put(
               "TYPE_3BYTE_BGR",
-              new Import[] {
-                new Import("TYPE_3BYTE_BGR", "java.awt.image.BufferedImage", true),
+              new String[] {
+                "static java.awt.image.BufferedImage.TYPE_3BYTE_BGR",
               })
           .put(
               "HierarchyBoundsListener",
-              new Import[] {
-                new Import("HierarchyBoundsListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.HierarchyBoundsListener",
               })
           .put(
               "BIG_ENDIAN",
-              new Import[] {
-                new Import("BIG_ENDIAN", "java.nio.ByteOrder", true),
+              new String[] {
+                "static java.nio.ByteOrder.BIG_ENDIAN",
               })
           .put(
               "CompositeDataSupport",
-              new Import[] {
-                new Import("CompositeDataSupport", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.CompositeDataSupport",
               })
           .put(
               "ACCESSIBLE_SELECTION_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_SELECTION_PROPERTY", "javax.accessibility.AccessibleContext", true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_SELECTION_PROPERTY",
               })
           .put(
               "AccessControlException",
-              new Import[] {
-                new Import("AccessControlException", "java.security", false),
+              new String[] {
+                "java.security.AccessControlException",
               })
           .put(
               "getPolicy",
-              new Import[] {
-                new Import("getPolicy", "java.security.Policy", true),
-                new Import("getPolicy", "javax.security.auth.Policy", true),
+              new String[] {
+                "static java.security.Policy.getPolicy",
+                "static javax.security.auth.Policy.getPolicy",
               })
           .put(
               "unmodifiableMap",
-              new Import[] {
-                new Import("unmodifiableMap", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.unmodifiableMap",
               })
           .put(
               "XmlEnum",
-              new Import[] {
-                new Import("XmlEnum", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlEnum",
               })
           .put(
               "CacheResponse",
-              new Import[] {
-                new Import("CacheResponse", "java.net", false),
+              new String[] {
+                "java.net.CacheResponse",
               })
           .put(
               "KerberosKey",
-              new Import[] {
-                new Import("KerberosKey", "javax.security.auth.kerberos", false),
+              new String[] {
+                "javax.security.auth.kerberos.KerberosKey",
               })
           .put(
               "endAction",
-              new Import[] {
-                new Import("endAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.endAction",
               })
           .put(
               "FRACTION_FIELD",
-              new Import[] {
-                new Import("FRACTION_FIELD", "java.text.NumberFormat", true),
+              new String[] {
+                "static java.text.NumberFormat.FRACTION_FIELD",
               })
           .put(
               "fixed",
-              new Import[] {
-                new Import("fixed", "java.time.Clock", true),
+              new String[] {
+                "static java.time.Clock.fixed",
               })
           .put(
               "START_DOCUMENT",
-              new Import[] {
-                new Import("START_DOCUMENT", "javax.xml.stream.XMLStreamConstants", true),
+              new String[] {
+                "static javax.xml.stream.XMLStreamConstants.START_DOCUMENT",
               })
           .put(
               "CENHOW",
-              new Import[] {
-                new Import("CENHOW", "java.util.jar.JarEntry", true),
-                new Import("CENHOW", "java.util.jar.JarFile", true),
-                new Import("CENHOW", "java.util.jar.JarInputStream", true),
-                new Import("CENHOW", "java.util.jar.JarOutputStream", true),
-                new Import("CENHOW", "java.util.zip.ZipEntry", true),
-                new Import("CENHOW", "java.util.zip.ZipFile", true),
-                new Import("CENHOW", "java.util.zip.ZipInputStream", true),
-                new Import("CENHOW", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENHOW",
+                "static java.util.jar.JarFile.CENHOW",
+                "static java.util.jar.JarInputStream.CENHOW",
+                "static java.util.jar.JarOutputStream.CENHOW",
+                "static java.util.zip.ZipEntry.CENHOW",
+                "static java.util.zip.ZipFile.CENHOW",
+                "static java.util.zip.ZipInputStream.CENHOW",
+                "static java.util.zip.ZipOutputStream.CENHOW",
               })
           .put(
               "XmlAccessorOrder",
-              new Import[] {
-                new Import("XmlAccessorOrder", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlAccessorOrder",
               })
           .put(
               "_dk_Wstring",
-              new Import[] {
-                new Import("_dk_Wstring", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Wstring",
               })
           .put(
               "Iterable",
-              new Import[] {
-                new Import("Iterable", "java.lang", false),
+              new String[] {
+                "java.lang.Iterable",
               })
           .put(
               "getParagraphElement",
-              new Import[] {
-                new Import("getParagraphElement", "javax.swing.text.Utilities", true),
+              new String[] {
+                "static javax.swing.text.Utilities.getParagraphElement",
               })
           .put(
               "CertPathBuilderResult",
-              new Import[] {
-                new Import("CertPathBuilderResult", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertPathBuilderResult",
               })
           .put(
               "VK_SUBTRACT",
-              new Import[] {
-                new Import("VK_SUBTRACT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_SUBTRACT",
               })
           .put(
               "setDataContentHandlerFactory",
-              new Import[] {
-                new Import("setDataContentHandlerFactory", "javax.activation.DataHandler", true),
+              new String[] {
+                "static javax.activation.DataHandler.setDataContentHandlerFactory",
               })
           .put(
               "ExecutorCompletionService",
-              new Import[] {
-                new Import("ExecutorCompletionService", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ExecutorCompletionService",
               })
           .put(
               "RolloverButtonBorder",
-              new Import[] {
-                new Import("RolloverButtonBorder", "javax.swing.plaf.basic.BasicBorders", false),
-                new Import("RolloverButtonBorder", "javax.swing.plaf.metal.MetalBorders", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicBorders.RolloverButtonBorder",
+                "javax.swing.plaf.metal.MetalBorders.RolloverButtonBorder",
               })
           .put(
               "toOctalString",
-              new Import[] {
-                new Import("toOctalString", "java.lang.Integer", true),
-                new Import("toOctalString", "java.lang.Long", true),
+              new String[] {
+                "static java.lang.Integer.toOctalString", "static java.lang.Long.toOctalString",
               })
           .put(
               "MAXGTRIDSIZE",
-              new Import[] {
-                new Import("MAXGTRIDSIZE", "javax.transaction.xa.Xid", true),
+              new String[] {
+                "static javax.transaction.xa.Xid.MAXGTRIDSIZE",
               })
           .put(
               "WEIGHT_EXTRA_LIGHT",
-              new Import[] {
-                new Import("WEIGHT_EXTRA_LIGHT", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WEIGHT_EXTRA_LIGHT",
               })
           .put(
               "ReferenceUriSchemesSupported",
-              new Import[] {
-                new Import("ReferenceUriSchemesSupported", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.ReferenceUriSchemesSupported",
               })
           .put(
               "documentBaseKey",
-              new Import[] {
-                new Import("documentBaseKey", "javax.swing.plaf.basic.BasicHTML", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicHTML.documentBaseKey",
               })
           .put(
               "PUBLIC_MEMBER",
-              new Import[] {
-                new Import("PUBLIC_MEMBER", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.PUBLIC_MEMBER",
               })
           .put(
               "HijrahEra",
-              new Import[] {
-                new Import("HijrahEra", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.HijrahEra",
               })
           .put(
               "CardLayout",
-              new Import[] {
-                new Import("CardLayout", "java.awt", false),
+              new String[] {
+                "java.awt.CardLayout",
               })
           .put(
               "getUnboundInstance",
-              new Import[] {
-                new Import("getUnboundInstance", "javax.security.auth.kerberos.KeyTab", true),
+              new String[] {
+                "static javax.security.auth.kerberos.KeyTab.getUnboundInstance",
               })
           .put(
               "UnsolicitedNotificationEvent",
-              new Import[] {
-                new Import("UnsolicitedNotificationEvent", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.UnsolicitedNotificationEvent",
               })
           .put(
               "JobPriority",
-              new Import[] {
-                new Import("JobPriority", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobPriority",
               })
           .put(
               "Provider",
-              new Import[] {
-                new Import("Provider", "java.security", false),
-                new Import("Provider", "javax.xml.ws", false),
-                new Import("Provider", "javax.xml.ws.spi", false),
+              new String[] {
+                "java.security.Provider", "javax.xml.ws.Provider", "javax.xml.ws.spi.Provider",
               })
           .put(
               "DOCUMENT_POSITION_DISCONNECTED",
-              new Import[] {
-                new Import("DOCUMENT_POSITION_DISCONNECTED", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.DOCUMENT_POSITION_DISCONNECTED",
               })
           .put(
               "parseInt",
-              new Import[] {
-                new Import("parseInt", "java.lang.Integer", true),
-                new Import("parseInt", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static java.lang.Integer.parseInt",
+                "static javax.xml.bind.DatatypeConverter.parseInt",
               })
           .put(
               "MONDAY",
-              new Import[] {
-                new Import("MONDAY", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.MONDAY",
               })
           .put(
               "downAction",
-              new Import[] {
-                new Import("downAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.downAction",
               })
           .put(
               "SELECTED_CONVERTED_TEXT_HIGHLIGHT",
-              new Import[] {
-                new Import(
-                    "SELECTED_CONVERTED_TEXT_HIGHLIGHT", "java.awt.im.InputMethodHighlight", true),
+              new String[] {
+                "static java.awt.im.InputMethodHighlight.SELECTED_CONVERTED_TEXT_HIGHLIGHT",
               })
           .put(
               "maxBy",
-              new Import[] {
-                new Import("maxBy", "java.util.function.BinaryOperator", true),
-                new Import("maxBy", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.function.BinaryOperator.maxBy",
+                "static java.util.stream.Collectors.maxBy",
               })
           .put(
               "InputMapUIResource",
-              new Import[] {
-                new Import("InputMapUIResource", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.InputMapUIResource",
               })
           .put(
               "ABOVE_BASELINE_LEADING",
-              new Import[] {
-                new Import("ABOVE_BASELINE_LEADING", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.ABOVE_BASELINE_LEADING",
               })
           .put(
               "MalformedInputException",
-              new Import[] {
-                new Import("MalformedInputException", "java.nio.charset", false),
+              new String[] {
+                "java.nio.charset.MalformedInputException",
               })
           .put(
               "FALSE",
-              new Import[] {
-                new Import("FALSE", "java.lang.Boolean", true),
-                new Import("FALSE", "java.util.jar.Pack200.Packer", true),
-                new Import("FALSE", "java.util.jar.Pack200.Unpacker", true),
+              new String[] {
+                "static java.lang.Boolean.FALSE",
+                "static java.util.jar.Pack200.Packer.FALSE",
+                "static java.util.jar.Pack200.Unpacker.FALSE",
               })
           .put(
               "HTTP_FORBIDDEN",
-              new Import[] {
-                new Import("HTTP_FORBIDDEN", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_FORBIDDEN",
               })
           .put(
               "DoubleStream",
-              new Import[] {
-                new Import("DoubleStream", "java.util.stream", false),
+              new String[] {
+                "java.util.stream.DoubleStream",
               })
           .put(
               "TAGBANWA",
-              new Import[] {
-                new Import("TAGBANWA", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.TAGBANWA",
               })
           .put(
               "REGISTRY_PORT",
-              new Import[] {
-                new Import("REGISTRY_PORT", "java.rmi.registry.Registry", true),
+              new String[] {
+                "static java.rmi.registry.Registry.REGISTRY_PORT",
               })
           .put(
               "UnknownObjectException",
-              new Import[] {
-                new Import("UnknownObjectException", "java.rmi.activation", false),
+              new String[] {
+                "java.rmi.activation.UnknownObjectException",
               })
           .put(
               "StringValueHelper",
-              new Import[] {
-                new Import("StringValueHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.StringValueHelper",
               })
           .put(
               "SYSTEM_RESET",
-              new Import[] {
-                new Import("SYSTEM_RESET", "javax.sound.midi.ShortMessage", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.SYSTEM_RESET",
               })
           .put(
               "RUN_DIRECTION",
-              new Import[] {
-                new Import("RUN_DIRECTION", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.RUN_DIRECTION",
               })
           .put(
               "TWO_SIDED_SHORT_EDGE",
-              new Import[] {
-                new Import("TWO_SIDED_SHORT_EDGE", "java.awt.JobAttributes.SidesType", true),
-                new Import("TWO_SIDED_SHORT_EDGE", "javax.print.attribute.standard.Sides", true),
+              new String[] {
+                "static java.awt.JobAttributes.SidesType.TWO_SIDED_SHORT_EDGE",
+                "static javax.print.attribute.standard.Sides.TWO_SIDED_SHORT_EDGE",
               })
           .put(
               "BASE64",
-              new Import[] {
-                new Import("BASE64", "javax.xml.crypto.dsig.Transform", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.Transform.BASE64",
               })
           .put(
               "TEXT_PLAIN_UTF_16LE",
-              new Import[] {
-                new Import("TEXT_PLAIN_UTF_16LE", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_PLAIN_UTF_16LE", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_PLAIN_UTF_16LE", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.TEXT_PLAIN_UTF_16LE",
+                "static javax.print.DocFlavor.INPUT_STREAM.TEXT_PLAIN_UTF_16LE",
+                "static javax.print.DocFlavor.URL.TEXT_PLAIN_UTF_16LE",
               })
           .put(
               "INPUT_METHOD_HIGHLIGHT",
-              new Import[] {
-                new Import("INPUT_METHOD_HIGHLIGHT", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.INPUT_METHOD_HIGHLIGHT",
               })
           .put(
               "AdapterAlreadyExists",
-              new Import[] {
-                new Import("AdapterAlreadyExists", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.AdapterAlreadyExists",
               })
           .put(
               "FileLock",
-              new Import[] {
-                new Import("FileLock", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.FileLock",
               })
           .put(
               "DigestException",
-              new Import[] {
-                new Import("DigestException", "java.security", false),
+              new String[] {
+                "java.security.DigestException",
               })
           .put(
               "Boolean",
-              new Import[] {
-                new Import("Boolean", "java.lang", false),
+              new String[] {
+                "java.lang.Boolean",
               })
           .put(
               "DUPLEX",
-              new Import[] {
-                new Import("DUPLEX", "javax.print.attribute.standard.Sides", true),
+              new String[] {
+                "static javax.print.attribute.standard.Sides.DUPLEX",
               })
           .put(
               "ValidationEventCollector",
-              new Import[] {
-                new Import("ValidationEventCollector", "javax.xml.bind.util", false),
+              new String[] {
+                "javax.xml.bind.util.ValidationEventCollector",
               })
           .put(
               "LdapContext",
-              new Import[] {
-                new Import("LdapContext", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.LdapContext",
               })
           .put(
               "TYPE_INT",
-              new Import[] {
-                new Import("TYPE_INT", "java.awt.image.DataBuffer", true),
+              new String[] {
+                "static java.awt.image.DataBuffer.TYPE_INT",
               })
           .put(
               "URIReference",
-              new Import[] {
-                new Import("URIReference", "javax.xml.crypto", false),
+              new String[] {
+                "javax.xml.crypto.URIReference",
               })
           .put(
               "DES_KEY_LEN",
-              new Import[] {
-                new Import("DES_KEY_LEN", "javax.crypto.spec.DESKeySpec", true),
+              new String[] {
+                "static javax.crypto.spec.DESKeySpec.DES_KEY_LEN",
               })
           .put(
               "EmptySelectionModel",
-              new Import[] {
-                new Import("EmptySelectionModel", "javax.swing.JTree", false),
+              new String[] {
+                "javax.swing.JTree.EmptySelectionModel",
               })
           .put(
               "RetrievalMethod",
-              new Import[] {
-                new Import("RetrievalMethod", "javax.xml.crypto.dsig.keyinfo", false),
+              new String[] {
+                "javax.xml.crypto.dsig.keyinfo.RetrievalMethod",
               })
           .put(
               "javaRemoteObjectMimeType",
-              new Import[] {
-                new Import("javaRemoteObjectMimeType", "java.awt.datatransfer.DataFlavor", true),
+              new String[] {
+                "static java.awt.datatransfer.DataFlavor.javaRemoteObjectMimeType",
               })
           .put(
               "DISTINCT",
-              new Import[] {
-                new Import("DISTINCT", "java.sql.Types", true),
-                new Import("DISTINCT", "java.util.Spliterator", true),
+              new String[] {
+                "static java.sql.Types.DISTINCT", "static java.util.Spliterator.DISTINCT",
               })
           .put(
               "printDate",
-              new Import[] {
-                new Import("printDate", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printDate",
               })
           .put(
               "NodeList",
-              new Import[] {
-                new Import("NodeList", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.NodeList",
               })
           .put(
               "STYLE",
-              new Import[] {
-                new Import("STYLE", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("STYLE", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.STYLE",
+                "static javax.swing.text.html.HTML.Tag.STYLE",
               })
           .put(
               "NEW_TAI_LUE",
-              new Import[] {
-                new Import("NEW_TAI_LUE", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.NEW_TAI_LUE",
               })
           .put(
               "InputMethodEvent",
-              new Import[] {
-                new Import("InputMethodEvent", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.InputMethodEvent",
               })
           .put(
               "DynEnum",
-              new Import[] {
-                new Import("DynEnum", "org.omg.CORBA", false),
-                new Import("DynEnum", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.CORBA.DynEnum", "org.omg.DynamicAny.DynEnum",
               })
           .put(
               "CELLSPACING",
-              new Import[] {
-                new Import("CELLSPACING", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.CELLSPACING",
               })
           .put(
               "CannotProceedHolder",
-              new Import[] {
-                new Import("CannotProceedHolder", "org.omg.CosNaming.NamingContextPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.CannotProceedHolder",
               })
           .put(
               "FULL_FLUSH",
-              new Import[] {
-                new Import("FULL_FLUSH", "java.util.zip.Deflater", true),
+              new String[] {
+                "static java.util.zip.Deflater.FULL_FLUSH",
               })
           .put(
               "StringMonitor",
-              new Import[] {
-                new Import("StringMonitor", "javax.management.monitor", false),
+              new String[] {
+                "javax.management.monitor.StringMonitor",
               })
           .put(
               "Applet",
-              new Import[] {
-                new Import("Applet", "java.applet", false),
+              new String[] {
+                "java.applet.Applet",
               })
           .put(
               "getByAddress",
-              new Import[] {
-                new Import("getByAddress", "java.net.Inet6Address", true),
-                new Import("getByAddress", "java.net.InetAddress", true),
+              new String[] {
+                "static java.net.Inet6Address.getByAddress",
+                "static java.net.InetAddress.getByAddress",
               })
           .put(
               "TEXT_PANE",
-              new Import[] {
-                new Import("TEXT_PANE", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.TEXT_PANE",
               })
           .put(
               "HttpsURLConnection",
-              new Import[] {
-                new Import("HttpsURLConnection", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.HttpsURLConnection",
               })
           .put(
               "ProcessingInstruction",
-              new Import[] {
-                new Import("ProcessingInstruction", "javax.xml.stream.events", false),
-                new Import("ProcessingInstruction", "org.w3c.dom", false),
+              new String[] {
+                "javax.xml.stream.events.ProcessingInstruction",
+                "org.w3c.dom.ProcessingInstruction",
               })
           .put(
               "comparingByKey",
-              new Import[] {
-                new Import("comparingByKey", "java.util.Map.Entry", true),
+              new String[] {
+                "static java.util.Map.Entry.comparingByKey",
               })
           .put(
               "getBlocker",
-              new Import[] {
-                new Import("getBlocker", "java.util.concurrent.locks.LockSupport", true),
+              new String[] {
+                "static java.util.concurrent.locks.LockSupport.getBlocker",
               })
           .put(
               "LARGE_ICON_KEY",
-              new Import[] {
-                new Import("LARGE_ICON_KEY", "javax.swing.Action", true),
+              new String[] {
+                "static javax.swing.Action.LARGE_ICON_KEY",
               })
           .put(
               "OPC_NEAR_EOL",
-              new Import[] {
-                new Import(
-                    "OPC_NEAR_EOL", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.OPC_NEAR_EOL",
               })
           .put(
               "NAME_NOT_MN",
-              new Import[] {
-                new Import("NAME_NOT_MN", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.NAME_NOT_MN",
               })
           .put(
               "DoubleAccumulator",
-              new Import[] {
-                new Import("DoubleAccumulator", "java.util.concurrent.atomic", false),
+              new String[] {
+                "java.util.concurrent.atomic.DoubleAccumulator",
               })
           .put(
               "getInstanceOf",
-              new Import[] {
-                new Import("getInstanceOf", "java.beans.Beans", true),
+              new String[] {
+                "static java.beans.Beans.getInstanceOf",
               })
           .put(
               "KEY_ACTION",
-              new Import[] {
-                new Import("KEY_ACTION", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.KEY_ACTION",
               })
           .put(
               "SHIFT_MASK",
-              new Import[] {
-                new Import("SHIFT_MASK", "java.awt.Event", true),
-                new Import("SHIFT_MASK", "java.awt.event.ActionEvent", true),
-                new Import("SHIFT_MASK", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.Event.SHIFT_MASK",
+                "static java.awt.event.ActionEvent.SHIFT_MASK",
+                "static java.awt.event.InputEvent.SHIFT_MASK",
               })
           .put(
               "MetalScrollPaneUI",
-              new Import[] {
-                new Import("MetalScrollPaneUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalScrollPaneUI",
               })
           .put(
               "StackTraceElement",
-              new Import[] {
-                new Import("StackTraceElement", "java.lang", false),
+              new String[] {
+                "java.lang.StackTraceElement",
               })
           .put(
               "FEBRUARY",
-              new Import[] {
-                new Import("FEBRUARY", "java.util.Calendar", true),
-                new Import("FEBRUARY", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static java.util.Calendar.FEBRUARY",
+                "static javax.xml.datatype.DatatypeConstants.FEBRUARY",
               })
           .put(
               "NamespaceSupport",
-              new Import[] {
-                new Import("NamespaceSupport", "org.xml.sax.helpers", false),
+              new String[] {
+                "org.xml.sax.helpers.NamespaceSupport",
               })
           .put(
               "EventSetDescriptor",
-              new Import[] {
-                new Import("EventSetDescriptor", "java.beans", false),
+              new String[] {
+                "java.beans.EventSetDescriptor",
               })
           .put(
               "BACKINGSTORE_SCROLL_MODE",
-              new Import[] {
-                new Import("BACKINGSTORE_SCROLL_MODE", "javax.swing.JViewport", true),
+              new String[] {
+                "static javax.swing.JViewport.BACKINGSTORE_SCROLL_MODE",
               })
           .put(
               "MimeType",
-              new Import[] {
-                new Import("MimeType", "javax.activation", false),
+              new String[] {
+                "javax.activation.MimeType",
               })
           .put(
               "MenuDragMouseEvent",
-              new Import[] {
-                new Import("MenuDragMouseEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.MenuDragMouseEvent",
               })
           .put(
               "XPathFactory",
-              new Import[] {
-                new Import("XPathFactory", "javax.xml.xpath", false),
+              new String[] {
+                "javax.xml.xpath.XPathFactory",
               })
           .put(
               "tk_except",
-              new Import[] {
-                new Import("tk_except", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_except",
               })
           .put(
               "Executor",
-              new Import[] {
-                new Import("Executor", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.Executor",
               })
           .put(
               "StringWriter",
-              new Import[] {
-                new Import("StringWriter", "java.io", false),
+              new String[] {
+                "java.io.StringWriter",
               })
           .put(
               "ForkJoinWorkerThread",
-              new Import[] {
-                new Import("ForkJoinWorkerThread", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ForkJoinWorkerThread",
               })
           .put(
               "BIGINTEGER",
-              new Import[] {
-                new Import("BIGINTEGER", "javax.management.openmbean.SimpleType", true),
+              new String[] {
+                "static javax.management.openmbean.SimpleType.BIGINTEGER",
               })
           .put(
               "RefreshFailedException",
-              new Import[] {
-                new Import("RefreshFailedException", "javax.security.auth", false),
+              new String[] {
+                "javax.security.auth.RefreshFailedException",
               })
           .put(
               "TAG_LTSH",
-              new Import[] {
-                new Import("TAG_LTSH", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_LTSH",
               })
           .put(
               "N_RESIZE_CURSOR",
-              new Import[] {
-                new Import("N_RESIZE_CURSOR", "java.awt.Cursor", true),
-                new Import("N_RESIZE_CURSOR", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Cursor.N_RESIZE_CURSOR", "static java.awt.Frame.N_RESIZE_CURSOR",
               })
           .put(
               "firstDayOfNextMonth",
-              new Import[] {
-                new Import("firstDayOfNextMonth", "java.time.temporal.TemporalAdjusters", true),
+              new String[] {
+                "static java.time.temporal.TemporalAdjusters.firstDayOfNextMonth",
               })
           .put(
               "SSLSession",
-              new Import[] {
-                new Import("SSLSession", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLSession",
               })
           .put(
               "selectionUpAction",
-              new Import[] {
-                new Import("selectionUpAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectionUpAction",
               })
           .put(
               "globalHierarchyLock",
-              new Import[] {
-                new Import("globalHierarchyLock", "java.beans.beancontext.BeanContext", true),
+              new String[] {
+                "static java.beans.beancontext.BeanContext.globalHierarchyLock",
               })
           .put(
               "MimeTypeParameterList",
-              new Import[] {
-                new Import("MimeTypeParameterList", "javax.activation", false),
+              new String[] {
+                "javax.activation.MimeTypeParameterList",
               })
           .put(
               "BELOW_TOP",
-              new Import[] {
-                new Import("BELOW_TOP", "javax.swing.border.TitledBorder", true),
+              new String[] {
+                "static javax.swing.border.TitledBorder.BELOW_TOP",
               })
           .put(
               "getLayeredPaneAbove",
-              new Import[] {
-                new Import("getLayeredPaneAbove", "javax.swing.JLayeredPane", true),
+              new String[] {
+                "static javax.swing.JLayeredPane.getLayeredPaneAbove",
               })
           .put(
               "isTitleCase",
-              new Import[] {
-                new Import("isTitleCase", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isTitleCase",
               })
           .put(
               "MultiListUI",
-              new Import[] {
-                new Import("MultiListUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiListUI",
               })
           .put(
               "ACTION_EVENT",
-              new Import[] {
-                new Import("ACTION_EVENT", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.ACTION_EVENT",
               })
           .put(
               "hasInitialContextFactoryBuilder",
-              new Import[] {
-                new Import(
-                    "hasInitialContextFactoryBuilder", "javax.naming.spi.NamingManager", true),
+              new String[] {
+                "static javax.naming.spi.NamingManager.hasInitialContextFactoryBuilder",
               })
           .put(
               "ServerIdHelper",
-              new Import[] {
-                new Import("ServerIdHelper", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ServerIdHelper",
               })
           .put(
               "GZIP",
-              new Import[] {
-                new Import("GZIP", "javax.print.attribute.standard.Compression", true),
+              new String[] {
+                "static javax.print.attribute.standard.Compression.GZIP",
               })
           .put(
               "DynUnionOperations",
-              new Import[] {
-                new Import("DynUnionOperations", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynUnionOperations",
               })
           .put(
               "augmentList",
-              new Import[] {
-                new Import("augmentList", "javax.swing.text.TextAction", true),
+              new String[] {
+                "static javax.swing.text.TextAction.augmentList",
               })
           .put(
               "_PARAM_INOUT",
-              new Import[] {
-                new Import("_PARAM_INOUT", "org.omg.CORBA.ParameterMode", true),
+              new String[] {
+                "static org.omg.CORBA.ParameterMode._PARAM_INOUT",
               })
           .put(
               "MediaTracker",
-              new Import[] {
-                new Import("MediaTracker", "java.awt", false),
+              new String[] {
+                "java.awt.MediaTracker",
               })
           .put(
               "URI_NS_SOAP_1_2_ENVELOPE",
-              new Import[] {
-                new Import("URI_NS_SOAP_1_2_ENVELOPE", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.URI_NS_SOAP_1_2_ENVELOPE",
               })
           .put(
               "RMIServerImpl",
-              new Import[] {
-                new Import("RMIServerImpl", "javax.management.remote.rmi", false),
+              new String[] {
+                "javax.management.remote.rmi.RMIServerImpl",
               })
           .put(
               "getLog",
-              new Import[] {
-                new Import("getLog", "java.rmi.server.RemoteServer", true),
+              new String[] {
+                "static java.rmi.server.RemoteServer.getLog",
               })
           .put(
               "WIDTH_REGULAR",
-              new Import[] {
-                new Import("WIDTH_REGULAR", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WIDTH_REGULAR",
               })
           .put(
               "RESET",
-              new Import[] {
-                new Import("RESET", "javax.swing.text.html.FormView", true),
+              new String[] {
+                "static javax.swing.text.html.FormView.RESET",
               })
           .put(
               "decode",
-              new Import[] {
-                new Import("decode", "java.awt.Color", true),
-                new Import("decode", "java.awt.Font", true),
-                new Import("decode", "java.lang.Byte", true),
-                new Import("decode", "java.lang.Integer", true),
-                new Import("decode", "java.lang.Long", true),
-                new Import("decode", "java.lang.Short", true),
-                new Import("decode", "java.net.URLDecoder", true),
+              new String[] {
+                "static java.awt.Color.decode",
+                "static java.awt.Font.decode",
+                "static java.lang.Byte.decode",
+                "static java.lang.Integer.decode",
+                "static java.lang.Long.decode",
+                "static java.lang.Short.decode",
+                "static java.net.URLDecoder.decode",
               })
           .put(
               "setPolicy",
-              new Import[] {
-                new Import("setPolicy", "java.security.Policy", true),
-                new Import("setPolicy", "javax.security.auth.Policy", true),
+              new String[] {
+                "static java.security.Policy.setPolicy",
+                "static javax.security.auth.Policy.setPolicy",
               })
           .put(
               "AbstractSequentialList",
-              new Import[] {
-                new Import("AbstractSequentialList", "java.util", false),
+              new String[] {
+                "java.util.AbstractSequentialList",
               })
           .put(
               "MAIN_CLASS",
-              new Import[] {
-                new Import("MAIN_CLASS", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.MAIN_CLASS",
               })
           .put(
               "tk_objref",
-              new Import[] {
-                new Import("tk_objref", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_objref",
               })
           .put(
               "RoleInfo",
-              new Import[] {
-                new Import("RoleInfo", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RoleInfo",
               })
           .put(
               "IntHolder",
-              new Import[] {
-                new Import("IntHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.IntHolder",
               })
           .put(
               "TAG_HHEA",
-              new Import[] {
-                new Import("TAG_HHEA", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_HHEA",
               })
           .put(
               "RSAPrivateCrtKeySpec",
-              new Import[] {
-                new Import("RSAPrivateCrtKeySpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.RSAPrivateCrtKeySpec",
               })
           .put(
               "BasicViewportUI",
-              new Import[] {
-                new Import("BasicViewportUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicViewportUI",
               })
           .put(
               "toLowerCase",
-              new Import[] {
-                new Import("toLowerCase", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.toLowerCase",
               })
           .put(
               "ConnectionPendingException",
-              new Import[] {
-                new Import("ConnectionPendingException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.ConnectionPendingException",
               })
           .put(
               "STAPLE",
-              new Import[] {
-                new Import("STAPLE", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.STAPLE",
               })
           .put(
               "KEY_RENDERING",
-              new Import[] {
-                new Import("KEY_RENDERING", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.KEY_RENDERING",
               })
           .put(
               "ISO_DATE_TIME",
-              new Import[] {
-                new Import("ISO_DATE_TIME", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ISO_DATE_TIME",
               })
           .put(
               "KeyPairGeneratorSpi",
-              new Import[] {
-                new Import("KeyPairGeneratorSpi", "java.security", false),
+              new String[] {
+                "java.security.KeyPairGeneratorSpi",
               })
           .put(
               "NAMESPACE_ERR",
-              new Import[] {
-                new Import("NAMESPACE_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.NAMESPACE_ERR",
               })
           .put(
               "getImageWritersByMIMEType",
-              new Import[] {
-                new Import("getImageWritersByMIMEType", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getImageWritersByMIMEType",
               })
           .put(
               "NameDynAnyPairSeqHelper",
-              new Import[] {
-                new Import("NameDynAnyPairSeqHelper", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.NameDynAnyPairSeqHelper",
               })
           .put(
               "COMBINING_HALF_MARKS",
-              new Import[] {
-                new Import("COMBINING_HALF_MARKS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.COMBINING_HALF_MARKS",
               })
           .put(
               "LoggingMXBean",
-              new Import[] {
-                new Import("LoggingMXBean", "java.util.logging", false),
+              new String[] {
+                "java.util.logging.LoggingMXBean",
               })
           .put(
               "_dk_Attribute",
-              new Import[] {
-                new Import("_dk_Attribute", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Attribute",
               })
           .put(
               "RectangularShape",
-              new Import[] {
-                new Import("RectangularShape", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.RectangularShape",
               })
           .put(
               "SourceDataLine",
-              new Import[] {
-                new Import("SourceDataLine", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.SourceDataLine",
               })
           .put(
               "ActivationGroup_Stub",
-              new Import[] {
-                new Import("ActivationGroup_Stub", "java.rmi.activation", false),
+              new String[] {
+                "java.rmi.activation.ActivationGroup_Stub",
               })
           .put(
               "ParagraphConstants",
-              new Import[] {
-                new Import("ParagraphConstants", "javax.swing.text.StyleConstants", false),
+              new String[] {
+                "javax.swing.text.StyleConstants.ParagraphConstants",
               })
           .put(
               "SynthToggleButtonUI",
-              new Import[] {
-                new Import("SynthToggleButtonUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthToggleButtonUI",
               })
           .put(
               "NO_IMPLEMENT",
-              new Import[] {
-                new Import("NO_IMPLEMENT", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.NO_IMPLEMENT",
               })
           .put(
               "BOTTOM_ALIGNMENT",
-              new Import[] {
-                new Import("BOTTOM_ALIGNMENT", "java.awt.Component", true),
-                new Import("BOTTOM_ALIGNMENT", "java.awt.font.GraphicAttribute", true),
+              new String[] {
+                "static java.awt.Component.BOTTOM_ALIGNMENT",
+                "static java.awt.font.GraphicAttribute.BOTTOM_ALIGNMENT",
               })
           .put(
               "WINDOW_BORDER",
-              new Import[] {
-                new Import("WINDOW_BORDER", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.WINDOW_BORDER",
               })
           .put(
               "WEEK_BASED_YEAR",
-              new Import[] {
-                new Import("WEEK_BASED_YEAR", "java.time.temporal.IsoFields", true),
+              new String[] {
+                "static java.time.temporal.IsoFields.WEEK_BASED_YEAR",
               })
           .put(
               "ReentrantReadWriteLock",
-              new Import[] {
-                new Import("ReentrantReadWriteLock", "java.util.concurrent.locks", false),
+              new String[] {
+                "java.util.concurrent.locks.ReentrantReadWriteLock",
               })
           .put(
               "KBD",
-              new Import[] {
-                new Import("KBD", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.KBD",
               })
           .put(
               "tk_wstring",
-              new Import[] {
-                new Import("tk_wstring", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_wstring",
               })
           .put(
               "Notation",
-              new Import[] {
-                new Import("Notation", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.Notation",
               })
           .put(
               "AttributedString",
-              new Import[] {
-                new Import("AttributedString", "java.text", false),
+              new String[] {
+                "java.text.AttributedString",
               })
           .put(
               "EndDocument",
-              new Import[] {
-                new Import("EndDocument", "javax.xml.stream.events", false),
+              new String[] {
+                "javax.xml.stream.events.EndDocument",
               })
           .put(
               "TAG_ACNT",
-              new Import[] {
-                new Import("TAG_ACNT", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_ACNT",
               })
           .put(
               "toCollection",
-              new Import[] {
-                new Import("toCollection", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.toCollection",
               })
           .put(
               "AVESTAN",
-              new Import[] {
-                new Import("AVESTAN", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.AVESTAN",
               })
           .put(
               "TAG_GVAR",
-              new Import[] {
-                new Import("TAG_GVAR", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_GVAR",
               })
           .put(
               "TOBOTTOM_TORIGHT",
-              new Import[] {
-                new Import(
-                    "TOBOTTOM_TORIGHT",
-                    "javax.print.attribute.standard.PresentationDirection",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.PresentationDirection.TOBOTTOM_TORIGHT",
               })
           .put(
               "floor",
-              new Import[] {
-                new Import("floor", "java.lang.Math", true),
-                new Import("floor", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.floor", "static java.lang.StrictMath.floor",
               })
           .put(
               "VM_NONE",
-              new Import[] {
-                new Import("VM_NONE", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.VM_NONE",
               })
           .put(
               "KeyFactory",
-              new Import[] {
-                new Import("KeyFactory", "java.security", false),
+              new String[] {
+                "java.security.KeyFactory",
               })
           .put(
               "INACTIVE_CAPTION_TEXT",
-              new Import[] {
-                new Import("INACTIVE_CAPTION_TEXT", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.INACTIVE_CAPTION_TEXT",
               })
           .put(
               "ToolBarBorder",
-              new Import[] {
-                new Import("ToolBarBorder", "javax.swing.plaf.metal.MetalBorders", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalBorders.ToolBarBorder",
               })
           .put(
               "AtomicIntegerArray",
-              new Import[] {
-                new Import("AtomicIntegerArray", "java.util.concurrent.atomic", false),
+              new String[] {
+                "java.util.concurrent.atomic.AtomicIntegerArray",
               })
           .put(
               "VALUE_TEXT_ANTIALIAS_GASP",
-              new Import[] {
-                new Import("VALUE_TEXT_ANTIALIAS_GASP", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_TEXT_ANTIALIAS_GASP",
               })
           .put(
               "SAMARITAN",
-              new Import[] {
-                new Import("SAMARITAN", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SAMARITAN",
               })
           .put(
               "getColor",
-              new Import[] {
-                new Import("getColor", "java.awt.Color", true),
-                new Import("getColor", "javax.swing.UIManager", true),
+              new String[] {
+                "static java.awt.Color.getColor", "static javax.swing.UIManager.getColor",
               })
           .put(
               "SortOrder",
-              new Import[] {
-                new Import("SortOrder", "javax.swing", false),
+              new String[] {
+                "javax.swing.SortOrder",
               })
           .put(
               "Point",
-              new Import[] {
-                new Import("Point", "java.awt", false),
+              new String[] {
+                "java.awt.Point",
               })
           .put(
               "KeySelectorResult",
-              new Import[] {
-                new Import("KeySelectorResult", "javax.xml.crypto", false),
+              new String[] {
+                "javax.xml.crypto.KeySelectorResult",
               })
           .put(
               "VALUE_INTERPOLATION_BILINEAR",
-              new Import[] {
-                new Import("VALUE_INTERPOLATION_BILINEAR", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_INTERPOLATION_BILINEAR",
               })
           .put(
               "StandardCopyOption",
-              new Import[] {
-                new Import("StandardCopyOption", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.StandardCopyOption",
               })
           .put(
               "PasteAction",
-              new Import[] {
-                new Import("PasteAction", "javax.swing.text.DefaultEditorKit", false),
+              new String[] {
+                "javax.swing.text.DefaultEditorKit.PasteAction",
               })
           .put(
               "SAXSource",
-              new Import[] {
-                new Import("SAXSource", "javax.xml.transform.sax", false),
+              new String[] {
+                "javax.xml.transform.sax.SAXSource",
               })
           .put(
               "END_OF_EXCLUSIVE",
-              new Import[] {
-                new Import("END_OF_EXCLUSIVE", "javax.sound.midi.ShortMessage", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.END_OF_EXCLUSIVE",
               })
           .put(
               "ofLocalizedTime",
-              new Import[] {
-                new Import("ofLocalizedTime", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ofLocalizedTime",
               })
           .put(
               "WARNING_MESSAGE",
-              new Import[] {
-                new Import("WARNING_MESSAGE", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.WARNING_MESSAGE",
               })
           .put(
               "ExtendedRequest",
-              new Import[] {
-                new Import("ExtendedRequest", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.ExtendedRequest",
               })
           .put(
               "AnnotationValue",
-              new Import[] {
-                new Import("AnnotationValue", "javax.lang.model.element", false),
+              new String[] {
+                "javax.lang.model.element.AnnotationValue",
               })
           .put(
               "UNKNOWN",
-              new Import[] {
-                new Import("UNKNOWN", "java.awt.ComponentOrientation", true),
-                new Import("UNKNOWN", "javax.accessibility.AccessibleRole", true),
-                new Import("UNKNOWN", "javax.management.MBeanOperationInfo", true),
-                new Import("UNKNOWN", "javax.print.attribute.standard.JobState", true),
-                new Import("UNKNOWN", "javax.print.attribute.standard.PrinterState", true),
-                new Import("UNKNOWN", "org.omg.CORBA", false),
-                new Import("UNKNOWN", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "static java.awt.ComponentOrientation.UNKNOWN",
+                "static javax.accessibility.AccessibleRole.UNKNOWN",
+                "static javax.management.MBeanOperationInfo.UNKNOWN",
+                "static javax.print.attribute.standard.JobState.UNKNOWN",
+                "static javax.print.attribute.standard.PrinterState.UNKNOWN",
+                "org.omg.CORBA.UNKNOWN",
+                "org.omg.PortableInterceptor.UNKNOWN",
               })
           .put(
               "BidiElementName",
-              new Import[] {
-                new Import("BidiElementName", "javax.swing.text.AbstractDocument", true),
+              new String[] {
+                "static javax.swing.text.AbstractDocument.BidiElementName",
               })
           .build();
 }
@@ -2,1601 +2,1560 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk17 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "ofEpochSecond",
-              new Import[] {
-                new Import("ofEpochSecond", "java.time.Instant", true),
-                new Import("ofEpochSecond", "java.time.LocalDateTime", true),
+              new String[] {
+                "static java.time.Instant.ofEpochSecond",
+                "static java.time.LocalDateTime.ofEpochSecond",
               })
           .put(
               "ExecutableType",
-              new Import[] {
-                new Import("ExecutableType", "javax.lang.model.type", false),
+              new String[] {
+                "javax.lang.model.type.ExecutableType",
               })
           .put(
               "DosFileAttributeView",
-              new Import[] {
-                new Import("DosFileAttributeView", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.DosFileAttributeView",
               })
           .put(
               "MultiSliderUI",
-              new Import[] {
-                new Import("MultiSliderUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiSliderUI",
               })
           .put(
               "BUTTON1_MASK",
-              new Import[] {
-                new Import("BUTTON1_MASK", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.event.InputEvent.BUTTON1_MASK",
               })
           .put(
               "SSLSocket",
-              new Import[] {
-                new Import("SSLSocket", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLSocket",
               })
           .put(
               "LINE_IN",
-              new Import[] {
-                new Import("LINE_IN", "javax.sound.sampled.Port.Info", true),
+              new String[] {
+                "static javax.sound.sampled.Port.Info.LINE_IN",
               })
           .put(
               "icSigPs2CRD0Tag",
-              new Import[] {
-                new Import("icSigPs2CRD0Tag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigPs2CRD0Tag",
               })
           .put(
               "Util",
-              new Import[] {
-                new Import("Util", "javax.rmi.CORBA", false),
+              new String[] {
+                "javax.rmi.CORBA.Util",
               })
           .put(
               "ToLongFunction",
-              new Import[] {
-                new Import("ToLongFunction", "java.util.function", false),
+              new String[] {
+                "java.util.function.ToLongFunction",
               })
           .put(
               "bind",
-              new Import[] {
-                new Import("bind", "java.rmi.Naming", true),
+              new String[] {
+                "static java.rmi.Naming.bind",
               })
           .put(
               "Button",
-              new Import[] {
-                new Import("Button", "java.awt", false),
+              new String[] {
+                "java.awt.Button",
               })
           .put(
               "MarshalledObject",
-              new Import[] {
-                new Import("MarshalledObject", "java.rmi", false),
+              new String[] {
+                "java.rmi.MarshalledObject",
               })
           .put(
               "RADIO_BUTTON_MENU_ITEM",
-              new Import[] {
-                new Import("RADIO_BUTTON_MENU_ITEM", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.RADIO_BUTTON_MENU_ITEM",
               })
           .put(
               "_ACTIVE",
-              new Import[] {
-                new Import("_ACTIVE", "org.omg.PortableServer.POAManagerPackage.State", true),
+              new String[] {
+                "static org.omg.PortableServer.POAManagerPackage.State._ACTIVE",
               })
           .put(
               "NNTP",
-              new Import[] {
-                new Import(
-                    "NNTP", "javax.print.attribute.standard.ReferenceUriSchemesSupported", true),
+              new String[] {
+                "static javax.print.attribute.standard.ReferenceUriSchemesSupported.NNTP",
               })
           .put(
               "getPlatformMBeanServer",
-              new Import[] {
-                new Import(
-                    "getPlatformMBeanServer", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.getPlatformMBeanServer",
               })
           .put(
               "BasicHighlighter",
-              new Import[] {
-                new Import("BasicHighlighter", "javax.swing.plaf.basic.BasicTextUI", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicTextUI.BasicHighlighter",
               })
           .put(
               "divideUnsigned",
-              new Import[] {
-                new Import("divideUnsigned", "java.lang.Integer", true),
-                new Import("divideUnsigned", "java.lang.Long", true),
+              new String[] {
+                "static java.lang.Integer.divideUnsigned", "static java.lang.Long.divideUnsigned",
               })
           .put(
               "OLD_TURKIC",
-              new Import[] {
-                new Import("OLD_TURKIC", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.OLD_TURKIC",
               })
           .put(
               "NA_NUMBER_9_ENVELOPE",
-              new Import[] {
-                new Import("NA_NUMBER_9_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_NUMBER_9_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "NA_NUMBER_9_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.NA_NUMBER_9_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSizeName.NA_NUMBER_9_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSize.NA.NA_NUMBER_9_ENVELOPE",
               })
           .put(
               "dateFilter",
-              new Import[] {
-                new Import("dateFilter", "javax.swing.RowFilter", true),
+              new String[] {
+                "static javax.swing.RowFilter.dateFilter",
               })
           .put(
               "Line",
-              new Import[] {
-                new Import("Line", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.Line",
               })
           .put(
               "bestRowUnknown",
-              new Import[] {
-                new Import("bestRowUnknown", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.bestRowUnknown",
               })
           .put(
               "AccessibleStreamable",
-              new Import[] {
-                new Import("AccessibleStreamable", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleStreamable",
               })
           .put(
               "malformedForLength",
-              new Import[] {
-                new Import("malformedForLength", "java.nio.charset.CoderResult", true),
+              new String[] {
+                "static java.nio.charset.CoderResult.malformedForLength",
               })
           .put(
               "ComparisonType",
-              new Import[] {
-                new Import("ComparisonType", "javax.swing.RowFilter", false),
+              new String[] {
+                "javax.swing.RowFilter.ComparisonType",
               })
           .put(
               "getReaderFormatNames",
-              new Import[] {
-                new Import("getReaderFormatNames", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getReaderFormatNames",
               })
           .put(
               "RunTime",
-              new Import[] {
-                new Import("RunTime", "org.omg.SendingContext", false),
+              new String[] {
+                "org.omg.SendingContext.RunTime",
               })
           .put(
               "getCharacterInstance",
-              new Import[] {
-                new Import("getCharacterInstance", "java.text.BreakIterator", true),
+              new String[] {
+                "static java.text.BreakIterator.getCharacterInstance",
               })
           .put(
               "ColorSupported",
-              new Import[] {
-                new Import("ColorSupported", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.ColorSupported",
               })
           .put(
               "POSTURE_OBLIQUE",
-              new Import[] {
-                new Import("POSTURE_OBLIQUE", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.POSTURE_OBLIQUE",
               })
           .put(
               "CallerRunsPolicy",
-              new Import[] {
-                new Import("CallerRunsPolicy", "java.util.concurrent.ThreadPoolExecutor", false),
+              new String[] {
+                "java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy",
               })
           .put(
               "InterruptedNamingException",
-              new Import[] {
-                new Import("InterruptedNamingException", "javax.naming", false),
+              new String[] {
+                "javax.naming.InterruptedNamingException",
               })
           .put(
               "InvalidAttributesException",
-              new Import[] {
-                new Import("InvalidAttributesException", "javax.naming.directory", false),
+              new String[] {
+                "javax.naming.directory.InvalidAttributesException",
               })
           .put(
               "TYPE_USHORT_555_RGB",
-              new Import[] {
-                new Import("TYPE_USHORT_555_RGB", "java.awt.image.BufferedImage", true),
+              new String[] {
+                "static java.awt.image.BufferedImage.TYPE_USHORT_555_RGB",
               })
           .put(
               "JTabbedPane",
-              new Import[] {
-                new Import("JTabbedPane", "javax.swing", false),
+              new String[] {
+                "javax.swing.JTabbedPane",
               })
           .put(
               "DirectoryStream",
-              new Import[] {
-                new Import("DirectoryStream", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.DirectoryStream",
               })
           .put(
               "defaultCharset",
-              new Import[] {
-                new Import("defaultCharset", "java.nio.charset.Charset", true),
+              new String[] {
+                "static java.nio.charset.Charset.defaultCharset",
               })
           .put(
               "NamedValue",
-              new Import[] {
-                new Import("NamedValue", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.NamedValue",
               })
           .put(
               "WebServiceContext",
-              new Import[] {
-                new Import("WebServiceContext", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.WebServiceContext",
               })
           .put(
               "TYPE_HSV",
-              new Import[] {
-                new Import("TYPE_HSV", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_HSV",
               })
           .put(
               "INDENT",
-              new Import[] {
-                new Import("INDENT", "javax.xml.transform.OutputKeys", true),
+              new String[] {
+                "static javax.xml.transform.OutputKeys.INDENT",
               })
           .put(
               "FilenameFilter",
-              new Import[] {
-                new Import("FilenameFilter", "java.io", false),
+              new String[] {
+                "java.io.FilenameFilter",
               })
           .put(
               "PipedWriter",
-              new Import[] {
-                new Import("PipedWriter", "java.io", false),
+              new String[] {
+                "java.io.PipedWriter",
               })
           .put(
               "NonReadableChannelException",
-              new Import[] {
-                new Import("NonReadableChannelException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.NonReadableChannelException",
               })
           .put(
               "LongLongSeqHolder",
-              new Import[] {
-                new Import("LongLongSeqHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.LongLongSeqHolder",
               })
           .put(
               "ServantRetentionPolicy",
-              new Import[] {
-                new Import("ServantRetentionPolicy", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ServantRetentionPolicy",
               })
           .put(
               "icSigSpaceFCLR",
-              new Import[] {
-                new Import("icSigSpaceFCLR", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigSpaceFCLR",
               })
           .put(
               "StringReader",
-              new Import[] {
-                new Import("StringReader", "java.io", false),
+              new String[] {
+                "java.io.StringReader",
               })
           .put(
               "EventListenerList",
-              new Import[] {
-                new Import("EventListenerList", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.EventListenerList",
               })
           .put(
               "HEADER_VALUE_PROPERTY",
-              new Import[] {
-                new Import("HEADER_VALUE_PROPERTY", "javax.swing.table.TableColumn", true),
+              new String[] {
+                "static javax.swing.table.TableColumn.HEADER_VALUE_PROPERTY",
               })
           .put(
               "InflaterOutputStream",
-              new Import[] {
-                new Import("InflaterOutputStream", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.InflaterOutputStream",
               })
           .put(
               "ParserConfigurationException",
-              new Import[] {
-                new Import("ParserConfigurationException", "javax.xml.parsers", false),
+              new String[] {
+                "javax.xml.parsers.ParserConfigurationException",
               })
           .put(
               "RESOURCES_ARE_NOT_READY",
-              new Import[] {
-                new Import(
-                    "RESOURCES_ARE_NOT_READY",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.RESOURCES_ARE_NOT_READY",
               })
           .put(
               "REGISTRATION_NOTIFICATION",
-              new Import[] {
-                new Import(
-                    "REGISTRATION_NOTIFICATION", "javax.management.MBeanServerNotification", true),
+              new String[] {
+                "static javax.management.MBeanServerNotification.REGISTRATION_NOTIFICATION",
               })
           .put(
               "ARMED",
-              new Import[] {
-                new Import("ARMED", "javax.accessibility.AccessibleState", true),
-                new Import("ARMED", "javax.swing.DefaultButtonModel", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.ARMED",
+                "static javax.swing.DefaultButtonModel.ARMED",
               })
           .put(
               "ClassFileTransformer",
-              new Import[] {
-                new Import("ClassFileTransformer", "java.lang.instrument", false),
+              new String[] {
+                "java.lang.instrument.ClassFileTransformer",
               })
           .put(
               "ProtocolFamily",
-              new Import[] {
-                new Import("ProtocolFamily", "java.net", false),
+              new String[] {
+                "java.net.ProtocolFamily",
               })
           .put(
               "ORIGINAL_TYPE_FIELD",
-              new Import[] {
-                new Import("ORIGINAL_TYPE_FIELD", "javax.management.JMX", true),
+              new String[] {
+                "static javax.management.JMX.ORIGINAL_TYPE_FIELD",
               })
           .put(
               "GZIP_MAGIC",
-              new Import[] {
-                new Import("GZIP_MAGIC", "java.util.zip.GZIPInputStream", true),
+              new String[] {
+                "static java.util.zip.GZIPInputStream.GZIP_MAGIC",
               })
           .put(
               "K2Chrominance",
-              new Import[] {
-                new Import("K2Chrominance", "javax.imageio.plugins.jpeg.JPEGQTable", true),
+              new String[] {
+                "static javax.imageio.plugins.jpeg.JPEGQTable.K2Chrominance",
               })
           .put(
               "AtomicReference",
-              new Import[] {
-                new Import("AtomicReference", "java.util.concurrent.atomic", false),
+              new String[] {
+                "java.util.concurrent.atomic.AtomicReference",
               })
           .put(
               "DELETE_ROW_CONFLICT",
-              new Import[] {
-                new Import("DELETE_ROW_CONFLICT", "javax.sql.rowset.spi.SyncResolver", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncResolver.DELETE_ROW_CONFLICT",
               })
           .put(
               "TableUI",
-              new Import[] {
-                new Import("TableUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.TableUI",
               })
           .put(
               "ENTRY_MODIFY",
-              new Import[] {
-                new Import("ENTRY_MODIFY", "java.nio.file.StandardWatchEventKinds", true),
+              new String[] {
+                "static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY",
               })
           .put(
               "DEVANAGARI",
-              new Import[] {
-                new Import("DEVANAGARI", "java.awt.font.NumericShaper", true),
-                new Import("DEVANAGARI", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.DEVANAGARI",
+                "static java.lang.Character.UnicodeBlock.DEVANAGARI",
               })
           .put(
               "requiresBidi",
-              new Import[] {
-                new Import("requiresBidi", "java.text.Bidi", true),
+              new String[] {
+                "static java.text.Bidi.requiresBidi",
               })
           .put(
               "SUFFICIENT",
-              new Import[] {
-                new Import(
-                    "SUFFICIENT",
-                    "javax.security.auth.login.AppConfigurationEntry.LoginModuleControlFlag",
-                    true),
+              new String[] {
+                "static"
+                    + " javax.security.auth.login.AppConfigurationEntry.LoginModuleControlFlag.SUFFICIENT",
               })
           .put(
               "EventFilter",
-              new Import[] {
-                new Import("EventFilter", "javax.xml.stream", false),
+              new String[] {
+                "javax.xml.stream.EventFilter",
               })
           .put(
               "_IMPLICIT_ACTIVATION",
-              new Import[] {
-                new Import(
-                    "_IMPLICIT_ACTIVATION",
-                    "org.omg.PortableServer.ImplicitActivationPolicyValue",
-                    true),
+              new String[] {
+                "static org.omg.PortableServer.ImplicitActivationPolicyValue._IMPLICIT_ACTIVATION",
               })
           .put(
               "COMPACT",
-              new Import[] {
-                new Import("COMPACT", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.COMPACT",
               })
           .put(
               "NotificationEmitter",
-              new Import[] {
-                new Import("NotificationEmitter", "javax.management", false),
+              new String[] {
+                "javax.management.NotificationEmitter",
               })
           .put(
               "FIELD_ATTRIBUTE_PFX",
-              new Import[] {
-                new Import("FIELD_ATTRIBUTE_PFX", "java.util.jar.Pack200.Packer", true),
+              new String[] {
+                "static java.util.jar.Pack200.Packer.FIELD_ATTRIBUTE_PFX",
               })
           .put(
               "floorDiv",
-              new Import[] {
-                new Import("floorDiv", "java.lang.Math", true),
-                new Import("floorDiv", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.floorDiv", "static java.lang.StrictMath.floorDiv",
               })
           .put(
               "DIRECTIONALITY_LEFT_TO_RIGHT",
-              new Import[] {
-                new Import("DIRECTIONALITY_LEFT_TO_RIGHT", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_LEFT_TO_RIGHT",
               })
           .put(
               "SO_BROADCAST",
-              new Import[] {
-                new Import("SO_BROADCAST", "java.net.SocketOptions", true),
-                new Import("SO_BROADCAST", "java.net.StandardSocketOptions", true),
+              new String[] {
+                "static java.net.SocketOptions.SO_BROADCAST",
+                "static java.net.StandardSocketOptions.SO_BROADCAST",
               })
           .put(
               "minBy",
-              new Import[] {
-                new Import("minBy", "java.util.function.BinaryOperator", true),
-                new Import("minBy", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.function.BinaryOperator.minBy",
+                "static java.util.stream.Collectors.minBy",
               })
           .put(
               "WebServiceFeature",
-              new Import[] {
-                new Import("WebServiceFeature", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.WebServiceFeature",
               })
           .put(
               "LimitExceededException",
-              new Import[] {
-                new Import("LimitExceededException", "javax.naming", false),
+              new String[] {
+                "javax.naming.LimitExceededException",
               })
           .put(
               "MultiInternalFrameUI",
-              new Import[] {
-                new Import("MultiInternalFrameUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiInternalFrameUI",
               })
           .put(
               "RasterFormatException",
-              new Import[] {
-                new Import("RasterFormatException", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.RasterFormatException",
               })
           .put(
               "InterruptedIOException",
-              new Import[] {
-                new Import("InterruptedIOException", "java.io", false),
+              new String[] {
+                "java.io.InterruptedIOException",
               })
           .put(
               "RSAKey",
-              new Import[] {
-                new Import("RSAKey", "java.security.interfaces", false),
+              new String[] {
+                "java.security.interfaces.RSAKey",
               })
           .put(
               "SHOWS_ROOT_HANDLES_PROPERTY",
-              new Import[] {
-                new Import("SHOWS_ROOT_HANDLES_PROPERTY", "javax.swing.JTree", true),
+              new String[] {
+                "static javax.swing.JTree.SHOWS_ROOT_HANDLES_PROPERTY",
               })
           .put(
               "GEORGIAN_SUPPLEMENT",
-              new Import[] {
-                new Import("GEORGIAN_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.GEORGIAN_SUPPLEMENT",
               })
           .put(
               "HTTP_NOT_ACCEPTABLE",
-              new Import[] {
-                new Import("HTTP_NOT_ACCEPTABLE", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_NOT_ACCEPTABLE",
               })
           .put(
               "getSpaceAbove",
-              new Import[] {
-                new Import("getSpaceAbove", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.getSpaceAbove",
               })
           .put(
               "FIELD_UNDEFINED",
-              new Import[] {
-                new Import("FIELD_UNDEFINED", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.FIELD_UNDEFINED",
               })
           .put(
               "MenuContainer",
-              new Import[] {
-                new Import("MenuContainer", "java.awt", false),
+              new String[] {
+                "java.awt.MenuContainer",
               })
           .put(
               "dk_Typedef",
-              new Import[] {
-                new Import("dk_Typedef", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Typedef",
               })
           .put(
               "BELOW_BASELINE",
-              new Import[] {
-                new Import("BELOW_BASELINE", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.BELOW_BASELINE",
               })
           .put(
               "importedKeySetDefault",
-              new Import[] {
-                new Import("importedKeySetDefault", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.importedKeySetDefault",
               })
           .put(
               "checkedNavigableSet",
-              new Import[] {
-                new Import("checkedNavigableSet", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.checkedNavigableSet",
               })
           .put(
               "SpinnerNumberModel",
-              new Import[] {
-                new Import("SpinnerNumberModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.SpinnerNumberModel",
               })
           .put(
               "ISO_C5_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C5_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C5_ENVELOPE",
               })
           .put(
               "DateTimeException",
-              new Import[] {
-                new Import("DateTimeException", "java.time", false),
+              new String[] {
+                "java.time.DateTimeException",
               })
           .put(
               "CannotUndoException",
-              new Import[] {
-                new Import("CannotUndoException", "javax.swing.undo", false),
+              new String[] {
+                "javax.swing.undo.CannotUndoException",
               })
           .put(
               "List",
-              new Import[] {
-                new Import("List", "java.awt", false), new Import("List", "java.util", false),
+              new String[] {
+                "java.awt.List", "java.util.List",
               })
           .put(
               "GERMAN",
-              new Import[] {
-                new Import("GERMAN", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.GERMAN",
               })
           .put(
               "FIRST_LINE_END",
-              new Import[] {
-                new Import("FIRST_LINE_END", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.FIRST_LINE_END",
               })
           .put(
               "info",
-              new Import[] {
-                new Import("info", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.info",
               })
           .put(
               "baseWireHandle",
-              new Import[] {
-                new Import("baseWireHandle", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.baseWireHandle",
               })
           .put(
               "NO_IMPLICIT_ACTIVATION",
-              new Import[] {
-                new Import(
-                    "NO_IMPLICIT_ACTIVATION",
-                    "org.omg.PortableServer.ImplicitActivationPolicyValue",
-                    true),
+              new String[] {
+                "static"
+                    + " org.omg.PortableServer.ImplicitActivationPolicyValue.NO_IMPLICIT_ACTIVATION",
               })
           .put(
               "ObjectAlreadyActive",
-              new Import[] {
-                new Import("ObjectAlreadyActive", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.ObjectAlreadyActive",
               })
           .put(
               "ITALY",
-              new Import[] {
-                new Import("ITALY", "java.awt.PageAttributes.MediaType", true),
-                new Import("ITALY", "java.util.Locale", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ITALY", "static java.util.Locale.ITALY",
               })
           .put(
               "createEditorKitForContentType",
-              new Import[] {
-                new Import("createEditorKitForContentType", "javax.swing.JEditorPane", true),
+              new String[] {
+                "static javax.swing.JEditorPane.createEditorKitForContentType",
               })
           .put(
               "PolicyQualifierInfo",
-              new Import[] {
-                new Import("PolicyQualifierInfo", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.PolicyQualifierInfo",
               })
           .put(
               "LETTER_SPACING",
-              new Import[] {
-                new Import("LETTER_SPACING", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.LETTER_SPACING",
               })
           .put(
               "PriorityQueue",
-              new Import[] {
-                new Import("PriorityQueue", "java.util", false),
+              new String[] {
+                "java.util.PriorityQueue",
               })
           .put(
               "CURRENT",
-              new Import[] {
-                new Import("CURRENT", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.CURRENT",
               })
           .put(
               "setLineSpacing",
-              new Import[] {
-                new Import("setLineSpacing", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setLineSpacing",
               })
           .put(
               "getRegion",
-              new Import[] {
-                new Import("getRegion", "javax.swing.plaf.synth.SynthLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.synth.SynthLookAndFeel.getRegion",
               })
           .put(
               "privilegedCallable",
-              new Import[] {
-                new Import("privilegedCallable", "java.util.concurrent.Executors", true),
+              new String[] {
+                "static java.util.concurrent.Executors.privilegedCallable",
               })
           .put(
               "CodecFactory",
-              new Import[] {
-                new Import("CodecFactory", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.CodecFactory",
               })
           .put(
               "REF_invokeStatic",
-              new Import[] {
-                new Import("REF_invokeStatic", "java.lang.invoke.MethodHandleInfo", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandleInfo.REF_invokeStatic",
               })
           .put(
               "FIDELITY_TRUE",
-              new Import[] {
-                new Import("FIDELITY_TRUE", "javax.print.attribute.standard.Fidelity", true),
+              new String[] {
+                "static javax.print.attribute.standard.Fidelity.FIDELITY_TRUE",
               })
           .put(
               "setInstance",
-              new Import[] {
-                new Import("setInstance", "javax.swing.LayoutStyle", true),
+              new String[] {
+                "static javax.swing.LayoutStyle.setInstance",
               })
           .put(
               "MonitorNotification",
-              new Import[] {
-                new Import("MonitorNotification", "javax.management.monitor", false),
+              new String[] {
+                "javax.management.monitor.MonitorNotification",
               })
           .put(
               "MARGINWIDTH",
-              new Import[] {
-                new Import("MARGINWIDTH", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.MARGINWIDTH",
               })
           .put(
               "nobject",
-              new Import[] {
-                new Import("nobject", "org.omg.CosNaming.BindingType", true),
+              new String[] {
+                "static org.omg.CosNaming.BindingType.nobject",
               })
           .put(
               "textInactiveText",
-              new Import[] {
-                new Import("textInactiveText", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.textInactiveText",
               })
           .put(
               "ofPattern",
-              new Import[] {
-                new Import("ofPattern", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ofPattern",
               })
           .put(
               "ComboBoxEditor",
-              new Import[] {
-                new Import("ComboBoxEditor", "javax.swing", false),
+              new String[] {
+                "javax.swing.ComboBoxEditor",
               })
           .put(
               "MultiToolTipUI",
-              new Import[] {
-                new Import("MultiToolTipUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiToolTipUI",
               })
           .put(
               "JAXBResult",
-              new Import[] {
-                new Import("JAXBResult", "javax.xml.bind.util", false),
+              new String[] {
+                "javax.xml.bind.util.JAXBResult",
               })
           .put(
               "NONNULL",
-              new Import[] {
-                new Import("NONNULL", "java.util.Spliterator", true),
+              new String[] {
+                "static java.util.Spliterator.NONNULL",
               })
           .put(
               "CLOSED_OPTION",
-              new Import[] {
-                new Import("CLOSED_OPTION", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.CLOSED_OPTION",
               })
           .put(
               "hashCode",
-              new Import[] {
-                new Import("hashCode", "java.lang.Boolean", true),
-                new Import("hashCode", "java.lang.Byte", true),
-                new Import("hashCode", "java.lang.Character", true),
-                new Import("hashCode", "java.lang.Double", true),
-                new Import("hashCode", "java.lang.Float", true),
-                new Import("hashCode", "java.lang.Integer", true),
-                new Import("hashCode", "java.lang.Long", true),
-                new Import("hashCode", "java.lang.Short", true),
-                new Import("hashCode", "java.util.Arrays", true),
-                new Import("hashCode", "java.util.Objects", true),
+              new String[] {
+                "static java.lang.Boolean.hashCode",
+                "static java.lang.Byte.hashCode",
+                "static java.lang.Character.hashCode",
+                "static java.lang.Double.hashCode",
+                "static java.lang.Float.hashCode",
+                "static java.lang.Integer.hashCode",
+                "static java.lang.Long.hashCode",
+                "static java.lang.Short.hashCode",
+                "static java.util.Arrays.hashCode",
+                "static java.util.Objects.hashCode",
               })
           .put(
               "RowSetProvider",
-              new Import[] {
-                new Import("RowSetProvider", "javax.sql.rowset", false),
+              new String[] {
+                "javax.sql.rowset.RowSetProvider",
               })
           .put(
               "controlShadow",
-              new Import[] {
-                new Import("controlShadow", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.controlShadow",
               })
           .put(
               "AT_TARGET",
-              new Import[] {
-                new Import("AT_TARGET", "org.w3c.dom.events.Event", true),
+              new String[] {
+                "static org.w3c.dom.events.Event.AT_TARGET",
               })
           .put(
               "UserDataHandler",
-              new Import[] {
-                new Import("UserDataHandler", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.UserDataHandler",
               })
           .put(
               "JarException",
-              new Import[] {
-                new Import("JarException", "java.util.jar", false),
+              new String[] {
+                "java.util.jar.JarException",
               })
           .put(
               "NoSuchPaddingException",
-              new Import[] {
-                new Import("NoSuchPaddingException", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.NoSuchPaddingException",
               })
           .put(
               "printDateTime",
-              new Import[] {
-                new Import("printDateTime", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printDateTime",
               })
           .put(
               "PARAM",
-              new Import[] {
-                new Import("PARAM", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.PARAM",
               })
           .put(
               "CAP_SQUARE",
-              new Import[] {
-                new Import("CAP_SQUARE", "java.awt.BasicStroke", true),
+              new String[] {
+                "static java.awt.BasicStroke.CAP_SQUARE",
               })
           .put(
               "insertContentAction",
-              new Import[] {
-                new Import("insertContentAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.insertContentAction",
               })
           .put(
               "LEFT_ALIGNMENT",
-              new Import[] {
-                new Import("LEFT_ALIGNMENT", "java.awt.Component", true),
+              new String[] {
+                "static java.awt.Component.LEFT_ALIGNMENT",
               })
           .put(
               "LEDGER",
-              new Import[] {
-                new Import("LEDGER", "java.awt.PageAttributes.MediaType", true),
-                new Import("LEDGER", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("LEDGER", "javax.print.attribute.standard.MediaSize.Other", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.LEDGER",
+                "static javax.print.attribute.standard.MediaSizeName.LEDGER",
+                "static javax.print.attribute.standard.MediaSize.Other.LEDGER",
               })
           .put(
               "DAY_OF_WEEK_FIELD",
-              new Import[] {
-                new Import("DAY_OF_WEEK_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.DAY_OF_WEEK_FIELD",
               })
           .put(
               "DESKeySpec",
-              new Import[] {
-                new Import("DESKeySpec", "javax.crypto.spec", false),
+              new String[] {
+                "javax.crypto.spec.DESKeySpec",
               })
           .put(
               "ForwardingFileObject",
-              new Import[] {
-                new Import("ForwardingFileObject", "javax.tools", false),
+              new String[] {
+                "javax.tools.ForwardingFileObject",
               })
           .put(
               "parseUnsignedShort",
-              new Import[] {
-                new Import("parseUnsignedShort", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.parseUnsignedShort",
               })
           .put(
               "JPEGImageReadParam",
-              new Import[] {
-                new Import("JPEGImageReadParam", "javax.imageio.plugins.jpeg", false),
+              new String[] {
+                "javax.imageio.plugins.jpeg.JPEGImageReadParam",
               })
           .put(
               "Filler",
-              new Import[] {
-                new Import("Filler", "javax.swing.Box", false),
+              new String[] {
+                "javax.swing.Box.Filler",
               })
           .put(
               "DEFAULT",
-              new Import[] {
-                new Import("DEFAULT", "java.security.spec.PSSParameterSpec", true),
-                new Import("DEFAULT", "java.text.DateFormat", true),
-                new Import("DEFAULT", "javax.crypto.spec.OAEPParameterSpec", true),
-                new Import("DEFAULT", "javax.crypto.spec.PSource.PSpecified", true),
-                new Import("DEFAULT", "javax.swing.Action", true),
-                new Import("DEFAULT", "javax.swing.plaf.synth.SynthConstants", true),
-                new Import("DEFAULT", "javax.swing.text.html.parser.DTDConstants", true),
-                new Import("DEFAULT", "javax.xml.bind.annotation.XmlElement", false),
-                new Import("DEFAULT", "javax.xml.bind.annotation.XmlElementRef", false),
-                new Import("DEFAULT", "javax.xml.bind.annotation.XmlSchemaType", false),
-                new Import("DEFAULT", "javax.xml.bind.annotation.XmlType", false),
-                new Import(
-                    "DEFAULT", "javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter", false),
-                new Import("DEFAULT", "javax.xml.crypto.dsig.spec.ExcC14NParameterSpec", true),
+              new String[] {
+                "static java.security.spec.PSSParameterSpec.DEFAULT",
+                "static java.text.DateFormat.DEFAULT",
+                "static javax.crypto.spec.OAEPParameterSpec.DEFAULT",
+                "static javax.crypto.spec.PSource.PSpecified.DEFAULT",
+                "static javax.swing.Action.DEFAULT",
+                "static javax.swing.plaf.synth.SynthConstants.DEFAULT",
+                "static javax.swing.text.html.parser.DTDConstants.DEFAULT",
+                "javax.xml.bind.annotation.XmlElement.DEFAULT",
+                "javax.xml.bind.annotation.XmlElementRef.DEFAULT",
+                "javax.xml.bind.annotation.XmlSchemaType.DEFAULT",
+                "javax.xml.bind.annotation.XmlType.DEFAULT",
+                "javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter.DEFAULT",
+                "static javax.xml.crypto.dsig.spec.ExcC14NParameterSpec.DEFAULT",
               })
           .put(
               "JAXB_FORMATTED_OUTPUT",
-              new Import[] {
-                new Import("JAXB_FORMATTED_OUTPUT", "javax.xml.bind.Marshaller", true),
+              new String[] {
+                "static javax.xml.bind.Marshaller.JAXB_FORMATTED_OUTPUT",
               })
           .put(
               "AcceptPendingException",
-              new Import[] {
-                new Import("AcceptPendingException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.AcceptPendingException",
               })
           .put(
               "getRootPane",
-              new Import[] {
-                new Import("getRootPane", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.getRootPane",
               })
           .put(
               "ORB_CTRL_MODEL",
-              new Import[] {
-                new Import("ORB_CTRL_MODEL", "org.omg.PortableServer.ThreadPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.ThreadPolicyValue.ORB_CTRL_MODEL",
               })
           .put(
               "setDesignTime",
-              new Import[] {
-                new Import("setDesignTime", "java.beans.Beans", true),
+              new String[] {
+                "static java.beans.Beans.setDesignTime",
               })
           .put(
               "getSystem",
-              new Import[] {
-                new Import("getSystem", "java.rmi.activation.ActivationGroup", true),
+              new String[] {
+                "static java.rmi.activation.ActivationGroup.getSystem",
               })
           .put(
               "PLAIN",
-              new Import[] {
-                new Import("PLAIN", "java.awt.Font", true),
+              new String[] {
+                "static java.awt.Font.PLAIN",
               })
           .put(
               "init",
-              new Import[] {
-                new Import("init", "org.omg.CORBA.ORB", true),
+              new String[] {
+                "static org.omg.CORBA.ORB.init",
               })
           .put(
               "UNNECESSARY",
-              new Import[] {
-                new Import("UNNECESSARY", "java.awt.GraphicsConfigTemplate", true),
+              new String[] {
+                "static java.awt.GraphicsConfigTemplate.UNNECESSARY",
               })
           .put(
               "DatatypeFactory",
-              new Import[] {
-                new Import("DatatypeFactory", "javax.xml.datatype", false),
+              new String[] {
+                "javax.xml.datatype.DatatypeFactory",
               })
           .put(
               "EDITABLE_PROPERTY",
-              new Import[] {
-                new Import("EDITABLE_PROPERTY", "javax.swing.JTree", true),
+              new String[] {
+                "static javax.swing.JTree.EDITABLE_PROPERTY",
               })
           .put(
               "isRectangleContainingRectangle",
-              new Import[] {
-                new Import("isRectangleContainingRectangle", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.isRectangleContainingRectangle",
               })
           .put(
               "LAYOUT_RIGHT_TO_LEFT",
-              new Import[] {
-                new Import("LAYOUT_RIGHT_TO_LEFT", "java.awt.Font", true),
+              new String[] {
+                "static java.awt.Font.LAYOUT_RIGHT_TO_LEFT",
               })
           .put(
               "Adjustable",
-              new Import[] {
-                new Import("Adjustable", "java.awt", false),
+              new String[] {
+                "java.awt.Adjustable",
               })
           .put(
               "XA_RBEND",
-              new Import[] {
-                new Import("XA_RBEND", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_RBEND",
               })
           .put(
               "NotYetBoundException",
-              new Import[] {
-                new Import("NotYetBoundException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.NotYetBoundException",
               })
           .put(
               "JCheckBox",
-              new Import[] {
-                new Import("JCheckBox", "javax.swing", false),
+              new String[] {
+                "javax.swing.JCheckBox",
               })
           .put(
               "registerDriver",
-              new Import[] {
-                new Import("registerDriver", "java.sql.DriverManager", true),
+              new String[] {
+                "static java.sql.DriverManager.registerDriver",
               })
           .put(
               "SINGLEPASS",
-              new Import[] {
-                new Import("SINGLEPASS", "java.awt.image.ImageConsumer", true),
+              new String[] {
+                "static java.awt.image.ImageConsumer.SINGLEPASS",
               })
           .put(
               "allocate",
-              new Import[] {
-                new Import("allocate", "java.nio.ByteBuffer", true),
-                new Import("allocate", "java.nio.CharBuffer", true),
-                new Import("allocate", "java.nio.DoubleBuffer", true),
-                new Import("allocate", "java.nio.FloatBuffer", true),
-                new Import("allocate", "java.nio.IntBuffer", true),
-                new Import("allocate", "java.nio.LongBuffer", true),
-                new Import("allocate", "java.nio.ShortBuffer", true),
+              new String[] {
+                "static java.nio.ByteBuffer.allocate",
+                "static java.nio.CharBuffer.allocate",
+                "static java.nio.DoubleBuffer.allocate",
+                "static java.nio.FloatBuffer.allocate",
+                "static java.nio.IntBuffer.allocate",
+                "static java.nio.LongBuffer.allocate",
+                "static java.nio.ShortBuffer.allocate",
               })
           .put(
               "complementOf",
-              new Import[] {
-                new Import("complementOf", "java.util.EnumSet", true),
+              new String[] {
+                "static java.util.EnumSet.complementOf",
               })
           .put(
               "icSigTechnologyTag",
-              new Import[] {
-                new Import("icSigTechnologyTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigTechnologyTag",
               })
           .put(
               "PROTOCOL_PROVIDER_PACKAGES",
-              new Import[] {
-                new Import(
-                    "PROTOCOL_PROVIDER_PACKAGES",
-                    "javax.management.remote.JMXConnectorFactory",
-                    true),
-                new Import(
-                    "PROTOCOL_PROVIDER_PACKAGES",
-                    "javax.management.remote.JMXConnectorServerFactory",
-                    true),
+              new String[] {
+                "static javax.management.remote.JMXConnectorFactory.PROTOCOL_PROVIDER_PACKAGES",
+                "static"
+                    + " javax.management.remote.JMXConnectorServerFactory.PROTOCOL_PROVIDER_PACKAGES",
               })
           .put(
               "MultipleComponentProfileHelper",
-              new Import[] {
-                new Import("MultipleComponentProfileHelper", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.MultipleComponentProfileHelper",
               })
           .put(
               "darkGray",
-              new Import[] {
-                new Import("darkGray", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.darkGray",
               })
           .put(
               "PrinterMessageFromOperator",
-              new Import[] {
-                new Import("PrinterMessageFromOperator", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PrinterMessageFromOperator",
               })
           .put(
               "RowSorterEvent",
-              new Import[] {
-                new Import("RowSorterEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.RowSorterEvent",
               })
           .put(
               "NA_7X9_ENVELOPE",
-              new Import[] {
-                new Import("NA_7X9_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import("NA_7X9_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("NA_7X9_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.NA_7X9_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSizeName.NA_7X9_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSize.NA.NA_7X9_ENVELOPE",
               })
           .put(
               "FileTypeMap",
-              new Import[] {
-                new Import("FileTypeMap", "javax.activation", false),
+              new String[] {
+                "javax.activation.FileTypeMap",
               })
           .put(
               "SwingUtilities",
-              new Import[] {
-                new Import("SwingUtilities", "javax.swing", false),
+              new String[] {
+                "javax.swing.SwingUtilities",
               })
           .put(
               "printString",
-              new Import[] {
-                new Import("printString", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printString",
               })
           .put(
               "FocusListener",
-              new Import[] {
-                new Import("FocusListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.FocusListener",
               })
           .put(
               "CHAR_UNDEFINED",
-              new Import[] {
-                new Import("CHAR_UNDEFINED", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.CHAR_UNDEFINED",
               })
           .put(
               "DSAPublicKeySpec",
-              new Import[] {
-                new Import("DSAPublicKeySpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.DSAPublicKeySpec",
               })
           .put(
               "createEmptyFrameIcon",
-              new Import[] {
-                new Import("createEmptyFrameIcon", "javax.swing.plaf.basic.BasicIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicIconFactory.createEmptyFrameIcon",
               })
           .put(
               "log",
-              new Import[] {
-                new Import("log", "java.lang.Math", true),
-                new Import("log", "java.lang.StrictMath", true),
-                new Import("log", "java.rmi.server.LogStream", true),
+              new String[] {
+                "static java.lang.Math.log",
+                "static java.lang.StrictMath.log",
+                "static java.rmi.server.LogStream.log",
               })
           .put(
               "HTMLDocument",
-              new Import[] {
-                new Import("HTMLDocument", "javax.swing.text.html", false),
+              new String[] {
+                "javax.swing.text.html.HTMLDocument",
               })
           .put(
               "getInstalledLookAndFeels",
-              new Import[] {
-                new Import("getInstalledLookAndFeels", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.getInstalledLookAndFeels",
               })
           .put(
               "AM_PM",
-              new Import[] {
-                new Import("AM_PM", "java.text.DateFormat.Field", true),
-                new Import("AM_PM", "java.util.Calendar", true),
+              new String[] {
+                "static java.text.DateFormat.Field.AM_PM", "static java.util.Calendar.AM_PM",
               })
           .put(
               "LOST_FOCUS",
-              new Import[] {
-                new Import("LOST_FOCUS", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.LOST_FOCUS",
               })
           .put(
               "IS_REPAIRING_NAMESPACES",
-              new Import[] {
-                new Import("IS_REPAIRING_NAMESPACES", "javax.xml.stream.XMLOutputFactory", true),
+              new String[] {
+                "static javax.xml.stream.XMLOutputFactory.IS_REPAIRING_NAMESPACES",
               })
           .put(
               "NotificationResult",
-              new Import[] {
-                new Import("NotificationResult", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.NotificationResult",
               })
           .put(
               "FRAMESET",
-              new Import[] {
-                new Import("FRAMESET", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.FRAMESET",
               })
           .put(
               "printFloat",
-              new Import[] {
-                new Import("printFloat", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printFloat",
               })
           .put(
               "ParameterModeHelper",
-              new Import[] {
-                new Import("ParameterModeHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ParameterModeHelper",
               })
           .put(
               "CaretPolicy",
-              new Import[] {
-                new Import("CaretPolicy", "java.awt.font.TextLayout", false),
+              new String[] {
+                "java.awt.font.TextLayout.CaretPolicy",
               })
           .put(
               "FaultAction",
-              new Import[] {
-                new Import("FaultAction", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.FaultAction",
               })
           .put(
               "UnknownFormatConversionException",
-              new Import[] {
-                new Import("UnknownFormatConversionException", "java.util", false),
+              new String[] {
+                "java.util.UnknownFormatConversionException",
               })
           .put(
               "TAG_LCAR",
-              new Import[] {
-                new Import("TAG_LCAR", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_LCAR",
               })
           .put(
               "REMOVE",
-              new Import[] {
-                new Import("REMOVE", "javax.swing.event.DocumentEvent.EventType", true),
+              new String[] {
+                "static javax.swing.event.DocumentEvent.EventType.REMOVE",
               })
           .put(
               "setGuiAvailable",
-              new Import[] {
-                new Import("setGuiAvailable", "java.beans.Beans", true),
+              new String[] {
+                "static java.beans.Beans.setGuiAvailable",
               })
           .put(
               "TransformerException",
-              new Import[] {
-                new Import("TransformerException", "javax.xml.transform", false),
+              new String[] {
+                "javax.xml.transform.TransformerException",
               })
           .put(
               "PrintWriter",
-              new Import[] {
-                new Import("PrintWriter", "java.io", false),
+              new String[] {
+                "java.io.PrintWriter",
               })
           .put(
               "REQUEST_PROCESSING_POLICY_ID",
-              new Import[] {
-                new Import("REQUEST_PROCESSING_POLICY_ID", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.REQUEST_PROCESSING_POLICY_ID",
               })
           .put(
               "VK_PREVIOUS_CANDIDATE",
-              new Import[] {
-                new Import("VK_PREVIOUS_CANDIDATE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_PREVIOUS_CANDIDATE",
               })
           .put(
               "DateEditor",
-              new Import[] {
-                new Import("DateEditor", "javax.swing.JSpinner", false),
+              new String[] {
+                "javax.swing.JSpinner.DateEditor",
               })
           .put(
               "TABBED_PANE_TAB",
-              new Import[] {
-                new Import("TABBED_PANE_TAB", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.TABBED_PANE_TAB",
               })
           .put(
               "PHYSICAL",
-              new Import[] {
-                new Import("PHYSICAL", "java.awt.PageAttributes.OriginType", true),
+              new String[] {
+                "static java.awt.PageAttributes.OriginType.PHYSICAL",
               })
           .put(
               "FileChannel",
-              new Import[] {
-                new Import("FileChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.FileChannel",
               })
           .put(
               "icSigGreenTRCTag",
-              new Import[] {
-                new Import("icSigGreenTRCTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigGreenTRCTag",
               })
           .put(
               "IDLType",
-              new Import[] {
-                new Import("IDLType", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.IDLType",
               })
           .put(
               "unconfigurableExecutorService",
-              new Import[] {
-                new Import("unconfigurableExecutorService", "java.util.concurrent.Executors", true),
+              new String[] {
+                "static java.util.concurrent.Executors.unconfigurableExecutorService",
               })
           .put(
               "ProgressMonitor",
-              new Import[] {
-                new Import("ProgressMonitor", "javax.swing", false),
+              new String[] {
+                "javax.swing.ProgressMonitor",
               })
           .put(
               "FirstLineIndent",
-              new Import[] {
-                new Import("FirstLineIndent", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.FirstLineIndent",
               })
           .put(
               "TYPE_INT_BGR",
-              new Import[] {
-                new Import("TYPE_INT_BGR", "java.awt.image.BufferedImage", true),
+              new String[] {
+                "static java.awt.image.BufferedImage.TYPE_INT_BGR",
               })
           .put(
               "ServicePermission",
-              new Import[] {
-                new Import("ServicePermission", "javax.security.auth.kerberos", false),
+              new String[] {
+                "javax.security.auth.kerberos.ServicePermission",
               })
           .put(
               "_tk_value",
-              new Import[] {
-                new Import("_tk_value", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_value",
               })
           .put(
               "TAG_RMI_CUSTOM_MAX_STREAM_FORMAT",
-              new Import[] {
-                new Import("TAG_RMI_CUSTOM_MAX_STREAM_FORMAT", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.TAG_RMI_CUSTOM_MAX_STREAM_FORMAT",
               })
           .put(
               "BUFFER_SIZE_DEFAULT",
-              new Import[] {
-                new Import("BUFFER_SIZE_DEFAULT", "javax.swing.text.DefaultStyledDocument", true),
+              new String[] {
+                "static javax.swing.text.DefaultStyledDocument.BUFFER_SIZE_DEFAULT",
               })
           .put(
               "AsyncBoxView",
-              new Import[] {
-                new Import("AsyncBoxView", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.AsyncBoxView",
               })
           .put(
               "installedProviders",
-              new Import[] {
-                new Import("installedProviders", "java.nio.file.spi.FileSystemProvider", true),
+              new String[] {
+                "static java.nio.file.spi.FileSystemProvider.installedProviders",
               })
           .put(
               "DynEnumOperations",
-              new Import[] {
-                new Import("DynEnumOperations", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynEnumOperations",
               })
           .put(
               "CommandEnvironment",
-              new Import[] {
-                new Import("CommandEnvironment", "java.rmi.activation.ActivationGroupDesc", false),
+              new String[] {
+                "java.rmi.activation.ActivationGroupDesc.CommandEnvironment",
               })
           .put(
               "CertificateException",
-              new Import[] {
-                new Import("CertificateException", "java.security.cert", false),
-                new Import("CertificateException", "javax.security.cert", false),
+              new String[] {
+                "java.security.cert.CertificateException",
+                "javax.security.cert.CertificateException",
               })
           .put(
               "clearCache",
-              new Import[] {
-                new Import("clearCache", "java.util.ResourceBundle", true),
+              new String[] {
+                "static java.util.ResourceBundle.clearCache",
               })
           .put(
               "FONT_STYLE",
-              new Import[] {
-                new Import("FONT_STYLE", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.FONT_STYLE",
               })
           .put(
               "ArrayType",
-              new Import[] {
-                new Import("ArrayType", "javax.lang.model.type", false),
-                new Import("ArrayType", "javax.management.openmbean", false),
+              new String[] {
+                "javax.lang.model.type.ArrayType", "javax.management.openmbean.ArrayType",
               })
           .put(
               "isStrict",
-              new Import[] {
-                new Import("isStrict", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.isStrict",
               })
           .put(
               "KRB_NT_SRV_INST",
-              new Import[] {
-                new Import(
-                    "KRB_NT_SRV_INST", "javax.security.auth.kerberos.KerberosPrincipal", true),
+              new String[] {
+                "static javax.security.auth.kerberos.KerberosPrincipal.KRB_NT_SRV_INST",
               })
           .put(
               "VALUE_RANGE_MAX_INCLUSIVE",
-              new Import[] {
-                new Import(
-                    "VALUE_RANGE_MAX_INCLUSIVE", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.VALUE_RANGE_MAX_INCLUSIVE",
               })
           .put(
               "OpenMBeanAttributeInfo",
-              new Import[] {
-                new Import("OpenMBeanAttributeInfo", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.OpenMBeanAttributeInfo",
               })
           .put(
               "zone",
-              new Import[] {
-                new Import("zone", "java.time.temporal.TemporalQueries", true),
+              new String[] {
+                "static java.time.temporal.TemporalQueries.zone",
               })
           .put(
               "SEG_CUBICTO",
-              new Import[] {
-                new Import("SEG_CUBICTO", "java.awt.geom.PathIterator", true),
+              new String[] {
+                "static java.awt.geom.PathIterator.SEG_CUBICTO",
               })
           .put(
               "LATIN_EXTENDED_A",
-              new Import[] {
-                new Import("LATIN_EXTENDED_A", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.LATIN_EXTENDED_A",
               })
           .put(
               "LATIN_EXTENDED_B",
-              new Import[] {
-                new Import("LATIN_EXTENDED_B", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.LATIN_EXTENDED_B",
               })
           .put(
               "SynchronousQueue",
-              new Import[] {
-                new Import("SynchronousQueue", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.SynchronousQueue",
               })
           .put(
               "LATIN_EXTENDED_C",
-              new Import[] {
-                new Import("LATIN_EXTENDED_C", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.LATIN_EXTENDED_C",
               })
           .put(
               "LATIN_EXTENDED_D",
-              new Import[] {
-                new Import("LATIN_EXTENDED_D", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.LATIN_EXTENDED_D",
               })
           .put(
               "TableHeaderUI",
-              new Import[] {
-                new Import("TableHeaderUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.TableHeaderUI",
               })
           .put(
               "UnsupportedDataTypeException",
-              new Import[] {
-                new Import("UnsupportedDataTypeException", "javax.activation", false),
+              new String[] {
+                "javax.activation.UnsupportedDataTypeException",
               })
           .put(
               "TORIGHT_TOBOTTOM",
-              new Import[] {
-                new Import(
-                    "TORIGHT_TOBOTTOM",
-                    "javax.print.attribute.standard.PresentationDirection",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.PresentationDirection.TORIGHT_TOBOTTOM",
               })
           .put(
               "ARABIC_EXTENDED_A",
-              new Import[] {
-                new Import("ARABIC_EXTENDED_A", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ARABIC_EXTENDED_A",
               })
           .put(
               "ALIGN_RIGHT",
-              new Import[] {
-                new Import("ALIGN_RIGHT", "javax.swing.text.StyleConstants", true),
-                new Import("ALIGN_RIGHT", "javax.swing.text.TabStop", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.ALIGN_RIGHT",
+                "static javax.swing.text.TabStop.ALIGN_RIGHT",
               })
           .put(
               "ANCESTOR_RESIZED",
-              new Import[] {
-                new Import("ANCESTOR_RESIZED", "java.awt.event.HierarchyEvent", true),
+              new String[] {
+                "static java.awt.event.HierarchyEvent.ANCESTOR_RESIZED",
               })
           .put(
               "BeanContextServices",
-              new Import[] {
-                new Import("BeanContextServices", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextServices",
               })
           .put(
               "TimeoutException",
-              new Import[] {
-                new Import("TimeoutException", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.TimeoutException",
               })
           .put(
               "loadLibrary",
-              new Import[] {
-                new Import("loadLibrary", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.loadLibrary",
               })
           .put(
               "Blob",
-              new Import[] {
-                new Import("Blob", "java.sql", false),
+              new String[] {
+                "java.sql.Blob",
               })
           .put(
               "ServerException",
-              new Import[] {
-                new Import("ServerException", "java.rmi", false),
+              new String[] {
+                "java.rmi.ServerException",
               })
           .put(
               "CANONICAL",
-              new Import[] {
-                new Import("CANONICAL", "javax.security.auth.x500.X500Principal", true),
+              new String[] {
+                "static javax.security.auth.x500.X500Principal.CANONICAL",
               })
           .put(
               "SUPPLEMENTAL_PUNCTUATION",
-              new Import[] {
-                new Import("SUPPLEMENTAL_PUNCTUATION", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SUPPLEMENTAL_PUNCTUATION",
               })
           .put(
               "KEEP",
-              new Import[] {
-                new Import("KEEP", "java.util.jar.Pack200.Packer", true),
-                new Import("KEEP", "java.util.jar.Pack200.Unpacker", true),
+              new String[] {
+                "static java.util.jar.Pack200.Packer.KEEP",
+                "static java.util.jar.Pack200.Unpacker.KEEP",
               })
           .put(
               "RELATION_MBEAN_REMOVAL",
-              new Import[] {
-                new Import(
-                    "RELATION_MBEAN_REMOVAL",
-                    "javax.management.relation.RelationNotification",
-                    true),
+              new String[] {
+                "static javax.management.relation.RelationNotification.RELATION_MBEAN_REMOVAL",
               })
           .put(
               "VM_CUSTOM",
-              new Import[] {
-                new Import("VM_CUSTOM", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.VM_CUSTOM",
               })
           .put(
               "JarOutputStream",
-              new Import[] {
-                new Import("JarOutputStream", "java.util.jar", false),
+              new String[] {
+                "java.util.jar.JarOutputStream",
               })
           .put(
               "Handler",
-              new Import[] {
-                new Import("Handler", "java.util.logging", false),
-                new Import("Handler", "javax.xml.ws.handler", false),
+              new String[] {
+                "java.util.logging.Handler", "javax.xml.ws.handler.Handler",
               })
           .put(
               "MutationEvent",
-              new Import[] {
-                new Import("MutationEvent", "org.w3c.dom.events", false),
+              new String[] {
+                "org.w3c.dom.events.MutationEvent",
               })
           .put(
               "SyncFailedException",
-              new Import[] {
-                new Import("SyncFailedException", "java.io", false),
+              new String[] {
+                "java.io.SyncFailedException",
               })
           .put(
               "ListIterator",
-              new Import[] {
-                new Import("ListIterator", "java.util", false),
+              new String[] {
+                "java.util.ListIterator",
               })
           .put(
               "ScrollPaneConstants",
-              new Import[] {
-                new Import("ScrollPaneConstants", "javax.swing", false),
+              new String[] {
+                "javax.swing.ScrollPaneConstants",
               })
           .put(
               "DataTruncation",
-              new Import[] {
-                new Import("DataTruncation", "java.sql", false),
+              new String[] {
+                "java.sql.DataTruncation",
               })
           .put(
               "ColorConvertOp",
-              new Import[] {
-                new Import("ColorConvertOp", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.ColorConvertOp",
               })
           .put(
               "ObjectStreamField",
-              new Import[] {
-                new Import("ObjectStreamField", "java.io", false),
+              new String[] {
+                "java.io.ObjectStreamField",
               })
           .put(
               "WrongAdapter",
-              new Import[] {
-                new Import("WrongAdapter", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.WrongAdapter",
               })
           .put(
               "SERIALIZE_ERR",
-              new Import[] {
-                new Import("SERIALIZE_ERR", "org.w3c.dom.ls.LSException", true),
+              new String[] {
+                "static org.w3c.dom.ls.LSException.SERIALIZE_ERR",
               })
           .put(
               "LogicalMessage",
-              new Import[] {
-                new Import("LogicalMessage", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.LogicalMessage",
               })
           .put(
               "TYPE_2CLR",
-              new Import[] {
-                new Import("TYPE_2CLR", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_2CLR",
               })
           .put(
               "DECIMAL128",
-              new Import[] {
-                new Import("DECIMAL128", "java.math.MathContext", true),
+              new String[] {
+                "static java.math.MathContext.DECIMAL128",
               })
           .put(
               "ObjectReferenceTemplateHolder",
-              new Import[] {
-                new Import("ObjectReferenceTemplateHolder", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ObjectReferenceTemplateHolder",
               })
           .put(
               "AbstractQueuedSynchronizer",
-              new Import[] {
-                new Import("AbstractQueuedSynchronizer", "java.util.concurrent.locks", false),
+              new String[] {
+                "java.util.concurrent.locks.AbstractQueuedSynchronizer",
               })
           .put(
               "CLOSED",
-              new Import[] {
-                new Import("CLOSED", "javax.management.remote.JMXConnectionNotification", true),
+              new String[] {
+                "static javax.management.remote.JMXConnectionNotification.CLOSED",
               })
           .put(
               "RMI_SERVER_SOCKET_FACTORY_ATTRIBUTE",
-              new Import[] {
-                new Import(
-                    "RMI_SERVER_SOCKET_FACTORY_ATTRIBUTE",
-                    "javax.management.remote.rmi.RMIConnectorServer",
-                    true),
+              new String[] {
+                "static"
+                    + " javax.management.remote.rmi.RMIConnectorServer.RMI_SERVER_SOCKET_FACTORY_ATTRIBUTE",
               })
           .put(
               "SECURITY_AUTHENTICATION",
-              new Import[] {
-                new Import("SECURITY_AUTHENTICATION", "javax.naming.Context", true),
+              new String[] {
+                "static javax.naming.Context.SECURITY_AUTHENTICATION",
               })
           .put(
               "HANGUL_JAMO",
-              new Import[] {
-                new Import("HANGUL_JAMO", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.HANGUL_JAMO",
               })
           .put(
               "TREE_MODEL_PROPERTY",
-              new Import[] {
-                new Import("TREE_MODEL_PROPERTY", "javax.swing.JTree", true),
+              new String[] {
+                "static javax.swing.JTree.TREE_MODEL_PROPERTY",
               })
           .put(
               "Struct",
-              new Import[] {
-                new Import("Struct", "java.sql", false),
+              new String[] {
+                "java.sql.Struct",
               })
           .put(
               "KEY_EVENT_MASK",
-              new Import[] {
-                new Import("KEY_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.KEY_EVENT_MASK",
               })
           .put(
               "PAGE_AXIS",
-              new Import[] {
-                new Import("PAGE_AXIS", "javax.swing.BoxLayout", true),
+              new String[] {
+                "static javax.swing.BoxLayout.PAGE_AXIS",
               })
           .put(
               "DECRYPT",
-              new Import[] {
-                new Import("DECRYPT", "javax.xml.crypto.KeySelector.Purpose", true),
+              new String[] {
+                "static javax.xml.crypto.KeySelector.Purpose.DECRYPT",
               })
           .put(
               "DSAKey",
-              new Import[] {
-                new Import("DSAKey", "java.security.interfaces", false),
+              new String[] {
+                "java.security.interfaces.DSAKey",
               })
           .put(
               "FOCUS_MANAGER_CLASS_PROPERTY",
-              new Import[] {
-                new Import("FOCUS_MANAGER_CLASS_PROPERTY", "javax.swing.FocusManager", true),
+              new String[] {
+                "static javax.swing.FocusManager.FOCUS_MANAGER_CLASS_PROPERTY",
               })
           .put(
               "CONTENT",
-              new Import[] {
-                new Import("CONTENT", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("CONTENT", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.CONTENT",
+                "static javax.swing.text.html.HTML.Tag.CONTENT",
               })
           .put(
               "MessageContext",
-              new Import[] {
-                new Import("MessageContext", "javax.xml.ws.handler", false),
+              new String[] {
+                "javax.xml.ws.handler.MessageContext",
               })
           .put(
               "SMALL_FORM_VARIANTS",
-              new Import[] {
-                new Import("SMALL_FORM_VARIANTS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SMALL_FORM_VARIANTS",
               })
           .put(
               "ARABIC_SUPPLEMENT",
-              new Import[] {
-                new Import("ARABIC_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ARABIC_SUPPLEMENT",
               })
           .put(
               "park",
-              new Import[] {
-                new Import("park", "java.util.concurrent.locks.LockSupport", true),
+              new String[] {
+                "static java.util.concurrent.locks.LockSupport.park",
               })
           .put(
               "lookupStreamPrintServiceFactories",
-              new Import[] {
-                new Import(
-                    "lookupStreamPrintServiceFactories",
-                    "javax.print.StreamPrintServiceFactory",
-                    true),
+              new String[] {
+                "static javax.print.StreamPrintServiceFactory.lookupStreamPrintServiceFactories",
               })
           .put(
               "StreamSource",
-              new Import[] {
-                new Import("StreamSource", "javax.xml.transform.stream", false),
+              new String[] {
+                "javax.xml.transform.stream.StreamSource",
               })
           .put(
               "getLine",
-              new Import[] {
-                new Import("getLine", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.sampled.AudioSystem.getLine",
               })
           .put(
               "isLightweightComponent",
-              new Import[] {
-                new Import("isLightweightComponent", "javax.swing.JComponent", true),
+              new String[] {
+                "static javax.swing.JComponent.isLightweightComponent",
               })
           .put(
               "Data",
-              new Import[] {
-                new Import("Data", "javax.xml.crypto", false),
+              new String[] {
+                "javax.xml.crypto.Data",
               })
           .put(
               "JarEntry",
-              new Import[] {
-                new Import("JarEntry", "java.util.jar", false),
+              new String[] {
+                "java.util.jar.JarEntry",
               })
           .put(
               "SELECTION_MODEL_PROPERTY",
-              new Import[] {
-                new Import("SELECTION_MODEL_PROPERTY", "javax.swing.JColorChooser", true),
-                new Import("SELECTION_MODEL_PROPERTY", "javax.swing.JTree", true),
+              new String[] {
+                "static javax.swing.JColorChooser.SELECTION_MODEL_PROPERTY",
+                "static javax.swing.JTree.SELECTION_MODEL_PROPERTY",
               })
           .put(
               "Date",
-              new Import[] {
-                new Import("Date", "java.sql", false), new Import("Date", "java.util", false),
+              new String[] {
+                "java.sql.Date", "java.util.Date",
               })
           .put(
               "InputMethodDescriptor",
-              new Import[] {
-                new Import("InputMethodDescriptor", "java.awt.im.spi", false),
+              new String[] {
+                "java.awt.im.spi.InputMethodDescriptor",
               })
           .put(
               "WRONG_DOCUMENT_ERR",
-              new Import[] {
-                new Import("WRONG_DOCUMENT_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.WRONG_DOCUMENT_ERR",
               })
           .put(
               "XMLStreamException",
-              new Import[] {
-                new Import("XMLStreamException", "javax.xml.stream", false),
+              new String[] {
+                "javax.xml.stream.XMLStreamException",
               })
           .put(
               "DefaultPersistenceDelegate",
-              new Import[] {
-                new Import("DefaultPersistenceDelegate", "java.beans", false),
+              new String[] {
+                "java.beans.DefaultPersistenceDelegate",
               })
           .put(
               "LookupTable",
-              new Import[] {
-                new Import("LookupTable", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.LookupTable",
               })
           .put(
               "SCROLL_BAR_THUMB",
-              new Import[] {
-                new Import("SCROLL_BAR_THUMB", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.SCROLL_BAR_THUMB",
               })
           .put(
               "WEIGHT_EXTRABOLD",
-              new Import[] {
-                new Import("WEIGHT_EXTRABOLD", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WEIGHT_EXTRABOLD",
               })
           .put(
               "PrinterIsAcceptingJobs",
-              new Import[] {
-                new Import("PrinterIsAcceptingJobs", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PrinterIsAcceptingJobs",
               })
           .build();
 }
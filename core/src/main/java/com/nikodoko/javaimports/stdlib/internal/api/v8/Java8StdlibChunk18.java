@@ -2,1607 +2,1561 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk18 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "setUnderline",
-              new Import[] {
-                new Import("setUnderline", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setUnderline",
               })
           .put(
               "StandardLocation",
-              new Import[] {
-                new Import("StandardLocation", "javax.tools", false),
+              new String[] {
+                "javax.tools.StandardLocation",
               })
           .put(
               "ENVELOPED",
-              new Import[] {
-                new Import("ENVELOPED", "javax.xml.crypto.dsig.Transform", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.Transform.ENVELOPED",
               })
           .put(
               "BooleanSeqHelper",
-              new Import[] {
-                new Import("BooleanSeqHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.BooleanSeqHelper",
               })
           .put(
               "newJMXConnector",
-              new Import[] {
-                new Import("newJMXConnector", "javax.management.remote.JMXConnectorFactory", true),
+              new String[] {
+                "static javax.management.remote.JMXConnectorFactory.newJMXConnector",
               })
           .put(
               "OutputStream",
-              new Import[] {
-                new Import("OutputStream", "java.io", false),
-                new Import("OutputStream", "org.omg.CORBA.portable", false),
-                new Import("OutputStream", "org.omg.CORBA_2_3.portable", false),
+              new String[] {
+                "java.io.OutputStream",
+                "org.omg.CORBA.portable.OutputStream",
+                "org.omg.CORBA_2_3.portable.OutputStream",
               })
           .put(
               "CLOSE",
-              new Import[] {
-                new Import("CLOSE", "javax.sound.sampled.LineEvent.Type", true),
+              new String[] {
+                "static javax.sound.sampled.LineEvent.Type.CLOSE",
               })
           .put(
               "NamingContextExtHelper",
-              new Import[] {
-                new Import("NamingContextExtHelper", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextExtHelper",
               })
           .put(
               "tk_native",
-              new Import[] {
-                new Import("tk_native", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_native",
               })
           .put(
               "DefaultMetalTheme",
-              new Import[] {
-                new Import("DefaultMetalTheme", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.DefaultMetalTheme",
               })
           .put(
               "_NamingContextImplBase",
-              new Import[] {
-                new Import("_NamingContextImplBase", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming._NamingContextImplBase",
               })
           .put(
               "KANBUN",
-              new Import[] {
-                new Import("KANBUN", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.KANBUN",
               })
           .put(
               "MONTHS",
-              new Import[] {
-                new Import("MONTHS", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.MONTHS",
               })
           .put(
               "UserPrincipalNotFoundException",
-              new Import[] {
-                new Import("UserPrincipalNotFoundException", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.UserPrincipalNotFoundException",
               })
           .put(
               "StringBufferInputStream",
-              new Import[] {
-                new Import("StringBufferInputStream", "java.io", false),
+              new String[] {
+                "java.io.StringBufferInputStream",
               })
           .put(
               "INTERNAL",
-              new Import[] {
-                new Import("INTERNAL", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.INTERNAL",
               })
           .put(
               "ACCESSIBLE_TABLE_MODEL_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TABLE_MODEL_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_TABLE_MODEL_CHANGED",
               })
           .put(
               "ICC_Profile",
-              new Import[] {
-                new Import("ICC_Profile", "java.awt.color", false),
+              new String[] {
+                "java.awt.color.ICC_Profile",
               })
           .put(
               "PERSONAL_ENVELOPE",
-              new Import[] {
-                new Import("PERSONAL_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "PERSONAL_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "PERSONAL_ENVELOPE", "javax.print.attribute.standard.MediaSize.Other", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.PERSONAL_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSizeName.PERSONAL_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSize.Other.PERSONAL_ENVELOPE",
               })
           .put(
               "DateTimeFormatterBuilder",
-              new Import[] {
-                new Import("DateTimeFormatterBuilder", "java.time.format", false),
+              new String[] {
+                "java.time.format.DateTimeFormatterBuilder",
               })
           .put(
               "StubNotFoundException",
-              new Import[] {
-                new Import("StubNotFoundException", "java.rmi", false),
+              new String[] {
+                "java.rmi.StubNotFoundException",
               })
           .put(
               "MBeanServer",
-              new Import[] {
-                new Import("MBeanServer", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanServer",
               })
           .put(
               "height",
-              new Import[] {
-                new Import("height", "javax.swing.Spring", true),
+              new String[] {
+                "static javax.swing.Spring.height",
               })
           .put(
               "allocateDirect",
-              new Import[] {
-                new Import("allocateDirect", "java.nio.ByteBuffer", true),
+              new String[] {
+                "static java.nio.ByteBuffer.allocateDirect",
               })
           .put(
               "readFrom",
-              new Import[] {
-                new Import("readFrom", "javax.xml.ws.EndpointReference", true),
+              new String[] {
+                "static javax.xml.ws.EndpointReference.readFrom",
               })
           .put(
               "checkedCollection",
-              new Import[] {
-                new Import("checkedCollection", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.checkedCollection",
               })
           .put(
               "MEMORY_POOL_MXBEAN_DOMAIN_TYPE",
-              new Import[] {
-                new Import(
-                    "MEMORY_POOL_MXBEAN_DOMAIN_TYPE",
-                    "java.lang.management.ManagementFactory",
-                    true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.MEMORY_POOL_MXBEAN_DOMAIN_TYPE",
               })
           .put(
               "NODE",
-              new Import[] {
-                new Import("NODE", "javax.xml.xpath.XPathConstants", true),
+              new String[] {
+                "static javax.xml.xpath.XPathConstants.NODE",
               })
           .put(
               "paintComponent",
-              new Import[] {
-                new Import("paintComponent", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.paintComponent",
               })
           .put(
               "getKeyStroke",
-              new Import[] {
-                new Import("getKeyStroke", "javax.swing.KeyStroke", true),
+              new String[] {
+                "static javax.swing.KeyStroke.getKeyStroke",
               })
           .put(
               "INNER_JOIN",
-              new Import[] {
-                new Import("INNER_JOIN", "javax.sql.rowset.JoinRowSet", true),
+              new String[] {
+                "static javax.sql.rowset.JoinRowSet.INNER_JOIN",
               })
           .put(
               "dk_ValueMember",
-              new Import[] {
-                new Import("dk_ValueMember", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_ValueMember",
               })
           .put(
               "importedKeyInitiallyDeferred",
-              new Import[] {
-                new Import("importedKeyInitiallyDeferred", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.importedKeyInitiallyDeferred",
               })
           .put(
               "Parser",
-              new Import[] {
-                new Import("Parser", "javax.swing.text.html.HTMLEditorKit", false),
-                new Import("Parser", "javax.swing.text.html.parser", false),
-                new Import("Parser", "org.xml.sax", false),
+              new String[] {
+                "javax.swing.text.html.HTMLEditorKit.Parser",
+                "javax.swing.text.html.parser.Parser",
+                "org.xml.sax.Parser",
               })
           .put(
               "HOUR_OF_DAY1_FIELD",
-              new Import[] {
-                new Import("HOUR_OF_DAY1_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.HOUR_OF_DAY1_FIELD",
               })
           .put(
               "AtomicBoolean",
-              new Import[] {
-                new Import("AtomicBoolean", "java.util.concurrent.atomic", false),
+              new String[] {
+                "java.util.concurrent.atomic.AtomicBoolean",
               })
           .put(
               "ChoiceCallback",
-              new Import[] {
-                new Import("ChoiceCallback", "javax.security.auth.callback", false),
+              new String[] {
+                "javax.security.auth.callback.ChoiceCallback",
               })
           .put(
               "ICON_COLOR_32x32",
-              new Import[] {
-                new Import("ICON_COLOR_32x32", "java.beans.BeanInfo", true),
+              new String[] {
+                "static java.beans.BeanInfo.ICON_COLOR_32x32",
               })
           .put(
               "AffineTransform",
-              new Import[] {
-                new Import("AffineTransform", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.AffineTransform",
               })
           .put(
               "Key",
-              new Import[] {
-                new Import("Key", "java.awt.RenderingHints", false),
-                new Import("Key", "java.security", false),
+              new String[] {
+                "java.awt.RenderingHints.Key", "java.security.Key",
               })
           .put(
               "PasswordProtection",
-              new Import[] {
-                new Import("PasswordProtection", "java.security.KeyStore", false),
+              new String[] {
+                "java.security.KeyStore.PasswordProtection",
               })
           .put(
               "PagedResultsControl",
-              new Import[] {
-                new Import("PagedResultsControl", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.PagedResultsControl",
               })
           .put(
               "MOUSE_EVENT_MASK",
-              new Import[] {
-                new Import("MOUSE_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.MOUSE_EVENT_MASK",
               })
           .put(
               "CutAction",
-              new Import[] {
-                new Import("CutAction", "javax.swing.text.DefaultEditorKit", false),
+              new String[] {
+                "javax.swing.text.DefaultEditorKit.CutAction",
               })
           .put(
               "IPA_EXTENSIONS",
-              new Import[] {
-                new Import("IPA_EXTENSIONS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.IPA_EXTENSIONS",
               })
           .put(
               "DynSequenceHelper",
-              new Import[] {
-                new Import("DynSequenceHelper", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynSequenceHelper",
               })
           .put(
               "PathIterator",
-              new Import[] {
-                new Import("PathIterator", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.PathIterator",
               })
           .put(
               "JOB_HOLD_UNTIL_SPECIFIED",
-              new Import[] {
-                new Import(
-                    "JOB_HOLD_UNTIL_SPECIFIED",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.JOB_HOLD_UNTIL_SPECIFIED",
               })
           .put(
               "PARAGRAPH_SEPARATOR",
-              new Import[] {
-                new Import("PARAGRAPH_SEPARATOR", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.PARAGRAPH_SEPARATOR",
               })
           .put(
               "EventHandler",
-              new Import[] {
-                new Import("EventHandler", "java.beans", false),
+              new String[] {
+                "java.beans.EventHandler",
               })
           .put(
               "isPrivate",
-              new Import[] {
-                new Import("isPrivate", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.isPrivate",
               })
           .put(
               "Logger",
-              new Import[] {
-                new Import("Logger", "java.util.logging", false),
+              new String[] {
+                "java.util.logging.Logger",
               })
           .put(
               "Elements",
-              new Import[] {
-                new Import("Elements", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.Elements",
               })
           .put(
               "min",
-              new Import[] {
-                new Import("min", "java.lang.Double", true),
-                new Import("min", "java.lang.Float", true),
-                new Import("min", "java.lang.Integer", true),
-                new Import("min", "java.lang.Long", true),
-                new Import("min", "java.lang.Math", true),
-                new Import("min", "java.lang.StrictMath", true),
-                new Import("min", "java.util.Collections", true),
+              new String[] {
+                "static java.lang.Double.min",
+                "static java.lang.Float.min",
+                "static java.lang.Integer.min",
+                "static java.lang.Long.min",
+                "static java.lang.Math.min",
+                "static java.lang.StrictMath.min",
+                "static java.util.Collections.min",
               })
           .put(
               "PRIVATE_USE_EXTENSION",
-              new Import[] {
-                new Import("PRIVATE_USE_EXTENSION", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.PRIVATE_USE_EXTENSION",
               })
           .put(
               "arraycopy",
-              new Import[] {
-                new Import("arraycopy", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.arraycopy",
               })
           .put(
               "BLOCK_ELEMENTS",
-              new Import[] {
-                new Import("BLOCK_ELEMENTS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.BLOCK_ELEMENTS",
               })
           .put(
               "HMAC_SHA1",
-              new Import[] {
-                new Import("HMAC_SHA1", "javax.xml.crypto.dsig.SignatureMethod", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.SignatureMethod.HMAC_SHA1",
               })
           .put(
               "getBoolean",
-              new Import[] {
-                new Import("getBoolean", "java.lang.Boolean", true),
-                new Import("getBoolean", "java.lang.reflect.Array", true),
-                new Import("getBoolean", "javax.swing.UIManager", true),
+              new String[] {
+                "static java.lang.Boolean.getBoolean",
+                "static java.lang.reflect.Array.getBoolean",
+                "static javax.swing.UIManager.getBoolean",
               })
           .put(
               "icSigDeviceModelDescTag",
-              new Import[] {
-                new Import("icSigDeviceModelDescTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigDeviceModelDescTag",
               })
           .put(
               "DECIMAL32",
-              new Import[] {
-                new Import("DECIMAL32", "java.math.MathContext", true),
+              new String[] {
+                "static java.math.MathContext.DECIMAL32",
               })
           .put(
               "getPreferredButtonSize",
-              new Import[] {
-                new Import(
-                    "getPreferredButtonSize", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicGraphicsUtils.getPreferredButtonSize",
               })
           .put(
               "SOAPConnectionFactory",
-              new Import[] {
-                new Import("SOAPConnectionFactory", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SOAPConnectionFactory",
               })
           .put(
               "VK_KANA",
-              new Import[] {
-                new Import("VK_KANA", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_KANA",
               })
           .put(
               "LARGE_CAPACITY",
-              new Import[] {
-                new Import("LARGE_CAPACITY", "javax.print.attribute.standard.MediaTray", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaTray.LARGE_CAPACITY",
               })
           .put(
               "getMenuSelectedForeground",
-              new Import[] {
-                new Import(
-                    "getMenuSelectedForeground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getMenuSelectedForeground",
               })
           .put(
               "Calendar",
-              new Import[] {
-                new Import("Calendar", "java.util", false),
+              new String[] {
+                "java.util.Calendar",
               })
           .put(
               "TYPE_USHORT_GRAY",
-              new Import[] {
-                new Import("TYPE_USHORT_GRAY", "java.awt.image.BufferedImage", true),
+              new String[] {
+                "static java.awt.image.BufferedImage.TYPE_USHORT_GRAY",
               })
           .put(
               "emptySpliterator",
-              new Import[] {
-                new Import("emptySpliterator", "java.util.Spliterators", true),
+              new String[] {
+                "static java.util.Spliterators.emptySpliterator",
               })
           .put(
               "UNDERLINE_LOW_DOTTED",
-              new Import[] {
-                new Import("UNDERLINE_LOW_DOTTED", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.UNDERLINE_LOW_DOTTED",
               })
           .put(
               "UP_CYCLE_TRAVERSAL_KEYS",
-              new Import[] {
-                new Import("UP_CYCLE_TRAVERSAL_KEYS", "java.awt.KeyboardFocusManager", true),
+              new String[] {
+                "static java.awt.KeyboardFocusManager.UP_CYCLE_TRAVERSAL_KEYS",
               })
           .put(
               "DoubleSummaryStatistics",
-              new Import[] {
-                new Import("DoubleSummaryStatistics", "java.util", false),
+              new String[] {
+                "java.util.DoubleSummaryStatistics",
               })
           .put(
               "InsertContentAction",
-              new Import[] {
-                new Import("InsertContentAction", "javax.swing.text.DefaultEditorKit", false),
+              new String[] {
+                "javax.swing.text.DefaultEditorKit.InsertContentAction",
               })
           .put(
               "Observable",
-              new Import[] {
-                new Import("Observable", "java.util", false),
+              new String[] {
+                "java.util.Observable",
               })
           .put(
               "icSigScreeningTag",
-              new Import[] {
-                new Import("icSigScreeningTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigScreeningTag",
               })
           .put(
               "BEFORE_LINE_BEGINS",
-              new Import[] {
-                new Import("BEFORE_LINE_BEGINS", "java.awt.BorderLayout", true),
+              new String[] {
+                "static java.awt.BorderLayout.BEFORE_LINE_BEGINS",
               })
           .put(
               "QUERY_STRING",
-              new Import[] {
-                new Import("QUERY_STRING", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.handler.MessageContext.QUERY_STRING",
               })
           .put(
               "functionReturnsTable",
-              new Import[] {
-                new Import("functionReturnsTable", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.functionReturnsTable",
               })
           .put(
               "SUBMIT",
-              new Import[] {
-                new Import("SUBMIT", "javax.swing.text.html.FormView", true),
+              new String[] {
+                "static javax.swing.text.html.FormView.SUBMIT",
               })
           .put(
               "JEditorPane",
-              new Import[] {
-                new Import("JEditorPane", "javax.swing", false),
+              new String[] {
+                "javax.swing.JEditorPane",
               })
           .put(
               "XmlElement",
-              new Import[] {
-                new Import("XmlElement", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlElement",
               })
           .put(
               "open",
-              new Import[] {
-                new Import("open", "java.nio.channels.AsynchronousFileChannel", true),
-                new Import("open", "java.nio.channels.AsynchronousServerSocketChannel", true),
-                new Import("open", "java.nio.channels.AsynchronousSocketChannel", true),
-                new Import("open", "java.nio.channels.DatagramChannel", true),
-                new Import("open", "java.nio.channels.FileChannel", true),
-                new Import("open", "java.nio.channels.Pipe", true),
-                new Import("open", "java.nio.channels.Selector", true),
-                new Import("open", "java.nio.channels.ServerSocketChannel", true),
-                new Import("open", "java.nio.channels.SocketChannel", true),
+              new String[] {
+                "static java.nio.channels.AsynchronousFileChannel.open",
+                "static java.nio.channels.AsynchronousServerSocketChannel.open",
+                "static java.nio.channels.AsynchronousSocketChannel.open",
+                "static java.nio.channels.DatagramChannel.open",
+                "static java.nio.channels.FileChannel.open",
+                "static java.nio.channels.Pipe.open",
+                "static java.nio.channels.Selector.open",
+                "static java.nio.channels.ServerSocketChannel.open",
+                "static java.nio.channels.SocketChannel.open",
               })
           .put(
               "OP_ACCEPT",
-              new Import[] {
-                new Import("OP_ACCEPT", "java.nio.channels.SelectionKey", true),
+              new String[] {
+                "static java.nio.channels.SelectionKey.OP_ACCEPT",
               })
           .put(
               "XPathExpression",
-              new Import[] {
-                new Import("XPathExpression", "javax.xml.xpath", false),
+              new String[] {
+                "javax.xml.xpath.XPathExpression",
               })
           .put(
               "ResponseHandler",
-              new Import[] {
-                new Import("ResponseHandler", "org.omg.CORBA.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.ResponseHandler",
               })
           .put(
               "AlgorithmParametersSpi",
-              new Import[] {
-                new Import("AlgorithmParametersSpi", "java.security", false),
+              new String[] {
+                "java.security.AlgorithmParametersSpi",
               })
           .put(
               "filterArguments",
-              new Import[] {
-                new Import("filterArguments", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.filterArguments",
               })
           .put(
               "chronology",
-              new Import[] {
-                new Import("chronology", "java.time.temporal.TemporalQueries", true),
+              new String[] {
+                "static java.time.temporal.TemporalQueries.chronology",
               })
           .put(
               "MouseWheelListener",
-              new Import[] {
-                new Import("MouseWheelListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.MouseWheelListener",
               })
           .put(
               "Process",
-              new Import[] {
-                new Import("Process", "java.lang", false),
+              new String[] {
+                "java.lang.Process",
               })
           .put(
               "VK_DEAD_ABOVEDOT",
-              new Import[] {
-                new Import("VK_DEAD_ABOVEDOT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DEAD_ABOVEDOT",
               })
           .put(
               "StreamFilter",
-              new Import[] {
-                new Import("StreamFilter", "javax.xml.stream", false),
+              new String[] {
+                "javax.xml.stream.StreamFilter",
               })
           .put(
               "isSpace",
-              new Import[] {
-                new Import("isSpace", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isSpace",
               })
           .put(
               "SslRMIClientSocketFactory",
-              new Import[] {
-                new Import("SslRMIClientSocketFactory", "javax.rmi.ssl", false),
+              new String[] {
+                "javax.rmi.ssl.SslRMIClientSocketFactory",
               })
           .put(
               "ThreadDeath",
-              new Import[] {
-                new Import("ThreadDeath", "java.lang", false),
+              new String[] {
+                "java.lang.ThreadDeath",
               })
           .put(
               "ORDERED",
-              new Import[] {
-                new Import("ORDERED", "java.util.Spliterator", true),
+              new String[] {
+                "static java.util.Spliterator.ORDERED",
               })
           .put(
               "TIMED_OUT",
-              new Import[] {
-                new Import("TIMED_OUT", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.TIMED_OUT",
               })
           .put(
               "UNIT_INCREMENT",
-              new Import[] {
-                new Import("UNIT_INCREMENT", "java.awt.event.AdjustmentEvent", true),
+              new String[] {
+                "static java.awt.event.AdjustmentEvent.UNIT_INCREMENT",
               })
           .put(
               "WEEK_OF_YEAR_FIELD",
-              new Import[] {
-                new Import("WEEK_OF_YEAR_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.WEEK_OF_YEAR_FIELD",
               })
           .put(
               "BadBreakWeight",
-              new Import[] {
-                new Import("BadBreakWeight", "javax.swing.text.View", true),
+              new String[] {
+                "static javax.swing.text.View.BadBreakWeight",
               })
           .put(
               "dk_Array",
-              new Import[] {
-                new Import("dk_Array", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Array",
               })
           .put(
               "PrivateMLet",
-              new Import[] {
-                new Import("PrivateMLet", "javax.management.loading", false),
+              new String[] {
+                "javax.management.loading.PrivateMLet",
               })
           .put(
               "Polygon",
-              new Import[] {
-                new Import("Polygon", "java.awt", false),
+              new String[] {
+                "java.awt.Polygon",
               })
           .put(
               "AbstractAction",
-              new Import[] {
-                new Import("AbstractAction", "javax.swing", false),
+              new String[] {
+                "javax.swing.AbstractAction",
               })
           .put(
               "DECIMAL64",
-              new Import[] {
-                new Import("DECIMAL64", "java.math.MathContext", true),
+              new String[] {
+                "static java.math.MathContext.DECIMAL64",
               })
           .put(
               "HANGUL_SYLLABLES",
-              new Import[] {
-                new Import("HANGUL_SYLLABLES", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.HANGUL_SYLLABLES",
               })
           .put(
               "TMFAIL",
-              new Import[] {
-                new Import("TMFAIL", "javax.transaction.xa.XAResource", true),
+              new String[] {
+                "static javax.transaction.xa.XAResource.TMFAIL",
               })
           .put(
               "StandardCharsets",
-              new Import[] {
-                new Import("StandardCharsets", "java.nio.charset", false),
+              new String[] {
+                "java.nio.charset.StandardCharsets",
               })
           .put(
               "standardMetadataFormatName",
-              new Import[] {
-                new Import(
-                    "standardMetadataFormatName",
-                    "javax.imageio.metadata.IIOMetadataFormatImpl",
-                    true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormatImpl.standardMetadataFormatName",
               })
           .put(
               "FontUIResource",
-              new Import[] {
-                new Import("FontUIResource", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.FontUIResource",
               })
           .put(
               "VK_HALF_WIDTH",
-              new Import[] {
-                new Import("VK_HALF_WIDTH", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_HALF_WIDTH",
               })
           .put(
               "printHexBinary",
-              new Import[] {
-                new Import("printHexBinary", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printHexBinary",
               })
           .put(
               "MidiDevice",
-              new Import[] {
-                new Import("MidiDevice", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.MidiDevice",
               })
           .put(
               "getSecurityManager",
-              new Import[] {
-                new Import("getSecurityManager", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.getSecurityManager",
               })
           .put(
               "ImageReaderWriterSpi",
-              new Import[] {
-                new Import("ImageReaderWriterSpi", "javax.imageio.spi", false),
+              new String[] {
+                "javax.imageio.spi.ImageReaderWriterSpi",
               })
           .put(
               "AnnotatedType",
-              new Import[] {
-                new Import("AnnotatedType", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.AnnotatedType",
               })
           .put(
               "GrayFilter",
-              new Import[] {
-                new Import("GrayFilter", "javax.swing", false),
+              new String[] {
+                "javax.swing.GrayFilter",
               })
           .put(
               "HTTP_MULT_CHOICE",
-              new Import[] {
-                new Import("HTTP_MULT_CHOICE", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_MULT_CHOICE",
               })
           .put(
               "NameCallback",
-              new Import[] {
-                new Import("NameCallback", "javax.security.auth.callback", false),
+              new String[] {
+                "javax.security.auth.callback.NameCallback",
               })
           .put(
               "StringHolder",
-              new Import[] {
-                new Import("StringHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.StringHolder",
               })
           .put(
               "ProcessBuilder",
-              new Import[] {
-                new Import("ProcessBuilder", "java.lang", false),
+              new String[] {
+                "java.lang.ProcessBuilder",
               })
           .put(
               "icSigViewingCondDescTag",
-              new Import[] {
-                new Import("icSigViewingCondDescTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigViewingCondDescTag",
               })
           .put(
               "VK_CONVERT",
-              new Import[] {
-                new Import("VK_CONVERT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_CONVERT",
               })
           .put(
               "setByte",
-              new Import[] {
-                new Import("setByte", "java.lang.reflect.Array", true),
+              new String[] {
+                "static java.lang.reflect.Array.setByte",
               })
           .put(
               "ERROR_MESSAGE",
-              new Import[] {
-                new Import("ERROR_MESSAGE", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.ERROR_MESSAGE",
               })
           .put(
               "PaletteCloseIcon",
-              new Import[] {
-                new Import("PaletteCloseIcon", "javax.swing.plaf.metal.MetalIconFactory", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalIconFactory.PaletteCloseIcon",
               })
           .put(
               "binarySearch",
-              new Import[] {
-                new Import("binarySearch", "java.util.Arrays", true),
-                new Import("binarySearch", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Arrays.binarySearch", "static java.util.Collections.binarySearch",
               })
           .put(
               "getStandardFormatInstance",
-              new Import[] {
-                new Import(
-                    "getStandardFormatInstance",
-                    "javax.imageio.metadata.IIOMetadataFormatImpl",
-                    true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormatImpl.getStandardFormatInstance",
               })
           .put(
               "ZoneOffset",
-              new Import[] {
-                new Import("ZoneOffset", "java.time", false),
+              new String[] {
+                "java.time.ZoneOffset",
               })
           .put(
               "Control",
-              new Import[] {
-                new Import("Control", "java.util.ResourceBundle", false),
-                new Import("Control", "javax.naming.ldap", false),
-                new Import("Control", "javax.sound.sampled", false),
+              new String[] {
+                "java.util.ResourceBundle.Control",
+                "javax.naming.ldap.Control",
+                "javax.sound.sampled.Control",
               })
           .put(
               "MetalComboBoxEditor",
-              new Import[] {
-                new Import("MetalComboBoxEditor", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalComboBoxEditor",
               })
           .put(
               "isAlphabetic",
-              new Import[] {
-                new Import("isAlphabetic", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isAlphabetic",
               })
           .put(
               "SO_RCVBUF",
-              new Import[] {
-                new Import("SO_RCVBUF", "java.net.SocketOptions", true),
-                new Import("SO_RCVBUF", "java.net.StandardSocketOptions", true),
+              new String[] {
+                "static java.net.SocketOptions.SO_RCVBUF",
+                "static java.net.StandardSocketOptions.SO_RCVBUF",
               })
           .put(
               "ChronoLocalDateTime",
-              new Import[] {
-                new Import("ChronoLocalDateTime", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.ChronoLocalDateTime",
               })
           .put(
               "Console",
-              new Import[] {
-                new Import("Console", "java.io", false),
+              new String[] {
+                "java.io.Console",
               })
           .put(
               "Iterator",
-              new Import[] {
-                new Import("Iterator", "java.util", false),
-                new Import("Iterator", "javax.swing.text.html.HTMLDocument", false),
+              new String[] {
+                "java.util.Iterator", "javax.swing.text.html.HTMLDocument.Iterator",
               })
           .put(
               "PAGE_TAB_LIST",
-              new Import[] {
-                new Import("PAGE_TAB_LIST", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.PAGE_TAB_LIST",
               })
           .put(
               "HIERARCHY_LAST",
-              new Import[] {
-                new Import("HIERARCHY_LAST", "java.awt.event.HierarchyEvent", true),
+              new String[] {
+                "static java.awt.event.HierarchyEvent.HIERARCHY_LAST",
               })
           .put(
               "GOTHIC",
-              new Import[] {
-                new Import("GOTHIC", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.GOTHIC",
               })
           .put(
               "TEXT_FIELD",
-              new Import[] {
-                new Import("TEXT_FIELD", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.TEXT_FIELD",
               })
           .put(
               "importPreferences",
-              new Import[] {
-                new Import("importPreferences", "java.util.prefs.Preferences", true),
+              new String[] {
+                "static java.util.prefs.Preferences.importPreferences",
               })
           .put(
               "padSpaceBetweenStrings",
-              new Import[] {
-                new Import("padSpaceBetweenStrings", "javax.swing.plaf.metal.MetalToolTipUI", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalToolTipUI.padSpaceBetweenStrings",
               })
           .put(
               "ABOUT_UIROLE",
-              new Import[] {
-                new Import("ABOUT_UIROLE", "javax.print.ServiceUIFactory", true),
+              new String[] {
+                "static javax.print.ServiceUIFactory.ABOUT_UIROLE",
               })
           .put(
               "DestroyFailedException",
-              new Import[] {
-                new Import("DestroyFailedException", "javax.security.auth", false),
+              new String[] {
+                "javax.security.auth.DestroyFailedException",
               })
           .put(
               "CharsetDecoder",
-              new Import[] {
-                new Import("CharsetDecoder", "java.nio.charset", false),
+              new String[] {
+                "java.nio.charset.CharsetDecoder",
               })
           .put(
               "MediaSize",
-              new Import[] {
-                new Import("MediaSize", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.MediaSize",
               })
           .put(
               "nextDown",
-              new Import[] {
-                new Import("nextDown", "java.lang.Math", true),
-                new Import("nextDown", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.nextDown", "static java.lang.StrictMath.nextDown",
               })
           .put(
               "SCALE_SMOOTH",
-              new Import[] {
-                new Import("SCALE_SMOOTH", "java.awt.Image", true),
+              new String[] {
+                "static java.awt.Image.SCALE_SMOOTH",
               })
           .put(
               "COLS",
-              new Import[] {
-                new Import("COLS", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.COLS",
               })
           .put(
               "RMICustomMaxStreamFormat",
-              new Import[] {
-                new Import("RMICustomMaxStreamFormat", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.RMICustomMaxStreamFormat",
               })
           .put(
               "getTargetLineInfo",
-              new Import[] {
-                new Import("getTargetLineInfo", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.sampled.AudioSystem.getTargetLineInfo",
               })
           .put(
               "InvalidRoleInfoException",
-              new Import[] {
-                new Import("InvalidRoleInfoException", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.InvalidRoleInfoException",
               })
           .put(
               "CONTROLLER_FOR_PROPERTY",
-              new Import[] {
-                new Import(
-                    "CONTROLLER_FOR_PROPERTY", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.CONTROLLER_FOR_PROPERTY",
               })
           .put(
               "AIFF",
-              new Import[] {
-                new Import("AIFF", "javax.sound.sampled.AudioFileFormat.Type", true),
+              new String[] {
+                "static javax.sound.sampled.AudioFileFormat.Type.AIFF",
               })
           .put(
               "WHEEL_UNIT_SCROLL",
-              new Import[] {
-                new Import("WHEEL_UNIT_SCROLL", "java.awt.event.MouseWheelEvent", true),
+              new String[] {
+                "static java.awt.event.MouseWheelEvent.WHEEL_UNIT_SCROLL",
               })
           .put(
               "ncontext",
-              new Import[] {
-                new Import("ncontext", "org.omg.CosNaming.BindingType", true),
+              new String[] {
+                "static org.omg.CosNaming.BindingType.ncontext",
               })
           .put(
               "MenuItemBorder",
-              new Import[] {
-                new Import("MenuItemBorder", "javax.swing.plaf.metal.MetalBorders", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalBorders.MenuItemBorder",
               })
           .put(
               "AIFC",
-              new Import[] {
-                new Import("AIFC", "javax.sound.sampled.AudioFileFormat.Type", true),
+              new String[] {
+                "static javax.sound.sampled.AudioFileFormat.Type.AIFC",
               })
           .put(
               "TIMEZONE_FIELD",
-              new Import[] {
-                new Import("TIMEZONE_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.TIMEZONE_FIELD",
               })
           .put(
               "PLAYING_CARDS",
-              new Import[] {
-                new Import("PLAYING_CARDS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.PLAYING_CARDS",
               })
           .put(
               "HIERARCHY_CHANGED",
-              new Import[] {
-                new Import("HIERARCHY_CHANGED", "java.awt.event.HierarchyEvent", true),
+              new String[] {
+                "static java.awt.event.HierarchyEvent.HIERARCHY_CHANGED",
               })
           .put(
               "HIGH_SURROGATES",
-              new Import[] {
-                new Import("HIGH_SURROGATES", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.HIGH_SURROGATES",
               })
           .put(
               "INPUT_STREAM",
-              new Import[] {
-                new Import("INPUT_STREAM", "javax.print.DocFlavor", false),
+              new String[] {
+                "javax.print.DocFlavor.INPUT_STREAM",
               })
           .put(
               "SERVLET_REQUEST",
-              new Import[] {
-                new Import("SERVLET_REQUEST", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.handler.MessageContext.SERVLET_REQUEST",
               })
           .put(
               "Security",
-              new Import[] {
-                new Import("Security", "java.security", false),
+              new String[] {
+                "java.security.Security",
               })
           .put(
               "PARENT_WINDOW_OF",
-              new Import[] {
-                new Import("PARENT_WINDOW_OF", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.PARENT_WINDOW_OF",
               })
           .put(
               "setDefaultFileTypeMap",
-              new Import[] {
-                new Import("setDefaultFileTypeMap", "javax.activation.FileTypeMap", true),
+              new String[] {
+                "static javax.activation.FileTypeMap.setDefaultFileTypeMap",
               })
           .put(
               "getWordStart",
-              new Import[] {
-                new Import("getWordStart", "javax.swing.text.Utilities", true),
+              new String[] {
+                "static javax.swing.text.Utilities.getWordStart",
               })
           .put(
               "RoleStatus",
-              new Import[] {
-                new Import("RoleStatus", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RoleStatus",
               })
           .put(
               "SQLInputImpl",
-              new Import[] {
-                new Import("SQLInputImpl", "javax.sql.rowset.serial", false),
+              new String[] {
+                "javax.sql.rowset.serial.SQLInputImpl",
               })
           .put(
               "ConfigurationException",
-              new Import[] {
-                new Import("ConfigurationException", "javax.naming", false),
+              new String[] {
+                "javax.naming.ConfigurationException",
               })
           .put(
               "AudioPermission",
-              new Import[] {
-                new Import("AudioPermission", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.AudioPermission",
               })
           .put(
               "NONE",
-              new Import[] {
-                new Import("NONE", "java.awt.GridBagConstraints", true),
-                new Import("NONE", "java.awt.JobAttributes.DialogType", true),
-                new Import("NONE", "javax.print.attribute.standard.Compression", true),
-                new Import("NONE", "javax.print.attribute.standard.Finishings", true),
-                new Import("NONE", "javax.print.attribute.standard.JobSheets", true),
-                new Import("NONE", "javax.swing.JRootPane", true),
-                new Import("NONE", "javax.swing.TransferHandler", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.NONE",
+                "static java.awt.JobAttributes.DialogType.NONE",
+                "static javax.print.attribute.standard.Compression.NONE",
+                "static javax.print.attribute.standard.Finishings.NONE",
+                "static javax.print.attribute.standard.JobSheets.NONE",
+                "static javax.swing.JRootPane.NONE",
+                "static javax.swing.TransferHandler.NONE",
               })
           .put(
               "ofMinutes",
-              new Import[] {
-                new Import("ofMinutes", "java.time.Duration", true),
+              new String[] {
+                "static java.time.Duration.ofMinutes",
               })
           .put(
               "getWindowTitleInactiveForeground",
-              new Import[] {
-                new Import(
-                    "getWindowTitleInactiveForeground",
-                    "javax.swing.plaf.metal.MetalLookAndFeel",
-                    true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getWindowTitleInactiveForeground",
               })
           .put(
               "SWAP_COLORS_ON",
-              new Import[] {
-                new Import("SWAP_COLORS_ON", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.SWAP_COLORS_ON",
               })
           .put(
               "VK_JAPANESE_KATAKANA",
-              new Import[] {
-                new Import("VK_JAPANESE_KATAKANA", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_JAPANESE_KATAKANA",
               })
           .put(
               "ARABIC",
-              new Import[] {
-                new Import("ARABIC", "java.awt.font.NumericShaper", true),
-                new Import("ARABIC", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.ARABIC",
+                "static java.lang.Character.UnicodeBlock.ARABIC",
               })
           .put(
               "TYPE_HLS",
-              new Import[] {
-                new Import("TYPE_HLS", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_HLS",
               })
           .put(
               "getFileSystem",
-              new Import[] {
-                new Import("getFileSystem", "java.nio.file.FileSystems", true),
+              new String[] {
+                "static java.nio.file.FileSystems.getFileSystem",
               })
           .put(
               "INTERNAL_FRAME_DEACTIVATED",
-              new Import[] {
-                new Import(
-                    "INTERNAL_FRAME_DEACTIVATED", "javax.swing.event.InternalFrameEvent", true),
+              new String[] {
+                "static javax.swing.event.InternalFrameEvent.INTERNAL_FRAME_DEACTIVATED",
               })
           .put(
               "ServerRequestInterceptor",
-              new Import[] {
-                new Import("ServerRequestInterceptor", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ServerRequestInterceptor",
               })
           .put(
               "SQLNonTransientConnectionException",
-              new Import[] {
-                new Import("SQLNonTransientConnectionException", "java.sql", false),
+              new String[] {
+                "java.sql.SQLNonTransientConnectionException",
               })
           .put(
               "icHdrPcs",
-              new Import[] {
-                new Import("icHdrPcs", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrPcs",
               })
           .put(
               "TrustManagerFactory",
-              new Import[] {
-                new Import("TrustManagerFactory", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.TrustManagerFactory",
               })
           .put(
               "DateFormatSymbols",
-              new Import[] {
-                new Import("DateFormatSymbols", "java.text", false),
+              new String[] {
+                "java.text.DateFormatSymbols",
               })
           .put(
               "DO_NOTHING_ON_CLOSE",
-              new Import[] {
-                new Import("DO_NOTHING_ON_CLOSE", "javax.swing.WindowConstants", true),
+              new String[] {
+                "static javax.swing.WindowConstants.DO_NOTHING_ON_CLOSE",
               })
           .put(
               "PolicyOperations",
-              new Import[] {
-                new Import("PolicyOperations", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.PolicyOperations",
               })
           .put(
               "DIRECTIONALITY_LEFT_TO_RIGHT_OVERRIDE",
-              new Import[] {
-                new Import("DIRECTIONALITY_LEFT_TO_RIGHT_OVERRIDE", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_LEFT_TO_RIGHT_OVERRIDE",
               })
           .put(
               "PROTOCOL_PROVIDER_CLASS_LOADER",
-              new Import[] {
-                new Import(
-                    "PROTOCOL_PROVIDER_CLASS_LOADER",
-                    "javax.management.remote.JMXConnectorFactory",
-                    true),
-                new Import(
-                    "PROTOCOL_PROVIDER_CLASS_LOADER",
-                    "javax.management.remote.JMXConnectorServerFactory",
-                    true),
+              new String[] {
+                "static javax.management.remote.JMXConnectorFactory.PROTOCOL_PROVIDER_CLASS_LOADER",
+                "static"
+                    + " javax.management.remote.JMXConnectorServerFactory.PROTOCOL_PROVIDER_CLASS_LOADER",
               })
           .put(
               "MEDIA_JAM",
-              new Import[] {
-                new Import("MEDIA_JAM", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.MEDIA_JAM",
               })
           .put(
               "COMMIT_OR_REVERT",
-              new Import[] {
-                new Import("COMMIT_OR_REVERT", "javax.swing.JFormattedTextField", true),
+              new String[] {
+                "static javax.swing.JFormattedTextField.COMMIT_OR_REVERT",
               })
           .put(
               "getAccessibleStateSet",
-              new Import[] {
-                new Import("getAccessibleStateSet", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.getAccessibleStateSet",
               })
           .put(
               "parseAnySimpleType",
-              new Import[] {
-                new Import("parseAnySimpleType", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.parseAnySimpleType",
               })
           .put(
               "GridBagLayout",
-              new Import[] {
-                new Import("GridBagLayout", "java.awt", false),
+              new String[] {
+                "java.awt.GridBagLayout",
               })
           .put(
               "NOON",
-              new Import[] {
-                new Import("NOON", "java.time.LocalTime", true),
+              new String[] {
+                "static java.time.LocalTime.NOON",
               })
           .put(
               "TONER_EMPTY",
-              new Import[] {
-                new Import(
-                    "TONER_EMPTY", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.TONER_EMPTY",
               })
           .put(
               "INITIALIZE",
-              new Import[] {
-                new Import("INITIALIZE", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.INITIALIZE",
               })
           .put(
               "FocusManager",
-              new Import[] {
-                new Import("FocusManager", "javax.swing", false),
+              new String[] {
+                "javax.swing.FocusManager",
               })
           .put(
               "CellRendererPane",
-              new Import[] {
-                new Import("CellRendererPane", "javax.swing", false),
+              new String[] {
+                "javax.swing.CellRendererPane",
               })
           .put(
               "FontAttribute",
-              new Import[] {
-                new Import("FontAttribute", "javax.swing.text.AttributeSet", false),
+              new String[] {
+                "javax.swing.text.AttributeSet.FontAttribute",
               })
           .put(
               "BACKWARD_TRAVERSAL_KEYS",
-              new Import[] {
-                new Import("BACKWARD_TRAVERSAL_KEYS", "java.awt.KeyboardFocusManager", true),
+              new String[] {
+                "static java.awt.KeyboardFocusManager.BACKWARD_TRAVERSAL_KEYS",
               })
           .put(
               "Addressing",
-              new Import[] {
-                new Import("Addressing", "javax.xml.ws.soap", false),
+              new String[] {
+                "javax.xml.ws.soap.Addressing",
               })
           .put(
               "SyncScopeHelper",
-              new Import[] {
-                new Import("SyncScopeHelper", "org.omg.Messaging", false),
+              new String[] {
+                "org.omg.Messaging.SyncScopeHelper",
               })
           .put(
               "CREDENTIALS",
-              new Import[] {
-                new Import("CREDENTIALS", "javax.management.remote.JMXConnector", true),
-                new Import("CREDENTIALS", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.management.remote.JMXConnector.CREDENTIALS",
+                "static javax.security.sasl.Sasl.CREDENTIALS",
               })
           .put(
               "computeUnion",
-              new Import[] {
-                new Import("computeUnion", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.computeUnion",
               })
           .put(
               "GREENCOMPONENT",
-              new Import[] {
-                new Import("GREENCOMPONENT", "java.awt.color.ICC_ProfileRGB", true),
+              new String[] {
+                "static java.awt.color.ICC_ProfileRGB.GREENCOMPONENT",
               })
           .put(
               "WINDOW_OPENED",
-              new Import[] {
-                new Import("WINDOW_OPENED", "java.awt.event.WindowEvent", true),
+              new String[] {
+                "static java.awt.event.WindowEvent.WINDOW_OPENED",
               })
           .put(
               "getPlatformMXBean",
-              new Import[] {
-                new Import("getPlatformMXBean", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.getPlatformMXBean",
               })
           .put(
               "NO_COMPRESSION",
-              new Import[] {
-                new Import("NO_COMPRESSION", "java.util.zip.Deflater", true),
+              new String[] {
+                "static java.util.zip.Deflater.NO_COMPRESSION",
               })
           .put(
               "VK_DEAD_ACUTE",
-              new Import[] {
-                new Import("VK_DEAD_ACUTE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DEAD_ACUTE",
               })
           .put(
               "copyValueOf",
-              new Import[] {
-                new Import("copyValueOf", "java.lang.String", true),
+              new String[] {
+                "static java.lang.String.copyValueOf",
               })
           .put(
               "getSystemResources",
-              new Import[] {
-                new Import("getSystemResources", "java.lang.ClassLoader", true),
+              new String[] {
+                "static java.lang.ClassLoader.getSystemResources",
               })
           .put(
               "UIEvent",
-              new Import[] {
-                new Import("UIEvent", "org.w3c.dom.events", false),
+              new String[] {
+                "org.w3c.dom.events.UIEvent",
               })
           .put(
               "setContentHandlerFactory",
-              new Import[] {
-                new Import("setContentHandlerFactory", "java.net.URLConnection", true),
+              new String[] {
+                "static java.net.URLConnection.setContentHandlerFactory",
               })
           .put(
               "NodeChangeListener",
-              new Import[] {
-                new Import("NodeChangeListener", "java.util.prefs", false),
+              new String[] {
+                "java.util.prefs.NodeChangeListener",
               })
           .put(
               "max",
-              new Import[] {
-                new Import("max", "java.lang.Double", true),
-                new Import("max", "java.lang.Float", true),
-                new Import("max", "java.lang.Integer", true),
-                new Import("max", "java.lang.Long", true),
-                new Import("max", "java.lang.Math", true),
-                new Import("max", "java.lang.StrictMath", true),
-                new Import("max", "java.util.Collections", true),
-                new Import("max", "javax.swing.Spring", true),
+              new String[] {
+                "static java.lang.Double.max",
+                "static java.lang.Float.max",
+                "static java.lang.Integer.max",
+                "static java.lang.Long.max",
+                "static java.lang.Math.max",
+                "static java.lang.StrictMath.max",
+                "static java.util.Collections.max",
+                "static javax.swing.Spring.max",
               })
           .put(
               "PROCESSING_INSTRUCTION_NODE",
-              new Import[] {
-                new Import("PROCESSING_INSTRUCTION_NODE", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.PROCESSING_INSTRUCTION_NODE",
               })
           .put(
               "ExceptionList",
-              new Import[] {
-                new Import("ExceptionList", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ExceptionList",
               })
           .put(
               "FunctionalInterface",
-              new Import[] {
-                new Import("FunctionalInterface", "java.lang", false),
+              new String[] {
+                "java.lang.FunctionalInterface",
               })
           .put(
               "LayoutQueue",
-              new Import[] {
-                new Import("LayoutQueue", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.LayoutQueue",
               })
           .put(
               "InvocationHandler",
-              new Import[] {
-                new Import("InvocationHandler", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.InvocationHandler",
               })
           .put(
               "TRANSACTION_SERIALIZABLE",
-              new Import[] {
-                new Import("TRANSACTION_SERIALIZABLE", "java.sql.Connection", true),
+              new String[] {
+                "static java.sql.Connection.TRANSACTION_SERIALIZABLE",
               })
           .put(
               "KeyException",
-              new Import[] {
-                new Import("KeyException", "java.security", false),
+              new String[] {
+                "java.security.KeyException",
               })
           .put(
               "CENHDR",
-              new Import[] {
-                new Import("CENHDR", "java.util.jar.JarEntry", true),
-                new Import("CENHDR", "java.util.jar.JarFile", true),
-                new Import("CENHDR", "java.util.jar.JarInputStream", true),
-                new Import("CENHDR", "java.util.jar.JarOutputStream", true),
-                new Import("CENHDR", "java.util.zip.ZipEntry", true),
-                new Import("CENHDR", "java.util.zip.ZipFile", true),
-                new Import("CENHDR", "java.util.zip.ZipInputStream", true),
-                new Import("CENHDR", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENHDR",
+                "static java.util.jar.JarFile.CENHDR",
+                "static java.util.jar.JarInputStream.CENHDR",
+                "static java.util.jar.JarOutputStream.CENHDR",
+                "static java.util.zip.ZipEntry.CENHDR",
+                "static java.util.zip.ZipFile.CENHDR",
+                "static java.util.zip.ZipInputStream.CENHDR",
+                "static java.util.zip.ZipOutputStream.CENHDR",
               })
           .put(
               "PARSE_ERR",
-              new Import[] {
-                new Import("PARSE_ERR", "org.w3c.dom.ls.LSException", true),
+              new String[] {
+                "static org.w3c.dom.ls.LSException.PARSE_ERR",
               })
           .put(
               "Italic",
-              new Import[] {
-                new Import("Italic", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.Italic",
               })
           .put(
               "ApplicationException",
-              new Import[] {
-                new Import("ApplicationException", "org.omg.CORBA.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.ApplicationException",
               })
           .put(
               "Expression",
-              new Import[] {
-                new Import("Expression", "java.beans", false),
+              new String[] {
+                "java.beans.Expression",
               })
           .put(
               "TAG_CVT",
-              new Import[] {
-                new Import("TAG_CVT", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_CVT",
               })
           .put(
               "JobKOctets",
-              new Import[] {
-                new Import("JobKOctets", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobKOctets",
               })
           .put(
               "SPACING_MODIFIER_LETTERS",
-              new Import[] {
-                new Import("SPACING_MODIFIER_LETTERS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SPACING_MODIFIER_LETTERS",
               })
           .put(
               "Clipboard",
-              new Import[] {
-                new Import("Clipboard", "java.awt.datatransfer", false),
+              new String[] {
+                "java.awt.datatransfer.Clipboard",
               })
           .put(
               "LAO",
-              new Import[] {
-                new Import("LAO", "java.awt.font.NumericShaper", true),
-                new Import("LAO", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.LAO",
+                "static java.lang.Character.UnicodeBlock.LAO",
               })
           .put(
               "ACCESS_EXTERNAL_SCHEMA",
-              new Import[] {
-                new Import("ACCESS_EXTERNAL_SCHEMA", "javax.xml.XMLConstants", true),
+              new String[] {
+                "static javax.xml.XMLConstants.ACCESS_EXTERNAL_SCHEMA",
               })
           .put(
               "SHORT_IDS",
-              new Import[] {
-                new Import("SHORT_IDS", "java.time.ZoneId", true),
+              new String[] {
+                "static java.time.ZoneId.SHORT_IDS",
               })
           .put(
               "NON_EXISTENT",
-              new Import[] {
-                new Import("NON_EXISTENT", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.NON_EXISTENT",
               })
           .put(
               "APPROVE_BUTTON_TEXT_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "APPROVE_BUTTON_TEXT_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.APPROVE_BUTTON_TEXT_CHANGED_PROPERTY",
               })
           .put(
               "Result",
-              new Import[] {
-                new Import("Result", "javax.naming.spi.DirStateFactory", false),
-                new Import("Result", "javax.xml.transform", false),
+              new String[] {
+                "javax.naming.spi.DirStateFactory.Result", "javax.xml.transform.Result",
               })
           .put(
               "nextUp",
-              new Import[] {
-                new Import("nextUp", "java.lang.Math", true),
-                new Import("nextUp", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.nextUp", "static java.lang.StrictMath.nextUp",
               })
           .put(
               "HTTP_SERVER_ERROR",
-              new Import[] {
-                new Import("HTTP_SERVER_ERROR", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_SERVER_ERROR",
               })
           .put(
               "RSAPublicKey",
-              new Import[] {
-                new Import("RSAPublicKey", "java.security.interfaces", false),
+              new String[] {
+                "java.security.interfaces.RSAPublicKey",
               })
           .put(
               "KeySetView",
-              new Import[] {
-                new Import("KeySetView", "java.util.concurrent.ConcurrentHashMap", false),
+              new String[] {
+                "java.util.concurrent.ConcurrentHashMap.KeySetView",
               })
           .put(
               "INTERNAL_FRAME_TITLE_PANE",
-              new Import[] {
-                new Import("INTERNAL_FRAME_TITLE_PANE", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.INTERNAL_FRAME_TITLE_PANE",
               })
           .put(
               "VK_KANJI",
-              new Import[] {
-                new Import("VK_KANJI", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_KANJI",
               })
           .put(
               "DefaultLinkDrop",
-              new Import[] {
-                new Import("DefaultLinkDrop", "java.awt.dnd.DragSource", true),
+              new String[] {
+                "static java.awt.dnd.DragSource.DefaultLinkDrop",
               })
           .put(
               "FlavorListener",
-              new Import[] {
-                new Import("FlavorListener", "java.awt.datatransfer", false),
+              new String[] {
+                "java.awt.datatransfer.FlavorListener",
               })
           .put(
               "SOAPConstants",
-              new Import[] {
-                new Import("SOAPConstants", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SOAPConstants",
               })
           .put(
               "NotEmptyHelper",
-              new Import[] {
-                new Import("NotEmptyHelper", "org.omg.CosNaming.NamingContextPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.NotEmptyHelper",
               })
           .put(
               "PropertyEditorSupport",
-              new Import[] {
-                new Import("PropertyEditorSupport", "java.beans", false),
+              new String[] {
+                "java.beans.PropertyEditorSupport",
               })
           .put(
               "OpenMBeanParameterInfo",
-              new Import[] {
-                new Import("OpenMBeanParameterInfo", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.OpenMBeanParameterInfo",
               })
           .put(
               "CLOSE_ALL_RESULTS",
-              new Import[] {
-                new Import("CLOSE_ALL_RESULTS", "java.sql.Statement", true),
+              new String[] {
+                "static java.sql.Statement.CLOSE_ALL_RESULTS",
               })
           .put(
               "LESSER",
-              new Import[] {
-                new Import("LESSER", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.LESSER",
               })
           .put(
               "FILE_CHOOSER_DIALOG",
-              new Import[] {
-                new Import("FILE_CHOOSER_DIALOG", "javax.swing.JRootPane", true),
+              new String[] {
+                "static javax.swing.JRootPane.FILE_CHOOSER_DIALOG",
               })
           .put(
               "interrupted",
-              new Import[] {
-                new Import("interrupted", "java.lang.Thread", true),
+              new String[] {
+                "static java.lang.Thread.interrupted",
               })
           .put(
               "InvocationTargetException",
-              new Import[] {
-                new Import("InvocationTargetException", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.InvocationTargetException",
               })
           .put(
               "RELATION_BASIC_REMOVAL",
-              new Import[] {
-                new Import(
-                    "RELATION_BASIC_REMOVAL",
-                    "javax.management.relation.RelationNotification",
-                    true),
+              new String[] {
+                "static javax.management.relation.RelationNotification.RELATION_BASIC_REMOVAL",
               })
           .put(
               "SCALE_DEFAULT",
-              new Import[] {
-                new Import("SCALE_DEFAULT", "java.awt.Image", true),
+              new String[] {
+                "static java.awt.Image.SCALE_DEFAULT",
               })
           .put(
               "THRESHOLD_VALUE_EXCEEDED",
-              new Import[] {
-                new Import(
-                    "THRESHOLD_VALUE_EXCEEDED",
-                    "javax.management.monitor.MonitorNotification",
-                    true),
+              new String[] {
+                "static javax.management.monitor.MonitorNotification.THRESHOLD_VALUE_EXCEEDED",
               })
           .put(
               "Descriptor",
-              new Import[] {
-                new Import("Descriptor", "javax.management", false),
+              new String[] {
+                "javax.management.Descriptor",
               })
           .put(
               "isValidCodePoint",
-              new Import[] {
-                new Import("isValidCodePoint", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isValidCodePoint",
               })
           .put(
               "getComponent",
-              new Import[] {
-                new Import("getComponent", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.getComponent",
               })
           .put(
               "IllegalFormatWidthException",
-              new Import[] {
-                new Import("IllegalFormatWidthException", "java.util", false),
+              new String[] {
+                "java.util.IllegalFormatWidthException",
               })
           .put(
               "WRAP_MODE",
-              new Import[] {
-                new Import("WRAP_MODE", "javax.crypto.Cipher", true),
+              new String[] {
+                "static javax.crypto.Cipher.WRAP_MODE",
               })
           .put(
               "Destination",
-              new Import[] {
-                new Import("Destination", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.Destination",
               })
           .put(
               "SoundbankReader",
-              new Import[] {
-                new Import("SoundbankReader", "javax.sound.midi.spi", false),
+              new String[] {
+                "javax.sound.midi.spi.SoundbankReader",
               })
           .put(
               "OP_READ",
-              new Import[] {
-                new Import("OP_READ", "java.nio.channels.SelectionKey", true),
+              new String[] {
+                "static java.nio.channels.SelectionKey.OP_READ",
               })
           .put(
               "PropertyException",
-              new Import[] {
-                new Import("PropertyException", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.PropertyException",
               })
           .put(
               "NT_USER_NAME",
-              new Import[] {
-                new Import("NT_USER_NAME", "org.ietf.jgss.GSSName", true),
+              new String[] {
+                "static org.ietf.jgss.GSSName.NT_USER_NAME",
               })
           .put(
               "EnumSyntax",
-              new Import[] {
-                new Import("EnumSyntax", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.EnumSyntax",
               })
           .put(
               "DOMImplementation",
-              new Import[] {
-                new Import("DOMImplementation", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.DOMImplementation",
               })
           .put(
               "LANGUAGE_VERSION",
-              new Import[] {
-                new Import("LANGUAGE_VERSION", "javax.script.ScriptEngine", true),
+              new String[] {
+                "static javax.script.ScriptEngine.LANGUAGE_VERSION",
               })
           .put(
               "ALT_GRAPH_MASK",
-              new Import[] {
-                new Import("ALT_GRAPH_MASK", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.event.InputEvent.ALT_GRAPH_MASK",
               })
           .put(
               "SynthOptionPaneUI",
-              new Import[] {
-                new Import("SynthOptionPaneUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthOptionPaneUI",
               })
           .put(
               "println",
-              new Import[] {
-                new Import("println", "java.sql.DriverManager", true),
+              new String[] {
+                "static java.sql.DriverManager.println",
               })
           .put(
               "ModelWrapper",
-              new Import[] {
-                new Import("ModelWrapper", "javax.swing.DefaultRowSorter", false),
+              new String[] {
+                "javax.swing.DefaultRowSorter.ModelWrapper",
               })
           .put(
               "CHILD_POLICY_MAX",
-              new Import[] {
-                new Import("CHILD_POLICY_MAX", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.CHILD_POLICY_MAX",
               })
           .put(
               "MISCELLANEOUS_TECHNICAL",
-              new Import[] {
-                new Import("MISCELLANEOUS_TECHNICAL", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MISCELLANEOUS_TECHNICAL",
               })
           .put(
               "MidiSystem",
-              new Import[] {
-                new Import("MidiSystem", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.MidiSystem",
               })
           .put(
               "drawEtchedRect",
-              new Import[] {
-                new Import("drawEtchedRect", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicGraphicsUtils.drawEtchedRect",
               })
           .put(
               "VK_LEFT",
-              new Import[] {
-                new Import("VK_LEFT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_LEFT",
               })
           .put(
               "SelectionKey",
-              new Import[] {
-                new Import("SelectionKey", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.SelectionKey",
               })
           .put(
               "DHGenParameterSpec",
-              new Import[] {
-                new Import("DHGenParameterSpec", "javax.crypto.spec", false),
+              new String[] {
+                "javax.crypto.spec.DHGenParameterSpec",
               })
           .put(
               "MinimalHTMLWriter",
-              new Import[] {
-                new Import("MinimalHTMLWriter", "javax.swing.text.html", false),
+              new String[] {
+                "javax.swing.text.html.MinimalHTMLWriter",
               })
           .put(
               "RIPEMD160",
-              new Import[] {
-                new Import("RIPEMD160", "javax.xml.crypto.dsig.DigestMethod", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.DigestMethod.RIPEMD160",
               })
           .put(
               "unregister",
-              new Import[] {
-                new Import("unregister", "java.rmi.activation.Activatable", true),
+              new String[] {
+                "static java.rmi.activation.Activatable.unregister",
               })
           .put(
               "registerTarget",
-              new Import[] {
-                new Import("registerTarget", "javax.rmi.CORBA.Util", true),
+              new String[] {
+                "static javax.rmi.CORBA.Util.registerTarget",
               })
           .put(
               "BITMASK",
-              new Import[] {
-                new Import("BITMASK", "java.awt.Transparency", true),
+              new String[] {
+                "static java.awt.Transparency.BITMASK",
               })
           .put(
               "Error",
-              new Import[] {
-                new Import("Error", "java.lang", false),
+              new String[] {
+                "java.lang.Error",
               })
           .put(
               "AbstractProcessor",
-              new Import[] {
-                new Import("AbstractProcessor", "javax.annotation.processing", false),
+              new String[] {
+                "javax.annotation.processing.AbstractProcessor",
               })
           .put(
               "toRadians",
-              new Import[] {
-                new Import("toRadians", "java.lang.Math", true),
-                new Import("toRadians", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.toRadians", "static java.lang.StrictMath.toRadians",
               })
           .put(
               "CountDownLatch",
-              new Import[] {
-                new Import("CountDownLatch", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.CountDownLatch",
               })
           .put(
               "PaletteBorder",
-              new Import[] {
-                new Import("PaletteBorder", "javax.swing.plaf.metal.MetalBorders", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalBorders.PaletteBorder",
               })
           .put(
               "orange",
-              new Import[] {
-                new Import("orange", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.orange",
               })
           .put(
               "CODE",
-              new Import[] {
-                new Import("CODE", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("CODE", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.CODE",
+                "static javax.swing.text.html.HTML.Tag.CODE",
               })
           .put(
               "INITIAL_QUOTE_PUNCTUATION",
-              new Import[] {
-                new Import("INITIAL_QUOTE_PUNCTUATION", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.INITIAL_QUOTE_PUNCTUATION",
               })
           .put(
               "UPDATE_ROW_CONFLICT",
-              new Import[] {
-                new Import("UPDATE_ROW_CONFLICT", "javax.sql.rowset.spi.SyncResolver", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncResolver.UPDATE_ROW_CONFLICT",
               })
           .put(
               "Paper",
-              new Import[] {
-                new Import("Paper", "java.awt.print", false),
+              new String[] {
+                "java.awt.print.Paper",
               })
           .put(
               "INTERNAL_FRAME_ICONIFIED",
-              new Import[] {
-                new Import(
-                    "INTERNAL_FRAME_ICONIFIED", "javax.swing.event.InternalFrameEvent", true),
+              new String[] {
+                "static javax.swing.event.InternalFrameEvent.INTERNAL_FRAME_ICONIFIED",
               })
           .put(
               "TEXT_BACKGROUND",
-              new Import[] {
-                new Import("TEXT_BACKGROUND", "javax.swing.plaf.synth.ColorType", true),
+              new String[] {
+                "static javax.swing.plaf.synth.ColorType.TEXT_BACKGROUND",
               })
           .build();
 }
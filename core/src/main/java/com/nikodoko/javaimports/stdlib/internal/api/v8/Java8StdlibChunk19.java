@@ -2,1561 +2,1544 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk19 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "InitialContextFactoryBuilder",
-              new Import[] {
-                new Import("InitialContextFactoryBuilder", "javax.naming.spi", false),
+              new String[] {
+                "javax.naming.spi.InitialContextFactoryBuilder",
               })
           .put(
               "PARA_INDENT_LEFT",
-              new Import[] {
-                new Import("PARA_INDENT_LEFT", "javax.swing.text.html.HTMLEditorKit", true),
+              new String[] {
+                "static javax.swing.text.html.HTMLEditorKit.PARA_INDENT_LEFT",
               })
           .put(
               "WIDTH_SEMI_CONDENSED",
-              new Import[] {
-                new Import("WIDTH_SEMI_CONDENSED", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WIDTH_SEMI_CONDENSED",
               })
           .put(
               "leading",
-              new Import[] {
-                new Import("leading", "java.awt.font.TextHitInfo", true),
+              new String[] {
+                "static java.awt.font.TextHitInfo.leading",
               })
           .put(
               "_dk_Operation",
-              new Import[] {
-                new Import("_dk_Operation", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Operation",
               })
           .put(
               "KeySpec",
-              new Import[] {
-                new Import("KeySpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.KeySpec",
               })
           .put(
               "COLLATED",
-              new Import[] {
-                new Import("COLLATED", "javax.print.attribute.standard.SheetCollate", true),
+              new String[] {
+                "static javax.print.attribute.standard.SheetCollate.COLLATED",
               })
           .put(
               "REFERRAL",
-              new Import[] {
-                new Import("REFERRAL", "javax.naming.Context", true),
+              new String[] {
+                "static javax.naming.Context.REFERRAL",
               })
           .put(
               "Clock",
-              new Import[] {
-                new Import("Clock", "java.time", false),
+              new String[] {
+                "java.time.Clock",
               })
           .put(
               "OUTPUT_TRAY_MISSING",
-              new Import[] {
-                new Import(
-                    "OUTPUT_TRAY_MISSING",
-                    "javax.print.attribute.standard.PrinterStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.OUTPUT_TRAY_MISSING",
               })
           .put(
               "ErrorListener",
-              new Import[] {
-                new Import("ErrorListener", "javax.xml.transform", false),
+              new String[] {
+                "javax.xml.transform.ErrorListener",
               })
           .put(
               "ImageReadParam",
-              new Import[] {
-                new Import("ImageReadParam", "javax.imageio", false),
+              new String[] {
+                "javax.imageio.ImageReadParam",
               })
           .put(
               "Referenceable",
-              new Import[] {
-                new Import("Referenceable", "javax.naming", false),
+              new String[] {
+                "javax.naming.Referenceable",
               })
           .put(
               "VALUE_PROPERTY",
-              new Import[] {
-                new Import("VALUE_PROPERTY", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.VALUE_PROPERTY",
               })
           .put(
               "getDesktopColor",
-              new Import[] {
-                new Import("getDesktopColor", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getDesktopColor",
               })
           .put(
               "CheckboxMenuItem",
-              new Import[] {
-                new Import("CheckboxMenuItem", "java.awt", false),
+              new String[] {
+                "java.awt.CheckboxMenuItem",
               })
           .put(
               "BasicToolBarUI",
-              new Import[] {
-                new Import("BasicToolBarUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicToolBarUI",
               })
           .put(
               "TAMIL",
-              new Import[] {
-                new Import("TAMIL", "java.awt.font.NumericShaper", true),
-                new Import("TAMIL", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.TAMIL",
+                "static java.lang.Character.UnicodeBlock.TAMIL",
               })
           .put(
               "getAvailableCurrencies",
-              new Import[] {
-                new Import("getAvailableCurrencies", "java.util.Currency", true),
+              new String[] {
+                "static java.util.Currency.getAvailableCurrencies",
               })
           .put(
               "StringJoiner",
-              new Import[] {
-                new Import("StringJoiner", "java.util", false),
+              new String[] {
+                "java.util.StringJoiner",
               })
           .put(
               "Status",
-              new Import[] {
-                new Import("Status", "javax.net.ssl.SSLEngineResult", false),
+              new String[] {
+                "javax.net.ssl.SSLEngineResult.Status",
               })
           .put(
               "tk_any",
-              new Import[] {
-                new Import("tk_any", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_any",
               })
           .put(
               "HTTP_MOVED_TEMP",
-              new Import[] {
-                new Import("HTTP_MOVED_TEMP", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_MOVED_TEMP",
               })
           .put(
               "WINDOW_TEXT",
-              new Import[] {
-                new Import("WINDOW_TEXT", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.WINDOW_TEXT",
               })
           .put(
               "RUN_DIRECTION_LTR",
-              new Import[] {
-                new Import("RUN_DIRECTION_LTR", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.RUN_DIRECTION_LTR",
               })
           .put(
               "getDefaultType",
-              new Import[] {
-                new Import("getDefaultType", "java.security.KeyStore", true),
-                new Import("getDefaultType", "java.security.cert.CertPathBuilder", true),
-                new Import("getDefaultType", "java.security.cert.CertPathValidator", true),
-                new Import("getDefaultType", "java.security.cert.CertStore", true),
+              new String[] {
+                "static java.security.KeyStore.getDefaultType",
+                "static java.security.cert.CertPathBuilder.getDefaultType",
+                "static java.security.cert.CertPathValidator.getDefaultType",
+                "static java.security.cert.CertStore.getDefaultType",
               })
           .put(
               "InterceptorOperations",
-              new Import[] {
-                new Import("InterceptorOperations", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.InterceptorOperations",
               })
           .put(
               "contains",
-              new Import[] {
-                new Import("contains", "java.awt.geom.Path2D", true),
+              new String[] {
+                "static java.awt.geom.Path2D.contains",
               })
           .put(
               "TimeZone",
-              new Import[] {
-                new Import("TimeZone", "java.util", false),
+              new String[] {
+                "java.util.TimeZone",
               })
           .put(
               "SynthRadioButtonMenuItemUI",
-              new Import[] {
-                new Import("SynthRadioButtonMenuItemUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthRadioButtonMenuItemUI",
               })
           .put(
               "TransformParameterSpec",
-              new Import[] {
-                new Import("TransformParameterSpec", "javax.xml.crypto.dsig.spec", false),
+              new String[] {
+                "javax.xml.crypto.dsig.spec.TransformParameterSpec",
               })
           .put(
               "ENV_9X11",
-              new Import[] {
-                new Import("ENV_9X11", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ENV_9X11",
               })
           .put(
               "icSigAToB1Tag",
-              new Import[] {
-                new Import("icSigAToB1Tag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigAToB1Tag",
               })
           .put(
               "MIDI_TIME_CODE",
-              new Import[] {
-                new Import("MIDI_TIME_CODE", "javax.sound.midi.ShortMessage", true),
-                new Import("MIDI_TIME_CODE", "javax.sound.midi.Sequencer.SyncMode", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.MIDI_TIME_CODE",
+                "static javax.sound.midi.Sequencer.SyncMode.MIDI_TIME_CODE",
               })
           .put(
               "ENV_9X12",
-              new Import[] {
-                new Import("ENV_9X12", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ENV_9X12",
               })
           .put(
               "PixelInterleavedSampleModel",
-              new Import[] {
-                new Import("PixelInterleavedSampleModel", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.PixelInterleavedSampleModel",
               })
           .put(
               "StandardSocketOptions",
-              new Import[] {
-                new Import("StandardSocketOptions", "java.net", false),
+              new String[] {
+                "java.net.StandardSocketOptions",
               })
           .put(
               "PBEKeySpec",
-              new Import[] {
-                new Import("PBEKeySpec", "javax.crypto.spec", false),
+              new String[] {
+                "javax.crypto.spec.PBEKeySpec",
               })
           .put(
               "TYPE_TRANSLATION",
-              new Import[] {
-                new Import("TYPE_TRANSLATION", "java.awt.geom.AffineTransform", true),
+              new String[] {
+                "static java.awt.geom.AffineTransform.TYPE_TRANSLATION",
               })
           .put(
               "BLUE",
-              new Import[] {
-                new Import("BLUE", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.BLUE",
               })
           .put(
               "FormatterClosedException",
-              new Import[] {
-                new Import("FormatterClosedException", "java.util", false),
+              new String[] {
+                "java.util.FormatterClosedException",
               })
           .put(
               "CONTAINER_FIRST",
-              new Import[] {
-                new Import("CONTAINER_FIRST", "java.awt.event.ContainerEvent", true),
+              new String[] {
+                "static java.awt.event.ContainerEvent.CONTAINER_FIRST",
               })
           .put(
               "DAYS",
-              new Import[] {
-                new Import("DAYS", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.DAYS",
               })
           .put(
               "HEADER",
-              new Import[] {
-                new Import("HEADER", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.HEADER",
               })
           .put(
               "LOCATION_FORWARD",
-              new Import[] {
-                new Import("LOCATION_FORWARD", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.LOCATION_FORWARD",
               })
           .put(
               "sleep",
-              new Import[] {
-                new Import("sleep", "java.lang.Thread", true),
+              new String[] {
+                "static java.lang.Thread.sleep",
               })
           .put(
               "LoggingPermission",
-              new Import[] {
-                new Import("LoggingPermission", "java.util.logging", false),
+              new String[] {
+                "java.util.logging.LoggingPermission",
               })
           .put(
               "MONOCHROME",
-              new Import[] {
-                new Import("MONOCHROME", "java.awt.PageAttributes.ColorType", true),
-                new Import("MONOCHROME", "javax.print.attribute.standard.Chromaticity", true),
+              new String[] {
+                "static java.awt.PageAttributes.ColorType.MONOCHROME",
+                "static javax.print.attribute.standard.Chromaticity.MONOCHROME",
               })
           .put(
               "COPY_OR_MOVE",
-              new Import[] {
-                new Import("COPY_OR_MOVE", "javax.swing.TransferHandler", true),
+              new String[] {
+                "static javax.swing.TransferHandler.COPY_OR_MOVE",
               })
           .put(
               "nanoTime",
-              new Import[] {
-                new Import("nanoTime", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.nanoTime",
               })
           .put(
               "readAllBytes",
-              new Import[] {
-                new Import("readAllBytes", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.readAllBytes",
               })
           .put(
               "StringIndexOutOfBoundsException",
-              new Import[] {
-                new Import("StringIndexOutOfBoundsException", "java.lang", false),
+              new String[] {
+                "java.lang.StringIndexOutOfBoundsException",
               })
           .put(
               "getAuxiliaryLookAndFeels",
-              new Import[] {
-                new Import("getAuxiliaryLookAndFeels", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.getAuxiliaryLookAndFeels",
               })
           .put(
               "JOIN_ROUND",
-              new Import[] {
-                new Import("JOIN_ROUND", "java.awt.BasicStroke", true),
+              new String[] {
+                "static java.awt.BasicStroke.JOIN_ROUND",
               })
           .put(
               "XPath",
-              new Import[] {
-                new Import("XPath", "javax.xml.xpath", false),
+              new String[] {
+                "javax.xml.xpath.XPath",
               })
           .put(
               "TableColumnModelEvent",
-              new Import[] {
-                new Import("TableColumnModelEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.TableColumnModelEvent",
               })
           .put(
               "ConstructorProperties",
-              new Import[] {
-                new Import("ConstructorProperties", "java.beans", false),
+              new String[] {
+                "java.beans.ConstructorProperties",
               })
           .put(
               "newFixedThreadPool",
-              new Import[] {
-                new Import("newFixedThreadPool", "java.util.concurrent.Executors", true),
+              new String[] {
+                "static java.util.concurrent.Executors.newFixedThreadPool",
               })
           .put(
               "KRB_NT_UNKNOWN",
-              new Import[] {
-                new Import(
-                    "KRB_NT_UNKNOWN", "javax.security.auth.kerberos.KerberosPrincipal", true),
+              new String[] {
+                "static javax.security.auth.kerberos.KerberosPrincipal.KRB_NT_UNKNOWN",
               })
           .put(
               "icSigDeviceSettingsTag",
-              new Import[] {
-                new Import("icSigDeviceSettingsTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigDeviceSettingsTag",
               })
           .put(
               "ISO_C1_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C1_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C1_ENVELOPE",
               })
           .put(
               "doubleToRawLongBits",
-              new Import[] {
-                new Import("doubleToRawLongBits", "java.lang.Double", true),
+              new String[] {
+                "static java.lang.Double.doubleToRawLongBits",
               })
           .put(
               "LOOP_CONTINUOUSLY",
-              new Import[] {
-                new Import("LOOP_CONTINUOUSLY", "javax.sound.midi.Sequencer", true),
-                new Import("LOOP_CONTINUOUSLY", "javax.sound.sampled.Clip", true),
+              new String[] {
+                "static javax.sound.midi.Sequencer.LOOP_CONTINUOUSLY",
+                "static javax.sound.sampled.Clip.LOOP_CONTINUOUSLY",
               })
           .put(
               "BiFunction",
-              new Import[] {
-                new Import("BiFunction", "java.util.function", false),
+              new String[] {
+                "java.util.function.BiFunction",
               })
           .put(
               "windowBorder",
-              new Import[] {
-                new Import("windowBorder", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.windowBorder",
               })
           .put(
               "ISO_C6_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C6_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C6_ENVELOPE",
               })
           .put(
               "printInt",
-              new Import[] {
-                new Import("printInt", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printInt",
               })
           .put(
               "Foreground",
-              new Import[] {
-                new Import("Foreground", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.Foreground",
               })
           .put(
               "toUnsignedString",
-              new Import[] {
-                new Import("toUnsignedString", "java.lang.Integer", true),
-                new Import("toUnsignedString", "java.lang.Long", true),
+              new String[] {
+                "static java.lang.Integer.toUnsignedString",
+                "static java.lang.Long.toUnsignedString",
               })
           .put(
               "emptyIntSpliterator",
-              new Import[] {
-                new Import("emptyIntSpliterator", "java.util.Spliterators", true),
+              new String[] {
+                "static java.util.Spliterators.emptyIntSpliterator",
               })
           .put(
               "W3C_XML_SCHEMA_NS_URI",
-              new Import[] {
-                new Import("W3C_XML_SCHEMA_NS_URI", "javax.xml.XMLConstants", true),
+              new String[] {
+                "static javax.xml.XMLConstants.W3C_XML_SCHEMA_NS_URI",
               })
           .put(
               "ObjectImpl",
-              new Import[] {
-                new Import("ObjectImpl", "org.omg.CORBA.portable", false),
-                new Import("ObjectImpl", "org.omg.CORBA_2_3.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.ObjectImpl", "org.omg.CORBA_2_3.portable.ObjectImpl",
               })
           .put(
               "LinkedHashSet",
-              new Import[] {
-                new Import("LinkedHashSet", "java.util", false),
+              new String[] {
+                "java.util.LinkedHashSet",
               })
           .put(
               "getTextPlainUnicodeFlavor",
-              new Import[] {
-                new Import("getTextPlainUnicodeFlavor", "java.awt.datatransfer.DataFlavor", true),
+              new String[] {
+                "static java.awt.datatransfer.DataFlavor.getTextPlainUnicodeFlavor",
               })
           .put(
               "isHeadless",
-              new Import[] {
-                new Import("isHeadless", "java.awt.GraphicsEnvironment", true),
+              new String[] {
+                "static java.awt.GraphicsEnvironment.isHeadless",
               })
           .put(
               "SUBMISSION_INTERRUPTED",
-              new Import[] {
-                new Import(
-                    "SUBMISSION_INTERRUPTED",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.SUBMISSION_INTERRUPTED",
               })
           .put(
               "VK_PROPS",
-              new Import[] {
-                new Import("VK_PROPS", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_PROPS",
               })
           .put(
               "KeyAdapter",
-              new Import[] {
-                new Import("KeyAdapter", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.KeyAdapter",
               })
           .put(
               "SerialJavaObject",
-              new Import[] {
-                new Import("SerialJavaObject", "javax.sql.rowset.serial", false),
+              new String[] {
+                "javax.sql.rowset.serial.SerialJavaObject",
               })
           .put(
               "VALUETYPE",
-              new Import[] {
-                new Import("VALUETYPE", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.VALUETYPE",
               })
           .put(
               "printBoolean",
-              new Import[] {
-                new Import("printBoolean", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printBoolean",
               })
           .put(
               "GlyphPainter",
-              new Import[] {
-                new Import("GlyphPainter", "javax.swing.text.GlyphView", false),
+              new String[] {
+                "javax.swing.text.GlyphView.GlyphPainter",
               })
           .put(
               "isNative",
-              new Import[] {
-                new Import("isNative", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.isNative",
               })
           .put(
               "ExportException",
-              new Import[] {
-                new Import("ExportException", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.ExportException",
               })
           .put(
               "insertBreakAction",
-              new Import[] {
-                new Import("insertBreakAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.insertBreakAction",
               })
           .put(
               "TAISHO",
-              new Import[] {
-                new Import("TAISHO", "java.time.chrono.JapaneseEra", true),
+              new String[] {
+                "static java.time.chrono.JapaneseEra.TAISHO",
               })
           .put(
               "TMJOIN",
-              new Import[] {
-                new Import("TMJOIN", "javax.transaction.xa.XAResource", true),
+              new String[] {
+                "static javax.transaction.xa.XAResource.TMJOIN",
               })
           .put(
               "JOIN_BEVEL",
-              new Import[] {
-                new Import("JOIN_BEVEL", "java.awt.BasicStroke", true),
+              new String[] {
+                "static java.awt.BasicStroke.JOIN_BEVEL",
               })
           .put(
               "NamingContextExtHolder",
-              new Import[] {
-                new Import("NamingContextExtHolder", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextExtHolder",
               })
           .put(
               "parameterNullableUnknown",
-              new Import[] {
-                new Import("parameterNullableUnknown", "java.sql.ParameterMetaData", true),
+              new String[] {
+                "static java.sql.ParameterMetaData.parameterNullableUnknown",
               })
           .put(
               "createFromRenderedImage",
-              new Import[] {
-                new Import("createFromRenderedImage", "javax.imageio.ImageTypeSpecifier", true),
+              new String[] {
+                "static javax.imageio.ImageTypeSpecifier.createFromRenderedImage",
               })
           .put(
               "LifespanPolicy",
-              new Import[] {
-                new Import("LifespanPolicy", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.LifespanPolicy",
               })
           .put(
               "ABORT",
-              new Import[] {
-                new Import("ABORT", "java.awt.image.ImageObserver", true),
+              new String[] {
+                "static java.awt.image.ImageObserver.ABORT",
               })
           .put(
               "InvalidPreferencesFormatException",
-              new Import[] {
-                new Import("InvalidPreferencesFormatException", "java.util.prefs", false),
+              new String[] {
+                "java.util.prefs.InvalidPreferencesFormatException",
               })
           .put(
               "W3C_LENGTH_UNITS",
-              new Import[] {
-                new Import("W3C_LENGTH_UNITS", "javax.swing.JEditorPane", true),
+              new String[] {
+                "static javax.swing.JEditorPane.W3C_LENGTH_UNITS",
               })
           .put(
               "IllegalSelectorException",
-              new Import[] {
-                new Import("IllegalSelectorException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.IllegalSelectorException",
               })
           .put(
               "setLeftIndent",
-              new Import[] {
-                new Import("setLeftIndent", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setLeftIndent",
               })
           .put(
               "CANADA_FRENCH",
-              new Import[] {
-                new Import("CANADA_FRENCH", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.CANADA_FRENCH",
               })
           .put(
               "rebind",
-              new Import[] {
-                new Import("rebind", "java.rmi.Naming", true),
+              new String[] {
+                "static java.rmi.Naming.rebind",
               })
           .put(
               "GRADE_LOCK_WHEN_MODIFIED",
-              new Import[] {
-                new Import("GRADE_LOCK_WHEN_MODIFIED", "javax.sql.rowset.spi.SyncProvider", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncProvider.GRADE_LOCK_WHEN_MODIFIED",
               })
           .put(
               "VK_UP",
-              new Import[] {
-                new Import("VK_UP", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_UP",
               })
           .put(
               "LISU",
-              new Import[] {
-                new Import("LISU", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.LISU",
               })
           .put(
               "LIST",
-              new Import[] {
-                new Import("LIST", "javax.accessibility.AccessibleRole", true),
-                new Import("LIST", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.LIST",
+                "static javax.swing.plaf.synth.Region.LIST",
               })
           .put(
               "FixedHeightLayoutCache",
-              new Import[] {
-                new Import("FixedHeightLayoutCache", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.FixedHeightLayoutCache",
               })
           .put(
               "AUTHENTICATOR",
-              new Import[] {
-                new Import("AUTHENTICATOR", "javax.management.remote.JMXConnectorServer", true),
+              new String[] {
+                "static javax.management.remote.JMXConnectorServer.AUTHENTICATOR",
               })
           .put(
               "charCount",
-              new Import[] {
-                new Import("charCount", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.charCount",
               })
           .put(
               "StringSeqHolder",
-              new Import[] {
-                new Import("StringSeqHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.StringSeqHolder",
               })
           .put(
               "ISO_B10",
-              new Import[] {
-                new Import("ISO_B10", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B10", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_B10",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_B10",
               })
           .put(
               "SCROLLBARS_NEVER",
-              new Import[] {
-                new Import("SCROLLBARS_NEVER", "java.awt.ScrollPane", true),
+              new String[] {
+                "static java.awt.ScrollPane.SCROLLBARS_NEVER",
               })
           .put(
               "VK_CODE_INPUT",
-              new Import[] {
-                new Import("VK_CODE_INPUT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_CODE_INPUT",
               })
           .put(
               "Subscript",
-              new Import[] {
-                new Import("Subscript", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.Subscript",
               })
           .put(
               "SAXNotRecognizedException",
-              new Import[] {
-                new Import("SAXNotRecognizedException", "org.xml.sax", false),
+              new String[] {
+                "org.xml.sax.SAXNotRecognizedException",
               })
           .put(
               "getProgressBarBorder",
-              new Import[] {
-                new Import("getProgressBarBorder", "javax.swing.plaf.basic.BasicBorders", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicBorders.getProgressBarBorder",
               })
           .put(
               "BeanContextChildComponentProxy",
-              new Import[] {
-                new Import("BeanContextChildComponentProxy", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextChildComponentProxy",
               })
           .put(
               "InvalidPropertiesFormatException",
-              new Import[] {
-                new Import("InvalidPropertiesFormatException", "java.util", false),
+              new String[] {
+                "java.util.InvalidPropertiesFormatException",
               })
           .put(
               "DATATYPE_FLOAT",
-              new Import[] {
-                new Import("DATATYPE_FLOAT", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.DATATYPE_FLOAT",
               })
           .put(
               "getShaper",
-              new Import[] {
-                new Import("getShaper", "java.awt.font.NumericShaper", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.getShaper",
               })
           .put(
               "PosixFilePermissions",
-              new Import[] {
-                new Import("PosixFilePermissions", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.PosixFilePermissions",
               })
           .put(
               "PreferenceChangeEvent",
-              new Import[] {
-                new Import("PreferenceChangeEvent", "java.util.prefs", false),
+              new String[] {
+                "java.util.prefs.PreferenceChangeEvent",
               })
           .put(
               "getFollowRedirects",
-              new Import[] {
-                new Import("getFollowRedirects", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.getFollowRedirects",
               })
           .put(
               "WrappedPlainView",
-              new Import[] {
-                new Import("WrappedPlainView", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.WrappedPlainView",
               })
           .put(
               "GLASS_PANE_PROPERTY",
-              new Import[] {
-                new Import("GLASS_PANE_PROPERTY", "javax.swing.JInternalFrame", true),
+              new String[] {
+                "static javax.swing.JInternalFrame.GLASS_PANE_PROPERTY",
               })
           .put(
               "BackingStoreException",
-              new Import[] {
-                new Import("BackingStoreException", "java.util.prefs", false),
+              new String[] {
+                "java.util.prefs.BackingStoreException",
               })
           .put(
               "SUBWINDOW_OF_PROPERTY",
-              new Import[] {
-                new Import("SUBWINDOW_OF_PROPERTY", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.SUBWINDOW_OF_PROPERTY",
               })
           .put(
               "doubleStream",
-              new Import[] {
-                new Import("doubleStream", "java.util.stream.StreamSupport", true),
+              new String[] {
+                "static java.util.stream.StreamSupport.doubleStream",
               })
           .put(
               "icMediaRelativeColorimetric",
-              new Import[] {
-                new Import("icMediaRelativeColorimetric", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icMediaRelativeColorimetric",
               })
           .put(
               "XmlType",
-              new Import[] {
-                new Import("XmlType", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlType",
               })
           .put(
               "FileStore",
-              new Import[] {
-                new Import("FileStore", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.FileStore",
               })
           .put(
               "LIST_ITEM",
-              new Import[] {
-                new Import("LIST_ITEM", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.LIST_ITEM",
               })
           .put(
               "IORInterceptor",
-              new Import[] {
-                new Import("IORInterceptor", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.IORInterceptor",
               })
           .put(
               "BufferCapabilities",
-              new Import[] {
-                new Import("BufferCapabilities", "java.awt", false),
+              new String[] {
+                "java.awt.BufferCapabilities",
               })
           .put(
               "previousDouble",
-              new Import[] {
-                new Import("previousDouble", "java.text.ChoiceFormat", true),
+              new String[] {
+                "static java.text.ChoiceFormat.previousDouble",
               })
           .put(
               "SCROLLBAR",
-              new Import[] {
-                new Import("SCROLLBAR", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.SCROLLBAR",
               })
           .put(
               "PrintServiceAttribute",
-              new Import[] {
-                new Import("PrintServiceAttribute", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.PrintServiceAttribute",
               })
           .put(
               "ParameterMetaData",
-              new Import[] {
-                new Import("ParameterMetaData", "java.sql", false),
+              new String[] {
+                "java.sql.ParameterMetaData",
               })
           .put(
               "NoSuchElementException",
-              new Import[] {
-                new Import("NoSuchElementException", "java.util", false),
+              new String[] {
+                "java.util.NoSuchElementException",
               })
           .put(
               "MetalDesktopIconUI",
-              new Import[] {
-                new Import("MetalDesktopIconUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalDesktopIconUI",
               })
           .put(
               "deleteNextWordAction",
-              new Import[] {
-                new Import("deleteNextWordAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.deleteNextWordAction",
               })
           .put(
               "XAER_DUPID",
-              new Import[] {
-                new Import("XAER_DUPID", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XAER_DUPID",
               })
           .put(
               "UnionType",
-              new Import[] {
-                new Import("UnionType", "javax.lang.model.type", false),
+              new String[] {
+                "javax.lang.model.type.UnionType",
               })
           .put(
               "copyOfRange",
-              new Import[] {
-                new Import("copyOfRange", "java.util.Arrays", true),
+              new String[] {
+                "static java.util.Arrays.copyOfRange",
               })
           .put(
               "BasicTextAreaUI",
-              new Import[] {
-                new Import("BasicTextAreaUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicTextAreaUI",
               })
           .put(
               "AccessibleText",
-              new Import[] {
-                new Import("AccessibleText", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleText",
               })
           .put(
               "XPathExpressionException",
-              new Import[] {
-                new Import("XPathExpressionException", "javax.xml.xpath", false),
+              new String[] {
+                "javax.xml.xpath.XPathExpressionException",
               })
           .put(
               "NamingEnumeration",
-              new Import[] {
-                new Import("NamingEnumeration", "javax.naming", false),
+              new String[] {
+                "javax.naming.NamingEnumeration",
               })
           .put(
               "CONTIGUOUS_TREE_SELECTION",
-              new Import[] {
-                new Import(
-                    "CONTIGUOUS_TREE_SELECTION", "javax.swing.tree.TreeSelectionModel", true),
+              new String[] {
+                "static javax.swing.tree.TreeSelectionModel.CONTIGUOUS_TREE_SELECTION",
               })
           .put(
               "icSigPreview0Tag",
-              new Import[] {
-                new Import("icSigPreview0Tag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigPreview0Tag",
               })
           .put(
               "CLASS_ATTRIBUTE_PFX",
-              new Import[] {
-                new Import("CLASS_ATTRIBUTE_PFX", "java.util.jar.Pack200.Packer", true),
+              new String[] {
+                "static java.util.jar.Pack200.Packer.CLASS_ATTRIBUTE_PFX",
               })
           .put(
               "VALUE_NONE",
-              new Import[] {
-                new Import("VALUE_NONE", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.VALUE_NONE",
               })
           .put(
               "OBJECT_REMOVED",
-              new Import[] {
-                new Import("OBJECT_REMOVED", "javax.naming.event.NamingEvent", true),
+              new String[] {
+                "static javax.naming.event.NamingEvent.OBJECT_REMOVED",
               })
           .put(
               "newFactory",
-              new Import[] {
-                new Import("newFactory", "javax.sql.rowset.RowSetProvider", true),
-                new Import("newFactory", "javax.xml.stream.XMLEventFactory", true),
-                new Import("newFactory", "javax.xml.stream.XMLInputFactory", true),
-                new Import("newFactory", "javax.xml.stream.XMLOutputFactory", true),
+              new String[] {
+                "static javax.sql.rowset.RowSetProvider.newFactory",
+                "static javax.xml.stream.XMLEventFactory.newFactory",
+                "static javax.xml.stream.XMLInputFactory.newFactory",
+                "static javax.xml.stream.XMLOutputFactory.newFactory",
               })
           .put(
               "ofStrict",
-              new Import[] {
-                new Import("ofStrict", "java.time.ZonedDateTime", true),
+              new String[] {
+                "static java.time.ZonedDateTime.ofStrict",
               })
           .put(
               "icSigRedColorantTag",
-              new Import[] {
-                new Import("icSigRedColorantTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigRedColorantTag",
               })
           .put(
               "mapping",
-              new Import[] {
-                new Import("mapping", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.mapping",
               })
           .put(
               "BLUECOMPONENT",
-              new Import[] {
-                new Import("BLUECOMPONENT", "java.awt.color.ICC_ProfileRGB", true),
+              new String[] {
+                "static java.awt.color.ICC_ProfileRGB.BLUECOMPONENT",
               })
           .put(
               "ProfileDataException",
-              new Import[] {
-                new Import("ProfileDataException", "java.awt.color", false),
+              new String[] {
+                "java.awt.color.ProfileDataException",
               })
           .put(
               "VSPACE",
-              new Import[] {
-                new Import("VSPACE", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.VSPACE",
               })
           .put(
               "FileIcon16",
-              new Import[] {
-                new Import("FileIcon16", "javax.swing.plaf.metal.MetalIconFactory", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalIconFactory.FileIcon16",
               })
           .put(
               "AWT_COMPONENT",
-              new Import[] {
-                new Import("AWT_COMPONENT", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.AWT_COMPONENT",
               })
           .put(
               "THAANA",
-              new Import[] {
-                new Import("THAANA", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.THAANA",
               })
           .put(
               "InitialContextFactory",
-              new Import[] {
-                new Import("InitialContextFactory", "javax.naming.spi", false),
+              new String[] {
+                "javax.naming.spi.InitialContextFactory",
               })
           .put(
               "SecureDirectoryStream",
-              new Import[] {
-                new Import("SecureDirectoryStream", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.SecureDirectoryStream",
               })
           .put(
               "OutOfMemoryError",
-              new Import[] {
-                new Import("OutOfMemoryError", "java.lang", false),
+              new String[] {
+                "java.lang.OutOfMemoryError",
               })
           .put(
               "TAG_PREP",
-              new Import[] {
-                new Import("TAG_PREP", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_PREP",
               })
           .put(
               "mapLibraryName",
-              new Import[] {
-                new Import("mapLibraryName", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.mapLibraryName",
               })
           .put(
               "PKCS12Attribute",
-              new Import[] {
-                new Import("PKCS12Attribute", "java.security", false),
+              new String[] {
+                "java.security.PKCS12Attribute",
               })
           .put(
               "MONARCH",
-              new Import[] {
-                new Import("MONARCH", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.MONARCH",
               })
           .put(
               "ServiceRegistry",
-              new Import[] {
-                new Import("ServiceRegistry", "javax.imageio.spi", false),
+              new String[] {
+                "javax.imageio.spi.ServiceRegistry",
               })
           .put(
               "MAP",
-              new Import[] {
-                new Import("MAP", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.MAP",
               })
           .put(
               "fragmentHtmlFlavor",
-              new Import[] {
-                new Import("fragmentHtmlFlavor", "java.awt.datatransfer.DataFlavor", true),
+              new String[] {
+                "static java.awt.datatransfer.DataFlavor.fragmentHtmlFlavor",
               })
           .put(
               "KEY_LOCATION_LEFT",
-              new Import[] {
-                new Import("KEY_LOCATION_LEFT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.KEY_LOCATION_LEFT",
               })
           .put(
               "RESERVED_UIROLE",
-              new Import[] {
-                new Import("RESERVED_UIROLE", "javax.print.ServiceUIFactory", true),
+              new String[] {
+                "static javax.print.ServiceUIFactory.RESERVED_UIROLE",
               })
           .put(
               "MAY",
-              new Import[] {
-                new Import("MAY", "java.util.Calendar", true),
-                new Import("MAY", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static java.util.Calendar.MAY", "static javax.xml.datatype.DatatypeConstants.MAY",
               })
           .put(
               "HUFFMAN_ONLY",
-              new Import[] {
-                new Import("HUFFMAN_ONLY", "java.util.zip.Deflater", true),
+              new String[] {
+                "static java.util.zip.Deflater.HUFFMAN_ONLY",
               })
           .put(
               "MAX",
-              new Import[] {
-                new Import("MAX", "java.time.Instant", true),
-                new Import("MAX", "java.time.LocalDate", true),
-                new Import("MAX", "java.time.LocalDateTime", true),
-                new Import("MAX", "java.time.LocalTime", true),
-                new Import("MAX", "java.time.OffsetDateTime", true),
-                new Import("MAX", "java.time.OffsetTime", true),
-                new Import("MAX", "java.time.ZoneOffset", true),
+              new String[] {
+                "static java.time.Instant.MAX",
+                "static java.time.LocalDate.MAX",
+                "static java.time.LocalDateTime.MAX",
+                "static java.time.LocalTime.MAX",
+                "static java.time.OffsetDateTime.MAX",
+                "static java.time.OffsetTime.MAX",
+                "static java.time.ZoneOffset.MAX",
               })
           .put(
               "WebService",
-              new Import[] {
-                new Import("WebService", "javax.jws", false),
+              new String[] {
+                "javax.jws.WebService",
               })
           .put(
               "NO_ORIENTATION",
-              new Import[] {
-                new Import("NO_ORIENTATION", "java.awt.Adjustable", true),
+              new String[] {
+                "static java.awt.Adjustable.NO_ORIENTATION",
               })
           .put(
               "MulticastChannel",
-              new Import[] {
-                new Import("MulticastChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.MulticastChannel",
               })
           .put(
               "BindingHolder",
-              new Import[] {
-                new Import("BindingHolder", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.BindingHolder",
               })
           .put(
               "BeanContextMembershipListener",
-              new Import[] {
-                new Import("BeanContextMembershipListener", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextMembershipListener",
               })
           .put(
               "CHILD_POLICY_REPEAT",
-              new Import[] {
-                new Import("CHILD_POLICY_REPEAT", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.CHILD_POLICY_REPEAT",
               })
           .put(
               "ISO_DATE",
-              new Import[] {
-                new Import("ISO_DATE", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ISO_DATE",
               })
           .put(
               "ULongSeqHolder",
-              new Import[] {
-                new Import("ULongSeqHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ULongSeqHolder",
               })
           .put(
               "PAUSE",
-              new Import[] {
-                new Import("PAUSE", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.PAUSE",
               })
           .put(
               "FORMAT_FAILURE",
-              new Import[] {
-                new Import("FORMAT_FAILURE", "java.util.logging.ErrorManager", true),
+              new String[] {
+                "static java.util.logging.ErrorManager.FORMAT_FAILURE",
               })
           .put(
               "RELATIVE",
-              new Import[] {
-                new Import("RELATIVE", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.RELATIVE",
               })
           .put(
               "Activator",
-              new Import[] {
-                new Import("Activator", "java.rmi.activation", false),
+              new String[] {
+                "java.rmi.activation.Activator",
               })
           .put(
               "InconsistentTypeCodeHelper",
-              new Import[] {
-                new Import(
-                    "InconsistentTypeCodeHelper", "org.omg.DynamicAny.DynAnyFactoryPackage", false),
+              new String[] {
+                "org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper",
               })
           .put(
               "ResolverStyle",
-              new Import[] {
-                new Import("ResolverStyle", "java.time.format", false),
+              new String[] {
+                "java.time.format.ResolverStyle",
               })
           .put(
               "Style",
-              new Import[] {
-                new Import("Style", "javax.jws.soap.SOAPBinding", false),
-                new Import("Style", "javax.swing.text", false),
+              new String[] {
+                "javax.jws.soap.SOAPBinding.Style", "javax.swing.text.Style",
               })
           .put(
               "INFO_TEXT",
-              new Import[] {
-                new Import("INFO_TEXT", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.INFO_TEXT",
               })
           .put(
               "ATTRIBUTE_RUN",
-              new Import[] {
-                new Import("ATTRIBUTE_RUN", "javax.accessibility.AccessibleExtendedText", true),
+              new String[] {
+                "static javax.accessibility.AccessibleExtendedText.ATTRIBUTE_RUN",
               })
           .put(
               "ROWSET_SYNC_PROVIDER_VERSION",
-              new Import[] {
-                new Import(
-                    "ROWSET_SYNC_PROVIDER_VERSION", "javax.sql.rowset.spi.SyncFactory", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncFactory.ROWSET_SYNC_PROVIDER_VERSION",
               })
           .put(
               "getWindowTitleBackground",
-              new Import[] {
-                new Import(
-                    "getWindowTitleBackground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getWindowTitleBackground",
               })
           .put(
               "XMLParseException",
-              new Import[] {
-                new Import("XMLParseException", "javax.management.modelmbean", false),
+              new String[] {
+                "javax.management.modelmbean.XMLParseException",
               })
           .put(
               "dk_all",
-              new Import[] {
-                new Import("dk_all", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_all",
               })
           .put(
               "TimerMBean",
-              new Import[] {
-                new Import("TimerMBean", "javax.management.timer", false),
+              new String[] {
+                "javax.management.timer.TimerMBean",
               })
           .put(
               "SPECIALS",
-              new Import[] {
-                new Import("SPECIALS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SPECIALS",
               })
           .put(
               "MEMBER_OF_PROPERTY",
-              new Import[] {
-                new Import("MEMBER_OF_PROPERTY", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.MEMBER_OF_PROPERTY",
               })
           .put(
               "getDirectionality",
-              new Import[] {
-                new Import("getDirectionality", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.getDirectionality",
               })
           .put(
               "FormatMismatch",
-              new Import[] {
-                new Import("FormatMismatch", "org.omg.IOP.CodecPackage", false),
+              new String[] {
+                "org.omg.IOP.CodecPackage.FormatMismatch",
               })
           .put(
               "TextEvent",
-              new Import[] {
-                new Import("TextEvent", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.TextEvent",
               })
           .put(
               "SELECTED_FILES_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("SELECTED_FILES_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.SELECTED_FILES_CHANGED_PROPERTY",
               })
           .put(
               "INACTIVE_CAPTION_BORDER",
-              new Import[] {
-                new Import("INACTIVE_CAPTION_BORDER", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.INACTIVE_CAPTION_BORDER",
               })
           .put(
               "NotEmptyHolder",
-              new Import[] {
-                new Import("NotEmptyHolder", "org.omg.CosNaming.NamingContextPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.NotEmptyHolder",
               })
           .put(
               "JAXB_SCHEMA_LOCATION",
-              new Import[] {
-                new Import("JAXB_SCHEMA_LOCATION", "javax.xml.bind.Marshaller", true),
+              new String[] {
+                "static javax.xml.bind.Marshaller.JAXB_SCHEMA_LOCATION",
               })
           .put(
               "CodecFactoryHelper",
-              new Import[] {
-                new Import("CodecFactoryHelper", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.CodecFactoryHelper",
               })
           .put(
               "ImageConsumer",
-              new Import[] {
-                new Import("ImageConsumer", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.ImageConsumer",
               })
           .put(
               "getContinuationDirContext",
-              new Import[] {
-                new Import("getContinuationDirContext", "javax.naming.spi.DirectoryManager", true),
+              new String[] {
+                "static javax.naming.spi.DirectoryManager.getContinuationDirContext",
               })
           .put(
               "DARK",
-              new Import[] {
-                new Import("DARK", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.DARK",
               })
           .put(
               "COPY",
-              new Import[] {
-                new Import("COPY", "javax.swing.TransferHandler", true),
+              new String[] {
+                "static javax.swing.TransferHandler.COPY",
               })
           .put(
               "PENDING_HELD",
-              new Import[] {
-                new Import("PENDING_HELD", "javax.print.attribute.standard.JobState", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobState.PENDING_HELD",
               })
           .put(
               "TreeMap",
-              new Import[] {
-                new Import("TreeMap", "java.util", false),
+              new String[] {
+                "java.util.TreeMap",
               })
           .put(
               "icXYZNumberX",
-              new Import[] {
-                new Import("icXYZNumberX", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icXYZNumberX",
               })
           .put(
               "FontFormatException",
-              new Import[] {
-                new Import("FontFormatException", "java.awt", false),
+              new String[] {
+                "java.awt.FontFormatException",
               })
           .put(
               "COLOR_CHOOSER_DIALOG",
-              new Import[] {
-                new Import("COLOR_CHOOSER_DIALOG", "javax.swing.JRootPane", true),
+              new String[] {
+                "static javax.swing.JRootPane.COLOR_CHOOSER_DIALOG",
               })
           .put(
               "TreePath",
-              new Import[] {
-                new Import("TreePath", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.TreePath",
               })
           .put(
               "TAG_CFF",
-              new Import[] {
-                new Import("TAG_CFF", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_CFF",
               })
           .put(
               "DefaultColorSelectionModel",
-              new Import[] {
-                new Import("DefaultColorSelectionModel", "javax.swing.colorchooser", false),
+              new String[] {
+                "javax.swing.colorchooser.DefaultColorSelectionModel",
               })
           .put(
               "ICC_ProfileGray",
-              new Import[] {
-                new Import("ICC_ProfileGray", "java.awt.color", false),
+              new String[] {
+                "java.awt.color.ICC_ProfileGray",
               })
           .put(
               "MOUSE_DRAGGED",
-              new Import[] {
-                new Import("MOUSE_DRAGGED", "java.awt.event.MouseEvent", true),
+              new String[] {
+                "static java.awt.event.MouseEvent.MOUSE_DRAGGED",
               })
           .put(
               "Keymap",
-              new Import[] {
-                new Import("Keymap", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.Keymap",
               })
           .put(
               "BLOB",
-              new Import[] {
-                new Import("BLOB", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.BLOB",
               })
           .put(
               "DefaultTableColumnModel",
-              new Import[] {
-                new Import("DefaultTableColumnModel", "javax.swing.table", false),
+              new String[] {
+                "javax.swing.table.DefaultTableColumnModel",
               })
           .put(
               "PHONETIC_EXTENSIONS",
-              new Import[] {
-                new Import("PHONETIC_EXTENSIONS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.PHONETIC_EXTENSIONS",
               })
           .put(
               "MODEL_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("MODEL_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.MODEL_CHANGED_PROPERTY",
               })
           .put(
               "_UNIQUE_ID",
-              new Import[] {
-                new Import("_UNIQUE_ID", "org.omg.PortableServer.IdUniquenessPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.IdUniquenessPolicyValue._UNIQUE_ID",
               })
           .put(
               "DES_EDE_KEY_LEN",
-              new Import[] {
-                new Import("DES_EDE_KEY_LEN", "javax.crypto.spec.DESedeKeySpec", true),
+              new String[] {
+                "static javax.crypto.spec.DESedeKeySpec.DES_EDE_KEY_LEN",
               })
           .put(
               "SMALL_KEY",
-              new Import[] {
-                new Import("SMALL_KEY", "javax.swing.plaf.nimbus.NimbusStyle", true),
+              new String[] {
+                "static javax.swing.plaf.nimbus.NimbusStyle.SMALL_KEY",
               })
           .put(
               "FocusEvent",
-              new Import[] {
-                new Import("FocusEvent", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.FocusEvent",
               })
           .put(
               "DropTargetAutoScroller",
-              new Import[] {
-                new Import("DropTargetAutoScroller", "java.awt.dnd.DropTarget", false),
+              new String[] {
+                "java.awt.dnd.DropTarget.DropTargetAutoScroller",
               })
           .put(
               "JAXWSPROVIDER_PROPERTY",
-              new Import[] {
-                new Import("JAXWSPROVIDER_PROPERTY", "javax.xml.ws.spi.Provider", true),
+              new String[] {
+                "static javax.xml.ws.spi.Provider.JAXWSPROVIDER_PROPERTY",
               })
           .put(
               "BINARY_STREAM_PARAM",
-              new Import[] {
-                new Import("BINARY_STREAM_PARAM", "javax.sql.rowset.BaseRowSet", true),
+              new String[] {
+                "static javax.sql.rowset.BaseRowSet.BINARY_STREAM_PARAM",
               })
           .put(
               "LEAD_HYPHENS",
-              new Import[] {
-                new Import("LEAD_HYPHENS", "javax.swing.text.TabStop", true),
+              new String[] {
+                "static javax.swing.text.TabStop.LEAD_HYPHENS",
               })
           .put(
               "SkeletonMismatchException",
-              new Import[] {
-                new Import("SkeletonMismatchException", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.SkeletonMismatchException",
               })
           .put(
               "EPOCH",
-              new Import[] {
-                new Import("EPOCH", "java.time.Instant", true),
+              new String[] {
+                "static java.time.Instant.EPOCH",
               })
           .put(
               "DAY_OF_QUARTER",
-              new Import[] {
-                new Import("DAY_OF_QUARTER", "java.time.temporal.IsoFields", true),
+              new String[] {
+                "static java.time.temporal.IsoFields.DAY_OF_QUARTER",
               })
           .put(
               "zoneId",
-              new Import[] {
-                new Import("zoneId", "java.time.temporal.TemporalQueries", true),
+              new String[] {
+                "static java.time.temporal.TemporalQueries.zoneId",
               })
           .put(
               "isIdentifierIgnorable",
-              new Import[] {
-                new Import("isIdentifierIgnorable", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isIdentifierIgnorable",
               })
           .put(
               "ElementType",
-              new Import[] {
-                new Import("ElementType", "java.lang.annotation", false),
+              new String[] {
+                "java.lang.annotation.ElementType",
               })
           .put(
               "JMXConnectorProvider",
-              new Import[] {
-                new Import("JMXConnectorProvider", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.JMXConnectorProvider",
               })
           .put(
               "SOMEBITS",
-              new Import[] {
-                new Import("SOMEBITS", "java.awt.image.ImageObserver", true),
+              new String[] {
+                "static java.awt.image.ImageObserver.SOMEBITS",
               })
           .put(
               "offset",
-              new Import[] {
-                new Import("offset", "java.time.Clock", true),
-                new Import("offset", "java.time.temporal.TemporalQueries", true),
+              new String[] {
+                "static java.time.Clock.offset", "static java.time.temporal.TemporalQueries.offset",
               })
           .put(
               "_opsClass",
-              new Import[] {
-                new Import("_opsClass", "org.omg.DynamicAny._DynAnyFactoryStub", true),
-                new Import("_opsClass", "org.omg.DynamicAny._DynAnyStub", true),
-                new Import("_opsClass", "org.omg.DynamicAny._DynArrayStub", true),
-                new Import("_opsClass", "org.omg.DynamicAny._DynEnumStub", true),
-                new Import("_opsClass", "org.omg.DynamicAny._DynFixedStub", true),
-                new Import("_opsClass", "org.omg.DynamicAny._DynSequenceStub", true),
-                new Import("_opsClass", "org.omg.DynamicAny._DynStructStub", true),
-                new Import("_opsClass", "org.omg.DynamicAny._DynUnionStub", true),
-                new Import("_opsClass", "org.omg.DynamicAny._DynValueStub", true),
-                new Import("_opsClass", "org.omg.PortableServer._ServantActivatorStub", true),
-                new Import("_opsClass", "org.omg.PortableServer._ServantLocatorStub", true),
+              new String[] {
+                "static org.omg.DynamicAny._DynAnyFactoryStub._opsClass",
+                "static org.omg.DynamicAny._DynAnyStub._opsClass",
+                "static org.omg.DynamicAny._DynArrayStub._opsClass",
+                "static org.omg.DynamicAny._DynEnumStub._opsClass",
+                "static org.omg.DynamicAny._DynFixedStub._opsClass",
+                "static org.omg.DynamicAny._DynSequenceStub._opsClass",
+                "static org.omg.DynamicAny._DynStructStub._opsClass",
+                "static org.omg.DynamicAny._DynUnionStub._opsClass",
+                "static org.omg.DynamicAny._DynValueStub._opsClass",
+                "static org.omg.PortableServer._ServantActivatorStub._opsClass",
+                "static org.omg.PortableServer._ServantLocatorStub._opsClass",
               })
           .put(
               "BasicPasswordFieldUI",
-              new Import[] {
-                new Import("BasicPasswordFieldUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicPasswordFieldUI",
               })
           .put(
               "CharSequence",
-              new Import[] {
-                new Import("CharSequence", "java.lang", false),
+              new String[] {
+                "java.lang.CharSequence",
               })
           .put(
               "EXPANDED",
-              new Import[] {
-                new Import("EXPANDED", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.EXPANDED",
               })
           .put(
               "MemoryCacheImageInputStream",
-              new Import[] {
-                new Import("MemoryCacheImageInputStream", "javax.imageio.stream", false),
+              new String[] {
+                "javax.imageio.stream.MemoryCacheImageInputStream",
               })
           .put(
               "DATE",
-              new Import[] {
-                new Import("DATE", "java.sql.Types", true),
-                new Import("DATE", "java.util.Calendar", true),
-                new Import("DATE", "javax.management.openmbean.SimpleType", true),
-                new Import("DATE", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static java.sql.Types.DATE",
+                "static java.util.Calendar.DATE",
+                "static javax.management.openmbean.SimpleType.DATE",
+                "static javax.xml.datatype.DatatypeConstants.DATE",
               })
           .put(
               "unmodifiableList",
-              new Import[] {
-                new Import("unmodifiableList", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.unmodifiableList",
               })
           .put(
               "STAPLE_DUAL_RIGHT",
-              new Import[] {
-                new Import("STAPLE_DUAL_RIGHT", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.STAPLE_DUAL_RIGHT",
               })
           .put(
               "MAX_TIMEZONE_OFFSET",
-              new Import[] {
-                new Import("MAX_TIMEZONE_OFFSET", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.MAX_TIMEZONE_OFFSET",
               })
           .put(
               "STANDARD_TIME",
-              new Import[] {
-                new Import("STANDARD_TIME", "java.util.SimpleTimeZone", true),
+              new String[] {
+                "static java.util.SimpleTimeZone.STANDARD_TIME",
               })
           .put(
               "SoundbankResource",
-              new Import[] {
-                new Import("SoundbankResource", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.SoundbankResource",
               })
           .put(
               "DATA",
-              new Import[] {
-                new Import("DATA", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.DATA",
               })
           .put(
               "SUCCESSFUL",
-              new Import[] {
-                new Import("SUCCESSFUL", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.SUCCESSFUL",
               })
           .put(
               "PKIXCertPathValidatorResult",
-              new Import[] {
-                new Import("PKIXCertPathValidatorResult", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.PKIXCertPathValidatorResult",
               })
           .put(
               "PrintRequestAttribute",
-              new Import[] {
-                new Import("PrintRequestAttribute", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.PrintRequestAttribute",
               })
           .put(
               "POLICY_NOACTIVE",
-              new Import[] {
-                new Import("POLICY_NOACTIVE", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.POLICY_NOACTIVE",
               })
           .put(
               "MultipleComponentProfileHolder",
-              new Import[] {
-                new Import("MultipleComponentProfileHolder", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.MultipleComponentProfileHolder",
               })
           .put(
               "getUrlDecoder",
-              new Import[] {
-                new Import("getUrlDecoder", "java.util.Base64", true),
+              new String[] {
+                "static java.util.Base64.getUrlDecoder",
               })
           .put(
               "PASSWORD_TEXT",
-              new Import[] {
-                new Import("PASSWORD_TEXT", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.PASSWORD_TEXT",
               })
           .put(
               "SynthTextFieldUI",
-              new Import[] {
-                new Import("SynthTextFieldUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthTextFieldUI",
               })
           .put(
               "TAGALOG",
-              new Import[] {
-                new Import("TAGALOG", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.TAGALOG",
               })
           .put(
               "Category",
-              new Import[] {
-                new Import("Category", "java.util.Locale", false),
+              new String[] {
+                "java.util.Locale.Category",
               })
           .put(
               "MONOSPACED",
-              new Import[] {
-                new Import("MONOSPACED", "java.awt.Font", true),
+              new String[] {
+                "static java.awt.Font.MONOSPACED",
               })
           .put(
               "Pack200",
-              new Import[] {
-                new Import("Pack200", "java.util.jar", false),
+              new String[] {
+                "java.util.jar.Pack200",
               })
           .put(
               "setFlashTime",
-              new Import[] {
-                new Import("setFlashTime", "javax.swing.DebugGraphics", true),
+              new String[] {
+                "static javax.swing.DebugGraphics.setFlashTime",
               })
           .put(
               "BasicInternalFrameUI",
-              new Import[] {
-                new Import("BasicInternalFrameUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicInternalFrameUI",
               })
           .put(
               "RFC_1123_DATE_TIME",
-              new Import[] {
-                new Import("RFC_1123_DATE_TIME", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME",
               })
           .put(
               "URISyntaxException",
-              new Import[] {
-                new Import("URISyntaxException", "java.net", false),
+              new String[] {
+                "java.net.URISyntaxException",
               })
           .put(
               "JTextField",
-              new Import[] {
-                new Import("JTextField", "javax.swing", false),
+              new String[] {
+                "javax.swing.JTextField",
               })
           .put(
               "COLSPAN",
-              new Import[] {
-                new Import("COLSPAN", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.COLSPAN",
               })
           .put(
               "distanceSq",
-              new Import[] {
-                new Import("distanceSq", "java.awt.geom.Point2D", true),
+              new String[] {
+                "static java.awt.geom.Point2D.distanceSq",
               })
           .put(
               "DIRECTORIES_ONLY",
-              new Import[] {
-                new Import("DIRECTORIES_ONLY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.DIRECTORIES_ONLY",
               })
           .put(
               "foldArguments",
-              new Import[] {
-                new Import("foldArguments", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.foldArguments",
               })
           .put(
               "SortControl",
-              new Import[] {
-                new Import("SortControl", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.SortControl",
               })
           .put(
               "POSTURE",
-              new Import[] {
-                new Import("POSTURE", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.POSTURE",
               })
           .put(
               "HEADER_ROW",
-              new Import[] {
-                new Import("HEADER_ROW", "javax.swing.event.TableModelEvent", true),
+              new String[] {
+                "static javax.swing.event.TableModelEvent.HEADER_ROW",
               })
           .put(
               "XAER_ASYNC",
-              new Import[] {
-                new Import("XAER_ASYNC", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XAER_ASYNC",
               })
           .put(
               "NOTE",
-              new Import[] {
-                new Import("NOTE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.NOTE",
               })
           .put(
               "STOPPED",
-              new Import[] {
-                new Import("STOPPED", "javax.print.attribute.standard.PrinterState", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterState.STOPPED",
               })
           .put(
               "LINE",
-              new Import[] {
-                new Import("LINE", "javax.accessibility.AccessibleExtendedText", true),
+              new String[] {
+                "static javax.accessibility.AccessibleExtendedText.LINE",
               })
           .put(
               "BootstrapMethodError",
-              new Import[] {
-                new Import("BootstrapMethodError", "java.lang", false),
+              new String[] {
+                "java.lang.BootstrapMethodError",
               })
           .put(
               "LINK",
-              new Import[] {
-                new Import("LINK", "javax.swing.TransferHandler", true),
-                new Import("LINK", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("LINK", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.TransferHandler.LINK",
+                "static javax.swing.text.html.HTML.Attribute.LINK",
+                "static javax.swing.text.html.HTML.Tag.LINK",
               })
           .put(
               "ColorSelectionModel",
-              new Import[] {
-                new Import("ColorSelectionModel", "javax.swing.colorchooser", false),
+              new String[] {
+                "javax.swing.colorchooser.ColorSelectionModel",
               })
           .put(
               "icSigAToB0Tag",
-              new Import[] {
-                new Import("icSigAToB0Tag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigAToB0Tag",
               })
           .put(
               "LongBuffer",
-              new Import[] {
-                new Import("LongBuffer", "java.nio", false),
+              new String[] {
+                "java.nio.LongBuffer",
               })
           .put(
               "SEVERE",
-              new Import[] {
-                new Import("SEVERE", "java.util.logging.Level", true),
+              new String[] {
+                "static java.util.logging.Level.SEVERE",
               })
           .put(
               "VERTICAL_SCROLLBAR_ALWAYS",
-              new Import[] {
-                new Import("VERTICAL_SCROLLBAR_ALWAYS", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.VERTICAL_SCROLLBAR_ALWAYS",
               })
           .put(
               "WINDOW_ICONIFY",
-              new Import[] {
-                new Import("WINDOW_ICONIFY", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.WINDOW_ICONIFY",
               })
           .put(
               "ObjectOutput",
-              new Import[] {
-                new Import("ObjectOutput", "java.io", false),
+              new String[] {
+                "java.io.ObjectOutput",
               })
           .put(
               "NamingContextPOA",
-              new Import[] {
-                new Import("NamingContextPOA", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPOA",
               })
           .put(
               "ReplicateScaleFilter",
-              new Import[] {
-                new Import("ReplicateScaleFilter", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.ReplicateScaleFilter",
               })
           .put(
               "command",
-              new Import[] {
-                new Import("command", "java.lang.Compiler", true),
+              new String[] {
+                "static java.lang.Compiler.command",
               })
           .put(
               "FILE_FILTER_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("FILE_FILTER_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.FILE_FILTER_CHANGED_PROPERTY",
               })
           .put(
               "Desktop",
-              new Import[] {
-                new Import("Desktop", "java.awt", false),
+              new String[] {
+                "java.awt.Desktop",
               })
           .put(
               "TimeLimitExceededException",
-              new Import[] {
-                new Import("TimeLimitExceededException", "javax.naming", false),
+              new String[] {
+                "javax.naming.TimeLimitExceededException",
               })
           .put(
               "highestOneBit",
-              new Import[] {
-                new Import("highestOneBit", "java.lang.Integer", true),
-                new Import("highestOneBit", "java.lang.Long", true),
+              new String[] {
+                "static java.lang.Integer.highestOneBit", "static java.lang.Long.highestOneBit",
               })
           .put(
               "RowSetMetaDataImpl",
-              new Import[] {
-                new Import("RowSetMetaDataImpl", "javax.sql.rowset", false),
+              new String[] {
+                "javax.sql.rowset.RowSetMetaDataImpl",
               })
           .build();
 }
@@ -2,1581 +2,1557 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk2 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "JDesktopPane",
-              new Import[] {
-                new Import("JDesktopPane", "javax.swing", false),
+              new String[] {
+                "javax.swing.JDesktopPane",
               })
           .put(
               "Owner",
-              new Import[] {
-                new Import("Owner", "java.security.acl", false),
+              new String[] {
+                "java.security.acl.Owner",
               })
           .put(
               "ZoneRulesException",
-              new Import[] {
-                new Import("ZoneRulesException", "java.time.zone", false),
+              new String[] {
+                "java.time.zone.ZoneRulesException",
               })
           .put(
               "JTextArea",
-              new Import[] {
-                new Import("JTextArea", "javax.swing", false),
+              new String[] {
+                "javax.swing.JTextArea",
               })
           .put(
               "tk_union",
-              new Import[] {
-                new Import("tk_union", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_union",
               })
           .put(
               "Configuration",
-              new Import[] {
-                new Import("Configuration", "javax.security.auth.login", false),
+              new String[] {
+                "javax.security.auth.login.Configuration",
               })
           .put(
               "AlreadyConnectedException",
-              new Import[] {
-                new Import("AlreadyConnectedException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.AlreadyConnectedException",
               })
           .put(
               "newSetFromMap",
-              new Import[] {
-                new Import("newSetFromMap", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.newSetFromMap",
               })
           .put(
               "lastInMonth",
-              new Import[] {
-                new Import("lastInMonth", "java.time.temporal.TemporalAdjusters", true),
+              new String[] {
+                "static java.time.temporal.TemporalAdjusters.lastInMonth",
               })
           .put(
               "DefaultKeyTypedAction",
-              new Import[] {
-                new Import("DefaultKeyTypedAction", "javax.swing.text.DefaultEditorKit", false),
+              new String[] {
+                "javax.swing.text.DefaultEditorKit.DefaultKeyTypedAction",
               })
           .put(
               "Naming",
-              new Import[] {
-                new Import("Naming", "java.rmi", false),
+              new String[] {
+                "java.rmi.Naming",
               })
           .put(
               "SpinnerModel",
-              new Import[] {
-                new Import("SpinnerModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.SpinnerModel",
               })
           .put(
               "INFORMATION_DIALOG",
-              new Import[] {
-                new Import("INFORMATION_DIALOG", "javax.swing.JRootPane", true),
+              new String[] {
+                "static javax.swing.JRootPane.INFORMATION_DIALOG",
               })
           .put(
               "XmlList",
-              new Import[] {
-                new Import("XmlList", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlList",
               })
           .put(
               "SAXException",
-              new Import[] {
-                new Import("SAXException", "org.xml.sax", false),
+              new String[] {
+                "org.xml.sax.SAXException",
               })
           .put(
               "NotDirectoryException",
-              new Import[] {
-                new Import("NotDirectoryException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.NotDirectoryException",
               })
           .put(
               "FUSER_OVER_TEMP",
-              new Import[] {
-                new Import(
-                    "FUSER_OVER_TEMP", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.FUSER_OVER_TEMP",
               })
           .put(
               "LayeredHighlighter",
-              new Import[] {
-                new Import("LayeredHighlighter", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.LayeredHighlighter",
               })
           .put(
               "newOutputStream",
-              new Import[] {
-                new Import("newOutputStream", "java.nio.channels.Channels", true),
-                new Import("newOutputStream", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.channels.Channels.newOutputStream",
+                "static java.nio.file.Files.newOutputStream",
               })
           .put(
               "Popup",
-              new Import[] {
-                new Import("Popup", "javax.swing", false),
+              new String[] {
+                "javax.swing.Popup",
               })
           .put(
               "CASE_INSENSITIVE",
-              new Import[] {
-                new Import("CASE_INSENSITIVE", "java.util.regex.Pattern", true),
+              new String[] {
+                "static java.util.regex.Pattern.CASE_INSENSITIVE",
               })
           .put(
               "MetalTabbedPaneUI",
-              new Import[] {
-                new Import("MetalTabbedPaneUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalTabbedPaneUI",
               })
           .put(
               "DOMURIReference",
-              new Import[] {
-                new Import("DOMURIReference", "javax.xml.crypto.dom", false),
+              new String[] {
+                "javax.xml.crypto.dom.DOMURIReference",
               })
           .put(
               "ID_ASSIGNMENT_POLICY_ID",
-              new Import[] {
-                new Import("ID_ASSIGNMENT_POLICY_ID", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ID_ASSIGNMENT_POLICY_ID",
               })
           .put(
               "BasicAttribute",
-              new Import[] {
-                new Import("BasicAttribute", "javax.naming.directory", false),
+              new String[] {
+                "javax.naming.directory.BasicAttribute",
               })
           .put(
               "PRESSED_ICON_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("PRESSED_ICON_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.PRESSED_ICON_CHANGED_PROPERTY",
               })
           .put(
               "GSSName",
-              new Import[] {
-                new Import("GSSName", "org.ietf.jgss", false),
+              new String[] {
+                "org.ietf.jgss.GSSName",
               })
           .put(
               "EGYPTIAN_HIEROGLYPHS",
-              new Import[] {
-                new Import("EGYPTIAN_HIEROGLYPHS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.EGYPTIAN_HIEROGLYPHS",
               })
           .put(
               "VALUE_FRACTIONALMETRICS_ON",
-              new Import[] {
-                new Import("VALUE_FRACTIONALMETRICS_ON", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_FRACTIONALMETRICS_ON",
               })
           .put(
               "MEDIUM",
-              new Import[] {
-                new Import("MEDIUM", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.MEDIUM",
               })
           .put(
               "VERTICAL_ALIGN",
-              new Import[] {
-                new Import("VERTICAL_ALIGN", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.VERTICAL_ALIGN",
               })
           .put(
               "TEXT_HTML_UTF_8",
-              new Import[] {
-                new Import("TEXT_HTML_UTF_8", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_HTML_UTF_8", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_HTML_UTF_8", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.TEXT_HTML_UTF_8",
+                "static javax.print.DocFlavor.INPUT_STREAM.TEXT_HTML_UTF_8",
+                "static javax.print.DocFlavor.URL.TEXT_HTML_UTF_8",
               })
           .put(
               "StreamResult",
-              new Import[] {
-                new Import("StreamResult", "javax.xml.transform.stream", false),
+              new String[] {
+                "javax.xml.transform.stream.StreamResult",
               })
           .put(
               "MIN_CODE_POINT",
-              new Import[] {
-                new Import("MIN_CODE_POINT", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.MIN_CODE_POINT",
               })
           .put(
               "GeneralSecurityException",
-              new Import[] {
-                new Import("GeneralSecurityException", "java.security", false),
+              new String[] {
+                "java.security.GeneralSecurityException",
               })
           .put(
               "TransactionalWriter",
-              new Import[] {
-                new Import("TransactionalWriter", "javax.sql.rowset.spi", false),
+              new String[] {
+                "javax.sql.rowset.spi.TransactionalWriter",
               })
           .put(
               "selectionDownAction",
-              new Import[] {
-                new Import("selectionDownAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectionDownAction",
               })
           .put(
               "createInterleaved",
-              new Import[] {
-                new Import("createInterleaved", "javax.imageio.ImageTypeSpecifier", true),
+              new String[] {
+                "static javax.imageio.ImageTypeSpecifier.createInterleaved",
               })
           .put(
               "getSystemResourceAsStream",
-              new Import[] {
-                new Import("getSystemResourceAsStream", "java.lang.ClassLoader", true),
+              new String[] {
+                "static java.lang.ClassLoader.getSystemResourceAsStream",
               })
           .put(
               "AccountException",
-              new Import[] {
-                new Import("AccountException", "javax.security.auth.login", false),
+              new String[] {
+                "javax.security.auth.login.AccountException",
               })
           .put(
               "TransferHandler",
-              new Import[] {
-                new Import("TransferHandler", "javax.swing", false),
+              new String[] {
+                "javax.swing.TransferHandler",
               })
           .put(
               "PaintContext",
-              new Import[] {
-                new Import("PaintContext", "java.awt", false),
-                new Import("PaintContext", "javax.swing.plaf.nimbus.AbstractRegionPainter", false),
+              new String[] {
+                "java.awt.PaintContext",
+                "javax.swing.plaf.nimbus.AbstractRegionPainter.PaintContext",
               })
           .put(
               "installProperty",
-              new Import[] {
-                new Import("installProperty", "javax.swing.LookAndFeel", true),
+              new String[] {
+                "static javax.swing.LookAndFeel.installProperty",
               })
           .put(
               "TC_BLOCKDATA",
-              new Import[] {
-                new Import("TC_BLOCKDATA", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_BLOCKDATA",
               })
           .put(
               "compare",
-              new Import[] {
-                new Import("compare", "java.lang.Boolean", true),
-                new Import("compare", "java.lang.Byte", true),
-                new Import("compare", "java.lang.Character", true),
-                new Import("compare", "java.lang.Double", true),
-                new Import("compare", "java.lang.Float", true),
-                new Import("compare", "java.lang.Integer", true),
-                new Import("compare", "java.lang.Long", true),
-                new Import("compare", "java.lang.Short", true),
-                new Import("compare", "java.util.Objects", true),
+              new String[] {
+                "static java.lang.Boolean.compare",
+                "static java.lang.Byte.compare",
+                "static java.lang.Character.compare",
+                "static java.lang.Double.compare",
+                "static java.lang.Float.compare",
+                "static java.lang.Integer.compare",
+                "static java.lang.Long.compare",
+                "static java.lang.Short.compare",
+                "static java.util.Objects.compare",
               })
           .put(
               "AttributeNotFoundException",
-              new Import[] {
-                new Import("AttributeNotFoundException", "javax.management", false),
+              new String[] {
+                "javax.management.AttributeNotFoundException",
               })
           .put(
               "Set",
-              new Import[] {
-                new Import("Set", "java.util", false),
+              new String[] {
+                "java.util.Set",
               })
           .put(
               "HeadlessException",
-              new Import[] {
-                new Import("HeadlessException", "java.awt", false),
+              new String[] {
+                "java.awt.HeadlessException",
               })
           .put(
               "RowIdLifetime",
-              new Import[] {
-                new Import("RowIdLifetime", "java.sql", false),
+              new String[] {
+                "java.sql.RowIdLifetime",
               })
           .put(
               "ScriptEngineManager",
-              new Import[] {
-                new Import("ScriptEngineManager", "javax.script", false),
+              new String[] {
+                "javax.script.ScriptEngineManager",
               })
           .put(
               "DefaultHighlighter",
-              new Import[] {
-                new Import("DefaultHighlighter", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.DefaultHighlighter",
               })
           .put(
               "NoSuchFieldException",
-              new Import[] {
-                new Import("NoSuchFieldException", "java.lang", false),
+              new String[] {
+                "java.lang.NoSuchFieldException",
               })
           .put(
               "lineSeparator",
-              new Import[] {
-                new Import("lineSeparator", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.lineSeparator",
               })
           .put(
               "tk_char",
-              new Import[] {
-                new Import("tk_char", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_char",
               })
           .put(
               "SECURITY_CREDENTIALS",
-              new Import[] {
-                new Import("SECURITY_CREDENTIALS", "javax.naming.Context", true),
+              new String[] {
+                "static javax.naming.Context.SECURITY_CREDENTIALS",
               })
           .put(
               "TOLEFT_TOBOTTOM",
-              new Import[] {
-                new Import(
-                    "TOLEFT_TOBOTTOM",
-                    "javax.print.attribute.standard.PresentationDirection",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.PresentationDirection.TOLEFT_TOBOTTOM",
               })
           .put(
               "DatagramSocketImplFactory",
-              new Import[] {
-                new Import("DatagramSocketImplFactory", "java.net", false),
+              new String[] {
+                "java.net.DatagramSocketImplFactory",
               })
           .put(
               "JdbcRowSet",
-              new Import[] {
-                new Import("JdbcRowSet", "javax.sql.rowset", false),
+              new String[] {
+                "javax.sql.rowset.JdbcRowSet",
               })
           .put(
               "BadStringOperationException",
-              new Import[] {
-                new Import("BadStringOperationException", "javax.management", false),
+              new String[] {
+                "javax.management.BadStringOperationException",
               })
           .put(
               "URI_SOAP_1_2_ROLE_ULTIMATE_RECEIVER",
-              new Import[] {
-                new Import(
-                    "URI_SOAP_1_2_ROLE_ULTIMATE_RECEIVER", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.URI_SOAP_1_2_ROLE_ULTIMATE_RECEIVER",
               })
           .put(
               "OutputKeys",
-              new Import[] {
-                new Import("OutputKeys", "javax.xml.transform", false),
+              new String[] {
+                "javax.xml.transform.OutputKeys",
               })
           .put(
               "getThreadMXBean",
-              new Import[] {
-                new Import("getThreadMXBean", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.getThreadMXBean",
               })
           .put(
               "TYPE_5CLR",
-              new Import[] {
-                new Import("TYPE_5CLR", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_5CLR",
               })
           .put(
               "COLUMN_HEADER",
-              new Import[] {
-                new Import("COLUMN_HEADER", "javax.accessibility.AccessibleRole", true),
-                new Import("COLUMN_HEADER", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.COLUMN_HEADER",
+                "static javax.swing.ScrollPaneConstants.COLUMN_HEADER",
               })
           .put(
               "getenv",
-              new Import[] {
-                new Import("getenv", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.getenv",
               })
           .put(
               "IdentityScope",
-              new Import[] {
-                new Import("IdentityScope", "java.security", false),
+              new String[] {
+                "java.security.IdentityScope",
               })
           .put(
               "createRaisedBevelBorder",
-              new Import[] {
-                new Import("createRaisedBevelBorder", "javax.swing.BorderFactory", true),
+              new String[] {
+                "static javax.swing.BorderFactory.createRaisedBevelBorder",
               })
           .put(
               "TRACKING_TIGHT",
-              new Import[] {
-                new Import("TRACKING_TIGHT", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.TRACKING_TIGHT",
               })
           .put(
               "SinglePixelPackedSampleModel",
-              new Import[] {
-                new Import("SinglePixelPackedSampleModel", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.SinglePixelPackedSampleModel",
               })
           .put(
               "afterOffset",
-              new Import[] {
-                new Import("afterOffset", "java.awt.font.TextHitInfo", true),
+              new String[] {
+                "static java.awt.font.TextHitInfo.afterOffset",
               })
           .put(
               "AUX_SEND",
-              new Import[] {
-                new Import("AUX_SEND", "javax.sound.sampled.FloatControl.Type", true),
+              new String[] {
+                "static javax.sound.sampled.FloatControl.Type.AUX_SEND",
               })
           .put(
               "DragSource",
-              new Import[] {
-                new Import("DragSource", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DragSource",
               })
           .put(
               "FONT",
-              new Import[] {
-                new Import("FONT", "java.awt.font.TextAttribute", true),
-                new Import("FONT", "javax.swing.text.html.CSS.Attribute", true),
-                new Import("FONT", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.FONT",
+                "static javax.swing.text.html.CSS.Attribute.FONT",
+                "static javax.swing.text.html.HTML.Tag.FONT",
               })
           .put(
               "AbstractSelectableChannel",
-              new Import[] {
-                new Import("AbstractSelectableChannel", "java.nio.channels.spi", false),
+              new String[] {
+                "java.nio.channels.spi.AbstractSelectableChannel",
               })
           .put(
               "getDefaultSSLSocketFactory",
-              new Import[] {
-                new Import("getDefaultSSLSocketFactory", "javax.net.ssl.HttpsURLConnection", true),
+              new String[] {
+                "static javax.net.ssl.HttpsURLConnection.getDefaultSSLSocketFactory",
               })
           .put(
               "DragSourceMotionListener",
-              new Import[] {
-                new Import("DragSourceMotionListener", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DragSourceMotionListener",
               })
           .put(
               "toString",
-              new Import[] {
-                new Import("toString", "java.lang.Boolean", true),
-                new Import("toString", "java.lang.Byte", true),
-                new Import("toString", "java.lang.Character", true),
-                new Import("toString", "java.lang.Double", true),
-                new Import("toString", "java.lang.Float", true),
-                new Import("toString", "java.lang.Integer", true),
-                new Import("toString", "java.lang.Long", true),
-                new Import("toString", "java.lang.Short", true),
-                new Import("toString", "java.lang.invoke.MethodHandleInfo", true),
-                new Import("toString", "java.lang.reflect.Modifier", true),
-                new Import("toString", "java.nio.file.attribute.PosixFilePermissions", true),
-                new Import("toString", "java.util.Arrays", true),
-                new Import("toString", "java.util.Objects", true),
+              new String[] {
+                "static java.lang.Boolean.toString",
+                "static java.lang.Byte.toString",
+                "static java.lang.Character.toString",
+                "static java.lang.Double.toString",
+                "static java.lang.Float.toString",
+                "static java.lang.Integer.toString",
+                "static java.lang.Long.toString",
+                "static java.lang.Short.toString",
+                "static java.lang.invoke.MethodHandleInfo.toString",
+                "static java.lang.reflect.Modifier.toString",
+                "static java.nio.file.attribute.PosixFilePermissions.toString",
+                "static java.util.Arrays.toString",
+                "static java.util.Objects.toString",
               })
           .put(
               "bitCount",
-              new Import[] {
-                new Import("bitCount", "java.lang.Integer", true),
-                new Import("bitCount", "java.lang.Long", true),
+              new String[] {
+                "static java.lang.Integer.bitCount", "static java.lang.Long.bitCount",
               })
           .put(
               "JRootPane",
-              new Import[] {
-                new Import("JRootPane", "javax.swing", false),
+              new String[] {
+                "javax.swing.JRootPane",
               })
           .put(
               "MonitorSettingException",
-              new Import[] {
-                new Import("MonitorSettingException", "javax.management.monitor", false),
+              new String[] {
+                "javax.management.monitor.MonitorSettingException",
               })
           .put(
               "getUIInputMap",
-              new Import[] {
-                new Import("getUIInputMap", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.getUIInputMap",
               })
           .put(
               "InputSource",
-              new Import[] {
-                new Import("InputSource", "org.xml.sax", false),
+              new String[] {
+                "org.xml.sax.InputSource",
               })
           .put(
               "OUT_RIGHT",
-              new Import[] {
-                new Import("OUT_RIGHT", "java.awt.geom.Rectangle2D", true),
+              new String[] {
+                "static java.awt.geom.Rectangle2D.OUT_RIGHT",
               })
           .put(
               "JTextComponent",
-              new Import[] {
-                new Import("JTextComponent", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.JTextComponent",
               })
           .put(
               "icHdrPlatform",
-              new Import[] {
-                new Import("icHdrPlatform", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrPlatform",
               })
           .put(
               "DescriptorAccess",
-              new Import[] {
-                new Import("DescriptorAccess", "javax.management", false),
+              new String[] {
+                "javax.management.DescriptorAccess",
               })
           .put(
               "TYPE_GENERAL_ROTATION",
-              new Import[] {
-                new Import("TYPE_GENERAL_ROTATION", "java.awt.geom.AffineTransform", true),
+              new String[] {
+                "static java.awt.geom.AffineTransform.TYPE_GENERAL_ROTATION",
               })
           .put(
               "CustomValue",
-              new Import[] {
-                new Import("CustomValue", "org.omg.CORBA.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.CustomValue",
               })
           .put(
               "VolatileCallSite",
-              new Import[] {
-                new Import("VolatileCallSite", "java.lang.invoke", false),
+              new String[] {
+                "java.lang.invoke.VolatileCallSite",
               })
           .put(
               "UnresolvedPermission",
-              new Import[] {
-                new Import("UnresolvedPermission", "java.security", false),
+              new String[] {
+                "java.security.UnresolvedPermission",
               })
           .put(
               "EmptyStackException",
-              new Import[] {
-                new Import("EmptyStackException", "java.util", false),
+              new String[] {
+                "java.util.EmptyStackException",
               })
           .put(
               "div",
-              new Import[] {
-                new Import("div", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.div",
               })
           .put(
               "ofLocalizedDate",
-              new Import[] {
-                new Import("ofLocalizedDate", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ofLocalizedDate",
               })
           .put(
               "DeclHandler",
-              new Import[] {
-                new Import("DeclHandler", "org.xml.sax.ext", false),
+              new String[] {
+                "org.xml.sax.ext.DeclHandler",
               })
           .put(
               "Point2D",
-              new Import[] {
-                new Import("Point2D", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.Point2D",
               })
           .put(
               "TextStyle",
-              new Import[] {
-                new Import("TextStyle", "java.time.format", false),
+              new String[] {
+                "java.time.format.TextStyle",
               })
           .put(
               "MIN_TIMEZONE_OFFSET",
-              new Import[] {
-                new Import("MIN_TIMEZONE_OFFSET", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.MIN_TIMEZONE_OFFSET",
               })
           .put(
               "PREFERRED",
-              new Import[] {
-                new Import("PREFERRED", "java.awt.GraphicsConfigTemplate", true),
+              new String[] {
+                "static java.awt.GraphicsConfigTemplate.PREFERRED",
               })
           .put(
               "ColorType",
-              new Import[] {
-                new Import("ColorType", "java.awt.PageAttributes", false),
-                new Import("ColorType", "javax.swing.plaf.synth", false),
+              new String[] {
+                "java.awt.PageAttributes.ColorType", "javax.swing.plaf.synth.ColorType",
               })
           .put(
               "CertPathValidatorResult",
-              new Import[] {
-                new Import("CertPathValidatorResult", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertPathValidatorResult",
               })
           .put(
               "BasicSeparatorUI",
-              new Import[] {
-                new Import("BasicSeparatorUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicSeparatorUI",
               })
           .put(
               "CRITICAL",
-              new Import[] {
-                new Import("CRITICAL", "javax.naming.ldap.Control", true),
+              new String[] {
+                "static javax.naming.ldap.Control.CRITICAL",
               })
           .put(
               "Completions",
-              new Import[] {
-                new Import("Completions", "javax.annotation.processing", false),
+              new String[] {
+                "javax.annotation.processing.Completions",
               })
           .put(
               "PolicyHelper",
-              new Import[] {
-                new Import("PolicyHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.PolicyHelper",
               })
           .put(
               "DoubleBuffer",
-              new Import[] {
-                new Import("DoubleBuffer", "java.nio", false),
+              new String[] {
+                "java.nio.DoubleBuffer",
               })
           .put(
               "FilteringMode",
-              new Import[] {
-                new Import("FilteringMode", "java.util.Locale", false),
+              new String[] {
+                "java.util.Locale.FilteringMode",
               })
           .put(
               "_tk_array",
-              new Import[] {
-                new Import("_tk_array", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_array",
               })
           .put(
               "isSupplementaryCodePoint",
-              new Import[] {
-                new Import("isSupplementaryCodePoint", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isSupplementaryCodePoint",
               })
           .put(
               "ScheduledExecutorService",
-              new Import[] {
-                new Import("ScheduledExecutorService", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ScheduledExecutorService",
               })
           .put(
               "ImageInputStream",
-              new Import[] {
-                new Import("ImageInputStream", "javax.imageio.stream", false),
+              new String[] {
+                "javax.imageio.stream.ImageInputStream",
               })
           .put(
               "NoSuchFieldError",
-              new Import[] {
-                new Import("NoSuchFieldError", "java.lang", false),
+              new String[] {
+                "java.lang.NoSuchFieldError",
               })
           .put(
               "createTempFile",
-              new Import[] {
-                new Import("createTempFile", "java.io.File", true),
-                new Import("createTempFile", "java.nio.file.Files", true),
+              new String[] {
+                "static java.io.File.createTempFile", "static java.nio.file.Files.createTempFile",
               })
           .put(
               "DiagnosticListener",
-              new Import[] {
-                new Import("DiagnosticListener", "javax.tools", false),
+              new String[] {
+                "javax.tools.DiagnosticListener",
               })
           .put(
               "GraphicAttribute",
-              new Import[] {
-                new Import("GraphicAttribute", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.GraphicAttribute",
               })
           .put(
               "getImageReadersByFormatName",
-              new Import[] {
-                new Import("getImageReadersByFormatName", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getImageReadersByFormatName",
               })
           .put(
               "TypeInfo",
-              new Import[] {
-                new Import("TypeInfo", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.TypeInfo",
               })
           .put(
               "URL_PKG_PREFIXES",
-              new Import[] {
-                new Import("URL_PKG_PREFIXES", "javax.naming.Context", true),
+              new String[] {
+                "static javax.naming.Context.URL_PKG_PREFIXES",
               })
           .put(
               "Area",
-              new Import[] {
-                new Import("Area", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.Area",
               })
           .put(
               "ActionListener",
-              new Import[] {
-                new Import("ActionListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.ActionListener",
               })
           .put(
               "JOB_COMPLETE",
-              new Import[] {
-                new Import("JOB_COMPLETE", "javax.print.event.PrintJobEvent", true),
+              new String[] {
+                "static javax.print.event.PrintJobEvent.JOB_COMPLETE",
               })
           .put(
               "PAINT",
-              new Import[] {
-                new Import("PAINT", "java.awt.event.PaintEvent", true),
+              new String[] {
+                "static java.awt.event.PaintEvent.PAINT",
               })
           .put(
               "ulp",
-              new Import[] {
-                new Import("ulp", "java.lang.Math", true),
-                new Import("ulp", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.ulp", "static java.lang.StrictMath.ulp",
               })
           .put(
               "asLifoQueue",
-              new Import[] {
-                new Import("asLifoQueue", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.asLifoQueue",
               })
           .put(
               "JSplitPane",
-              new Import[] {
-                new Import("JSplitPane", "javax.swing", false),
+              new String[] {
+                "javax.swing.JSplitPane",
               })
           .put(
               "BASIC_ISO_DATE",
-              new Import[] {
-                new Import("BASIC_ISO_DATE", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.BASIC_ISO_DATE",
               })
           .put(
               "HOUR0_FIELD",
-              new Import[] {
-                new Import("HOUR0_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.HOUR0_FIELD",
               })
           .put(
               "JCOMPONENT_UI",
-              new Import[] {
-                new Import("JCOMPONENT_UI", "javax.print.ServiceUIFactory", true),
+              new String[] {
+                "static javax.print.ServiceUIFactory.JCOMPONENT_UI",
               })
           .put(
               "NA_10x14_ENVELOPE",
-              new Import[] {
-                new Import(
-                    "NA_10x14_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.NA.NA_10x14_ENVELOPE",
               })
           .put(
               "CASE_INSENSITIVE_ORDER",
-              new Import[] {
-                new Import("CASE_INSENSITIVE_ORDER", "java.lang.String", true),
+              new String[] {
+                "static java.lang.String.CASE_INSENSITIVE_ORDER",
               })
           .put(
               "RelationServiceNotRegisteredException",
-              new Import[] {
-                new Import(
-                    "RelationServiceNotRegisteredException", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RelationServiceNotRegisteredException",
               })
           .put(
               "Soundbank",
-              new Import[] {
-                new Import("Soundbank", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.Soundbank",
               })
           .put(
               "PolicyFactory",
-              new Import[] {
-                new Import("PolicyFactory", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.PolicyFactory",
               })
           .put(
               "BAMUM",
-              new Import[] {
-                new Import("BAMUM", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.BAMUM",
               })
           .put(
               "isDragImageSupported",
-              new Import[] {
-                new Import("isDragImageSupported", "java.awt.dnd.DragSource", true),
+              new String[] {
+                "static java.awt.dnd.DragSource.isDragImageSupported",
               })
           .put(
               "isVolatile",
-              new Import[] {
-                new Import("isVolatile", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.isVolatile",
               })
           .put(
               "lineLimitAttribute",
-              new Import[] {
-                new Import("lineLimitAttribute", "javax.swing.text.PlainDocument", true),
+              new String[] {
+                "static javax.swing.text.PlainDocument.lineLimitAttribute",
               })
           .put(
               "ServiceConfigurationError",
-              new Import[] {
-                new Import("ServiceConfigurationError", "java.util", false),
+              new String[] {
+                "java.util.ServiceConfigurationError",
               })
           .put(
               "PipedOutputStream",
-              new Import[] {
-                new Import("PipedOutputStream", "java.io", false),
+              new String[] {
+                "java.io.PipedOutputStream",
               })
           .put(
               "createBanded",
-              new Import[] {
-                new Import("createBanded", "javax.imageio.ImageTypeSpecifier", true),
+              new String[] {
+                "static javax.imageio.ImageTypeSpecifier.createBanded",
               })
           .put(
               "INPUT_METHOD_LAST",
-              new Import[] {
-                new Import("INPUT_METHOD_LAST", "java.awt.event.InputMethodEvent", true),
+              new String[] {
+                "static java.awt.event.InputMethodEvent.INPUT_METHOD_LAST",
               })
           .put(
               "registerServiceProvider",
-              new Import[] {
-                new Import("registerServiceProvider", "javax.print.PrintServiceLookup", true),
+              new String[] {
+                "static javax.print.PrintServiceLookup.registerServiceProvider",
               })
           .put(
               "getTie",
-              new Import[] {
-                new Import("getTie", "javax.rmi.CORBA.Util", true),
+              new String[] {
+                "static javax.rmi.CORBA.Util.getTie",
               })
           .put(
               "load",
-              new Import[] {
-                new Import("load", "java.lang.System", true),
-                new Import("load", "java.util.ServiceLoader", true),
+              new String[] {
+                "static java.lang.System.load", "static java.util.ServiceLoader.load",
               })
           .put(
               "GSSException",
-              new Import[] {
-                new Import("GSSException", "org.ietf.jgss", false),
+              new String[] {
+                "org.ietf.jgss.GSSException",
               })
           .put(
               "LSResourceResolver",
-              new Import[] {
-                new Import("LSResourceResolver", "org.w3c.dom.ls", false),
+              new String[] {
+                "org.w3c.dom.ls.LSResourceResolver",
               })
           .put(
               "ImageProducer",
-              new Import[] {
-                new Import("ImageProducer", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.ImageProducer",
               })
           .put(
               "printInteger",
-              new Import[] {
-                new Import("printInteger", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printInteger",
               })
           .put(
               "PBEParameterSpec",
-              new Import[] {
-                new Import("PBEParameterSpec", "javax.crypto.spec", false),
+              new String[] {
+                "javax.crypto.spec.PBEParameterSpec",
               })
           .put(
               "toASCII",
-              new Import[] {
-                new Import("toASCII", "java.net.IDN", true),
+              new String[] {
+                "static java.net.IDN.toASCII",
               })
           .put(
               "EXCLUSIVE",
-              new Import[] {
-                new Import("EXCLUSIVE", "javax.xml.crypto.dsig.CanonicalizationMethod", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.CanonicalizationMethod.EXCLUSIVE",
               })
           .put(
               "FORM",
-              new Import[] {
-                new Import("FORM", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.FORM",
               })
           .put(
               "TYPE_RASTER_SCREEN",
-              new Import[] {
-                new Import("TYPE_RASTER_SCREEN", "java.awt.GraphicsDevice", true),
+              new String[] {
+                "static java.awt.GraphicsDevice.TYPE_RASTER_SCREEN",
               })
           .put(
               "getDefaultFlavorMap",
-              new Import[] {
-                new Import("getDefaultFlavorMap", "java.awt.datatransfer.SystemFlavorMap", true),
+              new String[] {
+                "static java.awt.datatransfer.SystemFlavorMap.getDefaultFlavorMap",
               })
           .put(
               "MultiLabelUI",
-              new Import[] {
-                new Import("MultiLabelUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiLabelUI",
               })
           .put(
               "TEXT_INACTIVE_TEXT",
-              new Import[] {
-                new Import("TEXT_INACTIVE_TEXT", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.TEXT_INACTIVE_TEXT",
               })
           .put(
               "unconfigurableScheduledExecutorService",
-              new Import[] {
-                new Import(
-                    "unconfigurableScheduledExecutorService",
-                    "java.util.concurrent.Executors",
-                    true),
+              new String[] {
+                "static java.util.concurrent.Executors.unconfigurableScheduledExecutorService",
               })
           .put(
               "RMIJRMPServerImpl",
-              new Import[] {
-                new Import("RMIJRMPServerImpl", "javax.management.remote.rmi", false),
+              new String[] {
+                "javax.management.remote.rmi.RMIJRMPServerImpl",
               })
           .put(
               "setSpaceAbove",
-              new Import[] {
-                new Import("setSpaceAbove", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setSpaceAbove",
               })
           .put(
               "REMOVE_ATTRIBUTE",
-              new Import[] {
-                new Import("REMOVE_ATTRIBUTE", "javax.naming.directory.DirContext", true),
+              new String[] {
+                "static javax.naming.directory.DirContext.REMOVE_ATTRIBUTE",
               })
           .put(
               "updateStyles",
-              new Import[] {
-                new Import("updateStyles", "javax.swing.plaf.synth.SynthLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.synth.SynthLookAndFeel.updateStyles",
               })
           .put(
               "DocumentBuilder",
-              new Import[] {
-                new Import("DocumentBuilder", "javax.xml.parsers", false),
+              new String[] {
+                "javax.xml.parsers.DocumentBuilder",
               })
           .put(
               "MetalBorders",
-              new Import[] {
-                new Import("MetalBorders", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalBorders",
               })
           .put(
               "procedureColumnUnknown",
-              new Import[] {
-                new Import("procedureColumnUnknown", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.procedureColumnUnknown",
               })
           .put(
               "VK_ADD",
-              new Import[] {
-                new Import("VK_ADD", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_ADD",
               })
           .put(
               "LONG_DESCRIPTION",
-              new Import[] {
-                new Import("LONG_DESCRIPTION", "javax.swing.Action", true),
+              new String[] {
+                "static javax.swing.Action.LONG_DESCRIPTION",
               })
           .put(
               "ROWID",
-              new Import[] {
-                new Import("ROWID", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.ROWID",
               })
           .put(
               "HOUR_OF_DAY0",
-              new Import[] {
-                new Import("HOUR_OF_DAY0", "java.text.DateFormat.Field", true),
+              new String[] {
+                "static java.text.DateFormat.Field.HOUR_OF_DAY0",
               })
           .put(
               "NClob",
-              new Import[] {
-                new Import("NClob", "java.sql", false),
+              new String[] {
+                "java.sql.NClob",
               })
           .put(
               "unescapeValue",
-              new Import[] {
-                new Import("unescapeValue", "javax.naming.ldap.Rdn", true),
+              new String[] {
+                "static javax.naming.ldap.Rdn.unescapeValue",
               })
           .put(
               "HOUR_OF_DAY1",
-              new Import[] {
-                new Import("HOUR_OF_DAY1", "java.text.DateFormat.Field", true),
+              new String[] {
+                "static java.text.DateFormat.Field.HOUR_OF_DAY1",
               })
           .put(
               "callable",
-              new Import[] {
-                new Import("callable", "java.util.concurrent.Executors", true),
+              new String[] {
+                "static java.util.concurrent.Executors.callable",
               })
           .put(
               "DURATION_DAYTIME",
-              new Import[] {
-                new Import("DURATION_DAYTIME", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.DURATION_DAYTIME",
               })
           .put(
               "lookupProviders",
-              new Import[] {
-                new Import("lookupProviders", "javax.imageio.spi.ServiceRegistry", true),
+              new String[] {
+                "static javax.imageio.spi.ServiceRegistry.lookupProviders",
               })
           .put(
               "ORBIdHelper",
-              new Import[] {
-                new Import("ORBIdHelper", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ORBIdHelper",
               })
           .put(
               "MouseMotionListener",
-              new Import[] {
-                new Import("MouseMotionListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.MouseMotionListener",
               })
           .put(
               "StreamPrintService",
-              new Import[] {
-                new Import("StreamPrintService", "javax.print", false),
+              new String[] {
+                "javax.print.StreamPrintService",
               })
           .put(
               "SoftReference",
-              new Import[] {
-                new Import("SoftReference", "java.lang.ref", false),
+              new String[] {
+                "java.lang.ref.SoftReference",
               })
           .put(
               "AccessibleExtendedTable",
-              new Import[] {
-                new Import("AccessibleExtendedTable", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleExtendedTable",
               })
           .put(
               "HOUR1_FIELD",
-              new Import[] {
-                new Import("HOUR1_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.HOUR1_FIELD",
               })
           .put(
               "XmlNs",
-              new Import[] {
-                new Import("XmlNs", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlNs",
               })
           .put(
               "text",
-              new Import[] {
-                new Import("text", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.text",
               })
           .put(
               "ARABIC_PRESENTATION_FORMS_A",
-              new Import[] {
-                new Import("ARABIC_PRESENTATION_FORMS_A", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ARABIC_PRESENTATION_FORMS_A",
               })
           .put(
               "HAND_CURSOR",
-              new Import[] {
-                new Import("HAND_CURSOR", "java.awt.Cursor", true),
-                new Import("HAND_CURSOR", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Cursor.HAND_CURSOR", "static java.awt.Frame.HAND_CURSOR",
               })
           .put(
               "KeyAgreement",
-              new Import[] {
-                new Import("KeyAgreement", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.KeyAgreement",
               })
           .put(
               "DEFECTIVE_CREDENTIAL",
-              new Import[] {
-                new Import("DEFECTIVE_CREDENTIAL", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.DEFECTIVE_CREDENTIAL",
               })
           .put(
               "Accessible",
-              new Import[] {
-                new Import("Accessible", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.Accessible",
               })
           .put(
               "ROUND_DOWN",
-              new Import[] {
-                new Import("ROUND_DOWN", "java.math.BigDecimal", true),
+              new String[] {
+                "static java.math.BigDecimal.ROUND_DOWN",
               })
           .put(
               "inactiveCaptionText",
-              new Import[] {
-                new Import("inactiveCaptionText", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.inactiveCaptionText",
               })
           .put(
               "ARABIC_PRESENTATION_FORMS_B",
-              new Import[] {
-                new Import("ARABIC_PRESENTATION_FORMS_B", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ARABIC_PRESENTATION_FORMS_B",
               })
           .put(
               "NO_FLUSH",
-              new Import[] {
-                new Import("NO_FLUSH", "java.util.zip.Deflater", true),
+              new String[] {
+                "static java.util.zip.Deflater.NO_FLUSH",
               })
           .put(
               "syncAll",
-              new Import[] {
-                new Import("syncAll", "java.lang.invoke.MutableCallSite", true),
+              new String[] {
+                "static java.lang.invoke.MutableCallSite.syncAll",
               })
           .put(
               "TypeVisitor",
-              new Import[] {
-                new Import("TypeVisitor", "javax.lang.model.type", false),
+              new String[] {
+                "javax.lang.model.type.TypeVisitor",
               })
           .put(
               "INCLUSIVE",
-              new Import[] {
-                new Import("INCLUSIVE", "javax.xml.crypto.dsig.CanonicalizationMethod", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.CanonicalizationMethod.INCLUSIVE",
               })
           .put(
               "JAXBElement",
-              new Import[] {
-                new Import("JAXBElement", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.JAXBElement",
               })
           .put(
               "_dk_all",
-              new Import[] {
-                new Import("_dk_all", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_all",
               })
           .put(
               "CHECK_BOX_MENU_ITEM",
-              new Import[] {
-                new Import("CHECK_BOX_MENU_ITEM", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.CHECK_BOX_MENU_ITEM",
               })
           .put(
               "TitleProperty",
-              new Import[] {
-                new Import("TitleProperty", "javax.swing.text.Document", true),
+              new String[] {
+                "static javax.swing.text.Document.TitleProperty",
               })
           .put(
               "KEY_COLOR_RENDERING",
-              new Import[] {
-                new Import("KEY_COLOR_RENDERING", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.KEY_COLOR_RENDERING",
               })
           .put(
               "TOP",
-              new Import[] {
-                new Import("TOP", "javax.print.attribute.standard.MediaTray", true),
-                new Import("TOP", "javax.swing.JSplitPane", true),
-                new Import("TOP", "javax.swing.SwingConstants", true),
-                new Import("TOP", "javax.swing.border.TitledBorder", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaTray.TOP",
+                "static javax.swing.JSplitPane.TOP",
+                "static javax.swing.SwingConstants.TOP",
+                "static javax.swing.border.TitledBorder.TOP",
               })
           .put(
               "Printable",
-              new Import[] {
-                new Import("Printable", "java.awt.print", false),
+              new String[] {
+                "java.awt.print.Printable",
               })
           .put(
               "TIMEOUT",
-              new Import[] {
-                new Import("TIMEOUT", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.TIMEOUT",
               })
           .put(
               "ofInstant",
-              new Import[] {
-                new Import("ofInstant", "java.time.LocalDateTime", true),
-                new Import("ofInstant", "java.time.OffsetDateTime", true),
-                new Import("ofInstant", "java.time.OffsetTime", true),
-                new Import("ofInstant", "java.time.ZonedDateTime", true),
+              new String[] {
+                "static java.time.LocalDateTime.ofInstant",
+                "static java.time.OffsetDateTime.ofInstant",
+                "static java.time.OffsetTime.ofInstant",
+                "static java.time.ZonedDateTime.ofInstant",
               })
           .put(
               "flashTime",
-              new Import[] {
-                new Import("flashTime", "javax.swing.DebugGraphics", true),
+              new String[] {
+                "static javax.swing.DebugGraphics.flashTime",
               })
           .put(
               "PREVIEW_PANEL_PROPERTY",
-              new Import[] {
-                new Import("PREVIEW_PANEL_PROPERTY", "javax.swing.JColorChooser", true),
+              new String[] {
+                "static javax.swing.JColorChooser.PREVIEW_PANEL_PROPERTY",
               })
           .put(
               "DefinitionKind",
-              new Import[] {
-                new Import("DefinitionKind", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.DefinitionKind",
               })
           .put(
               "importedKeyInitiallyImmediate",
-              new Import[] {
-                new Import("importedKeyInitiallyImmediate", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.importedKeyInitiallyImmediate",
               })
           .put(
               "FRIDAY",
-              new Import[] {
-                new Import("FRIDAY", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.FRIDAY",
               })
           .put(
               "intBitsToFloat",
-              new Import[] {
-                new Import("intBitsToFloat", "java.lang.Float", true),
+              new String[] {
+                "static java.lang.Float.intBitsToFloat",
               })
           .put(
               "CYRILLIC",
-              new Import[] {
-                new Import("CYRILLIC", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CYRILLIC",
               })
           .put(
               "DataBufferInt",
-              new Import[] {
-                new Import("DataBufferInt", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.DataBufferInt",
               })
           .put(
               "ServiceDetail",
-              new Import[] {
-                new Import("ServiceDetail", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ServiceDetail",
               })
           .put(
               "FilteredRowSet",
-              new Import[] {
-                new Import("FilteredRowSet", "javax.sql.rowset", false),
+              new String[] {
+                "javax.sql.rowset.FilteredRowSet",
               })
           .put(
               "stream",
-              new Import[] {
-                new Import("stream", "java.util.Arrays", true),
-                new Import("stream", "java.util.stream.StreamSupport", true),
+              new String[] {
+                "static java.util.Arrays.stream", "static java.util.stream.StreamSupport.stream",
               })
           .put(
               "TEXT_INDENT",
-              new Import[] {
-                new Import("TEXT_INDENT", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.TEXT_INDENT",
               })
           .put(
               "GSSManager",
-              new Import[] {
-                new Import("GSSManager", "org.ietf.jgss", false),
+              new String[] {
+                "org.ietf.jgss.GSSManager",
               })
           .put(
               "AudioFileReader",
-              new Import[] {
-                new Import("AudioFileReader", "javax.sound.sampled.spi", false),
+              new String[] {
+                "javax.sound.sampled.spi.AudioFileReader",
               })
           .put(
               "IMPLEMENTATION_VENDOR",
-              new Import[] {
-                new Import("IMPLEMENTATION_VENDOR", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.IMPLEMENTATION_VENDOR",
               })
           .put(
               "CRLException",
-              new Import[] {
-                new Import("CRLException", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CRLException",
               })
           .put(
               "VK_DEAD_ABOVERING",
-              new Import[] {
-                new Import("VK_DEAD_ABOVERING", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DEAD_ABOVERING",
               })
           .put(
               "BreakIteratorProvider",
-              new Import[] {
-                new Import("BreakIteratorProvider", "java.text.spi", false),
+              new String[] {
+                "java.text.spi.BreakIteratorProvider",
               })
           .put(
               "ProtocolException",
-              new Import[] {
-                new Import("ProtocolException", "java.net", false),
-                new Import("ProtocolException", "javax.xml.ws", false),
+              new String[] {
+                "java.net.ProtocolException", "javax.xml.ws.ProtocolException",
               })
           .put(
               "CollapsedStringAdapter",
-              new Import[] {
-                new Import("CollapsedStringAdapter", "javax.xml.bind.annotation.adapters", false),
+              new String[] {
+                "javax.xml.bind.annotation.adapters.CollapsedStringAdapter",
               })
           .put(
               "PHOENICIAN",
-              new Import[] {
-                new Import("PHOENICIAN", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.PHOENICIAN",
               })
           .put(
               "MouseAdapter",
-              new Import[] {
-                new Import("MouseAdapter", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.MouseAdapter",
               })
           .put(
               "LEAD_SELECTION_PATH_PROPERTY",
-              new Import[] {
-                new Import("LEAD_SELECTION_PATH_PROPERTY", "javax.swing.JTree", true),
+              new String[] {
+                "static javax.swing.JTree.LEAD_SELECTION_PATH_PROPERTY",
               })
           .put(
               "AuthProvider",
-              new Import[] {
-                new Import("AuthProvider", "java.security", false),
+              new String[] {
+                "java.security.AuthProvider",
               })
           .put(
               "SAMPLE_RATE",
-              new Import[] {
-                new Import("SAMPLE_RATE", "javax.sound.sampled.FloatControl.Type", true),
+              new String[] {
+                "static javax.sound.sampled.FloatControl.Type.SAMPLE_RATE",
               })
           .put(
               "JNDI_REBIND_ATTRIBUTE",
-              new Import[] {
-                new Import(
-                    "JNDI_REBIND_ATTRIBUTE",
-                    "javax.management.remote.rmi.RMIConnectorServer",
-                    true),
+              new String[] {
+                "static javax.management.remote.rmi.RMIConnectorServer.JNDI_REBIND_ATTRIBUTE",
               })
           .put(
               "CAPTURING_PHASE",
-              new Import[] {
-                new Import("CAPTURING_PHASE", "org.w3c.dom.events.Event", true),
+              new String[] {
+                "static org.w3c.dom.events.Event.CAPTURING_PHASE",
               })
           .put(
               "BOUND_SERVER_NAME",
-              new Import[] {
-                new Import("BOUND_SERVER_NAME", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.BOUND_SERVER_NAME",
               })
           .put(
               "URLClassLoader",
-              new Import[] {
-                new Import("URLClassLoader", "java.net", false),
+              new String[] {
+                "java.net.URLClassLoader",
               })
           .put(
               "loadClass",
-              new Import[] {
-                new Import("loadClass", "java.rmi.server.RMIClassLoader", true),
-                new Import("loadClass", "javax.management.DefaultLoaderRepository", true),
-                new Import("loadClass", "javax.management.loading.DefaultLoaderRepository", true),
-                new Import("loadClass", "javax.rmi.CORBA.Util", true),
+              new String[] {
+                "static java.rmi.server.RMIClassLoader.loadClass",
+                "static javax.management.DefaultLoaderRepository.loadClass",
+                "static javax.management.loading.DefaultLoaderRepository.loadClass",
+                "static javax.rmi.CORBA.Util.loadClass",
               })
           .put(
               "parameterNoNulls",
-              new Import[] {
-                new Import("parameterNoNulls", "java.sql.ParameterMetaData", true),
+              new String[] {
+                "static java.sql.ParameterMetaData.parameterNoNulls",
               })
           .put(
               "CPE",
-              new Import[] {
-                new Import("CPE", "javax.naming.spi.NamingManager", true),
+              new String[] {
+                "static javax.naming.spi.NamingManager.CPE",
               })
           .put(
               "SwingWorker",
-              new Import[] {
-                new Import("SwingWorker", "javax.swing", false),
+              new String[] {
+                "javax.swing.SwingWorker",
               })
           .put(
               "LineMetrics",
-              new Import[] {
-                new Import("LineMetrics", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.LineMetrics",
               })
           .put(
               "getBorder",
-              new Import[] {
-                new Import("getBorder", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.getBorder",
               })
           .put(
               "CHANNEL_PRESSURE",
-              new Import[] {
-                new Import("CHANNEL_PRESSURE", "javax.sound.midi.ShortMessage", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.CHANNEL_PRESSURE",
               })
           .put(
               "TC_EXCEPTION",
-              new Import[] {
-                new Import("TC_EXCEPTION", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_EXCEPTION",
               })
           .put(
               "newInputStream",
-              new Import[] {
-                new Import("newInputStream", "java.nio.channels.Channels", true),
-                new Import("newInputStream", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.channels.Channels.newInputStream",
+                "static java.nio.file.Files.newInputStream",
               })
           .put(
               "not_object",
-              new Import[] {
-                new Import(
-                    "not_object", "org.omg.CosNaming.NamingContextPackage.NotFoundReason", true),
+              new String[] {
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundReason.not_object",
               })
           .put(
               "tk_enum",
-              new Import[] {
-                new Import("tk_enum", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_enum",
               })
           .put(
               "Void",
-              new Import[] {
-                new Import("Void", "java.lang", false),
+              new String[] {
+                "java.lang.Void",
               })
           .put(
               "SocketAddress",
-              new Import[] {
-                new Import("SocketAddress", "java.net", false),
+              new String[] {
+                "java.net.SocketAddress",
               })
           .put(
               "LookAndFeelInfo",
-              new Import[] {
-                new Import("LookAndFeelInfo", "javax.swing.UIManager", false),
+              new String[] {
+                "javax.swing.UIManager.LookAndFeelInfo",
               })
           .put(
               "Box",
-              new Import[] {
-                new Import("Box", "javax.swing", false),
+              new String[] {
+                "javax.swing.Box",
               })
           .put(
               "PlainDocument",
-              new Import[] {
-                new Import("PlainDocument", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.PlainDocument",
               })
           .put(
               "separator",
-              new Import[] {
-                new Import("separator", "java.io.File", true),
+              new String[] {
+                "static java.io.File.separator",
               })
           .put(
               "tabSizeAttribute",
-              new Import[] {
-                new Import("tabSizeAttribute", "javax.swing.text.PlainDocument", true),
+              new String[] {
+                "static javax.swing.text.PlainDocument.tabSizeAttribute",
               })
           .put(
               "getForeground",
-              new Import[] {
-                new Import("getForeground", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.getForeground",
               })
           .put(
               "CaretListener",
-              new Import[] {
-                new Import("CaretListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.CaretListener",
               })
           .put(
               "createBlackLineBorder",
-              new Import[] {
-                new Import("createBlackLineBorder", "javax.swing.border.LineBorder", true),
+              new String[] {
+                "static javax.swing.border.LineBorder.createBlackLineBorder",
               })
           .put(
               "OpenMBeanConstructorInfoSupport",
-              new Import[] {
-                new Import("OpenMBeanConstructorInfoSupport", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.OpenMBeanConstructorInfoSupport",
               })
           .put(
               "Collection",
-              new Import[] {
-                new Import("Collection", "java.util", false),
+              new String[] {
+                "java.util.Collection",
               })
           .put(
               "ToIntFunction",
-              new Import[] {
-                new Import("ToIntFunction", "java.util.function", false),
+              new String[] {
+                "java.util.function.ToIntFunction",
               })
           .put(
               "THAI",
-              new Import[] {
-                new Import("THAI", "java.awt.font.NumericShaper", true),
-                new Import("THAI", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.THAI",
+                "static java.lang.Character.UnicodeBlock.THAI",
               })
           .put(
               "CRL",
-              new Import[] {
-                new Import("CRL", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CRL",
               })
           .put(
               "loadKeyBindings",
-              new Import[] {
-                new Import("loadKeyBindings", "javax.swing.LookAndFeel", true),
+              new String[] {
+                "static javax.swing.LookAndFeel.loadKeyBindings",
               })
           .put(
               "RANGE",
-              new Import[] {
-                new Import("RANGE", "java.awt.JobAttributes.DefaultSelectionType", true),
+              new String[] {
+                "static java.awt.JobAttributes.DefaultSelectionType.RANGE",
               })
           .put(
               "PLUS",
-              new Import[] {
-                new Import("PLUS", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.PLUS",
               })
           .put(
               "NO_LOCATION",
-              new Import[] {
-                new Import("NO_LOCATION", "javax.xml.bind.annotation.XmlSchema", true),
+              new String[] {
+                "static javax.xml.bind.annotation.XmlSchema.NO_LOCATION",
               })
           .put(
               "SCROLL_LINE_DOWN",
-              new Import[] {
-                new Import("SCROLL_LINE_DOWN", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.SCROLL_LINE_DOWN",
               })
           .put(
               "HEAD",
-              new Import[] {
-                new Import("HEAD", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.HEAD",
               })
           .put(
               "ObjectInputValidation",
-              new Import[] {
-                new Import("ObjectInputValidation", "java.io", false),
+              new String[] {
+                "java.io.ObjectInputValidation",
               })
           .put(
               "STORED",
-              new Import[] {
-                new Import("STORED", "java.util.zip.ZipEntry", true),
-                new Import("STORED", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.zip.ZipEntry.STORED",
+                "static java.util.zip.ZipOutputStream.STORED",
               })
           .put(
               "Src",
-              new Import[] {
-                new Import("Src", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.Src",
               })
           .put(
               "isISOControl",
-              new Import[] {
-                new Import("isISOControl", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isISOControl",
               })
           .put(
               "VK_DEAD_MACRON",
-              new Import[] {
-                new Import("VK_DEAD_MACRON", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DEAD_MACRON",
               })
           .put(
               "DIRECTIONALITY_ARABIC_NUMBER",
-              new Import[] {
-                new Import("DIRECTIONALITY_ARABIC_NUMBER", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_ARABIC_NUMBER",
               })
           .put(
               "ObjectAlreadyActiveHelper",
-              new Import[] {
-                new Import("ObjectAlreadyActiveHelper", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper",
               })
           .put(
               "PolicyErrorCodeHelper",
-              new Import[] {
-                new Import("PolicyErrorCodeHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.PolicyErrorCodeHelper",
               })
           .put(
               "Clear",
-              new Import[] {
-                new Import("Clear", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.Clear",
               })
           .put(
               "IMPLICIT_ACTIVATION_POLICY_ID",
-              new Import[] {
-                new Import("IMPLICIT_ACTIVATION_POLICY_ID", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.IMPLICIT_ACTIVATION_POLICY_ID",
               })
           .put(
               "SynthUI",
-              new Import[] {
-                new Import("SynthUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthUI",
               })
           .put(
               "FINAL_QUOTE_PUNCTUATION",
-              new Import[] {
-                new Import("FINAL_QUOTE_PUNCTUATION", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.FINAL_QUOTE_PUNCTUATION",
               })
           .put(
               "ThaiBuddhistChronology",
-              new Import[] {
-                new Import("ThaiBuddhistChronology", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.ThaiBuddhistChronology",
               })
           .put(
               "WriteAbortedException",
-              new Import[] {
-                new Import("WriteAbortedException", "java.io", false),
+              new String[] {
+                "java.io.WriteAbortedException",
               })
           .put(
               "PrinterInfo",
-              new Import[] {
-                new Import("PrinterInfo", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PrinterInfo",
               })
           .put(
               "CLASS_COLORSPACECONVERSION",
-              new Import[] {
-                new Import("CLASS_COLORSPACECONVERSION", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.CLASS_COLORSPACECONVERSION",
               })
           .put(
               "ConnectException",
-              new Import[] {
-                new Import("ConnectException", "java.net", false),
-                new Import("ConnectException", "java.rmi", false),
+              new String[] {
+                "java.net.ConnectException", "java.rmi.ConnectException",
               })
           .put(
               "MTOM",
-              new Import[] {
-                new Import("MTOM", "javax.xml.ws.soap", false),
+              new String[] {
+                "javax.xml.ws.soap.MTOM",
               })
           .put(
               "CSS",
-              new Import[] {
-                new Import("CSS", "javax.swing.text.html", false),
+              new String[] {
+                "javax.swing.text.html.CSS",
               })
           .put(
               "BeanContextProxy",
-              new Import[] {
-                new Import("BeanContextProxy", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextProxy",
               })
           .put(
               "COMPLETED_NO",
-              new Import[] {
-                new Import("COMPLETED_NO", "org.omg.CORBA.CompletionStatus", true),
+              new String[] {
+                "static org.omg.CORBA.CompletionStatus.COMPLETED_NO",
               })
           .put(
               "KANNADA",
-              new Import[] {
-                new Import("KANNADA", "java.awt.font.NumericShaper", true),
-                new Import("KANNADA", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.KANNADA",
+                "static java.lang.Character.UnicodeBlock.KANNADA",
               })
           .put(
               "XPATH2",
-              new Import[] {
-                new Import("XPATH2", "javax.xml.crypto.dsig.Transform", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.Transform.XPATH2",
               })
           .put(
               "XPathFunction",
-              new Import[] {
-                new Import("XPathFunction", "javax.xml.xpath", false),
+              new String[] {
+                "javax.xml.xpath.XPathFunction",
               })
           .put(
               "insertArguments",
-              new Import[] {
-                new Import("insertArguments", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.insertArguments",
               })
           .put(
               "TransferSupport",
-              new Import[] {
-                new Import("TransferSupport", "javax.swing.TransferHandler", false),
+              new String[] {
+                "javax.swing.TransferHandler.TransferSupport",
               })
           .put(
               "getAvailableChronologies",
-              new Import[] {
-                new Import("getAvailableChronologies", "java.time.chrono.Chronology", true),
+              new String[] {
+                "static java.time.chrono.Chronology.getAvailableChronologies",
               })
           .put(
               "JToolBar",
-              new Import[] {
-                new Import("JToolBar", "javax.swing", false),
+              new String[] {
+                "javax.swing.JToolBar",
               })
           .put(
               "MIN_VALUE",
-              new Import[] {
-                new Import("MIN_VALUE", "java.lang.Byte", true),
-                new Import("MIN_VALUE", "java.lang.Character", true),
-                new Import("MIN_VALUE", "java.lang.Double", true),
-                new Import("MIN_VALUE", "java.lang.Float", true),
-                new Import("MIN_VALUE", "java.lang.Integer", true),
-                new Import("MIN_VALUE", "java.lang.Long", true),
-                new Import("MIN_VALUE", "java.lang.Short", true),
-                new Import("MIN_VALUE", "java.time.Year", true),
+              new String[] {
+                "static java.lang.Byte.MIN_VALUE",
+                "static java.lang.Character.MIN_VALUE",
+                "static java.lang.Double.MIN_VALUE",
+                "static java.lang.Float.MIN_VALUE",
+                "static java.lang.Integer.MIN_VALUE",
+                "static java.lang.Long.MIN_VALUE",
+                "static java.lang.Short.MIN_VALUE",
+                "static java.time.Year.MIN_VALUE",
               })
           .put(
               "isSubscript",
-              new Import[] {
-                new Import("isSubscript", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.isSubscript",
               })
           .put(
               "getTag",
-              new Import[] {
-                new Import("getTag", "javax.swing.text.html.HTML", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.getTag",
               })
           .put(
               "COMBINING_MARKS_FOR_SYMBOLS",
-              new Import[] {
-                new Import("COMBINING_MARKS_FOR_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.COMBINING_MARKS_FOR_SYMBOLS",
               })
           .put(
               "MetalSliderUI",
-              new Import[] {
-                new Import("MetalSliderUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalSliderUI",
               })
           .put(
               "LINE_OUT",
-              new Import[] {
-                new Import("LINE_OUT", "javax.sound.sampled.Port.Info", true),
+              new String[] {
+                "static javax.sound.sampled.Port.Info.LINE_OUT",
               })
           .put(
               "SocketOption",
-              new Import[] {
-                new Import("SocketOption", "java.net", false),
+              new String[] {
+                "java.net.SocketOption",
               })
           .put(
               "ServiceDelegate",
-              new Import[] {
-                new Import("ServiceDelegate", "javax.xml.ws.spi", false),
+              new String[] {
+                "javax.xml.ws.spi.ServiceDelegate",
               })
           .put(
               "Track",
-              new Import[] {
-                new Import("Track", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.Track",
               })
           .build();
 }
@@ -2,1598 +2,1569 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk20 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "ContainerOrderFocusTraversalPolicy",
-              new Import[] {
-                new Import("ContainerOrderFocusTraversalPolicy", "java.awt", false),
+              new String[] {
+                "java.awt.ContainerOrderFocusTraversalPolicy",
               })
           .put(
               "USE_SERVANT_MANAGER",
-              new Import[] {
-                new Import(
-                    "USE_SERVANT_MANAGER",
-                    "org.omg.PortableServer.RequestProcessingPolicyValue",
-                    true),
+              new String[] {
+                "static org.omg.PortableServer.RequestProcessingPolicyValue.USE_SERVANT_MANAGER",
               })
           .put(
               "ScheduledThreadPoolExecutor",
-              new Import[] {
-                new Import("ScheduledThreadPoolExecutor", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ScheduledThreadPoolExecutor",
               })
           .put(
               "BeanInfo",
-              new Import[] {
-                new Import("BeanInfo", "java.beans", false),
+              new String[] {
+                "java.beans.BeanInfo",
               })
           .put(
               "InitParam",
-              new Import[] {
-                new Import("InitParam", "javax.jws.soap", false),
+              new String[] {
+                "javax.jws.soap.InitParam",
               })
           .put(
               "rint",
-              new Import[] {
-                new Import("rint", "java.lang.Math", true),
-                new Import("rint", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.rint", "static java.lang.StrictMath.rint",
               })
           .put(
               "FloatHolder",
-              new Import[] {
-                new Import("FloatHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.FloatHolder",
               })
           .put(
               "GROUP_BOX",
-              new Import[] {
-                new Import("GROUP_BOX", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.GROUP_BOX",
               })
           .put(
               "FontConstants",
-              new Import[] {
-                new Import("FontConstants", "javax.swing.text.StyleConstants", false),
+              new String[] {
+                "javax.swing.text.StyleConstants.FontConstants",
               })
           .put(
               "verifyAttributeValue",
-              new Import[] {
-                new Import(
-                    "verifyAttributeValue", "javax.print.attribute.AttributeSetUtilities", true),
+              new String[] {
+                "static javax.print.attribute.AttributeSetUtilities.verifyAttributeValue",
               })
           .put(
               "createDashedBorder",
-              new Import[] {
-                new Import("createDashedBorder", "javax.swing.BorderFactory", true),
+              new String[] {
+                "static javax.swing.BorderFactory.createDashedBorder",
               })
           .put(
               "MULTIPLE_INTERVAL_SELECTION",
-              new Import[] {
-                new Import("MULTIPLE_INTERVAL_SELECTION", "javax.swing.ListSelectionModel", true),
+              new String[] {
+                "static javax.swing.ListSelectionModel.MULTIPLE_INTERVAL_SELECTION",
               })
           .put(
               "SE_RESIZE_CURSOR",
-              new Import[] {
-                new Import("SE_RESIZE_CURSOR", "java.awt.Cursor", true),
-                new Import("SE_RESIZE_CURSOR", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Cursor.SE_RESIZE_CURSOR", "static java.awt.Frame.SE_RESIZE_CURSOR",
               })
           .put(
               "TAG_AVAR",
-              new Import[] {
-                new Import("TAG_AVAR", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_AVAR",
               })
           .put(
               "getMediaSizeForName",
-              new Import[] {
-                new Import("getMediaSizeForName", "javax.print.attribute.standard.MediaSize", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.getMediaSizeForName",
               })
           .put(
               "Endpoint",
-              new Import[] {
-                new Import("Endpoint", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.Endpoint",
               })
           .put(
               "POAManager",
-              new Import[] {
-                new Import("POAManager", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.POAManager",
               })
           .put(
               "ThreadLocal",
-              new Import[] {
-                new Import("ThreadLocal", "java.lang", false),
+              new String[] {
+                "java.lang.ThreadLocal",
               })
           .put(
               "deepHashCode",
-              new Import[] {
-                new Import("deepHashCode", "java.util.Arrays", true),
+              new String[] {
+                "static java.util.Arrays.deepHashCode",
               })
           .put(
               "RunnableFuture",
-              new Import[] {
-                new Import("RunnableFuture", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.RunnableFuture",
               })
           .put(
               "JMXConnectionNotification",
-              new Import[] {
-                new Import("JMXConnectionNotification", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.JMXConnectionNotification",
               })
           .put(
               "disableSwingFocusManager",
-              new Import[] {
-                new Import("disableSwingFocusManager", "javax.swing.FocusManager", true),
+              new String[] {
+                "static javax.swing.FocusManager.disableSwingFocusManager",
               })
           .put(
               "tk_double",
-              new Import[] {
-                new Import("tk_double", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_double",
               })
           .put(
               "MOUSE_EXIT",
-              new Import[] {
-                new Import("MOUSE_EXIT", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.MOUSE_EXIT",
               })
           .put(
               "IdAssignmentPolicyOperations",
-              new Import[] {
-                new Import("IdAssignmentPolicyOperations", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.IdAssignmentPolicyOperations",
               })
           .put(
               "IS_REPLACING_ENTITY_REFERENCES",
-              new Import[] {
-                new Import(
-                    "IS_REPLACING_ENTITY_REFERENCES", "javax.xml.stream.XMLInputFactory", true),
+              new String[] {
+                "static javax.xml.stream.XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES",
               })
           .put(
               "MINUTE_FIELD",
-              new Import[] {
-                new Import("MINUTE_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.MINUTE_FIELD",
               })
           .put(
               "Instant",
-              new Import[] {
-                new Import("Instant", "java.time", false),
+              new String[] {
+                "java.time.Instant",
               })
           .put(
               "windowForComponent",
-              new Import[] {
-                new Import("windowForComponent", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.windowForComponent",
               })
           .put(
               "WritableByteChannel",
-              new Import[] {
-                new Import("WritableByteChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.WritableByteChannel",
               })
           .put(
               "JapaneseChronology",
-              new Import[] {
-                new Import("JapaneseChronology", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.JapaneseChronology",
               })
           .put(
               "VERTICAL_SCROLLBAR",
-              new Import[] {
-                new Import("VERTICAL_SCROLLBAR", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.VERTICAL_SCROLLBAR",
               })
           .put(
               "MIN",
-              new Import[] {
-                new Import("MIN", "java.time.Instant", true),
-                new Import("MIN", "java.time.LocalDate", true),
-                new Import("MIN", "java.time.LocalDateTime", true),
-                new Import("MIN", "java.time.LocalTime", true),
-                new Import("MIN", "java.time.OffsetDateTime", true),
-                new Import("MIN", "java.time.OffsetTime", true),
-                new Import("MIN", "java.time.ZoneOffset", true),
+              new String[] {
+                "static java.time.Instant.MIN",
+                "static java.time.LocalDate.MIN",
+                "static java.time.LocalDateTime.MIN",
+                "static java.time.LocalTime.MIN",
+                "static java.time.OffsetDateTime.MIN",
+                "static java.time.OffsetTime.MIN",
+                "static java.time.ZoneOffset.MIN",
               })
           .put(
               "UNICODE_CASE",
-              new Import[] {
-                new Import("UNICODE_CASE", "java.util.regex.Pattern", true),
+              new String[] {
+                "static java.util.regex.Pattern.UNICODE_CASE",
               })
           .put(
               "addExact",
-              new Import[] {
-                new Import("addExact", "java.lang.Math", true),
-                new Import("addExact", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.addExact", "static java.lang.StrictMath.addExact",
               })
           .put(
               "OVERFLOW",
-              new Import[] {
-                new Import("OVERFLOW", "java.nio.charset.CoderResult", true),
-                new Import("OVERFLOW", "java.nio.file.StandardWatchEventKinds", true),
+              new String[] {
+                "static java.nio.charset.CoderResult.OVERFLOW",
+                "static java.nio.file.StandardWatchEventKinds.OVERFLOW",
               })
           .put(
               "SNIHostName",
-              new Import[] {
-                new Import("SNIHostName", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SNIHostName",
               })
           .put(
               "IS_ICON_PROPERTY",
-              new Import[] {
-                new Import("IS_ICON_PROPERTY", "javax.swing.JInternalFrame", true),
+              new String[] {
+                "static javax.swing.JInternalFrame.IS_ICON_PROPERTY",
               })
           .put(
               "PHONETIC_EXTENSIONS_SUPPLEMENT",
-              new Import[] {
-                new Import(
-                    "PHONETIC_EXTENSIONS_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.PHONETIC_EXTENSIONS_SUPPLEMENT",
               })
           .put(
               "DATASOURCE_DB_LOCK",
-              new Import[] {
-                new Import("DATASOURCE_DB_LOCK", "javax.sql.rowset.spi.SyncProvider", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncProvider.DATASOURCE_DB_LOCK",
               })
           .put(
               "InsertTabAction",
-              new Import[] {
-                new Import("InsertTabAction", "javax.swing.text.DefaultEditorKit", false),
+              new String[] {
+                "javax.swing.text.DefaultEditorKit.InsertTabAction",
               })
           .put(
               "BevelBorder",
-              new Import[] {
-                new Import("BevelBorder", "javax.swing.border", false),
+              new String[] {
+                "javax.swing.border.BevelBorder",
               })
           .put(
               "COMPONENT_HIDDEN",
-              new Import[] {
-                new Import("COMPONENT_HIDDEN", "java.awt.event.ComponentEvent", true),
+              new String[] {
+                "static java.awt.event.ComponentEvent.COMPONENT_HIDDEN",
               })
           .put(
               "VK_CAPS_LOCK",
-              new Import[] {
-                new Import("VK_CAPS_LOCK", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_CAPS_LOCK",
               })
           .put(
               "SynthCheckBoxUI",
-              new Import[] {
-                new Import("SynthCheckBoxUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthCheckBoxUI",
               })
           .put(
               "LinkedTransferQueue",
-              new Import[] {
-                new Import("LinkedTransferQueue", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.LinkedTransferQueue",
               })
           .put(
               "INVOCATION_LAST",
-              new Import[] {
-                new Import("INVOCATION_LAST", "java.awt.event.InvocationEvent", true),
+              new String[] {
+                "static java.awt.event.InvocationEvent.INVOCATION_LAST",
               })
           .put(
               "DefaultTableCellRenderer",
-              new Import[] {
-                new Import("DefaultTableCellRenderer", "javax.swing.table", false),
+              new String[] {
+                "javax.swing.table.DefaultTableCellRenderer",
               })
           .put(
               "DISCARDING",
-              new Import[] {
-                new Import("DISCARDING", "org.omg.PortableInterceptor", false),
-                new Import("DISCARDING", "org.omg.PortableServer.POAManagerPackage.State", true),
+              new String[] {
+                "org.omg.PortableInterceptor.DISCARDING",
+                "static org.omg.PortableServer.POAManagerPackage.State.DISCARDING",
               })
           .put(
               "INTERNAL_FRAME",
-              new Import[] {
-                new Import("INTERNAL_FRAME", "javax.accessibility.AccessibleRole", true),
-                new Import("INTERNAL_FRAME", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.INTERNAL_FRAME",
+                "static javax.swing.plaf.synth.Region.INTERNAL_FRAME",
               })
           .put(
               "setSystem",
-              new Import[] {
-                new Import("setSystem", "java.rmi.activation.ActivationGroup", true),
+              new String[] {
+                "static java.rmi.activation.ActivationGroup.setSystem",
               })
           .put(
               "UNICODE_LOCALE_EXTENSION",
-              new Import[] {
-                new Import("UNICODE_LOCALE_EXTENSION", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.UNICODE_LOCALE_EXTENSION",
               })
           .put(
               "typesIn",
-              new Import[] {
-                new Import("typesIn", "javax.lang.model.util.ElementFilter", true),
+              new String[] {
+                "static javax.lang.model.util.ElementFilter.typesIn",
               })
           .put(
               "CoderMalfunctionError",
-              new Import[] {
-                new Import("CoderMalfunctionError", "java.nio.charset", false),
+              new String[] {
+                "java.nio.charset.CoderMalfunctionError",
               })
           .put(
               "activeCount",
-              new Import[] {
-                new Import("activeCount", "java.lang.Thread", true),
+              new String[] {
+                "static java.lang.Thread.activeCount",
               })
           .put(
               "SUPPLEMENTARY_PRIVATE_USE_AREA_B",
-              new Import[] {
-                new Import(
-                    "SUPPLEMENTARY_PRIVATE_USE_AREA_B", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SUPPLEMENTARY_PRIVATE_USE_AREA_B",
               })
           .put(
               "InvalidMidiDataException",
-              new Import[] {
-                new Import("InvalidMidiDataException", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.InvalidMidiDataException",
               })
           .put(
               "_COMPLETED_NO",
-              new Import[] {
-                new Import("_COMPLETED_NO", "org.omg.CORBA.CompletionStatus", true),
+              new String[] {
+                "static org.omg.CORBA.CompletionStatus._COMPLETED_NO",
               })
           .put(
               "FLAG_HAS_POSITION_ADJUSTMENTS",
-              new Import[] {
-                new Import("FLAG_HAS_POSITION_ADJUSTMENTS", "java.awt.font.GlyphVector", true),
+              new String[] {
+                "static java.awt.font.GlyphVector.FLAG_HAS_POSITION_ADJUSTMENTS",
               })
           .put(
               "SerialDatalink",
-              new Import[] {
-                new Import("SerialDatalink", "javax.sql.rowset.serial", false),
+              new String[] {
+                "javax.sql.rowset.serial.SerialDatalink",
               })
           .put(
               "MIN_SCROLL",
-              new Import[] {
-                new Import("MIN_SCROLL", "javax.swing.plaf.basic.BasicSliderUI", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicSliderUI.MIN_SCROLL",
               })
           .put(
               "SUPPLEMENTARY_PRIVATE_USE_AREA_A",
-              new Import[] {
-                new Import(
-                    "SUPPLEMENTARY_PRIVATE_USE_AREA_A", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SUPPLEMENTARY_PRIVATE_USE_AREA_A",
               })
           .put(
               "LocalObject",
-              new Import[] {
-                new Import("LocalObject", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.LocalObject",
               })
           .put(
               "ISO_OFFSET_DATE_TIME",
-              new Import[] {
-                new Import("ISO_OFFSET_DATE_TIME", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME",
               })
           .put(
               "nextDouble",
-              new Import[] {
-                new Import("nextDouble", "java.text.ChoiceFormat", true),
+              new String[] {
+                "static java.text.ChoiceFormat.nextDouble",
               })
           .put(
               "TRUNCATED",
-              new Import[] {
-                new Import("TRUNCATED", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.TRUNCATED",
               })
           .put(
               "previousWordAction",
-              new Import[] {
-                new Import("previousWordAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.previousWordAction",
               })
           .put(
               "SectionElementName",
-              new Import[] {
-                new Import("SectionElementName", "javax.swing.text.AbstractDocument", true),
+              new String[] {
+                "static javax.swing.text.AbstractDocument.SectionElementName",
               })
           .put(
               "TRANSACTION_READ_UNCOMMITTED",
-              new Import[] {
-                new Import("TRANSACTION_READ_UNCOMMITTED", "java.sql.Connection", true),
+              new String[] {
+                "static java.sql.Connection.TRANSACTION_READ_UNCOMMITTED",
               })
           .put(
               "Cipher",
-              new Import[] {
-                new Import("Cipher", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.Cipher",
               })
           .put(
               "UndoableEditSupport",
-              new Import[] {
-                new Import("UndoableEditSupport", "javax.swing.undo", false),
+              new String[] {
+                "javax.swing.undo.UndoableEditSupport",
               })
           .put(
               "BAD_OPERATION",
-              new Import[] {
-                new Import("BAD_OPERATION", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.BAD_OPERATION",
               })
           .put(
               "WARNING_DIALOG",
-              new Import[] {
-                new Import("WARNING_DIALOG", "javax.swing.JRootPane", true),
+              new String[] {
+                "static javax.swing.JRootPane.WARNING_DIALOG",
               })
           .put(
               "TRADITIONAL_HANZI",
-              new Import[] {
-                new Import("TRADITIONAL_HANZI", "java.awt.im.InputSubset", true),
+              new String[] {
+                "static java.awt.im.InputSubset.TRADITIONAL_HANZI",
               })
           .put(
               "lookupAny",
-              new Import[] {
-                new Import("lookupAny", "java.io.ObjectStreamClass", true),
+              new String[] {
+                "static java.io.ObjectStreamClass.lookupAny",
               })
           .put(
               "ClassFormatError",
-              new Import[] {
-                new Import("ClassFormatError", "java.lang", false),
+              new String[] {
+                "java.lang.ClassFormatError",
               })
           .put(
               "ROLLOVER_ENABLED_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("ROLLOVER_ENABLED_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.ROLLOVER_ENABLED_CHANGED_PROPERTY",
               })
           .put(
               "OpenMBeanInfoSupport",
-              new Import[] {
-                new Import("OpenMBeanInfoSupport", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.OpenMBeanInfoSupport",
               })
           .put(
               "FolderIcon16",
-              new Import[] {
-                new Import("FolderIcon16", "javax.swing.plaf.metal.MetalIconFactory", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalIconFactory.FolderIcon16",
               })
           .put(
               "getTargetFormats",
-              new Import[] {
-                new Import("getTargetFormats", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.sampled.AudioSystem.getTargetFormats",
               })
           .put(
               "NARROW_STANDALONE",
-              new Import[] {
-                new Import("NARROW_STANDALONE", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.NARROW_STANDALONE",
               })
           .put(
               "SynthStyle",
-              new Import[] {
-                new Import("SynthStyle", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthStyle",
               })
           .put(
               "showInputDialog",
-              new Import[] {
-                new Import("showInputDialog", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.showInputDialog",
               })
           .put(
               "SSLContextSpi",
-              new Import[] {
-                new Import("SSLContextSpi", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLContextSpi",
               })
           .put(
               "UndeclaredThrowableException",
-              new Import[] {
-                new Import("UndeclaredThrowableException", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.UndeclaredThrowableException",
               })
           .put(
               "StreamHandler",
-              new Import[] {
-                new Import("StreamHandler", "java.util.logging", false),
+              new String[] {
+                "java.util.logging.StreamHandler",
               })
           .put(
               "URI_SOAP_1_2_ROLE_NONE",
-              new Import[] {
-                new Import("URI_SOAP_1_2_ROLE_NONE", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.URI_SOAP_1_2_ROLE_NONE",
               })
           .put(
               "defaultForkJoinWorkerThreadFactory",
-              new Import[] {
-                new Import(
-                    "defaultForkJoinWorkerThreadFactory",
-                    "java.util.concurrent.ForkJoinPool",
-                    true),
+              new String[] {
+                "static java.util.concurrent.ForkJoinPool.defaultForkJoinWorkerThreadFactory",
               })
           .put(
               "BasicScrollBarUI",
-              new Import[] {
-                new Import("BasicScrollBarUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicScrollBarUI",
               })
           .put(
               "Guard",
-              new Import[] {
-                new Import("Guard", "java.security", false),
+              new String[] {
+                "java.security.Guard",
               })
           .put(
               "icHdrDeviceClass",
-              new Import[] {
-                new Import("icHdrDeviceClass", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrDeviceClass",
               })
           .put(
               "ClassNotFoundException",
-              new Import[] {
-                new Import("ClassNotFoundException", "java.lang", false),
+              new String[] {
+                "java.lang.ClassNotFoundException",
               })
           .put(
               "AccountLockedException",
-              new Import[] {
-                new Import("AccountLockedException", "javax.security.auth.login", false),
+              new String[] {
+                "javax.security.auth.login.AccountLockedException",
               })
           .put(
               "newMBeanProxy",
-              new Import[] {
-                new Import("newMBeanProxy", "javax.management.JMX", true),
+              new String[] {
+                "static javax.management.JMX.newMBeanProxy",
               })
           .put(
               "ServerSocketFactory",
-              new Import[] {
-                new Import("ServerSocketFactory", "javax.net", false),
+              new String[] {
+                "javax.net.ServerSocketFactory",
               })
           .put(
               "icCurveData",
-              new Import[] {
-                new Import("icCurveData", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icCurveData",
               })
           .put(
               "TRAILING",
-              new Import[] {
-                new Import("TRAILING", "java.awt.FlowLayout", true),
-                new Import("TRAILING", "javax.swing.SwingConstants", true),
-                new Import("TRAILING", "javax.swing.border.TitledBorder", true),
+              new String[] {
+                "static java.awt.FlowLayout.TRAILING",
+                "static javax.swing.SwingConstants.TRAILING",
+                "static javax.swing.border.TitledBorder.TRAILING",
               })
           .put(
               "XMLEventAllocator",
-              new Import[] {
-                new Import("XMLEventAllocator", "javax.xml.stream.util", false),
+              new String[] {
+                "javax.xml.stream.util.XMLEventAllocator",
               })
           .put(
               "MLet",
-              new Import[] {
-                new Import("MLet", "javax.management.loading", false),
+              new String[] {
+                "javax.management.loading.MLet",
               })
           .put(
               "InvalidTargetObjectTypeException",
-              new Import[] {
-                new Import(
-                    "InvalidTargetObjectTypeException", "javax.management.modelmbean", false),
+              new String[] {
+                "javax.management.modelmbean.InvalidTargetObjectTypeException",
               })
           .put(
               "PAINT_FIRST",
-              new Import[] {
-                new Import("PAINT_FIRST", "java.awt.event.PaintEvent", true),
+              new String[] {
+                "static java.awt.event.PaintEvent.PAINT_FIRST",
               })
           .put(
               "CyclicBarrier",
-              new Import[] {
-                new Import("CyclicBarrier", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.CyclicBarrier",
               })
           .put(
               "EndpointReference",
-              new Import[] {
-                new Import("EndpointReference", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.EndpointReference",
               })
           .put(
               "StateEditable",
-              new Import[] {
-                new Import("StateEditable", "javax.swing.undo", false),
+              new String[] {
+                "javax.swing.undo.StateEditable",
               })
           .put(
               "type2name",
-              new Import[] {
-                new Import("type2name", "javax.swing.text.html.parser.AttributeList", true),
+              new String[] {
+                "static javax.swing.text.html.parser.AttributeList.type2name",
               })
           .put(
               "VK_INVERTED_EXCLAMATION_MARK",
-              new Import[] {
-                new Import("VK_INVERTED_EXCLAMATION_MARK", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_INVERTED_EXCLAMATION_MARK",
               })
           .put(
               "JTable",
-              new Import[] {
-                new Import("JTable", "javax.swing", false),
+              new String[] {
+                "javax.swing.JTable",
               })
           .put(
               "GSSContext",
-              new Import[] {
-                new Import("GSSContext", "org.ietf.jgss", false),
+              new String[] {
+                "org.ietf.jgss.GSSContext",
               })
           .put(
               "PreDestroy",
-              new Import[] {
-                new Import("PreDestroy", "javax.annotation", false),
+              new String[] {
+                "javax.annotation.PreDestroy",
               })
           .put(
               "setSubscript",
-              new Import[] {
-                new Import("setSubscript", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setSubscript",
               })
           .put(
               "TYPE_MASK_SCALE",
-              new Import[] {
-                new Import("TYPE_MASK_SCALE", "java.awt.geom.AffineTransform", true),
+              new String[] {
+                "static java.awt.geom.AffineTransform.TYPE_MASK_SCALE",
               })
           .put(
               "PERSIST_STORE",
-              new Import[] {
-                new Import("PERSIST_STORE", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.PERSIST_STORE",
               })
           .put(
               "VALUE_LIST",
-              new Import[] {
-                new Import("VALUE_LIST", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.VALUE_LIST",
               })
           .put(
               "NotFoundHelper",
-              new Import[] {
-                new Import("NotFoundHelper", "org.omg.CosNaming.NamingContextPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.NotFoundHelper",
               })
           .put(
               "IIOInvalidTreeException",
-              new Import[] {
-                new Import("IIOInvalidTreeException", "javax.imageio.metadata", false),
+              new String[] {
+                "javax.imageio.metadata.IIOInvalidTreeException",
               })
           .put(
               "IMG_ALIGN_TOP",
-              new Import[] {
-                new Import("IMG_ALIGN_TOP", "javax.swing.text.html.HTMLEditorKit", true),
+              new String[] {
+                "static javax.swing.text.html.HTMLEditorKit.IMG_ALIGN_TOP",
               })
           .put(
               "VERIFY",
-              new Import[] {
-                new Import("VERIFY", "javax.xml.crypto.KeySelector.Purpose", true),
+              new String[] {
+                "static javax.xml.crypto.KeySelector.Purpose.VERIFY",
               })
           .put(
               "HTTP_BINDING",
-              new Import[] {
-                new Import("HTTP_BINDING", "javax.xml.ws.http.HTTPBinding", true),
+              new String[] {
+                "static javax.xml.ws.http.HTTPBinding.HTTP_BINDING",
               })
           .put(
               "MemoryHandler",
-              new Import[] {
-                new Import("MemoryHandler", "java.util.logging", false),
+              new String[] {
+                "java.util.logging.MemoryHandler",
               })
           .put(
               "UNSPECIFIED_OPTION",
-              new Import[] {
-                new Import(
-                    "UNSPECIFIED_OPTION",
-                    "javax.security.auth.callback.ConfirmationCallback",
-                    true),
+              new String[] {
+                "static javax.security.auth.callback.ConfirmationCallback.UNSPECIFIED_OPTION",
               })
           .put(
               "SrcIn",
-              new Import[] {
-                new Import("SrcIn", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.SrcIn",
               })
           .put(
               "guessContentTypeFromStream",
-              new Import[] {
-                new Import("guessContentTypeFromStream", "java.net.URLConnection", true),
+              new String[] {
+                "static java.net.URLConnection.guessContentTypeFromStream",
               })
           .put(
               "not",
-              new Import[] {
-                new Import("not", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.not",
               })
           .put(
               "DISPLAY",
-              new Import[] {
-                new Import("DISPLAY", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.DISPLAY",
               })
           .put(
               "EDGE_STITCH",
-              new Import[] {
-                new Import("EDGE_STITCH", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.EDGE_STITCH",
               })
           .put(
               "attributeNullableUnknown",
-              new Import[] {
-                new Import("attributeNullableUnknown", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.attributeNullableUnknown",
               })
           .put(
               "functionColumnInOut",
-              new Import[] {
-                new Import("functionColumnInOut", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.functionColumnInOut",
               })
           .put(
               "now",
-              new Import[] {
-                new Import("now", "java.time.Instant", true),
-                new Import("now", "java.time.LocalDate", true),
-                new Import("now", "java.time.LocalDateTime", true),
-                new Import("now", "java.time.LocalTime", true),
-                new Import("now", "java.time.MonthDay", true),
-                new Import("now", "java.time.OffsetDateTime", true),
-                new Import("now", "java.time.OffsetTime", true),
-                new Import("now", "java.time.Year", true),
-                new Import("now", "java.time.YearMonth", true),
-                new Import("now", "java.time.ZonedDateTime", true),
-                new Import("now", "java.time.chrono.HijrahDate", true),
-                new Import("now", "java.time.chrono.JapaneseDate", true),
-                new Import("now", "java.time.chrono.MinguoDate", true),
-                new Import("now", "java.time.chrono.ThaiBuddhistDate", true),
+              new String[] {
+                "static java.time.Instant.now",
+                "static java.time.LocalDate.now",
+                "static java.time.LocalDateTime.now",
+                "static java.time.LocalTime.now",
+                "static java.time.MonthDay.now",
+                "static java.time.OffsetDateTime.now",
+                "static java.time.OffsetTime.now",
+                "static java.time.Year.now",
+                "static java.time.YearMonth.now",
+                "static java.time.ZonedDateTime.now",
+                "static java.time.chrono.HijrahDate.now",
+                "static java.time.chrono.JapaneseDate.now",
+                "static java.time.chrono.MinguoDate.now",
+                "static java.time.chrono.ThaiBuddhistDate.now",
               })
           .put(
               "BufferedOutputStream",
-              new Import[] {
-                new Import("BufferedOutputStream", "java.io", false),
+              new String[] {
+                "java.io.BufferedOutputStream",
               })
           .put(
               "BindingHelper",
-              new Import[] {
-                new Import("BindingHelper", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.BindingHelper",
               })
           .put(
               "CONNECTING_TO_DEVICE",
-              new Import[] {
-                new Import(
-                    "CONNECTING_TO_DEVICE",
-                    "javax.print.attribute.standard.PrinterStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.CONNECTING_TO_DEVICE",
               })
           .put(
               "LAYERED_PANE_PROPERTY",
-              new Import[] {
-                new Import("LAYERED_PANE_PROPERTY", "javax.swing.JInternalFrame", true),
+              new String[] {
+                "static javax.swing.JInternalFrame.LAYERED_PANE_PROPERTY",
               })
           .put(
               "NameNotFoundException",
-              new Import[] {
-                new Import("NameNotFoundException", "javax.naming", false),
+              new String[] {
+                "javax.naming.NameNotFoundException",
               })
           .put(
               "CopyAction",
-              new Import[] {
-                new Import("CopyAction", "javax.swing.text.DefaultEditorKit", false),
+              new String[] {
+                "javax.swing.text.DefaultEditorKit.CopyAction",
               })
           .put(
               "RETAIN",
-              new Import[] {
-                new Import("RETAIN", "org.omg.PortableServer.ServantRetentionPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.ServantRetentionPolicyValue.RETAIN",
               })
           .put(
               "InputStream",
-              new Import[] {
-                new Import("InputStream", "java.io", false),
-                new Import("InputStream", "org.omg.CORBA.portable", false),
-                new Import("InputStream", "org.omg.CORBA_2_3.portable", false),
+              new String[] {
+                "java.io.InputStream",
+                "org.omg.CORBA.portable.InputStream",
+                "org.omg.CORBA_2_3.portable.InputStream",
               })
           .put(
               "DAY_OF_WEEK_IN_MONTH_FIELD",
-              new Import[] {
-                new Import("DAY_OF_WEEK_IN_MONTH_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.DAY_OF_WEEK_IN_MONTH_FIELD",
               })
           .put(
               "Activatable",
-              new Import[] {
-                new Import("Activatable", "java.rmi.activation", false),
+              new String[] {
+                "java.rmi.activation.Activatable",
               })
           .put(
               "ENV_7X9",
-              new Import[] {
-                new Import("ENV_7X9", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ENV_7X9",
               })
           .put(
               "LanguageRange",
-              new Import[] {
-                new Import("LanguageRange", "java.util.Locale", false),
+              new String[] {
+                "java.util.Locale.LanguageRange",
               })
           .put(
               "WEEK_OF_WEEK_BASED_YEAR",
-              new Import[] {
-                new Import("WEEK_OF_WEEK_BASED_YEAR", "java.time.temporal.IsoFields", true),
+              new String[] {
+                "static java.time.temporal.IsoFields.WEEK_OF_WEEK_BASED_YEAR",
               })
           .put(
               "UNSUPPORTED_POLICY",
-              new Import[] {
-                new Import("UNSUPPORTED_POLICY", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.UNSUPPORTED_POLICY",
               })
           .put(
               "_dk_Enum",
-              new Import[] {
-                new Import("_dk_Enum", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Enum",
               })
           .put(
               "LSProgressEvent",
-              new Import[] {
-                new Import("LSProgressEvent", "org.w3c.dom.ls", false),
+              new String[] {
+                "org.w3c.dom.ls.LSProgressEvent",
               })
           .put(
               "TextLayout",
-              new Import[] {
-                new Import("TextLayout", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.TextLayout",
               })
           .put(
               "REUSE",
-              new Import[] {
-                new Import("REUSE", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.REUSE",
               })
           .put(
               "StartElement",
-              new Import[] {
-                new Import("StartElement", "javax.xml.stream.events", false),
+              new String[] {
+                "javax.xml.stream.events.StartElement",
               })
           .put(
               "TransformAttribute",
-              new Import[] {
-                new Import("TransformAttribute", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.TransformAttribute",
               })
           .put(
               "ISO_OFFSET_DATE",
-              new Import[] {
-                new Import("ISO_OFFSET_DATE", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE",
               })
           .put(
               "PrinterMoreInfo",
-              new Import[] {
-                new Import("PrinterMoreInfo", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PrinterMoreInfo",
               })
           .put(
               "IndexedPropertyChangeEvent",
-              new Import[] {
-                new Import("IndexedPropertyChangeEvent", "java.beans", false),
+              new String[] {
+                "java.beans.IndexedPropertyChangeEvent",
               })
           .put(
               "genericMethodType",
-              new Import[] {
-                new Import("genericMethodType", "java.lang.invoke.MethodType", true),
+              new String[] {
+                "static java.lang.invoke.MethodType.genericMethodType",
               })
           .put(
               "UNDERLINE_LOW_TWO_PIXEL",
-              new Import[] {
-                new Import("UNDERLINE_LOW_TWO_PIXEL", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.UNDERLINE_LOW_TWO_PIXEL",
               })
           .put(
               "OptionDialogBorder",
-              new Import[] {
-                new Import("OptionDialogBorder", "javax.swing.plaf.metal.MetalBorders", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalBorders.OptionDialogBorder",
               })
           .put(
               "JMXProviderException",
-              new Import[] {
-                new Import("JMXProviderException", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.JMXProviderException",
               })
           .put(
               "ChronoZonedDateTime",
-              new Import[] {
-                new Import("ChronoZonedDateTime", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.ChronoZonedDateTime",
               })
           .put(
               "LineBorder",
-              new Import[] {
-                new Import("LineBorder", "javax.swing.border", false),
+              new String[] {
+                "javax.swing.border.LineBorder",
               })
           .put(
               "PrintConversionEventImpl",
-              new Import[] {
-                new Import("PrintConversionEventImpl", "javax.xml.bind.helpers", false),
+              new String[] {
+                "javax.xml.bind.helpers.PrintConversionEventImpl",
               })
           .put(
               "NO_GENERATED_KEYS",
-              new Import[] {
-                new Import("NO_GENERATED_KEYS", "java.sql.Statement", true),
+              new String[] {
+                "static java.sql.Statement.NO_GENERATED_KEYS",
               })
           .put(
               "WIDTH_SEMI_EXTENDED",
-              new Import[] {
-                new Import("WIDTH_SEMI_EXTENDED", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WIDTH_SEMI_EXTENDED",
               })
           .put(
               "ACCEPT_ONLY",
-              new Import[] {
-                new Import("ACCEPT_ONLY", "org.ietf.jgss.GSSCredential", true),
+              new String[] {
+                "static org.ietf.jgss.GSSCredential.ACCEPT_ONLY",
               })
           .put(
               "CHOOSER_PANELS_PROPERTY",
-              new Import[] {
-                new Import("CHOOSER_PANELS_PROPERTY", "javax.swing.JColorChooser", true),
+              new String[] {
+                "static javax.swing.JColorChooser.CHOOSER_PANELS_PROPERTY",
               })
           .put(
               "ISO_C2_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C2_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C2_ENVELOPE",
               })
           .put(
               "WEEK_OF_YEAR",
-              new Import[] {
-                new Import("WEEK_OF_YEAR", "java.text.DateFormat.Field", true),
-                new Import("WEEK_OF_YEAR", "java.util.Calendar", true),
+              new String[] {
+                "static java.text.DateFormat.Field.WEEK_OF_YEAR",
+                "static java.util.Calendar.WEEK_OF_YEAR",
               })
           .put(
               "DigestMethodParameterSpec",
-              new Import[] {
-                new Import("DigestMethodParameterSpec", "javax.xml.crypto.dsig.spec", false),
+              new String[] {
+                "javax.xml.crypto.dsig.spec.DigestMethodParameterSpec",
               })
           .put(
               "MBeanServerDelegateMBean",
-              new Import[] {
-                new Import("MBeanServerDelegateMBean", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanServerDelegateMBean",
               })
           .put(
               "IndexedPropertyDescriptor",
-              new Import[] {
-                new Import("IndexedPropertyDescriptor", "java.beans", false),
+              new String[] {
+                "java.beans.IndexedPropertyDescriptor",
               })
           .put(
               "LabelUI",
-              new Import[] {
-                new Import("LabelUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.LabelUI",
               })
           .put(
               "BasicFileAttributes",
-              new Import[] {
-                new Import("BasicFileAttributes", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.BasicFileAttributes",
               })
           .put(
               "getMouseModifiersText",
-              new Import[] {
-                new Import("getMouseModifiersText", "java.awt.event.MouseEvent", true),
+              new String[] {
+                "static java.awt.event.MouseEvent.getMouseModifiersText",
               })
           .put(
               "ADD_SUBDIRECTORY",
-              new Import[] {
-                new Import("ADD_SUBDIRECTORY", "java.nio.file.attribute.AclEntryPermission", true),
+              new String[] {
+                "static java.nio.file.attribute.AclEntryPermission.ADD_SUBDIRECTORY",
               })
           .put(
               "InvalidAddressHelper",
-              new Import[] {
-                new Import(
-                    "InvalidAddressHelper", "org.omg.CosNaming.NamingContextExtPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper",
               })
           .put(
               "isDefaultLookAndFeelDecorated",
-              new Import[] {
-                new Import("isDefaultLookAndFeelDecorated", "javax.swing.JDialog", true),
-                new Import("isDefaultLookAndFeelDecorated", "javax.swing.JFrame", true),
+              new String[] {
+                "static javax.swing.JDialog.isDefaultLookAndFeelDecorated",
+                "static javax.swing.JFrame.isDefaultLookAndFeelDecorated",
               })
           .put(
               "LookupOp",
-              new Import[] {
-                new Import("LookupOp", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.LookupOp",
               })
           .put(
               "ModalExclusionType",
-              new Import[] {
-                new Import("ModalExclusionType", "java.awt.Dialog", false),
+              new String[] {
+                "java.awt.Dialog.ModalExclusionType",
               })
           .put(
               "BeanContext",
-              new Import[] {
-                new Import("BeanContext", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContext",
               })
           .put(
               "COMMON",
-              new Import[] {
-                new Import("COMMON", "java.awt.JobAttributes.DialogType", true),
-                new Import("COMMON", "javax.print.attribute.standard.DialogTypeSelection", true),
+              new String[] {
+                "static java.awt.JobAttributes.DialogType.COMMON",
+                "static javax.print.attribute.standard.DialogTypeSelection.COMMON",
               })
           .put(
               "PUBLIC",
-              new Import[] {
-                new Import("PUBLIC", "java.lang.invoke.MethodHandles.Lookup", true),
-                new Import("PUBLIC", "java.lang.reflect.Member", true),
-                new Import("PUBLIC", "java.lang.reflect.Modifier", true),
-                new Import("PUBLIC", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.Lookup.PUBLIC",
+                "static java.lang.reflect.Member.PUBLIC",
+                "static java.lang.reflect.Modifier.PUBLIC",
+                "static javax.swing.text.html.parser.DTDConstants.PUBLIC",
               })
           .put(
               "DEFAULT_CURSOR",
-              new Import[] {
-                new Import("DEFAULT_CURSOR", "java.awt.Cursor", true),
-                new Import("DEFAULT_CURSOR", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Cursor.DEFAULT_CURSOR", "static java.awt.Frame.DEFAULT_CURSOR",
               })
           .put(
               "MultipleDocumentHandling",
-              new Import[] {
-                new Import("MultipleDocumentHandling", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.MultipleDocumentHandling",
               })
           .put(
               "LongSupplier",
-              new Import[] {
-                new Import("LongSupplier", "java.util.function", false),
+              new String[] {
+                "java.util.function.LongSupplier",
               })
           .put(
               "DOMImplementationList",
-              new Import[] {
-                new Import("DOMImplementationList", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.DOMImplementationList",
               })
           .put(
               "KeyValue",
-              new Import[] {
-                new Import("KeyValue", "javax.xml.crypto.dsig.keyinfo", false),
+              new String[] {
+                "javax.xml.crypto.dsig.keyinfo.KeyValue",
               })
           .put(
               "parallelPrefix",
-              new Import[] {
-                new Import("parallelPrefix", "java.util.Arrays", true),
+              new String[] {
+                "static java.util.Arrays.parallelPrefix",
               })
           .put(
               "INPUT_METHOD_EVENT_MASK",
-              new Import[] {
-                new Import("INPUT_METHOD_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.INPUT_METHOD_EVENT_MASK",
               })
           .put(
               "RSAKeyGenParameterSpec",
-              new Import[] {
-                new Import("RSAKeyGenParameterSpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.RSAKeyGenParameterSpec",
               })
           .put(
               "CompositeDataInvocationHandler",
-              new Import[] {
-                new Import("CompositeDataInvocationHandler", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.CompositeDataInvocationHandler",
               })
           .put(
               "CertPathParameters",
-              new Import[] {
-                new Import("CertPathParameters", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertPathParameters",
               })
           .put(
               "getPreviousWord",
-              new Import[] {
-                new Import("getPreviousWord", "javax.swing.text.Utilities", true),
+              new String[] {
+                "static javax.swing.text.Utilities.getPreviousWord",
               })
           .put(
               "SCALE_REPLICATE",
-              new Import[] {
-                new Import("SCALE_REPLICATE", "java.awt.Image", true),
+              new String[] {
+                "static java.awt.Image.SCALE_REPLICATE",
               })
           .put(
               "getPreviewPanel",
-              new Import[] {
-                new Import(
-                    "getPreviewPanel",
-                    "javax.swing.colorchooser.ColorChooserComponentFactory",
-                    true),
+              new String[] {
+                "static javax.swing.colorchooser.ColorChooserComponentFactory.getPreviewPanel",
               })
           .put(
               "MetalRadioButtonUI",
-              new Import[] {
-                new Import("MetalRadioButtonUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalRadioButtonUI",
               })
           .put(
               "WebServiceFeatureAnnotation",
-              new Import[] {
-                new Import("WebServiceFeatureAnnotation", "javax.xml.ws.spi", false),
+              new String[] {
+                "javax.xml.ws.spi.WebServiceFeatureAnnotation",
               })
           .put(
               "StringSeqHelper",
-              new Import[] {
-                new Import("StringSeqHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.StringSeqHelper",
               })
           .put(
               "ContextualRenderedImageFactory",
-              new Import[] {
-                new Import("ContextualRenderedImageFactory", "java.awt.image.renderable", false),
+              new String[] {
+                "java.awt.image.renderable.ContextualRenderedImageFactory",
               })
           .put(
               "SQLData",
-              new Import[] {
-                new Import("SQLData", "java.sql", false),
+              new String[] {
+                "java.sql.SQLData",
               })
           .put(
               "RowSetWarning",
-              new Import[] {
-                new Import("RowSetWarning", "javax.sql.rowset", false),
+              new String[] {
+                "javax.sql.rowset.RowSetWarning",
               })
           .put(
               "W3CDomHandler",
-              new Import[] {
-                new Import("W3CDomHandler", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.W3CDomHandler",
               })
           .put(
               "FileVisitor",
-              new Import[] {
-                new Import("FileVisitor", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.FileVisitor",
               })
           .put(
               "JOB_OUTGOING",
-              new Import[] {
-                new Import("JOB_OUTGOING", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.JOB_OUTGOING",
               })
           .put(
               "FLAG_HAS_TRANSFORMS",
-              new Import[] {
-                new Import("FLAG_HAS_TRANSFORMS", "java.awt.font.GlyphVector", true),
+              new String[] {
+                "static java.awt.font.GlyphVector.FLAG_HAS_TRANSFORMS",
               })
           .put(
               "DOMStringList",
-              new Import[] {
-                new Import("DOMStringList", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.DOMStringList",
               })
           .put(
               "SocketPermission",
-              new Import[] {
-                new Import("SocketPermission", "java.net", false),
+              new String[] {
+                "java.net.SocketPermission",
               })
           .put(
               "convertPointFromScreen",
-              new Import[] {
-                new Import("convertPointFromScreen", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.convertPointFromScreen",
               })
           .put(
               "CallSite",
-              new Import[] {
-                new Import("CallSite", "java.lang.invoke", false),
+              new String[] {
+                "java.lang.invoke.CallSite",
               })
           .put(
               "SYSTEM_EXCLUSIVE",
-              new Import[] {
-                new Import("SYSTEM_EXCLUSIVE", "javax.sound.midi.SysexMessage", true),
+              new String[] {
+                "static javax.sound.midi.SysexMessage.SYSTEM_EXCLUSIVE",
               })
           .put(
               "LARGE_MODEL_PROPERTY",
-              new Import[] {
-                new Import("LARGE_MODEL_PROPERTY", "javax.swing.JTree", true),
+              new String[] {
+                "static javax.swing.JTree.LARGE_MODEL_PROPERTY",
               })
           .put(
               "URLConnection",
-              new Import[] {
-                new Import("URLConnection", "java.net", false),
+              new String[] {
+                "java.net.URLConnection",
               })
           .put(
               "Graphics2D",
-              new Import[] {
-                new Import("Graphics2D", "java.awt", false),
+              new String[] {
+                "java.awt.Graphics2D",
               })
           .put(
               "PRIVATE",
-              new Import[] {
-                new Import("PRIVATE", "java.lang.invoke.MethodHandles.Lookup", true),
-                new Import("PRIVATE", "java.lang.reflect.Modifier", true),
-                new Import("PRIVATE", "java.nio.channels.FileChannel.MapMode", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.Lookup.PRIVATE",
+                "static java.lang.reflect.Modifier.PRIVATE",
+                "static java.nio.channels.FileChannel.MapMode.PRIVATE",
               })
           .put(
               "IIORegistry",
-              new Import[] {
-                new Import("IIORegistry", "javax.imageio.spi", false),
+              new String[] {
+                "javax.imageio.spi.IIORegistry",
               })
           .put(
               "decodeDataFlavor",
-              new Import[] {
-                new Import("decodeDataFlavor", "java.awt.datatransfer.SystemFlavorMap", true),
+              new String[] {
+                "static java.awt.datatransfer.SystemFlavorMap.decodeDataFlavor",
               })
           .put(
               "SERVICE_FORMATTED",
-              new Import[] {
-                new Import("SERVICE_FORMATTED", "javax.print.DocFlavor", false),
+              new String[] {
+                "javax.print.DocFlavor.SERVICE_FORMATTED",
               })
           .put(
               "Completion",
-              new Import[] {
-                new Import("Completion", "javax.annotation.processing", false),
+              new String[] {
+                "javax.annotation.processing.Completion",
               })
           .put(
               "nCopies",
-              new Import[] {
-                new Import("nCopies", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.nCopies",
               })
           .put(
               "MenuItemUI",
-              new Import[] {
-                new Import("MenuItemUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.MenuItemUI",
               })
           .put(
               "JMXAddressable",
-              new Import[] {
-                new Import("JMXAddressable", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.JMXAddressable",
               })
           .put(
               "STRIKETHROUGH",
-              new Import[] {
-                new Import("STRIKETHROUGH", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.STRIKETHROUGH",
               })
           .put(
               "AbstractSpliterator",
-              new Import[] {
-                new Import("AbstractSpliterator", "java.util.Spliterators", false),
+              new String[] {
+                "java.util.Spliterators.AbstractSpliterator",
               })
           .put(
               "UnmodifiableSetException",
-              new Import[] {
-                new Import("UnmodifiableSetException", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.UnmodifiableSetException",
               })
           .put(
               "GURMUKHI",
-              new Import[] {
-                new Import("GURMUKHI", "java.awt.font.NumericShaper", true),
-                new Import("GURMUKHI", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.GURMUKHI",
+                "static java.lang.Character.UnicodeBlock.GURMUKHI",
               })
           .put(
               "ValidationEvent",
-              new Import[] {
-                new Import("ValidationEvent", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.ValidationEvent",
               })
           .put(
               "width",
-              new Import[] {
-                new Import("width", "javax.swing.Spring", true),
+              new String[] {
+                "static javax.swing.Spring.width",
               })
           .put(
               "DSAPrivateKey",
-              new Import[] {
-                new Import("DSAPrivateKey", "java.security.interfaces", false),
+              new String[] {
+                "java.security.interfaces.DSAPrivateKey",
               })
           .put(
               "MBeanServerNotificationFilter",
-              new Import[] {
-                new Import("MBeanServerNotificationFilter", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.MBeanServerNotificationFilter",
               })
           .put(
               "ComponentAttribute",
-              new Import[] {
-                new Import("ComponentAttribute", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.ComponentAttribute",
               })
           .put(
               "HOLDING",
-              new Import[] {
-                new Import("HOLDING", "org.omg.PortableInterceptor", false),
-                new Import("HOLDING", "org.omg.PortableServer.POAManagerPackage.State", true),
+              new String[] {
+                "org.omg.PortableInterceptor.HOLDING",
+                "static org.omg.PortableServer.POAManagerPackage.State.HOLDING",
               })
           .put(
               "VK_KANA_LOCK",
-              new Import[] {
-                new Import("VK_KANA_LOCK", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_KANA_LOCK",
               })
           .put(
               "isSameFile",
-              new Import[] {
-                new Import("isSameFile", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.isSameFile",
               })
           .put(
               "CELL_RENDERER_PROPERTY",
-              new Import[] {
-                new Import("CELL_RENDERER_PROPERTY", "javax.swing.JTree", true),
-                new Import("CELL_RENDERER_PROPERTY", "javax.swing.table.TableColumn", true),
+              new String[] {
+                "static javax.swing.JTree.CELL_RENDERER_PROPERTY",
+                "static javax.swing.table.TableColumn.CELL_RENDERER_PROPERTY",
               })
           .put(
               "procedureNoNulls",
-              new Import[] {
-                new Import("procedureNoNulls", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.procedureNoNulls",
               })
           .put(
               "AttributeListImpl",
-              new Import[] {
-                new Import("AttributeListImpl", "org.xml.sax.helpers", false),
+              new String[] {
+                "org.xml.sax.helpers.AttributeListImpl",
               })
           .put(
               "MissingResourceException",
-              new Import[] {
-                new Import("MissingResourceException", "java.util", false),
+              new String[] {
+                "java.util.MissingResourceException",
               })
           .put(
               "MIN_PRIORITY",
-              new Import[] {
-                new Import("MIN_PRIORITY", "java.lang.Thread", true),
+              new String[] {
+                "static java.lang.Thread.MIN_PRIORITY",
               })
           .put(
               "putLayer",
-              new Import[] {
-                new Import("putLayer", "javax.swing.JLayeredPane", true),
+              new String[] {
+                "static javax.swing.JLayeredPane.putLayer",
               })
           .put(
               "getWordEnd",
-              new Import[] {
-                new Import("getWordEnd", "javax.swing.text.Utilities", true),
+              new String[] {
+                "static javax.swing.text.Utilities.getWordEnd",
               })
           .put(
               "IntUnaryOperator",
-              new Import[] {
-                new Import("IntUnaryOperator", "java.util.function", false),
+              new String[] {
+                "java.util.function.IntUnaryOperator",
               })
           .put(
               "MICROPHONE",
-              new Import[] {
-                new Import("MICROPHONE", "javax.sound.sampled.Port.Info", true),
+              new String[] {
+                "static javax.sound.sampled.Port.Info.MICROPHONE",
               })
           .put(
               "VK_ENTER",
-              new Import[] {
-                new Import("VK_ENTER", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_ENTER",
               })
           .put(
               "MAX_RADIX",
-              new Import[] {
-                new Import("MAX_RADIX", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.MAX_RADIX",
               })
           .put(
               "CHOU_30",
-              new Import[] {
-                new Import("CHOU_30", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.CHOU_30",
               })
           .put(
               "PosixFileAttributeView",
-              new Import[] {
-                new Import("PosixFileAttributeView", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.PosixFileAttributeView",
               })
           .put(
               "PAGEABLE",
-              new Import[] {
-                new Import("PAGEABLE", "javax.print.DocFlavor.SERVICE_FORMATTED", true),
+              new String[] {
+                "static javax.print.DocFlavor.SERVICE_FORMATTED.PAGEABLE",
               })
           .put(
               "ServerRequestInterceptorOperations",
-              new Import[] {
-                new Import(
-                    "ServerRequestInterceptorOperations", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ServerRequestInterceptorOperations",
               })
           .put(
               "SHAVIAN",
-              new Import[] {
-                new Import("SHAVIAN", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SHAVIAN",
               })
           .put(
               "Utilities",
-              new Import[] {
-                new Import("Utilities", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.Utilities",
               })
           .put(
               "findMBeanServer",
-              new Import[] {
-                new Import("findMBeanServer", "javax.management.MBeanServerFactory", true),
+              new String[] {
+                "static javax.management.MBeanServerFactory.findMBeanServer",
               })
           .put(
               "URIException",
-              new Import[] {
-                new Import("URIException", "javax.print", false),
+              new String[] {
+                "javax.print.URIException",
               })
           .put(
               "AccessibleComponent",
-              new Import[] {
-                new Import("AccessibleComponent", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleComponent",
               })
           .put(
               "BeanContextChildSupport",
-              new Import[] {
-                new Import("BeanContextChildSupport", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextChildSupport",
               })
           .put(
               "MAXIMIZED_VERT",
-              new Import[] {
-                new Import("MAXIMIZED_VERT", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Frame.MAXIMIZED_VERT",
               })
           .put(
               "getCurrentTheme",
-              new Import[] {
-                new Import("getCurrentTheme", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getCurrentTheme",
               })
           .put(
               "CompilationMXBean",
-              new Import[] {
-                new Import("CompilationMXBean", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.CompilationMXBean",
               })
           .put(
               "POINT_INFINITY",
-              new Import[] {
-                new Import("POINT_INFINITY", "java.security.spec.ECPoint", true),
+              new String[] {
+                "static java.security.spec.ECPoint.POINT_INFINITY",
               })
           .put(
               "DESKTOP_ICON",
-              new Import[] {
-                new Import("DESKTOP_ICON", "javax.accessibility.AccessibleRole", true),
-                new Import("DESKTOP_ICON", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.DESKTOP_ICON",
+                "static javax.swing.plaf.synth.Region.DESKTOP_ICON",
               })
           .put(
               "NUMBERS",
-              new Import[] {
-                new Import("NUMBERS", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.NUMBERS",
               })
           .put(
               "setJNDIContext",
-              new Import[] {
-                new Import("setJNDIContext", "javax.sql.rowset.spi.SyncFactory", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncFactory.setJNDIContext",
               })
           .put(
               "readOnlyAction",
-              new Import[] {
-                new Import("readOnlyAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.readOnlyAction",
               })
           .put(
               "newInstance",
-              new Import[] {
-                new Import("newInstance", "java.lang.reflect.Array", true),
-                new Import("newInstance", "java.net.URLClassLoader", true),
-                new Import("newInstance", "java.security.KeyStore.Builder", true),
-                new Import("newInstance", "javax.xml.bind.JAXBContext", true),
-                new Import("newInstance", "javax.xml.datatype.DatatypeFactory", true),
-                new Import("newInstance", "javax.xml.parsers.DocumentBuilderFactory", true),
-                new Import("newInstance", "javax.xml.parsers.SAXParserFactory", true),
-                new Import("newInstance", "javax.xml.soap.MessageFactory", true),
-                new Import("newInstance", "javax.xml.soap.SOAPConnectionFactory", true),
-                new Import("newInstance", "javax.xml.soap.SOAPElementFactory", true),
-                new Import("newInstance", "javax.xml.soap.SOAPFactory", true),
-                new Import("newInstance", "javax.xml.stream.XMLEventFactory", true),
-                new Import("newInstance", "javax.xml.stream.XMLInputFactory", true),
-                new Import("newInstance", "javax.xml.stream.XMLOutputFactory", true),
-                new Import("newInstance", "javax.xml.transform.TransformerFactory", true),
-                new Import("newInstance", "javax.xml.validation.SchemaFactory", true),
-                new Import("newInstance", "javax.xml.xpath.XPathFactory", true),
-                new Import("newInstance", "org.w3c.dom.bootstrap.DOMImplementationRegistry", true),
+              new String[] {
+                "static java.lang.reflect.Array.newInstance",
+                "static java.net.URLClassLoader.newInstance",
+                "static java.security.KeyStore.Builder.newInstance",
+                "static javax.xml.bind.JAXBContext.newInstance",
+                "static javax.xml.datatype.DatatypeFactory.newInstance",
+                "static javax.xml.parsers.DocumentBuilderFactory.newInstance",
+                "static javax.xml.parsers.SAXParserFactory.newInstance",
+                "static javax.xml.soap.MessageFactory.newInstance",
+                "static javax.xml.soap.SOAPConnectionFactory.newInstance",
+                "static javax.xml.soap.SOAPElementFactory.newInstance",
+                "static javax.xml.soap.SOAPFactory.newInstance",
+                "static javax.xml.stream.XMLEventFactory.newInstance",
+                "static javax.xml.stream.XMLInputFactory.newInstance",
+                "static javax.xml.stream.XMLOutputFactory.newInstance",
+                "static javax.xml.transform.TransformerFactory.newInstance",
+                "static javax.xml.validation.SchemaFactory.newInstance",
+                "static javax.xml.xpath.XPathFactory.newInstance",
+                "static org.w3c.dom.bootstrap.DOMImplementationRegistry.newInstance",
               })
           .put(
               "SEPTEMBER",
-              new Import[] {
-                new Import("SEPTEMBER", "java.util.Calendar", true),
-                new Import("SEPTEMBER", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static java.util.Calendar.SEPTEMBER",
+                "static javax.xml.datatype.DatatypeConstants.SEPTEMBER",
               })
           .put(
               "BACKGROUND_REPEAT",
-              new Import[] {
-                new Import("BACKGROUND_REPEAT", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BACKGROUND_REPEAT",
               })
           .put(
               "parkNanos",
-              new Import[] {
-                new Import("parkNanos", "java.util.concurrent.locks.LockSupport", true),
+              new String[] {
+                "static java.util.concurrent.locks.LockSupport.parkNanos",
               })
           .put(
               "SpaceBelow",
-              new Import[] {
-                new Import("SpaceBelow", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.SpaceBelow",
               })
           .put(
               "TypeParameterElement",
-              new Import[] {
-                new Import("TypeParameterElement", "javax.lang.model.element", false),
+              new String[] {
+                "javax.lang.model.element.TypeParameterElement",
               })
           .put(
               "CHOU_40",
-              new Import[] {
-                new Import("CHOU_40", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.CHOU_40",
               })
           .put(
               "functionColumnResult",
-              new Import[] {
-                new Import("functionColumnResult", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.functionColumnResult",
               })
           .put(
               "HTTP_UNSUPPORTED_TYPE",
-              new Import[] {
-                new Import("HTTP_UNSUPPORTED_TYPE", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_UNSUPPORTED_TYPE",
               })
           .put(
               "File",
-              new Import[] {
-                new Import("File", "java.io", false),
+              new String[] {
+                "java.io.File",
               })
           .put(
               "withThreadPool",
-              new Import[] {
-                new Import("withThreadPool", "java.nio.channels.AsynchronousChannelGroup", true),
+              new String[] {
+                "static java.nio.channels.AsynchronousChannelGroup.withThreadPool",
               })
           .put(
               "magenta",
-              new Import[] {
-                new Import("magenta", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.magenta",
               })
           .put(
               "FLOAT",
-              new Import[] {
-                new Import("FLOAT", "java.sql.Types", true),
-                new Import("FLOAT", "javax.management.openmbean.SimpleType", true),
-                new Import("FLOAT", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static java.sql.Types.FLOAT",
+                "static javax.management.openmbean.SimpleType.FLOAT",
+                "static javax.swing.text.html.CSS.Attribute.FLOAT",
               })
           .put(
               "XmlAttribute",
-              new Import[] {
-                new Import("XmlAttribute", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlAttribute",
               })
           .put(
               "BasicDesktopPaneUI",
-              new Import[] {
-                new Import("BasicDesktopPaneUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicDesktopPaneUI",
               })
           .put(
               "ISO_INSTANT",
-              new Import[] {
-                new Import("ISO_INSTANT", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ISO_INSTANT",
               })
           .put(
               "CONTROL_TEXT",
-              new Import[] {
-                new Import("CONTROL_TEXT", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.CONTROL_TEXT",
               })
           .put(
               "READ_ONLY",
-              new Import[] {
-                new Import("READ_ONLY", "java.nio.channels.FileChannel.MapMode", true),
+              new String[] {
+                "static java.nio.channels.FileChannel.MapMode.READ_ONLY",
               })
           .put(
               "parallelSort",
-              new Import[] {
-                new Import("parallelSort", "java.util.Arrays", true),
+              new String[] {
+                "static java.util.Arrays.parallelSort",
               })
           .put(
               "RATA_DIE",
-              new Import[] {
-                new Import("RATA_DIE", "java.time.temporal.JulianFields", true),
+              new String[] {
+                "static java.time.temporal.JulianFields.RATA_DIE",
               })
           .put(
               "GroupLayout",
-              new Import[] {
-                new Import("GroupLayout", "javax.swing", false),
+              new String[] {
+                "javax.swing.GroupLayout",
               })
           .put(
               "InputMethodListener",
-              new Import[] {
-                new Import("InputMethodListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.InputMethodListener",
               })
           .put(
               "StrokeBorder",
-              new Import[] {
-                new Import("StrokeBorder", "javax.swing.border", false),
+              new String[] {
+                "javax.swing.border.StrokeBorder",
               })
           .put(
               "LEAD_NONE",
-              new Import[] {
-                new Import("LEAD_NONE", "javax.swing.text.TabStop", true),
+              new String[] {
+                "static javax.swing.text.TabStop.LEAD_NONE",
               })
           .put(
               "Synthesizer",
-              new Import[] {
-                new Import("Synthesizer", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.Synthesizer",
               })
           .put(
               "icHdrModel",
-              new Import[] {
-                new Import("icHdrModel", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrModel",
               })
           .put(
               "FONT_SIZE",
-              new Import[] {
-                new Import("FONT_SIZE", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.FONT_SIZE",
               })
           .put(
               "AUTO_RESIZE_OFF",
-              new Import[] {
-                new Import("AUTO_RESIZE_OFF", "javax.swing.JTable", true),
+              new String[] {
+                "static javax.swing.JTable.AUTO_RESIZE_OFF",
               })
           .put(
               "icSaturation",
-              new Import[] {
-                new Import("icSaturation", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSaturation",
               })
           .put(
               "MetalButtonUI",
-              new Import[] {
-                new Import("MetalButtonUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalButtonUI",
               })
           .put(
               "MOUSE_MOVE",
-              new Import[] {
-                new Import("MOUSE_MOVE", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.MOUSE_MOVE",
               })
           .put(
               "POPUP_MENU",
-              new Import[] {
-                new Import("POPUP_MENU", "javax.accessibility.AccessibleRole", true),
-                new Import("POPUP_MENU", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.POPUP_MENU",
+                "static javax.swing.plaf.synth.Region.POPUP_MENU",
               })
           .put(
               "dayOfWeekInMonth",
-              new Import[] {
-                new Import("dayOfWeekInMonth", "java.time.temporal.TemporalAdjusters", true),
+              new String[] {
+                "static java.time.temporal.TemporalAdjusters.dayOfWeekInMonth",
               })
           .put(
               "SERVER_AUTH",
-              new Import[] {
-                new Import("SERVER_AUTH", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.SERVER_AUTH",
               })
           .put(
               "ValidationEventLocatorImpl",
-              new Import[] {
-                new Import("ValidationEventLocatorImpl", "javax.xml.bind.helpers", false),
+              new String[] {
+                "javax.xml.bind.helpers.ValidationEventLocatorImpl",
               })
           .put(
               "MEDIA_LOW",
-              new Import[] {
-                new Import("MEDIA_LOW", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.MEDIA_LOW",
               })
           .put(
               "ROUND_HALF_EVEN",
-              new Import[] {
-                new Import("ROUND_HALF_EVEN", "java.math.BigDecimal", true),
+              new String[] {
+                "static java.math.BigDecimal.ROUND_HALF_EVEN",
               })
           .put(
               "SECOND",
-              new Import[] {
-                new Import("SECOND", "java.text.DateFormat.Field", true),
-                new Import("SECOND", "java.util.Calendar", true),
+              new String[] {
+                "static java.text.DateFormat.Field.SECOND", "static java.util.Calendar.SECOND",
               })
           .put(
               "BasicTextPaneUI",
-              new Import[] {
-                new Import("BasicTextPaneUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicTextPaneUI",
               })
           .put(
               "SynthLabelUI",
-              new Import[] {
-                new Import("SynthLabelUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthLabelUI",
               })
           .put(
               "FileDialog",
-              new Import[] {
-                new Import("FileDialog", "java.awt", false),
+              new String[] {
+                "java.awt.FileDialog",
               })
           .put(
               "APPROVE_SELECTION",
-              new Import[] {
-                new Import("APPROVE_SELECTION", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.APPROVE_SELECTION",
               })
           .build();
 }
@@ -2,1568 +2,1542 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk21 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "Entity",
-              new Import[] {
-                new Import("Entity", "javax.swing.text.html.parser", false),
-                new Import("Entity", "org.w3c.dom", false),
+              new String[] {
+                "javax.swing.text.html.parser.Entity", "org.w3c.dom.Entity",
               })
           .put(
               "ofLocalizedDateTime",
-              new Import[] {
-                new Import("ofLocalizedDateTime", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ofLocalizedDateTime",
               })
           .put(
               "Query",
-              new Import[] {
-                new Import("Query", "javax.management", false),
+              new String[] {
+                "javax.management.Query",
               })
           .put(
               "getCurrentEvent",
-              new Import[] {
-                new Import("getCurrentEvent", "java.awt.EventQueue", true),
+              new String[] {
+                "static java.awt.EventQueue.getCurrentEvent",
               })
           .put(
               "ENCTYPE",
-              new Import[] {
-                new Import("ENCTYPE", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.ENCTYPE",
               })
           .put(
               "TAG_FEAT",
-              new Import[] {
-                new Import("TAG_FEAT", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_FEAT",
               })
           .put(
               "getOwner",
-              new Import[] {
-                new Import("getOwner", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.getOwner",
               })
           .put(
               "LookAndFeel",
-              new Import[] {
-                new Import("LookAndFeel", "javax.swing", false),
+              new String[] {
+                "javax.swing.LookAndFeel",
               })
           .put(
               "asList",
-              new Import[] {
-                new Import("asList", "java.util.Arrays", true),
+              new String[] {
+                "static java.util.Arrays.asList",
               })
           .put(
               "systemDefault",
-              new Import[] {
-                new Import("systemDefault", "java.time.ZoneId", true),
+              new String[] {
+                "static java.time.ZoneId.systemDefault",
               })
           .put(
               "MixerProvider",
-              new Import[] {
-                new Import("MixerProvider", "javax.sound.sampled.spi", false),
+              new String[] {
+                "javax.sound.sampled.spi.MixerProvider",
               })
           .put(
               "trailing",
-              new Import[] {
-                new Import("trailing", "java.awt.font.TextHitInfo", true),
+              new String[] {
+                "static java.awt.font.TextHitInfo.trailing",
               })
           .put(
               "StdDCLuminance",
-              new Import[] {
-                new Import("StdDCLuminance", "javax.imageio.plugins.jpeg.JPEGHuffmanTable", true),
+              new String[] {
+                "static javax.imageio.plugins.jpeg.JPEGHuffmanTable.StdDCLuminance",
               })
           .put(
               "MultiDocPrintJob",
-              new Import[] {
-                new Import("MultiDocPrintJob", "javax.print", false),
+              new String[] {
+                "javax.print.MultiDocPrintJob",
               })
           .put(
               "UnresolvedAddressException",
-              new Import[] {
-                new Import("UnresolvedAddressException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.UnresolvedAddressException",
               })
           .put(
               "AccessibleTable",
-              new Import[] {
-                new Import("AccessibleTable", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleTable",
               })
           .put(
               "SeparatorUI",
-              new Import[] {
-                new Import("SeparatorUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.SeparatorUI",
               })
           .put(
               "INSCRIPTIONAL_PARTHIAN",
-              new Import[] {
-                new Import("INSCRIPTIONAL_PARTHIAN", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.INSCRIPTIONAL_PARTHIAN",
               })
           .put(
               "FilterReader",
-              new Import[] {
-                new Import("FilterReader", "java.io", false),
+              new String[] {
+                "java.io.FilterReader",
               })
           .put(
               "ReadLock",
-              new Import[] {
-                new Import("ReadLock", "java.util.concurrent.locks.ReentrantReadWriteLock", false),
+              new String[] {
+                "java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock",
               })
           .put(
               "TOGGLE_POPUP",
-              new Import[] {
-                new Import("TOGGLE_POPUP", "javax.accessibility.AccessibleAction", true),
+              new String[] {
+                "static javax.accessibility.AccessibleAction.TOGGLE_POPUP",
               })
           .put(
               "parameterModeIn",
-              new Import[] {
-                new Import("parameterModeIn", "java.sql.ParameterMetaData", true),
+              new String[] {
+                "static java.sql.ParameterMetaData.parameterModeIn",
               })
           .put(
               "BindException",
-              new Import[] {
-                new Import("BindException", "java.net", false),
+              new String[] {
+                "java.net.BindException",
               })
           .put(
               "MetalComboBoxUI",
-              new Import[] {
-                new Import("MetalComboBoxUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalComboBoxUI",
               })
           .put(
               "ACTION_COPY_OR_MOVE",
-              new Import[] {
-                new Import("ACTION_COPY_OR_MOVE", "java.awt.dnd.DnDConstants", true),
+              new String[] {
+                "static java.awt.dnd.DnDConstants.ACTION_COPY_OR_MOVE",
               })
           .put(
               "IMMUTABLE",
-              new Import[] {
-                new Import("IMMUTABLE", "java.util.Spliterator", true),
+              new String[] {
+                "static java.util.Spliterator.IMMUTABLE",
               })
           .put(
               "BMPImageWriteParam",
-              new Import[] {
-                new Import("BMPImageWriteParam", "javax.imageio.plugins.bmp", false),
+              new String[] {
+                "javax.imageio.plugins.bmp.BMPImageWriteParam",
               })
           .put(
               "OBSERVED_ATTRIBUTE_ERROR",
-              new Import[] {
-                new Import(
-                    "OBSERVED_ATTRIBUTE_ERROR",
-                    "javax.management.monitor.MonitorNotification",
-                    true),
+              new String[] {
+                "static javax.management.monitor.MonitorNotification.OBSERVED_ATTRIBUTE_ERROR",
               })
           .put(
               "BALANCE",
-              new Import[] {
-                new Import("BALANCE", "javax.sound.sampled.FloatControl.Type", true),
+              new String[] {
+                "static javax.sound.sampled.FloatControl.Type.BALANCE",
               })
           .put(
               "AsynchronousChannelProvider",
-              new Import[] {
-                new Import("AsynchronousChannelProvider", "java.nio.channels.spi", false),
+              new String[] {
+                "java.nio.channels.spi.AsynchronousChannelProvider",
               })
           .put(
               "SQLNonTransientException",
-              new Import[] {
-                new Import("SQLNonTransientException", "java.sql", false),
+              new String[] {
+                "java.sql.SQLNonTransientException",
               })
           .put(
               "StyleSheet",
-              new Import[] {
-                new Import("StyleSheet", "javax.swing.text.html", false),
+              new String[] {
+                "javax.swing.text.html.StyleSheet",
               })
           .put(
               "XmlAccessorType",
-              new Import[] {
-                new Import("XmlAccessorType", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlAccessorType",
               })
           .put(
               "JULY",
-              new Import[] {
-                new Import("JULY", "java.util.Calendar", true),
-                new Import("JULY", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static java.util.Calendar.JULY",
+                "static javax.xml.datatype.DatatypeConstants.JULY",
               })
           .put(
               "DefaultCopyDrop",
-              new Import[] {
-                new Import("DefaultCopyDrop", "java.awt.dnd.DragSource", true),
+              new String[] {
+                "static java.awt.dnd.DragSource.DefaultCopyDrop",
               })
           .put(
               "TAGS",
-              new Import[] {
-                new Import("TAGS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.TAGS",
               })
           .put(
               "getSystemTextColor",
-              new Import[] {
-                new Import("getSystemTextColor", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getSystemTextColor",
               })
           .put(
               "CellEditor",
-              new Import[] {
-                new Import("CellEditor", "javax.swing", false),
+              new String[] {
+                "javax.swing.CellEditor",
               })
           .put(
               "HORIZONTAL_SPLIT",
-              new Import[] {
-                new Import("HORIZONTAL_SPLIT", "javax.swing.JSplitPane", true),
+              new String[] {
+                "static javax.swing.JSplitPane.HORIZONTAL_SPLIT",
               })
           .put(
               "SEG_LINETO",
-              new Import[] {
-                new Import("SEG_LINETO", "java.awt.geom.PathIterator", true),
+              new String[] {
+                "static java.awt.geom.PathIterator.SEG_LINETO",
               })
           .put(
               "FocusTraversalPolicy",
-              new Import[] {
-                new Import("FocusTraversalPolicy", "java.awt", false),
+              new String[] {
+                "java.awt.FocusTraversalPolicy",
               })
           .put(
               "MultiPixelPackedSampleModel",
-              new Import[] {
-                new Import("MultiPixelPackedSampleModel", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.MultiPixelPackedSampleModel",
               })
           .put(
               "nextAfter",
-              new Import[] {
-                new Import("nextAfter", "java.lang.Math", true),
-                new Import("nextAfter", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.nextAfter", "static java.lang.StrictMath.nextAfter",
               })
           .put(
               "getMenuBarBorder",
-              new Import[] {
-                new Import("getMenuBarBorder", "javax.swing.plaf.basic.BasicBorders", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicBorders.getMenuBarBorder",
               })
           .put(
               "MAX_VALUE",
-              new Import[] {
-                new Import("MAX_VALUE", "java.lang.Byte", true),
-                new Import("MAX_VALUE", "java.lang.Character", true),
-                new Import("MAX_VALUE", "java.lang.Double", true),
-                new Import("MAX_VALUE", "java.lang.Float", true),
-                new Import("MAX_VALUE", "java.lang.Integer", true),
-                new Import("MAX_VALUE", "java.lang.Long", true),
-                new Import("MAX_VALUE", "java.lang.Short", true),
-                new Import("MAX_VALUE", "java.time.Year", true),
+              new String[] {
+                "static java.lang.Byte.MAX_VALUE",
+                "static java.lang.Character.MAX_VALUE",
+                "static java.lang.Double.MAX_VALUE",
+                "static java.lang.Float.MAX_VALUE",
+                "static java.lang.Integer.MAX_VALUE",
+                "static java.lang.Long.MAX_VALUE",
+                "static java.lang.Short.MAX_VALUE",
+                "static java.time.Year.MAX_VALUE",
               })
           .put(
               "InvalidMarkException",
-              new Import[] {
-                new Import("InvalidMarkException", "java.nio", false),
+              new String[] {
+                "java.nio.InvalidMarkException",
               })
           .put(
               "MatteBorder",
-              new Import[] {
-                new Import("MatteBorder", "javax.swing.border", false),
+              new String[] {
+                "javax.swing.border.MatteBorder",
               })
           .put(
               "showMessageDialog",
-              new Import[] {
-                new Import("showMessageDialog", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.showMessageDialog",
               })
           .put(
               "MultiRootPaneUI",
-              new Import[] {
-                new Import("MultiRootPaneUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiRootPaneUI",
               })
           .put(
               "SystemException",
-              new Import[] {
-                new Import("SystemException", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.SystemException",
               })
           .put(
               "TrayIcon",
-              new Import[] {
-                new Import("TrayIcon", "java.awt", false),
+              new String[] {
+                "java.awt.TrayIcon",
               })
           .put(
               "SOAP12HTTP_BINDING",
-              new Import[] {
-                new Import("SOAP12HTTP_BINDING", "javax.xml.ws.soap.SOAPBinding", true),
+              new String[] {
+                "static javax.xml.ws.soap.SOAPBinding.SOAP12HTTP_BINDING",
               })
           .put(
               "WatchEvent",
-              new Import[] {
-                new Import("WatchEvent", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.WatchEvent",
               })
           .put(
               "getRadioButtonBorder",
-              new Import[] {
-                new Import("getRadioButtonBorder", "javax.swing.plaf.basic.BasicBorders", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicBorders.getRadioButtonBorder",
               })
           .put(
               "DatatypeConverterInterface",
-              new Import[] {
-                new Import("DatatypeConverterInterface", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.DatatypeConverterInterface",
               })
           .put(
               "Queue",
-              new Import[] {
-                new Import("Queue", "java.util", false),
+              new String[] {
+                "java.util.Queue",
               })
           .put(
               "TINYINT",
-              new Import[] {
-                new Import("TINYINT", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.TINYINT",
               })
           .put(
               "NA_LETTER_TRANSPARENT",
-              new Import[] {
-                new Import(
-                    "NA_LETTER_TRANSPARENT", "javax.print.attribute.standard.MediaName", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaName.NA_LETTER_TRANSPARENT",
               })
           .put(
               "JUNE",
-              new Import[] {
-                new Import("JUNE", "java.util.Calendar", true),
-                new Import("JUNE", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static java.util.Calendar.JUNE",
+                "static javax.xml.datatype.DatatypeConstants.JUNE",
               })
           .put(
               "AccessibleResourceBundle",
-              new Import[] {
-                new Import("AccessibleResourceBundle", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleResourceBundle",
               })
           .put(
               "_PERSISTENT",
-              new Import[] {
-                new Import("_PERSISTENT", "org.omg.PortableServer.LifespanPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.LifespanPolicyValue._PERSISTENT",
               })
           .put(
               "REF_invokeVirtual",
-              new Import[] {
-                new Import("REF_invokeVirtual", "java.lang.invoke.MethodHandleInfo", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandleInfo.REF_invokeVirtual",
               })
           .put(
               "BORDER_RIGHT",
-              new Import[] {
-                new Import("BORDER_RIGHT", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_RIGHT",
               })
           .put(
               "newCachedThreadPool",
-              new Import[] {
-                new Import("newCachedThreadPool", "java.util.concurrent.Executors", true),
+              new String[] {
+                "static java.util.concurrent.Executors.newCachedThreadPool",
               })
           .put(
               "ColorUIResource",
-              new Import[] {
-                new Import("ColorUIResource", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.ColorUIResource",
               })
           .put(
               "MODAL_LAYER",
-              new Import[] {
-                new Import("MODAL_LAYER", "javax.swing.JLayeredPane", true),
+              new String[] {
+                "static javax.swing.JLayeredPane.MODAL_LAYER",
               })
           .put(
               "LoadStoreParameter",
-              new Import[] {
-                new Import("LoadStoreParameter", "java.security.KeyStore", false),
+              new String[] {
+                "java.security.KeyStore.LoadStoreParameter",
               })
           .put(
               "OP_CONNECT",
-              new Import[] {
-                new Import("OP_CONNECT", "java.nio.channels.SelectionKey", true),
+              new String[] {
+                "static java.nio.channels.SelectionKey.OP_CONNECT",
               })
           .put(
               "COMBINING",
-              new Import[] {
-                new Import("COMBINING", "java.awt.font.GlyphMetrics", true),
+              new String[] {
+                "static java.awt.font.GlyphMetrics.COMBINING",
               })
           .put(
               "ITEM_LAST",
-              new Import[] {
-                new Import("ITEM_LAST", "java.awt.event.ItemEvent", true),
+              new String[] {
+                "static java.awt.event.ItemEvent.ITEM_LAST",
               })
           .put(
               "GroupPrincipal",
-              new Import[] {
-                new Import("GroupPrincipal", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.GroupPrincipal",
               })
           .put(
               "AdapterActivatorOperations",
-              new Import[] {
-                new Import("AdapterActivatorOperations", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.AdapterActivatorOperations",
               })
           .put(
               "TAG_FVAR",
-              new Import[] {
-                new Import("TAG_FVAR", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_FVAR",
               })
           .put(
               "JMenuBar",
-              new Import[] {
-                new Import("JMenuBar", "javax.swing", false),
+              new String[] {
+                "javax.swing.JMenuBar",
               })
           .put(
               "Types",
-              new Import[] {
-                new Import("Types", "java.sql", false),
-                new Import("Types", "javax.lang.model.util", false),
+              new String[] {
+                "java.sql.Types", "javax.lang.model.util.Types",
               })
           .put(
               "getFileAttributeView",
-              new Import[] {
-                new Import("getFileAttributeView", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.getFileAttributeView",
               })
           .put(
               "ISO_A10",
-              new Import[] {
-                new Import("ISO_A10", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A10", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_A10",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_A10",
               })
           .put(
               "getDefaultSocketFactory",
-              new Import[] {
-                new Import("getDefaultSocketFactory", "java.rmi.server.RMISocketFactory", true),
+              new String[] {
+                "static java.rmi.server.RMISocketFactory.getDefaultSocketFactory",
               })
           .put(
               "PRIVATE_KEY",
-              new Import[] {
-                new Import("PRIVATE_KEY", "javax.crypto.Cipher", true),
+              new String[] {
+                "static javax.crypto.Cipher.PRIVATE_KEY",
               })
           .put(
               "JobStateReason",
-              new Import[] {
-                new Import("JobStateReason", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobStateReason",
               })
           .put(
               "TOOL_BAR_CONTENT",
-              new Import[] {
-                new Import("TOOL_BAR_CONTENT", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.TOOL_BAR_CONTENT",
               })
           .put(
               "DST_ATOP",
-              new Import[] {
-                new Import("DST_ATOP", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.DST_ATOP",
               })
           .put(
               "longBitsToDouble",
-              new Import[] {
-                new Import("longBitsToDouble", "java.lang.Double", true),
+              new String[] {
+                "static java.lang.Double.longBitsToDouble",
               })
           .put(
               "ROOT_PANE",
-              new Import[] {
-                new Import("ROOT_PANE", "javax.accessibility.AccessibleRole", true),
-                new Import("ROOT_PANE", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.ROOT_PANE",
+                "static javax.swing.plaf.synth.Region.ROOT_PANE",
               })
           .put(
               "Comparator",
-              new Import[] {
-                new Import("Comparator", "java.util", false),
+              new String[] {
+                "java.util.Comparator",
               })
           .put(
               "ComponentUI",
-              new Import[] {
-                new Import("ComponentUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.ComponentUI",
               })
           .put(
               "TreeNode",
-              new Import[] {
-                new Import("TreeNode", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.TreeNode",
               })
           .put(
               "IIOWriteWarningListener",
-              new Import[] {
-                new Import("IIOWriteWarningListener", "javax.imageio.event", false),
+              new String[] {
+                "javax.imageio.event.IIOWriteWarningListener",
               })
           .put(
               "decrementExact",
-              new Import[] {
-                new Import("decrementExact", "java.lang.Math", true),
+              new String[] {
+                "static java.lang.Math.decrementExact",
               })
           .put(
               "CompoundBorder",
-              new Import[] {
-                new Import("CompoundBorder", "javax.swing.border", false),
+              new String[] {
+                "javax.swing.border.CompoundBorder",
               })
           .put(
               "InvalidKeySpecException",
-              new Import[] {
-                new Import("InvalidKeySpecException", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.InvalidKeySpecException",
               })
           .put(
               "propertyKey",
-              new Import[] {
-                new Import("propertyKey", "javax.swing.plaf.basic.BasicHTML", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicHTML.propertyKey",
               })
           .put(
               "ENCLOSED_ALPHANUMERICS",
-              new Import[] {
-                new Import("ENCLOSED_ALPHANUMERICS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ENCLOSED_ALPHANUMERICS",
               })
           .put(
               "SynthSeparatorUI",
-              new Import[] {
-                new Import("SynthSeparatorUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthSeparatorUI",
               })
           .put(
               "IndexOutOfBoundsException",
-              new Import[] {
-                new Import("IndexOutOfBoundsException", "java.lang", false),
+              new String[] {
+                "java.lang.IndexOutOfBoundsException",
               })
           .put(
               "FIXED",
-              new Import[] {
-                new Import("FIXED", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.FIXED",
               })
           .put(
               "RootPaneContainer",
-              new Import[] {
-                new Import("RootPaneContainer", "javax.swing", false),
+              new String[] {
+                "javax.swing.RootPaneContainer",
               })
           .put(
               "VK_GREATER",
-              new Import[] {
-                new Import("VK_GREATER", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_GREATER",
               })
           .put(
               "getRootFrame",
-              new Import[] {
-                new Import("getRootFrame", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.getRootFrame",
               })
           .put(
               "WIDTH_CONDENSED",
-              new Import[] {
-                new Import("WIDTH_CONDENSED", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WIDTH_CONDENSED",
               })
           .put(
               "MouseWheelEvent",
-              new Import[] {
-                new Import("MouseWheelEvent", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.MouseWheelEvent",
               })
           .put(
               "OffsetDateTime",
-              new Import[] {
-                new Import("OffsetDateTime", "java.time", false),
+              new String[] {
+                "java.time.OffsetDateTime",
               })
           .put(
               "SEVERITY_ERROR",
-              new Import[] {
-                new Import("SEVERITY_ERROR", "org.w3c.dom.DOMError", true),
+              new String[] {
+                "static org.w3c.dom.DOMError.SEVERITY_ERROR",
               })
           .put(
               "TYPE_BICUBIC",
-              new Import[] {
-                new Import("TYPE_BICUBIC", "java.awt.image.AffineTransformOp", true),
+              new String[] {
+                "static java.awt.image.AffineTransformOp.TYPE_BICUBIC",
               })
           .put(
               "IconUIResource",
-              new Import[] {
-                new Import("IconUIResource", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.IconUIResource",
               })
           .put(
               "CheckedOutputStream",
-              new Import[] {
-                new Import("CheckedOutputStream", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.CheckedOutputStream",
               })
           .put(
               "tk_string",
-              new Import[] {
-                new Import("tk_string", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_string",
               })
           .put(
               "isDirectory",
-              new Import[] {
-                new Import("isDirectory", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.isDirectory",
               })
           .put(
               "CANADA",
-              new Import[] {
-                new Import("CANADA", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.CANADA",
               })
           .put(
               "getReceiver",
-              new Import[] {
-                new Import("getReceiver", "javax.sound.midi.MidiSystem", true),
+              new String[] {
+                "static javax.sound.midi.MidiSystem.getReceiver",
               })
           .put(
               "DefaultMutableTreeNode",
-              new Import[] {
-                new Import("DefaultMutableTreeNode", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.DefaultMutableTreeNode",
               })
           .put(
               "CRC32",
-              new Import[] {
-                new Import("CRC32", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.CRC32",
               })
           .put(
               "MARKER_SUPPLY_EMPTY",
-              new Import[] {
-                new Import(
-                    "MARKER_SUPPLY_EMPTY",
-                    "javax.print.attribute.standard.PrinterStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.MARKER_SUPPLY_EMPTY",
               })
           .put(
               "ALCHEMICAL_SYMBOLS",
-              new Import[] {
-                new Import("ALCHEMICAL_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ALCHEMICAL_SYMBOLS",
               })
           .put(
               "random",
-              new Import[] {
-                new Import("random", "java.lang.Math", true),
-                new Import("random", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.random", "static java.lang.StrictMath.random",
               })
           .put(
               "ALIGN_CENTER",
-              new Import[] {
-                new Import("ALIGN_CENTER", "javax.swing.text.StyleConstants", true),
-                new Import("ALIGN_CENTER", "javax.swing.text.TabStop", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.ALIGN_CENTER",
+                "static javax.swing.text.TabStop.ALIGN_CENTER",
               })
           .put(
               "FutureTask",
-              new Import[] {
-                new Import("FutureTask", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.FutureTask",
               })
           .put(
               "SIZED",
-              new Import[] {
-                new Import("SIZED", "java.util.Spliterator", true),
+              new String[] {
+                "static java.util.Spliterator.SIZED",
               })
           .put(
               "BORDER_BOTTOM_STYLE",
-              new Import[] {
-                new Import("BORDER_BOTTOM_STYLE", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_BOTTOM_STYLE",
               })
           .put(
               "XMLReaderFactory",
-              new Import[] {
-                new Import("XMLReaderFactory", "org.xml.sax.helpers", false),
+              new String[] {
+                "org.xml.sax.helpers.XMLReaderFactory",
               })
           .put(
               "getTreeComputerIcon",
-              new Import[] {
-                new Import("getTreeComputerIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getTreeComputerIcon",
               })
           .put(
               "isMirrored",
-              new Import[] {
-                new Import("isMirrored", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isMirrored",
               })
           .put(
               "EQUAL",
-              new Import[] {
-                new Import("EQUAL", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.EQUAL",
               })
           .put(
               "MTOMFeature",
-              new Import[] {
-                new Import("MTOMFeature", "javax.xml.ws.soap", false),
+              new String[] {
+                "javax.xml.ws.soap.MTOMFeature",
               })
           .put(
               "TaggedProfile",
-              new Import[] {
-                new Import("TaggedProfile", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.TaggedProfile",
               })
           .put(
               "RoleResult",
-              new Import[] {
-                new Import("RoleResult", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RoleResult",
               })
           .put(
               "Severity",
-              new Import[] {
-                new Import("Severity", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.Severity",
               })
           .put(
               "getString",
-              new Import[] {
-                new Import("getString", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.getString",
               })
           .put(
               "lastDayOfMonth",
-              new Import[] {
-                new Import("lastDayOfMonth", "java.time.temporal.TemporalAdjusters", true),
+              new String[] {
+                "static java.time.temporal.TemporalAdjusters.lastDayOfMonth",
               })
           .put(
               "DefaultHandler",
-              new Import[] {
-                new Import("DefaultHandler", "org.xml.sax.helpers", false),
+              new String[] {
+                "org.xml.sax.helpers.DefaultHandler",
               })
           .put(
               "currentManager",
-              new Import[] {
-                new Import("currentManager", "javax.swing.RepaintManager", true),
+              new String[] {
+                "static javax.swing.RepaintManager.currentManager",
               })
           .put(
               "TEXT_TRANSFORM",
-              new Import[] {
-                new Import("TEXT_TRANSFORM", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.TEXT_TRANSFORM",
               })
           .put(
               "SSLEngineResult",
-              new Import[] {
-                new Import("SSLEngineResult", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLEngineResult",
               })
           .put(
               "publish",
-              new Import[] {
-                new Import("publish", "javax.xml.ws.Endpoint", true),
+              new String[] {
+                "static javax.xml.ws.Endpoint.publish",
               })
           .put(
               "LOCLEN",
-              new Import[] {
-                new Import("LOCLEN", "java.util.jar.JarEntry", true),
-                new Import("LOCLEN", "java.util.jar.JarFile", true),
-                new Import("LOCLEN", "java.util.jar.JarInputStream", true),
-                new Import("LOCLEN", "java.util.jar.JarOutputStream", true),
-                new Import("LOCLEN", "java.util.zip.ZipEntry", true),
-                new Import("LOCLEN", "java.util.zip.ZipFile", true),
-                new Import("LOCLEN", "java.util.zip.ZipInputStream", true),
-                new Import("LOCLEN", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.LOCLEN",
+                "static java.util.jar.JarFile.LOCLEN",
+                "static java.util.jar.JarInputStream.LOCLEN",
+                "static java.util.jar.JarOutputStream.LOCLEN",
+                "static java.util.zip.ZipEntry.LOCLEN",
+                "static java.util.zip.ZipFile.LOCLEN",
+                "static java.util.zip.ZipInputStream.LOCLEN",
+                "static java.util.zip.ZipOutputStream.LOCLEN",
               })
           .put(
               "HOME",
-              new Import[] {
-                new Import("HOME", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.HOME",
               })
           .put(
               "numberOfTrailingZeros",
-              new Import[] {
-                new Import("numberOfTrailingZeros", "java.lang.Integer", true),
-                new Import("numberOfTrailingZeros", "java.lang.Long", true),
+              new String[] {
+                "static java.lang.Integer.numberOfTrailingZeros",
+                "static java.lang.Long.numberOfTrailingZeros",
               })
           .put(
               "FLAG_MARKERS",
-              new Import[] {
-                new Import("FLAG_MARKERS", "java.lang.invoke.LambdaMetafactory", true),
+              new String[] {
+                "static java.lang.invoke.LambdaMetafactory.FLAG_MARKERS",
               })
           .put(
               "Fidelity",
-              new Import[] {
-                new Import("Fidelity", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.Fidelity",
               })
           .put(
               "computeDifference",
-              new Import[] {
-                new Import("computeDifference", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.computeDifference",
               })
           .put(
               "ClientRequestInterceptor",
-              new Import[] {
-                new Import("ClientRequestInterceptor", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ClientRequestInterceptor",
               })
           .put(
               "NUMERIC_SHAPING",
-              new Import[] {
-                new Import("NUMERIC_SHAPING", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.NUMERIC_SHAPING",
               })
           .put(
               "CopyOption",
-              new Import[] {
-                new Import("CopyOption", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.CopyOption",
               })
           .put(
               "typeSearchable",
-              new Import[] {
-                new Import("typeSearchable", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.typeSearchable",
               })
           .put(
               "XmlMimeType",
-              new Import[] {
-                new Import("XmlMimeType", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlMimeType",
               })
           .put(
               "PROCESSING",
-              new Import[] {
-                new Import("PROCESSING", "javax.print.attribute.standard.JobState", true),
-                new Import("PROCESSING", "javax.print.attribute.standard.PrinterState", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobState.PROCESSING",
+                "static javax.print.attribute.standard.PrinterState.PROCESSING",
               })
           .put(
               "TransferQueue",
-              new Import[] {
-                new Import("TransferQueue", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.TransferQueue",
               })
           .put(
               "StateEdit",
-              new Import[] {
-                new Import("StateEdit", "javax.swing.undo", false),
+              new String[] {
+                "javax.swing.undo.StateEdit",
               })
           .put(
               "NT_STRING_UID_NAME",
-              new Import[] {
-                new Import("NT_STRING_UID_NAME", "org.ietf.jgss.GSSName", true),
+              new String[] {
+                "static org.ietf.jgss.GSSName.NT_STRING_UID_NAME",
               })
           .put(
               "BasicRadioButtonMenuItemUI",
-              new Import[] {
-                new Import("BasicRadioButtonMenuItemUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicRadioButtonMenuItemUI",
               })
           .put(
               "MemoryNotificationInfo",
-              new Import[] {
-                new Import("MemoryNotificationInfo", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.MemoryNotificationInfo",
               })
           .put(
               "encodeJavaMIMEType",
-              new Import[] {
-                new Import("encodeJavaMIMEType", "java.awt.datatransfer.SystemFlavorMap", true),
+              new String[] {
+                "static java.awt.datatransfer.SystemFlavorMap.encodeJavaMIMEType",
               })
           .put(
               "HOLD_CURSORS_OVER_COMMIT",
-              new Import[] {
-                new Import("HOLD_CURSORS_OVER_COMMIT", "java.sql.ResultSet", true),
+              new String[] {
+                "static java.sql.ResultSet.HOLD_CURSORS_OVER_COMMIT",
               })
           .put(
               "TYPE_USHORT",
-              new Import[] {
-                new Import("TYPE_USHORT", "java.awt.image.DataBuffer", true),
+              new String[] {
+                "static java.awt.image.DataBuffer.TYPE_USHORT",
               })
           .put(
               "HORIZONTAL_SCROLLBAR_AS_NEEDED",
-              new Import[] {
-                new Import(
-                    "HORIZONTAL_SCROLLBAR_AS_NEEDED", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.HORIZONTAL_SCROLLBAR_AS_NEEDED",
               })
           .put(
               "XAConnection",
-              new Import[] {
-                new Import("XAConnection", "javax.sql", false),
+              new String[] {
+                "javax.sql.XAConnection",
               })
           .put(
               "VK_AT",
-              new Import[] {
-                new Import("VK_AT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_AT",
               })
           .put(
               "AsynchronousByteChannel",
-              new Import[] {
-                new Import("AsynchronousByteChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.AsynchronousByteChannel",
               })
           .put(
               "AbstractLongSpliterator",
-              new Import[] {
-                new Import("AbstractLongSpliterator", "java.util.Spliterators", false),
+              new String[] {
+                "java.util.Spliterators.AbstractLongSpliterator",
               })
           .put(
               "MENU_ITEM",
-              new Import[] {
-                new Import("MENU_ITEM", "javax.accessibility.AccessibleRole", true),
-                new Import("MENU_ITEM", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.MENU_ITEM",
+                "static javax.swing.plaf.synth.Region.MENU_ITEM",
               })
           .put(
               "SocketFactory",
-              new Import[] {
-                new Import("SocketFactory", "javax.net", false),
+              new String[] {
+                "javax.net.SocketFactory",
               })
           .put(
               "RecursiveAction",
-              new Import[] {
-                new Import("RecursiveAction", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.RecursiveAction",
               })
           .put(
               "printAnySimpleType",
-              new Import[] {
-                new Import("printAnySimpleType", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printAnySimpleType",
               })
           .put(
               "UnsatisfiedLinkError",
-              new Import[] {
-                new Import("UnsatisfiedLinkError", "java.lang", false),
+              new String[] {
+                "java.lang.UnsatisfiedLinkError",
               })
           .put(
               "SslRMIServerSocketFactory",
-              new Import[] {
-                new Import("SslRMIServerSocketFactory", "javax.rmi.ssl", false),
+              new String[] {
+                "javax.rmi.ssl.SslRMIServerSocketFactory",
               })
           .put(
               "getDriver",
-              new Import[] {
-                new Import("getDriver", "java.sql.DriverManager", true),
+              new String[] {
+                "static java.sql.DriverManager.getDriver",
               })
           .put(
               "Mac",
-              new Import[] {
-                new Import("Mac", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.Mac",
               })
           .put(
               "YI_RADICALS",
-              new Import[] {
-                new Import("YI_RADICALS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.YI_RADICALS",
               })
           .put(
               "findMedia",
-              new Import[] {
-                new Import("findMedia", "javax.print.attribute.standard.MediaSize", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.findMedia",
               })
           .put(
               "HTTP_NOT_IMPLEMENTED",
-              new Import[] {
-                new Import("HTTP_NOT_IMPLEMENTED", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_NOT_IMPLEMENTED",
               })
           .put(
               "averagingDouble",
-              new Import[] {
-                new Import("averagingDouble", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.averagingDouble",
               })
           .put(
               "Map",
-              new Import[] {
-                new Import("Map", "java.util", false),
+              new String[] {
+                "java.util.Map",
               })
           .put(
               "PolicyErrorHelper",
-              new Import[] {
-                new Import("PolicyErrorHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.PolicyErrorHelper",
               })
           .put(
               "RowSetMetaData",
-              new Import[] {
-                new Import("RowSetMetaData", "javax.sql", false),
+              new String[] {
+                "javax.sql.RowSetMetaData",
               })
           .put(
               "ItemEvent",
-              new Import[] {
-                new Import("ItemEvent", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.ItemEvent",
               })
           .put(
               "GYEARMONTH",
-              new Import[] {
-                new Import("GYEARMONTH", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.GYEARMONTH",
               })
           .put(
               "REF_newInvokeSpecial",
-              new Import[] {
-                new Import("REF_newInvokeSpecial", "java.lang.invoke.MethodHandleInfo", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandleInfo.REF_newInvokeSpecial",
               })
           .put(
               "isHTMLString",
-              new Import[] {
-                new Import("isHTMLString", "javax.swing.plaf.basic.BasicHTML", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicHTML.isHTMLString",
               })
           .put(
               "TAG_EBDT",
-              new Import[] {
-                new Import("TAG_EBDT", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_EBDT",
               })
           .put(
               "ofLocale",
-              new Import[] {
-                new Import("ofLocale", "java.time.chrono.Chronology", true),
+              new String[] {
+                "static java.time.chrono.Chronology.ofLocale",
               })
           .put(
               "Diagnostic",
-              new Import[] {
-                new Import("Diagnostic", "javax.tools", false),
+              new String[] {
+                "javax.tools.Diagnostic",
               })
           .put(
               "JPEGQTable",
-              new Import[] {
-                new Import("JPEGQTable", "javax.imageio.plugins.jpeg", false),
+              new String[] {
+                "javax.imageio.plugins.jpeg.JPEGQTable",
               })
           .put(
               "Callable",
-              new Import[] {
-                new Import("Callable", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.Callable",
               })
           .put(
               "ToggleButtonBorder",
-              new Import[] {
-                new Import("ToggleButtonBorder", "javax.swing.plaf.basic.BasicBorders", false),
-                new Import("ToggleButtonBorder", "javax.swing.plaf.metal.MetalBorders", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicBorders.ToggleButtonBorder",
+                "javax.swing.plaf.metal.MetalBorders.ToggleButtonBorder",
               })
           .put(
               "CalendarNameProvider",
-              new Import[] {
-                new Import("CalendarNameProvider", "java.util.spi", false),
+              new String[] {
+                "java.util.spi.CalendarNameProvider",
               })
           .put(
               "BEST_COMPRESSION",
-              new Import[] {
-                new Import("BEST_COMPRESSION", "java.util.zip.Deflater", true),
+              new String[] {
+                "static java.util.zip.Deflater.BEST_COMPRESSION",
               })
           .put(
               "EFFORT",
-              new Import[] {
-                new Import("EFFORT", "java.util.jar.Pack200.Packer", true),
+              new String[] {
+                "static java.util.jar.Pack200.Packer.EFFORT",
               })
           .put(
               "NamespaceContext",
-              new Import[] {
-                new Import("NamespaceContext", "javax.xml.namespace", false),
+              new String[] {
+                "javax.xml.namespace.NamespaceContext",
               })
           .put(
               "TAG_OPBD",
-              new Import[] {
-                new Import("TAG_OPBD", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_OPBD",
               })
           .put(
               "longStream",
-              new Import[] {
-                new Import("longStream", "java.util.stream.StreamSupport", true),
+              new String[] {
+                "static java.util.stream.StreamSupport.longStream",
               })
           .put(
               "MultiToolBarUI",
-              new Import[] {
-                new Import("MultiToolBarUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiToolBarUI",
               })
           .put(
               "FILE",
-              new Import[] {
-                new Import("FILE", "java.awt.JobAttributes.DestinationType", true),
-                new Import(
-                    "FILE", "javax.print.attribute.standard.ReferenceUriSchemesSupported", true),
+              new String[] {
+                "static java.awt.JobAttributes.DestinationType.FILE",
+                "static javax.print.attribute.standard.ReferenceUriSchemesSupported.FILE",
               })
           .put(
               "DIVIDER_SIZE_PROPERTY",
-              new Import[] {
-                new Import("DIVIDER_SIZE_PROPERTY", "javax.swing.JSplitPane", true),
+              new String[] {
+                "static javax.swing.JSplitPane.DIVIDER_SIZE_PROPERTY",
               })
           .put(
               "JoinRowSet",
-              new Import[] {
-                new Import("JoinRowSet", "javax.sql.rowset", false),
+              new String[] {
+                "javax.sql.rowset.JoinRowSet",
               })
           .put(
               "TAG_CMAP",
-              new Import[] {
-                new Import("TAG_CMAP", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_CMAP",
               })
           .put(
               "ENGLISH",
-              new Import[] {
-                new Import("ENGLISH", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.ENGLISH",
               })
           .put(
               "getSplitPaneDividerBorder",
-              new Import[] {
-                new Import(
-                    "getSplitPaneDividerBorder", "javax.swing.plaf.basic.BasicBorders", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicBorders.getSplitPaneDividerBorder",
               })
           .put(
               "icCurveCount",
-              new Import[] {
-                new Import("icCurveCount", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icCurveCount",
               })
           .put(
               "dk_String",
-              new Import[] {
-                new Import("dk_String", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_String",
               })
           .put(
               "CharConversionException",
-              new Import[] {
-                new Import("CharConversionException", "java.io", false),
+              new String[] {
+                "java.io.CharConversionException",
               })
           .put(
               "TELUGU",
-              new Import[] {
-                new Import("TELUGU", "java.awt.font.NumericShaper", true),
-                new Import("TELUGU", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.TELUGU",
+                "static java.lang.Character.UnicodeBlock.TELUGU",
               })
           .put(
               "VK_CONTROL",
-              new Import[] {
-                new Import("VK_CONTROL", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_CONTROL",
               })
           .put(
               "procedureColumnInOut",
-              new Import[] {
-                new Import("procedureColumnInOut", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.procedureColumnInOut",
               })
           .put(
               "INSERT_ROW_CONFLICT",
-              new Import[] {
-                new Import("INSERT_ROW_CONFLICT", "javax.sql.rowset.spi.SyncResolver", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncResolver.INSERT_ROW_CONFLICT",
               })
           .put(
               "AttributeSetUtilities",
-              new Import[] {
-                new Import("AttributeSetUtilities", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.AttributeSetUtilities",
               })
           .put(
               "PrintMode",
-              new Import[] {
-                new Import("PrintMode", "javax.swing.JTable", false),
+              new String[] {
+                "javax.swing.JTable.PrintMode",
               })
           .put(
               "TypeKind",
-              new Import[] {
-                new Import("TypeKind", "javax.lang.model.type", false),
+              new String[] {
+                "javax.lang.model.type.TypeKind",
               })
           .put(
               "FixedHolder",
-              new Import[] {
-                new Import("FixedHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.FixedHolder",
               })
           .put(
               "AM_PM_FIELD",
-              new Import[] {
-                new Import("AM_PM_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.AM_PM_FIELD",
               })
           .put(
               "SQLPermission",
-              new Import[] {
-                new Import("SQLPermission", "java.sql", false),
+              new String[] {
+                "java.sql.SQLPermission",
               })
           .put(
               "WebParam",
-              new Import[] {
-                new Import("WebParam", "javax.jws", false),
+              new String[] {
+                "javax.jws.WebParam",
               })
           .put(
               "RELATION_MBEAN_CREATION",
-              new Import[] {
-                new Import(
-                    "RELATION_MBEAN_CREATION",
-                    "javax.management.relation.RelationNotification",
-                    true),
+              new String[] {
+                "static javax.management.relation.RelationNotification.RELATION_MBEAN_CREATION",
               })
           .put(
               "SetOverrideTypeHelper",
-              new Import[] {
-                new Import("SetOverrideTypeHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.SetOverrideTypeHelper",
               })
           .put(
               "isSymbolicLink",
-              new Import[] {
-                new Import("isSymbolicLink", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.isSymbolicLink",
               })
           .put(
               "QUARTO",
-              new Import[] {
-                new Import("QUARTO", "java.awt.PageAttributes.MediaType", true),
-                new Import("QUARTO", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("QUARTO", "javax.print.attribute.standard.MediaSize.Other", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.QUARTO",
+                "static javax.print.attribute.standard.MediaSizeName.QUARTO",
+                "static javax.print.attribute.standard.MediaSize.Other.QUARTO",
               })
           .put(
               "TYPE_7CLR",
-              new Import[] {
-                new Import("TYPE_7CLR", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_7CLR",
               })
           .put(
               "SecretKeySpec",
-              new Import[] {
-                new Import("SecretKeySpec", "javax.crypto.spec", false),
+              new String[] {
+                "javax.crypto.spec.SecretKeySpec",
               })
           .put(
               "XMLNS_ATTRIBUTE",
-              new Import[] {
-                new Import("XMLNS_ATTRIBUTE", "javax.xml.XMLConstants", true),
+              new String[] {
+                "static javax.xml.XMLConstants.XMLNS_ATTRIBUTE",
               })
           .put(
               "marshal",
-              new Import[] {
-                new Import("marshal", "javax.xml.bind.JAXB", true),
+              new String[] {
+                "static javax.xml.bind.JAXB.marshal",
               })
           .put(
               "UNIFIED_CANADIAN_ABORIGINAL_SYLLABICS",
-              new Import[] {
-                new Import(
-                    "UNIFIED_CANADIAN_ABORIGINAL_SYLLABICS",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.UNIFIED_CANADIAN_ABORIGINAL_SYLLABICS",
               })
           .put(
               "NOTATION_DECLARATION",
-              new Import[] {
-                new Import("NOTATION_DECLARATION", "javax.xml.stream.XMLStreamConstants", true),
+              new String[] {
+                "static javax.xml.stream.XMLStreamConstants.NOTATION_DECLARATION",
               })
           .put(
               "setLookAndFeel",
-              new Import[] {
-                new Import("setLookAndFeel", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.setLookAndFeel",
               })
           .put(
               "FINE",
-              new Import[] {
-                new Import("FINE", "java.util.logging.Level", true),
+              new String[] {
+                "static java.util.logging.Level.FINE",
               })
           .put(
               "_USE_DEFAULT_SERVANT",
-              new Import[] {
-                new Import(
-                    "_USE_DEFAULT_SERVANT",
-                    "org.omg.PortableServer.RequestProcessingPolicyValue",
-                    true),
+              new String[] {
+                "static org.omg.PortableServer.RequestProcessingPolicyValue._USE_DEFAULT_SERVANT",
               })
           .put(
               "localDate",
-              new Import[] {
-                new Import("localDate", "java.time.temporal.TemporalQueries", true),
+              new String[] {
+                "static java.time.temporal.TemporalQueries.localDate",
               })
           .put(
               "UUID",
-              new Import[] {
-                new Import("UUID", "java.util", false),
+              new String[] {
+                "java.util.UUID",
               })
           .put(
               "ServerRef",
-              new Import[] {
-                new Import("ServerRef", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.ServerRef",
               })
           .put(
               "getLogTimers",
-              new Import[] {
-                new Import("getLogTimers", "javax.swing.Timer", true),
+              new String[] {
+                "static javax.swing.Timer.getLogTimers",
               })
           .put(
               "BUTTON1_DOWN_MASK",
-              new Import[] {
-                new Import("BUTTON1_DOWN_MASK", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.event.InputEvent.BUTTON1_DOWN_MASK",
               })
           .put(
               "getWindowTitleForeground",
-              new Import[] {
-                new Import(
-                    "getWindowTitleForeground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getWindowTitleForeground",
               })
           .put(
               "getPositionBelow",
-              new Import[] {
-                new Import("getPositionBelow", "javax.swing.text.Utilities", true),
+              new String[] {
+                "static javax.swing.text.Utilities.getPositionBelow",
               })
           .put(
               "tk_wchar",
-              new Import[] {
-                new Import("tk_wchar", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_wchar",
               })
           .put(
               "createGrayscale",
-              new Import[] {
-                new Import("createGrayscale", "javax.imageio.ImageTypeSpecifier", true),
+              new String[] {
+                "static javax.imageio.ImageTypeSpecifier.createGrayscale",
               })
           .put(
               "setErr",
-              new Import[] {
-                new Import("setErr", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.setErr",
               })
           .put(
               "SHOWING",
-              new Import[] {
-                new Import("SHOWING", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.SHOWING",
               })
           .put(
               "URIParameter",
-              new Import[] {
-                new Import("URIParameter", "java.security", false),
+              new String[] {
+                "java.security.URIParameter",
               })
           .put(
               "ToolTipManager",
-              new Import[] {
-                new Import("ToolTipManager", "javax.swing", false),
+              new String[] {
+                "javax.swing.ToolTipManager",
               })
           .put(
               "createBandedRaster",
-              new Import[] {
-                new Import("createBandedRaster", "java.awt.image.Raster", true),
+              new String[] {
+                "static java.awt.image.Raster.createBandedRaster",
               })
           .put(
               "FILL",
-              new Import[] {
-                new Import("FILL", "java.awt.font.ShapeGraphicAttribute", true),
+              new String[] {
+                "static java.awt.font.ShapeGraphicAttribute.FILL",
               })
           .put(
               "AsynchronousCloseException",
-              new Import[] {
-                new Import("AsynchronousCloseException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.AsynchronousCloseException",
               })
           .put(
               "RoleList",
-              new Import[] {
-                new Import("RoleList", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RoleList",
               })
           .put(
               "PrintEvent",
-              new Import[] {
-                new Import("PrintEvent", "javax.print.event", false),
+              new String[] {
+                "javax.print.event.PrintEvent",
               })
           .put(
               "tk_ulonglong",
-              new Import[] {
-                new Import("tk_ulonglong", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_ulonglong",
               })
           .put(
               "HttpExchange",
-              new Import[] {
-                new Import("HttpExchange", "javax.xml.ws.spi.http", false),
+              new String[] {
+                "javax.xml.ws.spi.http.HttpExchange",
               })
           .put(
               "TRUE",
-              new Import[] {
-                new Import("TRUE", "java.lang.Boolean", true),
-                new Import("TRUE", "java.util.jar.Pack200.Packer", true),
-                new Import("TRUE", "java.util.jar.Pack200.Unpacker", true),
+              new String[] {
+                "static java.lang.Boolean.TRUE",
+                "static java.util.jar.Pack200.Packer.TRUE",
+                "static java.util.jar.Pack200.Unpacker.TRUE",
               })
           .put(
               "TYPE_BCLR",
-              new Import[] {
-                new Import("TYPE_BCLR", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_BCLR",
               })
           .put(
               "TextOutputCallback",
-              new Import[] {
-                new Import("TextOutputCallback", "javax.security.auth.callback", false),
+              new String[] {
+                "javax.security.auth.callback.TextOutputCallback",
               })
           .put(
               "ImageOutputStreamImpl",
-              new Import[] {
-                new Import("ImageOutputStreamImpl", "javax.imageio.stream", false),
+              new String[] {
+                "javax.imageio.stream.ImageOutputStreamImpl",
               })
           .put(
               "TEXT_PLAIN_UTF_16",
-              new Import[] {
-                new Import("TEXT_PLAIN_UTF_16", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_PLAIN_UTF_16", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_PLAIN_UTF_16", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.TEXT_PLAIN_UTF_16",
+                "static javax.print.DocFlavor.INPUT_STREAM.TEXT_PLAIN_UTF_16",
+                "static javax.print.DocFlavor.URL.TEXT_PLAIN_UTF_16",
               })
           .put(
               "Spliterators",
-              new Import[] {
-                new Import("Spliterators", "java.util", false),
+              new String[] {
+                "java.util.Spliterators",
               })
           .put(
               "MetalFileChooserUI",
-              new Import[] {
-                new Import("MetalFileChooserUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalFileChooserUI",
               })
           .put(
               "SHOWING_CHANGED",
-              new Import[] {
-                new Import("SHOWING_CHANGED", "java.awt.event.HierarchyEvent", true),
+              new String[] {
+                "static java.awt.event.HierarchyEvent.SHOWING_CHANGED",
               })
           .put(
               "_DynSequenceStub",
-              new Import[] {
-                new Import("_DynSequenceStub", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny._DynSequenceStub",
               })
           .put(
               "FileOutputStream",
-              new Import[] {
-                new Import("FileOutputStream", "java.io", false),
+              new String[] {
+                "java.io.FileOutputStream",
               })
           .put(
               "DIRECTIONALITY_RIGHT_TO_LEFT_ARABIC",
-              new Import[] {
-                new Import("DIRECTIONALITY_RIGHT_TO_LEFT_ARABIC", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_RIGHT_TO_LEFT_ARABIC",
               })
           .put(
               "NotActiveException",
-              new Import[] {
-                new Import("NotActiveException", "java.io", false),
+              new String[] {
+                "java.io.NotActiveException",
               })
           .put(
               "TREE",
-              new Import[] {
-                new Import("TREE", "javax.accessibility.AccessibleRole", true),
-                new Import("TREE", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.TREE",
+                "static javax.swing.plaf.synth.Region.TREE",
               })
           .put(
               "TemporalAdjuster",
-              new Import[] {
-                new Import("TemporalAdjuster", "java.time.temporal", false),
+              new String[] {
+                "java.time.temporal.TemporalAdjuster",
               })
           .put(
               "DebugGraphics",
-              new Import[] {
-                new Import("DebugGraphics", "javax.swing", false),
+              new String[] {
+                "javax.swing.DebugGraphics",
               })
           .put(
               "WatchService",
-              new Import[] {
-                new Import("WatchService", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.WatchService",
               })
           .put(
               "TEXT_FOREGROUND",
-              new Import[] {
-                new Import("TEXT_FOREGROUND", "javax.swing.plaf.synth.ColorType", true),
+              new String[] {
+                "static javax.swing.plaf.synth.ColorType.TEXT_FOREGROUND",
               })
           .put(
               "GREEK_EXTENDED",
-              new Import[] {
-                new Import("GREEK_EXTENDED", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.GREEK_EXTENDED",
               })
           .put(
               "ExemptionMechanismSpi",
-              new Import[] {
-                new Import("ExemptionMechanismSpi", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.ExemptionMechanismSpi",
               })
           .put(
               "FlowLayout",
-              new Import[] {
-                new Import("FlowLayout", "java.awt", false),
+              new String[] {
+                "java.awt.FlowLayout",
               })
           .put(
               "FormattableFlags",
-              new Import[] {
-                new Import("FormattableFlags", "java.util", false),
+              new String[] {
+                "java.util.FormattableFlags",
               })
           .put(
               "JobPrioritySupported",
-              new Import[] {
-                new Import("JobPrioritySupported", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobPrioritySupported",
               })
           .put(
               "icSigBlueColorantTag",
-              new Import[] {
-                new Import("icSigBlueColorantTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigBlueColorantTag",
               })
           .put(
               "INVOKES_STOP_CELL_EDITING_PROPERTY",
-              new Import[] {
-                new Import("INVOKES_STOP_CELL_EDITING_PROPERTY", "javax.swing.JTree", true),
+              new String[] {
+                "static javax.swing.JTree.INVOKES_STOP_CELL_EDITING_PROPERTY",
               })
           .put(
               "COMPLETE",
-              new Import[] {
-                new Import("COMPLETE", "java.awt.MediaTracker", true),
+              new String[] {
+                "static java.awt.MediaTracker.COMPLETE",
               })
           .put(
               "XAER_RMERR",
-              new Import[] {
-                new Import("XAER_RMERR", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XAER_RMERR",
               })
           .put(
               "ARG_OUT",
-              new Import[] {
-                new Import("ARG_OUT", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ARG_OUT",
               })
           .put(
               "TIME_ZONE",
-              new Import[] {
-                new Import("TIME_ZONE", "java.text.DateFormat.Field", true),
+              new String[] {
+                "static java.text.DateFormat.Field.TIME_ZONE",
               })
           .put(
               "NODESET",
-              new Import[] {
-                new Import("NODESET", "javax.xml.xpath.XPathConstants", true),
+              new String[] {
+                "static javax.xml.xpath.XPathConstants.NODESET",
               })
           .put(
               "CJK_COMPATIBILITY",
-              new Import[] {
-                new Import("CJK_COMPATIBILITY", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CJK_COMPATIBILITY",
               })
           .put(
               "ClassLoadingMXBean",
-              new Import[] {
-                new Import("ClassLoadingMXBean", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.ClassLoadingMXBean",
               })
           .put(
               "CodecOperations",
-              new Import[] {
-                new Import("CodecOperations", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.CodecOperations",
               })
           .put(
               "SMPTE_25",
-              new Import[] {
-                new Import("SMPTE_25", "javax.sound.midi.Sequence", true),
+              new String[] {
+                "static javax.sound.midi.Sequence.SMPTE_25",
               })
           .put(
               "SMPTE_24",
-              new Import[] {
-                new Import("SMPTE_24", "javax.sound.midi.Sequence", true),
+              new String[] {
+                "static javax.sound.midi.Sequence.SMPTE_24",
               })
           .put(
               "RegistryHandler",
-              new Import[] {
-                new Import("RegistryHandler", "java.rmi.registry", false),
+              new String[] {
+                "java.rmi.registry.RegistryHandler",
               })
           .put(
               "VK_DEAD_CARON",
-              new Import[] {
-                new Import("VK_DEAD_CARON", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DEAD_CARON",
               })
           .put(
               "Oneway",
-              new Import[] {
-                new Import("Oneway", "javax.jws", false),
+              new String[] {
+                "javax.jws.Oneway",
               })
           .put(
               "RMIServer",
-              new Import[] {
-                new Import("RMIServer", "javax.management.remote.rmi", false),
+              new String[] {
+                "javax.management.remote.rmi.RMIServer",
               })
           .put(
               "COMMIT",
-              new Import[] {
-                new Import("COMMIT", "javax.swing.JFormattedTextField", true),
+              new String[] {
+                "static javax.swing.JFormattedTextField.COMMIT",
               })
           .put(
               "SCROLL_LINE_UP",
-              new Import[] {
-                new Import("SCROLL_LINE_UP", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.SCROLL_LINE_UP",
               })
           .put(
               "TYPE_MASK_ROTATION",
-              new Import[] {
-                new Import("TYPE_MASK_ROTATION", "java.awt.geom.AffineTransform", true),
+              new String[] {
+                "static java.awt.geom.AffineTransform.TYPE_MASK_ROTATION",
               })
           .put(
               "ServerSocket",
-              new Import[] {
-                new Import("ServerSocket", "java.net", false),
+              new String[] {
+                "java.net.ServerSocket",
               })
           .put(
               "BOX_DRAWING",
-              new Import[] {
-                new Import("BOX_DRAWING", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.BOX_DRAWING",
               })
           .put(
               "UNDEFINED_CONDITION",
-              new Import[] {
-                new Import("UNDEFINED_CONDITION", "javax.swing.JComponent", true),
+              new String[] {
+                "static javax.swing.JComponent.UNDEFINED_CONDITION",
               })
           .put(
               "processKeyBindings",
-              new Import[] {
-                new Import("processKeyBindings", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.processKeyBindings",
               })
           .put(
               "readSymbolicLink",
-              new Import[] {
-                new Import("readSymbolicLink", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.readSymbolicLink",
               })
           .put(
               "SMPTE_30",
-              new Import[] {
-                new Import("SMPTE_30", "javax.sound.midi.Sequence", true),
+              new String[] {
+                "static javax.sound.midi.Sequence.SMPTE_30",
               })
           .put(
               "emptySortedMap",
-              new Import[] {
-                new Import("emptySortedMap", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.emptySortedMap",
               })
           .put(
               "CONTINUOUS_LAYOUT_PROPERTY",
-              new Import[] {
-                new Import("CONTINUOUS_LAYOUT_PROPERTY", "javax.swing.JSplitPane", true),
+              new String[] {
+                "static javax.swing.JSplitPane.CONTINUOUS_LAYOUT_PROPERTY",
               })
           .put(
               "DatagramSocket",
-              new Import[] {
-                new Import("DatagramSocket", "java.net", false),
+              new String[] {
+                "java.net.DatagramSocket",
               })
           .put(
               "ACTIVATED",
-              new Import[] {
-                new Import("ACTIVATED", "javax.swing.event.HyperlinkEvent.EventType", true),
+              new String[] {
+                "static javax.swing.event.HyperlinkEvent.EventType.ACTIVATED",
               })
           .put(
               "VALUE_TEXT_ANTIALIAS_LCD_HRGB",
-              new Import[] {
-                new Import("VALUE_TEXT_ANTIALIAS_LCD_HRGB", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_HRGB",
               })
           .put(
               "FILE_SELECTION_MODE_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "FILE_SELECTION_MODE_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.FILE_SELECTION_MODE_CHANGED_PROPERTY",
               })
           .put(
               "metafactory",
-              new Import[] {
-                new Import("metafactory", "java.lang.invoke.LambdaMetafactory", true),
+              new String[] {
+                "static java.lang.invoke.LambdaMetafactory.metafactory",
               })
           .put(
               "AbstractScriptEngine",
-              new Import[] {
-                new Import("AbstractScriptEngine", "javax.script", false),
+              new String[] {
+                "javax.script.AbstractScriptEngine",
               })
           .put(
               "DEFAULT_JUSTIFICATION",
-              new Import[] {
-                new Import("DEFAULT_JUSTIFICATION", "javax.swing.border.TitledBorder", true),
+              new String[] {
+                "static javax.swing.border.TitledBorder.DEFAULT_JUSTIFICATION",
               })
           .build();
 }
@@ -2,1773 +2,1684 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk22 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "getDefaultStream",
-              new Import[] {
-                new Import("getDefaultStream", "java.rmi.server.LogStream", true),
+              new String[] {
+                "static java.rmi.server.LogStream.getDefaultStream",
               })
           .put(
               "NA_10X13_ENVELOPE",
-              new Import[] {
-                new Import("NA_10X13_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_10X13_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.NA_10X13_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSizeName.NA_10X13_ENVELOPE",
               })
           .put(
               "MONTH",
-              new Import[] {
-                new Import("MONTH", "java.text.DateFormat.Field", true),
-                new Import("MONTH", "java.util.Calendar", true),
+              new String[] {
+                "static java.text.DateFormat.Field.MONTH", "static java.util.Calendar.MONTH",
               })
           .put(
               "INACTIVE_CAPTION",
-              new Import[] {
-                new Import("INACTIVE_CAPTION", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.INACTIVE_CAPTION",
               })
           .put(
               "CONTENT_AREA_FILLED_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "CONTENT_AREA_FILLED_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.CONTENT_AREA_FILLED_CHANGED_PROPERTY",
               })
           .put(
               "COMPLETESCANLINES",
-              new Import[] {
-                new Import("COMPLETESCANLINES", "java.awt.image.ImageConsumer", true),
+              new String[] {
+                "static java.awt.image.ImageConsumer.COMPLETESCANLINES",
               })
           .put(
               "ManagementPermission",
-              new Import[] {
-                new Import("ManagementPermission", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.ManagementPermission",
               })
           .put(
               "TabExpander",
-              new Import[] {
-                new Import("TabExpander", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.TabExpander",
               })
           .put(
               "ScrollPaneBorder",
-              new Import[] {
-                new Import("ScrollPaneBorder", "javax.swing.plaf.metal.MetalBorders", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalBorders.ScrollPaneBorder",
               })
           .put(
               "VALUE_COLOR_RENDER_DEFAULT",
-              new Import[] {
-                new Import("VALUE_COLOR_RENDER_DEFAULT", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_COLOR_RENDER_DEFAULT",
               })
           .put(
               "interfaceModifiers",
-              new Import[] {
-                new Import("interfaceModifiers", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.interfaceModifiers",
               })
           .put(
               "ToIntBiFunction",
-              new Import[] {
-                new Import("ToIntBiFunction", "java.util.function", false),
+              new String[] {
+                "java.util.function.ToIntBiFunction",
               })
           .put(
               "WEIGHT",
-              new Import[] {
-                new Import("WEIGHT", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WEIGHT",
               })
           .put(
               "PrintJobEvent",
-              new Import[] {
-                new Import("PrintJobEvent", "javax.print.event", false),
+              new String[] {
+                "javax.print.event.PrintJobEvent",
               })
           .put(
               "StringNameHelper",
-              new Import[] {
-                new Import("StringNameHelper", "org.omg.CosNaming.NamingContextExtPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextExtPackage.StringNameHelper",
               })
           .put(
               "ObjectHelper",
-              new Import[] {
-                new Import("ObjectHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ObjectHelper",
               })
           .put(
               "MATHEMATICAL_ALPHANUMERIC_SYMBOLS",
-              new Import[] {
-                new Import(
-                    "MATHEMATICAL_ALPHANUMERIC_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MATHEMATICAL_ALPHANUMERIC_SYMBOLS",
               })
           .put(
               "GregorianCalendar",
-              new Import[] {
-                new Import("GregorianCalendar", "java.util", false),
+              new String[] {
+                "java.util.GregorianCalendar",
               })
           .put(
               "installColors",
-              new Import[] {
-                new Import("installColors", "javax.swing.LookAndFeel", true),
+              new String[] {
+                "static javax.swing.LookAndFeel.installColors",
               })
           .put(
               "BadAttributeValueExpException",
-              new Import[] {
-                new Import("BadAttributeValueExpException", "javax.management", false),
+              new String[] {
+                "javax.management.BadAttributeValueExpException",
               })
           .put(
               "MBeanAttributeInfo",
-              new Import[] {
-                new Import("MBeanAttributeInfo", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanAttributeInfo",
               })
           .put(
               "SYNC_WITH_TRANSPORT",
-              new Import[] {
-                new Import("SYNC_WITH_TRANSPORT", "org.omg.Messaging", false),
+              new String[] {
+                "org.omg.Messaging.SYNC_WITH_TRANSPORT",
               })
           .put(
               "PathMatcher",
-              new Import[] {
-                new Import("PathMatcher", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.PathMatcher",
               })
           .put(
               "NKO",
-              new Import[] {
-                new Import("NKO", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.NKO",
               })
           .put(
               "RequestingUserName",
-              new Import[] {
-                new Import("RequestingUserName", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.RequestingUserName",
               })
           .put(
               "TYPE_BYTE_GRAY",
-              new Import[] {
-                new Import("TYPE_BYTE_GRAY", "java.awt.image.BufferedImage", true),
+              new String[] {
+                "static java.awt.image.BufferedImage.TYPE_BYTE_GRAY",
               })
           .put(
               "XMLSignatureException",
-              new Import[] {
-                new Import("XMLSignatureException", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "javax.xml.crypto.dsig.XMLSignatureException",
               })
           .put(
               "CompiledScript",
-              new Import[] {
-                new Import("CompiledScript", "javax.script", false),
+              new String[] {
+                "javax.script.CompiledScript",
               })
           .put(
               "minus",
-              new Import[] {
-                new Import("minus", "javax.management.Query", true),
-                new Import("minus", "javax.swing.Spring", true),
+              new String[] {
+                "static javax.management.Query.minus", "static javax.swing.Spring.minus",
               })
           .put(
               "INVALID_MODIFICATION_ERR",
-              new Import[] {
-                new Import("INVALID_MODIFICATION_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.INVALID_MODIFICATION_ERR",
               })
           .put(
               "log10",
-              new Import[] {
-                new Import("log10", "java.lang.Math", true),
-                new Import("log10", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.log10", "static java.lang.StrictMath.log10",
               })
           .put(
               "BUTTON",
-              new Import[] {
-                new Import("BUTTON", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.BUTTON",
               })
           .put(
               "AccessibleRole",
-              new Import[] {
-                new Import("AccessibleRole", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleRole",
               })
           .put(
               "InitialDirContext",
-              new Import[] {
-                new Import("InitialDirContext", "javax.naming.directory", false),
+              new String[] {
+                "javax.naming.directory.InitialDirContext",
               })
           .put(
               "removeAuxiliaryLookAndFeel",
-              new Import[] {
-                new Import("removeAuxiliaryLookAndFeel", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.removeAuxiliaryLookAndFeel",
               })
           .put(
               "BasicTabbedPaneUI",
-              new Import[] {
-                new Import("BasicTabbedPaneUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicTabbedPaneUI",
               })
           .put(
               "MODIFIER_TONE_LETTERS",
-              new Import[] {
-                new Import("MODIFIER_TONE_LETTERS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MODIFIER_TONE_LETTERS",
               })
           .put(
               "PARAM_IN",
-              new Import[] {
-                new Import("PARAM_IN", "org.omg.CORBA.ParameterMode", true),
+              new String[] {
+                "static org.omg.CORBA.ParameterMode.PARAM_IN",
               })
           .put(
               "parseUnsignedInt",
-              new Import[] {
-                new Import("parseUnsignedInt", "java.lang.Integer", true),
-                new Import("parseUnsignedInt", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static java.lang.Integer.parseUnsignedInt",
+                "static javax.xml.bind.DatatypeConverter.parseUnsignedInt",
               })
           .put(
               "getRaisedBevelBorderUIResource",
-              new Import[] {
-                new Import(
-                    "getRaisedBevelBorderUIResource", "javax.swing.plaf.BorderUIResource", true),
+              new String[] {
+                "static javax.swing.plaf.BorderUIResource.getRaisedBevelBorderUIResource",
               })
           .put(
               "exactInvoker",
-              new Import[] {
-                new Import("exactInvoker", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.exactInvoker",
               })
           .put(
               "newBufferedWriter",
-              new Import[] {
-                new Import("newBufferedWriter", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.newBufferedWriter",
               })
           .put(
               "Observer",
-              new Import[] {
-                new Import("Observer", "java.util", false),
+              new String[] {
+                "java.util.Observer",
               })
           .put(
               "_tk_short",
-              new Import[] {
-                new Import("_tk_short", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_short",
               })
           .put(
               "OMIT_XML_DECLARATION",
-              new Import[] {
-                new Import("OMIT_XML_DECLARATION", "javax.xml.transform.OutputKeys", true),
+              new String[] {
+                "static javax.xml.transform.OutputKeys.OMIT_XML_DECLARATION",
               })
           .put(
               "getTextHighlightColor",
-              new Import[] {
-                new Import(
-                    "getTextHighlightColor", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getTextHighlightColor",
               })
           .put(
               "_tk_ulong",
-              new Import[] {
-                new Import("_tk_ulong", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_ulong",
               })
           .put(
               "FLAG_COMPLEX_GLYPHS",
-              new Import[] {
-                new Import("FLAG_COMPLEX_GLYPHS", "java.awt.font.GlyphVector", true),
+              new String[] {
+                "static java.awt.font.GlyphVector.FLAG_COMPLEX_GLYPHS",
               })
           .put(
               "ConstantCallSite",
-              new Import[] {
-                new Import("ConstantCallSite", "java.lang.invoke", false),
+              new String[] {
+                "java.lang.invoke.ConstantCallSite",
               })
           .put(
               "JLabel",
-              new Import[] {
-                new Import("JLabel", "javax.swing", false),
+              new String[] {
+                "javax.swing.JLabel",
               })
           .put(
               "InputMethodHighlight",
-              new Import[] {
-                new Import("InputMethodHighlight", "java.awt.im", false),
+              new String[] {
+                "java.awt.im.InputMethodHighlight",
               })
           .put(
               "JMXConnectorServer",
-              new Import[] {
-                new Import("JMXConnectorServer", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.JMXConnectorServer",
               })
           .put(
               "LdapName",
-              new Import[] {
-                new Import("LdapName", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.LdapName",
               })
           .put(
               "newUpdater",
-              new Import[] {
-                new Import(
-                    "newUpdater", "java.util.concurrent.atomic.AtomicIntegerFieldUpdater", true),
-                new Import(
-                    "newUpdater", "java.util.concurrent.atomic.AtomicLongFieldUpdater", true),
-                new Import(
-                    "newUpdater", "java.util.concurrent.atomic.AtomicReferenceFieldUpdater", true),
+              new String[] {
+                "static java.util.concurrent.atomic.AtomicIntegerFieldUpdater.newUpdater",
+                "static java.util.concurrent.atomic.AtomicLongFieldUpdater.newUpdater",
+                "static java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater",
               })
           .put(
               "INVALID_ACTIVITY",
-              new Import[] {
-                new Import("INVALID_ACTIVITY", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.INVALID_ACTIVITY",
               })
           .put(
               "SCROLL_LOCK",
-              new Import[] {
-                new Import("SCROLL_LOCK", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.SCROLL_LOCK",
               })
           .put(
               "VALUE_ENUMERATION",
-              new Import[] {
-                new Import("VALUE_ENUMERATION", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.VALUE_ENUMERATION",
               })
           .put(
               "JAPANESE",
-              new Import[] {
-                new Import("JAPANESE", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.JAPANESE",
               })
           .put(
               "timeLineOrder",
-              new Import[] {
-                new Import("timeLineOrder", "java.time.OffsetDateTime", true),
-                new Import("timeLineOrder", "java.time.chrono.ChronoLocalDate", true),
-                new Import("timeLineOrder", "java.time.chrono.ChronoLocalDateTime", true),
-                new Import("timeLineOrder", "java.time.chrono.ChronoZonedDateTime", true),
+              new String[] {
+                "static java.time.OffsetDateTime.timeLineOrder",
+                "static java.time.chrono.ChronoLocalDate.timeLineOrder",
+                "static java.time.chrono.ChronoLocalDateTime.timeLineOrder",
+                "static java.time.chrono.ChronoZonedDateTime.timeLineOrder",
               })
           .put(
               "RemoteException",
-              new Import[] {
-                new Import("RemoteException", "java.rmi", false),
+              new String[] {
+                "java.rmi.RemoteException",
               })
           .put(
               "POSTSCRIPT",
-              new Import[] {
-                new Import("POSTSCRIPT", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("POSTSCRIPT", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("POSTSCRIPT", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.POSTSCRIPT",
+                "static javax.print.DocFlavor.INPUT_STREAM.POSTSCRIPT",
+                "static javax.print.DocFlavor.URL.POSTSCRIPT",
               })
           .put(
               "BAD_STATUS",
-              new Import[] {
-                new Import("BAD_STATUS", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.BAD_STATUS",
               })
           .put(
               "CAPTION",
-              new Import[] {
-                new Import("CAPTION", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.CAPTION",
               })
           .put(
               "AlgorithmParameterGeneratorSpi",
-              new Import[] {
-                new Import("AlgorithmParameterGeneratorSpi", "java.security", false),
+              new String[] {
+                "java.security.AlgorithmParameterGeneratorSpi",
               })
           .put(
               "TaggedProfileHolder",
-              new Import[] {
-                new Import("TaggedProfileHolder", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.TaggedProfileHolder",
               })
           .put(
               "TYPE_GRAY",
-              new Import[] {
-                new Import("TYPE_GRAY", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_GRAY",
               })
           .put(
               "log1p",
-              new Import[] {
-                new Import("log1p", "java.lang.Math", true),
-                new Import("log1p", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.log1p", "static java.lang.StrictMath.log1p",
               })
           .put(
               "getWindowTitleInactiveBackground",
-              new Import[] {
-                new Import(
-                    "getWindowTitleInactiveBackground",
-                    "javax.swing.plaf.metal.MetalLookAndFeel",
-                    true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getWindowTitleInactiveBackground",
               })
           .put(
               "isEqual",
-              new Import[] {
-                new Import("isEqual", "java.security.MessageDigest", true),
-                new Import("isEqual", "java.util.function.Predicate", true),
+              new String[] {
+                "static java.security.MessageDigest.isEqual",
+                "static java.util.function.Predicate.isEqual",
               })
           .put(
               "Predicate",
-              new Import[] {
-                new Import("Predicate", "java.util.function", false),
-                new Import("Predicate", "javax.sql.rowset", false),
+              new String[] {
+                "java.util.function.Predicate", "javax.sql.rowset.Predicate",
               })
           .put(
               "Name",
-              new Import[] {
-                new Import("Name", "java.util.jar.Attributes", false),
-                new Import("Name", "javax.lang.model.element", false),
-                new Import("Name", "javax.naming", false),
-                new Import("Name", "javax.xml.soap", false),
+              new String[] {
+                "java.util.jar.Attributes.Name",
+                "javax.lang.model.element.Name",
+                "javax.naming.Name",
+                "javax.xml.soap.Name",
               })
           .put(
               "ResultSetMetaData",
-              new Import[] {
-                new Import("ResultSetMetaData", "java.sql", false),
+              new String[] {
+                "java.sql.ResultSetMetaData",
               })
           .put(
               "printUnsignedShort",
-              new Import[] {
-                new Import("printUnsignedShort", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printUnsignedShort",
               })
           .put(
               "XA_RBTRANSIENT",
-              new Import[] {
-                new Import("XA_RBTRANSIENT", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_RBTRANSIENT",
               })
           .put(
               "CS_LINEAR_RGB",
-              new Import[] {
-                new Import("CS_LINEAR_RGB", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.CS_LINEAR_RGB",
               })
           .put(
               "VolatileImage",
-              new Import[] {
-                new Import("VolatileImage", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.VolatileImage",
               })
           .put(
               "GARBAGE_COLLECTOR_MXBEAN_DOMAIN_TYPE",
-              new Import[] {
-                new Import(
-                    "GARBAGE_COLLECTOR_MXBEAN_DOMAIN_TYPE",
-                    "java.lang.management.ManagementFactory",
-                    true),
+              new String[] {
+                "static"
+                    + " java.lang.management.ManagementFactory.GARBAGE_COLLECTOR_MXBEAN_DOMAIN_TYPE",
               })
           .put(
               "KRB_NT_SRV_XHST",
-              new Import[] {
-                new Import(
-                    "KRB_NT_SRV_XHST", "javax.security.auth.kerberos.KerberosPrincipal", true),
+              new String[] {
+                "static javax.security.auth.kerberos.KerberosPrincipal.KRB_NT_SRV_XHST",
               })
           .put(
               "DefaultListCellRenderer",
-              new Import[] {
-                new Import("DefaultListCellRenderer", "javax.swing", false),
+              new String[] {
+                "javax.swing.DefaultListCellRenderer",
               })
           .put(
               "PrinterStateReasons",
-              new Import[] {
-                new Import("PrinterStateReasons", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PrinterStateReasons",
               })
           .put(
               "BindingIteratorOperations",
-              new Import[] {
-                new Import("BindingIteratorOperations", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.BindingIteratorOperations",
               })
           .put(
               "icSigSpace6CLR",
-              new Import[] {
-                new Import("icSigSpace6CLR", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigSpace6CLR",
               })
           .put(
               "missing_node",
-              new Import[] {
-                new Import(
-                    "missing_node", "org.omg.CosNaming.NamingContextPackage.NotFoundReason", true),
+              new String[] {
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundReason.missing_node",
               })
           .put(
               "Collectors",
-              new Import[] {
-                new Import("Collectors", "java.util.stream", false),
+              new String[] {
+                "java.util.stream.Collectors",
               })
           .put(
               "VK_F9",
-              new Import[] {
-                new Import("VK_F9", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F9",
               })
           .put(
               "VK_F8",
-              new Import[] {
-                new Import("VK_F8", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F8",
               })
           .put(
               "VK_F7",
-              new Import[] {
-                new Import("VK_F7", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F7",
               })
           .put(
               "TYPE_IMAGE_BUFFER",
-              new Import[] {
-                new Import("TYPE_IMAGE_BUFFER", "java.awt.GraphicsDevice", true),
+              new String[] {
+                "static java.awt.GraphicsDevice.TYPE_IMAGE_BUFFER",
               })
           .put(
               "VK_EXCLAMATION_MARK",
-              new Import[] {
-                new Import("VK_EXCLAMATION_MARK", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_EXCLAMATION_MARK",
               })
           .put(
               "VK_F6",
-              new Import[] {
-                new Import("VK_F6", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F6",
               })
           .put(
               "VK_F5",
-              new Import[] {
-                new Import("VK_F5", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F5",
               })
           .put(
               "REFRESH_RATE_UNKNOWN",
-              new Import[] {
-                new Import("REFRESH_RATE_UNKNOWN", "java.awt.DisplayMode", true),
+              new String[] {
+                "static java.awt.DisplayMode.REFRESH_RATE_UNKNOWN",
               })
           .put(
               "AdjustmentEvent",
-              new Import[] {
-                new Import("AdjustmentEvent", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.AdjustmentEvent",
               })
           .put(
               "VK_F4",
-              new Import[] {
-                new Import("VK_F4", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F4",
               })
           .put(
               "VK_F3",
-              new Import[] {
-                new Import("VK_F3", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F3",
               })
           .put(
               "VK_F2",
-              new Import[] {
-                new Import("VK_F2", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F2",
               })
           .put(
               "VK_F1",
-              new Import[] {
-                new Import("VK_F1", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F1",
               })
           .put(
               "icSigLabData",
-              new Import[] {
-                new Import("icSigLabData", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigLabData",
               })
           .put(
               "extract",
-              new Import[] {
-                new Import("extract", "org.omg.CORBA.AnySeqHelper", true),
-                new Import("extract", "org.omg.CORBA.BooleanSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.CharSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.CompletionStatusHelper", true),
-                new Import("extract", "org.omg.CORBA.CurrentHelper", true),
-                new Import("extract", "org.omg.CORBA.DefinitionKindHelper", true),
-                new Import("extract", "org.omg.CORBA.DoubleSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.FieldNameHelper", true),
-                new Import("extract", "org.omg.CORBA.FloatSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.IDLTypeHelper", true),
-                new Import("extract", "org.omg.CORBA.IdentifierHelper", true),
-                new Import("extract", "org.omg.CORBA.LongLongSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.LongSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.NameValuePairHelper", true),
-                new Import("extract", "org.omg.CORBA.ObjectHelper", true),
-                new Import("extract", "org.omg.CORBA.OctetSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.ParameterModeHelper", true),
-                new Import("extract", "org.omg.CORBA.PolicyErrorCodeHelper", true),
-                new Import("extract", "org.omg.CORBA.PolicyErrorHelper", true),
-                new Import("extract", "org.omg.CORBA.PolicyHelper", true),
-                new Import("extract", "org.omg.CORBA.PolicyListHelper", true),
-                new Import("extract", "org.omg.CORBA.PolicyTypeHelper", true),
-                new Import("extract", "org.omg.CORBA.RepositoryIdHelper", true),
-                new Import("extract", "org.omg.CORBA.ServiceDetailHelper", true),
-                new Import("extract", "org.omg.CORBA.ServiceInformationHelper", true),
-                new Import("extract", "org.omg.CORBA.SetOverrideTypeHelper", true),
-                new Import("extract", "org.omg.CORBA.ShortSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.StringSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.StringValueHelper", true),
-                new Import("extract", "org.omg.CORBA.StructMemberHelper", true),
-                new Import("extract", "org.omg.CORBA.ULongLongSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.ULongSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.UShortSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.UnionMemberHelper", true),
-                new Import("extract", "org.omg.CORBA.UnknownUserExceptionHelper", true),
-                new Import("extract", "org.omg.CORBA.ValueBaseHelper", true),
-                new Import("extract", "org.omg.CORBA.ValueMemberHelper", true),
-                new Import("extract", "org.omg.CORBA.VersionSpecHelper", true),
-                new Import("extract", "org.omg.CORBA.VisibilityHelper", true),
-                new Import("extract", "org.omg.CORBA.WCharSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.WStringSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.WStringValueHelper", true),
-                new Import("extract", "org.omg.CORBA.WrongTransactionHelper", true),
-                new Import("extract", "org.omg.CosNaming.BindingHelper", true),
-                new Import("extract", "org.omg.CosNaming.BindingIteratorHelper", true),
-                new Import("extract", "org.omg.CosNaming.BindingListHelper", true),
-                new Import("extract", "org.omg.CosNaming.BindingTypeHelper", true),
-                new Import("extract", "org.omg.CosNaming.IstringHelper", true),
-                new Import("extract", "org.omg.CosNaming.NameComponentHelper", true),
-                new Import("extract", "org.omg.CosNaming.NameHelper", true),
-                new Import("extract", "org.omg.CosNaming.NamingContextExtHelper", true),
-                new Import("extract", "org.omg.CosNaming.NamingContextHelper", true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextExtPackage.AddressHelper", true),
-                new Import(
-                    "extract",
-                    "org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper",
-                    true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextExtPackage.StringNameHelper", true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextExtPackage.URLStringHelper", true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper", true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextPackage.CannotProceedHelper", true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextPackage.InvalidNameHelper", true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextPackage.NotEmptyHelper", true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextPackage.NotFoundHelper", true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper", true),
-                new Import("extract", "org.omg.DynamicAny.AnySeqHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynAnyFactoryHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynAnyHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynAnySeqHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynArrayHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynEnumHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynFixedHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynSequenceHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynStructHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynUnionHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynValueHelper", true),
-                new Import("extract", "org.omg.DynamicAny.FieldNameHelper", true),
-                new Import("extract", "org.omg.DynamicAny.NameDynAnyPairHelper", true),
-                new Import("extract", "org.omg.DynamicAny.NameDynAnyPairSeqHelper", true),
-                new Import("extract", "org.omg.DynamicAny.NameValuePairHelper", true),
-                new Import("extract", "org.omg.DynamicAny.NameValuePairSeqHelper", true),
-                new Import(
-                    "extract",
-                    "org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper",
-                    true),
-                new Import("extract", "org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper", true),
-                new Import("extract", "org.omg.IOP.CodecFactoryHelper", true),
-                new Import("extract", "org.omg.IOP.ComponentIdHelper", true),
-                new Import("extract", "org.omg.IOP.IORHelper", true),
-                new Import("extract", "org.omg.IOP.MultipleComponentProfileHelper", true),
-                new Import("extract", "org.omg.IOP.ProfileIdHelper", true),
-                new Import("extract", "org.omg.IOP.ServiceContextHelper", true),
-                new Import("extract", "org.omg.IOP.ServiceContextListHelper", true),
-                new Import("extract", "org.omg.IOP.ServiceIdHelper", true),
-                new Import("extract", "org.omg.IOP.TaggedComponentHelper", true),
-                new Import("extract", "org.omg.IOP.TaggedProfileHelper", true),
-                new Import(
-                    "extract", "org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper", true),
-                new Import("extract", "org.omg.IOP.CodecPackage.FormatMismatchHelper", true),
-                new Import(
-                    "extract", "org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper", true),
-                new Import("extract", "org.omg.IOP.CodecPackage.TypeMismatchHelper", true),
-                new Import("extract", "org.omg.Messaging.SyncScopeHelper", true),
-                new Import("extract", "org.omg.PortableInterceptor.AdapterManagerIdHelper", true),
-                new Import("extract", "org.omg.PortableInterceptor.AdapterNameHelper", true),
-                new Import("extract", "org.omg.PortableInterceptor.AdapterStateHelper", true),
-                new Import("extract", "org.omg.PortableInterceptor.CurrentHelper", true),
-                new Import("extract", "org.omg.PortableInterceptor.ForwardRequestHelper", true),
-                new Import("extract", "org.omg.PortableInterceptor.IORInterceptor_3_0Helper", true),
-                new Import("extract", "org.omg.PortableInterceptor.InvalidSlotHelper", true),
-                new Import("extract", "org.omg.PortableInterceptor.ORBIdHelper", true),
-                new Import("extract", "org.omg.PortableInterceptor.ObjectIdHelper", true),
-                new Import(
-                    "extract", "org.omg.PortableInterceptor.ObjectReferenceFactoryHelper", true),
-                new Import(
-                    "extract", "org.omg.PortableInterceptor.ObjectReferenceTemplateHelper", true),
-                new Import(
-                    "extract",
-                    "org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper",
-                    true),
-                new Import("extract", "org.omg.PortableInterceptor.ServerIdHelper", true),
-                new Import(
-                    "extract",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper",
-                    true),
-                new Import(
-                    "extract",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper",
-                    true),
-                new Import(
-                    "extract",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper",
-                    true),
-                new Import("extract", "org.omg.PortableServer.CurrentHelper", true),
-                new Import("extract", "org.omg.PortableServer.ForwardRequestHelper", true),
-                new Import("extract", "org.omg.PortableServer.POAHelper", true),
-                new Import("extract", "org.omg.PortableServer.ServantActivatorHelper", true),
-                new Import("extract", "org.omg.PortableServer.ServantLocatorHelper", true),
-                new Import(
-                    "extract", "org.omg.PortableServer.CurrentPackage.NoContextHelper", true),
-                new Import(
-                    "extract",
-                    "org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper",
-                    true),
-                new Import(
-                    "extract",
-                    "org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper",
-                    true),
-                new Import(
-                    "extract", "org.omg.PortableServer.POAPackage.AdapterNonExistentHelper", true),
-                new Import(
-                    "extract", "org.omg.PortableServer.POAPackage.InvalidPolicyHelper", true),
-                new Import("extract", "org.omg.PortableServer.POAPackage.NoServantHelper", true),
-                new Import(
-                    "extract", "org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper", true),
-                new Import(
-                    "extract", "org.omg.PortableServer.POAPackage.ObjectNotActiveHelper", true),
-                new Import(
-                    "extract",
-                    "org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper",
-                    true),
-                new Import(
-                    "extract", "org.omg.PortableServer.POAPackage.ServantNotActiveHelper", true),
-                new Import("extract", "org.omg.PortableServer.POAPackage.WrongAdapterHelper", true),
-                new Import("extract", "org.omg.PortableServer.POAPackage.WrongPolicyHelper", true),
+              new String[] {
+                "static org.omg.CORBA.AnySeqHelper.extract",
+                "static org.omg.CORBA.BooleanSeqHelper.extract",
+                "static org.omg.CORBA.CharSeqHelper.extract",
+                "static org.omg.CORBA.CompletionStatusHelper.extract",
+                "static org.omg.CORBA.CurrentHelper.extract",
+                "static org.omg.CORBA.DefinitionKindHelper.extract",
+                "static org.omg.CORBA.DoubleSeqHelper.extract",
+                "static org.omg.CORBA.FieldNameHelper.extract",
+                "static org.omg.CORBA.FloatSeqHelper.extract",
+                "static org.omg.CORBA.IDLTypeHelper.extract",
+                "static org.omg.CORBA.IdentifierHelper.extract",
+                "static org.omg.CORBA.LongLongSeqHelper.extract",
+                "static org.omg.CORBA.LongSeqHelper.extract",
+                "static org.omg.CORBA.NameValuePairHelper.extract",
+                "static org.omg.CORBA.ObjectHelper.extract",
+                "static org.omg.CORBA.OctetSeqHelper.extract",
+                "static org.omg.CORBA.ParameterModeHelper.extract",
+                "static org.omg.CORBA.PolicyErrorCodeHelper.extract",
+                "static org.omg.CORBA.PolicyErrorHelper.extract",
+                "static org.omg.CORBA.PolicyHelper.extract",
+                "static org.omg.CORBA.PolicyListHelper.extract",
+                "static org.omg.CORBA.PolicyTypeHelper.extract",
+                "static org.omg.CORBA.RepositoryIdHelper.extract",
+                "static org.omg.CORBA.ServiceDetailHelper.extract",
+                "static org.omg.CORBA.ServiceInformationHelper.extract",
+                "static org.omg.CORBA.SetOverrideTypeHelper.extract",
+                "static org.omg.CORBA.ShortSeqHelper.extract",
+                "static org.omg.CORBA.StringSeqHelper.extract",
+                "static org.omg.CORBA.StringValueHelper.extract",
+                "static org.omg.CORBA.StructMemberHelper.extract",
+                "static org.omg.CORBA.ULongLongSeqHelper.extract",
+                "static org.omg.CORBA.ULongSeqHelper.extract",
+                "static org.omg.CORBA.UShortSeqHelper.extract",
+                "static org.omg.CORBA.UnionMemberHelper.extract",
+                "static org.omg.CORBA.UnknownUserExceptionHelper.extract",
+                "static org.omg.CORBA.ValueBaseHelper.extract",
+                "static org.omg.CORBA.ValueMemberHelper.extract",
+                "static org.omg.CORBA.VersionSpecHelper.extract",
+                "static org.omg.CORBA.VisibilityHelper.extract",
+                "static org.omg.CORBA.WCharSeqHelper.extract",
+                "static org.omg.CORBA.WStringSeqHelper.extract",
+                "static org.omg.CORBA.WStringValueHelper.extract",
+                "static org.omg.CORBA.WrongTransactionHelper.extract",
+                "static org.omg.CosNaming.BindingHelper.extract",
+                "static org.omg.CosNaming.BindingIteratorHelper.extract",
+                "static org.omg.CosNaming.BindingListHelper.extract",
+                "static org.omg.CosNaming.BindingTypeHelper.extract",
+                "static org.omg.CosNaming.IstringHelper.extract",
+                "static org.omg.CosNaming.NameComponentHelper.extract",
+                "static org.omg.CosNaming.NameHelper.extract",
+                "static org.omg.CosNaming.NamingContextExtHelper.extract",
+                "static org.omg.CosNaming.NamingContextHelper.extract",
+                "static org.omg.CosNaming.NamingContextExtPackage.AddressHelper.extract",
+                "static org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper.extract",
+                "static org.omg.CosNaming.NamingContextExtPackage.StringNameHelper.extract",
+                "static org.omg.CosNaming.NamingContextExtPackage.URLStringHelper.extract",
+                "static org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper.extract",
+                "static org.omg.CosNaming.NamingContextPackage.CannotProceedHelper.extract",
+                "static org.omg.CosNaming.NamingContextPackage.InvalidNameHelper.extract",
+                "static org.omg.CosNaming.NamingContextPackage.NotEmptyHelper.extract",
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundHelper.extract",
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper.extract",
+                "static org.omg.DynamicAny.AnySeqHelper.extract",
+                "static org.omg.DynamicAny.DynAnyFactoryHelper.extract",
+                "static org.omg.DynamicAny.DynAnyHelper.extract",
+                "static org.omg.DynamicAny.DynAnySeqHelper.extract",
+                "static org.omg.DynamicAny.DynArrayHelper.extract",
+                "static org.omg.DynamicAny.DynEnumHelper.extract",
+                "static org.omg.DynamicAny.DynFixedHelper.extract",
+                "static org.omg.DynamicAny.DynSequenceHelper.extract",
+                "static org.omg.DynamicAny.DynStructHelper.extract",
+                "static org.omg.DynamicAny.DynUnionHelper.extract",
+                "static org.omg.DynamicAny.DynValueHelper.extract",
+                "static org.omg.DynamicAny.FieldNameHelper.extract",
+                "static org.omg.DynamicAny.NameDynAnyPairHelper.extract",
+                "static org.omg.DynamicAny.NameDynAnyPairSeqHelper.extract",
+                "static org.omg.DynamicAny.NameValuePairHelper.extract",
+                "static org.omg.DynamicAny.NameValuePairSeqHelper.extract",
+                "static org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper.extract",
+                "static org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper.extract",
+                "static org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper.extract",
+                "static org.omg.IOP.CodecFactoryHelper.extract",
+                "static org.omg.IOP.ComponentIdHelper.extract",
+                "static org.omg.IOP.IORHelper.extract",
+                "static org.omg.IOP.MultipleComponentProfileHelper.extract",
+                "static org.omg.IOP.ProfileIdHelper.extract",
+                "static org.omg.IOP.ServiceContextHelper.extract",
+                "static org.omg.IOP.ServiceContextListHelper.extract",
+                "static org.omg.IOP.ServiceIdHelper.extract",
+                "static org.omg.IOP.TaggedComponentHelper.extract",
+                "static org.omg.IOP.TaggedProfileHelper.extract",
+                "static org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper.extract",
+                "static org.omg.IOP.CodecPackage.FormatMismatchHelper.extract",
+                "static org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper.extract",
+                "static org.omg.IOP.CodecPackage.TypeMismatchHelper.extract",
+                "static org.omg.Messaging.SyncScopeHelper.extract",
+                "static org.omg.PortableInterceptor.AdapterManagerIdHelper.extract",
+                "static org.omg.PortableInterceptor.AdapterNameHelper.extract",
+                "static org.omg.PortableInterceptor.AdapterStateHelper.extract",
+                "static org.omg.PortableInterceptor.CurrentHelper.extract",
+                "static org.omg.PortableInterceptor.ForwardRequestHelper.extract",
+                "static org.omg.PortableInterceptor.IORInterceptor_3_0Helper.extract",
+                "static org.omg.PortableInterceptor.InvalidSlotHelper.extract",
+                "static org.omg.PortableInterceptor.ORBIdHelper.extract",
+                "static org.omg.PortableInterceptor.ObjectIdHelper.extract",
+                "static org.omg.PortableInterceptor.ObjectReferenceFactoryHelper.extract",
+                "static org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.extract",
+                "static org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper.extract",
+                "static org.omg.PortableInterceptor.ServerIdHelper.extract",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper.extract",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper.extract",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper.extract",
+                "static org.omg.PortableServer.CurrentHelper.extract",
+                "static org.omg.PortableServer.ForwardRequestHelper.extract",
+                "static org.omg.PortableServer.POAHelper.extract",
+                "static org.omg.PortableServer.ServantActivatorHelper.extract",
+                "static org.omg.PortableServer.ServantLocatorHelper.extract",
+                "static org.omg.PortableServer.CurrentPackage.NoContextHelper.extract",
+                "static org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper.extract",
+                "static org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper.extract",
+                "static org.omg.PortableServer.POAPackage.AdapterNonExistentHelper.extract",
+                "static org.omg.PortableServer.POAPackage.InvalidPolicyHelper.extract",
+                "static org.omg.PortableServer.POAPackage.NoServantHelper.extract",
+                "static org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper.extract",
+                "static org.omg.PortableServer.POAPackage.ObjectNotActiveHelper.extract",
+                "static org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper.extract",
+                "static org.omg.PortableServer.POAPackage.ServantNotActiveHelper.extract",
+                "static org.omg.PortableServer.POAPackage.WrongAdapterHelper.extract",
+                "static org.omg.PortableServer.POAPackage.WrongPolicyHelper.extract",
               })
           .put(
               "icSigSpaceACLR",
-              new Import[] {
-                new Import("icSigSpaceACLR", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigSpaceACLR",
               })
           .put(
               "MNEMONIC_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("MNEMONIC_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.MNEMONIC_CHANGED_PROPERTY",
               })
           .put(
               "DIALOG_TYPE_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("DIALOG_TYPE_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.DIALOG_TYPE_CHANGED_PROPERTY",
               })
           .put(
               "Bold",
-              new Import[] {
-                new Import("Bold", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.Bold",
               })
           .put(
               "OPEN_DELETE",
-              new Import[] {
-                new Import("OPEN_DELETE", "java.util.zip.ZipFile", true),
+              new String[] {
+                "static java.util.zip.ZipFile.OPEN_DELETE",
               })
           .put(
               "NameParser",
-              new Import[] {
-                new Import("NameParser", "javax.naming", false),
+              new String[] {
+                "javax.naming.NameParser",
               })
           .put(
               "CAPS_LOCK",
-              new Import[] {
-                new Import("CAPS_LOCK", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.CAPS_LOCK",
               })
           .put(
               "dk_Interface",
-              new Import[] {
-                new Import("dk_Interface", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Interface",
               })
           .put(
               "icSigChromaticAdaptationTag",
-              new Import[] {
-                new Import("icSigChromaticAdaptationTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigChromaticAdaptationTag",
               })
           .put(
               "COORDS",
-              new Import[] {
-                new Import("COORDS", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.COORDS",
               })
           .put(
               "createScrollPaneForTable",
-              new Import[] {
-                new Import("createScrollPaneForTable", "javax.swing.JTable", true),
+              new String[] {
+                "static javax.swing.JTable.createScrollPaneForTable",
               })
           .put(
               "AbstractUndoableEdit",
-              new Import[] {
-                new Import("AbstractUndoableEdit", "javax.swing.undo", false),
+              new String[] {
+                "javax.swing.undo.AbstractUndoableEdit",
               })
           .put(
               "PopupMenuUI",
-              new Import[] {
-                new Import("PopupMenuUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.PopupMenuUI",
               })
           .put(
               "writeRemoteObject",
-              new Import[] {
-                new Import("writeRemoteObject", "javax.rmi.CORBA.Util", true),
+              new String[] {
+                "static javax.rmi.CORBA.Util.writeRemoteObject",
               })
           .put(
               "LEGAL",
-              new Import[] {
-                new Import("LEGAL", "java.awt.PageAttributes.MediaType", true),
-                new Import("LEGAL", "javax.print.attribute.standard.MediaSize.NA", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.LEGAL",
+                "static javax.print.attribute.standard.MediaSize.NA.LEGAL",
               })
           .put(
               "ALT_MASK",
-              new Import[] {
-                new Import("ALT_MASK", "java.awt.Event", true),
-                new Import("ALT_MASK", "java.awt.event.ActionEvent", true),
-                new Import("ALT_MASK", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.Event.ALT_MASK",
+                "static java.awt.event.ActionEvent.ALT_MASK",
+                "static java.awt.event.InputEvent.ALT_MASK",
               })
           .put(
               "Parameterizable",
-              new Import[] {
-                new Import("Parameterizable", "javax.lang.model.element", false),
+              new String[] {
+                "javax.lang.model.element.Parameterizable",
               })
           .put(
               "PrivateCredentialPermission",
-              new Import[] {
-                new Import("PrivateCredentialPermission", "javax.security.auth", false),
+              new String[] {
+                "javax.security.auth.PrivateCredentialPermission",
               })
           .put(
               "DimensionUIResource",
-              new Import[] {
-                new Import("DimensionUIResource", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.DimensionUIResource",
               })
           .put(
               "FOCUS_LOST",
-              new Import[] {
-                new Import("FOCUS_LOST", "java.awt.event.FocusEvent", true),
+              new String[] {
+                "static java.awt.event.FocusEvent.FOCUS_LOST",
               })
           .put(
               "bestRowTransaction",
-              new Import[] {
-                new Import("bestRowTransaction", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.bestRowTransaction",
               })
           .put(
               "MultiFileChooserUI",
-              new Import[] {
-                new Import("MultiFileChooserUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiFileChooserUI",
               })
           .put(
               "ChangedCharSetException",
-              new Import[] {
-                new Import("ChangedCharSetException", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.ChangedCharSetException",
               })
           .put(
               "SEG_CLOSE",
-              new Import[] {
-                new Import("SEG_CLOSE", "java.awt.geom.PathIterator", true),
+              new String[] {
+                "static java.awt.geom.PathIterator.SEG_CLOSE",
               })
           .put(
               "DirectoryManager",
-              new Import[] {
-                new Import("DirectoryManager", "javax.naming.spi", false),
+              new String[] {
+                "javax.naming.spi.DirectoryManager",
               })
           .put(
               "DIALOG_UI",
-              new Import[] {
-                new Import("DIALOG_UI", "javax.print.ServiceUIFactory", true),
+              new String[] {
+                "static javax.print.ServiceUIFactory.DIALOG_UI",
               })
           .put(
               "JComponent",
-              new Import[] {
-                new Import("JComponent", "javax.swing", false),
+              new String[] {
+                "javax.swing.JComponent",
               })
           .put(
               "Request",
-              new Import[] {
-                new Import("Request", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.Request",
               })
           .put(
               "procedureNullable",
-              new Import[] {
-                new Import("procedureNullable", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.procedureNullable",
               })
           .put(
               "getUnwrappedParent",
-              new Import[] {
-                new Import("getUnwrappedParent", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.getUnwrappedParent",
               })
           .put(
               "RowSetFactory",
-              new Import[] {
-                new Import("RowSetFactory", "javax.sql.rowset", false),
+              new String[] {
+                "javax.sql.rowset.RowSetFactory",
               })
           .put(
               "getAudioFileTypes",
-              new Import[] {
-                new Import("getAudioFileTypes", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.sampled.AudioSystem.getAudioFileTypes",
               })
           .put(
               "HEADER_RENDERER_PROPERTY",
-              new Import[] {
-                new Import("HEADER_RENDERER_PROPERTY", "javax.swing.table.TableColumn", true),
+              new String[] {
+                "static javax.swing.table.TableColumn.HEADER_RENDERER_PROPERTY",
               })
           .put(
               "View",
-              new Import[] {
-                new Import("View", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.View",
               })
           .put(
               "Extension",
-              new Import[] {
-                new Import("Extension", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.Extension",
               })
           .put(
               "LinkPermission",
-              new Import[] {
-                new Import("LinkPermission", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.LinkPermission",
               })
           .put(
               "MOUSE_OVER",
-              new Import[] {
-                new Import("MOUSE_OVER", "javax.swing.plaf.synth.SynthConstants", true),
+              new String[] {
+                "static javax.swing.plaf.synth.SynthConstants.MOUSE_OVER",
               })
           .put(
               "DOMSignContext",
-              new Import[] {
-                new Import("DOMSignContext", "javax.xml.crypto.dsig.dom", false),
+              new String[] {
+                "javax.xml.crypto.dsig.dom.DOMSignContext",
               })
           .put(
               "checkedQueue",
-              new Import[] {
-                new Import("checkedQueue", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.checkedQueue",
               })
           .put(
               "TITLE",
-              new Import[] {
-                new Import("TITLE", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("TITLE", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.TITLE",
+                "static javax.swing.text.html.HTML.Tag.TITLE",
               })
           .put(
               "BasicFormattedTextFieldUI",
-              new Import[] {
-                new Import("BasicFormattedTextFieldUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicFormattedTextFieldUI",
               })
           .put(
               "ADJUSTMENT_EVENT_MASK",
-              new Import[] {
-                new Import("ADJUSTMENT_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.ADJUSTMENT_EVENT_MASK",
               })
           .put(
               "getTiledSizeRequirements",
-              new Import[] {
-                new Import("getTiledSizeRequirements", "javax.swing.SizeRequirements", true),
+              new String[] {
+                "static javax.swing.SizeRequirements.getTiledSizeRequirements",
               })
           .put(
               "registerService",
-              new Import[] {
-                new Import("registerService", "javax.print.PrintServiceLookup", true),
+              new String[] {
+                "static javax.print.PrintServiceLookup.registerService",
               })
           .put(
               "ProviderException",
-              new Import[] {
-                new Import("ProviderException", "java.security", false),
+              new String[] {
+                "java.security.ProviderException",
               })
           .put(
               "showInternalInputDialog",
-              new Import[] {
-                new Import("showInternalInputDialog", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.showInternalInputDialog",
               })
           .put(
               "FONT_VARIANT",
-              new Import[] {
-                new Import("FONT_VARIANT", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.FONT_VARIANT",
               })
           .put(
               "addKeymap",
-              new Import[] {
-                new Import("addKeymap", "javax.swing.text.JTextComponent", true),
+              new String[] {
+                "static javax.swing.text.JTextComponent.addKeymap",
               })
           .put(
               "HierarchyBoundsAdapter",
-              new Import[] {
-                new Import("HierarchyBoundsAdapter", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.HierarchyBoundsAdapter",
               })
           .put(
               "ObjDoubleConsumer",
-              new Import[] {
-                new Import("ObjDoubleConsumer", "java.util.function", false),
+              new String[] {
+                "java.util.function.ObjDoubleConsumer",
               })
           .put(
               "GROUPING_SEPARATOR",
-              new Import[] {
-                new Import("GROUPING_SEPARATOR", "java.text.NumberFormat.Field", true),
+              new String[] {
+                "static java.text.NumberFormat.Field.GROUPING_SEPARATOR",
               })
           .put(
               "getUnwrappedView",
-              new Import[] {
-                new Import("getUnwrappedView", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.getUnwrappedView",
               })
           .put(
               "VERTICAL",
-              new Import[] {
-                new Import("VERTICAL", "java.awt.Adjustable", true),
-                new Import("VERTICAL", "java.awt.GridBagConstraints", true),
-                new Import("VERTICAL", "java.awt.Scrollbar", true),
-                new Import("VERTICAL", "javax.accessibility.AccessibleState", true),
-                new Import("VERTICAL", "javax.swing.JList", true),
-                new Import("VERTICAL", "javax.swing.SwingConstants", true),
+              new String[] {
+                "static java.awt.Adjustable.VERTICAL",
+                "static java.awt.GridBagConstraints.VERTICAL",
+                "static java.awt.Scrollbar.VERTICAL",
+                "static javax.accessibility.AccessibleState.VERTICAL",
+                "static javax.swing.JList.VERTICAL",
+                "static javax.swing.SwingConstants.VERTICAL",
               })
           .put(
               "MBeanServerBuilder",
-              new Import[] {
-                new Import("MBeanServerBuilder", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanServerBuilder",
               })
           .put(
               "WHITESPACE",
-              new Import[] {
-                new Import("WHITESPACE", "java.awt.font.GlyphMetrics", true),
+              new String[] {
+                "static java.awt.font.GlyphMetrics.WHITESPACE",
               })
           .put(
               "Book",
-              new Import[] {
-                new Import("Book", "java.awt.print", false),
+              new String[] {
+                "java.awt.print.Book",
               })
           .put(
               "CounterMonitorMBean",
-              new Import[] {
-                new Import("CounterMonitorMBean", "javax.management.monitor", false),
+              new String[] {
+                "javax.management.monitor.CounterMonitorMBean",
               })
           .put(
               "separatorChar",
-              new Import[] {
-                new Import("separatorChar", "java.io.File", true),
+              new String[] {
+                "static java.io.File.separatorChar",
               })
           .put(
               "RC2ParameterSpec",
-              new Import[] {
-                new Import("RC2ParameterSpec", "javax.crypto.spec", false),
+              new String[] {
+                "javax.crypto.spec.RC2ParameterSpec",
               })
           .put(
               "Identity",
-              new Import[] {
-                new Import("Identity", "java.security", false),
+              new String[] {
+                "java.security.Identity",
               })
           .put(
               "TabbedPaneUI",
-              new Import[] {
-                new Import("TabbedPaneUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.TabbedPaneUI",
               })
           .put(
               "TreeUI",
-              new Import[] {
-                new Import("TreeUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.TreeUI",
               })
           .put(
               "PasswordAuthentication",
-              new Import[] {
-                new Import("PasswordAuthentication", "java.net", false),
+              new String[] {
+                "java.net.PasswordAuthentication",
               })
           .put(
               "MEMORY_MXBEAN_NAME",
-              new Import[] {
-                new Import("MEMORY_MXBEAN_NAME", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.MEMORY_MXBEAN_NAME",
               })
           .put(
               "ThreadMXBean",
-              new Import[] {
-                new Import("ThreadMXBean", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.ThreadMXBean",
               })
           .put(
               "DUPLICATE_ELEMENT",
-              new Import[] {
-                new Import("DUPLICATE_ELEMENT", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.DUPLICATE_ELEMENT",
               })
           .put(
               "ofHoursMinutes",
-              new Import[] {
-                new Import("ofHoursMinutes", "java.time.ZoneOffset", true),
+              new String[] {
+                "static java.time.ZoneOffset.ofHoursMinutes",
               })
           .put(
               "StandardMBean",
-              new Import[] {
-                new Import("StandardMBean", "javax.management", false),
+              new String[] {
+                "javax.management.StandardMBean",
               })
           .put(
               "XAER_PROTO",
-              new Import[] {
-                new Import("XAER_PROTO", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XAER_PROTO",
               })
           .put(
               "SMALL_ICON",
-              new Import[] {
-                new Import("SMALL_ICON", "javax.swing.Action", true),
+              new String[] {
+                "static javax.swing.Action.SMALL_ICON",
               })
           .put(
               "ENV_6X9",
-              new Import[] {
-                new Import("ENV_6X9", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ENV_6X9",
               })
           .put(
               "TypeMismatchHelper",
-              new Import[] {
-                new Import("TypeMismatchHelper", "org.omg.DynamicAny.DynAnyPackage", false),
-                new Import("TypeMismatchHelper", "org.omg.IOP.CodecPackage", false),
+              new String[] {
+                "org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper",
+                "org.omg.IOP.CodecPackage.TypeMismatchHelper",
               })
           .put(
               "APPLET",
-              new Import[] {
-                new Import("APPLET", "javax.naming.Context", true),
-                new Import("APPLET", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.naming.Context.APPLET",
+                "static javax.swing.text.html.HTML.Tag.APPLET",
               })
           .put(
               "MIN_WEIGHT",
-              new Import[] {
-                new Import("MIN_WEIGHT", "java.util.Locale.LanguageRange", true),
+              new String[] {
+                "static java.util.Locale.LanguageRange.MIN_WEIGHT",
               })
           .put(
               "BasicCheckBoxUI",
-              new Import[] {
-                new Import("BasicCheckBoxUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicCheckBoxUI",
               })
           .put(
               "VisibilityHelper",
-              new Import[] {
-                new Import("VisibilityHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.VisibilityHelper",
               })
           .put(
               "KERNING",
-              new Import[] {
-                new Import("KERNING", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.KERNING",
               })
           .put(
               "NotificationBroadcaster",
-              new Import[] {
-                new Import("NotificationBroadcaster", "javax.management", false),
+              new String[] {
+                "javax.management.NotificationBroadcaster",
               })
           .put(
               "Level",
-              new Import[] {
-                new Import("Level", "java.util.logging", false),
+              new String[] {
+                "java.util.logging.Level",
               })
           .put(
               "ACCESSIBLE_TEXT_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TEXT_PROPERTY", "javax.accessibility.AccessibleContext", true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_TEXT_PROPERTY",
               })
           .put(
               "SystemFlavorMap",
-              new Import[] {
-                new Import("SystemFlavorMap", "java.awt.datatransfer", false),
+              new String[] {
+                "java.awt.datatransfer.SystemFlavorMap",
               })
           .put(
               "getMidiFileFormat",
-              new Import[] {
-                new Import("getMidiFileFormat", "javax.sound.midi.MidiSystem", true),
+              new String[] {
+                "static javax.sound.midi.MidiSystem.getMidiFileFormat",
               })
           .put(
               "AddressHelper",
-              new Import[] {
-                new Import("AddressHelper", "org.omg.CosNaming.NamingContextExtPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextExtPackage.AddressHelper",
               })
           .put(
               "Path2D",
-              new Import[] {
-                new Import("Path2D", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.Path2D",
               })
           .put(
               "HighlightPainter",
-              new Import[] {
-                new Import("HighlightPainter", "javax.swing.text.Highlighter", false),
+              new String[] {
+                "javax.swing.text.Highlighter.HighlightPainter",
               })
           .put(
               "StandardEmitterMBean",
-              new Import[] {
-                new Import("StandardEmitterMBean", "javax.management", false),
+              new String[] {
+                "javax.management.StandardEmitterMBean",
               })
           .put(
               "PrivateClassLoader",
-              new Import[] {
-                new Import("PrivateClassLoader", "javax.management.loading", false),
+              new String[] {
+                "javax.management.loading.PrivateClassLoader",
               })
           .put(
               "CertificateFactory",
-              new Import[] {
-                new Import("CertificateFactory", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertificateFactory",
               })
           .put(
               "out",
-              new Import[] {
-                new Import("out", "java.io.FileDescriptor", true),
-                new Import("out", "java.lang.System", true),
+              new String[] {
+                "static java.io.FileDescriptor.out", "static java.lang.System.out",
               })
           .put(
               "MEMORY_THRESHOLD_EXCEEDED",
-              new Import[] {
-                new Import(
-                    "MEMORY_THRESHOLD_EXCEEDED",
-                    "java.lang.management.MemoryNotificationInfo",
-                    true),
+              new String[] {
+                "static java.lang.management.MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED",
               })
           .put(
               "serialVersionUID",
-              new Import[] {
-                new Import("serialVersionUID", "java.rmi.server.RemoteRef", true),
-                new Import("serialVersionUID", "java.rmi.server.ServerRef", true),
-                new Import("serialVersionUID", "java.security.Key", true),
-                new Import("serialVersionUID", "java.security.PrivateKey", true),
-                new Import("serialVersionUID", "java.security.PublicKey", true),
-                new Import("serialVersionUID", "java.security.interfaces.DSAPrivateKey", true),
-                new Import("serialVersionUID", "java.security.interfaces.DSAPublicKey", true),
-                new Import("serialVersionUID", "java.security.interfaces.ECPrivateKey", true),
-                new Import("serialVersionUID", "java.security.interfaces.ECPublicKey", true),
-                new Import(
-                    "serialVersionUID",
-                    "java.security.interfaces.RSAMultiPrimePrivateCrtKey",
-                    true),
-                new Import("serialVersionUID", "java.security.interfaces.RSAPrivateCrtKey", true),
-                new Import("serialVersionUID", "java.security.interfaces.RSAPrivateKey", true),
-                new Import("serialVersionUID", "java.security.interfaces.RSAPublicKey", true),
-                new Import("serialVersionUID", "javax.crypto.SecretKey", true),
-                new Import("serialVersionUID", "javax.crypto.interfaces.DHPrivateKey", true),
-                new Import("serialVersionUID", "javax.crypto.interfaces.DHPublicKey", true),
-                new Import("serialVersionUID", "javax.crypto.interfaces.PBEKey", true),
-                new Import("serialVersionUID", "javax.naming.Name", true),
-                new Import("serialVersionUID", "javax.naming.directory.Attribute", true),
+              new String[] {
+                "static java.rmi.server.RemoteRef.serialVersionUID",
+                "static java.rmi.server.ServerRef.serialVersionUID",
+                "static java.security.Key.serialVersionUID",
+                "static java.security.PrivateKey.serialVersionUID",
+                "static java.security.PublicKey.serialVersionUID",
+                "static java.security.interfaces.DSAPrivateKey.serialVersionUID",
+                "static java.security.interfaces.DSAPublicKey.serialVersionUID",
+                "static java.security.interfaces.ECPrivateKey.serialVersionUID",
+                "static java.security.interfaces.ECPublicKey.serialVersionUID",
+                "static java.security.interfaces.RSAMultiPrimePrivateCrtKey.serialVersionUID",
+                "static java.security.interfaces.RSAPrivateCrtKey.serialVersionUID",
+                "static java.security.interfaces.RSAPrivateKey.serialVersionUID",
+                "static java.security.interfaces.RSAPublicKey.serialVersionUID",
+                "static javax.crypto.SecretKey.serialVersionUID",
+                "static javax.crypto.interfaces.DHPrivateKey.serialVersionUID",
+                "static javax.crypto.interfaces.DHPublicKey.serialVersionUID",
+                "static javax.crypto.interfaces.PBEKey.serialVersionUID",
+                "static javax.naming.Name.serialVersionUID",
+                "static javax.naming.directory.Attribute.serialVersionUID",
               })
           .put(
               "methodType",
-              new Import[] {
-                new Import("methodType", "java.lang.invoke.MethodType", true),
+              new String[] {
+                "static java.lang.invoke.MethodType.methodType",
               })
           .put(
               "Locator2",
-              new Import[] {
-                new Import("Locator2", "org.xml.sax.ext", false),
+              new String[] {
+                "org.xml.sax.ext.Locator2",
               })
           .put(
               "copy",
-              new Import[] {
-                new Import("copy", "java.nio.file.Files", true),
-                new Import("copy", "java.util.Collections", true),
+              new String[] {
+                "static java.nio.file.Files.copy", "static java.util.Collections.copy",
               })
           .put(
               "VALUE_RANGE_MIN_INCLUSIVE",
-              new Import[] {
-                new Import(
-                    "VALUE_RANGE_MIN_INCLUSIVE", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.VALUE_RANGE_MIN_INCLUSIVE",
               })
           .put(
               "Streamable",
-              new Import[] {
-                new Import("Streamable", "org.omg.CORBA.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.Streamable",
               })
           .put(
               "RowSorterListener",
-              new Import[] {
-                new Import("RowSorterListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.RowSorterListener",
               })
           .put(
               "VK_PRINTSCREEN",
-              new Import[] {
-                new Import("VK_PRINTSCREEN", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_PRINTSCREEN",
               })
           .put(
               "ITALIC",
-              new Import[] {
-                new Import("ITALIC", "java.awt.Font", true),
+              new String[] {
+                "static java.awt.Font.ITALIC",
               })
           .put(
               "BORDER_TOP",
-              new Import[] {
-                new Import("BORDER_TOP", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_TOP",
               })
           .put(
               "DOMErrorHandler",
-              new Import[] {
-                new Import("DOMErrorHandler", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.DOMErrorHandler",
               })
           .put(
               "FontSizeAction",
-              new Import[] {
-                new Import("FontSizeAction", "javax.swing.text.StyledEditorKit", false),
+              new String[] {
+                "javax.swing.text.StyledEditorKit.FontSizeAction",
               })
           .put(
               "ISO_LOCAL_DATE_TIME",
-              new Import[] {
-                new Import("ISO_LOCAL_DATE_TIME", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME",
               })
           .put(
               "StrictMath",
-              new Import[] {
-                new Import("StrictMath", "java.lang", false),
+              new String[] {
+                "java.lang.StrictMath",
               })
           .put(
               "SPAN",
-              new Import[] {
-                new Import("SPAN", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.SPAN",
               })
           .put(
               "isAbstract",
-              new Import[] {
-                new Import("isAbstract", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.isAbstract",
               })
           .put(
               "newReader",
-              new Import[] {
-                new Import("newReader", "java.nio.channels.Channels", true),
+              new String[] {
+                "static java.nio.channels.Channels.newReader",
               })
           .put(
               "APPROVE_BUTTON_TOOL_TIP_TEXT_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "APPROVE_BUTTON_TOOL_TIP_TEXT_CHANGED_PROPERTY",
-                    "javax.swing.JFileChooser",
-                    true),
+              new String[] {
+                "static javax.swing.JFileChooser.APPROVE_BUTTON_TOOL_TIP_TEXT_CHANGED_PROPERTY",
               })
           .put(
               "isBold",
-              new Import[] {
-                new Import("isBold", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.isBold",
               })
           .put(
               "Thread",
-              new Import[] {
-                new Import("Thread", "java.lang", false),
+              new String[] {
+                "java.lang.Thread",
               })
           .put(
               "TexturePaint",
-              new Import[] {
-                new Import("TexturePaint", "java.awt", false),
+              new String[] {
+                "java.awt.TexturePaint",
               })
           .put(
               "KEY_LOCATION_UNKNOWN",
-              new Import[] {
-                new Import("KEY_LOCATION_UNKNOWN", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.KEY_LOCATION_UNKNOWN",
               })
           .put(
               "DoubleFunction",
-              new Import[] {
-                new Import("DoubleFunction", "java.util.function", false),
+              new String[] {
+                "java.util.function.DoubleFunction",
               })
           .put(
               "REVERSE_PORTRAIT",
-              new Import[] {
-                new Import(
-                    "REVERSE_PORTRAIT",
-                    "javax.print.attribute.standard.OrientationRequested",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.OrientationRequested.REVERSE_PORTRAIT",
               })
           .put(
               "VK_DEAD_TILDE",
-              new Import[] {
-                new Import("VK_DEAD_TILDE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DEAD_TILDE",
               })
           .put(
               "isName",
-              new Import[] {
-                new Import("isName", "javax.lang.model.SourceVersion", true),
+              new String[] {
+                "static javax.lang.model.SourceVersion.isName",
               })
           .put(
               "KANGXI_RADICALS",
-              new Import[] {
-                new Import("KANGXI_RADICALS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.KANGXI_RADICALS",
               })
           .put(
               "MANIFEST_NAME",
-              new Import[] {
-                new Import("MANIFEST_NAME", "java.util.jar.JarFile", true),
+              new String[] {
+                "static java.util.jar.JarFile.MANIFEST_NAME",
               })
           .put(
               "UnsupportedAddressTypeException",
-              new Import[] {
-                new Import("UnsupportedAddressTypeException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.UnsupportedAddressTypeException",
               })
           .put(
               "PLAIN_MESSAGE",
-              new Import[] {
-                new Import("PLAIN_MESSAGE", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.PLAIN_MESSAGE",
               })
           .put(
               "PolicyErrorHolder",
-              new Import[] {
-                new Import("PolicyErrorHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.PolicyErrorHolder",
               })
           .put(
               "RuntimeErrorException",
-              new Import[] {
-                new Import("RuntimeErrorException", "javax.management", false),
+              new String[] {
+                "javax.management.RuntimeErrorException",
               })
           .put(
               "VK_NUMBER_SIGN",
-              new Import[] {
-                new Import("VK_NUMBER_SIGN", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_NUMBER_SIGN",
               })
           .put(
               "MailcapCommandMap",
-              new Import[] {
-                new Import("MailcapCommandMap", "javax.activation", false),
+              new String[] {
+                "javax.activation.MailcapCommandMap",
               })
           .put(
               "VariableHeightLayoutCache",
-              new Import[] {
-                new Import("VariableHeightLayoutCache", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.VariableHeightLayoutCache",
               })
           .put(
               "checkedSortedMap",
-              new Import[] {
-                new Import("checkedSortedMap", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.checkedSortedMap",
               })
           .put(
               "AUTO_RESIZE_ALL_COLUMNS",
-              new Import[] {
-                new Import("AUTO_RESIZE_ALL_COLUMNS", "javax.swing.JTable", true),
+              new String[] {
+                "static javax.swing.JTable.AUTO_RESIZE_ALL_COLUMNS",
               })
           .put(
               "pathSeparator",
-              new Import[] {
-                new Import("pathSeparator", "java.io.File", true),
+              new String[] {
+                "static java.io.File.pathSeparator",
               })
           .put(
               "VK_DEAD_OGONEK",
-              new Import[] {
-                new Import("VK_DEAD_OGONEK", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DEAD_OGONEK",
               })
           .put(
               "Kind",
-              new Import[] {
-                new Import("Kind", "java.nio.file.WatchEvent", false),
-                new Import("Kind", "javax.tools.Diagnostic", false),
-                new Import("Kind", "javax.tools.JavaFileObject", false),
+              new String[] {
+                "java.nio.file.WatchEvent.Kind",
+                "javax.tools.Diagnostic.Kind",
+                "javax.tools.JavaFileObject.Kind",
               })
           .put(
               "RMIConnectionImpl_Stub",
-              new Import[] {
-                new Import("RMIConnectionImpl_Stub", "javax.management.remote.rmi", false),
+              new String[] {
+                "javax.management.remote.rmi.RMIConnectionImpl_Stub",
               })
           .put(
               "Stream",
-              new Import[] {
-                new Import("Stream", "java.util.stream", false),
+              new String[] {
+                "java.util.stream.Stream",
               })
           .put(
               "printDecimal",
-              new Import[] {
-                new Import("printDecimal", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printDecimal",
               })
           .put(
               "isJavaMIMEType",
-              new Import[] {
-                new Import("isJavaMIMEType", "java.awt.datatransfer.SystemFlavorMap", true),
+              new String[] {
+                "static java.awt.datatransfer.SystemFlavorMap.isJavaMIMEType",
               })
           .put(
               "DST_OFFSET",
-              new Import[] {
-                new Import("DST_OFFSET", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.DST_OFFSET",
               })
           .put(
               "RAW_X509_CERTIFICATE_TYPE",
-              new Import[] {
-                new Import(
-                    "RAW_X509_CERTIFICATE_TYPE", "javax.xml.crypto.dsig.keyinfo.X509Data", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.keyinfo.X509Data.RAW_X509_CERTIFICATE_TYPE",
               })
           .put(
               "TransformException",
-              new Import[] {
-                new Import("TransformException", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "javax.xml.crypto.dsig.TransformException",
               })
           .put(
               "Period",
-              new Import[] {
-                new Import("Period", "java.time", false),
+              new String[] {
+                "java.time.Period",
               })
           .put(
               "INTERLOCK_OPEN",
-              new Import[] {
-                new Import(
-                    "INTERLOCK_OPEN", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.INTERLOCK_OPEN",
               })
           .put(
               "EventObject",
-              new Import[] {
-                new Import("EventObject", "java.util", false),
+              new String[] {
+                "java.util.EventObject",
               })
           .put(
               "LOGGING_MXBEAN_NAME",
-              new Import[] {
-                new Import("LOGGING_MXBEAN_NAME", "java.util.logging.LogManager", true),
+              new String[] {
+                "static java.util.logging.LogManager.LOGGING_MXBEAN_NAME",
               })
           .put(
               "ObjectHolder",
-              new Import[] {
-                new Import("ObjectHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ObjectHolder",
               })
           .put(
               "SOAPBody",
-              new Import[] {
-                new Import("SOAPBody", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SOAPBody",
               })
           .put(
               "PrinterName",
-              new Import[] {
-                new Import("PrinterName", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PrinterName",
               })
           .put(
               "CannotProceedHelper",
-              new Import[] {
-                new Import("CannotProceedHelper", "org.omg.CosNaming.NamingContextPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.CannotProceedHelper",
               })
           .put(
               "EnumControl",
-              new Import[] {
-                new Import("EnumControl", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.EnumControl",
               })
           .put(
               "LAYOUT_LEFT_TO_RIGHT",
-              new Import[] {
-                new Import("LAYOUT_LEFT_TO_RIGHT", "java.awt.Font", true),
+              new String[] {
+                "static java.awt.Font.LAYOUT_LEFT_TO_RIGHT",
               })
           .put(
               "VALUE_FRACTIONALMETRICS_DEFAULT",
-              new Import[] {
-                new Import("VALUE_FRACTIONALMETRICS_DEFAULT", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_FRACTIONALMETRICS_DEFAULT",
               })
           .put(
               "AUGUST",
-              new Import[] {
-                new Import("AUGUST", "java.util.Calendar", true),
-                new Import("AUGUST", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static java.util.Calendar.AUGUST",
+                "static javax.xml.datatype.DatatypeConstants.AUGUST",
               })
           .put(
               "logStream",
-              new Import[] {
-                new Import("logStream", "javax.swing.DebugGraphics", true),
+              new String[] {
+                "static javax.swing.DebugGraphics.logStream",
               })
           .put(
               "AccessibleHyperlink",
-              new Import[] {
-                new Import("AccessibleHyperlink", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleHyperlink",
               })
           .put(
               "QualifiedNameable",
-              new Import[] {
-                new Import("QualifiedNameable", "javax.lang.model.element", false),
+              new String[] {
+                "javax.lang.model.element.QualifiedNameable",
               })
           .put(
               "XmlJavaTypeAdapters",
-              new Import[] {
-                new Import("XmlJavaTypeAdapters", "javax.xml.bind.annotation.adapters", false),
+              new String[] {
+                "javax.xml.bind.annotation.adapters.XmlJavaTypeAdapters",
               })
           .put(
               "InvalidAddressHolder",
-              new Import[] {
-                new Import(
-                    "InvalidAddressHolder", "org.omg.CosNaming.NamingContextExtPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHolder",
               })
           .put(
               "XmlInlineBinaryData",
-              new Import[] {
-                new Import("XmlInlineBinaryData", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlInlineBinaryData",
               })
           .put(
               "STRUCT",
-              new Import[] {
-                new Import("STRUCT", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.STRUCT",
               })
           .put(
               "dk_Module",
-              new Import[] {
-                new Import("dk_Module", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Module",
               })
           .put(
               "getFileChooserNewFolderIcon",
-              new Import[] {
-                new Import(
-                    "getFileChooserNewFolderIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getFileChooserNewFolderIcon",
               })
           .put(
               "PolicyNode",
-              new Import[] {
-                new Import("PolicyNode", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.PolicyNode",
               })
           .put(
               "VK_BACK_SLASH",
-              new Import[] {
-                new Import("VK_BACK_SLASH", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_BACK_SLASH",
               })
           .put(
               "MAX_CODE_POINT",
-              new Import[] {
-                new Import("MAX_CODE_POINT", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.MAX_CODE_POINT",
               })
           .put(
               "icSigBlueTRCTag",
-              new Import[] {
-                new Import("icSigBlueTRCTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigBlueTRCTag",
               })
           .put(
               "ObjectReferenceFactoryHelper",
-              new Import[] {
-                new Import("ObjectReferenceFactoryHelper", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ObjectReferenceFactoryHelper",
               })
           .put(
               "BlockView",
-              new Import[] {
-                new Import("BlockView", "javax.swing.text.html", false),
+              new String[] {
+                "javax.swing.text.html.BlockView",
               })
           .put(
               "Insets",
-              new Import[] {
-                new Import("Insets", "java.awt", false),
+              new String[] {
+                "java.awt.Insets",
               })
           .put(
               "CodingErrorAction",
-              new Import[] {
-                new Import("CodingErrorAction", "java.nio.charset", false),
+              new String[] {
+                "java.nio.charset.CodingErrorAction",
               })
           .put(
               "setURLStreamHandlerFactory",
-              new Import[] {
-                new Import("setURLStreamHandlerFactory", "java.net.URL", true),
+              new String[] {
+                "static java.net.URL.setURLStreamHandlerFactory",
               })
           .put(
               "HOUR",
-              new Import[] {
-                new Import("HOUR", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.HOUR",
               })
           .put(
               "MODIFIED_JULIAN_DAY",
-              new Import[] {
-                new Import("MODIFIED_JULIAN_DAY", "java.time.temporal.JulianFields", true),
+              new String[] {
+                "static java.time.temporal.JulianFields.MODIFIED_JULIAN_DAY",
               })
           .put(
               "HTMLFrameHyperlinkEvent",
-              new Import[] {
-                new Import("HTMLFrameHyperlinkEvent", "javax.swing.text.html", false),
+              new String[] {
+                "javax.swing.text.html.HTMLFrameHyperlinkEvent",
               })
           .put(
               "XPathFilterParameterSpec",
-              new Import[] {
-                new Import("XPathFilterParameterSpec", "javax.xml.crypto.dsig.spec", false),
+              new String[] {
+                "javax.xml.crypto.dsig.spec.XPathFilterParameterSpec",
               })
           .put(
               "UnknownUserException",
-              new Import[] {
-                new Import("UnknownUserException", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.UnknownUserException",
               })
           .put(
               "URLStreamHandlerFactory",
-              new Import[] {
-                new Import("URLStreamHandlerFactory", "java.net", false),
+              new String[] {
+                "java.net.URLStreamHandlerFactory",
               })
           .put(
               "getScaleInstance",
-              new Import[] {
-                new Import("getScaleInstance", "java.awt.geom.AffineTransform", true),
+              new String[] {
+                "static java.awt.geom.AffineTransform.getScaleInstance",
               })
           .put(
               "Operation",
-              new Import[] {
-                new Import("Operation", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.Operation",
               })
           .put(
               "ENTRY_CREATE",
-              new Import[] {
-                new Import("ENTRY_CREATE", "java.nio.file.StandardWatchEventKinds", true),
+              new String[] {
+                "static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE",
               })
           .put(
               "GLOBAL_LOGGER_NAME",
-              new Import[] {
-                new Import("GLOBAL_LOGGER_NAME", "java.util.logging.Logger", true),
+              new String[] {
+                "static java.util.logging.Logger.GLOBAL_LOGGER_NAME",
               })
           .put(
               "createWritableRaster",
-              new Import[] {
-                new Import("createWritableRaster", "java.awt.image.Raster", true),
+              new String[] {
+                "static java.awt.image.Raster.createWritableRaster",
               })
           .put(
               "SubjectDomainCombiner",
-              new Import[] {
-                new Import("SubjectDomainCombiner", "javax.security.auth", false),
+              new String[] {
+                "javax.security.auth.SubjectDomainCombiner",
               })
           .put(
               "selectionEndLineAction",
-              new Import[] {
-                new Import("selectionEndLineAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectionEndLineAction",
               })
           .put(
               "Reason",
-              new Import[] {
-                new Import("Reason", "java.security.cert.CertPathValidatorException", false),
+              new String[] {
+                "java.security.cert.CertPathValidatorException.Reason",
               })
           .put(
               "ENTITY",
-              new Import[] {
-                new Import("ENTITY", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.ENTITY",
               })
           .put(
               "_DynArrayStub",
-              new Import[] {
-                new Import("_DynArrayStub", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny._DynArrayStub",
               })
           .put(
               "ALWAYS_UPDATE",
-              new Import[] {
-                new Import("ALWAYS_UPDATE", "javax.swing.text.DefaultCaret", true),
+              new String[] {
+                "static javax.swing.text.DefaultCaret.ALWAYS_UPDATE",
               })
           .put(
               "CLOSE_CURSORS_AT_COMMIT",
-              new Import[] {
-                new Import("CLOSE_CURSORS_AT_COMMIT", "java.sql.ResultSet", true),
+              new String[] {
+                "static java.sql.ResultSet.CLOSE_CURSORS_AT_COMMIT",
               })
           .put(
               "FormatMismatchHelper",
-              new Import[] {
-                new Import("FormatMismatchHelper", "org.omg.IOP.CodecPackage", false),
+              new String[] {
+                "org.omg.IOP.CodecPackage.FormatMismatchHelper",
               })
           .put(
               "ItemSelectable",
-              new Import[] {
-                new Import("ItemSelectable", "java.awt", false),
+              new String[] {
+                "java.awt.ItemSelectable",
               })
           .put(
               "EncodedKeySpec",
-              new Import[] {
-                new Import("EncodedKeySpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.EncodedKeySpec",
               })
           .put(
               "Mode",
-              new Import[] {
-                new Import("Mode", "javax.jws.WebParam", false),
-                new Import("Mode", "javax.xml.ws.Service", false),
+              new String[] {
+                "javax.jws.WebParam.Mode", "javax.xml.ws.Service.Mode",
               })
           .put(
               "ToDoubleBiFunction",
-              new Import[] {
-                new Import("ToDoubleBiFunction", "java.util.function", false),
+              new String[] {
+                "java.util.function.ToDoubleBiFunction",
               })
           .put(
               "KRB_NT_UID",
-              new Import[] {
-                new Import("KRB_NT_UID", "javax.security.auth.kerberos.KerberosPrincipal", true),
+              new String[] {
+                "static javax.security.auth.kerberos.KerberosPrincipal.KRB_NT_UID",
               })
           .put(
               "ofDays",
-              new Import[] {
-                new Import("ofDays", "java.time.Duration", true),
-                new Import("ofDays", "java.time.Period", true),
+              new String[] {
+                "static java.time.Duration.ofDays", "static java.time.Period.ofDays",
               })
           .put(
               "AbstractElementVisitor6",
-              new Import[] {
-                new Import("AbstractElementVisitor6", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.AbstractElementVisitor6",
               })
           .put(
               "AbstractElementVisitor7",
-              new Import[] {
-                new Import("AbstractElementVisitor7", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.AbstractElementVisitor7",
               })
           .put(
               "AbstractElementVisitor8",
-              new Import[] {
-                new Import("AbstractElementVisitor8", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.AbstractElementVisitor8",
               })
           .put(
               "getSystemToolClassLoader",
-              new Import[] {
-                new Import("getSystemToolClassLoader", "javax.tools.ToolProvider", true),
+              new String[] {
+                "static javax.tools.ToolProvider.getSystemToolClassLoader",
               })
           .put(
               "ULongLongSeqHolder",
-              new Import[] {
-                new Import("ULongLongSeqHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ULongLongSeqHolder",
               })
           .put(
               "SONG_POSITION_POINTER",
-              new Import[] {
-                new Import("SONG_POSITION_POINTER", "javax.sound.midi.ShortMessage", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.SONG_POSITION_POINTER",
               })
           .put(
               "KeyBinding",
-              new Import[] {
-                new Import("KeyBinding", "javax.swing.text.JTextComponent", false),
+              new String[] {
+                "javax.swing.text.JTextComponent.KeyBinding",
               })
           .put(
               "FORMAT_CLASS",
-              new Import[] {
-                new Import("FORMAT_CLASS", "java.util.ResourceBundle.Control", true),
+              new String[] {
+                "static java.util.ResourceBundle.Control.FORMAT_CLASS",
               })
           .put(
               "ChronoUnit",
-              new Import[] {
-                new Import("ChronoUnit", "java.time.temporal", false),
+              new String[] {
+                "java.time.temporal.ChronoUnit",
               })
           .build();
 }
@@ -2,1727 +2,1691 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk23 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "DST_OVER",
-              new Import[] {
-                new Import("DST_OVER", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.DST_OVER",
               })
           .put(
               "UTF_16LE",
-              new Import[] {
-                new Import("UTF_16LE", "java.nio.charset.StandardCharsets", true),
+              new String[] {
+                "static java.nio.charset.StandardCharsets.UTF_16LE",
               })
           .put(
               "TableModelEvent",
-              new Import[] {
-                new Import("TableModelEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.TableModelEvent",
               })
           .put(
               "TYPE_SHORT",
-              new Import[] {
-                new Import("TYPE_SHORT", "java.awt.image.DataBuffer", true),
+              new String[] {
+                "static java.awt.image.DataBuffer.TYPE_SHORT",
               })
           .put(
               "FileNotFoundException",
-              new Import[] {
-                new Import("FileNotFoundException", "java.io", false),
+              new String[] {
+                "java.io.FileNotFoundException",
               })
           .put(
               "toUnsignedLong",
-              new Import[] {
-                new Import("toUnsignedLong", "java.lang.Byte", true),
-                new Import("toUnsignedLong", "java.lang.Integer", true),
-                new Import("toUnsignedLong", "java.lang.Short", true),
+              new String[] {
+                "static java.lang.Byte.toUnsignedLong",
+                "static java.lang.Integer.toUnsignedLong",
+                "static java.lang.Short.toUnsignedLong",
               })
           .put(
               "NodeDimensions",
-              new Import[] {
-                new Import("NodeDimensions", "javax.swing.tree.AbstractLayoutCache", false),
+              new String[] {
+                "javax.swing.tree.AbstractLayoutCache.NodeDimensions",
               })
           .put(
               "newSingleThreadExecutor",
-              new Import[] {
-                new Import("newSingleThreadExecutor", "java.util.concurrent.Executors", true),
+              new String[] {
+                "static java.util.concurrent.Executors.newSingleThreadExecutor",
               })
           .put(
               "ElementVisitor",
-              new Import[] {
-                new Import("ElementVisitor", "javax.lang.model.element", false),
+              new String[] {
+                "javax.lang.model.element.ElementVisitor",
               })
           .put(
               "VALUE_STROKE_DEFAULT",
-              new Import[] {
-                new Import("VALUE_STROKE_DEFAULT", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_STROKE_DEFAULT",
               })
           .put(
               "createUI",
-              new Import[] {
-                new Import("createUI", "javax.swing.plaf.ComponentUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicCheckBoxMenuItemUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicCheckBoxUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicColorChooserUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicComboBoxUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicDesktopIconUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicDesktopPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicEditorPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicFileChooserUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicFormattedTextFieldUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicInternalFrameUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicLabelUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicListUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicMenuBarUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicMenuItemUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicMenuUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicOptionPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicPanelUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicPasswordFieldUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicPopupMenuSeparatorUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicPopupMenuUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicProgressBarUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicRadioButtonMenuItemUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicRadioButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicRootPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicScrollBarUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicScrollPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicSeparatorUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicSliderUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicSpinnerUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicSplitPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicTabbedPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicTableHeaderUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicTableUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicTextAreaUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicTextFieldUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicTextPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicToggleButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicToolBarSeparatorUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicToolBarUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicToolTipUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicTreeUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicViewportUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalCheckBoxUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalComboBoxUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalDesktopIconUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalFileChooserUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalInternalFrameUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalLabelUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalMenuBarUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalPopupMenuSeparatorUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalProgressBarUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalRadioButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalRootPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalScrollBarUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalScrollPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalSeparatorUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalSliderUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalSplitPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalTabbedPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalTextFieldUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalToggleButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalToolBarUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalToolTipUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalTreeUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiColorChooserUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiComboBoxUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiDesktopIconUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiDesktopPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiFileChooserUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiInternalFrameUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiLabelUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiListUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiMenuBarUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiMenuItemUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiOptionPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiPanelUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiPopupMenuUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiProgressBarUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiRootPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiScrollBarUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiScrollPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiSeparatorUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiSliderUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiSpinnerUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiSplitPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiTabbedPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiTableHeaderUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiTableUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiTextUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiToolBarUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiToolTipUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiTreeUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiViewportUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthCheckBoxMenuItemUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthCheckBoxUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthColorChooserUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthComboBoxUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthDesktopIconUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthDesktopPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthEditorPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthFormattedTextFieldUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthInternalFrameUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthLabelUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthListUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthLookAndFeel", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthMenuBarUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthMenuItemUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthMenuUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthOptionPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthPanelUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthPasswordFieldUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthPopupMenuUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthProgressBarUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthRadioButtonMenuItemUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthRadioButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthRootPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthScrollBarUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthScrollPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthSeparatorUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthSliderUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthSpinnerUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthSplitPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthTabbedPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthTableHeaderUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthTableUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthTextAreaUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthTextFieldUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthTextPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthToggleButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthToolBarUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthToolTipUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthTreeUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthViewportUI", true),
+              new String[] {
+                "static javax.swing.plaf.ComponentUI.createUI",
+                "static javax.swing.plaf.basic.BasicButtonUI.createUI",
+                "static javax.swing.plaf.basic.BasicCheckBoxMenuItemUI.createUI",
+                "static javax.swing.plaf.basic.BasicCheckBoxUI.createUI",
+                "static javax.swing.plaf.basic.BasicColorChooserUI.createUI",
+                "static javax.swing.plaf.basic.BasicComboBoxUI.createUI",
+                "static javax.swing.plaf.basic.BasicDesktopIconUI.createUI",
+                "static javax.swing.plaf.basic.BasicDesktopPaneUI.createUI",
+                "static javax.swing.plaf.basic.BasicEditorPaneUI.createUI",
+                "static javax.swing.plaf.basic.BasicFileChooserUI.createUI",
+                "static javax.swing.plaf.basic.BasicFormattedTextFieldUI.createUI",
+                "static javax.swing.plaf.basic.BasicInternalFrameUI.createUI",
+                "static javax.swing.plaf.basic.BasicLabelUI.createUI",
+                "static javax.swing.plaf.basic.BasicListUI.createUI",
+                "static javax.swing.plaf.basic.BasicMenuBarUI.createUI",
+                "static javax.swing.plaf.basic.BasicMenuItemUI.createUI",
+                "static javax.swing.plaf.basic.BasicMenuUI.createUI",
+                "static javax.swing.plaf.basic.BasicOptionPaneUI.createUI",
+                "static javax.swing.plaf.basic.BasicPanelUI.createUI",
+                "static javax.swing.plaf.basic.BasicPasswordFieldUI.createUI",
+                "static javax.swing.plaf.basic.BasicPopupMenuSeparatorUI.createUI",
+                "static javax.swing.plaf.basic.BasicPopupMenuUI.createUI",
+                "static javax.swing.plaf.basic.BasicProgressBarUI.createUI",
+                "static javax.swing.plaf.basic.BasicRadioButtonMenuItemUI.createUI",
+                "static javax.swing.plaf.basic.BasicRadioButtonUI.createUI",
+                "static javax.swing.plaf.basic.BasicRootPaneUI.createUI",
+                "static javax.swing.plaf.basic.BasicScrollBarUI.createUI",
+                "static javax.swing.plaf.basic.BasicScrollPaneUI.createUI",
+                "static javax.swing.plaf.basic.BasicSeparatorUI.createUI",
+                "static javax.swing.plaf.basic.BasicSliderUI.createUI",
+                "static javax.swing.plaf.basic.BasicSpinnerUI.createUI",
+                "static javax.swing.plaf.basic.BasicSplitPaneUI.createUI",
+                "static javax.swing.plaf.basic.BasicTabbedPaneUI.createUI",
+                "static javax.swing.plaf.basic.BasicTableHeaderUI.createUI",
+                "static javax.swing.plaf.basic.BasicTableUI.createUI",
+                "static javax.swing.plaf.basic.BasicTextAreaUI.createUI",
+                "static javax.swing.plaf.basic.BasicTextFieldUI.createUI",
+                "static javax.swing.plaf.basic.BasicTextPaneUI.createUI",
+                "static javax.swing.plaf.basic.BasicToggleButtonUI.createUI",
+                "static javax.swing.plaf.basic.BasicToolBarSeparatorUI.createUI",
+                "static javax.swing.plaf.basic.BasicToolBarUI.createUI",
+                "static javax.swing.plaf.basic.BasicToolTipUI.createUI",
+                "static javax.swing.plaf.basic.BasicTreeUI.createUI",
+                "static javax.swing.plaf.basic.BasicViewportUI.createUI",
+                "static javax.swing.plaf.metal.MetalButtonUI.createUI",
+                "static javax.swing.plaf.metal.MetalCheckBoxUI.createUI",
+                "static javax.swing.plaf.metal.MetalComboBoxUI.createUI",
+                "static javax.swing.plaf.metal.MetalDesktopIconUI.createUI",
+                "static javax.swing.plaf.metal.MetalFileChooserUI.createUI",
+                "static javax.swing.plaf.metal.MetalInternalFrameUI.createUI",
+                "static javax.swing.plaf.metal.MetalLabelUI.createUI",
+                "static javax.swing.plaf.metal.MetalMenuBarUI.createUI",
+                "static javax.swing.plaf.metal.MetalPopupMenuSeparatorUI.createUI",
+                "static javax.swing.plaf.metal.MetalProgressBarUI.createUI",
+                "static javax.swing.plaf.metal.MetalRadioButtonUI.createUI",
+                "static javax.swing.plaf.metal.MetalRootPaneUI.createUI",
+                "static javax.swing.plaf.metal.MetalScrollBarUI.createUI",
+                "static javax.swing.plaf.metal.MetalScrollPaneUI.createUI",
+                "static javax.swing.plaf.metal.MetalSeparatorUI.createUI",
+                "static javax.swing.plaf.metal.MetalSliderUI.createUI",
+                "static javax.swing.plaf.metal.MetalSplitPaneUI.createUI",
+                "static javax.swing.plaf.metal.MetalTabbedPaneUI.createUI",
+                "static javax.swing.plaf.metal.MetalTextFieldUI.createUI",
+                "static javax.swing.plaf.metal.MetalToggleButtonUI.createUI",
+                "static javax.swing.plaf.metal.MetalToolBarUI.createUI",
+                "static javax.swing.plaf.metal.MetalToolTipUI.createUI",
+                "static javax.swing.plaf.metal.MetalTreeUI.createUI",
+                "static javax.swing.plaf.multi.MultiButtonUI.createUI",
+                "static javax.swing.plaf.multi.MultiColorChooserUI.createUI",
+                "static javax.swing.plaf.multi.MultiComboBoxUI.createUI",
+                "static javax.swing.plaf.multi.MultiDesktopIconUI.createUI",
+                "static javax.swing.plaf.multi.MultiDesktopPaneUI.createUI",
+                "static javax.swing.plaf.multi.MultiFileChooserUI.createUI",
+                "static javax.swing.plaf.multi.MultiInternalFrameUI.createUI",
+                "static javax.swing.plaf.multi.MultiLabelUI.createUI",
+                "static javax.swing.plaf.multi.MultiListUI.createUI",
+                "static javax.swing.plaf.multi.MultiMenuBarUI.createUI",
+                "static javax.swing.plaf.multi.MultiMenuItemUI.createUI",
+                "static javax.swing.plaf.multi.MultiOptionPaneUI.createUI",
+                "static javax.swing.plaf.multi.MultiPanelUI.createUI",
+                "static javax.swing.plaf.multi.MultiPopupMenuUI.createUI",
+                "static javax.swing.plaf.multi.MultiProgressBarUI.createUI",
+                "static javax.swing.plaf.multi.MultiRootPaneUI.createUI",
+                "static javax.swing.plaf.multi.MultiScrollBarUI.createUI",
+                "static javax.swing.plaf.multi.MultiScrollPaneUI.createUI",
+                "static javax.swing.plaf.multi.MultiSeparatorUI.createUI",
+                "static javax.swing.plaf.multi.MultiSliderUI.createUI",
+                "static javax.swing.plaf.multi.MultiSpinnerUI.createUI",
+                "static javax.swing.plaf.multi.MultiSplitPaneUI.createUI",
+                "static javax.swing.plaf.multi.MultiTabbedPaneUI.createUI",
+                "static javax.swing.plaf.multi.MultiTableHeaderUI.createUI",
+                "static javax.swing.plaf.multi.MultiTableUI.createUI",
+                "static javax.swing.plaf.multi.MultiTextUI.createUI",
+                "static javax.swing.plaf.multi.MultiToolBarUI.createUI",
+                "static javax.swing.plaf.multi.MultiToolTipUI.createUI",
+                "static javax.swing.plaf.multi.MultiTreeUI.createUI",
+                "static javax.swing.plaf.multi.MultiViewportUI.createUI",
+                "static javax.swing.plaf.synth.SynthButtonUI.createUI",
+                "static javax.swing.plaf.synth.SynthCheckBoxMenuItemUI.createUI",
+                "static javax.swing.plaf.synth.SynthCheckBoxUI.createUI",
+                "static javax.swing.plaf.synth.SynthColorChooserUI.createUI",
+                "static javax.swing.plaf.synth.SynthComboBoxUI.createUI",
+                "static javax.swing.plaf.synth.SynthDesktopIconUI.createUI",
+                "static javax.swing.plaf.synth.SynthDesktopPaneUI.createUI",
+                "static javax.swing.plaf.synth.SynthEditorPaneUI.createUI",
+                "static javax.swing.plaf.synth.SynthFormattedTextFieldUI.createUI",
+                "static javax.swing.plaf.synth.SynthInternalFrameUI.createUI",
+                "static javax.swing.plaf.synth.SynthLabelUI.createUI",
+                "static javax.swing.plaf.synth.SynthListUI.createUI",
+                "static javax.swing.plaf.synth.SynthLookAndFeel.createUI",
+                "static javax.swing.plaf.synth.SynthMenuBarUI.createUI",
+                "static javax.swing.plaf.synth.SynthMenuItemUI.createUI",
+                "static javax.swing.plaf.synth.SynthMenuUI.createUI",
+                "static javax.swing.plaf.synth.SynthOptionPaneUI.createUI",
+                "static javax.swing.plaf.synth.SynthPanelUI.createUI",
+                "static javax.swing.plaf.synth.SynthPasswordFieldUI.createUI",
+                "static javax.swing.plaf.synth.SynthPopupMenuUI.createUI",
+                "static javax.swing.plaf.synth.SynthProgressBarUI.createUI",
+                "static javax.swing.plaf.synth.SynthRadioButtonMenuItemUI.createUI",
+                "static javax.swing.plaf.synth.SynthRadioButtonUI.createUI",
+                "static javax.swing.plaf.synth.SynthRootPaneUI.createUI",
+                "static javax.swing.plaf.synth.SynthScrollBarUI.createUI",
+                "static javax.swing.plaf.synth.SynthScrollPaneUI.createUI",
+                "static javax.swing.plaf.synth.SynthSeparatorUI.createUI",
+                "static javax.swing.plaf.synth.SynthSliderUI.createUI",
+                "static javax.swing.plaf.synth.SynthSpinnerUI.createUI",
+                "static javax.swing.plaf.synth.SynthSplitPaneUI.createUI",
+                "static javax.swing.plaf.synth.SynthTabbedPaneUI.createUI",
+                "static javax.swing.plaf.synth.SynthTableHeaderUI.createUI",
+                "static javax.swing.plaf.synth.SynthTableUI.createUI",
+                "static javax.swing.plaf.synth.SynthTextAreaUI.createUI",
+                "static javax.swing.plaf.synth.SynthTextFieldUI.createUI",
+                "static javax.swing.plaf.synth.SynthTextPaneUI.createUI",
+                "static javax.swing.plaf.synth.SynthToggleButtonUI.createUI",
+                "static javax.swing.plaf.synth.SynthToolBarUI.createUI",
+                "static javax.swing.plaf.synth.SynthToolTipUI.createUI",
+                "static javax.swing.plaf.synth.SynthTreeUI.createUI",
+                "static javax.swing.plaf.synth.SynthViewportUI.createUI",
               })
           .put(
               "SynthColorChooserUI",
-              new Import[] {
-                new Import("SynthColorChooserUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthColorChooserUI",
               })
           .put(
               "RemoteObject",
-              new Import[] {
-                new Import("RemoteObject", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.RemoteObject",
               })
           .put(
               "StreamableValue",
-              new Import[] {
-                new Import("StreamableValue", "org.omg.CORBA.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.StreamableValue",
               })
           .put(
               "getFileChooserDetailViewIcon",
-              new Import[] {
-                new Import(
-                    "getFileChooserDetailViewIcon",
-                    "javax.swing.plaf.metal.MetalIconFactory",
-                    true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getFileChooserDetailViewIcon",
               })
           .put(
               "TAG_MULTIPLE_COMPONENTS",
-              new Import[] {
-                new Import("TAG_MULTIPLE_COMPONENTS", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.TAG_MULTIPLE_COMPONENTS",
               })
           .put(
               "ObjectNotActive",
-              new Import[] {
-                new Import("ObjectNotActive", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.ObjectNotActive",
               })
           .put(
               "InterruptibleChannel",
-              new Import[] {
-                new Import("InterruptibleChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.InterruptibleChannel",
               })
           .put(
               "DEVANAGARI_EXTENDED",
-              new Import[] {
-                new Import("DEVANAGARI_EXTENDED", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.DEVANAGARI_EXTENDED",
               })
           .put(
               "randomUUID",
-              new Import[] {
-                new Import("randomUUID", "java.util.UUID", true),
+              new String[] {
+                "static java.util.UUID.randomUUID",
               })
           .put(
               "DropLocation",
-              new Import[] {
-                new Import("DropLocation", "javax.swing.JList", false),
-                new Import("DropLocation", "javax.swing.JTable", false),
-                new Import("DropLocation", "javax.swing.JTree", false),
-                new Import("DropLocation", "javax.swing.TransferHandler", false),
-                new Import("DropLocation", "javax.swing.text.JTextComponent", false),
+              new String[] {
+                "javax.swing.JList.DropLocation",
+                "javax.swing.JTable.DropLocation",
+                "javax.swing.JTree.DropLocation",
+                "javax.swing.TransferHandler.DropLocation",
+                "javax.swing.text.JTextComponent.DropLocation",
               })
           .put(
               "Inherited",
-              new Import[] {
-                new Import("Inherited", "java.lang.annotation", false),
+              new String[] {
+                "java.lang.annotation.Inherited",
               })
           .put(
               "CHILD_NODE_OF",
-              new Import[] {
-                new Import("CHILD_NODE_OF", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.CHILD_NODE_OF",
               })
           .put(
               "CompilationTask",
-              new Import[] {
-                new Import("CompilationTask", "javax.tools.JavaCompiler", false),
+              new String[] {
+                "javax.tools.JavaCompiler.CompilationTask",
               })
           .put(
               "IIOWriteProgressListener",
-              new Import[] {
-                new Import("IIOWriteProgressListener", "javax.imageio.event", false),
+              new String[] {
+                "javax.imageio.event.IIOWriteProgressListener",
               })
           .put(
               "getIntegerInstance",
-              new Import[] {
-                new Import("getIntegerInstance", "java.text.NumberFormat", true),
+              new String[] {
+                "static java.text.NumberFormat.getIntegerInstance",
               })
           .put(
               "makeComponentInputMap",
-              new Import[] {
-                new Import("makeComponentInputMap", "javax.swing.LookAndFeel", true),
+              new String[] {
+                "static javax.swing.LookAndFeel.makeComponentInputMap",
               })
           .put(
               "TYPE_6CLR",
-              new Import[] {
-                new Import("TYPE_6CLR", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_6CLR",
               })
           .put(
               "INPUT_METHOD_SEGMENT",
-              new Import[] {
-                new Import(
-                    "INPUT_METHOD_SEGMENT",
-                    "java.text.AttributedCharacterIterator.Attribute",
-                    true),
+              new String[] {
+                "static java.text.AttributedCharacterIterator.Attribute.INPUT_METHOD_SEGMENT",
               })
           .put(
               "JoinPreviousDirection",
-              new Import[] {
-                new Import(
-                    "JoinPreviousDirection",
-                    "javax.swing.text.DefaultStyledDocument.ElementSpec",
-                    true),
+              new String[] {
+                "static javax.swing.text.DefaultStyledDocument.ElementSpec.JoinPreviousDirection",
               })
           .put(
               "Arrays",
-              new Import[] {
-                new Import("Arrays", "java.util", false),
+              new String[] {
+                "java.util.Arrays",
               })
           .put(
               "getTargetEncodings",
-              new Import[] {
-                new Import("getTargetEncodings", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.sampled.AudioSystem.getTargetEncodings",
               })
           .put(
               "MBeanRegistrationException",
-              new Import[] {
-                new Import("MBeanRegistrationException", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanRegistrationException",
               })
           .put(
               "NamingContextHelper",
-              new Import[] {
-                new Import("NamingContextHelper", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextHelper",
               })
           .put(
               "DOMResult",
-              new Import[] {
-                new Import("DOMResult", "javax.xml.transform.dom", false),
+              new String[] {
+                "javax.xml.transform.dom.DOMResult",
               })
           .put(
               "TransformerConfigurationException",
-              new Import[] {
-                new Import("TransformerConfigurationException", "javax.xml.transform", false),
+              new String[] {
+                "javax.xml.transform.TransformerConfigurationException",
               })
           .put(
               "yellow",
-              new Import[] {
-                new Import("yellow", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.yellow",
               })
           .put(
               "ICON_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("ICON_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.ICON_CHANGED_PROPERTY",
               })
           .put(
               "EMPTY_DESCRIPTOR",
-              new Import[] {
-                new Import("EMPTY_DESCRIPTOR", "javax.management.ImmutableDescriptor", true),
+              new String[] {
+                "static javax.management.ImmutableDescriptor.EMPTY_DESCRIPTOR",
               })
           .put(
               "ShutdownChannelGroupException",
-              new Import[] {
-                new Import("ShutdownChannelGroupException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.ShutdownChannelGroupException",
               })
           .put(
               "Notification",
-              new Import[] {
-                new Import("Notification", "javax.management", false),
+              new String[] {
+                "javax.management.Notification",
               })
           .put(
               "VALUE_RENDER_DEFAULT",
-              new Import[] {
-                new Import("VALUE_RENDER_DEFAULT", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_RENDER_DEFAULT",
               })
           .put(
               "ForegroundAction",
-              new Import[] {
-                new Import("ForegroundAction", "javax.swing.text.StyledEditorKit", false),
+              new String[] {
+                "javax.swing.text.StyledEditorKit.ForegroundAction",
               })
           .put(
               "OBJECT_ADDED",
-              new Import[] {
-                new Import("OBJECT_ADDED", "javax.naming.event.NamingEvent", true),
+              new String[] {
+                "static javax.naming.event.NamingEvent.OBJECT_ADDED",
               })
           .put(
               "PackedColorModel",
-              new Import[] {
-                new Import("PackedColorModel", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.PackedColorModel",
               })
           .put(
               "MouseEvent",
-              new Import[] {
-                new Import("MouseEvent", "java.awt.event", false),
-                new Import("MouseEvent", "org.w3c.dom.events", false),
+              new String[] {
+                "java.awt.event.MouseEvent", "org.w3c.dom.events.MouseEvent",
               })
           .put(
               "JDBCType",
-              new Import[] {
-                new Import("JDBCType", "java.sql", false),
+              new String[] {
+                "java.sql.JDBCType",
               })
           .put(
               "BasicReason",
-              new Import[] {
-                new Import("BasicReason", "java.security.cert.CertPathValidatorException", false),
+              new String[] {
+                "java.security.cert.CertPathValidatorException.BasicReason",
               })
           .put(
               "TRANSACTION_NONE",
-              new Import[] {
-                new Import("TRANSACTION_NONE", "java.sql.Connection", true),
+              new String[] {
+                "static java.sql.Connection.TRANSACTION_NONE",
               })
           .put(
               "HTMLEditorKit",
-              new Import[] {
-                new Import("HTMLEditorKit", "javax.swing.text.html", false),
+              new String[] {
+                "javax.swing.text.html.HTMLEditorKit",
               })
           .put(
               "TextAction",
-              new Import[] {
-                new Import("TextAction", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.TextAction",
               })
           .put(
               "BAD_NAMETYPE",
-              new Import[] {
-                new Import("BAD_NAMETYPE", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.BAD_NAMETYPE",
               })
           .put(
               "blue",
-              new Import[] {
-                new Import("blue", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.blue",
               })
           .put(
               "IllegalFormatException",
-              new Import[] {
-                new Import("IllegalFormatException", "java.util", false),
+              new String[] {
+                "java.util.IllegalFormatException",
               })
           .put(
               "MetalTreeUI",
-              new Import[] {
-                new Import("MetalTreeUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalTreeUI",
               })
           .put(
               "ListUI",
-              new Import[] {
-                new Import("ListUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.ListUI",
               })
           .put(
               "sqlStateSQL99",
-              new Import[] {
-                new Import("sqlStateSQL99", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.sqlStateSQL99",
               })
           .put(
               "getMemoryMXBean",
-              new Import[] {
-                new Import("getMemoryMXBean", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.getMemoryMXBean",
               })
           .put(
               "MetalToolBarUI",
-              new Import[] {
-                new Import("MetalToolBarUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalToolBarUI",
               })
           .put(
               "INSCRIPTIONAL_PAHLAVI",
-              new Import[] {
-                new Import("INSCRIPTIONAL_PAHLAVI", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.INSCRIPTIONAL_PAHLAVI",
               })
           .put(
               "XMLStreamWriter",
-              new Import[] {
-                new Import("XMLStreamWriter", "javax.xml.stream", false),
+              new String[] {
+                "javax.xml.stream.XMLStreamWriter",
               })
           .put(
               "TAG_VDMX",
-              new Import[] {
-                new Import("TAG_VDMX", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_VDMX",
               })
           .put(
               "asInterfaceInstance",
-              new Import[] {
-                new Import("asInterfaceInstance", "java.lang.invoke.MethodHandleProxies", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandleProxies.asInterfaceInstance",
               })
           .put(
               "NORTHWEST",
-              new Import[] {
-                new Import("NORTHWEST", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.NORTHWEST",
               })
           .put(
               "Compiler",
-              new Import[] {
-                new Import("Compiler", "java.lang", false),
+              new String[] {
+                "java.lang.Compiler",
               })
           .put(
               "NotOwnerException",
-              new Import[] {
-                new Import("NotOwnerException", "java.security.acl", false),
+              new String[] {
+                "java.security.acl.NotOwnerException",
               })
           .put(
               "TransactionRequiredException",
-              new Import[] {
-                new Import("TransactionRequiredException", "javax.transaction", false),
+              new String[] {
+                "javax.transaction.TransactionRequiredException",
               })
           .put(
               "TransformerFactory",
-              new Import[] {
-                new Import("TransformerFactory", "javax.xml.transform", false),
+              new String[] {
+                "javax.xml.transform.TransformerFactory",
               })
           .put(
               "AbstractTypeVisitor6",
-              new Import[] {
-                new Import("AbstractTypeVisitor6", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.AbstractTypeVisitor6",
               })
           .put(
               "AbstractTypeVisitor7",
-              new Import[] {
-                new Import("AbstractTypeVisitor7", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.AbstractTypeVisitor7",
               })
           .put(
               "KeyEventPostProcessor",
-              new Import[] {
-                new Import("KeyEventPostProcessor", "java.awt", false),
+              new String[] {
+                "java.awt.KeyEventPostProcessor",
               })
           .put(
               "AbstractTypeVisitor8",
-              new Import[] {
-                new Import("AbstractTypeVisitor8", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.AbstractTypeVisitor8",
               })
           .put(
               "INVOCATION_DEFAULT",
-              new Import[] {
-                new Import("INVOCATION_DEFAULT", "java.awt.event.InvocationEvent", true),
+              new String[] {
+                "static java.awt.event.InvocationEvent.INVOCATION_DEFAULT",
               })
           .put(
               "NA_NUMBER_12_ENVELOPE",
-              new Import[] {
-                new Import("NA_NUMBER_12_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_NUMBER_12_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "NA_NUMBER_12_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.NA_NUMBER_12_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSizeName.NA_NUMBER_12_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSize.NA.NA_NUMBER_12_ENVELOPE",
               })
           .put(
               "createGrayLineBorder",
-              new Import[] {
-                new Import("createGrayLineBorder", "javax.swing.border.LineBorder", true),
+              new String[] {
+                "static javax.swing.border.LineBorder.createGrayLineBorder",
               })
           .put(
               "list",
-              new Import[] {
-                new Import("list", "java.nio.file.Files", true),
-                new Import("list", "java.rmi.Naming", true),
-                new Import("list", "java.util.Collections", true),
+              new String[] {
+                "static java.nio.file.Files.list",
+                "static java.rmi.Naming.list",
+                "static java.util.Collections.list",
               })
           .put(
               "AFTER_LAST_LINE",
-              new Import[] {
-                new Import("AFTER_LAST_LINE", "java.awt.BorderLayout", true),
+              new String[] {
+                "static java.awt.BorderLayout.AFTER_LAST_LINE",
               })
           .put(
               "XA_RBINTEGRITY",
-              new Import[] {
-                new Import("XA_RBINTEGRITY", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_RBINTEGRITY",
               })
           .put(
               "InconsistentTypeCode",
-              new Import[] {
-                new Import("InconsistentTypeCode", "org.omg.CORBA.ORBPackage", false),
-                new Import(
-                    "InconsistentTypeCode", "org.omg.DynamicAny.DynAnyFactoryPackage", false),
+              new String[] {
+                "org.omg.CORBA.ORBPackage.InconsistentTypeCode",
+                "org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCode",
               })
           .put(
               "SOAPFaultElement",
-              new Import[] {
-                new Import("SOAPFaultElement", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SOAPFaultElement",
               })
           .put(
               "LoginModuleControlFlag",
-              new Import[] {
-                new Import(
-                    "LoginModuleControlFlag",
-                    "javax.security.auth.login.AppConfigurationEntry",
-                    false),
+              new String[] {
+                "javax.security.auth.login.AppConfigurationEntry.LoginModuleControlFlag",
               })
           .put(
               "ObjectFactoryBuilder",
-              new Import[] {
-                new Import("ObjectFactoryBuilder", "javax.naming.spi", false),
+              new String[] {
+                "javax.naming.spi.ObjectFactoryBuilder",
               })
           .put(
               "getClip",
-              new Import[] {
-                new Import("getClip", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.sampled.AudioSystem.getClip",
               })
           .put(
               "JSpinner",
-              new Import[] {
-                new Import("JSpinner", "javax.swing", false),
+              new String[] {
+                "javax.swing.JSpinner",
               })
           .put(
               "VK_SLASH",
-              new Import[] {
-                new Import("VK_SLASH", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_SLASH",
               })
           .put(
               "Icon",
-              new Import[] {
-                new Import("Icon", "javax.swing", false),
+              new String[] {
+                "javax.swing.Icon",
               })
           .put(
               "NimbusLookAndFeel",
-              new Import[] {
-                new Import("NimbusLookAndFeel", "javax.swing.plaf.nimbus", false),
+              new String[] {
+                "javax.swing.plaf.nimbus.NimbusLookAndFeel",
               })
           .put(
               "MidiFileWriter",
-              new Import[] {
-                new Import("MidiFileWriter", "javax.sound.midi.spi", false),
+              new String[] {
+                "javax.sound.midi.spi.MidiFileWriter",
               })
           .put(
               "AtomicMarkableReference",
-              new Import[] {
-                new Import("AtomicMarkableReference", "java.util.concurrent.atomic", false),
+              new String[] {
+                "java.util.concurrent.atomic.AtomicMarkableReference",
               })
           .put(
               "IllegalStateException",
-              new Import[] {
-                new Import("IllegalStateException", "java.lang", false),
+              new String[] {
+                "java.lang.IllegalStateException",
               })
           .put(
               "GlobalScope",
-              new Import[] {
-                new Import("GlobalScope", "javax.xml.bind.JAXBElement", false),
+              new String[] {
+                "javax.xml.bind.JAXBElement.GlobalScope",
               })
           .put(
               "HIERARCHY_FIRST",
-              new Import[] {
-                new Import("HIERARCHY_FIRST", "java.awt.event.HierarchyEvent", true),
+              new String[] {
+                "static java.awt.event.HierarchyEvent.HIERARCHY_FIRST",
               })
           .put(
               "HTTP_BAD_REQUEST",
-              new Import[] {
-                new Import("HTTP_BAD_REQUEST", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_BAD_REQUEST",
               })
           .put(
               "lookupDefaultPrintService",
-              new Import[] {
-                new Import("lookupDefaultPrintService", "javax.print.PrintServiceLookup", true),
+              new String[] {
+                "static javax.print.PrintServiceLookup.lookupDefaultPrintService",
               })
           .put(
               "MBeanInfo",
-              new Import[] {
-                new Import("MBeanInfo", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanInfo",
               })
           .put(
               "WindowStateListener",
-              new Import[] {
-                new Import("WindowStateListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.WindowStateListener",
               })
           .put(
               "getImageWritersByFormatName",
-              new Import[] {
-                new Import("getImageWritersByFormatName", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getImageWritersByFormatName",
               })
           .put(
               "JMXAuthenticator",
-              new Import[] {
-                new Import("JMXAuthenticator", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.JMXAuthenticator",
               })
           .put(
               "SerialBlob",
-              new Import[] {
-                new Import("SerialBlob", "javax.sql.rowset.serial", false),
+              new String[] {
+                "javax.sql.rowset.serial.SerialBlob",
               })
           .put(
               "ACCEPT_ORIGINAL_SERVER",
-              new Import[] {
-                new Import("ACCEPT_ORIGINAL_SERVER", "java.net.CookiePolicy", true),
+              new String[] {
+                "static java.net.CookiePolicy.ACCEPT_ORIGINAL_SERVER",
               })
           .put(
               "UnsolicitedNotification",
-              new Import[] {
-                new Import("UnsolicitedNotification", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.UnsolicitedNotification",
               })
           .put(
               "XmlSeeAlso",
-              new Import[] {
-                new Import("XmlSeeAlso", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlSeeAlso",
               })
           .put(
               "remove",
-              new Import[] {
-                new Import("remove", "java.awt.AWTEventMulticaster", true),
+              new String[] {
+                "static java.awt.AWTEventMulticaster.remove",
               })
           .put(
               "NCHAR",
-              new Import[] {
-                new Import("NCHAR", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.NCHAR",
               })
           .put(
               "OBJECT_FACTORIES",
-              new Import[] {
-                new Import("OBJECT_FACTORIES", "javax.naming.Context", true),
+              new String[] {
+                "static javax.naming.Context.OBJECT_FACTORIES",
               })
           .put(
               "INTERNAL_FRAME_DEICONIFIED",
-              new Import[] {
-                new Import(
-                    "INTERNAL_FRAME_DEICONIFIED", "javax.swing.event.InternalFrameEvent", true),
+              new String[] {
+                "static javax.swing.event.InternalFrameEvent.INTERNAL_FRAME_DEICONIFIED",
               })
           .put(
               "SORA_SOMPENG",
-              new Import[] {
-                new Import("SORA_SOMPENG", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SORA_SOMPENG",
               })
           .put(
               "TOOL_BAR",
-              new Import[] {
-                new Import("TOOL_BAR", "javax.accessibility.AccessibleRole", true),
-                new Import("TOOL_BAR", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.TOOL_BAR",
+                "static javax.swing.plaf.synth.Region.TOOL_BAR",
               })
           .put(
               "ServiceContextHelper",
-              new Import[] {
-                new Import("ServiceContextHelper", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.ServiceContextHelper",
               })
           .put(
               "ChronoField",
-              new Import[] {
-                new Import("ChronoField", "java.time.temporal", false),
+              new String[] {
+                "java.time.temporal.ChronoField",
               })
           .put(
               "PolicyError",
-              new Import[] {
-                new Import("PolicyError", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.PolicyError",
               })
           .put(
               "NaN",
-              new Import[] {
-                new Import("NaN", "java.lang.Double", true),
-                new Import("NaN", "java.lang.Float", true),
+              new String[] {
+                "static java.lang.Double.NaN", "static java.lang.Float.NaN",
               })
           .put(
               "wrapperInstanceTarget",
-              new Import[] {
-                new Import("wrapperInstanceTarget", "java.lang.invoke.MethodHandleProxies", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandleProxies.wrapperInstanceTarget",
               })
           .put(
               "IndexColorModel",
-              new Import[] {
-                new Import("IndexColorModel", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.IndexColorModel",
               })
           .put(
               "CURRENCY",
-              new Import[] {
-                new Import("CURRENCY", "java.text.NumberFormat.Field", true),
+              new String[] {
+                "static java.text.NumberFormat.Field.CURRENCY",
               })
           .put(
               "PGDN",
-              new Import[] {
-                new Import("PGDN", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.PGDN",
               })
           .put(
               "loadInstalled",
-              new Import[] {
-                new Import("loadInstalled", "java.util.ServiceLoader", true),
+              new String[] {
+                "static java.util.ServiceLoader.loadInstalled",
               })
           .put(
               "IGNORE_IMMEDIATE_BEANINFO",
-              new Import[] {
-                new Import("IGNORE_IMMEDIATE_BEANINFO", "java.beans.Introspector", true),
+              new String[] {
+                "static java.beans.Introspector.IGNORE_IMMEDIATE_BEANINFO",
               })
           .put(
               "INTERSECT",
-              new Import[] {
-                new Import("INTERSECT", "javax.xml.crypto.dsig.spec.XPathType.Filter", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.spec.XPathType.Filter.INTERSECT",
               })
           .put(
               "Adler32",
-              new Import[] {
-                new Import("Adler32", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.Adler32",
               })
           .put(
               "WRAP_TAB_LAYOUT",
-              new Import[] {
-                new Import("WRAP_TAB_LAYOUT", "javax.swing.JTabbedPane", true),
+              new String[] {
+                "static javax.swing.JTabbedPane.WRAP_TAB_LAYOUT",
               })
           .put(
               "TABLOID",
-              new Import[] {
-                new Import("TABLOID", "java.awt.PageAttributes.MediaType", true),
-                new Import("TABLOID", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("TABLOID", "javax.print.attribute.standard.MediaSize.Other", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.TABLOID",
+                "static javax.print.attribute.standard.MediaSizeName.TABLOID",
+                "static javax.print.attribute.standard.MediaSize.Other.TABLOID",
               })
           .put(
               "getPointerInfo",
-              new Import[] {
-                new Import("getPointerInfo", "java.awt.MouseInfo", true),
+              new String[] {
+                "static java.awt.MouseInfo.getPointerInfo",
               })
           .put(
               "VK_SEPARATOR",
-              new Import[] {
-                new Import("VK_SEPARATOR", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_SEPARATOR",
               })
           .put(
               "BeanDescriptor",
-              new Import[] {
-                new Import("BeanDescriptor", "java.beans", false),
+              new String[] {
+                "java.beans.BeanDescriptor",
               })
           .put(
               "ExtendedResponse",
-              new Import[] {
-                new Import("ExtendedResponse", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.ExtendedResponse",
               })
           .put(
               "ActivationDesc",
-              new Import[] {
-                new Import("ActivationDesc", "java.rmi.activation", false),
+              new String[] {
+                "java.rmi.activation.ActivationDesc",
               })
           .put(
               "NoSuchObjectException",
-              new Import[] {
-                new Import("NoSuchObjectException", "java.rmi", false),
+              new String[] {
+                "java.rmi.NoSuchObjectException",
               })
           .put(
               "emptySortedSet",
-              new Import[] {
-                new Import("emptySortedSet", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.emptySortedSet",
               })
           .put(
               "MetalToggleButtonUI",
-              new Import[] {
-                new Import("MetalToggleButtonUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalToggleButtonUI",
               })
           .put(
               "getContextualShaper",
-              new Import[] {
-                new Import("getContextualShaper", "java.awt.font.NumericShaper", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.getContextualShaper",
               })
           .put(
               "GMONTHDAY",
-              new Import[] {
-                new Import("GMONTHDAY", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.GMONTHDAY",
               })
           .put(
               "ImageGraphicAttribute",
-              new Import[] {
-                new Import("ImageGraphicAttribute", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.ImageGraphicAttribute",
               })
           .put(
               "WHEEL_BLOCK_SCROLL",
-              new Import[] {
-                new Import("WHEEL_BLOCK_SCROLL", "java.awt.event.MouseWheelEvent", true),
+              new String[] {
+                "static java.awt.event.MouseWheelEvent.WHEEL_BLOCK_SCROLL",
               })
           .put(
               "_tk_longlong",
-              new Import[] {
-                new Import("_tk_longlong", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_longlong",
               })
           .put(
               "SINGLE_SELECTION",
-              new Import[] {
-                new Import("SINGLE_SELECTION", "javax.swing.ListSelectionModel", true),
+              new String[] {
+                "static javax.swing.ListSelectionModel.SINGLE_SELECTION",
               })
           .put(
               "GraphicsConfiguration",
-              new Import[] {
-                new Import("GraphicsConfiguration", "java.awt", false),
+              new String[] {
+                "java.awt.GraphicsConfiguration",
               })
           .put(
               "ChannelBinding",
-              new Import[] {
-                new Import("ChannelBinding", "org.ietf.jgss", false),
+              new String[] {
+                "org.ietf.jgss.ChannelBinding",
               })
           .put(
               "BRAHMI",
-              new Import[] {
-                new Import("BRAHMI", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.BRAHMI",
               })
           .put(
               "BeanContextContainerProxy",
-              new Import[] {
-                new Import("BeanContextContainerProxy", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextContainerProxy",
               })
           .put(
               "COMBINING_DIACRITICAL_MARKS",
-              new Import[] {
-                new Import("COMBINING_DIACRITICAL_MARKS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.COMBINING_DIACRITICAL_MARKS",
               })
           .put(
               "SRC_OVER",
-              new Import[] {
-                new Import("SRC_OVER", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.SRC_OVER",
               })
           .put(
               "codePointBefore",
-              new Import[] {
-                new Import("codePointBefore", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.codePointBefore",
               })
           .put(
               "getTreeLeafIcon",
-              new Import[] {
-                new Import("getTreeLeafIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getTreeLeafIcon",
               })
           .put(
               "spliterator",
-              new Import[] {
-                new Import("spliterator", "java.util.Arrays", true),
-                new Import("spliterator", "java.util.Spliterators", true),
+              new String[] {
+                "static java.util.Arrays.spliterator", "static java.util.Spliterators.spliterator",
               })
           .put(
               "ACTIVATOR_ID",
-              new Import[] {
-                new Import("ACTIVATOR_ID", "java.rmi.server.ObjID", true),
+              new String[] {
+                "static java.rmi.server.ObjID.ACTIVATOR_ID",
               })
           .put(
               "VK_DELETE",
-              new Import[] {
-                new Import("VK_DELETE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DELETE",
               })
           .put(
               "TAG_POLICIES",
-              new Import[] {
-                new Import("TAG_POLICIES", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.TAG_POLICIES",
               })
           .put(
               "ForwardRequestHelper",
-              new Import[] {
-                new Import("ForwardRequestHelper", "org.omg.PortableInterceptor", false),
-                new Import("ForwardRequestHelper", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ForwardRequestHelper",
+                "org.omg.PortableServer.ForwardRequestHelper",
               })
           .put(
               "getExponent",
-              new Import[] {
-                new Import("getExponent", "java.lang.Math", true),
-                new Import("getExponent", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.getExponent", "static java.lang.StrictMath.getExponent",
               })
           .put(
               "SUPERSCRIPT",
-              new Import[] {
-                new Import("SUPERSCRIPT", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.SUPERSCRIPT",
               })
           .put(
               "HMACParameterSpec",
-              new Import[] {
-                new Import("HMACParameterSpec", "javax.xml.crypto.dsig.spec", false),
+              new String[] {
+                "javax.xml.crypto.dsig.spec.HMACParameterSpec",
               })
           .put(
               "PKIXRevocationChecker",
-              new Import[] {
-                new Import("PKIXRevocationChecker", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.PKIXRevocationChecker",
               })
           .put(
               "DocumentationTask",
-              new Import[] {
-                new Import("DocumentationTask", "javax.tools.DocumentationTool", false),
+              new String[] {
+                "javax.tools.DocumentationTool.DocumentationTask",
               })
           .put(
               "ReadOnlyBufferException",
-              new Import[] {
-                new Import("ReadOnlyBufferException", "java.nio", false),
+              new String[] {
+                "java.nio.ReadOnlyBufferException",
               })
           .put(
               "ofMillis",
-              new Import[] {
-                new Import("ofMillis", "java.time.Duration", true),
+              new String[] {
+                "static java.time.Duration.ofMillis",
               })
           .put(
               "selectionBeginParagraphAction",
-              new Import[] {
-                new Import(
-                    "selectionBeginParagraphAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectionBeginParagraphAction",
               })
           .put(
               "WIDTH",
-              new Import[] {
-                new Import("WIDTH", "java.awt.font.TextAttribute", true),
-                new Import("WIDTH", "java.awt.image.ImageObserver", true),
-                new Import("WIDTH", "javax.swing.SpringLayout", true),
-                new Import("WIDTH", "javax.swing.text.html.CSS.Attribute", true),
-                new Import("WIDTH", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WIDTH",
+                "static java.awt.image.ImageObserver.WIDTH",
+                "static javax.swing.SpringLayout.WIDTH",
+                "static javax.swing.text.html.CSS.Attribute.WIDTH",
+                "static javax.swing.text.html.HTML.Attribute.WIDTH",
               })
           .put(
               "IGNORE",
-              new Import[] {
-                new Import("IGNORE", "java.nio.charset.CodingErrorAction", true),
+              new String[] {
+                "static java.nio.charset.CodingErrorAction.IGNORE",
               })
           .put(
               "AnnotationTypeMismatchException",
-              new Import[] {
-                new Import("AnnotationTypeMismatchException", "java.lang.annotation", false),
+              new String[] {
+                "java.lang.annotation.AnnotationTypeMismatchException",
               })
           .put(
               "OFF",
-              new Import[] {
-                new Import("OFF", "java.util.logging.Level", true),
+              new String[] {
+                "static java.util.logging.Level.OFF",
               })
           .put(
               "VALUE_ANTIALIAS_OFF",
-              new Import[] {
-                new Import("VALUE_ANTIALIAS_OFF", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_ANTIALIAS_OFF",
               })
           .put(
               "CHARACTERS",
-              new Import[] {
-                new Import("CHARACTERS", "javax.xml.stream.XMLStreamConstants", true),
+              new String[] {
+                "static javax.xml.stream.XMLStreamConstants.CHARACTERS",
               })
           .put(
               "spreadInvoker",
-              new Import[] {
-                new Import("spreadInvoker", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.spreadInvoker",
               })
           .put(
               "WebMethod",
-              new Import[] {
-                new Import("WebMethod", "javax.jws", false),
+              new String[] {
+                "javax.jws.WebMethod",
               })
           .put(
               "OriginateDirection",
-              new Import[] {
-                new Import(
-                    "OriginateDirection",
-                    "javax.swing.text.DefaultStyledDocument.ElementSpec",
-                    true),
+              new String[] {
+                "static javax.swing.text.DefaultStyledDocument.ElementSpec.OriginateDirection",
               })
           .put(
               "PRIORITY_NONE",
-              new Import[] {
-                new Import("PRIORITY_NONE", "java.awt.font.GlyphJustificationInfo", true),
+              new String[] {
+                "static java.awt.font.GlyphJustificationInfo.PRIORITY_NONE",
               })
           .put(
               "NOTIFS_LOST",
-              new Import[] {
-                new Import(
-                    "NOTIFS_LOST", "javax.management.remote.JMXConnectionNotification", true),
+              new String[] {
+                "static javax.management.remote.JMXConnectionNotification.NOTIFS_LOST",
               })
           .put(
               "_tk_TypeCode",
-              new Import[] {
-                new Import("_tk_TypeCode", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_TypeCode",
               })
           .put(
               "READING",
-              new Import[] {
-                new Import("READING", "java.text.AttributedCharacterIterator.Attribute", true),
+              new String[] {
+                "static java.text.AttributedCharacterIterator.Attribute.READING",
               })
           .put(
               "MetalSeparatorUI",
-              new Import[] {
-                new Import("MetalSeparatorUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalSeparatorUI",
               })
           .put(
               "icHdrRenderingIntent",
-              new Import[] {
-                new Import("icHdrRenderingIntent", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrRenderingIntent",
               })
           .put(
               "_tk_wchar",
-              new Import[] {
-                new Import("_tk_wchar", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_wchar",
               })
           .put(
               "RAW_TEXT",
-              new Import[] {
-                new Import("RAW_TEXT", "java.awt.im.InputMethodHighlight", true),
+              new String[] {
+                "static java.awt.im.InputMethodHighlight.RAW_TEXT",
               })
           .put(
               "ServiceContextListHolder",
-              new Import[] {
-                new Import("ServiceContextListHolder", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.ServiceContextListHolder",
               })
           .put(
               "TEXT_FIRST",
-              new Import[] {
-                new Import("TEXT_FIRST", "java.awt.event.TextEvent", true),
+              new String[] {
+                "static java.awt.event.TextEvent.TEXT_FIRST",
               })
           .put(
               "Introspector",
-              new Import[] {
-                new Import("Introspector", "java.beans", false),
+              new String[] {
+                "java.beans.Introspector",
               })
           .put(
               "ADD_ATTRIBUTE",
-              new Import[] {
-                new Import("ADD_ATTRIBUTE", "javax.naming.directory.DirContext", true),
+              new String[] {
+                "static javax.naming.directory.DirContext.ADD_ATTRIBUTE",
               })
           .put(
               "KeyManagerFactorySpi",
-              new Import[] {
-                new Import("KeyManagerFactorySpi", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.KeyManagerFactorySpi",
               })
           .put(
               "LayoutFocusTraversalPolicy",
-              new Import[] {
-                new Import("LayoutFocusTraversalPolicy", "javax.swing", false),
+              new String[] {
+                "javax.swing.LayoutFocusTraversalPolicy",
               })
           .put(
               "KEY_LOCATION_NUMPAD",
-              new Import[] {
-                new Import("KEY_LOCATION_NUMPAD", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.KEY_LOCATION_NUMPAD",
               })
           .put(
               "IEEEremainder",
-              new Import[] {
-                new Import("IEEEremainder", "java.lang.Math", true),
-                new Import("IEEEremainder", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.IEEEremainder", "static java.lang.StrictMath.IEEEremainder",
               })
           .put(
               "TileObserver",
-              new Import[] {
-                new Import("TileObserver", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.TileObserver",
               })
           .put(
               "Beans",
-              new Import[] {
-                new Import("Beans", "java.beans", false),
+              new String[] {
+                "java.beans.Beans",
               })
           .put(
               "ByteChannel",
-              new Import[] {
-                new Import("ByteChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.ByteChannel",
               })
           .put(
               "_tk_native",
-              new Import[] {
-                new Import("_tk_native", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_native",
               })
           .put(
               "VK_DEAD_GRAVE",
-              new Import[] {
-                new Import("VK_DEAD_GRAVE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DEAD_GRAVE",
               })
           .put(
               "PrinterMakeAndModel",
-              new Import[] {
-                new Import("PrinterMakeAndModel", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PrinterMakeAndModel",
               })
           .put(
               "MenuBarUI",
-              new Import[] {
-                new Import("MenuBarUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.MenuBarUI",
               })
           .put(
               "ImageInputStreamSpi",
-              new Import[] {
-                new Import("ImageInputStreamSpi", "javax.imageio.spi", false),
+              new String[] {
+                "javax.imageio.spi.ImageInputStreamSpi",
               })
           .put(
               "setLog",
-              new Import[] {
-                new Import("setLog", "java.rmi.server.RemoteServer", true),
+              new String[] {
+                "static java.rmi.server.RemoteServer.setLog",
               })
           .put(
               "Choice",
-              new Import[] {
-                new Import("Choice", "java.awt", false),
+              new String[] {
+                "java.awt.Choice",
               })
           .put(
               "PORTRAIT",
-              new Import[] {
-                new Import("PORTRAIT", "java.awt.PageAttributes.OrientationRequestedType", true),
-                new Import("PORTRAIT", "java.awt.print.PageFormat", true),
-                new Import("PORTRAIT", "javax.print.attribute.standard.OrientationRequested", true),
+              new String[] {
+                "static java.awt.PageAttributes.OrientationRequestedType.PORTRAIT",
+                "static java.awt.print.PageFormat.PORTRAIT",
+                "static javax.print.attribute.standard.OrientationRequested.PORTRAIT",
               })
           .put(
               "FlavorException",
-              new Import[] {
-                new Import("FlavorException", "javax.print", false),
+              new String[] {
+                "javax.print.FlavorException",
               })
           .put(
               "toList",
-              new Import[] {
-                new Import("toList", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.toList",
               })
           .put(
               "CharsetEncoder",
-              new Import[] {
-                new Import("CharsetEncoder", "java.nio.charset", false),
+              new String[] {
+                "java.nio.charset.CharsetEncoder",
               })
           .put(
               "FRENCH",
-              new Import[] {
-                new Import("FRENCH", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.FRENCH",
               })
           .put(
               "HierarchyListener",
-              new Import[] {
-                new Import("HierarchyListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.HierarchyListener",
               })
           .put(
               "BasicRadioButtonUI",
-              new Import[] {
-                new Import("BasicRadioButtonUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicRadioButtonUI",
               })
           .put(
               "SchemaOutputResolver",
-              new Import[] {
-                new Import("SchemaOutputResolver", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.SchemaOutputResolver",
               })
           .put(
               "CJK_SYMBOLS_AND_PUNCTUATION",
-              new Import[] {
-                new Import("CJK_SYMBOLS_AND_PUNCTUATION", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CJK_SYMBOLS_AND_PUNCTUATION",
               })
           .put(
               "NA_5X7",
-              new Import[] {
-                new Import("NA_5X7", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("NA_5X7", "javax.print.attribute.standard.MediaSize.NA", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSizeName.NA_5X7",
+                "static javax.print.attribute.standard.MediaSize.NA.NA_5X7",
               })
           .put(
               "CENVER",
-              new Import[] {
-                new Import("CENVER", "java.util.jar.JarEntry", true),
-                new Import("CENVER", "java.util.jar.JarFile", true),
-                new Import("CENVER", "java.util.jar.JarInputStream", true),
-                new Import("CENVER", "java.util.jar.JarOutputStream", true),
-                new Import("CENVER", "java.util.zip.ZipEntry", true),
-                new Import("CENVER", "java.util.zip.ZipFile", true),
-                new Import("CENVER", "java.util.zip.ZipInputStream", true),
-                new Import("CENVER", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENVER",
+                "static java.util.jar.JarFile.CENVER",
+                "static java.util.jar.JarInputStream.CENVER",
+                "static java.util.jar.JarOutputStream.CENVER",
+                "static java.util.zip.ZipEntry.CENVER",
+                "static java.util.zip.ZipFile.CENVER",
+                "static java.util.zip.ZipInputStream.CENVER",
+                "static java.util.zip.ZipOutputStream.CENVER",
               })
           .put(
               "YIJING_HEXAGRAM_SYMBOLS",
-              new Import[] {
-                new Import("YIJING_HEXAGRAM_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.YIJING_HEXAGRAM_SYMBOLS",
               })
           .put(
               "AtomicIntegerFieldUpdater",
-              new Import[] {
-                new Import("AtomicIntegerFieldUpdater", "java.util.concurrent.atomic", false),
+              new String[] {
+                "java.util.concurrent.atomic.AtomicIntegerFieldUpdater",
               })
           .put(
               "CJK_UNIFIED_IDEOGRAPHS",
-              new Import[] {
-                new Import("CJK_UNIFIED_IDEOGRAPHS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS",
               })
           .put(
               "CENVEM",
-              new Import[] {
-                new Import("CENVEM", "java.util.jar.JarEntry", true),
-                new Import("CENVEM", "java.util.jar.JarFile", true),
-                new Import("CENVEM", "java.util.jar.JarInputStream", true),
-                new Import("CENVEM", "java.util.jar.JarOutputStream", true),
-                new Import("CENVEM", "java.util.zip.ZipEntry", true),
-                new Import("CENVEM", "java.util.zip.ZipFile", true),
-                new Import("CENVEM", "java.util.zip.ZipInputStream", true),
-                new Import("CENVEM", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENVEM",
+                "static java.util.jar.JarFile.CENVEM",
+                "static java.util.jar.JarInputStream.CENVEM",
+                "static java.util.jar.JarOutputStream.CENVEM",
+                "static java.util.zip.ZipEntry.CENVEM",
+                "static java.util.zip.ZipFile.CENVEM",
+                "static java.util.zip.ZipInputStream.CENVEM",
+                "static java.util.zip.ZipOutputStream.CENVEM",
               })
           .put(
               "setDefaultHostnameVerifier",
-              new Import[] {
-                new Import("setDefaultHostnameVerifier", "javax.net.ssl.HttpsURLConnection", true),
+              new String[] {
+                "static javax.net.ssl.HttpsURLConnection.setDefaultHostnameVerifier",
               })
           .put(
               "getSplashScreen",
-              new Import[] {
-                new Import("getSplashScreen", "java.awt.SplashScreen", true),
+              new String[] {
+                "static java.awt.SplashScreen.getSplashScreen",
               })
           .put(
               "ALPHABETIC_PRESENTATION_FORMS",
-              new Import[] {
-                new Import(
-                    "ALPHABETIC_PRESENTATION_FORMS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ALPHABETIC_PRESENTATION_FORMS",
               })
           .put(
               "NamingListener",
-              new Import[] {
-                new Import("NamingListener", "javax.naming.event", false),
+              new String[] {
+                "javax.naming.event.NamingListener",
               })
           .put(
               "YEAR_FIELD",
-              new Import[] {
-                new Import("YEAR_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.YEAR_FIELD",
               })
           .put(
               "AdapterInactive",
-              new Import[] {
-                new Import("AdapterInactive", "org.omg.PortableServer.POAManagerPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAManagerPackage.AdapterInactive",
               })
           .put(
               "OID",
-              new Import[] {
-                new Import("OID", "javax.naming.ldap.ManageReferralControl", true),
-                new Import("OID", "javax.naming.ldap.PagedResultsControl", true),
-                new Import("OID", "javax.naming.ldap.PagedResultsResponseControl", true),
-                new Import("OID", "javax.naming.ldap.SortControl", true),
-                new Import("OID", "javax.naming.ldap.SortResponseControl", true),
-                new Import("OID", "javax.naming.ldap.StartTlsRequest", true),
-                new Import("OID", "javax.naming.ldap.StartTlsResponse", true),
+              new String[] {
+                "static javax.naming.ldap.ManageReferralControl.OID",
+                "static javax.naming.ldap.PagedResultsControl.OID",
+                "static javax.naming.ldap.PagedResultsResponseControl.OID",
+                "static javax.naming.ldap.SortControl.OID",
+                "static javax.naming.ldap.SortResponseControl.OID",
+                "static javax.naming.ldap.StartTlsRequest.OID",
+                "static javax.naming.ldap.StartTlsResponse.OID",
               })
           .put(
               "LongPredicate",
-              new Import[] {
-                new Import("LongPredicate", "java.util.function", false),
+              new String[] {
+                "java.util.function.LongPredicate",
               })
           .put(
               "icSigLinkClass",
-              new Import[] {
-                new Import("icSigLinkClass", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigLinkClass",
               })
           .put(
               "getClassLoaderRepository",
-              new Import[] {
-                new Import("getClassLoaderRepository", "javax.management.MBeanServerFactory", true),
+              new String[] {
+                "static javax.management.MBeanServerFactory.getClassLoaderRepository",
               })
           .put(
               "TOTOP_TOLEFT",
-              new Import[] {
-                new Import(
-                    "TOTOP_TOLEFT", "javax.print.attribute.standard.PresentationDirection", true),
+              new String[] {
+                "static javax.print.attribute.standard.PresentationDirection.TOTOP_TOLEFT",
               })
           .put(
               "getDecoder",
-              new Import[] {
-                new Import("getDecoder", "java.util.Base64", true),
+              new String[] {
+                "static java.util.Base64.getDecoder",
               })
           .put(
               "SizeSequence",
-              new Import[] {
-                new Import("SizeSequence", "javax.swing", false),
+              new String[] {
+                "javax.swing.SizeSequence",
               })
           .put(
               "SERVLET_CONTEXT",
-              new Import[] {
-                new Import("SERVLET_CONTEXT", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.handler.MessageContext.SERVLET_CONTEXT",
               })
           .put(
               "SimpleBindings",
-              new Import[] {
-                new Import("SimpleBindings", "javax.script", false),
+              new String[] {
+                "javax.script.SimpleBindings",
               })
           .put(
               "JMException",
-              new Import[] {
-                new Import("JMException", "javax.management", false),
+              new String[] {
+                "javax.management.JMException",
               })
           .put(
               "BODY",
-              new Import[] {
-                new Import("BODY", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.BODY",
               })
           .put(
               "InvalidNameHolder",
-              new Import[] {
-                new Import("InvalidNameHolder", "org.omg.CosNaming.NamingContextPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.InvalidNameHolder",
               })
           .put(
               "ALAW",
-              new Import[] {
-                new Import("ALAW", "javax.sound.sampled.AudioFormat.Encoding", true),
+              new String[] {
+                "static javax.sound.sampled.AudioFormat.Encoding.ALAW",
               })
           .put(
               "TextUI",
-              new Import[] {
-                new Import("TextUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.TextUI",
               })
           .put(
               "BasicStroke",
-              new Import[] {
-                new Import("BasicStroke", "java.awt", false),
+              new String[] {
+                "java.awt.BasicStroke",
               })
           .put(
               "ChronoPeriod",
-              new Import[] {
-                new Import("ChronoPeriod", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.ChronoPeriod",
               })
           .put(
               "EUROPEAN",
-              new Import[] {
-                new Import("EUROPEAN", "java.awt.font.NumericShaper", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.EUROPEAN",
               })
           .put(
               "FlowView",
-              new Import[] {
-                new Import("FlowView", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.FlowView",
               })
           .put(
               "SINGLE_INTERVAL_SELECTION",
-              new Import[] {
-                new Import("SINGLE_INTERVAL_SELECTION", "javax.swing.ListSelectionModel", true),
+              new String[] {
+                "static javax.swing.ListSelectionModel.SINGLE_INTERVAL_SELECTION",
               })
           .put(
               "CELLPADDING",
-              new Import[] {
-                new Import("CELLPADDING", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.CELLPADDING",
               })
           .put(
               "getFontFamily",
-              new Import[] {
-                new Import("getFontFamily", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.getFontFamily",
               })
           .put(
               "TYPE_ACLR",
-              new Import[] {
-                new Import("TYPE_ACLR", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_ACLR",
               })
           .put(
               "VK_SEPARATER",
-              new Import[] {
-                new Import("VK_SEPARATER", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_SEPARATER",
               })
           .put(
               "Segment",
-              new Import[] {
-                new Import("Segment", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.Segment",
               })
           .put(
               "MenuKeyEvent",
-              new Import[] {
-                new Import("MenuKeyEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.MenuKeyEvent",
               })
           .put(
               "MirroredTypeException",
-              new Import[] {
-                new Import("MirroredTypeException", "javax.lang.model.type", false),
+              new String[] {
+                "javax.lang.model.type.MirroredTypeException",
               })
           .put(
               "PRESSED",
-              new Import[] {
-                new Import("PRESSED", "javax.accessibility.AccessibleState", true),
-                new Import("PRESSED", "javax.swing.DefaultButtonModel", true),
-                new Import("PRESSED", "javax.swing.plaf.synth.SynthConstants", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.PRESSED",
+                "static javax.swing.DefaultButtonModel.PRESSED",
+                "static javax.swing.plaf.synth.SynthConstants.PRESSED",
               })
           .put(
               "parameterModeInOut",
-              new Import[] {
-                new Import("parameterModeInOut", "java.sql.ParameterMetaData", true),
+              new String[] {
+                "static java.sql.ParameterMetaData.parameterModeInOut",
               })
           .put(
               "GERMANY",
-              new Import[] {
-                new Import("GERMANY", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.GERMANY",
               })
           .put(
               "SSLParameters",
-              new Import[] {
-                new Import("SSLParameters", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLParameters",
               })
           .put(
               "UNAUTHORIZED",
-              new Import[] {
-                new Import("UNAUTHORIZED", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.UNAUTHORIZED",
               })
           .put(
               "LogRecord",
-              new Import[] {
-                new Import("LogRecord", "java.util.logging", false),
+              new String[] {
+                "java.util.logging.LogRecord",
               })
           .put(
               "BATCHSIZE",
-              new Import[] {
-                new Import("BATCHSIZE", "javax.naming.Context", true),
+              new String[] {
+                "static javax.naming.Context.BATCHSIZE",
               })
           .put(
               "XMLEventWriter",
-              new Import[] {
-                new Import("XMLEventWriter", "javax.xml.stream", false),
+              new String[] {
+                "javax.xml.stream.XMLEventWriter",
               })
           .put(
               "IIOMetadataFormatImpl",
-              new Import[] {
-                new Import("IIOMetadataFormatImpl", "javax.imageio.metadata", false),
+              new String[] {
+                "javax.imageio.metadata.IIOMetadataFormatImpl",
               })
           .put(
               "MBeanTrustPermission",
-              new Import[] {
-                new Import("MBeanTrustPermission", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanTrustPermission",
               })
           .put(
               "UPPERCASE",
-              new Import[] {
-                new Import("UPPERCASE", "java.util.FormattableFlags", true),
+              new String[] {
+                "static java.util.FormattableFlags.UPPERCASE",
               })
           .put(
               "BasicTreeUI",
-              new Import[] {
-                new Import("BasicTreeUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicTreeUI",
               })
           .put(
               "ValidationEventLocator",
-              new Import[] {
-                new Import("ValidationEventLocator", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.ValidationEventLocator",
               })
           .put(
               "TC_STRING",
-              new Import[] {
-                new Import("TC_STRING", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_STRING",
               })
           .put(
               "ANCESTOR_ADDED",
-              new Import[] {
-                new Import("ANCESTOR_ADDED", "javax.swing.event.AncestorEvent", true),
+              new String[] {
+                "static javax.swing.event.AncestorEvent.ANCESTOR_ADDED",
               })
           .put(
               "CHANGE",
-              new Import[] {
-                new Import("CHANGE", "javax.swing.event.DocumentEvent.EventType", true),
+              new String[] {
+                "static javax.swing.event.DocumentEvent.EventType.CHANGE",
               })
           .put(
               "NotIdentifiableEvent",
-              new Import[] {
-                new Import("NotIdentifiableEvent", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.NotIdentifiableEvent",
               })
           .put(
               "icSigPs2CSATag",
-              new Import[] {
-                new Import("icSigPs2CSATag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigPs2CSATag",
               })
           .put(
               "getMenuDisabledForeground",
-              new Import[] {
-                new Import(
-                    "getMenuDisabledForeground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getMenuDisabledForeground",
               })
           .put(
               "selectLineAction",
-              new Import[] {
-                new Import("selectLineAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectLineAction",
               })
           .put(
               "PatternSyntaxException",
-              new Import[] {
-                new Import("PatternSyntaxException", "java.util.regex", false),
+              new String[] {
+                "java.util.regex.PatternSyntaxException",
               })
           .put(
               "RELATION_BASIC_UPDATE",
-              new Import[] {
-                new Import(
-                    "RELATION_BASIC_UPDATE",
-                    "javax.management.relation.RelationNotification",
-                    true),
+              new String[] {
+                "static javax.management.relation.RelationNotification.RELATION_BASIC_UPDATE",
               })
           .put(
               "PrintStream",
-              new Import[] {
-                new Import("PrintStream", "java.io", false),
+              new String[] {
+                "java.io.PrintStream",
               })
           .put(
               "NameValuePair",
-              new Import[] {
-                new Import("NameValuePair", "org.omg.CORBA", false),
-                new Import("NameValuePair", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.CORBA.NameValuePair", "org.omg.DynamicAny.NameValuePair",
               })
           .put(
               "setFloat",
-              new Import[] {
-                new Import("setFloat", "java.lang.reflect.Array", true),
+              new String[] {
+                "static java.lang.reflect.Array.setFloat",
               })
           .put(
               "XMLSignatureFactory",
-              new Import[] {
-                new Import("XMLSignatureFactory", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "javax.xml.crypto.dsig.XMLSignatureFactory",
               })
           .put(
               "INPUT_METHOD_UNDERLINE",
-              new Import[] {
-                new Import("INPUT_METHOD_UNDERLINE", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.INPUT_METHOD_UNDERLINE",
               })
           .put(
               "MAX_COUNT",
-              new Import[] {
-                new Import("MAX_COUNT", "javax.swing.plaf.synth.ColorType", true),
+              new String[] {
+                "static javax.swing.plaf.synth.ColorType.MAX_COUNT",
               })
           .put(
               "Generated",
-              new Import[] {
-                new Import("Generated", "javax.annotation", false),
+              new String[] {
+                "javax.annotation.Generated",
               })
           .put(
               "ISO_C7_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C7_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C7_ENVELOPE",
               })
           .put(
               "ActivationException",
-              new Import[] {
-                new Import("ActivationException", "java.rmi.activation", false),
+              new String[] {
+                "java.rmi.activation.ActivationException",
               })
           .put(
               "KeyStoreBuilderParameters",
-              new Import[] {
-                new Import("KeyStoreBuilderParameters", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.KeyStoreBuilderParameters",
               })
           .put(
               "TypeElement",
-              new Import[] {
-                new Import("TypeElement", "javax.lang.model.element", false),
+              new String[] {
+                "javax.lang.model.element.TypeElement",
               })
           .put(
               "TAG_FDSC",
-              new Import[] {
-                new Import("TAG_FDSC", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_FDSC",
               })
           .put(
               "TAG_PROP",
-              new Import[] {
-                new Import("TAG_PROP", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_PROP",
               })
           .put(
               "InputContext",
-              new Import[] {
-                new Import("InputContext", "java.awt.im", false),
+              new String[] {
+                "java.awt.im.InputContext",
               })
           .put(
               "controlText",
-              new Import[] {
-                new Import("controlText", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.controlText",
               })
           .put(
               "LocaleServiceProvider",
-              new Import[] {
-                new Import("LocaleServiceProvider", "java.util.spi", false),
+              new String[] {
+                "java.util.spi.LocaleServiceProvider",
               })
           .put(
               "DuplicateNameHelper",
-              new Import[] {
-                new Import(
-                    "DuplicateNameHelper", "org.omg.PortableInterceptor.ORBInitInfoPackage", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper",
               })
           .put(
               "CertPathValidatorSpi",
-              new Import[] {
-                new Import("CertPathValidatorSpi", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertPathValidatorSpi",
               })
           .put(
               "NOT_SUPPORTED_ERR",
-              new Import[] {
-                new Import("NOT_SUPPORTED_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.NOT_SUPPORTED_ERR",
               })
           .put(
               "cosh",
-              new Import[] {
-                new Import("cosh", "java.lang.Math", true),
-                new Import("cosh", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.cosh", "static java.lang.StrictMath.cosh",
               })
           .put(
               "getMaxAllowedKeyLength",
-              new Import[] {
-                new Import("getMaxAllowedKeyLength", "javax.crypto.Cipher", true),
+              new String[] {
+                "static javax.crypto.Cipher.getMaxAllowedKeyLength",
               })
           .put(
               "DynStructOperations",
-              new Import[] {
-                new Import("DynStructOperations", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynStructOperations",
               })
           .put(
               "KeyName",
-              new Import[] {
-                new Import("KeyName", "javax.xml.crypto.dsig.keyinfo", false),
+              new String[] {
+                "javax.xml.crypto.dsig.keyinfo.KeyName",
               })
           .put(
               "DIVIDER_LOCATION_PROPERTY",
-              new Import[] {
-                new Import("DIVIDER_LOCATION_PROPERTY", "javax.swing.JSplitPane", true),
+              new String[] {
+                "static javax.swing.JSplitPane.DIVIDER_LOCATION_PROPERTY",
               })
           .put(
               "setFontFamily",
-              new Import[] {
-                new Import("setFontFamily", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setFontFamily",
               })
           .put(
               "RMIConnector",
-              new Import[] {
-                new Import("RMIConnector", "javax.management.remote.rmi", false),
+              new String[] {
+                "javax.management.remote.rmi.RMIConnector",
               })
           .put(
               "YearMonth",
-              new Import[] {
-                new Import("YearMonth", "java.time", false),
+              new String[] {
+                "java.time.YearMonth",
               })
           .put(
               "icSigPs2CRD1Tag",
-              new Import[] {
-                new Import("icSigPs2CRD1Tag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigPs2CRD1Tag",
               })
           .put(
               "ComboBoxUI",
-              new Import[] {
-                new Import("ComboBoxUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.ComboBoxUI",
               })
           .put(
               "SCROLL_PAGE_DOWN",
-              new Import[] {
-                new Import("SCROLL_PAGE_DOWN", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.SCROLL_PAGE_DOWN",
               })
           .put(
               "LockSupport",
-              new Import[] {
-                new Import("LockSupport", "java.util.concurrent.locks", false),
+              new String[] {
+                "java.util.concurrent.locks.LockSupport",
               })
           .put(
               "MANIFEST_VERSION",
-              new Import[] {
-                new Import("MANIFEST_VERSION", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.MANIFEST_VERSION",
               })
           .put(
               "SoftBevelBorder",
-              new Import[] {
-                new Import("SoftBevelBorder", "javax.swing.border", false),
+              new String[] {
+                "javax.swing.border.SoftBevelBorder",
               })
           .put(
               "ACCESSORY_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("ACCESSORY_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.ACCESSORY_CHANGED_PROPERTY",
               })
           .put(
               "NOHREF",
-              new Import[] {
-                new Import("NOHREF", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.NOHREF",
               })
           .put(
               "VALUE_TEXT_ANTIALIAS_LCD_HBGR",
-              new Import[] {
-                new Import("VALUE_TEXT_ANTIALIAS_LCD_HBGR", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_HBGR",
               })
           .put(
               "HTTP_UNAUTHORIZED",
-              new Import[] {
-                new Import("HTTP_UNAUTHORIZED", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_UNAUTHORIZED",
               })
           .put(
               "VK_META",
-              new Import[] {
-                new Import("VK_META", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_META",
               })
           .put(
               "PrivateKeyEntry",
-              new Import[] {
-                new Import("PrivateKeyEntry", "java.security.KeyStore", false),
+              new String[] {
+                "java.security.KeyStore.PrivateKeyEntry",
               })
           .build();
 }
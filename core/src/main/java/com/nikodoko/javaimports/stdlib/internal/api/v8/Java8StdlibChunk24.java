@@ -2,1569 +2,1539 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk24 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "WStringValueHelper",
-              new Import[] {
-                new Import("WStringValueHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.WStringValueHelper",
               })
           .put(
               "getByte",
-              new Import[] {
-                new Import("getByte", "java.lang.reflect.Array", true),
+              new String[] {
+                "static java.lang.reflect.Array.getByte",
               })
           .put(
               "DesktopIconUI",
-              new Import[] {
-                new Import("DesktopIconUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.DesktopIconUI",
               })
           .put(
               "XMLStreamReader",
-              new Import[] {
-                new Import("XMLStreamReader", "javax.xml.stream", false),
+              new String[] {
+                "javax.xml.stream.XMLStreamReader",
               })
           .put(
               "FOCUS_ACCELERATOR_KEY",
-              new Import[] {
-                new Import("FOCUS_ACCELERATOR_KEY", "javax.swing.text.JTextComponent", true),
+              new String[] {
+                "static javax.swing.text.JTextComponent.FOCUS_ACCELERATOR_KEY",
               })
           .put(
               "dk_none",
-              new Import[] {
-                new Import("dk_none", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_none",
               })
           .put(
               "ActivationID",
-              new Import[] {
-                new Import("ActivationID", "java.rmi.activation", false),
+              new String[] {
+                "java.rmi.activation.ActivationID",
               })
           .put(
               "isSuperscript",
-              new Import[] {
-                new Import("isSuperscript", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.isSuperscript",
               })
           .put(
               "AnnotationFormatError",
-              new Import[] {
-                new Import("AnnotationFormatError", "java.lang.annotation", false),
+              new String[] {
+                "java.lang.annotation.AnnotationFormatError",
               })
           .put(
               "ISO_C8_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C8_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C8_ENVELOPE",
               })
           .put(
               "VALUE_COLOR_RENDER_QUALITY",
-              new Import[] {
-                new Import("VALUE_COLOR_RENDER_QUALITY", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_COLOR_RENDER_QUALITY",
               })
           .put(
               "REF_getStatic",
-              new Import[] {
-                new Import("REF_getStatic", "java.lang.invoke.MethodHandleInfo", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandleInfo.REF_getStatic",
               })
           .put(
               "BUTTON1",
-              new Import[] {
-                new Import("BUTTON1", "java.awt.event.MouseEvent", true),
+              new String[] {
+                "static java.awt.event.MouseEvent.BUTTON1",
               })
           .put(
               "getInternalFrameMaximizeIcon",
-              new Import[] {
-                new Import(
-                    "getInternalFrameMaximizeIcon",
-                    "javax.swing.plaf.metal.MetalIconFactory",
-                    true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getInternalFrameMaximizeIcon",
               })
           .put(
               "CONTENT_TYPE",
-              new Import[] {
-                new Import("CONTENT_TYPE", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.CONTENT_TYPE",
               })
           .put(
               "Currency",
-              new Import[] {
-                new Import("Currency", "java.util", false),
+              new String[] {
+                "java.util.Currency",
               })
           .put(
               "CounterMonitor",
-              new Import[] {
-                new Import("CounterMonitor", "javax.management.monitor", false),
+              new String[] {
+                "javax.management.monitor.CounterMonitor",
               })
           .put(
               "ServiceContextListHelper",
-              new Import[] {
-                new Import("ServiceContextListHelper", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.ServiceContextListHelper",
               })
           .put(
               "StandardConstants",
-              new Import[] {
-                new Import("StandardConstants", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.StandardConstants",
               })
           .put(
               "ARROWS",
-              new Import[] {
-                new Import("ARROWS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ARROWS",
               })
           .put(
               "BatchUpdateException",
-              new Import[] {
-                new Import("BatchUpdateException", "java.sql", false),
+              new String[] {
+                "java.sql.BatchUpdateException",
               })
           .put(
               "attributeNoNulls",
-              new Import[] {
-                new Import("attributeNoNulls", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.attributeNoNulls",
               })
           .put(
               "PropertyChangeEvent",
-              new Import[] {
-                new Import("PropertyChangeEvent", "java.beans", false),
+              new String[] {
+                "java.beans.PropertyChangeEvent",
               })
           .put(
               "GlyphVector",
-              new Import[] {
-                new Import("GlyphVector", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.GlyphVector",
               })
           .put(
               "getProperties",
-              new Import[] {
-                new Import("getProperties", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.getProperties",
               })
           .put(
               "StringValueExp",
-              new Import[] {
-                new Import("StringValueExp", "javax.management", false),
+              new String[] {
+                "javax.management.StringValueExp",
               })
           .put(
               "AbstractInterruptibleChannel",
-              new Import[] {
-                new Import("AbstractInterruptibleChannel", "java.nio.channels.spi", false),
+              new String[] {
+                "java.nio.channels.spi.AbstractInterruptibleChannel",
               })
           .put(
               "SourceVersion",
-              new Import[] {
-                new Import("SourceVersion", "javax.lang.model", false),
+              new String[] {
+                "javax.lang.model.SourceVersion",
               })
           .put(
               "SSLPermission",
-              new Import[] {
-                new Import("SSLPermission", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLPermission",
               })
           .put(
               "HANUNOO",
-              new Import[] {
-                new Import("HANUNOO", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.HANUNOO",
               })
           .put(
               "IMG_ALIGN_BOTTOM",
-              new Import[] {
-                new Import("IMG_ALIGN_BOTTOM", "javax.swing.text.html.HTMLEditorKit", true),
+              new String[] {
+                "static javax.swing.text.html.HTMLEditorKit.IMG_ALIGN_BOTTOM",
               })
           .put(
               "SecretKey",
-              new Import[] {
-                new Import("SecretKey", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.SecretKey",
               })
           .put(
               "DEFLATE_HINT",
-              new Import[] {
-                new Import("DEFLATE_HINT", "java.util.jar.Pack200.Packer", true),
-                new Import("DEFLATE_HINT", "java.util.jar.Pack200.Unpacker", true),
+              new String[] {
+                "static java.util.jar.Pack200.Packer.DEFLATE_HINT",
+                "static java.util.jar.Pack200.Unpacker.DEFLATE_HINT",
               })
           .put(
               "VALIGN",
-              new Import[] {
-                new Import("VALIGN", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.VALIGN",
               })
           .put(
               "windowText",
-              new Import[] {
-                new Import("windowText", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.windowText",
               })
           .put(
               "MultiPanelUI",
-              new Import[] {
-                new Import("MultiPanelUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiPanelUI",
               })
           .put(
               "DataBufferFloat",
-              new Import[] {
-                new Import("DataBufferFloat", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.DataBufferFloat",
               })
           .put(
               "InvalidDnDOperationException",
-              new Import[] {
-                new Import("InvalidDnDOperationException", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.InvalidDnDOperationException",
               })
           .put(
               "LazyInputMap",
-              new Import[] {
-                new Import("LazyInputMap", "javax.swing.UIDefaults", false),
+              new String[] {
+                "javax.swing.UIDefaults.LazyInputMap",
               })
           .put(
               "Attribute",
-              new Import[] {
-                new Import("Attribute", "java.security.KeyStore.Entry", false),
-                new Import("Attribute", "java.text.AttributedCharacterIterator", false),
-                new Import("Attribute", "javax.management", false),
-                new Import("Attribute", "javax.naming.directory", false),
-                new Import("Attribute", "javax.print.attribute", false),
-                new Import("Attribute", "javax.swing.text.html.CSS", false),
-                new Import("Attribute", "javax.swing.text.html.HTML", false),
-                new Import("Attribute", "javax.xml.stream.events", false),
+              new String[] {
+                "java.security.KeyStore.Entry.Attribute",
+                "java.text.AttributedCharacterIterator.Attribute",
+                "javax.management.Attribute",
+                "javax.naming.directory.Attribute",
+                "javax.print.attribute.Attribute",
+                "javax.swing.text.html.CSS.Attribute",
+                "javax.swing.text.html.HTML.Attribute",
+                "javax.xml.stream.events.Attribute",
               })
           .put(
               "BGCOLOR",
-              new Import[] {
-                new Import("BGCOLOR", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.BGCOLOR",
               })
           .put(
               "ONE",
-              new Import[] {
-                new Import("ONE", "java.math.BigDecimal", true),
-                new Import("ONE", "java.math.BigInteger", true),
+              new String[] {
+                "static java.math.BigDecimal.ONE", "static java.math.BigInteger.ONE",
               })
           .put(
               "_PARAM_IN",
-              new Import[] {
-                new Import("_PARAM_IN", "org.omg.CORBA.ParameterMode", true),
+              new String[] {
+                "static org.omg.CORBA.ParameterMode._PARAM_IN",
               })
           .put(
               "getImageWriter",
-              new Import[] {
-                new Import("getImageWriter", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getImageWriter",
               })
           .put(
               "Timestamp",
-              new Import[] {
-                new Import("Timestamp", "java.security", false),
-                new Import("Timestamp", "java.sql", false),
+              new String[] {
+                "java.security.Timestamp", "java.sql.Timestamp",
               })
           .put(
               "InvalidSearchControlsException",
-              new Import[] {
-                new Import("InvalidSearchControlsException", "javax.naming.directory", false),
+              new String[] {
+                "javax.naming.directory.InvalidSearchControlsException",
               })
           .put(
               "AccessibleIcon",
-              new Import[] {
-                new Import("AccessibleIcon", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleIcon",
               })
           .put(
               "getCurrentKeyboardFocusManager",
-              new Import[] {
-                new Import("getCurrentKeyboardFocusManager", "java.awt.KeyboardFocusManager", true),
+              new String[] {
+                "static java.awt.KeyboardFocusManager.getCurrentKeyboardFocusManager",
               })
           .put(
               "TreeModel",
-              new Import[] {
-                new Import("TreeModel", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.TreeModel",
               })
           .put(
               "UNDECIMBER",
-              new Import[] {
-                new Import("UNDECIMBER", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.UNDECIMBER",
               })
           .put(
               "TYPE_UNIFORM_SCALE",
-              new Import[] {
-                new Import("TYPE_UNIFORM_SCALE", "java.awt.geom.AffineTransform", true),
+              new String[] {
+                "static java.awt.geom.AffineTransform.TYPE_UNIFORM_SCALE",
               })
           .put(
               "Backward",
-              new Import[] {
-                new Import("Backward", "javax.swing.text.Position.Bias", true),
+              new String[] {
+                "static javax.swing.text.Position.Bias.Backward",
               })
           .put(
               "DefaultEditorKit",
-              new Import[] {
-                new Import("DefaultEditorKit", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.DefaultEditorKit",
               })
           .put(
               "pow",
-              new Import[] {
-                new Import("pow", "java.lang.Math", true),
-                new Import("pow", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.pow", "static java.lang.StrictMath.pow",
               })
           .put(
               "IIOParamController",
-              new Import[] {
-                new Import("IIOParamController", "javax.imageio", false),
+              new String[] {
+                "javax.imageio.IIOParamController",
               })
           .put(
               "STANDARD",
-              new Import[] {
-                new Import("STANDARD", "java.awt.font.GlyphMetrics", true),
-                new Import("STANDARD", "java.time.format.DecimalStyle", true),
-                new Import("STANDARD", "javax.print.attribute.standard.JobSheets", true),
+              new String[] {
+                "static java.awt.font.GlyphMetrics.STANDARD",
+                "static java.time.format.DecimalStyle.STANDARD",
+                "static javax.print.attribute.standard.JobSheets.STANDARD",
               })
           .put(
               "latest",
-              new Import[] {
-                new Import("latest", "javax.lang.model.SourceVersion", true),
+              new String[] {
+                "static javax.lang.model.SourceVersion.latest",
               })
           .put(
               "ASCII_STREAM_PARAM",
-              new Import[] {
-                new Import("ASCII_STREAM_PARAM", "javax.sql.rowset.BaseRowSet", true),
+              new String[] {
+                "static javax.sql.rowset.BaseRowSet.ASCII_STREAM_PARAM",
               })
           .put(
               "BufferedImageOp",
-              new Import[] {
-                new Import("BufferedImageOp", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.BufferedImageOp",
               })
           .put(
               "DateTimeAtCreation",
-              new Import[] {
-                new Import("DateTimeAtCreation", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.DateTimeAtCreation",
               })
           .put(
               "FileView",
-              new Import[] {
-                new Import("FileView", "javax.swing.filechooser", false),
+              new String[] {
+                "javax.swing.filechooser.FileView",
               })
           .put(
               "PropertyDescriptor",
-              new Import[] {
-                new Import("PropertyDescriptor", "java.beans", false),
+              new String[] {
+                "java.beans.PropertyDescriptor",
               })
           .put(
               "getQuadrantRotateInstance",
-              new Import[] {
-                new Import("getQuadrantRotateInstance", "java.awt.geom.AffineTransform", true),
+              new String[] {
+                "static java.awt.geom.AffineTransform.getQuadrantRotateInstance",
               })
           .put(
               "Statement",
-              new Import[] {
-                new Import("Statement", "java.beans", false),
-                new Import("Statement", "java.sql", false),
+              new String[] {
+                "java.beans.Statement", "java.sql.Statement",
               })
           .put(
               "XmlElementRefs",
-              new Import[] {
-                new Import("XmlElementRefs", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlElementRefs",
               })
           .put(
               "getHorizontalSliderThumbIcon",
-              new Import[] {
-                new Import(
-                    "getHorizontalSliderThumbIcon",
-                    "javax.swing.plaf.metal.MetalIconFactory",
-                    true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getHorizontalSliderThumbIcon",
               })
           .put(
               "BUTTON2",
-              new Import[] {
-                new Import("BUTTON2", "java.awt.event.MouseEvent", true),
+              new String[] {
+                "static java.awt.event.MouseEvent.BUTTON2",
               })
           .put(
               "BUTTON3",
-              new Import[] {
-                new Import("BUTTON3", "java.awt.event.MouseEvent", true),
+              new String[] {
+                "static java.awt.event.MouseEvent.BUTTON3",
               })
           .put(
               "flashColor",
-              new Import[] {
-                new Import("flashColor", "javax.swing.DebugGraphics", true),
+              new String[] {
+                "static javax.swing.DebugGraphics.flashColor",
               })
           .put(
               "ZipFile",
-              new Import[] {
-                new Import("ZipFile", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.ZipFile",
               })
           .put(
               "ITEM_EVENT_MASK",
-              new Import[] {
-                new Import("ITEM_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.ITEM_EVENT_MASK",
               })
           .put(
               "PERCENT",
-              new Import[] {
-                new Import("PERCENT", "java.text.NumberFormat.Field", true),
+              new String[] {
+                "static java.text.NumberFormat.Field.PERCENT",
               })
           .put(
               "DragSourceDropEvent",
-              new Import[] {
-                new Import("DragSourceDropEvent", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DragSourceDropEvent",
               })
           .put(
               "doPrivileged",
-              new Import[] {
-                new Import("doPrivileged", "java.security.AccessController", true),
+              new String[] {
+                "static java.security.AccessController.doPrivileged",
               })
           .put(
               "BandCombineOp",
-              new Import[] {
-                new Import("BandCombineOp", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.BandCombineOp",
               })
           .put(
               "getSoundbank",
-              new Import[] {
-                new Import("getSoundbank", "javax.sound.midi.MidiSystem", true),
+              new String[] {
+                "static javax.sound.midi.MidiSystem.getSoundbank",
               })
           .put(
               "AbstractFormatter",
-              new Import[] {
-                new Import("AbstractFormatter", "javax.swing.JFormattedTextField", false),
+              new String[] {
+                "javax.swing.JFormattedTextField.AbstractFormatter",
               })
           .put(
               "DERIVATION_LIST",
-              new Import[] {
-                new Import("DERIVATION_LIST", "org.w3c.dom.TypeInfo", true),
+              new String[] {
+                "static org.w3c.dom.TypeInfo.DERIVATION_LIST",
               })
           .put(
               "SQLInput",
-              new Import[] {
-                new Import("SQLInput", "java.sql", false),
+              new String[] {
+                "java.sql.SQLInput",
               })
           .put(
               "getPosixFilePermissions",
-              new Import[] {
-                new Import("getPosixFilePermissions", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.getPosixFilePermissions",
               })
           .put(
               "Schema",
-              new Import[] {
-                new Import("Schema", "javax.xml.validation", false),
+              new String[] {
+                "javax.xml.validation.Schema",
               })
           .put(
               "MEDIA_EMPTY",
-              new Import[] {
-                new Import(
-                    "MEDIA_EMPTY", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.MEDIA_EMPTY",
               })
           .put(
               "CLASS",
-              new Import[] {
-                new Import("CLASS", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.CLASS",
               })
           .put(
               "SOAPEnvelope",
-              new Import[] {
-                new Import("SOAPEnvelope", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SOAPEnvelope",
               })
           .put(
               "getRotateInstance",
-              new Import[] {
-                new Import("getRotateInstance", "java.awt.geom.AffineTransform", true),
+              new String[] {
+                "static java.awt.geom.AffineTransform.getRotateInstance",
               })
           .put(
               "BAD_INV_ORDER",
-              new Import[] {
-                new Import("BAD_INV_ORDER", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.BAD_INV_ORDER",
               })
           .put(
               "procedureNoResult",
-              new Import[] {
-                new Import("procedureNoResult", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.procedureNoResult",
               })
           .put(
               "Container",
-              new Import[] {
-                new Import("Container", "java.awt", false),
+              new String[] {
+                "java.awt.Container",
               })
           .put(
               "SynthEditorPaneUI",
-              new Import[] {
-                new Import("SynthEditorPaneUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthEditorPaneUI",
               })
           .put(
               "NameDynAnyPair",
-              new Import[] {
-                new Import("NameDynAnyPair", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.NameDynAnyPair",
               })
           .put(
               "HEADPHONE",
-              new Import[] {
-                new Import("HEADPHONE", "javax.sound.sampled.Port.Info", true),
+              new String[] {
+                "static javax.sound.sampled.Port.Info.HEADPHONE",
               })
           .put(
               "CDATA_SECTION_ELEMENTS",
-              new Import[] {
-                new Import("CDATA_SECTION_ELEMENTS", "javax.xml.transform.OutputKeys", true),
+              new String[] {
+                "static javax.xml.transform.OutputKeys.CDATA_SECTION_ELEMENTS",
               })
           .put(
               "SOAPPart",
-              new Import[] {
-                new Import("SOAPPart", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SOAPPart",
               })
           .put(
               "explicitCastArguments",
-              new Import[] {
-                new Import("explicitCastArguments", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.explicitCastArguments",
               })
           .put(
               "CompletionHandler",
-              new Import[] {
-                new Import("CompletionHandler", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.CompletionHandler",
               })
           .put(
               "BOLD",
-              new Import[] {
-                new Import("BOLD", "java.awt.Font", true),
+              new String[] {
+                "static java.awt.Font.BOLD",
               })
           .put(
               "KeyManager",
-              new Import[] {
-                new Import("KeyManager", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.KeyManager",
               })
           .put(
               "DocAttribute",
-              new Import[] {
-                new Import("DocAttribute", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.DocAttribute",
               })
           .put(
               "RGBtoHSB",
-              new Import[] {
-                new Import("RGBtoHSB", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.RGBtoHSB",
               })
           .put(
               "createVerticalStrut",
-              new Import[] {
-                new Import("createVerticalStrut", "javax.swing.Box", true),
+              new String[] {
+                "static javax.swing.Box.createVerticalStrut",
               })
           .put(
               "PageRanges",
-              new Import[] {
-                new Import("PageRanges", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PageRanges",
               })
           .put(
               "TAG_EBLC",
-              new Import[] {
-                new Import("TAG_EBLC", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_EBLC",
               })
           .put(
               "PARENT_CHANGED",
-              new Import[] {
-                new Import("PARENT_CHANGED", "java.awt.event.HierarchyEvent", true),
+              new String[] {
+                "static java.awt.event.HierarchyEvent.PARENT_CHANGED",
               })
           .put(
               "ENTITY_NODE",
-              new Import[] {
-                new Import("ENTITY_NODE", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.ENTITY_NODE",
               })
           .put(
               "getTabbedTextOffset",
-              new Import[] {
-                new Import("getTabbedTextOffset", "javax.swing.text.Utilities", true),
+              new String[] {
+                "static javax.swing.text.Utilities.getTabbedTextOffset",
               })
           .put(
               "ComponentOrientation",
-              new Import[] {
-                new Import("ComponentOrientation", "java.awt", false),
+              new String[] {
+                "java.awt.ComponentOrientation",
               })
           .put(
               "FileNameMap",
-              new Import[] {
-                new Import("FileNameMap", "java.net", false),
+              new String[] {
+                "java.net.FileNameMap",
               })
           .put(
               "NAME",
-              new Import[] {
-                new Import("NAME", "javax.script.ScriptEngine", true),
-                new Import("NAME", "javax.swing.Action", true),
-                new Import("NAME", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("NAME", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.script.ScriptEngine.NAME",
+                "static javax.swing.Action.NAME",
+                "static javax.swing.text.html.HTML.Attribute.NAME",
+                "static javax.swing.text.html.parser.DTDConstants.NAME",
               })
           .put(
               "DataInput",
-              new Import[] {
-                new Import("DataInput", "java.io", false),
+              new String[] {
+                "java.io.DataInput",
               })
           .put(
               "IMAGEERROR",
-              new Import[] {
-                new Import("IMAGEERROR", "java.awt.image.ImageConsumer", true),
+              new String[] {
+                "static java.awt.image.ImageConsumer.IMAGEERROR",
               })
           .put(
               "XmlSchema",
-              new Import[] {
-                new Import("XmlSchema", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlSchema",
               })
           .put(
               "INITIATE_ONLY",
-              new Import[] {
-                new Import("INITIATE_ONLY", "org.ietf.jgss.GSSCredential", true),
+              new String[] {
+                "static org.ietf.jgss.GSSCredential.INITIATE_ONLY",
               })
           .put(
               "TableHeaderBorder",
-              new Import[] {
-                new Import("TableHeaderBorder", "javax.swing.plaf.metal.MetalBorders", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalBorders.TableHeaderBorder",
               })
           .put(
               "NamingContextHolder",
-              new Import[] {
-                new Import("NamingContextHolder", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextHolder",
               })
           .put(
               "AlreadyBoundHelper",
-              new Import[] {
-                new Import("AlreadyBoundHelper", "org.omg.CosNaming.NamingContextPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper",
               })
           .put(
               "InputMap",
-              new Import[] {
-                new Import("InputMap", "javax.swing", false),
+              new String[] {
+                "javax.swing.InputMap",
               })
           .put(
               "TransactionRolledbackException",
-              new Import[] {
-                new Import("TransactionRolledbackException", "javax.transaction", false),
+              new String[] {
+                "javax.transaction.TransactionRolledbackException",
               })
           .put(
               "FileSystemLoopException",
-              new Import[] {
-                new Import("FileSystemLoopException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.FileSystemLoopException",
               })
           .put(
               "DateTimeFormatter",
-              new Import[] {
-                new Import("DateTimeFormatter", "java.time.format", false),
+              new String[] {
+                "java.time.format.DateTimeFormatter",
               })
           .put(
               "ORB",
-              new Import[] {
-                new Import("ORB", "org.omg.CORBA", false),
-                new Import("ORB", "org.omg.CORBA_2_3", false),
+              new String[] {
+                "org.omg.CORBA.ORB", "org.omg.CORBA_2_3.ORB",
               })
           .put(
               "functionColumnOut",
-              new Import[] {
-                new Import("functionColumnOut", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.functionColumnOut",
               })
           .put(
               "isStatic",
-              new Import[] {
-                new Import("isStatic", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.isStatic",
               })
           .put(
               "PropertyChangeListener",
-              new Import[] {
-                new Import("PropertyChangeListener", "java.beans", false),
+              new String[] {
+                "java.beans.PropertyChangeListener",
               })
           .put(
               "icSigProfileSequenceDescTag",
-              new Import[] {
-                new Import("icSigProfileSequenceDescTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigProfileSequenceDescTag",
               })
           .put(
               "HIERARCHY_BOUNDS_EVENT_MASK",
-              new Import[] {
-                new Import("HIERARCHY_BOUNDS_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.HIERARCHY_BOUNDS_EVENT_MASK",
               })
           .put(
               "ofYears",
-              new Import[] {
-                new Import("ofYears", "java.time.Period", true),
+              new String[] {
+                "static java.time.Period.ofYears",
               })
           .put(
               "icSigBToA0Tag",
-              new Import[] {
-                new Import("icSigBToA0Tag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigBToA0Tag",
               })
           .put(
               "getClassLoader",
-              new Import[] {
-                new Import("getClassLoader", "java.rmi.server.RMIClassLoader", true),
+              new String[] {
+                "static java.rmi.server.RMIClassLoader.getClassLoader",
               })
           .put(
               "synchronizedCollection",
-              new Import[] {
-                new Import("synchronizedCollection", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.synchronizedCollection",
               })
           .put(
               "GENERAL",
-              new Import[] {
-                new Import("GENERAL", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.GENERAL",
               })
           .put(
               "Line2D",
-              new Import[] {
-                new Import("Line2D", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.Line2D",
               })
           .put(
               "MNEMONIC_KEY",
-              new Import[] {
-                new Import("MNEMONIC_KEY", "javax.swing.Action", true),
+              new String[] {
+                "static javax.swing.Action.MNEMONIC_KEY",
               })
           .put(
               "BufferedImage",
-              new Import[] {
-                new Import("BufferedImage", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.BufferedImage",
               })
           .put(
               "HttpURLConnection",
-              new Import[] {
-                new Import("HttpURLConnection", "java.net", false),
+              new String[] {
+                "java.net.HttpURLConnection",
               })
           .put(
               "EXIT_ON_CLOSE",
-              new Import[] {
-                new Import("EXIT_ON_CLOSE", "javax.swing.JFrame", true),
-                new Import("EXIT_ON_CLOSE", "javax.swing.WindowConstants", true),
+              new String[] {
+                "static javax.swing.JFrame.EXIT_ON_CLOSE",
+                "static javax.swing.WindowConstants.EXIT_ON_CLOSE",
               })
           .put(
               "TemporalQueries",
-              new Import[] {
-                new Import("TemporalQueries", "java.time.temporal", false),
+              new String[] {
+                "java.time.temporal.TemporalQueries",
               })
           .put(
               "icSigSpaceBCLR",
-              new Import[] {
-                new Import("icSigSpaceBCLR", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigSpaceBCLR",
               })
           .put(
               "SPECIFICATION_TITLE",
-              new Import[] {
-                new Import("SPECIFICATION_TITLE", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.SPECIFICATION_TITLE",
               })
           .put(
               "SSLServerSocketFactory",
-              new Import[] {
-                new Import("SSLServerSocketFactory", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLServerSocketFactory",
               })
           .put(
               "getRGBdefault",
-              new Import[] {
-                new Import("getRGBdefault", "java.awt.image.ColorModel", true),
+              new String[] {
+                "static java.awt.image.ColorModel.getRGBdefault",
               })
           .put(
               "DECRYPT_MODE",
-              new Import[] {
-                new Import("DECRYPT_MODE", "javax.crypto.Cipher", true),
+              new String[] {
+                "static javax.crypto.Cipher.DECRYPT_MODE",
               })
           .put(
               "QueryEval",
-              new Import[] {
-                new Import("QueryEval", "javax.management", false),
+              new String[] {
+                "javax.management.QueryEval",
               })
           .put(
               "IIOParam",
-              new Import[] {
-                new Import("IIOParam", "javax.imageio", false),
+              new String[] {
+                "javax.imageio.IIOParam",
               })
           .put(
               "NORTHEAST",
-              new Import[] {
-                new Import("NORTHEAST", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.NORTHEAST",
               })
           .put(
               "FormatFlagsConversionMismatchException",
-              new Import[] {
-                new Import("FormatFlagsConversionMismatchException", "java.util", false),
+              new String[] {
+                "java.util.FormatFlagsConversionMismatchException",
               })
           .put(
               "ECFieldF2m",
-              new Import[] {
-                new Import("ECFieldF2m", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.ECFieldF2m",
               })
           .put(
               "registerProvider",
-              new Import[] {
-                new Import("registerProvider", "java.time.zone.ZoneRulesProvider", true),
-                new Import("registerProvider", "javax.sql.rowset.spi.SyncFactory", true),
+              new String[] {
+                "static java.time.zone.ZoneRulesProvider.registerProvider",
+                "static javax.sql.rowset.spi.SyncFactory.registerProvider",
               })
           .put(
               "SSLContext",
-              new Import[] {
-                new Import("SSLContext", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLContext",
               })
           .put(
               "SHIFT_DOWN_MASK",
-              new Import[] {
-                new Import("SHIFT_DOWN_MASK", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.event.InputEvent.SHIFT_DOWN_MASK",
               })
           .put(
               "_ORB_CTRL_MODEL",
-              new Import[] {
-                new Import("_ORB_CTRL_MODEL", "org.omg.PortableServer.ThreadPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.ThreadPolicyValue._ORB_CTRL_MODEL",
               })
           .put(
               "UTF_16BE",
-              new Import[] {
-                new Import("UTF_16BE", "java.nio.charset.StandardCharsets", true),
+              new String[] {
+                "static java.nio.charset.StandardCharsets.UTF_16BE",
               })
           .put(
               "SynthDesktopPaneUI",
-              new Import[] {
-                new Import("SynthDesktopPaneUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthDesktopPaneUI",
               })
           .put(
               "DATETIME",
-              new Import[] {
-                new Import("DATETIME", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.DATETIME",
               })
           .put(
               "XMLConstants",
-              new Import[] {
-                new Import("XMLConstants", "javax.xml", false),
+              new String[] {
+                "javax.xml.XMLConstants",
               })
           .put(
               "PGUP",
-              new Import[] {
-                new Import("PGUP", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.PGUP",
               })
           .put(
               "MOUSE_RELEASED",
-              new Import[] {
-                new Import("MOUSE_RELEASED", "java.awt.event.MouseEvent", true),
+              new String[] {
+                "static java.awt.event.MouseEvent.MOUSE_RELEASED",
               })
           .put(
               "IntBinaryOperator",
-              new Import[] {
-                new Import("IntBinaryOperator", "java.util.function", false),
+              new String[] {
+                "java.util.function.IntBinaryOperator",
               })
           .put(
               "findFocusOwner",
-              new Import[] {
-                new Import("findFocusOwner", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.findFocusOwner",
               })
           .put(
               "IntStream",
-              new Import[] {
-                new Import("IntStream", "java.util.stream", false),
+              new String[] {
+                "java.util.stream.IntStream",
               })
           .put(
               "SOAP_1_1_CONTENT_TYPE",
-              new Import[] {
-                new Import("SOAP_1_1_CONTENT_TYPE", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.SOAP_1_1_CONTENT_TYPE",
               })
           .put(
               "AbstractLayoutCache",
-              new Import[] {
-                new Import("AbstractLayoutCache", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.AbstractLayoutCache",
               })
           .put(
               "VALUE_TEXT_ANTIALIAS_ON",
-              new Import[] {
-                new Import("VALUE_TEXT_ANTIALIAS_ON", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_TEXT_ANTIALIAS_ON",
               })
           .put(
               "icSigSpace7CLR",
-              new Import[] {
-                new Import("icSigSpace7CLR", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigSpace7CLR",
               })
           .put(
               "ObjectInputStream",
-              new Import[] {
-                new Import("ObjectInputStream", "java.io", false),
+              new String[] {
+                "java.io.ObjectInputStream",
               })
           .put(
               "DoubleToIntFunction",
-              new Import[] {
-                new Import("DoubleToIntFunction", "java.util.function", false),
+              new String[] {
+                "java.util.function.DoubleToIntFunction",
               })
           .put(
               "MetalToolTipUI",
-              new Import[] {
-                new Import("MetalToolTipUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalToolTipUI",
               })
           .put(
               "TYPE_Luv",
-              new Import[] {
-                new Import("TYPE_Luv", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_Luv",
               })
           .put(
               "DATATYPE_INTEGER",
-              new Import[] {
-                new Import("DATATYPE_INTEGER", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.DATATYPE_INTEGER",
               })
           .put(
               "PolicySpi",
-              new Import[] {
-                new Import("PolicySpi", "java.security", false),
+              new String[] {
+                "java.security.PolicySpi",
               })
           .put(
               "SUCCESS_NO_INFO",
-              new Import[] {
-                new Import("SUCCESS_NO_INFO", "java.sql.Statement", true),
+              new String[] {
+                "static java.sql.Statement.SUCCESS_NO_INFO",
               })
           .put(
               "sourceToInputSource",
-              new Import[] {
-                new Import("sourceToInputSource", "javax.xml.transform.sax.SAXSource", true),
+              new String[] {
+                "static javax.xml.transform.sax.SAXSource.sourceToInputSource",
               })
           .put(
               "PASS_FILE_PFX",
-              new Import[] {
-                new Import("PASS_FILE_PFX", "java.util.jar.Pack200.Packer", true),
+              new String[] {
+                "static java.util.jar.Pack200.Packer.PASS_FILE_PFX",
               })
           .put(
               "DeflaterInputStream",
-              new Import[] {
-                new Import("DeflaterInputStream", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.DeflaterInputStream",
               })
           .put(
               "SCALE_FAST",
-              new Import[] {
-                new Import("SCALE_FAST", "java.awt.Image", true),
+              new String[] {
+                "static java.awt.Image.SCALE_FAST",
               })
           .put(
               "ECKey",
-              new Import[] {
-                new Import("ECKey", "java.security.interfaces", false),
+              new String[] {
+                "java.security.interfaces.ECKey",
               })
           .put(
               "createSaslServer",
-              new Import[] {
-                new Import("createSaslServer", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.createSaslServer",
               })
           .put(
               "getTabSet",
-              new Import[] {
-                new Import("getTabSet", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.getTabSet",
               })
           .put(
               "MODIFIER_SYMBOL",
-              new Import[] {
-                new Import("MODIFIER_SYMBOL", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.MODIFIER_SYMBOL",
               })
           .put(
               "put",
-              new Import[] {
-                new Import("put", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.put",
               })
           .put(
               "TRANSACTION_REPEATABLE_READ",
-              new Import[] {
-                new Import("TRANSACTION_REPEATABLE_READ", "java.sql.Connection", true),
+              new String[] {
+                "static java.sql.Connection.TRANSACTION_REPEATABLE_READ",
               })
           .put(
               "SCROLL_ABSOLUTE",
-              new Import[] {
-                new Import("SCROLL_ABSOLUTE", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.SCROLL_ABSOLUTE",
               })
           .put(
               "MYANMAR",
-              new Import[] {
-                new Import("MYANMAR", "java.awt.font.NumericShaper", true),
-                new Import("MYANMAR", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.MYANMAR",
+                "static java.lang.Character.UnicodeBlock.MYANMAR",
               })
           .put(
               "CUSTOM_CURSOR",
-              new Import[] {
-                new Import("CUSTOM_CURSOR", "java.awt.Cursor", true),
+              new String[] {
+                "static java.awt.Cursor.CUSTOM_CURSOR",
               })
           .put(
               "LOWER_LEFT_CORNER",
-              new Import[] {
-                new Import("LOWER_LEFT_CORNER", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.LOWER_LEFT_CORNER",
               })
           .put(
               "FAILED",
-              new Import[] {
-                new Import("FAILED", "javax.management.remote.JMXConnectionNotification", true),
+              new String[] {
+                "static javax.management.remote.JMXConnectionNotification.FAILED",
               })
           .put(
               "RUMI_NUMERAL_SYMBOLS",
-              new Import[] {
-                new Import("RUMI_NUMERAL_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.RUMI_NUMERAL_SYMBOLS",
               })
           .put(
               "TemporalQuery",
-              new Import[] {
-                new Import("TemporalQuery", "java.time.temporal", false),
+              new String[] {
+                "java.time.temporal.TemporalQuery",
               })
           .put(
               "REF_invokeSpecial",
-              new Import[] {
-                new Import("REF_invokeSpecial", "java.lang.invoke.MethodHandleInfo", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandleInfo.REF_invokeSpecial",
               })
           .put(
               "HTTP_BAD_GATEWAY",
-              new Import[] {
-                new Import("HTTP_BAD_GATEWAY", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_BAD_GATEWAY",
               })
           .put(
               "CROSSHAIR_CURSOR",
-              new Import[] {
-                new Import("CROSSHAIR_CURSOR", "java.awt.Cursor", true),
-                new Import("CROSSHAIR_CURSOR", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Cursor.CROSSHAIR_CURSOR", "static java.awt.Frame.CROSSHAIR_CURSOR",
               })
           .put(
               "RowSetReader",
-              new Import[] {
-                new Import("RowSetReader", "javax.sql", false),
+              new String[] {
+                "javax.sql.RowSetReader",
               })
           .put(
               "DynAnyFactory",
-              new Import[] {
-                new Import("DynAnyFactory", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynAnyFactory",
               })
           .put(
               "VK_UNDERSCORE",
-              new Import[] {
-                new Import("VK_UNDERSCORE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_UNDERSCORE",
               })
           .put(
               "DEFAULT_STYLE",
-              new Import[] {
-                new Import("DEFAULT_STYLE", "javax.swing.text.StyleContext", true),
+              new String[] {
+                "static javax.swing.text.StyleContext.DEFAULT_STYLE",
               })
           .put(
               "LONGVARCHAR",
-              new Import[] {
-                new Import("LONGVARCHAR", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.LONGVARCHAR",
               })
           .put(
               "HORIZONTAL_TEXT_POSITION_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "HORIZONTAL_TEXT_POSITION_CHANGED_PROPERTY",
-                    "javax.swing.AbstractButton",
-                    true),
+              new String[] {
+                "static javax.swing.AbstractButton.HORIZONTAL_TEXT_POSITION_CHANGED_PROPERTY",
               })
           .put(
               "DigestInputStream",
-              new Import[] {
-                new Import("DigestInputStream", "java.security", false),
+              new String[] {
+                "java.security.DigestInputStream",
               })
           .put(
               "Normalizer",
-              new Import[] {
-                new Import("Normalizer", "java.text", false),
+              new String[] {
+                "java.text.Normalizer",
               })
           .put(
               "ISO_2A0",
-              new Import[] {
-                new Import("ISO_2A0", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_2A0",
               })
           .put(
               "AlreadyBoundHolder",
-              new Import[] {
-                new Import("AlreadyBoundHolder", "org.omg.CosNaming.NamingContextPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.AlreadyBoundHolder",
               })
           .put(
               "VERTICAL_SCROLLBAR_NEVER",
-              new Import[] {
-                new Import("VERTICAL_SCROLLBAR_NEVER", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.VERTICAL_SCROLLBAR_NEVER",
               })
           .put(
               "readAttributeSet",
-              new Import[] {
-                new Import("readAttributeSet", "javax.swing.text.StyleContext", true),
+              new String[] {
+                "static javax.swing.text.StyleContext.readAttributeSet",
               })
           .put(
               "ERA_FIELD",
-              new Import[] {
-                new Import("ERA_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.ERA_FIELD",
               })
           .put(
               "setFontSize",
-              new Import[] {
-                new Import("setFontSize", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setFontSize",
               })
           .put(
               "SUNDAY_START",
-              new Import[] {
-                new Import("SUNDAY_START", "java.time.temporal.WeekFields", true),
+              new String[] {
+                "static java.time.temporal.WeekFields.SUNDAY_START",
               })
           .put(
               "DOCUMENT_FRAGMENT_NODE",
-              new Import[] {
-                new Import("DOCUMENT_FRAGMENT_NODE", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.DOCUMENT_FRAGMENT_NODE",
               })
           .put(
               "BasicSplitPaneDivider",
-              new Import[] {
-                new Import("BasicSplitPaneDivider", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicSplitPaneDivider",
               })
           .put(
               "InstantiationError",
-              new Import[] {
-                new Import("InstantiationError", "java.lang", false),
+              new String[] {
+                "java.lang.InstantiationError",
               })
           .put(
               "TABBED_PANE_TAB_AREA",
-              new Import[] {
-                new Import("TABBED_PANE_TAB_AREA", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.TABBED_PANE_TAB_AREA",
               })
           .put(
               "solveQuadratic",
-              new Import[] {
-                new Import("solveQuadratic", "java.awt.geom.QuadCurve2D", true),
+              new String[] {
+                "static java.awt.geom.QuadCurve2D.solveQuadratic",
               })
           .put(
               "AbstractOwnableSynchronizer",
-              new Import[] {
-                new Import("AbstractOwnableSynchronizer", "java.util.concurrent.locks", false),
+              new String[] {
+                "java.util.concurrent.locks.AbstractOwnableSynchronizer",
               })
           .put(
               "InvalidNameHelper",
-              new Import[] {
-                new Import("InvalidNameHelper", "org.omg.CosNaming.NamingContextPackage", false),
-                new Import(
-                    "InvalidNameHelper", "org.omg.PortableInterceptor.ORBInitInfoPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.InvalidNameHelper",
+                "org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper",
               })
           .put(
               "SCROLL_TAB_LAYOUT",
-              new Import[] {
-                new Import("SCROLL_TAB_LAYOUT", "javax.swing.JTabbedPane", true),
+              new String[] {
+                "static javax.swing.JTabbedPane.SCROLL_TAB_LAYOUT",
               })
           .put(
               "VK_END",
-              new Import[] {
-                new Import("VK_END", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_END",
               })
           .put(
               "printBase64Binary",
-              new Import[] {
-                new Import("printBase64Binary", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printBase64Binary",
               })
           .put(
               "Current",
-              new Import[] {
-                new Import("Current", "org.omg.CORBA", false),
-                new Import("Current", "org.omg.PortableInterceptor", false),
-                new Import("Current", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.CORBA.Current",
+                "org.omg.PortableInterceptor.Current",
+                "org.omg.PortableServer.Current",
               })
           .put(
               "LABELED_BY",
-              new Import[] {
-                new Import("LABELED_BY", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.LABELED_BY",
               })
           .put(
               "VERTICAL_FORMS",
-              new Import[] {
-                new Import("VERTICAL_FORMS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.VERTICAL_FORMS",
               })
           .put(
               "RSAPublicKeySpec",
-              new Import[] {
-                new Import("RSAPublicKeySpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.RSAPublicKeySpec",
               })
           .put(
               "InterruptedException",
-              new Import[] {
-                new Import("InterruptedException", "java.lang", false),
+              new String[] {
+                "java.lang.InterruptedException",
               })
           .put(
               "RMIClientSocketFactory",
-              new Import[] {
-                new Import("RMIClientSocketFactory", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.RMIClientSocketFactory",
               })
           .put(
               "VK_F12",
-              new Import[] {
-                new Import("VK_F12", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F12",
               })
           .put(
               "userRoot",
-              new Import[] {
-                new Import("userRoot", "java.util.prefs.Preferences", true),
+              new String[] {
+                "static java.util.prefs.Preferences.userRoot",
               })
           .put(
               "getDefaultInstance",
-              new Import[] {
-                new Import("getDefaultInstance", "javax.imageio.spi.IIORegistry", true),
+              new String[] {
+                "static javax.imageio.spi.IIORegistry.getDefaultInstance",
               })
           .put(
               "VK_F11",
-              new Import[] {
-                new Import("VK_F11", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F11",
               })
           .put(
               "VK_F14",
-              new Import[] {
-                new Import("VK_F14", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F14",
               })
           .put(
               "VK_F13",
-              new Import[] {
-                new Import("VK_F13", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F13",
               })
           .put(
               "icSigPs2CRD2Tag",
-              new Import[] {
-                new Import("icSigPs2CRD2Tag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigPs2CRD2Tag",
               })
           .put(
               "VK_F10",
-              new Import[] {
-                new Import("VK_F10", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F10",
               })
           .put(
               "ACCESSIBLE_TABLE_ROW_DESCRIPTION_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TABLE_ROW_DESCRIPTION_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
+              new String[] {
+                "static"
+                    + " javax.accessibility.AccessibleContext.ACCESSIBLE_TABLE_ROW_DESCRIPTION_CHANGED",
               })
           .put(
               "STAPLE_DUAL_LEFT",
-              new Import[] {
-                new Import("STAPLE_DUAL_LEFT", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.STAPLE_DUAL_LEFT",
               })
           .put(
               "QUEUED_IN_DEVICE",
-              new Import[] {
-                new Import(
-                    "QUEUED_IN_DEVICE", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.QUEUED_IN_DEVICE",
               })
           .put(
               "icSigNamedColor2Tag",
-              new Import[] {
-                new Import("icSigNamedColor2Tag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigNamedColor2Tag",
               })
           .put(
               "convertMouseEvent",
-              new Import[] {
-                new Import("convertMouseEvent", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.convertMouseEvent",
               })
           .put(
               "StAXResult",
-              new Import[] {
-                new Import("StAXResult", "javax.xml.transform.stax", false),
+              new String[] {
+                "javax.xml.transform.stax.StAXResult",
               })
           .put(
               "LongHolder",
-              new Import[] {
-                new Import("LongHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.LongHolder",
               })
           .put(
               "getControlHighlight",
-              new Import[] {
-                new Import("getControlHighlight", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getControlHighlight",
               })
           .put(
               "LIST_STYLE_TYPE",
-              new Import[] {
-                new Import("LIST_STYLE_TYPE", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.LIST_STYLE_TYPE",
               })
           .put(
               "END_DOCUMENT",
-              new Import[] {
-                new Import("END_DOCUMENT", "javax.xml.stream.XMLStreamConstants", true),
+              new String[] {
+                "static javax.xml.stream.XMLStreamConstants.END_DOCUMENT",
               })
           .put(
               "VK_F19",
-              new Import[] {
-                new Import("VK_F19", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F19",
               })
           .put(
               "HANGUL_COMPATIBILITY_JAMO",
-              new Import[] {
-                new Import("HANGUL_COMPATIBILITY_JAMO", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.HANGUL_COMPATIBILITY_JAMO",
               })
           .put(
               "NamespaceChangeListener",
-              new Import[] {
-                new Import("NamespaceChangeListener", "javax.naming.event", false),
+              new String[] {
+                "javax.naming.event.NamespaceChangeListener",
               })
           .put(
               "VK_F16",
-              new Import[] {
-                new Import("VK_F16", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F16",
               })
           .put(
               "VK_F15",
-              new Import[] {
-                new Import("VK_F15", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F15",
               })
           .put(
               "VK_F18",
-              new Import[] {
-                new Import("VK_F18", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F18",
               })
           .put(
               "loadProxyClass",
-              new Import[] {
-                new Import("loadProxyClass", "java.rmi.server.RMIClassLoader", true),
+              new String[] {
+                "static java.rmi.server.RMIClassLoader.loadProxyClass",
               })
           .put(
               "getDefaultLocale",
-              new Import[] {
-                new Import("getDefaultLocale", "javax.swing.JComponent", true),
+              new String[] {
+                "static javax.swing.JComponent.getDefaultLocale",
               })
           .put(
               "VK_F17",
-              new Import[] {
-                new Import("VK_F17", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F17",
               })
           .put(
               "VK_F23",
-              new Import[] {
-                new Import("VK_F23", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F23",
               })
           .put(
               "VK_F22",
-              new Import[] {
-                new Import("VK_F22", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F22",
               })
           .put(
               "VK_F24",
-              new Import[] {
-                new Import("VK_F24", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F24",
               })
           .put(
               "ActionMapUIResource",
-              new Import[] {
-                new Import("ActionMapUIResource", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.ActionMapUIResource",
               })
           .put(
               "SplitPaneUI",
-              new Import[] {
-                new Import("SplitPaneUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.SplitPaneUI",
               })
           .put(
               "OPAQUE",
-              new Import[] {
-                new Import("OPAQUE", "java.awt.Transparency", true),
-                new Import("OPAQUE", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static java.awt.Transparency.OPAQUE",
+                "static javax.accessibility.AccessibleState.OPAQUE",
               })
           .put(
               "NOTE_OFF",
-              new Import[] {
-                new Import("NOTE_OFF", "javax.sound.midi.ShortMessage", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.NOTE_OFF",
               })
           .put(
               "VK_F21",
-              new Import[] {
-                new Import("VK_F21", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F21",
               })
           .put(
               "VK_F20",
-              new Import[] {
-                new Import("VK_F20", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F20",
               })
           .put(
               "MEMORY_MANAGER_MXBEAN_DOMAIN_TYPE",
-              new Import[] {
-                new Import(
-                    "MEMORY_MANAGER_MXBEAN_DOMAIN_TYPE",
-                    "java.lang.management.ManagementFactory",
-                    true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.MEMORY_MANAGER_MXBEAN_DOMAIN_TYPE",
               })
           .put(
               "LOGICAL_STYLE_ACTION",
-              new Import[] {
-                new Import("LOGICAL_STYLE_ACTION", "javax.swing.text.html.HTMLEditorKit", true),
+              new String[] {
+                "static javax.swing.text.html.HTMLEditorKit.LOGICAL_STYLE_ACTION",
               })
           .put(
               "convertPoint",
-              new Import[] {
-                new Import("convertPoint", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.convertPoint",
               })
           .put(
               "TRANSACTION_ROLLEDBACK",
-              new Import[] {
-                new Import("TRANSACTION_ROLLEDBACK", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.TRANSACTION_ROLLEDBACK",
               })
           .put(
               "HashPrintRequestAttributeSet",
-              new Import[] {
-                new Import("HashPrintRequestAttributeSet", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.HashPrintRequestAttributeSet",
               })
           .put(
               "WHEN_IN_FOCUSED_WINDOW",
-              new Import[] {
-                new Import("WHEN_IN_FOCUSED_WINDOW", "javax.swing.JComponent", true),
+              new String[] {
+                "static javax.swing.JComponent.WHEN_IN_FOCUSED_WINDOW",
               })
           .put(
               "OTHER_LETTER",
-              new Import[] {
-                new Import("OTHER_LETTER", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.OTHER_LETTER",
               })
           .put(
               "TAG_ORB_TYPE",
-              new Import[] {
-                new Import("TAG_ORB_TYPE", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.TAG_ORB_TYPE",
               })
           .put(
               "TAG_EBSC",
-              new Import[] {
-                new Import("TAG_EBSC", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_EBSC",
               })
           .put(
               "CHINESE",
-              new Import[] {
-                new Import("CHINESE", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.CHINESE",
               })
           .put(
               "getClassAnnotation",
-              new Import[] {
-                new Import("getClassAnnotation", "java.rmi.server.RMIClassLoader", true),
+              new String[] {
+                "static java.rmi.server.RMIClassLoader.getClassAnnotation",
               })
           .put(
               "IMMUTABLE_INFO_FIELD",
-              new Import[] {
-                new Import("IMMUTABLE_INFO_FIELD", "javax.management.JMX", true),
+              new String[] {
+                "static javax.management.JMX.IMMUTABLE_INFO_FIELD",
               })
           .put(
               "SNIServerName",
-              new Import[] {
-                new Import("SNIServerName", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SNIServerName",
               })
           .put(
               "BRIEF",
-              new Import[] {
-                new Import("BRIEF", "java.rmi.server.LogStream", true),
+              new String[] {
+                "static java.rmi.server.LogStream.BRIEF",
               })
           .put(
               "JoinNextDirection",
-              new Import[] {
-                new Import(
-                    "JoinNextDirection",
-                    "javax.swing.text.DefaultStyledDocument.ElementSpec",
-                    true),
+              new String[] {
+                "static javax.swing.text.DefaultStyledDocument.ElementSpec.JoinNextDirection",
               })
           .put(
               "getInitialContext",
-              new Import[] {
-                new Import("getInitialContext", "javax.naming.spi.NamingManager", true),
+              new String[] {
+                "static javax.naming.spi.NamingManager.getInitialContext",
               })
           .put(
               "AWTEvent",
-              new Import[] {
-                new Import("AWTEvent", "java.awt", false),
+              new String[] {
+                "java.awt.AWTEvent",
               })
           .put(
               "MultiScrollBarUI",
-              new Import[] {
-                new Import("MultiScrollBarUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiScrollBarUI",
               })
           .put(
               "RequestWrapper",
-              new Import[] {
-                new Import("RequestWrapper", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.RequestWrapper",
               })
           .put(
               "LOAD_FILE",
-              new Import[] {
-                new Import("LOAD_FILE", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.LOAD_FILE",
               })
           .put(
               "BOTH",
-              new Import[] {
-                new Import("BOTH", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.BOTH",
               })
           .put(
               "TableView",
-              new Import[] {
-                new Import("TableView", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.TableView",
               })
           .put(
               "procedureResultUnknown",
-              new Import[] {
-                new Import("procedureResultUnknown", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.procedureResultUnknown",
               })
           .put(
               "setIn",
-              new Import[] {
-                new Import("setIn", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.setIn",
               })
           .put(
               "SO_TIMEOUT",
-              new Import[] {
-                new Import("SO_TIMEOUT", "java.net.SocketOptions", true),
+              new String[] {
+                "static java.net.SocketOptions.SO_TIMEOUT",
               })
           .put(
               "ConcurrentMap",
-              new Import[] {
-                new Import("ConcurrentMap", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ConcurrentMap",
               })
           .put(
               "NetworkInterface",
-              new Import[] {
-                new Import("NetworkInterface", "java.net", false),
+              new String[] {
+                "java.net.NetworkInterface",
               })
           .put(
               "_NO_IMPLICIT_ACTIVATION",
-              new Import[] {
-                new Import(
-                    "_NO_IMPLICIT_ACTIVATION",
-                    "org.omg.PortableServer.ImplicitActivationPolicyValue",
-                    true),
+              new String[] {
+                "static"
+                    + " org.omg.PortableServer.ImplicitActivationPolicyValue._NO_IMPLICIT_ACTIVATION",
               })
           .put(
               "ETHIOPIC_SUPPLEMENT",
-              new Import[] {
-                new Import("ETHIOPIC_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ETHIOPIC_SUPPLEMENT",
               })
           .put(
               "ManagedBlocker",
-              new Import[] {
-                new Import("ManagedBlocker", "java.util.concurrent.ForkJoinPool", false),
+              new String[] {
+                "java.util.concurrent.ForkJoinPool.ManagedBlocker",
               })
           .put(
               "EXTENSION_LIST",
-              new Import[] {
-                new Import("EXTENSION_LIST", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.EXTENSION_LIST",
               })
           .put(
               "getImageTranscoders",
-              new Import[] {
-                new Import("getImageTranscoders", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getImageTranscoders",
               })
           .put(
               "BasicLookAndFeel",
-              new Import[] {
-                new Import("BasicLookAndFeel", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicLookAndFeel",
               })
           .put(
               "IS_NAMESPACE_AWARE",
-              new Import[] {
-                new Import("IS_NAMESPACE_AWARE", "javax.xml.stream.XMLInputFactory", true),
+              new String[] {
+                "static javax.xml.stream.XMLInputFactory.IS_NAMESPACE_AWARE",
               })
           .put(
               "unbind",
-              new Import[] {
-                new Import("unbind", "java.rmi.Naming", true),
+              new String[] {
+                "static java.rmi.Naming.unbind",
               })
           .put(
               "CENDSK",
-              new Import[] {
-                new Import("CENDSK", "java.util.jar.JarEntry", true),
-                new Import("CENDSK", "java.util.jar.JarFile", true),
-                new Import("CENDSK", "java.util.jar.JarInputStream", true),
-                new Import("CENDSK", "java.util.jar.JarOutputStream", true),
-                new Import("CENDSK", "java.util.zip.ZipEntry", true),
-                new Import("CENDSK", "java.util.zip.ZipFile", true),
-                new Import("CENDSK", "java.util.zip.ZipInputStream", true),
-                new Import("CENDSK", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENDSK",
+                "static java.util.jar.JarFile.CENDSK",
+                "static java.util.jar.JarInputStream.CENDSK",
+                "static java.util.jar.JarOutputStream.CENDSK",
+                "static java.util.zip.ZipEntry.CENDSK",
+                "static java.util.zip.ZipFile.CENDSK",
+                "static java.util.zip.ZipInputStream.CENDSK",
+                "static java.util.zip.ZipOutputStream.CENDSK",
               })
           .put(
               "MouseInputListener",
-              new Import[] {
-                new Import("MouseInputListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.MouseInputListener",
               })
           .put(
               "FEATURE_SECURE_PROCESSING",
-              new Import[] {
-                new Import("FEATURE_SECURE_PROCESSING", "javax.xml.XMLConstants", true),
+              new String[] {
+                "static javax.xml.XMLConstants.FEATURE_SECURE_PROCESSING",
               })
           .put(
               "FEATURE_XMLFILTER",
-              new Import[] {
-                new Import(
-                    "FEATURE_XMLFILTER", "javax.xml.transform.sax.SAXTransformerFactory", true),
+              new String[] {
+                "static javax.xml.transform.sax.SAXTransformerFactory.FEATURE_XMLFILTER",
               })
           .put(
               "dk_Fixed",
-              new Import[] {
-                new Import("dk_Fixed", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Fixed",
               })
           .put(
               "SC_ENUM",
-              new Import[] {
-                new Import("SC_ENUM", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.SC_ENUM",
               })
           .put(
               "DstOut",
-              new Import[] {
-                new Import("DstOut", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.DstOut",
               })
           .put(
               "MBeanParameterInfo",
-              new Import[] {
-                new Import("MBeanParameterInfo", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanParameterInfo",
               })
           .build();
 }
@@ -2,1585 +2,1558 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk25 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "SECONDARY",
-              new Import[] {
-                new Import("SECONDARY", "java.text.Collator", true),
+              new String[] {
+                "static java.text.Collator.SECONDARY",
               })
           .put(
               "MINUS",
-              new Import[] {
-                new Import("MINUS", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.MINUS",
               })
           .put(
               "checkPermission",
-              new Import[] {
-                new Import("checkPermission", "java.security.AccessController", true),
+              new String[] {
+                "static java.security.AccessController.checkPermission",
               })
           .put(
               "DEFAULT_OPTION",
-              new Import[] {
-                new Import("DEFAULT_OPTION", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.DEFAULT_OPTION",
               })
           .put(
               "VK_COPY",
-              new Import[] {
-                new Import("VK_COPY", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_COPY",
               })
           .put(
               "NotFoundReasonHolder",
-              new Import[] {
-                new Import("NotFoundReasonHolder", "org.omg.CosNaming.NamingContextPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.NotFoundReasonHolder",
               })
           .put(
               "LABEL_FOR_PROPERTY",
-              new Import[] {
-                new Import("LABEL_FOR_PROPERTY", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.LABEL_FOR_PROPERTY",
               })
           .put(
               "POPUP_LAYER",
-              new Import[] {
-                new Import("POPUP_LAYER", "javax.swing.JLayeredPane", true),
+              new String[] {
+                "static javax.swing.JLayeredPane.POPUP_LAYER",
               })
           .put(
               "CropImageFilter",
-              new Import[] {
-                new Import("CropImageFilter", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.CropImageFilter",
               })
           .put(
               "IIOMetadataNode",
-              new Import[] {
-                new Import("IIOMetadataNode", "javax.imageio.metadata", false),
+              new String[] {
+                "javax.imageio.metadata.IIOMetadataNode",
               })
           .put(
               "COLLAPSED",
-              new Import[] {
-                new Import("COLLAPSED", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.COLLAPSED",
               })
           .put(
               "DirObjectFactory",
-              new Import[] {
-                new Import("DirObjectFactory", "javax.naming.spi", false),
+              new String[] {
+                "javax.naming.spi.DirObjectFactory",
               })
           .put(
               "INDEX_SIZE_ERR",
-              new Import[] {
-                new Import("INDEX_SIZE_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.INDEX_SIZE_ERR",
               })
           .put(
               "getWordInstance",
-              new Import[] {
-                new Import("getWordInstance", "java.text.BreakIterator", true),
+              new String[] {
+                "static java.text.BreakIterator.getWordInstance",
               })
           .put(
               "LSParserFilter",
-              new Import[] {
-                new Import("LSParserFilter", "org.w3c.dom.ls", false),
+              new String[] {
+                "org.w3c.dom.ls.LSParserFilter",
               })
           .put(
               "UndoableEditEvent",
-              new Import[] {
-                new Import("UndoableEditEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.UndoableEditEvent",
               })
           .put(
               "Method",
-              new Import[] {
-                new Import("Method", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.Method",
               })
           .put(
               "GOPHER",
-              new Import[] {
-                new Import(
-                    "GOPHER", "javax.print.attribute.standard.ReferenceUriSchemesSupported", true),
+              new String[] {
+                "static javax.print.attribute.standard.ReferenceUriSchemesSupported.GOPHER",
               })
           .put(
               "icSigUcrBgTag",
-              new Import[] {
-                new Import("icSigUcrBgTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigUcrBgTag",
               })
           .put(
               "HTTP_OK",
-              new Import[] {
-                new Import("HTTP_OK", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_OK",
               })
           .put(
               "DefinitionKindHelper",
-              new Import[] {
-                new Import("DefinitionKindHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.DefinitionKindHelper",
               })
           .put(
               "ContentModel",
-              new Import[] {
-                new Import("ContentModel", "javax.swing.text.html.parser", false),
+              new String[] {
+                "javax.swing.text.html.parser.ContentModel",
               })
           .put(
               "ELEMENT_NODE",
-              new Import[] {
-                new Import("ELEMENT_NODE", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.ELEMENT_NODE",
               })
           .put(
               "XAResource",
-              new Import[] {
-                new Import("XAResource", "javax.transaction.xa", false),
+              new String[] {
+                "javax.transaction.xa.XAResource",
               })
           .put(
               "DEFAULT_LIFETIME",
-              new Import[] {
-                new Import("DEFAULT_LIFETIME", "org.ietf.jgss.GSSContext", true),
-                new Import("DEFAULT_LIFETIME", "org.ietf.jgss.GSSCredential", true),
+              new String[] {
+                "static org.ietf.jgss.GSSContext.DEFAULT_LIFETIME",
+                "static org.ietf.jgss.GSSCredential.DEFAULT_LIFETIME",
               })
           .put(
               "CREDENTIALS_EXPIRED",
-              new Import[] {
-                new Import("CREDENTIALS_EXPIRED", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.CREDENTIALS_EXPIRED",
               })
           .put(
               "DIRECTIONALITY_OTHER_NEUTRALS",
-              new Import[] {
-                new Import("DIRECTIONALITY_OTHER_NEUTRALS", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_OTHER_NEUTRALS",
               })
           .put(
               "CHILD_NODE_OF_PROPERTY",
-              new Import[] {
-                new Import(
-                    "CHILD_NODE_OF_PROPERTY", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.CHILD_NODE_OF_PROPERTY",
               })
           .put(
               "AnnotationValueVisitor",
-              new Import[] {
-                new Import("AnnotationValueVisitor", "javax.lang.model.element", false),
+              new String[] {
+                "javax.lang.model.element.AnnotationValueVisitor",
               })
           .put(
               "InetAddress",
-              new Import[] {
-                new Import("InetAddress", "java.net", false),
+              new String[] {
+                "java.net.InetAddress",
               })
           .put(
               "JList",
-              new Import[] {
-                new Import("JList", "javax.swing", false),
+              new String[] {
+                "javax.swing.JList",
               })
           .put(
               "setLogWriter",
-              new Import[] {
-                new Import("setLogWriter", "java.sql.DriverManager", true),
+              new String[] {
+                "static java.sql.DriverManager.setLogWriter",
               })
           .put(
               "Matcher",
-              new Import[] {
-                new Import("Matcher", "java.util.regex", false),
+              new String[] {
+                "java.util.regex.Matcher",
               })
           .put(
               "OPTION_PANE",
-              new Import[] {
-                new Import("OPTION_PANE", "javax.accessibility.AccessibleRole", true),
-                new Import("OPTION_PANE", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.OPTION_PANE",
+                "static javax.swing.plaf.synth.Region.OPTION_PANE",
               })
           .put(
               "MetalCheckBoxUI",
-              new Import[] {
-                new Import("MetalCheckBoxUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalCheckBoxUI",
               })
           .put(
               "TOLEFT_TOTOP",
-              new Import[] {
-                new Import(
-                    "TOLEFT_TOTOP", "javax.print.attribute.standard.PresentationDirection", true),
+              new String[] {
+                "static javax.print.attribute.standard.PresentationDirection.TOLEFT_TOTOP",
               })
           .put(
               "CertPathTrustManagerParameters",
-              new Import[] {
-                new Import("CertPathTrustManagerParameters", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.CertPathTrustManagerParameters",
               })
           .put(
               "PUBLIC_XML_SCHEMA",
-              new Import[] {
-                new Import("PUBLIC_XML_SCHEMA", "javax.sql.rowset.WebRowSet", true),
+              new String[] {
+                "static javax.sql.rowset.WebRowSet.PUBLIC_XML_SCHEMA",
               })
           .put(
               "SupportedValuesAttribute",
-              new Import[] {
-                new Import("SupportedValuesAttribute", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.SupportedValuesAttribute",
               })
           .put(
               "RequestInfo",
-              new Import[] {
-                new Import("RequestInfo", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.RequestInfo",
               })
           .put(
               "CENCRC",
-              new Import[] {
-                new Import("CENCRC", "java.util.jar.JarEntry", true),
-                new Import("CENCRC", "java.util.jar.JarFile", true),
-                new Import("CENCRC", "java.util.jar.JarInputStream", true),
-                new Import("CENCRC", "java.util.jar.JarOutputStream", true),
-                new Import("CENCRC", "java.util.zip.ZipEntry", true),
-                new Import("CENCRC", "java.util.zip.ZipFile", true),
-                new Import("CENCRC", "java.util.zip.ZipInputStream", true),
-                new Import("CENCRC", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENCRC",
+                "static java.util.jar.JarFile.CENCRC",
+                "static java.util.jar.JarInputStream.CENCRC",
+                "static java.util.jar.JarOutputStream.CENCRC",
+                "static java.util.zip.ZipEntry.CENCRC",
+                "static java.util.zip.ZipFile.CENCRC",
+                "static java.util.zip.ZipInputStream.CENCRC",
+                "static java.util.zip.ZipOutputStream.CENCRC",
               })
           .put(
               "FAMILY",
-              new Import[] {
-                new Import("FAMILY", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.FAMILY",
               })
           .put(
               "ImageReaderSpi",
-              new Import[] {
-                new Import("ImageReaderSpi", "javax.imageio.spi", false),
+              new String[] {
+                "javax.imageio.spi.ImageReaderSpi",
               })
           .put(
               "RelationNotFoundException",
-              new Import[] {
-                new Import("RelationNotFoundException", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RelationNotFoundException",
               })
           .put(
               "NotBoundException",
-              new Import[] {
-                new Import("NotBoundException", "java.rmi", false),
+              new String[] {
+                "java.rmi.NotBoundException",
               })
           .put(
               "UnknownElementException",
-              new Import[] {
-                new Import("UnknownElementException", "javax.lang.model.element", false),
+              new String[] {
+                "javax.lang.model.element.UnknownElementException",
               })
           .put(
               "AncestorListener",
-              new Import[] {
-                new Import("AncestorListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.AncestorListener",
               })
           .put(
               "Transient",
-              new Import[] {
-                new Import("Transient", "java.beans", false),
+              new String[] {
+                "java.beans.Transient",
               })
           .put(
               "Paths",
-              new Import[] {
-                new Import("Paths", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.Paths",
               })
           .put(
               "ICON",
-              new Import[] {
-                new Import("ICON", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.ICON",
               })
           .put(
               "UserException",
-              new Import[] {
-                new Import("UserException", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.UserException",
               })
           .put(
               "SHA224",
-              new Import[] {
-                new Import("SHA224", "java.security.spec.MGF1ParameterSpec", true),
+              new String[] {
+                "static java.security.spec.MGF1ParameterSpec.SHA224",
               })
           .put(
               "TYPE_QUADRANT_ROTATION",
-              new Import[] {
-                new Import("TYPE_QUADRANT_ROTATION", "java.awt.geom.AffineTransform", true),
+              new String[] {
+                "static java.awt.geom.AffineTransform.TYPE_QUADRANT_ROTATION",
               })
           .put(
               "NimbusStyle",
-              new Import[] {
-                new Import("NimbusStyle", "javax.swing.plaf.nimbus", false),
+              new String[] {
+                "javax.swing.plaf.nimbus.NimbusStyle",
               })
           .put(
               "NameList",
-              new Import[] {
-                new Import("NameList", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.NameList",
               })
           .put(
               "TAG_KERN",
-              new Import[] {
-                new Import("TAG_KERN", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_KERN",
               })
           .put(
               "INVOCATION_FIRST",
-              new Import[] {
-                new Import("INVOCATION_FIRST", "java.awt.event.InvocationEvent", true),
+              new String[] {
+                "static java.awt.event.InvocationEvent.INVOCATION_FIRST",
               })
           .put(
               "CertificateEncodingException",
-              new Import[] {
-                new Import("CertificateEncodingException", "java.security.cert", false),
-                new Import("CertificateEncodingException", "javax.security.cert", false),
+              new String[] {
+                "java.security.cert.CertificateEncodingException",
+                "javax.security.cert.CertificateEncodingException",
               })
           .put(
               "KeyPairGenerator",
-              new Import[] {
-                new Import("KeyPairGenerator", "java.security", false),
+              new String[] {
+                "java.security.KeyPairGenerator",
               })
           .put(
               "WrongTransactionHolder",
-              new Import[] {
-                new Import("WrongTransactionHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.WrongTransactionHolder",
               })
           .put(
               "SynthListUI",
-              new Import[] {
-                new Import("SynthListUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthListUI",
               })
           .put(
               "isFileTypeSupported",
-              new Import[] {
-                new Import("isFileTypeSupported", "javax.sound.midi.MidiSystem", true),
-                new Import("isFileTypeSupported", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.midi.MidiSystem.isFileTypeSupported",
+                "static javax.sound.sampled.AudioSystem.isFileTypeSupported",
               })
           .put(
               "CHOU_4",
-              new Import[] {
-                new Import("CHOU_4", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.CHOU_4",
               })
           .put(
               "RasterOp",
-              new Import[] {
-                new Import("RasterOp", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.RasterOp",
               })
           .put(
               "BCSIterator",
-              new Import[] {
-                new Import("BCSIterator", "java.beans.beancontext.BeanContextSupport", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextSupport.BCSIterator",
               })
           .put(
               "VK_PAUSE",
-              new Import[] {
-                new Import("VK_PAUSE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_PAUSE",
               })
           .put(
               "ofCalendarField",
-              new Import[] {
-                new Import("ofCalendarField", "java.text.DateFormat.Field", true),
+              new String[] {
+                "static java.text.DateFormat.Field.ofCalendarField",
               })
           .put(
               "GRADE_NONE",
-              new Import[] {
-                new Import("GRADE_NONE", "javax.sql.rowset.spi.SyncProvider", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncProvider.GRADE_NONE",
               })
           .put(
               "PAN",
-              new Import[] {
-                new Import("PAN", "javax.sound.sampled.FloatControl.Type", true),
+              new String[] {
+                "static javax.sound.sampled.FloatControl.Type.PAN",
               })
           .put(
               "setEditorSearchPath",
-              new Import[] {
-                new Import("setEditorSearchPath", "java.beans.PropertyEditorManager", true),
+              new String[] {
+                "static java.beans.PropertyEditorManager.setEditorSearchPath",
               })
           .put(
               "BiConsumer",
-              new Import[] {
-                new Import("BiConsumer", "java.util.function", false),
+              new String[] {
+                "java.util.function.BiConsumer",
               })
           .put(
               "createRegistry",
-              new Import[] {
-                new Import("createRegistry", "java.rmi.registry.LocateRegistry", true),
+              new String[] {
+                "static java.rmi.registry.LocateRegistry.createRegistry",
               })
           .put(
               "SYSTEM",
-              new Import[] {
-                new Import("SYSTEM", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.SYSTEM",
               })
           .put(
               "XPATH",
-              new Import[] {
-                new Import("XPATH", "javax.xml.crypto.dsig.Transform", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.Transform.XPATH",
               })
           .put(
               "TYPE_Lab",
-              new Import[] {
-                new Import("TYPE_Lab", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_Lab",
               })
           .put(
               "DescriptorRead",
-              new Import[] {
-                new Import("DescriptorRead", "javax.management", false),
+              new String[] {
+                "javax.management.DescriptorRead",
               })
           .put(
               "ENCLOSED_ALPHANUMERIC_SUPPLEMENT",
-              new Import[] {
-                new Import(
-                    "ENCLOSED_ALPHANUMERIC_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ENCLOSED_ALPHANUMERIC_SUPPLEMENT",
               })
           .put(
               "createImageOutputStream",
-              new Import[] {
-                new Import("createImageOutputStream", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.createImageOutputStream",
               })
           .put(
               "getImageReadersByMIMEType",
-              new Import[] {
-                new Import("getImageReadersByMIMEType", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getImageReadersByMIMEType",
               })
           .put(
               "setChar",
-              new Import[] {
-                new Import("setChar", "java.lang.reflect.Array", true),
+              new String[] {
+                "static java.lang.reflect.Array.setChar",
               })
           .put(
               "createTitledBorder",
-              new Import[] {
-                new Import("createTitledBorder", "javax.swing.BorderFactory", true),
+              new String[] {
+                "static javax.swing.BorderFactory.createTitledBorder",
               })
           .put(
               "NE_RESIZE_CURSOR",
-              new Import[] {
-                new Import("NE_RESIZE_CURSOR", "java.awt.Cursor", true),
-                new Import("NE_RESIZE_CURSOR", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Cursor.NE_RESIZE_CURSOR", "static java.awt.Frame.NE_RESIZE_CURSOR",
               })
           .put(
               "CONTROL_HIGHLIGHT",
-              new Import[] {
-                new Import("CONTROL_HIGHLIGHT", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.CONTROL_HIGHLIGHT",
               })
           .put(
               "COLOR",
-              new Import[] {
-                new Import("COLOR", "java.awt.PageAttributes.ColorType", true),
-                new Import("COLOR", "javax.print.attribute.standard.Chromaticity", true),
-                new Import("COLOR", "javax.swing.text.html.CSS.Attribute", true),
-                new Import("COLOR", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static java.awt.PageAttributes.ColorType.COLOR",
+                "static javax.print.attribute.standard.Chromaticity.COLOR",
+                "static javax.swing.text.html.CSS.Attribute.COLOR",
+                "static javax.swing.text.html.HTML.Attribute.COLOR",
               })
           .put(
               "DOMImplementationRegistry",
-              new Import[] {
-                new Import("DOMImplementationRegistry", "org.w3c.dom.bootstrap", false),
+              new String[] {
+                "org.w3c.dom.bootstrap.DOMImplementationRegistry",
               })
           .put(
               "UNAVAILABLE",
-              new Import[] {
-                new Import("UNAVAILABLE", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.UNAVAILABLE",
               })
           .put(
               "HOUR_OF_DAY0_FIELD",
-              new Import[] {
-                new Import("HOUR_OF_DAY0_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.HOUR_OF_DAY0_FIELD",
               })
           .put(
               "UnsupportedOperationException",
-              new Import[] {
-                new Import("UnsupportedOperationException", "java.lang", false),
+              new String[] {
+                "java.lang.UnsupportedOperationException",
               })
           .put(
               "ECPrivateKey",
-              new Import[] {
-                new Import("ECPrivateKey", "java.security.interfaces", false),
+              new String[] {
+                "java.security.interfaces.ECPrivateKey",
               })
           .put(
               "SERVLET_RESPONSE",
-              new Import[] {
-                new Import("SERVLET_RESPONSE", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.handler.MessageContext.SERVLET_RESPONSE",
               })
           .put(
               "loadClassWithout",
-              new Import[] {
-                new Import("loadClassWithout", "javax.management.DefaultLoaderRepository", true),
-                new Import(
-                    "loadClassWithout", "javax.management.loading.DefaultLoaderRepository", true),
+              new String[] {
+                "static javax.management.DefaultLoaderRepository.loadClassWithout",
+                "static javax.management.loading.DefaultLoaderRepository.loadClassWithout",
               })
           .put(
               "UNICODE_CHARACTER_CLASS",
-              new Import[] {
-                new Import("UNICODE_CHARACTER_CLASS", "java.util.regex.Pattern", true),
+              new String[] {
+                "static java.util.regex.Pattern.UNICODE_CHARACTER_CLASS",
               })
           .put(
               "getLoweredBevelBorderUIResource",
-              new Import[] {
-                new Import(
-                    "getLoweredBevelBorderUIResource", "javax.swing.plaf.BorderUIResource", true),
+              new String[] {
+                "static javax.swing.plaf.BorderUIResource.getLoweredBevelBorderUIResource",
               })
           .put(
               "NO_ROW_CONFLICT",
-              new Import[] {
-                new Import("NO_ROW_CONFLICT", "javax.sql.rowset.spi.SyncResolver", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncResolver.NO_ROW_CONFLICT",
               })
           .put(
               "NameValuePairHelper",
-              new Import[] {
-                new Import("NameValuePairHelper", "org.omg.CORBA", false),
-                new Import("NameValuePairHelper", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.CORBA.NameValuePairHelper", "org.omg.DynamicAny.NameValuePairHelper",
               })
           .put(
               "LinkedList",
-              new Import[] {
-                new Import("LinkedList", "java.util", false),
+              new String[] {
+                "java.util.LinkedList",
               })
           .put(
               "MARKER_WASTE_FULL",
-              new Import[] {
-                new Import(
-                    "MARKER_WASTE_FULL", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.MARKER_WASTE_FULL",
               })
           .put(
               "CROSS_JOIN",
-              new Import[] {
-                new Import("CROSS_JOIN", "javax.sql.rowset.JoinRowSet", true),
+              new String[] {
+                "static javax.sql.rowset.JoinRowSet.CROSS_JOIN",
               })
           .put(
               "getDesktopPaneForComponent",
-              new Import[] {
-                new Import("getDesktopPaneForComponent", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.getDesktopPaneForComponent",
               })
           .put(
               "Role",
-              new Import[] {
-                new Import("Role", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.Role",
               })
           .put(
               "DIRECTIONALITY_UNDEFINED",
-              new Import[] {
-                new Import("DIRECTIONALITY_UNDEFINED", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_UNDEFINED",
               })
           .put(
               "spliteratorUnknownSize",
-              new Import[] {
-                new Import("spliteratorUnknownSize", "java.util.Spliterators", true),
+              new String[] {
+                "static java.util.Spliterators.spliteratorUnknownSize",
               })
           .put(
               "sharedInstance",
-              new Import[] {
-                new Import("sharedInstance", "javax.swing.ToolTipManager", true),
-                new Import("sharedInstance", "javax.swing.JTree.EmptySelectionModel", true),
+              new String[] {
+                "static javax.swing.ToolTipManager.sharedInstance",
+                "static javax.swing.JTree.EmptySelectionModel.sharedInstance",
               })
           .put(
               "PCL",
-              new Import[] {
-                new Import("PCL", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("PCL", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("PCL", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.PCL",
+                "static javax.print.DocFlavor.INPUT_STREAM.PCL",
+                "static javax.print.DocFlavor.URL.PCL",
               })
           .put(
               "XMLEvent",
-              new Import[] {
-                new Import("XMLEvent", "javax.xml.stream.events", false),
+              new String[] {
+                "javax.xml.stream.events.XMLEvent",
               })
           .put(
               "SynthSliderUI",
-              new Import[] {
-                new Import("SynthSliderUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthSliderUI",
               })
           .put(
               "AreaAveragingScaleFilter",
-              new Import[] {
-                new Import("AreaAveragingScaleFilter", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.AreaAveragingScaleFilter",
               })
           .put(
               "ENCRYPT",
-              new Import[] {
-                new Import("ENCRYPT", "javax.xml.crypto.KeySelector.Purpose", true),
+              new String[] {
+                "static javax.xml.crypto.KeySelector.Purpose.ENCRYPT",
               })
           .put(
               "Patch",
-              new Import[] {
-                new Import("Patch", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.Patch",
               })
           .put(
               "Caret",
-              new Import[] {
-                new Import("Caret", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.Caret",
               })
           .put(
               "HTTP_NOT_FOUND",
-              new Import[] {
-                new Import("HTTP_NOT_FOUND", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_NOT_FOUND",
               })
           .put(
               "ServantAlreadyActiveHelper",
-              new Import[] {
-                new Import(
-                    "ServantAlreadyActiveHelper", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper",
               })
           .put(
               "BasicPermission",
-              new Import[] {
-                new Import("BasicPermission", "java.security", false),
+              new String[] {
+                "java.security.BasicPermission",
               })
           .put(
               "_NamingContextExtStub",
-              new Import[] {
-                new Import("_NamingContextExtStub", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming._NamingContextExtStub",
               })
           .put(
               "ADD_FILE",
-              new Import[] {
-                new Import("ADD_FILE", "java.nio.file.attribute.AclEntryPermission", true),
+              new String[] {
+                "static java.nio.file.attribute.AclEntryPermission.ADD_FILE",
               })
           .put(
               "GRADE_CHECK_ALL_AT_COMMIT",
-              new Import[] {
-                new Import("GRADE_CHECK_ALL_AT_COMMIT", "javax.sql.rowset.spi.SyncProvider", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncProvider.GRADE_CHECK_ALL_AT_COMMIT",
               })
           .put(
               "BINARY",
-              new Import[] {
-                new Import("BINARY", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.BINARY",
               })
           .put(
               "IntToDoubleFunction",
-              new Import[] {
-                new Import("IntToDoubleFunction", "java.util.function", false),
+              new String[] {
+                "java.util.function.IntToDoubleFunction",
               })
           .put(
               "WINDOW_CLOSING",
-              new Import[] {
-                new Import("WINDOW_CLOSING", "java.awt.event.WindowEvent", true),
+              new String[] {
+                "static java.awt.event.WindowEvent.WINDOW_CLOSING",
               })
           .put(
               "EDGE_ZERO_FILL",
-              new Import[] {
-                new Import("EDGE_ZERO_FILL", "java.awt.image.ConvolveOp", true),
+              new String[] {
+                "static java.awt.image.ConvolveOp.EDGE_ZERO_FILL",
               })
           .put(
               "ViewportUI",
-              new Import[] {
-                new Import("ViewportUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.ViewportUI",
               })
           .put(
               "tanh",
-              new Import[] {
-                new Import("tanh", "java.lang.Math", true),
-                new Import("tanh", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.tanh", "static java.lang.StrictMath.tanh",
               })
           .put(
               "Field",
-              new Import[] {
-                new Import("Field", "java.lang.reflect", false),
-                new Import("Field", "java.text.DateFormat", false),
-                new Import("Field", "java.text.Format", false),
-                new Import("Field", "java.text.MessageFormat", false),
-                new Import("Field", "java.text.NumberFormat", false),
-                new Import("Field", "javax.xml.datatype.DatatypeConstants", false),
+              new String[] {
+                "java.lang.reflect.Field",
+                "java.text.DateFormat.Field",
+                "java.text.Format.Field",
+                "java.text.MessageFormat.Field",
+                "java.text.NumberFormat.Field",
+                "javax.xml.datatype.DatatypeConstants.Field",
               })
           .put(
               "PDF",
-              new Import[] {
-                new Import("PDF", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("PDF", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("PDF", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.PDF",
+                "static javax.print.DocFlavor.INPUT_STREAM.PDF",
+                "static javax.print.DocFlavor.URL.PDF",
               })
           .put(
               "_tk_boolean",
-              new Import[] {
-                new Import("_tk_boolean", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_boolean",
               })
           .put(
               "TRACKING",
-              new Import[] {
-                new Import("TRACKING", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.TRACKING",
               })
           .put(
               "availableCharsets",
-              new Import[] {
-                new Import("availableCharsets", "java.nio.charset.Charset", true),
+              new String[] {
+                "static java.nio.charset.Charset.availableCharsets",
               })
           .put(
               "ULongSeqHelper",
-              new Import[] {
-                new Import("ULongSeqHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ULongSeqHelper",
               })
           .put(
               "NO_RESOURCES",
-              new Import[] {
-                new Import("NO_RESOURCES", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.NO_RESOURCES",
               })
           .put(
               "ENV_11",
-              new Import[] {
-                new Import("ENV_11", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ENV_11",
               })
           .put(
               "ENV_12",
-              new Import[] {
-                new Import("ENV_12", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ENV_12",
               })
           .put(
               "MalformedParameterizedTypeException",
-              new Import[] {
-                new Import("MalformedParameterizedTypeException", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.MalformedParameterizedTypeException",
               })
           .put(
               "ENV_10",
-              new Import[] {
-                new Import("ENV_10", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ENV_10",
               })
           .put(
               "FormatConversionProvider",
-              new Import[] {
-                new Import("FormatConversionProvider", "javax.sound.sampled.spi", false),
+              new String[] {
+                "javax.sound.sampled.spi.FormatConversionProvider",
               })
           .put(
               "NO_RESPONSE",
-              new Import[] {
-                new Import("NO_RESPONSE", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.NO_RESPONSE",
               })
           .put(
               "_dk_Constant",
-              new Import[] {
-                new Import("_dk_Constant", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Constant",
               })
           .put(
               "ENV_14",
-              new Import[] {
-                new Import("ENV_14", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ENV_14",
               })
           .put(
               "SocketOptions",
-              new Import[] {
-                new Import("SocketOptions", "java.net", false),
+              new String[] {
+                "java.net.SocketOptions",
               })
           .put(
               "K1Luminance",
-              new Import[] {
-                new Import("K1Luminance", "javax.imageio.plugins.jpeg.JPEGQTable", true),
+              new String[] {
+                "static javax.imageio.plugins.jpeg.JPEGQTable.K1Luminance",
               })
           .put(
               "APPROVE_OPTION",
-              new Import[] {
-                new Import("APPROVE_OPTION", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.APPROVE_OPTION",
               })
           .put(
               "RSA_TYPE",
-              new Import[] {
-                new Import("RSA_TYPE", "javax.xml.crypto.dsig.keyinfo.KeyValue", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.keyinfo.KeyValue.RSA_TYPE",
               })
           .put(
               "DisplayMode",
-              new Import[] {
-                new Import("DisplayMode", "java.awt", false),
+              new String[] {
+                "java.awt.DisplayMode",
               })
           .put(
               "SCROLLBARS_AS_NEEDED",
-              new Import[] {
-                new Import("SCROLLBARS_AS_NEEDED", "java.awt.ScrollPane", true),
+              new String[] {
+                "static java.awt.ScrollPane.SCROLLBARS_AS_NEEDED",
               })
           .put(
               "getSocketFactory",
-              new Import[] {
-                new Import("getSocketFactory", "java.rmi.server.RMISocketFactory", true),
+              new String[] {
+                "static java.rmi.server.RMISocketFactory.getSocketFactory",
               })
           .put(
               "Autoscroll",
-              new Import[] {
-                new Import("Autoscroll", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.Autoscroll",
               })
           .put(
               "ThaiBuddhistDate",
-              new Import[] {
-                new Import("ThaiBuddhistDate", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.ThaiBuddhistDate",
               })
           .put(
               "KEY_PRESSED",
-              new Import[] {
-                new Import("KEY_PRESSED", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.KEY_PRESSED",
               })
           .put(
               "DARK_GRAY",
-              new Import[] {
-                new Import("DARK_GRAY", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.DARK_GRAY",
               })
           .put(
               "getControlDarkShadow",
-              new Import[] {
-                new Import("getControlDarkShadow", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getControlDarkShadow",
               })
           .put(
               "ValueInputStream",
-              new Import[] {
-                new Import("ValueInputStream", "org.omg.CORBA.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.ValueInputStream",
               })
           .put(
               "JPanel",
-              new Import[] {
-                new Import("JPanel", "javax.swing", false),
+              new String[] {
+                "javax.swing.JPanel",
               })
           .put(
               "registerStaticAttributeKey",
-              new Import[] {
-                new Import("registerStaticAttributeKey", "javax.swing.text.StyleContext", true),
+              new String[] {
+                "static javax.swing.text.StyleContext.registerStaticAttributeKey",
               })
           .put(
               "PropertyEditorManager",
-              new Import[] {
-                new Import("PropertyEditorManager", "java.beans", false),
+              new String[] {
+                "java.beans.PropertyEditorManager",
               })
           .put(
               "importedKeyNoAction",
-              new Import[] {
-                new Import("importedKeyNoAction", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.importedKeyNoAction",
               })
           .put(
               "GlyphMetrics",
-              new Import[] {
-                new Import("GlyphMetrics", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.GlyphMetrics",
               })
           .put(
               "ISO_C10",
-              new Import[] {
-                new Import("ISO_C10", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C10",
               })
           .put(
               "HALIGN",
-              new Import[] {
-                new Import("HALIGN", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.HALIGN",
               })
           .put(
               "DOMConfiguration",
-              new Import[] {
-                new Import("DOMConfiguration", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.DOMConfiguration",
               })
           .put(
               "DSAParams",
-              new Import[] {
-                new Import("DSAParams", "java.security.interfaces", false),
+              new String[] {
+                "java.security.interfaces.DSAParams",
               })
           .put(
               "NotLinkException",
-              new Import[] {
-                new Import("NotLinkException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.NotLinkException",
               })
           .put(
               "bestRowSession",
-              new Import[] {
-                new Import("bestRowSession", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.bestRowSession",
               })
           .put(
               "LEFT_TO_RIGHT",
-              new Import[] {
-                new Import("LEFT_TO_RIGHT", "java.awt.ComponentOrientation", true),
+              new String[] {
+                "static java.awt.ComponentOrientation.LEFT_TO_RIGHT",
               })
           .put(
               "ActivationGroup",
-              new Import[] {
-                new Import("ActivationGroup", "java.rmi.activation", false),
+              new String[] {
+                "java.rmi.activation.ActivationGroup",
               })
           .put(
               "identityHashCode",
-              new Import[] {
-                new Import("identityHashCode", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.identityHashCode",
               })
           .put(
               "ArrayBlockingQueue",
-              new Import[] {
-                new Import("ArrayBlockingQueue", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ArrayBlockingQueue",
               })
           .put(
               "PrintJobAttributeListener",
-              new Import[] {
-                new Import("PrintJobAttributeListener", "javax.print.event", false),
+              new String[] {
+                "javax.print.event.PrintJobAttributeListener",
               })
           .put(
               "RFC2253",
-              new Import[] {
-                new Import("RFC2253", "javax.security.auth.x500.X500Principal", true),
+              new String[] {
+                "static javax.security.auth.x500.X500Principal.RFC2253",
               })
           .put(
               "ATTRIBUTE_CHANGE",
-              new Import[] {
-                new Import(
-                    "ATTRIBUTE_CHANGE", "javax.management.AttributeChangeNotification", true),
+              new String[] {
+                "static javax.management.AttributeChangeNotification.ATTRIBUTE_CHANGE",
               })
           .put(
               "KeyInfo",
-              new Import[] {
-                new Import("KeyInfo", "javax.xml.crypto.dsig.keyinfo", false),
+              new String[] {
+                "javax.xml.crypto.dsig.keyinfo.KeyInfo",
               })
           .put(
               "Delegate",
-              new Import[] {
-                new Import("Delegate", "org.omg.CORBA.portable", false),
-                new Import("Delegate", "org.omg.CORBA_2_3.portable", false),
-                new Import("Delegate", "org.omg.PortableServer.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.Delegate",
+                "org.omg.CORBA_2_3.portable.Delegate",
+                "org.omg.PortableServer.portable.Delegate",
               })
           .put(
               "BUTTON2_MASK",
-              new Import[] {
-                new Import("BUTTON2_MASK", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.event.InputEvent.BUTTON2_MASK",
               })
           .put(
               "fieldsIn",
-              new Import[] {
-                new Import("fieldsIn", "javax.lang.model.util.ElementFilter", true),
+              new String[] {
+                "static javax.lang.model.util.ElementFilter.fieldsIn",
               })
           .put(
               "unchecked_narrow",
-              new Import[] {
-                new Import("unchecked_narrow", "org.omg.CosNaming.BindingIteratorHelper", true),
-                new Import("unchecked_narrow", "org.omg.CosNaming.NamingContextExtHelper", true),
-                new Import("unchecked_narrow", "org.omg.CosNaming.NamingContextHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynAnyFactoryHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynAnyHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynArrayHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynEnumHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynFixedHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynSequenceHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynStructHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynUnionHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynValueHelper", true),
-                new Import("unchecked_narrow", "org.omg.IOP.CodecFactoryHelper", true),
-                new Import("unchecked_narrow", "org.omg.PortableInterceptor.CurrentHelper", true),
-                new Import(
-                    "unchecked_narrow",
-                    "org.omg.PortableInterceptor.IORInterceptor_3_0Helper",
-                    true),
-                new Import(
-                    "unchecked_narrow", "org.omg.PortableServer.ServantActivatorHelper", true),
-                new Import("unchecked_narrow", "org.omg.PortableServer.ServantLocatorHelper", true),
+              new String[] {
+                "static org.omg.CosNaming.BindingIteratorHelper.unchecked_narrow",
+                "static org.omg.CosNaming.NamingContextExtHelper.unchecked_narrow",
+                "static org.omg.CosNaming.NamingContextHelper.unchecked_narrow",
+                "static org.omg.DynamicAny.DynAnyFactoryHelper.unchecked_narrow",
+                "static org.omg.DynamicAny.DynAnyHelper.unchecked_narrow",
+                "static org.omg.DynamicAny.DynArrayHelper.unchecked_narrow",
+                "static org.omg.DynamicAny.DynEnumHelper.unchecked_narrow",
+                "static org.omg.DynamicAny.DynFixedHelper.unchecked_narrow",
+                "static org.omg.DynamicAny.DynSequenceHelper.unchecked_narrow",
+                "static org.omg.DynamicAny.DynStructHelper.unchecked_narrow",
+                "static org.omg.DynamicAny.DynUnionHelper.unchecked_narrow",
+                "static org.omg.DynamicAny.DynValueHelper.unchecked_narrow",
+                "static org.omg.IOP.CodecFactoryHelper.unchecked_narrow",
+                "static org.omg.PortableInterceptor.CurrentHelper.unchecked_narrow",
+                "static org.omg.PortableInterceptor.IORInterceptor_3_0Helper.unchecked_narrow",
+                "static org.omg.PortableServer.ServantActivatorHelper.unchecked_narrow",
+                "static org.omg.PortableServer.ServantLocatorHelper.unchecked_narrow",
               })
           .put(
               "SOAPBodyElement",
-              new Import[] {
-                new Import("SOAPBodyElement", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SOAPBodyElement",
               })
           .put(
               "InvalidActivityException",
-              new Import[] {
-                new Import("InvalidActivityException", "javax.activity", false),
+              new String[] {
+                "javax.activity.InvalidActivityException",
               })
           .put(
               "dk_Sequence",
-              new Import[] {
-                new Import("dk_Sequence", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Sequence",
               })
           .put(
               "isConversionSupported",
-              new Import[] {
-                new Import("isConversionSupported", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.sampled.AudioSystem.isConversionSupported",
               })
           .put(
               "BasicTextUI",
-              new Import[] {
-                new Import("BasicTextUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicTextUI",
               })
           .put(
               "catchException",
-              new Import[] {
-                new Import("catchException", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.catchException",
               })
           .put(
               "AuthPermission",
-              new Import[] {
-                new Import("AuthPermission", "javax.security.auth", false),
+              new String[] {
+                "javax.security.auth.AuthPermission",
               })
           .put(
               "END_ELEMENT",
-              new Import[] {
-                new Import("END_ELEMENT", "javax.xml.stream.XMLStreamConstants", true),
+              new String[] {
+                "static javax.xml.stream.XMLStreamConstants.END_ELEMENT",
               })
           .put(
               "RandomAccess",
-              new Import[] {
-                new Import("RandomAccess", "java.util", false),
+              new String[] {
+                "java.util.RandomAccess",
               })
           .put(
               "IntConsumer",
-              new Import[] {
-                new Import("IntConsumer", "java.util.function", false),
+              new String[] {
+                "java.util.function.IntConsumer",
               })
           .put(
               "reorderVisually",
-              new Import[] {
-                new Import("reorderVisually", "java.text.Bidi", true),
+              new String[] {
+                "static java.text.Bidi.reorderVisually",
               })
           .put(
               "TAG_HMTX",
-              new Import[] {
-                new Import("TAG_HMTX", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_HMTX",
               })
           .put(
               "KeyGeneratorSpi",
-              new Import[] {
-                new Import("KeyGeneratorSpi", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.KeyGeneratorSpi",
               })
           .put(
               "DISCONTIGUOUS_TREE_SELECTION",
-              new Import[] {
-                new Import(
-                    "DISCONTIGUOUS_TREE_SELECTION", "javax.swing.tree.TreeSelectionModel", true),
+              new String[] {
+                "static javax.swing.tree.TreeSelectionModel.DISCONTIGUOUS_TREE_SELECTION",
               })
           .put(
               "DomainLoadStoreParameter",
-              new Import[] {
-                new Import("DomainLoadStoreParameter", "java.security", false),
+              new String[] {
+                "java.security.DomainLoadStoreParameter",
               })
           .put(
               "SO_OOBINLINE",
-              new Import[] {
-                new Import("SO_OOBINLINE", "java.net.SocketOptions", true),
+              new String[] {
+                "static java.net.SocketOptions.SO_OOBINLINE",
               })
           .put(
               "DEVELOPER_EMPTY",
-              new Import[] {
-                new Import(
-                    "DEVELOPER_EMPTY", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.DEVELOPER_EMPTY",
               })
           .put(
               "synchronizedSortedMap",
-              new Import[] {
-                new Import("synchronizedSortedMap", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.synchronizedSortedMap",
               })
           .put(
               "ComboBoxModel",
-              new Import[] {
-                new Import("ComboBoxModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.ComboBoxModel",
               })
           .put(
               "getListeners",
-              new Import[] {
-                new Import("getListeners", "java.awt.AWTEventMulticaster", true),
+              new String[] {
+                "static java.awt.AWTEventMulticaster.getListeners",
               })
           .put(
               "HANGING_BASELINE",
-              new Import[] {
-                new Import("HANGING_BASELINE", "java.awt.Font", true),
-                new Import("HANGING_BASELINE", "java.awt.font.GraphicAttribute", true),
+              new String[] {
+                "static java.awt.Font.HANGING_BASELINE",
+                "static java.awt.font.GraphicAttribute.HANGING_BASELINE",
               })
           .put(
               "unregisterProvider",
-              new Import[] {
-                new Import("unregisterProvider", "javax.sql.rowset.spi.SyncFactory", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncFactory.unregisterProvider",
               })
           .put(
               "getFlatnessSq",
-              new Import[] {
-                new Import("getFlatnessSq", "java.awt.geom.CubicCurve2D", true),
-                new Import("getFlatnessSq", "java.awt.geom.QuadCurve2D", true),
+              new String[] {
+                "static java.awt.geom.CubicCurve2D.getFlatnessSq",
+                "static java.awt.geom.QuadCurve2D.getFlatnessSq",
               })
           .put(
               "PrintQuality",
-              new Import[] {
-                new Import("PrintQuality", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PrintQuality",
               })
           .put(
               "IMAGEABORTED",
-              new Import[] {
-                new Import("IMAGEABORTED", "java.awt.image.ImageConsumer", true),
+              new String[] {
+                "static java.awt.image.ImageConsumer.IMAGEABORTED",
               })
           .put(
               "FRAME",
-              new Import[] {
-                new Import("FRAME", "javax.accessibility.AccessibleRole", true),
-                new Import("FRAME", "javax.swing.JRootPane", true),
-                new Import("FRAME", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.FRAME",
+                "static javax.swing.JRootPane.FRAME",
+                "static javax.swing.text.html.HTML.Tag.FRAME",
               })
           .put(
               "JOB_DATA_INSUFFICIENT",
-              new Import[] {
-                new Import(
-                    "JOB_DATA_INSUFFICIENT", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.JOB_DATA_INSUFFICIENT",
               })
           .put(
               "REF_MBEAN_OF_INCORRECT_CLASS",
-              new Import[] {
-                new Import(
-                    "REF_MBEAN_OF_INCORRECT_CLASS", "javax.management.relation.RoleStatus", true),
+              new String[] {
+                "static javax.management.relation.RoleStatus.REF_MBEAN_OF_INCORRECT_CLASS",
               })
           .put(
               "parseShort",
-              new Import[] {
-                new Import("parseShort", "java.lang.Short", true),
-                new Import("parseShort", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static java.lang.Short.parseShort",
+                "static javax.xml.bind.DatatypeConverter.parseShort",
               })
           .put(
               "CollationElementIterator",
-              new Import[] {
-                new Import("CollationElementIterator", "java.text", false),
+              new String[] {
+                "java.text.CollationElementIterator",
               })
           .put(
               "AnnotatedWildcardType",
-              new Import[] {
-                new Import("AnnotatedWildcardType", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.AnnotatedWildcardType",
               })
           .put(
               "DiagnosticCollector",
-              new Import[] {
-                new Import("DiagnosticCollector", "javax.tools", false),
+              new String[] {
+                "javax.tools.DiagnosticCollector",
               })
           .put(
               "PARENT_WINDOW_OF_PROPERTY",
-              new Import[] {
-                new Import(
-                    "PARENT_WINDOW_OF_PROPERTY", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.PARENT_WINDOW_OF_PROPERTY",
               })
           .put(
               "MARGIN_TOP",
-              new Import[] {
-                new Import("MARGIN_TOP", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.MARGIN_TOP",
               })
           .put(
               "PRIVATE_USE",
-              new Import[] {
-                new Import("PRIVATE_USE", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.PRIVATE_USE",
               })
           .put(
               "ACTION_INFO",
-              new Import[] {
-                new Import("ACTION_INFO", "javax.management.MBeanOperationInfo", true),
+              new String[] {
+                "static javax.management.MBeanOperationInfo.ACTION_INFO",
               })
           .put(
               "Sasl",
-              new Import[] {
-                new Import("Sasl", "javax.security.sasl", false),
+              new String[] {
+                "javax.security.sasl.Sasl",
               })
           .put(
               "FontFamilyAction",
-              new Import[] {
-                new Import("FontFamilyAction", "javax.swing.text.StyledEditorKit", false),
+              new String[] {
+                "javax.swing.text.StyledEditorKit.FontFamilyAction",
               })
           .put(
               "Marshaller",
-              new Import[] {
-                new Import("Marshaller", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.Marshaller",
               })
           .put(
               "LogicalMessageContext",
-              new Import[] {
-                new Import("LogicalMessageContext", "javax.xml.ws.handler", false),
+              new String[] {
+                "javax.xml.ws.handler.LogicalMessageContext",
               })
           .put(
               "InstanceNotFoundException",
-              new Import[] {
-                new Import("InstanceNotFoundException", "javax.management", false),
+              new String[] {
+                "javax.management.InstanceNotFoundException",
               })
           .put(
               "getSystemTray",
-              new Import[] {
-                new Import("getSystemTray", "java.awt.SystemTray", true),
+              new String[] {
+                "static java.awt.SystemTray.getSystemTray",
               })
           .put(
               "createVerticalGlue",
-              new Import[] {
-                new Import("createVerticalGlue", "javax.swing.Box", true),
+              new String[] {
+                "static javax.swing.Box.createVerticalGlue",
               })
           .put(
               "PIE",
-              new Import[] {
-                new Import("PIE", "java.awt.geom.Arc2D", true),
+              new String[] {
+                "static java.awt.geom.Arc2D.PIE",
               })
           .put(
               "getControlInstance",
-              new Import[] {
-                new Import("getControlInstance", "javax.naming.ldap.ControlFactory", true),
+              new String[] {
+                "static javax.naming.ldap.ControlFactory.getControlInstance",
               })
           .put(
               "Formattable",
-              new Import[] {
-                new Import("Formattable", "java.util", false),
+              new String[] {
+                "java.util.Formattable",
               })
           .put(
               "ARMENIAN",
-              new Import[] {
-                new Import("ARMENIAN", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ARMENIAN",
               })
           .put(
               "ofHours",
-              new Import[] {
-                new Import("ofHours", "java.time.Duration", true),
-                new Import("ofHours", "java.time.ZoneOffset", true),
+              new String[] {
+                "static java.time.Duration.ofHours", "static java.time.ZoneOffset.ofHours",
               })
           .put(
               "DateFormat",
-              new Import[] {
-                new Import("DateFormat", "java.text", false),
+              new String[] {
+                "java.text.DateFormat",
               })
           .put(
               "ValueBaseHolder",
-              new Import[] {
-                new Import("ValueBaseHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ValueBaseHolder",
               })
           .put(
               "RenderedImage",
-              new Import[] {
-                new Import("RenderedImage", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.RenderedImage",
               })
           .put(
               "SynthMenuBarUI",
-              new Import[] {
-                new Import("SynthMenuBarUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthMenuBarUI",
               })
           .put(
               "DISPLAYED_MNEMONIC_INDEX_KEY",
-              new Import[] {
-                new Import("DISPLAYED_MNEMONIC_INDEX_KEY", "javax.swing.Action", true),
+              new String[] {
+                "static javax.swing.Action.DISPLAYED_MNEMONIC_INDEX_KEY",
               })
           .put(
               "tk_fixed",
-              new Import[] {
-                new Import("tk_fixed", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_fixed",
               })
           .put(
               "AdapterInactiveHelper",
-              new Import[] {
-                new Import(
-                    "AdapterInactiveHelper", "org.omg.PortableServer.POAManagerPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper",
               })
           .put(
               "ServiceIdHelper",
-              new Import[] {
-                new Import("ServiceIdHelper", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.ServiceIdHelper",
               })
           .put(
               "JTableHeader",
-              new Import[] {
-                new Import("JTableHeader", "javax.swing.table", false),
+              new String[] {
+                "javax.swing.table.JTableHeader",
               })
           .put(
               "TC_BLOCKDATALONG",
-              new Import[] {
-                new Import("TC_BLOCKDATALONG", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_BLOCKDATALONG",
               })
           .put(
               "WINDOW_DEICONIFIED",
-              new Import[] {
-                new Import("WINDOW_DEICONIFIED", "java.awt.event.WindowEvent", true),
+              new String[] {
+                "static java.awt.event.WindowEvent.WINDOW_DEICONIFIED",
               })
           .put(
               "ScriptException",
-              new Import[] {
-                new Import("ScriptException", "javax.script", false),
+              new String[] {
+                "javax.script.ScriptException",
               })
           .put(
               "getControlTextColor",
-              new Import[] {
-                new Import("getControlTextColor", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getControlTextColor",
               })
           .put(
               "MultiTableHeaderUI",
-              new Import[] {
-                new Import("MultiTableHeaderUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiTableHeaderUI",
               })
           .put(
               "BoundedRangeModel",
-              new Import[] {
-                new Import("BoundedRangeModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.BoundedRangeModel",
               })
           .put(
               "BIDI_EMBEDDING",
-              new Import[] {
-                new Import("BIDI_EMBEDDING", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.BIDI_EMBEDDING",
               })
           .put(
               "_nobject",
-              new Import[] {
-                new Import("_nobject", "org.omg.CosNaming.BindingType", true),
+              new String[] {
+                "static org.omg.CosNaming.BindingType._nobject",
               })
           .put(
               "JobMediaSheets",
-              new Import[] {
-                new Import("JobMediaSheets", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobMediaSheets",
               })
           .put(
               "find",
-              new Import[] {
-                new Import("find", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.find",
               })
           .put(
               "IsoFields",
-              new Import[] {
-                new Import("IsoFields", "java.time.temporal", false),
+              new String[] {
+                "java.time.temporal.IsoFields",
               })
           .put(
               "calculateInnerArea",
-              new Import[] {
-                new Import("calculateInnerArea", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.calculateInnerArea",
               })
           .put(
               "TOOL_BAR_SEPARATOR",
-              new Import[] {
-                new Import("TOOL_BAR_SEPARATOR", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.TOOL_BAR_SEPARATOR",
               })
           .put(
               "PhantomReference",
-              new Import[] {
-                new Import("PhantomReference", "java.lang.ref", false),
+              new String[] {
+                "java.lang.ref.PhantomReference",
               })
           .put(
               "_DynAnyFactoryStub",
-              new Import[] {
-                new Import("_DynAnyFactoryStub", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny._DynAnyFactoryStub",
               })
           .put(
               "setDefaultStream",
-              new Import[] {
-                new Import("setDefaultStream", "java.rmi.server.LogStream", true),
+              new String[] {
+                "static java.rmi.server.LogStream.setDefaultStream",
               })
           .put(
               "ONE_TOUCH_EXPANDABLE_PROPERTY",
-              new Import[] {
-                new Import("ONE_TOUCH_EXPANDABLE_PROPERTY", "javax.swing.JSplitPane", true),
+              new String[] {
+                "static javax.swing.JSplitPane.ONE_TOUCH_EXPANDABLE_PROPERTY",
               })
           .put(
               "TYPE_USHORT_565_RGB",
-              new Import[] {
-                new Import("TYPE_USHORT_565_RGB", "java.awt.image.BufferedImage", true),
+              new String[] {
+                "static java.awt.image.BufferedImage.TYPE_USHORT_565_RGB",
               })
           .put(
               "CertStoreException",
-              new Import[] {
-                new Import("CertStoreException", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertStoreException",
               })
           .put(
               "icTagReserved",
-              new Import[] {
-                new Import("icTagReserved", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icTagReserved",
               })
           .put(
               "PrinterState",
-              new Import[] {
-                new Import("PrinterState", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PrinterState",
               })
           .put(
               "SynthRadioButtonUI",
-              new Import[] {
-                new Import("SynthRadioButtonUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthRadioButtonUI",
               })
           .put(
               "JAXBException",
-              new Import[] {
-                new Import("JAXBException", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.JAXBException",
               })
           .put(
               "ACTIVITY_REQUIRED",
-              new Import[] {
-                new Import("ACTIVITY_REQUIRED", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ACTIVITY_REQUIRED",
               })
           .put(
               "NotYetConnectedException",
-              new Import[] {
-                new Import("NotYetConnectedException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.NotYetConnectedException",
               })
           .put(
               "sort",
-              new Import[] {
-                new Import("sort", "java.util.Arrays", true),
-                new Import("sort", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Arrays.sort", "static java.util.Collections.sort",
               })
           .put(
               "wrapException",
-              new Import[] {
-                new Import("wrapException", "javax.rmi.CORBA.Util", true),
+              new String[] {
+                "static javax.rmi.CORBA.Util.wrapException",
               })
           .put(
               "Oid",
-              new Import[] {
-                new Import("Oid", "org.ietf.jgss", false),
+              new String[] {
+                "org.ietf.jgss.Oid",
               })
           .put(
               "fill",
-              new Import[] {
-                new Import("fill", "java.util.Arrays", true),
-                new Import("fill", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Arrays.fill", "static java.util.Collections.fill",
               })
           .put(
               "HTTPEQUIV",
-              new Import[] {
-                new Import("HTTPEQUIV", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.HTTPEQUIV",
               })
           .put(
               "ServiceContextHolder",
-              new Import[] {
-                new Import("ServiceContextHolder", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.ServiceContextHolder",
               })
           .put(
               "DOCUMENT_TYPE_NODE",
-              new Import[] {
-                new Import("DOCUMENT_TYPE_NODE", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.DOCUMENT_TYPE_NODE",
               })
           .put(
               "GLAGOLITIC",
-              new Import[] {
-                new Import("GLAGOLITIC", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.GLAGOLITIC",
               })
           .put(
               "X509ExtendedTrustManager",
-              new Import[] {
-                new Import("X509ExtendedTrustManager", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.X509ExtendedTrustManager",
               })
           .put(
               "COMPONENT_EVENT_MASK",
-              new Import[] {
-                new Import("COMPONENT_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.COMPONENT_EVENT_MASK",
               })
           .put(
               "Formatter",
-              new Import[] {
-                new Import("Formatter", "java.util", false),
-                new Import("Formatter", "java.util.logging", false),
+              new String[] {
+                "java.util.Formatter", "java.util.logging.Formatter",
               })
           .put(
               "DataContentHandlerFactory",
-              new Import[] {
-                new Import("DataContentHandlerFactory", "javax.activation", false),
+              new String[] {
+                "javax.activation.DataContentHandlerFactory",
               })
           .put(
               "XA_RBBASE",
-              new Import[] {
-                new Import("XA_RBBASE", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_RBBASE",
               })
           .put(
               "pathSeparatorChar",
-              new Import[] {
-                new Import("pathSeparatorChar", "java.io.File", true),
+              new String[] {
+                "static java.io.File.pathSeparatorChar",
               })
           .put(
               "LINE_AXIS",
-              new Import[] {
-                new Import("LINE_AXIS", "javax.swing.BoxLayout", true),
+              new String[] {
+                "static javax.swing.BoxLayout.LINE_AXIS",
               })
           .put(
               "JButton",
-              new Import[] {
-                new Import("JButton", "javax.swing", false),
+              new String[] {
+                "javax.swing.JButton",
               })
           .put(
               "ListSelectionEvent",
-              new Import[] {
-                new Import("ListSelectionEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.ListSelectionEvent",
               })
           .put(
               "TAI_VIET",
-              new Import[] {
-                new Import("TAI_VIET", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.TAI_VIET",
               })
           .put(
               "Remote",
-              new Import[] {
-                new Import("Remote", "java.rmi", false),
+              new String[] {
+                "java.rmi.Remote",
               })
           .put(
               "RoleNotFoundException",
-              new Import[] {
-                new Import("RoleNotFoundException", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RoleNotFoundException",
               })
           .put(
               "ISO_C0_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C0_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C0_ENVELOPE",
               })
           .put(
               "MidiFileReader",
-              new Import[] {
-                new Import("MidiFileReader", "javax.sound.midi.spi", false),
+              new String[] {
+                "javax.sound.midi.spi.MidiFileReader",
               })
           .put(
               "getSaslClientFactories",
-              new Import[] {
-                new Import("getSaslClientFactories", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.getSaslClientFactories",
               })
           .put(
               "SOAP11HTTP_MTOM_BINDING",
-              new Import[] {
-                new Import("SOAP11HTTP_MTOM_BINDING", "javax.xml.ws.soap.SOAPBinding", true),
+              new String[] {
+                "static javax.xml.ws.soap.SOAPBinding.SOAP11HTTP_MTOM_BINDING",
               })
           .put(
               "ABSTRACT",
-              new Import[] {
-                new Import("ABSTRACT", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.ABSTRACT",
               })
           .put(
               "delete",
-              new Import[] {
-                new Import("delete", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.delete",
               })
           .put(
               "isLetter",
-              new Import[] {
-                new Import("isLetter", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isLetter",
               })
           .put(
               "ControllerEventListener",
-              new Import[] {
-                new Import("ControllerEventListener", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.ControllerEventListener",
               })
           .put(
               "VK_PASTE",
-              new Import[] {
-                new Import("VK_PASTE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_PASTE",
               })
           .put(
               "CHILD_POLICY_CHOICE",
-              new Import[] {
-                new Import("CHILD_POLICY_CHOICE", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.CHILD_POLICY_CHOICE",
               })
           .put(
               "KEY_LOCATION_STANDARD",
-              new Import[] {
-                new Import("KEY_LOCATION_STANDARD", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.KEY_LOCATION_STANDARD",
               })
           .put(
               "C14NMethodParameterSpec",
-              new Import[] {
-                new Import("C14NMethodParameterSpec", "javax.xml.crypto.dsig.spec", false),
+              new String[] {
+                "javax.xml.crypto.dsig.spec.C14NMethodParameterSpec",
               })
           .put(
               "NotFoundReasonHelper",
-              new Import[] {
-                new Import("NotFoundReasonHelper", "org.omg.CosNaming.NamingContextPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper",
               })
           .put(
               "TypeCode",
-              new Import[] {
-                new Import("TypeCode", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.TypeCode",
               })
           .put(
               "SynthLookAndFeel",
-              new Import[] {
-                new Import("SynthLookAndFeel", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthLookAndFeel",
               })
           .put(
               "unpark",
-              new Import[] {
-                new Import("unpark", "java.util.concurrent.locks.LockSupport", true),
+              new String[] {
+                "static java.util.concurrent.locks.LockSupport.unpark",
               })
           .put(
               "RadialGradientPaint",
-              new Import[] {
-                new Import("RadialGradientPaint", "java.awt", false),
+              new String[] {
+                "java.awt.RadialGradientPaint",
               })
           .put(
               "DstOver",
-              new Import[] {
-                new Import("DstOver", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.DstOver",
               })
           .put(
               "TaggedComponent",
-              new Import[] {
-                new Import("TaggedComponent", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.TaggedComponent",
               })
           .put(
               "REMAINDER",
-              new Import[] {
-                new Import("REMAINDER", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.REMAINDER",
               })
           .put(
               "MOVE",
-              new Import[] {
-                new Import("MOVE", "javax.swing.TransferHandler", true),
+              new String[] {
+                "static javax.swing.TransferHandler.MOVE",
               })
           .put(
               "DomainManager",
-              new Import[] {
-                new Import("DomainManager", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.DomainManager",
               })
           .put(
               "DATALINK",
-              new Import[] {
-                new Import("DATALINK", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.DATALINK",
               })
           .put(
               "COMPACT_DISC",
-              new Import[] {
-                new Import("COMPACT_DISC", "javax.sound.sampled.Port.Info", true),
+              new String[] {
+                "static javax.sound.sampled.Port.Info.COMPACT_DISC",
               })
           .put(
               "CompositeType",
-              new Import[] {
-                new Import("CompositeType", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.CompositeType",
               })
           .build();
 }
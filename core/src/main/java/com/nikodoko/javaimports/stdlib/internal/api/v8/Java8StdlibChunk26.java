@@ -2,1632 +2,1600 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk26 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "XmlElementRef",
-              new Import[] {
-                new Import("XmlElementRef", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlElementRef",
               })
           .put(
               "FLAG_BRIDGES",
-              new Import[] {
-                new Import("FLAG_BRIDGES", "java.lang.invoke.LambdaMetafactory", true),
+              new String[] {
+                "static java.lang.invoke.LambdaMetafactory.FLAG_BRIDGES",
               })
           .put(
               "getArrayType",
-              new Import[] {
-                new Import("getArrayType", "javax.management.openmbean.ArrayType", true),
+              new String[] {
+                "static javax.management.openmbean.ArrayType.getArrayType",
               })
           .put(
               "MOUSE_FIRST",
-              new Import[] {
-                new Import("MOUSE_FIRST", "java.awt.event.MouseEvent", true),
+              new String[] {
+                "static java.awt.event.MouseEvent.MOUSE_FIRST",
               })
           .put(
               "UnicastRemoteObject",
-              new Import[] {
-                new Import("UnicastRemoteObject", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.UnicastRemoteObject",
               })
           .put(
               "QueryExp",
-              new Import[] {
-                new Import("QueryExp", "javax.management", false),
+              new String[] {
+                "javax.management.QueryExp",
               })
           .put(
               "StandardOpenOption",
-              new Import[] {
-                new Import("StandardOpenOption", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.StandardOpenOption",
               })
           .put(
               "setProperties",
-              new Import[] {
-                new Import("setProperties", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.setProperties",
               })
           .put(
               "IIOReadProgressListener",
-              new Import[] {
-                new Import("IIOReadProgressListener", "javax.imageio.event", false),
+              new String[] {
+                "javax.imageio.event.IIOReadProgressListener",
               })
           .put(
               "PNG",
-              new Import[] {
-                new Import("PNG", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("PNG", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("PNG", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.PNG",
+                "static javax.print.DocFlavor.INPUT_STREAM.PNG",
+                "static javax.print.DocFlavor.URL.PNG",
               })
           .put(
               "DIALOG_INPUT",
-              new Import[] {
-                new Import("DIALOG_INPUT", "java.awt.Font", true),
+              new String[] {
+                "static java.awt.Font.DIALOG_INPUT",
               })
           .put(
               "CYRILLIC_SUPPLEMENTARY",
-              new Import[] {
-                new Import("CYRILLIC_SUPPLEMENTARY", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CYRILLIC_SUPPLEMENTARY",
               })
           .put(
               "ptLineDistSq",
-              new Import[] {
-                new Import("ptLineDistSq", "java.awt.geom.Line2D", true),
+              new String[] {
+                "static java.awt.geom.Line2D.ptLineDistSq",
               })
           .put(
               "BAD_POLICY_TYPE",
-              new Import[] {
-                new Import("BAD_POLICY_TYPE", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.BAD_POLICY_TYPE",
               })
           .put(
               "PrinterJob",
-              new Import[] {
-                new Import("PrinterJob", "java.awt.print", false),
+              new String[] {
+                "java.awt.print.PrinterJob",
               })
           .put(
               "CENTER",
-              new Import[] {
-                new Import("CENTER", "java.awt.BorderLayout", true),
-                new Import("CENTER", "java.awt.FlowLayout", true),
-                new Import("CENTER", "java.awt.GridBagConstraints", true),
-                new Import("CENTER", "java.awt.Label", true),
-                new Import("CENTER", "javax.swing.SwingConstants", true),
-                new Import("CENTER", "javax.swing.border.TitledBorder", true),
-                new Import("CENTER", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static java.awt.BorderLayout.CENTER",
+                "static java.awt.FlowLayout.CENTER",
+                "static java.awt.GridBagConstraints.CENTER",
+                "static java.awt.Label.CENTER",
+                "static javax.swing.SwingConstants.CENTER",
+                "static javax.swing.border.TitledBorder.CENTER",
+                "static javax.swing.text.html.HTML.Tag.CENTER",
               })
           .put(
               "XA_HEURHAZ",
-              new Import[] {
-                new Import("XA_HEURHAZ", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_HEURHAZ",
               })
           .put(
               "Month",
-              new Import[] {
-                new Import("Month", "java.time", false),
+              new String[] {
+                "java.time.Month",
               })
           .put(
               "REQUEST_X509CERTIFICATE",
-              new Import[] {
-                new Import("REQUEST_X509CERTIFICATE", "javax.xml.ws.spi.http.HttpExchange", true),
+              new String[] {
+                "static javax.xml.ws.spi.http.HttpExchange.REQUEST_X509CERTIFICATE",
               })
           .put(
               "ENDHDR",
-              new Import[] {
-                new Import("ENDHDR", "java.util.jar.JarEntry", true),
-                new Import("ENDHDR", "java.util.jar.JarFile", true),
-                new Import("ENDHDR", "java.util.jar.JarInputStream", true),
-                new Import("ENDHDR", "java.util.jar.JarOutputStream", true),
-                new Import("ENDHDR", "java.util.zip.ZipEntry", true),
-                new Import("ENDHDR", "java.util.zip.ZipFile", true),
-                new Import("ENDHDR", "java.util.zip.ZipInputStream", true),
-                new Import("ENDHDR", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.ENDHDR",
+                "static java.util.jar.JarFile.ENDHDR",
+                "static java.util.jar.JarInputStream.ENDHDR",
+                "static java.util.jar.JarOutputStream.ENDHDR",
+                "static java.util.zip.ZipEntry.ENDHDR",
+                "static java.util.zip.ZipFile.ENDHDR",
+                "static java.util.zip.ZipInputStream.ENDHDR",
+                "static java.util.zip.ZipOutputStream.ENDHDR",
               })
           .put(
               "CodecFactoryOperations",
-              new Import[] {
-                new Import("CodecFactoryOperations", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.CodecFactoryOperations",
               })
           .put(
               "TMSUSPEND",
-              new Import[] {
-                new Import("TMSUSPEND", "javax.transaction.xa.XAResource", true),
+              new String[] {
+                "static javax.transaction.xa.XAResource.TMSUSPEND",
               })
           .put(
               "Permission",
-              new Import[] {
-                new Import("Permission", "java.security", false),
-                new Import("Permission", "java.security.acl", false),
+              new String[] {
+                "java.security.Permission", "java.security.acl.Permission",
               })
           .put(
               "MediaType",
-              new Import[] {
-                new Import("MediaType", "java.awt.PageAttributes", false),
+              new String[] {
+                "java.awt.PageAttributes.MediaType",
               })
           .put(
               "PROGRESS_BAR",
-              new Import[] {
-                new Import("PROGRESS_BAR", "javax.accessibility.AccessibleRole", true),
-                new Import("PROGRESS_BAR", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.PROGRESS_BAR",
+                "static javax.swing.plaf.synth.Region.PROGRESS_BAR",
               })
           .put(
               "SOAPHeaderElement",
-              new Import[] {
-                new Import("SOAPHeaderElement", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SOAPHeaderElement",
               })
           .put(
               "KEY_TEXT_LCD_CONTRAST",
-              new Import[] {
-                new Import("KEY_TEXT_LCD_CONTRAST", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.KEY_TEXT_LCD_CONTRAST",
               })
           .put(
               "POA",
-              new Import[] {
-                new Import("POA", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.POA",
               })
           .put(
               "ObjectChangeListener",
-              new Import[] {
-                new Import("ObjectChangeListener", "javax.naming.event", false),
+              new String[] {
+                "javax.naming.event.ObjectChangeListener",
               })
           .put(
               "ConfigurationSpi",
-              new Import[] {
-                new Import("ConfigurationSpi", "javax.security.auth.login", false),
+              new String[] {
+                "javax.security.auth.login.ConfigurationSpi",
               })
           .put(
               "toUnsignedInt",
-              new Import[] {
-                new Import("toUnsignedInt", "java.lang.Byte", true),
-                new Import("toUnsignedInt", "java.lang.Short", true),
+              new String[] {
+                "static java.lang.Byte.toUnsignedInt", "static java.lang.Short.toUnsignedInt",
               })
           .put(
               "Float",
-              new Import[] {
-                new Import("Float", "java.awt.geom.Arc2D", false),
-                new Import("Float", "java.awt.geom.CubicCurve2D", false),
-                new Import("Float", "java.awt.geom.Ellipse2D", false),
-                new Import("Float", "java.awt.geom.Line2D", false),
-                new Import("Float", "java.awt.geom.Path2D", false),
-                new Import("Float", "java.awt.geom.Point2D", false),
-                new Import("Float", "java.awt.geom.QuadCurve2D", false),
-                new Import("Float", "java.awt.geom.Rectangle2D", false),
-                new Import("Float", "java.awt.geom.RoundRectangle2D", false),
-                new Import("Float", "java.lang", false),
+              new String[] {
+                "java.awt.geom.Arc2D.Float",
+                "java.awt.geom.CubicCurve2D.Float",
+                "java.awt.geom.Ellipse2D.Float",
+                "java.awt.geom.Line2D.Float",
+                "java.awt.geom.Path2D.Float",
+                "java.awt.geom.Point2D.Float",
+                "java.awt.geom.QuadCurve2D.Float",
+                "java.awt.geom.Rectangle2D.Float",
+                "java.awt.geom.RoundRectangle2D.Float",
+                "java.lang.Float",
               })
           .put(
               "AnnotationMirror",
-              new Import[] {
-                new Import("AnnotationMirror", "javax.lang.model.element", false),
+              new String[] {
+                "javax.lang.model.element.AnnotationMirror",
               })
           .put(
               "ANCHOR_SELECTION_PATH_PROPERTY",
-              new Import[] {
-                new Import("ANCHOR_SELECTION_PATH_PROPERTY", "javax.swing.JTree", true),
+              new String[] {
+                "static javax.swing.JTree.ANCHOR_SELECTION_PATH_PROPERTY",
               })
           .put(
               "ROUND_CEILING",
-              new Import[] {
-                new Import("ROUND_CEILING", "java.math.BigDecimal", true),
+              new String[] {
+                "static java.math.BigDecimal.ROUND_CEILING",
               })
           .put(
               "BasicPopupMenuSeparatorUI",
-              new Import[] {
-                new Import("BasicPopupMenuSeparatorUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicPopupMenuSeparatorUI",
               })
           .put(
               "ADD_OVERRIDE",
-              new Import[] {
-                new Import("ADD_OVERRIDE", "org.omg.CORBA.SetOverrideType", true),
+              new String[] {
+                "static org.omg.CORBA.SetOverrideType.ADD_OVERRIDE",
               })
           .put(
               "BUBBLING_PHASE",
-              new Import[] {
-                new Import("BUBBLING_PHASE", "org.w3c.dom.events.Event", true),
+              new String[] {
+                "static org.w3c.dom.events.Event.BUBBLING_PHASE",
               })
           .put(
               "WINDOW_DESTROY",
-              new Import[] {
-                new Import("WINDOW_DESTROY", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.WINDOW_DESTROY",
               })
           .put(
               "ExemptionMechanismException",
-              new Import[] {
-                new Import("ExemptionMechanismException", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.ExemptionMechanismException",
               })
           .put(
               "AbstractSpinnerModel",
-              new Import[] {
-                new Import("AbstractSpinnerModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.AbstractSpinnerModel",
               })
           .put(
               "ROUND_UNNECESSARY",
-              new Import[] {
-                new Import("ROUND_UNNECESSARY", "java.math.BigDecimal", true),
+              new String[] {
+                "static java.math.BigDecimal.ROUND_UNNECESSARY",
               })
           .put(
               "RelationSupportMBean",
-              new Import[] {
-                new Import("RelationSupportMBean", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RelationSupportMBean",
               })
           .put(
               "StyleConstants",
-              new Import[] {
-                new Import("StyleConstants", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.StyleConstants",
               })
           .put(
               "ALLOWED_CLASSNAMES",
-              new Import[] {
-                new Import("ALLOWED_CLASSNAMES", "javax.management.openmbean.OpenType", true),
+              new String[] {
+                "static javax.management.openmbean.OpenType.ALLOWED_CLASSNAMES",
               })
           .put(
               "_USER_ID",
-              new Import[] {
-                new Import("_USER_ID", "org.omg.PortableServer.IdAssignmentPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.IdAssignmentPolicyValue._USER_ID",
               })
           .put(
               "DefaultTableModel",
-              new Import[] {
-                new Import("DefaultTableModel", "javax.swing.table", false),
+              new String[] {
+                "javax.swing.table.DefaultTableModel",
               })
           .put(
               "JobName",
-              new Import[] {
-                new Import("JobName", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobName",
               })
           .put(
               "global",
-              new Import[] {
-                new Import("global", "java.util.logging.Logger", true),
+              new String[] {
+                "static java.util.logging.Logger.global",
               })
           .put(
               "RESOLVER",
-              new Import[] {
-                new Import("RESOLVER", "javax.xml.stream.XMLInputFactory", true),
+              new String[] {
+                "static javax.xml.stream.XMLInputFactory.RESOLVER",
               })
           .put(
               "PPQ",
-              new Import[] {
-                new Import("PPQ", "javax.sound.midi.Sequence", true),
+              new String[] {
+                "static javax.sound.midi.Sequence.PPQ",
               })
           .put(
               "ICON_MONO_16x16",
-              new Import[] {
-                new Import("ICON_MONO_16x16", "java.beans.BeanInfo", true),
+              new String[] {
+                "static java.beans.BeanInfo.ICON_MONO_16x16",
               })
           .put(
               "TYPE_CUSTOM",
-              new Import[] {
-                new Import("TYPE_CUSTOM", "java.awt.image.BufferedImage", true),
+              new String[] {
+                "static java.awt.image.BufferedImage.TYPE_CUSTOM",
               })
           .put(
               "functionColumnUnknown",
-              new Import[] {
-                new Import("functionColumnUnknown", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.functionColumnUnknown",
               })
           .put(
               "INTF_REPOS",
-              new Import[] {
-                new Import("INTF_REPOS", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.INTF_REPOS",
               })
           .put(
               "SEG_MOVETO",
-              new Import[] {
-                new Import("SEG_MOVETO", "java.awt.geom.PathIterator", true),
+              new String[] {
+                "static java.awt.geom.PathIterator.SEG_MOVETO",
               })
           .put(
               "Scrollbar",
-              new Import[] {
-                new Import("Scrollbar", "java.awt", false),
+              new String[] {
+                "java.awt.Scrollbar",
               })
           .put(
               "iterate",
-              new Import[] {
-                new Import("iterate", "java.util.stream.DoubleStream", true),
-                new Import("iterate", "java.util.stream.IntStream", true),
-                new Import("iterate", "java.util.stream.LongStream", true),
-                new Import("iterate", "java.util.stream.Stream", true),
+              new String[] {
+                "static java.util.stream.DoubleStream.iterate",
+                "static java.util.stream.IntStream.iterate",
+                "static java.util.stream.LongStream.iterate",
+                "static java.util.stream.Stream.iterate",
               })
           .put(
               "Stroke",
-              new Import[] {
-                new Import("Stroke", "java.awt", false),
+              new String[] {
+                "java.awt.Stroke",
               })
           .put(
               "DEVELOPER_LOW",
-              new Import[] {
-                new Import(
-                    "DEVELOPER_LOW", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.DEVELOPER_LOW",
               })
           .put(
               "BaseRowSet",
-              new Import[] {
-                new Import("BaseRowSet", "javax.sql.rowset", false),
+              new String[] {
+                "javax.sql.rowset.BaseRowSet",
               })
           .put(
               "Composite",
-              new Import[] {
-                new Import("Composite", "java.awt", false),
+              new String[] {
+                "java.awt.Composite",
               })
           .put(
               "getPrimaryControlShadow",
-              new Import[] {
-                new Import(
-                    "getPrimaryControlShadow", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getPrimaryControlShadow",
               })
           .put(
               "UnmodifiableClassException",
-              new Import[] {
-                new Import("UnmodifiableClassException", "java.lang.instrument", false),
+              new String[] {
+                "java.lang.instrument.UnmodifiableClassException",
               })
           .put(
               "SECONDS",
-              new Import[] {
-                new Import("SECONDS", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.SECONDS",
               })
           .put(
               "SimpleAnnotationValueVisitor8",
-              new Import[] {
-                new Import("SimpleAnnotationValueVisitor8", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.SimpleAnnotationValueVisitor8",
               })
           .put(
               "Charset",
-              new Import[] {
-                new Import("Charset", "java.nio.charset", false),
+              new String[] {
+                "java.nio.charset.Charset",
               })
           .put(
               "SealedObject",
-              new Import[] {
-                new Import("SealedObject", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.SealedObject",
               })
           .put(
               "SimpleAnnotationValueVisitor6",
-              new Import[] {
-                new Import("SimpleAnnotationValueVisitor6", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.SimpleAnnotationValueVisitor6",
               })
           .put(
               "IOException",
-              new Import[] {
-                new Import("IOException", "java.io", false),
+              new String[] {
+                "java.io.IOException",
               })
           .put(
               "SimpleAnnotationValueVisitor7",
-              new Import[] {
-                new Import("SimpleAnnotationValueVisitor7", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.SimpleAnnotationValueVisitor7",
               })
           .put(
               "LayoutManager",
-              new Import[] {
-                new Import("LayoutManager", "java.awt", false),
+              new String[] {
+                "java.awt.LayoutManager",
               })
           .put(
               "incrementExact",
-              new Import[] {
-                new Import("incrementExact", "java.lang.Math", true),
+              new String[] {
+                "static java.lang.Math.incrementExact",
               })
           .put(
               "TC_LONGSTRING",
-              new Import[] {
-                new Import("TC_LONGSTRING", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_LONGSTRING",
               })
           .put(
               "comparingInt",
-              new Import[] {
-                new Import("comparingInt", "java.util.Comparator", true),
+              new String[] {
+                "static java.util.Comparator.comparingInt",
               })
           .put(
               "IDLEntity",
-              new Import[] {
-                new Import("IDLEntity", "org.omg.CORBA.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.IDLEntity",
               })
           .put(
               "isLowSurrogate",
-              new Import[] {
-                new Import("isLowSurrogate", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isLowSurrogate",
               })
           .put(
               "newUnpacker",
-              new Import[] {
-                new Import("newUnpacker", "java.util.jar.Pack200", true),
+              new String[] {
+                "static java.util.jar.Pack200.newUnpacker",
               })
           .put(
               "CURRENCY_SYMBOLS",
-              new Import[] {
-                new Import("CURRENCY_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CURRENCY_SYMBOLS",
               })
           .put(
               "PRC",
-              new Import[] {
-                new Import("PRC", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.PRC",
               })
           .put(
               "TARGET",
-              new Import[] {
-                new Import("TARGET", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.TARGET",
               })
           .put(
               "ZERO",
-              new Import[] {
-                new Import("ZERO", "java.math.BigDecimal", true),
-                new Import("ZERO", "java.math.BigInteger", true),
-                new Import("ZERO", "java.time.Duration", true),
-                new Import("ZERO", "java.time.Period", true),
+              new String[] {
+                "static java.math.BigDecimal.ZERO",
+                "static java.math.BigInteger.ZERO",
+                "static java.time.Duration.ZERO",
+                "static java.time.Period.ZERO",
               })
           .put(
               "PRE",
-              new Import[] {
-                new Import("PRE", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.PRE",
               })
           .put(
               "SWAP_COLORS",
-              new Import[] {
-                new Import("SWAP_COLORS", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.SWAP_COLORS",
               })
           .put(
               "CENTIM",
-              new Import[] {
-                new Import("CENTIM", "java.util.jar.JarEntry", true),
-                new Import("CENTIM", "java.util.jar.JarFile", true),
-                new Import("CENTIM", "java.util.jar.JarInputStream", true),
-                new Import("CENTIM", "java.util.jar.JarOutputStream", true),
-                new Import("CENTIM", "java.util.zip.ZipEntry", true),
-                new Import("CENTIM", "java.util.zip.ZipFile", true),
-                new Import("CENTIM", "java.util.zip.ZipInputStream", true),
-                new Import("CENTIM", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENTIM",
+                "static java.util.jar.JarFile.CENTIM",
+                "static java.util.jar.JarInputStream.CENTIM",
+                "static java.util.jar.JarOutputStream.CENTIM",
+                "static java.util.zip.ZipEntry.CENTIM",
+                "static java.util.zip.ZipFile.CENTIM",
+                "static java.util.zip.ZipInputStream.CENTIM",
+                "static java.util.zip.ZipOutputStream.CENTIM",
               })
           .put(
               "createLink",
-              new Import[] {
-                new Import("createLink", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.createLink",
               })
           .put(
               "DynArrayOperations",
-              new Import[] {
-                new Import("DynArrayOperations", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynArrayOperations",
               })
           .put(
               "Native",
-              new Import[] {
-                new Import("Native", "java.lang.annotation", false),
+              new String[] {
+                "java.lang.annotation.Native",
               })
           .put(
               "checkedSortedSet",
-              new Import[] {
-                new Import("checkedSortedSet", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.checkedSortedSet",
               })
           .put(
               "printDouble",
-              new Import[] {
-                new Import("printDouble", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printDouble",
               })
           .put(
               "Executable",
-              new Import[] {
-                new Import("Executable", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.Executable",
               })
           .put(
               "NonWritableChannelException",
-              new Import[] {
-                new Import("NonWritableChannelException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.NonWritableChannelException",
               })
           .put(
               "TUNE_REQUEST",
-              new Import[] {
-                new Import("TUNE_REQUEST", "javax.sound.midi.ShortMessage", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.TUNE_REQUEST",
               })
           .put(
               "ACCESSIBLE_TABLE_CAPTION_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TABLE_CAPTION_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_TABLE_CAPTION_CHANGED",
               })
           .put(
               "AuthenticationType",
-              new Import[] {
-                new Import("AuthenticationType", "javax.annotation.Resource", false),
+              new String[] {
+                "javax.annotation.Resource.AuthenticationType",
               })
           .put(
               "CARET_POSITION_CHANGED",
-              new Import[] {
-                new Import("CARET_POSITION_CHANGED", "java.awt.event.InputMethodEvent", true),
+              new String[] {
+                "static java.awt.event.InputMethodEvent.CARET_POSITION_CHANGED",
               })
           .put(
               "INCLUSIVE_WITH_COMMENTS",
-              new Import[] {
-                new Import(
-                    "INCLUSIVE_WITH_COMMENTS",
-                    "javax.xml.crypto.dsig.CanonicalizationMethod",
-                    true),
+              new String[] {
+                "static javax.xml.crypto.dsig.CanonicalizationMethod.INCLUSIVE_WITH_COMMENTS",
               })
           .put(
               "MENU_ITEM_ACCELERATOR",
-              new Import[] {
-                new Import("MENU_ITEM_ACCELERATOR", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.MENU_ITEM_ACCELERATOR",
               })
           .put(
               "Packer",
-              new Import[] {
-                new Import("Packer", "java.util.jar.Pack200", false),
+              new String[] {
+                "java.util.jar.Pack200.Packer",
               })
           .put(
               "OpenMBeanConstructorInfo",
-              new Import[] {
-                new Import("OpenMBeanConstructorInfo", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.OpenMBeanConstructorInfo",
               })
           .put(
               "VALUE_ALPHA_INTERPOLATION_QUALITY",
-              new Import[] {
-                new Import("VALUE_ALPHA_INTERPOLATION_QUALITY", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY",
               })
           .put(
               "AccessibleBundle",
-              new Import[] {
-                new Import("AccessibleBundle", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleBundle",
               })
           .put(
               "FEATURE",
-              new Import[] {
-                new Import("FEATURE", "javax.xml.transform.dom.DOMResult", true),
-                new Import("FEATURE", "javax.xml.transform.dom.DOMSource", true),
-                new Import("FEATURE", "javax.xml.transform.sax.SAXResult", true),
-                new Import("FEATURE", "javax.xml.transform.sax.SAXSource", true),
-                new Import("FEATURE", "javax.xml.transform.sax.SAXTransformerFactory", true),
-                new Import("FEATURE", "javax.xml.transform.stax.StAXResult", true),
-                new Import("FEATURE", "javax.xml.transform.stax.StAXSource", true),
-                new Import("FEATURE", "javax.xml.transform.stream.StreamResult", true),
-                new Import("FEATURE", "javax.xml.transform.stream.StreamSource", true),
+              new String[] {
+                "static javax.xml.transform.dom.DOMResult.FEATURE",
+                "static javax.xml.transform.dom.DOMSource.FEATURE",
+                "static javax.xml.transform.sax.SAXResult.FEATURE",
+                "static javax.xml.transform.sax.SAXSource.FEATURE",
+                "static javax.xml.transform.sax.SAXTransformerFactory.FEATURE",
+                "static javax.xml.transform.stax.StAXResult.FEATURE",
+                "static javax.xml.transform.stax.StAXSource.FEATURE",
+                "static javax.xml.transform.stream.StreamResult.FEATURE",
+                "static javax.xml.transform.stream.StreamSource.FEATURE",
               })
           .put(
               "XPathFunctionResolver",
-              new Import[] {
-                new Import("XPathFunctionResolver", "javax.xml.xpath", false),
+              new String[] {
+                "javax.xml.xpath.XPathFunctionResolver",
               })
           .put(
               "RepositoryIdHelper",
-              new Import[] {
-                new Import("RepositoryIdHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.RepositoryIdHelper",
               })
           .put(
               "BigInteger",
-              new Import[] {
-                new Import("BigInteger", "java.math", false),
+              new String[] {
+                "java.math.BigInteger",
               })
           .put(
               "makeKeyBindings",
-              new Import[] {
-                new Import("makeKeyBindings", "javax.swing.LookAndFeel", true),
+              new String[] {
+                "static javax.swing.LookAndFeel.makeKeyBindings",
               })
           .put(
               "ISINDEX",
-              new Import[] {
-                new Import("ISINDEX", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.ISINDEX",
               })
           .put(
               "PopupMenu",
-              new Import[] {
-                new Import("PopupMenu", "java.awt", false),
+              new String[] {
+                "java.awt.PopupMenu",
               })
           .put(
               "TAG_PCLT",
-              new Import[] {
-                new Import("TAG_PCLT", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_PCLT",
               })
           .put(
               "AttributeChangeNotification",
-              new Import[] {
-                new Import("AttributeChangeNotification", "javax.management", false),
+              new String[] {
+                "javax.management.AttributeChangeNotification",
               })
           .put(
               "Element",
-              new Import[] {
-                new Import("Element", "javax.lang.model.element", false),
-                new Import("Element", "javax.swing.text", false),
-                new Import("Element", "javax.swing.text.html.parser", false),
-                new Import("Element", "javax.xml.bind", false),
-                new Import("Element", "org.w3c.dom", false),
+              new String[] {
+                "javax.lang.model.element.Element",
+                "javax.swing.text.Element",
+                "javax.swing.text.html.parser.Element",
+                "javax.xml.bind.Element",
+                "org.w3c.dom.Element",
               })
           .put(
               "TabularType",
-              new Import[] {
-                new Import("TabularType", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.TabularType",
               })
           .put(
               "InternationalFormatter",
-              new Import[] {
-                new Import("InternationalFormatter", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.InternationalFormatter",
               })
           .put(
               "PRINTER_STOPPED_PARTLY",
-              new Import[] {
-                new Import(
-                    "PRINTER_STOPPED_PARTLY",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.PRINTER_STOPPED_PARTLY",
               })
           .put(
               "getConnection",
-              new Import[] {
-                new Import("getConnection", "java.sql.DriverManager", true),
+              new String[] {
+                "static java.sql.DriverManager.getConnection",
               })
           .put(
               "SelectorProvider",
-              new Import[] {
-                new Import("SelectorProvider", "java.nio.channels.spi", false),
+              new String[] {
+                "java.nio.channels.spi.SelectorProvider",
               })
           .put(
               "getStyle",
-              new Import[] {
-                new Import("getStyle", "javax.swing.plaf.nimbus.NimbusLookAndFeel", true),
-                new Import("getStyle", "javax.swing.plaf.synth.SynthLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.nimbus.NimbusLookAndFeel.getStyle",
+                "static javax.swing.plaf.synth.SynthLookAndFeel.getStyle",
               })
           .put(
               "TYPE_IDENTITY",
-              new Import[] {
-                new Import("TYPE_IDENTITY", "java.awt.geom.AffineTransform", true),
+              new String[] {
+                "static java.awt.geom.AffineTransform.TYPE_IDENTITY",
               })
           .put(
               "MIN_HIGH_SURROGATE",
-              new Import[] {
-                new Import("MIN_HIGH_SURROGATE", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.MIN_HIGH_SURROGATE",
               })
           .put(
               "PKIXCertPathChecker",
-              new Import[] {
-                new Import("PKIXCertPathChecker", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.PKIXCertPathChecker",
               })
           .put(
               "MetalScrollButton",
-              new Import[] {
-                new Import("MetalScrollButton", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalScrollButton",
               })
           .put(
               "IdAssignmentPolicyValue",
-              new Import[] {
-                new Import("IdAssignmentPolicyValue", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.IdAssignmentPolicyValue",
               })
           .put(
               "UnrecoverableEntryException",
-              new Import[] {
-                new Import("UnrecoverableEntryException", "java.security", false),
+              new String[] {
+                "java.security.UnrecoverableEntryException",
               })
           .put(
               "EventTarget",
-              new Import[] {
-                new Import("EventTarget", "org.w3c.dom.events", false),
+              new String[] {
+                "org.w3c.dom.events.EventTarget",
               })
           .put(
               "ClassDesc",
-              new Import[] {
-                new Import("ClassDesc", "javax.rmi.CORBA", false),
+              new String[] {
+                "javax.rmi.CORBA.ClassDesc",
               })
           .put(
               "Delayed",
-              new Import[] {
-                new Import("Delayed", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.Delayed",
               })
           .put(
               "JarInputStream",
-              new Import[] {
-                new Import("JarInputStream", "java.util.jar", false),
+              new String[] {
+                "java.util.jar.JarInputStream",
               })
           .put(
               "KeyEventDispatcher",
-              new Import[] {
-                new Import("KeyEventDispatcher", "java.awt", false),
+              new String[] {
+                "java.awt.KeyEventDispatcher",
               })
           .put(
               "BasicControl",
-              new Import[] {
-                new Import("BasicControl", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.BasicControl",
               })
           .put(
               "EXTLEN",
-              new Import[] {
-                new Import("EXTLEN", "java.util.jar.JarEntry", true),
-                new Import("EXTLEN", "java.util.jar.JarFile", true),
-                new Import("EXTLEN", "java.util.jar.JarInputStream", true),
-                new Import("EXTLEN", "java.util.jar.JarOutputStream", true),
-                new Import("EXTLEN", "java.util.zip.ZipEntry", true),
-                new Import("EXTLEN", "java.util.zip.ZipFile", true),
-                new Import("EXTLEN", "java.util.zip.ZipInputStream", true),
-                new Import("EXTLEN", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.EXTLEN",
+                "static java.util.jar.JarFile.EXTLEN",
+                "static java.util.jar.JarInputStream.EXTLEN",
+                "static java.util.jar.JarOutputStream.EXTLEN",
+                "static java.util.zip.ZipEntry.EXTLEN",
+                "static java.util.zip.ZipFile.EXTLEN",
+                "static java.util.zip.ZipInputStream.EXTLEN",
+                "static java.util.zip.ZipOutputStream.EXTLEN",
               })
           .put(
               "getDefaultCommandMap",
-              new Import[] {
-                new Import("getDefaultCommandMap", "javax.activation.CommandMap", true),
+              new String[] {
+                "static javax.activation.CommandMap.getDefaultCommandMap",
               })
           .put(
               "PreparedStatement",
-              new Import[] {
-                new Import("PreparedStatement", "java.sql", false),
+              new String[] {
+                "java.sql.PreparedStatement",
               })
           .put(
               "HTTP_INTERNAL_ERROR",
-              new Import[] {
-                new Import("HTTP_INTERNAL_ERROR", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR",
               })
           .put(
               "NO_SUCH_PAGE",
-              new Import[] {
-                new Import("NO_SUCH_PAGE", "java.awt.print.Printable", true),
+              new String[] {
+                "static java.awt.print.Printable.NO_SUCH_PAGE",
               })
           .put(
               "RelationService",
-              new Import[] {
-                new Import("RelationService", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RelationService",
               })
           .put(
               "CYRILLIC_EXTENDED_A",
-              new Import[] {
-                new Import("CYRILLIC_EXTENDED_A", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CYRILLIC_EXTENDED_A",
               })
           .put(
               "CYRILLIC_EXTENDED_B",
-              new Import[] {
-                new Import("CYRILLIC_EXTENDED_B", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CYRILLIC_EXTENDED_B",
               })
           .put(
               "BasicMenuUI",
-              new Import[] {
-                new Import("BasicMenuUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicMenuUI",
               })
           .put(
               "ForwardingJavaFileManager",
-              new Import[] {
-                new Import("ForwardingJavaFileManager", "javax.tools", false),
+              new String[] {
+                "javax.tools.ForwardingJavaFileManager",
               })
           .put(
               "getIndexOfSize",
-              new Import[] {
-                new Import("getIndexOfSize", "javax.swing.text.html.StyleSheet", true),
+              new String[] {
+                "static javax.swing.text.html.StyleSheet.getIndexOfSize",
               })
           .put(
               "getSystemCustomCursor",
-              new Import[] {
-                new Import("getSystemCustomCursor", "java.awt.Cursor", true),
+              new String[] {
+                "static java.awt.Cursor.getSystemCustomCursor",
               })
           .put(
               "WALL_TIME",
-              new Import[] {
-                new Import("WALL_TIME", "java.util.SimpleTimeZone", true),
+              new String[] {
+                "static java.util.SimpleTimeZone.WALL_TIME",
               })
           .put(
               "ValueBaseHelper",
-              new Import[] {
-                new Import("ValueBaseHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ValueBaseHelper",
               })
           .put(
               "ZoneView",
-              new Import[] {
-                new Import("ZoneView", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.ZoneView",
               })
           .put(
               "Location",
-              new Import[] {
-                new Import("Location", "javax.tools.DocumentationTool", false),
-                new Import("Location", "javax.tools.JavaFileManager", false),
-                new Import("Location", "javax.xml.stream", false),
+              new String[] {
+                "javax.tools.DocumentationTool.Location",
+                "javax.tools.JavaFileManager.Location",
+                "javax.xml.stream.Location",
               })
           .put(
               "ContentType",
-              new Import[] {
-                new Import(
-                    "ContentType", "javax.swing.text.DefaultStyledDocument.ElementSpec", true),
+              new String[] {
+                "static javax.swing.text.DefaultStyledDocument.ElementSpec.ContentType",
               })
           .put(
               "ClientRequestInfoOperations",
-              new Import[] {
-                new Import("ClientRequestInfoOperations", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ClientRequestInfoOperations",
               })
           .put(
               "TextAttribute",
-              new Import[] {
-                new Import("TextAttribute", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.TextAttribute",
               })
           .put(
               "Rectangle",
-              new Import[] {
-                new Import("Rectangle", "java.awt", false),
+              new String[] {
+                "java.awt.Rectangle",
               })
           .put(
               "MANAGES_DESCENDANTS",
-              new Import[] {
-                new Import("MANAGES_DESCENDANTS", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.MANAGES_DESCENDANTS",
               })
           .put(
               "INPUT_METHOD_TEXT_CHANGED",
-              new Import[] {
-                new Import("INPUT_METHOD_TEXT_CHANGED", "java.awt.event.InputMethodEvent", true),
+              new String[] {
+                "static java.awt.event.InputMethodEvent.INPUT_METHOD_TEXT_CHANGED",
               })
           .put(
               "HREF",
-              new Import[] {
-                new Import("HREF", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.HREF",
               })
           .put(
               "DIRECTIONALITY_RIGHT_TO_LEFT",
-              new Import[] {
-                new Import("DIRECTIONALITY_RIGHT_TO_LEFT", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_RIGHT_TO_LEFT",
               })
           .put(
               "ArithmeticException",
-              new Import[] {
-                new Import("ArithmeticException", "java.lang", false),
+              new String[] {
+                "java.lang.ArithmeticException",
               })
           .put(
               "Deflater",
-              new Import[] {
-                new Import("Deflater", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.Deflater",
               })
           .put(
               "KEY_RELEASE",
-              new Import[] {
-                new Import("KEY_RELEASE", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.KEY_RELEASE",
               })
           .put(
               "DIRECTION_DEFAULT_LEFT_TO_RIGHT",
-              new Import[] {
-                new Import("DIRECTION_DEFAULT_LEFT_TO_RIGHT", "java.text.Bidi", true),
+              new String[] {
+                "static java.text.Bidi.DIRECTION_DEFAULT_LEFT_TO_RIGHT",
               })
           .put(
               "LexicalHandler",
-              new Import[] {
-                new Import("LexicalHandler", "org.xml.sax.ext", false),
+              new String[] {
+                "org.xml.sax.ext.LexicalHandler",
               })
           .put(
               "SATURDAY",
-              new Import[] {
-                new Import("SATURDAY", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.SATURDAY",
               })
           .put(
               "setDefaultSSLSocketFactory",
-              new Import[] {
-                new Import("setDefaultSSLSocketFactory", "javax.net.ssl.HttpsURLConnection", true),
+              new String[] {
+                "static javax.net.ssl.HttpsURLConnection.setDefaultSSLSocketFactory",
               })
           .put(
               "Buffer",
-              new Import[] {
-                new Import("Buffer", "java.nio", false),
+              new String[] {
+                "java.nio.Buffer",
               })
           .put(
               "JMXServiceURL",
-              new Import[] {
-                new Import("JMXServiceURL", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.JMXServiceURL",
               })
           .put(
               "KeyPair",
-              new Import[] {
-                new Import("KeyPair", "java.security", false),
+              new String[] {
+                "java.security.KeyPair",
               })
           .put(
               "LocalTime",
-              new Import[] {
-                new Import("LocalTime", "java.time", false),
+              new String[] {
+                "java.time.LocalTime",
               })
           .put(
               "getProviders",
-              new Import[] {
-                new Import("getProviders", "java.security.Security", true),
+              new String[] {
+                "static java.security.Security.getProviders",
               })
           .put(
               "AccessibleState",
-              new Import[] {
-                new Import("AccessibleState", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleState",
               })
           .put(
               "LinkLoopException",
-              new Import[] {
-                new Import("LinkLoopException", "javax.naming", false),
+              new String[] {
+                "javax.naming.LinkLoopException",
               })
           .put(
               "OPTION",
-              new Import[] {
-                new Import("OPTION", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.OPTION",
               })
           .put(
               "TOGGLE_EXPAND",
-              new Import[] {
-                new Import("TOGGLE_EXPAND", "javax.accessibility.AccessibleAction", true),
+              new String[] {
+                "static javax.accessibility.AccessibleAction.TOGGLE_EXPAND",
               })
           .put(
               "Namespace",
-              new Import[] {
-                new Import("Namespace", "javax.xml.stream.events", false),
+              new String[] {
+                "javax.xml.stream.events.Namespace",
               })
           .put(
               "AffineTransformOp",
-              new Import[] {
-                new Import("AffineTransformOp", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.AffineTransformOp",
               })
           .put(
               "getDefaultDragSource",
-              new Import[] {
-                new Import("getDefaultDragSource", "java.awt.dnd.DragSource", true),
+              new String[] {
+                "static java.awt.dnd.DragSource.getDefaultDragSource",
               })
           .put(
               "DESIGNATED_LONG",
-              new Import[] {
-                new Import("DESIGNATED_LONG", "javax.print.attribute.standard.MediaSize.ISO", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.ISO.DESIGNATED_LONG",
               })
           .put(
               "JTree",
-              new Import[] {
-                new Import("JTree", "javax.swing", false),
+              new String[] {
+                "javax.swing.JTree",
               })
           .put(
               "DynamicUtilTreeNode",
-              new Import[] {
-                new Import("DynamicUtilTreeNode", "javax.swing.JTree", false),
+              new String[] {
+                "javax.swing.JTree.DynamicUtilTreeNode",
               })
           .put(
               "SignatureMethod",
-              new Import[] {
-                new Import("SignatureMethod", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "javax.xml.crypto.dsig.SignatureMethod",
               })
           .put(
               "ProviderMismatchException",
-              new Import[] {
-                new Import("ProviderMismatchException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.ProviderMismatchException",
               })
           .put(
               "FULL_JOIN",
-              new Import[] {
-                new Import("FULL_JOIN", "javax.sql.rowset.JoinRowSet", true),
+              new String[] {
+                "static javax.sql.rowset.JoinRowSet.FULL_JOIN",
               })
           .put(
               "SECOND_FIELD",
-              new Import[] {
-                new Import("SECOND_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.SECOND_FIELD",
               })
           .put(
               "OPENED",
-              new Import[] {
-                new Import("OPENED", "javax.management.remote.JMXConnectionNotification", true),
+              new String[] {
+                "static javax.management.remote.JMXConnectionNotification.OPENED",
               })
           .put(
               "SynthViewportUI",
-              new Import[] {
-                new Import("SynthViewportUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthViewportUI",
               })
           .put(
               "parseDateTime",
-              new Import[] {
-                new Import("parseDateTime", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.parseDateTime",
               })
           .put(
               "_tk_Principal",
-              new Import[] {
-                new Import("_tk_Principal", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_Principal",
               })
           .put(
               "rotateLeft",
-              new Import[] {
-                new Import("rotateLeft", "java.lang.Integer", true),
-                new Import("rotateLeft", "java.lang.Long", true),
+              new String[] {
+                "static java.lang.Integer.rotateLeft", "static java.lang.Long.rotateLeft",
               })
           .put(
               "createSymbolicLink",
-              new Import[] {
-                new Import("createSymbolicLink", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.createSymbolicLink",
               })
           .put(
               "ECGenParameterSpec",
-              new Import[] {
-                new Import("ECGenParameterSpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.ECGenParameterSpec",
               })
           .put(
               "FLAG_RUN_RTL",
-              new Import[] {
-                new Import("FLAG_RUN_RTL", "java.awt.font.GlyphVector", true),
+              new String[] {
+                "static java.awt.font.GlyphVector.FLAG_RUN_RTL",
               })
           .put(
               "VK_JAPANESE_ROMAN",
-              new Import[] {
-                new Import("VK_JAPANESE_ROMAN", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_JAPANESE_ROMAN",
               })
           .put(
               "lookupTag",
-              new Import[] {
-                new Import("lookupTag", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.lookupTag",
               })
           .put(
               "Binder",
-              new Import[] {
-                new Import("Binder", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.Binder",
               })
           .put(
               "MemoryMXBean",
-              new Import[] {
-                new Import("MemoryMXBean", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.MemoryMXBean",
               })
           .put(
               "OSMANYA",
-              new Import[] {
-                new Import("OSMANYA", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.OSMANYA",
               })
           .put(
               "GLOBAL_SCOPE",
-              new Import[] {
-                new Import("GLOBAL_SCOPE", "javax.script.ScriptContext", true),
+              new String[] {
+                "static javax.script.ScriptContext.GLOBAL_SCOPE",
               })
           .put(
               "AbstractSelectionKey",
-              new Import[] {
-                new Import("AbstractSelectionKey", "java.nio.channels.spi", false),
+              new String[] {
+                "java.nio.channels.spi.AbstractSelectionKey",
               })
           .put(
               "CONTROLLED_BY_PROPERTY",
-              new Import[] {
-                new Import(
-                    "CONTROLLED_BY_PROPERTY", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.CONTROLLED_BY_PROPERTY",
               })
           .put(
               "icHdrMagic",
-              new Import[] {
-                new Import("icHdrMagic", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrMagic",
               })
           .put(
               "FileFilter",
-              new Import[] {
-                new Import("FileFilter", "java.io", false),
-                new Import("FileFilter", "javax.swing.filechooser", false),
+              new String[] {
+                "java.io.FileFilter", "javax.swing.filechooser.FileFilter",
               })
           .put(
               "doPrivilegedWithCombiner",
-              new Import[] {
-                new Import("doPrivilegedWithCombiner", "java.security.AccessController", true),
+              new String[] {
+                "static java.security.AccessController.doPrivilegedWithCombiner",
               })
           .put(
               "Spliterator",
-              new Import[] {
-                new Import("Spliterator", "java.util", false),
+              new String[] {
+                "java.util.Spliterator",
               })
           .put(
               "Pattern",
-              new Import[] {
-                new Import("Pattern", "java.util.regex", false),
+              new String[] {
+                "java.util.regex.Pattern",
               })
           .put(
               "MetaEventListener",
-              new Import[] {
-                new Import("MetaEventListener", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.MetaEventListener",
               })
           .put(
               "IsoChronology",
-              new Import[] {
-                new Import("IsoChronology", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.IsoChronology",
               })
           .put(
               "getSystemResource",
-              new Import[] {
-                new Import("getSystemResource", "java.lang.ClassLoader", true),
+              new String[] {
+                "static java.lang.ClassLoader.getSystemResource",
               })
           .put(
               "ECPoint",
-              new Import[] {
-                new Import("ECPoint", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.ECPoint",
               })
           .put(
               "OBSERVED_OBJECT_ERROR",
-              new Import[] {
-                new Import(
-                    "OBSERVED_OBJECT_ERROR", "javax.management.monitor.MonitorNotification", true),
+              new String[] {
+                "static javax.management.monitor.MonitorNotification.OBSERVED_OBJECT_ERROR",
               })
           .put(
               "isLocal",
-              new Import[] {
-                new Import("isLocal", "javax.rmi.CORBA.Util", true),
+              new String[] {
+                "static javax.rmi.CORBA.Util.isLocal",
               })
           .put(
               "AbstractAnnotationValueVisitor7",
-              new Import[] {
-                new Import("AbstractAnnotationValueVisitor7", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.AbstractAnnotationValueVisitor7",
               })
           .put(
               "AbstractAnnotationValueVisitor6",
-              new Import[] {
-                new Import("AbstractAnnotationValueVisitor6", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.AbstractAnnotationValueVisitor6",
               })
           .put(
               "AbstractAnnotationValueVisitor8",
-              new Import[] {
-                new Import("AbstractAnnotationValueVisitor8", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.AbstractAnnotationValueVisitor8",
               })
           .put(
               "Finishings",
-              new Import[] {
-                new Import("Finishings", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.Finishings",
               })
           .put(
               "setCurrentTheme",
-              new Import[] {
-                new Import("setCurrentTheme", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.setCurrentTheme",
               })
           .put(
               "HTTP_GONE",
-              new Import[] {
-                new Import("HTTP_GONE", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_GONE",
               })
           .put(
               "KEEP_FILE_ORDER",
-              new Import[] {
-                new Import("KEEP_FILE_ORDER", "java.util.jar.Pack200.Packer", true),
+              new String[] {
+                "static java.util.jar.Pack200.Packer.KEEP_FILE_ORDER",
               })
           .put(
               "DynamicMBean",
-              new Import[] {
-                new Import("DynamicMBean", "javax.management", false),
+              new String[] {
+                "javax.management.DynamicMBean",
               })
           .put(
               "AccessDeniedException",
-              new Import[] {
-                new Import("AccessDeniedException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.AccessDeniedException",
               })
           .put(
               "getDefaultLightWeightPopupEnabled",
-              new Import[] {
-                new Import("getDefaultLightWeightPopupEnabled", "javax.swing.JPopupMenu", true),
+              new String[] {
+                "static javax.swing.JPopupMenu.getDefaultLightWeightPopupEnabled",
               })
           .put(
               "SO_SNDBUF",
-              new Import[] {
-                new Import("SO_SNDBUF", "java.net.SocketOptions", true),
-                new Import("SO_SNDBUF", "java.net.StandardSocketOptions", true),
+              new String[] {
+                "static java.net.SocketOptions.SO_SNDBUF",
+                "static java.net.StandardSocketOptions.SO_SNDBUF",
               })
           .put(
               "Builder",
-              new Import[] {
-                new Import("Builder", "java.nio.file.attribute.AclEntry", false),
-                new Import("Builder", "java.security.KeyStore", false),
-                new Import("Builder", "java.util.Calendar", false),
-                new Import("Builder", "java.util.Locale", false),
-                new Import("Builder", "java.util.stream.DoubleStream", false),
-                new Import("Builder", "java.util.stream.IntStream", false),
-                new Import("Builder", "java.util.stream.LongStream", false),
-                new Import("Builder", "java.util.stream.Stream", false),
+              new String[] {
+                "java.nio.file.attribute.AclEntry.Builder",
+                "java.security.KeyStore.Builder",
+                "java.util.Calendar.Builder",
+                "java.util.Locale.Builder",
+                "java.util.stream.DoubleStream.Builder",
+                "java.util.stream.IntStream.Builder",
+                "java.util.stream.LongStream.Builder",
+                "java.util.stream.Stream.Builder",
               })
           .put(
               "NT_EXPORT_NAME",
-              new Import[] {
-                new Import("NT_EXPORT_NAME", "org.ietf.jgss.GSSName", true),
+              new String[] {
+                "static org.ietf.jgss.GSSName.NT_EXPORT_NAME",
               })
           .put(
               "Executors",
-              new Import[] {
-                new Import("Executors", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.Executors",
               })
           .put(
               "CHOU_1",
-              new Import[] {
-                new Import("CHOU_1", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.CHOU_1",
               })
           .put(
               "ECPublicKeySpec",
-              new Import[] {
-                new Import("ECPublicKeySpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.ECPublicKeySpec",
               })
           .put(
               "CHOU_2",
-              new Import[] {
-                new Import("CHOU_2", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.CHOU_2",
               })
           .put(
               "CHOU_3",
-              new Import[] {
-                new Import("CHOU_3", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.CHOU_3",
               })
           .put(
               "NoInitialContextException",
-              new Import[] {
-                new Import("NoInitialContextException", "javax.naming", false),
+              new String[] {
+                "javax.naming.NoInitialContextException",
               })
           .put(
               "PAINT_LAST",
-              new Import[] {
-                new Import("PAINT_LAST", "java.awt.event.PaintEvent", true),
+              new String[] {
+                "static java.awt.event.PaintEvent.PAINT_LAST",
               })
           .put(
               "getMenuArrowIcon",
-              new Import[] {
-                new Import("getMenuArrowIcon", "javax.swing.plaf.basic.BasicIconFactory", true),
-                new Import("getMenuArrowIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicIconFactory.getMenuArrowIcon",
+                "static javax.swing.plaf.metal.MetalIconFactory.getMenuArrowIcon",
               })
           .put(
               "MOUSE_WHEEL_EVENT_MASK",
-              new Import[] {
-                new Import("MOUSE_WHEEL_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.MOUSE_WHEEL_EVENT_MASK",
               })
           .put(
               "BadKind",
-              new Import[] {
-                new Import("BadKind", "org.omg.CORBA.TypeCodePackage", false),
+              new String[] {
+                "org.omg.CORBA.TypeCodePackage.BadKind",
               })
           .put(
               "JOIN_MITER",
-              new Import[] {
-                new Import("JOIN_MITER", "java.awt.BasicStroke", true),
+              new String[] {
+                "static java.awt.BasicStroke.JOIN_MITER",
               })
           .put(
               "icSigOutputClass",
-              new Import[] {
-                new Import("icSigOutputClass", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigOutputClass",
               })
           .put(
               "GEORGIAN",
-              new Import[] {
-                new Import("GEORGIAN", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.GEORGIAN",
               })
           .put(
               "MARSHAL",
-              new Import[] {
-                new Import("MARSHAL", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.MARSHAL",
               })
           .put(
               "TITLECASE_LETTER",
-              new Import[] {
-                new Import("TITLECASE_LETTER", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.TITLECASE_LETTER",
               })
           .put(
               "ADMIN_UIROLE",
-              new Import[] {
-                new Import("ADMIN_UIROLE", "javax.print.ServiceUIFactory", true),
+              new String[] {
+                "static javax.print.ServiceUIFactory.ADMIN_UIROLE",
               })
           .put(
               "JOptionPane",
-              new Import[] {
-                new Import("JOptionPane", "javax.swing", false),
+              new String[] {
+                "javax.swing.JOptionPane",
               })
           .put(
               "CommonDataSource",
-              new Import[] {
-                new Import("CommonDataSource", "javax.sql", false),
+              new String[] {
+                "javax.sql.CommonDataSource",
               })
           .put(
               "PushbackReader",
-              new Import[] {
-                new Import("PushbackReader", "java.io", false),
+              new String[] {
+                "java.io.PushbackReader",
               })
           .put(
               "IS_SUPPORTING_EXTERNAL_ENTITIES",
-              new Import[] {
-                new Import(
-                    "IS_SUPPORTING_EXTERNAL_ENTITIES", "javax.xml.stream.XMLInputFactory", true),
+              new String[] {
+                "static javax.xml.stream.XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES",
               })
           .put(
               "printDialog",
-              new Import[] {
-                new Import("printDialog", "javax.print.ServiceUI", true),
+              new String[] {
+                "static javax.print.ServiceUI.printDialog",
               })
           .put(
               "createBevelBorder",
-              new Import[] {
-                new Import("createBevelBorder", "javax.swing.BorderFactory", true),
+              new String[] {
+                "static javax.swing.BorderFactory.createBevelBorder",
               })
           .put(
               "getVerticalSliderThumbIcon",
-              new Import[] {
-                new Import(
-                    "getVerticalSliderThumbIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getVerticalSliderThumbIcon",
               })
           .put(
               "systemUTC",
-              new Import[] {
-                new Import("systemUTC", "java.time.Clock", true),
+              new String[] {
+                "static java.time.Clock.systemUTC",
               })
           .put(
               "INSERT",
-              new Import[] {
-                new Import("INSERT", "java.awt.Event", true),
-                new Import("INSERT", "javax.accessibility.AccessibleTableModelChange", true),
-                new Import("INSERT", "javax.swing.event.TableModelEvent", true),
-                new Import("INSERT", "javax.swing.event.DocumentEvent.EventType", true),
+              new String[] {
+                "static java.awt.Event.INSERT",
+                "static javax.accessibility.AccessibleTableModelChange.INSERT",
+                "static javax.swing.event.TableModelEvent.INSERT",
+                "static javax.swing.event.DocumentEvent.EventType.INSERT",
               })
           .put(
               "AccountNotFoundException",
-              new Import[] {
-                new Import("AccountNotFoundException", "javax.security.auth.login", false),
+              new String[] {
+                "javax.security.auth.login.AccountNotFoundException",
               })
           .put(
               "SRC_IN",
-              new Import[] {
-                new Import("SRC_IN", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.SRC_IN",
               })
           .put(
               "WindowTranslucency",
-              new Import[] {
-                new Import("WindowTranslucency", "java.awt.GraphicsDevice", false),
+              new String[] {
+                "java.awt.GraphicsDevice.WindowTranslucency",
               })
           .put(
               "InsufficientResourcesException",
-              new Import[] {
-                new Import("InsufficientResourcesException", "javax.naming", false),
+              new String[] {
+                "javax.naming.InsufficientResourcesException",
               })
           .put(
               "SSLEngine",
-              new Import[] {
-                new Import("SSLEngine", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLEngine",
               })
           .put(
               "ENDPOINT_ADDRESS_PROPERTY",
-              new Import[] {
-                new Import("ENDPOINT_ADDRESS_PROPERTY", "javax.xml.ws.BindingProvider", true),
+              new String[] {
+                "static javax.xml.ws.BindingProvider.ENDPOINT_ADDRESS_PROPERTY",
               })
           .put(
               "END_PUNCTUATION",
-              new Import[] {
-                new Import("END_PUNCTUATION", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.END_PUNCTUATION",
               })
           .put(
               "ABOVE_BOTTOM",
-              new Import[] {
-                new Import("ABOVE_BOTTOM", "javax.swing.border.TitledBorder", true),
+              new String[] {
+                "static javax.swing.border.TitledBorder.ABOVE_BOTTOM",
               })
           .put(
               "tickSeconds",
-              new Import[] {
-                new Import("tickSeconds", "java.time.Clock", true),
+              new String[] {
+                "static java.time.Clock.tickSeconds",
               })
           .put(
               "icSigCrdInfoTag",
-              new Import[] {
-                new Import("icSigCrdInfoTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigCrdInfoTag",
               })
           .put(
               "reflectAs",
-              new Import[] {
-                new Import("reflectAs", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.reflectAs",
               })
           .put(
               "Chronology",
-              new Import[] {
-                new Import("Chronology", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.Chronology",
               })
           .put(
               "UnsupportedTemporalTypeException",
-              new Import[] {
-                new Import("UnsupportedTemporalTypeException", "java.time.temporal", false),
+              new String[] {
+                "java.time.temporal.UnsupportedTemporalTypeException",
               })
           .put(
               "HTTP_RESPONSE_HEADERS",
-              new Import[] {
-                new Import("HTTP_RESPONSE_HEADERS", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.handler.MessageContext.HTTP_RESPONSE_HEADERS",
               })
           .put(
               "MetalScrollBarUI",
-              new Import[] {
-                new Import("MetalScrollBarUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalScrollBarUI",
               })
           .put(
               "subtractExact",
-              new Import[] {
-                new Import("subtractExact", "java.lang.Math", true),
-                new Import("subtractExact", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.subtractExact", "static java.lang.StrictMath.subtractExact",
               })
           .put(
               "AdapterAlreadyExistsHelper",
-              new Import[] {
-                new Import(
-                    "AdapterAlreadyExistsHelper", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper",
               })
           .put(
               "DIRECTIONALITY_EUROPEAN_NUMBER_TERMINATOR",
-              new Import[] {
-                new Import(
-                    "DIRECTIONALITY_EUROPEAN_NUMBER_TERMINATOR", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_EUROPEAN_NUMBER_TERMINATOR",
               })
           .put(
               "URLDataSource",
-              new Import[] {
-                new Import("URLDataSource", "javax.activation", false),
+              new String[] {
+                "javax.activation.URLDataSource",
               })
           .put(
               "AclFileAttributeView",
-              new Import[] {
-                new Import("AclFileAttributeView", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.AclFileAttributeView",
               })
           .put(
               "SPLIT_PANE",
-              new Import[] {
-                new Import("SPLIT_PANE", "javax.accessibility.AccessibleRole", true),
-                new Import("SPLIT_PANE", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.SPLIT_PANE",
+                "static javax.swing.plaf.synth.Region.SPLIT_PANE",
               })
           .put(
               "UNINITIALIZED_VALUE",
-              new Import[] {
-                new Import("UNINITIALIZED_VALUE", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.UNINITIALIZED_VALUE",
               })
           .put(
               "BIT_DEPTH_MULTI",
-              new Import[] {
-                new Import("BIT_DEPTH_MULTI", "java.awt.DisplayMode", true),
+              new String[] {
+                "static java.awt.DisplayMode.BIT_DEPTH_MULTI",
               })
           .put(
               "TUMBLE",
-              new Import[] {
-                new Import("TUMBLE", "javax.print.attribute.standard.Sides", true),
+              new String[] {
+                "static javax.print.attribute.standard.Sides.TUMBLE",
               })
           .put(
               "BORDER_STYLE",
-              new Import[] {
-                new Import("BORDER_STYLE", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_STYLE",
               })
           .put(
               "TEXT_PLAIN_HOST",
-              new Import[] {
-                new Import("TEXT_PLAIN_HOST", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_PLAIN_HOST", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_PLAIN_HOST", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.TEXT_PLAIN_HOST",
+                "static javax.print.DocFlavor.INPUT_STREAM.TEXT_PLAIN_HOST",
+                "static javax.print.DocFlavor.URL.TEXT_PLAIN_HOST",
               })
           .put(
               "SWING_COMPONENT",
-              new Import[] {
-                new Import("SWING_COMPONENT", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.SWING_COMPONENT",
               })
           .put(
               "NOT_ACCEPTING_JOBS",
-              new Import[] {
-                new Import(
-                    "NOT_ACCEPTING_JOBS",
-                    "javax.print.attribute.standard.PrinterIsAcceptingJobs",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterIsAcceptingJobs.NOT_ACCEPTING_JOBS",
               })
           .put(
               "Pipe",
-              new Import[] {
-                new Import("Pipe", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.Pipe",
               })
           .put(
               "DataInputStream",
-              new Import[] {
-                new Import("DataInputStream", "java.io", false),
-                new Import("DataInputStream", "org.omg.CORBA", false),
+              new String[] {
+                "java.io.DataInputStream", "org.omg.CORBA.DataInputStream",
               })
           .put(
               "SSLServerSocket",
-              new Import[] {
-                new Import("SSLServerSocket", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLServerSocket",
               })
           .put(
               "DIRECTION_LEFT_TO_RIGHT",
-              new Import[] {
-                new Import("DIRECTION_LEFT_TO_RIGHT", "java.text.Bidi", true),
+              new String[] {
+                "static java.text.Bidi.DIRECTION_LEFT_TO_RIGHT",
               })
           .put(
               "InputVerifier",
-              new Import[] {
-                new Import("InputVerifier", "javax.swing", false),
+              new String[] {
+                "javax.swing.InputVerifier",
               })
           .put(
               "JOB_COMPLETED_SUCCESSFULLY",
-              new Import[] {
-                new Import(
-                    "JOB_COMPLETED_SUCCESSFULLY",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.JOB_COMPLETED_SUCCESSFULLY",
               })
           .put(
               "SHA256",
-              new Import[] {
-                new Import("SHA256", "java.security.spec.MGF1ParameterSpec", true),
-                new Import("SHA256", "javax.xml.crypto.dsig.DigestMethod", true),
+              new String[] {
+                "static java.security.spec.MGF1ParameterSpec.SHA256",
+                "static javax.xml.crypto.dsig.DigestMethod.SHA256",
               })
           .put(
               "CENCOM",
-              new Import[] {
-                new Import("CENCOM", "java.util.jar.JarEntry", true),
-                new Import("CENCOM", "java.util.jar.JarFile", true),
-                new Import("CENCOM", "java.util.jar.JarInputStream", true),
-                new Import("CENCOM", "java.util.jar.JarOutputStream", true),
-                new Import("CENCOM", "java.util.zip.ZipEntry", true),
-                new Import("CENCOM", "java.util.zip.ZipFile", true),
-                new Import("CENCOM", "java.util.zip.ZipInputStream", true),
-                new Import("CENCOM", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENCOM",
+                "static java.util.jar.JarFile.CENCOM",
+                "static java.util.jar.JarInputStream.CENCOM",
+                "static java.util.jar.JarOutputStream.CENCOM",
+                "static java.util.zip.ZipEntry.CENCOM",
+                "static java.util.zip.ZipFile.CENCOM",
+                "static java.util.zip.ZipInputStream.CENCOM",
+                "static java.util.zip.ZipOutputStream.CENCOM",
               })
           .put(
               "CLASS_PATH",
-              new Import[] {
-                new Import("CLASS_PATH", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.CLASS_PATH",
               })
           .put(
               "CertPathValidator",
-              new Import[] {
-                new Import("CertPathValidator", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertPathValidator",
               })
           .put(
               "JMXConnectorServerProvider",
-              new Import[] {
-                new Import("JMXConnectorServerProvider", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.JMXConnectorServerProvider",
               })
           .put(
               "IntersectionType",
-              new Import[] {
-                new Import("IntersectionType", "javax.lang.model.type", false),
+              new String[] {
+                "javax.lang.model.type.IntersectionType",
               })
           .put(
               "getNoFallbackControl",
-              new Import[] {
-                new Import("getNoFallbackControl", "java.util.ResourceBundle.Control", true),
+              new String[] {
+                "static java.util.ResourceBundle.Control.getNoFallbackControl",
               })
           .put(
               "LOCNAM",
-              new Import[] {
-                new Import("LOCNAM", "java.util.jar.JarEntry", true),
-                new Import("LOCNAM", "java.util.jar.JarFile", true),
-                new Import("LOCNAM", "java.util.jar.JarInputStream", true),
-                new Import("LOCNAM", "java.util.jar.JarOutputStream", true),
-                new Import("LOCNAM", "java.util.zip.ZipEntry", true),
-                new Import("LOCNAM", "java.util.zip.ZipFile", true),
-                new Import("LOCNAM", "java.util.zip.ZipInputStream", true),
-                new Import("LOCNAM", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.LOCNAM",
+                "static java.util.jar.JarFile.LOCNAM",
+                "static java.util.jar.JarInputStream.LOCNAM",
+                "static java.util.jar.JarOutputStream.LOCNAM",
+                "static java.util.zip.ZipEntry.LOCNAM",
+                "static java.util.zip.ZipFile.LOCNAM",
+                "static java.util.zip.ZipInputStream.LOCNAM",
+                "static java.util.zip.ZipOutputStream.LOCNAM",
               })
           .put(
               "setCurrentKeyboardFocusManager",
-              new Import[] {
-                new Import("setCurrentKeyboardFocusManager", "java.awt.KeyboardFocusManager", true),
+              new String[] {
+                "static java.awt.KeyboardFocusManager.setCurrentKeyboardFocusManager",
               })
           .put(
               "round",
-              new Import[] {
-                new Import("round", "java.lang.Math", true),
-                new Import("round", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.round", "static java.lang.StrictMath.round",
               })
           .put(
               "LEFT_JUSTIFY",
-              new Import[] {
-                new Import("LEFT_JUSTIFY", "java.util.FormattableFlags", true),
+              new String[] {
+                "static java.util.FormattableFlags.LEFT_JUSTIFY",
               })
           .put(
               "ACTION_REPLACE_CHILDREN",
-              new Import[] {
-                new Import("ACTION_REPLACE_CHILDREN", "org.w3c.dom.ls.LSParser", true),
+              new String[] {
+                "static org.w3c.dom.ls.LSParser.ACTION_REPLACE_CHILDREN",
               })
           .put(
               "IDLE",
-              new Import[] {
-                new Import("IDLE", "javax.print.attribute.standard.PrinterState", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterState.IDLE",
               })
           .put(
               "MINI_KEY",
-              new Import[] {
-                new Import("MINI_KEY", "javax.swing.plaf.nimbus.NimbusStyle", true),
+              new String[] {
+                "static javax.swing.plaf.nimbus.NimbusStyle.MINI_KEY",
               })
           .put(
               "TAG_JSTF",
-              new Import[] {
-                new Import("TAG_JSTF", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_JSTF",
               })
           .put(
               "CredentialExpiredException",
-              new Import[] {
-                new Import("CredentialExpiredException", "javax.security.auth.login", false),
+              new String[] {
+                "javax.security.auth.login.CredentialExpiredException",
               })
           .put(
               "DISPLAYABILITY_CHANGED",
-              new Import[] {
-                new Import("DISPLAYABILITY_CHANGED", "java.awt.event.HierarchyEvent", true),
+              new String[] {
+                "static java.awt.event.HierarchyEvent.DISPLAYABILITY_CHANGED",
               })
           .put(
               "IP_MULTICAST_TTL",
-              new Import[] {
-                new Import("IP_MULTICAST_TTL", "java.net.StandardSocketOptions", true),
+              new String[] {
+                "static java.net.StandardSocketOptions.IP_MULTICAST_TTL",
               })
           .put(
               "CertStore",
-              new Import[] {
-                new Import("CertStore", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertStore",
               })
           .put(
               "WANTS_INPUT_PROPERTY",
-              new Import[] {
-                new Import("WANTS_INPUT_PROPERTY", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.WANTS_INPUT_PROPERTY",
               })
           .put(
               "summingLong",
-              new Import[] {
-                new Import("summingLong", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.summingLong",
               })
           .build();
 }
@@ -2,1563 +2,1537 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk27 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "CharSeqHelper",
-              new Import[] {
-                new Import("CharSeqHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.CharSeqHelper",
               })
           .put(
               "icSigMeasurementTag",
-              new Import[] {
-                new Import("icSigMeasurementTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigMeasurementTag",
               })
           .put(
               "ReadableByteChannel",
-              new Import[] {
-                new Import("ReadableByteChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.ReadableByteChannel",
               })
           .put(
               "IIOMetadataController",
-              new Import[] {
-                new Import("IIOMetadataController", "javax.imageio.metadata", false),
+              new String[] {
+                "javax.imageio.metadata.IIOMetadataController",
               })
           .put(
               "LIST_STYLE_IMAGE",
-              new Import[] {
-                new Import("LIST_STYLE_IMAGE", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.LIST_STYLE_IMAGE",
               })
           .put(
               "InetSocketAddress",
-              new Import[] {
-                new Import("InetSocketAddress", "java.net", false),
+              new String[] {
+                "java.net.InetSocketAddress",
               })
           .put(
               "fromMethodDescriptorString",
-              new Import[] {
-                new Import("fromMethodDescriptorString", "java.lang.invoke.MethodType", true),
+              new String[] {
+                "static java.lang.invoke.MethodType.fromMethodDescriptorString",
               })
           .put(
               "IllegalFormatConversionException",
-              new Import[] {
-                new Import("IllegalFormatConversionException", "java.util", false),
+              new String[] {
+                "java.util.IllegalFormatConversionException",
               })
           .put(
               "TAI_LE",
-              new Import[] {
-                new Import("TAI_LE", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.TAI_LE",
               })
           .put(
               "quote",
-              new Import[] {
-                new Import("quote", "java.util.regex.Pattern", true),
-                new Import("quote", "javax.management.ObjectName", true),
+              new String[] {
+                "static java.util.regex.Pattern.quote", "static javax.management.ObjectName.quote",
               })
           .put(
               "readAny",
-              new Import[] {
-                new Import("readAny", "javax.rmi.CORBA.Util", true),
+              new String[] {
+                "static javax.rmi.CORBA.Util.readAny",
               })
           .put(
               "TreeSet",
-              new Import[] {
-                new Import("TreeSet", "java.util", false),
+              new String[] {
+                "java.util.TreeSet",
               })
           .put(
               "XML_NS_PREFIX",
-              new Import[] {
-                new Import("XML_NS_PREFIX", "javax.xml.XMLConstants", true),
+              new String[] {
+                "static javax.xml.XMLConstants.XML_NS_PREFIX",
               })
           .put(
               "SOAPException",
-              new Import[] {
-                new Import("SOAPException", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SOAPException",
               })
           .put(
               "LongToIntFunction",
-              new Import[] {
-                new Import("LongToIntFunction", "java.util.function", false),
+              new String[] {
+                "java.util.function.LongToIntFunction",
               })
           .put(
               "EDGE_NO_OP",
-              new Import[] {
-                new Import("EDGE_NO_OP", "java.awt.image.ConvolveOp", true),
+              new String[] {
+                "static java.awt.image.ConvolveOp.EDGE_NO_OP",
               })
           .put(
               "classattr",
-              new Import[] {
-                new Import("classattr", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.classattr",
               })
           .put(
               "KeyRep",
-              new Import[] {
-                new Import("KeyRep", "java.security", false),
+              new String[] {
+                "java.security.KeyRep",
               })
           .put(
               "getISOLanguages",
-              new Import[] {
-                new Import("getISOLanguages", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.getISOLanguages",
               })
           .put(
               "MBeanRegistration",
-              new Import[] {
-                new Import("MBeanRegistration", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanRegistration",
               })
           .put(
               "MIDI_SYNC",
-              new Import[] {
-                new Import("MIDI_SYNC", "javax.sound.midi.Sequencer.SyncMode", true),
+              new String[] {
+                "static javax.sound.midi.Sequencer.SyncMode.MIDI_SYNC",
               })
           .put(
               "A10",
-              new Import[] {
-                new Import("A10", "java.awt.PageAttributes.MediaType", true),
-                new Import("A10", "javax.print.attribute.standard.MediaSize.ISO", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.A10",
+                "static javax.print.attribute.standard.MediaSize.ISO.A10",
               })
           .put(
               "TABBED_PANE",
-              new Import[] {
-                new Import("TABBED_PANE", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.TABBED_PANE",
               })
           .put(
               "MOVING_TO_PAUSED",
-              new Import[] {
-                new Import(
-                    "MOVING_TO_PAUSED", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.MOVING_TO_PAUSED",
               })
           .put(
               "stringFlavor",
-              new Import[] {
-                new Import("stringFlavor", "java.awt.datatransfer.DataFlavor", true),
+              new String[] {
+                "static java.awt.datatransfer.DataFlavor.stringFlavor",
               })
           .put(
               "NA_LETTER",
-              new Import[] {
-                new Import("NA_LETTER", "java.awt.PageAttributes.MediaType", true),
-                new Import("NA_LETTER", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.NA_LETTER",
+                "static javax.print.attribute.standard.MediaSizeName.NA_LETTER",
               })
           .put(
               "logicalAnd",
-              new Import[] {
-                new Import("logicalAnd", "java.lang.Boolean", true),
+              new String[] {
+                "static java.lang.Boolean.logicalAnd",
               })
           .put(
               "TYPE_BYTE",
-              new Import[] {
-                new Import("TYPE_BYTE", "java.awt.image.DataBuffer", true),
+              new String[] {
+                "static java.awt.image.DataBuffer.TYPE_BYTE",
               })
           .put(
               "DOMINO_TILES",
-              new Import[] {
-                new Import("DOMINO_TILES", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.DOMINO_TILES",
               })
           .put(
               "copyObjects",
-              new Import[] {
-                new Import("copyObjects", "javax.rmi.CORBA.Util", true),
+              new String[] {
+                "static javax.rmi.CORBA.Util.copyObjects",
               })
           .put(
               "emptyLongSpliterator",
-              new Import[] {
-                new Import("emptyLongSpliterator", "java.util.Spliterators", true),
+              new String[] {
+                "static java.util.Spliterators.emptyLongSpliterator",
               })
           .put(
               "AlgorithmConstraints",
-              new Import[] {
-                new Import("AlgorithmConstraints", "java.security", false),
+              new String[] {
+                "java.security.AlgorithmConstraints",
               })
           .put(
               "CODE_ATTRIBUTE_PFX",
-              new Import[] {
-                new Import("CODE_ATTRIBUTE_PFX", "java.util.jar.Pack200.Packer", true),
+              new String[] {
+                "static java.util.jar.Pack200.Packer.CODE_ATTRIBUTE_PFX",
               })
           .put(
               "WildcardType",
-              new Import[] {
-                new Import("WildcardType", "java.lang.reflect", false),
-                new Import("WildcardType", "javax.lang.model.type", false),
+              new String[] {
+                "java.lang.reflect.WildcardType", "javax.lang.model.type.WildcardType",
               })
           .put(
               "ServerRequestInfo",
-              new Import[] {
-                new Import("ServerRequestInfo", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ServerRequestInfo",
               })
           .put(
               "JobMessageFromOperator",
-              new Import[] {
-                new Import("JobMessageFromOperator", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobMessageFromOperator",
               })
           .put(
               "TemporalAmount",
-              new Import[] {
-                new Import("TemporalAmount", "java.time.temporal", false),
+              new String[] {
+                "java.time.temporal.TemporalAmount",
               })
           .put(
               "ElementFilter",
-              new Import[] {
-                new Import("ElementFilter", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.ElementFilter",
               })
           .put(
               "printUnsignedInt",
-              new Import[] {
-                new Import("printUnsignedInt", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printUnsignedInt",
               })
           .put(
               "JMXConnectorServerMBean",
-              new Import[] {
-                new Import("JMXConnectorServerMBean", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.JMXConnectorServerMBean",
               })
           .put(
               "_dk_Native",
-              new Import[] {
-                new Import("_dk_Native", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Native",
               })
           .put(
               "ACCESS_EXTERNAL_DTD",
-              new Import[] {
-                new Import("ACCESS_EXTERNAL_DTD", "javax.xml.XMLConstants", true),
+              new String[] {
+                "static javax.xml.XMLConstants.ACCESS_EXTERNAL_DTD",
               })
           .put(
               "SHARADA",
-              new Import[] {
-                new Import("SHARADA", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SHARADA",
               })
           .put(
               "DosFileAttributes",
-              new Import[] {
-                new Import("DosFileAttributes", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.DosFileAttributes",
               })
           .put(
               "dk_Repository",
-              new Import[] {
-                new Import("dk_Repository", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Repository",
               })
           .put(
               "VALUE_TEXT_ANTIALIAS_DEFAULT",
-              new Import[] {
-                new Import("VALUE_TEXT_ANTIALIAS_DEFAULT", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT",
               })
           .put(
               "OUTPUT_AREA_ALMOST_FULL",
-              new Import[] {
-                new Import(
-                    "OUTPUT_AREA_ALMOST_FULL",
-                    "javax.print.attribute.standard.PrinterStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.OUTPUT_AREA_ALMOST_FULL",
               })
           .put(
               "RightIndent",
-              new Import[] {
-                new Import("RightIndent", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.RightIndent",
               })
           .put(
               "STROKE",
-              new Import[] {
-                new Import("STROKE", "java.awt.font.ShapeGraphicAttribute", true),
+              new String[] {
+                "static java.awt.font.ShapeGraphicAttribute.STROKE",
               })
           .put(
               "ParameterizedType",
-              new Import[] {
-                new Import("ParameterizedType", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.ParameterizedType",
               })
           .put(
               "importedKeyNotDeferrable",
-              new Import[] {
-                new Import("importedKeyNotDeferrable", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.importedKeyNotDeferrable",
               })
           .put(
               "SAMP",
-              new Import[] {
-                new Import("SAMP", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.SAMP",
               })
           .put(
               "URLEncoder",
-              new Import[] {
-                new Import("URLEncoder", "java.net", false),
+              new String[] {
+                "java.net.URLEncoder",
               })
           .put(
               "PrinterStateReason",
-              new Import[] {
-                new Import("PrinterStateReason", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PrinterStateReason",
               })
           .put(
               "SOAPHeader",
-              new Import[] {
-                new Import("SOAPHeader", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SOAPHeader",
               })
           .put(
               "toHexString",
-              new Import[] {
-                new Import("toHexString", "java.lang.Double", true),
-                new Import("toHexString", "java.lang.Float", true),
-                new Import("toHexString", "java.lang.Integer", true),
-                new Import("toHexString", "java.lang.Long", true),
+              new String[] {
+                "static java.lang.Double.toHexString",
+                "static java.lang.Float.toHexString",
+                "static java.lang.Integer.toHexString",
+                "static java.lang.Long.toHexString",
               })
           .put(
               "icHdrSize",
-              new Import[] {
-                new Import("icHdrSize", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrSize",
               })
           .put(
               "MinguoChronology",
-              new Import[] {
-                new Import("MinguoChronology", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.MinguoChronology",
               })
           .put(
               "getClassLoadingMXBean",
-              new Import[] {
-                new Import("getClassLoadingMXBean", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.getClassLoadingMXBean",
               })
           .put(
               "NumberOfDocuments",
-              new Import[] {
-                new Import("NumberOfDocuments", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.NumberOfDocuments",
               })
           .put(
               "MenuComponent",
-              new Import[] {
-                new Import("MenuComponent", "java.awt", false),
+              new String[] {
+                "java.awt.MenuComponent",
               })
           .put(
               "UPDATABLE_VIEW_SYNC",
-              new Import[] {
-                new Import("UPDATABLE_VIEW_SYNC", "javax.sql.rowset.spi.SyncProvider", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncProvider.UPDATABLE_VIEW_SYNC",
               })
           .put(
               "EtchedBorder",
-              new Import[] {
-                new Import("EtchedBorder", "javax.swing.border", false),
+              new String[] {
+                "javax.swing.border.EtchedBorder",
               })
           .put(
               "abs",
-              new Import[] {
-                new Import("abs", "java.lang.Math", true),
-                new Import("abs", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.abs", "static java.lang.StrictMath.abs",
               })
           .put(
               "AsynchronousSocketChannel",
-              new Import[] {
-                new Import("AsynchronousSocketChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.AsynchronousSocketChannel",
               })
           .put(
               "HandlerBase",
-              new Import[] {
-                new Import("HandlerBase", "org.xml.sax", false),
+              new String[] {
+                "org.xml.sax.HandlerBase",
               })
           .put(
               "Parameter",
-              new Import[] {
-                new Import("Parameter", "java.lang.reflect", false),
-                new Import("Parameter", "org.omg.Dynamic", false),
+              new String[] {
+                "java.lang.reflect.Parameter", "org.omg.Dynamic.Parameter",
               })
           .put(
               "SyncProvider",
-              new Import[] {
-                new Import("SyncProvider", "javax.sql.rowset.spi", false),
+              new String[] {
+                "javax.sql.rowset.spi.SyncProvider",
               })
           .put(
               "groupingByConcurrent",
-              new Import[] {
-                new Import("groupingByConcurrent", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.groupingByConcurrent",
               })
           .put(
               "STAPLE_DUAL_BOTTOM",
-              new Import[] {
-                new Import("STAPLE_DUAL_BOTTOM", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.STAPLE_DUAL_BOTTOM",
               })
           .put(
               "writeAny",
-              new Import[] {
-                new Import("writeAny", "javax.rmi.CORBA.Util", true),
+              new String[] {
+                "static javax.rmi.CORBA.Util.writeAny",
               })
           .put(
               "RCSID",
-              new Import[] {
-                new Import("RCSID", "javax.swing.undo.StateEditable", true),
+              new String[] {
+                "static javax.swing.undo.StateEditable.RCSID",
               })
           .put(
               "register",
-              new Import[] {
-                new Import("register", "java.rmi.activation.Activatable", true),
+              new String[] {
+                "static java.rmi.activation.Activatable.register",
               })
           .put(
               "XPathException",
-              new Import[] {
-                new Import("XPathException", "javax.xml.xpath", false),
+              new String[] {
+                "javax.xml.xpath.XPathException",
               })
           .put(
               "AnyHolder",
-              new Import[] {
-                new Import("AnyHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.AnyHolder",
               })
           .put(
               "IntrospectionException",
-              new Import[] {
-                new Import("IntrospectionException", "java.beans", false),
-                new Import("IntrospectionException", "javax.management", false),
+              new String[] {
+                "java.beans.IntrospectionException", "javax.management.IntrospectionException",
               })
           .put(
               "GuardedObject",
-              new Import[] {
-                new Import("GuardedObject", "java.security", false),
+              new String[] {
+                "java.security.GuardedObject",
               })
           .put(
               "UnmarshallerHandler",
-              new Import[] {
-                new Import("UnmarshallerHandler", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.UnmarshallerHandler",
               })
           .put(
               "SignatureException",
-              new Import[] {
-                new Import("SignatureException", "java.security", false),
+              new String[] {
+                "java.security.SignatureException",
               })
           .put(
               "getFirstLineIndent",
-              new Import[] {
-                new Import("getFirstLineIndent", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.getFirstLineIndent",
               })
           .put(
               "getAWTKeyStroke",
-              new Import[] {
-                new Import("getAWTKeyStroke", "java.awt.AWTKeyStroke", true),
+              new String[] {
+                "static java.awt.AWTKeyStroke.getAWTKeyStroke",
               })
           .put(
               "DragGestureRecognizer",
-              new Import[] {
-                new Import("DragGestureRecognizer", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DragGestureRecognizer",
               })
           .put(
               "removeProvider",
-              new Import[] {
-                new Import("removeProvider", "java.security.Security", true),
+              new String[] {
+                "static java.security.Security.removeProvider",
               })
           .put(
               "red",
-              new Import[] {
-                new Import("red", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.red",
               })
           .put(
               "getOrientation",
-              new Import[] {
-                new Import("getOrientation", "java.awt.ComponentOrientation", true),
+              new String[] {
+                "static java.awt.ComponentOrientation.getOrientation",
               })
           .put(
               "IllegalFormatPrecisionException",
-              new Import[] {
-                new Import("IllegalFormatPrecisionException", "java.util", false),
+              new String[] {
+                "java.util.IllegalFormatPrecisionException",
               })
           .put(
               "TypeMirror",
-              new Import[] {
-                new Import("TypeMirror", "javax.lang.model.type", false),
+              new String[] {
+                "javax.lang.model.type.TypeMirror",
               })
           .put(
               "INITIATE_AND_ACCEPT",
-              new Import[] {
-                new Import("INITIATE_AND_ACCEPT", "org.ietf.jgss.GSSCredential", true),
+              new String[] {
+                "static org.ietf.jgss.GSSCredential.INITIATE_AND_ACCEPT",
               })
           .put(
               "LIST_DESELECT",
-              new Import[] {
-                new Import("LIST_DESELECT", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.LIST_DESELECT",
               })
           .put(
               "SerialRef",
-              new Import[] {
-                new Import("SerialRef", "javax.sql.rowset.serial", false),
+              new String[] {
+                "javax.sql.rowset.serial.SerialRef",
               })
           .put(
               "DEFAULT_CSS",
-              new Import[] {
-                new Import("DEFAULT_CSS", "javax.swing.text.html.HTMLEditorKit", true),
+              new String[] {
+                "static javax.swing.text.html.HTMLEditorKit.DEFAULT_CSS",
               })
           .put(
               "VK_ESCAPE",
-              new Import[] {
-                new Import("VK_ESCAPE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_ESCAPE",
               })
           .put(
               "add",
-              new Import[] {
-                new Import("add", "java.awt.AWTEventMulticaster", true),
+              new String[] {
+                "static java.awt.AWTEventMulticaster.add",
               })
           .put(
               "InvalidAlgorithmParameterException",
-              new Import[] {
-                new Import("InvalidAlgorithmParameterException", "java.security", false),
+              new String[] {
+                "java.security.InvalidAlgorithmParameterException",
               })
           .put(
               "MBeanOperationInfo",
-              new Import[] {
-                new Import("MBeanOperationInfo", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanOperationInfo",
               })
           .put(
               "HashPrintJobAttributeSet",
-              new Import[] {
-                new Import("HashPrintJobAttributeSet", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.HashPrintJobAttributeSet",
               })
           .put(
               "LIGHT",
-              new Import[] {
-                new Import("LIGHT", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.LIGHT",
               })
           .put(
               "BAD_QOP",
-              new Import[] {
-                new Import("BAD_QOP", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.BAD_QOP",
               })
           .put(
               "HTTP_UNAVAILABLE",
-              new Import[] {
-                new Import("HTTP_UNAVAILABLE", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_UNAVAILABLE",
               })
           .put(
               "insertProviderAt",
-              new Import[] {
-                new Import("insertProviderAt", "java.security.Security", true),
+              new String[] {
+                "static java.security.Security.insertProviderAt",
               })
           .put(
               "Encoding",
-              new Import[] {
-                new Import("Encoding", "javax.sound.sampled.AudioFormat", false),
-                new Import("Encoding", "org.omg.IOP", false),
+              new String[] {
+                "javax.sound.sampled.AudioFormat.Encoding", "org.omg.IOP.Encoding",
               })
           .put(
               "BAD_QOS",
-              new Import[] {
-                new Import("BAD_QOS", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.BAD_QOS",
               })
           .put(
               "AnnotatedParameterizedType",
-              new Import[] {
-                new Import("AnnotatedParameterizedType", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.AnnotatedParameterizedType",
               })
           .put(
               "MAXLENGTH",
-              new Import[] {
-                new Import("MAXLENGTH", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.MAXLENGTH",
               })
           .put(
               "tk_octet",
-              new Import[] {
-                new Import("tk_octet", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_octet",
               })
           .put(
               "VK_KATAKANA",
-              new Import[] {
-                new Import("VK_KATAKANA", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_KATAKANA",
               })
           .put(
               "JCheckBoxMenuItem",
-              new Import[] {
-                new Import("JCheckBoxMenuItem", "javax.swing", false),
+              new String[] {
+                "javax.swing.JCheckBoxMenuItem",
               })
           .put(
               "CookieStore",
-              new Import[] {
-                new Import("CookieStore", "java.net", false),
+              new String[] {
+                "java.net.CookieStore",
               })
           .put(
               "ModificationItem",
-              new Import[] {
-                new Import("ModificationItem", "javax.naming.directory", false),
+              new String[] {
+                "javax.naming.directory.ModificationItem",
               })
           .put(
               "CharSeqHolder",
-              new Import[] {
-                new Import("CharSeqHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.CharSeqHolder",
               })
           .put(
               "PropertyEditor",
-              new Import[] {
-                new Import("PropertyEditor", "java.beans", false),
+              new String[] {
+                "java.beans.PropertyEditor",
               })
           .put(
               "MAGENTA",
-              new Import[] {
-                new Import("MAGENTA", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.MAGENTA",
               })
           .put(
               "StreamTokenizer",
-              new Import[] {
-                new Import("StreamTokenizer", "java.io", false),
+              new String[] {
+                "java.io.StreamTokenizer",
               })
           .put(
               "StructMemberHelper",
-              new Import[] {
-                new Import("StructMemberHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.StructMemberHelper",
               })
           .put(
               "GENERIC_FAILURE",
-              new Import[] {
-                new Import("GENERIC_FAILURE", "java.util.logging.ErrorManager", true),
+              new String[] {
+                "static java.util.logging.ErrorManager.GENERIC_FAILURE",
               })
           .put(
               "CaretEvent",
-              new Import[] {
-                new Import("CaretEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.CaretEvent",
               })
           .put(
               "WIND_EVEN_ODD",
-              new Import[] {
-                new Import("WIND_EVEN_ODD", "java.awt.geom.Path2D", true),
-                new Import("WIND_EVEN_ODD", "java.awt.geom.PathIterator", true),
+              new String[] {
+                "static java.awt.geom.Path2D.WIND_EVEN_ODD",
+                "static java.awt.geom.PathIterator.WIND_EVEN_ODD",
               })
           .put(
               "BOLD_ACTION",
-              new Import[] {
-                new Import("BOLD_ACTION", "javax.swing.text.html.HTMLEditorKit", true),
+              new String[] {
+                "static javax.swing.text.html.HTMLEditorKit.BOLD_ACTION",
               })
           .put(
               "ValidationException",
-              new Import[] {
-                new Import("ValidationException", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.ValidationException",
               })
           .put(
               "OL_CHIKI",
-              new Import[] {
-                new Import("OL_CHIKI", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.OL_CHIKI",
               })
           .put(
               "ROOT",
-              new Import[] {
-                new Import("ROOT", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.ROOT",
               })
           .put(
               "SUBWINDOW_OF",
-              new Import[] {
-                new Import("SUBWINDOW_OF", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.SUBWINDOW_OF",
               })
           .put(
               "LYDIAN",
-              new Import[] {
-                new Import("LYDIAN", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.LYDIAN",
               })
           .put(
               "ModelAttribute",
-              new Import[] {
-                new Import("ModelAttribute", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.ModelAttribute",
               })
           .put(
               "runFinalizersOnExit",
-              new Import[] {
-                new Import("runFinalizersOnExit", "java.lang.Runtime", true),
-                new Import("runFinalizersOnExit", "java.lang.System", true),
+              new String[] {
+                "static java.lang.Runtime.runFinalizersOnExit",
+                "static java.lang.System.runFinalizersOnExit",
               })
           .put(
               "SUBTRACT",
-              new Import[] {
-                new Import("SUBTRACT", "javax.xml.crypto.dsig.spec.XPathType.Filter", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.spec.XPathType.Filter.SUBTRACT",
               })
           .put(
               "NUMBER_FORMS",
-              new Import[] {
-                new Import("NUMBER_FORMS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.NUMBER_FORMS",
               })
           .put(
               "MBeanConstructorInfo",
-              new Import[] {
-                new Import("MBeanConstructorInfo", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanConstructorInfo",
               })
           .put(
               "TextMeasurer",
-              new Import[] {
-                new Import("TextMeasurer", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.TextMeasurer",
               })
           .put(
               "BandedSampleModel",
-              new Import[] {
-                new Import("BandedSampleModel", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.BandedSampleModel",
               })
           .put(
               "getGarbageCollectorMXBeans",
-              new Import[] {
-                new Import(
-                    "getGarbageCollectorMXBeans", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.getGarbageCollectorMXBeans",
               })
           .put(
               "IORInterceptor_3_0Operations",
-              new Import[] {
-                new Import("IORInterceptor_3_0Operations", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.IORInterceptor_3_0Operations",
               })
           .put(
               "XMLCryptoContext",
-              new Import[] {
-                new Import("XMLCryptoContext", "javax.xml.crypto", false),
+              new String[] {
+                "javax.xml.crypto.XMLCryptoContext",
               })
           .put(
               "enumerate",
-              new Import[] {
-                new Import("enumerate", "java.lang.Thread", true),
+              new String[] {
+                "static java.lang.Thread.enumerate",
               })
           .put(
               "OBJECT_CHANGED",
-              new Import[] {
-                new Import("OBJECT_CHANGED", "javax.naming.event.NamingEvent", true),
+              new String[] {
+                "static javax.naming.event.NamingEvent.OBJECT_CHANGED",
               })
           .put(
               "VALUE_ALPHA_INTERPOLATION_SPEED",
-              new Import[] {
-                new Import("VALUE_ALPHA_INTERPOLATION_SPEED", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_ALPHA_INTERPOLATION_SPEED",
               })
           .put(
               "intersect",
-              new Import[] {
-                new Import("intersect", "java.awt.geom.Rectangle2D", true),
+              new String[] {
+                "static java.awt.geom.Rectangle2D.intersect",
               })
           .put(
               "toIntExact",
-              new Import[] {
-                new Import("toIntExact", "java.lang.Math", true),
-                new Import("toIntExact", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.toIntExact", "static java.lang.StrictMath.toIntExact",
               })
           .put(
               "typePredChar",
-              new Import[] {
-                new Import("typePredChar", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.typePredChar",
               })
           .put(
               "getKeymap",
-              new Import[] {
-                new Import("getKeymap", "javax.swing.text.JTextComponent", true),
+              new String[] {
+                "static javax.swing.text.JTextComponent.getKeymap",
               })
           .put(
               "Holder",
-              new Import[] {
-                new Import("Holder", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.Holder",
               })
           .put(
               "XMLObject",
-              new Import[] {
-                new Import("XMLObject", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "javax.xml.crypto.dsig.XMLObject",
               })
           .put(
               "LayoutManager2",
-              new Import[] {
-                new Import("LayoutManager2", "java.awt", false),
+              new String[] {
+                "java.awt.LayoutManager2",
               })
           .put(
               "newBuilder",
-              new Import[] {
-                new Import("newBuilder", "java.nio.file.attribute.AclEntry", true),
+              new String[] {
+                "static java.nio.file.attribute.AclEntry.newBuilder",
               })
           .put(
               "JPopupMenu",
-              new Import[] {
-                new Import("JPopupMenu", "javax.swing", false),
+              new String[] {
+                "javax.swing.JPopupMenu",
               })
           .put(
               "tableIndexClustered",
-              new Import[] {
-                new Import("tableIndexClustered", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.tableIndexClustered",
               })
           .put(
               "NOT_SUPPORTED",
-              new Import[] {
-                new Import("NOT_SUPPORTED", "javax.print.attribute.standard.ColorSupported", true),
+              new String[] {
+                "static javax.print.attribute.standard.ColorSupported.NOT_SUPPORTED",
               })
           .put(
               "ICC_ColorSpace",
-              new Import[] {
-                new Import("ICC_ColorSpace", "java.awt.color", false),
+              new String[] {
+                "java.awt.color.ICC_ColorSpace",
               })
           .put(
               "controlDkShadow",
-              new Import[] {
-                new Import("controlDkShadow", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.controlDkShadow",
               })
           .put(
               "getTextBorder",
-              new Import[] {
-                new Import("getTextBorder", "javax.swing.plaf.metal.MetalBorders", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalBorders.getTextBorder",
               })
           .put(
               "HANGUL_JAMO_EXTENDED_A",
-              new Import[] {
-                new Import("HANGUL_JAMO_EXTENDED_A", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.HANGUL_JAMO_EXTENDED_A",
               })
           .put(
               "JobKOctetsProcessed",
-              new Import[] {
-                new Import("JobKOctetsProcessed", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobKOctetsProcessed",
               })
           .put(
               "ConnectionEvent",
-              new Import[] {
-                new Import("ConnectionEvent", "javax.sql", false),
+              new String[] {
+                "javax.sql.ConnectionEvent",
               })
           .put(
               "ContainerListener",
-              new Import[] {
-                new Import("ContainerListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.ContainerListener",
               })
           .put(
               "SynthScrollPaneUI",
-              new Import[] {
-                new Import("SynthScrollPaneUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthScrollPaneUI",
               })
           .put(
               "BoxPainter",
-              new Import[] {
-                new Import("BoxPainter", "javax.swing.text.html.StyleSheet", false),
+              new String[] {
+                "javax.swing.text.html.StyleSheet.BoxPainter",
               })
           .put(
               "NameAttribute",
-              new Import[] {
-                new Import("NameAttribute", "javax.swing.text.AttributeSet", true),
-                new Import("NameAttribute", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.AttributeSet.NameAttribute",
+                "static javax.swing.text.StyleConstants.NameAttribute",
               })
           .put(
               "HANGUL_JAMO_EXTENDED_B",
-              new Import[] {
-                new Import("HANGUL_JAMO_EXTENDED_B", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.HANGUL_JAMO_EXTENDED_B",
               })
           .put(
               "STRONG",
-              new Import[] {
-                new Import("STRONG", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.STRONG",
               })
           .put(
               "StdACChrominance",
-              new Import[] {
-                new Import("StdACChrominance", "javax.imageio.plugins.jpeg.JPEGHuffmanTable", true),
+              new String[] {
+                "static javax.imageio.plugins.jpeg.JPEGHuffmanTable.StdACChrominance",
               })
           .put(
               "SourceChannel",
-              new Import[] {
-                new Import("SourceChannel", "java.nio.channels.Pipe", false),
+              new String[] {
+                "java.nio.channels.Pipe.SourceChannel",
               })
           .put(
               "ACTIVE_CAPTION",
-              new Import[] {
-                new Import("ACTIVE_CAPTION", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.ACTIVE_CAPTION",
               })
           .put(
               "BACK_SPACE",
-              new Import[] {
-                new Import("BACK_SPACE", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.BACK_SPACE",
               })
           .put(
               "TITLE_PROPERTY",
-              new Import[] {
-                new Import("TITLE_PROPERTY", "javax.swing.JInternalFrame", true),
+              new String[] {
+                "static javax.swing.JInternalFrame.TITLE_PROPERTY",
               })
           .put(
               "ACTIVE_SENSING",
-              new Import[] {
-                new Import("ACTIVE_SENSING", "javax.sound.midi.ShortMessage", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.ACTIVE_SENSING",
               })
           .put(
               "convertPointToScreen",
-              new Import[] {
-                new Import("convertPointToScreen", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.convertPointToScreen",
               })
           .put(
               "IP_MULTICAST_LOOP",
-              new Import[] {
-                new Import("IP_MULTICAST_LOOP", "java.net.SocketOptions", true),
-                new Import("IP_MULTICAST_LOOP", "java.net.StandardSocketOptions", true),
+              new String[] {
+                "static java.net.SocketOptions.IP_MULTICAST_LOOP",
+                "static java.net.StandardSocketOptions.IP_MULTICAST_LOOP",
               })
           .put(
               "IIOReadUpdateListener",
-              new Import[] {
-                new Import("IIOReadUpdateListener", "javax.imageio.event", false),
+              new String[] {
+                "javax.imageio.event.IIOReadUpdateListener",
               })
           .put(
               "INTERFACE",
-              new Import[] {
-                new Import("INTERFACE", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.INTERFACE",
               })
           .put(
               "ZonedDateTime",
-              new Import[] {
-                new Import("ZonedDateTime", "java.time", false),
+              new String[] {
+                "java.time.ZonedDateTime",
               })
           .put(
               "DIRECTIONALITY_POP_DIRECTIONAL_FORMAT",
-              new Import[] {
-                new Import("DIRECTIONALITY_POP_DIRECTIONAL_FORMAT", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_POP_DIRECTIONAL_FORMAT",
               })
           .put(
               "INTERNAL_FRAME_FIRST",
-              new Import[] {
-                new Import("INTERNAL_FRAME_FIRST", "javax.swing.event.InternalFrameEvent", true),
+              new String[] {
+                "static javax.swing.event.InternalFrameEvent.INTERNAL_FRAME_FIRST",
               })
           .put(
               "UnexpectedException",
-              new Import[] {
-                new Import("UnexpectedException", "java.rmi", false),
+              new String[] {
+                "java.rmi.UnexpectedException",
               })
           .put(
               "GatheringByteChannel",
-              new Import[] {
-                new Import("GatheringByteChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.GatheringByteChannel",
               })
           .put(
               "setDefaultUncaughtExceptionHandler",
-              new Import[] {
-                new Import("setDefaultUncaughtExceptionHandler", "java.lang.Thread", true),
+              new String[] {
+                "static java.lang.Thread.setDefaultUncaughtExceptionHandler",
               })
           .put(
               "lookupMultiDocPrintServices",
-              new Import[] {
-                new Import("lookupMultiDocPrintServices", "javax.print.PrintServiceLookup", true),
+              new String[] {
+                "static javax.print.PrintServiceLookup.lookupMultiDocPrintServices",
               })
           .put(
               "FOCUS_LAST",
-              new Import[] {
-                new Import("FOCUS_LAST", "java.awt.event.FocusEvent", true),
+              new String[] {
+                "static java.awt.event.FocusEvent.FOCUS_LAST",
               })
           .put(
               "SOAPBinding",
-              new Import[] {
-                new Import("SOAPBinding", "javax.jws.soap", false),
-                new Import("SOAPBinding", "javax.xml.ws.soap", false),
+              new String[] {
+                "javax.jws.soap.SOAPBinding", "javax.xml.ws.soap.SOAPBinding",
               })
           .put(
               "getUserTextFont",
-              new Import[] {
-                new Import("getUserTextFont", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getUserTextFont",
               })
           .put(
               "ACCESS_EXTERNAL_STYLESHEET",
-              new Import[] {
-                new Import("ACCESS_EXTERNAL_STYLESHEET", "javax.xml.XMLConstants", true),
+              new String[] {
+                "static javax.xml.XMLConstants.ACCESS_EXTERNAL_STYLESHEET",
               })
           .put(
               "HostnameVerifier",
-              new Import[] {
-                new Import("HostnameVerifier", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.HostnameVerifier",
               })
           .put(
               "highSurrogate",
-              new Import[] {
-                new Import("highSurrogate", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.highSurrogate",
               })
           .put(
               "DIRECTIONALITY_WHITESPACE",
-              new Import[] {
-                new Import("DIRECTIONALITY_WHITESPACE", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_WHITESPACE",
               })
           .put(
               "exit",
-              new Import[] {
-                new Import("exit", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.exit",
               })
           .put(
               "SNIMatcher",
-              new Import[] {
-                new Import("SNIMatcher", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SNIMatcher",
               })
           .put(
               "system",
-              new Import[] {
-                new Import("system", "java.time.Clock", true),
+              new String[] {
+                "static java.time.Clock.system",
               })
           .put(
               "inactiveCaptionBorder",
-              new Import[] {
-                new Import("inactiveCaptionBorder", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.inactiveCaptionBorder",
               })
           .put(
               "EMOTICONS",
-              new Import[] {
-                new Import("EMOTICONS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.EMOTICONS",
               })
           .put(
               "LoginException",
-              new Import[] {
-                new Import("LoginException", "javax.security.auth.login", false),
+              new String[] {
+                "javax.security.auth.login.LoginException",
               })
           .put(
               "mapSystemException",
-              new Import[] {
-                new Import("mapSystemException", "javax.rmi.CORBA.Util", true),
+              new String[] {
+                "static javax.rmi.CORBA.Util.mapSystemException",
               })
           .put(
               "DriverAction",
-              new Import[] {
-                new Import("DriverAction", "java.sql", false),
+              new String[] {
+                "java.sql.DriverAction",
               })
           .put(
               "BiPredicate",
-              new Import[] {
-                new Import("BiPredicate", "java.util.function", false),
+              new String[] {
+                "java.util.function.BiPredicate",
               })
           .put(
               "getReaderMIMETypes",
-              new Import[] {
-                new Import("getReaderMIMETypes", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getReaderMIMETypes",
               })
           .put(
               "FileAttribute",
-              new Import[] {
-                new Import("FileAttribute", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.FileAttribute",
               })
           .put(
               "DeclaredType",
-              new Import[] {
-                new Import("DeclaredType", "javax.lang.model.type", false),
+              new String[] {
+                "javax.lang.model.type.DeclaredType",
               })
           .put(
               "CycleMethod",
-              new Import[] {
-                new Import("CycleMethod", "java.awt.MultipleGradientPaint", false),
+              new String[] {
+                "java.awt.MultipleGradientPaint.CycleMethod",
               })
           .put(
               "FocusAdapter",
-              new Import[] {
-                new Import("FocusAdapter", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.FocusAdapter",
               })
           .put(
               "VK_DOWN",
-              new Import[] {
-                new Import("VK_DOWN", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DOWN",
               })
           .put(
               "UNDERLINE_LOW_ONE_PIXEL",
-              new Import[] {
-                new Import("UNDERLINE_LOW_ONE_PIXEL", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.UNDERLINE_LOW_ONE_PIXEL",
               })
           .put(
               "ContentElementName",
-              new Import[] {
-                new Import("ContentElementName", "javax.swing.text.AbstractDocument", true),
+              new String[] {
+                "static javax.swing.text.AbstractDocument.ContentElementName",
               })
           .put(
               "ColorChooserComponentFactory",
-              new Import[] {
-                new Import("ColorChooserComponentFactory", "javax.swing.colorchooser", false),
+              new String[] {
+                "javax.swing.colorchooser.ColorChooserComponentFactory",
               })
           .put(
               "TAG_DSIG",
-              new Import[] {
-                new Import("TAG_DSIG", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_DSIG",
               })
           .put(
               "VK_EQUALS",
-              new Import[] {
-                new Import("VK_EQUALS", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_EQUALS",
               })
           .put(
               "getOperatingSystemMXBean",
-              new Import[] {
-                new Import(
-                    "getOperatingSystemMXBean", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.getOperatingSystemMXBean",
               })
           .put(
               "SpinnerDateModel",
-              new Import[] {
-                new Import("SpinnerDateModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.SpinnerDateModel",
               })
           .put(
               "NamingContext",
-              new Import[] {
-                new Import("NamingContext", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContext",
               })
           .put(
               "NVARCHAR",
-              new Import[] {
-                new Import("NVARCHAR", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.NVARCHAR",
               })
           .put(
               "WSDL_OPERATION",
-              new Import[] {
-                new Import("WSDL_OPERATION", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.handler.MessageContext.WSDL_OPERATION",
               })
           .put(
               "PINK",
-              new Import[] {
-                new Import("PINK", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.PINK",
               })
           .put(
               "CUNEIFORM_NUMBERS_AND_PUNCTUATION",
-              new Import[] {
-                new Import(
-                    "CUNEIFORM_NUMBERS_AND_PUNCTUATION", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CUNEIFORM_NUMBERS_AND_PUNCTUATION",
               })
           .put(
               "MetalInternalFrameTitlePane",
-              new Import[] {
-                new Import("MetalInternalFrameTitlePane", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalInternalFrameTitlePane",
               })
           .put(
               "TAG_ALTERNATE_IIOP_ADDRESS",
-              new Import[] {
-                new Import("TAG_ALTERNATE_IIOP_ADDRESS", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.TAG_ALTERNATE_IIOP_ADDRESS",
               })
           .put(
               "UPDATE",
-              new Import[] {
-                new Import("UPDATE", "java.awt.event.PaintEvent", true),
-                new Import("UPDATE", "javax.accessibility.AccessibleTableModelChange", true),
-                new Import("UPDATE", "javax.swing.event.TableModelEvent", true),
+              new String[] {
+                "static java.awt.event.PaintEvent.UPDATE",
+                "static javax.accessibility.AccessibleTableModelChange.UPDATE",
+                "static javax.swing.event.TableModelEvent.UPDATE",
               })
           .put(
               "SAVE",
-              new Import[] {
-                new Import("SAVE", "java.awt.FileDialog", true),
+              new String[] {
+                "static java.awt.FileDialog.SAVE",
               })
           .put(
               "OfPrimitive",
-              new Import[] {
-                new Import("OfPrimitive", "java.util.Spliterator", false),
+              new String[] {
+                "java.util.Spliterator.OfPrimitive",
               })
           .put(
               "icSigSpace8CLR",
-              new Import[] {
-                new Import("icSigSpace8CLR", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigSpace8CLR",
               })
           .put(
               "calculateTiledPositions",
-              new Import[] {
-                new Import("calculateTiledPositions", "javax.swing.SizeRequirements", true),
+              new String[] {
+                "static javax.swing.SizeRequirements.calculateTiledPositions",
               })
           .put(
               "_SINGLE_THREAD_MODEL",
-              new Import[] {
-                new Import(
-                    "_SINGLE_THREAD_MODEL", "org.omg.PortableServer.ThreadPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.ThreadPolicyValue._SINGLE_THREAD_MODEL",
               })
           .put(
               "FilterInputStream",
-              new Import[] {
-                new Import("FilterInputStream", "java.io", false),
+              new String[] {
+                "java.io.FilterInputStream",
               })
           .put(
               "forName",
-              new Import[] {
-                new Import("forName", "java.lang.Class", true),
-                new Import("forName", "java.lang.Character.UnicodeBlock", true),
-                new Import("forName", "java.lang.Character.UnicodeScript", true),
-                new Import("forName", "java.nio.charset.Charset", true),
+              new String[] {
+                "static java.lang.Class.forName",
+                "static java.lang.Character.UnicodeBlock.forName",
+                "static java.lang.Character.UnicodeScript.forName",
+                "static java.nio.charset.Charset.forName",
               })
           .put(
               "synchronizedSet",
-              new Import[] {
-                new Import("synchronizedSet", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.synchronizedSet",
               })
           .put(
               "MessageFactory",
-              new Import[] {
-                new Import("MessageFactory", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.MessageFactory",
               })
           .put(
               "XmlJavaTypeAdapter",
-              new Import[] {
-                new Import("XmlJavaTypeAdapter", "javax.xml.bind.annotation.adapters", false),
+              new String[] {
+                "javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter",
               })
           .put(
               "Text",
-              new Import[] {
-                new Import("Text", "javax.xml.soap", false),
-                new Import("Text", "org.w3c.dom", false),
+              new String[] {
+                "javax.xml.soap.Text", "org.w3c.dom.Text",
               })
           .put(
               "Attributes2",
-              new Import[] {
-                new Import("Attributes2", "org.xml.sax.ext", false),
+              new String[] {
+                "org.xml.sax.ext.Attributes2",
               })
           .put(
               "SELECT",
-              new Import[] {
-                new Import("SELECT", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.SELECT",
               })
           .put(
               "IllegalAccessException",
-              new Import[] {
-                new Import("IllegalAccessException", "java.lang", false),
+              new String[] {
+                "java.lang.IllegalAccessException",
               })
           .put(
               "Lock",
-              new Import[] {
-                new Import("Lock", "java.util.concurrent.locks", false),
+              new String[] {
+                "java.util.concurrent.locks.Lock",
               })
           .put(
               "icSigSpaceCCLR",
-              new Import[] {
-                new Import("icSigSpaceCCLR", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigSpaceCCLR",
               })
           .put(
               "unmodifiableSortedMap",
-              new Import[] {
-                new Import("unmodifiableSortedMap", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.unmodifiableSortedMap",
               })
           .put(
               "ResolveAttribute",
-              new Import[] {
-                new Import("ResolveAttribute", "javax.swing.text.AttributeSet", true),
-                new Import("ResolveAttribute", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.AttributeSet.ResolveAttribute",
+                "static javax.swing.text.StyleConstants.ResolveAttribute",
               })
           .put(
               "getSequence",
-              new Import[] {
-                new Import("getSequence", "javax.sound.midi.MidiSystem", true),
+              new String[] {
+                "static javax.sound.midi.MidiSystem.getSequence",
               })
           .put(
               "NORMAL",
-              new Import[] {
-                new Import("NORMAL", "java.awt.Frame", true),
-                new Import("NORMAL", "java.awt.PageAttributes.PrintQualityType", true),
-                new Import("NORMAL", "javax.print.attribute.standard.PrintQuality", true),
+              new String[] {
+                "static java.awt.Frame.NORMAL",
+                "static java.awt.PageAttributes.PrintQualityType.NORMAL",
+                "static javax.print.attribute.standard.PrintQuality.NORMAL",
               })
           .put(
               "XPathFilter2ParameterSpec",
-              new Import[] {
-                new Import("XPathFilter2ParameterSpec", "javax.xml.crypto.dsig.spec", false),
+              new String[] {
+                "javax.xml.crypto.dsig.spec.XPathFilter2ParameterSpec",
               })
           .put(
               "BasicInternalFrameTitlePane",
-              new Import[] {
-                new Import("BasicInternalFrameTitlePane", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicInternalFrameTitlePane",
               })
           .put(
               "FilterWriter",
-              new Import[] {
-                new Import("FilterWriter", "java.io", false),
+              new String[] {
+                "java.io.FilterWriter",
               })
           .put(
               "TEXT_PLAIN_UTF_8",
-              new Import[] {
-                new Import("TEXT_PLAIN_UTF_8", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_PLAIN_UTF_8", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_PLAIN_UTF_8", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.TEXT_PLAIN_UTF_8",
+                "static javax.print.DocFlavor.INPUT_STREAM.TEXT_PLAIN_UTF_8",
+                "static javax.print.DocFlavor.URL.TEXT_PLAIN_UTF_8",
               })
           .put(
               "Compression",
-              new Import[] {
-                new Import("Compression", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.Compression",
               })
           .put(
               "ARRAY",
-              new Import[] {
-                new Import("ARRAY", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.ARRAY",
               })
           .put(
               "getTimeZone",
-              new Import[] {
-                new Import("getTimeZone", "java.util.TimeZone", true),
+              new String[] {
+                "static java.util.TimeZone.getTimeZone",
               })
           .put(
               "AUTHORITATIVE",
-              new Import[] {
-                new Import("AUTHORITATIVE", "javax.naming.Context", true),
+              new String[] {
+                "static javax.naming.Context.AUTHORITATIVE",
               })
           .put(
               "ACCESSIBLE_TABLE_ROW_HEADER_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TABLE_ROW_HEADER_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_TABLE_ROW_HEADER_CHANGED",
               })
           .put(
               "RELATION_MBEAN_UPDATE",
-              new Import[] {
-                new Import(
-                    "RELATION_MBEAN_UPDATE",
-                    "javax.management.relation.RelationNotification",
-                    true),
+              new String[] {
+                "static javax.management.relation.RelationNotification.RELATION_MBEAN_UPDATE",
               })
           .put(
               "RemoteRef",
-              new Import[] {
-                new Import("RemoteRef", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.RemoteRef",
               })
           .put(
               "InternalFrameUI",
-              new Import[] {
-                new Import("InternalFrameUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.InternalFrameUI",
               })
           .put(
               "TCKind",
-              new Import[] {
-                new Import("TCKind", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.TCKind",
               })
           .put(
               "PIPE",
-              new Import[] {
-                new Import("PIPE", "java.lang.ProcessBuilder.Redirect", true),
+              new String[] {
+                "static java.lang.ProcessBuilder.Redirect.PIPE",
               })
           .put(
               "DynamicImplementation",
-              new Import[] {
-                new Import("DynamicImplementation", "org.omg.CORBA", false),
-                new Import("DynamicImplementation", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.CORBA.DynamicImplementation",
+                "org.omg.PortableServer.DynamicImplementation",
               })
           .put(
               "ParagraphElementName",
-              new Import[] {
-                new Import("ParagraphElementName", "javax.swing.text.AbstractDocument", true),
+              new String[] {
+                "static javax.swing.text.AbstractDocument.ParagraphElementName",
               })
           .put(
               "RoleUnresolvedList",
-              new Import[] {
-                new Import("RoleUnresolvedList", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RoleUnresolvedList",
               })
           .put(
               "BasicComboBoxRenderer",
-              new Import[] {
-                new Import("BasicComboBoxRenderer", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicComboBoxRenderer",
               })
           .put(
               "COMBO_BOX",
-              new Import[] {
-                new Import("COMBO_BOX", "javax.accessibility.AccessibleRole", true),
-                new Import("COMBO_BOX", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.COMBO_BOX",
+                "static javax.swing.plaf.synth.Region.COMBO_BOX",
               })
           .put(
               "LifespanPolicyOperations",
-              new Import[] {
-                new Import("LifespanPolicyOperations", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.LifespanPolicyOperations",
               })
           .put(
               "ID_UNIQUENESS_POLICY_ID",
-              new Import[] {
-                new Import("ID_UNIQUENESS_POLICY_ID", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ID_UNIQUENESS_POLICY_ID",
               })
           .put(
               "CHAR_REPLACEMENT",
-              new Import[] {
-                new Import("CHAR_REPLACEMENT", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.CHAR_REPLACEMENT",
               })
           .put(
               "permuteArguments",
-              new Import[] {
-                new Import("permuteArguments", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.permuteArguments",
               })
           .put(
               "getVersions",
-              new Import[] {
-                new Import("getVersions", "java.time.zone.ZoneRulesProvider", true),
+              new String[] {
+                "static java.time.zone.ZoneRulesProvider.getVersions",
               })
           .put(
               "EXTENSION_NAME",
-              new Import[] {
-                new Import("EXTENSION_NAME", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.EXTENSION_NAME",
               })
           .put(
               "OLD_TOKEN",
-              new Import[] {
-                new Import("OLD_TOKEN", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.OLD_TOKEN",
               })
           .put(
               "ScrollPaneLayout",
-              new Import[] {
-                new Import("ScrollPaneLayout", "javax.swing", false),
+              new String[] {
+                "javax.swing.ScrollPaneLayout",
               })
           .put(
               "ROUND_UP",
-              new Import[] {
-                new Import("ROUND_UP", "java.math.BigDecimal", true),
+              new String[] {
+                "static java.math.BigDecimal.ROUND_UP",
               })
           .put(
               "BeanContextServiceProviderBeanInfo",
-              new Import[] {
-                new Import("BeanContextServiceProviderBeanInfo", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextServiceProviderBeanInfo",
               })
           .put(
               "TEXT_EVENT_MASK",
-              new Import[] {
-                new Import("TEXT_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.TEXT_EVENT_MASK",
               })
           .put(
               "AUTO_RESIZE_NEXT_COLUMN",
-              new Import[] {
-                new Import("AUTO_RESIZE_NEXT_COLUMN", "javax.swing.JTable", true),
+              new String[] {
+                "static javax.swing.JTable.AUTO_RESIZE_NEXT_COLUMN",
               })
           .put(
               "POLICY_NODICTIONARY",
-              new Import[] {
-                new Import("POLICY_NODICTIONARY", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.POLICY_NODICTIONARY",
               })
           .put(
               "Option",
-              new Import[] {
-                new Import("Option", "java.security.cert.PKIXRevocationChecker", false),
-                new Import("Option", "javax.swing.text.html", false),
+              new String[] {
+                "java.security.cert.PKIXRevocationChecker.Option", "javax.swing.text.html.Option",
               })
           .put(
               "setSocketFactory",
-              new Import[] {
-                new Import("setSocketFactory", "java.net.ServerSocket", true),
-                new Import("setSocketFactory", "java.rmi.server.RMISocketFactory", true),
+              new String[] {
+                "static java.net.ServerSocket.setSocketFactory",
+                "static java.rmi.server.RMISocketFactory.setSocketFactory",
               })
           .put(
               "PermissionCollection",
-              new Import[] {
-                new Import("PermissionCollection", "java.security", false),
+              new String[] {
+                "java.security.PermissionCollection",
               })
           .put(
               "CharsetProvider",
-              new Import[] {
-                new Import("CharsetProvider", "java.nio.charset.spi", false),
+              new String[] {
+                "java.nio.charset.spi.CharsetProvider",
               })
           .put(
               "LANDSCAPE",
-              new Import[] {
-                new Import("LANDSCAPE", "java.awt.PageAttributes.OrientationRequestedType", true),
-                new Import("LANDSCAPE", "java.awt.print.PageFormat", true),
-                new Import(
-                    "LANDSCAPE", "javax.print.attribute.standard.OrientationRequested", true),
+              new String[] {
+                "static java.awt.PageAttributes.OrientationRequestedType.LANDSCAPE",
+                "static java.awt.print.PageFormat.LANDSCAPE",
+                "static javax.print.attribute.standard.OrientationRequested.LANDSCAPE",
               })
           .put(
               "VK_ROMAN_CHARACTERS",
-              new Import[] {
-                new Import("VK_ROMAN_CHARACTERS", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_ROMAN_CHARACTERS",
               })
           .put(
               "JIS_B10",
-              new Import[] {
-                new Import("JIS_B10", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B10", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.JIS_B10",
+                "static javax.print.attribute.standard.MediaSizeName.JIS_B10",
               })
           .put(
               "DOCUMENT_POSITION_CONTAINS",
-              new Import[] {
-                new Import("DOCUMENT_POSITION_CONTAINS", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.DOCUMENT_POSITION_CONTAINS",
               })
           .put(
               "createPacked",
-              new Import[] {
-                new Import("createPacked", "javax.imageio.ImageTypeSpecifier", true),
+              new String[] {
+                "static javax.imageio.ImageTypeSpecifier.createPacked",
               })
           .put(
               "SecondaryLoop",
-              new Import[] {
-                new Import("SecondaryLoop", "java.awt", false),
+              new String[] {
+                "java.awt.SecondaryLoop",
               })
           .put(
               "ModelMBeanAttributeInfo",
-              new Import[] {
-                new Import("ModelMBeanAttributeInfo", "javax.management.modelmbean", false),
+              new String[] {
+                "javax.management.modelmbean.ModelMBeanAttributeInfo",
               })
           .put(
               "Monitor",
-              new Import[] {
-                new Import("Monitor", "javax.management.monitor", false),
+              new String[] {
+                "javax.management.monitor.Monitor",
               })
           .put(
               "DERIVATION_EXTENSION",
-              new Import[] {
-                new Import("DERIVATION_EXTENSION", "org.w3c.dom.TypeInfo", true),
+              new String[] {
+                "static org.w3c.dom.TypeInfo.DERIVATION_EXTENSION",
               })
           .put(
               "KEY_ALPHA_INTERPOLATION",
-              new Import[] {
-                new Import("KEY_ALPHA_INTERPOLATION", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.KEY_ALPHA_INTERPOLATION",
               })
           .put(
               "and",
-              new Import[] {
-                new Import("and", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.and",
               })
           .put(
               "RIGHT_ALIGNMENT",
-              new Import[] {
-                new Import("RIGHT_ALIGNMENT", "java.awt.Component", true),
+              new String[] {
+                "static java.awt.Component.RIGHT_ALIGNMENT",
               })
           .put(
               "InternalFrameFocusTraversalPolicy",
-              new Import[] {
-                new Import("InternalFrameFocusTraversalPolicy", "javax.swing", false),
+              new String[] {
+                "javax.swing.InternalFrameFocusTraversalPolicy",
               })
           .put(
               "Modifier",
-              new Import[] {
-                new Import("Modifier", "java.lang.reflect", false),
-                new Import("Modifier", "java.nio.file.WatchEvent", false),
-                new Import("Modifier", "javax.lang.model.element", false),
+              new String[] {
+                "java.lang.reflect.Modifier",
+                "java.nio.file.WatchEvent.Modifier",
+                "javax.lang.model.element.Modifier",
               })
           .put(
               "DefaultHighlightPainter",
-              new Import[] {
-                new Import("DefaultHighlightPainter", "javax.swing.text.DefaultHighlighter", false),
+              new String[] {
+                "javax.swing.text.DefaultHighlighter.DefaultHighlightPainter",
               })
           .put(
               "ROLLOVER",
-              new Import[] {
-                new Import("ROLLOVER", "javax.swing.DefaultButtonModel", true),
+              new String[] {
+                "static javax.swing.DefaultButtonModel.ROLLOVER",
               })
           .put(
               "CancelablePrintJob",
-              new Import[] {
-                new Import("CancelablePrintJob", "javax.print", false),
+              new String[] {
+                "javax.print.CancelablePrintJob",
               })
           .put(
               "setAccessible",
-              new Import[] {
-                new Import("setAccessible", "java.lang.reflect.AccessibleObject", true),
+              new String[] {
+                "static java.lang.reflect.AccessibleObject.setAccessible",
               })
           .put(
               "isFocusManagerEnabled",
-              new Import[] {
-                new Import("isFocusManagerEnabled", "javax.swing.FocusManager", true),
+              new String[] {
+                "static javax.swing.FocusManager.isFocusManagerEnabled",
               })
           .put(
               "Transferable",
-              new Import[] {
-                new Import("Transferable", "java.awt.datatransfer", false),
+              new String[] {
+                "java.awt.datatransfer.Transferable",
               })
           .put(
               "UNKNOWN_NUMBER_OF_PAGES",
-              new Import[] {
-                new Import("UNKNOWN_NUMBER_OF_PAGES", "java.awt.print.Pageable", true),
+              new String[] {
+                "static java.awt.print.Pageable.UNKNOWN_NUMBER_OF_PAGES",
               })
           .put(
               "PrivilegedExceptionAction",
-              new Import[] {
-                new Import("PrivilegedExceptionAction", "java.security", false),
+              new String[] {
+                "java.security.PrivilegedExceptionAction",
               })
           .put(
               "findEditor",
-              new Import[] {
-                new Import("findEditor", "java.beans.PropertyEditorManager", true),
+              new String[] {
+                "static java.beans.PropertyEditorManager.findEditor",
               })
           .put(
               "QOP",
-              new Import[] {
-                new Import("QOP", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.QOP",
               })
           .put(
               "WrongTransactionHelper",
-              new Import[] {
-                new Import("WrongTransactionHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.WrongTransactionHelper",
               })
           .put(
               "ScriptEngineFactory",
-              new Import[] {
-                new Import("ScriptEngineFactory", "javax.script", false),
+              new String[] {
+                "javax.script.ScriptEngineFactory",
               })
           .put(
               "AdjustmentListener",
-              new Import[] {
-                new Import("AdjustmentListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.AdjustmentListener",
               })
           .put(
               "DTDConstants",
-              new Import[] {
-                new Import("DTDConstants", "javax.swing.text.html.parser", false),
+              new String[] {
+                "javax.swing.text.html.parser.DTDConstants",
               })
           .put(
               "RMIConnectionImpl",
-              new Import[] {
-                new Import("RMIConnectionImpl", "javax.management.remote.rmi", false),
+              new String[] {
+                "javax.management.remote.rmi.RMIConnectionImpl",
               })
           .put(
               "MBeanServerFactory",
-              new Import[] {
-                new Import("MBeanServerFactory", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanServerFactory",
               })
           .put(
               "ROWS",
-              new Import[] {
-                new Import("ROWS", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.ROWS",
               })
           .build();
 }
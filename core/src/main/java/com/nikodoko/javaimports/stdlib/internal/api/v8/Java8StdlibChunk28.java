@@ -2,1781 +2,1709 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk28 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "STATICIMAGEDONE",
-              new Import[] {
-                new Import("STATICIMAGEDONE", "java.awt.image.ImageConsumer", true),
+              new String[] {
+                "static java.awt.image.ImageConsumer.STATICIMAGEDONE",
               })
           .put(
               "TYPE_FCLR",
-              new Import[] {
-                new Import("TYPE_FCLR", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_FCLR",
               })
           .put(
               "YES_OPTION",
-              new Import[] {
-                new Import("YES_OPTION", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.YES_OPTION",
               })
           .put(
               "Refreshable",
-              new Import[] {
-                new Import("Refreshable", "javax.security.auth", false),
+              new String[] {
+                "javax.security.auth.Refreshable",
               })
           .put(
               "Spring",
-              new Import[] {
-                new Import("Spring", "javax.swing", false),
+              new String[] {
+                "javax.swing.Spring",
               })
           .put(
               "SUPPLEMENTAL_MATHEMATICAL_OPERATORS",
-              new Import[] {
-                new Import(
-                    "SUPPLEMENTAL_MATHEMATICAL_OPERATORS",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SUPPLEMENTAL_MATHEMATICAL_OPERATORS",
               })
           .put(
               "BooleanControl",
-              new Import[] {
-                new Import("BooleanControl", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.BooleanControl",
               })
           .put(
               "setInt",
-              new Import[] {
-                new Import("setInt", "java.lang.reflect.Array", true),
+              new String[] {
+                "static java.lang.reflect.Array.setInt",
               })
           .put(
               "DataSource",
-              new Import[] {
-                new Import("DataSource", "javax.activation", false),
-                new Import("DataSource", "javax.sql", false),
+              new String[] {
+                "javax.activation.DataSource", "javax.sql.DataSource",
               })
           .put(
               "selectionBackwardAction",
-              new Import[] {
-                new Import("selectionBackwardAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectionBackwardAction",
               })
           .put(
               "DOM_OBJECT_MODEL",
-              new Import[] {
-                new Import("DOM_OBJECT_MODEL", "javax.xml.xpath.XPathConstants", true),
+              new String[] {
+                "static javax.xml.xpath.XPathConstants.DOM_OBJECT_MODEL",
               })
           .put(
               "LIGHT_GRAY",
-              new Import[] {
-                new Import("LIGHT_GRAY", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.LIGHT_GRAY",
               })
           .put(
               "X509TrustManager",
-              new Import[] {
-                new Import("X509TrustManager", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.X509TrustManager",
               })
           .put(
               "MultiMenuItemUI",
-              new Import[] {
-                new Import("MultiMenuItemUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiMenuItemUI",
               })
           .put(
               "NotEmpty",
-              new Import[] {
-                new Import("NotEmpty", "org.omg.CosNaming.NamingContextPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.NotEmpty",
               })
           .put(
               "procedureReturnsResult",
-              new Import[] {
-                new Import("procedureReturnsResult", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.procedureReturnsResult",
               })
           .put(
               "TEXT_PLAIN",
-              new Import[] {
-                new Import("TEXT_PLAIN", "javax.print.DocFlavor.CHAR_ARRAY", true),
-                new Import("TEXT_PLAIN", "javax.print.DocFlavor.READER", true),
-                new Import("TEXT_PLAIN", "javax.print.DocFlavor.STRING", true),
+              new String[] {
+                "static javax.print.DocFlavor.CHAR_ARRAY.TEXT_PLAIN",
+                "static javax.print.DocFlavor.READER.TEXT_PLAIN",
+                "static javax.print.DocFlavor.STRING.TEXT_PLAIN",
               })
           .put(
               "FileAlreadyExistsException",
-              new Import[] {
-                new Import("FileAlreadyExistsException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.FileAlreadyExistsException",
               })
           .put(
               "setDefaultLookAndFeelDecorated",
-              new Import[] {
-                new Import("setDefaultLookAndFeelDecorated", "javax.swing.JDialog", true),
-                new Import("setDefaultLookAndFeelDecorated", "javax.swing.JFrame", true),
+              new String[] {
+                "static javax.swing.JDialog.setDefaultLookAndFeelDecorated",
+                "static javax.swing.JFrame.setDefaultLookAndFeelDecorated",
               })
           .put(
               "LEFT_OUTER_JOIN",
-              new Import[] {
-                new Import("LEFT_OUTER_JOIN", "javax.sql.rowset.JoinRowSet", true),
+              new String[] {
+                "static javax.sql.rowset.JoinRowSet.LEFT_OUTER_JOIN",
               })
           .put(
               "SECRET_KEY",
-              new Import[] {
-                new Import("SECRET_KEY", "javax.crypto.Cipher", true),
+              new String[] {
+                "static javax.crypto.Cipher.SECRET_KEY",
               })
           .put(
               "CacheMode",
-              new Import[] {
-                new Import(
-                    "CacheMode",
-                    "javax.swing.plaf.nimbus.AbstractRegionPainter.PaintContext",
-                    false),
+              new String[] {
+                "javax.swing.plaf.nimbus.AbstractRegionPainter.PaintContext.CacheMode",
               })
           .put(
               "ValueHandler",
-              new Import[] {
-                new Import("ValueHandler", "javax.rmi.CORBA", false),
+              new String[] {
+                "javax.rmi.CORBA.ValueHandler",
               })
           .put(
               "newMBeanServer",
-              new Import[] {
-                new Import("newMBeanServer", "javax.management.MBeanServerFactory", true),
+              new String[] {
+                "static javax.management.MBeanServerFactory.newMBeanServer",
               })
           .put(
               "VK_LESS",
-              new Import[] {
-                new Import("VK_LESS", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_LESS",
               })
           .put(
               "REFERENCE_PARAMETERS",
-              new Import[] {
-                new Import("REFERENCE_PARAMETERS", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.handler.MessageContext.REFERENCE_PARAMETERS",
               })
           .put(
               "ErrorType",
-              new Import[] {
-                new Import("ErrorType", "javax.lang.model.type", false),
+              new String[] {
+                "javax.lang.model.type.ErrorType",
               })
           .put(
               "hypot",
-              new Import[] {
-                new Import("hypot", "java.lang.Math", true),
-                new Import("hypot", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.hypot", "static java.lang.StrictMath.hypot",
               })
           .put(
               "DigestOutputStream",
-              new Import[] {
-                new Import("DigestOutputStream", "java.security", false),
+              new String[] {
+                "java.security.DigestOutputStream",
               })
           .put(
               "VALUE_RANGE_MAX_INCLUSIVE_MASK",
-              new Import[] {
-                new Import(
-                    "VALUE_RANGE_MAX_INCLUSIVE_MASK",
-                    "javax.imageio.metadata.IIOMetadataFormat",
-                    true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.VALUE_RANGE_MAX_INCLUSIVE_MASK",
               })
           .put(
               "DIRECTION_RIGHT_TO_LEFT",
-              new Import[] {
-                new Import("DIRECTION_RIGHT_TO_LEFT", "java.text.Bidi", true),
+              new String[] {
+                "static java.text.Bidi.DIRECTION_RIGHT_TO_LEFT",
               })
           .put(
               "XmlID",
-              new Import[] {
-                new Import("XmlID", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlID",
               })
           .put(
               "getCrossPlatformLookAndFeelClassName",
-              new Import[] {
-                new Import("getCrossPlatformLookAndFeelClassName", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.getCrossPlatformLookAndFeelClassName",
               })
           .put(
               "BACKGROUND_IMAGE",
-              new Import[] {
-                new Import("BACKGROUND_IMAGE", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BACKGROUND_IMAGE",
               })
           .put(
               "PROTECTED",
-              new Import[] {
-                new Import("PROTECTED", "java.lang.invoke.MethodHandles.Lookup", true),
-                new Import("PROTECTED", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.Lookup.PROTECTED",
+                "static java.lang.reflect.Modifier.PROTECTED",
               })
           .put(
               "NA_NUMBER_10_ENVELOPE",
-              new Import[] {
-                new Import("NA_NUMBER_10_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_NUMBER_10_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "NA_NUMBER_10_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.NA_NUMBER_10_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSizeName.NA_NUMBER_10_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSize.NA.NA_NUMBER_10_ENVELOPE",
               })
           .put(
               "LinkageError",
-              new Import[] {
-                new Import("LinkageError", "java.lang", false),
+              new String[] {
+                "java.lang.LinkageError",
               })
           .put(
               "BAD_TYPECODE",
-              new Import[] {
-                new Import("BAD_TYPECODE", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.BAD_TYPECODE",
               })
           .put(
               "XMLStreamConstants",
-              new Import[] {
-                new Import("XMLStreamConstants", "javax.xml.stream", false),
+              new String[] {
+                "javax.xml.stream.XMLStreamConstants",
               })
           .put(
               "getRegisteredProviders",
-              new Import[] {
-                new Import("getRegisteredProviders", "javax.sql.rowset.spi.SyncFactory", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncFactory.getRegisteredProviders",
               })
           .put(
               "BELOW_BOTTOM",
-              new Import[] {
-                new Import("BELOW_BOTTOM", "javax.swing.border.TitledBorder", true),
+              new String[] {
+                "static javax.swing.border.TitledBorder.BELOW_BOTTOM",
               })
           .put(
               "CLOSE_FAILURE",
-              new Import[] {
-                new Import("CLOSE_FAILURE", "java.util.logging.ErrorManager", true),
+              new String[] {
+                "static java.util.logging.ErrorManager.CLOSE_FAILURE",
               })
           .put(
               "holdsLock",
-              new Import[] {
-                new Import("holdsLock", "java.lang.Thread", true),
+              new String[] {
+                "static java.lang.Thread.holdsLock",
               })
           .put(
               "SPLIT_PANE_DIVIDER",
-              new Import[] {
-                new Import("SPLIT_PANE_DIVIDER", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.SPLIT_PANE_DIVIDER",
               })
           .put(
               "ROUND_HALF_DOWN",
-              new Import[] {
-                new Import("ROUND_HALF_DOWN", "java.math.BigDecimal", true),
+              new String[] {
+                "static java.math.BigDecimal.ROUND_HALF_DOWN",
               })
           .put(
               "withFixedThreadPool",
-              new Import[] {
-                new Import(
-                    "withFixedThreadPool", "java.nio.channels.AsynchronousChannelGroup", true),
+              new String[] {
+                "static java.nio.channels.AsynchronousChannelGroup.withFixedThreadPool",
               })
           .put(
               "OutputStreamWriter",
-              new Import[] {
-                new Import("OutputStreamWriter", "java.io", false),
+              new String[] {
+                "java.io.OutputStreamWriter",
               })
           .put(
               "ShortSeqHelper",
-              new Import[] {
-                new Import("ShortSeqHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ShortSeqHelper",
               })
           .put(
               "ServiceInformationHolder",
-              new Import[] {
-                new Import("ServiceInformationHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ServiceInformationHolder",
               })
           .put(
               "emptyNavigableSet",
-              new Import[] {
-                new Import("emptyNavigableSet", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.emptyNavigableSet",
               })
           .put(
               "BindingIterator",
-              new Import[] {
-                new Import("BindingIterator", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.BindingIterator",
               })
           .put(
               "AudioClip",
-              new Import[] {
-                new Import("AudioClip", "java.applet", false),
+              new String[] {
+                "java.applet.AudioClip",
               })
           .put(
               "NotationDeclaration",
-              new Import[] {
-                new Import("NotationDeclaration", "javax.xml.stream.events", false),
+              new String[] {
+                "javax.xml.stream.events.NotationDeclaration",
               })
           .put(
               "SaslException",
-              new Import[] {
-                new Import("SaslException", "javax.security.sasl", false),
+              new String[] {
+                "javax.security.sasl.SaslException",
               })
           .put(
               "_tk_ushort",
-              new Import[] {
-                new Import("_tk_ushort", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_ushort",
               })
           .put(
               "WStringSeqHolder",
-              new Import[] {
-                new Import("WStringSeqHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.WStringSeqHolder",
               })
           .put(
               "TreeCellRenderer",
-              new Import[] {
-                new Import("TreeCellRenderer", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.TreeCellRenderer",
               })
           .put(
               "parseHexBinary",
-              new Import[] {
-                new Import("parseHexBinary", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.parseHexBinary",
               })
           .put(
               "quoteReplacement",
-              new Import[] {
-                new Import("quoteReplacement", "java.util.regex.Matcher", true),
+              new String[] {
+                "static java.util.regex.Matcher.quoteReplacement",
               })
           .put(
               "PACKAGE",
-              new Import[] {
-                new Import("PACKAGE", "java.lang.invoke.MethodHandles.Lookup", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.Lookup.PACKAGE",
               })
           .put(
               "NODE_RENAMED",
-              new Import[] {
-                new Import("NODE_RENAMED", "org.w3c.dom.UserDataHandler", true),
+              new String[] {
+                "static org.w3c.dom.UserDataHandler.NODE_RENAMED",
               })
           .put(
               "toUpperCase",
-              new Import[] {
-                new Import("toUpperCase", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.toUpperCase",
               })
           .put(
               "Permissions",
-              new Import[] {
-                new Import("Permissions", "java.security", false),
+              new String[] {
+                "java.security.Permissions",
               })
           .put(
               "ISO_DESIGNATED_LONG",
-              new Import[] {
-                new Import("ISO_DESIGNATED_LONG", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "ISO_DESIGNATED_LONG", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_DESIGNATED_LONG",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_DESIGNATED_LONG",
               })
           .put(
               "HYPERLINK",
-              new Import[] {
-                new Import("HYPERLINK", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.HYPERLINK",
               })
           .put(
               "_dk_Array",
-              new Import[] {
-                new Import("_dk_Array", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Array",
               })
           .put(
               "EMBEDS",
-              new Import[] {
-                new Import("EMBEDS", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.EMBEDS",
               })
           .put(
               "XmlRootElement",
-              new Import[] {
-                new Import("XmlRootElement", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlRootElement",
               })
           .put(
               "activeCaption",
-              new Import[] {
-                new Import("activeCaption", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.activeCaption",
               })
           .put(
               "setStyleFactory",
-              new Import[] {
-                new Import("setStyleFactory", "javax.swing.plaf.synth.SynthLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.synth.SynthLookAndFeel.setStyleFactory",
               })
           .put(
               "addProvider",
-              new Import[] {
-                new Import("addProvider", "java.security.Security", true),
+              new String[] {
+                "static java.security.Security.addProvider",
               })
           .put(
               "ACCESSIBLE_INVALIDATE_CHILDREN",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_INVALIDATE_CHILDREN",
-                    "javax.accessibility.AccessibleContext",
-                    true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_INVALIDATE_CHILDREN",
               })
           .put(
               "AccessibleValue",
-              new Import[] {
-                new Import("AccessibleValue", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleValue",
               })
           .put(
               "SerialException",
-              new Import[] {
-                new Import("SerialException", "javax.sql.rowset.serial", false),
+              new String[] {
+                "javax.sql.rowset.serial.SerialException",
               })
           .put(
               "SAXTransformerFactory",
-              new Import[] {
-                new Import("SAXTransformerFactory", "javax.xml.transform.sax", false),
+              new String[] {
+                "javax.xml.transform.sax.SAXTransformerFactory",
               })
           .put(
               "TAG_CODE_SETS",
-              new Import[] {
-                new Import("TAG_CODE_SETS", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.TAG_CODE_SETS",
               })
           .put(
               "CYPRIOT_SYLLABARY",
-              new Import[] {
-                new Import("CYPRIOT_SYLLABARY", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CYPRIOT_SYLLABARY",
               })
           .put(
               "ServerNotActiveException",
-              new Import[] {
-                new Import("ServerNotActiveException", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.ServerNotActiveException",
               })
           .put(
               "HandlerResolver",
-              new Import[] {
-                new Import("HandlerResolver", "javax.xml.ws.handler", false),
+              new String[] {
+                "javax.xml.ws.handler.HandlerResolver",
               })
           .put(
               "BASEFONT",
-              new Import[] {
-                new Import("BASEFONT", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.BASEFONT",
               })
           .put(
               "BasicComboBoxUI",
-              new Import[] {
-                new Import("BasicComboBoxUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicComboBoxUI",
               })
           .put(
               "Long",
-              new Import[] {
-                new Import("Long", "java.lang", false),
+              new String[] {
+                "java.lang.Long",
               })
           .put(
               "Class",
-              new Import[] {
-                new Import("Class", "java.lang", false),
+              new String[] {
+                "java.lang.Class",
               })
           .put(
               "CipherSpi",
-              new Import[] {
-                new Import("CipherSpi", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.CipherSpi",
               })
           .put(
               "pasteAction",
-              new Import[] {
-                new Import("pasteAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.pasteAction",
               })
           .put(
               "MultiComboBoxUI",
-              new Import[] {
-                new Import("MultiComboBoxUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiComboBoxUI",
               })
           .put(
               "CopyOnWriteArrayList",
-              new Import[] {
-                new Import("CopyOnWriteArrayList", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.CopyOnWriteArrayList",
               })
           .put(
               "YES_NO_OPTION",
-              new Import[] {
-                new Import(
-                    "YES_NO_OPTION", "javax.security.auth.callback.ConfirmationCallback", true),
-                new Import("YES_NO_OPTION", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.security.auth.callback.ConfirmationCallback.YES_NO_OPTION",
+                "static javax.swing.JOptionPane.YES_NO_OPTION",
               })
           .put(
               "NODE_ADOPTED",
-              new Import[] {
-                new Import("NODE_ADOPTED", "org.w3c.dom.UserDataHandler", true),
+              new String[] {
+                "static org.w3c.dom.UserDataHandler.NODE_ADOPTED",
               })
           .put(
               "DataBufferByte",
-              new Import[] {
-                new Import("DataBufferByte", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.DataBufferByte",
               })
           .put(
               "getInactiveControlTextColor",
-              new Import[] {
-                new Import(
-                    "getInactiveControlTextColor", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getInactiveControlTextColor",
               })
           .put(
               "VISIBLE",
-              new Import[] {
-                new Import("VISIBLE", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.VISIBLE",
               })
           .put(
               "createImageInputStream",
-              new Import[] {
-                new Import("createImageInputStream", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.createImageInputStream",
               })
           .put(
               "BIGDECIMAL",
-              new Import[] {
-                new Import("BIGDECIMAL", "javax.management.openmbean.SimpleType", true),
+              new String[] {
+                "static javax.management.openmbean.SimpleType.BIGDECIMAL",
               })
           .put(
               "CENFLG",
-              new Import[] {
-                new Import("CENFLG", "java.util.jar.JarEntry", true),
-                new Import("CENFLG", "java.util.jar.JarFile", true),
-                new Import("CENFLG", "java.util.jar.JarInputStream", true),
-                new Import("CENFLG", "java.util.jar.JarOutputStream", true),
-                new Import("CENFLG", "java.util.zip.ZipEntry", true),
-                new Import("CENFLG", "java.util.zip.ZipFile", true),
-                new Import("CENFLG", "java.util.zip.ZipInputStream", true),
-                new Import("CENFLG", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENFLG",
+                "static java.util.jar.JarFile.CENFLG",
+                "static java.util.jar.JarInputStream.CENFLG",
+                "static java.util.jar.JarOutputStream.CENFLG",
+                "static java.util.zip.ZipEntry.CENFLG",
+                "static java.util.zip.ZipFile.CENFLG",
+                "static java.util.zip.ZipInputStream.CENFLG",
+                "static java.util.zip.ZipOutputStream.CENFLG",
               })
           .put(
               "SELECTION_VALUES_PROPERTY",
-              new Import[] {
-                new Import("SELECTION_VALUES_PROPERTY", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.SELECTION_VALUES_PROPERTY",
               })
           .put(
               "MODE_SYNCHRONOUS",
-              new Import[] {
-                new Import("MODE_SYNCHRONOUS", "org.w3c.dom.ls.DOMImplementationLS", true),
+              new String[] {
+                "static org.w3c.dom.ls.DOMImplementationLS.MODE_SYNCHRONOUS",
               })
           .put(
               "Invoker",
-              new Import[] {
-                new Import("Invoker", "javax.xml.ws.spi", false),
+              new String[] {
+                "javax.xml.ws.spi.Invoker",
               })
           .put(
               "getUseCache",
-              new Import[] {
-                new Import("getUseCache", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getUseCache",
               })
           .put(
               "UndefinedProperty",
-              new Import[] {
-                new Import("UndefinedProperty", "java.awt.Image", true),
+              new String[] {
+                "static java.awt.Image.UndefinedProperty",
               })
           .put(
               "VERBOSE",
-              new Import[] {
-                new Import("VERBOSE", "java.rmi.server.LogStream", true),
+              new String[] {
+                "static java.rmi.server.LogStream.VERBOSE",
               })
           .put(
               "MidiDeviceReceiver",
-              new Import[] {
-                new Import("MidiDeviceReceiver", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.MidiDeviceReceiver",
               })
           .put(
               "Interceptor",
-              new Import[] {
-                new Import("Interceptor", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.Interceptor",
               })
           .put(
               "PrinterMoreInfoManufacturer",
-              new Import[] {
-                new Import("PrinterMoreInfoManufacturer", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PrinterMoreInfoManufacturer",
               })
           .put(
               "NodeChangeEvent",
-              new Import[] {
-                new Import("NodeChangeEvent", "java.util.prefs", false),
+              new String[] {
+                "java.util.prefs.NodeChangeEvent",
               })
           .put(
               "ThreadPolicyValue",
-              new Import[] {
-                new Import("ThreadPolicyValue", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ThreadPolicyValue",
               })
           .put(
               "columnNoNulls",
-              new Import[] {
-                new Import("columnNoNulls", "java.sql.DatabaseMetaData", true),
-                new Import("columnNoNulls", "java.sql.ResultSetMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.columnNoNulls",
+                "static java.sql.ResultSetMetaData.columnNoNulls",
               })
           .put(
               "MultiLookAndFeel",
-              new Import[] {
-                new Import("MultiLookAndFeel", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiLookAndFeel",
               })
           .put(
               "DataContentHandler",
-              new Import[] {
-                new Import("DataContentHandler", "javax.activation", false),
+              new String[] {
+                "javax.activation.DataContentHandler",
               })
           .put(
               "CommunicationException",
-              new Import[] {
-                new Import("CommunicationException", "javax.naming", false),
+              new String[] {
+                "javax.naming.CommunicationException",
               })
           .put(
               "DIRECTORY_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("DIRECTORY_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.DIRECTORY_CHANGED_PROPERTY",
               })
           .put(
               "SynthScrollBarUI",
-              new Import[] {
-                new Import("SynthScrollBarUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthScrollBarUI",
               })
           .put(
               "icSigViewingConditionsTag",
-              new Import[] {
-                new Import("icSigViewingConditionsTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigViewingConditionsTag",
               })
           .put(
               "Dimension2D",
-              new Import[] {
-                new Import("Dimension2D", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.Dimension2D",
               })
           .put(
               "VALUE_STROKE_PURE",
-              new Import[] {
-                new Import("VALUE_STROKE_PURE", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_STROKE_PURE",
               })
           .put(
               "StringContent",
-              new Import[] {
-                new Import("StringContent", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.StringContent",
               })
           .put(
               "ALIGN_JUSTIFIED",
-              new Import[] {
-                new Import("ALIGN_JUSTIFIED", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.ALIGN_JUSTIFIED",
               })
           .put(
               "GAP_TOKEN",
-              new Import[] {
-                new Import("GAP_TOKEN", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.GAP_TOKEN",
               })
           .put(
               "ImageWriteParam",
-              new Import[] {
-                new Import("ImageWriteParam", "javax.imageio", false),
+              new String[] {
+                "javax.imageio.ImageWriteParam",
               })
           .put(
               "ArrayDeque",
-              new Import[] {
-                new Import("ArrayDeque", "java.util", false),
+              new String[] {
+                "java.util.ArrayDeque",
               })
           .put(
               "ExemptionMechanism",
-              new Import[] {
-                new Import("ExemptionMechanism", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.ExemptionMechanism",
               })
           .put(
               "FRAMEBORDER",
-              new Import[] {
-                new Import("FRAMEBORDER", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.FRAMEBORDER",
               })
           .put(
               "OfInt",
-              new Import[] {
-                new Import("OfInt", "java.util.PrimitiveIterator", false),
-                new Import("OfInt", "java.util.Spliterator", false),
+              new String[] {
+                "java.util.PrimitiveIterator.OfInt", "java.util.Spliterator.OfInt",
               })
           .put(
               "setObjectFactoryBuilder",
-              new Import[] {
-                new Import("setObjectFactoryBuilder", "javax.naming.spi.NamingManager", true),
+              new String[] {
+                "static javax.naming.spi.NamingManager.setObjectFactoryBuilder",
               })
           .put(
               "OPEN_FAILURE",
-              new Import[] {
-                new Import("OPEN_FAILURE", "java.util.logging.ErrorManager", true),
+              new String[] {
+                "static java.util.logging.ErrorManager.OPEN_FAILURE",
               })
           .put(
               "RMISecurityException",
-              new Import[] {
-                new Import("RMISecurityException", "java.rmi", false),
+              new String[] {
+                "java.rmi.RMISecurityException",
               })
           .put(
               "unmarshal",
-              new Import[] {
-                new Import("unmarshal", "javax.xml.bind.JAXB", true),
+              new String[] {
+                "static javax.xml.bind.JAXB.unmarshal",
               })
           .put(
               "TRANSACTION_MODE",
-              new Import[] {
-                new Import("TRANSACTION_MODE", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.TRANSACTION_MODE",
               })
           .put(
               "getPackages",
-              new Import[] {
-                new Import("getPackages", "java.lang.Package", true),
+              new String[] {
+                "static java.lang.Package.getPackages",
               })
           .put(
               "IS_COALESCING",
-              new Import[] {
-                new Import("IS_COALESCING", "javax.xml.stream.XMLInputFactory", true),
+              new String[] {
+                "static javax.xml.stream.XMLInputFactory.IS_COALESCING",
               })
           .put(
               "Y_AXIS",
-              new Import[] {
-                new Import("Y_AXIS", "javax.swing.BoxLayout", true),
-                new Import("Y_AXIS", "javax.swing.text.View", true),
+              new String[] {
+                "static javax.swing.BoxLayout.Y_AXIS", "static javax.swing.text.View.Y_AXIS",
               })
           .put(
               "ISO_B0",
-              new Import[] {
-                new Import("ISO_B0", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B0", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_B0",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_B0",
               })
           .put(
               "ISO_B1",
-              new Import[] {
-                new Import("ISO_B1", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B1", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_B1",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_B1",
               })
           .put(
               "ISO_B2",
-              new Import[] {
-                new Import("ISO_B2", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B2", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_B2",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_B2",
               })
           .put(
               "ISO_B3",
-              new Import[] {
-                new Import("ISO_B3", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B3", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_B3",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_B3",
               })
           .put(
               "ofNullable",
-              new Import[] {
-                new Import("ofNullable", "java.util.Optional", true),
+              new String[] {
+                "static java.util.Optional.ofNullable",
               })
           .put(
               "ISO_B4",
-              new Import[] {
-                new Import("ISO_B4", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B4", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_B4",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_B4",
               })
           .put(
               "forLanguageTag",
-              new Import[] {
-                new Import("forLanguageTag", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.forLanguageTag",
               })
           .put(
               "ISO_B5",
-              new Import[] {
-                new Import("ISO_B5", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B5", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_B5",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_B5",
               })
           .put(
               "TypeKindVisitor8",
-              new Import[] {
-                new Import("TypeKindVisitor8", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.TypeKindVisitor8",
               })
           .put(
               "ISO_B6",
-              new Import[] {
-                new Import("ISO_B6", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B6", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_B6",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_B6",
               })
           .put(
               "ISO_B7",
-              new Import[] {
-                new Import("ISO_B7", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B7", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_B7",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_B7",
               })
           .put(
               "WStringSeqHelper",
-              new Import[] {
-                new Import("WStringSeqHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.WStringSeqHelper",
               })
           .put(
               "LSParser",
-              new Import[] {
-                new Import("LSParser", "org.w3c.dom.ls", false),
+              new String[] {
+                "org.w3c.dom.ls.LSParser",
               })
           .put(
               "VK_DEAD_DOUBLEACUTE",
-              new Import[] {
-                new Import("VK_DEAD_DOUBLEACUTE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DEAD_DOUBLEACUTE",
               })
           .put(
               "URIResolver",
-              new Import[] {
-                new Import("URIResolver", "javax.xml.transform", false),
+              new String[] {
+                "javax.xml.transform.URIResolver",
               })
           .put(
               "TWO_SIDED_LONG_EDGE",
-              new Import[] {
-                new Import("TWO_SIDED_LONG_EDGE", "java.awt.JobAttributes.SidesType", true),
-                new Import("TWO_SIDED_LONG_EDGE", "javax.print.attribute.standard.Sides", true),
+              new String[] {
+                "static java.awt.JobAttributes.SidesType.TWO_SIDED_LONG_EDGE",
+                "static javax.print.attribute.standard.Sides.TWO_SIDED_LONG_EDGE",
               })
           .put(
               "TypeKindVisitor7",
-              new Import[] {
-                new Import("TypeKindVisitor7", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.TypeKindVisitor7",
               })
           .put(
               "TypeKindVisitor6",
-              new Import[] {
-                new Import("TypeKindVisitor6", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.TypeKindVisitor6",
               })
           .put(
               "BOTTOM",
-              new Import[] {
-                new Import("BOTTOM", "javax.print.attribute.standard.MediaTray", true),
-                new Import("BOTTOM", "javax.swing.JSplitPane", true),
-                new Import("BOTTOM", "javax.swing.SwingConstants", true),
-                new Import("BOTTOM", "javax.swing.border.TitledBorder", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaTray.BOTTOM",
+                "static javax.swing.JSplitPane.BOTTOM",
+                "static javax.swing.SwingConstants.BOTTOM",
+                "static javax.swing.border.TitledBorder.BOTTOM",
               })
           .put(
               "Math",
-              new Import[] {
-                new Import("Math", "java.lang", false),
+              new String[] {
+                "java.lang.Math",
               })
           .put(
               "requestPasswordAuthentication",
-              new Import[] {
-                new Import("requestPasswordAuthentication", "java.net.Authenticator", true),
+              new String[] {
+                "static java.net.Authenticator.requestPasswordAuthentication",
               })
           .put(
               "Decoder",
-              new Import[] {
-                new Import("Decoder", "java.util.Base64", false),
+              new String[] {
+                "java.util.Base64.Decoder",
               })
           .put(
               "SignatureProperty",
-              new Import[] {
-                new Import("SignatureProperty", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "javax.xml.crypto.dsig.SignatureProperty",
               })
           .put(
               "JIS_B9",
-              new Import[] {
-                new Import("JIS_B9", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B9", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.JIS_B9",
+                "static javax.print.attribute.standard.MediaSizeName.JIS_B9",
               })
           .put(
               "AsynchronousFileChannel",
-              new Import[] {
-                new Import("AsynchronousFileChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.AsynchronousFileChannel",
               })
           .put(
               "JIS_B7",
-              new Import[] {
-                new Import("JIS_B7", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B7", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.JIS_B7",
+                "static javax.print.attribute.standard.MediaSizeName.JIS_B7",
               })
           .put(
               "JIS_B8",
-              new Import[] {
-                new Import("JIS_B8", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B8", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.JIS_B8",
+                "static javax.print.attribute.standard.MediaSizeName.JIS_B8",
               })
           .put(
               "getPool",
-              new Import[] {
-                new Import("getPool", "java.util.concurrent.ForkJoinTask", true),
+              new String[] {
+                "static java.util.concurrent.ForkJoinTask.getPool",
               })
           .put(
               "ISO_B8",
-              new Import[] {
-                new Import("ISO_B8", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B8", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_B8",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_B8",
               })
           .put(
               "ISO_B9",
-              new Import[] {
-                new Import("ISO_B9", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B9", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_B9",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_B9",
               })
           .put(
               "CollatorProvider",
-              new Import[] {
-                new Import("CollatorProvider", "java.text.spi", false),
+              new String[] {
+                "java.text.spi.CollatorProvider",
               })
           .put(
               "getSourceDataLine",
-              new Import[] {
-                new Import("getSourceDataLine", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.sampled.AudioSystem.getSourceDataLine",
               })
           .put(
               "ISO_C1",
-              new Import[] {
-                new Import("ISO_C1", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_C1", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C1",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_C1",
               })
           .put(
               "signum",
-              new Import[] {
-                new Import("signum", "java.lang.Integer", true),
-                new Import("signum", "java.lang.Long", true),
-                new Import("signum", "java.lang.Math", true),
-                new Import("signum", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Integer.signum",
+                "static java.lang.Long.signum",
+                "static java.lang.Math.signum",
+                "static java.lang.StrictMath.signum",
               })
           .put(
               "ISO_C2",
-              new Import[] {
-                new Import("ISO_C2", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_C2", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C2",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_C2",
               })
           .put(
               "ISO_C3",
-              new Import[] {
-                new Import("ISO_C3", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_C3", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C3",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_C3",
               })
           .put(
               "HTMLFactory",
-              new Import[] {
-                new Import("HTMLFactory", "javax.swing.text.html.HTMLEditorKit", false),
+              new String[] {
+                "javax.swing.text.html.HTMLEditorKit.HTMLFactory",
               })
           .put(
               "ISO_C4",
-              new Import[] {
-                new Import("ISO_C4", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_C4", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C4",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_C4",
               })
           .put(
               "ISO_C5",
-              new Import[] {
-                new Import("ISO_C5", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_C5", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C5",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_C5",
               })
           .put(
               "ISO_C6",
-              new Import[] {
-                new Import("ISO_C6", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_C6", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C6",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_C6",
               })
           .put(
               "ISO_C7",
-              new Import[] {
-                new Import("ISO_C7", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C7",
               })
           .put(
               "ISO_C8",
-              new Import[] {
-                new Import("ISO_C8", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C8",
               })
           .put(
               "InstanceAlreadyExistsException",
-              new Import[] {
-                new Import("InstanceAlreadyExistsException", "javax.management", false),
+              new String[] {
+                "javax.management.InstanceAlreadyExistsException",
               })
           .put(
               "JIS_B1",
-              new Import[] {
-                new Import("JIS_B1", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B1", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.JIS_B1",
+                "static javax.print.attribute.standard.MediaSizeName.JIS_B1",
               })
           .put(
               "JIS_B2",
-              new Import[] {
-                new Import("JIS_B2", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B2", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.JIS_B2",
+                "static javax.print.attribute.standard.MediaSizeName.JIS_B2",
               })
           .put(
               "getLogger",
-              new Import[] {
-                new Import("getLogger", "java.util.logging.Logger", true),
-                new Import("getLogger", "javax.sql.rowset.spi.SyncFactory", true),
+              new String[] {
+                "static java.util.logging.Logger.getLogger",
+                "static javax.sql.rowset.spi.SyncFactory.getLogger",
               })
           .put(
               "JIS_B0",
-              new Import[] {
-                new Import("JIS_B0", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B0", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.JIS_B0",
+                "static javax.print.attribute.standard.MediaSizeName.JIS_B0",
               })
           .put(
               "ProfileIdHelper",
-              new Import[] {
-                new Import("ProfileIdHelper", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.ProfileIdHelper",
               })
           .put(
               "JIS_B5",
-              new Import[] {
-                new Import("JIS_B5", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B5", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.JIS_B5",
+                "static javax.print.attribute.standard.MediaSizeName.JIS_B5",
               })
           .put(
               "AWTEventListenerProxy",
-              new Import[] {
-                new Import("AWTEventListenerProxy", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.AWTEventListenerProxy",
               })
           .put(
               "JIS_B6",
-              new Import[] {
-                new Import("JIS_B6", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B6", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.JIS_B6",
+                "static javax.print.attribute.standard.MediaSizeName.JIS_B6",
               })
           .put(
               "matches",
-              new Import[] {
-                new Import("matches", "java.util.regex.Pattern", true),
+              new String[] {
+                "static java.util.regex.Pattern.matches",
               })
           .put(
               "ImageTranscoderSpi",
-              new Import[] {
-                new Import("ImageTranscoderSpi", "javax.imageio.spi", false),
+              new String[] {
+                "javax.imageio.spi.ImageTranscoderSpi",
               })
           .put(
               "REQUEST_CIPHER_SUITE",
-              new Import[] {
-                new Import("REQUEST_CIPHER_SUITE", "javax.xml.ws.spi.http.HttpExchange", true),
+              new String[] {
+                "static javax.xml.ws.spi.http.HttpExchange.REQUEST_CIPHER_SUITE",
               })
           .put(
               "JIS_B3",
-              new Import[] {
-                new Import("JIS_B3", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B3", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.JIS_B3",
+                "static javax.print.attribute.standard.MediaSizeName.JIS_B3",
               })
           .put(
               "PriorityBlockingQueue",
-              new Import[] {
-                new Import("PriorityBlockingQueue", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.PriorityBlockingQueue",
               })
           .put(
               "toConcurrentMap",
-              new Import[] {
-                new Import("toConcurrentMap", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.toConcurrentMap",
               })
           .put(
               "ISO_C0",
-              new Import[] {
-                new Import("ISO_C0", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_C0", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C0",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_C0",
               })
           .put(
               "JIS_B4",
-              new Import[] {
-                new Import("JIS_B4", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B4", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.JIS_B4",
+                "static javax.print.attribute.standard.MediaSizeName.JIS_B4",
               })
           .put(
               "HTTP_CONFLICT",
-              new Import[] {
-                new Import("HTTP_CONFLICT", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_CONFLICT",
               })
           .put(
               "SHORT_DESCRIPTION",
-              new Import[] {
-                new Import("SHORT_DESCRIPTION", "javax.swing.Action", true),
+              new String[] {
+                "static javax.swing.Action.SHORT_DESCRIPTION",
               })
           .put(
               "InputMethod",
-              new Import[] {
-                new Import("InputMethod", "java.awt.im.spi", false),
+              new String[] {
+                "java.awt.im.spi.InputMethod",
               })
           .put(
               "ServiceNotFoundException",
-              new Import[] {
-                new Import("ServiceNotFoundException", "javax.management", false),
+              new String[] {
+                "javax.management.ServiceNotFoundException",
               })
           .put(
               "ISO_C9",
-              new Import[] {
-                new Import("ISO_C9", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C9",
               })
           .put(
               "InvalidPolicyHelper",
-              new Import[] {
-                new Import("InvalidPolicyHelper", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.InvalidPolicyHelper",
               })
           .put(
               "Unreferenced",
-              new Import[] {
-                new Import("Unreferenced", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.Unreferenced",
               })
           .put(
               "newByteChannel",
-              new Import[] {
-                new Import("newByteChannel", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.newByteChannel",
               })
           .put(
               "NO_CRED",
-              new Import[] {
-                new Import("NO_CRED", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.NO_CRED",
               })
           .put(
               "SINHALA",
-              new Import[] {
-                new Import("SINHALA", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SINHALA",
               })
           .put(
               "reverseOrder",
-              new Import[] {
-                new Import("reverseOrder", "java.util.Collections", true),
-                new Import("reverseOrder", "java.util.Comparator", true),
+              new String[] {
+                "static java.util.Collections.reverseOrder",
+                "static java.util.Comparator.reverseOrder",
               })
           .put(
               "FILES_AND_DIRECTORIES",
-              new Import[] {
-                new Import("FILES_AND_DIRECTORIES", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.FILES_AND_DIRECTORIES",
               })
           .put(
               "CELL_EDITOR_PROPERTY",
-              new Import[] {
-                new Import("CELL_EDITOR_PROPERTY", "javax.swing.JTree", true),
+              new String[] {
+                "static javax.swing.JTree.CELL_EDITOR_PROPERTY",
               })
           .put(
               "StyleContext",
-              new Import[] {
-                new Import("StyleContext", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.StyleContext",
               })
           .put(
               "ModelMBeanNotificationBroadcaster",
-              new Import[] {
-                new Import(
-                    "ModelMBeanNotificationBroadcaster", "javax.management.modelmbean", false),
+              new String[] {
+                "javax.management.modelmbean.ModelMBeanNotificationBroadcaster",
               })
           .put(
               "EventReaderDelegate",
-              new Import[] {
-                new Import("EventReaderDelegate", "javax.xml.stream.util", false),
+              new String[] {
+                "javax.xml.stream.util.EventReaderDelegate",
               })
           .put(
               "XPathFunctionException",
-              new Import[] {
-                new Import("XPathFunctionException", "javax.xml.xpath", false),
+              new String[] {
+                "javax.xml.xpath.XPathFunctionException",
               })
           .put(
               "UnaryOperator",
-              new Import[] {
-                new Import("UnaryOperator", "java.util.function", false),
+              new String[] {
+                "java.util.function.UnaryOperator",
               })
           .put(
               "ObjectStreamClass",
-              new Import[] {
-                new Import("ObjectStreamClass", "java.io", false),
+              new String[] {
+                "java.io.ObjectStreamClass",
               })
           .put(
               "CompletionStage",
-              new Import[] {
-                new Import("CompletionStage", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.CompletionStage",
               })
           .put(
               "ISO_A0",
-              new Import[] {
-                new Import("ISO_A0", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A0", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_A0",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_A0",
               })
           .put(
               "ISO_A1",
-              new Import[] {
-                new Import("ISO_A1", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A1", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_A1",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_A1",
               })
           .put(
               "BeanContextServiceProvider",
-              new Import[] {
-                new Import("BeanContextServiceProvider", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextServiceProvider",
               })
           .put(
               "ISO_A2",
-              new Import[] {
-                new Import("ISO_A2", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A2", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_A2",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_A2",
               })
           .put(
               "ISO_A3",
-              new Import[] {
-                new Import("ISO_A3", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A3", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_A3",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_A3",
               })
           .put(
               "ISO_A4",
-              new Import[] {
-                new Import("ISO_A4", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A4", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_A4",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_A4",
               })
           .put(
               "isJavaIdentifierStart",
-              new Import[] {
-                new Import("isJavaIdentifierStart", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isJavaIdentifierStart",
               })
           .put(
               "ISO_A5",
-              new Import[] {
-                new Import("ISO_A5", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A5", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_A5",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_A5",
               })
           .put(
               "Constructor",
-              new Import[] {
-                new Import("Constructor", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.Constructor",
               })
           .put(
               "ISO_A6",
-              new Import[] {
-                new Import("ISO_A6", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A6", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_A6",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_A6",
               })
           .put(
               "DEFAULT_SOAP_PROTOCOL",
-              new Import[] {
-                new Import("DEFAULT_SOAP_PROTOCOL", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.DEFAULT_SOAP_PROTOCOL",
               })
           .put(
               "WatchKey",
-              new Import[] {
-                new Import("WatchKey", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.WatchKey",
               })
           .put(
               "isUpperCase",
-              new Import[] {
-                new Import("isUpperCase", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isUpperCase",
               })
           .put(
               "Dimension",
-              new Import[] {
-                new Import("Dimension", "java.awt", false),
+              new String[] {
+                "java.awt.Dimension",
               })
           .put(
               "ROLE_NOT_WRITABLE",
-              new Import[] {
-                new Import("ROLE_NOT_WRITABLE", "javax.management.relation.RoleStatus", true),
+              new String[] {
+                "static javax.management.relation.RoleStatus.ROLE_NOT_WRITABLE",
               })
           .put(
               "getInsets",
-              new Import[] {
-                new Import("getInsets", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.getInsets",
               })
           .put(
               "UNIX_LINES",
-              new Import[] {
-                new Import("UNIX_LINES", "java.util.regex.Pattern", true),
+              new String[] {
+                "static java.util.regex.Pattern.UNIX_LINES",
               })
           .put(
               "calculateAlignedPositions",
-              new Import[] {
-                new Import("calculateAlignedPositions", "javax.swing.SizeRequirements", true),
+              new String[] {
+                "static javax.swing.SizeRequirements.calculateAlignedPositions",
               })
           .put(
               "getLocalHost",
-              new Import[] {
-                new Import("getLocalHost", "java.net.InetAddress", true),
+              new String[] {
+                "static java.net.InetAddress.getLocalHost",
               })
           .put(
               "PrintConversionEvent",
-              new Import[] {
-                new Import("PrintConversionEvent", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.PrintConversionEvent",
               })
           .put(
               "SCROLL_BAR",
-              new Import[] {
-                new Import("SCROLL_BAR", "javax.accessibility.AccessibleRole", true),
-                new Import("SCROLL_BAR", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.SCROLL_BAR",
+                "static javax.swing.plaf.synth.Region.SCROLL_BAR",
               })
           .put(
               "SchemaFactoryConfigurationError",
-              new Import[] {
-                new Import("SchemaFactoryConfigurationError", "javax.xml.validation", false),
+              new String[] {
+                "javax.xml.validation.SchemaFactoryConfigurationError",
               })
           .put(
               "SynthTextPaneUI",
-              new Import[] {
-                new Import("SynthTextPaneUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthTextPaneUI",
               })
           .put(
               "getInternalFrameBorder",
-              new Import[] {
-                new Import("getInternalFrameBorder", "javax.swing.plaf.basic.BasicBorders", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicBorders.getInternalFrameBorder",
               })
           .put(
               "ISO_A7",
-              new Import[] {
-                new Import("ISO_A7", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A7", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_A7",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_A7",
               })
           .put(
               "DynStructHelper",
-              new Import[] {
-                new Import("DynStructHelper", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynStructHelper",
               })
           .put(
               "ISO_A8",
-              new Import[] {
-                new Import("ISO_A8", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A8", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_A8",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_A8",
               })
           .put(
               "Family",
-              new Import[] {
-                new Import("Family", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.Family",
               })
           .put(
               "ISO_A9",
-              new Import[] {
-                new Import("ISO_A9", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A9", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_A9",
+                "static javax.print.attribute.standard.MediaSizeName.ISO_A9",
               })
           .put(
               "tk_array",
-              new Import[] {
-                new Import("tk_array", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_array",
               })
           .put(
               "ProtectionDomain",
-              new Import[] {
-                new Import("ProtectionDomain", "java.security", false),
+              new String[] {
+                "java.security.ProtectionDomain",
               })
           .put(
               "ACCEPT_NONE",
-              new Import[] {
-                new Import("ACCEPT_NONE", "java.net.CookiePolicy", true),
+              new String[] {
+                "static java.net.CookiePolicy.ACCEPT_NONE",
               })
           .put(
               "firstDayOfYear",
-              new Import[] {
-                new Import("firstDayOfYear", "java.time.temporal.TemporalAdjusters", true),
+              new String[] {
+                "static java.time.temporal.TemporalAdjusters.firstDayOfYear",
               })
           .put(
               "DefaultListSelectionModel",
-              new Import[] {
-                new Import("DefaultListSelectionModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.DefaultListSelectionModel",
               })
           .put(
               "VALUE_INTERPOLATION_BICUBIC",
-              new Import[] {
-                new Import("VALUE_INTERPOLATION_BICUBIC", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_INTERPOLATION_BICUBIC",
               })
           .put(
               "getCodebase",
-              new Import[] {
-                new Import("getCodebase", "javax.rmi.CORBA.Util", true),
+              new String[] {
+                "static javax.rmi.CORBA.Util.getCodebase",
               })
           .put(
               "WIDTH_EXTENDED",
-              new Import[] {
-                new Import("WIDTH_EXTENDED", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WIDTH_EXTENDED",
               })
           .put(
               "BasicLabelUI",
-              new Import[] {
-                new Import("BasicLabelUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicLabelUI",
               })
           .put(
               "PKIXCertPathBuilderResult",
-              new Import[] {
-                new Import("PKIXCertPathBuilderResult", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.PKIXCertPathBuilderResult",
               })
           .put(
               "XMLDecoder",
-              new Import[] {
-                new Import("XMLDecoder", "java.beans", false),
+              new String[] {
+                "java.beans.XMLDecoder",
               })
           .put(
               "EOFException",
-              new Import[] {
-                new Import("EOFException", "java.io", false),
+              new String[] {
+                "java.io.EOFException",
               })
           .put(
               "HORIZONTAL_WRAP",
-              new Import[] {
-                new Import("HORIZONTAL_WRAP", "javax.swing.JList", true),
+              new String[] {
+                "static javax.swing.JList.HORIZONTAL_WRAP",
               })
           .put(
               "TAG_BLOC",
-              new Import[] {
-                new Import("TAG_BLOC", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_BLOC",
               })
           .put(
               "TimeDefinition",
-              new Import[] {
-                new Import("TimeDefinition", "java.time.zone.ZoneOffsetTransitionRule", false),
+              new String[] {
+                "java.time.zone.ZoneOffsetTransitionRule.TimeDefinition",
               })
           .put(
               "ISO_WEEK_DATE",
-              new Import[] {
-                new Import("ISO_WEEK_DATE", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ISO_WEEK_DATE",
               })
           .put(
               "COMPLETED_YES",
-              new Import[] {
-                new Import("COMPLETED_YES", "org.omg.CORBA.CompletionStatus", true),
+              new String[] {
+                "static org.omg.CORBA.CompletionStatus.COMPLETED_YES",
               })
           .put(
               "ISO_4A0",
-              new Import[] {
-                new Import("ISO_4A0", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_4A0",
               })
           .put(
               "SOAP_SENDER_FAULT",
-              new Import[] {
-                new Import("SOAP_SENDER_FAULT", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.SOAP_SENDER_FAULT",
               })
           .put(
               "Media",
-              new Import[] {
-                new Import("Media", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.Media",
               })
           .put(
               "NumberFormatException",
-              new Import[] {
-                new Import("NumberFormatException", "java.lang", false),
+              new String[] {
+                "java.lang.NumberFormatException",
               })
           .put(
               "nameUUIDFromBytes",
-              new Import[] {
-                new Import("nameUUIDFromBytes", "java.util.UUID", true),
+              new String[] {
+                "static java.util.UUID.nameUUIDFromBytes",
               })
           .put(
               "HIERARCHY_REQUEST_ERR",
-              new Import[] {
-                new Import("HIERARCHY_REQUEST_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.HIERARCHY_REQUEST_ERR",
               })
           .put(
               "getWriterMIMETypes",
-              new Import[] {
-                new Import("getWriterMIMETypes", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getWriterMIMETypes",
               })
           .put(
               "LanguageCallback",
-              new Import[] {
-                new Import("LanguageCallback", "javax.security.auth.callback", false),
+              new String[] {
+                "javax.security.auth.callback.LanguageCallback",
               })
           .put(
               "BCSSServiceProvider",
-              new Import[] {
-                new Import(
-                    "BCSSServiceProvider",
-                    "java.beans.beancontext.BeanContextServicesSupport",
-                    false),
+              new String[] {
+                "java.beans.beancontext.BeanContextServicesSupport.BCSSServiceProvider",
               })
           .put(
               "ROMAN_BASELINE",
-              new Import[] {
-                new Import("ROMAN_BASELINE", "java.awt.Font", true),
-                new Import("ROMAN_BASELINE", "java.awt.font.GraphicAttribute", true),
+              new String[] {
+                "static java.awt.Font.ROMAN_BASELINE",
+                "static java.awt.font.GraphicAttribute.ROMAN_BASELINE",
               })
           .put(
               "LongFunction",
-              new Import[] {
-                new Import("LongFunction", "java.util.function", false),
+              new String[] {
+                "java.util.function.LongFunction",
               })
           .put(
               "JFileChooser",
-              new Import[] {
-                new Import("JFileChooser", "javax.swing", false),
+              new String[] {
+                "javax.swing.JFileChooser",
               })
           .put(
               "FLOWS_TO",
-              new Import[] {
-                new Import("FLOWS_TO", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.FLOWS_TO",
               })
           .put(
               "functionNoTable",
-              new Import[] {
-                new Import("functionNoTable", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.functionNoTable",
               })
           .put(
               "SwingPropertyChangeSupport",
-              new Import[] {
-                new Import("SwingPropertyChangeSupport", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.SwingPropertyChangeSupport",
               })
           .put(
               "BasicDirectoryModel",
-              new Import[] {
-                new Import("BasicDirectoryModel", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicDirectoryModel",
               })
           .put(
               "BaseStream",
-              new Import[] {
-                new Import("BaseStream", "java.util.stream", false),
+              new String[] {
+                "java.util.stream.BaseStream",
               })
           .put(
               "TemporalField",
-              new Import[] {
-                new Import("TemporalField", "java.time.temporal", false),
+              new String[] {
+                "java.time.temporal.TemporalField",
               })
           .put(
               "CertificateExpiredException",
-              new Import[] {
-                new Import("CertificateExpiredException", "java.security.cert", false),
-                new Import("CertificateExpiredException", "javax.security.cert", false),
+              new String[] {
+                "java.security.cert.CertificateExpiredException",
+                "javax.security.cert.CertificateExpiredException",
               })
           .put(
               "DefaultListModel",
-              new Import[] {
-                new Import("DefaultListModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.DefaultListModel",
               })
           .put(
               "insert",
-              new Import[] {
-                new Import("insert", "org.omg.CORBA.AnySeqHelper", true),
-                new Import("insert", "org.omg.CORBA.BooleanSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.CharSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.CompletionStatusHelper", true),
-                new Import("insert", "org.omg.CORBA.CurrentHelper", true),
-                new Import("insert", "org.omg.CORBA.DefinitionKindHelper", true),
-                new Import("insert", "org.omg.CORBA.DoubleSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.FieldNameHelper", true),
-                new Import("insert", "org.omg.CORBA.FloatSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.IDLTypeHelper", true),
-                new Import("insert", "org.omg.CORBA.IdentifierHelper", true),
-                new Import("insert", "org.omg.CORBA.LongLongSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.LongSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.NameValuePairHelper", true),
-                new Import("insert", "org.omg.CORBA.ObjectHelper", true),
-                new Import("insert", "org.omg.CORBA.OctetSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.ParameterModeHelper", true),
-                new Import("insert", "org.omg.CORBA.PolicyErrorCodeHelper", true),
-                new Import("insert", "org.omg.CORBA.PolicyErrorHelper", true),
-                new Import("insert", "org.omg.CORBA.PolicyHelper", true),
-                new Import("insert", "org.omg.CORBA.PolicyListHelper", true),
-                new Import("insert", "org.omg.CORBA.PolicyTypeHelper", true),
-                new Import("insert", "org.omg.CORBA.RepositoryIdHelper", true),
-                new Import("insert", "org.omg.CORBA.ServiceDetailHelper", true),
-                new Import("insert", "org.omg.CORBA.ServiceInformationHelper", true),
-                new Import("insert", "org.omg.CORBA.SetOverrideTypeHelper", true),
-                new Import("insert", "org.omg.CORBA.ShortSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.StringSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.StringValueHelper", true),
-                new Import("insert", "org.omg.CORBA.StructMemberHelper", true),
-                new Import("insert", "org.omg.CORBA.ULongLongSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.ULongSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.UShortSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.UnionMemberHelper", true),
-                new Import("insert", "org.omg.CORBA.UnknownUserExceptionHelper", true),
-                new Import("insert", "org.omg.CORBA.ValueBaseHelper", true),
-                new Import("insert", "org.omg.CORBA.ValueMemberHelper", true),
-                new Import("insert", "org.omg.CORBA.VersionSpecHelper", true),
-                new Import("insert", "org.omg.CORBA.VisibilityHelper", true),
-                new Import("insert", "org.omg.CORBA.WCharSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.WStringSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.WStringValueHelper", true),
-                new Import("insert", "org.omg.CORBA.WrongTransactionHelper", true),
-                new Import("insert", "org.omg.CosNaming.BindingHelper", true),
-                new Import("insert", "org.omg.CosNaming.BindingIteratorHelper", true),
-                new Import("insert", "org.omg.CosNaming.BindingListHelper", true),
-                new Import("insert", "org.omg.CosNaming.BindingTypeHelper", true),
-                new Import("insert", "org.omg.CosNaming.IstringHelper", true),
-                new Import("insert", "org.omg.CosNaming.NameComponentHelper", true),
-                new Import("insert", "org.omg.CosNaming.NameHelper", true),
-                new Import("insert", "org.omg.CosNaming.NamingContextExtHelper", true),
-                new Import("insert", "org.omg.CosNaming.NamingContextHelper", true),
-                new Import(
-                    "insert", "org.omg.CosNaming.NamingContextExtPackage.AddressHelper", true),
-                new Import(
-                    "insert",
-                    "org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper",
-                    true),
-                new Import(
-                    "insert", "org.omg.CosNaming.NamingContextExtPackage.StringNameHelper", true),
-                new Import(
-                    "insert", "org.omg.CosNaming.NamingContextExtPackage.URLStringHelper", true),
-                new Import(
-                    "insert", "org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper", true),
-                new Import(
-                    "insert", "org.omg.CosNaming.NamingContextPackage.CannotProceedHelper", true),
-                new Import(
-                    "insert", "org.omg.CosNaming.NamingContextPackage.InvalidNameHelper", true),
-                new Import("insert", "org.omg.CosNaming.NamingContextPackage.NotEmptyHelper", true),
-                new Import("insert", "org.omg.CosNaming.NamingContextPackage.NotFoundHelper", true),
-                new Import(
-                    "insert", "org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper", true),
-                new Import("insert", "org.omg.DynamicAny.AnySeqHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynAnyFactoryHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynAnyHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynAnySeqHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynArrayHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynEnumHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynFixedHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynSequenceHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynStructHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynUnionHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynValueHelper", true),
-                new Import("insert", "org.omg.DynamicAny.FieldNameHelper", true),
-                new Import("insert", "org.omg.DynamicAny.NameDynAnyPairHelper", true),
-                new Import("insert", "org.omg.DynamicAny.NameDynAnyPairSeqHelper", true),
-                new Import("insert", "org.omg.DynamicAny.NameValuePairHelper", true),
-                new Import("insert", "org.omg.DynamicAny.NameValuePairSeqHelper", true),
-                new Import(
-                    "insert",
-                    "org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper",
-                    true),
-                new Import("insert", "org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper", true),
-                new Import("insert", "org.omg.IOP.CodecFactoryHelper", true),
-                new Import("insert", "org.omg.IOP.ComponentIdHelper", true),
-                new Import("insert", "org.omg.IOP.IORHelper", true),
-                new Import("insert", "org.omg.IOP.MultipleComponentProfileHelper", true),
-                new Import("insert", "org.omg.IOP.ProfileIdHelper", true),
-                new Import("insert", "org.omg.IOP.ServiceContextHelper", true),
-                new Import("insert", "org.omg.IOP.ServiceContextListHelper", true),
-                new Import("insert", "org.omg.IOP.ServiceIdHelper", true),
-                new Import("insert", "org.omg.IOP.TaggedComponentHelper", true),
-                new Import("insert", "org.omg.IOP.TaggedProfileHelper", true),
-                new Import("insert", "org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper", true),
-                new Import("insert", "org.omg.IOP.CodecPackage.FormatMismatchHelper", true),
-                new Import("insert", "org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper", true),
-                new Import("insert", "org.omg.IOP.CodecPackage.TypeMismatchHelper", true),
-                new Import("insert", "org.omg.Messaging.SyncScopeHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.AdapterManagerIdHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.AdapterNameHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.AdapterStateHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.CurrentHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.ForwardRequestHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.IORInterceptor_3_0Helper", true),
-                new Import("insert", "org.omg.PortableInterceptor.InvalidSlotHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.ORBIdHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.ObjectIdHelper", true),
-                new Import(
-                    "insert", "org.omg.PortableInterceptor.ObjectReferenceFactoryHelper", true),
-                new Import(
-                    "insert", "org.omg.PortableInterceptor.ObjectReferenceTemplateHelper", true),
-                new Import(
-                    "insert", "org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.ServerIdHelper", true),
-                new Import(
-                    "insert",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper",
-                    true),
-                new Import(
-                    "insert",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper",
-                    true),
-                new Import(
-                    "insert",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper",
-                    true),
-                new Import("insert", "org.omg.PortableServer.CurrentHelper", true),
-                new Import("insert", "org.omg.PortableServer.ForwardRequestHelper", true),
-                new Import("insert", "org.omg.PortableServer.POAHelper", true),
-                new Import("insert", "org.omg.PortableServer.ServantActivatorHelper", true),
-                new Import("insert", "org.omg.PortableServer.ServantLocatorHelper", true),
-                new Import("insert", "org.omg.PortableServer.CurrentPackage.NoContextHelper", true),
-                new Import(
-                    "insert",
-                    "org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper",
-                    true),
-                new Import(
-                    "insert", "org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper", true),
-                new Import(
-                    "insert", "org.omg.PortableServer.POAPackage.AdapterNonExistentHelper", true),
-                new Import("insert", "org.omg.PortableServer.POAPackage.InvalidPolicyHelper", true),
-                new Import("insert", "org.omg.PortableServer.POAPackage.NoServantHelper", true),
-                new Import(
-                    "insert", "org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper", true),
-                new Import(
-                    "insert", "org.omg.PortableServer.POAPackage.ObjectNotActiveHelper", true),
-                new Import(
-                    "insert", "org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper", true),
-                new Import(
-                    "insert", "org.omg.PortableServer.POAPackage.ServantNotActiveHelper", true),
-                new Import("insert", "org.omg.PortableServer.POAPackage.WrongAdapterHelper", true),
-                new Import("insert", "org.omg.PortableServer.POAPackage.WrongPolicyHelper", true),
+              new String[] {
+                "static org.omg.CORBA.AnySeqHelper.insert",
+                "static org.omg.CORBA.BooleanSeqHelper.insert",
+                "static org.omg.CORBA.CharSeqHelper.insert",
+                "static org.omg.CORBA.CompletionStatusHelper.insert",
+                "static org.omg.CORBA.CurrentHelper.insert",
+                "static org.omg.CORBA.DefinitionKindHelper.insert",
+                "static org.omg.CORBA.DoubleSeqHelper.insert",
+                "static org.omg.CORBA.FieldNameHelper.insert",
+                "static org.omg.CORBA.FloatSeqHelper.insert",
+                "static org.omg.CORBA.IDLTypeHelper.insert",
+                "static org.omg.CORBA.IdentifierHelper.insert",
+                "static org.omg.CORBA.LongLongSeqHelper.insert",
+                "static org.omg.CORBA.LongSeqHelper.insert",
+                "static org.omg.CORBA.NameValuePairHelper.insert",
+                "static org.omg.CORBA.ObjectHelper.insert",
+                "static org.omg.CORBA.OctetSeqHelper.insert",
+                "static org.omg.CORBA.ParameterModeHelper.insert",
+                "static org.omg.CORBA.PolicyErrorCodeHelper.insert",
+                "static org.omg.CORBA.PolicyErrorHelper.insert",
+                "static org.omg.CORBA.PolicyHelper.insert",
+                "static org.omg.CORBA.PolicyListHelper.insert",
+                "static org.omg.CORBA.PolicyTypeHelper.insert",
+                "static org.omg.CORBA.RepositoryIdHelper.insert",
+                "static org.omg.CORBA.ServiceDetailHelper.insert",
+                "static org.omg.CORBA.ServiceInformationHelper.insert",
+                "static org.omg.CORBA.SetOverrideTypeHelper.insert",
+                "static org.omg.CORBA.ShortSeqHelper.insert",
+                "static org.omg.CORBA.StringSeqHelper.insert",
+                "static org.omg.CORBA.StringValueHelper.insert",
+                "static org.omg.CORBA.StructMemberHelper.insert",
+                "static org.omg.CORBA.ULongLongSeqHelper.insert",
+                "static org.omg.CORBA.ULongSeqHelper.insert",
+                "static org.omg.CORBA.UShortSeqHelper.insert",
+                "static org.omg.CORBA.UnionMemberHelper.insert",
+                "static org.omg.CORBA.UnknownUserExceptionHelper.insert",
+                "static org.omg.CORBA.ValueBaseHelper.insert",
+                "static org.omg.CORBA.ValueMemberHelper.insert",
+                "static org.omg.CORBA.VersionSpecHelper.insert",
+                "static org.omg.CORBA.VisibilityHelper.insert",
+                "static org.omg.CORBA.WCharSeqHelper.insert",
+                "static org.omg.CORBA.WStringSeqHelper.insert",
+                "static org.omg.CORBA.WStringValueHelper.insert",
+                "static org.omg.CORBA.WrongTransactionHelper.insert",
+                "static org.omg.CosNaming.BindingHelper.insert",
+                "static org.omg.CosNaming.BindingIteratorHelper.insert",
+                "static org.omg.CosNaming.BindingListHelper.insert",
+                "static org.omg.CosNaming.BindingTypeHelper.insert",
+                "static org.omg.CosNaming.IstringHelper.insert",
+                "static org.omg.CosNaming.NameComponentHelper.insert",
+                "static org.omg.CosNaming.NameHelper.insert",
+                "static org.omg.CosNaming.NamingContextExtHelper.insert",
+                "static org.omg.CosNaming.NamingContextHelper.insert",
+                "static org.omg.CosNaming.NamingContextExtPackage.AddressHelper.insert",
+                "static org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper.insert",
+                "static org.omg.CosNaming.NamingContextExtPackage.StringNameHelper.insert",
+                "static org.omg.CosNaming.NamingContextExtPackage.URLStringHelper.insert",
+                "static org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper.insert",
+                "static org.omg.CosNaming.NamingContextPackage.CannotProceedHelper.insert",
+                "static org.omg.CosNaming.NamingContextPackage.InvalidNameHelper.insert",
+                "static org.omg.CosNaming.NamingContextPackage.NotEmptyHelper.insert",
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundHelper.insert",
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper.insert",
+                "static org.omg.DynamicAny.AnySeqHelper.insert",
+                "static org.omg.DynamicAny.DynAnyFactoryHelper.insert",
+                "static org.omg.DynamicAny.DynAnyHelper.insert",
+                "static org.omg.DynamicAny.DynAnySeqHelper.insert",
+                "static org.omg.DynamicAny.DynArrayHelper.insert",
+                "static org.omg.DynamicAny.DynEnumHelper.insert",
+                "static org.omg.DynamicAny.DynFixedHelper.insert",
+                "static org.omg.DynamicAny.DynSequenceHelper.insert",
+                "static org.omg.DynamicAny.DynStructHelper.insert",
+                "static org.omg.DynamicAny.DynUnionHelper.insert",
+                "static org.omg.DynamicAny.DynValueHelper.insert",
+                "static org.omg.DynamicAny.FieldNameHelper.insert",
+                "static org.omg.DynamicAny.NameDynAnyPairHelper.insert",
+                "static org.omg.DynamicAny.NameDynAnyPairSeqHelper.insert",
+                "static org.omg.DynamicAny.NameValuePairHelper.insert",
+                "static org.omg.DynamicAny.NameValuePairSeqHelper.insert",
+                "static org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper.insert",
+                "static org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper.insert",
+                "static org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper.insert",
+                "static org.omg.IOP.CodecFactoryHelper.insert",
+                "static org.omg.IOP.ComponentIdHelper.insert",
+                "static org.omg.IOP.IORHelper.insert",
+                "static org.omg.IOP.MultipleComponentProfileHelper.insert",
+                "static org.omg.IOP.ProfileIdHelper.insert",
+                "static org.omg.IOP.ServiceContextHelper.insert",
+                "static org.omg.IOP.ServiceContextListHelper.insert",
+                "static org.omg.IOP.ServiceIdHelper.insert",
+                "static org.omg.IOP.TaggedComponentHelper.insert",
+                "static org.omg.IOP.TaggedProfileHelper.insert",
+                "static org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper.insert",
+                "static org.omg.IOP.CodecPackage.FormatMismatchHelper.insert",
+                "static org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper.insert",
+                "static org.omg.IOP.CodecPackage.TypeMismatchHelper.insert",
+                "static org.omg.Messaging.SyncScopeHelper.insert",
+                "static org.omg.PortableInterceptor.AdapterManagerIdHelper.insert",
+                "static org.omg.PortableInterceptor.AdapterNameHelper.insert",
+                "static org.omg.PortableInterceptor.AdapterStateHelper.insert",
+                "static org.omg.PortableInterceptor.CurrentHelper.insert",
+                "static org.omg.PortableInterceptor.ForwardRequestHelper.insert",
+                "static org.omg.PortableInterceptor.IORInterceptor_3_0Helper.insert",
+                "static org.omg.PortableInterceptor.InvalidSlotHelper.insert",
+                "static org.omg.PortableInterceptor.ORBIdHelper.insert",
+                "static org.omg.PortableInterceptor.ObjectIdHelper.insert",
+                "static org.omg.PortableInterceptor.ObjectReferenceFactoryHelper.insert",
+                "static org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.insert",
+                "static org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper.insert",
+                "static org.omg.PortableInterceptor.ServerIdHelper.insert",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper.insert",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper.insert",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper.insert",
+                "static org.omg.PortableServer.CurrentHelper.insert",
+                "static org.omg.PortableServer.ForwardRequestHelper.insert",
+                "static org.omg.PortableServer.POAHelper.insert",
+                "static org.omg.PortableServer.ServantActivatorHelper.insert",
+                "static org.omg.PortableServer.ServantLocatorHelper.insert",
+                "static org.omg.PortableServer.CurrentPackage.NoContextHelper.insert",
+                "static org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper.insert",
+                "static org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper.insert",
+                "static org.omg.PortableServer.POAPackage.AdapterNonExistentHelper.insert",
+                "static org.omg.PortableServer.POAPackage.InvalidPolicyHelper.insert",
+                "static org.omg.PortableServer.POAPackage.NoServantHelper.insert",
+                "static org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper.insert",
+                "static org.omg.PortableServer.POAPackage.ObjectNotActiveHelper.insert",
+                "static org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper.insert",
+                "static org.omg.PortableServer.POAPackage.ServantNotActiveHelper.insert",
+                "static org.omg.PortableServer.POAPackage.WrongAdapterHelper.insert",
+                "static org.omg.PortableServer.POAPackage.WrongPolicyHelper.insert",
               })
           .put(
               "BadPaddingException",
-              new Import[] {
-                new Import("BadPaddingException", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.BadPaddingException",
               })
           .put(
               "BasicFileAttributeView",
-              new Import[] {
-                new Import("BasicFileAttributeView", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.BasicFileAttributeView",
               })
           .put(
               "SHA384",
-              new Import[] {
-                new Import("SHA384", "java.security.spec.MGF1ParameterSpec", true),
+              new String[] {
+                "static java.security.spec.MGF1ParameterSpec.SHA384",
               })
           .put(
               "unmodifiableSet",
-              new Import[] {
-                new Import("unmodifiableSet", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.unmodifiableSet",
               })
           .put(
               "JAPANESE_DOUBLE_POSTCARD",
-              new Import[] {
-                new Import(
-                    "JAPANESE_DOUBLE_POSTCARD",
-                    "javax.print.attribute.standard.MediaSizeName",
-                    true),
-                new Import(
-                    "JAPANESE_DOUBLE_POSTCARD",
-                    "javax.print.attribute.standard.MediaSize.Other",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSizeName.JAPANESE_DOUBLE_POSTCARD",
+                "static javax.print.attribute.standard.MediaSize.Other.JAPANESE_DOUBLE_POSTCARD",
               })
           .put(
               "TMONEPHASE",
-              new Import[] {
-                new Import("TMONEPHASE", "javax.transaction.xa.XAResource", true),
+              new String[] {
+                "static javax.transaction.xa.XAResource.TMONEPHASE",
               })
           .put(
               "DynValue",
-              new Import[] {
-                new Import("DynValue", "org.omg.CORBA", false),
-                new Import("DynValue", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.CORBA.DynValue", "org.omg.DynamicAny.DynValue",
               })
           .put(
               "ENCLOSED_IDEOGRAPHIC_SUPPLEMENT",
-              new Import[] {
-                new Import(
-                    "ENCLOSED_IDEOGRAPHIC_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ENCLOSED_IDEOGRAPHIC_SUPPLEMENT",
               })
           .put(
               "tk_longlong",
-              new Import[] {
-                new Import("tk_longlong", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_longlong",
               })
           .put(
               "RIGHT_OUTER_JOIN",
-              new Import[] {
-                new Import("RIGHT_OUTER_JOIN", "javax.sql.rowset.JoinRowSet", true),
+              new String[] {
+                "static javax.sql.rowset.JoinRowSet.RIGHT_OUTER_JOIN",
               })
           .put(
               "getAlignment",
-              new Import[] {
-                new Import("getAlignment", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.getAlignment",
               })
           .put(
               "ExcC14NParameterSpec",
-              new Import[] {
-                new Import("ExcC14NParameterSpec", "javax.xml.crypto.dsig.spec", false),
+              new String[] {
+                "javax.xml.crypto.dsig.spec.ExcC14NParameterSpec",
               })
           .put(
               "move",
-              new Import[] {
-                new Import("move", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.move",
               })
           .put(
               "rotateRight",
-              new Import[] {
-                new Import("rotateRight", "java.lang.Integer", true),
-                new Import("rotateRight", "java.lang.Long", true),
+              new String[] {
+                "static java.lang.Integer.rotateRight", "static java.lang.Long.rotateRight",
               })
           .put(
               "CipherInputStream",
-              new Import[] {
-                new Import("CipherInputStream", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.CipherInputStream",
               })
           .put(
               "NA_10X15_ENVELOPE",
-              new Import[] {
-                new Import("NA_10X15_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_10X15_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "NA_10X15_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.NA_10X15_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSizeName.NA_10X15_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSize.NA.NA_10X15_ENVELOPE",
               })
           .put(
               "TC_ENUM",
-              new Import[] {
-                new Import("TC_ENUM", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_ENUM",
               })
           .put(
               "HEIGHT",
-              new Import[] {
-                new Import("HEIGHT", "java.awt.image.ImageObserver", true),
-                new Import("HEIGHT", "javax.swing.SpringLayout", true),
-                new Import("HEIGHT", "javax.swing.text.html.CSS.Attribute", true),
-                new Import("HEIGHT", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static java.awt.image.ImageObserver.HEIGHT",
+                "static javax.swing.SpringLayout.HEIGHT",
+                "static javax.swing.text.html.CSS.Attribute.HEIGHT",
+                "static javax.swing.text.html.HTML.Attribute.HEIGHT",
               })
           .put(
               "ETHIOPIC_EXTENDED_A",
-              new Import[] {
-                new Import("ETHIOPIC_EXTENDED_A", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ETHIOPIC_EXTENDED_A",
               })
           .put(
               "throwException",
-              new Import[] {
-                new Import("throwException", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.throwException",
               })
           .put(
               "DOMCryptoContext",
-              new Import[] {
-                new Import("DOMCryptoContext", "javax.xml.crypto.dom", false),
+              new String[] {
+                "javax.xml.crypto.dom.DOMCryptoContext",
               })
           .put(
               "ShortSeqHolder",
-              new Import[] {
-                new Import("ShortSeqHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ShortSeqHolder",
               })
           .put(
               "DEFAULT_LAYER",
-              new Import[] {
-                new Import("DEFAULT_LAYER", "javax.swing.JLayeredPane", true),
+              new String[] {
+                "static javax.swing.JLayeredPane.DEFAULT_LAYER",
               })
           .build();
 }
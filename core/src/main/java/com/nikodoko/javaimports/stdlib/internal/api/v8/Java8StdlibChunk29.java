@@ -2,1579 +2,1544 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk29 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "MAX_SURROGATE",
-              new Import[] {
-                new Import("MAX_SURROGATE", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.MAX_SURROGATE",
               })
           .put(
               "TEXT_ALIGN",
-              new Import[] {
-                new Import("TEXT_ALIGN", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.TEXT_ALIGN",
               })
           .put(
               "icHdrFlags",
-              new Import[] {
-                new Import("icHdrFlags", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrFlags",
               })
           .put(
               "icSigDeviceMfgDescTag",
-              new Import[] {
-                new Import("icSigDeviceMfgDescTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigDeviceMfgDescTag",
               })
           .put(
               "DECEMBER",
-              new Import[] {
-                new Import("DECEMBER", "java.util.Calendar", true),
-                new Import("DECEMBER", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static java.util.Calendar.DECEMBER",
+                "static javax.xml.datatype.DatatypeConstants.DECEMBER",
               })
           .put(
               "DEFLATED",
-              new Import[] {
-                new Import("DEFLATED", "java.util.zip.Deflater", true),
-                new Import("DEFLATED", "java.util.zip.ZipEntry", true),
-                new Import("DEFLATED", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.zip.Deflater.DEFLATED",
+                "static java.util.zip.ZipEntry.DEFLATED",
+                "static java.util.zip.ZipOutputStream.DEFLATED",
               })
           .put(
               "SystemColor",
-              new Import[] {
-                new Import("SystemColor", "java.awt", false),
+              new String[] {
+                "java.awt.SystemColor",
               })
           .put(
               "functionNullableUnknown",
-              new Import[] {
-                new Import("functionNullableUnknown", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.functionNullableUnknown",
               })
           .put(
               "newPacker",
-              new Import[] {
-                new Import("newPacker", "java.util.jar.Pack200", true),
+              new String[] {
+                "static java.util.jar.Pack200.newPacker",
               })
           .put(
               "CARIAN",
-              new Import[] {
-                new Import("CARIAN", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CARIAN",
               })
           .put(
               "US_ASCII",
-              new Import[] {
-                new Import("US_ASCII", "java.nio.charset.StandardCharsets", true),
+              new String[] {
+                "static java.nio.charset.StandardCharsets.US_ASCII",
               })
           .put(
               "unmodifiableCollection",
-              new Import[] {
-                new Import("unmodifiableCollection", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.unmodifiableCollection",
               })
           .put(
               "CENEXT",
-              new Import[] {
-                new Import("CENEXT", "java.util.jar.JarEntry", true),
-                new Import("CENEXT", "java.util.jar.JarFile", true),
-                new Import("CENEXT", "java.util.jar.JarInputStream", true),
-                new Import("CENEXT", "java.util.jar.JarOutputStream", true),
-                new Import("CENEXT", "java.util.zip.ZipEntry", true),
-                new Import("CENEXT", "java.util.zip.ZipFile", true),
-                new Import("CENEXT", "java.util.zip.ZipInputStream", true),
-                new Import("CENEXT", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENEXT",
+                "static java.util.jar.JarFile.CENEXT",
+                "static java.util.jar.JarInputStream.CENEXT",
+                "static java.util.jar.JarOutputStream.CENEXT",
+                "static java.util.zip.ZipEntry.CENEXT",
+                "static java.util.zip.ZipFile.CENEXT",
+                "static java.util.zip.ZipInputStream.CENEXT",
+                "static java.util.zip.ZipOutputStream.CENEXT",
               })
           .put(
               "getSubTextFont",
-              new Import[] {
-                new Import("getSubTextFont", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getSubTextFont",
               })
           .put(
               "icSigHead",
-              new Import[] {
-                new Import("icSigHead", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigHead",
               })
           .put(
               "SynthTableHeaderUI",
-              new Import[] {
-                new Import("SynthTableHeaderUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthTableHeaderUI",
               })
           .put(
               "INTERVAL_ADDED",
-              new Import[] {
-                new Import("INTERVAL_ADDED", "javax.swing.event.ListDataEvent", true),
+              new String[] {
+                "static javax.swing.event.ListDataEvent.INTERVAL_ADDED",
               })
           .put(
               "_PolicyStub",
-              new Import[] {
-                new Import("_PolicyStub", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA._PolicyStub",
               })
           .put(
               "disjoint",
-              new Import[] {
-                new Import("disjoint", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.disjoint",
               })
           .put(
               "TRAILER_FIELD_BC",
-              new Import[] {
-                new Import("TRAILER_FIELD_BC", "java.security.spec.PSSParameterSpec", true),
+              new String[] {
+                "static java.security.spec.PSSParameterSpec.TRAILER_FIELD_BC",
               })
           .put(
               "MutableComboBoxModel",
-              new Import[] {
-                new Import("MutableComboBoxModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.MutableComboBoxModel",
               })
           .put(
               "WEEK_OF_MONTH_FIELD",
-              new Import[] {
-                new Import("WEEK_OF_MONTH_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.WEEK_OF_MONTH_FIELD",
               })
           .put(
               "NOT_SPECIFIED",
-              new Import[] {
-                new Import("NOT_SPECIFIED", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.sampled.AudioSystem.NOT_SPECIFIED",
               })
           .put(
               "getCheckBoxMenuItemIcon",
-              new Import[] {
-                new Import(
-                    "getCheckBoxMenuItemIcon", "javax.swing.plaf.basic.BasicIconFactory", true),
-                new Import(
-                    "getCheckBoxMenuItemIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicIconFactory.getCheckBoxMenuItemIcon",
+                "static javax.swing.plaf.metal.MetalIconFactory.getCheckBoxMenuItemIcon",
               })
           .put(
               "newBufferedReader",
-              new Import[] {
-                new Import("newBufferedReader", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.newBufferedReader",
               })
           .put(
               "IDLTypeHelper",
-              new Import[] {
-                new Import("IDLTypeHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.IDLTypeHelper",
               })
           .put(
               "NotCompliantMBeanException",
-              new Import[] {
-                new Import("NotCompliantMBeanException", "javax.management", false),
+              new String[] {
+                "javax.management.NotCompliantMBeanException",
               })
           .put(
               "ListSelectionModel",
-              new Import[] {
-                new Import("ListSelectionModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.ListSelectionModel",
               })
           .put(
               "RespectBinding",
-              new Import[] {
-                new Import("RespectBinding", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.RespectBinding",
               })
           .put(
               "FieldPosition",
-              new Import[] {
-                new Import("FieldPosition", "java.text", false),
+              new String[] {
+                "java.text.FieldPosition",
               })
           .put(
               "XMLGregorianCalendar",
-              new Import[] {
-                new Import("XMLGregorianCalendar", "javax.xml.datatype", false),
+              new String[] {
+                "javax.xml.datatype.XMLGregorianCalendar",
               })
           .put(
               "CompoundControl",
-              new Import[] {
-                new Import("CompoundControl", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.CompoundControl",
               })
           .put(
               "ServiceUI",
-              new Import[] {
-                new Import("ServiceUI", "javax.print", false),
+              new String[] {
+                "javax.print.ServiceUI",
               })
           .put(
               "getDesktopIconBorder",
-              new Import[] {
-                new Import("getDesktopIconBorder", "javax.swing.plaf.metal.MetalBorders", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalBorders.getDesktopIconBorder",
               })
           .put(
               "summingInt",
-              new Import[] {
-                new Import("summingInt", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.summingInt",
               })
           .put(
               "GOT_FOCUS",
-              new Import[] {
-                new Import("GOT_FOCUS", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.GOT_FOCUS",
               })
           .put(
               "KEY_INTERPOLATION",
-              new Import[] {
-                new Import("KEY_INTERPOLATION", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.KEY_INTERPOLATION",
               })
           .put(
               "DAY_OF_WEEK",
-              new Import[] {
-                new Import("DAY_OF_WEEK", "java.text.DateFormat.Field", true),
-                new Import("DAY_OF_WEEK", "java.util.Calendar", true),
+              new String[] {
+                "static java.text.DateFormat.Field.DAY_OF_WEEK",
+                "static java.util.Calendar.DAY_OF_WEEK",
               })
           .put(
               "ContainerAdapter",
-              new Import[] {
-                new Import("ContainerAdapter", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.ContainerAdapter",
               })
           .put(
               "ForkJoinPool",
-              new Import[] {
-                new Import("ForkJoinPool", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ForkJoinPool",
               })
           .put(
               "locationFor",
-              new Import[] {
-                new Import("locationFor", "javax.tools.StandardLocation", true),
+              new String[] {
+                "static javax.tools.StandardLocation.locationFor",
               })
           .put(
               "groupingBy",
-              new Import[] {
-                new Import("groupingBy", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.groupingBy",
               })
           .put(
               "MENU_BAR_PROPERTY",
-              new Import[] {
-                new Import("MENU_BAR_PROPERTY", "javax.swing.JInternalFrame", true),
+              new String[] {
+                "static javax.swing.JInternalFrame.MENU_BAR_PROPERTY",
               })
           .put(
               "getControlShadow",
-              new Import[] {
-                new Import("getControlShadow", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getControlShadow",
               })
           .put(
               "BAD_POLICY",
-              new Import[] {
-                new Import("BAD_POLICY", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.BAD_POLICY",
               })
           .put(
               "ActiveEvent",
-              new Import[] {
-                new Import("ActiveEvent", "java.awt", false),
+              new String[] {
+                "java.awt.ActiveEvent",
               })
           .put(
               "beepAction",
-              new Import[] {
-                new Import("beepAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.beepAction",
               })
           .put(
               "ActivateFailedException",
-              new Import[] {
-                new Import("ActivateFailedException", "java.rmi.activation", false),
+              new String[] {
+                "java.rmi.activation.ActivateFailedException",
               })
           .put(
               "Dispatch",
-              new Import[] {
-                new Import("Dispatch", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.Dispatch",
               })
           .put(
               "SCROLLBARS_BOTH",
-              new Import[] {
-                new Import("SCROLLBARS_BOTH", "java.awt.TextArea", true),
+              new String[] {
+                "static java.awt.TextArea.SCROLLBARS_BOTH",
               })
           .put(
               "TAG_JUST",
-              new Import[] {
-                new Import("TAG_JUST", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_JUST",
               })
           .put(
               "IntSummaryStatistics",
-              new Import[] {
-                new Import("IntSummaryStatistics", "java.util", false),
+              new String[] {
+                "java.util.IntSummaryStatistics",
               })
           .put(
               "SOAPFactory",
-              new Import[] {
-                new Import("SOAPFactory", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SOAPFactory",
               })
           .put(
               "SPACE",
-              new Import[] {
-                new Import("SPACE", "javax.xml.stream.XMLStreamConstants", true),
+              new String[] {
+                "static javax.xml.stream.XMLStreamConstants.SPACE",
               })
           .put(
               "KEY_PRESS",
-              new Import[] {
-                new Import("KEY_PRESS", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.KEY_PRESS",
               })
           .put(
               "IORHolder",
-              new Import[] {
-                new Import("IORHolder", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.IORHolder",
               })
           .put(
               "_tk_objref",
-              new Import[] {
-                new Import("_tk_objref", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_objref",
               })
           .put(
               "RSAMultiPrimePrivateCrtKeySpec",
-              new Import[] {
-                new Import("RSAMultiPrimePrivateCrtKeySpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.RSAMultiPrimePrivateCrtKeySpec",
               })
           .put(
               "MBeanServerDelegate",
-              new Import[] {
-                new Import("MBeanServerDelegate", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanServerDelegate",
               })
           .put(
               "SO_KEEPALIVE",
-              new Import[] {
-                new Import("SO_KEEPALIVE", "java.net.SocketOptions", true),
-                new Import("SO_KEEPALIVE", "java.net.StandardSocketOptions", true),
+              new String[] {
+                "static java.net.SocketOptions.SO_KEEPALIVE",
+                "static java.net.StandardSocketOptions.SO_KEEPALIVE",
               })
           .put(
               "MultiTreeUI",
-              new Import[] {
-                new Import("MultiTreeUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiTreeUI",
               })
           .put(
               "XMLSignContext",
-              new Import[] {
-                new Import("XMLSignContext", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "javax.xml.crypto.dsig.XMLSignContext",
               })
           .put(
               "OpenMBeanOperationInfoSupport",
-              new Import[] {
-                new Import("OpenMBeanOperationInfoSupport", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.OpenMBeanOperationInfoSupport",
               })
           .put(
               "LINE_END",
-              new Import[] {
-                new Import("LINE_END", "java.awt.BorderLayout", true),
-                new Import("LINE_END", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.BorderLayout.LINE_END",
+                "static java.awt.GridBagConstraints.LINE_END",
               })
           .put(
               "PopupFactory",
-              new Import[] {
-                new Import("PopupFactory", "javax.swing", false),
+              new String[] {
+                "javax.swing.PopupFactory",
               })
           .put(
               "set",
-              new Import[] {
-                new Import("set", "java.lang.reflect.Array", true),
+              new String[] {
+                "static java.lang.reflect.Array.set",
               })
           .put(
               "VK_ASTERISK",
-              new Import[] {
-                new Import("VK_ASTERISK", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_ASTERISK",
               })
           .put(
               "COMPRESSION_ERROR",
-              new Import[] {
-                new Import(
-                    "COMPRESSION_ERROR", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.COMPRESSION_ERROR",
               })
           .put(
               "Rectangle2D",
-              new Import[] {
-                new Import("Rectangle2D", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.Rectangle2D",
               })
           .put(
               "LSSerializer",
-              new Import[] {
-                new Import("LSSerializer", "org.w3c.dom.ls", false),
+              new String[] {
+                "org.w3c.dom.ls.LSSerializer",
               })
           .put(
               "RED",
-              new Import[] {
-                new Import("RED", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.RED",
               })
           .put(
               "MULTIPLE_ID",
-              new Import[] {
-                new Import("MULTIPLE_ID", "org.omg.PortableServer.IdUniquenessPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.IdUniquenessPolicyValue.MULTIPLE_ID",
               })
           .put(
               "CertPathBuilderSpi",
-              new Import[] {
-                new Import("CertPathBuilderSpi", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertPathBuilderSpi",
               })
           .put(
               "NoSuchAttributeException",
-              new Import[] {
-                new Import("NoSuchAttributeException", "javax.naming.directory", false),
+              new String[] {
+                "javax.naming.directory.NoSuchAttributeException",
               })
           .put(
               "REF",
-              new Import[] {
-                new Import("REF", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.REF",
               })
           .put(
               "Year",
-              new Import[] {
-                new Import("Year", "java.time", false),
+              new String[] {
+                "java.time.Year",
               })
           .put(
               "INACTIVE",
-              new Import[] {
-                new Import("INACTIVE", "org.omg.PortableInterceptor", false),
-                new Import("INACTIVE", "org.omg.PortableServer.POAManagerPackage.State", true),
+              new String[] {
+                "org.omg.PortableInterceptor.INACTIVE",
+                "static org.omg.PortableServer.POAManagerPackage.State.INACTIVE",
               })
           .put(
               "MimeHeader",
-              new Import[] {
-                new Import("MimeHeader", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.MimeHeader",
               })
           .put(
               "REL",
-              new Import[] {
-                new Import("REL", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.REL",
               })
           .put(
               "VARBINARY",
-              new Import[] {
-                new Import("VARBINARY", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.VARBINARY",
               })
           .put(
               "SEVERITY_FATAL_ERROR",
-              new Import[] {
-                new Import("SEVERITY_FATAL_ERROR", "org.w3c.dom.DOMError", true),
+              new String[] {
+                "static org.w3c.dom.DOMError.SEVERITY_FATAL_ERROR",
               })
           .put(
               "InvokeHandler",
-              new Import[] {
-                new Import("InvokeHandler", "org.omg.CORBA.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.InvokeHandler",
               })
           .put(
               "nextWordAction",
-              new Import[] {
-                new Import("nextWordAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.nextWordAction",
               })
           .put(
               "AnnotatedTypeVariable",
-              new Import[] {
-                new Import("AnnotatedTypeVariable", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.AnnotatedTypeVariable",
               })
           .put(
               "drawGroove",
-              new Import[] {
-                new Import("drawGroove", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicGraphicsUtils.drawGroove",
               })
           .put(
               "_DynStructStub",
-              new Import[] {
-                new Import("_DynStructStub", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny._DynStructStub",
               })
           .put(
               "SQLWarning",
-              new Import[] {
-                new Import("SQLWarning", "java.sql", false),
+              new String[] {
+                "java.sql.SQLWarning",
               })
           .put(
               "REV",
-              new Import[] {
-                new Import("REV", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.REV",
               })
           .put(
               "VK_DEAD_SEMIVOICED_SOUND",
-              new Import[] {
-                new Import("VK_DEAD_SEMIVOICED_SOUND", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DEAD_SEMIVOICED_SOUND",
               })
           .put(
               "GaugeMonitor",
-              new Import[] {
-                new Import("GaugeMonitor", "javax.management.monitor", false),
+              new String[] {
+                "javax.management.monitor.GaugeMonitor",
               })
           .put(
               "NullCipher",
-              new Import[] {
-                new Import("NullCipher", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.NullCipher",
               })
           .put(
               "LineBorderUIResource",
-              new Import[] {
-                new Import("LineBorderUIResource", "javax.swing.plaf.BorderUIResource", false),
+              new String[] {
+                "javax.swing.plaf.BorderUIResource.LineBorderUIResource",
               })
           .put(
               "ORBInitializer",
-              new Import[] {
-                new Import("ORBInitializer", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ORBInitializer",
               })
           .put(
               "IIOImage",
-              new Import[] {
-                new Import("IIOImage", "javax.imageio", false),
+              new String[] {
+                "javax.imageio.IIOImage",
               })
           .put(
               "TYPE_YCbCr",
-              new Import[] {
-                new Import("TYPE_YCbCr", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_YCbCr",
               })
           .put(
               "SynthMenuUI",
-              new Import[] {
-                new Import("SynthMenuUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthMenuUI",
               })
           .put(
               "RMIServerSocketFactory",
-              new Import[] {
-                new Import("RMIServerSocketFactory", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.RMIServerSocketFactory",
               })
           .put(
               "FileChooserUI",
-              new Import[] {
-                new Import("FileChooserUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.FileChooserUI",
               })
           .put(
               "STOPPING",
-              new Import[] {
-                new Import("STOPPING", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.STOPPING",
               })
           .put(
               "SOAPACTION_USE_PROPERTY",
-              new Import[] {
-                new Import("SOAPACTION_USE_PROPERTY", "javax.xml.ws.BindingProvider", true),
+              new String[] {
+                "static javax.xml.ws.BindingProvider.SOAPACTION_USE_PROPERTY",
               })
           .put(
               "digit",
-              new Import[] {
-                new Import("digit", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.digit",
               })
           .put(
               "JOB_CANCELED_AT_DEVICE",
-              new Import[] {
-                new Import(
-                    "JOB_CANCELED_AT_DEVICE",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.JOB_CANCELED_AT_DEVICE",
               })
           .put(
               "getDefaultAllowUserInteraction",
-              new Import[] {
-                new Import("getDefaultAllowUserInteraction", "java.net.URLConnection", true),
+              new String[] {
+                "static java.net.URLConnection.getDefaultAllowUserInteraction",
               })
           .put(
               "ServantActivator",
-              new Import[] {
-                new Import("ServantActivator", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ServantActivator",
               })
           .put(
               "INFORMATION",
-              new Import[] {
-                new Import(
-                    "INFORMATION", "javax.security.auth.callback.ConfirmationCallback", true),
-                new Import("INFORMATION", "javax.security.auth.callback.TextOutputCallback", true),
+              new String[] {
+                "static javax.security.auth.callback.ConfirmationCallback.INFORMATION",
+                "static javax.security.auth.callback.TextOutputCallback.INFORMATION",
               })
           .put(
               "Color",
-              new Import[] {
-                new Import("Color", "java.awt", false),
+              new String[] {
+                "java.awt.Color",
               })
           .put(
               "DataLine",
-              new Import[] {
-                new Import("DataLine", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.DataLine",
               })
           .put(
               "Duration",
-              new Import[] {
-                new Import("Duration", "java.time", false),
-                new Import("Duration", "javax.xml.datatype", false),
+              new String[] {
+                "java.time.Duration", "javax.xml.datatype.Duration",
               })
           .put(
               "URI_NS_SOAP_1_1_ENVELOPE",
-              new Import[] {
-                new Import("URI_NS_SOAP_1_1_ENVELOPE", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.URI_NS_SOAP_1_1_ENVELOPE",
               })
           .put(
               "icSigGrayData",
-              new Import[] {
-                new Import("icSigGrayData", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigGrayData",
               })
           .put(
               "COMBINING_DIACRITICAL_MARKS_SUPPLEMENT",
-              new Import[] {
-                new Import(
-                    "COMBINING_DIACRITICAL_MARKS_SUPPLEMENT",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.COMBINING_DIACRITICAL_MARKS_SUPPLEMENT",
               })
           .put(
               "OUTLINE_DRAG_MODE",
-              new Import[] {
-                new Import("OUTLINE_DRAG_MODE", "javax.swing.JDesktopPane", true),
+              new String[] {
+                "static javax.swing.JDesktopPane.OUTLINE_DRAG_MODE",
               })
           .put(
               "getCheckBoxIcon",
-              new Import[] {
-                new Import("getCheckBoxIcon", "javax.swing.plaf.basic.BasicIconFactory", true),
-                new Import("getCheckBoxIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicIconFactory.getCheckBoxIcon",
+                "static javax.swing.plaf.metal.MetalIconFactory.getCheckBoxIcon",
               })
           .put(
               "LSInput",
-              new Import[] {
-                new Import("LSInput", "org.w3c.dom.ls", false),
+              new String[] {
+                "org.w3c.dom.ls.LSInput",
               })
           .put(
               "getBeanInfoSearchPath",
-              new Import[] {
-                new Import("getBeanInfoSearchPath", "java.beans.Introspector", true),
+              new String[] {
+                "static java.beans.Introspector.getBeanInfoSearchPath",
               })
           .put(
               "_tk_struct",
-              new Import[] {
-                new Import("_tk_struct", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_struct",
               })
           .put(
               "TRANSACTION_REQUIRED",
-              new Import[] {
-                new Import("TRANSACTION_REQUIRED", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.TRANSACTION_REQUIRED",
               })
           .put(
               "DTDHandler",
-              new Import[] {
-                new Import("DTDHandler", "org.xml.sax", false),
+              new String[] {
+                "org.xml.sax.DTDHandler",
               })
           .put(
               "SEPARATE_DOCUMENTS_COLLATED_COPIES",
-              new Import[] {
-                new Import(
-                    "SEPARATE_DOCUMENTS_COLLATED_COPIES",
-                    "java.awt.JobAttributes.MultipleDocumentHandlingType",
-                    true),
-                new Import(
-                    "SEPARATE_DOCUMENTS_COLLATED_COPIES",
-                    "javax.print.attribute.standard.MultipleDocumentHandling",
-                    true),
+              new String[] {
+                "static"
+                    + " java.awt.JobAttributes.MultipleDocumentHandlingType.SEPARATE_DOCUMENTS_COLLATED_COPIES",
+                "static"
+                    + " javax.print.attribute.standard.MultipleDocumentHandling.SEPARATE_DOCUMENTS_COLLATED_COPIES",
               })
           .put(
               "Listener",
-              new Import[] {
-                new Import("Listener", "javax.xml.bind.Marshaller", false),
-                new Import("Listener", "javax.xml.bind.Unmarshaller", false),
+              new String[] {
+                "javax.xml.bind.Marshaller.Listener", "javax.xml.bind.Unmarshaller.Listener",
               })
           .put(
               "LOAD",
-              new Import[] {
-                new Import("LOAD", "java.awt.FileDialog", true),
+              new String[] {
+                "static java.awt.FileDialog.LOAD",
               })
           .put(
               "CheckboxGroup",
-              new Import[] {
-                new Import("CheckboxGroup", "java.awt", false),
+              new String[] {
+                "java.awt.CheckboxGroup",
               })
           .put(
               "createGlue",
-              new Import[] {
-                new Import("createGlue", "javax.swing.Box", true),
+              new String[] {
+                "static javax.swing.Box.createGlue",
               })
           .put(
               "EDGE_STITCH_TOP",
-              new Import[] {
-                new Import("EDGE_STITCH_TOP", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.EDGE_STITCH_TOP",
               })
           .put(
               "ClientRequestInfo",
-              new Import[] {
-                new Import("ClientRequestInfo", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ClientRequestInfo",
               })
           .put(
               "getFloat",
-              new Import[] {
-                new Import("getFloat", "java.lang.reflect.Array", true),
+              new String[] {
+                "static java.lang.reflect.Array.getFloat",
               })
           .put(
               "RefAddr",
-              new Import[] {
-                new Import("RefAddr", "javax.naming", false),
+              new String[] {
+                "javax.naming.RefAddr",
               })
           .put(
               "NW_RESIZE_CURSOR",
-              new Import[] {
-                new Import("NW_RESIZE_CURSOR", "java.awt.Cursor", true),
-                new Import("NW_RESIZE_CURSOR", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Cursor.NW_RESIZE_CURSOR", "static java.awt.Frame.NW_RESIZE_CURSOR",
               })
           .put(
               "SET_OVERRIDE",
-              new Import[] {
-                new Import("SET_OVERRIDE", "org.omg.CORBA.SetOverrideType", true),
+              new String[] {
+                "static org.omg.CORBA.SetOverrideType.SET_OVERRIDE",
               })
           .put(
               "getAvailableZoneIds",
-              new Import[] {
-                new Import("getAvailableZoneIds", "java.time.ZoneId", true),
-                new Import("getAvailableZoneIds", "java.time.zone.ZoneRulesProvider", true),
+              new String[] {
+                "static java.time.ZoneId.getAvailableZoneIds",
+                "static java.time.zone.ZoneRulesProvider.getAvailableZoneIds",
               })
           .put(
               "SYNC_FLUSH",
-              new Import[] {
-                new Import("SYNC_FLUSH", "java.util.zip.Deflater", true),
+              new String[] {
+                "static java.util.zip.Deflater.SYNC_FLUSH",
               })
           .put(
               "Relation",
-              new Import[] {
-                new Import("Relation", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.Relation",
               })
           .put(
               "ROWSET_SYNC_VENDOR",
-              new Import[] {
-                new Import("ROWSET_SYNC_VENDOR", "javax.sql.rowset.spi.SyncFactory", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncFactory.ROWSET_SYNC_VENDOR",
               })
           .put(
               "TYPE_INT_ARGB",
-              new Import[] {
-                new Import("TYPE_INT_ARGB", "java.awt.image.BufferedImage", true),
+              new String[] {
+                "static java.awt.image.BufferedImage.TYPE_INT_ARGB",
               })
           .put(
               "getSystemTextFont",
-              new Import[] {
-                new Import("getSystemTextFont", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getSystemTextFont",
               })
           .put(
               "DatatypeConstants",
-              new Import[] {
-                new Import("DatatypeConstants", "javax.xml.datatype", false),
+              new String[] {
+                "javax.xml.datatype.DatatypeConstants",
               })
           .put(
               "javaSerializedObjectMimeType",
-              new Import[] {
-                new Import(
-                    "javaSerializedObjectMimeType", "java.awt.datatransfer.DataFlavor", true),
+              new String[] {
+                "static java.awt.datatransfer.DataFlavor.javaSerializedObjectMimeType",
               })
           .put(
               "TIBETAN",
-              new Import[] {
-                new Import("TIBETAN", "java.awt.font.NumericShaper", true),
-                new Import("TIBETAN", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.TIBETAN",
+                "static java.lang.Character.UnicodeBlock.TIBETAN",
               })
           .put(
               "sin",
-              new Import[] {
-                new Import("sin", "java.lang.Math", true),
-                new Import("sin", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.sin", "static java.lang.StrictMath.sin",
               })
           .put(
               "OK_OPTION",
-              new Import[] {
-                new Import("OK_OPTION", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.OK_OPTION",
               })
           .put(
               "ACTION_INSERT_AFTER",
-              new Import[] {
-                new Import("ACTION_INSERT_AFTER", "org.w3c.dom.ls.LSParser", true),
+              new String[] {
+                "static org.w3c.dom.ls.LSParser.ACTION_INSERT_AFTER",
               })
           .put(
               "RealmChoiceCallback",
-              new Import[] {
-                new Import("RealmChoiceCallback", "javax.security.sasl", false),
+              new String[] {
+                "javax.security.sasl.RealmChoiceCallback",
               })
           .put(
               "COMPONENT_REMOVED",
-              new Import[] {
-                new Import("COMPONENT_REMOVED", "java.awt.event.ContainerEvent", true),
+              new String[] {
+                "static java.awt.event.ContainerEvent.COMPONENT_REMOVED",
               })
           .put(
               "getEditorKitClassNameForContentType",
-              new Import[] {
-                new Import("getEditorKitClassNameForContentType", "javax.swing.JEditorPane", true),
+              new String[] {
+                "static javax.swing.JEditorPane.getEditorKitClassNameForContentType",
               })
           .put(
               "DropTargetContext",
-              new Import[] {
-                new Import("DropTargetContext", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DropTargetContext",
               })
           .put(
               "Stub",
-              new Import[] {
-                new Import("Stub", "javax.rmi.CORBA", false),
+              new String[] {
+                "javax.rmi.CORBA.Stub",
               })
           .put(
               "AWTPermission",
-              new Import[] {
-                new Import("AWTPermission", "java.awt", false),
+              new String[] {
+                "java.awt.AWTPermission",
               })
           .put(
               "CTRL_DOWN_MASK",
-              new Import[] {
-                new Import("CTRL_DOWN_MASK", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.event.InputEvent.CTRL_DOWN_MASK",
               })
           .put(
               "CompositeContext",
-              new Import[] {
-                new Import("CompositeContext", "java.awt", false),
+              new String[] {
+                "java.awt.CompositeContext",
               })
           .put(
               "BasicListUI",
-              new Import[] {
-                new Import("BasicListUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicListUI",
               })
           .put(
               "fromString",
-              new Import[] {
-                new Import("fromString", "java.nio.file.attribute.PosixFilePermissions", true),
-                new Import("fromString", "java.util.UUID", true),
+              new String[] {
+                "static java.nio.file.attribute.PosixFilePermissions.fromString",
+                "static java.util.UUID.fromString",
               })
           .put(
               "FilterOutputStream",
-              new Import[] {
-                new Import("FilterOutputStream", "java.io", false),
+              new String[] {
+                "java.io.FilterOutputStream",
               })
           .put(
               "CS_CIEXYZ",
-              new Import[] {
-                new Import("CS_CIEXYZ", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.CS_CIEXYZ",
               })
           .put(
               "VK_2",
-              new Import[] {
-                new Import("VK_2", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_2",
               })
           .put(
               "WebRowSet",
-              new Import[] {
-                new Import("WebRowSet", "javax.sql.rowset", false),
+              new String[] {
+                "javax.sql.rowset.WebRowSet",
               })
           .put(
               "VK_3",
-              new Import[] {
-                new Import("VK_3", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_3",
               })
           .put(
               "QUESTION_MESSAGE",
-              new Import[] {
-                new Import("QUESTION_MESSAGE", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.QUESTION_MESSAGE",
               })
           .put(
               "IconView",
-              new Import[] {
-                new Import("IconView", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.IconView",
               })
           .put(
               "VK_4",
-              new Import[] {
-                new Import("VK_4", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_4",
               })
           .put(
               "OpenType",
-              new Import[] {
-                new Import("OpenType", "java.awt.font", false),
-                new Import("OpenType", "javax.management.openmbean", false),
+              new String[] {
+                "java.awt.font.OpenType", "javax.management.openmbean.OpenType",
               })
           .put(
               "VK_5",
-              new Import[] {
-                new Import("VK_5", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_5",
               })
           .put(
               "_dk_Interface",
-              new Import[] {
-                new Import("_dk_Interface", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Interface",
               })
           .put(
               "VK_6",
-              new Import[] {
-                new Import("VK_6", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_6",
               })
           .put(
               "VK_ALPHANUMERIC",
-              new Import[] {
-                new Import("VK_ALPHANUMERIC", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_ALPHANUMERIC",
               })
           .put(
               "AccessibleStateSet",
-              new Import[] {
-                new Import("AccessibleStateSet", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleStateSet",
               })
           .put(
               "VK_7",
-              new Import[] {
-                new Import("VK_7", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_7",
               })
           .put(
               "codePointAt",
-              new Import[] {
-                new Import("codePointAt", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.codePointAt",
               })
           .put(
               "VK_8",
-              new Import[] {
-                new Import("VK_8", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_8",
               })
           .put(
               "VK_9",
-              new Import[] {
-                new Import("VK_9", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_9",
               })
           .put(
               "defaultKeyTypedAction",
-              new Import[] {
-                new Import("defaultKeyTypedAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.defaultKeyTypedAction",
               })
           .put(
               "TEXT",
-              new Import[] {
-                new Import("TEXT", "java.awt.SystemColor", true),
-                new Import("TEXT", "javax.accessibility.AccessibleRole", true),
-                new Import("TEXT", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static java.awt.SystemColor.TEXT",
+                "static javax.accessibility.AccessibleRole.TEXT",
+                "static javax.swing.text.html.HTML.Attribute.TEXT",
               })
           .put(
               "HALFWIDTH_AND_FULLWIDTH_FORMS",
-              new Import[] {
-                new Import(
-                    "HALFWIDTH_AND_FULLWIDTH_FORMS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.HALFWIDTH_AND_FULLWIDTH_FORMS",
               })
           .put(
               "getPrimaryControlHighlight",
-              new Import[] {
-                new Import(
-                    "getPrimaryControlHighlight", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getPrimaryControlHighlight",
               })
           .put(
               "Image",
-              new Import[] {
-                new Import("Image", "java.awt", false),
+              new String[] {
+                "java.awt.Image",
               })
           .put(
               "VK_0",
-              new Import[] {
-                new Import("VK_0", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_0",
               })
           .put(
               "createFile",
-              new Import[] {
-                new Import("createFile", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.createFile",
               })
           .put(
               "VK_1",
-              new Import[] {
-                new Import("VK_1", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_1",
               })
           .put(
               "CONTROL_CHANGE",
-              new Import[] {
-                new Import("CONTROL_CHANGE", "javax.sound.midi.ShortMessage", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.CONTROL_CHANGE",
               })
           .put(
               "VK_B",
-              new Import[] {
-                new Import("VK_B", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_B",
               })
           .put(
               "parseUnsignedLong",
-              new Import[] {
-                new Import("parseUnsignedLong", "java.lang.Long", true),
+              new String[] {
+                "static java.lang.Long.parseUnsignedLong",
               })
           .put(
               "VK_C",
-              new Import[] {
-                new Import("VK_C", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_C",
               })
           .put(
               "JavaFileObject",
-              new Import[] {
-                new Import("JavaFileObject", "javax.tools", false),
+              new String[] {
+                "javax.tools.JavaFileObject",
               })
           .put(
               "VK_D",
-              new Import[] {
-                new Import("VK_D", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_D",
               })
           .put(
               "SLIDER",
-              new Import[] {
-                new Import("SLIDER", "javax.accessibility.AccessibleRole", true),
-                new Import("SLIDER", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.SLIDER",
+                "static javax.swing.plaf.synth.Region.SLIDER",
               })
           .put(
               "SyncProviderException",
-              new Import[] {
-                new Import("SyncProviderException", "javax.sql.rowset.spi", false),
+              new String[] {
+                "javax.sql.rowset.spi.SyncProviderException",
               })
           .put(
               "VK_E",
-              new Import[] {
-                new Import("VK_E", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_E",
               })
           .put(
               "VK_F",
-              new Import[] {
-                new Import("VK_F", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_F",
               })
           .put(
               "VK_G",
-              new Import[] {
-                new Import("VK_G", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_G",
               })
           .put(
               "sqrt",
-              new Import[] {
-                new Import("sqrt", "java.lang.Math", true),
-                new Import("sqrt", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.sqrt", "static java.lang.StrictMath.sqrt",
               })
           .put(
               "VK_H",
-              new Import[] {
-                new Import("VK_H", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_H",
               })
           .put(
               "VK_I",
-              new Import[] {
-                new Import("VK_I", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_I",
               })
           .put(
               "PADDING_TOP",
-              new Import[] {
-                new Import("PADDING_TOP", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.PADDING_TOP",
               })
           .put(
               "VK_HIRAGANA",
-              new Import[] {
-                new Import("VK_HIRAGANA", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_HIRAGANA",
               })
           .put(
               "getToggleButtonBorder",
-              new Import[] {
-                new Import("getToggleButtonBorder", "javax.swing.plaf.basic.BasicBorders", true),
-                new Import("getToggleButtonBorder", "javax.swing.plaf.metal.MetalBorders", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicBorders.getToggleButtonBorder",
+                "static javax.swing.plaf.metal.MetalBorders.getToggleButtonBorder",
               })
           .put(
               "FILTER_REJECT",
-              new Import[] {
-                new Import("FILTER_REJECT", "org.w3c.dom.ls.LSParserFilter", true),
+              new String[] {
+                "static org.w3c.dom.ls.LSParserFilter.FILTER_REJECT",
               })
           .put(
               "VK_A",
-              new Import[] {
-                new Import("VK_A", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_A",
               })
           .put(
               "icHdrColorSpace",
-              new Import[] {
-                new Import("icHdrColorSpace", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrColorSpace",
               })
           .put(
               "FlavorMap",
-              new Import[] {
-                new Import("FlavorMap", "java.awt.datatransfer", false),
+              new String[] {
+                "java.awt.datatransfer.FlavorMap",
               })
           .put(
               "LESS_THAN_MIN_ROLE_DEGREE",
-              new Import[] {
-                new Import(
-                    "LESS_THAN_MIN_ROLE_DEGREE", "javax.management.relation.RoleStatus", true),
+              new String[] {
+                "static javax.management.relation.RoleStatus.LESS_THAN_MIN_ROLE_DEGREE",
               })
           .put(
               "NO_MEMORY",
-              new Import[] {
-                new Import("NO_MEMORY", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.NO_MEMORY",
               })
           .put(
               "ACCEPT_ALL_FILE_FILTER_USED_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCEPT_ALL_FILE_FILTER_USED_CHANGED_PROPERTY",
-                    "javax.swing.JFileChooser",
-                    true),
+              new String[] {
+                "static javax.swing.JFileChooser.ACCEPT_ALL_FILE_FILTER_USED_CHANGED_PROPERTY",
               })
           .put(
               "toDegrees",
-              new Import[] {
-                new Import("toDegrees", "java.lang.Math", true),
-                new Import("toDegrees", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.toDegrees", "static java.lang.StrictMath.toDegrees",
               })
           .put(
               "BasicMenuItemUI",
-              new Import[] {
-                new Import("BasicMenuItemUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicMenuItemUI",
               })
           .put(
               "getInt",
-              new Import[] {
-                new Import("getInt", "java.lang.reflect.Array", true),
-                new Import("getInt", "javax.swing.UIManager", true),
+              new String[] {
+                "static java.lang.reflect.Array.getInt", "static javax.swing.UIManager.getInt",
               })
           .put(
               "RadioButtonBorder",
-              new Import[] {
-                new Import("RadioButtonBorder", "javax.swing.plaf.basic.BasicBorders", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicBorders.RadioButtonBorder",
               })
           .put(
               "ServiceInformationHelper",
-              new Import[] {
-                new Import("ServiceInformationHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ServiceInformationHelper",
               })
           .put(
               "CompletionService",
-              new Import[] {
-                new Import("CompletionService", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.CompletionService",
               })
           .put(
               "isInstanceOf",
-              new Import[] {
-                new Import("isInstanceOf", "java.beans.Beans", true),
-                new Import("isInstanceOf", "javax.management.Query", true),
+              new String[] {
+                "static java.beans.Beans.isInstanceOf",
+                "static javax.management.Query.isInstanceOf",
               })
           .put(
               "ServerCloneException",
-              new Import[] {
-                new Import("ServerCloneException", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.ServerCloneException",
               })
           .put(
               "DST_IN",
-              new Import[] {
-                new Import("DST_IN", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.DST_IN",
               })
           .put(
               "RMIServerImpl_Stub",
-              new Import[] {
-                new Import("RMIServerImpl_Stub", "javax.management.remote.rmi", false),
+              new String[] {
+                "javax.management.remote.rmi.RMIServerImpl_Stub",
               })
           .put(
               "MirroredTypesException",
-              new Import[] {
-                new Import("MirroredTypesException", "javax.lang.model.type", false),
+              new String[] {
+                "javax.lang.model.type.MirroredTypesException",
               })
           .put(
               "Frame",
-              new Import[] {
-                new Import("Frame", "java.awt", false),
+              new String[] {
+                "java.awt.Frame",
               })
           .put(
               "newKeySet",
-              new Import[] {
-                new Import("newKeySet", "java.util.concurrent.ConcurrentHashMap", true),
+              new String[] {
+                "static java.util.concurrent.ConcurrentHashMap.newKeySet",
               })
           .put(
               "DATATYPE_BOOLEAN",
-              new Import[] {
-                new Import("DATATYPE_BOOLEAN", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.DATATYPE_BOOLEAN",
               })
           .put(
               "DHParameterSpec",
-              new Import[] {
-                new Import("DHParameterSpec", "javax.crypto.spec", false),
+              new String[] {
+                "javax.crypto.spec.DHParameterSpec",
               })
           .put(
               "PADDING",
-              new Import[] {
-                new Import("PADDING", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.PADDING",
               })
           .put(
               "LABEL_FOR",
-              new Import[] {
-                new Import("LABEL_FOR", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.LABEL_FOR",
               })
           .put(
               "FloatControl",
-              new Import[] {
-                new Import("FloatControl", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.FloatControl",
               })
           .put(
               "TOOL_TIP",
-              new Import[] {
-                new Import("TOOL_TIP", "javax.accessibility.AccessibleRole", true),
-                new Import("TOOL_TIP", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.TOOL_TIP",
+                "static javax.swing.plaf.synth.Region.TOOL_TIP",
               })
           .put(
               "Bindings",
-              new Import[] {
-                new Import("Bindings", "javax.script", false),
+              new String[] {
+                "javax.script.Bindings",
               })
           .put(
               "XA_NOMIGRATE",
-              new Import[] {
-                new Import("XA_NOMIGRATE", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_NOMIGRATE",
               })
           .put(
               "BAD_NAME",
-              new Import[] {
-                new Import("BAD_NAME", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.BAD_NAME",
               })
           .put(
               "VK_PERIOD",
-              new Import[] {
-                new Import("VK_PERIOD", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_PERIOD",
               })
           .put(
               "UnrecoverableKeyException",
-              new Import[] {
-                new Import("UnrecoverableKeyException", "java.security", false),
+              new String[] {
+                "java.security.UnrecoverableKeyException",
               })
           .put(
               "DocumentationTool",
-              new Import[] {
-                new Import("DocumentationTool", "javax.tools", false),
+              new String[] {
+                "javax.tools.DocumentationTool",
               })
           .put(
               "WCharSeqHelper",
-              new Import[] {
-                new Import("WCharSeqHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.WCharSeqHelper",
               })
           .put(
               "Supplier",
-              new Import[] {
-                new Import("Supplier", "java.util.function", false),
+              new String[] {
+                "java.util.function.Supplier",
               })
           .put(
               "ACCESSIBLE_TABLE_COLUMN_DESCRIPTION_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TABLE_COLUMN_DESCRIPTION_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
+              new String[] {
+                "static"
+                    + " javax.accessibility.AccessibleContext.ACCESSIBLE_TABLE_COLUMN_DESCRIPTION_CHANGED",
               })
           .put(
               "SecurityPermission",
-              new Import[] {
-                new Import("SecurityPermission", "java.security", false),
+              new String[] {
+                "java.security.SecurityPermission",
               })
           .put(
               "VK_R",
-              new Import[] {
-                new Import("VK_R", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_R",
               })
           .put(
               "VK_S",
-              new Import[] {
-                new Import("VK_S", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_S",
               })
           .put(
               "VK_T",
-              new Import[] {
-                new Import("VK_T", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_T",
               })
           .put(
               "VK_U",
-              new Import[] {
-                new Import("VK_U", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_U",
               })
           .put(
               "VK_V",
-              new Import[] {
-                new Import("VK_V", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_V",
               })
           .put(
               "VK_W",
-              new Import[] {
-                new Import("VK_W", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_W",
               })
           .put(
               "setCurrentManager",
-              new Import[] {
-                new Import("setCurrentManager", "javax.swing.FocusManager", true),
-                new Import("setCurrentManager", "javax.swing.RepaintManager", true),
+              new String[] {
+                "static javax.swing.FocusManager.setCurrentManager",
+                "static javax.swing.RepaintManager.setCurrentManager",
               })
           .put(
               "SOAP_ENV_PREFIX",
-              new Import[] {
-                new Import("SOAP_ENV_PREFIX", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.SOAP_ENV_PREFIX",
               })
           .put(
               "VK_X",
-              new Import[] {
-                new Import("VK_X", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_X",
               })
           .put(
               "VK_Y",
-              new Import[] {
-                new Import("VK_Y", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_Y",
               })
           .put(
               "methodsIn",
-              new Import[] {
-                new Import("methodsIn", "javax.lang.model.util.ElementFilter", true),
+              new String[] {
+                "static javax.lang.model.util.ElementFilter.methodsIn",
               })
           .put(
               "VK_J",
-              new Import[] {
-                new Import("VK_J", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_J",
               })
           .put(
               "VK_K",
-              new Import[] {
-                new Import("VK_K", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_K",
               })
           .put(
               "TC_OBJECT",
-              new Import[] {
-                new Import("TC_OBJECT", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_OBJECT",
               })
           .put(
               "anyOf",
-              new Import[] {
-                new Import("anyOf", "java.util.concurrent.CompletableFuture", true),
+              new String[] {
+                "static java.util.concurrent.CompletableFuture.anyOf",
               })
           .put(
               "PROCESSING_STOPPED",
-              new Import[] {
-                new Import("PROCESSING_STOPPED", "javax.print.attribute.standard.JobState", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobState.PROCESSING_STOPPED",
               })
           .put(
               "VK_L",
-              new Import[] {
-                new Import("VK_L", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_L",
               })
           .put(
               "VK_M",
-              new Import[] {
-                new Import("VK_M", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_M",
               })
           .put(
               "BindingProvider",
-              new Import[] {
-                new Import("BindingProvider", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.BindingProvider",
               })
           .put(
               "VK_N",
-              new Import[] {
-                new Import("VK_N", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_N",
               })
           .put(
               "VK_O",
-              new Import[] {
-                new Import("VK_O", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_O",
               })
           .put(
               "IdAssignmentPolicy",
-              new Import[] {
-                new Import("IdAssignmentPolicy", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.IdAssignmentPolicy",
               })
           .put(
               "VK_P",
-              new Import[] {
-                new Import("VK_P", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_P",
               })
           .put(
               "VK_Q",
-              new Import[] {
-                new Import("VK_Q", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_Q",
               })
           .put(
               "StringTokenizer",
-              new Import[] {
-                new Import("StringTokenizer", "java.util", false),
+              new String[] {
+                "java.util.StringTokenizer",
               })
           .put(
               "Destroyable",
-              new Import[] {
-                new Import("Destroyable", "javax.security.auth", false),
+              new String[] {
+                "javax.security.auth.Destroyable",
               })
           .put(
               "getDefaultRequestProperty",
-              new Import[] {
-                new Import("getDefaultRequestProperty", "java.net.URLConnection", true),
+              new String[] {
+                "static java.net.URLConnection.getDefaultRequestProperty",
               })
           .put(
               "ISO_ORDINAL_DATE",
-              new Import[] {
-                new Import("ISO_ORDINAL_DATE", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ISO_ORDINAL_DATE",
               })
           .put(
               "currentTimeMillis",
-              new Import[] {
-                new Import("currentTimeMillis", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.currentTimeMillis",
               })
           .put(
               "SQLIntegrityConstraintViolationException",
-              new Import[] {
-                new Import("SQLIntegrityConstraintViolationException", "java.sql", false),
+              new String[] {
+                "java.sql.SQLIntegrityConstraintViolationException",
               })
           .put(
               "VK_Z",
-              new Import[] {
-                new Import("VK_Z", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_Z",
               })
           .put(
               "icRelativeColorimetric",
-              new Import[] {
-                new Import("icRelativeColorimetric", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icRelativeColorimetric",
               })
           .put(
               "DATASOURCE_NO_LOCK",
-              new Import[] {
-                new Import("DATASOURCE_NO_LOCK", "javax.sql.rowset.spi.SyncProvider", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncProvider.DATASOURCE_NO_LOCK",
               })
           .put(
               "KEY_ACTION_RELEASE",
-              new Import[] {
-                new Import("KEY_ACTION_RELEASE", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.KEY_ACTION_RELEASE",
               })
           .put(
               "SynthConstants",
-              new Import[] {
-                new Import("SynthConstants", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthConstants",
               })
           .put(
               "ROWSPAN",
-              new Import[] {
-                new Import("ROWSPAN", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.ROWSPAN",
               })
           .put(
               "shuffle",
-              new Import[] {
-                new Import("shuffle", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.shuffle",
               })
           .put(
               "Transform",
-              new Import[] {
-                new Import("Transform", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "javax.xml.crypto.dsig.Transform",
               })
           .put(
               "MARGINHEIGHT",
-              new Import[] {
-                new Import("MARGINHEIGHT", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.MARGINHEIGHT",
               })
           .put(
               "Locale",
-              new Import[] {
-                new Import("Locale", "java.util", false),
+              new String[] {
+                "java.util.Locale",
               })
           .put(
               "ALL",
-              new Import[] {
-                new Import("ALL", "java.awt.JobAttributes.DefaultSelectionType", true),
-                new Import("ALL", "java.util.logging.Level", true),
+              new String[] {
+                "static java.awt.JobAttributes.DefaultSelectionType.ALL",
+                "static java.util.logging.Level.ALL",
               })
           .put(
               "SocketException",
-              new Import[] {
-                new Import("SocketException", "java.net", false),
+              new String[] {
+                "java.net.SocketException",
               })
           .put(
               "constant",
-              new Import[] {
-                new Import("constant", "java.lang.invoke.MethodHandles", true),
-                new Import("constant", "javax.swing.Spring", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.constant",
+                "static javax.swing.Spring.constant",
               })
           .put(
               "OfLong",
-              new Import[] {
-                new Import("OfLong", "java.util.PrimitiveIterator", false),
-                new Import("OfLong", "java.util.Spliterator", false),
+              new String[] {
+                "java.util.PrimitiveIterator.OfLong", "java.util.Spliterator.OfLong",
               })
           .put(
               "MIN_LOW_SURROGATE",
-              new Import[] {
-                new Import("MIN_LOW_SURROGATE", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.MIN_LOW_SURROGATE",
               })
           .put(
               "MLetContent",
-              new Import[] {
-                new Import("MLetContent", "javax.management.loading", false),
+              new String[] {
+                "javax.management.loading.MLetContent",
               })
           .put(
               "getLookAndFeel",
-              new Import[] {
-                new Import("getLookAndFeel", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.getLookAndFeel",
               })
           .put(
               "ONE_WEEK",
-              new Import[] {
-                new Import("ONE_WEEK", "javax.management.timer.Timer", true),
+              new String[] {
+                "static javax.management.timer.Timer.ONE_WEEK",
               })
           .put(
               "ALT",
-              new Import[] {
-                new Import("ALT", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.ALT",
               })
           .put(
               "printByte",
-              new Import[] {
-                new Import("printByte", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printByte",
               })
           .put(
               "STRING_TO_COMPARE_VALUE_DIFFERED",
-              new Import[] {
-                new Import(
-                    "STRING_TO_COMPARE_VALUE_DIFFERED",
-                    "javax.management.monitor.MonitorNotification",
-                    true),
+              new String[] {
+                "static"
+                    + " javax.management.monitor.MonitorNotification.STRING_TO_COMPARE_VALUE_DIFFERED",
               })
           .put(
               "ServantNotActive",
-              new Import[] {
-                new Import("ServantNotActive", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.ServantNotActive",
               })
           .put(
               "createDisabledImage",
-              new Import[] {
-                new Import("createDisabledImage", "javax.swing.GrayFilter", true),
+              new String[] {
+                "static javax.swing.GrayFilter.createDisabledImage",
               })
           .put(
               "tableIndexOther",
-              new Import[] {
-                new Import("tableIndexOther", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.tableIndexOther",
               })
           .put(
               "BreakIterator",
-              new Import[] {
-                new Import("BreakIterator", "java.text", false),
+              new String[] {
+                "java.text.BreakIterator",
               })
           .put(
               "OLD_SOUTH_ARABIAN",
-              new Import[] {
-                new Import("OLD_SOUTH_ARABIAN", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.OLD_SOUTH_ARABIAN",
               })
           .put(
               "AccessControlContext",
-              new Import[] {
-                new Import("AccessControlContext", "java.security", false),
+              new String[] {
+                "java.security.AccessControlContext",
               })
           .put(
               "LAYOUT_NO_START_CONTEXT",
-              new Import[] {
-                new Import("LAYOUT_NO_START_CONTEXT", "java.awt.Font", true),
+              new String[] {
+                "static java.awt.Font.LAYOUT_NO_START_CONTEXT",
               })
           .put(
               "BlockingDeque",
-              new Import[] {
-                new Import("BlockingDeque", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.BlockingDeque",
               })
           .put(
               "getGlobal",
-              new Import[] {
-                new Import("getGlobal", "java.util.logging.Logger", true),
+              new String[] {
+                "static java.util.logging.Logger.getGlobal",
               })
           .put(
               "MAIN",
-              new Import[] {
-                new Import("MAIN", "javax.print.attribute.standard.MediaTray", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaTray.MAIN",
               })
           .put(
               "setDefaultLightWeightPopupEnabled",
-              new Import[] {
-                new Import("setDefaultLightWeightPopupEnabled", "javax.swing.JPopupMenu", true),
+              new String[] {
+                "static javax.swing.JPopupMenu.setDefaultLightWeightPopupEnabled",
               })
           .put(
               "Kernel",
-              new Import[] {
-                new Import("Kernel", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.Kernel",
               })
           .put(
               "SimpleBeanInfo",
-              new Import[] {
-                new Import("SimpleBeanInfo", "java.beans", false),
+              new String[] {
+                "java.beans.SimpleBeanInfo",
               })
           .put(
               "wrapperInstanceType",
-              new Import[] {
-                new Import("wrapperInstanceType", "java.lang.invoke.MethodHandleProxies", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandleProxies.wrapperInstanceType",
               })
           .put(
               "getPackage",
-              new Import[] {
-                new Import("getPackage", "java.lang.Package", true),
+              new String[] {
+                "static java.lang.Package.getPackage",
               })
           .put(
               "parameterNullable",
-              new Import[] {
-                new Import("parameterNullable", "java.sql.ParameterMetaData", true),
+              new String[] {
+                "static java.sql.ParameterMetaData.parameterNullable",
               })
           .put(
               "UNIT_DECREMENT",
-              new Import[] {
-                new Import("UNIT_DECREMENT", "java.awt.event.AdjustmentEvent", true),
+              new String[] {
+                "static java.awt.event.AdjustmentEvent.UNIT_DECREMENT",
               })
           .put(
               "NEVER_UPDATE",
-              new Import[] {
-                new Import("NEVER_UPDATE", "javax.swing.text.DefaultCaret", true),
+              new String[] {
+                "static javax.swing.text.DefaultCaret.NEVER_UPDATE",
               })
           .put(
               "ERROR_DIALOG",
-              new Import[] {
-                new Import("ERROR_DIALOG", "javax.swing.JRootPane", true),
+              new String[] {
+                "static javax.swing.JRootPane.ERROR_DIALOG",
               })
           .build();
 }
@@ -2,1597 +2,1585 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk3 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "SOAP_1_2_PROTOCOL",
-              new Import[] {
-                new Import("SOAP_1_2_PROTOCOL", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.SOAP_1_2_PROTOCOL",
               })
           .put(
               "DocumentListener",
-              new Import[] {
-                new Import("DocumentListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.DocumentListener",
               })
           .put(
               "FieldNameHelper",
-              new Import[] {
-                new Import("FieldNameHelper", "org.omg.CORBA", false),
-                new Import("FieldNameHelper", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.CORBA.FieldNameHelper", "org.omg.DynamicAny.FieldNameHelper",
               })
           .put(
               "AttributeList",
-              new Import[] {
-                new Import("AttributeList", "javax.management", false),
-                new Import("AttributeList", "javax.swing.text.html.parser", false),
-                new Import("AttributeList", "org.xml.sax", false),
+              new String[] {
+                "javax.management.AttributeList",
+                "javax.swing.text.html.parser.AttributeList",
+                "org.xml.sax.AttributeList",
               })
           .put(
               "PolicyFactoryOperations",
-              new Import[] {
-                new Import("PolicyFactoryOperations", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.PolicyFactoryOperations",
               })
           .put(
               "UncheckedIOException",
-              new Import[] {
-                new Import("UncheckedIOException", "java.io", false),
+              new String[] {
+                "java.io.UncheckedIOException",
               })
           .put(
               "MAX_VALUE_FIELD",
-              new Import[] {
-                new Import("MAX_VALUE_FIELD", "javax.management.JMX", true),
+              new String[] {
+                "static javax.management.JMX.MAX_VALUE_FIELD",
               })
           .put(
               "ITEM_FIRST",
-              new Import[] {
-                new Import("ITEM_FIRST", "java.awt.event.ItemEvent", true),
+              new String[] {
+                "static java.awt.event.ItemEvent.ITEM_FIRST",
               })
           .put(
               "DFN",
-              new Import[] {
-                new Import("DFN", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.DFN",
               })
           .put(
               "A0",
-              new Import[] {
-                new Import("A0", "java.awt.PageAttributes.MediaType", true),
-                new Import("A0", "javax.print.attribute.standard.MediaSize.ISO", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.A0",
+                "static javax.print.attribute.standard.MediaSize.ISO.A0",
               })
           .put(
               "A1",
-              new Import[] {
-                new Import("A1", "java.awt.PageAttributes.MediaType", true),
-                new Import("A1", "javax.print.attribute.standard.MediaSize.ISO", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.A1",
+                "static javax.print.attribute.standard.MediaSize.ISO.A1",
               })
           .put(
               "beforeOffset",
-              new Import[] {
-                new Import("beforeOffset", "java.awt.font.TextHitInfo", true),
+              new String[] {
+                "static java.awt.font.TextHitInfo.beforeOffset",
               })
           .put(
               "A2",
-              new Import[] {
-                new Import("A2", "java.awt.PageAttributes.MediaType", true),
-                new Import("A2", "javax.print.attribute.standard.MediaSize.ISO", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.A2",
+                "static javax.print.attribute.standard.MediaSize.ISO.A2",
               })
           .put(
               "A3",
-              new Import[] {
-                new Import("A3", "java.awt.PageAttributes.MediaType", true),
-                new Import("A3", "javax.print.attribute.standard.MediaSize.ISO", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.A3",
+                "static javax.print.attribute.standard.MediaSize.ISO.A3",
               })
           .put(
               "A4",
-              new Import[] {
-                new Import("A4", "java.awt.PageAttributes.MediaType", true),
-                new Import("A4", "javax.print.attribute.standard.MediaSize.ISO", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.A4",
+                "static javax.print.attribute.standard.MediaSize.ISO.A4",
               })
           .put(
               "UNDERLINE_LOW_DASHED",
-              new Import[] {
-                new Import("UNDERLINE_LOW_DASHED", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.UNDERLINE_LOW_DASHED",
               })
           .put(
               "REMOVAL",
-              new Import[] {
-                new Import("REMOVAL", "org.w3c.dom.events.MutationEvent", true),
+              new String[] {
+                "static org.w3c.dom.events.MutationEvent.REMOVAL",
               })
           .put(
               "A5",
-              new Import[] {
-                new Import("A5", "java.awt.PageAttributes.MediaType", true),
-                new Import("A5", "javax.print.attribute.standard.MediaSize.ISO", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.A5",
+                "static javax.print.attribute.standard.MediaSize.ISO.A5",
               })
           .put(
               "A6",
-              new Import[] {
-                new Import("A6", "java.awt.PageAttributes.MediaType", true),
-                new Import("A6", "javax.print.attribute.standard.MediaSize.ISO", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.A6",
+                "static javax.print.attribute.standard.MediaSize.ISO.A6",
               })
           .put(
               "PrintQualityType",
-              new Import[] {
-                new Import("PrintQualityType", "java.awt.PageAttributes", false),
+              new String[] {
+                "java.awt.PageAttributes.PrintQualityType",
               })
           .put(
               "A7",
-              new Import[] {
-                new Import("A7", "java.awt.PageAttributes.MediaType", true),
-                new Import("A7", "javax.print.attribute.standard.MediaSize.ISO", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.A7",
+                "static javax.print.attribute.standard.MediaSize.ISO.A7",
               })
           .put(
               "SCROLLBARS_NONE",
-              new Import[] {
-                new Import("SCROLLBARS_NONE", "java.awt.TextArea", true),
+              new String[] {
+                "static java.awt.TextArea.SCROLLBARS_NONE",
               })
           .put(
               "A8",
-              new Import[] {
-                new Import("A8", "java.awt.PageAttributes.MediaType", true),
-                new Import("A8", "javax.print.attribute.standard.MediaSize.ISO", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.A8",
+                "static javax.print.attribute.standard.MediaSize.ISO.A8",
               })
           .put(
               "A9",
-              new Import[] {
-                new Import("A9", "java.awt.PageAttributes.MediaType", true),
-                new Import("A9", "javax.print.attribute.standard.MediaSize.ISO", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.A9",
+                "static javax.print.attribute.standard.MediaSize.ISO.A9",
               })
           .put(
               "JobState",
-              new Import[] {
-                new Import("JobState", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobState",
               })
           .put(
               "AudioFormat",
-              new Import[] {
-                new Import("AudioFormat", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.AudioFormat",
               })
           .put(
               "MethodHandleInfo",
-              new Import[] {
-                new Import("MethodHandleInfo", "java.lang.invoke", false),
+              new String[] {
+                "java.lang.invoke.MethodHandleInfo",
               })
           .put(
               "JOB_FAILED",
-              new Import[] {
-                new Import("JOB_FAILED", "javax.print.event.PrintJobEvent", true),
+              new String[] {
+                "static javax.print.event.PrintJobEvent.JOB_FAILED",
               })
           .put(
               "DGC",
-              new Import[] {
-                new Import("DGC", "java.rmi.dgc", false),
+              new String[] {
+                "java.rmi.dgc.DGC",
               })
           .put(
               "AD",
-              new Import[] {
-                new Import("AD", "java.util.GregorianCalendar", true),
+              new String[] {
+                "static java.util.GregorianCalendar.AD",
               })
           .put(
               "AbstractButton",
-              new Import[] {
-                new Import("AbstractButton", "javax.swing", false),
+              new String[] {
+                "javax.swing.AbstractButton",
               })
           .put(
               "BasicEditorPaneUI",
-              new Import[] {
-                new Import("BasicEditorPaneUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicEditorPaneUI",
               })
           .put(
               "OptionPaneUI",
-              new Import[] {
-                new Import("OptionPaneUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.OptionPaneUI",
               })
           .put(
               "KEY_STROKE_CONTROL",
-              new Import[] {
-                new Import("KEY_STROKE_CONTROL", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.KEY_STROKE_CONTROL",
               })
           .put(
               "isEventDispatchThread",
-              new Import[] {
-                new Import("isEventDispatchThread", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.isEventDispatchThread",
               })
           .put(
               "doLookup",
-              new Import[] {
-                new Import("doLookup", "javax.naming.InitialContext", true),
+              new String[] {
+                "static javax.naming.InitialContext.doLookup",
               })
           .put(
               "AM",
-              new Import[] {
-                new Import("AM", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.AM",
               })
           .put(
               "DEFAULT_CARET_POLICY",
-              new Import[] {
-                new Import("DEFAULT_CARET_POLICY", "java.awt.font.TextLayout", true),
+              new String[] {
+                "static java.awt.font.TextLayout.DEFAULT_CARET_POLICY",
               })
           .put(
               "B0",
-              new Import[] {
-                new Import("B0", "java.awt.PageAttributes.MediaType", true),
-                new Import("B0", "javax.print.attribute.standard.MediaSize.ISO", true),
-                new Import("B0", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.B0",
+                "static javax.print.attribute.standard.MediaSize.ISO.B0",
+                "static javax.print.attribute.standard.MediaSize.JIS.B0",
               })
           .put(
               "B1",
-              new Import[] {
-                new Import("B1", "java.awt.PageAttributes.MediaType", true),
-                new Import("B1", "javax.print.attribute.standard.MediaSize.ISO", true),
-                new Import("B1", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.B1",
+                "static javax.print.attribute.standard.MediaSize.ISO.B1",
+                "static javax.print.attribute.standard.MediaSize.JIS.B1",
               })
           .put(
               "IDENTITY",
-              new Import[] {
-                new Import("IDENTITY", "java.awt.font.TransformAttribute", true),
+              new String[] {
+                "static java.awt.font.TransformAttribute.IDENTITY",
               })
           .put(
               "B2",
-              new Import[] {
-                new Import("B2", "java.awt.PageAttributes.MediaType", true),
-                new Import("B2", "javax.print.attribute.standard.MediaSize.ISO", true),
-                new Import("B2", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.B2",
+                "static javax.print.attribute.standard.MediaSize.ISO.B2",
+                "static javax.print.attribute.standard.MediaSize.JIS.B2",
               })
           .put(
               "ofSecondOfDay",
-              new Import[] {
-                new Import("ofSecondOfDay", "java.time.LocalTime", true),
+              new String[] {
+                "static java.time.LocalTime.ofSecondOfDay",
               })
           .put(
               "B3",
-              new Import[] {
-                new Import("B3", "java.awt.PageAttributes.MediaType", true),
-                new Import("B3", "javax.print.attribute.standard.MediaSize.ISO", true),
-                new Import("B3", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.B3",
+                "static javax.print.attribute.standard.MediaSize.ISO.B3",
+                "static javax.print.attribute.standard.MediaSize.JIS.B3",
               })
           .put(
               "UID",
-              new Import[] {
-                new Import("UID", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.UID",
               })
           .put(
               "ComboPopup",
-              new Import[] {
-                new Import("ComboPopup", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.ComboPopup",
               })
           .put(
               "B4",
-              new Import[] {
-                new Import("B4", "java.awt.PageAttributes.MediaType", true),
-                new Import("B4", "javax.print.attribute.standard.MediaSize.ISO", true),
-                new Import("B4", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.B4",
+                "static javax.print.attribute.standard.MediaSize.ISO.B4",
+                "static javax.print.attribute.standard.MediaSize.JIS.B4",
               })
           .put(
               "B5",
-              new Import[] {
-                new Import("B5", "java.awt.PageAttributes.MediaType", true),
-                new Import("B5", "javax.print.attribute.standard.MediaSize.ISO", true),
-                new Import("B5", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.B5",
+                "static javax.print.attribute.standard.MediaSize.ISO.B5",
+                "static javax.print.attribute.standard.MediaSize.JIS.B5",
               })
           .put(
               "MultiTextUI",
-              new Import[] {
-                new Import("MultiTextUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiTextUI",
               })
           .put(
               "B6",
-              new Import[] {
-                new Import("B6", "java.awt.PageAttributes.MediaType", true),
-                new Import("B6", "javax.print.attribute.standard.MediaSize.ISO", true),
-                new Import("B6", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.B6",
+                "static javax.print.attribute.standard.MediaSize.ISO.B6",
+                "static javax.print.attribute.standard.MediaSize.JIS.B6",
               })
           .put(
               "AU",
-              new Import[] {
-                new Import("AU", "javax.sound.sampled.AudioFileFormat.Type", true),
+              new String[] {
+                "static javax.sound.sampled.AudioFileFormat.Type.AU",
               })
           .put(
               "DELEGATE_NAME",
-              new Import[] {
-                new Import("DELEGATE_NAME", "javax.management.MBeanServerDelegate", true),
+              new String[] {
+                "static javax.management.MBeanServerDelegate.DELEGATE_NAME",
               })
           .put(
               "JPasswordField",
-              new Import[] {
-                new Import("JPasswordField", "javax.swing", false),
+              new String[] {
+                "javax.swing.JPasswordField",
               })
           .put(
               "B7",
-              new Import[] {
-                new Import("B7", "java.awt.PageAttributes.MediaType", true),
-                new Import("B7", "javax.print.attribute.standard.MediaSize.ISO", true),
-                new Import("B7", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.B7",
+                "static javax.print.attribute.standard.MediaSize.ISO.B7",
+                "static javax.print.attribute.standard.MediaSize.JIS.B7",
               })
           .put(
               "PRIVATE_USE_AREA",
-              new Import[] {
-                new Import("PRIVATE_USE_AREA", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.PRIVATE_USE_AREA",
               })
           .put(
               "B8",
-              new Import[] {
-                new Import("B8", "java.awt.PageAttributes.MediaType", true),
-                new Import("B8", "javax.print.attribute.standard.MediaSize.ISO", true),
-                new Import("B8", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.B8",
+                "static javax.print.attribute.standard.MediaSize.ISO.B8",
+                "static javax.print.attribute.standard.MediaSize.JIS.B8",
               })
           .put(
               "B9",
-              new Import[] {
-                new Import("B9", "java.awt.PageAttributes.MediaType", true),
-                new Import("B9", "javax.print.attribute.standard.MediaSize.ISO", true),
-                new Import("B9", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.B9",
+                "static javax.print.attribute.standard.MediaSize.ISO.B9",
+                "static javax.print.attribute.standard.MediaSize.JIS.B9",
               })
           .put(
               "isRightMouseButton",
-              new Import[] {
-                new Import("isRightMouseButton", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.isRightMouseButton",
               })
           .put(
               "Readable",
-              new Import[] {
-                new Import("Readable", "java.lang", false),
+              new String[] {
+                "java.lang.Readable",
               })
           .put(
               "HttpCookie",
-              new Import[] {
-                new Import("HttpCookie", "java.net", false),
+              new String[] {
+                "java.net.HttpCookie",
               })
           .put(
               "isReadable",
-              new Import[] {
-                new Import("isReadable", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.isReadable",
               })
           .put(
               "BadBinaryOpValueExpException",
-              new Import[] {
-                new Import("BadBinaryOpValueExpException", "javax.management", false),
+              new String[] {
+                "javax.management.BadBinaryOpValueExpException",
               })
           .put(
               "getTreeControlIcon",
-              new Import[] {
-                new Import("getTreeControlIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getTreeControlIcon",
               })
           .put(
               "GENERAL_PUNCTUATION",
-              new Import[] {
-                new Import("GENERAL_PUNCTUATION", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.GENERAL_PUNCTUATION",
               })
           .put(
               "BeanContextServicesListener",
-              new Import[] {
-                new Import("BeanContextServicesListener", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextServicesListener",
               })
           .put(
               "JAXBPermission",
-              new Import[] {
-                new Import("JAXBPermission", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.JAXBPermission",
               })
           .put(
               "PolicyHolder",
-              new Import[] {
-                new Import("PolicyHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.PolicyHolder",
               })
           .put(
               "BasicArrowButton",
-              new Import[] {
-                new Import("BasicArrowButton", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicArrowButton",
               })
           .put(
               "tk_ushort",
-              new Import[] {
-                new Import("tk_ushort", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_ushort",
               })
           .put(
               "DirectColorModel",
-              new Import[] {
-                new Import("DirectColorModel", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.DirectColorModel",
               })
           .put(
               "RAISED",
-              new Import[] {
-                new Import("RAISED", "javax.swing.border.BevelBorder", true),
-                new Import("RAISED", "javax.swing.border.EtchedBorder", true),
+              new String[] {
+                "static javax.swing.border.BevelBorder.RAISED",
+                "static javax.swing.border.EtchedBorder.RAISED",
               })
           .put(
               "ConcurrentNavigableMap",
-              new Import[] {
-                new Import("ConcurrentNavigableMap", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ConcurrentNavigableMap",
               })
           .put(
               "selectBestTextFlavor",
-              new Import[] {
-                new Import("selectBestTextFlavor", "java.awt.datatransfer.DataFlavor", true),
+              new String[] {
+                "static java.awt.datatransfer.DataFlavor.selectBestTextFlavor",
               })
           .put(
               "REF_MBEAN_NOT_REGISTERED",
-              new Import[] {
-                new Import(
-                    "REF_MBEAN_NOT_REGISTERED", "javax.management.relation.RoleStatus", true),
+              new String[] {
+                "static javax.management.relation.RoleStatus.REF_MBEAN_NOT_REGISTERED",
               })
           .put(
               "DecimalFormatSymbols",
-              new Import[] {
-                new Import("DecimalFormatSymbols", "java.text", false),
+              new String[] {
+                "java.text.DecimalFormatSymbols",
               })
           .put(
               "getProxyClass",
-              new Import[] {
-                new Import("getProxyClass", "java.lang.reflect.Proxy", true),
+              new String[] {
+                "static java.lang.reflect.Proxy.getProxyClass",
               })
           .put(
               "NamingEvent",
-              new Import[] {
-                new Import("NamingEvent", "javax.naming.event", false),
+              new String[] {
+                "javax.naming.event.NamingEvent",
               })
           .put(
               "getInternalFrameDefaultMenuIcon",
-              new Import[] {
-                new Import(
-                    "getInternalFrameDefaultMenuIcon",
-                    "javax.swing.plaf.metal.MetalIconFactory",
-                    true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getInternalFrameDefaultMenuIcon",
               })
           .put(
               "icSigLuvData",
-              new Import[] {
-                new Import("icSigLuvData", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigLuvData",
               })
           .put(
               "icSigBToA1Tag",
-              new Import[] {
-                new Import("icSigBToA1Tag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigBToA1Tag",
               })
           .put(
               "RuntimeMXBean",
-              new Import[] {
-                new Import("RuntimeMXBean", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.RuntimeMXBean",
               })
           .put(
               "FormatStyle",
-              new Import[] {
-                new Import("FormatStyle", "java.time.format", false),
+              new String[] {
+                "java.time.format.FormatStyle",
               })
           .put(
               "MemoryUsage",
-              new Import[] {
-                new Import("MemoryUsage", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.MemoryUsage",
               })
           .put(
               "SerializedLambda",
-              new Import[] {
-                new Import("SerializedLambda", "java.lang.invoke", false),
+              new String[] {
+                "java.lang.invoke.SerializedLambda",
               })
           .put(
               "FOREGROUND",
-              new Import[] {
-                new Import("FOREGROUND", "java.awt.font.TextAttribute", true),
-                new Import("FOREGROUND", "javax.swing.plaf.synth.ColorType", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.FOREGROUND",
+                "static javax.swing.plaf.synth.ColorType.FOREGROUND",
               })
           .put(
               "FONT_CHANGE_BIGGER",
-              new Import[] {
-                new Import("FONT_CHANGE_BIGGER", "javax.swing.text.html.HTMLEditorKit", true),
+              new String[] {
+                "static javax.swing.text.html.HTMLEditorKit.FONT_CHANGE_BIGGER",
               })
           .put(
               "UTFDataFormatException",
-              new Import[] {
-                new Import("UTFDataFormatException", "java.io", false),
+              new String[] {
+                "java.io.UTFDataFormatException",
               })
           .put(
               "ALLBITS",
-              new Import[] {
-                new Import("ALLBITS", "java.awt.image.ImageObserver", true),
+              new String[] {
+                "static java.awt.image.ImageObserver.ALLBITS",
               })
           .put(
               "CompletionException",
-              new Import[] {
-                new Import("CompletionException", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.CompletionException",
               })
           .put(
               "Event",
-              new Import[] {
-                new Import("Event", "java.awt", false),
-                new Import("Event", "org.w3c.dom.events", false),
+              new String[] {
+                "java.awt.Event", "org.w3c.dom.events.Event",
               })
           .put(
               "STRING",
-              new Import[] {
-                new Import("STRING", "javax.management.openmbean.SimpleType", true),
-                new Import("STRING", "javax.print.DocFlavor", false),
-                new Import("STRING", "javax.xml.xpath.XPathConstants", true),
+              new String[] {
+                "static javax.management.openmbean.SimpleType.STRING",
+                "javax.print.DocFlavor.STRING",
+                "static javax.xml.xpath.XPathConstants.STRING",
               })
           .put(
               "getDefaultHostnameVerifier",
-              new Import[] {
-                new Import("getDefaultHostnameVerifier", "javax.net.ssl.HttpsURLConnection", true),
+              new String[] {
+                "static javax.net.ssl.HttpsURLConnection.getDefaultHostnameVerifier",
               })
           .put(
               "TEXT_HTML",
-              new Import[] {
-                new Import("TEXT_HTML", "javax.print.DocFlavor.CHAR_ARRAY", true),
-                new Import("TEXT_HTML", "javax.print.DocFlavor.READER", true),
-                new Import("TEXT_HTML", "javax.print.DocFlavor.STRING", true),
+              new String[] {
+                "static javax.print.DocFlavor.CHAR_ARRAY.TEXT_HTML",
+                "static javax.print.DocFlavor.READER.TEXT_HTML",
+                "static javax.print.DocFlavor.STRING.TEXT_HTML",
               })
           .put(
               "SimpleJavaFileObject",
-              new Import[] {
-                new Import("SimpleJavaFileObject", "javax.tools", false),
+              new String[] {
+                "javax.tools.SimpleJavaFileObject",
               })
           .put(
               "REF_CURSOR",
-              new Import[] {
-                new Import("REF_CURSOR", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.REF_CURSOR",
               })
           .put(
               "QUARTER_OF_YEAR",
-              new Import[] {
-                new Import("QUARTER_OF_YEAR", "java.time.temporal.IsoFields", true),
+              new String[] {
+                "static java.time.temporal.IsoFields.QUARTER_OF_YEAR",
               })
           .put(
               "tickMinutes",
-              new Import[] {
-                new Import("tickMinutes", "java.time.Clock", true),
+              new String[] {
+                "static java.time.Clock.tickMinutes",
               })
           .put(
               "TMNOFLAGS",
-              new Import[] {
-                new Import("TMNOFLAGS", "javax.transaction.xa.XAResource", true),
+              new String[] {
+                "static javax.transaction.xa.XAResource.TMNOFLAGS",
               })
           .put(
               "DOWN_CYCLE_TRAVERSAL_KEYS",
-              new Import[] {
-                new Import("DOWN_CYCLE_TRAVERSAL_KEYS", "java.awt.KeyboardFocusManager", true),
+              new String[] {
+                "static java.awt.KeyboardFocusManager.DOWN_CYCLE_TRAVERSAL_KEYS",
               })
           .put(
               "TYPE_NEAREST_NEIGHBOR",
-              new Import[] {
-                new Import("TYPE_NEAREST_NEIGHBOR", "java.awt.image.AffineTransformOp", true),
+              new String[] {
+                "static java.awt.image.AffineTransformOp.TYPE_NEAREST_NEIGHBOR",
               })
           .put(
               "JAXBSource",
-              new Import[] {
-                new Import("JAXBSource", "javax.xml.bind.util", false),
+              new String[] {
+                "javax.xml.bind.util.JAXBSource",
               })
           .put(
               "PrintRequestAttributeSet",
-              new Import[] {
-                new Import("PrintRequestAttributeSet", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.PrintRequestAttributeSet",
               })
           .put(
               "UNSPECIFIED_EVENT_TYPE_ERR",
-              new Import[] {
-                new Import("UNSPECIFIED_EVENT_TYPE_ERR", "org.w3c.dom.events.EventException", true),
+              new String[] {
+                "static org.w3c.dom.events.EventException.UNSPECIFIED_EVENT_TYPE_ERR",
               })
           .put(
               "unexportObject",
-              new Import[] {
-                new Import("unexportObject", "java.rmi.activation.Activatable", true),
-                new Import("unexportObject", "java.rmi.server.UnicastRemoteObject", true),
-                new Import("unexportObject", "javax.rmi.PortableRemoteObject", true),
-                new Import("unexportObject", "javax.rmi.CORBA.Util", true),
+              new String[] {
+                "static java.rmi.activation.Activatable.unexportObject",
+                "static java.rmi.server.UnicastRemoteObject.unexportObject",
+                "static javax.rmi.PortableRemoteObject.unexportObject",
+                "static javax.rmi.CORBA.Util.unexportObject",
               })
           .put(
               "FIELD_COUNT",
-              new Import[] {
-                new Import("FIELD_COUNT", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.FIELD_COUNT",
               })
           .put(
               "SEVERITY_WARNING",
-              new Import[] {
-                new Import("SEVERITY_WARNING", "org.w3c.dom.DOMError", true),
+              new String[] {
+                "static org.w3c.dom.DOMError.SEVERITY_WARNING",
               })
           .put(
               "ENTITIES",
-              new Import[] {
-                new Import("ENTITIES", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.ENTITIES",
               })
           .put(
               "WeekFields",
-              new Import[] {
-                new Import("WeekFields", "java.time.temporal", false),
+              new String[] {
+                "java.time.temporal.WeekFields",
               })
           .put(
               "getMixer",
-              new Import[] {
-                new Import("getMixer", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.sampled.AudioSystem.getMixer",
               })
           .put(
               "TextComponent",
-              new Import[] {
-                new Import("TextComponent", "java.awt", false),
+              new String[] {
+                "java.awt.TextComponent",
               })
           .put(
               "RETURN_GENERATED_KEYS",
-              new Import[] {
-                new Import("RETURN_GENERATED_KEYS", "java.sql.Statement", true),
+              new String[] {
+                "static java.sql.Statement.RETURN_GENERATED_KEYS",
               })
           .put(
               "MalformedObjectNameException",
-              new Import[] {
-                new Import("MalformedObjectNameException", "javax.management", false),
+              new String[] {
+                "javax.management.MalformedObjectNameException",
               })
           .put(
               "NUMBER",
-              new Import[] {
-                new Import("NUMBER", "javax.swing.text.html.parser.DTDConstants", true),
-                new Import("NUMBER", "javax.xml.xpath.XPathConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.NUMBER",
+                "static javax.xml.xpath.XPathConstants.NUMBER",
               })
           .put(
               "PrivilegedActionException",
-              new Import[] {
-                new Import("PrivilegedActionException", "java.security", false),
+              new String[] {
+                "java.security.PrivilegedActionException",
               })
           .put(
               "TUESDAY",
-              new Import[] {
-                new Import("TUESDAY", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.TUESDAY",
               })
           .put(
               "PresentationDirection",
-              new Import[] {
-                new Import("PresentationDirection", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PresentationDirection",
               })
           .put(
               "MOUSE_DOWN",
-              new Import[] {
-                new Import("MOUSE_DOWN", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.MOUSE_DOWN",
               })
           .put(
               "ByteLookupTable",
-              new Import[] {
-                new Import("ByteLookupTable", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.ByteLookupTable",
               })
           .put(
               "NoSuchMethodError",
-              new Import[] {
-                new Import("NoSuchMethodError", "java.lang", false),
+              new String[] {
+                "java.lang.NoSuchMethodError",
               })
           .put(
               "MBeanServerForwarder",
-              new Import[] {
-                new Import("MBeanServerForwarder", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.MBeanServerForwarder",
               })
           .put(
               "getDateTimeInstance",
-              new Import[] {
-                new Import("getDateTimeInstance", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.getDateTimeInstance",
               })
           .put(
               "EventListenerProxy",
-              new Import[] {
-                new Import("EventListenerProxy", "java.util", false),
+              new String[] {
+                "java.util.EventListenerProxy",
               })
           .put(
               "getLookAndFeelDefaults",
-              new Import[] {
-                new Import("getLookAndFeelDefaults", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.getLookAndFeelDefaults",
               })
           .put(
               "MEETEI_MAYEK",
-              new Import[] {
-                new Import("MEETEI_MAYEK", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MEETEI_MAYEK",
               })
           .put(
               "ECPublicKey",
-              new Import[] {
-                new Import("ECPublicKey", "java.security.interfaces", false),
+              new String[] {
+                "java.security.interfaces.ECPublicKey",
               })
           .put(
               "RUNTIME_ERROR",
-              new Import[] {
-                new Import("RUNTIME_ERROR", "javax.management.monitor.MonitorNotification", true),
+              new String[] {
+                "static javax.management.monitor.MonitorNotification.RUNTIME_ERROR",
               })
           .put(
               "LIGATURES",
-              new Import[] {
-                new Import("LIGATURES", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.LIGATURES",
               })
           .put(
               "BeanContextServiceRevokedListener",
-              new Import[] {
-                new Import("BeanContextServiceRevokedListener", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextServiceRevokedListener",
               })
           .put(
               "AsyncHandler",
-              new Import[] {
-                new Import("AsyncHandler", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.AsyncHandler",
               })
           .put(
               "getKeyText",
-              new Import[] {
-                new Import("getKeyText", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.getKeyText",
               })
           .put(
               "REF_putField",
-              new Import[] {
-                new Import("REF_putField", "java.lang.invoke.MethodHandleInfo", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandleInfo.REF_putField",
               })
           .put(
               "Time",
-              new Import[] {
-                new Import("Time", "java.sql", false),
+              new String[] {
+                "java.sql.Time",
               })
           .put(
               "HTTP_VERSION",
-              new Import[] {
-                new Import("HTTP_VERSION", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_VERSION",
               })
           .put(
               "SPIN_BOX",
-              new Import[] {
-                new Import("SPIN_BOX", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.SPIN_BOX",
               })
           .put(
               "NameDynAnyPairHelper",
-              new Import[] {
-                new Import("NameDynAnyPairHelper", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.NameDynAnyPairHelper",
               })
           .put(
               "showDialog",
-              new Import[] {
-                new Import("showDialog", "javax.swing.JColorChooser", true),
+              new String[] {
+                "static javax.swing.JColorChooser.showDialog",
               })
           .put(
               "DeflaterOutputStream",
-              new Import[] {
-                new Import("DeflaterOutputStream", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.DeflaterOutputStream",
               })
           .put(
               "PASSWORD_PROPERTY",
-              new Import[] {
-                new Import("PASSWORD_PROPERTY", "javax.xml.ws.BindingProvider", true),
+              new String[] {
+                "static javax.xml.ws.BindingProvider.PASSWORD_PROPERTY",
               })
           .put(
               "UncaughtExceptionHandler",
-              new Import[] {
-                new Import("UncaughtExceptionHandler", "java.lang.Thread", false),
+              new String[] {
+                "java.lang.Thread.UncaughtExceptionHandler",
               })
           .put(
               "publicLookup",
-              new Import[] {
-                new Import("publicLookup", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.publicLookup",
               })
           .put(
               "ThreadPolicyOperations",
-              new Import[] {
-                new Import("ThreadPolicyOperations", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ThreadPolicyOperations",
               })
           .put(
               "primaryOrder",
-              new Import[] {
-                new Import("primaryOrder", "java.text.CollationElementIterator", true),
+              new String[] {
+                "static java.text.CollationElementIterator.primaryOrder",
               })
           .put(
               "CHILD_POLICY_EMPTY",
-              new Import[] {
-                new Import("CHILD_POLICY_EMPTY", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.CHILD_POLICY_EMPTY",
               })
           .put(
               "IntPredicate",
-              new Import[] {
-                new Import("IntPredicate", "java.util.function", false),
+              new String[] {
+                "java.util.function.IntPredicate",
               })
           .put(
               "FileImageOutputStream",
-              new Import[] {
-                new Import("FileImageOutputStream", "javax.imageio.stream", false),
+              new String[] {
+                "javax.imageio.stream.FileImageOutputStream",
               })
           .put(
               "TextSyntax",
-              new Import[] {
-                new Import("TextSyntax", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.TextSyntax",
               })
           .put(
               "JavaCompiler",
-              new Import[] {
-                new Import("JavaCompiler", "javax.tools", false),
+              new String[] {
+                "javax.tools.JavaCompiler",
               })
           .put(
               "Flush3DBorder",
-              new Import[] {
-                new Import("Flush3DBorder", "javax.swing.plaf.metal.MetalBorders", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalBorders.Flush3DBorder",
               })
           .put(
               "_COMPLETED_YES",
-              new Import[] {
-                new Import("_COMPLETED_YES", "org.omg.CORBA.CompletionStatus", true),
+              new String[] {
+                "static org.omg.CORBA.CompletionStatus._COMPLETED_YES",
               })
           .put(
               "ByteArrayOutputStream",
-              new Import[] {
-                new Import("ByteArrayOutputStream", "java.io", false),
+              new String[] {
+                "java.io.ByteArrayOutputStream",
               })
           .put(
               "REPORT",
-              new Import[] {
-                new Import("REPORT", "java.nio.charset.CodingErrorAction", true),
-                new Import("REPORT", "javax.print.attribute.standard.Severity", true),
+              new String[] {
+                "static java.nio.charset.CodingErrorAction.REPORT",
+                "static javax.print.attribute.standard.Severity.REPORT",
               })
           .put(
               "setComponent",
-              new Import[] {
-                new Import("setComponent", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setComponent",
               })
           .put(
               "LATEST",
-              new Import[] {
-                new Import("LATEST", "java.util.jar.Pack200.Packer", true),
+              new String[] {
+                "static java.util.jar.Pack200.Packer.LATEST",
               })
           .put(
               "CannotProceed",
-              new Import[] {
-                new Import("CannotProceed", "org.omg.CosNaming.NamingContextPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.CannotProceed",
               })
           .put(
               "TAG_NAME",
-              new Import[] {
-                new Import("TAG_NAME", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_NAME",
               })
           .put(
               "MODAL",
-              new Import[] {
-                new Import("MODAL", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.MODAL",
               })
           .put(
               "RepaintManager",
-              new Import[] {
-                new Import("RepaintManager", "javax.swing", false),
+              new String[] {
+                "javax.swing.RepaintManager",
               })
           .put(
               "IllegalThreadStateException",
-              new Import[] {
-                new Import("IllegalThreadStateException", "java.lang", false),
+              new String[] {
+                "java.lang.IllegalThreadStateException",
               })
           .put(
               "RequestProcessingPolicyOperations",
-              new Import[] {
-                new Import("RequestProcessingPolicyOperations", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.RequestProcessingPolicyOperations",
               })
           .put(
               "selectParagraphAction",
-              new Import[] {
-                new Import("selectParagraphAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectParagraphAction",
               })
           .put(
               "SOAPFault",
-              new Import[] {
-                new Import("SOAPFault", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SOAPFault",
               })
           .put(
               "TEXT_TEXT",
-              new Import[] {
-                new Import("TEXT_TEXT", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.TEXT_TEXT",
               })
           .put(
               "RANDOMPIXELORDER",
-              new Import[] {
-                new Import("RANDOMPIXELORDER", "java.awt.image.ImageConsumer", true),
+              new String[] {
+                "static java.awt.image.ImageConsumer.RANDOMPIXELORDER",
               })
           .put(
               "TemporalAccessor",
-              new Import[] {
-                new Import("TemporalAccessor", "java.time.temporal", false),
+              new String[] {
+                "java.time.temporal.TemporalAccessor",
               })
           .put(
               "mapEquivalents",
-              new Import[] {
-                new Import("mapEquivalents", "java.util.Locale.LanguageRange", true),
+              new String[] {
+                "static java.util.Locale.LanguageRange.mapEquivalents",
               })
           .put(
               "WINDOW_ICONIFIED",
-              new Import[] {
-                new Import("WINDOW_ICONIFIED", "java.awt.event.WindowEvent", true),
+              new String[] {
+                "static java.awt.event.WindowEvent.WINDOW_ICONIFIED",
               })
           .put(
               "PropertyResourceBundle",
-              new Import[] {
-                new Import("PropertyResourceBundle", "java.util", false),
+              new String[] {
+                "java.util.PropertyResourceBundle",
               })
           .put(
               "MOUSE_UP",
-              new Import[] {
-                new Import("MOUSE_UP", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.MOUSE_UP",
               })
           .put(
               "TABLE",
-              new Import[] {
-                new Import("TABLE", "javax.accessibility.AccessibleRole", true),
-                new Import("TABLE", "javax.swing.plaf.synth.Region", true),
-                new Import("TABLE", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.TABLE",
+                "static javax.swing.plaf.synth.Region.TABLE",
+                "static javax.swing.text.html.HTML.Tag.TABLE",
               })
           .put(
               "DERIVATION_UNION",
-              new Import[] {
-                new Import("DERIVATION_UNION", "org.w3c.dom.TypeInfo", true),
+              new String[] {
+                "static org.w3c.dom.TypeInfo.DERIVATION_UNION",
               })
           .put(
               "floatToIntBits",
-              new Import[] {
-                new Import("floatToIntBits", "java.lang.Float", true),
+              new String[] {
+                "static java.lang.Float.floatToIntBits",
               })
           .put(
               "finalSubString",
-              new Import[] {
-                new Import("finalSubString", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.finalSubString",
               })
           .put(
               "getDTD",
-              new Import[] {
-                new Import("getDTD", "javax.swing.text.html.parser.DTD", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTD.getDTD",
               })
           .put(
               "MarginBorder",
-              new Import[] {
-                new Import("MarginBorder", "javax.swing.plaf.basic.BasicBorders", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicBorders.MarginBorder",
               })
           .put(
               "addAuxiliaryLookAndFeel",
-              new Import[] {
-                new Import("addAuxiliaryLookAndFeel", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.addAuxiliaryLookAndFeel",
               })
           .put(
               "SAXParser",
-              new Import[] {
-                new Import("SAXParser", "javax.xml.parsers", false),
+              new String[] {
+                "javax.xml.parsers.SAXParser",
               })
           .put(
               "TYPE",
-              new Import[] {
-                new Import("TYPE", "java.lang.Boolean", true),
-                new Import("TYPE", "java.lang.Byte", true),
-                new Import("TYPE", "java.lang.Character", true),
-                new Import("TYPE", "java.lang.Double", true),
-                new Import("TYPE", "java.lang.Float", true),
-                new Import("TYPE", "java.lang.Integer", true),
-                new Import("TYPE", "java.lang.Long", true),
-                new Import("TYPE", "java.lang.Short", true),
-                new Import("TYPE", "java.lang.Void", true),
-                new Import("TYPE", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("TYPE", "javax.xml.crypto.dsig.Manifest", true),
-                new Import("TYPE", "javax.xml.crypto.dsig.SignatureProperties", true),
-                new Import("TYPE", "javax.xml.crypto.dsig.XMLObject", true),
-                new Import("TYPE", "javax.xml.crypto.dsig.keyinfo.PGPData", true),
-                new Import("TYPE", "javax.xml.crypto.dsig.keyinfo.X509Data", true),
+              new String[] {
+                "static java.lang.Boolean.TYPE",
+                "static java.lang.Byte.TYPE",
+                "static java.lang.Character.TYPE",
+                "static java.lang.Double.TYPE",
+                "static java.lang.Float.TYPE",
+                "static java.lang.Integer.TYPE",
+                "static java.lang.Long.TYPE",
+                "static java.lang.Short.TYPE",
+                "static java.lang.Void.TYPE",
+                "static javax.swing.text.html.HTML.Attribute.TYPE",
+                "static javax.xml.crypto.dsig.Manifest.TYPE",
+                "static javax.xml.crypto.dsig.SignatureProperties.TYPE",
+                "static javax.xml.crypto.dsig.XMLObject.TYPE",
+                "static javax.xml.crypto.dsig.keyinfo.PGPData.TYPE",
+                "static javax.xml.crypto.dsig.keyinfo.X509Data.TYPE",
               })
           .put(
               "ReentrantLock",
-              new Import[] {
-                new Import("ReentrantLock", "java.util.concurrent.locks", false),
+              new String[] {
+                "java.util.concurrent.locks.ReentrantLock",
               })
           .put(
               "BasicCheckBoxMenuItemUI",
-              new Import[] {
-                new Import("BasicCheckBoxMenuItemUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicCheckBoxMenuItemUI",
               })
           .put(
               "getWhite",
-              new Import[] {
-                new Import("getWhite", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getWhite",
               })
           .put(
               "isStrikeThrough",
-              new Import[] {
-                new Import("isStrikeThrough", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.isStrikeThrough",
               })
           .put(
               "SUPPORT_DTD",
-              new Import[] {
-                new Import("SUPPORT_DTD", "javax.xml.stream.XMLInputFactory", true),
+              new String[] {
+                "static javax.xml.stream.XMLInputFactory.SUPPORT_DTD",
               })
           .put(
               "CodeSource",
-              new Import[] {
-                new Import("CodeSource", "java.security", false),
+              new String[] {
+                "java.security.CodeSource",
               })
           .put(
               "TableColumn",
-              new Import[] {
-                new Import("TableColumn", "javax.swing.table", false),
+              new String[] {
+                "javax.swing.table.TableColumn",
               })
           .put(
               "_MULTIPLE_ID",
-              new Import[] {
-                new Import("_MULTIPLE_ID", "org.omg.PortableServer.IdUniquenessPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.IdUniquenessPolicyValue._MULTIPLE_ID",
               })
           .put(
               "getByInetAddress",
-              new Import[] {
-                new Import("getByInetAddress", "java.net.NetworkInterface", true),
+              new String[] {
+                "static java.net.NetworkInterface.getByInetAddress",
               })
           .put(
               "VISIBLE_ROW_COUNT_PROPERTY",
-              new Import[] {
-                new Import("VISIBLE_ROW_COUNT_PROPERTY", "javax.swing.JTree", true),
+              new String[] {
+                "static javax.swing.JTree.VISIBLE_ROW_COUNT_PROPERTY",
               })
           .put(
               "icSigPs2CRD3Tag",
-              new Import[] {
-                new Import("icSigPs2CRD3Tag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigPs2CRD3Tag",
               })
           .put(
               "setProperty",
-              new Import[] {
-                new Import("setProperty", "java.lang.System", true),
-                new Import("setProperty", "java.security.Security", true),
+              new String[] {
+                "static java.lang.System.setProperty", "static java.security.Security.setProperty",
               })
           .put(
               "MIN_RADIX",
-              new Import[] {
-                new Import("MIN_RADIX", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.MIN_RADIX",
               })
           .put(
               "STANDBY",
-              new Import[] {
-                new Import("STANDBY", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.STANDBY",
               })
           .put(
               "SchemaFactoryLoader",
-              new Import[] {
-                new Import("SchemaFactoryLoader", "javax.xml.validation", false),
+              new String[] {
+                "javax.xml.validation.SchemaFactoryLoader",
               })
           .put(
               "AUX_RETURN",
-              new Import[] {
-                new Import("AUX_RETURN", "javax.sound.sampled.FloatControl.Type", true),
+              new String[] {
+                "static javax.sound.sampled.FloatControl.Type.AUX_RETURN",
               })
           .put(
               "putDTDHash",
-              new Import[] {
-                new Import("putDTDHash", "javax.swing.text.html.parser.DTD", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTD.putDTDHash",
               })
           .put(
               "AlgorithmParameterSpec",
-              new Import[] {
-                new Import("AlgorithmParameterSpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.AlgorithmParameterSpec",
               })
           .put(
               "LayerUI",
-              new Import[] {
-                new Import("LayerUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.LayerUI",
               })
           .put(
               "BASELINE_LEADING",
-              new Import[] {
-                new Import("BASELINE_LEADING", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.BASELINE_LEADING",
               })
           .put(
               "NotContextException",
-              new Import[] {
-                new Import("NotContextException", "javax.naming", false),
+              new String[] {
+                "javax.naming.NotContextException",
               })
           .put(
               "naturalOrder",
-              new Import[] {
-                new Import("naturalOrder", "java.util.Comparator", true),
+              new String[] {
+                "static java.util.Comparator.naturalOrder",
               })
           .put(
               "SecureCacheResponse",
-              new Import[] {
-                new Import("SecureCacheResponse", "java.net", false),
+              new String[] {
+                "java.net.SecureCacheResponse",
               })
           .put(
               "ISO_A4_TRANSPARENT",
-              new Import[] {
-                new Import("ISO_A4_TRANSPARENT", "javax.print.attribute.standard.MediaName", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaName.ISO_A4_TRANSPARENT",
               })
           .put(
               "ROOT_VISIBLE_PROPERTY",
-              new Import[] {
-                new Import("ROOT_VISIBLE_PROPERTY", "javax.swing.JTree", true),
+              new String[] {
+                "static javax.swing.JTree.ROOT_VISIBLE_PROPERTY",
               })
           .put(
               "parseBoolean",
-              new Import[] {
-                new Import("parseBoolean", "java.lang.Boolean", true),
-                new Import("parseBoolean", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static java.lang.Boolean.parseBoolean",
+                "static javax.xml.bind.DatatypeConverter.parseBoolean",
               })
           .put(
               "COMMENTS",
-              new Import[] {
-                new Import("COMMENTS", "java.util.regex.Pattern", true),
+              new String[] {
+                "static java.util.regex.Pattern.COMMENTS",
               })
           .put(
               "TYPE_GENERAL_SCALE",
-              new Import[] {
-                new Import("TYPE_GENERAL_SCALE", "java.awt.geom.AffineTransform", true),
+              new String[] {
+                "static java.awt.geom.AffineTransform.TYPE_GENERAL_SCALE",
               })
           .put(
               "ByteOrder",
-              new Import[] {
-                new Import("ByteOrder", "java.nio", false),
+              new String[] {
+                "java.nio.ByteOrder",
               })
           .put(
               "DataFlavor",
-              new Import[] {
-                new Import("DataFlavor", "java.awt.datatransfer", false),
+              new String[] {
+                "java.awt.datatransfer.DataFlavor",
               })
           .put(
               "ObjectReferenceTemplateSeqHolder",
-              new Import[] {
-                new Import(
-                    "ObjectReferenceTemplateSeqHolder", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHolder",
               })
           .put(
               "remainderUnsigned",
-              new Import[] {
-                new Import("remainderUnsigned", "java.lang.Integer", true),
-                new Import("remainderUnsigned", "java.lang.Long", true),
+              new String[] {
+                "static java.lang.Integer.remainderUnsigned",
+                "static java.lang.Long.remainderUnsigned",
               })
           .put(
               "ProviderNotFoundException",
-              new Import[] {
-                new Import("ProviderNotFoundException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.ProviderNotFoundException",
               })
           .put(
               "LOWERED",
-              new Import[] {
-                new Import("LOWERED", "javax.swing.border.BevelBorder", true),
-                new Import("LOWERED", "javax.swing.border.EtchedBorder", true),
+              new String[] {
+                "static javax.swing.border.BevelBorder.LOWERED",
+                "static javax.swing.border.EtchedBorder.LOWERED",
               })
           .put(
               "getMenuForeground",
-              new Import[] {
-                new Import("getMenuForeground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getMenuForeground",
               })
           .put(
               "identity",
-              new Import[] {
-                new Import("identity", "java.lang.invoke.MethodHandles", true),
-                new Import("identity", "java.util.function.DoubleUnaryOperator", true),
-                new Import("identity", "java.util.function.Function", true),
-                new Import("identity", "java.util.function.IntUnaryOperator", true),
-                new Import("identity", "java.util.function.LongUnaryOperator", true),
-                new Import("identity", "java.util.function.UnaryOperator", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.identity",
+                "static java.util.function.DoubleUnaryOperator.identity",
+                "static java.util.function.Function.identity",
+                "static java.util.function.IntUnaryOperator.identity",
+                "static java.util.function.LongUnaryOperator.identity",
+                "static java.util.function.UnaryOperator.identity",
               })
           .put(
               "WINDOW_EVENT_MASK",
-              new Import[] {
-                new Import("WINDOW_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.WINDOW_EVENT_MASK",
               })
           .put(
               "SYNTAX_ERR",
-              new Import[] {
-                new Import("SYNTAX_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.SYNTAX_ERR",
               })
           .put(
               "RTFEditorKit",
-              new Import[] {
-                new Import("RTFEditorKit", "javax.swing.text.rtf", false),
+              new String[] {
+                "javax.swing.text.rtf.RTFEditorKit",
               })
           .put(
               "ImageReader",
-              new Import[] {
-                new Import("ImageReader", "javax.imageio", false),
+              new String[] {
+                "javax.imageio.ImageReader",
               })
           .put(
               "BORDER_WIDTH",
-              new Import[] {
-                new Import("BORDER_WIDTH", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_WIDTH",
               })
           .put(
               "tk_alias",
-              new Import[] {
-                new Import("tk_alias", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_alias",
               })
           .put(
               "VALUE_ARBITRARY",
-              new Import[] {
-                new Import("VALUE_ARBITRARY", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.VALUE_ARBITRARY",
               })
           .put(
               "DesktopManager",
-              new Import[] {
-                new Import("DesktopManager", "javax.swing", false),
+              new String[] {
+                "javax.swing.DesktopManager",
               })
           .put(
               "LineNumberInputStream",
-              new Import[] {
-                new Import("LineNumberInputStream", "java.io", false),
+              new String[] {
+                "java.io.LineNumberInputStream",
               })
           .put(
               "constructorModifiers",
-              new Import[] {
-                new Import("constructorModifiers", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.constructorModifiers",
               })
           .put(
               "KeyStoreException",
-              new Import[] {
-                new Import("KeyStoreException", "java.security", false),
+              new String[] {
+                "java.security.KeyStoreException",
               })
           .put(
               "MODEL",
-              new Import[] {
-                new Import("MODEL", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.MODEL",
               })
           .put(
               "getUIActionMap",
-              new Import[] {
-                new Import("getUIActionMap", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.getUIActionMap",
               })
           .put(
               "LongToDoubleFunction",
-              new Import[] {
-                new Import("LongToDoubleFunction", "java.util.function", false),
+              new String[] {
+                "java.util.function.LongToDoubleFunction",
               })
           .put(
               "Graphics",
-              new Import[] {
-                new Import("Graphics", "java.awt", false),
+              new String[] {
+                "java.awt.Graphics",
               })
           .put(
               "IllegalChannelGroupException",
-              new Import[] {
-                new Import("IllegalChannelGroupException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.IllegalChannelGroupException",
               })
           .put(
               "STREAM_MAGIC",
-              new Import[] {
-                new Import("STREAM_MAGIC", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.STREAM_MAGIC",
               })
           .put(
               "EllipticCurve",
-              new Import[] {
-                new Import("EllipticCurve", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.EllipticCurve",
               })
           .put(
               "exists",
-              new Import[] {
-                new Import("exists", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.exists",
               })
           .put(
               "Tag",
-              new Import[] {
-                new Import("Tag", "javax.swing.text.html.HTML", false),
+              new String[] {
+                "javax.swing.text.html.HTML.Tag",
               })
           .put(
               "INPUT_METHOD_FIRST",
-              new Import[] {
-                new Import("INPUT_METHOD_FIRST", "java.awt.event.InputMethodEvent", true),
+              new String[] {
+                "static java.awt.event.InputMethodEvent.INPUT_METHOD_FIRST",
               })
           .put(
               "createSoftBevelBorder",
-              new Import[] {
-                new Import("createSoftBevelBorder", "javax.swing.BorderFactory", true),
+              new String[] {
+                "static javax.swing.BorderFactory.createSoftBevelBorder",
               })
           .put(
               "MEMBER_OF",
-              new Import[] {
-                new Import("MEMBER_OF", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.MEMBER_OF",
               })
           .put(
               "Characters",
-              new Import[] {
-                new Import("Characters", "javax.xml.stream.events", false),
+              new String[] {
+                "javax.xml.stream.events.Characters",
               })
           .put(
               "EXTHDR",
-              new Import[] {
-                new Import("EXTHDR", "java.util.jar.JarEntry", true),
-                new Import("EXTHDR", "java.util.jar.JarFile", true),
-                new Import("EXTHDR", "java.util.jar.JarInputStream", true),
-                new Import("EXTHDR", "java.util.jar.JarOutputStream", true),
-                new Import("EXTHDR", "java.util.zip.ZipEntry", true),
-                new Import("EXTHDR", "java.util.zip.ZipFile", true),
-                new Import("EXTHDR", "java.util.zip.ZipInputStream", true),
-                new Import("EXTHDR", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.EXTHDR",
+                "static java.util.jar.JarFile.EXTHDR",
+                "static java.util.jar.JarInputStream.EXTHDR",
+                "static java.util.jar.JarOutputStream.EXTHDR",
+                "static java.util.zip.ZipEntry.EXTHDR",
+                "static java.util.zip.ZipFile.EXTHDR",
+                "static java.util.zip.ZipInputStream.EXTHDR",
+                "static java.util.zip.ZipOutputStream.EXTHDR",
               })
           .put(
               "TabStop",
-              new Import[] {
-                new Import("TabStop", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.TabStop",
               })
           .put(
               "Cursor",
-              new Import[] {
-                new Import("Cursor", "java.awt", false),
+              new String[] {
+                "java.awt.Cursor",
               })
           .put(
               "LinkedHashMap",
-              new Import[] {
-                new Import("LinkedHashMap", "java.util", false),
+              new String[] {
+                "java.util.LinkedHashMap",
               })
           .put(
               "loadKeymap",
-              new Import[] {
-                new Import("loadKeymap", "javax.swing.text.JTextComponent", true),
+              new String[] {
+                "static javax.swing.text.JTextComponent.loadKeymap",
               })
           .put(
               "getISOCountries",
-              new Import[] {
-                new Import("getISOCountries", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.getISOCountries",
               })
           .put(
               "icHdrVersion",
-              new Import[] {
-                new Import("icHdrVersion", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrVersion",
               })
           .put(
               "TextField",
-              new Import[] {
-                new Import("TextField", "java.awt", false),
+              new String[] {
+                "java.awt.TextField",
               })
           .put(
               "GoodBreakWeight",
-              new Import[] {
-                new Import("GoodBreakWeight", "javax.swing.text.View", true),
+              new String[] {
+                "static javax.swing.text.View.GoodBreakWeight",
               })
           .put(
               "TYPE_MISMATCH_ERR",
-              new Import[] {
-                new Import("TYPE_MISMATCH_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.TYPE_MISMATCH_ERR",
               })
           .put(
               "LSOutput",
-              new Import[] {
-                new Import("LSOutput", "org.w3c.dom.ls", false),
+              new String[] {
+                "org.w3c.dom.ls.LSOutput",
               })
           .put(
               "pageUpAction",
-              new Import[] {
-                new Import("pageUpAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.pageUpAction",
               })
           .put(
               "VK_COMMA",
-              new Import[] {
-                new Import("VK_COMMA", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_COMMA",
               })
           .put(
               "HasControls",
-              new Import[] {
-                new Import("HasControls", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.HasControls",
               })
           .put(
               "PrintJob",
-              new Import[] {
-                new Import("PrintJob", "java.awt", false),
+              new String[] {
+                "java.awt.PrintJob",
               })
           .put(
               "Resource",
-              new Import[] {
-                new Import("Resource", "javax.annotation", false),
+              new String[] {
+                "javax.annotation.Resource",
               })
           .put(
               "ISO_ZONED_DATE_TIME",
-              new Import[] {
-                new Import("ISO_ZONED_DATE_TIME", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ISO_ZONED_DATE_TIME",
               })
           .put(
               "MAX_EXPONENT",
-              new Import[] {
-                new Import("MAX_EXPONENT", "java.lang.Double", true),
-                new Import("MAX_EXPONENT", "java.lang.Float", true),
+              new String[] {
+                "static java.lang.Double.MAX_EXPONENT", "static java.lang.Float.MAX_EXPONENT",
               })
           .put(
               "NEGATIVE_SCROLL",
-              new Import[] {
-                new Import("NEGATIVE_SCROLL", "javax.swing.plaf.basic.BasicSliderUI", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicSliderUI.NEGATIVE_SCROLL",
               })
           .put(
               "StdACLuminance",
-              new Import[] {
-                new Import("StdACLuminance", "javax.imageio.plugins.jpeg.JPEGHuffmanTable", true),
+              new String[] {
+                "static javax.imageio.plugins.jpeg.JPEGHuffmanTable.StdACLuminance",
               })
           .put(
               "SAXResult",
-              new Import[] {
-                new Import("SAXResult", "javax.xml.transform.sax", false),
+              new String[] {
+                "javax.xml.transform.sax.SAXResult",
               })
           .put(
               "MultiMenuBarUI",
-              new Import[] {
-                new Import("MultiMenuBarUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiMenuBarUI",
               })
           .put(
               "VK_MODECHANGE",
-              new Import[] {
-                new Import("VK_MODECHANGE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_MODECHANGE",
               })
           .put(
               "DIRECTIONALITY_SEGMENT_SEPARATOR",
-              new Import[] {
-                new Import("DIRECTIONALITY_SEGMENT_SEPARATOR", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_SEGMENT_SEPARATOR",
               })
           .put(
               "MYANMAR_EXTENDED_A",
-              new Import[] {
-                new Import("MYANMAR_EXTENDED_A", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MYANMAR_EXTENDED_A",
               })
           .put(
               "Environment",
-              new Import[] {
-                new Import("Environment", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.Environment",
               })
           .put(
               "EMPTY_ENUMERATION",
-              new Import[] {
-                new Import("EMPTY_ENUMERATION", "javax.swing.tree.DefaultMutableTreeNode", true),
+              new String[] {
+                "static javax.swing.tree.DefaultMutableTreeNode.EMPTY_ENUMERATION",
               })
           .put(
               "CommandMap",
-              new Import[] {
-                new Import("CommandMap", "javax.activation", false),
+              new String[] {
+                "javax.activation.CommandMap",
               })
           .put(
               "ISO_B4_ENVELOPE",
-              new Import[] {
-                new Import("ISO_B4_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_B4_ENVELOPE",
               })
           .put(
               "LARGE_SCALE",
-              new Import[] {
-                new Import("LARGE_SCALE", "javax.swing.plaf.nimbus.NimbusStyle", true),
+              new String[] {
+                "static javax.swing.plaf.nimbus.NimbusStyle.LARGE_SCALE",
               })
           .put(
               "floorMod",
-              new Import[] {
-                new Import("floorMod", "java.lang.Math", true),
-                new Import("floorMod", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.floorMod", "static java.lang.StrictMath.floorMod",
               })
           .put(
               "RemoteObjectInvocationHandler",
-              new Import[] {
-                new Import("RemoteObjectInvocationHandler", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.RemoteObjectInvocationHandler",
               })
           .put(
               "HORIZONTAL_SCROLLBAR_POLICY",
-              new Import[] {
-                new Import("HORIZONTAL_SCROLLBAR_POLICY", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.HORIZONTAL_SCROLLBAR_POLICY",
               })
           .put(
               "USEMAP",
-              new Import[] {
-                new Import("USEMAP", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.USEMAP",
               })
           .put(
               "CharHolder",
-              new Import[] {
-                new Import("CharHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.CharHolder",
               })
           .put(
               "Arc2D",
-              new Import[] {
-                new Import("Arc2D", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.Arc2D",
               })
           .put(
               "Source",
-              new Import[] {
-                new Import("Source", "javax.xml.transform", false),
+              new String[] {
+                "javax.xml.transform.Source",
               })
           .put(
               "STANDARD_INPUT_TYPE",
-              new Import[] {
-                new Import("STANDARD_INPUT_TYPE", "javax.imageio.spi.ImageReaderSpi", true),
+              new String[] {
+                "static javax.imageio.spi.ImageReaderSpi.STANDARD_INPUT_TYPE",
               })
           .put(
               "INVITE_ENVELOPE",
-              new Import[] {
-                new Import("INVITE_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.INVITE_ENVELOPE",
               })
           .put(
               "RuntimeException",
-              new Import[] {
-                new Import("RuntimeException", "java.lang", false),
+              new String[] {
+                "java.lang.RuntimeException",
               })
           .put(
               "FlavorTable",
-              new Import[] {
-                new Import("FlavorTable", "java.awt.datatransfer", false),
+              new String[] {
+                "java.awt.datatransfer.FlavorTable",
               })
           .put(
               "TAG_MORT",
-              new Import[] {
-                new Import("TAG_MORT", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_MORT",
               })
           .put(
               "TYPE_DOUBLE",
-              new Import[] {
-                new Import("TYPE_DOUBLE", "java.awt.image.DataBuffer", true),
+              new String[] {
+                "static java.awt.image.DataBuffer.TYPE_DOUBLE",
               })
           .put(
               "UNSET",
-              new Import[] {
-                new Import("UNSET", "javax.swing.Spring", true),
+              new String[] {
+                "static javax.swing.Spring.UNSET",
               })
           .put(
               "VK_AGAIN",
-              new Import[] {
-                new Import("VK_AGAIN", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_AGAIN",
               })
           .put(
               "UNSUPPORTED_EMPTY_COLLECTION",
-              new Import[] {
-                new Import("UNSUPPORTED_EMPTY_COLLECTION", "java.security.Policy", true),
+              new String[] {
+                "static java.security.Policy.UNSUPPORTED_EMPTY_COLLECTION",
               })
           .put(
               "ofEpochDay",
-              new Import[] {
-                new Import("ofEpochDay", "java.time.LocalDate", true),
+              new String[] {
+                "static java.time.LocalDate.ofEpochDay",
               })
           .put(
               "NoContext",
-              new Import[] {
-                new Import("NoContext", "org.omg.PortableServer.CurrentPackage", false),
+              new String[] {
+                "org.omg.PortableServer.CurrentPackage.NoContext",
               })
           .put(
               "MONGOLIAN",
-              new Import[] {
-                new Import("MONGOLIAN", "java.awt.font.NumericShaper", true),
-                new Import("MONGOLIAN", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.MONGOLIAN",
+                "static java.lang.Character.UnicodeBlock.MONGOLIAN",
               })
           .put(
               "ISO_OFFSET_TIME",
-              new Import[] {
-                new Import("ISO_OFFSET_TIME", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ISO_OFFSET_TIME",
               })
           .put(
               "CodeSets",
-              new Import[] {
-                new Import("CodeSets", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.CodeSets",
               })
           .put(
               "endParagraphAction",
-              new Import[] {
-                new Import("endParagraphAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.endParagraphAction",
               })
           .put(
               "Service",
-              new Import[] {
-                new Import("Service", "java.security.Provider", false),
-                new Import("Service", "javax.xml.ws", false),
+              new String[] {
+                "java.security.Provider.Service", "javax.xml.ws.Service",
               })
           .put(
               "EntityResolver2",
-              new Import[] {
-                new Import("EntityResolver2", "org.xml.sax.ext", false),
+              new String[] {
+                "org.xml.sax.ext.EntityResolver2",
               })
           .put(
               "PERSIST",
-              new Import[] {
-                new Import("PERSIST", "javax.swing.JFormattedTextField", true),
+              new String[] {
+                "static javax.swing.JFormattedTextField.PERSIST",
               })
           .put(
               "LongAccumulator",
-              new Import[] {
-                new Import("LongAccumulator", "java.util.concurrent.atomic", false),
+              new String[] {
+                "java.util.concurrent.atomic.LongAccumulator",
               })
           .put(
               "StyledEditorKit",
-              new Import[] {
-                new Import("StyledEditorKit", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.StyledEditorKit",
               })
           .put(
               "VK_ACCEPT",
-              new Import[] {
-                new Import("VK_ACCEPT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_ACCEPT",
               })
           .put(
               "FeatureDescriptor",
-              new Import[] {
-                new Import("FeatureDescriptor", "java.beans", false),
+              new String[] {
+                "java.beans.FeatureDescriptor",
               })
           .put(
               "copyAction",
-              new Import[] {
-                new Import("copyAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.copyAction",
               })
           .put(
               "Future",
-              new Import[] {
-                new Import("Future", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.Future",
               })
           .put(
               "getContext",
-              new Import[] {
-                new Import("getContext", "java.security.AccessController", true),
+              new String[] {
+                "static java.security.AccessController.getContext",
               })
           .put(
               "getFocusColor",
-              new Import[] {
-                new Import("getFocusColor", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getFocusColor",
               })
           .build();
 }
@@ -2,1584 +2,1545 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk30 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "UnknownFormatFlagsException",
-              new Import[] {
-                new Import("UnknownFormatFlagsException", "java.util", false),
+              new String[] {
+                "java.util.UnknownFormatFlagsException",
               })
           .put(
               "getFileSystemView",
-              new Import[] {
-                new Import("getFileSystemView", "javax.swing.filechooser.FileSystemView", true),
+              new String[] {
+                "static javax.swing.filechooser.FileSystemView.getFileSystemView",
               })
           .put(
               "MANDAIC",
-              new Import[] {
-                new Import("MANDAIC", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MANDAIC",
               })
           .put(
               "getFrames",
-              new Import[] {
-                new Import("getFrames", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Frame.getFrames",
               })
           .put(
               "InvalidPolicy",
-              new Import[] {
-                new Import("InvalidPolicy", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.InvalidPolicy",
               })
           .put(
               "MORE_THAN_MAX_ROLE_DEGREE",
-              new Import[] {
-                new Import(
-                    "MORE_THAN_MAX_ROLE_DEGREE", "javax.management.relation.RoleStatus", true),
+              new String[] {
+                "static javax.management.relation.RoleStatus.MORE_THAN_MAX_ROLE_DEGREE",
               })
           .put(
               "SADDLE_STITCH",
-              new Import[] {
-                new Import("SADDLE_STITCH", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.SADDLE_STITCH",
               })
           .put(
               "WSDL_PORT",
-              new Import[] {
-                new Import("WSDL_PORT", "javax.xml.ws.Endpoint", true),
-                new Import("WSDL_PORT", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.Endpoint.WSDL_PORT",
+                "static javax.xml.ws.handler.MessageContext.WSDL_PORT",
               })
           .put(
               "getFlatness",
-              new Import[] {
-                new Import("getFlatness", "java.awt.geom.CubicCurve2D", true),
-                new Import("getFlatness", "java.awt.geom.QuadCurve2D", true),
+              new String[] {
+                "static java.awt.geom.CubicCurve2D.getFlatness",
+                "static java.awt.geom.QuadCurve2D.getFlatness",
               })
           .put(
               "CJK_RADICALS_SUPPLEMENT",
-              new Import[] {
-                new Import("CJK_RADICALS_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CJK_RADICALS_SUPPLEMENT",
               })
           .put(
               "ContentHandler",
-              new Import[] {
-                new Import("ContentHandler", "java.net", false),
-                new Import("ContentHandler", "org.xml.sax", false),
+              new String[] {
+                "java.net.ContentHandler", "org.xml.sax.ContentHandler",
               })
           .put(
               "FRACTION",
-              new Import[] {
-                new Import("FRACTION", "java.text.NumberFormat.Field", true),
+              new String[] {
+                "static java.text.NumberFormat.Field.FRACTION",
               })
           .put(
               "AccessibleTextSequence",
-              new Import[] {
-                new Import("AccessibleTextSequence", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleTextSequence",
               })
           .put(
               "icSigPs2RenderingIntentTag",
-              new Import[] {
-                new Import("icSigPs2RenderingIntentTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigPs2RenderingIntentTag",
               })
           .put(
               "InvalidNameException",
-              new Import[] {
-                new Import("InvalidNameException", "javax.naming", false),
+              new String[] {
+                "javax.naming.InvalidNameException",
               })
           .put(
               "selectionEndWordAction",
-              new Import[] {
-                new Import("selectionEndWordAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectionEndWordAction",
               })
           .put(
               "MOUSE_DRAG",
-              new Import[] {
-                new Import("MOUSE_DRAG", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.MOUSE_DRAG",
               })
           .put(
               "WCharSeqHolder",
-              new Import[] {
-                new Import("WCharSeqHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.WCharSeqHolder",
               })
           .put(
               "FileSystemAlreadyExistsException",
-              new Import[] {
-                new Import("FileSystemAlreadyExistsException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.FileSystemAlreadyExistsException",
               })
           .put(
               "CONTROL_BUTTONS_ARE_SHOWN_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "CONTROL_BUTTONS_ARE_SHOWN_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.CONTROL_BUTTONS_ARE_SHOWN_CHANGED_PROPERTY",
               })
           .put(
               "VERTICAL_ALIGNMENT_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "VERTICAL_ALIGNMENT_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.VERTICAL_ALIGNMENT_CHANGED_PROPERTY",
               })
           .put(
               "CHARACTER_SET_ENCODING",
-              new Import[] {
-                new Import("CHARACTER_SET_ENCODING", "javax.xml.soap.SOAPMessage", true),
+              new String[] {
+                "static javax.xml.soap.SOAPMessage.CHARACTER_SET_ENCODING",
               })
           .put(
               "currentThread",
-              new Import[] {
-                new Import("currentThread", "java.lang.Thread", true),
+              new String[] {
+                "static java.lang.Thread.currentThread",
               })
           .put(
               "MetalSplitPaneUI",
-              new Import[] {
-                new Import("MetalSplitPaneUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalSplitPaneUI",
               })
           .put(
               "PRIOR",
-              new Import[] {
-                new Import("PRIOR", "java.awt.BufferCapabilities.FlipContents", true),
+              new String[] {
+                "static java.awt.BufferCapabilities.FlipContents.PRIOR",
               })
           .put(
               "DefaultComboBoxModel",
-              new Import[] {
-                new Import("DefaultComboBoxModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.DefaultComboBoxModel",
               })
           .put(
               "TAG_TRAK",
-              new Import[] {
-                new Import("TAG_TRAK", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_TRAK",
               })
           .put(
               "invoker",
-              new Import[] {
-                new Import("invoker", "java.lang.invoke.MethodHandles", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandles.invoker",
               })
           .put(
               "VK_AMPERSAND",
-              new Import[] {
-                new Import("VK_AMPERSAND", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_AMPERSAND",
               })
           .put(
               "LIGATURES_ON",
-              new Import[] {
-                new Import("LIGATURES_ON", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.LIGATURES_ON",
               })
           .put(
               "UnsupportedLookAndFeelException",
-              new Import[] {
-                new Import("UnsupportedLookAndFeelException", "javax.swing", false),
+              new String[] {
+                "javax.swing.UnsupportedLookAndFeelException",
               })
           .put(
               "TIMING_CLOCK",
-              new Import[] {
-                new Import("TIMING_CLOCK", "javax.sound.midi.ShortMessage", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.TIMING_CLOCK",
               })
           .put(
               "PosixFileAttributes",
-              new Import[] {
-                new Import("PosixFileAttributes", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.PosixFileAttributes",
               })
           .put(
               "getCopyAction",
-              new Import[] {
-                new Import("getCopyAction", "javax.swing.TransferHandler", true),
+              new String[] {
+                "static javax.swing.TransferHandler.getCopyAction",
               })
           .put(
               "ANCESTOR_REMOVED",
-              new Import[] {
-                new Import("ANCESTOR_REMOVED", "javax.swing.event.AncestorEvent", true),
+              new String[] {
+                "static javax.swing.event.AncestorEvent.ANCESTOR_REMOVED",
               })
           .put(
               "icSigScreeningDescTag",
-              new Import[] {
-                new Import("icSigScreeningDescTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigScreeningDescTag",
               })
           .put(
               "HTTP_PARTIAL",
-              new Import[] {
-                new Import("HTTP_PARTIAL", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_PARTIAL",
               })
           .put(
               "MGF1ParameterSpec",
-              new Import[] {
-                new Import("MGF1ParameterSpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.MGF1ParameterSpec",
               })
           .put(
               "DEFAULT_SIZE",
-              new Import[] {
-                new Import("DEFAULT_SIZE", "javax.swing.GroupLayout", true),
+              new String[] {
+                "static javax.swing.GroupLayout.DEFAULT_SIZE",
               })
           .put(
               "HTML_CONTAINER",
-              new Import[] {
-                new Import("HTML_CONTAINER", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.HTML_CONTAINER",
               })
           .put(
               "AbstractCollection",
-              new Import[] {
-                new Import("AbstractCollection", "java.util", false),
+              new String[] {
+                "java.util.AbstractCollection",
               })
           .put(
               "sum",
-              new Import[] {
-                new Import("sum", "java.lang.Double", true),
-                new Import("sum", "java.lang.Float", true),
-                new Import("sum", "java.lang.Integer", true),
-                new Import("sum", "java.lang.Long", true),
-                new Import("sum", "javax.swing.Spring", true),
+              new String[] {
+                "static java.lang.Double.sum",
+                "static java.lang.Float.sum",
+                "static java.lang.Integer.sum",
+                "static java.lang.Long.sum",
+                "static javax.swing.Spring.sum",
               })
           .put(
               "UNDERLINE",
-              new Import[] {
-                new Import("UNDERLINE", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.UNDERLINE",
               })
           .put(
               "CharArrayWriter",
-              new Import[] {
-                new Import("CharArrayWriter", "java.io", false),
+              new String[] {
+                "java.io.CharArrayWriter",
               })
           .put(
               "PipedReader",
-              new Import[] {
-                new Import("PipedReader", "java.io", false),
+              new String[] {
+                "java.io.PipedReader",
               })
           .put(
               "current",
-              new Import[] {
-                new Import("current", "java.util.concurrent.ThreadLocalRandom", true),
+              new String[] {
+                "static java.util.concurrent.ThreadLocalRandom.current",
               })
           .put(
               "Temporal",
-              new Import[] {
-                new Import("Temporal", "java.time.temporal", false),
+              new String[] {
+                "java.time.temporal.Temporal",
               })
           .put(
               "MOUSE_EXITED",
-              new Import[] {
-                new Import("MOUSE_EXITED", "java.awt.event.MouseEvent", true),
+              new String[] {
+                "static java.awt.event.MouseEvent.MOUSE_EXITED",
               })
           .put(
               "CubicCurve2D",
-              new Import[] {
-                new Import("CubicCurve2D", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.CubicCurve2D",
               })
           .put(
               "SYLOTI_NAGRI",
-              new Import[] {
-                new Import("SYLOTI_NAGRI", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SYLOTI_NAGRI",
               })
           .put(
               "DataBufferUShort",
-              new Import[] {
-                new Import("DataBufferUShort", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.DataBufferUShort",
               })
           .put(
               "BooleanSupplier",
-              new Import[] {
-                new Import("BooleanSupplier", "java.util.function", false),
+              new String[] {
+                "java.util.function.BooleanSupplier",
               })
           .put(
               "UNLIMITED",
-              new Import[] {
-                new Import("UNLIMITED", "java.math.MathContext", true),
+              new String[] {
+                "static java.math.MathContext.UNLIMITED",
               })
           .put(
               "LONG",
-              new Import[] {
-                new Import("LONG", "java.text.DateFormat", true),
-                new Import("LONG", "java.util.Calendar", true),
-                new Import("LONG", "java.util.TimeZone", true),
-                new Import("LONG", "javax.management.openmbean.SimpleType", true),
+              new String[] {
+                "static java.text.DateFormat.LONG",
+                "static java.util.Calendar.LONG",
+                "static java.util.TimeZone.LONG",
+                "static javax.management.openmbean.SimpleType.LONG",
               })
           .put(
               "TypeMismatch",
-              new Import[] {
-                new Import("TypeMismatch", "org.omg.CORBA.DynAnyPackage", false),
-                new Import("TypeMismatch", "org.omg.DynamicAny.DynAnyPackage", false),
-                new Import("TypeMismatch", "org.omg.IOP.CodecPackage", false),
+              new String[] {
+                "org.omg.CORBA.DynAnyPackage.TypeMismatch",
+                "org.omg.DynamicAny.DynAnyPackage.TypeMismatch",
+                "org.omg.IOP.CodecPackage.TypeMismatch",
               })
           .put(
               "roleValueToString",
-              new Import[] {
-                new Import("roleValueToString", "javax.management.relation.Role", true),
+              new String[] {
+                "static javax.management.relation.Role.roleValueToString",
               })
           .put(
               "HIRAGANA",
-              new Import[] {
-                new Import("HIRAGANA", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.HIRAGANA",
               })
           .put(
               "LongBinaryOperator",
-              new Import[] {
-                new Import("LongBinaryOperator", "java.util.function", false),
+              new String[] {
+                "java.util.function.LongBinaryOperator",
               })
           .put(
               "VALUE_RANGE_MIN_INCLUSIVE_MASK",
-              new Import[] {
-                new Import(
-                    "VALUE_RANGE_MIN_INCLUSIVE_MASK",
-                    "javax.imageio.metadata.IIOMetadataFormat",
-                    true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.VALUE_RANGE_MIN_INCLUSIVE_MASK",
               })
           .put(
               "NON_SPACING_MARK",
-              new Import[] {
-                new Import("NON_SPACING_MARK", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.NON_SPACING_MARK",
               })
           .put(
               "CachedRowSet",
-              new Import[] {
-                new Import("CachedRowSet", "javax.sql.rowset", false),
+              new String[] {
+                "javax.sql.rowset.CachedRowSet",
               })
           .put(
               "VK_DOLLAR",
-              new Import[] {
-                new Import("VK_DOLLAR", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DOLLAR",
               })
           .put(
               "isMiddleMouseButton",
-              new Import[] {
-                new Import("isMiddleMouseButton", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.isMiddleMouseButton",
               })
           .put(
               "NA_LEGAL",
-              new Import[] {
-                new Import("NA_LEGAL", "java.awt.PageAttributes.MediaType", true),
-                new Import("NA_LEGAL", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.NA_LEGAL",
+                "static javax.print.attribute.standard.MediaSizeName.NA_LEGAL",
               })
           .put(
               "SQLOutput",
-              new Import[] {
-                new Import("SQLOutput", "java.sql", false),
+              new String[] {
+                "java.sql.SQLOutput",
               })
           .put(
               "emptyListIterator",
-              new Import[] {
-                new Import("emptyListIterator", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.emptyListIterator",
               })
           .put(
               "COMPONENT",
-              new Import[] {
-                new Import("COMPONENT", "java.awt.font.GlyphMetrics", true),
+              new String[] {
+                "static java.awt.font.GlyphMetrics.COMPONENT",
               })
           .put(
               "ReadOnlyFileSystemException",
-              new Import[] {
-                new Import("ReadOnlyFileSystemException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.ReadOnlyFileSystemException",
               })
           .put(
               "_dk_Sequence",
-              new Import[] {
-                new Import("_dk_Sequence", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Sequence",
               })
           .put(
               "PortableRemoteObject",
-              new Import[] {
-                new Import("PortableRemoteObject", "javax.rmi", false),
+              new String[] {
+                "javax.rmi.PortableRemoteObject",
               })
           .put(
               "NO_CONTEXT",
-              new Import[] {
-                new Import("NO_CONTEXT", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.NO_CONTEXT",
               })
           .put(
               "RuleBasedCollator",
-              new Import[] {
-                new Import("RuleBasedCollator", "java.text", false),
+              new String[] {
+                "java.text.RuleBasedCollator",
               })
           .put(
               "LOWERCASE_LETTER",
-              new Import[] {
-                new Import("LOWERCASE_LETTER", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.LOWERCASE_LETTER",
               })
           .put(
               "ClientRequestInterceptorOperations",
-              new Import[] {
-                new Import(
-                    "ClientRequestInterceptorOperations", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ClientRequestInterceptorOperations",
               })
           .put(
               "PRINTER_STOPPED",
-              new Import[] {
-                new Import(
-                    "PRINTER_STOPPED", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.PRINTER_STOPPED",
               })
           .put(
               "HTTP_PRECON_FAILED",
-              new Import[] {
-                new Import("HTTP_PRECON_FAILED", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_PRECON_FAILED",
               })
           .put(
               "frequency",
-              new Import[] {
-                new Import("frequency", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.frequency",
               })
           .put(
               "APPLY_REVERB",
-              new Import[] {
-                new Import("APPLY_REVERB", "javax.sound.sampled.BooleanControl.Type", true),
+              new String[] {
+                "static javax.sound.sampled.BooleanControl.Type.APPLY_REVERB",
               })
           .put(
               "HyperlinkListener",
-              new Import[] {
-                new Import("HyperlinkListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.HyperlinkListener",
               })
           .put(
               "PortableRemoteObjectDelegate",
-              new Import[] {
-                new Import("PortableRemoteObjectDelegate", "javax.rmi.CORBA", false),
+              new String[] {
+                "javax.rmi.CORBA.PortableRemoteObjectDelegate",
               })
           .put(
               "currentGroupID",
-              new Import[] {
-                new Import("currentGroupID", "java.rmi.activation.ActivationGroup", true),
+              new String[] {
+                "static java.rmi.activation.ActivationGroup.currentGroupID",
               })
           .put(
               "VALUE_FRACTIONALMETRICS_OFF",
-              new Import[] {
-                new Import("VALUE_FRACTIONALMETRICS_OFF", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_FRACTIONALMETRICS_OFF",
               })
           .put(
               "RenderableImageProducer",
-              new Import[] {
-                new Import("RenderableImageProducer", "java.awt.image.renderable", false),
+              new String[] {
+                "java.awt.image.renderable.RenderableImageProducer",
               })
           .put(
               "BasicHTML",
-              new Import[] {
-                new Import("BasicHTML", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicHTML",
               })
           .put(
               "generate",
-              new Import[] {
-                new Import("generate", "java.util.stream.DoubleStream", true),
-                new Import("generate", "java.util.stream.IntStream", true),
-                new Import("generate", "java.util.stream.LongStream", true),
-                new Import("generate", "java.util.stream.Stream", true),
+              new String[] {
+                "static java.util.stream.DoubleStream.generate",
+                "static java.util.stream.IntStream.generate",
+                "static java.util.stream.LongStream.generate",
+                "static java.util.stream.Stream.generate",
               })
           .put(
               "Authenticator",
-              new Import[] {
-                new Import("Authenticator", "java.net", false),
+              new String[] {
+                "java.net.Authenticator",
               })
           .put(
               "UnknownAnnotationValueException",
-              new Import[] {
-                new Import("UnknownAnnotationValueException", "javax.lang.model.element", false),
+              new String[] {
+                "javax.lang.model.element.UnknownAnnotationValueException",
               })
           .put(
               "RuntimeOperationsException",
-              new Import[] {
-                new Import("RuntimeOperationsException", "javax.management", false),
+              new String[] {
+                "javax.management.RuntimeOperationsException",
               })
           .put(
               "getFileChooserHomeFolderIcon",
-              new Import[] {
-                new Import(
-                    "getFileChooserHomeFolderIcon",
-                    "javax.swing.plaf.metal.MetalIconFactory",
-                    true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getFileChooserHomeFolderIcon",
               })
           .put(
               "setFlashCount",
-              new Import[] {
-                new Import("setFlashCount", "javax.swing.DebugGraphics", true),
+              new String[] {
+                "static javax.swing.DebugGraphics.setFlashCount",
               })
           .put(
               "ISO_A4_WHITE",
-              new Import[] {
-                new Import("ISO_A4_WHITE", "javax.print.attribute.standard.MediaName", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaName.ISO_A4_WHITE",
               })
           .put(
               "RowSorter",
-              new Import[] {
-                new Import("RowSorter", "javax.swing", false),
+              new String[] {
+                "javax.swing.RowSorter",
               })
           .put(
               "PROPERTY",
-              new Import[] {
-                new Import("PROPERTY", "org.w3c.dom.bootstrap.DOMImplementationRegistry", true),
+              new String[] {
+                "static org.w3c.dom.bootstrap.DOMImplementationRegistry.PROPERTY",
               })
           .put(
               "getAccessibleIndexInParent",
-              new Import[] {
-                new Import("getAccessibleIndexInParent", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.getAccessibleIndexInParent",
               })
           .put(
               "DnDConstants",
-              new Import[] {
-                new Import("DnDConstants", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DnDConstants",
               })
           .put(
               "RUN_DIRECTION_RTL",
-              new Import[] {
-                new Import("RUN_DIRECTION_RTL", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.RUN_DIRECTION_RTL",
               })
           .put(
               "LEAD_EQUALS",
-              new Import[] {
-                new Import("LEAD_EQUALS", "javax.swing.text.TabStop", true),
+              new String[] {
+                "static javax.swing.text.TabStop.LEAD_EQUALS",
               })
           .put(
               "UNASSIGNED",
-              new Import[] {
-                new Import("UNASSIGNED", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.UNASSIGNED",
               })
           .put(
               "MARGIN",
-              new Import[] {
-                new Import("MARGIN", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.MARGIN",
               })
           .put(
               "SourceLocator",
-              new Import[] {
-                new Import("SourceLocator", "javax.xml.transform", false),
+              new String[] {
+                "javax.xml.transform.SourceLocator",
               })
           .put(
               "ActivationGroupDesc",
-              new Import[] {
-                new Import("ActivationGroupDesc", "java.rmi.activation", false),
+              new String[] {
+                "java.rmi.activation.ActivationGroupDesc",
               })
           .put(
               "SELECTION",
-              new Import[] {
-                new Import("SELECTION", "java.awt.JobAttributes.DefaultSelectionType", true),
+              new String[] {
+                "static java.awt.JobAttributes.DefaultSelectionType.SELECTION",
               })
           .put(
               "ReflectPermission",
-              new Import[] {
-                new Import("ReflectPermission", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.ReflectPermission",
               })
           .put(
               "NA_9X12_ENVELOPE",
-              new Import[] {
-                new Import("NA_9X12_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_9X12_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.NA_9X12_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSizeName.NA_9X12_ENVELOPE",
               })
           .put(
               "DocFlavor",
-              new Import[] {
-                new Import("DocFlavor", "javax.print", false),
+              new String[] {
+                "javax.print.DocFlavor",
               })
           .put(
               "JobOriginatingUserName",
-              new Import[] {
-                new Import("JobOriginatingUserName", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobOriginatingUserName",
               })
           .put(
               "Certificate",
-              new Import[] {
-                new Import("Certificate", "java.security", false),
-                new Import("Certificate", "java.security.cert", false),
-                new Import("Certificate", "javax.security.cert", false),
+              new String[] {
+                "java.security.Certificate",
+                "java.security.cert.Certificate",
+                "javax.security.cert.Certificate",
               })
           .put(
               "MulticastSocket",
-              new Import[] {
-                new Import("MulticastSocket", "java.net", false),
+              new String[] {
+                "java.net.MulticastSocket",
               })
           .put(
               "JMXConnectorFactory",
-              new Import[] {
-                new Import("JMXConnectorFactory", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.JMXConnectorFactory",
               })
           .put(
               "getStaticAttributeKey",
-              new Import[] {
-                new Import("getStaticAttributeKey", "javax.swing.text.StyleContext", true),
+              new String[] {
+                "static javax.swing.text.StyleContext.getStaticAttributeKey",
               })
           .put(
               "TAG_MMFX",
-              new Import[] {
-                new Import("TAG_MMFX", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_MMFX",
               })
           .put(
               "Driver",
-              new Import[] {
-                new Import("Driver", "java.sql", false),
+              new String[] {
+                "java.sql.Driver",
               })
           .put(
               "DynUnion",
-              new Import[] {
-                new Import("DynUnion", "org.omg.CORBA", false),
-                new Import("DynUnion", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.CORBA.DynUnion", "org.omg.DynamicAny.DynUnion",
               })
           .put(
               "cbrt",
-              new Import[] {
-                new Import("cbrt", "java.lang.Math", true),
-                new Import("cbrt", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.cbrt", "static java.lang.StrictMath.cbrt",
               })
           .put(
               "BASE",
-              new Import[] {
-                new Import("BASE", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.BASE",
               })
           .put(
               "ROW_HEADER",
-              new Import[] {
-                new Import("ROW_HEADER", "javax.accessibility.AccessibleRole", true),
-                new Import("ROW_HEADER", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.ROW_HEADER",
+                "static javax.swing.ScrollPaneConstants.ROW_HEADER",
               })
           .put(
               "SimpleDoc",
-              new Import[] {
-                new Import("SimpleDoc", "javax.print", false),
+              new String[] {
+                "javax.print.SimpleDoc",
               })
           .put(
               "KEY_LAST",
-              new Import[] {
-                new Import("KEY_LAST", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.KEY_LAST",
               })
           .put(
               "VetoableChangeSupport",
-              new Import[] {
-                new Import("VetoableChangeSupport", "java.beans", false),
+              new String[] {
+                "java.beans.VetoableChangeSupport",
               })
           .put(
               "appendTo",
-              new Import[] {
-                new Import("appendTo", "java.lang.ProcessBuilder.Redirect", true),
+              new String[] {
+                "static java.lang.ProcessBuilder.Redirect.appendTo",
               })
           .put(
               "EXECUTIVE",
-              new Import[] {
-                new Import("EXECUTIVE", "java.awt.PageAttributes.MediaType", true),
-                new Import("EXECUTIVE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("EXECUTIVE", "javax.print.attribute.standard.MediaSize.Other", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.EXECUTIVE",
+                "static javax.print.attribute.standard.MediaSizeName.EXECUTIVE",
+                "static javax.print.attribute.standard.MediaSize.Other.EXECUTIVE",
               })
           .put(
               "ALL_COLUMNS",
-              new Import[] {
-                new Import("ALL_COLUMNS", "javax.swing.event.TableModelEvent", true),
+              new String[] {
+                "static javax.swing.event.TableModelEvent.ALL_COLUMNS",
               })
           .put(
               "NumericShaper",
-              new Import[] {
-                new Import("NumericShaper", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.NumericShaper",
               })
           .put(
               "getLogStream",
-              new Import[] {
-                new Import("getLogStream", "java.sql.DriverManager", true),
+              new String[] {
+                "static java.sql.DriverManager.getLogStream",
               })
           .put(
               "IORHelper",
-              new Import[] {
-                new Import("IORHelper", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.IORHelper",
               })
           .put(
               "ACCESSIBLE_VISIBLE_DATA_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_VISIBLE_DATA_PROPERTY",
-                    "javax.accessibility.AccessibleContext",
-                    true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_VISIBLE_DATA_PROPERTY",
               })
           .put(
               "CHINA",
-              new Import[] {
-                new Import("CHINA", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.CHINA",
               })
           .put(
               "RCDATA",
-              new Import[] {
-                new Import("RCDATA", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.RCDATA",
               })
           .put(
               "MenuItem",
-              new Import[] {
-                new Import("MenuItem", "java.awt", false),
+              new String[] {
+                "java.awt.MenuItem",
               })
           .put(
               "VM_ABSTRACT",
-              new Import[] {
-                new Import("VM_ABSTRACT", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.VM_ABSTRACT",
               })
           .put(
               "IMAGE_RESTORED",
-              new Import[] {
-                new Import("IMAGE_RESTORED", "java.awt.image.VolatileImage", true),
+              new String[] {
+                "static java.awt.image.VolatileImage.IMAGE_RESTORED",
               })
           .put(
               "XML_NS_URI",
-              new Import[] {
-                new Import("XML_NS_URI", "javax.xml.XMLConstants", true),
+              new String[] {
+                "static javax.xml.XMLConstants.XML_NS_URI",
               })
           .put(
               "PASSWORD_FIELD",
-              new Import[] {
-                new Import("PASSWORD_FIELD", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.PASSWORD_FIELD",
               })
           .put(
               "FOLIO",
-              new Import[] {
-                new Import("FOLIO", "java.awt.PageAttributes.MediaType", true),
-                new Import("FOLIO", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("FOLIO", "javax.print.attribute.standard.MediaSize.Other", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.FOLIO",
+                "static javax.print.attribute.standard.MediaSizeName.FOLIO",
+                "static javax.print.attribute.standard.MediaSize.Other.FOLIO",
               })
           .put(
               "RSA_SHA1",
-              new Import[] {
-                new Import("RSA_SHA1", "javax.xml.crypto.dsig.SignatureMethod", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.SignatureMethod.RSA_SHA1",
               })
           .put(
               "TIMESTAMP_WITH_TIMEZONE",
-              new Import[] {
-                new Import("TIMESTAMP_WITH_TIMEZONE", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.TIMESTAMP_WITH_TIMEZONE",
               })
           .put(
               "getLength",
-              new Import[] {
-                new Import("getLength", "java.lang.reflect.Array", true),
+              new String[] {
+                "static java.lang.reflect.Array.getLength",
               })
           .put(
               "WINDOW_STATE_EVENT_MASK",
-              new Import[] {
-                new Import("WINDOW_STATE_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.WINDOW_STATE_EVENT_MASK",
               })
           .put(
               "allHtmlFlavor",
-              new Import[] {
-                new Import("allHtmlFlavor", "java.awt.datatransfer.DataFlavor", true),
+              new String[] {
+                "static java.awt.datatransfer.DataFlavor.allHtmlFlavor",
               })
           .put(
               "SrcOut",
-              new Import[] {
-                new Import("SrcOut", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.SrcOut",
               })
           .put(
               "createChildren",
-              new Import[] {
-                new Import("createChildren", "javax.swing.JTree.DynamicUtilTreeNode", true),
+              new String[] {
+                "static javax.swing.JTree.DynamicUtilTreeNode.createChildren",
               })
           .put(
               "Robot",
-              new Import[] {
-                new Import("Robot", "java.awt", false),
+              new String[] {
+                "java.awt.Robot",
               })
           .put(
               "XMLNS",
-              new Import[] {
-                new Import("XMLNS", "javax.xml.crypto.dsig.XMLSignature", true),
-                new Import("XMLNS", "org.xml.sax.helpers.NamespaceSupport", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.XMLSignature.XMLNS",
+                "static org.xml.sax.helpers.NamespaceSupport.XMLNS",
               })
           .put(
               "UnknownEncodingHelper",
-              new Import[] {
-                new Import("UnknownEncodingHelper", "org.omg.IOP.CodecFactoryPackage", false),
+              new String[] {
+                "org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper",
               })
           .put(
               "MimetypesFileTypeMap",
-              new Import[] {
-                new Import("MimetypesFileTypeMap", "javax.activation", false),
+              new String[] {
+                "javax.activation.MimetypesFileTypeMap",
               })
           .put(
               "ModelMBean",
-              new Import[] {
-                new Import("ModelMBean", "javax.management.modelmbean", false),
+              new String[] {
+                "javax.management.modelmbean.ModelMBean",
               })
           .put(
               "LIST_STYLE",
-              new Import[] {
-                new Import("LIST_STYLE", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.LIST_STYLE",
               })
           .put(
               "getRegistry",
-              new Import[] {
-                new Import("getRegistry", "java.rmi.registry.LocateRegistry", true),
+              new String[] {
+                "static java.rmi.registry.LocateRegistry.getRegistry",
               })
           .put(
               "SocketHandler",
-              new Import[] {
-                new Import("SocketHandler", "java.util.logging", false),
+              new String[] {
+                "java.util.logging.SocketHandler",
               })
           .put(
               "ALLOWED_CLASSNAMES_LIST",
-              new Import[] {
-                new Import("ALLOWED_CLASSNAMES_LIST", "javax.management.openmbean.OpenType", true),
+              new String[] {
+                "static javax.management.openmbean.OpenType.ALLOWED_CLASSNAMES_LIST",
               })
           .put(
               "UNSUPPORTED_POLICY_VALUE",
-              new Import[] {
-                new Import("UNSUPPORTED_POLICY_VALUE", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.UNSUPPORTED_POLICY_VALUE",
               })
           .put(
               "SECURITY_PROTOCOL",
-              new Import[] {
-                new Import("SECURITY_PROTOCOL", "javax.naming.Context", true),
+              new String[] {
+                "static javax.naming.Context.SECURITY_PROTOCOL",
               })
           .put(
               "BasicBorders",
-              new Import[] {
-                new Import("BasicBorders", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicBorders",
               })
           .put(
               "XA_RBDEADLOCK",
-              new Import[] {
-                new Import("XA_RBDEADLOCK", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_RBDEADLOCK",
               })
           .put(
               "ActivationSystem",
-              new Import[] {
-                new Import("ActivationSystem", "java.rmi.activation", false),
+              new String[] {
+                "java.rmi.activation.ActivationSystem",
               })
           .put(
               "CertStoreParameters",
-              new Import[] {
-                new Import("CertStoreParameters", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertStoreParameters",
               })
           .put(
               "HTTP_PAYMENT_REQUIRED",
-              new Import[] {
-                new Import("HTTP_PAYMENT_REQUIRED", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_PAYMENT_REQUIRED",
               })
           .put(
               "dk_Constant",
-              new Import[] {
-                new Import("dk_Constant", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Constant",
               })
           .put(
               "IORInterceptorOperations",
-              new Import[] {
-                new Import("IORInterceptorOperations", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.IORInterceptorOperations",
               })
           .put(
               "TOOL_TIP_TEXT_KEY",
-              new Import[] {
-                new Import("TOOL_TIP_TEXT_KEY", "javax.swing.JComponent", true),
+              new String[] {
+                "static javax.swing.JComponent.TOOL_TIP_TEXT_KEY",
               })
           .put(
               "AccessibleExtendedText",
-              new Import[] {
-                new Import("AccessibleExtendedText", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleExtendedText",
               })
           .put(
               "icSigSpace2CLR",
-              new Import[] {
-                new Import("icSigSpace2CLR", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigSpace2CLR",
               })
           .put(
               "icSigRedMatrixColumnTag",
-              new Import[] {
-                new Import("icSigRedMatrixColumnTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigRedMatrixColumnTag",
               })
           .put(
               "parseQName",
-              new Import[] {
-                new Import("parseQName", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.parseQName",
               })
           .put(
               "BORDER_LEFT_WIDTH",
-              new Import[] {
-                new Import("BORDER_LEFT_WIDTH", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_LEFT_WIDTH",
               })
           .put(
               "VersionSpecHelper",
-              new Import[] {
-                new Import("VersionSpecHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.VersionSpecHelper",
               })
           .put(
               "DISABLED_SELECTED_ICON_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "DISABLED_SELECTED_ICON_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.DISABLED_SELECTED_ICON_CHANGED_PROPERTY",
               })
           .put(
               "UNICODE_STREAM_PARAM",
-              new Import[] {
-                new Import("UNICODE_STREAM_PARAM", "javax.sql.rowset.BaseRowSet", true),
+              new String[] {
+                "static javax.sql.rowset.BaseRowSet.UNICODE_STREAM_PARAM",
               })
           .put(
               "WORD",
-              new Import[] {
-                new Import("WORD", "javax.accessibility.AccessibleText", true),
+              new String[] {
+                "static javax.accessibility.AccessibleText.WORD",
               })
           .put(
               "AFTER_LINE_ENDS",
-              new Import[] {
-                new Import("AFTER_LINE_ENDS", "java.awt.BorderLayout", true),
+              new String[] {
+                "static java.awt.BorderLayout.AFTER_LINE_ENDS",
               })
           .put(
               "LinkOption",
-              new Import[] {
-                new Import("LinkOption", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.LinkOption",
               })
           .put(
               "BoldAction",
-              new Import[] {
-                new Import("BoldAction", "javax.swing.text.StyledEditorKit", false),
+              new String[] {
+                "javax.swing.text.StyledEditorKit.BoldAction",
               })
           .put(
               "CONTROL_SHADOW",
-              new Import[] {
-                new Import("CONTROL_SHADOW", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.CONTROL_SHADOW",
               })
           .put(
               "icHdrAttributes",
-              new Import[] {
-                new Import("icHdrAttributes", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrAttributes",
               })
           .put(
               "NOBUTTON",
-              new Import[] {
-                new Import("NOBUTTON", "java.awt.event.MouseEvent", true),
+              new String[] {
+                "static java.awt.event.MouseEvent.NOBUTTON",
               })
           .put(
               "DelegationPermission",
-              new Import[] {
-                new Import("DelegationPermission", "javax.security.auth.kerberos", false),
+              new String[] {
+                "javax.security.auth.kerberos.DelegationPermission",
               })
           .put(
               "UPPER_LEADING_CORNER",
-              new Import[] {
-                new Import("UPPER_LEADING_CORNER", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.UPPER_LEADING_CORNER",
               })
           .put(
               "W3CEndpointReferenceBuilder",
-              new Import[] {
-                new Import("W3CEndpointReferenceBuilder", "javax.xml.ws.wsaddressing", false),
+              new String[] {
+                "javax.xml.ws.wsaddressing.W3CEndpointReferenceBuilder",
               })
           .put(
               "CUNEIFORM",
-              new Import[] {
-                new Import("CUNEIFORM", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CUNEIFORM",
               })
           .put(
               "FULLWIDTH_LATIN",
-              new Import[] {
-                new Import("FULLWIDTH_LATIN", "java.awt.im.InputSubset", true),
+              new String[] {
+                "static java.awt.im.InputSubset.FULLWIDTH_LATIN",
               })
           .put(
               "createLineBorder",
-              new Import[] {
-                new Import("createLineBorder", "javax.swing.BorderFactory", true),
+              new String[] {
+                "static javax.swing.BorderFactory.createLineBorder",
               })
           .put(
               "PROVIDER_URL",
-              new Import[] {
-                new Import("PROVIDER_URL", "javax.naming.Context", true),
+              new String[] {
+                "static javax.naming.Context.PROVIDER_URL",
               })
           .put(
               "KAKU_20",
-              new Import[] {
-                new Import("KAKU_20", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.KAKU_20",
               })
           .put(
               "Package",
-              new Import[] {
-                new Import("Package", "java.lang", false),
+              new String[] {
+                "java.lang.Package",
               })
           .put(
               "SNI_HOST_NAME",
-              new Import[] {
-                new Import("SNI_HOST_NAME", "javax.net.ssl.StandardConstants", true),
+              new String[] {
+                "static javax.net.ssl.StandardConstants.SNI_HOST_NAME",
               })
           .put(
               "SINGLE_DOCUMENT_NEW_SHEET",
-              new Import[] {
-                new Import(
-                    "SINGLE_DOCUMENT_NEW_SHEET",
-                    "javax.print.attribute.standard.MultipleDocumentHandling",
-                    true),
+              new String[] {
+                "static"
+                    + " javax.print.attribute.standard.MultipleDocumentHandling.SINGLE_DOCUMENT_NEW_SHEET",
               })
           .put(
               "_PARAM_OUT",
-              new Import[] {
-                new Import("_PARAM_OUT", "org.omg.CORBA.ParameterMode", true),
+              new String[] {
+                "static org.omg.CORBA.ParameterMode._PARAM_OUT",
               })
           .put(
               "ConnectionEventListener",
-              new Import[] {
-                new Import("ConnectionEventListener", "javax.sql", false),
+              new String[] {
+                "javax.sql.ConnectionEventListener",
               })
           .put(
               "WEIGHT_ULTRABOLD",
-              new Import[] {
-                new Import("WEIGHT_ULTRABOLD", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WEIGHT_ULTRABOLD",
               })
           .put(
               "Base64",
-              new Import[] {
-                new Import("Base64", "java.util", false),
+              new String[] {
+                "java.util.Base64",
               })
           .put(
               "TAG_MMSD",
-              new Import[] {
-                new Import("TAG_MMSD", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_MMSD",
               })
           .put(
               "range",
-              new Import[] {
-                new Import("range", "java.util.EnumSet", true),
-                new Import("range", "java.util.stream.IntStream", true),
-                new Import("range", "java.util.stream.LongStream", true),
+              new String[] {
+                "static java.util.EnumSet.range",
+                "static java.util.stream.IntStream.range",
+                "static java.util.stream.LongStream.range",
               })
           .put(
               "IllegalBlockSizeException",
-              new Import[] {
-                new Import("IllegalBlockSizeException", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.IllegalBlockSizeException",
               })
           .put(
               "TreeSelectionListener",
-              new Import[] {
-                new Import("TreeSelectionListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.TreeSelectionListener",
               })
           .put(
               "_dk_Typedef",
-              new Import[] {
-                new Import("_dk_Typedef", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Typedef",
               })
           .put(
               "ModelMBeanInfo",
-              new Import[] {
-                new Import("ModelMBeanInfo", "javax.management.modelmbean", false),
+              new String[] {
+                "javax.management.modelmbean.ModelMBeanInfo",
               })
           .put(
               "AttributeException",
-              new Import[] {
-                new Import("AttributeException", "javax.print", false),
+              new String[] {
+                "javax.print.AttributeException",
               })
           .put(
               "YI_SYLLABLES",
-              new Import[] {
-                new Import("YI_SYLLABLES", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.YI_SYLLABLES",
               })
           .put(
               "getBidiLevel",
-              new Import[] {
-                new Import("getBidiLevel", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.getBidiLevel",
               })
           .put(
               "OUTBOUND_MESSAGE_ATTACHMENTS",
-              new Import[] {
-                new Import(
-                    "OUTBOUND_MESSAGE_ATTACHMENTS", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.handler.MessageContext.OUTBOUND_MESSAGE_ATTACHMENTS",
               })
           .put(
               "ITALIAN",
-              new Import[] {
-                new Import("ITALIAN", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.ITALIAN",
               })
           .put(
               "getWindowAncestor",
-              new Import[] {
-                new Import("getWindowAncestor", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.getWindowAncestor",
               })
           .put(
               "NotFoundReason",
-              new Import[] {
-                new Import("NotFoundReason", "org.omg.CosNaming.NamingContextPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.NotFoundReason",
               })
           .put(
               "TOOL_BAR_DRAG_WINDOW",
-              new Import[] {
-                new Import("TOOL_BAR_DRAG_WINDOW", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.TOOL_BAR_DRAG_WINDOW",
               })
           .put(
               "_not_object",
-              new Import[] {
-                new Import(
-                    "_not_object", "org.omg.CosNaming.NamingContextPackage.NotFoundReason", true),
+              new String[] {
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundReason._not_object",
               })
           .put(
               "SUNDANESE_SUPPLEMENT",
-              new Import[] {
-                new Import("SUNDANESE_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SUNDANESE_SUPPLEMENT",
               })
           .put(
               "MIN_EXPONENT",
-              new Import[] {
-                new Import("MIN_EXPONENT", "java.lang.Double", true),
-                new Import("MIN_EXPONENT", "java.lang.Float", true),
+              new String[] {
+                "static java.lang.Double.MIN_EXPONENT", "static java.lang.Float.MIN_EXPONENT",
               })
           .put(
               "getPropertyChangeListeners",
-              new Import[] {
-                new Import("getPropertyChangeListeners", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.getPropertyChangeListeners",
               })
           .put(
               "DragGestureListener",
-              new Import[] {
-                new Import("DragGestureListener", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DragGestureListener",
               })
           .put(
               "LAST_LINE_START",
-              new Import[] {
-                new Import("LAST_LINE_START", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.LAST_LINE_START",
               })
           .put(
               "TABBED_PANE_CONTENT",
-              new Import[] {
-                new Import("TABBED_PANE_CONTENT", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.TABBED_PANE_CONTENT",
               })
           .put(
               "filter",
-              new Import[] {
-                new Import("filter", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.filter",
               })
           .put(
               "RoleInfoNotFoundException",
-              new Import[] {
-                new Import("RoleInfoNotFoundException", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RoleInfoNotFoundException",
               })
           .put(
               "SINGLEFRAME",
-              new Import[] {
-                new Import("SINGLEFRAME", "java.awt.image.ImageConsumer", true),
+              new String[] {
+                "static java.awt.image.ImageConsumer.SINGLEFRAME",
               })
           .put(
               "JOB_COMPLETED_WITH_WARNINGS",
-              new Import[] {
-                new Import(
-                    "JOB_COMPLETED_WITH_WARNINGS",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.JOB_COMPLETED_WITH_WARNINGS",
               })
           .put(
               "registerEditor",
-              new Import[] {
-                new Import("registerEditor", "java.beans.PropertyEditorManager", true),
+              new String[] {
+                "static java.beans.PropertyEditorManager.registerEditor",
               })
           .put(
               "DocumentView",
-              new Import[] {
-                new Import("DocumentView", "org.w3c.dom.views", false),
+              new String[] {
+                "org.w3c.dom.views.DocumentView",
               })
           .put(
               "STOPPED_PARTLY",
-              new Import[] {
-                new Import(
-                    "STOPPED_PARTLY", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.STOPPED_PARTLY",
               })
           .put(
               "getAvailableCalendarTypes",
-              new Import[] {
-                new Import("getAvailableCalendarTypes", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.getAvailableCalendarTypes",
               })
           .put(
               "SUPPLEMENTAL_ARROWS_A",
-              new Import[] {
-                new Import("SUPPLEMENTAL_ARROWS_A", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SUPPLEMENTAL_ARROWS_A",
               })
           .put(
               "MODE_EXPLICIT",
-              new Import[] {
-                new Import("MODE_EXPLICIT", "javax.imageio.ImageWriteParam", true),
+              new String[] {
+                "static javax.imageio.ImageWriteParam.MODE_EXPLICIT",
               })
           .put(
               "UnknownEntityException",
-              new Import[] {
-                new Import("UnknownEntityException", "javax.lang.model", false),
+              new String[] {
+                "javax.lang.model.UnknownEntityException",
               })
           .put(
               "_BindingIteratorStub",
-              new Import[] {
-                new Import("_BindingIteratorStub", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming._BindingIteratorStub",
               })
           .put(
               "CJK_COMPATIBILITY_IDEOGRAPHS",
-              new Import[] {
-                new Import(
-                    "CJK_COMPATIBILITY_IDEOGRAPHS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CJK_COMPATIBILITY_IDEOGRAPHS",
               })
           .put(
               "SENTENCE",
-              new Import[] {
-                new Import("SENTENCE", "javax.accessibility.AccessibleText", true),
+              new String[] {
+                "static javax.accessibility.AccessibleText.SENTENCE",
               })
           .put(
               "ManageReferralControl",
-              new Import[] {
-                new Import("ManageReferralControl", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.ManageReferralControl",
               })
           .put(
               "HTML",
-              new Import[] {
-                new Import("HTML", "javax.swing.text.html", false),
-                new Import("HTML", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "javax.swing.text.html.HTML", "static javax.swing.text.html.HTML.Tag.HTML",
               })
           .put(
               "SUPPLEMENTAL_ARROWS_B",
-              new Import[] {
-                new Import("SUPPLEMENTAL_ARROWS_B", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SUPPLEMENTAL_ARROWS_B",
               })
           .put(
               "TargetDataLine",
-              new Import[] {
-                new Import("TargetDataLine", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.TargetDataLine",
               })
           .put(
               "SPECIFICATION_VERSION",
-              new Import[] {
-                new Import("SPECIFICATION_VERSION", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.SPECIFICATION_VERSION",
               })
           .put(
               "checkedNavigableMap",
-              new Import[] {
-                new Import("checkedNavigableMap", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.checkedNavigableMap",
               })
           .put(
               "SysexMessage",
-              new Import[] {
-                new Import("SysexMessage", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.SysexMessage",
               })
           .put(
               "VK_CONTEXT_MENU",
-              new Import[] {
-                new Import("VK_CONTEXT_MENU", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_CONTEXT_MENU",
               })
           .put(
               "getDefaultAlgorithm",
-              new Import[] {
-                new Import("getDefaultAlgorithm", "javax.net.ssl.KeyManagerFactory", true),
-                new Import("getDefaultAlgorithm", "javax.net.ssl.TrustManagerFactory", true),
+              new String[] {
+                "static javax.net.ssl.KeyManagerFactory.getDefaultAlgorithm",
+                "static javax.net.ssl.TrustManagerFactory.getDefaultAlgorithm",
               })
           .put(
               "BORDER_LEFT_COLOR",
-              new Import[] {
-                new Import("BORDER_LEFT_COLOR", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_LEFT_COLOR",
               })
           .put(
               "Member",
-              new Import[] {
-                new Import("Member", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.Member",
               })
           .put(
               "_dk_ValueMember",
-              new Import[] {
-                new Import("_dk_ValueMember", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_ValueMember",
               })
           .put(
               "DocumentName",
-              new Import[] {
-                new Import("DocumentName", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.DocumentName",
               })
           .put(
               "tan",
-              new Import[] {
-                new Import("tan", "java.lang.Math", true),
-                new Import("tan", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.tan", "static java.lang.StrictMath.tan",
               })
           .put(
               "DISABLED_ICON_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("DISABLED_ICON_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.DISABLED_ICON_CHANGED_PROPERTY",
               })
           .put(
               "NULL",
-              new Import[] {
-                new Import("NULL", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.NULL",
               })
           .put(
               "setLoginTimeout",
-              new Import[] {
-                new Import("setLoginTimeout", "java.sql.DriverManager", true),
+              new String[] {
+                "static java.sql.DriverManager.setLoginTimeout",
               })
           .put(
               "SEPARATOR",
-              new Import[] {
-                new Import("SEPARATOR", "javax.accessibility.AccessibleRole", true),
-                new Import("SEPARATOR", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.SEPARATOR",
+                "static javax.swing.plaf.synth.Region.SEPARATOR",
               })
           .put(
               "ServantNotActiveHelper",
-              new Import[] {
-                new Import("ServantNotActiveHelper", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.ServantNotActiveHelper",
               })
           .put(
               "IORInfo",
-              new Import[] {
-                new Import("IORInfo", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.IORInfo",
               })
           .put(
               "showInternalOptionDialog",
-              new Import[] {
-                new Import("showInternalOptionDialog", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.showInternalOptionDialog",
               })
           .put(
               "PI_DISABLE_OUTPUT_ESCAPING",
-              new Import[] {
-                new Import("PI_DISABLE_OUTPUT_ESCAPING", "javax.xml.transform.Result", true),
+              new String[] {
+                "static javax.xml.transform.Result.PI_DISABLE_OUTPUT_ESCAPING",
               })
           .put(
               "ACTION_COPY",
-              new Import[] {
-                new Import("ACTION_COPY", "java.awt.dnd.DnDConstants", true),
+              new String[] {
+                "static java.awt.dnd.DnDConstants.ACTION_COPY",
               })
           .put(
               "getPrimaryControlInfo",
-              new Import[] {
-                new Import(
-                    "getPrimaryControlInfo", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getPrimaryControlInfo",
               })
           .put(
               "getAlgorithmProperty",
-              new Import[] {
-                new Import("getAlgorithmProperty", "java.security.Security", true),
+              new String[] {
+                "static java.security.Security.getAlgorithmProperty",
               })
           .put(
               "registerEditorKitForContentType",
-              new Import[] {
-                new Import("registerEditorKitForContentType", "javax.swing.JEditorPane", true),
+              new String[] {
+                "static javax.swing.JEditorPane.registerEditorKitForContentType",
               })
           .put(
               "JAXBIntrospector",
-              new Import[] {
-                new Import("JAXBIntrospector", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.JAXBIntrospector",
               })
           .put(
               "MENU_BAR",
-              new Import[] {
-                new Import("MENU_BAR", "javax.accessibility.AccessibleRole", true),
-                new Import("MENU_BAR", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.MENU_BAR",
+                "static javax.swing.plaf.synth.Region.MENU_BAR",
               })
           .put(
               "ValueRange",
-              new Import[] {
-                new Import("ValueRange", "java.time.temporal", false),
+              new String[] {
+                "java.time.temporal.ValueRange",
               })
           .put(
               "TOBOTTOM_TOLEFT",
-              new Import[] {
-                new Import(
-                    "TOBOTTOM_TOLEFT",
-                    "javax.print.attribute.standard.PresentationDirection",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.PresentationDirection.TOBOTTOM_TOLEFT",
               })
           .put(
               "InputMethodContext",
-              new Import[] {
-                new Import("InputMethodContext", "java.awt.im.spi", false),
+              new String[] {
+                "java.awt.im.spi.InputMethodContext",
               })
           .put(
               "_Remote_Stub",
-              new Import[] {
-                new Import("_Remote_Stub", "org.omg.stub.java.rmi", false),
+              new String[] {
+                "org.omg.stub.java.rmi._Remote_Stub",
               })
           .put(
               "CompletionStatusHelper",
-              new Import[] {
-                new Import("CompletionStatusHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.CompletionStatusHelper",
               })
           .put(
               "parseDate",
-              new Import[] {
-                new Import("parseDate", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.parseDate",
               })
           .put(
               "WINDOW_ACTIVATED",
-              new Import[] {
-                new Import("WINDOW_ACTIVATED", "java.awt.event.WindowEvent", true),
+              new String[] {
+                "static java.awt.event.WindowEvent.WINDOW_ACTIVATED",
               })
           .put(
               "VM_TRUNCATABLE",
-              new Import[] {
-                new Import("VM_TRUNCATABLE", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.VM_TRUNCATABLE",
               })
           .put(
               "DRAG_LAYER",
-              new Import[] {
-                new Import("DRAG_LAYER", "javax.swing.JLayeredPane", true),
+              new String[] {
+                "static javax.swing.JLayeredPane.DRAG_LAYER",
               })
           .put(
               "MBeanException",
-              new Import[] {
-                new Import("MBeanException", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanException",
               })
           .put(
               "WIND_NON_ZERO",
-              new Import[] {
-                new Import("WIND_NON_ZERO", "java.awt.geom.Path2D", true),
-                new Import("WIND_NON_ZERO", "java.awt.geom.PathIterator", true),
+              new String[] {
+                "static java.awt.geom.Path2D.WIND_NON_ZERO",
+                "static java.awt.geom.PathIterator.WIND_NON_ZERO",
               })
           .put(
               "ALLOW_UNASSIGNED",
-              new Import[] {
-                new Import("ALLOW_UNASSIGNED", "java.net.IDN", true),
+              new String[] {
+                "static java.net.IDN.ALLOW_UNASSIGNED",
               })
           .put(
               "Chromaticity",
-              new Import[] {
-                new Import("Chromaticity", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.Chromaticity",
               })
           .put(
               "UnsolicitedNotificationListener",
-              new Import[] {
-                new Import("UnsolicitedNotificationListener", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.UnsolicitedNotificationListener",
               })
           .put(
               "verifyCategoryForValue",
-              new Import[] {
-                new Import(
-                    "verifyCategoryForValue", "javax.print.attribute.AttributeSetUtilities", true),
+              new String[] {
+                "static javax.print.attribute.AttributeSetUtilities.verifyCategoryForValue",
               })
           .put(
               "getInternalFrameCloseIcon",
-              new Import[] {
-                new Import(
-                    "getInternalFrameCloseIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getInternalFrameCloseIcon",
               })
           .put(
               "JInternalFrame",
-              new Import[] {
-                new Import("JInternalFrame", "javax.swing", false),
+              new String[] {
+                "javax.swing.JInternalFrame",
               })
           .put(
               "ofTotalSeconds",
-              new Import[] {
-                new Import("ofTotalSeconds", "java.time.ZoneOffset", true),
+              new String[] {
+                "static java.time.ZoneOffset.ofTotalSeconds",
               })
           .put(
               "AbstractFormatterFactory",
-              new Import[] {
-                new Import("AbstractFormatterFactory", "javax.swing.JFormattedTextField", false),
+              new String[] {
+                "javax.swing.JFormattedTextField.AbstractFormatterFactory",
               })
           .put(
               "ElementChange",
-              new Import[] {
-                new Import("ElementChange", "javax.swing.event.DocumentEvent", false),
+              new String[] {
+                "javax.swing.event.DocumentEvent.ElementChange",
               })
           .put(
               "FormView",
-              new Import[] {
-                new Import("FormView", "javax.swing.text.html", false),
+              new String[] {
+                "javax.swing.text.html.FormView",
               })
           .put(
               "Detail",
-              new Import[] {
-                new Import("Detail", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.Detail",
               })
           .put(
               "FileWriter",
-              new Import[] {
-                new Import("FileWriter", "java.io", false),
+              new String[] {
+                "java.io.FileWriter",
               })
           .put(
               "MutableCallSite",
-              new Import[] {
-                new Import("MutableCallSite", "java.lang.invoke", false),
+              new String[] {
+                "java.lang.invoke.MutableCallSite",
               })
           .put(
               "ANY",
-              new Import[] {
-                new Import("ANY", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.ANY",
               })
           .put(
               "PropertyChangeListenerProxy",
-              new Import[] {
-                new Import("PropertyChangeListenerProxy", "java.beans", false),
+              new String[] {
+                "java.beans.PropertyChangeListenerProxy",
               })
           .put(
               "ANCIENT_GREEK_NUMBERS",
-              new Import[] {
-                new Import("ANCIENT_GREEK_NUMBERS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ANCIENT_GREEK_NUMBERS",
               })
           .put(
               "VEDIC_EXTENSIONS",
-              new Import[] {
-                new Import("VEDIC_EXTENSIONS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.VEDIC_EXTENSIONS",
               })
           .put(
               "classModifiers",
-              new Import[] {
-                new Import("classModifiers", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.classModifiers",
               })
           .put(
               "CONTROL_LT_HIGHLIGHT",
-              new Import[] {
-                new Import("CONTROL_LT_HIGHLIGHT", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.CONTROL_LT_HIGHLIGHT",
               })
           .put(
               "KAKU_A4",
-              new Import[] {
-                new Import("KAKU_A4", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.KAKU_A4",
               })
           .put(
               "ObjLongConsumer",
-              new Import[] {
-                new Import("ObjLongConsumer", "java.util.function", false),
+              new String[] {
+                "java.util.function.ObjLongConsumer",
               })
           .put(
               "ResourceBundleControlProvider",
-              new Import[] {
-                new Import("ResourceBundleControlProvider", "java.util.spi", false),
+              new String[] {
+                "java.util.spi.ResourceBundleControlProvider",
               })
           .put(
               "POLICY_NOPLAINTEXT",
-              new Import[] {
-                new Import("POLICY_NOPLAINTEXT", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.POLICY_NOPLAINTEXT",
               })
           .put(
               "B10",
-              new Import[] {
-                new Import("B10", "java.awt.PageAttributes.MediaType", true),
-                new Import("B10", "javax.print.attribute.standard.MediaSize.ISO", true),
-                new Import("B10", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.B10",
+                "static javax.print.attribute.standard.MediaSize.ISO.B10",
+                "static javax.print.attribute.standard.MediaSize.JIS.B10",
               })
           .put(
               "getControlInfo",
-              new Import[] {
-                new Import("getControlInfo", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getControlInfo",
               })
           .put(
               "InputStreamReader",
-              new Import[] {
-                new Import("InputStreamReader", "java.io", false),
+              new String[] {
+                "java.io.InputStreamReader",
               })
           .put(
               "DIRECTIONALITY_LEFT_TO_RIGHT_EMBEDDING",
-              new Import[] {
-                new Import("DIRECTIONALITY_LEFT_TO_RIGHT_EMBEDDING", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_LEFT_TO_RIGHT_EMBEDDING",
               })
           .put(
               "setForeground",
-              new Import[] {
-                new Import("setForeground", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setForeground",
               })
           .put(
               "ENCODING_CDR_ENCAPS",
-              new Import[] {
-                new Import("ENCODING_CDR_ENCAPS", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.ENCODING_CDR_ENCAPS",
               })
           .put(
               "JobHoldUntil",
-              new Import[] {
-                new Import("JobHoldUntil", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobHoldUntil",
               })
           .put(
               "TRACK",
-              new Import[] {
-                new Import("TRACK", "java.awt.event.AdjustmentEvent", true),
+              new String[] {
+                "static java.awt.event.AdjustmentEvent.TRACK",
               })
           .put(
               "ABORTED_BY_SYSTEM",
-              new Import[] {
-                new Import(
-                    "ABORTED_BY_SYSTEM", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.ABORTED_BY_SYSTEM",
               })
           .put(
               "SERIF",
-              new Import[] {
-                new Import("SERIF", "java.awt.Font", true),
+              new String[] {
+                "static java.awt.Font.SERIF",
               })
           .put(
               "MAX_SCROLL",
-              new Import[] {
-                new Import("MAX_SCROLL", "javax.swing.plaf.basic.BasicSliderUI", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicSliderUI.MAX_SCROLL",
               })
           .put(
               "Callback",
-              new Import[] {
-                new Import("Callback", "javax.security.auth.callback", false),
+              new String[] {
+                "javax.security.auth.callback.Callback",
               })
           .put(
               "CLEAR",
-              new Import[] {
-                new Import("CLEAR", "java.awt.AlphaComposite", true),
-                new Import("CLEAR", "javax.swing.text.html.CSS.Attribute", true),
-                new Import("CLEAR", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static java.awt.AlphaComposite.CLEAR",
+                "static javax.swing.text.html.CSS.Attribute.CLEAR",
+                "static javax.swing.text.html.HTML.Attribute.CLEAR",
               })
           .build();
 }
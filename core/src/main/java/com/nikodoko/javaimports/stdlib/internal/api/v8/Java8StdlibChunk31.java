@@ -2,174 +2,170 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk31 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "setDatagramSocketImplFactory",
-              new Import[] {
-                new Import("setDatagramSocketImplFactory", "java.net.DatagramSocket", true),
+              new String[] {
+                "static java.net.DatagramSocket.setDatagramSocketImplFactory",
               })
           .put(
               "FlowStrategy",
-              new Import[] {
-                new Import("FlowStrategy", "javax.swing.text.FlowView", false),
+              new String[] {
+                "javax.swing.text.FlowView.FlowStrategy",
               })
           .put(
               "ImmutableDescriptor",
-              new Import[] {
-                new Import("ImmutableDescriptor", "javax.management", false),
+              new String[] {
+                "javax.management.ImmutableDescriptor",
               })
           .put(
               "SUPERSCRIPT_SUPER",
-              new Import[] {
-                new Import("SUPERSCRIPT_SUPER", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.SUPERSCRIPT_SUPER",
               })
           .put(
               "NO_MORE_EVENTS",
-              new Import[] {
-                new Import("NO_MORE_EVENTS", "javax.print.event.PrintJobEvent", true),
+              new String[] {
+                "static javax.print.event.PrintJobEvent.NO_MORE_EVENTS",
               })
           .put(
               "XmlTransient",
-              new Import[] {
-                new Import("XmlTransient", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlTransient",
               })
           .put(
               "selectionBeginAction",
-              new Import[] {
-                new Import("selectionBeginAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectionBeginAction",
               })
           .put(
               "Engineering",
-              new Import[] {
-                new Import("Engineering", "javax.print.attribute.standard.MediaSize", false),
+              new String[] {
+                "javax.print.attribute.standard.MediaSize.Engineering",
               })
           .put(
               "DynAnyFactoryHelper",
-              new Import[] {
-                new Import("DynAnyFactoryHelper", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynAnyFactoryHelper",
               })
           .put(
               "newAudioClip",
-              new Import[] {
-                new Import("newAudioClip", "java.applet.Applet", true),
+              new String[] {
+                "static java.applet.Applet.newAudioClip",
               })
           .put(
               "TEXT_NODE",
-              new Import[] {
-                new Import("TEXT_NODE", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.TEXT_NODE",
               })
           .put(
               "ACTION_NONE",
-              new Import[] {
-                new Import("ACTION_NONE", "java.awt.dnd.DnDConstants", true),
+              new String[] {
+                "static java.awt.dnd.DnDConstants.ACTION_NONE",
               })
           .put(
               "_tk_longdouble",
-              new Import[] {
-                new Import("_tk_longdouble", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_longdouble",
               })
           .put(
               "XMLReader",
-              new Import[] {
-                new Import("XMLReader", "org.xml.sax", false),
+              new String[] {
+                "org.xml.sax.XMLReader",
               })
           .put(
               "DATE_FIELD",
-              new Import[] {
-                new Import("DATE_FIELD", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.DATE_FIELD",
               })
           .put(
               "endLineAction",
-              new Import[] {
-                new Import("endLineAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.endLineAction",
               })
           .put(
               "ConcurrentSkipListSet",
-              new Import[] {
-                new Import("ConcurrentSkipListSet", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ConcurrentSkipListSet",
               })
           .put(
               "NoType",
-              new Import[] {
-                new Import("NoType", "javax.lang.model.type", false),
+              new String[] {
+                "javax.lang.model.type.NoType",
               })
           .put(
               "getTabbedTextWidth",
-              new Import[] {
-                new Import("getTabbedTextWidth", "javax.swing.text.Utilities", true),
+              new String[] {
+                "static javax.swing.text.Utilities.getTabbedTextWidth",
               })
           .put(
               "_dk_Struct",
-              new Import[] {
-                new Import("_dk_Struct", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Struct",
               })
           .put(
               "Exception",
-              new Import[] {
-                new Import("Exception", "java.lang", false),
+              new String[] {
+                "java.lang.Exception",
               })
           .put(
               "BigDecimal",
-              new Import[] {
-                new Import("BigDecimal", "java.math", false),
+              new String[] {
+                "java.math.BigDecimal",
               })
           .put(
               "userNodeForPackage",
-              new Import[] {
-                new Import("userNodeForPackage", "java.util.prefs.Preferences", true),
+              new String[] {
+                "static java.util.prefs.Preferences.userNodeForPackage",
               })
           .put(
               "EXPANDABLE",
-              new Import[] {
-                new Import("EXPANDABLE", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.EXPANDABLE",
               })
           .put(
               "ShortMessage",
-              new Import[] {
-                new Import("ShortMessage", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.ShortMessage",
               })
           .put(
               "SrcAtop",
-              new Import[] {
-                new Import("SrcAtop", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.SrcAtop",
               })
           .put(
               "MAX_KEY_LENGTH",
-              new Import[] {
-                new Import("MAX_KEY_LENGTH", "java.util.prefs.Preferences", true),
+              new String[] {
+                "static java.util.prefs.Preferences.MAX_KEY_LENGTH",
               })
           .put(
               "PrintJobAdapter",
-              new Import[] {
-                new Import("PrintJobAdapter", "javax.print.event", false),
+              new String[] {
+                "javax.print.event.PrintJobAdapter",
               })
           .put(
               "ROOT_PANE_PROPERTY",
-              new Import[] {
-                new Import("ROOT_PANE_PROPERTY", "javax.swing.JInternalFrame", true),
+              new String[] {
+                "static javax.swing.JInternalFrame.ROOT_PANE_PROPERTY",
               })
           .put(
               "ACCEPTING_JOBS",
-              new Import[] {
-                new Import(
-                    "ACCEPTING_JOBS",
-                    "javax.print.attribute.standard.PrinterIsAcceptingJobs",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterIsAcceptingJobs.ACCEPTING_JOBS",
               })
           .put(
               "NULL_ATTRIBUTE_VALUE",
-              new Import[] {
-                new Import("NULL_ATTRIBUTE_VALUE", "javax.swing.text.html.HTML", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.NULL_ATTRIBUTE_VALUE",
               })
           .put(
               "icICCAbsoluteColorimetric",
-              new Import[] {
-                new Import("icICCAbsoluteColorimetric", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icICCAbsoluteColorimetric",
               })
           .build();
 }
@@ -2,1585 +2,1559 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk4 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "icHdrIlluminant",
-              new Import[] {
-                new Import("icHdrIlluminant", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrIlluminant",
               })
           .put(
               "NO_PROXY",
-              new Import[] {
-                new Import("NO_PROXY", "java.net.Proxy", true),
+              new String[] {
+                "static java.net.Proxy.NO_PROXY",
               })
           .put(
               "CallbackHandler",
-              new Import[] {
-                new Import("CallbackHandler", "javax.security.auth.callback", false),
+              new String[] {
+                "javax.security.auth.callback.CallbackHandler",
               })
           .put(
               "FRAME_ICON_PROPERTY",
-              new Import[] {
-                new Import("FRAME_ICON_PROPERTY", "javax.swing.JInternalFrame", true),
+              new String[] {
+                "static javax.swing.JInternalFrame.FRAME_ICON_PROPERTY",
               })
           .put(
               "OUT_TOP",
-              new Import[] {
-                new Import("OUT_TOP", "java.awt.geom.Rectangle2D", true),
+              new String[] {
+                "static java.awt.geom.Rectangle2D.OUT_TOP",
               })
           .put(
               "MinguoEra",
-              new Import[] {
-                new Import("MinguoEra", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.MinguoEra",
               })
           .put(
               "BC",
-              new Import[] {
-                new Import("BC", "java.util.GregorianCalendar", true),
+              new String[] {
+                "static java.util.GregorianCalendar.BC",
               })
           .put(
               "SOUTHWEST",
-              new Import[] {
-                new Import("SOUTHWEST", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.SOUTHWEST",
               })
           .put(
               "_INACTIVE",
-              new Import[] {
-                new Import("_INACTIVE", "org.omg.PortableServer.POAManagerPackage.State", true),
+              new String[] {
+                "static org.omg.PortableServer.POAManagerPackage.State._INACTIVE",
               })
           .put(
               "decapitalize",
-              new Import[] {
-                new Import("decapitalize", "java.beans.Introspector", true),
+              new String[] {
+                "static java.beans.Introspector.decapitalize",
               })
           .put(
               "createLoweredSoftBevelBorder",
-              new Import[] {
-                new Import("createLoweredSoftBevelBorder", "javax.swing.BorderFactory", true),
+              new String[] {
+                "static javax.swing.BorderFactory.createLoweredSoftBevelBorder",
               })
           .put(
               "C0",
-              new Import[] {
-                new Import("C0", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.C0",
               })
           .put(
               "HALFWIDTH_KATAKANA",
-              new Import[] {
-                new Import("HALFWIDTH_KATAKANA", "java.awt.im.InputSubset", true),
+              new String[] {
+                "static java.awt.im.InputSubset.HALFWIDTH_KATAKANA",
               })
           .put(
               "IS_SELECTED_PROPERTY",
-              new Import[] {
-                new Import("IS_SELECTED_PROPERTY", "javax.swing.JInternalFrame", true),
+              new String[] {
+                "static javax.swing.JInternalFrame.IS_SELECTED_PROPERTY",
               })
           .put(
               "C1",
-              new Import[] {
-                new Import("C1", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.C1",
               })
           .put(
               "PREVIOUS",
-              new Import[] {
-                new Import("PREVIOUS", "javax.swing.SwingConstants", true),
+              new String[] {
+                "static javax.swing.SwingConstants.PREVIOUS",
               })
           .put(
               "C2",
-              new Import[] {
-                new Import("C2", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.C2",
               })
           .put(
               "Collator",
-              new Import[] {
-                new Import("Collator", "java.text", false),
+              new String[] {
+                "java.text.Collator",
               })
           .put(
               "C3",
-              new Import[] {
-                new Import("C3", "java.awt.PageAttributes.MediaType", true),
-                new Import("C3", "javax.print.attribute.standard.MediaSize.ISO", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.C3",
+                "static javax.print.attribute.standard.MediaSize.ISO.C3",
               })
           .put(
               "BR",
-              new Import[] {
-                new Import("BR", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.BR",
               })
           .put(
               "C4",
-              new Import[] {
-                new Import("C4", "java.awt.PageAttributes.MediaType", true),
-                new Import("C4", "javax.print.attribute.standard.MediaSize.ISO", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.C4",
+                "static javax.print.attribute.standard.MediaSize.ISO.C4",
               })
           .put(
               "C5",
-              new Import[] {
-                new Import("C5", "java.awt.PageAttributes.MediaType", true),
-                new Import("C5", "javax.print.attribute.standard.MediaSize.ISO", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.C5",
+                "static javax.print.attribute.standard.MediaSize.ISO.C5",
               })
           .put(
               "C6",
-              new Import[] {
-                new Import("C6", "java.awt.PageAttributes.MediaType", true),
-                new Import("C6", "javax.print.attribute.standard.MediaSize.ISO", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.C6",
+                "static javax.print.attribute.standard.MediaSize.ISO.C6",
               })
           .put(
               "createHTMLView",
-              new Import[] {
-                new Import("createHTMLView", "javax.swing.plaf.basic.BasicHTML", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicHTML.createHTMLView",
               })
           .put(
               "C7",
-              new Import[] {
-                new Import("C7", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.C7",
               })
           .put(
               "C8",
-              new Import[] {
-                new Import("C8", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.C8",
               })
           .put(
               "INVALID_CHARACTER_ERR",
-              new Import[] {
-                new Import("INVALID_CHARACTER_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.INVALID_CHARACTER_ERR",
               })
           .put(
               "C9",
-              new Import[] {
-                new Import("C9", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.C9",
               })
           .put(
               "NA_10x13_ENVELOPE",
-              new Import[] {
-                new Import(
-                    "NA_10x13_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.NA.NA_10x13_ENVELOPE",
               })
           .put(
               "SHOWA",
-              new Import[] {
-                new Import("SHOWA", "java.time.chrono.JapaneseEra", true),
+              new String[] {
+                "static java.time.chrono.JapaneseEra.SHOWA",
               })
           .put(
               "PCM_UNSIGNED",
-              new Import[] {
-                new Import("PCM_UNSIGNED", "javax.sound.sampled.AudioFormat.Encoding", true),
+              new String[] {
+                "static javax.sound.sampled.AudioFormat.Encoding.PCM_UNSIGNED",
               })
           .put(
               "CONVERTED_TEXT",
-              new Import[] {
-                new Import("CONVERTED_TEXT", "java.awt.im.InputMethodHighlight", true),
+              new String[] {
+                "static java.awt.im.InputMethodHighlight.CONVERTED_TEXT",
               })
           .put(
               "ControlFactory",
-              new Import[] {
-                new Import("ControlFactory", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.ControlFactory",
               })
           .put(
               "CHARACTER",
-              new Import[] {
-                new Import("CHARACTER", "javax.accessibility.AccessibleText", true),
-                new Import("CHARACTER", "javax.management.openmbean.SimpleType", true),
+              new String[] {
+                "static javax.accessibility.AccessibleText.CHARACTER",
+                "static javax.management.openmbean.SimpleType.CHARACTER",
               })
           .put(
               "CertPathBuilder",
-              new Import[] {
-                new Import("CertPathBuilder", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertPathBuilder",
               })
           .put(
               "ROWSET_SYNC_PROVIDER",
-              new Import[] {
-                new Import("ROWSET_SYNC_PROVIDER", "javax.sql.rowset.spi.SyncFactory", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncFactory.ROWSET_SYNC_PROVIDER",
               })
           .put(
               "ARG_IN",
-              new Import[] {
-                new Import("ARG_IN", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ARG_IN",
               })
           .put(
               "AbstractSet",
-              new Import[] {
-                new Import("AbstractSet", "java.util", false),
+              new String[] {
+                "java.util.AbstractSet",
               })
           .put(
               "DIR",
-              new Import[] {
-                new Import("DIR", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("DIR", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.DIR",
+                "static javax.swing.text.html.HTML.Tag.DIR",
               })
           .put(
               "STANDARD_OUTPUT_TYPE",
-              new Import[] {
-                new Import("STANDARD_OUTPUT_TYPE", "javax.imageio.spi.ImageWriterSpi", true),
+              new String[] {
+                "static javax.imageio.spi.ImageWriterSpi.STANDARD_OUTPUT_TYPE",
               })
           .put(
               "WebEndpoint",
-              new Import[] {
-                new Import("WebEndpoint", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.WebEndpoint",
               })
           .put(
               "DIV",
-              new Import[] {
-                new Import("DIV", "javax.management.Query", true),
-                new Import("DIV", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.management.Query.DIV", "static javax.swing.text.html.HTML.Tag.DIV",
               })
           .put(
               "Tie",
-              new Import[] {
-                new Import("Tie", "javax.rmi.CORBA", false),
+              new String[] {
+                "javax.rmi.CORBA.Tie",
               })
           .put(
               "MultipleDocumentHandlingType",
-              new Import[] {
-                new Import("MultipleDocumentHandlingType", "java.awt.JobAttributes", false),
+              new String[] {
+                "java.awt.JobAttributes.MultipleDocumentHandlingType",
               })
           .put(
               "DynValueHelper",
-              new Import[] {
-                new Import("DynValueHelper", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynValueHelper",
               })
           .put(
               "WINDOW_FIRST",
-              new Import[] {
-                new Import("WINDOW_FIRST", "java.awt.event.WindowEvent", true),
+              new String[] {
+                "static java.awt.event.WindowEvent.WINDOW_FIRST",
               })
           .put(
               "KeyListener",
-              new Import[] {
-                new Import("KeyListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.KeyListener",
               })
           .put(
               "_BindingIteratorImplBase",
-              new Import[] {
-                new Import("_BindingIteratorImplBase", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming._BindingIteratorImplBase",
               })
           .put(
               "averagingInt",
-              new Import[] {
-                new Import("averagingInt", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.averagingInt",
               })
           .put(
               "VoiceStatus",
-              new Import[] {
-                new Import("VoiceStatus", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.VoiceStatus",
               })
           .put(
               "CANCEL_SELECTION",
-              new Import[] {
-                new Import("CANCEL_SELECTION", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.CANCEL_SELECTION",
               })
           .put(
               "DD",
-              new Import[] {
-                new Import("DD", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.DD",
               })
           .put(
               "ComponentListener",
-              new Import[] {
-                new Import("ComponentListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.ComponentListener",
               })
           .put(
               "VALUE_TEXT_ANTIALIAS_LCD_VRGB",
-              new Import[] {
-                new Import("VALUE_TEXT_ANTIALIAS_LCD_VRGB", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_VRGB",
               })
           .put(
               "SAAJMetaFactory",
-              new Import[] {
-                new Import("SAAJMetaFactory", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SAAJMetaFactory",
               })
           .put(
               "TextArea",
-              new Import[] {
-                new Import("TextArea", "java.awt", false),
+              new String[] {
+                "java.awt.TextArea",
               })
           .put(
               "DL",
-              new Import[] {
-                new Import("DL", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.DL",
               })
           .put(
               "PBEKey",
-              new Import[] {
-                new Import("PBEKey", "javax.crypto.interfaces", false),
+              new String[] {
+                "javax.crypto.interfaces.PBEKey",
               })
           .put(
               "NumberUp",
-              new Import[] {
-                new Import("NumberUp", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.NumberUp",
               })
           .put(
               "DT",
-              new Import[] {
-                new Import("DT", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.DT",
               })
           .put(
               "IRObject",
-              new Import[] {
-                new Import("IRObject", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.IRObject",
               })
           .put(
               "AREA",
-              new Import[] {
-                new Import("AREA", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.AREA",
               })
           .put(
               "tableIndexStatistic",
-              new Import[] {
-                new Import("tableIndexStatistic", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.tableIndexStatistic",
               })
           .put(
               "NameHelper",
-              new Import[] {
-                new Import("NameHelper", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.NameHelper",
               })
           .put(
               "DATA_TRANSFER_COMPLETE",
-              new Import[] {
-                new Import("DATA_TRANSFER_COMPLETE", "javax.print.event.PrintJobEvent", true),
+              new String[] {
+                "static javax.print.event.PrintJobEvent.DATA_TRANSFER_COMPLETE",
               })
           .put(
               "getLeftIndent",
-              new Import[] {
-                new Import("getLeftIndent", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.getLeftIndent",
               })
           .put(
               "printQName",
-              new Import[] {
-                new Import("printQName", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printQName",
               })
           .put(
               "ProgressMonitorInputStream",
-              new Import[] {
-                new Import("ProgressMonitorInputStream", "javax.swing", false),
+              new String[] {
+                "javax.swing.ProgressMonitorInputStream",
               })
           .put(
               "DefaultHandler2",
-              new Import[] {
-                new Import("DefaultHandler2", "org.xml.sax.ext", false),
+              new String[] {
+                "org.xml.sax.ext.DefaultHandler2",
               })
           .put(
               "COVER_OPEN",
-              new Import[] {
-                new Import("COVER_OPEN", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.COVER_OPEN",
               })
           .put(
               "PKIXBuilderParameters",
-              new Import[] {
-                new Import("PKIXBuilderParameters", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.PKIXBuilderParameters",
               })
           .put(
               "NT_HOSTBASED_SERVICE",
-              new Import[] {
-                new Import("NT_HOSTBASED_SERVICE", "org.ietf.jgss.GSSName", true),
+              new String[] {
+                "static org.ietf.jgss.GSSName.NT_HOSTBASED_SERVICE",
               })
           .put(
               "CannotRedoException",
-              new Import[] {
-                new Import("CannotRedoException", "javax.swing.undo", false),
+              new String[] {
+                "javax.swing.undo.CannotRedoException",
               })
           .put(
               "STAPLE_TOP_RIGHT",
-              new Import[] {
-                new Import("STAPLE_TOP_RIGHT", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.STAPLE_TOP_RIGHT",
               })
           .put(
               "EM",
-              new Import[] {
-                new Import("EM", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.EM",
               })
           .put(
               "F0",
-              new Import[] {
-                new Import("F0", "java.security.spec.RSAKeyGenParameterSpec", true),
+              new String[] {
+                "static java.security.spec.RSAKeyGenParameterSpec.F0",
               })
           .put(
               "F1",
-              new Import[] {
-                new Import("F1", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.F1",
               })
           .put(
               "F2",
-              new Import[] {
-                new Import("F2", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.F2",
               })
           .put(
               "EQ",
-              new Import[] {
-                new Import("EQ", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.EQ",
               })
           .put(
               "F3",
-              new Import[] {
-                new Import("F3", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.F3",
               })
           .put(
               "F4",
-              new Import[] {
-                new Import("F4", "java.awt.Event", true),
-                new Import("F4", "java.security.spec.RSAKeyGenParameterSpec", true),
+              new String[] {
+                "static java.awt.Event.F4", "static java.security.spec.RSAKeyGenParameterSpec.F4",
               })
           .put(
               "F5",
-              new Import[] {
-                new Import("F5", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.F5",
               })
           .put(
               "F6",
-              new Import[] {
-                new Import("F6", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.F6",
               })
           .put(
               "KRB_NT_SRV_HST",
-              new Import[] {
-                new Import(
-                    "KRB_NT_SRV_HST", "javax.security.auth.kerberos.KerberosPrincipal", true),
+              new String[] {
+                "static javax.security.auth.kerberos.KerberosPrincipal.KRB_NT_SRV_HST",
               })
           .put(
               "F7",
-              new Import[] {
-                new Import("F7", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.F7",
               })
           .put(
               "latestSupported",
-              new Import[] {
-                new Import("latestSupported", "javax.lang.model.SourceVersion", true),
+              new String[] {
+                "static javax.lang.model.SourceVersion.latestSupported",
               })
           .put(
               "F8",
-              new Import[] {
-                new Import("F8", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.F8",
               })
           .put(
               "ZipInputStream",
-              new Import[] {
-                new Import("ZipInputStream", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.ZipInputStream",
               })
           .put(
               "dk_Attribute",
-              new Import[] {
-                new Import("dk_Attribute", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Attribute",
               })
           .put(
               "F9",
-              new Import[] {
-                new Import("F9", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.F9",
               })
           .put(
               "ParameterBlock",
-              new Import[] {
-                new Import("ParameterBlock", "java.awt.image.renderable", false),
+              new String[] {
+                "java.awt.image.renderable.ParameterBlock",
               })
           .put(
               "icHdrDate",
-              new Import[] {
-                new Import("icHdrDate", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrDate",
               })
           .put(
               "SCROLL_END",
-              new Import[] {
-                new Import("SCROLL_END", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.SCROLL_END",
               })
           .put(
               "DECLARED",
-              new Import[] {
-                new Import("DECLARED", "java.lang.reflect.Member", true),
+              new String[] {
+                "static java.lang.reflect.Member.DECLARED",
               })
           .put(
               "SIMPLE_SCROLL_MODE",
-              new Import[] {
-                new Import("SIMPLE_SCROLL_MODE", "javax.swing.JViewport", true),
+              new String[] {
+                "static javax.swing.JViewport.SIMPLE_SCROLL_MODE",
               })
           .put(
               "SizeRequirements",
-              new Import[] {
-                new Import("SizeRequirements", "javax.swing", false),
+              new String[] {
+                "javax.swing.SizeRequirements",
               })
           .put(
               "tk_float",
-              new Import[] {
-                new Import("tk_float", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_float",
               })
           .put(
               "ACTION_REPLACE",
-              new Import[] {
-                new Import("ACTION_REPLACE", "org.w3c.dom.ls.LSParser", true),
+              new String[] {
+                "static org.w3c.dom.ls.LSParser.ACTION_REPLACE",
               })
           .put(
               "SEPARATE_DOCUMENTS_UNCOLLATED_COPIES",
-              new Import[] {
-                new Import(
-                    "SEPARATE_DOCUMENTS_UNCOLLATED_COPIES",
-                    "java.awt.JobAttributes.MultipleDocumentHandlingType",
-                    true),
-                new Import(
-                    "SEPARATE_DOCUMENTS_UNCOLLATED_COPIES",
-                    "javax.print.attribute.standard.MultipleDocumentHandling",
-                    true),
+              new String[] {
+                "static"
+                    + " java.awt.JobAttributes.MultipleDocumentHandlingType.SEPARATE_DOCUMENTS_UNCOLLATED_COPIES",
+                "static"
+                    + " javax.print.attribute.standard.MultipleDocumentHandling.SEPARATE_DOCUMENTS_UNCOLLATED_COPIES",
               })
           .put(
               "icSigOutputResponseTag",
-              new Import[] {
-                new Import("icSigOutputResponseTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigOutputResponseTag",
               })
           .put(
               "RuntimeMBeanException",
-              new Import[] {
-                new Import("RuntimeMBeanException", "javax.management", false),
+              new String[] {
+                "javax.management.RuntimeMBeanException",
               })
           .put(
               "TableColumnModelListener",
-              new Import[] {
-                new Import("TableColumnModelListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.TableColumnModelListener",
               })
           .put(
               "TYPE_CMY",
-              new Import[] {
-                new Import("TYPE_CMY", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_CMY",
               })
           .put(
               "getDouble",
-              new Import[] {
-                new Import("getDouble", "java.lang.reflect.Array", true),
+              new String[] {
+                "static java.lang.reflect.Array.getDouble",
               })
           .put(
               "LinearGradientPaint",
-              new Import[] {
-                new Import("LinearGradientPaint", "java.awt", false),
+              new String[] {
+                "java.awt.LinearGradientPaint",
               })
           .put(
               "NumberUpSupported",
-              new Import[] {
-                new Import("NumberUpSupported", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.NumberUpSupported",
               })
           .put(
               "FUSER_UNDER_TEMP",
-              new Import[] {
-                new Import(
-                    "FUSER_UNDER_TEMP", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.FUSER_UNDER_TEMP",
               })
           .put(
               "PopupMenuEvent",
-              new Import[] {
-                new Import("PopupMenuEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.PopupMenuEvent",
               })
           .put(
               "PanelUI",
-              new Import[] {
-                new Import("PanelUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.PanelUI",
               })
           .put(
               "Signer",
-              new Import[] {
-                new Import("Signer", "java.security", false),
+              new String[] {
+                "java.security.Signer",
               })
           .put(
               "getDragThreshold",
-              new Import[] {
-                new Import("getDragThreshold", "java.awt.dnd.DragSource", true),
+              new String[] {
+                "static java.awt.dnd.DragSource.getDragThreshold",
               })
           .put(
               "IllegalClassFormatException",
-              new Import[] {
-                new Import("IllegalClassFormatException", "java.lang.instrument", false),
+              new String[] {
+                "java.lang.instrument.IllegalClassFormatException",
               })
           .put(
               "BRAILLE_PATTERNS",
-              new Import[] {
-                new Import("BRAILLE_PATTERNS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.BRAILLE_PATTERNS",
               })
           .put(
               "TREE_CELL",
-              new Import[] {
-                new Import("TREE_CELL", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.TREE_CELL",
               })
           .put(
               "pageDownAction",
-              new Import[] {
-                new Import("pageDownAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.pageDownAction",
               })
           .put(
               "WINDOW_LOST_FOCUS",
-              new Import[] {
-                new Import("WINDOW_LOST_FOCUS", "java.awt.event.WindowEvent", true),
+              new String[] {
+                "static java.awt.event.WindowEvent.WINDOW_LOST_FOCUS",
               })
           .put(
               "ViewportLayout",
-              new Import[] {
-                new Import("ViewportLayout", "javax.swing", false),
+              new String[] {
+                "javax.swing.ViewportLayout",
               })
           .put(
               "HIGH_PRIVATE_USE_SURROGATES",
-              new Import[] {
-                new Import("HIGH_PRIVATE_USE_SURROGATES", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.HIGH_PRIVATE_USE_SURROGATES",
               })
           .put(
               "lines",
-              new Import[] {
-                new Import("lines", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.lines",
               })
           .put(
               "BasicComboPopup",
-              new Import[] {
-                new Import("BasicComboPopup", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicComboPopup",
               })
           .put(
               "codePointCount",
-              new Import[] {
-                new Import("codePointCount", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.codePointCount",
               })
           .put(
               "unquote",
-              new Import[] {
-                new Import("unquote", "javax.management.ObjectName", true),
+              new String[] {
+                "static javax.management.ObjectName.unquote",
               })
           .put(
               "GE",
-              new Import[] {
-                new Import("GE", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.GE",
               })
           .put(
               "STRING_TO_COMPARE_VALUE_MATCHED",
-              new Import[] {
-                new Import(
-                    "STRING_TO_COMPARE_VALUE_MATCHED",
-                    "javax.management.monitor.MonitorNotification",
-                    true),
+              new String[] {
+                "static"
+                    + " javax.management.monitor.MonitorNotification.STRING_TO_COMPARE_VALUE_MATCHED",
               })
           .put(
               "Condition",
-              new Import[] {
-                new Import("Condition", "java.util.concurrent.locks", false),
+              new String[] {
+                "java.util.concurrent.locks.Condition",
               })
           .put(
               "DURATION_YEARMONTH",
-              new Import[] {
-                new Import("DURATION_YEARMONTH", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.DURATION_YEARMONTH",
               })
           .put(
               "TMRESUME",
-              new Import[] {
-                new Import("TMRESUME", "javax.transaction.xa.XAResource", true),
+              new String[] {
+                "static javax.transaction.xa.XAResource.TMRESUME",
               })
           .put(
               "TC_CLASSDESC",
-              new Import[] {
-                new Import("TC_CLASSDESC", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_CLASSDESC",
               })
           .put(
               "CONTEXT_EXPIRED",
-              new Import[] {
-                new Import("CONTEXT_EXPIRED", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.CONTEXT_EXPIRED",
               })
           .put(
               "H1",
-              new Import[] {
-                new Import("H1", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.H1",
               })
           .put(
               "H2",
-              new Import[] {
-                new Import("H2", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.H2",
               })
           .put(
               "H3",
-              new Import[] {
-                new Import("H3", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.H3",
               })
           .put(
               "OPEN_DIALOG",
-              new Import[] {
-                new Import("OPEN_DIALOG", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.OPEN_DIALOG",
               })
           .put(
               "MESSAGE_TYPE_PROPERTY",
-              new Import[] {
-                new Import("MESSAGE_TYPE_PROPERTY", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.MESSAGE_TYPE_PROPERTY",
               })
           .put(
               "H4",
-              new Import[] {
-                new Import("H4", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.H4",
               })
           .put(
               "RetentionPolicy",
-              new Import[] {
-                new Import("RetentionPolicy", "java.lang.annotation", false),
+              new String[] {
+                "java.lang.annotation.RetentionPolicy",
               })
           .put(
               "GT",
-              new Import[] {
-                new Import("GT", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.GT",
               })
           .put(
               "H5",
-              new Import[] {
-                new Import("H5", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.H5",
               })
           .put(
               "H6",
-              new Import[] {
-                new Import("H6", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.H6",
               })
           .put(
               "BAD_CONTEXT",
-              new Import[] {
-                new Import("BAD_CONTEXT", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.BAD_CONTEXT",
               })
           .put(
               "SHORT",
-              new Import[] {
-                new Import("SHORT", "java.text.DateFormat", true),
-                new Import("SHORT", "java.util.Calendar", true),
-                new Import("SHORT", "java.util.TimeZone", true),
-                new Import("SHORT", "javax.management.openmbean.SimpleType", true),
+              new String[] {
+                "static java.text.DateFormat.SHORT",
+                "static java.util.Calendar.SHORT",
+                "static java.util.TimeZone.SHORT",
+                "static javax.management.openmbean.SimpleType.SHORT",
               })
           .put(
               "THRESHOLD_HIGH_VALUE_EXCEEDED",
-              new Import[] {
-                new Import(
-                    "THRESHOLD_HIGH_VALUE_EXCEEDED",
-                    "javax.management.monitor.MonitorNotification",
-                    true),
+              new String[] {
+                "static javax.management.monitor.MonitorNotification.THRESHOLD_HIGH_VALUE_EXCEEDED",
               })
           .put(
               "HTMLTextAction",
-              new Import[] {
-                new Import("HTMLTextAction", "javax.swing.text.html.HTMLEditorKit", false),
+              new String[] {
+                "javax.swing.text.html.HTMLEditorKit.HTMLTextAction",
               })
           .put(
               "BORDER_TOP_STYLE",
-              new Import[] {
-                new Import("BORDER_TOP_STYLE", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_TOP_STYLE",
               })
           .put(
               "CJK_STROKES",
-              new Import[] {
-                new Import("CJK_STROKES", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CJK_STROKES",
               })
           .put(
               "START",
-              new Import[] {
-                new Import("START", "javax.sound.midi.ShortMessage", true),
-                new Import("START", "javax.sound.sampled.LineEvent.Type", true),
-                new Import("START", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.START",
+                "static javax.sound.sampled.LineEvent.Type.START",
+                "static javax.swing.text.html.HTML.Attribute.START",
               })
           .put(
               "TYPE_4CLR",
-              new Import[] {
-                new Import("TYPE_4CLR", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_4CLR",
               })
           .put(
               "_tk_string",
-              new Import[] {
-                new Import("_tk_string", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_string",
               })
           .put(
               "BAD_MIC",
-              new Import[] {
-                new Import("BAD_MIC", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.BAD_MIC",
               })
           .put(
               "ARGV",
-              new Import[] {
-                new Import("ARGV", "javax.script.ScriptEngine", true),
+              new String[] {
+                "static javax.script.ScriptEngine.ARGV",
               })
           .put(
               "Enum",
-              new Import[] {
-                new Import("Enum", "java.lang", false),
+              new String[] {
+                "java.lang.Enum",
               })
           .put(
               "LOWER_TRAILING_CORNER",
-              new Import[] {
-                new Import("LOWER_TRAILING_CORNER", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.LOWER_TRAILING_CORNER",
               })
           .put(
               "exportObject",
-              new Import[] {
-                new Import("exportObject", "java.rmi.activation.Activatable", true),
-                new Import("exportObject", "java.rmi.server.UnicastRemoteObject", true),
-                new Import("exportObject", "javax.rmi.PortableRemoteObject", true),
+              new String[] {
+                "static java.rmi.activation.Activatable.exportObject",
+                "static java.rmi.server.UnicastRemoteObject.exportObject",
+                "static javax.rmi.PortableRemoteObject.exportObject",
               })
           .put(
               "getMidiDevice",
-              new Import[] {
-                new Import("getMidiDevice", "javax.sound.midi.MidiSystem", true),
+              new String[] {
+                "static javax.sound.midi.MidiSystem.getMidiDevice",
               })
           .put(
               "HR",
-              new Import[] {
-                new Import("HR", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.HR",
               })
           .put(
               "MBeanServerPermission",
-              new Import[] {
-                new Import("MBeanServerPermission", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanServerPermission",
               })
           .put(
               "getSplitPaneBorder",
-              new Import[] {
-                new Import("getSplitPaneBorder", "javax.swing.plaf.basic.BasicBorders", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicBorders.getSplitPaneBorder",
               })
           .put(
               "CharacterAttribute",
-              new Import[] {
-                new Import("CharacterAttribute", "javax.swing.text.AttributeSet", false),
+              new String[] {
+                "javax.swing.text.AttributeSet.CharacterAttribute",
               })
           .put(
               "VK_OPEN_BRACKET",
-              new Import[] {
-                new Import("VK_OPEN_BRACKET", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_OPEN_BRACKET",
               })
           .put(
               "MultiColorChooserUI",
-              new Import[] {
-                new Import("MultiColorChooserUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiColorChooserUI",
               })
           .put(
               "narrow",
-              new Import[] {
-                new Import("narrow", "javax.rmi.PortableRemoteObject", true),
-                new Import("narrow", "org.omg.CORBA.CurrentHelper", true),
-                new Import("narrow", "org.omg.CORBA.IDLTypeHelper", true),
-                new Import("narrow", "org.omg.CORBA.PolicyHelper", true),
-                new Import("narrow", "org.omg.CosNaming.BindingIteratorHelper", true),
-                new Import("narrow", "org.omg.CosNaming.NamingContextExtHelper", true),
-                new Import("narrow", "org.omg.CosNaming.NamingContextHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynAnyFactoryHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynAnyHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynArrayHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynEnumHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynFixedHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynSequenceHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynStructHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynUnionHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynValueHelper", true),
-                new Import("narrow", "org.omg.IOP.CodecFactoryHelper", true),
-                new Import("narrow", "org.omg.PortableInterceptor.CurrentHelper", true),
-                new Import("narrow", "org.omg.PortableInterceptor.IORInterceptor_3_0Helper", true),
-                new Import("narrow", "org.omg.PortableServer.CurrentHelper", true),
-                new Import("narrow", "org.omg.PortableServer.POAHelper", true),
-                new Import("narrow", "org.omg.PortableServer.ServantActivatorHelper", true),
-                new Import("narrow", "org.omg.PortableServer.ServantLocatorHelper", true),
+              new String[] {
+                "static javax.rmi.PortableRemoteObject.narrow",
+                "static org.omg.CORBA.CurrentHelper.narrow",
+                "static org.omg.CORBA.IDLTypeHelper.narrow",
+                "static org.omg.CORBA.PolicyHelper.narrow",
+                "static org.omg.CosNaming.BindingIteratorHelper.narrow",
+                "static org.omg.CosNaming.NamingContextExtHelper.narrow",
+                "static org.omg.CosNaming.NamingContextHelper.narrow",
+                "static org.omg.DynamicAny.DynAnyFactoryHelper.narrow",
+                "static org.omg.DynamicAny.DynAnyHelper.narrow",
+                "static org.omg.DynamicAny.DynArrayHelper.narrow",
+                "static org.omg.DynamicAny.DynEnumHelper.narrow",
+                "static org.omg.DynamicAny.DynFixedHelper.narrow",
+                "static org.omg.DynamicAny.DynSequenceHelper.narrow",
+                "static org.omg.DynamicAny.DynStructHelper.narrow",
+                "static org.omg.DynamicAny.DynUnionHelper.narrow",
+                "static org.omg.DynamicAny.DynValueHelper.narrow",
+                "static org.omg.IOP.CodecFactoryHelper.narrow",
+                "static org.omg.PortableInterceptor.CurrentHelper.narrow",
+                "static org.omg.PortableInterceptor.IORInterceptor_3_0Helper.narrow",
+                "static org.omg.PortableServer.CurrentHelper.narrow",
+                "static org.omg.PortableServer.POAHelper.narrow",
+                "static org.omg.PortableServer.ServantActivatorHelper.narrow",
+                "static org.omg.PortableServer.ServantLocatorHelper.narrow",
               })
           .put(
               "ID",
-              new Import[] {
-                new Import("ID", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("ID", "javax.swing.text.html.parser.DTDConstants", true),
-                new Import("ID", "javax.xml.ws.RespectBindingFeature", true),
-                new Import("ID", "javax.xml.ws.soap.AddressingFeature", true),
-                new Import("ID", "javax.xml.ws.soap.MTOMFeature", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.ID",
+                "static javax.swing.text.html.parser.DTDConstants.ID",
+                "static javax.xml.ws.RespectBindingFeature.ID",
+                "static javax.xml.ws.soap.AddressingFeature.ID",
+                "static javax.xml.ws.soap.MTOMFeature.ID",
               })
           .put(
               "MOUSE_MOTION_EVENT_MASK",
-              new Import[] {
-                new Import("MOUSE_MOTION_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.MOUSE_MOTION_EVENT_MASK",
               })
           .put(
               "TYPE_GENERAL_TRANSFORM",
-              new Import[] {
-                new Import("TYPE_GENERAL_TRANSFORM", "java.awt.geom.AffineTransform", true),
+              new String[] {
+                "static java.awt.geom.AffineTransform.TYPE_GENERAL_TRANSFORM",
               })
           .put(
               "STAPLE_TOP_LEFT",
-              new Import[] {
-                new Import("STAPLE_TOP_LEFT", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.STAPLE_TOP_LEFT",
               })
           .put(
               "FOCUSABLE",
-              new Import[] {
-                new Import("FOCUSABLE", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.FOCUSABLE",
               })
           .put(
               "ULAW",
-              new Import[] {
-                new Import("ULAW", "javax.sound.sampled.AudioFormat.Encoding", true),
+              new String[] {
+                "static javax.sound.sampled.AudioFormat.Encoding.ULAW",
               })
           .put(
               "ceil",
-              new Import[] {
-                new Import("ceil", "java.lang.Math", true),
-                new Import("ceil", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.ceil", "static java.lang.StrictMath.ceil",
               })
           .put(
               "noneOf",
-              new Import[] {
-                new Import("noneOf", "java.util.EnumSet", true),
+              new String[] {
+                "static java.util.EnumSet.noneOf",
               })
           .put(
               "CertPathValidatorException",
-              new Import[] {
-                new Import("CertPathValidatorException", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertPathValidatorException",
               })
           .put(
               "SLIDER_THUMB",
-              new Import[] {
-                new Import("SLIDER_THUMB", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.SLIDER_THUMB",
               })
           .put(
               "RandomAccessFile",
-              new Import[] {
-                new Import("RandomAccessFile", "java.io", false),
+              new String[] {
+                "java.io.RandomAccessFile",
               })
           .put(
               "createSNIMatcher",
-              new Import[] {
-                new Import("createSNIMatcher", "javax.net.ssl.SNIHostName", true),
+              new String[] {
+                "static javax.net.ssl.SNIHostName.createSNIMatcher",
               })
           .put(
               "VK_MULTIPLY",
-              new Import[] {
-                new Import("VK_MULTIPLY", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_MULTIPLY",
               })
           .put(
               "VerifyError",
-              new Import[] {
-                new Import("VerifyError", "java.lang", false),
+              new String[] {
+                "java.lang.VerifyError",
               })
           .put(
               "IntFunction",
-              new Import[] {
-                new Import("IntFunction", "java.util.function", false),
+              new String[] {
+                "java.util.function.IntFunction",
               })
           .put(
               "setDefaultAllowUserInteraction",
-              new Import[] {
-                new Import("setDefaultAllowUserInteraction", "java.net.URLConnection", true),
+              new String[] {
+                "static java.net.URLConnection.setDefaultAllowUserInteraction",
               })
           .put(
               "RenderableImageOp",
-              new Import[] {
-                new Import("RenderableImageOp", "java.awt.image.renderable", false),
+              new String[] {
+                "java.awt.image.renderable.RenderableImageOp",
               })
           .put(
               "SOUTH_EAST",
-              new Import[] {
-                new Import("SOUTH_EAST", "javax.swing.SwingConstants", true),
+              new String[] {
+                "static javax.swing.SwingConstants.SOUTH_EAST",
               })
           .put(
               "ConcurrentLinkedQueue",
-              new Import[] {
-                new Import("ConcurrentLinkedQueue", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ConcurrentLinkedQueue",
               })
           .put(
               "DPI",
-              new Import[] {
-                new Import("DPI", "javax.print.attribute.ResolutionSyntax", true),
+              new String[] {
+                "static javax.print.attribute.ResolutionSyntax.DPI",
               })
           .put(
               "showOptionDialog",
-              new Import[] {
-                new Import("showOptionDialog", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.showOptionDialog",
               })
           .put(
               "LSSerializerFilter",
-              new Import[] {
-                new Import("LSSerializerFilter", "org.w3c.dom.ls", false),
+              new String[] {
+                "org.w3c.dom.ls.LSSerializerFilter",
               })
           .put(
               "getMimeDecoder",
-              new Import[] {
-                new Import("getMimeDecoder", "java.util.Base64", true),
+              new String[] {
+                "static java.util.Base64.getMimeDecoder",
               })
           .put(
               "UNDERLINE_ON",
-              new Import[] {
-                new Import("UNDERLINE_ON", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.UNDERLINE_ON",
               })
           .put(
               "SHAPES",
-              new Import[] {
-                new Import("SHAPES", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.SHAPES",
               })
           .put(
               "UPDATE_WHEN_ON_EDT",
-              new Import[] {
-                new Import("UPDATE_WHEN_ON_EDT", "javax.swing.text.DefaultCaret", true),
+              new String[] {
+                "static javax.swing.text.DefaultCaret.UPDATE_WHEN_ON_EDT",
               })
           .put(
               "asFileAttribute",
-              new Import[] {
-                new Import("asFileAttribute", "java.nio.file.attribute.PosixFilePermissions", true),
+              new String[] {
+                "static java.nio.file.attribute.PosixFilePermissions.asFileAttribute",
               })
           .put(
               "URI",
-              new Import[] {
-                new Import("URI", "java.net", false),
+              new String[] {
+                "java.net.URI",
               })
           .put(
               "MenuElement",
-              new Import[] {
-                new Import("MenuElement", "javax.swing", false),
+              new String[] {
+                "javax.swing.MenuElement",
               })
           .put(
               "SOAPMessage",
-              new Import[] {
-                new Import("SOAPMessage", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SOAPMessage",
               })
           .put(
               "isDispatchThread",
-              new Import[] {
-                new Import("isDispatchThread", "java.awt.EventQueue", true),
+              new String[] {
+                "static java.awt.EventQueue.isDispatchThread",
               })
           .put(
               "URL",
-              new Import[] {
-                new Import("URL", "java.net", false),
-                new Import("URL", "javax.print.DocFlavor", false),
+              new String[] {
+                "java.net.URL", "javax.print.DocFlavor.URL",
               })
           .put(
               "SimpleType",
-              new Import[] {
-                new Import("SimpleType", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.SimpleType",
               })
           .put(
               "INTERNAL_FRAME_ACTIVATED",
-              new Import[] {
-                new Import(
-                    "INTERNAL_FRAME_ACTIVATED", "javax.swing.event.InternalFrameEvent", true),
+              new String[] {
+                "static javax.swing.event.InternalFrameEvent.INTERNAL_FRAME_ACTIVATED",
               })
           .put(
               "Target",
-              new Import[] {
-                new Import("Target", "java.lang.annotation", false),
+              new String[] {
+                "java.lang.annotation.Target",
               })
           .put(
               "checkedMap",
-              new Import[] {
-                new Import("checkedMap", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.checkedMap",
               })
           .put(
               "PointerInfo",
-              new Import[] {
-                new Import("PointerInfo", "java.awt", false),
+              new String[] {
+                "java.awt.PointerInfo",
               })
           .put(
               "RelationType",
-              new Import[] {
-                new Import("RelationType", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RelationType",
               })
           .put(
               "getByName",
-              new Import[] {
-                new Import("getByName", "java.net.InetAddress", true),
-                new Import("getByName", "java.net.NetworkInterface", true),
+              new String[] {
+                "static java.net.InetAddress.getByName",
+                "static java.net.NetworkInterface.getByName",
               })
           .put(
               "JPEGImageWriteParam",
-              new Import[] {
-                new Import("JPEGImageWriteParam", "javax.imageio.plugins.jpeg", false),
+              new String[] {
+                "javax.imageio.plugins.jpeg.JPEGImageWriteParam",
               })
           .put(
               "Menu",
-              new Import[] {
-                new Import("Menu", "java.awt", false),
+              new String[] {
+                "java.awt.Menu",
               })
           .put(
               "ExecutionException",
-              new Import[] {
-                new Import("ExecutionException", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ExecutionException",
               })
           .put(
               "WAIS",
-              new Import[] {
-                new Import(
-                    "WAIS", "javax.print.attribute.standard.ReferenceUriSchemesSupported", true),
+              new String[] {
+                "static javax.print.attribute.standard.ReferenceUriSchemesSupported.WAIS",
               })
           .put(
               "isNormalized",
-              new Import[] {
-                new Import("isNormalized", "java.text.Normalizer", true),
+              new String[] {
+                "static java.text.Normalizer.isNormalized",
               })
           .put(
               "SOAP_DATAENCODINGUNKNOWN_FAULT",
-              new Import[] {
-                new Import("SOAP_DATAENCODINGUNKNOWN_FAULT", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.SOAP_DATAENCODINGUNKNOWN_FAULT",
               })
           .put(
               "ParsePosition",
-              new Import[] {
-                new Import("ParsePosition", "java.text", false),
+              new String[] {
+                "java.text.ParsePosition",
               })
           .put(
               "GraphicsConfigTemplate",
-              new Import[] {
-                new Import("GraphicsConfigTemplate", "java.awt", false),
+              new String[] {
+                "java.awt.GraphicsConfigTemplate",
               })
           .put(
               "comparingDouble",
-              new Import[] {
-                new Import("comparingDouble", "java.util.Comparator", true),
+              new String[] {
+                "static java.util.Comparator.comparingDouble",
               })
           .put(
               "ClassCircularityError",
-              new Import[] {
-                new Import("ClassCircularityError", "java.lang", false),
+              new String[] {
+                "java.lang.ClassCircularityError",
               })
           .put(
               "TypeNotPresentException",
-              new Import[] {
-                new Import("TypeNotPresentException", "java.lang", false),
+              new String[] {
+                "java.lang.TypeNotPresentException",
               })
           .put(
               "StringMonitorMBean",
-              new Import[] {
-                new Import("StringMonitorMBean", "javax.management.monitor", false),
+              new String[] {
+                "javax.management.monitor.StringMonitorMBean",
               })
           .put(
               "DIALOG",
-              new Import[] {
-                new Import("DIALOG", "java.awt.Font", true),
-                new Import("DIALOG", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static java.awt.Font.DIALOG", "static javax.accessibility.AccessibleRole.DIALOG",
               })
           .put(
               "err",
-              new Import[] {
-                new Import("err", "java.io.FileDescriptor", true),
-                new Import("err", "java.lang.System", true),
+              new String[] {
+                "static java.io.FileDescriptor.err", "static java.lang.System.err",
               })
           .put(
               "LATIN_1_SUPPLEMENT",
-              new Import[] {
-                new Import("LATIN_1_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.LATIN_1_SUPPLEMENT",
               })
           .put(
               "PROTOCOL_VERSION_2",
-              new Import[] {
-                new Import("PROTOCOL_VERSION_2", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.PROTOCOL_VERSION_2",
               })
           .put(
               "MessageDigestSpi",
-              new Import[] {
-                new Import("MessageDigestSpi", "java.security", false),
+              new String[] {
+                "java.security.MessageDigestSpi",
               })
           .put(
               "PROTOCOL_VERSION_1",
-              new Import[] {
-                new Import("PROTOCOL_VERSION_1", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.PROTOCOL_VERSION_1",
               })
           .put(
               "GaugeMonitorMBean",
-              new Import[] {
-                new Import("GaugeMonitorMBean", "javax.management.monitor", false),
+              new String[] {
+                "javax.management.monitor.GaugeMonitorMBean",
               })
           .put(
               "CONTAINER_LAST",
-              new Import[] {
-                new Import("CONTAINER_LAST", "java.awt.event.ContainerEvent", true),
+              new String[] {
+                "static java.awt.event.ContainerEvent.CONTAINER_LAST",
               })
           .put(
               "SimpleImmutableEntry",
-              new Import[] {
-                new Import("SimpleImmutableEntry", "java.util.AbstractMap", false),
+              new String[] {
+                "java.util.AbstractMap.SimpleImmutableEntry",
               })
           .put(
               "VALUE_STROKE_NORMALIZE",
-              new Import[] {
-                new Import("VALUE_STROKE_NORMALIZE", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_STROKE_NORMALIZE",
               })
           .put(
               "AtomicLongArray",
-              new Import[] {
-                new Import("AtomicLongArray", "java.util.concurrent.atomic", false),
+              new String[] {
+                "java.util.concurrent.atomic.AtomicLongArray",
               })
           .put(
               "LE",
-              new Import[] {
-                new Import("LE", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.LE",
               })
           .put(
               "ExceptionListener",
-              new Import[] {
-                new Import("ExceptionListener", "java.beans", false),
+              new String[] {
+                "java.beans.ExceptionListener",
               })
           .put(
               "_IDLTypeStub",
-              new Import[] {
-                new Import("_IDLTypeStub", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA._IDLTypeStub",
               })
           .put(
               "getLocalizedDateTimePattern",
-              new Import[] {
-                new Import(
-                    "getLocalizedDateTimePattern",
-                    "java.time.format.DateTimeFormatterBuilder",
-                    true),
+              new String[] {
+                "static java.time.format.DateTimeFormatterBuilder.getLocalizedDateTimePattern",
               })
           .put(
               "LI",
-              new Import[] {
-                new Import("LI", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.LI",
               })
           .put(
               "NONCRITICAL",
-              new Import[] {
-                new Import("NONCRITICAL", "javax.naming.ldap.Control", true),
+              new String[] {
+                "static javax.naming.ldap.Control.NONCRITICAL",
               })
           .put(
               "isIdentifier",
-              new Import[] {
-                new Import("isIdentifier", "javax.lang.model.SourceVersion", true),
+              new String[] {
+                "static javax.lang.model.SourceVersion.isIdentifier",
               })
           .put(
               "SUBSIZED",
-              new Import[] {
-                new Import("SUBSIZED", "java.util.Spliterator", true),
+              new String[] {
+                "static java.util.Spliterator.SUBSIZED",
               })
           .put(
               "UTC",
-              new Import[] {
-                new Import("UTC", "java.time.ZoneOffset", true),
-                new Import("UTC", "java.util.Date", true),
+              new String[] {
+                "static java.time.ZoneOffset.UTC", "static java.util.Date.UTC",
               })
           .put(
               "INBOUND_MESSAGE_ATTACHMENTS",
-              new Import[] {
-                new Import(
-                    "INBOUND_MESSAGE_ATTACHMENTS", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.handler.MessageContext.INBOUND_MESSAGE_ATTACHMENTS",
               })
           .put(
               "LT",
-              new Import[] {
-                new Import("LT", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.LT",
               })
           .put(
               "DescriptorKey",
-              new Import[] {
-                new Import("DescriptorKey", "javax.management", false),
+              new String[] {
+                "javax.management.DescriptorKey",
               })
           .put(
               "dk_Exception",
-              new Import[] {
-                new Import("dk_Exception", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Exception",
               })
           .put(
               "DGC_ID",
-              new Import[] {
-                new Import("DGC_ID", "java.rmi.server.ObjID", true),
+              new String[] {
+                "static java.rmi.server.ObjID.DGC_ID",
               })
           .put(
               "QUESTION_DIALOG",
-              new Import[] {
-                new Import("QUESTION_DIALOG", "javax.swing.JRootPane", true),
+              new String[] {
+                "static javax.swing.JRootPane.QUESTION_DIALOG",
               })
           .put(
               "VLINK",
-              new Import[] {
-                new Import("VLINK", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.VLINK",
               })
           .put(
               "MediaPrintableArea",
-              new Import[] {
-                new Import("MediaPrintableArea", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.MediaPrintableArea",
               })
           .put(
               "PushbackInputStream",
-              new Import[] {
-                new Import("PushbackInputStream", "java.io", false),
+              new String[] {
+                "java.io.PushbackInputStream",
               })
           .put(
               "PSSParameterSpec",
-              new Import[] {
-                new Import("PSSParameterSpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.PSSParameterSpec",
               })
           .put(
               "MD",
-              new Import[] {
-                new Import("MD", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.MD",
               })
           .put(
               "TC_BASE",
-              new Import[] {
-                new Import("TC_BASE", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_BASE",
               })
           .put(
               "textHighlightText",
-              new Import[] {
-                new Import("textHighlightText", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.textHighlightText",
               })
           .put(
               "LoaderHandler",
-              new Import[] {
-                new Import("LoaderHandler", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.LoaderHandler",
               })
           .put(
               "FileObject",
-              new Import[] {
-                new Import("FileObject", "javax.tools", false),
+              new String[] {
+                "javax.tools.FileObject",
               })
           .put(
               "NotificationFilter",
-              new Import[] {
-                new Import("NotificationFilter", "javax.management", false),
+              new String[] {
+                "javax.management.NotificationFilter",
               })
           .put(
               "dk_Wstring",
-              new Import[] {
-                new Import("dk_Wstring", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Wstring",
               })
           .put(
               "ServerSocketChannel",
-              new Import[] {
-                new Import("ServerSocketChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.ServerSocketChannel",
               })
           .put(
               "MM",
-              new Import[] {
-                new Import("MM", "javax.print.attribute.Size2DSyntax", true),
-                new Import("MM", "javax.print.attribute.standard.MediaPrintableArea", true),
+              new String[] {
+                "static javax.print.attribute.Size2DSyntax.MM",
+                "static javax.print.attribute.standard.MediaPrintableArea.MM",
               })
           .put(
               "SLIDER_TRACK",
-              new Import[] {
-                new Import("SLIDER_TRACK", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.SLIDER_TRACK",
               })
           .put(
               "DST",
-              new Import[] {
-                new Import("DST", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.DST",
               })
           .put(
               "MS",
-              new Import[] {
-                new Import("MS", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.MS",
               })
           .put(
               "writableAction",
-              new Import[] {
-                new Import("writableAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.writableAction",
               })
           .put(
               "HTTP_USE_PROXY",
-              new Import[] {
-                new Import("HTTP_USE_PROXY", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_USE_PROXY",
               })
           .put(
               "DesignMode",
-              new Import[] {
-                new Import("DesignMode", "java.beans", false),
+              new String[] {
+                "java.beans.DesignMode",
               })
           .put(
               "VK_DEAD_IOTA",
-              new Import[] {
-                new Import("VK_DEAD_IOTA", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DEAD_IOTA",
               })
           .put(
               "ServiceMode",
-              new Import[] {
-                new Import("ServiceMode", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.ServiceMode",
               })
           .put(
               "doAsPrivileged",
-              new Import[] {
-                new Import("doAsPrivileged", "javax.security.auth.Subject", true),
+              new String[] {
+                "static javax.security.auth.Subject.doAsPrivileged",
               })
           .put(
               "NA",
-              new Import[] {
-                new Import("NA", "javax.print.attribute.standard.MediaSize", false),
+              new String[] {
+                "javax.print.attribute.standard.MediaSize.NA",
               })
           .put(
               "NUM_LOCK",
-              new Import[] {
-                new Import("NUM_LOCK", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.NUM_LOCK",
               })
           .put(
               "isLetterOrDigit",
-              new Import[] {
-                new Import("isLetterOrDigit", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isLetterOrDigit",
               })
           .put(
               "lastIndexOfSubList",
-              new Import[] {
-                new Import("lastIndexOfSubList", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.lastIndexOfSubList",
               })
           .put(
               "DTD",
-              new Import[] {
-                new Import("DTD", "javax.swing.text.html.parser", false),
-                new Import("DTD", "javax.xml.stream.XMLStreamConstants", true),
-                new Import("DTD", "javax.xml.stream.events", false),
+              new String[] {
+                "javax.swing.text.html.parser.DTD",
+                "static javax.xml.stream.XMLStreamConstants.DTD",
+                "javax.xml.stream.events.DTD",
               })
           .put(
               "isKeyword",
-              new Import[] {
-                new Import("isKeyword", "javax.lang.model.SourceVersion", true),
+              new String[] {
+                "static javax.lang.model.SourceVersion.isKeyword",
               })
           .put(
               "REGISTRY_ID",
-              new Import[] {
-                new Import("REGISTRY_ID", "java.rmi.server.ObjID", true),
+              new String[] {
+                "static java.rmi.server.ObjID.REGISTRY_ID",
               })
           .put(
               "VOID",
-              new Import[] {
-                new Import("VOID", "javax.management.openmbean.SimpleType", true),
+              new String[] {
+                "static javax.management.openmbean.SimpleType.VOID",
               })
           .put(
               "FILTERED",
-              new Import[] {
-                new Import("FILTERED", "java.util.zip.Deflater", true),
+              new String[] {
+                "static java.util.zip.Deflater.FILTERED",
               })
           .put(
               "NO",
-              new Import[] {
-                new Import("NO", "javax.security.auth.callback.ConfirmationCallback", true),
+              new String[] {
+                "static javax.security.auth.callback.ConfirmationCallback.NO",
               })
           .put(
               "deletePrevWordAction",
-              new Import[] {
-                new Import("deletePrevWordAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.deletePrevWordAction",
               })
           .put(
               "NavigableMap",
-              new Import[] {
-                new Import("NavigableMap", "java.util", false),
+              new String[] {
+                "java.util.NavigableMap",
               })
           .put(
               "COMPONENT_LAST",
-              new Import[] {
-                new Import("COMPONENT_LAST", "java.awt.event.ComponentEvent", true),
+              new String[] {
+                "static java.awt.event.ComponentEvent.COMPONENT_LAST",
               })
           .put(
               "SocketSecurityException",
-              new Import[] {
-                new Import("SocketSecurityException", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.SocketSecurityException",
               })
           .put(
               "NODE_CLONED",
-              new Import[] {
-                new Import("NODE_CLONED", "org.w3c.dom.UserDataHandler", true),
+              new String[] {
+                "static org.w3c.dom.UserDataHandler.NODE_CLONED",
               })
           .put(
               "LANG",
-              new Import[] {
-                new Import("LANG", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.LANG",
               })
           .put(
               "NoSuchMethodException",
-              new Import[] {
-                new Import("NoSuchMethodException", "java.lang", false),
+              new String[] {
+                "java.lang.NoSuchMethodException",
               })
           .put(
               "CODESET_INCOMPATIBLE",
-              new Import[] {
-                new Import("CODESET_INCOMPATIBLE", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.CODESET_INCOMPATIBLE",
               })
           .put(
               "VK_MINUS",
-              new Import[] {
-                new Import("VK_MINUS", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_MINUS",
               })
           .put(
               "PKIXParameters",
-              new Import[] {
-                new Import("PKIXParameters", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.PKIXParameters",
               })
           .put(
               "parkUntil",
-              new Import[] {
-                new Import("parkUntil", "java.util.concurrent.locks.LockSupport", true),
+              new String[] {
+                "static java.util.concurrent.locks.LockSupport.parkUntil",
               })
           .put(
               "OffsetTime",
-              new Import[] {
-                new Import("OffsetTime", "java.time", false),
+              new String[] {
+                "java.time.OffsetTime",
               })
           .put(
               "DOMValidateContext",
-              new Import[] {
-                new Import("DOMValidateContext", "javax.xml.crypto.dsig.dom", false),
+              new String[] {
+                "javax.xml.crypto.dsig.dom.DOMValidateContext",
               })
           .put(
               "isPublic",
-              new Import[] {
-                new Import("isPublic", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.isPublic",
               })
           .put(
               "isDesignTime",
-              new Import[] {
-                new Import("isDesignTime", "java.beans.Beans", true),
+              new String[] {
+                "static java.beans.Beans.isDesignTime",
               })
           .put(
               "OK",
-              new Import[] {
-                new Import("OK", "javax.security.auth.callback.ConfirmationCallback", true),
+              new String[] {
+                "static javax.security.auth.callback.ConfirmationCallback.OK",
               })
           .put(
               "OL",
-              new Import[] {
-                new Import("OL", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.OL",
               })
           .put(
               "FlavorEvent",
-              new Import[] {
-                new Import("FlavorEvent", "java.awt.datatransfer", false),
+              new String[] {
+                "java.awt.datatransfer.FlavorEvent",
               })
           .put(
               "getMBeanServer",
-              new Import[] {
-                new Import("getMBeanServer", "javax.management.QueryEval", true),
+              new String[] {
+                "static javax.management.QueryEval.getMBeanServer",
               })
           .put(
               "TimeZoneNameProvider",
-              new Import[] {
-                new Import("TimeZoneNameProvider", "java.util.spi", false),
+              new String[] {
+                "java.util.spi.TimeZoneNameProvider",
               })
           .put(
               "BUSY",
-              new Import[] {
-                new Import("BUSY", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.BUSY",
               })
           .put(
               "MapMode",
-              new Import[] {
-                new Import("MapMode", "java.nio.channels.FileChannel", false),
+              new String[] {
+                "java.nio.channels.FileChannel.MapMode",
               })
           .put(
               "MinimumHeight",
-              new Import[] {
-                new Import("MinimumHeight", "javax.swing.plaf.basic.BasicOptionPaneUI", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicOptionPaneUI.MinimumHeight",
               })
           .put(
               "ENCODING",
-              new Import[] {
-                new Import("ENCODING", "javax.xml.transform.OutputKeys", true),
+              new String[] {
+                "static javax.xml.transform.OutputKeys.ENCODING",
               })
           .put(
               "_tk_null",
-              new Import[] {
-                new Import("_tk_null", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_null",
               })
           .put(
               "getMostRecentEventTime",
-              new Import[] {
-                new Import("getMostRecentEventTime", "java.awt.EventQueue", true),
+              new String[] {
+                "static java.awt.EventQueue.getMostRecentEventTime",
               })
           .put(
               "Instrument",
-              new Import[] {
-                new Import("Instrument", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.Instrument",
               })
           .put(
               "PI",
-              new Import[] {
-                new Import("PI", "java.lang.Math", true),
-                new Import("PI", "java.lang.StrictMath", true),
-                new Import("PI", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static java.lang.Math.PI",
+                "static java.lang.StrictMath.PI",
+                "static javax.swing.text.html.parser.DTDConstants.PI",
               })
           .put(
               "BUHID",
-              new Import[] {
-                new Import("BUHID", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.BUHID",
               })
           .put(
               "PM",
-              new Import[] {
-                new Import("PM", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.PM",
               })
           .build();
 }
@@ -2,1577 +2,1558 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk5 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "IconAttribute",
-              new Import[] {
-                new Import("IconAttribute", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.IconAttribute",
               })
           .put(
               "ENTITY_REFERENCE_NODE",
-              new Import[] {
-                new Import("ENTITY_REFERENCE_NODE", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.ENTITY_REFERENCE_NODE",
               })
           .put(
               "TreeModelEvent",
-              new Import[] {
-                new Import("TreeModelEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.TreeModelEvent",
               })
           .put(
               "XA_OK",
-              new Import[] {
-                new Import("XA_OK", "javax.transaction.xa.XAResource", true),
+              new String[] {
+                "static javax.transaction.xa.XAResource.XA_OK",
               })
           .put(
               "SQLTransientException",
-              new Import[] {
-                new Import("SQLTransientException", "java.sql", false),
+              new String[] {
+                "java.sql.SQLTransientException",
               })
           .put(
               "FINEST",
-              new Import[] {
-                new Import("FINEST", "java.util.logging.Level", true),
+              new String[] {
+                "static java.util.logging.Level.FINEST",
               })
           .put(
               "uninstallBorder",
-              new Import[] {
-                new Import("uninstallBorder", "javax.swing.LookAndFeel", true),
+              new String[] {
+                "static javax.swing.LookAndFeel.uninstallBorder",
               })
           .put(
               "XA_RDONLY",
-              new Import[] {
-                new Import("XA_RDONLY", "javax.transaction.xa.XAException", true),
-                new Import("XA_RDONLY", "javax.transaction.xa.XAResource", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_RDONLY",
+                "static javax.transaction.xa.XAResource.XA_RDONLY",
               })
           .put(
               "LineBreakMeasurer",
-              new Import[] {
-                new Import("LineBreakMeasurer", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.LineBreakMeasurer",
               })
           .put(
               "isItalic",
-              new Import[] {
-                new Import("isItalic", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.isItalic",
               })
           .put(
               "UTF_16",
-              new Import[] {
-                new Import("UTF_16", "java.nio.charset.StandardCharsets", true),
+              new String[] {
+                "static java.nio.charset.StandardCharsets.UTF_16",
               })
           .put(
               "WriteLock",
-              new Import[] {
-                new Import("WriteLock", "java.util.concurrent.locks.ReentrantReadWriteLock", false),
+              new String[] {
+                "java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock",
               })
           .put(
               "LoginContext",
-              new Import[] {
-                new Import("LoginContext", "javax.security.auth.login", false),
+              new String[] {
+                "javax.security.auth.login.LoginContext",
               })
           .put(
               "Consumer",
-              new Import[] {
-                new Import("Consumer", "java.util.function", false),
+              new String[] {
+                "java.util.function.Consumer",
               })
           .put(
               "getMaskForButton",
-              new Import[] {
-                new Import("getMaskForButton", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.event.InputEvent.getMaskForButton",
               })
           .put(
               "getNumberOfButtons",
-              new Import[] {
-                new Import("getNumberOfButtons", "java.awt.MouseInfo", true),
+              new String[] {
+                "static java.awt.MouseInfo.getNumberOfButtons",
               })
           .put(
               "exp",
-              new Import[] {
-                new Import("exp", "java.lang.Math", true),
-                new Import("exp", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.exp", "static java.lang.StrictMath.exp",
               })
           .put(
               "MIDDLE",
-              new Import[] {
-                new Import("MIDDLE", "javax.print.attribute.standard.MediaTray", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaTray.MIDDLE",
               })
           .put(
               "ONE_DAY",
-              new Import[] {
-                new Import("ONE_DAY", "javax.management.timer.Timer", true),
+              new String[] {
+                "static javax.management.timer.Timer.ONE_DAY",
               })
           .put(
               "ScrollBarUI",
-              new Import[] {
-                new Import("ScrollBarUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.ScrollBarUI",
               })
           .put(
               "getMenuItemArrowIcon",
-              new Import[] {
-                new Import("getMenuItemArrowIcon", "javax.swing.plaf.basic.BasicIconFactory", true),
-                new Import("getMenuItemArrowIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicIconFactory.getMenuItemArrowIcon",
+                "static javax.swing.plaf.metal.MetalIconFactory.getMenuItemArrowIcon",
               })
           .put(
               "TableCellRenderer",
-              new Import[] {
-                new Import("TableCellRenderer", "javax.swing.table", false),
+              new String[] {
+                "javax.swing.table.TableCellRenderer",
               })
           .put(
               "CurrentHolder",
-              new Import[] {
-                new Import("CurrentHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.CurrentHolder",
               })
           .put(
               "FINER",
-              new Import[] {
-                new Import("FINER", "java.util.logging.Level", true),
+              new String[] {
+                "static java.util.logging.Level.FINER",
               })
           .put(
               "XmlAccessOrder",
-              new Import[] {
-                new Import("XmlAccessOrder", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlAccessOrder",
               })
           .put(
               "ImageOutputStreamSpi",
-              new Import[] {
-                new Import("ImageOutputStreamSpi", "javax.imageio.spi", false),
+              new String[] {
+                "javax.imageio.spi.ImageOutputStreamSpi",
               })
           .put(
               "isSpaceChar",
-              new Import[] {
-                new Import("isSpaceChar", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isSpaceChar",
               })
           .put(
               "AWTEventMulticaster",
-              new Import[] {
-                new Import("AWTEventMulticaster", "java.awt", false),
+              new String[] {
+                "java.awt.AWTEventMulticaster",
               })
           .put(
               "CHAR_ARRAY",
-              new Import[] {
-                new Import("CHAR_ARRAY", "javax.print.DocFlavor", false),
+              new String[] {
+                "javax.print.DocFlavor.CHAR_ARRAY",
               })
           .put(
               "GraphicsEnvironment",
-              new Import[] {
-                new Import("GraphicsEnvironment", "java.awt", false),
+              new String[] {
+                "java.awt.GraphicsEnvironment",
               })
           .put(
               "getLineInstance",
-              new Import[] {
-                new Import("getLineInstance", "java.text.BreakIterator", true),
+              new String[] {
+                "static java.text.BreakIterator.getLineInstance",
               })
           .put(
               "DIRECTIONALITY_NONSPACING_MARK",
-              new Import[] {
-                new Import("DIRECTIONALITY_NONSPACING_MARK", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_NONSPACING_MARK",
               })
           .put(
               "DropTargetAdapter",
-              new Import[] {
-                new Import("DropTargetAdapter", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DropTargetAdapter",
               })
           .put(
               "GRADE_LOCK_WHEN_LOADED",
-              new Import[] {
-                new Import("GRADE_LOCK_WHEN_LOADED", "javax.sql.rowset.spi.SyncProvider", true),
+              new String[] {
+                "static javax.sql.rowset.spi.SyncProvider.GRADE_LOCK_WHEN_LOADED",
               })
           .put(
               "getTargetDataLine",
-              new Import[] {
-                new Import("getTargetDataLine", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.sampled.AudioSystem.getTargetDataLine",
               })
           .put(
               "JUSTIFICATION",
-              new Import[] {
-                new Import("JUSTIFICATION", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.JUSTIFICATION",
               })
           .put(
               "AccountExpiredException",
-              new Import[] {
-                new Import("AccountExpiredException", "javax.security.auth.login", false),
+              new String[] {
+                "javax.security.auth.login.AccountExpiredException",
               })
           .put(
               "ENV_ITALY",
-              new Import[] {
-                new Import("ENV_ITALY", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ENV_ITALY",
               })
           .put(
               "MUTE",
-              new Import[] {
-                new Import("MUTE", "javax.sound.sampled.BooleanControl.Type", true),
+              new String[] {
+                "static javax.sound.sampled.BooleanControl.Type.MUTE",
               })
           .put(
               "NumberFormatter",
-              new Import[] {
-                new Import("NumberFormatter", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.NumberFormatter",
               })
           .put(
               "ValidationEventImpl",
-              new Import[] {
-                new Import("ValidationEventImpl", "javax.xml.bind.helpers", false),
+              new String[] {
+                "javax.xml.bind.helpers.ValidationEventImpl",
               })
           .put(
               "POAOperations",
-              new Import[] {
-                new Import("POAOperations", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.POAOperations",
               })
           .put(
               "ParserFactory",
-              new Import[] {
-                new Import("ParserFactory", "org.xml.sax.helpers", false),
+              new String[] {
+                "org.xml.sax.helpers.ParserFactory",
               })
           .put(
               "BindingIteratorHelper",
-              new Import[] {
-                new Import("BindingIteratorHelper", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.BindingIteratorHelper",
               })
           .put(
               "DefaultBoundedRangeModel",
-              new Import[] {
-                new Import("DefaultBoundedRangeModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.DefaultBoundedRangeModel",
               })
           .put(
               "gray",
-              new Import[] {
-                new Import("gray", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.gray",
               })
           .put(
               "DIRECTION_DEFAULT_RIGHT_TO_LEFT",
-              new Import[] {
-                new Import("DIRECTION_DEFAULT_RIGHT_TO_LEFT", "java.text.Bidi", true),
+              new String[] {
+                "static java.text.Bidi.DIRECTION_DEFAULT_RIGHT_TO_LEFT",
               })
           .put(
               "isInfinite",
-              new Import[] {
-                new Import("isInfinite", "java.lang.Double", true),
-                new Import("isInfinite", "java.lang.Float", true),
+              new String[] {
+                "static java.lang.Double.isInfinite", "static java.lang.Float.isInfinite",
               })
           .put(
               "AbstractSelector",
-              new Import[] {
-                new Import("AbstractSelector", "java.nio.channels.spi", false),
+              new String[] {
+                "java.nio.channels.spi.AbstractSelector",
               })
           .put(
               "ResponseCache",
-              new Import[] {
-                new Import("ResponseCache", "java.net", false),
+              new String[] {
+                "java.net.ResponseCache",
               })
           .put(
               "UPPER_RIGHT_CORNER",
-              new Import[] {
-                new Import("UPPER_RIGHT_CORNER", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.UPPER_RIGHT_CORNER",
               })
           .put(
               "ADJUSTMENT_VALUE_CHANGED",
-              new Import[] {
-                new Import("ADJUSTMENT_VALUE_CHANGED", "java.awt.event.AdjustmentEvent", true),
+              new String[] {
+                "static java.awt.event.AdjustmentEvent.ADJUSTMENT_VALUE_CHANGED",
               })
           .put(
               "SSLSessionContext",
-              new Import[] {
-                new Import("SSLSessionContext", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLSessionContext",
               })
           .put(
               "ExceptionInInitializerError",
-              new Import[] {
-                new Import("ExceptionInInitializerError", "java.lang", false),
+              new String[] {
+                "java.lang.ExceptionInInitializerError",
               })
           .put(
               "setFirstLineIndent",
-              new Import[] {
-                new Import("setFirstLineIndent", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setFirstLineIndent",
               })
           .put(
               "DIRECTIONALITY_PARAGRAPH_SEPARATOR",
-              new Import[] {
-                new Import("DIRECTIONALITY_PARAGRAPH_SEPARATOR", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_PARAGRAPH_SEPARATOR",
               })
           .put(
               "singletonList",
-              new Import[] {
-                new Import("singletonList", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.singletonList",
               })
           .put(
               "getTreeFloppyDriveIcon",
-              new Import[] {
-                new Import(
-                    "getTreeFloppyDriveIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalIconFactory.getTreeFloppyDriveIcon",
               })
           .put(
               "black",
-              new Import[] {
-                new Import("black", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.black",
               })
           .put(
               "TC_NULL",
-              new Import[] {
-                new Import("TC_NULL", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_NULL",
               })
           .put(
               "JFormattedTextField",
-              new Import[] {
-                new Import("JFormattedTextField", "javax.swing", false),
+              new String[] {
+                "javax.swing.JFormattedTextField",
               })
           .put(
               "InvalidRoleValueException",
-              new Import[] {
-                new Import("InvalidRoleValueException", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.InvalidRoleValueException",
               })
           .put(
               "SignedInfo",
-              new Import[] {
-                new Import("SignedInfo", "javax.xml.crypto.dsig", false),
+              new String[] {
+                "javax.xml.crypto.dsig.SignedInfo",
               })
           .put(
               "IdentifierHelper",
-              new Import[] {
-                new Import("IdentifierHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.IdentifierHelper",
               })
           .put(
               "TD",
-              new Import[] {
-                new Import("TD", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.TD",
               })
           .put(
               "TH",
-              new Import[] {
-                new Import("TH", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.TH",
               })
           .put(
               "ACTION_EVENT_MASK",
-              new Import[] {
-                new Import("ACTION_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.ACTION_EVENT_MASK",
               })
           .put(
               "ItemListener",
-              new Import[] {
-                new Import("ItemListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.ItemListener",
               })
           .put(
               "Writer",
-              new Import[] {
-                new Import("Writer", "java.io", false),
+              new String[] {
+                "java.io.Writer",
               })
           .put(
               "TR",
-              new Import[] {
-                new Import("TR", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.TR",
               })
           .put(
               "DURATION",
-              new Import[] {
-                new Import("DURATION", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.DURATION",
               })
           .put(
               "Other",
-              new Import[] {
-                new Import("Other", "javax.print.attribute.standard.MediaSize", false),
+              new String[] {
+                "javax.print.attribute.standard.MediaSize.Other",
               })
           .put(
               "getStyleFactory",
-              new Import[] {
-                new Import("getStyleFactory", "javax.swing.plaf.synth.SynthLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.synth.SynthLookAndFeel.getStyleFactory",
               })
           .put(
               "TT",
-              new Import[] {
-                new Import("TT", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.TT",
               })
           .put(
               "DEFAULT_CLASS_LOADER",
-              new Import[] {
-                new Import(
-                    "DEFAULT_CLASS_LOADER", "javax.management.remote.JMXConnectorFactory", true),
-                new Import(
-                    "DEFAULT_CLASS_LOADER",
-                    "javax.management.remote.JMXConnectorServerFactory",
-                    true),
+              new String[] {
+                "static javax.management.remote.JMXConnectorFactory.DEFAULT_CLASS_LOADER",
+                "static javax.management.remote.JMXConnectorServerFactory.DEFAULT_CLASS_LOADER",
               })
           .put(
               "ComponentElementName",
-              new Import[] {
-                new Import("ComponentElementName", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.ComponentElementName",
               })
           .put(
               "DragSourceDragEvent",
-              new Import[] {
-                new Import("DragSourceDragEvent", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DragSourceDragEvent",
               })
           .put(
               "Label",
-              new Import[] {
-                new Import("Label", "java.awt", false),
+              new String[] {
+                "java.awt.Label",
               })
           .put(
               "PropertyChangeSupport",
-              new Import[] {
-                new Import("PropertyChangeSupport", "java.beans", false),
+              new String[] {
+                "java.beans.PropertyChangeSupport",
               })
           .put(
               "MinimumWidth",
-              new Import[] {
-                new Import("MinimumWidth", "javax.swing.plaf.basic.BasicOptionPaneUI", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicOptionPaneUI.MinimumWidth",
               })
           .put(
               "ComponentSampleModel",
-              new Import[] {
-                new Import("ComponentSampleModel", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.ComponentSampleModel",
               })
           .put(
               "JapaneseDate",
-              new Import[] {
-                new Import("JapaneseDate", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.JapaneseDate",
               })
           .put(
               "NT_ANONYMOUS",
-              new Import[] {
-                new Import("NT_ANONYMOUS", "org.ietf.jgss.GSSName", true),
+              new String[] {
+                "static org.ietf.jgss.GSSName.NT_ANONYMOUS",
               })
           .put(
               "escapeValue",
-              new Import[] {
-                new Import("escapeValue", "javax.naming.ldap.Rdn", true),
+              new String[] {
+                "static javax.naming.ldap.Rdn.escapeValue",
               })
           .put(
               "AuthorizeCallback",
-              new Import[] {
-                new Import("AuthorizeCallback", "javax.security.sasl", false),
+              new String[] {
+                "javax.security.sasl.AuthorizeCallback",
               })
           .put(
               "ImageIO",
-              new Import[] {
-                new Import("ImageIO", "javax.imageio", false),
+              new String[] {
+                "javax.imageio.ImageIO",
               })
           .put(
               "BORDER_LEFT",
-              new Import[] {
-                new Import("BORDER_LEFT", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_LEFT",
               })
           .put(
               "SynthPasswordFieldUI",
-              new Import[] {
-                new Import("SynthPasswordFieldUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthPasswordFieldUI",
               })
           .put(
               "JobImpressionsSupported",
-              new Import[] {
-                new Import("JobImpressionsSupported", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobImpressionsSupported",
               })
           .put(
               "JApplet",
-              new Import[] {
-                new Import("JApplet", "javax.swing", false),
+              new String[] {
+                "javax.swing.JApplet",
               })
           .put(
               "white",
-              new Import[] {
-                new Import("white", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.white",
               })
           .put(
               "VK_CUT",
-              new Import[] {
-                new Import("VK_CUT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_CUT",
               })
           .put(
               "UK",
-              new Import[] {
-                new Import("UK", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.UK",
               })
           .put(
               "readAttributes",
-              new Import[] {
-                new Import("readAttributes", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.readAttributes",
               })
           .put(
               "UL",
-              new Import[] {
-                new Import("UL", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.UL",
               })
           .put(
               "UP",
-              new Import[] {
-                new Import("UP", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.UP",
               })
           .put(
               "makeParser",
-              new Import[] {
-                new Import("makeParser", "org.xml.sax.helpers.ParserFactory", true),
+              new String[] {
+                "static org.xml.sax.helpers.ParserFactory.makeParser",
               })
           .put(
               "FilerException",
-              new Import[] {
-                new Import("FilerException", "javax.annotation.processing", false),
+              new String[] {
+                "javax.annotation.processing.FilerException",
               })
           .put(
               "US",
-              new Import[] {
-                new Import("US", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.US",
               })
           .put(
               "ChronoLocalDate",
-              new Import[] {
-                new Import("ChronoLocalDate", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.ChronoLocalDate",
               })
           .put(
               "BorderFactory",
-              new Import[] {
-                new Import("BorderFactory", "javax.swing", false),
+              new String[] {
+                "javax.swing.BorderFactory",
               })
           .put(
               "DropTargetDragEvent",
-              new Import[] {
-                new Import("DropTargetDragEvent", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DropTargetDragEvent",
               })
           .put(
               "FOCUS_GAINED",
-              new Import[] {
-                new Import("FOCUS_GAINED", "java.awt.event.FocusEvent", true),
+              new String[] {
+                "static java.awt.event.FocusEvent.FOCUS_GAINED",
               })
           .put(
               "DIRECTIONALITY_EUROPEAN_NUMBER_SEPARATOR",
-              new Import[] {
-                new Import("DIRECTIONALITY_EUROPEAN_NUMBER_SEPARATOR", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_EUROPEAN_NUMBER_SEPARATOR",
               })
           .put(
               "ISO_C10_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C10_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C10_ENVELOPE",
               })
           .put(
               "icSigDisplayClass",
-              new Import[] {
-                new Import("icSigDisplayClass", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigDisplayClass",
               })
           .put(
               "InterfaceAddress",
-              new Import[] {
-                new Import("InterfaceAddress", "java.net", false),
+              new String[] {
+                "java.net.InterfaceAddress",
               })
           .put(
               "CANON_EQ",
-              new Import[] {
-                new Import("CANON_EQ", "java.util.regex.Pattern", true),
+              new String[] {
+                "static java.util.regex.Pattern.CANON_EQ",
               })
           .put(
               "BitSet",
-              new Import[] {
-                new Import("BitSet", "java.util", false),
+              new String[] {
+                "java.util.BitSet",
               })
           .put(
               "FINAL",
-              new Import[] {
-                new Import("FINAL", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.FINAL",
               })
           .put(
               "REVERB_SEND",
-              new Import[] {
-                new Import("REVERB_SEND", "javax.sound.sampled.FloatControl.Type", true),
+              new String[] {
+                "static javax.sound.sampled.FloatControl.Type.REVERB_SEND",
               })
           .put(
               "DEFAULT_STRATEGY",
-              new Import[] {
-                new Import("DEFAULT_STRATEGY", "java.util.zip.Deflater", true),
+              new String[] {
+                "static java.util.zip.Deflater.DEFAULT_STRATEGY",
               })
           .put(
               "InvocationEvent",
-              new Import[] {
-                new Import("InvocationEvent", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.InvocationEvent",
               })
           .put(
               "MethodHandleProxies",
-              new Import[] {
-                new Import("MethodHandleProxies", "java.lang.invoke", false),
+              new String[] {
+                "java.lang.invoke.MethodHandleProxies",
               })
           .put(
               "FULL_DECOMPOSITION",
-              new Import[] {
-                new Import("FULL_DECOMPOSITION", "java.text.Collator", true),
+              new String[] {
+                "static java.text.Collator.FULL_DECOMPOSITION",
               })
           .put(
               "LongAdder",
-              new Import[] {
-                new Import("LongAdder", "java.util.concurrent.atomic", false),
+              new String[] {
+                "java.util.concurrent.atomic.LongAdder",
               })
           .put(
               "NoContextHelper",
-              new Import[] {
-                new Import("NoContextHelper", "org.omg.PortableServer.CurrentPackage", false),
+              new String[] {
+                "org.omg.PortableServer.CurrentPackage.NoContextHelper",
               })
           .put(
               "JColorChooser",
-              new Import[] {
-                new Import("JColorChooser", "javax.swing", false),
+              new String[] {
+                "javax.swing.JColorChooser",
               })
           .put(
               "ONE_SECOND",
-              new Import[] {
-                new Import("ONE_SECOND", "javax.management.timer.Timer", true),
+              new String[] {
+                "static javax.management.timer.Timer.ONE_SECOND",
               })
           .put(
               "next",
-              new Import[] {
-                new Import("next", "java.time.temporal.TemporalAdjusters", true),
+              new String[] {
+                "static java.time.temporal.TemporalAdjusters.next",
               })
           .put(
               "TRANSPORT_RETRY",
-              new Import[] {
-                new Import("TRANSPORT_RETRY", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.TRANSPORT_RETRY",
               })
           .put(
               "ModelMBeanOperationInfo",
-              new Import[] {
-                new Import("ModelMBeanOperationInfo", "javax.management.modelmbean", false),
+              new String[] {
+                "javax.management.modelmbean.ModelMBeanOperationInfo",
               })
           .put(
               "LAYER_PROPERTY",
-              new Import[] {
-                new Import("LAYER_PROPERTY", "javax.swing.JLayeredPane", true),
+              new String[] {
+                "static javax.swing.JLayeredPane.LAYER_PROPERTY",
               })
           .put(
               "WINDOW_EXPOSE",
-              new Import[] {
-                new Import("WINDOW_EXPOSE", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.WINDOW_EXPOSE",
               })
           .put(
               "System",
-              new Import[] {
-                new Import("System", "java.lang", false),
+              new String[] {
+                "java.lang.System",
               })
           .put(
               "UPPER_TRAILING_CORNER",
-              new Import[] {
-                new Import("UPPER_TRAILING_CORNER", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.UPPER_TRAILING_CORNER",
               })
           .put(
               "VK_KP_UP",
-              new Import[] {
-                new Import("VK_KP_UP", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_KP_UP",
               })
           .put(
               "WAVE",
-              new Import[] {
-                new Import("WAVE", "javax.sound.sampled.AudioFileFormat.Type", true),
+              new String[] {
+                "static javax.sound.sampled.AudioFileFormat.Type.WAVE",
               })
           .put(
               "DOMException",
-              new Import[] {
-                new Import("DOMException", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.DOMException",
               })
           .put(
               "RemoteStub",
-              new Import[] {
-                new Import("RemoteStub", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.RemoteStub",
               })
           .put(
               "HOUR1",
-              new Import[] {
-                new Import("HOUR1", "java.text.DateFormat.Field", true),
+              new String[] {
+                "static java.text.DateFormat.Field.HOUR1",
               })
           .put(
               "HOUR0",
-              new Import[] {
-                new Import("HOUR0", "java.text.DateFormat.Field", true),
+              new String[] {
+                "static java.text.DateFormat.Field.HOUR0",
               })
           .put(
               "VK_DIVIDE",
-              new Import[] {
-                new Import("VK_DIVIDE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DIVIDE",
               })
           .put(
               "GLOBAL",
-              new Import[] {
-                new Import("GLOBAL", "javax.xml.bind.annotation.XmlElementDecl", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlElementDecl.GLOBAL",
               })
           .put(
               "STARTTAG",
-              new Import[] {
-                new Import("STARTTAG", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.STARTTAG",
               })
           .put(
               "SinkChannel",
-              new Import[] {
-                new Import("SinkChannel", "java.nio.channels.Pipe", false),
+              new String[] {
+                "java.nio.channels.Pipe.SinkChannel",
               })
           .put(
               "FIDELITY_FALSE",
-              new Import[] {
-                new Import("FIDELITY_FALSE", "javax.print.attribute.standard.Fidelity", true),
+              new String[] {
+                "static javax.print.attribute.standard.Fidelity.FIDELITY_FALSE",
               })
           .put(
               "green",
-              new Import[] {
-                new Import("green", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.green",
               })
           .put(
               "MOUSE_MOVED",
-              new Import[] {
-                new Import("MOUSE_MOVED", "java.awt.event.MouseEvent", true),
+              new String[] {
+                "static java.awt.event.MouseEvent.MOUSE_MOVED",
               })
           .put(
               "HTMLWriter",
-              new Import[] {
-                new Import("HTMLWriter", "javax.swing.text.html", false),
+              new String[] {
+                "javax.swing.text.html.HTMLWriter",
               })
           .put(
               "AttachmentUnmarshaller",
-              new Import[] {
-                new Import("AttachmentUnmarshaller", "javax.xml.bind.attachment", false),
+              new String[] {
+                "javax.xml.bind.attachment.AttachmentUnmarshaller",
               })
           .put(
               "_tk_long",
-              new Import[] {
-                new Import("_tk_long", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_long",
               })
           .put(
               "InheritableThreadLocal",
-              new Import[] {
-                new Import("InheritableThreadLocal", "java.lang", false),
+              new String[] {
+                "java.lang.InheritableThreadLocal",
               })
           .put(
               "HTTP_REQUEST_METHOD",
-              new Import[] {
-                new Import("HTTP_REQUEST_METHOD", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.handler.MessageContext.HTTP_REQUEST_METHOD",
               })
           .put(
               "TIME",
-              new Import[] {
-                new Import("TIME", "java.sql.Types", true),
-                new Import("TIME", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static java.sql.Types.TIME", "static javax.xml.datatype.DatatypeConstants.TIME",
               })
           .put(
               "ValueFactory",
-              new Import[] {
-                new Import("ValueFactory", "org.omg.CORBA.portable", false),
+              new String[] {
+                "org.omg.CORBA.portable.ValueFactory",
               })
           .put(
               "VK_PAGE_UP",
-              new Import[] {
-                new Import("VK_PAGE_UP", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_PAGE_UP",
               })
           .put(
               "KeyManagerFactory",
-              new Import[] {
-                new Import("KeyManagerFactory", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.KeyManagerFactory",
               })
           .put(
               "RoundEnvironment",
-              new Import[] {
-                new Import("RoundEnvironment", "javax.annotation.processing", false),
+              new String[] {
+                "javax.annotation.processing.RoundEnvironment",
               })
           .put(
               "isSurrogate",
-              new Import[] {
-                new Import("isSurrogate", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isSurrogate",
               })
           .put(
               "GenericSignatureFormatError",
-              new Import[] {
-                new Import("GenericSignatureFormatError", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.GenericSignatureFormatError",
               })
           .put(
               "TEXT_HIGHLIGHT",
-              new Import[] {
-                new Import("TEXT_HIGHLIGHT", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.TEXT_HIGHLIGHT",
               })
           .put(
               "ALT_GRAPH_DOWN_MASK",
-              new Import[] {
-                new Import("ALT_GRAPH_DOWN_MASK", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.event.InputEvent.ALT_GRAPH_DOWN_MASK",
               })
           .put(
               "VALUE_RANGE",
-              new Import[] {
-                new Import("VALUE_RANGE", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.VALUE_RANGE",
               })
           .put(
               "HOURS",
-              new Import[] {
-                new Import("HOURS", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.HOURS",
               })
           .put(
               "Scope",
-              new Import[] {
-                new Import("Scope", "javax.xml.ws.handler.MessageContext", false),
+              new String[] {
+                "javax.xml.ws.handler.MessageContext.Scope",
               })
           .put(
               "Filter",
-              new Import[] {
-                new Import("Filter", "java.nio.file.DirectoryStream", false),
-                new Import("Filter", "java.util.logging", false),
-                new Import("Filter", "javax.imageio.spi.ServiceRegistry", false),
-                new Import("Filter", "javax.xml.crypto.dsig.spec.XPathType", false),
+              new String[] {
+                "java.nio.file.DirectoryStream.Filter",
+                "java.util.logging.Filter",
+                "javax.imageio.spi.ServiceRegistry.Filter",
+                "javax.xml.crypto.dsig.spec.XPathType.Filter",
               })
           .put(
               "collectingAndThen",
-              new Import[] {
-                new Import("collectingAndThen", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.collectingAndThen",
               })
           .put(
               "PseudoColumnUsage",
-              new Import[] {
-                new Import("PseudoColumnUsage", "java.sql", false),
+              new String[] {
+                "java.sql.PseudoColumnUsage",
               })
           .put(
               "RelationServiceMBean",
-              new Import[] {
-                new Import("RelationServiceMBean", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RelationServiceMBean",
               })
           .put(
               "PagesPerMinuteColor",
-              new Import[] {
-                new Import("PagesPerMinuteColor", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PagesPerMinuteColor",
               })
           .put(
               "window",
-              new Import[] {
-                new Import("window", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.window",
               })
           .put(
               "toTitleCase",
-              new Import[] {
-                new Import("toTitleCase", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.toTitleCase",
               })
           .put(
               "createHorizontalBox",
-              new Import[] {
-                new Import("createHorizontalBox", "javax.swing.Box", true),
+              new String[] {
+                "static javax.swing.Box.createHorizontalBox",
               })
           .put(
               "setInstalledLookAndFeels",
-              new Import[] {
-                new Import("setInstalledLookAndFeels", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.setInstalledLookAndFeels",
               })
           .put(
               "createInterleavedRaster",
-              new Import[] {
-                new Import("createInterleavedRaster", "java.awt.image.Raster", true),
+              new String[] {
+                "static java.awt.image.Raster.createInterleavedRaster",
               })
           .put(
               "ArrayIndexOutOfBoundsException",
-              new Import[] {
-                new Import("ArrayIndexOutOfBoundsException", "java.lang", false),
+              new String[] {
+                "java.lang.ArrayIndexOutOfBoundsException",
               })
           .put(
               "VAI",
-              new Import[] {
-                new Import("VAI", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.VAI",
               })
           .put(
               "NumberFormat",
-              new Import[] {
-                new Import("NumberFormat", "java.text", false),
+              new String[] {
+                "java.text.NumberFormat",
               })
           .put(
               "LSLoadEvent",
-              new Import[] {
-                new Import("LSLoadEvent", "org.w3c.dom.ls", false),
+              new String[] {
+                "org.w3c.dom.ls.LSLoadEvent",
               })
           .put(
               "ButtonBorder",
-              new Import[] {
-                new Import("ButtonBorder", "javax.swing.plaf.basic.BasicBorders", false),
-                new Import("ButtonBorder", "javax.swing.plaf.metal.MetalBorders", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicBorders.ButtonBorder",
+                "javax.swing.plaf.metal.MetalBorders.ButtonBorder",
               })
           .put(
               "VAR",
-              new Import[] {
-                new Import("VAR", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.VAR",
               })
           .put(
               "DuplicateName",
-              new Import[] {
-                new Import(
-                    "DuplicateName", "org.omg.PortableInterceptor.ORBInitInfoPackage", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateName",
               })
           .put(
               "getDesktopPropertyValue",
-              new Import[] {
-                new Import("getDesktopPropertyValue", "javax.swing.LookAndFeel", true),
+              new String[] {
+                "static javax.swing.LookAndFeel.getDesktopPropertyValue",
               })
           .put(
               "MultiSplitPaneUI",
-              new Import[] {
-                new Import("MultiSplitPaneUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiSplitPaneUI",
               })
           .put(
               "NoRouteToHostException",
-              new Import[] {
-                new Import("NoRouteToHostException", "java.net", false),
+              new String[] {
+                "java.net.NoRouteToHostException",
               })
           .put(
               "DefaultTreeCellRenderer",
-              new Import[] {
-                new Import("DefaultTreeCellRenderer", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.DefaultTreeCellRenderer",
               })
           .put(
               "AbstractRegionPainter",
-              new Import[] {
-                new Import("AbstractRegionPainter", "javax.swing.plaf.nimbus", false),
+              new String[] {
+                "javax.swing.plaf.nimbus.AbstractRegionPainter",
               })
           .put(
               "InvalidParameterException",
-              new Import[] {
-                new Import("InvalidParameterException", "java.security", false),
+              new String[] {
+                "java.security.InvalidParameterException",
               })
           .put(
               "AbstractDocument",
-              new Import[] {
-                new Import("AbstractDocument", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.AbstractDocument",
               })
           .put(
               "UnmappableCharacterException",
-              new Import[] {
-                new Import("UnmappableCharacterException", "java.nio.charset", false),
+              new String[] {
+                "java.nio.charset.UnmappableCharacterException",
               })
           .put(
               "NameHolder",
-              new Import[] {
-                new Import("NameHolder", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.NameHolder",
               })
           .put(
               "INV_OBJREF",
-              new Import[] {
-                new Import("INV_OBJREF", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.INV_OBJREF",
               })
           .put(
               "ServantManager",
-              new Import[] {
-                new Import("ServantManager", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ServantManager",
               })
           .put(
               "isInterface",
-              new Import[] {
-                new Import("isInterface", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.isInterface",
               })
           .put(
               "ClosedSelectorException",
-              new Import[] {
-                new Import("ClosedSelectorException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.ClosedSelectorException",
               })
           .put(
               "SPOOL_AREA_FULL",
-              new Import[] {
-                new Import(
-                    "SPOOL_AREA_FULL", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.SPOOL_AREA_FULL",
               })
           .put(
               "AbstractMethodError",
-              new Import[] {
-                new Import("AbstractMethodError", "java.lang", false),
+              new String[] {
+                "java.lang.AbstractMethodError",
               })
           .put(
               "NULLORDER",
-              new Import[] {
-                new Import("NULLORDER", "java.text.CollationElementIterator", true),
+              new String[] {
+                "static java.text.CollationElementIterator.NULLORDER",
               })
           .put(
               "PARA_INDENT_RIGHT",
-              new Import[] {
-                new Import("PARA_INDENT_RIGHT", "javax.swing.text.html.HTMLEditorKit", true),
+              new String[] {
+                "static javax.swing.text.html.HTMLEditorKit.PARA_INDENT_RIGHT",
               })
           .put(
               "parsedExcessDays",
-              new Import[] {
-                new Import("parsedExcessDays", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.parsedExcessDays",
               })
           .put(
               "BindingIteratorHolder",
-              new Import[] {
-                new Import("BindingIteratorHolder", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.BindingIteratorHolder",
               })
           .put(
               "KEEP_CURRENT_RESULT",
-              new Import[] {
-                new Import("KEEP_CURRENT_RESULT", "java.sql.Statement", true),
+              new String[] {
+                "static java.sql.Statement.KEEP_CURRENT_RESULT",
               })
           .put(
               "INSTANCE",
-              new Import[] {
-                new Import("INSTANCE", "java.time.chrono.HijrahChronology", true),
-                new Import("INSTANCE", "java.time.chrono.IsoChronology", true),
-                new Import("INSTANCE", "java.time.chrono.JapaneseChronology", true),
-                new Import("INSTANCE", "java.time.chrono.MinguoChronology", true),
-                new Import("INSTANCE", "java.time.chrono.ThaiBuddhistChronology", true),
+              new String[] {
+                "static java.time.chrono.HijrahChronology.INSTANCE",
+                "static java.time.chrono.IsoChronology.INSTANCE",
+                "static java.time.chrono.JapaneseChronology.INSTANCE",
+                "static java.time.chrono.MinguoChronology.INSTANCE",
+                "static java.time.chrono.ThaiBuddhistChronology.INSTANCE",
               })
           .put(
               "SerialClob",
-              new Import[] {
-                new Import("SerialClob", "javax.sql.rowset.serial", false),
+              new String[] {
+                "javax.sql.rowset.serial.SerialClob",
               })
           .put(
               "TEXT_HIGHLIGHT_TEXT",
-              new Import[] {
-                new Import("TEXT_HIGHLIGHT_TEXT", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.TEXT_HIGHLIGHT_TEXT",
               })
           .put(
               "ETHIOPIC_EXTENDED",
-              new Import[] {
-                new Import("ETHIOPIC_EXTENDED", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ETHIOPIC_EXTENDED",
               })
           .put(
               "CYAN",
-              new Import[] {
-                new Import("CYAN", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.CYAN",
               })
           .put(
               "SQLType",
-              new Import[] {
-                new Import("SQLType", "java.sql", false),
+              new String[] {
+                "java.sql.SQLType",
               })
           .put(
               "WAIT_CURSOR",
-              new Import[] {
-                new Import("WAIT_CURSOR", "java.awt.Cursor", true),
-                new Import("WAIT_CURSOR", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Cursor.WAIT_CURSOR", "static java.awt.Frame.WAIT_CURSOR",
               })
           .put(
               "CENSIG",
-              new Import[] {
-                new Import("CENSIG", "java.util.jar.JarEntry", true),
-                new Import("CENSIG", "java.util.jar.JarFile", true),
-                new Import("CENSIG", "java.util.jar.JarInputStream", true),
-                new Import("CENSIG", "java.util.jar.JarOutputStream", true),
-                new Import("CENSIG", "java.util.zip.ZipEntry", true),
-                new Import("CENSIG", "java.util.zip.ZipFile", true),
-                new Import("CENSIG", "java.util.zip.ZipInputStream", true),
-                new Import("CENSIG", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENSIG",
+                "static java.util.jar.JarFile.CENSIG",
+                "static java.util.jar.JarInputStream.CENSIG",
+                "static java.util.jar.JarOutputStream.CENSIG",
+                "static java.util.zip.ZipEntry.CENSIG",
+                "static java.util.zip.ZipFile.CENSIG",
+                "static java.util.zip.ZipInputStream.CENSIG",
+                "static java.util.zip.ZipOutputStream.CENSIG",
               })
           .put(
               "parseFloat",
-              new Import[] {
-                new Import("parseFloat", "java.lang.Float", true),
-                new Import("parseFloat", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static java.lang.Float.parseFloat",
+                "static javax.xml.bind.DatatypeConverter.parseFloat",
               })
           .put(
               "Transparency",
-              new Import[] {
-                new Import("Transparency", "java.awt", false),
+              new String[] {
+                "java.awt.Transparency",
               })
           .put(
               "BENGALI",
-              new Import[] {
-                new Import("BENGALI", "java.awt.font.NumericShaper", true),
-                new Import("BENGALI", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.BENGALI",
+                "static java.lang.Character.UnicodeBlock.BENGALI",
               })
           .put(
               "PropertyPermission",
-              new Import[] {
-                new Import("PropertyPermission", "java.util", false),
+              new String[] {
+                "java.util.PropertyPermission",
               })
           .put(
               "JLayeredPane",
-              new Import[] {
-                new Import("JLayeredPane", "javax.swing", false),
+              new String[] {
+                "javax.swing.JLayeredPane",
               })
           .put(
               "ZipEntry",
-              new Import[] {
-                new Import("ZipEntry", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.ZipEntry",
               })
           .put(
               "CHAR",
-              new Import[] {
-                new Import("CHAR", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.CHAR",
               })
           .put(
               "WEIGHT_REGULAR",
-              new Import[] {
-                new Import("WEIGHT_REGULAR", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WEIGHT_REGULAR",
               })
           .put(
               "CHAKMA",
-              new Import[] {
-                new Import("CHAKMA", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CHAKMA",
               })
           .put(
               "X509CertSelector",
-              new Import[] {
-                new Import("X509CertSelector", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.X509CertSelector",
               })
           .put(
               "SortedSet",
-              new Import[] {
-                new Import("SortedSet", "java.util", false),
+              new String[] {
+                "java.util.SortedSet",
               })
           .put(
               "CHAM",
-              new Import[] {
-                new Import("CHAM", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.CHAM",
               })
           .put(
               "VERTICAL_SCROLLBAR_AS_NEEDED",
-              new Import[] {
-                new Import("VERTICAL_SCROLLBAR_AS_NEEDED", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.VERTICAL_SCROLLBAR_AS_NEEDED",
               })
           .put(
               "SOAPMessageHandler",
-              new Import[] {
-                new Import("SOAPMessageHandler", "javax.jws.soap", false),
+              new String[] {
+                "javax.jws.soap.SOAPMessageHandler",
               })
           .put(
               "UTF_8",
-              new Import[] {
-                new Import("UTF_8", "java.nio.charset.StandardCharsets", true),
+              new String[] {
+                "static java.nio.charset.StandardCharsets.UTF_8",
               })
           .put(
               "SliderUI",
-              new Import[] {
-                new Import("SliderUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.SliderUI",
               })
           .put(
               "FontMetrics",
-              new Import[] {
-                new Import("FontMetrics", "java.awt", false),
+              new String[] {
+                "java.awt.FontMetrics",
               })
           .put(
               "ListResourceBundle",
-              new Import[] {
-                new Import("ListResourceBundle", "java.util", false),
+              new String[] {
+                "java.util.ListResourceBundle",
               })
           .put(
               "SOAP_1_1_PROTOCOL",
-              new Import[] {
-                new Import("SOAP_1_1_PROTOCOL", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.SOAP_1_1_PROTOCOL",
               })
           .put(
               "ENVELOPE",
-              new Import[] {
-                new Import("ENVELOPE", "javax.print.attribute.standard.MediaTray", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaTray.ENVELOPE",
               })
           .put(
               "LIST_STYLE_POSITION",
-              new Import[] {
-                new Import("LIST_STYLE_POSITION", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.LIST_STYLE_POSITION",
               })
           .put(
               "isJavaLetterOrDigit",
-              new Import[] {
-                new Import("isJavaLetterOrDigit", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isJavaLetterOrDigit",
               })
           .put(
               "SAVE_DIALOG",
-              new Import[] {
-                new Import("SAVE_DIALOG", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.SAVE_DIALOG",
               })
           .put(
               "CENSIZ",
-              new Import[] {
-                new Import("CENSIZ", "java.util.jar.JarEntry", true),
-                new Import("CENSIZ", "java.util.jar.JarFile", true),
-                new Import("CENSIZ", "java.util.jar.JarInputStream", true),
-                new Import("CENSIZ", "java.util.jar.JarOutputStream", true),
-                new Import("CENSIZ", "java.util.zip.ZipEntry", true),
-                new Import("CENSIZ", "java.util.zip.ZipFile", true),
-                new Import("CENSIZ", "java.util.zip.ZipInputStream", true),
-                new Import("CENSIZ", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENSIZ",
+                "static java.util.jar.JarFile.CENSIZ",
+                "static java.util.jar.JarInputStream.CENSIZ",
+                "static java.util.jar.JarOutputStream.CENSIZ",
+                "static java.util.zip.ZipEntry.CENSIZ",
+                "static java.util.zip.ZipFile.CENSIZ",
+                "static java.util.zip.ZipInputStream.CENSIZ",
+                "static java.util.zip.ZipOutputStream.CENSIZ",
               })
           .put(
               "WINDOW_FOCUS_EVENT_MASK",
-              new Import[] {
-                new Import("WINDOW_FOCUS_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.WINDOW_FOCUS_EVENT_MASK",
               })
           .put(
               "MenuEvent",
-              new Import[] {
-                new Import("MenuEvent", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.MenuEvent",
               })
           .put(
               "TreeWillExpandListener",
-              new Import[] {
-                new Import("TreeWillExpandListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.TreeWillExpandListener",
               })
           .put(
               "ShortLookupTable",
-              new Import[] {
-                new Import("ShortLookupTable", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.ShortLookupTable",
               })
           .put(
               "CHOOSABLE_FILE_FILTER_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "CHOOSABLE_FILE_FILTER_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.CHOOSABLE_FILE_FILTER_CHANGED_PROPERTY",
               })
           .put(
               "isGuiAvailable",
-              new Import[] {
-                new Import("isGuiAvailable", "java.beans.Beans", true),
+              new String[] {
+                "static java.beans.Beans.isGuiAvailable",
               })
           .put(
               "icSigGamutTag",
-              new Import[] {
-                new Import("icSigGamutTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigGamutTag",
               })
           .put(
               "getSystemClassLoader",
-              new Import[] {
-                new Import("getSystemClassLoader", "java.lang.ClassLoader", true),
+              new String[] {
+                "static java.lang.ClassLoader.getSystemClassLoader",
               })
           .put(
               "IMPLEMENTATION_VERSION",
-              new Import[] {
-                new Import("IMPLEMENTATION_VERSION", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.IMPLEMENTATION_VERSION",
               })
           .put(
               "icHdrCreator",
-              new Import[] {
-                new Import("icHdrCreator", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrCreator",
               })
           .put(
               "getAnonymousLogger",
-              new Import[] {
-                new Import("getAnonymousLogger", "java.util.logging.Logger", true),
+              new String[] {
+                "static java.util.logging.Logger.getAnonymousLogger",
               })
           .put(
               "ACCESSIBLE_DESCRIPTION_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_DESCRIPTION_PROPERTY",
-                    "javax.accessibility.AccessibleContext",
-                    true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_DESCRIPTION_PROPERTY",
               })
           .put(
               "SynthCheckBoxMenuItemUI",
-              new Import[] {
-                new Import("SynthCheckBoxMenuItemUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthCheckBoxMenuItemUI",
               })
           .put(
               "NOT_ATTEMPTED",
-              new Import[] {
-                new Import(
-                    "NOT_ATTEMPTED", "javax.print.attribute.standard.PDLOverrideSupported", true),
+              new String[] {
+                "static javax.print.attribute.standard.PDLOverrideSupported.NOT_ATTEMPTED",
               })
           .put(
               "SOUTH_WEST",
-              new Import[] {
-                new Import("SOUTH_WEST", "javax.swing.SwingConstants", true),
+              new String[] {
+                "static javax.swing.SwingConstants.SOUTH_WEST",
               })
           .put(
               "ENTRY_DELETE",
-              new Import[] {
-                new Import("ENTRY_DELETE", "java.nio.file.StandardWatchEventKinds", true),
+              new String[] {
+                "static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE",
               })
           .put(
               "SignStyle",
-              new Import[] {
-                new Import("SignStyle", "java.time.format", false),
+              new String[] {
+                "java.time.format.SignStyle",
               })
           .put(
               "nonNull",
-              new Import[] {
-                new Import("nonNull", "java.util.Objects", true),
+              new String[] {
+                "static java.util.Objects.nonNull",
               })
           .put(
               "BYTES",
-              new Import[] {
-                new Import("BYTES", "java.lang.Byte", true),
-                new Import("BYTES", "java.lang.Character", true),
-                new Import("BYTES", "java.lang.Double", true),
-                new Import("BYTES", "java.lang.Float", true),
-                new Import("BYTES", "java.lang.Integer", true),
-                new Import("BYTES", "java.lang.Long", true),
-                new Import("BYTES", "java.lang.Short", true),
+              new String[] {
+                "static java.lang.Byte.BYTES",
+                "static java.lang.Character.BYTES",
+                "static java.lang.Double.BYTES",
+                "static java.lang.Float.BYTES",
+                "static java.lang.Integer.BYTES",
+                "static java.lang.Long.BYTES",
+                "static java.lang.Short.BYTES",
               })
           .put(
               "BrokenBarrierException",
-              new Import[] {
-                new Import("BrokenBarrierException", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.BrokenBarrierException",
               })
           .put(
               "TreeFolderIcon",
-              new Import[] {
-                new Import("TreeFolderIcon", "javax.swing.plaf.metal.MetalIconFactory", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalIconFactory.TreeFolderIcon",
               })
           .put(
               "upAction",
-              new Import[] {
-                new Import("upAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.upAction",
               })
           .put(
               "REQUEST_KEY_SIZE",
-              new Import[] {
-                new Import("REQUEST_KEY_SIZE", "javax.xml.ws.spi.http.HttpExchange", true),
+              new String[] {
+                "static javax.xml.ws.spi.http.HttpExchange.REQUEST_KEY_SIZE",
               })
           .put(
               "isUnique",
-              new Import[] {
-                new Import("isUnique", "java.rmi.dgc.VMID", true),
+              new String[] {
+                "static java.rmi.dgc.VMID.isUnique",
               })
           .put(
               "Attributes",
-              new Import[] {
-                new Import("Attributes", "java.util.jar", false),
-                new Import("Attributes", "javax.naming.directory", false),
-                new Import("Attributes", "org.xml.sax", false),
+              new String[] {
+                "java.util.jar.Attributes",
+                "javax.naming.directory.Attributes",
+                "org.xml.sax.Attributes",
               })
           .put(
               "MaskFormatter",
-              new Import[] {
-                new Import("MaskFormatter", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.MaskFormatter",
               })
           .put(
               "ToolTipUI",
-              new Import[] {
-                new Import("ToolTipUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.ToolTipUI",
               })
           .put(
               "TC_ARRAY",
-              new Import[] {
-                new Import("TC_ARRAY", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_ARRAY",
               })
           .put(
               "Pageable",
-              new Import[] {
-                new Import("Pageable", "java.awt.print", false),
+              new String[] {
+                "java.awt.print.Pageable",
               })
           .put(
               "TTL_DONT_CACHE",
-              new Import[] {
-                new Import("TTL_DONT_CACHE", "java.util.ResourceBundle.Control", true),
+              new String[] {
+                "static java.util.ResourceBundle.Control.TTL_DONT_CACHE",
               })
           .put(
               "functionNoNulls",
-              new Import[] {
-                new Import("functionNoNulls", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.functionNoNulls",
               })
           .put(
               "ObjectStreamException",
-              new Import[] {
-                new Import("ObjectStreamException", "java.io", false),
+              new String[] {
+                "java.io.ObjectStreamException",
               })
           .put(
               "DriverManager",
-              new Import[] {
-                new Import("DriverManager", "java.sql", false),
+              new String[] {
+                "java.sql.DriverManager",
               })
           .put(
               "selectAllAction",
-              new Import[] {
-                new Import("selectAllAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectAllAction",
               })
           .put(
               "LINE_SEPARATOR",
-              new Import[] {
-                new Import("LINE_SEPARATOR", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.LINE_SEPARATOR",
               })
           .put(
               "TypeConstraintException",
-              new Import[] {
-                new Import("TypeConstraintException", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.TypeConstraintException",
               })
           .put(
               "SOUTHEAST",
-              new Import[] {
-                new Import("SOUTHEAST", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.SOUTHEAST",
               })
           .put(
               "MXBean",
-              new Import[] {
-                new Import("MXBean", "javax.management", false),
+              new String[] {
+                "javax.management.MXBean",
               })
           .put(
               "SocketImplFactory",
-              new Import[] {
-                new Import("SocketImplFactory", "java.net", false),
+              new String[] {
+                "java.net.SocketImplFactory",
               })
           .put(
               "Inet6Address",
-              new Import[] {
-                new Import("Inet6Address", "java.net", false),
+              new String[] {
+                "java.net.Inet6Address",
               })
           .put(
               "DefaultTreeModel",
-              new Import[] {
-                new Import("DefaultTreeModel", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.DefaultTreeModel",
               })
           .put(
               "setSocketImplFactory",
-              new Import[] {
-                new Import("setSocketImplFactory", "java.net.Socket", true),
+              new String[] {
+                "static java.net.Socket.setSocketImplFactory",
               })
           .put(
               "ofOffset",
-              new Import[] {
-                new Import("ofOffset", "java.time.ZoneId", true),
+              new String[] {
+                "static java.time.ZoneId.ofOffset",
               })
           .put(
               "CommandObject",
-              new Import[] {
-                new Import("CommandObject", "javax.activation", false),
+              new String[] {
+                "javax.activation.CommandObject",
               })
           .put(
               "EventDirContext",
-              new Import[] {
-                new Import("EventDirContext", "javax.naming.event", false),
+              new String[] {
+                "javax.naming.event.EventDirContext",
               })
           .put(
               "drawBezel",
-              new Import[] {
-                new Import("drawBezel", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicGraphicsUtils.drawBezel",
               })
           .put(
               "FREE_STANDING_PROP",
-              new Import[] {
-                new Import("FREE_STANDING_PROP", "javax.swing.plaf.metal.MetalScrollBarUI", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalScrollBarUI.FREE_STANDING_PROP",
               })
           .put(
               "ManagerFactoryParameters",
-              new Import[] {
-                new Import("ManagerFactoryParameters", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.ManagerFactoryParameters",
               })
           .put(
               "SimpleElementVisitor7",
-              new Import[] {
-                new Import("SimpleElementVisitor7", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.SimpleElementVisitor7",
               })
           .put(
               "SimpleElementVisitor6",
-              new Import[] {
-                new Import("SimpleElementVisitor6", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.SimpleElementVisitor6",
               })
           .put(
               "SimpleElementVisitor8",
-              new Import[] {
-                new Import("SimpleElementVisitor8", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.SimpleElementVisitor8",
               })
           .put(
               "TreeLeafIcon",
-              new Import[] {
-                new Import("TreeLeafIcon", "javax.swing.plaf.metal.MetalIconFactory", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalIconFactory.TreeLeafIcon",
               })
           .put(
               "JProgressBar",
-              new Import[] {
-                new Import("JProgressBar", "javax.swing", false),
+              new String[] {
+                "javax.swing.JProgressBar",
               })
           .put(
               "ServiceUnavailableException",
-              new Import[] {
-                new Import("ServiceUnavailableException", "javax.naming", false),
+              new String[] {
+                "javax.naming.ServiceUnavailableException",
               })
           .put(
               "invokeAndWait",
-              new Import[] {
-                new Import("invokeAndWait", "java.awt.EventQueue", true),
-                new Import("invokeAndWait", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static java.awt.EventQueue.invokeAndWait",
+                "static javax.swing.SwingUtilities.invokeAndWait",
               })
           .put(
               "KeyEvent",
-              new Import[] {
-                new Import("KeyEvent", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.KeyEvent",
               })
           .put(
               "VetoableChangeListenerProxy",
-              new Import[] {
-                new Import("VetoableChangeListenerProxy", "java.beans", false),
+              new String[] {
+                "java.beans.VetoableChangeListenerProxy",
               })
           .put(
               "MEROITIC_CURSIVE",
-              new Import[] {
-                new Import("MEROITIC_CURSIVE", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MEROITIC_CURSIVE",
               })
           .put(
               "WeakReference",
-              new Import[] {
-                new Import("WeakReference", "java.lang.ref", false),
+              new String[] {
+                "java.lang.ref.WeakReference",
               })
           .put(
               "Collector",
-              new Import[] {
-                new Import("Collector", "java.util.stream", false),
+              new String[] {
+                "java.util.stream.Collector",
               })
           .put(
               "ENCLOSED_CJK_LETTERS_AND_MONTHS",
-              new Import[] {
-                new Import(
-                    "ENCLOSED_CJK_LETTERS_AND_MONTHS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.ENCLOSED_CJK_LETTERS_AND_MONTHS",
               })
           .put(
               "CurrentHelper",
-              new Import[] {
-                new Import("CurrentHelper", "org.omg.CORBA", false),
-                new Import("CurrentHelper", "org.omg.PortableInterceptor", false),
-                new Import("CurrentHelper", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.CORBA.CurrentHelper",
+                "org.omg.PortableInterceptor.CurrentHelper",
+                "org.omg.PortableServer.CurrentHelper",
               })
           .put(
               "TIMES",
-              new Import[] {
-                new Import("TIMES", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.TIMES",
               })
           .put(
               "AclEntryType",
-              new Import[] {
-                new Import("AclEntryType", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.AclEntryType",
               })
           .put(
               "selectWordAction",
-              new Import[] {
-                new Import("selectWordAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectWordAction",
               })
           .put(
               "forDigit",
-              new Import[] {
-                new Import("forDigit", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.forDigit",
               })
           .put(
               "CertPathChecker",
-              new Import[] {
-                new Import("CertPathChecker", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertPathChecker",
               })
           .put(
               "DATATYPEFACTORY_PROPERTY",
-              new Import[] {
-                new Import("DATATYPEFACTORY_PROPERTY", "javax.xml.datatype.DatatypeFactory", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeFactory.DATATYPEFACTORY_PROPERTY",
               })
           .put(
               "getDefault",
-              new Import[] {
-                new Import("getDefault", "java.net.CookieHandler", true),
-                new Import("getDefault", "java.net.ProxySelector", true),
-                new Import("getDefault", "java.net.ResponseCache", true),
-                new Import("getDefault", "java.nio.file.FileSystems", true),
-                new Import("getDefault", "java.util.Locale", true),
-                new Import("getDefault", "java.util.TimeZone", true),
-                new Import("getDefault", "javax.net.ServerSocketFactory", true),
-                new Import("getDefault", "javax.net.SocketFactory", true),
-                new Import("getDefault", "javax.net.ssl.SSLContext", true),
-                new Import("getDefault", "javax.net.ssl.SSLServerSocketFactory", true),
-                new Import("getDefault", "javax.net.ssl.SSLSocketFactory", true),
+              new String[] {
+                "static java.net.CookieHandler.getDefault",
+                "static java.net.ProxySelector.getDefault",
+                "static java.net.ResponseCache.getDefault",
+                "static java.nio.file.FileSystems.getDefault",
+                "static java.util.Locale.getDefault",
+                "static java.util.TimeZone.getDefault",
+                "static javax.net.ServerSocketFactory.getDefault",
+                "static javax.net.SocketFactory.getDefault",
+                "static javax.net.ssl.SSLContext.getDefault",
+                "static javax.net.ssl.SSLServerSocketFactory.getDefault",
+                "static javax.net.ssl.SSLSocketFactory.getDefault",
               })
           .put(
               "ParagraphView",
-              new Import[] {
-                new Import("ParagraphView", "javax.swing.text", false),
-                new Import("ParagraphView", "javax.swing.text.html", false),
+              new String[] {
+                "javax.swing.text.ParagraphView", "javax.swing.text.html.ParagraphView",
               })
           .put(
               "FlipContents",
-              new Import[] {
-                new Import("FlipContents", "java.awt.BufferCapabilities", false),
+              new String[] {
+                "java.awt.BufferCapabilities.FlipContents",
               })
           .put(
               "showInternalMessageDialog",
-              new Import[] {
-                new Import("showInternalMessageDialog", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.showInternalMessageDialog",
               })
           .put(
               "BUTTON2_DOWN_MASK",
-              new Import[] {
-                new Import("BUTTON2_DOWN_MASK", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.event.InputEvent.BUTTON2_DOWN_MASK",
               })
           .put(
               "PRINTER",
-              new Import[] {
-                new Import("PRINTER", "java.awt.JobAttributes.DestinationType", true),
+              new String[] {
+                "static java.awt.JobAttributes.DestinationType.PRINTER",
               })
           .put(
               "VK_JAPANESE_HIRAGANA",
-              new Import[] {
-                new Import("VK_JAPANESE_HIRAGANA", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_JAPANESE_HIRAGANA",
               })
           .build();
 }
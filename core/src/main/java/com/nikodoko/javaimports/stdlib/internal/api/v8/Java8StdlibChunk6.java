@@ -2,1839 +2,1794 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk6 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "ENDSIZ",
-              new Import[] {
-                new Import("ENDSIZ", "java.util.jar.JarEntry", true),
-                new Import("ENDSIZ", "java.util.jar.JarFile", true),
-                new Import("ENDSIZ", "java.util.jar.JarInputStream", true),
-                new Import("ENDSIZ", "java.util.jar.JarOutputStream", true),
-                new Import("ENDSIZ", "java.util.zip.ZipEntry", true),
-                new Import("ENDSIZ", "java.util.zip.ZipFile", true),
-                new Import("ENDSIZ", "java.util.zip.ZipInputStream", true),
-                new Import("ENDSIZ", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.ENDSIZ",
+                "static java.util.jar.JarFile.ENDSIZ",
+                "static java.util.jar.JarInputStream.ENDSIZ",
+                "static java.util.jar.JarOutputStream.ENDSIZ",
+                "static java.util.zip.ZipEntry.ENDSIZ",
+                "static java.util.zip.ZipFile.ENDSIZ",
+                "static java.util.zip.ZipInputStream.ENDSIZ",
+                "static java.util.zip.ZipOutputStream.ENDSIZ",
               })
           .put(
               "DST_OUT",
-              new Import[] {
-                new Import("DST_OUT", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.DST_OUT",
               })
           .put(
               "getControlDisabled",
-              new Import[] {
-                new Import("getControlDisabled", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getControlDisabled",
               })
           .put(
               "ENV_INVITE",
-              new Import[] {
-                new Import("ENV_INVITE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ENV_INVITE",
               })
           .put(
               "SYSTEM_PORT",
-              new Import[] {
-                new Import("SYSTEM_PORT", "java.rmi.activation.ActivationSystem", true),
+              new String[] {
+                "static java.rmi.activation.ActivationSystem.SYSTEM_PORT",
               })
           .put(
               "CancelledKeyException",
-              new Import[] {
-                new Import("CancelledKeyException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.CancelledKeyException",
               })
           .put(
               "LATIN_DIGITS",
-              new Import[] {
-                new Import("LATIN_DIGITS", "java.awt.im.InputSubset", true),
+              new String[] {
+                "static java.awt.im.InputSubset.LATIN_DIGITS",
               })
           .put(
               "TTL_NO_EXPIRATION_CONTROL",
-              new Import[] {
-                new Import("TTL_NO_EXPIRATION_CONTROL", "java.util.ResourceBundle.Control", true),
+              new String[] {
+                "static java.util.ResourceBundle.Control.TTL_NO_EXPIRATION_CONTROL",
               })
           .put(
               "BAD_PARAM",
-              new Import[] {
-                new Import("BAD_PARAM", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.BAD_PARAM",
               })
           .put(
               "VK_BRACERIGHT",
-              new Import[] {
-                new Import("VK_BRACERIGHT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_BRACERIGHT",
               })
           .put(
               "ToolBarUI",
-              new Import[] {
-                new Import("ToolBarUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.ToolBarUI",
               })
           .put(
               "firstDayOfNextYear",
-              new Import[] {
-                new Import("firstDayOfNextYear", "java.time.temporal.TemporalAdjusters", true),
+              new String[] {
+                "static java.time.temporal.TemporalAdjusters.firstDayOfNextYear",
               })
           .put(
               "ONE_SIDED",
-              new Import[] {
-                new Import("ONE_SIDED", "java.awt.JobAttributes.SidesType", true),
-                new Import("ONE_SIDED", "javax.print.attribute.standard.Sides", true),
+              new String[] {
+                "static java.awt.JobAttributes.SidesType.ONE_SIDED",
+                "static javax.print.attribute.standard.Sides.ONE_SIDED",
               })
           .put(
               "KATAKANA_PHONETIC_EXTENSIONS",
-              new Import[] {
-                new Import(
-                    "KATAKANA_PHONETIC_EXTENSIONS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.KATAKANA_PHONETIC_EXTENSIONS",
               })
           .put(
               "from_int",
-              new Import[] {
-                new Import("from_int", "org.omg.CORBA.CompletionStatus", true),
-                new Import("from_int", "org.omg.CORBA.DefinitionKind", true),
-                new Import("from_int", "org.omg.CORBA.ParameterMode", true),
-                new Import("from_int", "org.omg.CORBA.SetOverrideType", true),
-                new Import("from_int", "org.omg.CORBA.TCKind", true),
-                new Import("from_int", "org.omg.CosNaming.BindingType", true),
-                new Import(
-                    "from_int", "org.omg.CosNaming.NamingContextPackage.NotFoundReason", true),
-                new Import("from_int", "org.omg.PortableServer.IdAssignmentPolicyValue", true),
-                new Import("from_int", "org.omg.PortableServer.IdUniquenessPolicyValue", true),
-                new Import(
-                    "from_int", "org.omg.PortableServer.ImplicitActivationPolicyValue", true),
-                new Import("from_int", "org.omg.PortableServer.LifespanPolicyValue", true),
-                new Import("from_int", "org.omg.PortableServer.RequestProcessingPolicyValue", true),
-                new Import("from_int", "org.omg.PortableServer.ServantRetentionPolicyValue", true),
-                new Import("from_int", "org.omg.PortableServer.ThreadPolicyValue", true),
-                new Import("from_int", "org.omg.PortableServer.POAManagerPackage.State", true),
+              new String[] {
+                "static org.omg.CORBA.CompletionStatus.from_int",
+                "static org.omg.CORBA.DefinitionKind.from_int",
+                "static org.omg.CORBA.ParameterMode.from_int",
+                "static org.omg.CORBA.SetOverrideType.from_int",
+                "static org.omg.CORBA.TCKind.from_int",
+                "static org.omg.CosNaming.BindingType.from_int",
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundReason.from_int",
+                "static org.omg.PortableServer.IdAssignmentPolicyValue.from_int",
+                "static org.omg.PortableServer.IdUniquenessPolicyValue.from_int",
+                "static org.omg.PortableServer.ImplicitActivationPolicyValue.from_int",
+                "static org.omg.PortableServer.LifespanPolicyValue.from_int",
+                "static org.omg.PortableServer.RequestProcessingPolicyValue.from_int",
+                "static org.omg.PortableServer.ServantRetentionPolicyValue.from_int",
+                "static org.omg.PortableServer.ThreadPolicyValue.from_int",
+                "static org.omg.PortableServer.POAManagerPackage.State.from_int",
               })
           .put(
               "INVOCATION_EVENT_MASK",
-              new Import[] {
-                new Import("INVOCATION_EVENT_MASK", "java.awt.AWTEvent", true),
+              new String[] {
+                "static java.awt.AWTEvent.INVOCATION_EVENT_MASK",
               })
           .put(
               "SSLProtocolException",
-              new Import[] {
-                new Import("SSLProtocolException", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLProtocolException",
               })
           .put(
               "JAVA_OBJECT",
-              new Import[] {
-                new Import("JAVA_OBJECT", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.JAVA_OBJECT",
               })
           .put(
               "DecimalStyle",
-              new Import[] {
-                new Import("DecimalStyle", "java.time.format", false),
+              new String[] {
+                "java.time.format.DecimalStyle",
               })
           .put(
               "CompositeView",
-              new Import[] {
-                new Import("CompositeView", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.CompositeView",
               })
           .put(
               "DynSequence",
-              new Import[] {
-                new Import("DynSequence", "org.omg.CORBA", false),
-                new Import("DynSequence", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.CORBA.DynSequence", "org.omg.DynamicAny.DynSequence",
               })
           .put(
               "TAG_LOCA",
-              new Import[] {
-                new Import("TAG_LOCA", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_LOCA",
               })
           .put(
               "SignedObject",
-              new Import[] {
-                new Import("SignedObject", "java.security", false),
+              new String[] {
+                "java.security.SignedObject",
               })
           .put(
               "getAvailableLocales",
-              new Import[] {
-                new Import("getAvailableLocales", "java.text.BreakIterator", true),
-                new Import("getAvailableLocales", "java.text.Collator", true),
-                new Import("getAvailableLocales", "java.text.DateFormat", true),
-                new Import("getAvailableLocales", "java.text.DateFormatSymbols", true),
-                new Import("getAvailableLocales", "java.text.DecimalFormatSymbols", true),
-                new Import("getAvailableLocales", "java.text.NumberFormat", true),
-                new Import("getAvailableLocales", "java.time.format.DecimalStyle", true),
-                new Import("getAvailableLocales", "java.util.Calendar", true),
-                new Import("getAvailableLocales", "java.util.Locale", true),
+              new String[] {
+                "static java.text.BreakIterator.getAvailableLocales",
+                "static java.text.Collator.getAvailableLocales",
+                "static java.text.DateFormat.getAvailableLocales",
+                "static java.text.DateFormatSymbols.getAvailableLocales",
+                "static java.text.DecimalFormatSymbols.getAvailableLocales",
+                "static java.text.NumberFormat.getAvailableLocales",
+                "static java.time.format.DecimalStyle.getAvailableLocales",
+                "static java.util.Calendar.getAvailableLocales",
+                "static java.util.Locale.getAvailableLocales",
               })
           .put(
               "getHSBColor",
-              new Import[] {
-                new Import("getHSBColor", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.getHSBColor",
               })
           .put(
               "emptyEnumeration",
-              new Import[] {
-                new Import("emptyEnumeration", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.emptyEnumeration",
               })
           .put(
               "BufferedImageFilter",
-              new Import[] {
-                new Import("BufferedImageFilter", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.BufferedImageFilter",
               })
           .put(
               "Parameters",
-              new Import[] {
-                new Import("Parameters", "java.security.Policy", false),
-                new Import("Parameters", "javax.security.auth.login.Configuration", false),
+              new String[] {
+                "java.security.Policy.Parameters",
+                "javax.security.auth.login.Configuration.Parameters",
               })
           .put(
               "andFilter",
-              new Import[] {
-                new Import("andFilter", "javax.swing.RowFilter", true),
+              new String[] {
+                "static javax.swing.RowFilter.andFilter",
               })
           .put(
               "MAX_BUFFER",
-              new Import[] {
-                new Import("MAX_BUFFER", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.MAX_BUFFER",
               })
           .put(
               "VOLUME",
-              new Import[] {
-                new Import("VOLUME", "javax.sound.sampled.FloatControl.Type", true),
+              new String[] {
+                "static javax.sound.sampled.FloatControl.Type.VOLUME",
               })
           .put(
               "JWindow",
-              new Import[] {
-                new Import("JWindow", "javax.swing", false),
+              new String[] {
+                "javax.swing.JWindow",
               })
           .put(
               "CompositeName",
-              new Import[] {
-                new Import("CompositeName", "javax.naming", false),
+              new String[] {
+                "javax.naming.CompositeName",
               })
           .put(
               "MemoryImageSource",
-              new Import[] {
-                new Import("MemoryImageSource", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.MemoryImageSource",
               })
           .put(
               "layoutCompoundLabel",
-              new Import[] {
-                new Import("layoutCompoundLabel", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.layoutCompoundLabel",
               })
           .put(
               "OLD_PERSIAN",
-              new Import[] {
-                new Import("OLD_PERSIAN", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.OLD_PERSIAN",
               })
           .put(
               "_tk_any",
-              new Import[] {
-                new Import("_tk_any", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_any",
               })
           .put(
               "_dk_none",
-              new Import[] {
-                new Import("_dk_none", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_none",
               })
           .put(
               "ParameterMode",
-              new Import[] {
-                new Import("ParameterMode", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ParameterMode",
               })
           .put(
               "YES_NO_CANCEL_OPTION",
-              new Import[] {
-                new Import(
-                    "YES_NO_CANCEL_OPTION",
-                    "javax.security.auth.callback.ConfirmationCallback",
-                    true),
-                new Import("YES_NO_CANCEL_OPTION", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.security.auth.callback.ConfirmationCallback.YES_NO_CANCEL_OPTION",
+                "static javax.swing.JOptionPane.YES_NO_CANCEL_OPTION",
               })
           .put(
               "getType",
-              new Import[] {
-                new Import("getType", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.getType",
               })
           .put(
               "PAGE_TAB",
-              new Import[] {
-                new Import("PAGE_TAB", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.PAGE_TAB",
               })
           .put(
               "W3CEndpointReference",
-              new Import[] {
-                new Import("W3CEndpointReference", "javax.xml.ws.wsaddressing", false),
+              new String[] {
+                "javax.xml.ws.wsaddressing.W3CEndpointReference",
               })
           .put(
               "getMenuSelectedBackground",
-              new Import[] {
-                new Import(
-                    "getMenuSelectedBackground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getMenuSelectedBackground",
               })
           .put(
               "ABORTED",
-              new Import[] {
-                new Import("ABORTED", "java.awt.MediaTracker", true),
-                new Import("ABORTED", "javax.print.attribute.standard.JobState", true),
+              new String[] {
+                "static java.awt.MediaTracker.ABORTED",
+                "static javax.print.attribute.standard.JobState.ABORTED",
               })
           .put(
               "ImageWriterSpi",
-              new Import[] {
-                new Import("ImageWriterSpi", "javax.imageio.spi", false),
+              new String[] {
+                "javax.imageio.spi.ImageWriterSpi",
               })
           .put(
               "NORESIZE",
-              new Import[] {
-                new Import("NORESIZE", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.NORESIZE",
               })
           .put(
               "ENDSIG",
-              new Import[] {
-                new Import("ENDSIG", "java.util.jar.JarEntry", true),
-                new Import("ENDSIG", "java.util.jar.JarFile", true),
-                new Import("ENDSIG", "java.util.jar.JarInputStream", true),
-                new Import("ENDSIG", "java.util.jar.JarOutputStream", true),
-                new Import("ENDSIG", "java.util.zip.ZipEntry", true),
-                new Import("ENDSIG", "java.util.zip.ZipFile", true),
-                new Import("ENDSIG", "java.util.zip.ZipInputStream", true),
-                new Import("ENDSIG", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.ENDSIG",
+                "static java.util.jar.JarFile.ENDSIG",
+                "static java.util.jar.JarInputStream.ENDSIG",
+                "static java.util.jar.JarOutputStream.ENDSIG",
+                "static java.util.zip.ZipEntry.ENDSIG",
+                "static java.util.zip.ZipFile.ENDSIG",
+                "static java.util.zip.ZipInputStream.ENDSIG",
+                "static java.util.zip.ZipOutputStream.ENDSIG",
               })
           .put(
               "ACTION_MOVE",
-              new Import[] {
-                new Import("ACTION_MOVE", "java.awt.dnd.DnDConstants", true),
+              new String[] {
+                "static java.awt.dnd.DnDConstants.ACTION_MOVE",
               })
           .put(
               "DOMError",
-              new Import[] {
-                new Import("DOMError", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.DOMError",
               })
           .put(
               "SYSTEM_ID",
-              new Import[] {
-                new Import("SYSTEM_ID", "org.omg.PortableServer.IdAssignmentPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.IdAssignmentPolicyValue.SYSTEM_ID",
               })
           .put(
               "SMPTE_30DROP",
-              new Import[] {
-                new Import("SMPTE_30DROP", "javax.sound.midi.Sequence", true),
+              new String[] {
+                "static javax.sound.midi.Sequence.SMPTE_30DROP",
               })
           .put(
               "isProtected",
-              new Import[] {
-                new Import("isProtected", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.isProtected",
               })
           .put(
               "SupportedAnnotationTypes",
-              new Import[] {
-                new Import("SupportedAnnotationTypes", "javax.annotation.processing", false),
+              new String[] {
+                "javax.annotation.processing.SupportedAnnotationTypes",
               })
           .put(
               "selectionBeginLineAction",
-              new Import[] {
-                new Import("selectionBeginLineAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectionBeginLineAction",
               })
           .put(
               "SOAPElement",
-              new Import[] {
-                new Import("SOAPElement", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SOAPElement",
               })
           .put(
               "XA_RBPROTO",
-              new Import[] {
-                new Import("XA_RBPROTO", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_RBPROTO",
               })
           .put(
               "KEY_RELEASED",
-              new Import[] {
-                new Import("KEY_RELEASED", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.KEY_RELEASED",
               })
           .put(
               "StartTlsRequest",
-              new Import[] {
-                new Import("StartTlsRequest", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.StartTlsRequest",
               })
           .put(
               "ParseConversionEvent",
-              new Import[] {
-                new Import("ParseConversionEvent", "javax.xml.bind", false),
+              new String[] {
+                "javax.xml.bind.ParseConversionEvent",
               })
           .put(
               "Enumeration",
-              new Import[] {
-                new Import("Enumeration", "java.util", false),
+              new String[] {
+                "java.util.Enumeration",
               })
           .put(
               "DynFixedHelper",
-              new Import[] {
-                new Import("DynFixedHelper", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynFixedHelper",
               })
           .put(
               "INVALID_TRANSACTION",
-              new Import[] {
-                new Import("INVALID_TRANSACTION", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.INVALID_TRANSACTION",
               })
           .put(
               "GREATER",
-              new Import[] {
-                new Import("GREATER", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.GREATER",
               })
           .put(
               "isSynchronized",
-              new Import[] {
-                new Import("isSynchronized", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.isSynchronized",
               })
           .put(
               "TreeControlIcon",
-              new Import[] {
-                new Import("TreeControlIcon", "javax.swing.plaf.metal.MetalIconFactory", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalIconFactory.TreeControlIcon",
               })
           .put(
               "ToggleButtonModel",
-              new Import[] {
-                new Import("ToggleButtonModel", "javax.swing.JToggleButton", false),
+              new String[] {
+                "javax.swing.JToggleButton.ToggleButtonModel",
               })
           .put(
               "ISO_TIME",
-              new Import[] {
-                new Import("ISO_TIME", "java.time.format.DateTimeFormatter", true),
+              new String[] {
+                "static java.time.format.DateTimeFormatter.ISO_TIME",
               })
           .put(
               "BORDER_RIGHT_STYLE",
-              new Import[] {
-                new Import("BORDER_RIGHT_STYLE", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_RIGHT_STYLE",
               })
           .put(
               "DSAPublicKey",
-              new Import[] {
-                new Import("DSAPublicKey", "java.security.interfaces", false),
+              new String[] {
+                "java.security.interfaces.DSAPublicKey",
               })
           .put(
               "DEFAULT_COMPRESSION",
-              new Import[] {
-                new Import("DEFAULT_COMPRESSION", "java.util.zip.Deflater", true),
+              new String[] {
+                "static java.util.zip.Deflater.DEFAULT_COMPRESSION",
               })
           .put(
               "AppConfigurationEntry",
-              new Import[] {
-                new Import("AppConfigurationEntry", "javax.security.auth.login", false),
+              new String[] {
+                "javax.security.auth.login.AppConfigurationEntry",
               })
           .put(
               "WebServiceProvider",
-              new Import[] {
-                new Import("WebServiceProvider", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.WebServiceProvider",
               })
           .put(
               "DatagramSocketImpl",
-              new Import[] {
-                new Import("DatagramSocketImpl", "java.net", false),
+              new String[] {
+                "java.net.DatagramSocketImpl",
               })
           .put(
               "UNKNOWN_LENGTH",
-              new Import[] {
-                new Import("UNKNOWN_LENGTH", "javax.sound.midi.MidiFileFormat", true),
+              new String[] {
+                "static javax.sound.midi.MidiFileFormat.UNKNOWN_LENGTH",
               })
           .put(
               "XmlEnumValue",
-              new Import[] {
-                new Import("XmlEnumValue", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlEnumValue",
               })
           .put(
               "COMMON_INDIC_NUMBER_FORMS",
-              new Import[] {
-                new Import("COMMON_INDIC_NUMBER_FORMS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.COMMON_INDIC_NUMBER_FORMS",
               })
           .put(
               "probablePrime",
-              new Import[] {
-                new Import("probablePrime", "java.math.BigInteger", true),
+              new String[] {
+                "static java.math.BigInteger.probablePrime",
               })
           .put(
               "SecureRandomSpi",
-              new Import[] {
-                new Import("SecureRandomSpi", "java.security", false),
+              new String[] {
+                "java.security.SecureRandomSpi",
               })
           .put(
               "PrintGraphics",
-              new Import[] {
-                new Import("PrintGraphics", "java.awt", false),
+              new String[] {
+                "java.awt.PrintGraphics",
               })
           .put(
               "encode",
-              new Import[] {
-                new Import("encode", "java.net.URLEncoder", true),
+              new String[] {
+                "static java.net.URLEncoder.encode",
               })
           .put(
               "ENTITY_REFERENCE",
-              new Import[] {
-                new Import("ENTITY_REFERENCE", "javax.xml.stream.XMLStreamConstants", true),
+              new String[] {
+                "static javax.xml.stream.XMLStreamConstants.ENTITY_REFERENCE",
               })
           .put(
               "VALUE_TEXT_ANTIALIAS_LCD_VBGR",
-              new Import[] {
-                new Import("VALUE_TEXT_ANTIALIAS_LCD_VBGR", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_VBGR",
               })
           .put(
               "ACTIVE_CAPTION_BORDER",
-              new Import[] {
-                new Import("ACTIVE_CAPTION_BORDER", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.ACTIVE_CAPTION_BORDER",
               })
           .put(
               "EndElement",
-              new Import[] {
-                new Import("EndElement", "javax.xml.stream.events", false),
+              new String[] {
+                "javax.xml.stream.events.EndElement",
               })
           .put(
               "verifyAttributeCategory",
-              new Import[] {
-                new Import(
-                    "verifyAttributeCategory", "javax.print.attribute.AttributeSetUtilities", true),
+              new String[] {
+                "static javax.print.attribute.AttributeSetUtilities.verifyAttributeCategory",
               })
           .put(
               "SEGMENT_LIMIT",
-              new Import[] {
-                new Import("SEGMENT_LIMIT", "java.util.jar.Pack200.Packer", true),
+              new String[] {
+                "static java.util.jar.Pack200.Packer.SEGMENT_LIMIT",
               })
           .put(
               "Port",
-              new Import[] {
-                new Import("Port", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.Port",
               })
           .put(
               "URI_NS_SOAP_ENVELOPE",
-              new Import[] {
-                new Import("URI_NS_SOAP_ENVELOPE", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.URI_NS_SOAP_ENVELOPE",
               })
           .put(
               "TOTOP_TORIGHT",
-              new Import[] {
-                new Import(
-                    "TOTOP_TORIGHT", "javax.print.attribute.standard.PresentationDirection", true),
+              new String[] {
+                "static javax.print.attribute.standard.PresentationDirection.TOTOP_TORIGHT",
               })
           .put(
               "XMLStructure",
-              new Import[] {
-                new Import("XMLStructure", "javax.xml.crypto", false),
+              new String[] {
+                "javax.xml.crypto.XMLStructure",
               })
           .put(
               "CHECKED",
-              new Import[] {
-                new Import("CHECKED", "javax.accessibility.AccessibleState", true),
-                new Import("CHECKED", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.CHECKED",
+                "static javax.swing.text.html.HTML.Attribute.CHECKED",
               })
           .put(
               "CENATT",
-              new Import[] {
-                new Import("CENATT", "java.util.jar.JarEntry", true),
-                new Import("CENATT", "java.util.jar.JarFile", true),
-                new Import("CENATT", "java.util.jar.JarInputStream", true),
-                new Import("CENATT", "java.util.jar.JarOutputStream", true),
-                new Import("CENATT", "java.util.zip.ZipEntry", true),
-                new Import("CENATT", "java.util.zip.ZipFile", true),
-                new Import("CENATT", "java.util.zip.ZipInputStream", true),
-                new Import("CENATT", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENATT",
+                "static java.util.jar.JarFile.CENATT",
+                "static java.util.jar.JarInputStream.CENATT",
+                "static java.util.jar.JarOutputStream.CENATT",
+                "static java.util.zip.ZipEntry.CENATT",
+                "static java.util.zip.ZipFile.CENATT",
+                "static java.util.zip.ZipInputStream.CENATT",
+                "static java.util.zip.ZipOutputStream.CENATT",
               })
           .put(
               "GraphicsDevice",
-              new Import[] {
-                new Import("GraphicsDevice", "java.awt", false),
+              new String[] {
+                "java.awt.GraphicsDevice",
               })
           .put(
               "LYCIAN",
-              new Import[] {
-                new Import("LYCIAN", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.LYCIAN",
               })
           .put(
               "VK_BACK_QUOTE",
-              new Import[] {
-                new Import("VK_BACK_QUOTE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_BACK_QUOTE",
               })
           .put(
               "NO_OPTION",
-              new Import[] {
-                new Import("NO_OPTION", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.NO_OPTION",
               })
           .put(
               "CENATX",
-              new Import[] {
-                new Import("CENATX", "java.util.jar.JarEntry", true),
-                new Import("CENATX", "java.util.jar.JarFile", true),
-                new Import("CENATX", "java.util.jar.JarInputStream", true),
-                new Import("CENATX", "java.util.jar.JarOutputStream", true),
-                new Import("CENATX", "java.util.zip.ZipEntry", true),
-                new Import("CENATX", "java.util.zip.ZipFile", true),
-                new Import("CENATX", "java.util.zip.ZipInputStream", true),
-                new Import("CENATX", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENATX",
+                "static java.util.jar.JarFile.CENATX",
+                "static java.util.jar.JarInputStream.CENATX",
+                "static java.util.jar.JarOutputStream.CENATX",
+                "static java.util.zip.ZipEntry.CENATX",
+                "static java.util.zip.ZipFile.CENATX",
+                "static java.util.zip.ZipInputStream.CENATX",
+                "static java.util.zip.ZipOutputStream.CENATX",
               })
           .put(
               "XA_RBCOMMFAIL",
-              new Import[] {
-                new Import("XA_RBCOMMFAIL", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_RBCOMMFAIL",
               })
           .put(
               "NOPOS",
-              new Import[] {
-                new Import("NOPOS", "javax.tools.Diagnostic", true),
+              new String[] {
+                "static javax.tools.Diagnostic.NOPOS",
               })
           .put(
               "DOCUMENT_NODE",
-              new Import[] {
-                new Import("DOCUMENT_NODE", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.DOCUMENT_NODE",
               })
           .put(
               "ConnectIOException",
-              new Import[] {
-                new Import("ConnectIOException", "java.rmi", false),
+              new String[] {
+                "java.rmi.ConnectIOException",
               })
           .put(
               "REQUIRED",
-              new Import[] {
-                new Import("REQUIRED", "java.awt.GraphicsConfigTemplate", true),
-                new Import(
-                    "REQUIRED",
-                    "javax.security.auth.login.AppConfigurationEntry.LoginModuleControlFlag",
-                    true),
-                new Import("REQUIRED", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static java.awt.GraphicsConfigTemplate.REQUIRED",
+                "static"
+                    + " javax.security.auth.login.AppConfigurationEntry.LoginModuleControlFlag.REQUIRED",
+                "static javax.swing.text.html.parser.DTDConstants.REQUIRED",
               })
           .put(
               "UnsupportedEncodingException",
-              new Import[] {
-                new Import("UnsupportedEncodingException", "java.io", false),
+              new String[] {
+                "java.io.UnsupportedEncodingException",
               })
           .put(
               "ACTIVITY_COMPLETED",
-              new Import[] {
-                new Import("ACTIVITY_COMPLETED", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ACTIVITY_COMPLETED",
               })
           .put(
               "BindingListHelper",
-              new Import[] {
-                new Import("BindingListHelper", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.BindingListHelper",
               })
           .put(
               "VALUE_DITHER_DEFAULT",
-              new Import[] {
-                new Import("VALUE_DITHER_DEFAULT", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_DITHER_DEFAULT",
               })
           .put(
               "SCROLL_PANE",
-              new Import[] {
-                new Import("SCROLL_PANE", "javax.accessibility.AccessibleRole", true),
-                new Import("SCROLL_PANE", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.SCROLL_PANE",
+                "static javax.swing.plaf.synth.Region.SCROLL_PANE",
               })
           .put(
               "Paint",
-              new Import[] {
-                new Import("Paint", "java.awt", false),
+              new String[] {
+                "java.awt.Paint",
               })
           .put(
               "getMimeEncoder",
-              new Import[] {
-                new Import("getMimeEncoder", "java.util.Base64", true),
+              new String[] {
+                "static java.util.Base64.getMimeEncoder",
               })
           .put(
               "BACKGROUND",
-              new Import[] {
-                new Import("BACKGROUND", "java.awt.BufferCapabilities.FlipContents", true),
-                new Import("BACKGROUND", "java.awt.font.TextAttribute", true),
-                new Import("BACKGROUND", "javax.swing.plaf.synth.ColorType", true),
-                new Import("BACKGROUND", "javax.swing.text.html.CSS.Attribute", true),
-                new Import("BACKGROUND", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static java.awt.BufferCapabilities.FlipContents.BACKGROUND",
+                "static java.awt.font.TextAttribute.BACKGROUND",
+                "static javax.swing.plaf.synth.ColorType.BACKGROUND",
+                "static javax.swing.text.html.CSS.Attribute.BACKGROUND",
+                "static javax.swing.text.html.HTML.Attribute.BACKGROUND",
               })
           .put(
               "eq",
-              new Import[] {
-                new Import("eq", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.eq",
               })
           .put(
               "OptionChecker",
-              new Import[] {
-                new Import("OptionChecker", "javax.tools", false),
+              new String[] {
+                "javax.tools.OptionChecker",
               })
           .put(
               "REQUIRES_ATTENTION",
-              new Import[] {
-                new Import("REQUIRES_ATTENTION", "javax.print.event.PrintJobEvent", true),
+              new String[] {
+                "static javax.print.event.PrintJobEvent.REQUIRES_ATTENTION",
               })
           .put(
               "THRESHOLD_LOW_VALUE_EXCEEDED",
-              new Import[] {
-                new Import(
-                    "THRESHOLD_LOW_VALUE_EXCEEDED",
-                    "javax.management.monitor.MonitorNotification",
-                    true),
+              new String[] {
+                "static javax.management.monitor.MonitorNotification.THRESHOLD_LOW_VALUE_EXCEEDED",
               })
           .put(
               "getMenuTextFont",
-              new Import[] {
-                new Import("getMenuTextFont", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getMenuTextFont",
               })
           .put(
               "MessageProp",
-              new Import[] {
-                new Import("MessageProp", "org.ietf.jgss", false),
+              new String[] {
+                "org.ietf.jgss.MessageProp",
               })
           .put(
               "END",
-              new Import[] {
-                new Import("END", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.END",
               })
           .put(
               "LOCCRC",
-              new Import[] {
-                new Import("LOCCRC", "java.util.jar.JarEntry", true),
-                new Import("LOCCRC", "java.util.jar.JarFile", true),
-                new Import("LOCCRC", "java.util.jar.JarInputStream", true),
-                new Import("LOCCRC", "java.util.jar.JarOutputStream", true),
-                new Import("LOCCRC", "java.util.zip.ZipEntry", true),
-                new Import("LOCCRC", "java.util.zip.ZipFile", true),
-                new Import("LOCCRC", "java.util.zip.ZipInputStream", true),
-                new Import("LOCCRC", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.LOCCRC",
+                "static java.util.jar.JarFile.LOCCRC",
+                "static java.util.jar.JarInputStream.LOCCRC",
+                "static java.util.jar.JarOutputStream.LOCCRC",
+                "static java.util.zip.ZipEntry.LOCCRC",
+                "static java.util.zip.ZipFile.LOCCRC",
+                "static java.util.zip.ZipInputStream.LOCCRC",
+                "static java.util.zip.ZipOutputStream.LOCCRC",
               })
           .put(
               "RealmCallback",
-              new Import[] {
-                new Import("RealmCallback", "javax.security.sasl", false),
+              new String[] {
+                "javax.security.sasl.RealmCallback",
               })
           .put(
               "LocalDateTime",
-              new Import[] {
-                new Import("LocalDateTime", "java.time", false),
+              new String[] {
+                "java.time.LocalDateTime",
               })
           .put(
               "ValueExp",
-              new Import[] {
-                new Import("ValueExp", "javax.management", false),
+              new String[] {
+                "javax.management.ValueExp",
               })
           .put(
               "NATIVE",
-              new Import[] {
-                new Import("NATIVE", "java.awt.JobAttributes.DialogType", true),
-                new Import("NATIVE", "java.lang.reflect.Modifier", true),
-                new Import("NATIVE", "javax.print.attribute.standard.DialogTypeSelection", true),
+              new String[] {
+                "static java.awt.JobAttributes.DialogType.NATIVE",
+                "static java.lang.reflect.Modifier.NATIVE",
+                "static javax.print.attribute.standard.DialogTypeSelection.NATIVE",
               })
           .put(
               "SuppressWarnings",
-              new Import[] {
-                new Import("SuppressWarnings", "java.lang", false),
+              new String[] {
+                "java.lang.SuppressWarnings",
               })
           .put(
               "OpenMBeanParameterInfoSupport",
-              new Import[] {
-                new Import("OpenMBeanParameterInfoSupport", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.OpenMBeanParameterInfoSupport",
               })
           .put(
               "KOREA",
-              new Import[] {
-                new Import("KOREA", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.KOREA",
               })
           .put(
               "MatchResult",
-              new Import[] {
-                new Import("MatchResult", "java.util.regex", false),
+              new String[] {
+                "java.util.regex.MatchResult",
               })
           .put(
               "drawString",
-              new Import[] {
-                new Import("drawString", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicGraphicsUtils.drawString",
               })
           .put(
               "icSigCharTargetTag",
-              new Import[] {
-                new Import("icSigCharTargetTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigCharTargetTag",
               })
           .put(
               "SO_BINDADDR",
-              new Import[] {
-                new Import("SO_BINDADDR", "java.net.SocketOptions", true),
+              new String[] {
+                "static java.net.SocketOptions.SO_BINDADDR",
               })
           .put(
               "SYSTEM_EXCEPTION",
-              new Import[] {
-                new Import("SYSTEM_EXCEPTION", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.SYSTEM_EXCEPTION",
               })
           .put(
               "desktop",
-              new Import[] {
-                new Import("desktop", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.desktop",
               })
           .put(
               "Number",
-              new Import[] {
-                new Import("Number", "java.lang", false),
+              new String[] {
+                "java.lang.Number",
               })
           .put(
               "BasicRootPaneUI",
-              new Import[] {
-                new Import("BasicRootPaneUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicRootPaneUI",
               })
           .put(
               "LAYERED_PANE",
-              new Import[] {
-                new Import("LAYERED_PANE", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.LAYERED_PANE",
               })
           .put(
               "DateTimeSyntax",
-              new Import[] {
-                new Import("DateTimeSyntax", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.DateTimeSyntax",
               })
           .put(
               "PasswordCallback",
-              new Import[] {
-                new Import("PasswordCallback", "javax.security.auth.callback", false),
+              new String[] {
+                "javax.security.auth.callback.PasswordCallback",
               })
           .put(
               "AccessibleObject",
-              new Import[] {
-                new Import("AccessibleObject", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.AccessibleObject",
               })
           .put(
               "gc",
-              new Import[] {
-                new Import("gc", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.gc",
               })
           .put(
               "JMenuItem",
-              new Import[] {
-                new Import("JMenuItem", "javax.swing", false),
+              new String[] {
+                "javax.swing.JMenuItem",
               })
           .put(
               "BAD_BINDINGS",
-              new Import[] {
-                new Import("BAD_BINDINGS", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.BAD_BINDINGS",
               })
           .put(
               "getAccessibleChildrenCount",
-              new Import[] {
-                new Import("getAccessibleChildrenCount", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.getAccessibleChildrenCount",
               })
           .put(
               "COMPONENT_FIRST",
-              new Import[] {
-                new Import("COMPONENT_FIRST", "java.awt.event.ComponentEvent", true),
+              new String[] {
+                "static java.awt.event.ComponentEvent.COMPONENT_FIRST",
               })
           .put(
               "FORMAT_PROPERTIES",
-              new Import[] {
-                new Import("FORMAT_PROPERTIES", "java.util.ResourceBundle.Control", true),
+              new String[] {
+                "static java.util.ResourceBundle.Control.FORMAT_PROPERTIES",
               })
           .put(
               "F10",
-              new Import[] {
-                new Import("F10", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.F10",
               })
           .put(
               "IORInterceptor_3_0Holder",
-              new Import[] {
-                new Import("IORInterceptor_3_0Holder", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.IORInterceptor_3_0Holder",
               })
           .put(
               "F12",
-              new Import[] {
-                new Import("F12", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.F12",
               })
           .put(
               "LINE_START",
-              new Import[] {
-                new Import("LINE_START", "java.awt.BorderLayout", true),
-                new Import("LINE_START", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.BorderLayout.LINE_START",
+                "static java.awt.GridBagConstraints.LINE_START",
               })
           .put(
               "F11",
-              new Import[] {
-                new Import("F11", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.F11",
               })
           .put(
               "HttpContext",
-              new Import[] {
-                new Import("HttpContext", "javax.xml.ws.spi.http", false),
+              new String[] {
+                "javax.xml.ws.spi.http.HttpContext",
               })
           .put(
               "parseLevel",
-              new Import[] {
-                new Import("parseLevel", "java.rmi.server.LogStream", true),
+              new String[] {
+                "static java.rmi.server.LogStream.parseLevel",
               })
           .put(
               "RelationNotification",
-              new Import[] {
-                new Import("RelationNotification", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RelationNotification",
               })
           .put(
               "FILTER_SKIP",
-              new Import[] {
-                new Import("FILTER_SKIP", "org.w3c.dom.ls.LSParserFilter", true),
+              new String[] {
+                "static org.w3c.dom.ls.LSParserFilter.FILTER_SKIP",
               })
           .put(
               "MethodDescriptor",
-              new Import[] {
-                new Import("MethodDescriptor", "java.beans", false),
+              new String[] {
+                "java.beans.MethodDescriptor",
               })
           .put(
               "gt",
-              new Import[] {
-                new Import("gt", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.gt",
               })
           .put(
               "TAG_GPOS",
-              new Import[] {
-                new Import("TAG_GPOS", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_GPOS",
               })
           .put(
               "parseByte",
-              new Import[] {
-                new Import("parseByte", "java.lang.Byte", true),
-                new Import("parseByte", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static java.lang.Byte.parseByte",
+                "static javax.xml.bind.DatatypeConverter.parseByte",
               })
           .put(
               "WEIGHT_DEMIBOLD",
-              new Import[] {
-                new Import("WEIGHT_DEMIBOLD", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.WEIGHT_DEMIBOLD",
               })
           .put(
               "ObjectNotActiveHelper",
-              new Import[] {
-                new Import("ObjectNotActiveHelper", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.ObjectNotActiveHelper",
               })
           .put(
               "META_MASK",
-              new Import[] {
-                new Import("META_MASK", "java.awt.Event", true),
-                new Import("META_MASK", "java.awt.event.ActionEvent", true),
-                new Import("META_MASK", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.Event.META_MASK",
+                "static java.awt.event.ActionEvent.META_MASK",
+                "static java.awt.event.InputEvent.META_MASK",
               })
           .put(
               "DOCUMENT_POSITION_IMPLEMENTATION_SPECIFIC",
-              new Import[] {
-                new Import("DOCUMENT_POSITION_IMPLEMENTATION_SPECIFIC", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.DOCUMENT_POSITION_IMPLEMENTATION_SPECIFIC",
               })
           .put(
               "REVERB_RETURN",
-              new Import[] {
-                new Import("REVERB_RETURN", "javax.sound.sampled.FloatControl.Type", true),
+              new String[] {
+                "static javax.sound.sampled.FloatControl.Type.REVERB_RETURN",
               })
           .put(
               "NotFound",
-              new Import[] {
-                new Import("NotFound", "org.omg.CosNaming.NamingContextPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.NotFound",
               })
           .put(
               "LinkedBlockingQueue",
-              new Import[] {
-                new Import("LinkedBlockingQueue", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.LinkedBlockingQueue",
               })
           .put(
               "X509IssuerSerial",
-              new Import[] {
-                new Import("X509IssuerSerial", "javax.xml.crypto.dsig.keyinfo", false),
+              new String[] {
+                "javax.xml.crypto.dsig.keyinfo.X509IssuerSerial",
               })
           .put(
               "regexFilter",
-              new Import[] {
-                new Import("regexFilter", "javax.swing.RowFilter", true),
+              new String[] {
+                "static javax.swing.RowFilter.regexFilter",
               })
           .put(
               "sqlStateSQL",
-              new Import[] {
-                new Import("sqlStateSQL", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.sqlStateSQL",
               })
           .put(
               "Doc",
-              new Import[] {
-                new Import("Doc", "javax.print", false),
+              new String[] {
+                "javax.print.Doc",
               })
           .put(
               "id",
-              new Import[] {
-                new Import("id", "org.omg.CORBA.AnySeqHelper", true),
-                new Import("id", "org.omg.CORBA.BooleanSeqHelper", true),
-                new Import("id", "org.omg.CORBA.CharSeqHelper", true),
-                new Import("id", "org.omg.CORBA.CompletionStatusHelper", true),
-                new Import("id", "org.omg.CORBA.CurrentHelper", true),
-                new Import("id", "org.omg.CORBA.DefinitionKindHelper", true),
-                new Import("id", "org.omg.CORBA.DoubleSeqHelper", true),
-                new Import("id", "org.omg.CORBA.FieldNameHelper", true),
-                new Import("id", "org.omg.CORBA.FloatSeqHelper", true),
-                new Import("id", "org.omg.CORBA.IDLTypeHelper", true),
-                new Import("id", "org.omg.CORBA.IdentifierHelper", true),
-                new Import("id", "org.omg.CORBA.LongLongSeqHelper", true),
-                new Import("id", "org.omg.CORBA.LongSeqHelper", true),
-                new Import("id", "org.omg.CORBA.NameValuePairHelper", true),
-                new Import("id", "org.omg.CORBA.ObjectHelper", true),
-                new Import("id", "org.omg.CORBA.OctetSeqHelper", true),
-                new Import("id", "org.omg.CORBA.ParameterModeHelper", true),
-                new Import("id", "org.omg.CORBA.PolicyErrorCodeHelper", true),
-                new Import("id", "org.omg.CORBA.PolicyErrorHelper", true),
-                new Import("id", "org.omg.CORBA.PolicyHelper", true),
-                new Import("id", "org.omg.CORBA.PolicyListHelper", true),
-                new Import("id", "org.omg.CORBA.PolicyTypeHelper", true),
-                new Import("id", "org.omg.CORBA.RepositoryIdHelper", true),
-                new Import("id", "org.omg.CORBA.ServiceDetailHelper", true),
-                new Import("id", "org.omg.CORBA.ServiceInformationHelper", true),
-                new Import("id", "org.omg.CORBA.SetOverrideTypeHelper", true),
-                new Import("id", "org.omg.CORBA.ShortSeqHelper", true),
-                new Import("id", "org.omg.CORBA.StringSeqHelper", true),
-                new Import("id", "org.omg.CORBA.StringValueHelper", true),
-                new Import("id", "org.omg.CORBA.StructMemberHelper", true),
-                new Import("id", "org.omg.CORBA.ULongLongSeqHelper", true),
-                new Import("id", "org.omg.CORBA.ULongSeqHelper", true),
-                new Import("id", "org.omg.CORBA.UShortSeqHelper", true),
-                new Import("id", "org.omg.CORBA.UnionMemberHelper", true),
-                new Import("id", "org.omg.CORBA.UnknownUserExceptionHelper", true),
-                new Import("id", "org.omg.CORBA.ValueBaseHelper", true),
-                new Import("id", "org.omg.CORBA.ValueMemberHelper", true),
-                new Import("id", "org.omg.CORBA.VersionSpecHelper", true),
-                new Import("id", "org.omg.CORBA.VisibilityHelper", true),
-                new Import("id", "org.omg.CORBA.WCharSeqHelper", true),
-                new Import("id", "org.omg.CORBA.WStringSeqHelper", true),
-                new Import("id", "org.omg.CORBA.WStringValueHelper", true),
-                new Import("id", "org.omg.CORBA.WrongTransactionHelper", true),
-                new Import("id", "org.omg.CosNaming.BindingHelper", true),
-                new Import("id", "org.omg.CosNaming.BindingIteratorHelper", true),
-                new Import("id", "org.omg.CosNaming.BindingListHelper", true),
-                new Import("id", "org.omg.CosNaming.BindingTypeHelper", true),
-                new Import("id", "org.omg.CosNaming.IstringHelper", true),
-                new Import("id", "org.omg.CosNaming.NameComponentHelper", true),
-                new Import("id", "org.omg.CosNaming.NameHelper", true),
-                new Import("id", "org.omg.CosNaming.NamingContextExtHelper", true),
-                new Import("id", "org.omg.CosNaming.NamingContextHelper", true),
-                new Import("id", "org.omg.CosNaming.NamingContextExtPackage.AddressHelper", true),
-                new Import(
-                    "id", "org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper", true),
-                new Import(
-                    "id", "org.omg.CosNaming.NamingContextExtPackage.StringNameHelper", true),
-                new Import("id", "org.omg.CosNaming.NamingContextExtPackage.URLStringHelper", true),
-                new Import("id", "org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper", true),
-                new Import(
-                    "id", "org.omg.CosNaming.NamingContextPackage.CannotProceedHelper", true),
-                new Import("id", "org.omg.CosNaming.NamingContextPackage.InvalidNameHelper", true),
-                new Import("id", "org.omg.CosNaming.NamingContextPackage.NotEmptyHelper", true),
-                new Import("id", "org.omg.CosNaming.NamingContextPackage.NotFoundHelper", true),
-                new Import(
-                    "id", "org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper", true),
-                new Import("id", "org.omg.DynamicAny.AnySeqHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynAnyFactoryHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynAnyHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynAnySeqHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynArrayHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynEnumHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynFixedHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynSequenceHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynStructHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynUnionHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynValueHelper", true),
-                new Import("id", "org.omg.DynamicAny.FieldNameHelper", true),
-                new Import("id", "org.omg.DynamicAny.NameDynAnyPairHelper", true),
-                new Import("id", "org.omg.DynamicAny.NameDynAnyPairSeqHelper", true),
-                new Import("id", "org.omg.DynamicAny.NameValuePairHelper", true),
-                new Import("id", "org.omg.DynamicAny.NameValuePairSeqHelper", true),
-                new Import(
-                    "id",
-                    "org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper",
-                    true),
-                new Import("id", "org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper", true),
-                new Import("id", "org.omg.IOP.CodecFactoryHelper", true),
-                new Import("id", "org.omg.IOP.ComponentIdHelper", true),
-                new Import("id", "org.omg.IOP.IORHelper", true),
-                new Import("id", "org.omg.IOP.MultipleComponentProfileHelper", true),
-                new Import("id", "org.omg.IOP.ProfileIdHelper", true),
-                new Import("id", "org.omg.IOP.ServiceContextHelper", true),
-                new Import("id", "org.omg.IOP.ServiceContextListHelper", true),
-                new Import("id", "org.omg.IOP.ServiceIdHelper", true),
-                new Import("id", "org.omg.IOP.TaggedComponentHelper", true),
-                new Import("id", "org.omg.IOP.TaggedProfileHelper", true),
-                new Import("id", "org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper", true),
-                new Import("id", "org.omg.IOP.CodecPackage.FormatMismatchHelper", true),
-                new Import("id", "org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper", true),
-                new Import("id", "org.omg.IOP.CodecPackage.TypeMismatchHelper", true),
-                new Import("id", "org.omg.Messaging.SyncScopeHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.AdapterManagerIdHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.AdapterNameHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.AdapterStateHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.CurrentHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.ForwardRequestHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.IORInterceptor_3_0Helper", true),
-                new Import("id", "org.omg.PortableInterceptor.InvalidSlotHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.ORBIdHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.ObjectIdHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.ObjectReferenceFactoryHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.ObjectReferenceTemplateHelper", true),
-                new Import(
-                    "id", "org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.ServerIdHelper", true),
-                new Import(
-                    "id",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper",
-                    true),
-                new Import(
-                    "id", "org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper", true),
-                new Import(
-                    "id", "org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper", true),
-                new Import("id", "org.omg.PortableServer.CurrentHelper", true),
-                new Import("id", "org.omg.PortableServer.ForwardRequestHelper", true),
-                new Import("id", "org.omg.PortableServer.POAHelper", true),
-                new Import("id", "org.omg.PortableServer.ServantActivatorHelper", true),
-                new Import("id", "org.omg.PortableServer.ServantLocatorHelper", true),
-                new Import("id", "org.omg.PortableServer.CurrentPackage.NoContextHelper", true),
-                new Import(
-                    "id", "org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper", true),
-                new Import(
-                    "id", "org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper", true),
-                new Import(
-                    "id", "org.omg.PortableServer.POAPackage.AdapterNonExistentHelper", true),
-                new Import("id", "org.omg.PortableServer.POAPackage.InvalidPolicyHelper", true),
-                new Import("id", "org.omg.PortableServer.POAPackage.NoServantHelper", true),
-                new Import(
-                    "id", "org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper", true),
-                new Import("id", "org.omg.PortableServer.POAPackage.ObjectNotActiveHelper", true),
-                new Import(
-                    "id", "org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper", true),
-                new Import("id", "org.omg.PortableServer.POAPackage.ServantNotActiveHelper", true),
-                new Import("id", "org.omg.PortableServer.POAPackage.WrongAdapterHelper", true),
-                new Import("id", "org.omg.PortableServer.POAPackage.WrongPolicyHelper", true),
+              new String[] {
+                "static org.omg.CORBA.AnySeqHelper.id",
+                "static org.omg.CORBA.BooleanSeqHelper.id",
+                "static org.omg.CORBA.CharSeqHelper.id",
+                "static org.omg.CORBA.CompletionStatusHelper.id",
+                "static org.omg.CORBA.CurrentHelper.id",
+                "static org.omg.CORBA.DefinitionKindHelper.id",
+                "static org.omg.CORBA.DoubleSeqHelper.id",
+                "static org.omg.CORBA.FieldNameHelper.id",
+                "static org.omg.CORBA.FloatSeqHelper.id",
+                "static org.omg.CORBA.IDLTypeHelper.id",
+                "static org.omg.CORBA.IdentifierHelper.id",
+                "static org.omg.CORBA.LongLongSeqHelper.id",
+                "static org.omg.CORBA.LongSeqHelper.id",
+                "static org.omg.CORBA.NameValuePairHelper.id",
+                "static org.omg.CORBA.ObjectHelper.id",
+                "static org.omg.CORBA.OctetSeqHelper.id",
+                "static org.omg.CORBA.ParameterModeHelper.id",
+                "static org.omg.CORBA.PolicyErrorCodeHelper.id",
+                "static org.omg.CORBA.PolicyErrorHelper.id",
+                "static org.omg.CORBA.PolicyHelper.id",
+                "static org.omg.CORBA.PolicyListHelper.id",
+                "static org.omg.CORBA.PolicyTypeHelper.id",
+                "static org.omg.CORBA.RepositoryIdHelper.id",
+                "static org.omg.CORBA.ServiceDetailHelper.id",
+                "static org.omg.CORBA.ServiceInformationHelper.id",
+                "static org.omg.CORBA.SetOverrideTypeHelper.id",
+                "static org.omg.CORBA.ShortSeqHelper.id",
+                "static org.omg.CORBA.StringSeqHelper.id",
+                "static org.omg.CORBA.StringValueHelper.id",
+                "static org.omg.CORBA.StructMemberHelper.id",
+                "static org.omg.CORBA.ULongLongSeqHelper.id",
+                "static org.omg.CORBA.ULongSeqHelper.id",
+                "static org.omg.CORBA.UShortSeqHelper.id",
+                "static org.omg.CORBA.UnionMemberHelper.id",
+                "static org.omg.CORBA.UnknownUserExceptionHelper.id",
+                "static org.omg.CORBA.ValueBaseHelper.id",
+                "static org.omg.CORBA.ValueMemberHelper.id",
+                "static org.omg.CORBA.VersionSpecHelper.id",
+                "static org.omg.CORBA.VisibilityHelper.id",
+                "static org.omg.CORBA.WCharSeqHelper.id",
+                "static org.omg.CORBA.WStringSeqHelper.id",
+                "static org.omg.CORBA.WStringValueHelper.id",
+                "static org.omg.CORBA.WrongTransactionHelper.id",
+                "static org.omg.CosNaming.BindingHelper.id",
+                "static org.omg.CosNaming.BindingIteratorHelper.id",
+                "static org.omg.CosNaming.BindingListHelper.id",
+                "static org.omg.CosNaming.BindingTypeHelper.id",
+                "static org.omg.CosNaming.IstringHelper.id",
+                "static org.omg.CosNaming.NameComponentHelper.id",
+                "static org.omg.CosNaming.NameHelper.id",
+                "static org.omg.CosNaming.NamingContextExtHelper.id",
+                "static org.omg.CosNaming.NamingContextHelper.id",
+                "static org.omg.CosNaming.NamingContextExtPackage.AddressHelper.id",
+                "static org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper.id",
+                "static org.omg.CosNaming.NamingContextExtPackage.StringNameHelper.id",
+                "static org.omg.CosNaming.NamingContextExtPackage.URLStringHelper.id",
+                "static org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper.id",
+                "static org.omg.CosNaming.NamingContextPackage.CannotProceedHelper.id",
+                "static org.omg.CosNaming.NamingContextPackage.InvalidNameHelper.id",
+                "static org.omg.CosNaming.NamingContextPackage.NotEmptyHelper.id",
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundHelper.id",
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper.id",
+                "static org.omg.DynamicAny.AnySeqHelper.id",
+                "static org.omg.DynamicAny.DynAnyFactoryHelper.id",
+                "static org.omg.DynamicAny.DynAnyHelper.id",
+                "static org.omg.DynamicAny.DynAnySeqHelper.id",
+                "static org.omg.DynamicAny.DynArrayHelper.id",
+                "static org.omg.DynamicAny.DynEnumHelper.id",
+                "static org.omg.DynamicAny.DynFixedHelper.id",
+                "static org.omg.DynamicAny.DynSequenceHelper.id",
+                "static org.omg.DynamicAny.DynStructHelper.id",
+                "static org.omg.DynamicAny.DynUnionHelper.id",
+                "static org.omg.DynamicAny.DynValueHelper.id",
+                "static org.omg.DynamicAny.FieldNameHelper.id",
+                "static org.omg.DynamicAny.NameDynAnyPairHelper.id",
+                "static org.omg.DynamicAny.NameDynAnyPairSeqHelper.id",
+                "static org.omg.DynamicAny.NameValuePairHelper.id",
+                "static org.omg.DynamicAny.NameValuePairSeqHelper.id",
+                "static org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper.id",
+                "static org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper.id",
+                "static org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper.id",
+                "static org.omg.IOP.CodecFactoryHelper.id",
+                "static org.omg.IOP.ComponentIdHelper.id",
+                "static org.omg.IOP.IORHelper.id",
+                "static org.omg.IOP.MultipleComponentProfileHelper.id",
+                "static org.omg.IOP.ProfileIdHelper.id",
+                "static org.omg.IOP.ServiceContextHelper.id",
+                "static org.omg.IOP.ServiceContextListHelper.id",
+                "static org.omg.IOP.ServiceIdHelper.id",
+                "static org.omg.IOP.TaggedComponentHelper.id",
+                "static org.omg.IOP.TaggedProfileHelper.id",
+                "static org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper.id",
+                "static org.omg.IOP.CodecPackage.FormatMismatchHelper.id",
+                "static org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper.id",
+                "static org.omg.IOP.CodecPackage.TypeMismatchHelper.id",
+                "static org.omg.Messaging.SyncScopeHelper.id",
+                "static org.omg.PortableInterceptor.AdapterManagerIdHelper.id",
+                "static org.omg.PortableInterceptor.AdapterNameHelper.id",
+                "static org.omg.PortableInterceptor.AdapterStateHelper.id",
+                "static org.omg.PortableInterceptor.CurrentHelper.id",
+                "static org.omg.PortableInterceptor.ForwardRequestHelper.id",
+                "static org.omg.PortableInterceptor.IORInterceptor_3_0Helper.id",
+                "static org.omg.PortableInterceptor.InvalidSlotHelper.id",
+                "static org.omg.PortableInterceptor.ORBIdHelper.id",
+                "static org.omg.PortableInterceptor.ObjectIdHelper.id",
+                "static org.omg.PortableInterceptor.ObjectReferenceFactoryHelper.id",
+                "static org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.id",
+                "static org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper.id",
+                "static org.omg.PortableInterceptor.ServerIdHelper.id",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper.id",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper.id",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper.id",
+                "static org.omg.PortableServer.CurrentHelper.id",
+                "static org.omg.PortableServer.ForwardRequestHelper.id",
+                "static org.omg.PortableServer.POAHelper.id",
+                "static org.omg.PortableServer.ServantActivatorHelper.id",
+                "static org.omg.PortableServer.ServantLocatorHelper.id",
+                "static org.omg.PortableServer.CurrentPackage.NoContextHelper.id",
+                "static org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper.id",
+                "static org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper.id",
+                "static org.omg.PortableServer.POAPackage.AdapterNonExistentHelper.id",
+                "static org.omg.PortableServer.POAPackage.InvalidPolicyHelper.id",
+                "static org.omg.PortableServer.POAPackage.NoServantHelper.id",
+                "static org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper.id",
+                "static org.omg.PortableServer.POAPackage.ObjectNotActiveHelper.id",
+                "static org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper.id",
+                "static org.omg.PortableServer.POAPackage.ServantNotActiveHelper.id",
+                "static org.omg.PortableServer.POAPackage.WrongAdapterHelper.id",
+                "static org.omg.PortableServer.POAPackage.WrongPolicyHelper.id",
               })
           .put(
               "DIRECTIONALITY_COMMON_NUMBER_SEPARATOR",
-              new Import[] {
-                new Import("DIRECTIONALITY_COMMON_NUMBER_SEPARATOR", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DIRECTIONALITY_COMMON_NUMBER_SEPARATOR",
               })
           .put(
               "LANGUAGE",
-              new Import[] {
-                new Import("LANGUAGE", "java.text.AttributedCharacterIterator.Attribute", true),
-                new Import("LANGUAGE", "javax.naming.Context", true),
-                new Import("LANGUAGE", "javax.script.ScriptEngine", true),
-                new Import("LANGUAGE", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static java.text.AttributedCharacterIterator.Attribute.LANGUAGE",
+                "static javax.naming.Context.LANGUAGE",
+                "static javax.script.ScriptEngine.LANGUAGE",
+                "static javax.swing.text.html.HTML.Attribute.LANGUAGE",
               })
           .put(
               "getMaxAllowedParameterSpec",
-              new Import[] {
-                new Import("getMaxAllowedParameterSpec", "javax.crypto.Cipher", true),
+              new String[] {
+                "static javax.crypto.Cipher.getMaxAllowedParameterSpec",
               })
           .put(
               "drawDashedRect",
-              new Import[] {
-                new Import("drawDashedRect", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicGraphicsUtils.drawDashedRect",
               })
           .put(
               "OriginType",
-              new Import[] {
-                new Import("OriginType", "java.awt.PageAttributes", false),
+              new String[] {
+                "java.awt.PageAttributes.OriginType",
               })
           .put(
               "Messager",
-              new Import[] {
-                new Import("Messager", "javax.annotation.processing", false),
+              new String[] {
+                "javax.annotation.processing.Messager",
               })
           .put(
               "in",
-              new Import[] {
-                new Import("in", "java.io.FileDescriptor", true),
-                new Import("in", "java.lang.System", true),
-                new Import("in", "javax.management.Query", true),
+              new String[] {
+                "static java.io.FileDescriptor.in",
+                "static java.lang.System.in",
+                "static javax.management.Query.in",
               })
           .put(
               "Position",
-              new Import[] {
-                new Import("Position", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.Position",
               })
           .put(
               "Compilable",
-              new Import[] {
-                new Import("Compilable", "javax.script", false),
+              new String[] {
+                "javax.script.Compilable",
               })
           .put(
               "KERNING_ON",
-              new Import[] {
-                new Import("KERNING_ON", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.KERNING_ON",
               })
           .put(
               "FLUSH_FAILURE",
-              new Import[] {
-                new Import("FLUSH_FAILURE", "java.util.logging.ErrorManager", true),
+              new String[] {
+                "static java.util.logging.ErrorManager.FLUSH_FAILURE",
               })
           .put(
               "TT_WORD",
-              new Import[] {
-                new Import("TT_WORD", "java.io.StreamTokenizer", true),
+              new String[] {
+                "static java.io.StreamTokenizer.TT_WORD",
               })
           .put(
               "StructMember",
-              new Import[] {
-                new Import("StructMember", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.StructMember",
               })
           .put(
               "getDefaultUncaughtExceptionHandler",
-              new Import[] {
-                new Import("getDefaultUncaughtExceptionHandler", "java.lang.Thread", true),
+              new String[] {
+                "static java.lang.Thread.getDefaultUncaughtExceptionHandler",
               })
           .put(
               "MARGIN_RIGHT",
-              new Import[] {
-                new Import("MARGIN_RIGHT", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.MARGIN_RIGHT",
               })
           .put(
               "ERA",
-              new Import[] {
-                new Import("ERA", "java.text.DateFormat.Field", true),
-                new Import("ERA", "java.util.Calendar", true),
+              new String[] {
+                "static java.text.DateFormat.Field.ERA", "static java.util.Calendar.ERA",
               })
           .put(
               "FETCH_FORWARD",
-              new Import[] {
-                new Import("FETCH_FORWARD", "java.sql.ResultSet", true),
+              new String[] {
+                "static java.sql.ResultSet.FETCH_FORWARD",
               })
           .put(
               "DOOR_OPEN",
-              new Import[] {
-                new Import("DOOR_OPEN", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.DOOR_OPEN",
               })
           .put(
               "REPLACE_ATTRIBUTE",
-              new Import[] {
-                new Import("REPLACE_ATTRIBUTE", "javax.naming.directory.DirContext", true),
+              new String[] {
+                "static javax.naming.directory.DirContext.REPLACE_ATTRIBUTE",
               })
           .put(
               "getNetworkInterfaces",
-              new Import[] {
-                new Import("getNetworkInterfaces", "java.net.NetworkInterface", true),
+              new String[] {
+                "static java.net.NetworkInterface.getNetworkInterfaces",
               })
           .put(
               "XmlWriter",
-              new Import[] {
-                new Import("XmlWriter", "javax.sql.rowset.spi", false),
+              new String[] {
+                "javax.sql.rowset.spi.XmlWriter",
               })
           .put(
               "_DynEnumStub",
-              new Import[] {
-                new Import("_DynEnumStub", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny._DynEnumStub",
               })
           .put(
               "FileLockInterruptionException",
-              new Import[] {
-                new Import("FileLockInterruptionException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.FileLockInterruptionException",
               })
           .put(
               "_dk_Fixed",
-              new Import[] {
-                new Import("_dk_Fixed", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Fixed",
               })
           .put(
               "ENTER",
-              new Import[] {
-                new Import("ENTER", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.ENTER",
               })
           .put(
               "SOAPConnection",
-              new Import[] {
-                new Import("SOAPConnection", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SOAPConnection",
               })
           .put(
               "ServiceDetailHelper",
-              new Import[] {
-                new Import("ServiceDetailHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ServiceDetailHelper",
               })
           .put(
               "DirContext",
-              new Import[] {
-                new Import("DirContext", "javax.naming.directory", false),
+              new String[] {
+                "javax.naming.directory.DirContext",
               })
           .put(
               "URIOtherProblem",
-              new Import[] {
-                new Import("URIOtherProblem", "javax.print.URIException", true),
+              new String[] {
+                "static javax.print.URIException.URIOtherProblem",
               })
           .put(
               "JScrollBar",
-              new Import[] {
-                new Import("JScrollBar", "javax.swing", false),
+              new String[] {
+                "javax.swing.JScrollBar",
               })
           .put(
               "ISO_DESIGNATED_LONG_ENVELOPE",
-              new Import[] {
-                new Import(
-                    "ISO_DESIGNATED_LONG_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_DESIGNATED_LONG_ENVELOPE",
               })
           .put(
               "MenuKeyListener",
-              new Import[] {
-                new Import("MenuKeyListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.MenuKeyListener",
               })
           .put(
               "FLAG_MASK",
-              new Import[] {
-                new Import("FLAG_MASK", "java.awt.font.GlyphVector", true),
+              new String[] {
+                "static java.awt.font.GlyphVector.FLAG_MASK",
               })
           .put(
               "REVERSE_LANDSCAPE",
-              new Import[] {
-                new Import("REVERSE_LANDSCAPE", "java.awt.print.PageFormat", true),
-                new Import(
-                    "REVERSE_LANDSCAPE",
-                    "javax.print.attribute.standard.OrientationRequested",
-                    true),
+              new String[] {
+                "static java.awt.print.PageFormat.REVERSE_LANDSCAPE",
+                "static javax.print.attribute.standard.OrientationRequested.REVERSE_LANDSCAPE",
               })
           .put(
               "ActivityCompletedException",
-              new Import[] {
-                new Import("ActivityCompletedException", "javax.activity", false),
+              new String[] {
+                "javax.activity.ActivityCompletedException",
               })
           .put(
               "RIGHT",
-              new Import[] {
-                new Import("RIGHT", "java.awt.Event", true),
-                new Import("RIGHT", "java.awt.FlowLayout", true),
-                new Import("RIGHT", "java.awt.Label", true),
-                new Import("RIGHT", "javax.swing.JSplitPane", true),
-                new Import("RIGHT", "javax.swing.SwingConstants", true),
-                new Import("RIGHT", "javax.swing.border.TitledBorder", true),
+              new String[] {
+                "static java.awt.Event.RIGHT",
+                "static java.awt.FlowLayout.RIGHT",
+                "static java.awt.Label.RIGHT",
+                "static javax.swing.JSplitPane.RIGHT",
+                "static javax.swing.SwingConstants.RIGHT",
+                "static javax.swing.border.TitledBorder.RIGHT",
               })
           .put(
               "ACCESSIBLE_STATE_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_STATE_PROPERTY", "javax.accessibility.AccessibleContext", true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_STATE_PROPERTY",
               })
           .put(
               "WILDCARD",
-              new Import[] {
-                new Import("WILDCARD", "javax.management.ObjectName", true),
+              new String[] {
+                "static javax.management.ObjectName.WILDCARD",
               })
           .put(
               "getSeed",
-              new Import[] {
-                new Import("getSeed", "java.security.SecureRandom", true),
+              new String[] {
+                "static java.security.SecureRandom.getSeed",
               })
           .put(
               "TemporalUnit",
-              new Import[] {
-                new Import("TemporalUnit", "java.time.temporal", false),
+              new String[] {
+                "java.time.temporal.TemporalUnit",
               })
           .put(
               "Use",
-              new Import[] {
-                new Import("Use", "javax.jws.soap.SOAPBinding", false),
+              new String[] {
+                "javax.jws.soap.SOAPBinding.Use",
               })
           .put(
               "UGARITIC",
-              new Import[] {
-                new Import("UGARITIC", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.UGARITIC",
               })
           .put(
               "InvalidValue",
-              new Import[] {
-                new Import("InvalidValue", "org.omg.CORBA.DynAnyPackage", false),
-                new Import("InvalidValue", "org.omg.DynamicAny.DynAnyPackage", false),
+              new String[] {
+                "org.omg.CORBA.DynAnyPackage.InvalidValue",
+                "org.omg.DynamicAny.DynAnyPackage.InvalidValue",
               })
           .put(
               "DERIVATION_RESTRICTION",
-              new Import[] {
-                new Import("DERIVATION_RESTRICTION", "org.w3c.dom.TypeInfo", true),
+              new String[] {
+                "static org.w3c.dom.TypeInfo.DERIVATION_RESTRICTION",
               })
           .put(
               "KEY_FIRST",
-              new Import[] {
-                new Import("KEY_FIRST", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.KEY_FIRST",
               })
           .put(
               "INCREMENT",
-              new Import[] {
-                new Import("INCREMENT", "javax.accessibility.AccessibleAction", true),
+              new String[] {
+                "static javax.accessibility.AccessibleAction.INCREMENT",
               })
           .put(
               "CurrentOperations",
-              new Import[] {
-                new Import("CurrentOperations", "org.omg.CORBA", false),
-                new Import("CurrentOperations", "org.omg.PortableInterceptor", false),
-                new Import("CurrentOperations", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.CORBA.CurrentOperations",
+                "org.omg.PortableInterceptor.CurrentOperations",
+                "org.omg.PortableServer.CurrentOperations",
               })
           .put(
               "getEditorSearchPath",
-              new Import[] {
-                new Import("getEditorSearchPath", "java.beans.PropertyEditorManager", true),
+              new String[] {
+                "static java.beans.PropertyEditorManager.getEditorSearchPath",
               })
           .put(
               "equals",
-              new Import[] {
-                new Import("equals", "java.util.Arrays", true),
-                new Import("equals", "java.util.Objects", true),
+              new String[] {
+                "static java.util.Arrays.equals", "static java.util.Objects.equals",
               })
           .put(
               "getCurrentManager",
-              new Import[] {
-                new Import("getCurrentManager", "javax.swing.FocusManager", true),
+              new String[] {
+                "static javax.swing.FocusManager.getCurrentManager",
               })
           .put(
               "MENU",
-              new Import[] {
-                new Import("MENU", "java.awt.SystemColor", true),
-                new Import("MENU", "javax.accessibility.AccessibleRole", true),
-                new Import("MENU", "javax.swing.plaf.synth.Region", true),
-                new Import("MENU", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static java.awt.SystemColor.MENU",
+                "static javax.accessibility.AccessibleRole.MENU",
+                "static javax.swing.plaf.synth.Region.MENU",
+                "static javax.swing.text.html.HTML.Tag.MENU",
               })
           .put(
               "KOREAN",
-              new Import[] {
-                new Import("KOREAN", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.KOREAN",
               })
           .put(
               "icSigSpace9CLR",
-              new Import[] {
-                new Import("icSigSpace9CLR", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigSpace9CLR",
               })
           .put(
               "drawTabbedText",
-              new Import[] {
-                new Import("drawTabbedText", "javax.swing.text.Utilities", true),
+              new String[] {
+                "static javax.swing.text.Utilities.drawTabbedText",
               })
           .put(
               "ZoneRulesProvider",
-              new Import[] {
-                new Import("ZoneRulesProvider", "java.time.zone", false),
+              new String[] {
+                "java.time.zone.ZoneRulesProvider",
               })
           .put(
               "HashMap",
-              new Import[] {
-                new Import("HashMap", "java.util", false),
+              new String[] {
+                "java.util.HashMap",
               })
           .put(
               "Closeable",
-              new Import[] {
-                new Import("Closeable", "java.io", false),
+              new String[] {
+                "java.io.Closeable",
               })
           .put(
               "NoSuchFileException",
-              new Import[] {
-                new Import("NoSuchFileException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.NoSuchFileException",
               })
           .put(
               "NumberFormatProvider",
-              new Import[] {
-                new Import("NumberFormatProvider", "java.text.spi", false),
+              new String[] {
+                "java.text.spi.NumberFormatProvider",
               })
           .put(
               "lt",
-              new Import[] {
-                new Import("lt", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.lt",
               })
           .put(
               "getDefaults",
-              new Import[] {
-                new Import("getDefaults", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.getDefaults",
               })
           .put(
               "SSLException",
-              new Import[] {
-                new Import("SSLException", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLException",
               })
           .put(
               "setOut",
-              new Import[] {
-                new Import("setOut", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.setOut",
               })
           .put(
               "icSigSpaceDCLR",
-              new Import[] {
-                new Import("icSigSpaceDCLR", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigSpaceDCLR",
               })
           .put(
               "ofLocal",
-              new Import[] {
-                new Import("ofLocal", "java.time.ZonedDateTime", true),
+              new String[] {
+                "static java.time.ZonedDateTime.ofLocal",
               })
           .put(
               "floatToRawIntBits",
-              new Import[] {
-                new Import("floatToRawIntBits", "java.lang.Float", true),
+              new String[] {
+                "static java.lang.Float.floatToRawIntBits",
               })
           .put(
               "ACCESSIBLE_ACTIVE_DESCENDANT_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_ACTIVE_DESCENDANT_PROPERTY",
-                    "javax.accessibility.AccessibleContext",
-                    true),
+              new String[] {
+                "static"
+                    + " javax.accessibility.AccessibleContext.ACCESSIBLE_ACTIVE_DESCENDANT_PROPERTY",
               })
           .put(
               "UnionMemberHelper",
-              new Import[] {
-                new Import("UnionMemberHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.UnionMemberHelper",
               })
           .put(
               "AppletInitializer",
-              new Import[] {
-                new Import("AppletInitializer", "java.beans", false),
+              new String[] {
+                "java.beans.AppletInitializer",
               })
           .put(
               "Dst",
-              new Import[] {
-                new Import("Dst", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.Dst",
               })
           .put(
               "TransactionService",
-              new Import[] {
-                new Import("TransactionService", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.TransactionService",
               })
           .put(
               "SC_BLOCK_DATA",
-              new Import[] {
-                new Import("SC_BLOCK_DATA", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.SC_BLOCK_DATA",
               })
           .put(
               "ObjectIdHelper",
-              new Import[] {
-                new Import("ObjectIdHelper", "org.omg.PortableInterceptor", false),
-                new Import(
-                    "ObjectIdHelper", "org.omg.PortableInterceptor.ORBInitInfoPackage", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ObjectIdHelper",
+                "org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper",
               })
           .put(
               "TrustAnchor",
-              new Import[] {
-                new Import("TrustAnchor", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.TrustAnchor",
               })
           .put(
               "EMBEDDED_BY_PROPERTY",
-              new Import[] {
-                new Import("EMBEDDED_BY_PROPERTY", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.EMBEDDED_BY_PROPERTY",
               })
           .put(
               "Range",
-              new Import[] {
-                new Import("Range", "java.awt.font.NumericShaper", false),
+              new String[] {
+                "java.awt.font.NumericShaper.Range",
               })
           .put(
               "ENDSUB",
-              new Import[] {
-                new Import("ENDSUB", "java.util.jar.JarEntry", true),
-                new Import("ENDSUB", "java.util.jar.JarFile", true),
-                new Import("ENDSUB", "java.util.jar.JarInputStream", true),
-                new Import("ENDSUB", "java.util.jar.JarOutputStream", true),
-                new Import("ENDSUB", "java.util.zip.ZipEntry", true),
-                new Import("ENDSUB", "java.util.zip.ZipFile", true),
-                new Import("ENDSUB", "java.util.zip.ZipInputStream", true),
-                new Import("ENDSUB", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.ENDSUB",
+                "static java.util.jar.JarFile.ENDSUB",
+                "static java.util.jar.JarInputStream.ENDSUB",
+                "static java.util.jar.JarOutputStream.ENDSUB",
+                "static java.util.zip.ZipEntry.ENDSUB",
+                "static java.util.zip.ZipFile.ENDSUB",
+                "static java.util.zip.ZipInputStream.ENDSUB",
+                "static java.util.zip.ZipOutputStream.ENDSUB",
               })
           .put(
               "LEAD_UNDERLINE",
-              new Import[] {
-                new Import("LEAD_UNDERLINE", "javax.swing.text.TabStop", true),
+              new String[] {
+                "static javax.swing.text.TabStop.LEAD_UNDERLINE",
               })
           .put(
               "plus",
-              new Import[] {
-                new Import("plus", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.plus",
               })
           .put(
               "UIResource",
-              new Import[] {
-                new Import("UIResource", "javax.swing.DefaultListCellRenderer", false),
-                new Import("UIResource", "javax.swing.ScrollPaneLayout", false),
-                new Import("UIResource", "javax.swing.plaf", false),
-                new Import("UIResource", "javax.swing.plaf.basic.BasicComboBoxEditor", false),
-                new Import("UIResource", "javax.swing.plaf.basic.BasicComboBoxRenderer", false),
-                new Import("UIResource", "javax.swing.plaf.metal.MetalComboBoxEditor", false),
-                new Import("UIResource", "javax.swing.table.DefaultTableCellRenderer", false),
+              new String[] {
+                "javax.swing.DefaultListCellRenderer.UIResource",
+                "javax.swing.ScrollPaneLayout.UIResource",
+                "javax.swing.plaf.UIResource",
+                "javax.swing.plaf.basic.BasicComboBoxEditor.UIResource",
+                "javax.swing.plaf.basic.BasicComboBoxRenderer.UIResource",
+                "javax.swing.plaf.metal.MetalComboBoxEditor.UIResource",
+                "javax.swing.table.DefaultTableCellRenderer.UIResource",
               })
           .put(
               "VK_SHIFT",
-              new Import[] {
-                new Import("VK_SHIFT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_SHIFT",
               })
           .put(
               "ALL_RANGES",
-              new Import[] {
-                new Import("ALL_RANGES", "java.awt.font.NumericShaper", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.ALL_RANGES",
               })
           .put(
               "ofWeeks",
-              new Import[] {
-                new Import("ofWeeks", "java.time.Period", true),
+              new String[] {
+                "static java.time.Period.ofWeeks",
               })
           .put(
               "Constraints",
-              new Import[] {
-                new Import("Constraints", "javax.swing.SpringLayout", false),
+              new String[] {
+                "javax.swing.SpringLayout.Constraints",
               })
           .put(
               "ObjectInput",
-              new Import[] {
-                new Import("ObjectInput", "java.io", false),
+              new String[] {
+                "java.io.ObjectInput",
               })
           .put(
               "ModalityType",
-              new Import[] {
-                new Import("ModalityType", "java.awt.Dialog", false),
+              new String[] {
+                "java.awt.Dialog.ModalityType",
               })
           .put(
               "CDATA",
-              new Import[] {
-                new Import("CDATA", "javax.swing.text.html.parser.DTDConstants", true),
-                new Import("CDATA", "javax.xml.stream.XMLStreamConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.CDATA",
+                "static javax.xml.stream.XMLStreamConstants.CDATA",
               })
           .put(
               "SOAPElementFactory",
-              new Import[] {
-                new Import("SOAPElementFactory", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.SOAPElementFactory",
               })
           .put(
               "guessContentTypeFromName",
-              new Import[] {
-                new Import("guessContentTypeFromName", "java.net.URLConnection", true),
+              new String[] {
+                "static java.net.URLConnection.guessContentTypeFromName",
               })
           .put(
               "textHighlight",
-              new Import[] {
-                new Import("textHighlight", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.textHighlight",
               })
           .put(
               "THRESHOLD_ERROR",
-              new Import[] {
-                new Import("THRESHOLD_ERROR", "javax.management.monitor.MonitorNotification", true),
+              new String[] {
+                "static javax.management.monitor.MonitorNotification.THRESHOLD_ERROR",
               })
           .put(
               "XAER_INVAL",
-              new Import[] {
-                new Import("XAER_INVAL", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XAER_INVAL",
               })
           .put(
               "MenuBar",
-              new Import[] {
-                new Import("MenuBar", "java.awt", false),
+              new String[] {
+                "java.awt.MenuBar",
               })
           .put(
               "XmlElementDecl",
-              new Import[] {
-                new Import("XmlElementDecl", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlElementDecl",
               })
           .put(
               "MonthDay",
-              new Import[] {
-                new Import("MonthDay", "java.time", false),
+              new String[] {
+                "java.time.MonthDay",
               })
           .put(
               "KeyInfoFactory",
-              new Import[] {
-                new Import("KeyInfoFactory", "javax.xml.crypto.dsig.keyinfo", false),
+              new String[] {
+                "javax.xml.crypto.dsig.keyinfo.KeyInfoFactory",
               })
           .put(
               "parseDouble",
-              new Import[] {
-                new Import("parseDouble", "java.lang.Double", true),
-                new Import("parseDouble", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static java.lang.Double.parseDouble",
+                "static javax.xml.bind.DatatypeConverter.parseDouble",
               })
           .put(
               "name2type",
-              new Import[] {
-                new Import("name2type", "javax.swing.text.html.parser.AttributeList", true),
-                new Import("name2type", "javax.swing.text.html.parser.Element", true),
-                new Import("name2type", "javax.swing.text.html.parser.Entity", true),
+              new String[] {
+                "static javax.swing.text.html.parser.AttributeList.name2type",
+                "static javax.swing.text.html.parser.Element.name2type",
+                "static javax.swing.text.html.parser.Entity.name2type",
               })
           .put(
               "getRowStart",
-              new Import[] {
-                new Import("getRowStart", "javax.swing.text.Utilities", true),
+              new String[] {
+                "static javax.swing.text.Utilities.getRowStart",
               })
           .put(
               "VK_SCROLL_LOCK",
-              new Import[] {
-                new Import("VK_SCROLL_LOCK", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_SCROLL_LOCK",
               })
           .put(
               "of",
-              new Import[] {
-                new Import("of", "java.lang.Character.UnicodeBlock", true),
-                new Import("of", "java.lang.Character.UnicodeScript", true),
-                new Import("of", "java.time.DayOfWeek", true),
-                new Import("of", "java.time.Duration", true),
-                new Import("of", "java.time.LocalDate", true),
-                new Import("of", "java.time.LocalDateTime", true),
-                new Import("of", "java.time.LocalTime", true),
-                new Import("of", "java.time.Month", true),
-                new Import("of", "java.time.MonthDay", true),
-                new Import("of", "java.time.OffsetDateTime", true),
-                new Import("of", "java.time.OffsetTime", true),
-                new Import("of", "java.time.Period", true),
-                new Import("of", "java.time.Year", true),
-                new Import("of", "java.time.YearMonth", true),
-                new Import("of", "java.time.ZoneId", true),
-                new Import("of", "java.time.ZoneOffset", true),
-                new Import("of", "java.time.ZonedDateTime", true),
-                new Import("of", "java.time.chrono.Chronology", true),
-                new Import("of", "java.time.chrono.HijrahDate", true),
-                new Import("of", "java.time.chrono.HijrahEra", true),
-                new Import("of", "java.time.chrono.IsoEra", true),
-                new Import("of", "java.time.chrono.JapaneseDate", true),
-                new Import("of", "java.time.chrono.JapaneseEra", true),
-                new Import("of", "java.time.chrono.MinguoDate", true),
-                new Import("of", "java.time.chrono.MinguoEra", true),
-                new Import("of", "java.time.chrono.ThaiBuddhistDate", true),
-                new Import("of", "java.time.chrono.ThaiBuddhistEra", true),
-                new Import("of", "java.time.format.DecimalStyle", true),
-                new Import("of", "java.time.temporal.ValueRange", true),
-                new Import("of", "java.time.temporal.WeekFields", true),
-                new Import("of", "java.time.zone.ZoneOffsetTransition", true),
-                new Import("of", "java.time.zone.ZoneOffsetTransitionRule", true),
-                new Import("of", "java.time.zone.ZoneRules", true),
-                new Import("of", "java.util.EnumSet", true),
-                new Import("of", "java.util.Optional", true),
-                new Import("of", "java.util.OptionalDouble", true),
-                new Import("of", "java.util.OptionalInt", true),
-                new Import("of", "java.util.OptionalLong", true),
-                new Import("of", "java.util.stream.Collector", true),
-                new Import("of", "java.util.stream.DoubleStream", true),
-                new Import("of", "java.util.stream.IntStream", true),
-                new Import("of", "java.util.stream.LongStream", true),
-                new Import("of", "java.util.stream.Stream", true),
-                new Import("of", "javax.annotation.processing.Completions", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.of",
+                "static java.lang.Character.UnicodeScript.of",
+                "static java.time.DayOfWeek.of",
+                "static java.time.Duration.of",
+                "static java.time.LocalDate.of",
+                "static java.time.LocalDateTime.of",
+                "static java.time.LocalTime.of",
+                "static java.time.Month.of",
+                "static java.time.MonthDay.of",
+                "static java.time.OffsetDateTime.of",
+                "static java.time.OffsetTime.of",
+                "static java.time.Period.of",
+                "static java.time.Year.of",
+                "static java.time.YearMonth.of",
+                "static java.time.ZoneId.of",
+                "static java.time.ZoneOffset.of",
+                "static java.time.ZonedDateTime.of",
+                "static java.time.chrono.Chronology.of",
+                "static java.time.chrono.HijrahDate.of",
+                "static java.time.chrono.HijrahEra.of",
+                "static java.time.chrono.IsoEra.of",
+                "static java.time.chrono.JapaneseDate.of",
+                "static java.time.chrono.JapaneseEra.of",
+                "static java.time.chrono.MinguoDate.of",
+                "static java.time.chrono.MinguoEra.of",
+                "static java.time.chrono.ThaiBuddhistDate.of",
+                "static java.time.chrono.ThaiBuddhistEra.of",
+                "static java.time.format.DecimalStyle.of",
+                "static java.time.temporal.ValueRange.of",
+                "static java.time.temporal.WeekFields.of",
+                "static java.time.zone.ZoneOffsetTransition.of",
+                "static java.time.zone.ZoneOffsetTransitionRule.of",
+                "static java.time.zone.ZoneRules.of",
+                "static java.util.EnumSet.of",
+                "static java.util.Optional.of",
+                "static java.util.OptionalDouble.of",
+                "static java.util.OptionalInt.of",
+                "static java.util.OptionalLong.of",
+                "static java.util.stream.Collector.of",
+                "static java.util.stream.DoubleStream.of",
+                "static java.util.stream.IntStream.of",
+                "static java.util.stream.LongStream.of",
+                "static java.util.stream.Stream.of",
+                "static javax.annotation.processing.Completions.of",
               })
           .put(
               "createHorizontalStrut",
-              new Import[] {
-                new Import("createHorizontalStrut", "javax.swing.Box", true),
+              new String[] {
+                "static javax.swing.Box.createHorizontalStrut",
               })
           .put(
               "systemDefaultZone",
-              new Import[] {
-                new Import("systemDefaultZone", "java.time.Clock", true),
+              new String[] {
+                "static java.time.Clock.systemDefaultZone",
               })
           .put(
               "EntityReference",
-              new Import[] {
-                new Import("EntityReference", "javax.xml.stream.events", false),
-                new Import("EntityReference", "org.w3c.dom", false),
+              new String[] {
+                "javax.xml.stream.events.EntityReference", "org.w3c.dom.EntityReference",
               })
           .put(
               "NumberEditor",
-              new Import[] {
-                new Import("NumberEditor", "javax.swing.JSpinner", false),
+              new String[] {
+                "javax.swing.JSpinner.NumberEditor",
               })
           .put(
               "_tk_sequence",
-              new Import[] {
-                new Import("_tk_sequence", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_sequence",
               })
           .put(
               "NamingContextExtOperations",
-              new Import[] {
-                new Import("NamingContextExtOperations", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextExtOperations",
               })
           .put(
               "notFilter",
-              new Import[] {
-                new Import("notFilter", "javax.swing.RowFilter", true),
+              new String[] {
+                "static javax.swing.RowFilter.notFilter",
               })
           .put(
               "StandardWatchEventKinds",
-              new Import[] {
-                new Import("StandardWatchEventKinds", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.StandardWatchEventKinds",
               })
           .put(
               "makeIcon",
-              new Import[] {
-                new Import("makeIcon", "javax.swing.LookAndFeel", true),
+              new String[] {
+                "static javax.swing.LookAndFeel.makeIcon",
               })
           .put(
               "or",
-              new Import[] {
-                new Import("or", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.or",
               })
           .put(
               "VK_TAB",
-              new Import[] {
-                new Import("VK_TAB", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_TAB",
               })
           .put(
               "ShapeGraphicAttribute",
-              new Import[] {
-                new Import("ShapeGraphicAttribute", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.ShapeGraphicAttribute",
               })
           .put(
               "TAG_FMTX",
-              new Import[] {
-                new Import("TAG_FMTX", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_FMTX",
               })
           .put(
               "StartDocument",
-              new Import[] {
-                new Import("StartDocument", "javax.xml.stream.events", false),
+              new String[] {
+                "javax.xml.stream.events.StartDocument",
               })
           .put(
               "DomainCombiner",
-              new Import[] {
-                new Import("DomainCombiner", "java.security", false),
+              new String[] {
+                "java.security.DomainCombiner",
               })
           .put(
               "GDAY",
-              new Import[] {
-                new Import("GDAY", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static javax.xml.datatype.DatatypeConstants.GDAY",
               })
           .put(
               "MAX_HIGH_SURROGATE",
-              new Import[] {
-                new Import("MAX_HIGH_SURROGATE", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.MAX_HIGH_SURROGATE",
               })
           .put(
               "UNKNOWN_ATTRIBUTE",
-              new Import[] {
-                new Import("UNKNOWN_ATTRIBUTE", "java.util.jar.Pack200.Packer", true),
+              new String[] {
+                "static java.util.jar.Pack200.Packer.UNKNOWN_ATTRIBUTE",
               })
           .put(
               "CharacterIterator",
-              new Import[] {
-                new Import("CharacterIterator", "java.text", false),
+              new String[] {
+                "java.text.CharacterIterator",
               })
           .put(
               "getMemoryPoolMXBeans",
-              new Import[] {
-                new Import("getMemoryPoolMXBeans", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.getMemoryPoolMXBeans",
               })
           .put(
               "SMALLINT",
-              new Import[] {
-                new Import("SMALLINT", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.SMALLINT",
               })
           .put(
               "FILE_SYSTEM_VIEW_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("FILE_SYSTEM_VIEW_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.FILE_SYSTEM_VIEW_CHANGED_PROPERTY",
               })
           .put(
               "getPredefinedCursor",
-              new Import[] {
-                new Import("getPredefinedCursor", "java.awt.Cursor", true),
+              new String[] {
+                "static java.awt.Cursor.getPredefinedCursor",
               })
           .put(
               "MODE_COPY_FROM_METADATA",
-              new Import[] {
-                new Import("MODE_COPY_FROM_METADATA", "javax.imageio.ImageWriteParam", true),
+              new String[] {
+                "static javax.imageio.ImageWriteParam.MODE_COPY_FROM_METADATA",
               })
           .put(
               "BaselineResizeBehavior",
-              new Import[] {
-                new Import("BaselineResizeBehavior", "java.awt.Component", false),
+              new String[] {
+                "java.awt.Component.BaselineResizeBehavior",
               })
           .put(
               "SimpleDateFormat",
-              new Import[] {
-                new Import("SimpleDateFormat", "java.text", false),
+              new String[] {
+                "java.text.SimpleDateFormat",
               })
           .put(
               "THREAD_POLICY_ID",
-              new Import[] {
-                new Import("THREAD_POLICY_ID", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.THREAD_POLICY_ID",
               })
           .put(
               "TOGGLE_BUTTON",
-              new Import[] {
-                new Import("TOGGLE_BUTTON", "javax.accessibility.AccessibleRole", true),
-                new Import("TOGGLE_BUTTON", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.TOGGLE_BUTTON",
+                "static javax.swing.plaf.synth.Region.TOGGLE_BUTTON",
               })
           .put(
               "DriverPropertyInfo",
-              new Import[] {
-                new Import("DriverPropertyInfo", "java.sql", false),
+              new String[] {
+                "java.sql.DriverPropertyInfo",
               })
           .put(
               "LINEAR_B_SYLLABARY",
-              new Import[] {
-                new Import("LINEAR_B_SYLLABARY", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.LINEAR_B_SYLLABARY",
               })
           .build();
 }
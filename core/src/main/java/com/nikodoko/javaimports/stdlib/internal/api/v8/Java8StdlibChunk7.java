@@ -2,1868 +2,1819 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk7 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "HTTP_SEE_OTHER",
-              new Import[] {
-                new Import("HTTP_SEE_OTHER", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_SEE_OTHER",
               })
           .put(
               "Serializable",
-              new Import[] {
-                new Import("Serializable", "java.io", false),
+              new String[] {
+                "java.io.Serializable",
               })
           .put(
               "ConcurrentModificationException",
-              new Import[] {
-                new Import("ConcurrentModificationException", "java.util", false),
+              new String[] {
+                "java.util.ConcurrentModificationException",
               })
           .put(
               "DocumentBuilderFactory",
-              new Import[] {
-                new Import("DocumentBuilderFactory", "javax.xml.parsers", false),
+              new String[] {
+                "javax.xml.parsers.DocumentBuilderFactory",
               })
           .put(
               "FORMAT",
-              new Import[] {
-                new Import("FORMAT", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.FORMAT",
               })
           .put(
               "RequestorType",
-              new Import[] {
-                new Import("RequestorType", "java.net.Authenticator", false),
+              new String[] {
+                "java.net.Authenticator.RequestorType",
               })
           .put(
               "AWTError",
-              new Import[] {
-                new Import("AWTError", "java.awt", false),
+              new String[] {
+                "java.awt.AWTError",
               })
           .put(
               "USER_ID",
-              new Import[] {
-                new Import("USER_ID", "org.omg.PortableServer.IdAssignmentPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.IdAssignmentPolicyValue.USER_ID",
               })
           .put(
               "LogStream",
-              new Import[] {
-                new Import("LogStream", "java.rmi.server", false),
+              new String[] {
+                "java.rmi.server.LogStream",
               })
           .put(
               "KeySelector",
-              new Import[] {
-                new Import("KeySelector", "javax.xml.crypto", false),
+              new String[] {
+                "javax.xml.crypto.KeySelector",
               })
           .put(
               "setDatatypeConverter",
-              new Import[] {
-                new Import("setDatatypeConverter", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.setDatatypeConverter",
               })
           .put(
               "DefaultEditor",
-              new Import[] {
-                new Import("DefaultEditor", "javax.swing.JSpinner", false),
+              new String[] {
+                "javax.swing.JSpinner.DefaultEditor",
               })
           .put(
               "XPathConstants",
-              new Import[] {
-                new Import("XPathConstants", "javax.xml.xpath", false),
+              new String[] {
+                "javax.xml.xpath.XPathConstants",
               })
           .put(
               "Attr",
-              new Import[] {
-                new Import("Attr", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.Attr",
               })
           .put(
               "STATIC",
-              new Import[] {
-                new Import("STATIC", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.STATIC",
               })
           .put(
               "icSigRgbData",
-              new Import[] {
-                new Import("icSigRgbData", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigRgbData",
               })
           .put(
               "URI_NS_SOAP_ENCODING",
-              new Import[] {
-                new Import("URI_NS_SOAP_ENCODING", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.URI_NS_SOAP_ENCODING",
               })
           .put(
               "NEGATIVE_INFINITY",
-              new Import[] {
-                new Import("NEGATIVE_INFINITY", "java.lang.Double", true),
-                new Import("NEGATIVE_INFINITY", "java.lang.Float", true),
+              new String[] {
+                "static java.lang.Double.NEGATIVE_INFINITY",
+                "static java.lang.Float.NEGATIVE_INFINITY",
               })
           .put(
               "iterator",
-              new Import[] {
-                new Import("iterator", "java.util.Spliterators", true),
+              new String[] {
+                "static java.util.Spliterators.iterator",
               })
           .put(
               "ReflectiveOperationException",
-              new Import[] {
-                new Import("ReflectiveOperationException", "java.lang", false),
+              new String[] {
+                "java.lang.ReflectiveOperationException",
               })
           .put(
               "TYPE_SCROLL_INSENSITIVE",
-              new Import[] {
-                new Import("TYPE_SCROLL_INSENSITIVE", "java.sql.ResultSet", true),
+              new String[] {
+                "static java.sql.ResultSet.TYPE_SCROLL_INSENSITIVE",
               })
           .put(
               "STRIKETHROUGH_ON",
-              new Import[] {
-                new Import("STRIKETHROUGH_ON", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.STRIKETHROUGH_ON",
               })
           .put(
               "Painter",
-              new Import[] {
-                new Import("Painter", "javax.swing", false),
+              new String[] {
+                "javax.swing.Painter",
               })
           .put(
               "KEY_DITHERING",
-              new Import[] {
-                new Import("KEY_DITHERING", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.KEY_DITHERING",
               })
           .put(
               "CHILD_POLICY_ALL",
-              new Import[] {
-                new Import("CHILD_POLICY_ALL", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.CHILD_POLICY_ALL",
               })
           .put(
               "XMLEventReader",
-              new Import[] {
-                new Import("XMLEventReader", "javax.xml.stream", false),
+              new String[] {
+                "javax.xml.stream.XMLEventReader",
               })
           .put(
               "GlyphView",
-              new Import[] {
-                new Import("GlyphView", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.GlyphView",
               })
           .put(
               "TabableView",
-              new Import[] {
-                new Import("TabableView", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.TabableView",
               })
           .put(
               "WRITE_XML_DECLARATION",
-              new Import[] {
-                new Import("WRITE_XML_DECLARATION", "javax.xml.soap.SOAPMessage", true),
+              new String[] {
+                "static javax.xml.soap.SOAPMessage.WRITE_XML_DECLARATION",
               })
           .put(
               "TYPE_BYTE_BINARY",
-              new Import[] {
-                new Import("TYPE_BYTE_BINARY", "java.awt.image.BufferedImage", true),
+              new String[] {
+                "static java.awt.image.BufferedImage.TYPE_BYTE_BINARY",
               })
           .put(
               "SOAPACTION_URI_PROPERTY",
-              new Import[] {
-                new Import("SOAPACTION_URI_PROPERTY", "javax.xml.ws.BindingProvider", true),
+              new String[] {
+                "static javax.xml.ws.BindingProvider.SOAPACTION_URI_PROPERTY",
               })
           .put(
               "KEY_TEXT_ANTIALIASING",
-              new Import[] {
-                new Import("KEY_TEXT_ANTIALIASING", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.KEY_TEXT_ANTIALIASING",
               })
           .put(
               "META",
-              new Import[] {
-                new Import("META", "javax.sound.midi.MetaMessage", true),
-                new Import("META", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.sound.midi.MetaMessage.META",
+                "static javax.swing.text.html.HTML.Tag.META",
               })
           .put(
               "fieldModifiers",
-              new Import[] {
-                new Import("fieldModifiers", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.fieldModifiers",
               })
           .put(
               "synchronizedSortedSet",
-              new Import[] {
-                new Import("synchronizedSortedSet", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.synchronizedSortedSet",
               })
           .put(
               "ServiceContext",
-              new Import[] {
-                new Import("ServiceContext", "org.omg.IOP", false),
+              new String[] {
+                "org.omg.IOP.ServiceContext",
               })
           .put(
               "IllformedLocaleException",
-              new Import[] {
-                new Import("IllformedLocaleException", "java.util", false),
+              new String[] {
+                "java.util.IllformedLocaleException",
               })
           .put(
               "getReaderFileSuffixes",
-              new Import[] {
-                new Import("getReaderFileSuffixes", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getReaderFileSuffixes",
               })
           .put(
               "ACTION_REFERENCE",
-              new Import[] {
-                new Import("ACTION_REFERENCE", "java.awt.dnd.DnDConstants", true),
+              new String[] {
+                "static java.awt.dnd.DnDConstants.ACTION_REFERENCE",
               })
           .put(
               "DefaultCellEditor",
-              new Import[] {
-                new Import("DefaultCellEditor", "javax.swing", false),
+              new String[] {
+                "javax.swing.DefaultCellEditor",
               })
           .put(
               "CommandInfo",
-              new Import[] {
-                new Import("CommandInfo", "javax.activation", false),
+              new String[] {
+                "javax.activation.CommandInfo",
               })
           .put(
               "AtomicInteger",
-              new Import[] {
-                new Import("AtomicInteger", "java.util.concurrent.atomic", false),
+              new String[] {
+                "java.util.concurrent.atomic.AtomicInteger",
               })
           .put(
               "ACCESSIBLE_ACTION_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_ACTION_PROPERTY", "javax.accessibility.AccessibleContext", true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_ACTION_PROPERTY",
               })
           .put(
               "Cloneable",
-              new Import[] {
-                new Import("Cloneable", "java.lang", false),
+              new String[] {
+                "java.lang.Cloneable",
               })
           .put(
               "_ncontext",
-              new Import[] {
-                new Import("_ncontext", "org.omg.CosNaming.BindingType", true),
+              new String[] {
+                "static org.omg.CosNaming.BindingType._ncontext",
               })
           .put(
               "icSigGreenMatrixColumnTag",
-              new Import[] {
-                new Import("icSigGreenMatrixColumnTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigGreenMatrixColumnTag",
               })
           .put(
               "SERVANT_RETENTION_POLICY_ID",
-              new Import[] {
-                new Import("SERVANT_RETENTION_POLICY_ID", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.SERVANT_RETENTION_POLICY_ID",
               })
           .put(
               "JapaneseEra",
-              new Import[] {
-                new Import("JapaneseEra", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.JapaneseEra",
               })
           .put(
               "commonPool",
-              new Import[] {
-                new Import("commonPool", "java.util.concurrent.ForkJoinPool", true),
+              new String[] {
+                "static java.util.concurrent.ForkJoinPool.commonPool",
               })
           .put(
               "TYPE_ECLR",
-              new Import[] {
-                new Import("TYPE_ECLR", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_ECLR",
               })
           .put(
               "ABOVE_TOP",
-              new Import[] {
-                new Import("ABOVE_TOP", "javax.swing.border.TitledBorder", true),
+              new String[] {
+                "static javax.swing.border.TitledBorder.ABOVE_TOP",
               })
           .put(
               "STRIP",
-              new Import[] {
-                new Import("STRIP", "java.util.jar.Pack200.Packer", true),
+              new String[] {
+                "static java.util.jar.Pack200.Packer.STRIP",
               })
           .put(
               "MarshalException",
-              new Import[] {
-                new Import("MarshalException", "java.rmi", false),
-                new Import("MarshalException", "javax.xml.bind", false),
-                new Import("MarshalException", "javax.xml.crypto", false),
+              new String[] {
+                "java.rmi.MarshalException",
+                "javax.xml.bind.MarshalException",
+                "javax.xml.crypto.MarshalException",
               })
           .put(
               "K1Div2Luminance",
-              new Import[] {
-                new Import("K1Div2Luminance", "javax.imageio.plugins.jpeg.JPEGQTable", true),
+              new String[] {
+                "static javax.imageio.plugins.jpeg.JPEGQTable.K1Div2Luminance",
               })
           .put(
               "MOUSE_WHEEL",
-              new Import[] {
-                new Import("MOUSE_WHEEL", "java.awt.event.MouseEvent", true),
+              new String[] {
+                "static java.awt.event.MouseEvent.MOUSE_WHEEL",
               })
           .put(
               "DSAGenParameterSpec",
-              new Import[] {
-                new Import("DSAGenParameterSpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.DSAGenParameterSpec",
               })
           .put(
               "DynValueBoxOperations",
-              new Import[] {
-                new Import("DynValueBoxOperations", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny.DynValueBoxOperations",
               })
           .put(
               "getEtchedInsets",
-              new Import[] {
-                new Import("getEtchedInsets", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicGraphicsUtils.getEtchedInsets",
               })
           .put(
               "WindowAdapter",
-              new Import[] {
-                new Import("WindowAdapter", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.WindowAdapter",
               })
           .put(
               "JSeparator",
-              new Import[] {
-                new Import("JSeparator", "javax.swing", false),
+              new String[] {
+                "javax.swing.JSeparator",
               })
           .put(
               "ConnectionPoolDataSource",
-              new Import[] {
-                new Import("ConnectionPoolDataSource", "javax.sql", false),
+              new String[] {
+                "javax.sql.ConnectionPoolDataSource",
               })
           .put(
               "getSharedInstance",
-              new Import[] {
-                new Import("getSharedInstance", "javax.swing.PopupFactory", true),
+              new String[] {
+                "static javax.swing.PopupFactory.getSharedInstance",
               })
           .put(
               "DELETE",
-              new Import[] {
-                new Import("DELETE", "java.awt.Event", true),
-                new Import("DELETE", "javax.accessibility.AccessibleTableModelChange", true),
-                new Import("DELETE", "javax.swing.event.TableModelEvent", true),
+              new String[] {
+                "static java.awt.Event.DELETE",
+                "static javax.accessibility.AccessibleTableModelChange.DELETE",
+                "static javax.swing.event.TableModelEvent.DELETE",
               })
           .put(
               "lowSurrogate",
-              new Import[] {
-                new Import("lowSurrogate", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.lowSurrogate",
               })
           .put(
               "NoServantHelper",
-              new Import[] {
-                new Import("NoServantHelper", "org.omg.PortableServer.POAPackage", false),
+              new String[] {
+                "org.omg.PortableServer.POAPackage.NoServantHelper",
               })
           .put(
               "NamingManager",
-              new Import[] {
-                new Import("NamingManager", "javax.naming.spi", false),
+              new String[] {
+                "javax.naming.spi.NamingManager",
               })
           .put(
               "Files",
-              new Import[] {
-                new Import("Files", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.Files",
               })
           .put(
               "Filer",
-              new Import[] {
-                new Import("Filer", "javax.annotation.processing", false),
+              new String[] {
+                "javax.annotation.processing.Filer",
               })
           .put(
               "AbstractChronology",
-              new Import[] {
-                new Import("AbstractChronology", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.AbstractChronology",
               })
           .put(
               "cutAction",
-              new Import[] {
-                new Import("cutAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.cutAction",
               })
           .put(
               "JToolTip",
-              new Import[] {
-                new Import("JToolTip", "javax.swing", false),
+              new String[] {
+                "javax.swing.JToolTip",
               })
           .put(
               "WINDOW_STATE_CHANGED",
-              new Import[] {
-                new Import("WINDOW_STATE_CHANGED", "java.awt.event.WindowEvent", true),
+              new String[] {
+                "static java.awt.event.WindowEvent.WINDOW_STATE_CHANGED",
               })
           .put(
               "SECURITY_PRINCIPAL",
-              new Import[] {
-                new Import("SECURITY_PRINCIPAL", "javax.naming.Context", true),
+              new String[] {
+                "static javax.naming.Context.SECURITY_PRINCIPAL",
               })
           .put(
               "Redirect",
-              new Import[] {
-                new Import("Redirect", "java.lang.ProcessBuilder", false),
+              new String[] {
+                "java.lang.ProcessBuilder.Redirect",
               })
           .put(
               "OptionalInt",
-              new Import[] {
-                new Import("OptionalInt", "java.util", false),
+              new String[] {
+                "java.util.OptionalInt",
               })
           .put(
               "CAP_ROUND",
-              new Import[] {
-                new Import("CAP_ROUND", "java.awt.BasicStroke", true),
+              new String[] {
+                "static java.awt.BasicStroke.CAP_ROUND",
               })
           .put(
               "parallelSetAll",
-              new Import[] {
-                new Import("parallelSetAll", "java.util.Arrays", true),
+              new String[] {
+                "static java.util.Arrays.parallelSetAll",
               })
           .put(
               "OPEN_READ",
-              new Import[] {
-                new Import("OPEN_READ", "java.util.zip.ZipFile", true),
+              new String[] {
+                "static java.util.zip.ZipFile.OPEN_READ",
               })
           .put(
               "IMPLEMENTATION_VENDOR_ID",
-              new Import[] {
-                new Import("IMPLEMENTATION_VENDOR_ID", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.IMPLEMENTATION_VENDOR_ID",
               })
           .put(
               "SizeLimitExceededException",
-              new Import[] {
-                new Import("SizeLimitExceededException", "javax.naming", false),
+              new String[] {
+                "javax.naming.SizeLimitExceededException",
               })
           .put(
               "RMIConnectorServer",
-              new Import[] {
-                new Import("RMIConnectorServer", "javax.management.remote.rmi", false),
+              new String[] {
+                "javax.management.remote.rmi.RMIConnectorServer",
               })
           .put(
               "toMap",
-              new Import[] {
-                new Import("toMap", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.toMap",
               })
           .put(
               "BUTTON3_MASK",
-              new Import[] {
-                new Import("BUTTON3_MASK", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.event.InputEvent.BUTTON3_MASK",
               })
           .put(
               "to",
-              new Import[] {
-                new Import("to", "java.lang.ProcessBuilder.Redirect", true),
+              new String[] {
+                "static java.lang.ProcessBuilder.Redirect.to",
               })
           .put(
               "PackageElement",
-              new Import[] {
-                new Import("PackageElement", "javax.lang.model.element", false),
+              new String[] {
+                "javax.lang.model.element.PackageElement",
               })
           .put(
               "NoSuchProviderException",
-              new Import[] {
-                new Import("NoSuchProviderException", "java.security", false),
+              new String[] {
+                "java.security.NoSuchProviderException",
               })
           .put(
               "FACE",
-              new Import[] {
-                new Import("FACE", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.FACE",
               })
           .put(
               "NestingKind",
-              new Import[] {
-                new Import("NestingKind", "javax.lang.model.element", false),
+              new String[] {
+                "javax.lang.model.element.NestingKind",
               })
           .put(
               "ROLLOVER_ICON_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("ROLLOVER_ICON_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.ROLLOVER_ICON_CHANGED_PROPERTY",
               })
           .put(
               "CLASS_OUTPUT",
-              new Import[] {
-                new Import("CLASS_OUTPUT", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.CLASS_OUTPUT",
               })
           .put(
               "VK_RIGHT_PARENTHESIS",
-              new Import[] {
-                new Import("VK_RIGHT_PARENTHESIS", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_RIGHT_PARENTHESIS",
               })
           .put(
               "ACCESSIBLE_TEXT_ATTRIBUTES_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TEXT_ATTRIBUTES_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_TEXT_ATTRIBUTES_CHANGED",
               })
           .put(
               "Templates",
-              new Import[] {
-                new Import("Templates", "javax.xml.transform", false),
+              new String[] {
+                "javax.xml.transform.Templates",
               })
           .put(
               "FloatBuffer",
-              new Import[] {
-                new Import("FloatBuffer", "java.nio", false),
+              new String[] {
+                "java.nio.FloatBuffer",
               })
           .put(
               "JAPANESE_POSTCARD",
-              new Import[] {
-                new Import(
-                    "JAPANESE_POSTCARD", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "JAPANESE_POSTCARD", "javax.print.attribute.standard.MediaSize.Other", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSizeName.JAPANESE_POSTCARD",
+                "static javax.print.attribute.standard.MediaSize.Other.JAPANESE_POSTCARD",
               })
           .put(
               "PolicyListHolder",
-              new Import[] {
-                new Import("PolicyListHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.PolicyListHolder",
               })
           .put(
               "DAY_OF_WEEK_IN_MONTH",
-              new Import[] {
-                new Import("DAY_OF_WEEK_IN_MONTH", "java.text.DateFormat.Field", true),
-                new Import("DAY_OF_WEEK_IN_MONTH", "java.util.Calendar", true),
+              new String[] {
+                "static java.text.DateFormat.Field.DAY_OF_WEEK_IN_MONTH",
+                "static java.util.Calendar.DAY_OF_WEEK_IN_MONTH",
               })
           .put(
               "InvalidPathException",
-              new Import[] {
-                new Import("InvalidPathException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.InvalidPathException",
               })
           .put(
               "HandlerChain",
-              new Import[] {
-                new Import("HandlerChain", "javax.jws", false),
+              new String[] {
+                "javax.jws.HandlerChain",
               })
           .put(
               "BorderLayout",
-              new Import[] {
-                new Import("BorderLayout", "java.awt", false),
+              new String[] {
+                "java.awt.BorderLayout",
               })
           .put(
               "getKeyStrokeForEvent",
-              new Import[] {
-                new Import("getKeyStrokeForEvent", "javax.swing.KeyStroke", true),
+              new String[] {
+                "static javax.swing.KeyStroke.getKeyStrokeForEvent",
               })
           .put(
               "_tk_fixed",
-              new Import[] {
-                new Import("_tk_fixed", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_fixed",
               })
           .put(
               "VK_HOME",
-              new Import[] {
-                new Import("VK_HOME", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_HOME",
               })
           .put(
               "RAW_SEND_SIZE",
-              new Import[] {
-                new Import("RAW_SEND_SIZE", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.RAW_SEND_SIZE",
               })
           .put(
               "EXPONENT_SIGN",
-              new Import[] {
-                new Import("EXPONENT_SIGN", "java.text.NumberFormat.Field", true),
+              new String[] {
+                "static java.text.NumberFormat.Field.EXPONENT_SIGN",
               })
           .put(
               "AbstractView",
-              new Import[] {
-                new Import("AbstractView", "org.w3c.dom.views", false),
+              new String[] {
+                "org.w3c.dom.views.AbstractView",
               })
           .put(
               "TreeModelListener",
-              new Import[] {
-                new Import("TreeModelListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.TreeModelListener",
               })
           .put(
               "LATIN",
-              new Import[] {
-                new Import("LATIN", "java.awt.im.InputSubset", true),
+              new String[] {
+                "static java.awt.im.InputSubset.LATIN",
               })
           .put(
               "icAbsoluteColorimetric",
-              new Import[] {
-                new Import("icAbsoluteColorimetric", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icAbsoluteColorimetric",
               })
           .put(
               "SPINNER",
-              new Import[] {
-                new Import("SPINNER", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.SPINNER",
               })
           .put(
               "DatabaseMetaData",
-              new Import[] {
-                new Import("DatabaseMetaData", "java.sql", false),
+              new String[] {
+                "java.sql.DatabaseMetaData",
               })
           .put(
               "getAcceleratorForeground",
-              new Import[] {
-                new Import(
-                    "getAcceleratorForeground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getAcceleratorForeground",
               })
           .put(
               "INTEGER_FIELD",
-              new Import[] {
-                new Import("INTEGER_FIELD", "java.text.NumberFormat", true),
+              new String[] {
+                "static java.text.NumberFormat.INTEGER_FIELD",
               })
           .put(
               "sqlStateXOpen",
-              new Import[] {
-                new Import("sqlStateXOpen", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.sqlStateXOpen",
               })
           .put(
               "AudioInputStream",
-              new Import[] {
-                new Import("AudioInputStream", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.AudioInputStream",
               })
           .put(
               "NumberOfInterveningJobs",
-              new Import[] {
-                new Import("NumberOfInterveningJobs", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.NumberOfInterveningJobs",
               })
           .put(
               "W3C_XPATH_DATATYPE_NS_URI",
-              new Import[] {
-                new Import("W3C_XPATH_DATATYPE_NS_URI", "javax.xml.XMLConstants", true),
+              new String[] {
+                "static javax.xml.XMLConstants.W3C_XPATH_DATATYPE_NS_URI",
               })
           .put(
               "ResourceBundle",
-              new Import[] {
-                new Import("ResourceBundle", "java.util", false),
+              new String[] {
+                "java.util.ResourceBundle",
               })
           .put(
               "CLICK",
-              new Import[] {
-                new Import("CLICK", "javax.accessibility.AccessibleAction", true),
+              new String[] {
+                "static javax.accessibility.AccessibleAction.CLICK",
               })
           .put(
               "ITALY_ENVELOPE",
-              new Import[] {
-                new Import("ITALY_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import("ITALY_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "ITALY_ENVELOPE", "javax.print.attribute.standard.MediaSize.Other", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ITALY_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSizeName.ITALY_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSize.Other.ITALY_ENVELOPE",
               })
           .put(
               "JDialog",
-              new Import[] {
-                new Import("JDialog", "javax.swing", false),
+              new String[] {
+                "javax.swing.JDialog",
               })
           .put(
               "AWTException",
-              new Import[] {
-                new Import("AWTException", "java.awt", false),
+              new String[] {
+                "java.awt.AWTException",
               })
           .put(
               "MULTILINE",
-              new Import[] {
-                new Import("MULTILINE", "java.util.regex.Pattern", true),
+              new String[] {
+                "static java.util.regex.Pattern.MULTILINE",
               })
           .put(
               "XMLOutputFactory",
-              new Import[] {
-                new Import("XMLOutputFactory", "javax.xml.stream", false),
+              new String[] {
+                "javax.xml.stream.XMLOutputFactory",
               })
           .put(
               "DOMImplementationSource",
-              new Import[] {
-                new Import("DOMImplementationSource", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.DOMImplementationSource",
               })
           .put(
               "CURRENCY_SYMBOL",
-              new Import[] {
-                new Import("CURRENCY_SYMBOL", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.CURRENCY_SYMBOL",
               })
           .put(
               "OBJECTNAME",
-              new Import[] {
-                new Import("OBJECTNAME", "javax.management.openmbean.SimpleType", true),
+              new String[] {
+                "static javax.management.openmbean.SimpleType.OBJECTNAME",
               })
           .put(
               "setLogTimers",
-              new Import[] {
-                new Import("setLogTimers", "javax.swing.Timer", true),
+              new String[] {
+                "static javax.swing.Timer.setLogTimers",
               })
           .put(
               "TAI_THAM",
-              new Import[] {
-                new Import("TAI_THAM", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.TAI_THAM",
               })
           .put(
               "AtomicStampedReference",
-              new Import[] {
-                new Import("AtomicStampedReference", "java.util.concurrent.atomic", false),
+              new String[] {
+                "java.util.concurrent.atomic.AtomicStampedReference",
               })
           .put(
               "ClipboardOwner",
-              new Import[] {
-                new Import("ClipboardOwner", "java.awt.datatransfer", false),
+              new String[] {
+                "java.awt.datatransfer.ClipboardOwner",
               })
           .put(
               "ObjectOutputStream",
-              new Import[] {
-                new Import("ObjectOutputStream", "java.io", false),
+              new String[] {
+                "java.io.ObjectOutputStream",
               })
           .put(
               "CHILD_POLICY_SOME",
-              new Import[] {
-                new Import("CHILD_POLICY_SOME", "javax.imageio.metadata.IIOMetadataFormat", true),
+              new String[] {
+                "static javax.imageio.metadata.IIOMetadataFormat.CHILD_POLICY_SOME",
               })
           .put(
               "FLOWS_FROM",
-              new Import[] {
-                new Import("FLOWS_FROM", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.FLOWS_FROM",
               })
           .put(
               "BAMUM_SUPPLEMENT",
-              new Import[] {
-                new Import("BAMUM_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.BAMUM_SUPPLEMENT",
               })
           .put(
               "EMPTY",
-              new Import[] {
-                new Import("EMPTY", "javax.swing.text.SimpleAttributeSet", true),
-                new Import("EMPTY", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.SimpleAttributeSet.EMPTY",
+                "static javax.swing.text.html.parser.DTDConstants.EMPTY",
               })
           .put(
               "parameterModeOut",
-              new Import[] {
-                new Import("parameterModeOut", "java.sql.ParameterMetaData", true),
+              new String[] {
+                "static java.sql.ParameterMetaData.parameterModeOut",
               })
           .put(
               "FileCacheImageInputStream",
-              new Import[] {
-                new Import("FileCacheImageInputStream", "javax.imageio.stream", false),
+              new String[] {
+                "javax.imageio.stream.FileCacheImageInputStream",
               })
           .put(
               "BindingIteratorPOA",
-              new Import[] {
-                new Import("BindingIteratorPOA", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.BindingIteratorPOA",
               })
           .put(
               "MessageFormat",
-              new Import[] {
-                new Import("MessageFormat", "java.text", false),
+              new String[] {
+                "java.text.MessageFormat",
               })
           .put(
               "previous",
-              new Import[] {
-                new Import("previous", "java.time.temporal.TemporalAdjusters", true),
+              new String[] {
+                "static java.time.temporal.TemporalAdjusters.previous",
               })
           .put(
               "AWTKeyStroke",
-              new Import[] {
-                new Import("AWTKeyStroke", "java.awt", false),
+              new String[] {
+                "java.awt.AWTKeyStroke",
               })
           .put(
               "valueOf",
-              new Import[] {
-                new Import("valueOf", "java.awt.Component.BaselineResizeBehavior", true),
-                new Import("valueOf", "java.awt.Desktop.Action", true),
-                new Import("valueOf", "java.awt.Dialog.ModalExclusionType", true),
-                new Import("valueOf", "java.awt.Dialog.ModalityType", true),
-                new Import("valueOf", "java.awt.GraphicsDevice.WindowTranslucency", true),
-                new Import("valueOf", "java.awt.MultipleGradientPaint.ColorSpaceType", true),
-                new Import("valueOf", "java.awt.MultipleGradientPaint.CycleMethod", true),
-                new Import("valueOf", "java.awt.TrayIcon.MessageType", true),
-                new Import("valueOf", "java.awt.Window.Type", true),
-                new Import("valueOf", "java.awt.font.NumericShaper.Range", true),
-                new Import("valueOf", "java.lang.Boolean", true),
-                new Import("valueOf", "java.lang.Byte", true),
-                new Import("valueOf", "java.lang.Character", true),
-                new Import("valueOf", "java.lang.Double", true),
-                new Import("valueOf", "java.lang.Enum", true),
-                new Import("valueOf", "java.lang.Float", true),
-                new Import("valueOf", "java.lang.Integer", true),
-                new Import("valueOf", "java.lang.Long", true),
-                new Import("valueOf", "java.lang.Short", true),
-                new Import("valueOf", "java.lang.String", true),
-                new Import("valueOf", "java.lang.Character.UnicodeScript", true),
-                new Import("valueOf", "java.lang.ProcessBuilder.Redirect.Type", true),
-                new Import("valueOf", "java.lang.Thread.State", true),
-                new Import("valueOf", "java.lang.annotation.ElementType", true),
-                new Import("valueOf", "java.lang.annotation.RetentionPolicy", true),
-                new Import("valueOf", "java.lang.management.MemoryType", true),
-                new Import("valueOf", "java.math.BigDecimal", true),
-                new Import("valueOf", "java.math.BigInteger", true),
-                new Import("valueOf", "java.math.RoundingMode", true),
-                new Import("valueOf", "java.net.StandardProtocolFamily", true),
-                new Import("valueOf", "java.net.Authenticator.RequestorType", true),
-                new Import("valueOf", "java.net.Proxy.Type", true),
-                new Import("valueOf", "java.nio.file.AccessMode", true),
-                new Import("valueOf", "java.nio.file.FileVisitOption", true),
-                new Import("valueOf", "java.nio.file.FileVisitResult", true),
-                new Import("valueOf", "java.nio.file.LinkOption", true),
-                new Import("valueOf", "java.nio.file.StandardCopyOption", true),
-                new Import("valueOf", "java.nio.file.StandardOpenOption", true),
-                new Import("valueOf", "java.nio.file.attribute.AclEntryFlag", true),
-                new Import("valueOf", "java.nio.file.attribute.AclEntryPermission", true),
-                new Import("valueOf", "java.nio.file.attribute.AclEntryType", true),
-                new Import("valueOf", "java.nio.file.attribute.PosixFilePermission", true),
-                new Import("valueOf", "java.security.CryptoPrimitive", true),
-                new Import("valueOf", "java.security.KeyRep.Type", true),
-                new Import("valueOf", "java.security.cert.CRLReason", true),
-                new Import("valueOf", "java.security.cert.PKIXReason", true),
-                new Import(
-                    "valueOf", "java.security.cert.CertPathValidatorException.BasicReason", true),
-                new Import("valueOf", "java.security.cert.PKIXRevocationChecker.Option", true),
-                new Import("valueOf", "java.sql.ClientInfoStatus", true),
-                new Import("valueOf", "java.sql.Date", true),
-                new Import("valueOf", "java.sql.JDBCType", true),
-                new Import("valueOf", "java.sql.PseudoColumnUsage", true),
-                new Import("valueOf", "java.sql.RowIdLifetime", true),
-                new Import("valueOf", "java.sql.Time", true),
-                new Import("valueOf", "java.sql.Timestamp", true),
-                new Import("valueOf", "java.text.Normalizer.Form", true),
-                new Import("valueOf", "java.time.DayOfWeek", true),
-                new Import("valueOf", "java.time.Month", true),
-                new Import("valueOf", "java.time.chrono.HijrahEra", true),
-                new Import("valueOf", "java.time.chrono.IsoEra", true),
-                new Import("valueOf", "java.time.chrono.JapaneseEra", true),
-                new Import("valueOf", "java.time.chrono.MinguoEra", true),
-                new Import("valueOf", "java.time.chrono.ThaiBuddhistEra", true),
-                new Import("valueOf", "java.time.format.FormatStyle", true),
-                new Import("valueOf", "java.time.format.ResolverStyle", true),
-                new Import("valueOf", "java.time.format.SignStyle", true),
-                new Import("valueOf", "java.time.format.TextStyle", true),
-                new Import("valueOf", "java.time.temporal.ChronoField", true),
-                new Import("valueOf", "java.time.temporal.ChronoUnit", true),
-                new Import(
-                    "valueOf", "java.time.zone.ZoneOffsetTransitionRule.TimeDefinition", true),
-                new Import("valueOf", "java.util.BitSet", true),
-                new Import("valueOf", "java.util.Formatter.BigDecimalLayoutForm", true),
-                new Import("valueOf", "java.util.Locale.Category", true),
-                new Import("valueOf", "java.util.Locale.FilteringMode", true),
-                new Import("valueOf", "java.util.concurrent.TimeUnit", true),
-                new Import("valueOf", "java.util.stream.Collector.Characteristics", true),
-                new Import("valueOf", "javax.annotation.Resource.AuthenticationType", true),
-                new Import("valueOf", "javax.jws.WebParam.Mode", true),
-                new Import("valueOf", "javax.jws.soap.SOAPBinding.ParameterStyle", true),
-                new Import("valueOf", "javax.jws.soap.SOAPBinding.Style", true),
-                new Import("valueOf", "javax.jws.soap.SOAPBinding.Use", true),
-                new Import("valueOf", "javax.lang.model.SourceVersion", true),
-                new Import("valueOf", "javax.lang.model.element.ElementKind", true),
-                new Import("valueOf", "javax.lang.model.element.Modifier", true),
-                new Import("valueOf", "javax.lang.model.element.NestingKind", true),
-                new Import("valueOf", "javax.lang.model.type.TypeKind", true),
-                new Import("valueOf", "javax.net.ssl.SSLEngineResult.HandshakeStatus", true),
-                new Import("valueOf", "javax.net.ssl.SSLEngineResult.Status", true),
-                new Import("valueOf", "javax.swing.DropMode", true),
-                new Import("valueOf", "javax.swing.SortOrder", true),
-                new Import("valueOf", "javax.swing.GroupLayout.Alignment", true),
-                new Import("valueOf", "javax.swing.JTable.PrintMode", true),
-                new Import("valueOf", "javax.swing.LayoutStyle.ComponentPlacement", true),
-                new Import("valueOf", "javax.swing.RowFilter.ComparisonType", true),
-                new Import("valueOf", "javax.swing.SwingWorker.StateValue", true),
-                new Import("valueOf", "javax.swing.event.RowSorterEvent.Type", true),
-                new Import(
-                    "valueOf",
-                    "javax.swing.plaf.nimbus.AbstractRegionPainter.PaintContext.CacheMode",
-                    true),
-                new Import("valueOf", "javax.swing.text.html.FormSubmitEvent.MethodType", true),
-                new Import("valueOf", "javax.tools.StandardLocation", true),
-                new Import("valueOf", "javax.tools.Diagnostic.Kind", true),
-                new Import("valueOf", "javax.tools.DocumentationTool.Location", true),
-                new Import("valueOf", "javax.tools.JavaFileObject.Kind", true),
-                new Import("valueOf", "javax.xml.bind.annotation.XmlAccessOrder", true),
-                new Import("valueOf", "javax.xml.bind.annotation.XmlAccessType", true),
-                new Import("valueOf", "javax.xml.bind.annotation.XmlNsForm", true),
-                new Import("valueOf", "javax.xml.namespace.QName", true),
-                new Import("valueOf", "javax.xml.ws.Service.Mode", true),
-                new Import("valueOf", "javax.xml.ws.handler.MessageContext.Scope", true),
-                new Import("valueOf", "javax.xml.ws.soap.AddressingFeature.Responses", true),
+              new String[] {
+                "static java.awt.Component.BaselineResizeBehavior.valueOf",
+                "static java.awt.Desktop.Action.valueOf",
+                "static java.awt.Dialog.ModalExclusionType.valueOf",
+                "static java.awt.Dialog.ModalityType.valueOf",
+                "static java.awt.GraphicsDevice.WindowTranslucency.valueOf",
+                "static java.awt.MultipleGradientPaint.ColorSpaceType.valueOf",
+                "static java.awt.MultipleGradientPaint.CycleMethod.valueOf",
+                "static java.awt.TrayIcon.MessageType.valueOf",
+                "static java.awt.Window.Type.valueOf",
+                "static java.awt.font.NumericShaper.Range.valueOf",
+                "static java.lang.Boolean.valueOf",
+                "static java.lang.Byte.valueOf",
+                "static java.lang.Character.valueOf",
+                "static java.lang.Double.valueOf",
+                "static java.lang.Enum.valueOf",
+                "static java.lang.Float.valueOf",
+                "static java.lang.Integer.valueOf",
+                "static java.lang.Long.valueOf",
+                "static java.lang.Short.valueOf",
+                "static java.lang.String.valueOf",
+                "static java.lang.Character.UnicodeScript.valueOf",
+                "static java.lang.ProcessBuilder.Redirect.Type.valueOf",
+                "static java.lang.Thread.State.valueOf",
+                "static java.lang.annotation.ElementType.valueOf",
+                "static java.lang.annotation.RetentionPolicy.valueOf",
+                "static java.lang.management.MemoryType.valueOf",
+                "static java.math.BigDecimal.valueOf",
+                "static java.math.BigInteger.valueOf",
+                "static java.math.RoundingMode.valueOf",
+                "static java.net.StandardProtocolFamily.valueOf",
+                "static java.net.Authenticator.RequestorType.valueOf",
+                "static java.net.Proxy.Type.valueOf",
+                "static java.nio.file.AccessMode.valueOf",
+                "static java.nio.file.FileVisitOption.valueOf",
+                "static java.nio.file.FileVisitResult.valueOf",
+                "static java.nio.file.LinkOption.valueOf",
+                "static java.nio.file.StandardCopyOption.valueOf",
+                "static java.nio.file.StandardOpenOption.valueOf",
+                "static java.nio.file.attribute.AclEntryFlag.valueOf",
+                "static java.nio.file.attribute.AclEntryPermission.valueOf",
+                "static java.nio.file.attribute.AclEntryType.valueOf",
+                "static java.nio.file.attribute.PosixFilePermission.valueOf",
+                "static java.security.CryptoPrimitive.valueOf",
+                "static java.security.KeyRep.Type.valueOf",
+                "static java.security.cert.CRLReason.valueOf",
+                "static java.security.cert.PKIXReason.valueOf",
+                "static java.security.cert.CertPathValidatorException.BasicReason.valueOf",
+                "static java.security.cert.PKIXRevocationChecker.Option.valueOf",
+                "static java.sql.ClientInfoStatus.valueOf",
+                "static java.sql.Date.valueOf",
+                "static java.sql.JDBCType.valueOf",
+                "static java.sql.PseudoColumnUsage.valueOf",
+                "static java.sql.RowIdLifetime.valueOf",
+                "static java.sql.Time.valueOf",
+                "static java.sql.Timestamp.valueOf",
+                "static java.text.Normalizer.Form.valueOf",
+                "static java.time.DayOfWeek.valueOf",
+                "static java.time.Month.valueOf",
+                "static java.time.chrono.HijrahEra.valueOf",
+                "static java.time.chrono.IsoEra.valueOf",
+                "static java.time.chrono.JapaneseEra.valueOf",
+                "static java.time.chrono.MinguoEra.valueOf",
+                "static java.time.chrono.ThaiBuddhistEra.valueOf",
+                "static java.time.format.FormatStyle.valueOf",
+                "static java.time.format.ResolverStyle.valueOf",
+                "static java.time.format.SignStyle.valueOf",
+                "static java.time.format.TextStyle.valueOf",
+                "static java.time.temporal.ChronoField.valueOf",
+                "static java.time.temporal.ChronoUnit.valueOf",
+                "static java.time.zone.ZoneOffsetTransitionRule.TimeDefinition.valueOf",
+                "static java.util.BitSet.valueOf",
+                "static java.util.Formatter.BigDecimalLayoutForm.valueOf",
+                "static java.util.Locale.Category.valueOf",
+                "static java.util.Locale.FilteringMode.valueOf",
+                "static java.util.concurrent.TimeUnit.valueOf",
+                "static java.util.stream.Collector.Characteristics.valueOf",
+                "static javax.annotation.Resource.AuthenticationType.valueOf",
+                "static javax.jws.WebParam.Mode.valueOf",
+                "static javax.jws.soap.SOAPBinding.ParameterStyle.valueOf",
+                "static javax.jws.soap.SOAPBinding.Style.valueOf",
+                "static javax.jws.soap.SOAPBinding.Use.valueOf",
+                "static javax.lang.model.SourceVersion.valueOf",
+                "static javax.lang.model.element.ElementKind.valueOf",
+                "static javax.lang.model.element.Modifier.valueOf",
+                "static javax.lang.model.element.NestingKind.valueOf",
+                "static javax.lang.model.type.TypeKind.valueOf",
+                "static javax.net.ssl.SSLEngineResult.HandshakeStatus.valueOf",
+                "static javax.net.ssl.SSLEngineResult.Status.valueOf",
+                "static javax.swing.DropMode.valueOf",
+                "static javax.swing.SortOrder.valueOf",
+                "static javax.swing.GroupLayout.Alignment.valueOf",
+                "static javax.swing.JTable.PrintMode.valueOf",
+                "static javax.swing.LayoutStyle.ComponentPlacement.valueOf",
+                "static javax.swing.RowFilter.ComparisonType.valueOf",
+                "static javax.swing.SwingWorker.StateValue.valueOf",
+                "static javax.swing.event.RowSorterEvent.Type.valueOf",
+                "static"
+                    + " javax.swing.plaf.nimbus.AbstractRegionPainter.PaintContext.CacheMode.valueOf",
+                "static javax.swing.text.html.FormSubmitEvent.MethodType.valueOf",
+                "static javax.tools.StandardLocation.valueOf",
+                "static javax.tools.Diagnostic.Kind.valueOf",
+                "static javax.tools.DocumentationTool.Location.valueOf",
+                "static javax.tools.JavaFileObject.Kind.valueOf",
+                "static javax.xml.bind.annotation.XmlAccessOrder.valueOf",
+                "static javax.xml.bind.annotation.XmlAccessType.valueOf",
+                "static javax.xml.bind.annotation.XmlNsForm.valueOf",
+                "static javax.xml.namespace.QName.valueOf",
+                "static javax.xml.ws.Service.Mode.valueOf",
+                "static javax.xml.ws.handler.MessageContext.Scope.valueOf",
+                "static javax.xml.ws.soap.AddressingFeature.Responses.valueOf",
               })
           .put(
               "isRegularFile",
-              new Import[] {
-                new Import("isRegularFile", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.isRegularFile",
               })
           .put(
               "JobSheets",
-              new Import[] {
-                new Import("JobSheets", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobSheets",
               })
           .put(
               "UNSELECTED_RAW_TEXT_HIGHLIGHT",
-              new Import[] {
-                new Import(
-                    "UNSELECTED_RAW_TEXT_HIGHLIGHT", "java.awt.im.InputMethodHighlight", true),
+              new String[] {
+                "static java.awt.im.InputMethodHighlight.UNSELECTED_RAW_TEXT_HIGHLIGHT",
               })
           .put(
               "ENGINE_VERSION",
-              new Import[] {
-                new Import("ENGINE_VERSION", "javax.script.ScriptEngine", true),
+              new String[] {
+                "static javax.script.ScriptEngine.ENGINE_VERSION",
               })
           .put(
               "Registry",
-              new Import[] {
-                new Import("Registry", "java.rmi.registry", false),
+              new String[] {
+                "java.rmi.registry.Registry",
               })
           .put(
               "KeyStoreSpi",
-              new Import[] {
-                new Import("KeyStoreSpi", "java.security", false),
+              new String[] {
+                "java.security.KeyStoreSpi",
               })
           .put(
               "selectionNextWordAction",
-              new Import[] {
-                new Import("selectionNextWordAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectionNextWordAction",
               })
           .put(
               "InvalidSlot",
-              new Import[] {
-                new Import("InvalidSlot", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.InvalidSlot",
               })
           .put(
               "MEIJI",
-              new Import[] {
-                new Import("MEIJI", "java.time.chrono.JapaneseEra", true),
+              new String[] {
+                "static java.time.chrono.JapaneseEra.MEIJI",
               })
           .put(
               "ESCAPE",
-              new Import[] {
-                new Import("ESCAPE", "java.awt.Event", true),
+              new String[] {
+                "static java.awt.Event.ESCAPE",
               })
           .put(
               "getDateInstance",
-              new Import[] {
-                new Import("getDateInstance", "java.text.DateFormat", true),
+              new String[] {
+                "static java.text.DateFormat.getDateInstance",
               })
           .put(
               "Integer",
-              new Import[] {
-                new Import("Integer", "java.lang", false),
+              new String[] {
+                "java.lang.Integer",
               })
           .put(
               "SimpleTypeVisitor8",
-              new Import[] {
-                new Import("SimpleTypeVisitor8", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.SimpleTypeVisitor8",
               })
           .put(
               "ofNanos",
-              new Import[] {
-                new Import("ofNanos", "java.time.Duration", true),
+              new String[] {
+                "static java.time.Duration.ofNanos",
               })
           .put(
               "SimpleTypeVisitor7",
-              new Import[] {
-                new Import("SimpleTypeVisitor7", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.SimpleTypeVisitor7",
               })
           .put(
               "SimpleTypeVisitor6",
-              new Import[] {
-                new Import("SimpleTypeVisitor6", "javax.lang.model.util", false),
+              new String[] {
+                "javax.lang.model.util.SimpleTypeVisitor6",
               })
           .put(
               "ADJUSTMENT_LAST",
-              new Import[] {
-                new Import("ADJUSTMENT_LAST", "java.awt.event.AdjustmentEvent", true),
+              new String[] {
+                "static java.awt.event.AdjustmentEvent.ADJUSTMENT_LAST",
               })
           .put(
               "getInstance",
-              new Import[] {
-                new Import("getInstance", "java.awt.AlphaComposite", true),
-                new Import("getInstance", "java.awt.color.ColorSpace", true),
-                new Import("getInstance", "java.awt.color.ICC_Profile", true),
-                new Import("getInstance", "java.awt.im.InputContext", true),
-                new Import("getInstance", "java.security.AlgorithmParameterGenerator", true),
-                new Import("getInstance", "java.security.AlgorithmParameters", true),
-                new Import("getInstance", "java.security.KeyFactory", true),
-                new Import("getInstance", "java.security.KeyPairGenerator", true),
-                new Import("getInstance", "java.security.KeyStore", true),
-                new Import("getInstance", "java.security.MessageDigest", true),
-                new Import("getInstance", "java.security.Policy", true),
-                new Import("getInstance", "java.security.SecureRandom", true),
-                new Import("getInstance", "java.security.Signature", true),
-                new Import("getInstance", "java.security.cert.CertPathBuilder", true),
-                new Import("getInstance", "java.security.cert.CertPathValidator", true),
-                new Import("getInstance", "java.security.cert.CertStore", true),
-                new Import("getInstance", "java.security.cert.CertificateFactory", true),
-                new Import("getInstance", "java.text.Collator", true),
-                new Import("getInstance", "java.text.DateFormat", true),
-                new Import("getInstance", "java.text.DateFormatSymbols", true),
-                new Import("getInstance", "java.text.DecimalFormatSymbols", true),
-                new Import("getInstance", "java.text.NumberFormat", true),
-                new Import("getInstance", "java.util.Calendar", true),
-                new Import("getInstance", "java.util.Currency", true),
-                new Import("getInstance", "javax.crypto.Cipher", true),
-                new Import("getInstance", "javax.crypto.ExemptionMechanism", true),
-                new Import("getInstance", "javax.crypto.KeyAgreement", true),
-                new Import("getInstance", "javax.crypto.KeyGenerator", true),
-                new Import("getInstance", "javax.crypto.Mac", true),
-                new Import("getInstance", "javax.crypto.SecretKeyFactory", true),
-                new Import("getInstance", "javax.management.ObjectName", true),
-                new Import("getInstance", "javax.net.ssl.KeyManagerFactory", true),
-                new Import("getInstance", "javax.net.ssl.SSLContext", true),
-                new Import("getInstance", "javax.net.ssl.TrustManagerFactory", true),
-                new Import("getInstance", "javax.security.auth.kerberos.KeyTab", true),
-                new Import("getInstance", "javax.security.auth.login.Configuration", true),
-                new Import("getInstance", "javax.security.cert.X509Certificate", true),
-                new Import("getInstance", "javax.sql.rowset.spi.SyncFactory", true),
-                new Import("getInstance", "javax.swing.LayoutStyle", true),
-                new Import("getInstance", "javax.xml.crypto.dsig.TransformService", true),
-                new Import("getInstance", "javax.xml.crypto.dsig.XMLSignatureFactory", true),
-                new Import("getInstance", "javax.xml.crypto.dsig.keyinfo.KeyInfoFactory", true),
-                new Import("getInstance", "org.ietf.jgss.GSSManager", true),
+              new String[] {
+                "static java.awt.AlphaComposite.getInstance",
+                "static java.awt.color.ColorSpace.getInstance",
+                "static java.awt.color.ICC_Profile.getInstance",
+                "static java.awt.im.InputContext.getInstance",
+                "static java.security.AlgorithmParameterGenerator.getInstance",
+                "static java.security.AlgorithmParameters.getInstance",
+                "static java.security.KeyFactory.getInstance",
+                "static java.security.KeyPairGenerator.getInstance",
+                "static java.security.KeyStore.getInstance",
+                "static java.security.MessageDigest.getInstance",
+                "static java.security.Policy.getInstance",
+                "static java.security.SecureRandom.getInstance",
+                "static java.security.Signature.getInstance",
+                "static java.security.cert.CertPathBuilder.getInstance",
+                "static java.security.cert.CertPathValidator.getInstance",
+                "static java.security.cert.CertStore.getInstance",
+                "static java.security.cert.CertificateFactory.getInstance",
+                "static java.text.Collator.getInstance",
+                "static java.text.DateFormat.getInstance",
+                "static java.text.DateFormatSymbols.getInstance",
+                "static java.text.DecimalFormatSymbols.getInstance",
+                "static java.text.NumberFormat.getInstance",
+                "static java.util.Calendar.getInstance",
+                "static java.util.Currency.getInstance",
+                "static javax.crypto.Cipher.getInstance",
+                "static javax.crypto.ExemptionMechanism.getInstance",
+                "static javax.crypto.KeyAgreement.getInstance",
+                "static javax.crypto.KeyGenerator.getInstance",
+                "static javax.crypto.Mac.getInstance",
+                "static javax.crypto.SecretKeyFactory.getInstance",
+                "static javax.management.ObjectName.getInstance",
+                "static javax.net.ssl.KeyManagerFactory.getInstance",
+                "static javax.net.ssl.SSLContext.getInstance",
+                "static javax.net.ssl.TrustManagerFactory.getInstance",
+                "static javax.security.auth.kerberos.KeyTab.getInstance",
+                "static javax.security.auth.login.Configuration.getInstance",
+                "static javax.security.cert.X509Certificate.getInstance",
+                "static javax.sql.rowset.spi.SyncFactory.getInstance",
+                "static javax.swing.LayoutStyle.getInstance",
+                "static javax.xml.crypto.dsig.TransformService.getInstance",
+                "static javax.xml.crypto.dsig.XMLSignatureFactory.getInstance",
+                "static javax.xml.crypto.dsig.keyinfo.KeyInfoFactory.getInstance",
+                "static org.ietf.jgss.GSSManager.getInstance",
               })
           .put(
               "lastDayOfYear",
-              new Import[] {
-                new Import("lastDayOfYear", "java.time.temporal.TemporalAdjusters", true),
+              new String[] {
+                "static java.time.temporal.TemporalAdjusters.lastDayOfYear",
               })
           .put(
               "HEISEI",
-              new Import[] {
-                new Import("HEISEI", "java.time.chrono.JapaneseEra", true),
+              new String[] {
+                "static java.time.chrono.JapaneseEra.HEISEI",
               })
           .put(
               "DHPrivateKey",
-              new Import[] {
-                new Import("DHPrivateKey", "javax.crypto.interfaces", false),
+              new String[] {
+                "javax.crypto.interfaces.DHPrivateKey",
               })
           .put(
               "NA_NUMBER_14_ENVELOPE",
-              new Import[] {
-                new Import("NA_NUMBER_14_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_NUMBER_14_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "NA_NUMBER_14_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.NA_NUMBER_14_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSizeName.NA_NUMBER_14_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSize.NA.NA_NUMBER_14_ENVELOPE",
               })
           .put(
               "PrivateKey",
-              new Import[] {
-                new Import("PrivateKey", "java.security", false),
+              new String[] {
+                "java.security.PrivateKey",
               })
           .put(
               "SELECTED_KEY",
-              new Import[] {
-                new Import("SELECTED_KEY", "javax.swing.Action", true),
+              new String[] {
+                "static javax.swing.Action.SELECTED_KEY",
               })
           .put(
               "BORDER_LEFT_STYLE",
-              new Import[] {
-                new Import("BORDER_LEFT_STYLE", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.BORDER_LEFT_STYLE",
               })
           .put(
               "SaslServer",
-              new Import[] {
-                new Import("SaslServer", "javax.security.sasl", false),
+              new String[] {
+                "javax.security.sasl.SaslServer",
               })
           .put(
               "XmlAnyElement",
-              new Import[] {
-                new Import("XmlAnyElement", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlAnyElement",
               })
           .put(
               "BindingListHolder",
-              new Import[] {
-                new Import("BindingListHolder", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.BindingListHolder",
               })
           .put(
               "_SYSTEM_ID",
-              new Import[] {
-                new Import("_SYSTEM_ID", "org.omg.PortableServer.IdAssignmentPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.IdAssignmentPolicyValue._SYSTEM_ID",
               })
           .put(
               "TC_PROXYCLASSDESC",
-              new Import[] {
-                new Import("TC_PROXYCLASSDESC", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.TC_PROXYCLASSDESC",
               })
           .put(
               "COMPILATION_MXBEAN_NAME",
-              new Import[] {
-                new Import(
-                    "COMPILATION_MXBEAN_NAME", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.COMPILATION_MXBEAN_NAME",
               })
           .put(
               "type",
-              new Import[] {
-                new Import("type", "org.omg.CORBA.AnySeqHelper", true),
-                new Import("type", "org.omg.CORBA.BooleanSeqHelper", true),
-                new Import("type", "org.omg.CORBA.CharSeqHelper", true),
-                new Import("type", "org.omg.CORBA.CompletionStatusHelper", true),
-                new Import("type", "org.omg.CORBA.CurrentHelper", true),
-                new Import("type", "org.omg.CORBA.DefinitionKindHelper", true),
-                new Import("type", "org.omg.CORBA.DoubleSeqHelper", true),
-                new Import("type", "org.omg.CORBA.FieldNameHelper", true),
-                new Import("type", "org.omg.CORBA.FloatSeqHelper", true),
-                new Import("type", "org.omg.CORBA.IDLTypeHelper", true),
-                new Import("type", "org.omg.CORBA.IdentifierHelper", true),
-                new Import("type", "org.omg.CORBA.LongLongSeqHelper", true),
-                new Import("type", "org.omg.CORBA.LongSeqHelper", true),
-                new Import("type", "org.omg.CORBA.NameValuePairHelper", true),
-                new Import("type", "org.omg.CORBA.ObjectHelper", true),
-                new Import("type", "org.omg.CORBA.OctetSeqHelper", true),
-                new Import("type", "org.omg.CORBA.ParameterModeHelper", true),
-                new Import("type", "org.omg.CORBA.PolicyErrorCodeHelper", true),
-                new Import("type", "org.omg.CORBA.PolicyErrorHelper", true),
-                new Import("type", "org.omg.CORBA.PolicyHelper", true),
-                new Import("type", "org.omg.CORBA.PolicyListHelper", true),
-                new Import("type", "org.omg.CORBA.PolicyTypeHelper", true),
-                new Import("type", "org.omg.CORBA.RepositoryIdHelper", true),
-                new Import("type", "org.omg.CORBA.ServiceDetailHelper", true),
-                new Import("type", "org.omg.CORBA.ServiceInformationHelper", true),
-                new Import("type", "org.omg.CORBA.SetOverrideTypeHelper", true),
-                new Import("type", "org.omg.CORBA.ShortSeqHelper", true),
-                new Import("type", "org.omg.CORBA.StringSeqHelper", true),
-                new Import("type", "org.omg.CORBA.StringValueHelper", true),
-                new Import("type", "org.omg.CORBA.StructMemberHelper", true),
-                new Import("type", "org.omg.CORBA.ULongLongSeqHelper", true),
-                new Import("type", "org.omg.CORBA.ULongSeqHelper", true),
-                new Import("type", "org.omg.CORBA.UShortSeqHelper", true),
-                new Import("type", "org.omg.CORBA.UnionMemberHelper", true),
-                new Import("type", "org.omg.CORBA.UnknownUserExceptionHelper", true),
-                new Import("type", "org.omg.CORBA.ValueBaseHelper", true),
-                new Import("type", "org.omg.CORBA.ValueMemberHelper", true),
-                new Import("type", "org.omg.CORBA.VersionSpecHelper", true),
-                new Import("type", "org.omg.CORBA.VisibilityHelper", true),
-                new Import("type", "org.omg.CORBA.WCharSeqHelper", true),
-                new Import("type", "org.omg.CORBA.WStringSeqHelper", true),
-                new Import("type", "org.omg.CORBA.WStringValueHelper", true),
-                new Import("type", "org.omg.CORBA.WrongTransactionHelper", true),
-                new Import("type", "org.omg.CosNaming.BindingHelper", true),
-                new Import("type", "org.omg.CosNaming.BindingIteratorHelper", true),
-                new Import("type", "org.omg.CosNaming.BindingListHelper", true),
-                new Import("type", "org.omg.CosNaming.BindingTypeHelper", true),
-                new Import("type", "org.omg.CosNaming.IstringHelper", true),
-                new Import("type", "org.omg.CosNaming.NameComponentHelper", true),
-                new Import("type", "org.omg.CosNaming.NameHelper", true),
-                new Import("type", "org.omg.CosNaming.NamingContextExtHelper", true),
-                new Import("type", "org.omg.CosNaming.NamingContextHelper", true),
-                new Import("type", "org.omg.CosNaming.NamingContextExtPackage.AddressHelper", true),
-                new Import(
-                    "type", "org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper", true),
-                new Import(
-                    "type", "org.omg.CosNaming.NamingContextExtPackage.StringNameHelper", true),
-                new Import(
-                    "type", "org.omg.CosNaming.NamingContextExtPackage.URLStringHelper", true),
-                new Import(
-                    "type", "org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper", true),
-                new Import(
-                    "type", "org.omg.CosNaming.NamingContextPackage.CannotProceedHelper", true),
-                new Import(
-                    "type", "org.omg.CosNaming.NamingContextPackage.InvalidNameHelper", true),
-                new Import("type", "org.omg.CosNaming.NamingContextPackage.NotEmptyHelper", true),
-                new Import("type", "org.omg.CosNaming.NamingContextPackage.NotFoundHelper", true),
-                new Import(
-                    "type", "org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper", true),
-                new Import("type", "org.omg.DynamicAny.AnySeqHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynAnyFactoryHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynAnyHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynAnySeqHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynArrayHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynEnumHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynFixedHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynSequenceHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynStructHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynUnionHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynValueHelper", true),
-                new Import("type", "org.omg.DynamicAny.FieldNameHelper", true),
-                new Import("type", "org.omg.DynamicAny.NameDynAnyPairHelper", true),
-                new Import("type", "org.omg.DynamicAny.NameDynAnyPairSeqHelper", true),
-                new Import("type", "org.omg.DynamicAny.NameValuePairHelper", true),
-                new Import("type", "org.omg.DynamicAny.NameValuePairSeqHelper", true),
-                new Import(
-                    "type",
-                    "org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper",
-                    true),
-                new Import("type", "org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper", true),
-                new Import("type", "org.omg.IOP.CodecFactoryHelper", true),
-                new Import("type", "org.omg.IOP.ComponentIdHelper", true),
-                new Import("type", "org.omg.IOP.IORHelper", true),
-                new Import("type", "org.omg.IOP.MultipleComponentProfileHelper", true),
-                new Import("type", "org.omg.IOP.ProfileIdHelper", true),
-                new Import("type", "org.omg.IOP.ServiceContextHelper", true),
-                new Import("type", "org.omg.IOP.ServiceContextListHelper", true),
-                new Import("type", "org.omg.IOP.ServiceIdHelper", true),
-                new Import("type", "org.omg.IOP.TaggedComponentHelper", true),
-                new Import("type", "org.omg.IOP.TaggedProfileHelper", true),
-                new Import("type", "org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper", true),
-                new Import("type", "org.omg.IOP.CodecPackage.FormatMismatchHelper", true),
-                new Import("type", "org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper", true),
-                new Import("type", "org.omg.IOP.CodecPackage.TypeMismatchHelper", true),
-                new Import("type", "org.omg.Messaging.SyncScopeHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.AdapterManagerIdHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.AdapterNameHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.AdapterStateHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.CurrentHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.ForwardRequestHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.IORInterceptor_3_0Helper", true),
-                new Import("type", "org.omg.PortableInterceptor.InvalidSlotHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.ORBIdHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.ObjectIdHelper", true),
-                new Import(
-                    "type", "org.omg.PortableInterceptor.ObjectReferenceFactoryHelper", true),
-                new Import(
-                    "type", "org.omg.PortableInterceptor.ObjectReferenceTemplateHelper", true),
-                new Import(
-                    "type", "org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.ServerIdHelper", true),
-                new Import(
-                    "type",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper",
-                    true),
-                new Import(
-                    "type",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper",
-                    true),
-                new Import(
-                    "type", "org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper", true),
-                new Import("type", "org.omg.PortableServer.CurrentHelper", true),
-                new Import("type", "org.omg.PortableServer.ForwardRequestHelper", true),
-                new Import("type", "org.omg.PortableServer.POAHelper", true),
-                new Import("type", "org.omg.PortableServer.ServantActivatorHelper", true),
-                new Import("type", "org.omg.PortableServer.ServantLocatorHelper", true),
-                new Import("type", "org.omg.PortableServer.CurrentPackage.NoContextHelper", true),
-                new Import(
-                    "type", "org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper", true),
-                new Import(
-                    "type", "org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper", true),
-                new Import(
-                    "type", "org.omg.PortableServer.POAPackage.AdapterNonExistentHelper", true),
-                new Import("type", "org.omg.PortableServer.POAPackage.InvalidPolicyHelper", true),
-                new Import("type", "org.omg.PortableServer.POAPackage.NoServantHelper", true),
-                new Import(
-                    "type", "org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper", true),
-                new Import("type", "org.omg.PortableServer.POAPackage.ObjectNotActiveHelper", true),
-                new Import(
-                    "type", "org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper", true),
-                new Import(
-                    "type", "org.omg.PortableServer.POAPackage.ServantNotActiveHelper", true),
-                new Import("type", "org.omg.PortableServer.POAPackage.WrongAdapterHelper", true),
-                new Import("type", "org.omg.PortableServer.POAPackage.WrongPolicyHelper", true),
+              new String[] {
+                "static org.omg.CORBA.AnySeqHelper.type",
+                "static org.omg.CORBA.BooleanSeqHelper.type",
+                "static org.omg.CORBA.CharSeqHelper.type",
+                "static org.omg.CORBA.CompletionStatusHelper.type",
+                "static org.omg.CORBA.CurrentHelper.type",
+                "static org.omg.CORBA.DefinitionKindHelper.type",
+                "static org.omg.CORBA.DoubleSeqHelper.type",
+                "static org.omg.CORBA.FieldNameHelper.type",
+                "static org.omg.CORBA.FloatSeqHelper.type",
+                "static org.omg.CORBA.IDLTypeHelper.type",
+                "static org.omg.CORBA.IdentifierHelper.type",
+                "static org.omg.CORBA.LongLongSeqHelper.type",
+                "static org.omg.CORBA.LongSeqHelper.type",
+                "static org.omg.CORBA.NameValuePairHelper.type",
+                "static org.omg.CORBA.ObjectHelper.type",
+                "static org.omg.CORBA.OctetSeqHelper.type",
+                "static org.omg.CORBA.ParameterModeHelper.type",
+                "static org.omg.CORBA.PolicyErrorCodeHelper.type",
+                "static org.omg.CORBA.PolicyErrorHelper.type",
+                "static org.omg.CORBA.PolicyHelper.type",
+                "static org.omg.CORBA.PolicyListHelper.type",
+                "static org.omg.CORBA.PolicyTypeHelper.type",
+                "static org.omg.CORBA.RepositoryIdHelper.type",
+                "static org.omg.CORBA.ServiceDetailHelper.type",
+                "static org.omg.CORBA.ServiceInformationHelper.type",
+                "static org.omg.CORBA.SetOverrideTypeHelper.type",
+                "static org.omg.CORBA.ShortSeqHelper.type",
+                "static org.omg.CORBA.StringSeqHelper.type",
+                "static org.omg.CORBA.StringValueHelper.type",
+                "static org.omg.CORBA.StructMemberHelper.type",
+                "static org.omg.CORBA.ULongLongSeqHelper.type",
+                "static org.omg.CORBA.ULongSeqHelper.type",
+                "static org.omg.CORBA.UShortSeqHelper.type",
+                "static org.omg.CORBA.UnionMemberHelper.type",
+                "static org.omg.CORBA.UnknownUserExceptionHelper.type",
+                "static org.omg.CORBA.ValueBaseHelper.type",
+                "static org.omg.CORBA.ValueMemberHelper.type",
+                "static org.omg.CORBA.VersionSpecHelper.type",
+                "static org.omg.CORBA.VisibilityHelper.type",
+                "static org.omg.CORBA.WCharSeqHelper.type",
+                "static org.omg.CORBA.WStringSeqHelper.type",
+                "static org.omg.CORBA.WStringValueHelper.type",
+                "static org.omg.CORBA.WrongTransactionHelper.type",
+                "static org.omg.CosNaming.BindingHelper.type",
+                "static org.omg.CosNaming.BindingIteratorHelper.type",
+                "static org.omg.CosNaming.BindingListHelper.type",
+                "static org.omg.CosNaming.BindingTypeHelper.type",
+                "static org.omg.CosNaming.IstringHelper.type",
+                "static org.omg.CosNaming.NameComponentHelper.type",
+                "static org.omg.CosNaming.NameHelper.type",
+                "static org.omg.CosNaming.NamingContextExtHelper.type",
+                "static org.omg.CosNaming.NamingContextHelper.type",
+                "static org.omg.CosNaming.NamingContextExtPackage.AddressHelper.type",
+                "static org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper.type",
+                "static org.omg.CosNaming.NamingContextExtPackage.StringNameHelper.type",
+                "static org.omg.CosNaming.NamingContextExtPackage.URLStringHelper.type",
+                "static org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper.type",
+                "static org.omg.CosNaming.NamingContextPackage.CannotProceedHelper.type",
+                "static org.omg.CosNaming.NamingContextPackage.InvalidNameHelper.type",
+                "static org.omg.CosNaming.NamingContextPackage.NotEmptyHelper.type",
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundHelper.type",
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper.type",
+                "static org.omg.DynamicAny.AnySeqHelper.type",
+                "static org.omg.DynamicAny.DynAnyFactoryHelper.type",
+                "static org.omg.DynamicAny.DynAnyHelper.type",
+                "static org.omg.DynamicAny.DynAnySeqHelper.type",
+                "static org.omg.DynamicAny.DynArrayHelper.type",
+                "static org.omg.DynamicAny.DynEnumHelper.type",
+                "static org.omg.DynamicAny.DynFixedHelper.type",
+                "static org.omg.DynamicAny.DynSequenceHelper.type",
+                "static org.omg.DynamicAny.DynStructHelper.type",
+                "static org.omg.DynamicAny.DynUnionHelper.type",
+                "static org.omg.DynamicAny.DynValueHelper.type",
+                "static org.omg.DynamicAny.FieldNameHelper.type",
+                "static org.omg.DynamicAny.NameDynAnyPairHelper.type",
+                "static org.omg.DynamicAny.NameDynAnyPairSeqHelper.type",
+                "static org.omg.DynamicAny.NameValuePairHelper.type",
+                "static org.omg.DynamicAny.NameValuePairSeqHelper.type",
+                "static org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper.type",
+                "static org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper.type",
+                "static org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper.type",
+                "static org.omg.IOP.CodecFactoryHelper.type",
+                "static org.omg.IOP.ComponentIdHelper.type",
+                "static org.omg.IOP.IORHelper.type",
+                "static org.omg.IOP.MultipleComponentProfileHelper.type",
+                "static org.omg.IOP.ProfileIdHelper.type",
+                "static org.omg.IOP.ServiceContextHelper.type",
+                "static org.omg.IOP.ServiceContextListHelper.type",
+                "static org.omg.IOP.ServiceIdHelper.type",
+                "static org.omg.IOP.TaggedComponentHelper.type",
+                "static org.omg.IOP.TaggedProfileHelper.type",
+                "static org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper.type",
+                "static org.omg.IOP.CodecPackage.FormatMismatchHelper.type",
+                "static org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper.type",
+                "static org.omg.IOP.CodecPackage.TypeMismatchHelper.type",
+                "static org.omg.Messaging.SyncScopeHelper.type",
+                "static org.omg.PortableInterceptor.AdapterManagerIdHelper.type",
+                "static org.omg.PortableInterceptor.AdapterNameHelper.type",
+                "static org.omg.PortableInterceptor.AdapterStateHelper.type",
+                "static org.omg.PortableInterceptor.CurrentHelper.type",
+                "static org.omg.PortableInterceptor.ForwardRequestHelper.type",
+                "static org.omg.PortableInterceptor.IORInterceptor_3_0Helper.type",
+                "static org.omg.PortableInterceptor.InvalidSlotHelper.type",
+                "static org.omg.PortableInterceptor.ORBIdHelper.type",
+                "static org.omg.PortableInterceptor.ObjectIdHelper.type",
+                "static org.omg.PortableInterceptor.ObjectReferenceFactoryHelper.type",
+                "static org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.type",
+                "static org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper.type",
+                "static org.omg.PortableInterceptor.ServerIdHelper.type",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper.type",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper.type",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper.type",
+                "static org.omg.PortableServer.CurrentHelper.type",
+                "static org.omg.PortableServer.ForwardRequestHelper.type",
+                "static org.omg.PortableServer.POAHelper.type",
+                "static org.omg.PortableServer.ServantActivatorHelper.type",
+                "static org.omg.PortableServer.ServantLocatorHelper.type",
+                "static org.omg.PortableServer.CurrentPackage.NoContextHelper.type",
+                "static org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper.type",
+                "static org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper.type",
+                "static org.omg.PortableServer.POAPackage.AdapterNonExistentHelper.type",
+                "static org.omg.PortableServer.POAPackage.InvalidPolicyHelper.type",
+                "static org.omg.PortableServer.POAPackage.NoServantHelper.type",
+                "static org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper.type",
+                "static org.omg.PortableServer.POAPackage.ObjectNotActiveHelper.type",
+                "static org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper.type",
+                "static org.omg.PortableServer.POAPackage.ServantNotActiveHelper.type",
+                "static org.omg.PortableServer.POAPackage.WrongAdapterHelper.type",
+                "static org.omg.PortableServer.POAPackage.WrongPolicyHelper.type",
               })
           .put(
               "VK_DEAD_CEDILLA",
-              new Import[] {
-                new Import("VK_DEAD_CEDILLA", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DEAD_CEDILLA",
               })
           .put(
               "getSequencer",
-              new Import[] {
-                new Import("getSequencer", "javax.sound.midi.MidiSystem", true),
+              new String[] {
+                "static javax.sound.midi.MidiSystem.getSequencer",
               })
           .put(
               "RunnableScheduledFuture",
-              new Import[] {
-                new Import("RunnableScheduledFuture", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.RunnableScheduledFuture",
               })
           .put(
               "PANEL_UI",
-              new Import[] {
-                new Import("PANEL_UI", "javax.print.ServiceUIFactory", true),
+              new String[] {
+                "static javax.print.ServiceUIFactory.PANEL_UI",
               })
           .put(
               "DASH_PUNCTUATION",
-              new Import[] {
-                new Import("DASH_PUNCTUATION", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.DASH_PUNCTUATION",
               })
           .put(
               "PolicyListHelper",
-              new Import[] {
-                new Import("PolicyListHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.PolicyListHelper",
               })
           .put(
               "DecimalFormatSymbolsProvider",
-              new Import[] {
-                new Import("DecimalFormatSymbolsProvider", "java.text.spi", false),
+              new String[] {
+                "java.text.spi.DecimalFormatSymbolsProvider",
               })
           .put(
               "MARGIN_LEFT",
-              new Import[] {
-                new Import("MARGIN_LEFT", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.MARGIN_LEFT",
               })
           .put(
               "ImageOutputStream",
-              new Import[] {
-                new Import("ImageOutputStream", "javax.imageio.stream", false),
+              new String[] {
+                "javax.imageio.stream.ImageOutputStream",
               })
           .put(
               "ClosedChannelException",
-              new Import[] {
-                new Import("ClosedChannelException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.ClosedChannelException",
               })
           .put(
               "StatementEventListener",
-              new Import[] {
-                new Import("StatementEventListener", "javax.sql", false),
+              new String[] {
+                "javax.sql.StatementEventListener",
               })
           .put(
               "InvalidSearchFilterException",
-              new Import[] {
-                new Import("InvalidSearchFilterException", "javax.naming.directory", false),
+              new String[] {
+                "javax.naming.directory.InvalidSearchFilterException",
               })
           .put(
               "getLayer",
-              new Import[] {
-                new Import("getLayer", "javax.swing.JLayeredPane", true),
+              new String[] {
+                "static javax.swing.JLayeredPane.getLayer",
               })
           .put(
               "CookieHolder",
-              new Import[] {
-                new Import("CookieHolder", "org.omg.PortableServer.ServantLocatorPackage", false),
+              new String[] {
+                "org.omg.PortableServer.ServantLocatorPackage.CookieHolder",
               })
           .put(
               "TextListener",
-              new Import[] {
-                new Import("TextListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.TextListener",
               })
           .put(
               "SCROLLING",
-              new Import[] {
-                new Import("SCROLLING", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.SCROLLING",
               })
           .put(
               "BLOCK_INCREMENT",
-              new Import[] {
-                new Import("BLOCK_INCREMENT", "java.awt.event.AdjustmentEvent", true),
+              new String[] {
+                "static java.awt.event.AdjustmentEvent.BLOCK_INCREMENT",
               })
           .put(
               "parameterModifiers",
-              new Import[] {
-                new Import("parameterModifiers", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.parameterModifiers",
               })
           .put(
               "SubjectDelegationPermission",
-              new Import[] {
-                new Import("SubjectDelegationPermission", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.SubjectDelegationPermission",
               })
           .put(
               "XA_RETRY",
-              new Import[] {
-                new Import("XA_RETRY", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_RETRY",
               })
           .put(
               "BeepAction",
-              new Import[] {
-                new Import("BeepAction", "javax.swing.text.DefaultEditorKit", false),
+              new String[] {
+                "javax.swing.text.DefaultEditorKit.BeepAction",
               })
           .put(
               "DOTALL",
-              new Import[] {
-                new Import("DOTALL", "java.util.regex.Pattern", true),
+              new String[] {
+                "static java.util.regex.Pattern.DOTALL",
               })
           .put(
               "systemNodeForPackage",
-              new Import[] {
-                new Import("systemNodeForPackage", "java.util.prefs.Preferences", true),
+              new String[] {
+                "static java.util.prefs.Preferences.systemNodeForPackage",
               })
           .put(
               "functionResultUnknown",
-              new Import[] {
-                new Import("functionResultUnknown", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.functionResultUnknown",
               })
           .put(
               "MappedByteBuffer",
-              new Import[] {
-                new Import("MappedByteBuffer", "java.nio", false),
+              new String[] {
+                "java.nio.MappedByteBuffer",
               })
           .put(
               "ROLE_CARDINALITY_INFINITY",
-              new Import[] {
-                new Import("ROLE_CARDINALITY_INFINITY", "javax.management.relation.RoleInfo", true),
+              new String[] {
+                "static javax.management.relation.RoleInfo.ROLE_CARDINALITY_INFINITY",
               })
           .put(
               "SSLSessionBindingEvent",
-              new Import[] {
-                new Import("SSLSessionBindingEvent", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLSessionBindingEvent",
               })
           .put(
               "TrustManagerFactorySpi",
-              new Import[] {
-                new Import("TrustManagerFactorySpi", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.TrustManagerFactorySpi",
               })
           .put(
               "SynthTabbedPaneUI",
-              new Import[] {
-                new Import("SynthTabbedPaneUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthTabbedPaneUI",
               })
           .put(
               "UNDERFLOW",
-              new Import[] {
-                new Import("UNDERFLOW", "java.nio.charset.CoderResult", true),
+              new String[] {
+                "static java.nio.charset.CoderResult.UNDERFLOW",
               })
           .put(
               "IllegalBlockingModeException",
-              new Import[] {
-                new Import("IllegalBlockingModeException", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.IllegalBlockingModeException",
               })
           .put(
               "dk_AbstractInterface",
-              new Import[] {
-                new Import("dk_AbstractInterface", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_AbstractInterface",
               })
           .put(
               "runFinalization",
-              new Import[] {
-                new Import("runFinalization", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.runFinalization",
               })
           .put(
               "getRightIndent",
-              new Import[] {
-                new Import("getRightIndent", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.getRightIndent",
               })
           .put(
               "VK_DEAD_CIRCUMFLEX",
-              new Import[] {
-                new Import("VK_DEAD_CIRCUMFLEX", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_DEAD_CIRCUMFLEX",
               })
           .put(
               "showInternalConfirmDialog",
-              new Import[] {
-                new Import("showInternalConfirmDialog", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.showInternalConfirmDialog",
               })
           .put(
               "COMMENT_NODE",
-              new Import[] {
-                new Import("COMMENT_NODE", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.COMMENT_NODE",
               })
           .put(
               "LOWER_LEADING_CORNER",
-              new Import[] {
-                new Import("LOWER_LEADING_CORNER", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.LOWER_LEADING_CORNER",
               })
           .put(
               "SINGLE_LINE",
-              new Import[] {
-                new Import("SINGLE_LINE", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.SINGLE_LINE",
               })
           .put(
               "geq",
-              new Import[] {
-                new Import("geq", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.geq",
               })
           .put(
               "MetalProgressBarUI",
-              new Import[] {
-                new Import("MetalProgressBarUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalProgressBarUI",
               })
           .put(
               "InvalidTypeForEncodingHelper",
-              new Import[] {
-                new Import("InvalidTypeForEncodingHelper", "org.omg.IOP.CodecPackage", false),
+              new String[] {
+                "org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper",
               })
           .put(
               "FlatteningPathIterator",
-              new Import[] {
-                new Import("FlatteningPathIterator", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.FlatteningPathIterator",
               })
           .put(
               "get",
-              new Import[] {
-                new Import("get", "java.lang.reflect.Array", true),
-                new Import("get", "java.nio.file.Paths", true),
-                new Import("get", "javax.swing.UIManager", true),
+              new String[] {
+                "static java.lang.reflect.Array.get",
+                "static java.nio.file.Paths.get",
+                "static javax.swing.UIManager.get",
               })
           .put(
               "emptyMap",
-              new Import[] {
-                new Import("emptyMap", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.emptyMap",
               })
           .put(
               "STAPLE_BOTTOM_LEFT",
-              new Import[] {
-                new Import("STAPLE_BOTTOM_LEFT", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.STAPLE_BOTTOM_LEFT",
               })
           .put(
               "VERTICAL_TEXT_POSITION_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "VERTICAL_TEXT_POSITION_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
+              new String[] {
+                "static javax.swing.AbstractButton.VERTICAL_TEXT_POSITION_CHANGED_PROPERTY",
               })
           .put(
               "MLetMBean",
-              new Import[] {
-                new Import("MLetMBean", "javax.management.loading", false),
+              new String[] {
+                "javax.management.loading.MLetMBean",
               })
           .put(
               "MUSICAL_SYMBOLS",
-              new Import[] {
-                new Import("MUSICAL_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.MUSICAL_SYMBOLS",
               })
           .put(
               "setDefaultQueue",
-              new Import[] {
-                new Import("setDefaultQueue", "javax.swing.text.LayoutQueue", true),
+              new String[] {
+                "static javax.swing.text.LayoutQueue.setDefaultQueue",
               })
           .put(
               "DescriptorSupport",
-              new Import[] {
-                new Import("DescriptorSupport", "javax.management.modelmbean", false),
+              new String[] {
+                "javax.management.modelmbean.DescriptorSupport",
               })
           .put(
               "AUTO_RESIZE_LAST_COLUMN",
-              new Import[] {
-                new Import("AUTO_RESIZE_LAST_COLUMN", "javax.swing.JTable", true),
+              new String[] {
+                "static javax.swing.JTable.AUTO_RESIZE_LAST_COLUMN",
               })
           .put(
               "parseBase64Binary",
-              new Import[] {
-                new Import("parseBase64Binary", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.parseBase64Binary",
               })
           .put(
               "JAVANESE",
-              new Import[] {
-                new Import("JAVANESE", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.JAVANESE",
               })
           .put(
               "DUMMY",
-              new Import[] {
-                new Import("DUMMY", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.DUMMY",
               })
           .put(
               "lookupStreamPrintServices",
-              new Import[] {
-                new Import("lookupStreamPrintServices", "java.awt.print.PrinterJob", true),
+              new String[] {
+                "static java.awt.print.PrinterJob.lookupStreamPrintServices",
               })
           .put(
               "LOCTIM",
-              new Import[] {
-                new Import("LOCTIM", "java.util.jar.JarEntry", true),
-                new Import("LOCTIM", "java.util.jar.JarFile", true),
-                new Import("LOCTIM", "java.util.jar.JarInputStream", true),
-                new Import("LOCTIM", "java.util.jar.JarOutputStream", true),
-                new Import("LOCTIM", "java.util.zip.ZipEntry", true),
-                new Import("LOCTIM", "java.util.zip.ZipFile", true),
-                new Import("LOCTIM", "java.util.zip.ZipInputStream", true),
-                new Import("LOCTIM", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.LOCTIM",
+                "static java.util.jar.JarFile.LOCTIM",
+                "static java.util.jar.JarInputStream.LOCTIM",
+                "static java.util.jar.JarOutputStream.LOCTIM",
+                "static java.util.zip.ZipEntry.LOCTIM",
+                "static java.util.zip.ZipFile.LOCTIM",
+                "static java.util.zip.ZipInputStream.LOCTIM",
+                "static java.util.zip.ZipOutputStream.LOCTIM",
               })
           .put(
               "DataFormatException",
-              new Import[] {
-                new Import("DataFormatException", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.DataFormatException",
               })
           .put(
               "ButtonGroup",
-              new Import[] {
-                new Import("ButtonGroup", "javax.swing", false),
+              new String[] {
+                "javax.swing.ButtonGroup",
               })
           .put(
               "ADDITION",
-              new Import[] {
-                new Import("ADDITION", "org.w3c.dom.events.MutationEvent", true),
+              new String[] {
+                "static org.w3c.dom.events.MutationEvent.ADDITION",
               })
           .put(
               "SecretKeyFactorySpi",
-              new Import[] {
-                new Import("SecretKeyFactorySpi", "javax.crypto", false),
+              new String[] {
+                "javax.crypto.SecretKeyFactorySpi",
               })
           .put(
               "ParseException",
-              new Import[] {
-                new Import("ParseException", "java.text", false),
+              new String[] {
+                "java.text.ParseException",
               })
           .put(
               "tk_value_box",
-              new Import[] {
-                new Import("tk_value_box", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_value_box",
               })
           .put(
               "relativeCCW",
-              new Import[] {
-                new Import("relativeCCW", "java.awt.geom.Line2D", true),
+              new String[] {
+                "static java.awt.geom.Line2D.relativeCCW",
               })
           .put(
               "NUTOKEN",
-              new Import[] {
-                new Import("NUTOKEN", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.NUTOKEN",
               })
           .put(
               "MBeanServerNotification",
-              new Import[] {
-                new Import("MBeanServerNotification", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanServerNotification",
               })
           .put(
               "RecursiveTask",
-              new Import[] {
-                new Import("RecursiveTask", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.RecursiveTask",
               })
           .put(
               "ContextList",
-              new Import[] {
-                new Import("ContextList", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ContextList",
               })
           .put(
               "getInteger",
-              new Import[] {
-                new Import("getInteger", "java.lang.Integer", true),
+              new String[] {
+                "static java.lang.Integer.getInteger",
               })
           .put(
               "ClosedWatchServiceException",
-              new Import[] {
-                new Import("ClosedWatchServiceException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.ClosedWatchServiceException",
               })
           .put(
               "IMPLEMENTATION_TITLE",
-              new Import[] {
-                new Import("IMPLEMENTATION_TITLE", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.IMPLEMENTATION_TITLE",
               })
           .put(
               "MultiDoc",
-              new Import[] {
-                new Import("MultiDoc", "javax.print", false),
+              new String[] {
+                "javax.print.MultiDoc",
               })
           .put(
               "isLeftMouseButton",
-              new Import[] {
-                new Import("isLeftMouseButton", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.isLeftMouseButton",
               })
           .put(
               "SC_EXTERNALIZABLE",
-              new Import[] {
-                new Import("SC_EXTERNALIZABLE", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.SC_EXTERNALIZABLE",
               })
           .put(
               "create",
-              new Import[] {
-                new Import("create", "java.beans.EventHandler", true),
-                new Import("create", "java.net.URI", true),
-                new Import("create", "javax.xml.ws.Endpoint", true),
-                new Import("create", "javax.xml.ws.Service", true),
+              new String[] {
+                "static java.beans.EventHandler.create",
+                "static java.net.URI.create",
+                "static javax.xml.ws.Endpoint.create",
+                "static javax.xml.ws.Service.create",
               })
           .put(
               "inheritedChannel",
-              new Import[] {
-                new Import("inheritedChannel", "java.lang.System", true),
+              new String[] {
+                "static java.lang.System.inheritedChannel",
               })
           .put(
               "JUSTIFICATION_FULL",
-              new Import[] {
-                new Import("JUSTIFICATION_FULL", "java.awt.font.TextAttribute", true),
+              new String[] {
+                "static java.awt.font.TextAttribute.JUSTIFICATION_FULL",
               })
           .put(
               "_SET_OVERRIDE",
-              new Import[] {
-                new Import("_SET_OVERRIDE", "org.omg.CORBA.SetOverrideType", true),
+              new String[] {
+                "static org.omg.CORBA.SetOverrideType._SET_OVERRIDE",
               })
           .put(
               "getControlTextFont",
-              new Import[] {
-                new Import("getControlTextFont", "javax.swing.plaf.metal.MetalLookAndFeel", true),
+              new String[] {
+                "static javax.swing.plaf.metal.MetalLookAndFeel.getControlTextFont",
               })
           .put(
               "Character",
-              new Import[] {
-                new Import("Character", "java.lang", false),
+              new String[] {
+                "java.lang.Character",
               })
           .put(
               "Resolver",
-              new Import[] {
-                new Import("Resolver", "javax.naming.spi", false),
+              new String[] {
+                "javax.naming.spi.Resolver",
               })
           .put(
               "deepEquals",
-              new Import[] {
-                new Import("deepEquals", "java.util.Arrays", true),
-                new Import("deepEquals", "java.util.Objects", true),
+              new String[] {
+                "static java.util.Arrays.deepEquals", "static java.util.Objects.deepEquals",
               })
           .put(
               "makeInputMap",
-              new Import[] {
-                new Import("makeInputMap", "javax.swing.LookAndFeel", true),
+              new String[] {
+                "static javax.swing.LookAndFeel.makeInputMap",
               })
           .put(
               "Sequence",
-              new Import[] {
-                new Import("Sequence", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.Sequence",
               })
           .put(
               "insertTabAction",
-              new Import[] {
-                new Import("insertTabAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.insertTabAction",
               })
           .put(
               "VK_FIND",
-              new Import[] {
-                new Import("VK_FIND", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_FIND",
               })
           .put(
               "DateTimeParseException",
-              new Import[] {
-                new Import("DateTimeParseException", "java.time.format", false),
+              new String[] {
+                "java.time.format.DateTimeParseException",
               })
           .put(
               "beginLineAction",
-              new Import[] {
-                new Import("beginLineAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.beginLineAction",
               })
           .put(
               "MultipleMaster",
-              new Import[] {
-                new Import("MultipleMaster", "java.awt.font", false),
+              new String[] {
+                "java.awt.font.MultipleMaster",
               })
           .put(
               "FIRST_LINE_START",
-              new Import[] {
-                new Import("FIRST_LINE_START", "java.awt.GridBagConstraints", true),
+              new String[] {
+                "static java.awt.GridBagConstraints.FIRST_LINE_START",
               })
           .put(
               "SPECIFICATION_VENDOR",
-              new Import[] {
-                new Import("SPECIFICATION_VENDOR", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.SPECIFICATION_VENDOR",
               })
           .put(
               "EMPTY_SET",
-              new Import[] {
-                new Import("EMPTY_SET", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.EMPTY_SET",
               })
           .put(
               "installLookAndFeel",
-              new Import[] {
-                new Import("installLookAndFeel", "javax.swing.UIManager", true),
+              new String[] {
+                "static javax.swing.UIManager.installLookAndFeel",
               })
           .put(
               "NoPermissionException",
-              new Import[] {
-                new Import("NoPermissionException", "javax.naming", false),
+              new String[] {
+                "javax.naming.NoPermissionException",
               })
           .put(
               "getFont",
-              new Import[] {
-                new Import("getFont", "java.awt.Font", true),
-                new Import("getFont", "javax.swing.UIManager", true),
+              new String[] {
+                "static java.awt.Font.getFont", "static javax.swing.UIManager.getFont",
               })
           .put(
               "VARIATION_SELECTORS",
-              new Import[] {
-                new Import("VARIATION_SELECTORS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.VARIATION_SELECTORS",
               })
           .put(
               "getFontSize",
-              new Import[] {
-                new Import("getFontSize", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.getFontSize",
               })
           .put(
               "scalb",
-              new Import[] {
-                new Import("scalb", "java.lang.Math", true),
-                new Import("scalb", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.scalb", "static java.lang.StrictMath.scalb",
               })
           .put(
               "EXECUTE_FAILED",
-              new Import[] {
-                new Import("EXECUTE_FAILED", "java.sql.Statement", true),
+              new String[] {
+                "static java.sql.Statement.EXECUTE_FAILED",
               })
           .put(
               "scale",
-              new Import[] {
-                new Import("scale", "javax.swing.Spring", true),
+              new String[] {
+                "static javax.swing.Spring.scale",
               })
           .put(
               "computeIntersection",
-              new Import[] {
-                new Import("computeIntersection", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.computeIntersection",
               })
           .put(
               "BasicPopupMenuUI",
-              new Import[] {
-                new Import("BasicPopupMenuUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicPopupMenuUI",
               })
           .put(
               "encodeDataFlavor",
-              new Import[] {
-                new Import("encodeDataFlavor", "java.awt.datatransfer.SystemFlavorMap", true),
+              new String[] {
+                "static java.awt.datatransfer.SystemFlavorMap.encodeDataFlavor",
               })
           .put(
               "HTTP_GATEWAY_TIMEOUT",
-              new Import[] {
-                new Import("HTTP_GATEWAY_TIMEOUT", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_GATEWAY_TIMEOUT",
               })
           .put(
               "subdivide",
-              new Import[] {
-                new Import("subdivide", "java.awt.geom.CubicCurve2D", true),
-                new Import("subdivide", "java.awt.geom.QuadCurve2D", true),
+              new String[] {
+                "static java.awt.geom.CubicCurve2D.subdivide",
+                "static java.awt.geom.QuadCurve2D.subdivide",
               })
           .put(
               "MAX_VALUE_LENGTH",
-              new Import[] {
-                new Import("MAX_VALUE_LENGTH", "java.util.prefs.Preferences", true),
+              new String[] {
+                "static java.util.prefs.Preferences.MAX_VALUE_LENGTH",
               })
           .put(
               "JAPAN",
-              new Import[] {
-                new Import("JAPAN", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.JAPAN",
               })
           .put(
               "K2Div2Chrominance",
-              new Import[] {
-                new Import("K2Div2Chrominance", "javax.imageio.plugins.jpeg.JPEGQTable", true),
+              new String[] {
+                "static javax.imageio.plugins.jpeg.JPEGQTable.K2Div2Chrominance",
               })
           .put(
               "TEXT_PLAIN_US_ASCII",
-              new Import[] {
-                new Import("TEXT_PLAIN_US_ASCII", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_PLAIN_US_ASCII", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_PLAIN_US_ASCII", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.TEXT_PLAIN_US_ASCII",
+                "static javax.print.DocFlavor.INPUT_STREAM.TEXT_PLAIN_US_ASCII",
+                "static javax.print.DocFlavor.URL.TEXT_PLAIN_US_ASCII",
               })
           .put(
               "WebServiceException",
-              new Import[] {
-                new Import("WebServiceException", "javax.xml.ws", false),
+              new String[] {
+                "javax.xml.ws.WebServiceException",
               })
           .put(
               "AutoCloseable",
-              new Import[] {
-                new Import("AutoCloseable", "java.lang", false),
+              new String[] {
+                "java.lang.AutoCloseable",
               })
           .put(
               "BasicTextFieldUI",
-              new Import[] {
-                new Import("BasicTextFieldUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicTextFieldUI",
               })
           .put(
               "MONARCH_ENVELOPE",
-              new Import[] {
-                new Import("MONARCH_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "MONARCH_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "MONARCH_ENVELOPE", "javax.print.attribute.standard.MediaSize.Other", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.MONARCH_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSizeName.MONARCH_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSize.Other.MONARCH_ENVELOPE",
               })
           .put(
               "ConsoleHandler",
-              new Import[] {
-                new Import("ConsoleHandler", "java.util.logging", false),
+              new String[] {
+                "java.util.logging.ConsoleHandler",
               })
           .put(
               "RejectedExecutionException",
-              new Import[] {
-                new Import("RejectedExecutionException", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.RejectedExecutionException",
               })
           .put(
               "MBeanNotificationInfo",
-              new Import[] {
-                new Import("MBeanNotificationInfo", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanNotificationInfo",
               })
           .put(
               "CLASS_INPUT",
-              new Import[] {
-                new Import("CLASS_INPUT", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.CLASS_INPUT",
               })
           .put(
               "Signature",
-              new Import[] {
-                new Import("Signature", "java.security", false),
+              new String[] {
+                "java.security.Signature",
               })
           .put(
               "MATH_SYMBOL",
-              new Import[] {
-                new Import("MATH_SYMBOL", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.MATH_SYMBOL",
               })
           .put(
               "VK_BRACELEFT",
-              new Import[] {
-                new Import("VK_BRACELEFT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_BRACELEFT",
               })
           .put(
               "FILTER_INTERRUPT",
-              new Import[] {
-                new Import("FILTER_INTERRUPT", "org.w3c.dom.ls.LSParserFilter", true),
+              new String[] {
+                "static org.w3c.dom.ls.LSParserFilter.FILTER_INTERRUPT",
               })
           .put(
               "offsetByCodePoints",
-              new Import[] {
-                new Import("offsetByCodePoints", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.offsetByCodePoints",
               })
           .put(
               "printTime",
-              new Import[] {
-                new Import("printTime", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static javax.xml.bind.DatatypeConverter.printTime",
               })
           .put(
               "SHORT_FORMAT",
-              new Import[] {
-                new Import("SHORT_FORMAT", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.SHORT_FORMAT",
               })
           .put(
               "_dk_Module",
-              new Import[] {
-                new Import("_dk_Module", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Module",
               })
           .build();
 }
@@ -2,1734 +2,1675 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk8 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "_DynValueStub",
-              new Import[] {
-                new Import("_DynValueStub", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny._DynValueStub",
               })
           .put(
               "HijrahDate",
-              new Import[] {
-                new Import("HijrahDate", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.HijrahDate",
               })
           .put(
               "HexBinaryAdapter",
-              new Import[] {
-                new Import("HexBinaryAdapter", "javax.xml.bind.annotation.adapters", false),
+              new String[] {
+                "javax.xml.bind.annotation.adapters.HexBinaryAdapter",
               })
           .put(
               "REVERT",
-              new Import[] {
-                new Import("REVERT", "javax.swing.JFormattedTextField", true),
+              new String[] {
+                "static javax.swing.JFormattedTextField.REVERT",
               })
           .put(
               "MultiSpinnerUI",
-              new Import[] {
-                new Import("MultiSpinnerUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiSpinnerUI",
               })
           .put(
               "IORInfoOperations",
-              new Import[] {
-                new Import("IORInfoOperations", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.IORInfoOperations",
               })
           .put(
               "EventQueue",
-              new Import[] {
-                new Import("EventQueue", "java.awt", false),
+              new String[] {
+                "java.awt.EventQueue",
               })
           .put(
               "USE_STD3_ASCII_RULES",
-              new Import[] {
-                new Import("USE_STD3_ASCII_RULES", "java.net.IDN", true),
+              new String[] {
+                "static java.net.IDN.USE_STD3_ASCII_RULES",
               })
           .put(
               "IntegerSyntax",
-              new Import[] {
-                new Import("IntegerSyntax", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.IntegerSyntax",
               })
           .put(
               "MouseDragGestureRecognizer",
-              new Import[] {
-                new Import("MouseDragGestureRecognizer", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.MouseDragGestureRecognizer",
               })
           .put(
               "tk_TypeCode",
-              new Import[] {
-                new Import("tk_TypeCode", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_TypeCode",
               })
           .put(
               "writeAbstractObject",
-              new Import[] {
-                new Import("writeAbstractObject", "javax.rmi.CORBA.Util", true),
+              new String[] {
+                "static javax.rmi.CORBA.Util.writeAbstractObject",
               })
           .put(
               "MenuSelectionManager",
-              new Import[] {
-                new Import("MenuSelectionManager", "javax.swing", false),
+              new String[] {
+                "javax.swing.MenuSelectionManager",
               })
           .put(
               "DefaultFormatter",
-              new Import[] {
-                new Import("DefaultFormatter", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.DefaultFormatter",
               })
           .put(
               "MediaTray",
-              new Import[] {
-                new Import("MediaTray", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.MediaTray",
               })
           .put(
               "IllegalArgumentException",
-              new Import[] {
-                new Import("IllegalArgumentException", "java.lang", false),
+              new String[] {
+                "java.lang.IllegalArgumentException",
               })
           .put(
               "_dk_Primitive",
-              new Import[] {
-                new Import("_dk_Primitive", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Primitive",
               })
           .put(
               "ONE_MINUTE",
-              new Import[] {
-                new Import("ONE_MINUTE", "javax.management.timer.Timer", true),
+              new String[] {
+                "static javax.management.timer.Timer.ONE_MINUTE",
               })
           .put(
               "RowMapper",
-              new Import[] {
-                new Import("RowMapper", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.RowMapper",
               })
           .put(
               "DOCTYPE_SYSTEM",
-              new Import[] {
-                new Import("DOCTYPE_SYSTEM", "javax.xml.transform.OutputKeys", true),
+              new String[] {
+                "static javax.xml.transform.OutputKeys.DOCTYPE_SYSTEM",
               })
           .put(
               "VK_NUMPAD3",
-              new Import[] {
-                new Import("VK_NUMPAD3", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_NUMPAD3",
               })
           .put(
               "URIInaccessible",
-              new Import[] {
-                new Import("URIInaccessible", "javax.print.URIException", true),
+              new String[] {
+                "static javax.print.URIException.URIInaccessible",
               })
           .put(
               "VK_NUMPAD4",
-              new Import[] {
-                new Import("VK_NUMPAD4", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_NUMPAD4",
               })
           .put(
               "AccessibleRelationSet",
-              new Import[] {
-                new Import("AccessibleRelationSet", "javax.accessibility", false),
+              new String[] {
+                "javax.accessibility.AccessibleRelationSet",
               })
           .put(
               "VK_NUMPAD5",
-              new Import[] {
-                new Import("VK_NUMPAD5", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_NUMPAD5",
               })
           .put(
               "getBlackLineBorderUIResource",
-              new Import[] {
-                new Import(
-                    "getBlackLineBorderUIResource", "javax.swing.plaf.BorderUIResource", true),
+              new String[] {
+                "static javax.swing.plaf.BorderUIResource.getBlackLineBorderUIResource",
               })
           .put(
               "VK_NUMPAD6",
-              new Import[] {
-                new Import("VK_NUMPAD6", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_NUMPAD6",
               })
           .put(
               "RSAPrivateCrtKey",
-              new Import[] {
-                new Import("RSAPrivateCrtKey", "java.security.interfaces", false),
+              new String[] {
+                "java.security.interfaces.RSAPrivateCrtKey",
               })
           .put(
               "anySubString",
-              new Import[] {
-                new Import("anySubString", "javax.management.Query", true),
+              new String[] {
+                "static javax.management.Query.anySubString",
               })
           .put(
               "PADDING_RIGHT",
-              new Import[] {
-                new Import("PADDING_RIGHT", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.PADDING_RIGHT",
               })
           .put(
               "VK_NUMPAD0",
-              new Import[] {
-                new Import("VK_NUMPAD0", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_NUMPAD0",
               })
           .put(
               "VK_NUMPAD1",
-              new Import[] {
-                new Import("VK_NUMPAD1", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_NUMPAD1",
               })
           .put(
               "VK_NUMPAD2",
-              new Import[] {
-                new Import("VK_NUMPAD2", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_NUMPAD2",
               })
           .put(
               "ACTION_COMMAND_KEY",
-              new Import[] {
-                new Import("ACTION_COMMAND_KEY", "javax.swing.Action", true),
+              new String[] {
+                "static javax.swing.Action.ACTION_COMMAND_KEY",
               })
           .put(
               "VK_RIGHT",
-              new Import[] {
-                new Import("VK_RIGHT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_RIGHT",
               })
           .put(
               "LoginModule",
-              new Import[] {
-                new Import("LoginModule", "javax.security.auth.spi", false),
+              new String[] {
+                "javax.security.auth.spi.LoginModule",
               })
           .put(
               "AttachmentPart",
-              new Import[] {
-                new Import("AttachmentPart", "javax.xml.soap", false),
+              new String[] {
+                "javax.xml.soap.AttachmentPart",
               })
           .put(
               "ACCESSIBLE_TABLE_SUMMARY_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TABLE_SUMMARY_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_TABLE_SUMMARY_CHANGED",
               })
           .put(
               "Orientation",
-              new Import[] {
-                new Import("Orientation", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.Orientation",
               })
           .put(
               "QuadCurve2D",
-              new Import[] {
-                new Import("QuadCurve2D", "java.awt.geom", false),
+              new String[] {
+                "java.awt.geom.QuadCurve2D",
               })
           .put(
               "BAD_POLICY_VALUE",
-              new Import[] {
-                new Import("BAD_POLICY_VALUE", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.BAD_POLICY_VALUE",
               })
           .put(
               "SOAPHandler",
-              new Import[] {
-                new Import("SOAPHandler", "javax.xml.ws.handler.soap", false),
+              new String[] {
+                "javax.xml.ws.handler.soap.SOAPHandler",
               })
           .put(
               "setDefault",
-              new Import[] {
-                new Import("setDefault", "java.net.Authenticator", true),
-                new Import("setDefault", "java.net.CookieHandler", true),
-                new Import("setDefault", "java.net.ProxySelector", true),
-                new Import("setDefault", "java.net.ResponseCache", true),
-                new Import("setDefault", "java.util.Locale", true),
-                new Import("setDefault", "java.util.TimeZone", true),
-                new Import("setDefault", "javax.net.ssl.SSLContext", true),
+              new String[] {
+                "static java.net.Authenticator.setDefault",
+                "static java.net.CookieHandler.setDefault",
+                "static java.net.ProxySelector.setDefault",
+                "static java.net.ResponseCache.setDefault",
+                "static java.util.Locale.setDefault",
+                "static java.util.TimeZone.setDefault",
+                "static javax.net.ssl.SSLContext.setDefault",
               })
           .put(
               "UserPrincipal",
-              new Import[] {
-                new Import("UserPrincipal", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.UserPrincipal",
               })
           .put(
               "LinkException",
-              new Import[] {
-                new Import("LinkException", "javax.naming", false),
+              new String[] {
+                "javax.naming.LinkException",
               })
           .put(
               "getButtonBorder",
-              new Import[] {
-                new Import("getButtonBorder", "javax.swing.plaf.basic.BasicBorders", true),
-                new Import("getButtonBorder", "javax.swing.plaf.metal.MetalBorders", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicBorders.getButtonBorder",
+                "static javax.swing.plaf.metal.MetalBorders.getButtonBorder",
               })
           .put(
               "MetalTextFieldUI",
-              new Import[] {
-                new Import("MetalTextFieldUI", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalTextFieldUI",
               })
           .put(
               "REVERB",
-              new Import[] {
-                new Import("REVERB", "javax.sound.sampled.EnumControl.Type", true),
+              new String[] {
+                "static javax.sound.sampled.EnumControl.Type.REVERB",
               })
           .put(
               "icSigSpaceECLR",
-              new Import[] {
-                new Import("icSigSpaceECLR", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigSpaceECLR",
               })
           .put(
               "DynAny",
-              new Import[] {
-                new Import("DynAny", "org.omg.CORBA", false),
-                new Import("DynAny", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.CORBA.DynAny", "org.omg.DynamicAny.DynAny",
               })
           .put(
               "newMXBeanProxy",
-              new Import[] {
-                new Import("newMXBeanProxy", "javax.management.JMX", true),
+              new String[] {
+                "static javax.management.JMX.newMXBeanProxy",
               })
           .put(
               "SortedMap",
-              new Import[] {
-                new Import("SortedMap", "java.util", false),
+              new String[] {
+                "java.util.SortedMap",
               })
           .put(
               "TOP_ALIGNMENT",
-              new Import[] {
-                new Import("TOP_ALIGNMENT", "java.awt.Component", true),
-                new Import("TOP_ALIGNMENT", "java.awt.font.GraphicAttribute", true),
+              new String[] {
+                "static java.awt.Component.TOP_ALIGNMENT",
+                "static java.awt.font.GraphicAttribute.TOP_ALIGNMENT",
               })
           .put(
               "selectionHtmlFlavor",
-              new Import[] {
-                new Import("selectionHtmlFlavor", "java.awt.datatransfer.DataFlavor", true),
+              new String[] {
+                "static java.awt.datatransfer.DataFlavor.selectionHtmlFlavor",
               })
           .put(
               "AbstractTableModel",
-              new Import[] {
-                new Import("AbstractTableModel", "javax.swing.table", false),
+              new String[] {
+                "javax.swing.table.AbstractTableModel",
               })
           .put(
               "icSigChromaticityTag",
-              new Import[] {
-                new Import("icSigChromaticityTag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigChromaticityTag",
               })
           .put(
               "COMMIT_ON_ACCEPT_CHANGES",
-              new Import[] {
-                new Import("COMMIT_ON_ACCEPT_CHANGES", "javax.sql.rowset.CachedRowSet", true),
+              new String[] {
+                "static javax.sql.rowset.CachedRowSet.COMMIT_ON_ACCEPT_CHANGES",
               })
           .put(
               "numberFilter",
-              new Import[] {
-                new Import("numberFilter", "javax.swing.RowFilter", true),
+              new String[] {
+                "static javax.swing.RowFilter.numberFilter",
               })
           .put(
               "SynthComboBoxUI",
-              new Import[] {
-                new Import("SynthComboBoxUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthComboBoxUI",
               })
           .put(
               "WeakHashMap",
-              new Import[] {
-                new Import("WeakHashMap", "java.util", false),
+              new String[] {
+                "java.util.WeakHashMap",
               })
           .put(
               "lightGray",
-              new Import[] {
-                new Import("lightGray", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.lightGray",
               })
           .put(
               "ShortHolder",
-              new Import[] {
-                new Import("ShortHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ShortHolder",
               })
           .put(
               "ULongLongSeqHelper",
-              new Import[] {
-                new Import("ULongLongSeqHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ULongLongSeqHelper",
               })
           .put(
               "PI_ENABLE_OUTPUT_ESCAPING",
-              new Import[] {
-                new Import("PI_ENABLE_OUTPUT_ESCAPING", "javax.xml.transform.Result", true),
+              new String[] {
+                "static javax.xml.transform.Result.PI_ENABLE_OUTPUT_ESCAPING",
               })
           .put(
               "DecimalFormat",
-              new Import[] {
-                new Import("DecimalFormat", "java.text", false),
+              new String[] {
+                "java.text.DecimalFormat",
               })
           .put(
               "DESKTOP_PANE",
-              new Import[] {
-                new Import("DESKTOP_PANE", "javax.accessibility.AccessibleRole", true),
-                new Import("DESKTOP_PANE", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.DESKTOP_PANE",
+                "static javax.swing.plaf.synth.Region.DESKTOP_PANE",
               })
           .put(
               "EDITABLE",
-              new Import[] {
-                new Import("EDITABLE", "javax.accessibility.AccessibleState", true),
+              new String[] {
+                "static javax.accessibility.AccessibleState.EDITABLE",
               })
           .put(
               "X509Data",
-              new Import[] {
-                new Import("X509Data", "javax.xml.crypto.dsig.keyinfo", false),
+              new String[] {
+                "javax.xml.crypto.dsig.keyinfo.X509Data",
               })
           .put(
               "BasicButtonUI",
-              new Import[] {
-                new Import("BasicButtonUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicButtonUI",
               })
           .put(
               "SMALL_SCALE",
-              new Import[] {
-                new Import("SMALL_SCALE", "javax.swing.plaf.nimbus.NimbusStyle", true),
+              new String[] {
+                "static javax.swing.plaf.nimbus.NimbusStyle.SMALL_SCALE",
               })
           .put(
               "ActivationDataFlavor",
-              new Import[] {
-                new Import("ActivationDataFlavor", "javax.activation", false),
+              new String[] {
+                "javax.activation.ActivationDataFlavor",
               })
           .put(
               "RC5ParameterSpec",
-              new Import[] {
-                new Import("RC5ParameterSpec", "javax.crypto.spec", false),
+              new String[] {
+                "javax.crypto.spec.RC5ParameterSpec",
               })
           .put(
               "ClassLoaderRepository",
-              new Import[] {
-                new Import("ClassLoaderRepository", "javax.management.loading", false),
+              new String[] {
+                "javax.management.loading.ClassLoaderRepository",
               })
           .put(
               "NameAlreadyBoundException",
-              new Import[] {
-                new Import("NameAlreadyBoundException", "javax.naming", false),
+              new String[] {
+                "javax.naming.NameAlreadyBoundException",
               })
           .put(
               "MouseListener",
-              new Import[] {
-                new Import("MouseListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.MouseListener",
               })
           .put(
               "CollectionCertStoreParameters",
-              new Import[] {
-                new Import("CollectionCertStoreParameters", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CollectionCertStoreParameters",
               })
           .put(
               "StateFactory",
-              new Import[] {
-                new Import("StateFactory", "javax.naming.spi", false),
+              new String[] {
+                "javax.naming.spi.StateFactory",
               })
           .put(
               "FULLWIDTH_DIGITS",
-              new Import[] {
-                new Import("FULLWIDTH_DIGITS", "java.awt.im.InputSubset", true),
+              new String[] {
+                "static java.awt.im.InputSubset.FULLWIDTH_DIGITS",
               })
           .put(
               "MetalTheme",
-              new Import[] {
-                new Import("MetalTheme", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalTheme",
               })
           .put(
               "ONELEVEL_SCOPE",
-              new Import[] {
-                new Import("ONELEVEL_SCOPE", "javax.naming.directory.SearchControls", true),
-                new Import("ONELEVEL_SCOPE", "javax.naming.event.EventContext", true),
+              new String[] {
+                "static javax.naming.directory.SearchControls.ONELEVEL_SCOPE",
+                "static javax.naming.event.EventContext.ONELEVEL_SCOPE",
               })
           .put(
               "MetalComboBoxIcon",
-              new Import[] {
-                new Import("MetalComboBoxIcon", "javax.swing.plaf.metal", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalComboBoxIcon",
               })
           .put(
               "SynthRootPaneUI",
-              new Import[] {
-                new Import("SynthRootPaneUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthRootPaneUI",
               })
           .put(
               "MOUSE_CLICKED",
-              new Import[] {
-                new Import("MOUSE_CLICKED", "java.awt.event.MouseEvent", true),
+              new String[] {
+                "static java.awt.event.MouseEvent.MOUSE_CLICKED",
               })
           .put(
               "StreamPrintServiceFactory",
-              new Import[] {
-                new Import("StreamPrintServiceFactory", "javax.print", false),
+              new String[] {
+                "javax.print.StreamPrintServiceFactory",
               })
           .put(
               "synchronizedMap",
-              new Import[] {
-                new Import("synchronizedMap", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.synchronizedMap",
               })
           .put(
               "RejectedExecutionHandler",
-              new Import[] {
-                new Import("RejectedExecutionHandler", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.RejectedExecutionHandler",
               })
           .put(
               "JOB_CANCELED_BY_OPERATOR",
-              new Import[] {
-                new Import(
-                    "JOB_CANCELED_BY_OPERATOR",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.JOB_CANCELED_BY_OPERATOR",
               })
           .put(
               "DOCUMENT_ACCESS_ERROR",
-              new Import[] {
-                new Import(
-                    "DOCUMENT_ACCESS_ERROR", "javax.print.attribute.standard.JobStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.DOCUMENT_ACCESS_ERROR",
               })
           .put(
               "union",
-              new Import[] {
-                new Import("union", "java.awt.geom.Rectangle2D", true),
-                new Import("union", "javax.management.ImmutableDescriptor", true),
+              new String[] {
+                "static java.awt.geom.Rectangle2D.union",
+                "static javax.management.ImmutableDescriptor.union",
               })
           .put(
               "PipedInputStream",
-              new Import[] {
-                new Import("PipedInputStream", "java.io", false),
+              new String[] {
+                "java.io.PipedInputStream",
               })
           .put(
               "createLoweredBevelBorder",
-              new Import[] {
-                new Import("createLoweredBevelBorder", "javax.swing.BorderFactory", true),
+              new String[] {
+                "static javax.swing.BorderFactory.createLoweredBevelBorder",
               })
           .put(
               "getPlatformMXBeans",
-              new Import[] {
-                new Import("getPlatformMXBeans", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.getPlatformMXBeans",
               })
           .put(
               "InsertHTMLTextAction",
-              new Import[] {
-                new Import("InsertHTMLTextAction", "javax.swing.text.html.HTMLEditorKit", false),
+              new String[] {
+                "javax.swing.text.html.HTMLEditorKit.InsertHTMLTextAction",
               })
           .put(
               "DIVIDER",
-              new Import[] {
-                new Import("DIVIDER", "javax.swing.JSplitPane", true),
+              new String[] {
+                "static javax.swing.JSplitPane.DIVIDER",
               })
           .put(
               "CONTINUE",
-              new Import[] {
-                new Import("CONTINUE", "javax.sound.midi.ShortMessage", true),
+              new String[] {
+                "static javax.sound.midi.ShortMessage.CONTINUE",
               })
           .put(
               "getWindows",
-              new Import[] {
-                new Import("getWindows", "java.awt.Window", true),
+              new String[] {
+                "static java.awt.Window.getWindows",
               })
           .put(
               "EDGE_STITCH_RIGHT",
-              new Import[] {
-                new Import("EDGE_STITCH_RIGHT", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.EDGE_STITCH_RIGHT",
               })
           .put(
               "WindowEvent",
-              new Import[] {
-                new Import("WindowEvent", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.WindowEvent",
               })
           .put(
               "Forward",
-              new Import[] {
-                new Import("Forward", "javax.swing.text.Position.Bias", true),
+              new String[] {
+                "static javax.swing.text.Position.Bias.Forward",
               })
           .put(
               "getLoginTimeout",
-              new Import[] {
-                new Import("getLoginTimeout", "java.sql.DriverManager", true),
+              new String[] {
+                "static java.sql.DriverManager.getLoginTimeout",
               })
           .put(
               "BevelBorderUIResource",
-              new Import[] {
-                new Import("BevelBorderUIResource", "javax.swing.plaf.BorderUIResource", false),
+              new String[] {
+                "javax.swing.plaf.BorderUIResource.BevelBorderUIResource",
               })
           .put(
               "ColorAttribute",
-              new Import[] {
-                new Import("ColorAttribute", "javax.swing.text.AttributeSet", false),
+              new String[] {
+                "javax.swing.text.AttributeSet.ColorAttribute",
               })
           .put(
               "VK_FINAL",
-              new Import[] {
-                new Import("VK_FINAL", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_FINAL",
               })
           .put(
               "wrap",
-              new Import[] {
-                new Import("wrap", "java.nio.ByteBuffer", true),
-                new Import("wrap", "java.nio.CharBuffer", true),
-                new Import("wrap", "java.nio.DoubleBuffer", true),
-                new Import("wrap", "java.nio.FloatBuffer", true),
-                new Import("wrap", "java.nio.IntBuffer", true),
-                new Import("wrap", "java.nio.LongBuffer", true),
-                new Import("wrap", "java.nio.ShortBuffer", true),
+              new String[] {
+                "static java.nio.ByteBuffer.wrap",
+                "static java.nio.CharBuffer.wrap",
+                "static java.nio.DoubleBuffer.wrap",
+                "static java.nio.FloatBuffer.wrap",
+                "static java.nio.IntBuffer.wrap",
+                "static java.nio.LongBuffer.wrap",
+                "static java.nio.ShortBuffer.wrap",
               })
           .put(
               "MOUSE_ENTERED",
-              new Import[] {
-                new Import("MOUSE_ENTERED", "java.awt.event.MouseEvent", true),
+              new String[] {
+                "static java.awt.event.MouseEvent.MOUSE_ENTERED",
               })
           .put(
               "PrinterURI",
-              new Import[] {
-                new Import("PrinterURI", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.PrinterURI",
               })
           .put(
               "SINGLE_TREE_SELECTION",
-              new Import[] {
-                new Import("SINGLE_TREE_SELECTION", "javax.swing.tree.TreeSelectionModel", true),
+              new String[] {
+                "static javax.swing.tree.TreeSelectionModel.SINGLE_TREE_SELECTION",
               })
           .put(
               "STATEMENT",
-              new Import[] {
-                new Import("STATEMENT", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.STATEMENT",
               })
           .put(
               "isProxyClass",
-              new Import[] {
-                new Import("isProxyClass", "java.lang.reflect.Proxy", true),
+              new String[] {
+                "static java.lang.reflect.Proxy.isProxyClass",
               })
           .put(
               "HTTP_PROXY_AUTH",
-              new Import[] {
-                new Import("HTTP_PROXY_AUTH", "java.net.HttpURLConnection", true),
+              new String[] {
+                "static java.net.HttpURLConnection.HTTP_PROXY_AUTH",
               })
           .put(
               "EXITED",
-              new Import[] {
-                new Import("EXITED", "javax.swing.event.HyperlinkEvent.EventType", true),
+              new String[] {
+                "static javax.swing.event.HyperlinkEvent.EventType.EXITED",
               })
           .put(
               "ColorSpace",
-              new Import[] {
-                new Import("ColorSpace", "java.awt.color", false),
+              new String[] {
+                "java.awt.color.ColorSpace",
               })
           .put(
               "KHAROSHTHI",
-              new Import[] {
-                new Import("KHAROSHTHI", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.KHAROSHTHI",
               })
           .put(
               "PCM_SIGNED",
-              new Import[] {
-                new Import("PCM_SIGNED", "javax.sound.sampled.AudioFormat.Encoding", true),
+              new String[] {
+                "static javax.sound.sampled.AudioFormat.Encoding.PCM_SIGNED",
               })
           .put(
               "PrintJobAttributeEvent",
-              new Import[] {
-                new Import("PrintJobAttributeEvent", "javax.print.event", false),
+              new String[] {
+                "javax.print.event.PrintJobAttributeEvent",
               })
           .put(
               "icSigCmyData",
-              new Import[] {
-                new Import("icSigCmyData", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigCmyData",
               })
           .put(
               "ListView",
-              new Import[] {
-                new Import("ListView", "javax.swing.text.html", false),
+              new String[] {
+                "javax.swing.text.html.ListView",
               })
           .put(
               "Dialog",
-              new Import[] {
-                new Import("Dialog", "java.awt", false),
+              new String[] {
+                "java.awt.Dialog",
               })
           .put(
               "FORMAT_DEFAULT",
-              new Import[] {
-                new Import("FORMAT_DEFAULT", "java.util.ResourceBundle.Control", true),
+              new String[] {
+                "static java.util.ResourceBundle.Control.FORMAT_DEFAULT",
               })
           .put(
               "MEDIA_TYPE",
-              new Import[] {
-                new Import("MEDIA_TYPE", "javax.xml.transform.OutputKeys", true),
+              new String[] {
+                "static javax.xml.transform.OutputKeys.MEDIA_TYPE",
               })
           .put(
               "ACCESSIBLE_VALUE_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_VALUE_PROPERTY", "javax.accessibility.AccessibleContext", true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_VALUE_PROPERTY",
               })
           .put(
               "enumeration",
-              new Import[] {
-                new Import("enumeration", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.enumeration",
               })
           .put(
               "getStaticAttribute",
-              new Import[] {
-                new Import("getStaticAttribute", "javax.swing.text.StyleContext", true),
+              new String[] {
+                "static javax.swing.text.StyleContext.getStaticAttribute",
               })
           .put(
               "Short",
-              new Import[] {
-                new Import("Short", "java.lang", false),
+              new String[] {
+                "java.lang.Short",
               })
           .put(
               "setUseCache",
-              new Import[] {
-                new Import("setUseCache", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.setUseCache",
               })
           .put(
               "UNCOLLATED",
-              new Import[] {
-                new Import("UNCOLLATED", "javax.print.attribute.standard.SheetCollate", true),
+              new String[] {
+                "static javax.print.attribute.standard.SheetCollate.UNCOLLATED",
               })
           .put(
               "getMemoryManagerMXBeans",
-              new Import[] {
-                new Import(
-                    "getMemoryManagerMXBeans", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.getMemoryManagerMXBeans",
               })
           .put(
               "Optional",
-              new Import[] {
-                new Import("Optional", "java.util", false),
+              new String[] {
+                "java.util.Optional",
               })
           .put(
               "DefaultSingleSelectionModel",
-              new Import[] {
-                new Import("DefaultSingleSelectionModel", "javax.swing", false),
+              new String[] {
+                "javax.swing.DefaultSingleSelectionModel",
               })
           .put(
               "ServantLocatorPOA",
-              new Import[] {
-                new Import("ServantLocatorPOA", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableServer.ServantLocatorPOA",
               })
           .put(
               "VALUE_DITHER_ENABLE",
-              new Import[] {
-                new Import("VALUE_DITHER_ENABLE", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_DITHER_ENABLE",
               })
           .put(
               "SUNDANESE",
-              new Import[] {
-                new Import("SUNDANESE", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.SUNDANESE",
               })
           .put(
               "ButtonUI",
-              new Import[] {
-                new Import("ButtonUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.ButtonUI",
               })
           .put(
               "MOUSE_LAST",
-              new Import[] {
-                new Import("MOUSE_LAST", "java.awt.event.MouseEvent", true),
+              new String[] {
+                "static java.awt.event.MouseEvent.MOUSE_LAST",
               })
           .put(
               "INVOICE",
-              new Import[] {
-                new Import("INVOICE", "java.awt.PageAttributes.MediaType", true),
-                new Import("INVOICE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("INVOICE", "javax.print.attribute.standard.MediaSize.Other", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.INVOICE",
+                "static javax.print.attribute.standard.MediaSizeName.INVOICE",
+                "static javax.print.attribute.standard.MediaSize.Other.INVOICE",
               })
           .put(
               "ValueHandlerMultiFormat",
-              new Import[] {
-                new Import("ValueHandlerMultiFormat", "javax.rmi.CORBA", false),
+              new String[] {
+                "javax.rmi.CORBA.ValueHandlerMultiFormat",
               })
           .put(
               "State",
-              new Import[] {
-                new Import("State", "java.lang.Thread", false),
-                new Import("State", "javax.swing.plaf.nimbus", false),
-                new Import("State", "org.omg.PortableServer.POAManagerPackage", false),
+              new String[] {
+                "java.lang.Thread.State",
+                "javax.swing.plaf.nimbus.State",
+                "org.omg.PortableServer.POAManagerPackage.State",
               })
           .put(
               "JMXConnectorServerFactory",
-              new Import[] {
-                new Import("JMXConnectorServerFactory", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.JMXConnectorServerFactory",
               })
           .put(
               "PLAIN_DIALOG",
-              new Import[] {
-                new Import("PLAIN_DIALOG", "javax.swing.JRootPane", true),
+              new String[] {
+                "static javax.swing.JRootPane.PLAIN_DIALOG",
               })
           .put(
               "RowSetListener",
-              new Import[] {
-                new Import("RowSetListener", "javax.sql", false),
+              new String[] {
+                "javax.sql.RowSetListener",
               })
           .put(
               "icSigNamedColorClass",
-              new Import[] {
-                new Import("icSigNamedColorClass", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigNamedColorClass",
               })
           .put(
               "_DynFixedStub",
-              new Import[] {
-                new Import("_DynFixedStub", "org.omg.DynamicAny", false),
+              new String[] {
+                "org.omg.DynamicAny._DynFixedStub",
               })
           .put(
               "RoleUnresolved",
-              new Import[] {
-                new Import("RoleUnresolved", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RoleUnresolved",
               })
           .put(
               "StringBuilder",
-              new Import[] {
-                new Import("StringBuilder", "java.lang", false),
+              new String[] {
+                "java.lang.StringBuilder",
               })
           .put(
               "PrinterIOException",
-              new Import[] {
-                new Import("PrinterIOException", "java.awt.print", false),
+              new String[] {
+                "java.awt.print.PrinterIOException",
               })
           .put(
               "RuntimePermission",
-              new Import[] {
-                new Import("RuntimePermission", "java.lang", false),
+              new String[] {
+                "java.lang.RuntimePermission",
               })
           .put(
               "CertStoreSpi",
-              new Import[] {
-                new Import("CertStoreSpi", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertStoreSpi",
               })
           .put(
               "TERTIARY",
-              new Import[] {
-                new Import("TERTIARY", "java.text.Collator", true),
+              new String[] {
+                "static java.text.Collator.TERTIARY",
               })
           .put(
               "newPlatformMXBeanProxy",
-              new Import[] {
-                new Import(
-                    "newPlatformMXBeanProxy", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.newPlatformMXBeanProxy",
               })
           .put(
               "IllegalCharsetNameException",
-              new Import[] {
-                new Import("IllegalCharsetNameException", "java.nio.charset", false),
+              new String[] {
+                "java.nio.charset.IllegalCharsetNameException",
               })
           .put(
               "emptyList",
-              new Import[] {
-                new Import("emptyList", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.emptyList",
               })
           .put(
               "setDefaultRequestProperty",
-              new Import[] {
-                new Import("setDefaultRequestProperty", "java.net.URLConnection", true),
+              new String[] {
+                "static java.net.URLConnection.setDefaultRequestProperty",
               })
           .put(
               "MalformedParametersException",
-              new Import[] {
-                new Import("MalformedParametersException", "java.lang.reflect", false),
+              new String[] {
+                "java.lang.reflect.MalformedParametersException",
               })
           .put(
               "SynthToolBarUI",
-              new Import[] {
-                new Import("SynthToolBarUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthToolBarUI",
               })
           .put(
               "CENTER_BASELINE",
-              new Import[] {
-                new Import("CENTER_BASELINE", "java.awt.Font", true),
-                new Import("CENTER_BASELINE", "java.awt.font.GraphicAttribute", true),
+              new String[] {
+                "static java.awt.Font.CENTER_BASELINE",
+                "static java.awt.font.GraphicAttribute.CENTER_BASELINE",
               })
           .put(
               "WHITE",
-              new Import[] {
-                new Import("WHITE", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.WHITE",
               })
           .put(
               "STATE_FACTORIES",
-              new Import[] {
-                new Import("STATE_FACTORIES", "javax.naming.Context", true),
+              new String[] {
+                "static javax.naming.Context.STATE_FACTORIES",
               })
           .put(
               "OCTOBER",
-              new Import[] {
-                new Import("OCTOBER", "java.util.Calendar", true),
-                new Import("OCTOBER", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static java.util.Calendar.OCTOBER",
+                "static javax.xml.datatype.DatatypeConstants.OCTOBER",
               })
           .put(
               "ImageObserver",
-              new Import[] {
-                new Import("ImageObserver", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.ImageObserver",
               })
           .put(
               "DoubleSeqHelper",
-              new Import[] {
-                new Import("DoubleSeqHelper", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.DoubleSeqHelper",
               })
           .put(
               "KeyStore",
-              new Import[] {
-                new Import("KeyStore", "java.security", false),
+              new String[] {
+                "java.security.KeyStore",
               })
           .put(
               "MultiOptionPaneUI",
-              new Import[] {
-                new Import("MultiOptionPaneUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiOptionPaneUI",
               })
           .put(
               "isHidden",
-              new Import[] {
-                new Import("isHidden", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.isHidden",
               })
           .put(
               "rangeClosed",
-              new Import[] {
-                new Import("rangeClosed", "java.util.stream.IntStream", true),
-                new Import("rangeClosed", "java.util.stream.LongStream", true),
+              new String[] {
+                "static java.util.stream.IntStream.rangeClosed",
+                "static java.util.stream.LongStream.rangeClosed",
               })
           .put(
               "FileSystemProvider",
-              new Import[] {
-                new Import("FileSystemProvider", "java.nio.file.spi", false),
+              new String[] {
+                "java.nio.file.spi.FileSystemProvider",
               })
           .put(
               "SupportedOptions",
-              new Import[] {
-                new Import("SupportedOptions", "javax.annotation.processing", false),
+              new String[] {
+                "javax.annotation.processing.SupportedOptions",
               })
           .put(
               "tk_struct",
-              new Import[] {
-                new Import("tk_struct", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind.tk_struct",
               })
           .put(
               "JMenu",
-              new Import[] {
-                new Import("JMenu", "javax.swing", false),
+              new String[] {
+                "javax.swing.JMenu",
               })
           .put(
               "isRoleStatus",
-              new Import[] {
-                new Import("isRoleStatus", "javax.management.relation.RoleStatus", true),
+              new String[] {
+                "static javax.management.relation.RoleStatus.isRoleStatus",
               })
           .put(
               "NamingContextExtPOA",
-              new Import[] {
-                new Import("NamingContextExtPOA", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextExtPOA",
               })
           .put(
               "SHA1",
-              new Import[] {
-                new Import("SHA1", "java.security.spec.MGF1ParameterSpec", true),
-                new Import("SHA1", "javax.xml.crypto.dsig.DigestMethod", true),
+              new String[] {
+                "static java.security.spec.MGF1ParameterSpec.SHA1",
+                "static javax.xml.crypto.dsig.DigestMethod.SHA1",
               })
           .put(
               "MultiTabbedPaneUI",
-              new Import[] {
-                new Import("MultiTabbedPaneUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiTabbedPaneUI",
               })
           .put(
               "_HOLDING",
-              new Import[] {
-                new Import("_HOLDING", "org.omg.PortableServer.POAManagerPackage.State", true),
+              new String[] {
+                "static org.omg.PortableServer.POAManagerPackage.State._HOLDING",
               })
           .put(
               "BasicFileChooserUI",
-              new Import[] {
-                new Import("BasicFileChooserUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicFileChooserUI",
               })
           .put(
               "SSLKeyException",
-              new Import[] {
-                new Import("SSLKeyException", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.SSLKeyException",
               })
           .put(
               "normalize",
-              new Import[] {
-                new Import("normalize", "java.text.Normalizer", true),
+              new String[] {
+                "static java.text.Normalizer.normalize",
               })
           .put(
               "LocatorImpl",
-              new Import[] {
-                new Import("LocatorImpl", "org.xml.sax.helpers", false),
+              new String[] {
+                "org.xml.sax.helpers.LocatorImpl",
               })
           .put(
               "IncompleteAnnotationException",
-              new Import[] {
-                new Import("IncompleteAnnotationException", "java.lang.annotation", false),
+              new String[] {
+                "java.lang.annotation.IncompleteAnnotationException",
               })
           .put(
               "write",
-              new Import[] {
-                new Import("write", "java.nio.file.Files", true),
-                new Import("write", "javax.imageio.ImageIO", true),
-                new Import("write", "javax.sound.midi.MidiSystem", true),
-                new Import("write", "javax.sound.sampled.AudioSystem", true),
-                new Import("write", "org.omg.CORBA.AnySeqHelper", true),
-                new Import("write", "org.omg.CORBA.BooleanSeqHelper", true),
-                new Import("write", "org.omg.CORBA.CharSeqHelper", true),
-                new Import("write", "org.omg.CORBA.CompletionStatusHelper", true),
-                new Import("write", "org.omg.CORBA.CurrentHelper", true),
-                new Import("write", "org.omg.CORBA.DefinitionKindHelper", true),
-                new Import("write", "org.omg.CORBA.DoubleSeqHelper", true),
-                new Import("write", "org.omg.CORBA.FieldNameHelper", true),
-                new Import("write", "org.omg.CORBA.FloatSeqHelper", true),
-                new Import("write", "org.omg.CORBA.IDLTypeHelper", true),
-                new Import("write", "org.omg.CORBA.IdentifierHelper", true),
-                new Import("write", "org.omg.CORBA.LongLongSeqHelper", true),
-                new Import("write", "org.omg.CORBA.LongSeqHelper", true),
-                new Import("write", "org.omg.CORBA.NameValuePairHelper", true),
-                new Import("write", "org.omg.CORBA.ObjectHelper", true),
-                new Import("write", "org.omg.CORBA.OctetSeqHelper", true),
-                new Import("write", "org.omg.CORBA.ParameterModeHelper", true),
-                new Import("write", "org.omg.CORBA.PolicyErrorCodeHelper", true),
-                new Import("write", "org.omg.CORBA.PolicyErrorHelper", true),
-                new Import("write", "org.omg.CORBA.PolicyHelper", true),
-                new Import("write", "org.omg.CORBA.PolicyListHelper", true),
-                new Import("write", "org.omg.CORBA.PolicyTypeHelper", true),
-                new Import("write", "org.omg.CORBA.RepositoryIdHelper", true),
-                new Import("write", "org.omg.CORBA.ServiceDetailHelper", true),
-                new Import("write", "org.omg.CORBA.ServiceInformationHelper", true),
-                new Import("write", "org.omg.CORBA.SetOverrideTypeHelper", true),
-                new Import("write", "org.omg.CORBA.ShortSeqHelper", true),
-                new Import("write", "org.omg.CORBA.StringSeqHelper", true),
-                new Import("write", "org.omg.CORBA.StringValueHelper", true),
-                new Import("write", "org.omg.CORBA.StructMemberHelper", true),
-                new Import("write", "org.omg.CORBA.ULongLongSeqHelper", true),
-                new Import("write", "org.omg.CORBA.ULongSeqHelper", true),
-                new Import("write", "org.omg.CORBA.UShortSeqHelper", true),
-                new Import("write", "org.omg.CORBA.UnionMemberHelper", true),
-                new Import("write", "org.omg.CORBA.UnknownUserExceptionHelper", true),
-                new Import("write", "org.omg.CORBA.ValueBaseHelper", true),
-                new Import("write", "org.omg.CORBA.ValueMemberHelper", true),
-                new Import("write", "org.omg.CORBA.VersionSpecHelper", true),
-                new Import("write", "org.omg.CORBA.VisibilityHelper", true),
-                new Import("write", "org.omg.CORBA.WCharSeqHelper", true),
-                new Import("write", "org.omg.CORBA.WStringSeqHelper", true),
-                new Import("write", "org.omg.CORBA.WStringValueHelper", true),
-                new Import("write", "org.omg.CORBA.WrongTransactionHelper", true),
-                new Import("write", "org.omg.CosNaming.BindingHelper", true),
-                new Import("write", "org.omg.CosNaming.BindingIteratorHelper", true),
-                new Import("write", "org.omg.CosNaming.BindingListHelper", true),
-                new Import("write", "org.omg.CosNaming.BindingTypeHelper", true),
-                new Import("write", "org.omg.CosNaming.IstringHelper", true),
-                new Import("write", "org.omg.CosNaming.NameComponentHelper", true),
-                new Import("write", "org.omg.CosNaming.NameHelper", true),
-                new Import("write", "org.omg.CosNaming.NamingContextExtHelper", true),
-                new Import("write", "org.omg.CosNaming.NamingContextHelper", true),
-                new Import(
-                    "write", "org.omg.CosNaming.NamingContextExtPackage.AddressHelper", true),
-                new Import(
-                    "write",
-                    "org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper",
-                    true),
-                new Import(
-                    "write", "org.omg.CosNaming.NamingContextExtPackage.StringNameHelper", true),
-                new Import(
-                    "write", "org.omg.CosNaming.NamingContextExtPackage.URLStringHelper", true),
-                new Import(
-                    "write", "org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper", true),
-                new Import(
-                    "write", "org.omg.CosNaming.NamingContextPackage.CannotProceedHelper", true),
-                new Import(
-                    "write", "org.omg.CosNaming.NamingContextPackage.InvalidNameHelper", true),
-                new Import("write", "org.omg.CosNaming.NamingContextPackage.NotEmptyHelper", true),
-                new Import("write", "org.omg.CosNaming.NamingContextPackage.NotFoundHelper", true),
-                new Import(
-                    "write", "org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper", true),
-                new Import("write", "org.omg.DynamicAny.AnySeqHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynAnyFactoryHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynAnyHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynAnySeqHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynArrayHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynEnumHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynFixedHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynSequenceHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynStructHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynUnionHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynValueHelper", true),
-                new Import("write", "org.omg.DynamicAny.FieldNameHelper", true),
-                new Import("write", "org.omg.DynamicAny.NameDynAnyPairHelper", true),
-                new Import("write", "org.omg.DynamicAny.NameDynAnyPairSeqHelper", true),
-                new Import("write", "org.omg.DynamicAny.NameValuePairHelper", true),
-                new Import("write", "org.omg.DynamicAny.NameValuePairSeqHelper", true),
-                new Import(
-                    "write",
-                    "org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper",
-                    true),
-                new Import("write", "org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper", true),
-                new Import("write", "org.omg.IOP.CodecFactoryHelper", true),
-                new Import("write", "org.omg.IOP.ComponentIdHelper", true),
-                new Import("write", "org.omg.IOP.IORHelper", true),
-                new Import("write", "org.omg.IOP.MultipleComponentProfileHelper", true),
-                new Import("write", "org.omg.IOP.ProfileIdHelper", true),
-                new Import("write", "org.omg.IOP.ServiceContextHelper", true),
-                new Import("write", "org.omg.IOP.ServiceContextListHelper", true),
-                new Import("write", "org.omg.IOP.ServiceIdHelper", true),
-                new Import("write", "org.omg.IOP.TaggedComponentHelper", true),
-                new Import("write", "org.omg.IOP.TaggedProfileHelper", true),
-                new Import("write", "org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper", true),
-                new Import("write", "org.omg.IOP.CodecPackage.FormatMismatchHelper", true),
-                new Import("write", "org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper", true),
-                new Import("write", "org.omg.IOP.CodecPackage.TypeMismatchHelper", true),
-                new Import("write", "org.omg.Messaging.SyncScopeHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.AdapterManagerIdHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.AdapterNameHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.AdapterStateHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.CurrentHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.ForwardRequestHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.IORInterceptor_3_0Helper", true),
-                new Import("write", "org.omg.PortableInterceptor.InvalidSlotHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.ORBIdHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.ObjectIdHelper", true),
-                new Import(
-                    "write", "org.omg.PortableInterceptor.ObjectReferenceFactoryHelper", true),
-                new Import(
-                    "write", "org.omg.PortableInterceptor.ObjectReferenceTemplateHelper", true),
-                new Import(
-                    "write", "org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.ServerIdHelper", true),
-                new Import(
-                    "write",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper",
-                    true),
-                new Import(
-                    "write",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper",
-                    true),
-                new Import(
-                    "write", "org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper", true),
-                new Import("write", "org.omg.PortableServer.CurrentHelper", true),
-                new Import("write", "org.omg.PortableServer.ForwardRequestHelper", true),
-                new Import("write", "org.omg.PortableServer.POAHelper", true),
-                new Import("write", "org.omg.PortableServer.ServantActivatorHelper", true),
-                new Import("write", "org.omg.PortableServer.ServantLocatorHelper", true),
-                new Import("write", "org.omg.PortableServer.CurrentPackage.NoContextHelper", true),
-                new Import(
-                    "write",
-                    "org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper",
-                    true),
-                new Import(
-                    "write", "org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper", true),
-                new Import(
-                    "write", "org.omg.PortableServer.POAPackage.AdapterNonExistentHelper", true),
-                new Import("write", "org.omg.PortableServer.POAPackage.InvalidPolicyHelper", true),
-                new Import("write", "org.omg.PortableServer.POAPackage.NoServantHelper", true),
-                new Import(
-                    "write", "org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper", true),
-                new Import(
-                    "write", "org.omg.PortableServer.POAPackage.ObjectNotActiveHelper", true),
-                new Import(
-                    "write", "org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper", true),
-                new Import(
-                    "write", "org.omg.PortableServer.POAPackage.ServantNotActiveHelper", true),
-                new Import("write", "org.omg.PortableServer.POAPackage.WrongAdapterHelper", true),
-                new Import("write", "org.omg.PortableServer.POAPackage.WrongPolicyHelper", true),
+              new String[] {
+                "static java.nio.file.Files.write",
+                "static javax.imageio.ImageIO.write",
+                "static javax.sound.midi.MidiSystem.write",
+                "static javax.sound.sampled.AudioSystem.write",
+                "static org.omg.CORBA.AnySeqHelper.write",
+                "static org.omg.CORBA.BooleanSeqHelper.write",
+                "static org.omg.CORBA.CharSeqHelper.write",
+                "static org.omg.CORBA.CompletionStatusHelper.write",
+                "static org.omg.CORBA.CurrentHelper.write",
+                "static org.omg.CORBA.DefinitionKindHelper.write",
+                "static org.omg.CORBA.DoubleSeqHelper.write",
+                "static org.omg.CORBA.FieldNameHelper.write",
+                "static org.omg.CORBA.FloatSeqHelper.write",
+                "static org.omg.CORBA.IDLTypeHelper.write",
+                "static org.omg.CORBA.IdentifierHelper.write",
+                "static org.omg.CORBA.LongLongSeqHelper.write",
+                "static org.omg.CORBA.LongSeqHelper.write",
+                "static org.omg.CORBA.NameValuePairHelper.write",
+                "static org.omg.CORBA.ObjectHelper.write",
+                "static org.omg.CORBA.OctetSeqHelper.write",
+                "static org.omg.CORBA.ParameterModeHelper.write",
+                "static org.omg.CORBA.PolicyErrorCodeHelper.write",
+                "static org.omg.CORBA.PolicyErrorHelper.write",
+                "static org.omg.CORBA.PolicyHelper.write",
+                "static org.omg.CORBA.PolicyListHelper.write",
+                "static org.omg.CORBA.PolicyTypeHelper.write",
+                "static org.omg.CORBA.RepositoryIdHelper.write",
+                "static org.omg.CORBA.ServiceDetailHelper.write",
+                "static org.omg.CORBA.ServiceInformationHelper.write",
+                "static org.omg.CORBA.SetOverrideTypeHelper.write",
+                "static org.omg.CORBA.ShortSeqHelper.write",
+                "static org.omg.CORBA.StringSeqHelper.write",
+                "static org.omg.CORBA.StringValueHelper.write",
+                "static org.omg.CORBA.StructMemberHelper.write",
+                "static org.omg.CORBA.ULongLongSeqHelper.write",
+                "static org.omg.CORBA.ULongSeqHelper.write",
+                "static org.omg.CORBA.UShortSeqHelper.write",
+                "static org.omg.CORBA.UnionMemberHelper.write",
+                "static org.omg.CORBA.UnknownUserExceptionHelper.write",
+                "static org.omg.CORBA.ValueBaseHelper.write",
+                "static org.omg.CORBA.ValueMemberHelper.write",
+                "static org.omg.CORBA.VersionSpecHelper.write",
+                "static org.omg.CORBA.VisibilityHelper.write",
+                "static org.omg.CORBA.WCharSeqHelper.write",
+                "static org.omg.CORBA.WStringSeqHelper.write",
+                "static org.omg.CORBA.WStringValueHelper.write",
+                "static org.omg.CORBA.WrongTransactionHelper.write",
+                "static org.omg.CosNaming.BindingHelper.write",
+                "static org.omg.CosNaming.BindingIteratorHelper.write",
+                "static org.omg.CosNaming.BindingListHelper.write",
+                "static org.omg.CosNaming.BindingTypeHelper.write",
+                "static org.omg.CosNaming.IstringHelper.write",
+                "static org.omg.CosNaming.NameComponentHelper.write",
+                "static org.omg.CosNaming.NameHelper.write",
+                "static org.omg.CosNaming.NamingContextExtHelper.write",
+                "static org.omg.CosNaming.NamingContextHelper.write",
+                "static org.omg.CosNaming.NamingContextExtPackage.AddressHelper.write",
+                "static org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper.write",
+                "static org.omg.CosNaming.NamingContextExtPackage.StringNameHelper.write",
+                "static org.omg.CosNaming.NamingContextExtPackage.URLStringHelper.write",
+                "static org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper.write",
+                "static org.omg.CosNaming.NamingContextPackage.CannotProceedHelper.write",
+                "static org.omg.CosNaming.NamingContextPackage.InvalidNameHelper.write",
+                "static org.omg.CosNaming.NamingContextPackage.NotEmptyHelper.write",
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundHelper.write",
+                "static org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper.write",
+                "static org.omg.DynamicAny.AnySeqHelper.write",
+                "static org.omg.DynamicAny.DynAnyFactoryHelper.write",
+                "static org.omg.DynamicAny.DynAnyHelper.write",
+                "static org.omg.DynamicAny.DynAnySeqHelper.write",
+                "static org.omg.DynamicAny.DynArrayHelper.write",
+                "static org.omg.DynamicAny.DynEnumHelper.write",
+                "static org.omg.DynamicAny.DynFixedHelper.write",
+                "static org.omg.DynamicAny.DynSequenceHelper.write",
+                "static org.omg.DynamicAny.DynStructHelper.write",
+                "static org.omg.DynamicAny.DynUnionHelper.write",
+                "static org.omg.DynamicAny.DynValueHelper.write",
+                "static org.omg.DynamicAny.FieldNameHelper.write",
+                "static org.omg.DynamicAny.NameDynAnyPairHelper.write",
+                "static org.omg.DynamicAny.NameDynAnyPairSeqHelper.write",
+                "static org.omg.DynamicAny.NameValuePairHelper.write",
+                "static org.omg.DynamicAny.NameValuePairSeqHelper.write",
+                "static org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper.write",
+                "static org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper.write",
+                "static org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper.write",
+                "static org.omg.IOP.CodecFactoryHelper.write",
+                "static org.omg.IOP.ComponentIdHelper.write",
+                "static org.omg.IOP.IORHelper.write",
+                "static org.omg.IOP.MultipleComponentProfileHelper.write",
+                "static org.omg.IOP.ProfileIdHelper.write",
+                "static org.omg.IOP.ServiceContextHelper.write",
+                "static org.omg.IOP.ServiceContextListHelper.write",
+                "static org.omg.IOP.ServiceIdHelper.write",
+                "static org.omg.IOP.TaggedComponentHelper.write",
+                "static org.omg.IOP.TaggedProfileHelper.write",
+                "static org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper.write",
+                "static org.omg.IOP.CodecPackage.FormatMismatchHelper.write",
+                "static org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper.write",
+                "static org.omg.IOP.CodecPackage.TypeMismatchHelper.write",
+                "static org.omg.Messaging.SyncScopeHelper.write",
+                "static org.omg.PortableInterceptor.AdapterManagerIdHelper.write",
+                "static org.omg.PortableInterceptor.AdapterNameHelper.write",
+                "static org.omg.PortableInterceptor.AdapterStateHelper.write",
+                "static org.omg.PortableInterceptor.CurrentHelper.write",
+                "static org.omg.PortableInterceptor.ForwardRequestHelper.write",
+                "static org.omg.PortableInterceptor.IORInterceptor_3_0Helper.write",
+                "static org.omg.PortableInterceptor.InvalidSlotHelper.write",
+                "static org.omg.PortableInterceptor.ORBIdHelper.write",
+                "static org.omg.PortableInterceptor.ObjectIdHelper.write",
+                "static org.omg.PortableInterceptor.ObjectReferenceFactoryHelper.write",
+                "static org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.write",
+                "static org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper.write",
+                "static org.omg.PortableInterceptor.ServerIdHelper.write",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper.write",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper.write",
+                "static org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper.write",
+                "static org.omg.PortableServer.CurrentHelper.write",
+                "static org.omg.PortableServer.ForwardRequestHelper.write",
+                "static org.omg.PortableServer.POAHelper.write",
+                "static org.omg.PortableServer.ServantActivatorHelper.write",
+                "static org.omg.PortableServer.ServantLocatorHelper.write",
+                "static org.omg.PortableServer.CurrentPackage.NoContextHelper.write",
+                "static org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper.write",
+                "static org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper.write",
+                "static org.omg.PortableServer.POAPackage.AdapterNonExistentHelper.write",
+                "static org.omg.PortableServer.POAPackage.InvalidPolicyHelper.write",
+                "static org.omg.PortableServer.POAPackage.NoServantHelper.write",
+                "static org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper.write",
+                "static org.omg.PortableServer.POAPackage.ObjectNotActiveHelper.write",
+                "static org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper.write",
+                "static org.omg.PortableServer.POAPackage.ServantNotActiveHelper.write",
+                "static org.omg.PortableServer.POAPackage.WrongAdapterHelper.write",
+                "static org.omg.PortableServer.POAPackage.WrongPolicyHelper.write",
               })
           .put(
               "CountedCompleter",
-              new Import[] {
-                new Import("CountedCompleter", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.CountedCompleter",
               })
           .put(
               "IMPLIED",
-              new Import[] {
-                new Import("IMPLIED", "javax.swing.text.html.HTML.Tag", true),
-                new Import("IMPLIED", "javax.swing.text.html.HTMLEditorKit.ParserCallback", true),
-                new Import("IMPLIED", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.IMPLIED",
+                "static javax.swing.text.html.HTMLEditorKit.ParserCallback.IMPLIED",
+                "static javax.swing.text.html.parser.DTDConstants.IMPLIED",
               })
           .put(
               "PGPData",
-              new Import[] {
-                new Import("PGPData", "javax.xml.crypto.dsig.keyinfo", false),
+              new String[] {
+                "javax.xml.crypto.dsig.keyinfo.PGPData",
               })
           .put(
               "MultiPopupMenuUI",
-              new Import[] {
-                new Import("MultiPopupMenuUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiPopupMenuUI",
               })
           .put(
               "BufferStrategy",
-              new Import[] {
-                new Import("BufferStrategy", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.BufferStrategy",
               })
           .put(
               "EmptyBorderUIResource",
-              new Import[] {
-                new Import("EmptyBorderUIResource", "javax.swing.plaf.BorderUIResource", false),
+              new String[] {
+                "javax.swing.plaf.BorderUIResource.EmptyBorderUIResource",
               })
           .put(
               "UNREGISTRATION_NOTIFICATION",
-              new Import[] {
-                new Import(
-                    "UNREGISTRATION_NOTIFICATION",
-                    "javax.management.MBeanServerNotification",
-                    true),
+              new String[] {
+                "static javax.management.MBeanServerNotification.UNREGISTRATION_NOTIFICATION",
               })
           .put(
               "notifyAction",
-              new Import[] {
-                new Import("notifyAction", "javax.swing.JTextField", true),
-                new Import("notifyAction", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.JTextField.notifyAction",
+                "static javax.swing.SwingUtilities.notifyAction",
               })
           .put(
               "altMetafactory",
-              new Import[] {
-                new Import("altMetafactory", "java.lang.invoke.LambdaMetafactory", true),
+              new String[] {
+                "static java.lang.invoke.LambdaMetafactory.altMetafactory",
               })
           .put(
               "TrustManager",
-              new Import[] {
-                new Import("TrustManager", "javax.net.ssl", false),
+              new String[] {
+                "javax.net.ssl.TrustManager",
               })
           .put(
               "IMPLEMENTATION_URL",
-              new Import[] {
-                new Import("IMPLEMENTATION_URL", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.IMPLEMENTATION_URL",
               })
           .put(
               "SelectableChannel",
-              new Import[] {
-                new Import("SelectableChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.SelectableChannel",
               })
           .put(
               "Era",
-              new Import[] {
-                new Import("Era", "java.time.chrono", false),
+              new String[] {
+                "java.time.chrono.Era",
               })
           .put(
               "NMTOKEN",
-              new Import[] {
-                new Import("NMTOKEN", "javax.swing.text.html.parser.DTDConstants", true),
+              new String[] {
+                "static javax.swing.text.html.parser.DTDConstants.NMTOKEN",
               })
           .put(
               "ScrollPane",
-              new Import[] {
-                new Import("ScrollPane", "java.awt", false),
+              new String[] {
+                "java.awt.ScrollPane",
               })
           .put(
               "IntBuffer",
-              new Import[] {
-                new Import("IntBuffer", "java.nio", false),
+              new String[] {
+                "java.nio.IntBuffer",
               })
           .put(
               "_ADD_OVERRIDE",
-              new Import[] {
-                new Import("_ADD_OVERRIDE", "org.omg.CORBA.SetOverrideType", true),
+              new String[] {
+                "static org.omg.CORBA.SetOverrideType._ADD_OVERRIDE",
               })
           .put(
               "REDCOMPONENT",
-              new Import[] {
-                new Import("REDCOMPONENT", "java.awt.color.ICC_ProfileRGB", true),
+              new String[] {
+                "static java.awt.color.ICC_ProfileRGB.REDCOMPONENT",
               })
           .put(
               "AdapterStateHelper",
-              new Import[] {
-                new Import("AdapterStateHelper", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.AdapterStateHelper",
               })
           .put(
               "INITIAL_SELECTION_VALUE_PROPERTY",
-              new Import[] {
-                new Import("INITIAL_SELECTION_VALUE_PROPERTY", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.INITIAL_SELECTION_VALUE_PROPERTY",
               })
           .put(
               "OPTICAL_CHARACTER_RECOGNITION",
-              new Import[] {
-                new Import(
-                    "OPTICAL_CHARACTER_RECOGNITION", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.OPTICAL_CHARACTER_RECOGNITION",
               })
           .put(
               "NO_DATA_ALLOWED_ERR",
-              new Import[] {
-                new Import("NO_DATA_ALLOWED_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.NO_DATA_ALLOWED_ERR",
               })
           .put(
               "FTP",
-              new Import[] {
-                new Import(
-                    "FTP", "javax.print.attribute.standard.ReferenceUriSchemesSupported", true),
+              new String[] {
+                "static javax.print.attribute.standard.ReferenceUriSchemesSupported.FTP",
               })
           .put(
               "AWTEventListener",
-              new Import[] {
-                new Import("AWTEventListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.AWTEventListener",
               })
           .put(
               "ISO_C9_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C9_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ISO_C9_ENVELOPE",
               })
           .put(
               "CITE",
-              new Import[] {
-                new Import("CITE", "javax.swing.text.html.HTML.Tag", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Tag.CITE",
               })
           .put(
               "SortKey",
-              new Import[] {
-                new Import("SortKey", "javax.naming.ldap", false),
-                new Import("SortKey", "javax.swing.RowSorter", false),
+              new String[] {
+                "javax.naming.ldap.SortKey", "javax.swing.RowSorter.SortKey",
               })
           .put(
               "selectionEndParagraphAction",
-              new Import[] {
-                new Import(
-                    "selectionEndParagraphAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.selectionEndParagraphAction",
               })
           .put(
               "deleteNextCharAction",
-              new Import[] {
-                new Import("deleteNextCharAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.deleteNextCharAction",
               })
           .put(
               "GridLayout",
-              new Import[] {
-                new Import("GridLayout", "java.awt", false),
+              new String[] {
+                "java.awt.GridLayout",
               })
           .put(
               "TooManyListenersException",
-              new Import[] {
-                new Import("TooManyListenersException", "java.util", false),
+              new String[] {
+                "java.util.TooManyListenersException",
               })
           .put(
               "SynthToolTipUI",
-              new Import[] {
-                new Import("SynthToolTipUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthToolTipUI",
               })
           .put(
               "NA_10X14_ENVELOPE",
-              new Import[] {
-                new Import("NA_10X14_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_10X14_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.NA_10X14_ENVELOPE",
+                "static javax.print.attribute.standard.MediaSizeName.NA_10X14_ENVELOPE",
               })
           .put(
               "StartTlsResponse",
-              new Import[] {
-                new Import("StartTlsResponse", "javax.naming.ldap", false),
+              new String[] {
+                "javax.naming.ldap.StartTlsResponse",
               })
           .put(
               "LETTER_NUMBER",
-              new Import[] {
-                new Import("LETTER_NUMBER", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.LETTER_NUMBER",
               })
           .put(
               "ORANGE",
-              new Import[] {
-                new Import("ORANGE", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.ORANGE",
               })
           .put(
               "ModelMBeanNotificationInfo",
-              new Import[] {
-                new Import("ModelMBeanNotificationInfo", "javax.management.modelmbean", false),
+              new String[] {
+                "javax.management.modelmbean.ModelMBeanNotificationInfo",
               })
           .put(
               "SaslServerFactory",
-              new Import[] {
-                new Import("SaslServerFactory", "javax.security.sasl", false),
+              new String[] {
+                "javax.security.sasl.SaslServerFactory",
               })
           .put(
               "PrintJobAttributeSet",
-              new Import[] {
-                new Import("PrintJobAttributeSet", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.PrintJobAttributeSet",
               })
           .put(
               "BeanContextEvent",
-              new Import[] {
-                new Import("BeanContextEvent", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextEvent",
               })
           .put(
               "PHAISTOS_DISC",
-              new Import[] {
-                new Import("PHAISTOS_DISC", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.PHAISTOS_DISC",
               })
           .put(
               "CONTROLLER_FOR",
-              new Import[] {
-                new Import("CONTROLLER_FOR", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.CONTROLLER_FOR",
               })
           .put(
               "InvalidAttributeValueException",
-              new Import[] {
-                new Import("InvalidAttributeValueException", "javax.management", false),
-                new Import("InvalidAttributeValueException", "javax.naming.directory", false),
+              new String[] {
+                "javax.management.InvalidAttributeValueException",
+                "javax.naming.directory.InvalidAttributeValueException",
               })
           .put(
               "parseLong",
-              new Import[] {
-                new Import("parseLong", "java.lang.Long", true),
-                new Import("parseLong", "javax.xml.bind.DatatypeConverter", true),
+              new String[] {
+                "static java.lang.Long.parseLong",
+                "static javax.xml.bind.DatatypeConverter.parseLong",
               })
           .put(
               "LambdaMetafactory",
-              new Import[] {
-                new Import("LambdaMetafactory", "java.lang.invoke", false),
+              new String[] {
+                "java.lang.invoke.LambdaMetafactory",
               })
           .put(
               "EXPONENT",
-              new Import[] {
-                new Import("EXPONENT", "java.text.NumberFormat.Field", true),
+              new String[] {
+                "static java.text.NumberFormat.Field.EXPONENT",
               })
           .put(
               "getDesktop",
-              new Import[] {
-                new Import("getDesktop", "java.awt.Desktop", true),
+              new String[] {
+                "static java.awt.Desktop.getDesktop",
               })
           .put(
               "nullsFirst",
-              new Import[] {
-                new Import("nullsFirst", "java.util.Comparator", true),
+              new String[] {
+                "static java.util.Comparator.nullsFirst",
               })
           .put(
               "BYZANTINE_MUSICAL_SYMBOLS",
-              new Import[] {
-                new Import("BYZANTINE_MUSICAL_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.BYZANTINE_MUSICAL_SYMBOLS",
               })
           .put(
               "FileStoreAttributeView",
-              new Import[] {
-                new Import("FileStoreAttributeView", "java.nio.file.attribute", false),
+              new String[] {
+                "java.nio.file.attribute.FileStoreAttributeView",
               })
           .put(
               "getIntegerAttributeValue",
-              new Import[] {
-                new Import("getIntegerAttributeValue", "javax.swing.text.html.HTML", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.getIntegerAttributeValue",
               })
           .put(
               "IstringHelper",
-              new Import[] {
-                new Import("IstringHelper", "org.omg.CosNaming", false),
+              new String[] {
+                "org.omg.CosNaming.IstringHelper",
               })
           .put(
               "SCHEMA_SYSTEM_ID",
-              new Import[] {
-                new Import("SCHEMA_SYSTEM_ID", "javax.sql.rowset.WebRowSet", true),
+              new String[] {
+                "static javax.sql.rowset.WebRowSet.SCHEMA_SYSTEM_ID",
               })
           .put(
               "VK_KP_LEFT",
-              new Import[] {
-                new Import("VK_KP_LEFT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_KP_LEFT",
               })
           .put(
               "COMPRESS",
-              new Import[] {
-                new Import("COMPRESS", "javax.print.attribute.standard.Compression", true),
+              new String[] {
+                "static javax.print.attribute.standard.Compression.COMPRESS",
               })
           .put(
               "TIMESTAMP",
-              new Import[] {
-                new Import("TIMESTAMP", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.TIMESTAMP",
               })
           .put(
               "UPPER_LEFT_CORNER",
-              new Import[] {
-                new Import("UPPER_LEFT_CORNER", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.UPPER_LEFT_CORNER",
               })
           .put(
               "_COMPLETED_MAYBE",
-              new Import[] {
-                new Import("_COMPLETED_MAYBE", "org.omg.CORBA.CompletionStatus", true),
+              new String[] {
+                "static org.omg.CORBA.CompletionStatus._COMPLETED_MAYBE",
               })
           .put(
               "WHITE_SPACE",
-              new Import[] {
-                new Import("WHITE_SPACE", "javax.swing.text.html.CSS.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.CSS.Attribute.WHITE_SPACE",
               })
           .put(
               "SynthStyleFactory",
-              new Import[] {
-                new Import("SynthStyleFactory", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthStyleFactory",
               })
           .put(
               "XMLResolver",
-              new Import[] {
-                new Import("XMLResolver", "javax.xml.stream", false),
+              new String[] {
+                "javax.xml.stream.XMLResolver",
               })
           .put(
               "ImageView",
-              new Import[] {
-                new Import("ImageView", "javax.swing.text.html", false),
+              new String[] {
+                "javax.swing.text.html.ImageView",
               })
           .put(
               "OBJECT_RENAMED",
-              new Import[] {
-                new Import("OBJECT_RENAMED", "javax.naming.event.NamingEvent", true),
+              new String[] {
+                "static javax.naming.event.NamingEvent.OBJECT_RENAMED",
               })
           .put(
               "getRuntime",
-              new Import[] {
-                new Import("getRuntime", "java.lang.Runtime", true),
+              new String[] {
+                "static java.lang.Runtime.getRuntime",
               })
           .put(
               "JANUARY",
-              new Import[] {
-                new Import("JANUARY", "java.util.Calendar", true),
-                new Import("JANUARY", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static java.util.Calendar.JANUARY",
+                "static javax.xml.datatype.DatatypeConstants.JANUARY",
               })
           .put(
               "counting",
-              new Import[] {
-                new Import("counting", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.counting",
               })
           .put(
               "UNSUPPORTED_DOCUMENT_FORMAT",
-              new Import[] {
-                new Import(
-                    "UNSUPPORTED_DOCUMENT_FORMAT",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
+              new String[] {
+                "static javax.print.attribute.standard.JobStateReason.UNSUPPORTED_DOCUMENT_FORMAT",
               })
           .put(
               "JULIAN_DAY",
-              new Import[] {
-                new Import("JULIAN_DAY", "java.time.temporal.JulianFields", true),
+              new String[] {
+                "static java.time.temporal.JulianFields.JULIAN_DAY",
               })
           .put(
               "comparingLong",
-              new Import[] {
-                new Import("comparingLong", "java.util.Comparator", true),
+              new String[] {
+                "static java.util.Comparator.comparingLong",
               })
           .put(
               "swap",
-              new Import[] {
-                new Import("swap", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.swap",
               })
           .put(
               "TEXT_AREA",
-              new Import[] {
-                new Import("TEXT_AREA", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.swing.plaf.synth.Region.TEXT_AREA",
               })
           .put(
               "ByteHolder",
-              new Import[] {
-                new Import("ByteHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ByteHolder",
               })
           .put(
               "privilegedCallableUsingCurrentClassLoader",
-              new Import[] {
-                new Import(
-                    "privilegedCallableUsingCurrentClassLoader",
-                    "java.util.concurrent.Executors",
-                    true),
+              new String[] {
+                "static java.util.concurrent.Executors.privilegedCallableUsingCurrentClassLoader",
               })
           .put(
               "getImageReaders",
-              new Import[] {
-                new Import("getImageReaders", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getImageReaders",
               })
           .put(
               "tick",
-              new Import[] {
-                new Import("tick", "java.time.Clock", true),
+              new String[] {
+                "static java.time.Clock.tick",
               })
           .put(
               "RootPaneUI",
-              new Import[] {
-                new Import("RootPaneUI", "javax.swing.plaf", false),
+              new String[] {
+                "javax.swing.plaf.RootPaneUI",
               })
           .put(
               "RMISecurityManager",
-              new Import[] {
-                new Import("RMISecurityManager", "java.rmi", false),
+              new String[] {
+                "java.rmi.RMISecurityManager",
               })
           .put(
               "DoubleBinaryOperator",
-              new Import[] {
-                new Import("DoubleBinaryOperator", "java.util.function", false),
+              new String[] {
+                "java.util.function.DoubleBinaryOperator",
               })
           .put(
               "RelationTypeSupport",
-              new Import[] {
-                new Import("RelationTypeSupport", "javax.management.relation", false),
+              new String[] {
+                "javax.management.relation.RelationTypeSupport",
               })
           .put(
               "ServiceInformation",
-              new Import[] {
-                new Import("ServiceInformation", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ServiceInformation",
               })
           .put(
               "UnsupportedCharsetException",
-              new Import[] {
-                new Import("UnsupportedCharsetException", "java.nio.charset", false),
+              new String[] {
+                "java.nio.charset.UnsupportedCharsetException",
               })
           .put(
               "ImagingOpException",
-              new Import[] {
-                new Import("ImagingOpException", "java.awt.image", false),
+              new String[] {
+                "java.awt.image.ImagingOpException",
               })
           .put(
               "REAL",
-              new Import[] {
-                new Import("REAL", "java.sql.Types", true),
+              new String[] {
+                "static java.sql.Types.REAL",
               })
           .put(
               "SpringLayout",
-              new Import[] {
-                new Import("SpringLayout", "javax.swing", false),
+              new String[] {
+                "javax.swing.SpringLayout",
               })
           .put(
               "SCROLLBARS_HORIZONTAL_ONLY",
-              new Import[] {
-                new Import("SCROLLBARS_HORIZONTAL_ONLY", "java.awt.TextArea", true),
+              new String[] {
+                "static java.awt.TextArea.SCROLLBARS_HORIZONTAL_ONLY",
               })
           .put(
               "VALUE_ALPHA_INTERPOLATION_DEFAULT",
-              new Import[] {
-                new Import("VALUE_ALPHA_INTERPOLATION_DEFAULT", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_ALPHA_INTERPOLATION_DEFAULT",
               })
           .put(
               "ColorConstants",
-              new Import[] {
-                new Import("ColorConstants", "javax.swing.text.StyleConstants", false),
+              new String[] {
+                "javax.swing.text.StyleConstants.ColorConstants",
               })
           .put(
               "flushCaches",
-              new Import[] {
-                new Import("flushCaches", "java.beans.Introspector", true),
+              new String[] {
+                "static java.beans.Introspector.flushCaches",
               })
           .put(
               "flashCount",
-              new Import[] {
-                new Import("flashCount", "javax.swing.DebugGraphics", true),
+              new String[] {
+                "static javax.swing.DebugGraphics.flashCount",
               })
           .put(
               "updateComponentTreeUI",
-              new Import[] {
-                new Import("updateComponentTreeUI", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.updateComponentTreeUI",
               })
           .put(
               "icSigPreview2Tag",
-              new Import[] {
-                new Import("icSigPreview2Tag", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigPreview2Tag",
               })
           .put(
               "RenderedImageFactory",
-              new Import[] {
-                new Import("RenderedImageFactory", "java.awt.image.renderable", false),
+              new String[] {
+                "java.awt.image.renderable.RenderedImageFactory",
               })
           .put(
               "createStrokeBorder",
-              new Import[] {
-                new Import("createStrokeBorder", "javax.swing.BorderFactory", true),
+              new String[] {
+                "static javax.swing.BorderFactory.createStrokeBorder",
               })
           .put(
               "LayerPainter",
-              new Import[] {
-                new Import("LayerPainter", "javax.swing.text.LayeredHighlighter", false),
+              new String[] {
+                "javax.swing.text.LayeredHighlighter.LayerPainter",
               })
           .put(
               "GZIPInputStream",
-              new Import[] {
-                new Import("GZIPInputStream", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.GZIPInputStream",
               })
           .put(
               "withInitial",
-              new Import[] {
-                new Import("withInitial", "java.lang.ThreadLocal", true),
+              new String[] {
+                "static java.lang.ThreadLocal.withInitial",
               })
           .put(
               "TRANSACTION_READ_COMMITTED",
-              new Import[] {
-                new Import("TRANSACTION_READ_COMMITTED", "java.sql.Connection", true),
+              new String[] {
+                "static java.sql.Connection.TRANSACTION_READ_COMMITTED",
               })
           .put(
               "XAER_OUTSIDE",
-              new Import[] {
-                new Import("XAER_OUTSIDE", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XAER_OUTSIDE",
               })
           .put(
               "tableIndexHashed",
-              new Import[] {
-                new Import("tableIndexHashed", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.tableIndexHashed",
               })
           .put(
               "endWordAction",
-              new Import[] {
-                new Import("endWordAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.endWordAction",
               })
           .put(
               "LINEAR_B_IDEOGRAMS",
-              new Import[] {
-                new Import("LINEAR_B_IDEOGRAMS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.LINEAR_B_IDEOGRAMS",
               })
           .put(
               "APRIL",
-              new Import[] {
-                new Import("APRIL", "java.util.Calendar", true),
-                new Import("APRIL", "javax.xml.datatype.DatatypeConstants", true),
+              new String[] {
+                "static java.util.Calendar.APRIL",
+                "static javax.xml.datatype.DatatypeConstants.APRIL",
               })
           .put(
               "Invalid",
-              new Import[] {
-                new Import("Invalid", "org.omg.CORBA.DynAnyPackage", false),
+              new String[] {
+                "org.omg.CORBA.DynAnyPackage.Invalid",
               })
           .put(
               "TAG_BSLN",
-              new Import[] {
-                new Import("TAG_BSLN", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_BSLN",
               })
           .put(
               "systemRoot",
-              new Import[] {
-                new Import("systemRoot", "java.util.prefs.Preferences", true),
+              new String[] {
+                "static java.util.prefs.Preferences.systemRoot",
               })
           .put(
               "createTempDirectory",
-              new Import[] {
-                new Import("createTempDirectory", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.createTempDirectory",
               })
           .put(
               "PrimitiveIterator",
-              new Import[] {
-                new Import("PrimitiveIterator", "java.util", false),
+              new String[] {
+                "java.util.PrimitiveIterator",
               })
           .put(
               "CTX_RESTRICT_SCOPE",
-              new Import[] {
-                new Import("CTX_RESTRICT_SCOPE", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.CTX_RESTRICT_SCOPE",
               })
           .put(
               "AlphaComposite",
-              new Import[] {
-                new Import("AlphaComposite", "java.awt", false),
+              new String[] {
+                "java.awt.AlphaComposite",
               })
           .put(
               "CertificateRevokedException",
-              new Import[] {
-                new Import("CertificateRevokedException", "java.security.cert", false),
+              new String[] {
+                "java.security.cert.CertificateRevokedException",
               })
           .put(
               "isHighSurrogate",
-              new Import[] {
-                new Import("isHighSurrogate", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isHighSurrogate",
               })
           .put(
               "InternalFrameBorder",
-              new Import[] {
-                new Import("InternalFrameBorder", "javax.swing.plaf.metal.MetalBorders", false),
+              new String[] {
+                "javax.swing.plaf.metal.MetalBorders.InternalFrameBorder",
               })
           .put(
               "AudioFileFormat",
-              new Import[] {
-                new Import("AudioFileFormat", "javax.sound.sampled", false),
+              new String[] {
+                "javax.sound.sampled.AudioFileFormat",
               })
           .put(
               "InvalidTypeForEncoding",
-              new Import[] {
-                new Import("InvalidTypeForEncoding", "org.omg.IOP.CodecPackage", false),
+              new String[] {
+                "org.omg.IOP.CodecPackage.InvalidTypeForEncoding",
               })
           .put(
               "getSystemJavaCompiler",
-              new Import[] {
-                new Import("getSystemJavaCompiler", "javax.tools.ToolProvider", true),
+              new String[] {
+                "static javax.tools.ToolProvider.getSystemJavaCompiler",
               })
           .put(
               "OTHER_SYMBOL",
-              new Import[] {
-                new Import("OTHER_SYMBOL", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.OTHER_SYMBOL",
               })
           .put(
               "ClassCastException",
-              new Import[] {
-                new Import("ClassCastException", "java.lang", false),
+              new String[] {
+                "java.lang.ClassCastException",
               })
           .put(
               "ObjectReferenceTemplate",
-              new Import[] {
-                new Import("ObjectReferenceTemplate", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ObjectReferenceTemplate",
               })
           .put(
               "TargetedNotification",
-              new Import[] {
-                new Import("TargetedNotification", "javax.management.remote", false),
+              new String[] {
+                "javax.management.remote.TargetedNotification",
               })
           .put(
               "walk",
-              new Import[] {
-                new Import("walk", "java.nio.file.Files", true),
+              new String[] {
+                "static java.nio.file.Files.walk",
               })
           .put(
               "TAI_XUAN_JING_SYMBOLS",
-              new Import[] {
-                new Import("TAI_XUAN_JING_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.TAI_XUAN_JING_SYMBOLS",
               })
           .build();
 }
@@ -2,1670 +2,1634 @@
 package com.nikodoko.javaimports.stdlib.internal.api.v8;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
 
 public class Java8StdlibChunk9 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "CONTROL_DK_SHADOW",
-              new Import[] {
-                new Import("CONTROL_DK_SHADOW", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.CONTROL_DK_SHADOW",
               })
           .put(
               "SocketChannel",
-              new Import[] {
-                new Import("SocketChannel", "java.nio.channels", false),
+              new String[] {
+                "java.nio.channels.SocketChannel",
               })
           .put(
               "KeyFactorySpi",
-              new Import[] {
-                new Import("KeyFactorySpi", "java.security", false),
+              new String[] {
+                "java.security.KeyFactorySpi",
               })
           .put(
               "DHPublicKey",
-              new Import[] {
-                new Import("DHPublicKey", "javax.crypto.interfaces", false),
+              new String[] {
+                "javax.crypto.interfaces.DHPublicKey",
               })
           .put(
               "Size",
-              new Import[] {
-                new Import("Size", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.Size",
               })
           .put(
               "IMAGE_OK",
-              new Import[] {
-                new Import("IMAGE_OK", "java.awt.image.VolatileImage", true),
+              new String[] {
+                "static java.awt.image.VolatileImage.IMAGE_OK",
               })
           .put(
               "CENLEN",
-              new Import[] {
-                new Import("CENLEN", "java.util.jar.JarEntry", true),
-                new Import("CENLEN", "java.util.jar.JarFile", true),
-                new Import("CENLEN", "java.util.jar.JarInputStream", true),
-                new Import("CENLEN", "java.util.jar.JarOutputStream", true),
-                new Import("CENLEN", "java.util.zip.ZipEntry", true),
-                new Import("CENLEN", "java.util.zip.ZipFile", true),
-                new Import("CENLEN", "java.util.zip.ZipInputStream", true),
-                new Import("CENLEN", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.CENLEN",
+                "static java.util.jar.JarFile.CENLEN",
+                "static java.util.jar.JarInputStream.CENLEN",
+                "static java.util.jar.JarOutputStream.CENLEN",
+                "static java.util.zip.ZipEntry.CENLEN",
+                "static java.util.zip.ZipFile.CENLEN",
+                "static java.util.zip.ZipInputStream.CENLEN",
+                "static java.util.zip.ZipOutputStream.CENLEN",
               })
           .put(
               "TRUETYPE_FONT",
-              new Import[] {
-                new Import("TRUETYPE_FONT", "java.awt.Font", true),
+              new String[] {
+                "static java.awt.Font.TRUETYPE_FONT",
               })
           .put(
               "getUrlEncoder",
-              new Import[] {
-                new Import("getUrlEncoder", "java.util.Base64", true),
+              new String[] {
+                "static java.util.Base64.getUrlEncoder",
               })
           .put(
               "XmlElements",
-              new Import[] {
-                new Import("XmlElements", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlElements",
               })
           .put(
               "DropTargetListener",
-              new Import[] {
-                new Import("DropTargetListener", "java.awt.dnd", false),
+              new String[] {
+                "java.awt.dnd.DropTargetListener",
               })
           .put(
               "inactiveCaption",
-              new Import[] {
-                new Import("inactiveCaption", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.inactiveCaption",
               })
           .put(
               "MAX_LOW_SURROGATE",
-              new Import[] {
-                new Import("MAX_LOW_SURROGATE", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.MAX_LOW_SURROGATE",
               })
           .put(
               "LeftIndent",
-              new Import[] {
-                new Import("LeftIndent", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.LeftIndent",
               })
           .put(
               "BLACK",
-              new Import[] {
-                new Import("BLACK", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.BLACK",
               })
           .put(
               "SynthInternalFrameUI",
-              new Import[] {
-                new Import("SynthInternalFrameUI", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthInternalFrameUI",
               })
           .put(
               "RenderContext",
-              new Import[] {
-                new Import("RenderContext", "java.awt.image.renderable", false),
+              new String[] {
+                "java.awt.image.renderable.RenderContext",
               })
           .put(
               "VK_HELP",
-              new Import[] {
-                new Import("VK_HELP", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_HELP",
               })
           .put(
               "UnicodeScript",
-              new Import[] {
-                new Import("UnicodeScript", "java.lang.Character", false),
+              new String[] {
+                "java.lang.Character.UnicodeScript",
               })
           .put(
               "CDATA_SECTION_NODE",
-              new Import[] {
-                new Import("CDATA_SECTION_NODE", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.CDATA_SECTION_NODE",
               })
           .put(
               "isUnicodeIdentifierPart",
-              new Import[] {
-                new Import("isUnicodeIdentifierPart", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isUnicodeIdentifierPart",
               })
           .put(
               "ValueMember",
-              new Import[] {
-                new Import("ValueMember", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.ValueMember",
               })
           .put(
               "Bounds",
-              new Import[] {
-                new Import("Bounds", "org.omg.CORBA", false),
-                new Import("Bounds", "org.omg.CORBA.TypeCodePackage", false),
+              new String[] {
+                "org.omg.CORBA.Bounds", "org.omg.CORBA.TypeCodePackage.Bounds",
               })
           .put(
               "EDGE_STITCH_LEFT",
-              new Import[] {
-                new Import("EDGE_STITCH_LEFT", "javax.print.attribute.standard.Finishings", true),
+              new String[] {
+                "static javax.print.attribute.standard.Finishings.EDGE_STITCH_LEFT",
               })
           .put(
               "DOMSTRING_SIZE_ERR",
-              new Import[] {
-                new Import("DOMSTRING_SIZE_ERR", "org.w3c.dom.DOMException", true),
+              new String[] {
+                "static org.w3c.dom.DOMException.DOMSTRING_SIZE_ERR",
               })
           .put(
               "TableModelListener",
-              new Import[] {
-                new Import("TableModelListener", "javax.swing.event", false),
+              new String[] {
+                "javax.swing.event.TableModelListener",
               })
           .put(
               "dk_Enum",
-              new Import[] {
-                new Import("dk_Enum", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind.dk_Enum",
               })
           .put(
               "CHECK_BOX",
-              new Import[] {
-                new Import("CHECK_BOX", "javax.accessibility.AccessibleRole", true),
-                new Import("CHECK_BOX", "javax.swing.plaf.synth.Region", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.CHECK_BOX",
+                "static javax.swing.plaf.synth.Region.CHECK_BOX",
               })
           .put(
               "XOR",
-              new Import[] {
-                new Import("XOR", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.XOR",
               })
           .put(
               "MidiDeviceProvider",
-              new Import[] {
-                new Import("MidiDeviceProvider", "javax.sound.midi.spi", false),
+              new String[] {
+                "javax.sound.midi.spi.MidiDeviceProvider",
               })
           .put(
               "XmlIDREF",
-              new Import[] {
-                new Import("XmlIDREF", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlIDREF",
               })
           .put(
               "_NON_RETAIN",
-              new Import[] {
-                new Import(
-                    "_NON_RETAIN", "org.omg.PortableServer.ServantRetentionPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.ServantRetentionPolicyValue._NON_RETAIN",
               })
           .put(
               "DAY_OF_YEAR",
-              new Import[] {
-                new Import("DAY_OF_YEAR", "java.text.DateFormat.Field", true),
-                new Import("DAY_OF_YEAR", "java.util.Calendar", true),
+              new String[] {
+                "static java.text.DateFormat.Field.DAY_OF_YEAR",
+                "static java.util.Calendar.DAY_OF_YEAR",
               })
           .put(
               "HTTPException",
-              new Import[] {
-                new Import("HTTPException", "javax.xml.ws.http", false),
+              new String[] {
+                "javax.xml.ws.http.HTTPException",
               })
           .put(
               "isLowerCase",
-              new Import[] {
-                new Import("isLowerCase", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isLowerCase",
               })
           .put(
               "OPERATING_SYSTEM_MXBEAN_NAME",
-              new Import[] {
-                new Import(
-                    "OPERATING_SYSTEM_MXBEAN_NAME", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.OPERATING_SYSTEM_MXBEAN_NAME",
               })
           .put(
               "MESSAGE_OUTBOUND_PROPERTY",
-              new Import[] {
-                new Import(
-                    "MESSAGE_OUTBOUND_PROPERTY", "javax.xml.ws.handler.MessageContext", true),
+              new String[] {
+                "static javax.xml.ws.handler.MessageContext.MESSAGE_OUTBOUND_PROPERTY",
               })
           .put(
               "setTabSet",
-              new Import[] {
-                new Import("setTabSet", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setTabSet",
               })
           .put(
               "CMMException",
-              new Import[] {
-                new Import("CMMException", "java.awt.color", false),
+              new String[] {
+                "java.awt.color.CMMException",
               })
           .put(
               "SerialStruct",
-              new Import[] {
-                new Import("SerialStruct", "javax.sql.rowset.serial", false),
+              new String[] {
+                "javax.sql.rowset.serial.SerialStruct",
               })
           .put(
               "ExpandVetoException",
-              new Import[] {
-                new Import("ExpandVetoException", "javax.swing.tree", false),
+              new String[] {
+                "javax.swing.tree.ExpandVetoException",
               })
           .put(
               "COMPLETED",
-              new Import[] {
-                new Import("COMPLETED", "javax.print.attribute.standard.JobState", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobState.COMPLETED",
               })
           .put(
               "QUARTER_YEARS",
-              new Import[] {
-                new Import("QUARTER_YEARS", "java.time.temporal.IsoFields", true),
+              new String[] {
+                "static java.time.temporal.IsoFields.QUARTER_YEARS",
               })
           .put(
               "XML_DTD_NS_URI",
-              new Import[] {
-                new Import("XML_DTD_NS_URI", "javax.xml.XMLConstants", true),
+              new String[] {
+                "static javax.xml.XMLConstants.XML_DTD_NS_URI",
               })
           .put(
               "Deprecated",
-              new Import[] {
-                new Import("Deprecated", "java.lang", false),
+              new String[] {
+                "java.lang.Deprecated",
               })
           .put(
               "INPUT_VALUE_PROPERTY",
-              new Import[] {
-                new Import("INPUT_VALUE_PROPERTY", "javax.swing.JOptionPane", true),
+              new String[] {
+                "static javax.swing.JOptionPane.INPUT_VALUE_PROPERTY",
               })
           .put(
               "SCROLLBARS_ALWAYS",
-              new Import[] {
-                new Import("SCROLLBARS_ALWAYS", "java.awt.ScrollPane", true),
+              new String[] {
+                "static java.awt.ScrollPane.SCROLLBARS_ALWAYS",
               })
           .put(
               "DOCUMENT_POSITION_FOLLOWING",
-              new Import[] {
-                new Import("DOCUMENT_POSITION_FOLLOWING", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.DOCUMENT_POSITION_FOLLOWING",
               })
           .put(
               "VK_WINDOWS",
-              new Import[] {
-                new Import("VK_WINDOWS", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_WINDOWS",
               })
           .put(
               "ModelMBeanInfoSupport",
-              new Import[] {
-                new Import("ModelMBeanInfoSupport", "javax.management.modelmbean", false),
+              new String[] {
+                "javax.management.modelmbean.ModelMBeanInfoSupport",
               })
           .put(
               "SRC_OUT",
-              new Import[] {
-                new Import("SRC_OUT", "java.awt.AlphaComposite", true),
+              new String[] {
+                "static java.awt.AlphaComposite.SRC_OUT",
               })
           .put(
               "getSurplusQueuedTaskCount",
-              new Import[] {
-                new Import("getSurplusQueuedTaskCount", "java.util.concurrent.ForkJoinTask", true),
+              new String[] {
+                "static java.util.concurrent.ForkJoinTask.getSurplusQueuedTaskCount",
               })
           .put(
               "PersistentMBean",
-              new Import[] {
-                new Import("PersistentMBean", "javax.management", false),
+              new String[] {
+                "javax.management.PersistentMBean",
               })
           .put(
               "CODETYPE",
-              new Import[] {
-                new Import("CODETYPE", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.CODETYPE",
               })
           .put(
               "Window",
-              new Import[] {
-                new Import("Window", "java.awt", false),
+              new String[] {
+                "java.awt.Window",
               })
           .put(
               "PHAGS_PA",
-              new Import[] {
-                new Import("PHAGS_PA", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.PHAGS_PA",
               })
           .put(
               "FLOWS_FROM_PROPERTY",
-              new Import[] {
-                new Import("FLOWS_FROM_PROPERTY", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.FLOWS_FROM_PROPERTY",
               })
           .put(
               "OBSERVED_ATTRIBUTE_TYPE_ERROR",
-              new Import[] {
-                new Import(
-                    "OBSERVED_ATTRIBUTE_TYPE_ERROR",
-                    "javax.management.monitor.MonitorNotification",
-                    true),
+              new String[] {
+                "static javax.management.monitor.MonitorNotification.OBSERVED_ATTRIBUTE_TYPE_ERROR",
               })
           .put(
               "MAIN_UIROLE",
-              new Import[] {
-                new Import("MAIN_UIROLE", "javax.print.ServiceUIFactory", true),
+              new String[] {
+                "static javax.print.ServiceUIFactory.MAIN_UIROLE",
               })
           .put(
               "TYPE_BILINEAR",
-              new Import[] {
-                new Import("TYPE_BILINEAR", "java.awt.image.AffineTransformOp", true),
+              new String[] {
+                "static java.awt.image.AffineTransformOp.TYPE_BILINEAR",
               })
           .put(
               "invokeAll",
-              new Import[] {
-                new Import("invokeAll", "java.util.concurrent.ForkJoinTask", true),
+              new String[] {
+                "static java.util.concurrent.ForkJoinTask.invokeAll",
               })
           .put(
               "DoubleSeqHolder",
-              new Import[] {
-                new Import("DoubleSeqHolder", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.DoubleSeqHolder",
               })
           .put(
               "_tk_float",
-              new Import[] {
-                new Import("_tk_float", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_float",
               })
           .put(
               "Connection",
-              new Import[] {
-                new Import("Connection", "java.sql", false),
+              new String[] {
+                "java.sql.Connection",
               })
           .put(
               "ENGINE",
-              new Import[] {
-                new Import("ENGINE", "javax.script.ScriptEngine", true),
+              new String[] {
+                "static javax.script.ScriptEngine.ENGINE",
               })
           .put(
               "refresh",
-              new Import[] {
-                new Import("refresh", "java.time.zone.ZoneRulesProvider", true),
+              new String[] {
+                "static java.time.zone.ZoneRulesProvider.refresh",
               })
           .put(
               "FOOTER",
-              new Import[] {
-                new Import("FOOTER", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.FOOTER",
               })
           .put(
               "ZipException",
-              new Import[] {
-                new Import("ZipException", "java.util.zip", false),
+              new String[] {
+                "java.util.zip.ZipException",
               })
           .put(
               "INTERVAL_REMOVED",
-              new Import[] {
-                new Import("INTERVAL_REMOVED", "javax.swing.event.ListDataEvent", true),
+              new String[] {
+                "static javax.swing.event.ListDataEvent.INTERVAL_REMOVED",
               })
           .put(
               "USE_DEFAULT_SERVANT",
-              new Import[] {
-                new Import(
-                    "USE_DEFAULT_SERVANT",
-                    "org.omg.PortableServer.RequestProcessingPolicyValue",
-                    true),
+              new String[] {
+                "static org.omg.PortableServer.RequestProcessingPolicyValue.USE_DEFAULT_SERVANT",
               })
           .put(
               "ModelMBeanConstructorInfo",
-              new Import[] {
-                new Import("ModelMBeanConstructorInfo", "javax.management.modelmbean", false),
+              new String[] {
+                "javax.management.modelmbean.ModelMBeanConstructorInfo",
               })
           .put(
               "ScheduledFuture",
-              new Import[] {
-                new Import("ScheduledFuture", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ScheduledFuture",
               })
           .put(
               "RFC1779",
-              new Import[] {
-                new Import("RFC1779", "javax.security.auth.x500.X500Principal", true),
+              new String[] {
+                "static javax.security.auth.x500.X500Principal.RFC1779",
               })
           .put(
               "MODE_DISABLED",
-              new Import[] {
-                new Import("MODE_DISABLED", "javax.imageio.ImageWriteParam", true),
+              new String[] {
+                "static javax.imageio.ImageWriteParam.MODE_DISABLED",
               })
           .put(
               "TEXT_CURSOR",
-              new Import[] {
-                new Import("TEXT_CURSOR", "java.awt.Cursor", true),
-                new Import("TEXT_CURSOR", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Cursor.TEXT_CURSOR", "static java.awt.Frame.TEXT_CURSOR",
               })
           .put(
               "SafeVarargs",
-              new Import[] {
-                new Import("SafeVarargs", "java.lang", false),
+              new String[] {
+                "java.lang.SafeVarargs",
               })
           .put(
               "setRightIndent",
-              new Import[] {
-                new Import("setRightIndent", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.setRightIndent",
               })
           .put(
               "W_RESIZE_CURSOR",
-              new Import[] {
-                new Import("W_RESIZE_CURSOR", "java.awt.Cursor", true),
-                new Import("W_RESIZE_CURSOR", "java.awt.Frame", true),
+              new String[] {
+                "static java.awt.Cursor.W_RESIZE_CURSOR", "static java.awt.Frame.W_RESIZE_CURSOR",
               })
           .put(
               "StringBuffer",
-              new Import[] {
-                new Import("StringBuffer", "java.lang", false),
+              new String[] {
+                "java.lang.StringBuffer",
               })
           .put(
               "SynthGraphicsUtils",
-              new Import[] {
-                new Import("SynthGraphicsUtils", "javax.swing.plaf.synth", false),
+              new String[] {
+                "javax.swing.plaf.synth.SynthGraphicsUtils",
               })
           .put(
               "DoubleConsumer",
-              new Import[] {
-                new Import("DoubleConsumer", "java.util.function", false),
+              new String[] {
+                "java.util.function.DoubleConsumer",
               })
           .put(
               "XA_RBROLLBACK",
-              new Import[] {
-                new Import("XA_RBROLLBACK", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_RBROLLBACK",
               })
           .put(
               "CharArrayReader",
-              new Import[] {
-                new Import("CharArrayReader", "java.io", false),
+              new String[] {
+                "java.io.CharArrayReader",
               })
           .put(
               "isIdeographic",
-              new Import[] {
-                new Import("isIdeographic", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.isIdeographic",
               })
           .put(
               "NoClassDefFoundError",
-              new Import[] {
-                new Import("NoClassDefFoundError", "java.lang", false),
+              new String[] {
+                "java.lang.NoClassDefFoundError",
               })
           .put(
               "addAll",
-              new Import[] {
-                new Import("addAll", "java.util.Collections", true),
+              new String[] {
+                "static java.util.Collections.addAll",
               })
           .put(
               "REQUISITE",
-              new Import[] {
-                new Import(
-                    "REQUISITE",
-                    "javax.security.auth.login.AppConfigurationEntry.LoginModuleControlFlag",
-                    true),
+              new String[] {
+                "static"
+                    + " javax.security.auth.login.AppConfigurationEntry.LoginModuleControlFlag.REQUISITE",
               })
           .put(
               "CANCEL",
-              new Import[] {
-                new Import("CANCEL", "javax.security.auth.callback.ConfirmationCallback", true),
+              new String[] {
+                "static javax.security.auth.callback.ConfirmationCallback.CANCEL",
               })
           .put(
               "HANJA",
-              new Import[] {
-                new Import("HANJA", "java.awt.im.InputSubset", true),
+              new String[] {
+                "static java.awt.im.InputSubset.HANJA",
               })
           .put(
               "ANCESTOR_MOVED",
-              new Import[] {
-                new Import("ANCESTOR_MOVED", "java.awt.event.HierarchyEvent", true),
-                new Import("ANCESTOR_MOVED", "javax.swing.event.AncestorEvent", true),
+              new String[] {
+                "static java.awt.event.HierarchyEvent.ANCESTOR_MOVED",
+                "static javax.swing.event.AncestorEvent.ANCESTOR_MOVED",
               })
           .put(
               "RULER",
-              new Import[] {
-                new Import("RULER", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.RULER",
               })
           .put(
               "TT_EOL",
-              new Import[] {
-                new Import("TT_EOL", "java.io.StreamTokenizer", true),
+              new String[] {
+                "static java.io.StreamTokenizer.TT_EOL",
               })
           .put(
               "CustomMarshal",
-              new Import[] {
-                new Import("CustomMarshal", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.CustomMarshal",
               })
           .put(
               "INV_POLICY",
-              new Import[] {
-                new Import("INV_POLICY", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.INV_POLICY",
               })
           .put(
               "NOTATION_NODE",
-              new Import[] {
-                new Import("NOTATION_NODE", "org.w3c.dom.Node", true),
+              new String[] {
+                "static org.w3c.dom.Node.NOTATION_NODE",
               })
           .put(
               "CONTROL_FACTORIES",
-              new Import[] {
-                new Import("CONTROL_FACTORIES", "javax.naming.ldap.LdapContext", true),
+              new String[] {
+                "static javax.naming.ldap.LdapContext.CONTROL_FACTORIES",
               })
           .put(
               "LEAD_THICKLINE",
-              new Import[] {
-                new Import("LEAD_THICKLINE", "javax.swing.text.TabStop", true),
+              new String[] {
+                "static javax.swing.text.TabStop.LEAD_THICKLINE",
               })
           .put(
               "FileSystemView",
-              new Import[] {
-                new Import("FileSystemView", "javax.swing.filechooser", false),
+              new String[] {
+                "javax.swing.filechooser.FileSystemView",
               })
           .put(
               "VERTICAL_SCROLLBAR_POLICY",
-              new Import[] {
-                new Import("VERTICAL_SCROLLBAR_POLICY", "javax.swing.ScrollPaneConstants", true),
+              new String[] {
+                "static javax.swing.ScrollPaneConstants.VERTICAL_SCROLLBAR_POLICY",
               })
           .put(
               "FileVisitOption",
-              new Import[] {
-                new Import("FileVisitOption", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.FileVisitOption",
               })
           .put(
               "TAG_GASP",
-              new Import[] {
-                new Import("TAG_GASP", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_GASP",
               })
           .put(
               "ALERT",
-              new Import[] {
-                new Import("ALERT", "javax.accessibility.AccessibleRole", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRole.ALERT",
               })
           .put(
               "icSigInputClass",
-              new Import[] {
-                new Import("icSigInputClass", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icSigInputClass",
               })
           .put(
               "TRADITIONAL_CHINESE",
-              new Import[] {
-                new Import("TRADITIONAL_CHINESE", "java.util.Locale", true),
+              new String[] {
+                "static java.util.Locale.TRADITIONAL_CHINESE",
               })
           .put(
               "PrintException",
-              new Import[] {
-                new Import("PrintException", "javax.print", false),
+              new String[] {
+                "javax.print.PrintException",
               })
           .put(
               "OPTIONAL",
-              new Import[] {
-                new Import(
-                    "OPTIONAL",
-                    "javax.security.auth.login.AppConfigurationEntry.LoginModuleControlFlag",
-                    true),
+              new String[] {
+                "static"
+                    + " javax.security.auth.login.AppConfigurationEntry.LoginModuleControlFlag.OPTIONAL",
               })
           .put(
               "REF_putStatic",
-              new Import[] {
-                new Import("REF_putStatic", "java.lang.invoke.MethodHandleInfo", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandleInfo.REF_putStatic",
               })
           .put(
               "getModifiersExText",
-              new Import[] {
-                new Import("getModifiersExText", "java.awt.event.InputEvent", true),
+              new String[] {
+                "static java.awt.event.InputEvent.getModifiersExText",
               })
           .put(
               "PrinterAbortException",
-              new Import[] {
-                new Import("PrinterAbortException", "java.awt.print", false),
+              new String[] {
+                "java.awt.print.PrinterAbortException",
               })
           .put(
               "summingDouble",
-              new Import[] {
-                new Import("summingDouble", "java.util.stream.Collectors", true),
+              new String[] {
+                "static java.util.stream.Collectors.summingDouble",
               })
           .put(
               "createSaslClient",
-              new Import[] {
-                new Import("createSaslClient", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.createSaslClient",
               })
           .put(
               "ARCHIVE",
-              new Import[] {
-                new Import("ARCHIVE", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.ARCHIVE",
               })
           .put(
               "TYPE_UNDEFINED",
-              new Import[] {
-                new Import("TYPE_UNDEFINED", "java.awt.image.DataBuffer", true),
+              new String[] {
+                "static java.awt.image.DataBuffer.TYPE_UNDEFINED",
               })
           .put(
               "FilterBypass",
-              new Import[] {
-                new Import("FilterBypass", "javax.swing.text.DocumentFilter", false),
-                new Import("FilterBypass", "javax.swing.text.NavigationFilter", false),
+              new String[] {
+                "javax.swing.text.DocumentFilter.FilterBypass",
+                "javax.swing.text.NavigationFilter.FilterBypass",
               })
           .put(
               "CS_sRGB",
-              new Import[] {
-                new Import("CS_sRGB", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.CS_sRGB",
               })
           .put(
               "BasicColorChooserUI",
-              new Import[] {
-                new Import("BasicColorChooserUI", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicColorChooserUI",
               })
           .put(
               "REPLACE",
-              new Import[] {
-                new Import("REPLACE", "java.nio.charset.CodingErrorAction", true),
+              new String[] {
+                "static java.nio.charset.CodingErrorAction.REPLACE",
               })
           .put(
               "TYPE_FLOAT",
-              new Import[] {
-                new Import("TYPE_FLOAT", "java.awt.image.DataBuffer", true),
+              new String[] {
+                "static java.awt.image.DataBuffer.TYPE_FLOAT",
               })
           .put(
               "INTEGER",
-              new Import[] {
-                new Import("INTEGER", "java.sql.Types", true),
-                new Import("INTEGER", "java.text.NumberFormat.Field", true),
-                new Import("INTEGER", "javax.management.openmbean.SimpleType", true),
+              new String[] {
+                "static java.sql.Types.INTEGER",
+                "static java.text.NumberFormat.Field.INTEGER",
+                "static javax.management.openmbean.SimpleType.INTEGER",
               })
           .put(
               "AbstractUnmarshallerImpl",
-              new Import[] {
-                new Import("AbstractUnmarshallerImpl", "javax.xml.bind.helpers", false),
+              new String[] {
+                "javax.xml.bind.helpers.AbstractUnmarshallerImpl",
               })
           .put(
               "adapt",
-              new Import[] {
-                new Import("adapt", "java.util.concurrent.ForkJoinTask", true),
+              new String[] {
+                "static java.util.concurrent.ForkJoinTask.adapt",
               })
           .put(
               "XSLTTransformParameterSpec",
-              new Import[] {
-                new Import("XSLTTransformParameterSpec", "javax.xml.crypto.dsig.spec", false),
+              new String[] {
+                "javax.xml.crypto.dsig.spec.XSLTTransformParameterSpec",
               })
           .put(
               "getCacheDirectory",
-              new Import[] {
-                new Import("getCacheDirectory", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.getCacheDirectory",
               })
           .put(
               "XmlReader",
-              new Import[] {
-                new Import("XmlReader", "javax.sql.rowset.spi", false),
+              new String[] {
+                "javax.sql.rowset.spi.XmlReader",
               })
           .put(
               "setCacheDirectory",
-              new Import[] {
-                new Import("setCacheDirectory", "javax.imageio.ImageIO", true),
+              new String[] {
+                "static javax.imageio.ImageIO.setCacheDirectory",
               })
           .put(
               "TAG_BASE",
-              new Import[] {
-                new Import("TAG_BASE", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_BASE",
               })
           .put(
               "URISyntax",
-              new Import[] {
-                new Import("URISyntax", "javax.print.attribute", false),
+              new String[] {
+                "javax.print.attribute.URISyntax",
               })
           .put(
               "ClosedDirectoryStreamException",
-              new Import[] {
-                new Import("ClosedDirectoryStreamException", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.ClosedDirectoryStreamException",
               })
           .put(
               "DUPLICATE_TOKEN",
-              new Import[] {
-                new Import("DUPLICATE_TOKEN", "org.ietf.jgss.GSSException", true),
+              new String[] {
+                "static org.ietf.jgss.GSSException.DUPLICATE_TOKEN",
               })
           .put(
               "URI_SOAP_ACTOR_NEXT",
-              new Import[] {
-                new Import("URI_SOAP_ACTOR_NEXT", "javax.xml.soap.SOAPConstants", true),
+              new String[] {
+                "static javax.xml.soap.SOAPConstants.URI_SOAP_ACTOR_NEXT",
               })
           .put(
               "TT_EOF",
-              new Import[] {
-                new Import("TT_EOF", "java.io.StreamTokenizer", true),
+              new String[] {
+                "static java.io.StreamTokenizer.TT_EOF",
               })
           .put(
               "CONTROL",
-              new Import[] {
-                new Import("CONTROL", "java.awt.SystemColor", true),
-                new Import("CONTROL", "java.lang.Character", true),
+              new String[] {
+                "static java.awt.SystemColor.CONTROL", "static java.lang.Character.CONTROL",
               })
           .put(
               "CAP_BUTT",
-              new Import[] {
-                new Import("CAP_BUTT", "java.awt.BasicStroke", true),
+              new String[] {
+                "static java.awt.BasicStroke.CAP_BUTT",
               })
           .put(
               "URLStringHelper",
-              new Import[] {
-                new Import("URLStringHelper", "org.omg.CosNaming.NamingContextExtPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextExtPackage.URLStringHelper",
               })
           .put(
               "ACCESSIBLE_COMPONENT_BOUNDS_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_COMPONENT_BOUNDS_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
+              new String[] {
+                "static javax.accessibility.AccessibleContext.ACCESSIBLE_COMPONENT_BOUNDS_CHANGED",
               })
           .put(
               "versionColumnUnknown",
-              new Import[] {
-                new Import("versionColumnUnknown", "java.sql.DatabaseMetaData", true),
+              new String[] {
+                "static java.sql.DatabaseMetaData.versionColumnUnknown",
               })
           .put(
               "MidiChannel",
-              new Import[] {
-                new Import("MidiChannel", "javax.sound.midi", false),
+              new String[] {
+                "javax.sound.midi.MidiChannel",
               })
           .put(
               "multiplyExact",
-              new Import[] {
-                new Import("multiplyExact", "java.lang.Math", true),
-                new Import("multiplyExact", "java.lang.StrictMath", true),
+              new String[] {
+                "static java.lang.Math.multiplyExact", "static java.lang.StrictMath.multiplyExact",
               })
           .put(
               "_dk_Exception",
-              new Import[] {
-                new Import("_dk_Exception", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_Exception",
               })
           .put(
               "SEALED",
-              new Import[] {
-                new Import("SEALED", "java.util.jar.Attributes.Name", true),
+              new String[] {
+                "static java.util.jar.Attributes.Name.SEALED",
               })
           .put(
               "DefaultMoveNoDrop",
-              new Import[] {
-                new Import("DefaultMoveNoDrop", "java.awt.dnd.DragSource", true),
+              new String[] {
+                "static java.awt.dnd.DragSource.DefaultMoveNoDrop",
               })
           .put(
               "RELATION_BASIC_CREATION",
-              new Import[] {
-                new Import(
-                    "RELATION_BASIC_CREATION",
-                    "javax.management.relation.RelationNotification",
-                    true),
+              new String[] {
+                "static javax.management.relation.RelationNotification.RELATION_BASIC_CREATION",
               })
           .put(
               "_tk_double",
-              new Import[] {
-                new Import("_tk_double", "org.omg.CORBA.TCKind", true),
+              new String[] {
+                "static org.omg.CORBA.TCKind._tk_double",
               })
           .put(
               "beginAction",
-              new Import[] {
-                new Import("beginAction", "javax.swing.text.DefaultEditorKit", true),
+              new String[] {
+                "static javax.swing.text.DefaultEditorKit.beginAction",
               })
           .put(
               "TYPE_9CLR",
-              new Import[] {
-                new Import("TYPE_9CLR", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_9CLR",
               })
           .put(
               "RMIConnection",
-              new Import[] {
-                new Import("RMIConnection", "javax.management.remote.rmi", false),
+              new String[] {
+                "javax.management.remote.rmi.RMIConnection",
               })
           .put(
               "ThreadLocalRandom",
-              new Import[] {
-                new Import("ThreadLocalRandom", "java.util.concurrent", false),
+              new String[] {
+                "java.util.concurrent.ThreadLocalRandom",
               })
           .put(
               "emptyDoubleSpliterator",
-              new Import[] {
-                new Import("emptyDoubleSpliterator", "java.util.Spliterators", true),
+              new String[] {
+                "static java.util.Spliterators.emptyDoubleSpliterator",
               })
           .put(
               "copyObject",
-              new Import[] {
-                new Import("copyObject", "javax.rmi.CORBA.Util", true),
+              new String[] {
+                "static javax.rmi.CORBA.Util.copyObject",
               })
           .put(
               "SHUTDOWN",
-              new Import[] {
-                new Import("SHUTDOWN", "javax.print.attribute.standard.PrinterStateReason", true),
+              new String[] {
+                "static javax.print.attribute.standard.PrinterStateReason.SHUTDOWN",
               })
           .put(
               "ALLOCATOR",
-              new Import[] {
-                new Import("ALLOCATOR", "javax.xml.stream.XMLInputFactory", true),
+              new String[] {
+                "static javax.xml.stream.XMLInputFactory.ALLOCATOR",
               })
           .put(
               "getRoot",
-              new Import[] {
-                new Import("getRoot", "javax.swing.SwingUtilities", true),
+              new String[] {
+                "static javax.swing.SwingUtilities.getRoot",
               })
           .put(
               "WindowFocusListener",
-              new Import[] {
-                new Import("WindowFocusListener", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.WindowFocusListener",
               })
           .put(
               "TYPE_DCLR",
-              new Import[] {
-                new Import("TYPE_DCLR", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.TYPE_DCLR",
               })
           .put(
               "OLD_ITALIC",
-              new Import[] {
-                new Import("OLD_ITALIC", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.OLD_ITALIC",
               })
           .put(
               "AsynchronousCompletionTask",
-              new Import[] {
-                new Import(
-                    "AsynchronousCompletionTask", "java.util.concurrent.CompletableFuture", false),
+              new String[] {
+                "java.util.concurrent.CompletableFuture.AsynchronousCompletionTask",
               })
           .put(
               "DEFAULT_POSITION",
-              new Import[] {
-                new Import("DEFAULT_POSITION", "javax.swing.border.TitledBorder", true),
+              new String[] {
+                "static javax.swing.border.TitledBorder.DEFAULT_POSITION",
               })
           .put(
               "ETHIOPIC",
-              new Import[] {
-                new Import("ETHIOPIC", "java.awt.font.NumericShaper", true),
-                new Import("ETHIOPIC", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.awt.font.NumericShaper.ETHIOPIC",
+                "static java.lang.Character.UnicodeBlock.ETHIOPIC",
               })
           .put(
               "DocumentType",
-              new Import[] {
-                new Import("DocumentType", "org.w3c.dom", false),
+              new String[] {
+                "org.w3c.dom.DocumentType",
               })
           .put(
               "CLASS_NAMEDCOLOR",
-              new Import[] {
-                new Import("CLASS_NAMEDCOLOR", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.CLASS_NAMEDCOLOR",
               })
           .put(
               "CONTROLLED_BY",
-              new Import[] {
-                new Import("CONTROLLED_BY", "javax.accessibility.AccessibleRelation", true),
+              new String[] {
+                "static javax.accessibility.AccessibleRelation.CONTROLLED_BY",
               })
           .put(
               "GREEN",
-              new Import[] {
-                new Import("GREEN", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.GREEN",
               })
           .put(
               "UnsupportedFlavorException",
-              new Import[] {
-                new Import("UnsupportedFlavorException", "java.awt.datatransfer", false),
+              new String[] {
+                "java.awt.datatransfer.UnsupportedFlavorException",
               })
           .put(
               "HttpRetryException",
-              new Import[] {
-                new Import("HttpRetryException", "java.net", false),
+              new String[] {
+                "java.net.HttpRetryException",
               })
           .put(
               "GREEK",
-              new Import[] {
-                new Import("GREEK", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.GREEK",
               })
           .put(
               "MIN_SURROGATE",
-              new Import[] {
-                new Import("MIN_SURROGATE", "java.lang.Character", true),
+              new String[] {
+                "static java.lang.Character.MIN_SURROGATE",
               })
           .put(
               "TitledBorderUIResource",
-              new Import[] {
-                new Import("TitledBorderUIResource", "javax.swing.plaf.BorderUIResource", false),
+              new String[] {
+                "javax.swing.plaf.BorderUIResource.TitledBorderUIResource",
               })
           .put(
               "BeanContextMembershipEvent",
-              new Import[] {
-                new Import("BeanContextMembershipEvent", "java.beans.beancontext", false),
+              new String[] {
+                "java.beans.beancontext.BeanContextMembershipEvent",
               })
           .put(
               "KHMER_SYMBOLS",
-              new Import[] {
-                new Import("KHMER_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.KHMER_SYMBOLS",
               })
           .put(
               "updateRenderer",
-              new Import[] {
-                new Import("updateRenderer", "javax.swing.plaf.basic.BasicHTML", true),
+              new String[] {
+                "static javax.swing.plaf.basic.BasicHTML.updateRenderer",
               })
           .put(
               "createFont",
-              new Import[] {
-                new Import("createFont", "java.awt.Font", true),
+              new String[] {
+                "static java.awt.Font.createFont",
               })
           .put(
               "DateFormatProvider",
-              new Import[] {
-                new Import("DateFormatProvider", "java.text.spi", false),
+              new String[] {
+                "java.text.spi.DateFormatProvider",
               })
           .put(
               "MBeanServerConnection",
-              new Import[] {
-                new Import("MBeanServerConnection", "javax.management", false),
+              new String[] {
+                "javax.management.MBeanServerConnection",
               })
           .put(
               "CertificateRep",
-              new Import[] {
-                new Import("CertificateRep", "java.security.cert.Certificate", false),
+              new String[] {
+                "java.security.cert.Certificate.CertificateRep",
               })
           .put(
               "previousOrSame",
-              new Import[] {
-                new Import("previousOrSame", "java.time.temporal.TemporalAdjusters", true),
+              new String[] {
+                "static java.time.temporal.TemporalAdjusters.previousOrSame",
               })
           .put(
               "ElementKind",
-              new Import[] {
-                new Import("ElementKind", "javax.lang.model.element", false),
+              new String[] {
+                "javax.lang.model.element.ElementKind",
               })
           .put(
               "DefaultCopyNoDrop",
-              new Import[] {
-                new Import("DefaultCopyNoDrop", "java.awt.dnd.DragSource", true),
+              new String[] {
+                "static java.awt.dnd.DragSource.DefaultCopyNoDrop",
               })
           .put(
               "getPositionAbove",
-              new Import[] {
-                new Import("getPositionAbove", "javax.swing.text.Utilities", true),
+              new String[] {
+                "static javax.swing.text.Utilities.getPositionAbove",
               })
           .put(
               "STREAM_VERSION",
-              new Import[] {
-                new Import("STREAM_VERSION", "java.io.ObjectStreamConstants", true),
+              new String[] {
+                "static java.io.ObjectStreamConstants.STREAM_VERSION",
               })
           .put(
               "IP_TOS",
-              new Import[] {
-                new Import("IP_TOS", "java.net.SocketOptions", true),
-                new Import("IP_TOS", "java.net.StandardSocketOptions", true),
+              new String[] {
+                "static java.net.SocketOptions.IP_TOS",
+                "static java.net.StandardSocketOptions.IP_TOS",
               })
           .put(
               "DSA_TYPE",
-              new Import[] {
-                new Import("DSA_TYPE", "javax.xml.crypto.dsig.keyinfo.KeyValue", true),
+              new String[] {
+                "static javax.xml.crypto.dsig.keyinfo.KeyValue.DSA_TYPE",
               })
           .put(
               "CompositeData",
-              new Import[] {
-                new Import("CompositeData", "javax.management.openmbean", false),
+              new String[] {
+                "javax.management.openmbean.CompositeData",
               })
           .put(
               "LOCFLG",
-              new Import[] {
-                new Import("LOCFLG", "java.util.jar.JarEntry", true),
-                new Import("LOCFLG", "java.util.jar.JarFile", true),
-                new Import("LOCFLG", "java.util.jar.JarInputStream", true),
-                new Import("LOCFLG", "java.util.jar.JarOutputStream", true),
-                new Import("LOCFLG", "java.util.zip.ZipEntry", true),
-                new Import("LOCFLG", "java.util.zip.ZipFile", true),
-                new Import("LOCFLG", "java.util.zip.ZipInputStream", true),
-                new Import("LOCFLG", "java.util.zip.ZipOutputStream", true),
+              new String[] {
+                "static java.util.jar.JarEntry.LOCFLG",
+                "static java.util.jar.JarFile.LOCFLG",
+                "static java.util.jar.JarInputStream.LOCFLG",
+                "static java.util.jar.JarOutputStream.LOCFLG",
+                "static java.util.zip.ZipEntry.LOCFLG",
+                "static java.util.zip.ZipFile.LOCFLG",
+                "static java.util.zip.ZipInputStream.LOCFLG",
+                "static java.util.zip.ZipOutputStream.LOCFLG",
               })
           .put(
               "GCMParameterSpec",
-              new Import[] {
-                new Import("GCMParameterSpec", "javax.crypto.spec", false),
+              new String[] {
+                "javax.crypto.spec.GCMParameterSpec",
               })
           .put(
               "Scrollable",
-              new Import[] {
-                new Import("Scrollable", "javax.swing", false),
+              new String[] {
+                "javax.swing.Scrollable",
               })
           .put(
               "cyan",
-              new Import[] {
-                new Import("cyan", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.cyan",
               })
           .put(
               "FilePermission",
-              new Import[] {
-                new Import("FilePermission", "java.io", false),
+              new String[] {
+                "java.io.FilePermission",
               })
           .put(
               "FILES_ONLY",
-              new Import[] {
-                new Import("FILES_ONLY", "javax.swing.JFileChooser", true),
+              new String[] {
+                "static javax.swing.JFileChooser.FILES_ONLY",
               })
           .put(
               "DatagramPacket",
-              new Import[] {
-                new Import("DatagramPacket", "java.net", false),
+              new String[] {
+                "java.net.DatagramPacket",
               })
           .put(
               "XmlValue",
-              new Import[] {
-                new Import("XmlValue", "javax.xml.bind.annotation", false),
+              new String[] {
+                "javax.xml.bind.annotation.XmlValue",
               })
           .put(
               "XMLReaderAdapter",
-              new Import[] {
-                new Import("XMLReaderAdapter", "org.xml.sax.helpers", false),
+              new String[] {
+                "org.xml.sax.helpers.XMLReaderAdapter",
               })
           .put(
               "EmptyBorder",
-              new Import[] {
-                new Import("EmptyBorder", "javax.swing.border", false),
+              new String[] {
+                "javax.swing.border.EmptyBorder",
               })
           .put(
               "USE_ACTIVE_OBJECT_MAP_ONLY",
-              new Import[] {
-                new Import(
-                    "USE_ACTIVE_OBJECT_MAP_ONLY",
-                    "org.omg.PortableServer.RequestProcessingPolicyValue",
-                    true),
+              new String[] {
+                "static"
+                    + " org.omg.PortableServer.RequestProcessingPolicyValue.USE_ACTIVE_OBJECT_MAP_ONLY",
               })
           .put(
               "GetField",
-              new Import[] {
-                new Import("GetField", "java.io.ObjectInputStream", false),
+              new String[] {
+                "java.io.ObjectInputStream.GetField",
               })
           .put(
               "HSBtoRGB",
-              new Import[] {
-                new Import("HSBtoRGB", "java.awt.Color", true),
+              new String[] {
+                "static java.awt.Color.HSBtoRGB",
               })
           .put(
               "DefaultLinkNoDrop",
-              new Import[] {
-                new Import("DefaultLinkNoDrop", "java.awt.dnd.DragSource", true),
+              new String[] {
+                "static java.awt.dnd.DragSource.DefaultLinkNoDrop",
               })
           .put(
               "DEFAULT_VALUE_FIELD",
-              new Import[] {
-                new Import("DEFAULT_VALUE_FIELD", "javax.management.JMX", true),
+              new String[] {
+                "static javax.management.JMX.DEFAULT_VALUE_FIELD",
               })
           .put(
               "IIOMetadata",
-              new Import[] {
-                new Import("IIOMetadata", "javax.imageio.metadata", false),
+              new String[] {
+                "javax.imageio.metadata.IIOMetadata",
               })
           .put(
               "SHAPE",
-              new Import[] {
-                new Import("SHAPE", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.SHAPE",
               })
           .put(
               "ComponentEvent",
-              new Import[] {
-                new Import("ComponentEvent", "java.awt.event", false),
+              new String[] {
+                "java.awt.event.ComponentEvent",
               })
           .put(
               "getMixerInfo",
-              new Import[] {
-                new Import("getMixerInfo", "javax.sound.sampled.AudioSystem", true),
+              new String[] {
+                "static javax.sound.sampled.AudioSystem.getMixerInfo",
               })
           .put(
               "KAKU_1",
-              new Import[] {
-                new Import("KAKU_1", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.KAKU_1",
               })
           .put(
               "KAKU_2",
-              new Import[] {
-                new Import("KAKU_2", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.KAKU_2",
               })
           .put(
               "KAKU_0",
-              new Import[] {
-                new Import("KAKU_0", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.KAKU_0",
               })
           .put(
               "KAKU_5",
-              new Import[] {
-                new Import("KAKU_5", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.KAKU_5",
               })
           .put(
               "KerberosTicket",
-              new Import[] {
-                new Import("KerberosTicket", "javax.security.auth.kerberos", false),
+              new String[] {
+                "javax.security.auth.kerberos.KerberosTicket",
               })
           .put(
               "KAKU_6",
-              new Import[] {
-                new Import("KAKU_6", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.KAKU_6",
               })
           .put(
               "KAKU_3",
-              new Import[] {
-                new Import("KAKU_3", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.KAKU_3",
               })
           .put(
               "HONOR_DISPLAY_PROPERTIES",
-              new Import[] {
-                new Import("HONOR_DISPLAY_PROPERTIES", "javax.swing.JEditorPane", true),
+              new String[] {
+                "static javax.swing.JEditorPane.HONOR_DISPLAY_PROPERTIES",
               })
           .put(
               "KAKU_4",
-              new Import[] {
-                new Import("KAKU_4", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.KAKU_4",
               })
           .put(
               "JobMediaSheetsSupported",
-              new Import[] {
-                new Import("JobMediaSheetsSupported", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobMediaSheetsSupported",
               })
           .put(
               "KAKU_7",
-              new Import[] {
-                new Import("KAKU_7", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.KAKU_7",
               })
           .put(
               "KAKU_8",
-              new Import[] {
-                new Import("KAKU_8", "javax.print.attribute.standard.MediaSize.JIS", true),
+              new String[] {
+                "static javax.print.attribute.standard.MediaSize.JIS.KAKU_8",
               })
           .put(
               "OptionalDataException",
-              new Import[] {
-                new Import("OptionalDataException", "java.io", false),
+              new String[] {
+                "java.io.OptionalDataException",
               })
           .put(
               "ManagementFactory",
-              new Import[] {
-                new Import("ManagementFactory", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.ManagementFactory",
               })
           .put(
               "ZONE_OFFSET",
-              new Import[] {
-                new Import("ZONE_OFFSET", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.ZONE_OFFSET",
               })
           .put(
               "TAG_CVAR",
-              new Import[] {
-                new Import("TAG_CVAR", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_CVAR",
               })
           .put(
               "CompletionStatus",
-              new Import[] {
-                new Import("CompletionStatus", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.CompletionStatus",
               })
           .put(
               "InputSubset",
-              new Import[] {
-                new Import("InputSubset", "java.awt.im", false),
+              new String[] {
+                "java.awt.im.InputSubset",
               })
           .put(
               "JScrollPane",
-              new Import[] {
-                new Import("JScrollPane", "javax.swing", false),
+              new String[] {
+                "javax.swing.JScrollPane",
               })
           .put(
               "BasicComboBoxEditor",
-              new Import[] {
-                new Import("BasicComboBoxEditor", "javax.swing.plaf.basic", false),
+              new String[] {
+                "javax.swing.plaf.basic.BasicComboBoxEditor",
               })
           .put(
               "createXMLReader",
-              new Import[] {
-                new Import("createXMLReader", "org.xml.sax.helpers.XMLReaderFactory", true),
+              new String[] {
+                "static org.xml.sax.helpers.XMLReaderFactory.createXMLReader",
               })
           .put(
               "reverse",
-              new Import[] {
-                new Import("reverse", "java.lang.Integer", true),
-                new Import("reverse", "java.lang.Long", true),
-                new Import("reverse", "java.util.Collections", true),
+              new String[] {
+                "static java.lang.Integer.reverse",
+                "static java.lang.Long.reverse",
+                "static java.util.Collections.reverse",
               })
           .put(
               "getPercentInstance",
-              new Import[] {
-                new Import("getPercentInstance", "java.text.NumberFormat", true),
+              new String[] {
+                "static java.text.NumberFormat.getPercentInstance",
               })
           .put(
               "IORInterceptor_3_0Helper",
-              new Import[] {
-                new Import("IORInterceptor_3_0Helper", "org.omg.PortableInterceptor", false),
+              new String[] {
+                "org.omg.PortableInterceptor.IORInterceptor_3_0Helper",
               })
           .put(
               "OptionalDouble",
-              new Import[] {
-                new Import("OptionalDouble", "java.util", false),
+              new String[] {
+                "java.util.OptionalDouble",
               })
           .put(
               "getTranslateInstance",
-              new Import[] {
-                new Import("getTranslateInstance", "java.awt.geom.AffineTransform", true),
+              new String[] {
+                "static java.awt.geom.AffineTransform.getTranslateInstance",
               })
           .put(
               "KEY_LOCATION_RIGHT",
-              new Import[] {
-                new Import("KEY_LOCATION_RIGHT", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.KEY_LOCATION_RIGHT",
               })
           .put(
               "COMPLETED_MAYBE",
-              new Import[] {
-                new Import("COMPLETED_MAYBE", "org.omg.CORBA.CompletionStatus", true),
+              new String[] {
+                "static org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE",
               })
           .put(
               "_RETAIN",
-              new Import[] {
-                new Import("_RETAIN", "org.omg.PortableServer.ServantRetentionPolicyValue", true),
+              new String[] {
+                "static org.omg.PortableServer.ServantRetentionPolicyValue._RETAIN",
               })
           .put(
               "LongUnaryOperator",
-              new Import[] {
-                new Import("LongUnaryOperator", "java.util.function", false),
+              new String[] {
+                "java.util.function.LongUnaryOperator",
               })
           .put(
               "NotFoundHolder",
-              new Import[] {
-                new Import("NotFoundHolder", "org.omg.CosNaming.NamingContextPackage", false),
+              new String[] {
+                "org.omg.CosNaming.NamingContextPackage.NotFoundHolder",
               })
           .put(
               "CLASS_DEVICELINK",
-              new Import[] {
-                new Import("CLASS_DEVICELINK", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.CLASS_DEVICELINK",
               })
           .put(
               "VK_QUOTE",
-              new Import[] {
-                new Import("VK_QUOTE", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_QUOTE",
               })
           .put(
               "VOLATILE",
-              new Import[] {
-                new Import("VOLATILE", "java.lang.reflect.Modifier", true),
+              new String[] {
+                "static java.lang.reflect.Modifier.VOLATILE",
               })
           .put(
               "ForwardRequest",
-              new Import[] {
-                new Import("ForwardRequest", "org.omg.PortableInterceptor", false),
-                new Import("ForwardRequest", "org.omg.PortableServer", false),
+              new String[] {
+                "org.omg.PortableInterceptor.ForwardRequest",
+                "org.omg.PortableServer.ForwardRequest",
               })
           .put(
               "CLASS_LOADING_MXBEAN_NAME",
-              new Import[] {
-                new Import(
-                    "CLASS_LOADING_MXBEAN_NAME", "java.lang.management.ManagementFactory", true),
+              new String[] {
+                "static java.lang.management.ManagementFactory.CLASS_LOADING_MXBEAN_NAME",
               })
           .put(
               "StyledDocument",
-              new Import[] {
-                new Import("StyledDocument", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.StyledDocument",
               })
           .put(
               "SUBTREE_SCOPE",
-              new Import[] {
-                new Import("SUBTREE_SCOPE", "javax.naming.directory.SearchControls", true),
-                new Import("SUBTREE_SCOPE", "javax.naming.event.EventContext", true),
+              new String[] {
+                "static javax.naming.directory.SearchControls.SUBTREE_SCOPE",
+                "static javax.naming.event.EventContext.SUBTREE_SCOPE",
               })
           .put(
               "XPathVariableResolver",
-              new Import[] {
-                new Import("XPathVariableResolver", "javax.xml.xpath", false),
+              new String[] {
+                "javax.xml.xpath.XPathVariableResolver",
               })
           .put(
               "AbstractColorChooserPanel",
-              new Import[] {
-                new Import("AbstractColorChooserPanel", "javax.swing.colorchooser", false),
+              new String[] {
+                "javax.swing.colorchooser.AbstractColorChooserPanel",
               })
           .put(
               "CredentialException",
-              new Import[] {
-                new Import("CredentialException", "javax.security.auth.login", false),
+              new String[] {
+                "javax.security.auth.login.CredentialException",
               })
           .put(
               "TEXT_LAST",
-              new Import[] {
-                new Import("TEXT_LAST", "java.awt.event.TextEvent", true),
+              new String[] {
+                "static java.awt.event.TextEvent.TEXT_LAST",
               })
           .put(
               "controlHighlight",
-              new Import[] {
-                new Import("controlHighlight", "java.awt.SystemColor", true),
+              new String[] {
+                "static java.awt.SystemColor.controlHighlight",
               })
           .put(
               "PasswordView",
-              new Import[] {
-                new Import("PasswordView", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.PasswordView",
               })
           .put(
               "TagElement",
-              new Import[] {
-                new Import("TagElement", "javax.swing.text.html.parser", false),
+              new String[] {
+                "javax.swing.text.html.parser.TagElement",
               })
           .put(
               "KeySelectorException",
-              new Import[] {
-                new Import("KeySelectorException", "javax.xml.crypto", false),
+              new String[] {
+                "javax.xml.crypto.KeySelectorException",
               })
           .put(
               "KerberosPrincipal",
-              new Import[] {
-                new Import("KerberosPrincipal", "javax.security.auth.kerberos", false),
+              new String[] {
+                "javax.security.auth.kerberos.KerberosPrincipal",
               })
           .put(
               "XMLNS_ATTRIBUTE_NS_URI",
-              new Import[] {
-                new Import("XMLNS_ATTRIBUTE_NS_URI", "javax.xml.XMLConstants", true),
+              new String[] {
+                "static javax.xml.XMLConstants.XMLNS_ATTRIBUTE_NS_URI",
               })
           .put(
               "GIF",
-              new Import[] {
-                new Import("GIF", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("GIF", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("GIF", "javax.print.DocFlavor.URL", true),
+              new String[] {
+                "static javax.print.DocFlavor.BYTE_ARRAY.GIF",
+                "static javax.print.DocFlavor.INPUT_STREAM.GIF",
+                "static javax.print.DocFlavor.URL.GIF",
               })
           .put(
               "INTERFACE_CLASS_NAME_FIELD",
-              new Import[] {
-                new Import("INTERFACE_CLASS_NAME_FIELD", "javax.management.JMX", true),
+              new String[] {
+                "static javax.management.JMX.INTERFACE_CLASS_NAME_FIELD",
               })
           .put(
               "isSupported",
-              new Import[] {
-                new Import("isSupported", "java.awt.SystemTray", true),
-                new Import("isSupported", "java.nio.charset.Charset", true),
+              new String[] {
+                "static java.awt.SystemTray.isSupported",
+                "static java.nio.charset.Charset.isSupported",
               })
           .put(
               "_dk_String",
-              new Import[] {
-                new Import("_dk_String", "org.omg.CORBA.DefinitionKind", true),
+              new String[] {
+                "static org.omg.CORBA.DefinitionKind._dk_String",
               })
           .put(
               "nullsLast",
-              new Import[] {
-                new Import("nullsLast", "java.util.Comparator", true),
+              new String[] {
+                "static java.util.Comparator.nullsLast",
               })
           .put(
               "MemoryPoolMXBean",
-              new Import[] {
-                new Import("MemoryPoolMXBean", "java.lang.management", false),
+              new String[] {
+                "java.lang.management.MemoryPoolMXBean",
               })
           .put(
               "JobImpressionsCompleted",
-              new Import[] {
-                new Import("JobImpressionsCompleted", "javax.print.attribute.standard", false),
+              new String[] {
+                "javax.print.attribute.standard.JobImpressionsCompleted",
               })
           .put(
               "IDLTypeOperations",
-              new Import[] {
-                new Import("IDLTypeOperations", "org.omg.CORBA", false),
+              new String[] {
+                "org.omg.CORBA.IDLTypeOperations",
               })
           .put(
               "AEGEAN_NUMBERS",
-              new Import[] {
-                new Import("AEGEAN_NUMBERS", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.AEGEAN_NUMBERS",
               })
           .put(
               "ACTION_APPEND_AS_CHILDREN",
-              new Import[] {
-                new Import("ACTION_APPEND_AS_CHILDREN", "org.w3c.dom.ls.LSParser", true),
+              new String[] {
+                "static org.w3c.dom.ls.LSParser.ACTION_APPEND_AS_CHILDREN",
               })
           .put(
               "LOADING",
-              new Import[] {
-                new Import("LOADING", "java.awt.MediaTracker", true),
+              new String[] {
+                "static java.awt.MediaTracker.LOADING",
               })
           .put(
               "getSentenceInstance",
-              new Import[] {
-                new Import("getSentenceInstance", "java.text.BreakIterator", true),
+              new String[] {
+                "static java.text.BreakIterator.getSentenceInstance",
               })
           .put(
               "TransformerHandler",
-              new Import[] {
-                new Import("TransformerHandler", "javax.xml.transform.sax", false),
+              new String[] {
+                "javax.xml.transform.sax.TransformerHandler",
               })
           .put(
               "JRadioButton",
-              new Import[] {
-                new Import("JRadioButton", "javax.swing", false),
+              new String[] {
+                "javax.swing.JRadioButton",
               })
           .put(
               "FORWARD_TRAVERSAL_KEYS",
-              new Import[] {
-                new Import("FORWARD_TRAVERSAL_KEYS", "java.awt.KeyboardFocusManager", true),
+              new String[] {
+                "static java.awt.KeyboardFocusManager.FORWARD_TRAVERSAL_KEYS",
               })
           .put(
               "values",
-              new Import[] {
-                new Import("values", "java.awt.Component.BaselineResizeBehavior", true),
-                new Import("values", "java.awt.Desktop.Action", true),
-                new Import("values", "java.awt.Dialog.ModalExclusionType", true),
-                new Import("values", "java.awt.Dialog.ModalityType", true),
-                new Import("values", "java.awt.GraphicsDevice.WindowTranslucency", true),
-                new Import("values", "java.awt.MultipleGradientPaint.ColorSpaceType", true),
-                new Import("values", "java.awt.MultipleGradientPaint.CycleMethod", true),
-                new Import("values", "java.awt.TrayIcon.MessageType", true),
-                new Import("values", "java.awt.Window.Type", true),
-                new Import("values", "java.awt.font.NumericShaper.Range", true),
-                new Import("values", "java.lang.Character.UnicodeScript", true),
-                new Import("values", "java.lang.ProcessBuilder.Redirect.Type", true),
-                new Import("values", "java.lang.Thread.State", true),
-                new Import("values", "java.lang.annotation.ElementType", true),
-                new Import("values", "java.lang.annotation.RetentionPolicy", true),
-                new Import("values", "java.lang.management.MemoryType", true),
-                new Import("values", "java.math.RoundingMode", true),
-                new Import("values", "java.net.StandardProtocolFamily", true),
-                new Import("values", "java.net.Authenticator.RequestorType", true),
-                new Import("values", "java.net.Proxy.Type", true),
-                new Import("values", "java.nio.file.AccessMode", true),
-                new Import("values", "java.nio.file.FileVisitOption", true),
-                new Import("values", "java.nio.file.FileVisitResult", true),
-                new Import("values", "java.nio.file.LinkOption", true),
-                new Import("values", "java.nio.file.StandardCopyOption", true),
-                new Import("values", "java.nio.file.StandardOpenOption", true),
-                new Import("values", "java.nio.file.attribute.AclEntryFlag", true),
-                new Import("values", "java.nio.file.attribute.AclEntryPermission", true),
-                new Import("values", "java.nio.file.attribute.AclEntryType", true),
-                new Import("values", "java.nio.file.attribute.PosixFilePermission", true),
-                new Import("values", "java.security.CryptoPrimitive", true),
-                new Import("values", "java.security.KeyRep.Type", true),
-                new Import("values", "java.security.cert.CRLReason", true),
-                new Import("values", "java.security.cert.PKIXReason", true),
-                new Import(
-                    "values", "java.security.cert.CertPathValidatorException.BasicReason", true),
-                new Import("values", "java.security.cert.PKIXRevocationChecker.Option", true),
-                new Import("values", "java.sql.ClientInfoStatus", true),
-                new Import("values", "java.sql.JDBCType", true),
-                new Import("values", "java.sql.PseudoColumnUsage", true),
-                new Import("values", "java.sql.RowIdLifetime", true),
-                new Import("values", "java.text.Normalizer.Form", true),
-                new Import("values", "java.time.DayOfWeek", true),
-                new Import("values", "java.time.Month", true),
-                new Import("values", "java.time.chrono.HijrahEra", true),
-                new Import("values", "java.time.chrono.IsoEra", true),
-                new Import("values", "java.time.chrono.JapaneseEra", true),
-                new Import("values", "java.time.chrono.MinguoEra", true),
-                new Import("values", "java.time.chrono.ThaiBuddhistEra", true),
-                new Import("values", "java.time.format.FormatStyle", true),
-                new Import("values", "java.time.format.ResolverStyle", true),
-                new Import("values", "java.time.format.SignStyle", true),
-                new Import("values", "java.time.format.TextStyle", true),
-                new Import("values", "java.time.temporal.ChronoField", true),
-                new Import("values", "java.time.temporal.ChronoUnit", true),
-                new Import(
-                    "values", "java.time.zone.ZoneOffsetTransitionRule.TimeDefinition", true),
-                new Import("values", "java.util.Formatter.BigDecimalLayoutForm", true),
-                new Import("values", "java.util.Locale.Category", true),
-                new Import("values", "java.util.Locale.FilteringMode", true),
-                new Import("values", "java.util.concurrent.TimeUnit", true),
-                new Import("values", "java.util.stream.Collector.Characteristics", true),
-                new Import("values", "javax.annotation.Resource.AuthenticationType", true),
-                new Import("values", "javax.jws.WebParam.Mode", true),
-                new Import("values", "javax.jws.soap.SOAPBinding.ParameterStyle", true),
-                new Import("values", "javax.jws.soap.SOAPBinding.Style", true),
-                new Import("values", "javax.jws.soap.SOAPBinding.Use", true),
-                new Import("values", "javax.lang.model.SourceVersion", true),
-                new Import("values", "javax.lang.model.element.ElementKind", true),
-                new Import("values", "javax.lang.model.element.Modifier", true),
-                new Import("values", "javax.lang.model.element.NestingKind", true),
-                new Import("values", "javax.lang.model.type.TypeKind", true),
-                new Import("values", "javax.net.ssl.SSLEngineResult.HandshakeStatus", true),
-                new Import("values", "javax.net.ssl.SSLEngineResult.Status", true),
-                new Import("values", "javax.swing.DropMode", true),
-                new Import("values", "javax.swing.SortOrder", true),
-                new Import("values", "javax.swing.GroupLayout.Alignment", true),
-                new Import("values", "javax.swing.JTable.PrintMode", true),
-                new Import("values", "javax.swing.LayoutStyle.ComponentPlacement", true),
-                new Import("values", "javax.swing.RowFilter.ComparisonType", true),
-                new Import("values", "javax.swing.SwingWorker.StateValue", true),
-                new Import("values", "javax.swing.event.RowSorterEvent.Type", true),
-                new Import(
-                    "values",
-                    "javax.swing.plaf.nimbus.AbstractRegionPainter.PaintContext.CacheMode",
-                    true),
-                new Import("values", "javax.swing.text.html.FormSubmitEvent.MethodType", true),
-                new Import("values", "javax.tools.StandardLocation", true),
-                new Import("values", "javax.tools.Diagnostic.Kind", true),
-                new Import("values", "javax.tools.DocumentationTool.Location", true),
-                new Import("values", "javax.tools.JavaFileObject.Kind", true),
-                new Import("values", "javax.xml.bind.annotation.XmlAccessOrder", true),
-                new Import("values", "javax.xml.bind.annotation.XmlAccessType", true),
-                new Import("values", "javax.xml.bind.annotation.XmlNsForm", true),
-                new Import("values", "javax.xml.ws.Service.Mode", true),
-                new Import("values", "javax.xml.ws.handler.MessageContext.Scope", true),
-                new Import("values", "javax.xml.ws.soap.AddressingFeature.Responses", true),
+              new String[] {
+                "static java.awt.Component.BaselineResizeBehavior.values",
+                "static java.awt.Desktop.Action.values",
+                "static java.awt.Dialog.ModalExclusionType.values",
+                "static java.awt.Dialog.ModalityType.values",
+                "static java.awt.GraphicsDevice.WindowTranslucency.values",
+                "static java.awt.MultipleGradientPaint.ColorSpaceType.values",
+                "static java.awt.MultipleGradientPaint.CycleMethod.values",
+                "static java.awt.TrayIcon.MessageType.values",
+                "static java.awt.Window.Type.values",
+                "static java.awt.font.NumericShaper.Range.values",
+                "static java.lang.Character.UnicodeScript.values",
+                "static java.lang.ProcessBuilder.Redirect.Type.values",
+                "static java.lang.Thread.State.values",
+                "static java.lang.annotation.ElementType.values",
+                "static java.lang.annotation.RetentionPolicy.values",
+                "static java.lang.management.MemoryType.values",
+                "static java.math.RoundingMode.values",
+                "static java.net.StandardProtocolFamily.values",
+                "static java.net.Authenticator.RequestorType.values",
+                "static java.net.Proxy.Type.values",
+                "static java.nio.file.AccessMode.values",
+                "static java.nio.file.FileVisitOption.values",
+                "static java.nio.file.FileVisitResult.values",
+                "static java.nio.file.LinkOption.values",
+                "static java.nio.file.StandardCopyOption.values",
+                "static java.nio.file.StandardOpenOption.values",
+                "static java.nio.file.attribute.AclEntryFlag.values",
+                "static java.nio.file.attribute.AclEntryPermission.values",
+                "static java.nio.file.attribute.AclEntryType.values",
+                "static java.nio.file.attribute.PosixFilePermission.values",
+                "static java.security.CryptoPrimitive.values",
+                "static java.security.KeyRep.Type.values",
+                "static java.security.cert.CRLReason.values",
+                "static java.security.cert.PKIXReason.values",
+                "static java.security.cert.CertPathValidatorException.BasicReason.values",
+                "static java.security.cert.PKIXRevocationChecker.Option.values",
+                "static java.sql.ClientInfoStatus.values",
+                "static java.sql.JDBCType.values",
+                "static java.sql.PseudoColumnUsage.values",
+                "static java.sql.RowIdLifetime.values",
+                "static java.text.Normalizer.Form.values",
+                "static java.time.DayOfWeek.values",
+                "static java.time.Month.values",
+                "static java.time.chrono.HijrahEra.values",
+                "static java.time.chrono.IsoEra.values",
+                "static java.time.chrono.JapaneseEra.values",
+                "static java.time.chrono.MinguoEra.values",
+                "static java.time.chrono.ThaiBuddhistEra.values",
+                "static java.time.format.FormatStyle.values",
+                "static java.time.format.ResolverStyle.values",
+                "static java.time.format.SignStyle.values",
+                "static java.time.format.TextStyle.values",
+                "static java.time.temporal.ChronoField.values",
+                "static java.time.temporal.ChronoUnit.values",
+                "static java.time.zone.ZoneOffsetTransitionRule.TimeDefinition.values",
+                "static java.util.Formatter.BigDecimalLayoutForm.values",
+                "static java.util.Locale.Category.values",
+                "static java.util.Locale.FilteringMode.values",
+                "static java.util.concurrent.TimeUnit.values",
+                "static java.util.stream.Collector.Characteristics.values",
+                "static javax.annotation.Resource.AuthenticationType.values",
+                "static javax.jws.WebParam.Mode.values",
+                "static javax.jws.soap.SOAPBinding.ParameterStyle.values",
+                "static javax.jws.soap.SOAPBinding.Style.values",
+                "static javax.jws.soap.SOAPBinding.Use.values",
+                "static javax.lang.model.SourceVersion.values",
+                "static javax.lang.model.element.ElementKind.values",
+                "static javax.lang.model.element.Modifier.values",
+                "static javax.lang.model.element.NestingKind.values",
+                "static javax.lang.model.type.TypeKind.values",
+                "static javax.net.ssl.SSLEngineResult.HandshakeStatus.values",
+                "static javax.net.ssl.SSLEngineResult.Status.values",
+                "static javax.swing.DropMode.values",
+                "static javax.swing.SortOrder.values",
+                "static javax.swing.GroupLayout.Alignment.values",
+                "static javax.swing.JTable.PrintMode.values",
+                "static javax.swing.LayoutStyle.ComponentPlacement.values",
+                "static javax.swing.RowFilter.ComparisonType.values",
+                "static javax.swing.SwingWorker.StateValue.values",
+                "static javax.swing.event.RowSorterEvent.Type.values",
+                "static"
+                    + " javax.swing.plaf.nimbus.AbstractRegionPainter.PaintContext.CacheMode.values",
+                "static javax.swing.text.html.FormSubmitEvent.MethodType.values",
+                "static javax.tools.StandardLocation.values",
+                "static javax.tools.Diagnostic.Kind.values",
+                "static javax.tools.DocumentationTool.Location.values",
+                "static javax.tools.JavaFileObject.Kind.values",
+                "static javax.xml.bind.annotation.XmlAccessOrder.values",
+                "static javax.xml.bind.annotation.XmlAccessType.values",
+                "static javax.xml.bind.annotation.XmlNsForm.values",
+                "static javax.xml.ws.Service.Mode.values",
+                "static javax.xml.ws.handler.MessageContext.Scope.values",
+                "static javax.xml.ws.soap.AddressingFeature.Responses.values",
               })
           .put(
               "POLICY_PASS_CREDENTIALS",
-              new Import[] {
-                new Import("POLICY_PASS_CREDENTIALS", "javax.security.sasl.Sasl", true),
+              new String[] {
+                "static javax.security.sasl.Sasl.POLICY_PASS_CREDENTIALS",
               })
           .put(
               "LATIN_EXTENDED_ADDITIONAL",
-              new Import[] {
-                new Import("LATIN_EXTENDED_ADDITIONAL", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.LATIN_EXTENDED_ADDITIONAL",
               })
           .put(
               "MultiScrollPaneUI",
-              new Import[] {
-                new Import("MultiScrollPaneUI", "javax.swing.plaf.multi", false),
+              new String[] {
+                "javax.swing.plaf.multi.MultiScrollPaneUI",
               })
           .put(
               "VALUE_TEXT_ANTIALIAS_OFF",
-              new Import[] {
-                new Import("VALUE_TEXT_ANTIALIAS_OFF", "java.awt.RenderingHints", true),
+              new String[] {
+                "static java.awt.RenderingHints.VALUE_TEXT_ANTIALIAS_OFF",
               })
           .put(
               "DestinationType",
-              new Import[] {
-                new Import("DestinationType", "java.awt.JobAttributes", false),
+              new String[] {
+                "java.awt.JobAttributes.DestinationType",
               })
           .put(
               "HOUR_OF_DAY",
-              new Import[] {
-                new Import("HOUR_OF_DAY", "java.util.Calendar", true),
+              new String[] {
+                "static java.util.Calendar.HOUR_OF_DAY",
               })
           .put(
               "CANCELED",
-              new Import[] {
-                new Import("CANCELED", "javax.print.attribute.standard.JobState", true),
+              new String[] {
+                "static javax.print.attribute.standard.JobState.CANCELED",
               })
           .put(
               "SQLTimeoutException",
-              new Import[] {
-                new Import("SQLTimeoutException", "java.sql", false),
+              new String[] {
+                "java.sql.SQLTimeoutException",
               })
           .put(
               "ENV_MONARCH",
-              new Import[] {
-                new Import("ENV_MONARCH", "java.awt.PageAttributes.MediaType", true),
+              new String[] {
+                "static java.awt.PageAttributes.MediaType.ENV_MONARCH",
               })
           .put(
               "UnsupportedCallbackException",
-              new Import[] {
-                new Import("UnsupportedCallbackException", "javax.security.auth.callback", false),
+              new String[] {
+                "javax.security.auth.callback.UnsupportedCallbackException",
               })
           .put(
               "VK_NUMPAD7",
-              new Import[] {
-                new Import("VK_NUMPAD7", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_NUMPAD7",
               })
           .put(
               "DefaultPainter",
-              new Import[] {
-                new Import("DefaultPainter", "javax.swing.text.DefaultHighlighter", true),
+              new String[] {
+                "static javax.swing.text.DefaultHighlighter.DefaultPainter",
               })
           .put(
               "VK_NUMPAD8",
-              new Import[] {
-                new Import("VK_NUMPAD8", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_NUMPAD8",
               })
           .put(
               "singletonKeySelector",
-              new Import[] {
-                new Import("singletonKeySelector", "javax.xml.crypto.KeySelector", true),
+              new String[] {
+                "static javax.xml.crypto.KeySelector.singletonKeySelector",
               })
           .put(
               "VK_NUMPAD9",
-              new Import[] {
-                new Import("VK_NUMPAD9", "java.awt.event.KeyEvent", true),
+              new String[] {
+                "static java.awt.event.KeyEvent.VK_NUMPAD9",
               })
           .put(
               "Highlighter",
-              new Import[] {
-                new Import("Highlighter", "javax.swing.text", false),
+              new String[] {
+                "javax.swing.text.Highlighter",
               })
           .put(
               "REF_getField",
-              new Import[] {
-                new Import("REF_getField", "java.lang.invoke.MethodHandleInfo", true),
+              new String[] {
+                "static java.lang.invoke.MethodHandleInfo.REF_getField",
               })
           .put(
               "CompoundName",
-              new Import[] {
-                new Import("CompoundName", "javax.naming", false),
+              new String[] {
+                "javax.naming.CompoundName",
               })
           .put(
               "getPrinterJob",
-              new Import[] {
-                new Import("getPrinterJob", "java.awt.print.PrinterJob", true),
+              new String[] {
+                "static java.awt.print.PrinterJob.getPrinterJob",
               })
           .put(
               "icHdrCmmId",
-              new Import[] {
-                new Import("icHdrCmmId", "java.awt.color.ICC_Profile", true),
+              new String[] {
+                "static java.awt.color.ICC_Profile.icHdrCmmId",
               })
           .put(
               "VetoableChangeListener",
-              new Import[] {
-                new Import("VetoableChangeListener", "java.beans", false),
+              new String[] {
+                "java.beans.VetoableChangeListener",
               })
           .put(
               "XA_RBTIMEOUT",
-              new Import[] {
-                new Import("XA_RBTIMEOUT", "javax.transaction.xa.XAException", true),
+              new String[] {
+                "static javax.transaction.xa.XAException.XA_RBTIMEOUT",
               })
           .put(
               "MODE_ASYNCHRONOUS",
-              new Import[] {
-                new Import("MODE_ASYNCHRONOUS", "org.w3c.dom.ls.DOMImplementationLS", true),
+              new String[] {
+                "static org.w3c.dom.ls.DOMImplementationLS.MODE_ASYNCHRONOUS",
               })
           .put(
               "CS_GRAY",
-              new Import[] {
-                new Import("CS_GRAY", "java.awt.color.ColorSpace", true),
+              new String[] {
+                "static java.awt.color.ColorSpace.CS_GRAY",
               })
           .put(
               "TAG_MAXP",
-              new Import[] {
-                new Import("TAG_MAXP", "java.awt.font.OpenType", true),
+              new String[] {
+                "static java.awt.font.OpenType.TAG_MAXP",
               })
           .put(
               "OpenOption",
-              new Import[] {
-                new Import("OpenOption", "java.nio.file", false),
+              new String[] {
+                "java.nio.file.OpenOption",
               })
           .put(
               "StringCharacterIterator",
-              new Import[] {
-                new Import("StringCharacterIterator", "java.text", false),
+              new String[] {
+                "java.text.StringCharacterIterator",
               })
           .put(
               "FRAME_CONTENT_LAYER",
-              new Import[] {
-                new Import("FRAME_CONTENT_LAYER", "javax.swing.JLayeredPane", true),
+              new String[] {
+                "static javax.swing.JLayeredPane.FRAME_CONTENT_LAYER",
               })
           .put(
               "invalidateAll",
-              new Import[] {
-                new Import("invalidateAll", "java.lang.invoke.SwitchPoint", true),
+              new String[] {
+                "static java.lang.invoke.SwitchPoint.invalidateAll",
               })
           .put(
               "Timer",
-              new Import[] {
-                new Import("Timer", "java.util", false),
-                new Import("Timer", "javax.management.timer", false),
-                new Import("Timer", "javax.swing", false),
+              new String[] {
+                "java.util.Timer", "javax.management.timer.Timer", "javax.swing.Timer",
               })
           .put(
               "PKCS8EncodedKeySpec",
-              new Import[] {
-                new Import("PKCS8EncodedKeySpec", "java.security.spec", false),
+              new String[] {
+                "java.security.spec.PKCS8EncodedKeySpec",
               })
           .put(
               "VARIATION_SELECTORS_SUPPLEMENT",
-              new Import[] {
-                new Import(
-                    "VARIATION_SELECTORS_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
+              new String[] {
+                "static java.lang.Character.UnicodeBlock.VARIATION_SELECTORS_SUPPLEMENT",
               })
           .put(
               "setFileNameMap",
-              new Import[] {
-                new Import("setFileNameMap", "java.net.URLConnection", true),
+              new String[] {
+                "static java.net.URLConnection.setFileNameMap",
               })
           .put(
               "ISMAP",
-              new Import[] {
-                new Import("ISMAP", "javax.swing.text.html.HTML.Attribute", true),
+              new String[] {
+                "static javax.swing.text.html.HTML.Attribute.ISMAP",
               })
           .put(
               "getBackground",
-              new Import[] {
-                new Import("getBackground", "javax.swing.text.StyleConstants", true),
+              new String[] {
+                "static javax.swing.text.StyleConstants.getBackground",
               })
           .build();
 }
@@ -0,0 +1,273 @@
+package com.nikodoko.javaimports;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.nikodoko.javaimports.common.Identifier;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.environment.Environment;
+import com.nikodoko.javaimports.environment.Environments;
+import com.nikodoko.javaimports.fixer.Fixer;
+import com.nikodoko.javaimports.fixer.Result;
+import com.nikodoko.javaimports.parser.ParsedFile;
+import com.nikodoko.javaimports.parser.Parser;
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import com.nikodoko.packagetest.BuildSystem;
+import com.nikodoko.packagetest.Export;
+import com.nikodoko.packagetest.Exported;
+import com.nikodoko.packagetest.Module;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that each phase of a request does not allocate nor retain more than its budget in {@code
+ * allocation-budgets.properties}, so that allocation creep gets noticed.
+ *
+ * <p>Phases run on the test thread, and are measured in isolation after a few warmup runs.
+ * Allocations are counted for the test thread only. Retained memory is the growth of the heap
+ * (after a full GC) while the results of many runs are still reachable, divided by the number of
+ * runs, as the result of a single run is too small to be told apart from noise.
+ *
+ * <p>To accept new measures as budgets, run: {@code mvn test -pl core -Dtest=AllocationBudgetTest
+ * -Djavaimports.updateBudgets=true}
+ */
+public class AllocationBudgetTest {
+  static final URL repositoryURL = AllocationBudgetTest.class.getResource("/testrepository");
+  static final Path BUDGETS =
+      Paths.get("src", "test", "resources", "allocation-budgets.properties");
+  static final boolean UPDATE = Boolean.getBoolean("javaimports.updateBudgets");
+  static final int WARMUP_RUNS = 10;
+  // Each round keeps the results of all its runs reachable, to measure what they retain
+  static final int ROUNDS = 3;
+  static final int RUNS = 20;
+  // Budgets leave room for small variations between JVMs and GCs
+  static final double HEADROOM = 1.25;
+  static final long MIN_HEADROOM = 64 * 1024;
+  // Retained sizes are averaged over many runs, which smooths variations out
+  static final long MIN_RETAINED_HEADROOM = 1024;
+
+  static final String MAIN =
+      String.join(
+          "\n",
+          "package test.module;",
+          "",
+          "class Main extends Base {",
+          "  List<Helper> helpers = new ArrayList<>();",
+          "  Gadget gadget;",
+          "  App app;",
+          "",
+          "  void run() {",
+          "    for (Helper h : helpers) {",
+          "      h.help(inherited, Duration.ofSeconds(1));",
+          "    }",
+          "  }",
+          "}",
+          "");
+
+  static Exported project;
+  static Path main;
+  static Options options;
+  static Properties budgets = new Properties();
+
+  @BeforeAll
+  static void setup() throws Exception {
+    Module module =
+        Module.named("test.module")
+            .containing(
+                Module.file("Main.java", MAIN),
+                Module.file("Helper.java", "package test.module; class Helper { void help() {} }"),
+                Module.file("Base.java", "package test.module; class Base { int inherited; }"),
+                Module.file(
+                    "other/Gadget.java", "package test.module.other; public class Gadget {}"))
+            .dependingOn(Module.dependency("com.mycompany.app", "a-dependency", "1.0"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    main = project.file("test.module", "Main.java").get();
+    options =
+        Options.builder()
+            .repository(Paths.get(repositoryURL.toURI()))
+            .stdlib(StdlibProviders.java8())
+            // Everything runs on the test thread, where allocations are counted
+            .numThreads(0)
+            .build();
+
+    try (Reader reader = Files.newBufferedReader(BUDGETS, UTF_8)) {
+      budgets.load(reader);
+    }
+  }
+
+  @AfterAll
+  static void cleanup() throws Exception {
+    options.close();
+    project.cleanup();
+    if (UPDATE) {
+      // Sorted and without the timestamp Properties.store() adds, to keep diffs small
+      List<String> lines = new ArrayList<>();
+      lines.add("# Generated by AllocationBudgetTest, in bytes");
+      budgets.stringPropertyNames().stream()
+          .sorted()
+          .forEach(key -> lines.add(key + "=" + budgets.getProperty(key)));
+      Files.write(BUDGETS, lines, UTF_8);
+    }
+  }
+
+  @Test
+  void testParse() throws Exception {
+    Parser parser = new Parser(options);
+
+    checkBudgets("parse", () -> parser.parse(main, MAIN).get());
+  }
+
+  @Test
+  void testLoad() throws Exception {
+    checkBudgets(
+        "load",
+        // Otherwise later runs would reuse what earlier ones memoized for the whole process
+        Environments::forgetMemoized,
+        () -> {
+          Environment environment = Environments.autoSelect(main, "test.module", options);
+          environment.findImports(Identifier.of("App"));
+          return environment;
+        });
+  }
+
+  @Test
+  void testSelect() throws Exception {
+    ParsedFile file = parse(main, MAIN);
+    Set<ParsedFile> siblings = siblings();
+    // Loaded once, so that only selection is measured
+    Environment environment = Environments.autoSelect(main, "test.module", options);
+
+    Result result = checkBudgets("select", () -> fix(file, siblings, environment));
+
+    // Make sure all sources of imports are used
+    assertThat(result.fixes().stream().map(Import::asStatement).collect(Collectors.toList()))
+        .containsAtLeast(
+            "import java.util.List;",
+            "import java.util.ArrayList;",
+            "import java.time.Duration;",
+            "import test.module.other.Gadget;",
+            "import com.mycompany.app.App;");
+  }
+
+  @Test
+  void testApply() throws Exception {
+    ParsedFile file = parse(main, MAIN);
+    Environment environment = Environments.autoSelect(main, "test.module", options);
+    Result result = fix(file, siblings(), environment);
+
+    checkBudgets("apply", () -> Importer.applyFixes(file, MAIN, result));
+  }
+
+  interface Phase<T> {
+    T run() throws Exception;
+  }
+
+  Result fix(ParsedFile file, Set<ParsedFile> siblings, Environment environment) {
+    Fixer fixer = Fixer.init(file, options);
+    fixer.addSiblings(siblings);
+    fixer.addStdlibProvider(options.stdlib());
+    fixer.addEnvironment(environment);
+    return fixer.lastTryToFix();
+  }
+
+  Set<ParsedFile> siblings() throws Exception {
+    return Set.of(
+        parse(main.resolveSibling("Helper.java")), parse(main.resolveSibling("Base.java")));
+  }
+
+  ParsedFile parse(Path path) throws Exception {
+    return parse(path, new String(Files.readAllBytes(path), UTF_8));
+  }
+
+  ParsedFile parse(Path path, String code) throws Exception {
+    return new Parser(options).parse(path, code).get();
+  }
+
+  <T> T checkBudgets(String phase, Phase<T> toMeasure) throws Exception {
+    return checkBudgets(phase, () -> {}, toMeasure);
+  }
+
+  /** Same as {@link #checkBudgets(String, Phase)}, running {@code beforeEach} before each run. */
+  <T> T checkBudgets(String phase, Runnable beforeEach, Phase<T> toMeasure) throws Exception {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long thread = Thread.currentThread().getId();
+    for (int i = 0; i < WARMUP_RUNS; i++) {
+      beforeEach.run();
+      toMeasure.run();
+    }
+
+    // Keep the lowest measures, the others include noise (JIT compilation, lazy initialization...)
+    long allocated = Long.MAX_VALUE;
+    long retained = Long.MAX_VALUE;
+    T last = null;
+    for (int round = 0; round < ROUNDS; round++) {
+      List<T> results = new ArrayList<>(RUNS);
+      for (int i = 0; i < RUNS; i++) {
+        beforeEach.run();
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        last = toMeasure.run();
+        allocated = Math.min(allocated, threads.getThreadAllocatedBytes(thread) - allocatedBefore);
+        results.add(last);
+      }
+
+      // Comparing with the heap once results are unreachable, rather than with the heap before the
+      // runs, leaves out what the runs themselves freed (like stale entries of weak caches)
+      long heapWithResults = usedHeapAfterGc();
+      results.clear();
+      retained = Math.min(retained, (heapWithResults - usedHeapAfterGc()) / RUNS);
+    }
+
+    checkBudget(phase + ".allocated", allocated, MIN_HEADROOM);
+    checkBudget(phase + ".retained", retained, MIN_RETAINED_HEADROOM);
+    return last;
+  }
+
+  void checkBudget(String key, long measured, long minHeadroom) {
+    if (UPDATE) {
+      long budget = Math.max((long) (measured * HEADROOM), measured + minHeadroom);
+      budgets.setProperty(key, Long.toString(budget));
+      return;
+    }
+
+    String budget = budgets.getProperty(key);
+    assertWithMessage("no budget for " + key + ", run with -Djavaimports.updateBudgets=true")
+        .that(budget)
+        .isNotNull();
+    assertWithMessage(
+            key + " is over budget, run with -Djavaimports.updateBudgets=true if this is expected")
+        .that(measured)
+        .isAtMost(Long.parseLong(budget));
+  }
+
+  static long usedHeapAfterGc() {
+    // Objects only reachable from finalizers need more than one GC, so collect until the heap stops
+    // shrinking
+    long used = Long.MAX_VALUE;
+    for (int i = 0; i < 10; i++) {
+      System.gc();
+      System.runFinalization();
+      long now = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+      if (now >= used) {
+        return now;
+      }
+
+      used = now;
+    }
+
+    return used;
+  }
+}
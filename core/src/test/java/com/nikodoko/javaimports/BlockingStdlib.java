@@ -0,0 +1,43 @@
+package com.nikodoko.javaimports;
+
+import com.nikodoko.javaimports.common.Identifier;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.stdlib.StdlibProvider;
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A Java 8 stdlib that runs {@code block} the first time it is asked whether an identifier is in
+ * {@code java.lang}. Requests only do so once the project is parsed and before loading
+ * dependencies, which lets tests control what happens in between.
+ */
+class BlockingStdlib implements StdlibProvider {
+  final StdlibProvider stdlib = StdlibProviders.java8();
+  final AtomicBoolean blocked = new AtomicBoolean();
+  final Runnable block;
+
+  BlockingStdlib(Runnable block) {
+    this.block = block;
+  }
+
+  @Override
+  public Map<String, Import> find(Iterable<String> identifiers) {
+    return stdlib.find(identifiers);
+  }
+
+  @Override
+  public boolean isInJavaLang(String identifier) {
+    if (blocked.compareAndSet(false, true)) {
+      block.run();
+    }
+
+    return stdlib.isInJavaLang(identifier);
+  }
+
+  @Override
+  public Collection<Import> findImports(Identifier i) {
+    return stdlib.findImports(i);
+  }
+}
@@ -0,0 +1,48 @@
+package com.nikodoko.javaimports;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import org.junit.jupiter.api.Test;
+
+public class CancellationTest {
+  @Test
+  void testNeverCannotBeCancelled() {
+    Cancellation never = Cancellation.never();
+    never.cancel();
+
+    assertThat(never.isCancelled()).isFalse();
+    assertThat(never.isExpired()).isFalse();
+    assertThat(never.remainingNanos()).isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  void testExpiredIsNotCancelled() {
+    Cancellation expired = Cancellation.create().withDeadline(Duration.ZERO);
+
+    assertThat(expired.isExpired()).isTrue();
+    assertThat(expired.isCancelled()).isFalse();
+    assertThrows(CancellationException.class, expired::throwIfCancelled);
+  }
+
+  @Test
+  void testCancellingTheParentCancelsTheChild() {
+    Cancellation parent = Cancellation.create();
+    Cancellation child = parent.withDeadline(Duration.ofMinutes(1));
+    parent.cancel();
+
+    assertThat(child.isCancelled()).isTrue();
+    assertThat(child.isExpired()).isFalse();
+  }
+
+  @Test
+  void testWithoutDeadlineKeepsCancellation() {
+    Cancellation parent = Cancellation.create();
+    Cancellation expired = parent.withDeadline(Duration.ZERO);
+
+    assertThat(expired.withoutDeadline()).isSameInstanceAs(parent);
+    assertThat(expired.withoutDeadline().isExpired()).isFalse();
+  }
+}
@@ -0,0 +1,86 @@
+package com.nikodoko.javaimports;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import com.nikodoko.packagetest.BuildSystem;
+import com.nikodoko.packagetest.Export;
+import com.nikodoko.packagetest.Exported;
+import com.nikodoko.packagetest.Module;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FlightRecorderEventsTest {
+  Exported project;
+  Path main;
+  Path recording;
+
+  @BeforeEach
+  void setup() throws Exception {
+    Module module =
+        Module.named("test.module")
+            .containing(
+                Module.file("Main.java", "package test.module; class Main { Helper h; List l; }"),
+                Module.file("other/Helper.java", "package test.other; public class Helper {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    main = project.file(module.name(), "Main.java").get();
+    recording = Files.createTempFile("javaimports", ".jfr");
+  }
+
+  @AfterEach
+  void cleanup() throws Exception {
+    project.cleanup();
+    Files.deleteIfExists(recording);
+  }
+
+  @Test
+  void testEventsAreRecordedWithTheDocumentedSettings() throws Exception {
+    // The settings shipped in the repository
+    Configuration settings = Configuration.create(Paths.get("..", "jfr", "javaimports.jfc"));
+    try (Recording r = new Recording(settings)) {
+      r.start();
+      Options options = Options.builder().stdlib(StdlibProviders.java8()).numThreads(0).build();
+      new Importer(options).addUsedImports(main, new String(Files.readAllBytes(main), UTF_8));
+      r.stop();
+      r.dump(recording);
+    }
+
+    List<RecordedEvent> events =
+        RecordingFile.readAllEvents(recording).stream()
+            .filter(e -> e.getEventType().getName().startsWith("com.nikodoko.javaimports."))
+            .collect(Collectors.toList());
+
+    RecordedEvent parse = first(events, "Parse");
+    assertThat(parse.getString("file")).isEqualTo(main.toString());
+    assertThat(parse.getLong("bytes")).isGreaterThan(0L);
+    assertThat(parse.getInt("unresolved")).isEqualTo(2);
+
+    RecordedEvent init = first(events, "MavenEnvironmentInit");
+    assertThat(init.getInt("imports")).isAtLeast(1);
+
+    List<String> stages =
+        events.stream()
+            .filter(e -> e.getEventType().getName().endsWith(".FixerStage"))
+            .map(e -> e.getString("stage") + ":" + e.getInt("remaining"))
+            .collect(Collectors.toList());
+    assertThat(stages).containsExactly("file:2", "siblings:2", "environment:0").inOrder();
+  }
+
+  static RecordedEvent first(List<RecordedEvent> events, String name) {
+    return events.stream()
+        .filter(e -> e.getEventType().getName().equals("com.nikodoko.javaimports." + name))
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("no " + name + " event"));
+  }
+}
@@ -0,0 +1,115 @@
+package com.nikodoko.javaimports;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.nikodoko.javaimports.Profile.Counter;
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import com.nikodoko.packagetest.BuildSystem;
+import com.nikodoko.packagetest.Export;
+import com.nikodoko.packagetest.Exported;
+import com.nikodoko.packagetest.Module;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ImporterAsyncTest {
+  static final URL repositoryURL = ImporterAsyncTest.class.getResource("/testrepository");
+
+  Exported project;
+
+  @AfterEach
+  void cleanup() throws Exception {
+    project.cleanup();
+  }
+
+  @Test
+  void testAsyncRequestsGiveTheSameResultsAsBlockingOnes() throws Exception {
+    Module module =
+        Module.named("test.module")
+            .containing(
+                Module.file(
+                    "Main.java",
+                    "package test.module; class Main { List<Other> l = new ArrayList<>(); }"),
+                Module.file("other/Other.java", "package test.other; public class Other {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path main = project.file(module.name(), "Main.java").get();
+    String input = new String(Files.readAllBytes(main), UTF_8);
+    Importer importer =
+        new Importer(Options.builder().stdlib(StdlibProviders.java8()).numThreads(0).build());
+
+    assertThat(importer.addUsedImportsAsync(main, input).get())
+        .isEqualTo(importer.addUsedImports(main, input));
+  }
+
+  @Test
+  void testParsingErrorsAreReported() throws Exception {
+    Module module = Module.named("test.module").containing(Module.file("Main.java", "package"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path main = project.file(module.name(), "Main.java").get();
+
+    var e =
+        assertThrows(
+            ExecutionException.class,
+            () -> new Importer().addUsedImportsAsync(main, "package").get());
+    assertThat(e).hasCauseThat().isInstanceOf(ImporterException.class);
+  }
+
+  @Test
+  void testCancelledRequestsStopWorking() throws Exception {
+    Module module =
+        Module.named("test.module")
+            .containing(Module.file("Main.java", "package test.module; class Main { App a; }"))
+            .dependingOn(Module.dependency("com.mycompany.app", "a-dependency", "1.0"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path main = project.file(module.name(), "Main.java").get();
+    String input = new String(Files.readAllBytes(main), UTF_8);
+    CountDownLatch reached = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Profile profile = Profile.create();
+    // Without threads, all the work happens in the task running the request
+    Importer importer =
+        new Importer(
+            Options.builder()
+                .repository(Paths.get(repositoryURL.toURI()))
+                .stdlib(
+                    new BlockingStdlib(
+                        () -> {
+                          reached.countDown();
+                          Uninterruptibles.awaitUninterruptibly(release);
+                        }))
+                .numThreads(0)
+                .profile(profile)
+                .build());
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      var fixed = importer.addUsedImportsAsync(main, input, executor);
+      // The request is now blocked in the stdlib, right before loading dependencies
+      assertThat(reached.await(1, TimeUnit.MINUTES)).isTrue();
+      assertThat(fixed.isDone()).isFalse();
+      fixed.cancel(true);
+      release.countDown();
+
+      assertThrows(CancellationException.class, fixed::join);
+      // This only runs once the request's task is over
+      executor.submit(() -> {}).get();
+      assertThat(profile.count(Counter.JARS_OPENED)).isEqualTo(0);
+    } finally {
+      // Never leave the request blocked, even when it did not go as expected
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+}
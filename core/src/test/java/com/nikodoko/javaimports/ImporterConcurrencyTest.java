@@ -0,0 +1,108 @@
+package com.nikodoko.javaimports;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import com.nikodoko.packagetest.BuildSystem;
+import com.nikodoko.packagetest.Export;
+import com.nikodoko.packagetest.Exported;
+import com.nikodoko.packagetest.Module;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Shares a single {@link Importer} between threads fixing all the integration test packages. */
+public class ImporterConcurrencyTest {
+  static final URL repositoryURL = ImporterConcurrencyTest.class.getResource("/testrepository");
+  static final int THREADS = 8;
+  static final int ROUNDS = 3;
+
+  List<Exported> exported = new ArrayList<>();
+  Map<Path, String> inputs = new HashMap<>();
+
+  @BeforeEach
+  void setup() throws Exception {
+    List<ImporterIntegrationTest.TestPkg> packages =
+        ImporterIntegrationTest.testPackageProvider()
+            .map(args -> (ImporterIntegrationTest.TestPkg) args.get()[1])
+            .collect(Collectors.toList());
+    for (ImporterIntegrationTest.TestPkg pkg : packages) {
+      Module module =
+          Module.named(pkg.name)
+              .containing(pkg.files.toArray(new Module.File[pkg.files.size()]))
+              .dependingOn(
+                  Module.dependency("com.mycompany.app", "a-dependency", "1.0"),
+                  Module.dependency("com.mycompany.app", "an-empty-dependency", "1.0"));
+      Exported project = Export.of(BuildSystem.MAVEN, module);
+      exported.add(project);
+      Path main = project.file(pkg.name, pkg.fileToFix).get();
+      inputs.put(main, new String(Files.readAllBytes(main), UTF_8));
+    }
+  }
+
+  @AfterEach
+  void cleanup() throws Exception {
+    for (Exported project : exported) {
+      project.cleanup();
+    }
+  }
+
+  @Test
+  void testConcurrentRequestsGiveTheSameResultsAsSequentialOnes() throws Exception {
+    // A real stdlib, as it is shared by all requests
+    Options options =
+        Options.builder()
+            .repository(Paths.get(repositoryURL.toURI()))
+            .stdlib(StdlibProviders.java8())
+            .numThreads(2)
+            .build();
+    Importer importer = new Importer(options);
+
+    Map<Path, String> expected = new HashMap<>();
+    for (Map.Entry<Path, String> input : inputs.entrySet()) {
+      expected.put(input.getKey(), importer.addUsedImports(input.getKey(), input.getValue()));
+    }
+
+    List<Path> requests = new ArrayList<>();
+    for (int i = 0; i < ROUNDS * THREADS; i++) {
+      requests.addAll(inputs.keySet());
+    }
+    Collections.shuffle(requests, new Random(0));
+
+    ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+    List<Callable<String>> tasks = new ArrayList<>();
+    for (Path file : requests) {
+      tasks.add(() -> importer.addUsedImports(file, inputs.get(file)));
+    }
+
+    List<Future<String>> outputs;
+    try {
+      outputs = pool.invokeAll(tasks, 2, TimeUnit.MINUTES);
+    } finally {
+      pool.shutdownNow();
+    }
+
+    for (int i = 0; i < requests.size(); i++) {
+      assertWithMessage("bad output for " + requests.get(i))
+          .that(outputs.get(i).get())
+          .isEqualTo(expected.get(requests.get(i)));
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package com.nikodoko.javaimports;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.nikodoko.javaimports.Profile.Counter;
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import com.nikodoko.packagetest.BuildSystem;
+import com.nikodoko.packagetest.Export;
+import com.nikodoko.packagetest.Exported;
+import com.nikodoko.packagetest.Module;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ImporterDeadlineTest {
+  static final String MAIN =
+      "package test.module; class Main { List<C1> l = new ArrayList<>(); Other o; App a; }";
+  static final URL repositoryURL = ImporterDeadlineTest.class.getResource("/testrepository");
+  static final Duration DEADLINE = Duration.ofSeconds(1);
+
+  Exported project;
+
+  @AfterEach
+  void cleanup() throws Exception {
+    project.cleanup();
+  }
+
+  @Test
+  void testRequestsWithinTheirDeadlineAreComplete() throws Exception {
+    Path main = export(10);
+    Options options =
+        Options.builder().stdlib(StdlibProviders.java8()).deadline(Duration.ofMinutes(1)).build();
+
+    Fixed fixed = new Importer(options).fix(main, MAIN);
+
+    assertThat(fixed.deadlineExceeded()).isFalse();
+    assertThat(fixed.code())
+        .isEqualTo(
+            new Importer(Options.builder().stdlib(StdlibProviders.java8()).build())
+                .addUsedImports(main, MAIN));
+  }
+
+  @Test
+  void testRequestsPastTheirDeadlineUseWhatTheyFound() throws Exception {
+    Path main = export(10);
+    Profile profile = Profile.create();
+    Options options =
+        options()
+            // Dependencies are only loaded once the deadline has passed
+            .stdlib(
+                new BlockingStdlib(
+                    () -> Uninterruptibles.sleepUninterruptibly(DEADLINE.multipliedBy(2))))
+            .numThreads(0)
+            .profile(profile)
+            .build();
+
+    Fixed fixed = new Importer(options).fix(main, MAIN);
+
+    assertThat(fixed.deadlineExceeded()).isTrue();
+    assertThat(profile.count(Counter.JARS_OPENED)).isEqualTo(0);
+    assertThat(fixed.code()).doesNotContain("import com.mycompany.app.App;");
+    // The stdlib is still used
+    assertThat(fixed.code()).contains("import java.util.List;");
+    assertThat(fixed.code()).contains("import java.util.ArrayList;");
+  }
+
+  @Test
+  void testWarmedCachesAreUsedByTheNextRequests() throws Exception {
+    Path main = export(10);
+    Path cache = Files.createTempDirectory("");
+    Options warming =
+        options()
+            .stdlib(
+                new BlockingStdlib(
+                    () -> Uninterruptibles.sleepUninterruptibly(DEADLINE.multipliedBy(2))))
+            .numThreads(0)
+            .ioThreads(1)
+            .cache(cache)
+            .warmCaches(true)
+            .build();
+
+    assertThat(new Importer(warming).fix(main, MAIN).deadlineExceeded()).isTrue();
+    // Wait for dependencies still loading in the background
+    warming.close();
+    for (ExecutorService pool : warming.pools) {
+      assertThat(pool.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+    }
+
+    Profile profile = Profile.create();
+    Options next =
+        options()
+            .stdlib(StdlibProviders.java8())
+            .numThreads(0)
+            .cache(cache)
+            .profile(profile)
+            .build();
+    Fixed fixed = new Importer(next).fix(main, MAIN);
+
+    assertThat(fixed.code()).contains("import com.mycompany.app.App;");
+    assertThat(profile.count(Counter.JARS_OPENED)).isEqualTo(0);
+  }
+
+  @Test
+  void testRequestsWithoutTimeLeaveTheCodeAsIs() throws Exception {
+    Path main = export(10);
+    Options options =
+        Options.builder().stdlib(StdlibProviders.java8()).deadline(Duration.ZERO).build();
+
+    Fixed fixed = new Importer(options).fix(main, MAIN);
+
+    assertThat(fixed.deadlineExceeded()).isTrue();
+    assertThat(fixed.code()).isEqualTo(MAIN);
+  }
+
+  Options.Builder options() throws Exception {
+    return Options.builder().repository(Paths.get(repositoryURL.toURI())).deadline(DEADLINE);
+  }
+
+  Path export(int files) throws Exception {
+    List<Module.File> contents = new ArrayList<>();
+    contents.add(Module.file("Main.java", MAIN));
+    contents.add(Module.file("other/Other.java", "package test.other; public class Other {}"));
+    for (int i = 0; i < files; i++) {
+      contents.add(
+          Module.file(
+              String.format("p%d/C%d.java", i % 30, i),
+              String.format(
+                  "package test.module.p%d; public class C%d { void f() { int a = %d; } }",
+                  i % 30, i, i)));
+    }
+
+    Module module =
+        Module.named("test.module")
+            .containing(contents.toArray(new Module.File[0]))
+            .dependingOn(Module.dependency("com.mycompany.app", "a-dependency", "1.0"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path main = project.file(module.name(), "Main.java").get();
+    assertThat(new String(Files.readAllBytes(main), UTF_8)).isEqualTo(MAIN);
+    return main;
+  }
+}
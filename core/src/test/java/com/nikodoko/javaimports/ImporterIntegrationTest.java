@@ -8,7 +8,8 @@ import static org.junit.Assert.fail;
 import com.google.common.io.CharStreams;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ResourceInfo;
-import com.nikodoko.javaimports.parser.Import;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
 import com.nikodoko.javaimports.stdlib.FakeStdlibProvider;
 import com.nikodoko.packagetest.BuildSystem;
 import com.nikodoko.packagetest.Export;
@@ -65,14 +66,14 @@ public class ImporterIntegrationTest {
             .repository(Paths.get(repositoryURL.toURI()))
             .stdlib(
                 FakeStdlibProvider.of(
-                    new Import("List", "java.util", false),
-                    new Import("ArrayList", "java.util", false),
-                    new Import("App", "java.fakeutil", false)))
+                    new Import(Selector.parse("java.util.List"), false),
+                    new Import(Selector.parse("java.util.ArrayList"), false),
+                    new Import(Selector.parse("java.fakeutil.App"), false)))
             // speed up tests a bit
             .numThreads(Runtime.getRuntime().availableProcessors())
             .build();
     String input = new String(Files.readAllBytes(main), UTF_8);
-    try {
+    try (opts) {
       String output = new Importer(opts).addUsedImports(main, input);
       assertWithMessage("bad output for " + pkg.name).that(output).isEqualTo(pkg.expected);
     } catch (ImporterException e) {
@@ -0,0 +1,88 @@
+package com.nikodoko.javaimports;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.junit.jupiter.api.Test;
+
+public class OptionsTest {
+  @Test
+  void testNoThreadsRunsTasksInTheCallingThread() {
+    Options options = Options.builder().numThreads(0).build();
+    Thread[] ranIn = new Thread[1];
+
+    options.executor().execute(() -> ranIn[0] = Thread.currentThread());
+
+    assertThat(ranIn[0]).isSameInstanceAs(Thread.currentThread());
+    assertThat(options.pools).isEmpty();
+  }
+
+  @Test
+  void testDefaultsToASharedWorkStealingPool() {
+    Options options = Options.builder().build();
+    Options other = Options.builder().build();
+
+    options.close();
+
+    assertThat(options.executor()).isInstanceOf(ForkJoinPool.class);
+    assertThat(options.ioExecutor()).isSameInstanceAs(options.executor());
+    assertThat(options.parseExecutor()).isSameInstanceAs(options.executor());
+    assertThat(other.executor()).isSameInstanceAs(options.executor());
+    assertThat(options.pools).isEmpty();
+    assertThat(((ExecutorService) options.executor()).isShutdown()).isFalse();
+  }
+
+  @Test
+  void testExplicitWorkStealingPoolsAreOwned() {
+    try (Options options = Options.builder().numThreads(-1).build()) {
+      assertThat(options.executor()).isInstanceOf(ForkJoinPool.class);
+      assertThat(options.pools).containsExactly(options.executor());
+    }
+  }
+
+  @Test
+  void testDedicatedPoolsAreSized() {
+    try (Options options = Options.builder().numThreads(0).ioThreads(3).parseThreads(2).build()) {
+      assertThat(((ThreadPoolExecutor) options.ioExecutor()).getCorePoolSize()).isEqualTo(3);
+      assertThat(((ThreadPoolExecutor) options.parseExecutor()).getCorePoolSize()).isEqualTo(2);
+      assertThat(options.pools).hasSize(2);
+    }
+  }
+
+  @Test
+  void testCloseShutsDownAllPools() {
+    Options options = Options.builder().numThreads(2).ioThreads(2).parseThreads(2).build();
+
+    options.close();
+
+    assertThat(options.pools).hasSize(3);
+    for (ExecutorService pool : options.pools) {
+      assertThat(pool.isShutdown()).isTrue();
+    }
+  }
+
+  @Test
+  void testRequestOptionsDoNotOwnSharedPools() throws Exception {
+    try (Options options = Options.builder().numThreads(2).build()) {
+      Options request = options.forRequest(Cancellation.create());
+      request.close();
+
+      assertThat(request.executor()).isSameInstanceAs(options.executor());
+      assertThat(((ExecutorService) options.executor()).isShutdown()).isFalse();
+    }
+  }
+
+  @Test
+  void testPoolThreadsDoNotPreventExit() throws Exception {
+    try (Options options = Options.builder().numThreads(1).build()) {
+      boolean[] daemon = new boolean[1];
+      ((ExecutorService) options.executor())
+          .submit(() -> daemon[0] = Thread.currentThread().isDaemon())
+          .get();
+
+      assertThat(daemon[0]).isTrue();
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.nikodoko.javaimports;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.nikodoko.javaimports.Profile.Counter;
+import com.nikodoko.javaimports.Profile.Phase;
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import com.nikodoko.packagetest.BuildSystem;
+import com.nikodoko.packagetest.Export;
+import com.nikodoko.packagetest.Exported;
+import com.nikodoko.packagetest.Module;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class ProfileTest {
+  @Test
+  void testDisabledProfilesRecordNothing() {
+    Profile profile = Profile.disabled();
+    try (Profile.Timer t = profile.time(Phase.TOTAL)) {
+      profile.increment(Counter.FILES_PARSED);
+    }
+
+    assertThat(profile.runs(Phase.TOTAL)).isEqualTo(0);
+    assertThat(profile.count(Counter.FILES_PARSED)).isEqualTo(0);
+  }
+
+  @Test
+  void testPhasesAndCountersAccumulate() throws Exception {
+    Profile profile = Profile.create();
+    for (int i = 0; i < 2; i++) {
+      try (Profile.Timer t = profile.time(Phase.JAR_SCANNING)) {
+        Thread.sleep(1);
+      }
+    }
+    profile.count(Counter.CANDIDATES_CONSIDERED, 3);
+    profile.increment(Counter.CANDIDATES_CONSIDERED);
+
+    assertThat(profile.runs(Phase.JAR_SCANNING)).isEqualTo(2);
+    assertThat(profile.nanos(Phase.JAR_SCANNING)).isAtLeast(2_000_000L);
+    assertThat(profile.count(Counter.CANDIDATES_CONSIDERED)).isEqualTo(4);
+  }
+
+  @Test
+  void testToJson() {
+    Profile profile = Profile.create();
+    profile.count(Counter.CACHE_HITS, 2);
+
+    String json = profile.toJson(Map.of("version", "1.0 \"beta\""));
+
+    assertThat(json).startsWith("{\n  \"version\": \"1.0 \\\"beta\\\"\",\n  \"phases\": {\n");
+    assertThat(json).contains("    \"target_parse\": {\"ms\": 0.000, \"runs\": 0},\n");
+    assertThat(json).contains("    \"formatting\": {\"ms\": 0.000, \"runs\": 0}\n  },\n");
+    assertThat(json).contains("    \"cache_hits\": 2,\n");
+    assertThat(json).endsWith("    \"cache_misses\": 0\n  }\n}\n");
+  }
+
+  @Test
+  void testImporterRecordsItsPhases() throws Exception {
+    Module module =
+        Module.named("test.module")
+            .containing(
+                Module.file("Main.java", "package test.module; class Main { Other o; List l; }"),
+                Module.file("Sibling.java", "package test.module; class Sibling {}"),
+                Module.file("other/Other.java", "package test.other; public class Other {}"));
+    Exported project = Export.of(BuildSystem.MAVEN, module);
+    try {
+      Path main = project.file(module.name(), "Main.java").get();
+      Profile profile = Profile.create();
+      Options options =
+          Options.builder().stdlib(StdlibProviders.java8()).numThreads(0).profile(profile).build();
+
+      new Importer(options).addUsedImports(main, new String(Files.readAllBytes(main), UTF_8));
+
+      assertThat(profile.runs(Phase.TOTAL)).isEqualTo(1);
+      assertThat(profile.runs(Phase.TARGET_PARSE)).isEqualTo(1);
+      assertThat(profile.runs(Phase.SIBLING_PARSE)).isEqualTo(1);
+      assertThat(profile.runs(Phase.PROJECT_WALK)).isEqualTo(1);
+      assertThat(profile.runs(Phase.CANDIDATE_SELECTION)).isAtLeast(1);
+      // Main, Sibling, and Other (Sibling is parsed as part of the project as well)
+      assertThat(profile.count(Counter.FILES_PARSED)).isAtLeast(3);
+      assertThat(profile.count(Counter.CANDIDATES_CONSIDERED)).isAtLeast(2);
+    } finally {
+      project.cleanup();
+    }
+  }
+}
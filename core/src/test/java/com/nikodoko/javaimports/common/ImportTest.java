@@ -0,0 +1,23 @@
+package com.nikodoko.javaimports.common;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class ImportTest {
+  @Test
+  void testNameAndQualifier() {
+    var i = new Import(Selector.of("a", "b", "c", "Test"), true);
+
+    assertThat(i.name()).isEqualTo(Identifier.of("Test"));
+    assertThat(i.qualifier()).isEqualTo(Selector.of("a", "b", "c"));
+  }
+
+  @Test
+  void testAsStatement() {
+    assertThat(new Import(Selector.of("a", "b", "Test"), false).asStatement())
+        .isEqualTo("import a.b.Test;");
+    assertThat(new Import(Selector.of("a", "b", "Test", "method"), true).asStatement())
+        .isEqualTo("import static a.b.Test.method;");
+  }
+}
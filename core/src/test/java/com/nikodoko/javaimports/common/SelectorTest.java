@@ -5,6 +5,7 @@ import static com.google.common.truth.Truth.assertThat;
 import java.util.List;
 import java.util.stream.Collectors;
 import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Assume;
 import net.jqwik.api.Example;
 import net.jqwik.api.ForAll;
 import net.jqwik.api.Property;
@@ -84,6 +85,30 @@ public class SelectorTest {
     assertThat(selector.subtract(tail).join(tail)).isEqualTo(selector);
   }
 
+  @Property
+  void parseIsOppositeOfToString(@ForAll("identifiers") List<String> identifiers) {
+    Assume.that(identifiers.stream().noneMatch(i -> i.contains(".")));
+    var selector = Selector.of(identifiers);
+
+    assertThat(Selector.parse(selector.toString())).isEqualTo(selector);
+  }
+
+  @Property
+  void scopeAndIdentifierCombineToSelector(@ForAll("identifiers") List<String> identifiers) {
+    identifiers.add("last");
+    var selector = Selector.of(identifiers);
+
+    assertThat(selector.scope().combine(Selector.of(selector.identifier().toString())))
+        .isEqualTo(selector);
+  }
+
+  @Example
+  void identifiersAreInterned() {
+    assertThat(Identifier.of(new String("List"))).isSameInstanceAs(Identifier.of("List"));
+    assertThat(Selector.parse("java.util.List").identifier())
+        .isSameInstanceAs(Selector.of("List").identifier());
+  }
+
   @Provide
   Arbitrary<List<String>> identifiers() {
     return CommonTestUtil.arbitraryIdentifiers();
@@ -0,0 +1,62 @@
+package com.nikodoko.javaimports.common;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+
+public class SuffixTrieTest {
+  @Example
+  void itShouldFindImportsEndingWithASelector() {
+    var trie = new SuffixTrie();
+    var entry = new Import(Selector.parse("java.util.Map.Entry"), false);
+    trie.add(new Import(Selector.parse("com.app.Entry"), false));
+    trie.add(entry);
+    trie.add(new Import(Selector.parse("com.app.AbstractMap.Entry"), false));
+
+    assertThat(trie.endingWith(Selector.parse("Map.Entry"))).containsExactly(entry);
+    assertThat(trie.endingWith(Selector.parse("util.Map.Entry"))).containsExactly(entry);
+    assertThat(trie.endingWith(Selector.parse("Other.Entry"))).isEmpty();
+    assertThat(trie.endingWith(Selector.parse("a.java.util.Map.Entry"))).isEmpty();
+  }
+
+  // Uses few different identifiers so that lots of imports share suffixes and buckets get split
+  @Property
+  void itShouldFindTheSameImportsAsFilteringAllOfThem(@ForAll long seed) {
+    var random = new Random(seed);
+    var trie = new SuffixTrie();
+    List<Import> all = new ArrayList<>();
+    for (int i = 0; i < 10 * SuffixTrie.BUCKET_SIZE; i++) {
+      var imported = randomImport(random);
+      trie.add(imported);
+      all.add(imported);
+    }
+
+    for (int n = 0; n < 20; n++) {
+      var suffix = randomSelector(random, 1 + random.nextInt(4));
+      var expected =
+          all.stream().filter(i -> i.selector.endsWith(suffix)).collect(Collectors.toList());
+      assertThat(trie.endingWith(suffix)).containsExactlyElementsIn(expected).inOrder();
+    }
+
+    assertThat(trie.size()).isEqualTo(all.size());
+  }
+
+  private static Import randomImport(Random random) {
+    return new Import(randomSelector(random, 1 + random.nextInt(5)), random.nextBoolean());
+  }
+
+  private static Selector randomSelector(Random random, int size) {
+    var identifiers = new ArrayList<String>();
+    for (int i = 0; i < size; i++) {
+      identifiers.add("id" + random.nextInt(3));
+    }
+
+    return Selector.of(identifiers);
+  }
+}
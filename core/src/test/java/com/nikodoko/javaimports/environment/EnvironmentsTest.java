@@ -3,6 +3,7 @@ package com.nikodoko.javaimports.environment;
 import static com.google.common.truth.Truth.assertThat;
 
 import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.environment.classpath.ClasspathEnvironment;
 import com.nikodoko.javaimports.environment.maven.MavenEnvironment;
 import com.nikodoko.packagetest.BuildSystem;
 import com.nikodoko.packagetest.Export;
@@ -26,4 +27,18 @@ public class EnvironmentsTest {
     assertThat(got).isInstanceOf(MavenEnvironment.class);
     project.cleanup();
   }
+
+  @Test
+  void testClasspathIsUsedIfProvided() throws Exception {
+    Module module =
+        Module.named("test.module").containing(Module.file("Main.java", "package test.module;"));
+    Exported project = Export.of(BuildSystem.MAVEN, module);
+    Path target = project.file(module.name(), "Main.java").get();
+
+    Environment got =
+        Environments.autoSelect(
+            target, "test.module", Options.builder().classpath(target.getParent()).build());
+    assertThat(got).isInstanceOf(ClasspathEnvironment.class);
+    project.cleanup();
+  }
 }
@@ -0,0 +1,63 @@
+package com.nikodoko.javaimports.environment;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ImportCacheTest {
+  Path cache;
+  Path classes;
+
+  @BeforeEach
+  void setup() throws Exception {
+    Path tmp = Files.createTempDirectory("");
+    cache = tmp.resolve("cache");
+    classes = Files.createDirectories(tmp.resolve("classes/com/test"));
+    Files.write(classes.resolve("A.class"), new byte[0]);
+  }
+
+  @Test
+  void testImportsAreReadBackWithTheSameStamp() throws Exception {
+    var imports =
+        List.of(
+            new Import(Selector.parse("com.test.A"), false),
+            new Import(Selector.parse("com.test.A.CONSTANT"), true));
+    String stamp = ImportCache.stamp(classes);
+
+    ImportCache.write(cache, classes, stamp, imports);
+
+    assertThat(ImportCache.read(cache, classes, stamp)).hasValue(imports);
+  }
+
+  @Test
+  void testImportsAreNotReadBackWithAnotherStamp() throws Exception {
+    ImportCache.write(cache, classes, ImportCache.stamp(classes), List.of());
+
+    assertThat(ImportCache.read(cache, classes, "other")).isEmpty();
+    assertThat(ImportCache.read(cache, classes.resolve("other"), "other")).isEmpty();
+  }
+
+  @Test
+  void testStampChangesWhenNestedFilesChange() throws Exception {
+    Path root = classes.getParent().getParent();
+    String before = ImportCache.stamp(root);
+
+    Path a = classes.resolve("A.class");
+    Files.setLastModifiedTime(
+        a, FileTime.fromMillis(Files.getLastModifiedTime(a).toMillis() + 10_000));
+    String modified = ImportCache.stamp(root);
+    Files.write(classes.resolve("B.class"), new byte[0]);
+    String added = ImportCache.stamp(root);
+
+    assertThat(modified).isNotEqualTo(before);
+    assertThat(added).isNotEqualTo(modified);
+  }
+}
@@ -0,0 +1,75 @@
+package com.nikodoko.javaimports.environment;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.nikodoko.javaimports.Cancellation;
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.parser.ParsedFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProjectFilesTest {
+  Path root;
+
+  @BeforeEach
+  void setup() throws Exception {
+    root = Files.createTempDirectory("").resolve("build");
+  }
+
+  @Test
+  void testSkippedDirectoriesAreNotWalked() throws Exception {
+    Path main = write("src/main/java/com/test/Main.java", "package com.test; class Main {}");
+    write("src/main/resources/notes.txt", "");
+    write("build/generated/com/test/Generated.java", "package com.test; class Generated {}");
+    write("src/build/Nested.java", "package build; class Nested {}");
+
+    // Only directories below the root are skipped
+    assertThat(ProjectFiles.find(root, Set.of("build"), Cancellation.never()))
+        .containsExactly(main);
+  }
+
+  @Test
+  void testFindingFilesStopsOnceCancelled() throws Exception {
+    write("Main.java", "package com.test; class Main {}");
+    Cancellation cancellation = Cancellation.create();
+    cancellation.cancel();
+
+    assertThrows(
+        CancellationException.class, () -> ProjectFiles.find(root, Set.of(), cancellation));
+  }
+
+  @Test
+  void testFilesThatCannotBeParsedAreReported() throws Exception {
+    Path main = write("Main.java", "package com.test; class Main {}");
+    Path invalid = write("Invalid.java", "this is not valid java code");
+    List<Path> errors = new ArrayList<>();
+
+    List<ParsedFile> parsed;
+    try (Options options = Options.builder().numThreads(2).build()) {
+      parsed =
+          ProjectFiles.parse(
+              List.of(main, invalid, root.resolve("Missing.java")),
+              options,
+              (file, e) -> errors.add(file));
+    }
+
+    assertThat(parsed.stream().map(ParsedFile::packageName).collect(Collectors.toList()))
+        .containsExactly("com.test");
+    assertThat(errors).containsExactly(invalid, root.resolve("Missing.java")).inOrder();
+  }
+
+  Path write(String path, String content) throws Exception {
+    Path file = root.resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, content);
+    return file;
+  }
+}
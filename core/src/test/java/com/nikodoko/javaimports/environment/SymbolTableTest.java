@@ -0,0 +1,137 @@
+package com.nikodoko.javaimports.environment;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SymbolTableTest {
+  Path file;
+
+  @BeforeEach
+  void setup() throws Exception {
+    file = Files.createTempDirectory("").resolve("symbols.bin");
+  }
+
+  @Test
+  void testAllNamesAreFound() throws Exception {
+    List<Import> imports = new ArrayList<>();
+    // Enough names for several blocks, sharing long prefixes
+    for (int i = 0; i < 10 * SymbolTable.BLOCK_SIZE; i++) {
+      imports.add(new Import(Selector.parse("com.test.p" + (i % 7) + ".Name" + i), false));
+    }
+
+    SymbolTable.write(file, imports);
+    SymbolTable table = SymbolTable.map(file);
+
+    assertThat(table.size()).isEqualTo(imports.size());
+    for (Import i : imports) {
+      assertThat(table.lookup(i.name().toString())).containsExactly(i);
+    }
+  }
+
+  @Test
+  void testNamesCanBeLookedUpTogether() throws Exception {
+    List<Import> imports = new ArrayList<>();
+    for (int i = 0; i < 10 * SymbolTable.BLOCK_SIZE; i++) {
+      imports.add(new Import(Selector.parse("com.test.p" + (i % 7) + ".Name" + i), false));
+    }
+
+    SymbolTable.write(file, imports);
+    SymbolTable table = SymbolTable.map(file);
+    // Not sorted, and with missing names in between
+    List<String> names = List.of("Name99", "Missing", "Name0", "Name100", "Name1", "Name", "Zzz");
+
+    Map<String, List<Import>> expected = new HashMap<>();
+    for (String name : names) {
+      if (!table.lookup(name).isEmpty()) {
+        expected.put(name, table.lookup(name));
+      }
+    }
+    assertThat(table.lookup(names)).isEqualTo(expected);
+    assertThat(expected.keySet()).containsExactly("Name99", "Name0", "Name100", "Name1");
+  }
+
+  @Test
+  void testAllQualifiersOfANameAreFound() throws Exception {
+    SymbolTable.write(
+        file,
+        List.of(
+            new Import(Selector.parse("java.util.List"), false),
+            new Import(Selector.parse("java.awt.List"), false),
+            new Import(Selector.parse("java.util.List.of"), true),
+            new Import(Selector.parse("java.util.List"), false)));
+
+    var got = SymbolTable.map(file).lookup("List");
+
+    assertThat(got)
+        .containsExactly(
+            new Import(Selector.parse("java.util.List"), false),
+            new Import(Selector.parse("java.awt.List"), false));
+  }
+
+  @Test
+  void testImportsEndingWithASelectorAreFound() throws Exception {
+    SymbolTable.write(
+        file,
+        List.of(
+            new Import(Selector.parse("java.util.Map.Entry"), false),
+            new Import(Selector.parse("com.test.Entry"), false),
+            new Import(Selector.parse("com.test.HashMap.Entry"), false),
+            new Import(Selector.parse("Map.Entry"), false)));
+    SymbolTable table = SymbolTable.map(file);
+
+    assertThat(table.lookup(Selector.parse("Map.Entry")))
+        .containsExactly(
+            new Import(Selector.parse("java.util.Map.Entry"), false),
+            new Import(Selector.parse("Map.Entry"), false));
+    assertThat(table.lookup(Selector.parse("util.Map.Entry")))
+        .containsExactly(new Import(Selector.parse("java.util.Map.Entry"), false));
+    assertThat(table.lookup(Selector.parse("Entry"))).hasSize(4);
+    assertThat(table.lookup(Selector.parse("Other.Entry"))).isEmpty();
+  }
+
+  @Test
+  void testMissingNamesAreNotFound() throws Exception {
+    SymbolTable.write(
+        file,
+        List.of(
+            new Import(Selector.parse("com.test.Bar"), false),
+            new Import(Selector.parse("com.test.Barbaz"), false),
+            new Import(Selector.parse("com.test.Foo"), false)));
+    SymbolTable table = SymbolTable.map(file);
+
+    for (String missing : List.of("", "Aaa", "Ba", "Bara", "Barbazz", "Baz", "Fo", "Fooo", "Zzz")) {
+      assertThat(table.lookup(missing)).isEmpty();
+    }
+  }
+
+  @Test
+  void testNonAsciiNamesAreFound() throws Exception {
+    List<Import> imports =
+        List.of(
+            new Import(Selector.parse("com.test.ünicode.Été"), false),
+            new Import(Selector.parse("com.test.Eta"), false));
+
+    SymbolTable.write(file, imports);
+    SymbolTable table = SymbolTable.map(file);
+
+    assertThat(table.lookup("Été")).containsExactly(imports.get(0));
+    assertThat(table.lookup("Eta")).containsExactly(imports.get(1));
+  }
+
+  @Test
+  void testEmptyTable() throws Exception {
+    SymbolTable.write(file, List.of());
+
+    assertThat(SymbolTable.map(file).lookup("Anything")).isEmpty();
+  }
+}
@@ -0,0 +1,69 @@
+package com.nikodoko.javaimports.environment.classpath;
+
+import static com.google.common.truth.Truth8.assertThat;
+
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import com.nikodoko.javaimports.environment.Environments;
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ClasspathEnvironmentTest {
+  static final URL repositoryURL = ClasspathEnvironmentTest.class.getResource("/testrepository");
+  Path repository;
+  Path tmp;
+
+  @BeforeEach
+  void setup() throws Exception {
+    repository = Paths.get(repositoryURL.toURI());
+    tmp = Files.createTempDirectory("");
+  }
+
+  @Test
+  void testJarsInClasspathFileAreFound() throws Exception {
+    Path classpath =
+        Files.write(
+            tmp.resolve("classpath.txt"),
+            String.join(
+                    File.pathSeparator,
+                    jar("a-dependency/2.0/a-dependency-2.0.jar").toString(),
+                    tmp.resolve("does-not-exist.jar").toString())
+                .getBytes());
+
+    var environment =
+        new ClasspathEnvironment(classpath, Environments.empty(), "test", Options.defaults());
+
+    assertThat(environment.search("Subclass"))
+        .hasValue(new Import(Selector.parse("com.mycompany.app.App.Subclass"), false));
+  }
+
+  @Test
+  void testJarsInDirectoryAreFound() throws Exception {
+    Files.copy(jar("a-dependency/1.0/a-dependency-1.0.jar"), tmp.resolve("a.jar"));
+
+    var environment =
+        new ClasspathEnvironment(tmp, Environments.empty(), "test", Options.defaults());
+
+    assertThat(environment.search("App"))
+        .hasValue(new Import(Selector.parse("com.mycompany.app.App"), false));
+  }
+
+  @Test
+  void testMissingClasspathIsIgnored() throws Exception {
+    var environment =
+        new ClasspathEnvironment(
+            tmp.resolve("missing.txt"), Environments.empty(), "test", Options.defaults());
+
+    assertThat(environment.search("App")).isEmpty();
+  }
+
+  Path jar(String path) {
+    return repository.resolve("com/mycompany/app").resolve(path);
+  }
+}
@@ -0,0 +1,146 @@
+package com.nikodoko.javaimports.environment.gradle;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GradleDependencyFinderTest {
+  Path root;
+
+  @BeforeEach
+  void setup() throws Exception {
+    root = Files.createTempDirectory("");
+  }
+
+  @Test
+  void testGroovyBuildFileIsRead() throws Exception {
+    write(
+        "build.gradle",
+        "plugins { id 'java' }",
+        "dependencies {",
+        "  implementation 'com.google.guava:guava:28.1-jre'",
+        "  testImplementation \"org.junit.jupiter:junit-jupiter:5.6.2\"",
+        "  compileOnly group: 'org.projectlombok', name: 'lombok', version: '1.18.12'",
+        "  runtimeOnly 'org.slf4j:slf4j-simple'",
+        "}");
+
+    var got = new GradleDependencyFinder().findAll(root);
+
+    assertThat(got.dependencies)
+        .containsExactly(
+            new GradleDependency("com.google.guava", "guava", "28.1-jre"),
+            new GradleDependency("org.junit.jupiter", "junit-jupiter", "5.6.2"),
+            new GradleDependency("org.projectlombok", "lombok", "1.18.12"),
+            new GradleDependency("org.slf4j", "slf4j-simple", null));
+  }
+
+  @Test
+  void testKotlinBuildFileWithVersionCatalogIsRead() throws Exception {
+    write("settings.gradle.kts", "include(\"app\")");
+    write(
+        "gradle/libs.versions.toml",
+        "[versions]",
+        "guava = \"28.1-jre\" # a comment",
+        "",
+        "[libraries]",
+        "guava = { module = \"com.google.guava:guava\", version.ref = \"guava\" }",
+        "commons-lang = \"org.apache.commons:commons-lang3:3.11\"",
+        "truth = { group = \"com.google.truth\", name = \"truth\", version = \"1.0.1\" }",
+        "unused = \"com.test:unused:1.0\"");
+    write(
+        "app/build.gradle.kts",
+        "dependencies {",
+        "  implementation(libs.guava)",
+        "  implementation(libs.commons.lang)",
+        "  testImplementation(libs.truth)",
+        "  implementation(\"com.test:direct:1.0\")",
+        "}");
+
+    var got = new GradleDependencyFinder().findAll(root.resolve("app"));
+
+    assertThat(got.dependencies)
+        .containsExactly(
+            new GradleDependency("com.test", "direct", "1.0"),
+            new GradleDependency("com.google.guava", "guava", "28.1-jre"),
+            new GradleDependency("org.apache.commons", "commons-lang3", "3.11"),
+            new GradleDependency("com.google.truth", "truth", "1.0.1"));
+  }
+
+  @Test
+  void testVersionCatalogBundlesAreRead() throws Exception {
+    write(
+        "gradle/libs.versions.toml",
+        "[libraries]",
+        "guava = \"com.google.guava:guava:28.1-jre\"",
+        "commons-lang = \"org.apache.commons:commons-lang3:3.11\"",
+        "",
+        "[bundles]",
+        "common = [\"guava\", \"commons-lang\"]");
+    write("build.gradle.kts", "dependencies {", "  implementation(libs.bundles.common)", "}");
+
+    var got = new GradleDependencyFinder().findAll(root);
+
+    assertThat(got.dependencies)
+        .containsExactly(
+            new GradleDependency("com.google.guava", "guava", "28.1-jre"),
+            new GradleDependency("org.apache.commons", "commons-lang3", "3.11"));
+  }
+
+  @Test
+  void testProjectDependenciesAreFoundFromTheRootOfTheBuild() throws Exception {
+    write("settings.gradle", "include 'app', 'libs:core', 'libs:util'");
+    write(
+        "app/build.gradle",
+        "dependencies {",
+        "  implementation project(':libs:core')",
+        "  testImplementation(project(path: ':libs:util'))",
+        "  implementation 'com.google.guava:guava:28.1-jre'",
+        "}");
+    write("app/gradle.lockfile", "com.google.guava:guava:28.1-jre=compileClasspath");
+
+    var got = new GradleDependencyFinder().findAll(root.resolve("app"));
+
+    assertThat(got.projects)
+        .containsExactly(root.resolve("libs/core"), root.resolve("libs/util"))
+        .inOrder();
+    assertThat(got.dependencies)
+        .containsExactly(new GradleDependency("com.google.guava", "guava", "28.1-jre"));
+  }
+
+  @Test
+  void testLockfileIsPreferredToBuildFile() throws Exception {
+    write("build.gradle", "dependencies { implementation 'com.google.guava:guava:+' }");
+    write(
+        "gradle.lockfile",
+        "# This is a Gradle generated file for dependency locking.",
+        "com.google.guava:failureaccess:1.0.1=compileClasspath,runtimeClasspath",
+        "com.google.guava:guava:28.1-jre=compileClasspath,runtimeClasspath",
+        "empty=annotationProcessor");
+
+    var got = new GradleDependencyFinder().findAll(root);
+
+    assertThat(got.dependencies)
+        .containsExactly(
+            new GradleDependency("com.google.guava", "failureaccess", "1.0.1"),
+            new GradleDependency("com.google.guava", "guava", "28.1-jre"));
+  }
+
+  @Test
+  void testDynamicVersionsAreNotPlain() {
+    assertThat(new GradleDependency("a", "b", "1.0").hasPlainVersion()).isTrue();
+    assertThat(new GradleDependency("a", "b", "1.+").hasPlainVersion()).isFalse();
+    assertThat(new GradleDependency("a", "b", "latest.release").hasPlainVersion()).isFalse();
+    assertThat(new GradleDependency("a", "b", "[1.0,2.0)").hasPlainVersion()).isFalse();
+    assertThat(new GradleDependency("a", "b", "$guavaVersion").hasPlainVersion()).isFalse();
+    assertThat(new GradleDependency("a", "b", null).hasPlainVersion()).isFalse();
+  }
+
+  void write(String path, String... lines) throws Exception {
+    Path file = root.resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.write(file, String.join("\n", lines).getBytes());
+  }
+}
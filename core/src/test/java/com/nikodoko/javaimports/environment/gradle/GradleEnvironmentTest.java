@@ -0,0 +1,103 @@
+package com.nikodoko.javaimports.environment.gradle;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import com.nikodoko.javaimports.environment.Environment;
+import com.nikodoko.javaimports.environment.Environments;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GradleEnvironmentTest {
+  static final Path MAVEN_REPOSITORY =
+      Paths.get("src", "test", "resources", "testrepository", "com", "mycompany", "app");
+
+  Path root;
+  Path cache;
+  Options options;
+
+  @BeforeEach
+  void setup() throws Exception {
+    root = Files.createTempDirectory("").toRealPath();
+    cache = Files.createTempDirectory("");
+    options = Options.builder().repository(cache).build();
+    cached("a-dependency", "1.0");
+    cached("a-dependency", "2.0");
+    write("src/main/java/com/test/Other.java", "package com.test.other;", "public class Other {}");
+    write("build/generated/Generated.java", "package com.test.gen;", "public class Generated {}");
+  }
+
+  @Test
+  void testDependenciesAreResolvedFromModuleCache() throws Exception {
+    write("build.gradle", "dependencies { implementation 'com.mycompany.app:a-dependency:1.0' }");
+
+    Environment environment = autoSelect();
+
+    assertThat(environment).isInstanceOf(GradleEnvironment.class);
+    assertThat(environment.search("App"))
+        .hasValue(new Import(Selector.parse("com.mycompany.app.App"), false));
+    // Only available in 2.0
+    assertThat(environment.search("Subclass")).isEmpty();
+    assertThat(environment.search("Other"))
+        .hasValue(new Import(Selector.parse("com.test.other.Other"), false));
+  }
+
+  @Test
+  void testDynamicVersionsResolveToLatestCachedVersion() throws Exception {
+    write(
+        "build.gradle.kts",
+        "dependencies { implementation(\"com.mycompany.app:a-dependency:+\") }");
+
+    Environment environment = autoSelect();
+
+    assertThat(environment.search("Subsubclass"))
+        .hasValue(new Import(Selector.parse("com.mycompany.app.App.Subclass.Subsubclass"), false));
+  }
+
+  @Test
+  void testOtherProjectsOfTheBuildAreParsed() throws Exception {
+    Path build = root;
+    root = build.resolve("app");
+    write("build.gradle", "dependencies { implementation project(':lib') }");
+    Files.write(build.resolve("settings.gradle"), "include 'app', 'lib'".getBytes());
+    Path lib = build.resolve("lib/src/main/java/com/test/lib/Lib.java");
+    Files.createDirectories(lib.getParent());
+    Files.write(lib, "package com.test.lib; public class Lib {}".getBytes());
+
+    assertThat(autoSelect().search("Lib"))
+        .hasValue(new Import(Selector.parse("com.test.lib.Lib"), false));
+  }
+
+  @Test
+  void testBuildOutputsAreNotParsed() throws Exception {
+    write("build.gradle", "");
+
+    assertThat(autoSelect().search("Generated")).isEmpty();
+  }
+
+  Environment autoSelect() throws Exception {
+    Path target = write("src/main/java/com/test/Main.java", "package com.test;", "class Main {}");
+    return Environments.autoSelect(target, "com.test", options);
+  }
+
+  // Mimics the layout of ~/.gradle/caches/modules-2/files-2.1
+  void cached(String artifact, String version) throws Exception {
+    String jar = String.format("%s-%s.jar", artifact, version);
+    Path file =
+        cache.resolve(Paths.get("com.mycompany.app", artifact, version, "0123456789abcdef", jar));
+    Files.createDirectories(file.getParent());
+    Files.copy(MAVEN_REPOSITORY.resolve(Paths.get(artifact, version, jar)), file);
+  }
+
+  Path write(String path, String... lines) throws Exception {
+    Path file = root.resolve(path);
+    Files.createDirectories(file.getParent());
+    return Files.write(file, String.join("\n", lines).getBytes());
+  }
+}
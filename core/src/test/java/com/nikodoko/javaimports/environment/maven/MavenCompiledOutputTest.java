@@ -0,0 +1,117 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MavenCompiledOutputTest {
+  static final FileTime COMPILATION = FileTime.fromMillis(1_000_000);
+
+  Path root;
+  MavenCompiledOutput output;
+
+  @BeforeEach
+  void setup() throws Exception {
+    root = Files.createTempDirectory("");
+    output = new MavenCompiledOutput(root);
+  }
+
+  @Test
+  void testUpToDateSourcesAreIndexedFromCompiledOutput() throws Exception {
+    var source = source("src/main/java/com/test/a/A.java", COMPILATION.toMillis() - 1);
+    compiled("target/classes/com/test/a/A.class", "target/classes/com/test/a/A$Nested.class");
+
+    var got = output.index(List.of(source), "com.test", null);
+
+    assertThat(got.toParse).isEmpty();
+    assertThat(got.compiled).containsExactly("com.test.a", List.of(source));
+    assertThat(got.imports)
+        .containsExactly(
+            new Import(Selector.parse("com.test.a.A"), false),
+            new Import(Selector.parse("com.test.a.A.Nested"), false));
+  }
+
+  @Test
+  void testModifiedSourcesAreParsed() throws Exception {
+    var source = source("src/test/java/com/test/a/ATest.java", COMPILATION.toMillis() + 1);
+    compiled("target/test-classes/com/test/a/ATest.class");
+
+    var got = output.index(List.of(source), "com.test", null);
+
+    assertThat(got.toParse).containsExactly(source);
+    assertThat(got.imports).isEmpty();
+  }
+
+  @Test
+  void testSourcesInPackageToParseAreParsed() throws Exception {
+    var source = source("src/main/java/com/test/a/A.java", COMPILATION.toMillis() - 1);
+    compiled("target/classes/com/test/a/A.class", "target/classes/com/test/a/Other.class");
+
+    var got = output.index(List.of(source), "com.test.a", null);
+
+    assertThat(got.toParse).containsExactly(source);
+    assertThat(got.imports).isEmpty();
+  }
+
+  @Test
+  void testExcludedSourceIsNeitherParsedNorIndexed() throws Exception {
+    var excluded = source("src/main/java/com/test/a/A.java", COMPILATION.toMillis() - 1);
+    var other = source("src/main/java/com/test/b/B.java", COMPILATION.toMillis() - 1);
+    compiled("target/classes/com/test/a/A.class", "target/classes/com/test/b/B.class");
+
+    var got = output.index(List.of(excluded, other), "com.test.b", excluded);
+
+    assertThat(got.toParse).containsExactly(other);
+    assertThat(got.imports).isEmpty();
+  }
+
+  @Test
+  void testClassesOfDeletedSourcesAreNotIndexed() throws Exception {
+    var source = source("src/main/java/com/test/a/A.java", COMPILATION.toMillis() - 1);
+    // B.java was deleted (or renamed) since the last compilation
+    compiled(
+        "target/classes/com/test/a/A.class",
+        "target/classes/com/test/a/B.class",
+        "target/classes/com/test/a/B$Nested.class",
+        "target/classes/com/test/c/C.class");
+
+    var got = output.index(List.of(source), "com.test", null);
+
+    assertThat(got.imports).containsExactly(new Import(Selector.parse("com.test.a.A"), false));
+  }
+
+  @Test
+  void testSourcesOutsideOfStandardDirectoriesAreParsed() throws Exception {
+    var source = source("src/generated/java/com/test/a/A.java", COMPILATION.toMillis() - 1);
+    compiled("target/classes/com/test/a/A.class");
+
+    var got = output.index(List.of(source), "com.test", null);
+
+    assertThat(got.toParse).containsExactly(source);
+  }
+
+  Path source(String path, long lastModified) throws Exception {
+    Path file = write(path);
+    Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified));
+    return file;
+  }
+
+  void compiled(String... paths) throws Exception {
+    for (String path : paths) {
+      Files.setLastModifiedTime(write(path), COMPILATION);
+    }
+  }
+
+  Path write(String path) throws Exception {
+    Path file = root.resolve(path);
+    Files.createDirectories(file.getParent());
+    return Files.write(file, new byte[0]);
+  }
+}
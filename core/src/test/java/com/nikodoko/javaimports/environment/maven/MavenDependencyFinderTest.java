@@ -62,6 +62,29 @@ public class MavenDependencyFinderTest {
     assertThat(got.errors).isEmpty();
   }
 
+  @Test
+  void testDependenciesUsingDefinedParametersAreInterpolated() throws Exception {
+    MavenDependencyFinder finder = new MavenDependencyFinder();
+    write(
+        basicPom(),
+        withProperties("guava.version", "28.1-jre"),
+        withDependencies(
+            "com.google.guava",
+            "guava",
+            "${guava.version}",
+            "com.nikodoko.javaimports",
+            "test-pom-sibling",
+            "${project.version}"));
+    List<MavenDependency> expected =
+        ImmutableList.of(
+            new MavenDependency("com.google.guava", "guava", "28.1-jre"),
+            new MavenDependency("com.nikodoko.javaimports", "test-pom-sibling", "0.0"));
+
+    MavenDependencyFinder.Result got = finder.findAll(tmp);
+    assertThat(got.dependencies).containsExactlyElementsIn(expected);
+    assertThat(got.errors).isEmpty();
+  }
+
   @Test
   void testThatFinderDoesNotCrashOnInvalidPom() throws Exception {
     Files.write(Paths.get(tmp.toString(), "pom.xml"), "this is not a valid pom!".getBytes());
@@ -80,6 +103,14 @@ public class MavenDependencyFinderTest {
     };
   }
 
+  static Consumer<Model> withProperties(String... elements) {
+    return m -> {
+      for (int i = 0; i < elements.length; i = i + 2) {
+        m.addProperty(elements[i], elements[i + 1]);
+      }
+    };
+  }
+
   static Consumer<Model> withDependencies(String... elements) {
     List<Dependency> deps = new ArrayList<>();
     for (int i = 0; i < elements.length; i = i + 3) {
@@ -3,7 +3,8 @@ package com.nikodoko.javaimports.environment.maven;
 import static com.google.common.truth.Truth.assertThat;
 
 import com.google.common.collect.ImmutableList;
-import com.nikodoko.javaimports.parser.Import;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -31,14 +32,14 @@ class MavenDependencyLoaderTest {
         Arguments.of(
             "Classes are found",
             "com/mycompany/app/a-dependency/1.0/a-dependency-1.0.jar",
-            List.of(new Import("App", "com.mycompany.app", false))),
+            List.of(new Import(Selector.parse("com.mycompany.app.App"), false))),
         Arguments.of(
             "Subclasses are found",
             "com/mycompany/app/a-dependency/2.0/a-dependency-2.0.jar",
             List.of(
-                new Import("Subclass", "com.mycompany.app.App", false),
-                new Import("Subsubclass", "com.mycompany.app.App.Subclass", false),
-                new Import("App", "com.mycompany.app", false))));
+                new Import(Selector.parse("com.mycompany.app.App.Subclass"), false),
+                new Import(Selector.parse("com.mycompany.app.App.Subclass.Subsubclass"), false),
+                new Import(Selector.parse("com.mycompany.app.App"), false))));
   }
 
   @ParameterizedTest(name = "{0}")
@@ -50,7 +51,8 @@ class MavenDependencyLoaderTest {
 
   @Test
   void testJava9DependencyIsResolved() throws Exception {
-    List<Import> expected = ImmutableList.of(new Import("App", "com.mycompany.app", false));
+    List<Import> expected =
+        ImmutableList.of(new Import(Selector.parse("com.mycompany.app.App"), false));
 
     List<Import> got =
         loader.load(
@@ -7,6 +7,7 @@ import com.google.common.truth.Truth;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 public class MavenDependencyVersionTest {
@@ -41,4 +42,40 @@ public class MavenDependencyVersionTest {
     Collections.sort(ordered);
     Truth.assertThat(ordered).containsExactlyElementsIn(expected).inOrder();
   }
+
+  @Test
+  void testOrderingFollowsMavenRules() {
+    List<String> expected =
+        ImmutableList.of(
+            "1.0-alpha-1",
+            "1.0-beta2",
+            "1.0-m3",
+            "1.0-rc1",
+            "1.0-SNAPSHOT",
+            "1.0",
+            "1.0-sp",
+            "1.0-jre",
+            "1.0.1",
+            "1.2",
+            "1.10");
+
+    List<MavenDependencyVersion> ordered = new ArrayList<>();
+    for (int i = expected.size() - 1; i >= 0; i--) {
+      ordered.add(MavenDependencyVersion.of(expected.get(i)).get());
+    }
+
+    Collections.sort(ordered);
+    Truth.assertThat(ordered.stream().map(v -> v.name).collect(Collectors.toList()))
+        .containsExactlyElementsIn(expected)
+        .inOrder();
+  }
+
+  @Test
+  void testEquivalentVersionsCompareEqual() {
+    var version = MavenDependencyVersion.of("1.0").get();
+
+    Truth.assertThat(version.compareTo(MavenDependencyVersion.of("1.0.0").get())).isEqualTo(0);
+    Truth.assertThat(version.compareTo(MavenDependencyVersion.of("1.0-ga").get())).isEqualTo(0);
+    Truth.assertThat(version.compareTo(MavenDependencyVersion.of("1.0-FINAL").get())).isEqualTo(0);
+  }
 }
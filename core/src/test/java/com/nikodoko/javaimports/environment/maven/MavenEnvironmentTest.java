@@ -3,9 +3,10 @@ package com.nikodoko.javaimports.environment.maven;
 import static com.google.common.truth.Truth8.assertThat;
 
 import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
 import com.nikodoko.javaimports.environment.Environment;
 import com.nikodoko.javaimports.environment.Environments;
-import com.nikodoko.javaimports.parser.Import;
 import com.nikodoko.packagetest.BuildSystem;
 import com.nikodoko.packagetest.Export;
 import com.nikodoko.packagetest.Exported;
@@ -45,7 +46,7 @@ public class MavenEnvironmentTest {
 
     Environment environment = Environments.autoSelect(target, "test.module", Options.defaults());
     assertThat(environment.search("Second"))
-        .hasValue(new Import("Second", "test.module.second", false));
+        .hasValue(new Import(Selector.parse("test.module.second.Second"), false));
   }
 
   @Test
@@ -79,7 +80,7 @@ public class MavenEnvironmentTest {
 
     Environment environment = Environments.autoSelect(target, "test.module", Options.defaults());
     assertThat(environment.search("Second"))
-        .hasValue(new Import("Second", "test.module.second", false));
+        .hasValue(new Import(Selector.parse("test.module.second.Second"), false));
   }
 
   @Test
@@ -97,7 +98,8 @@ public class MavenEnvironmentTest {
     // Assert that the 1.0 version of the dependency is indeed selected by checking that a class
     // only present in 2.0 is not found
     // TODO: enable
-    assertThat(environment.search("App")).hasValue(new Import("App", "com.mycompany.app", false));
+    assertThat(environment.search("App"))
+        .hasValue(new Import(Selector.parse("com.mycompany.app.App"), false));
     // assertThat(environment.search("Subclass")).isEmpty();
   }
 }
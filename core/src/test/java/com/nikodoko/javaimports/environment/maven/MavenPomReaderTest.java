@@ -0,0 +1,176 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MavenPomReaderTest {
+  Path tmp;
+
+  @BeforeEach
+  void setup() throws Exception {
+    tmp = Files.createTempDirectory("");
+  }
+
+  @Test
+  void testCoordinatesAndParentAreRead() throws Exception {
+    var pom =
+        write(
+            "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">",
+            "  <modelVersion>4.0.0</modelVersion>",
+            "  <parent>",
+            "    <groupId>com.test</groupId>",
+            "    <artifactId>parent</artifactId>",
+            "    <version>1.0</version>",
+            "    <relativePath>../pom.xml</relativePath>",
+            "  </parent>",
+            "  <artifactId>child</artifactId>",
+            "</project>");
+
+    MavenPom got = new MavenPomReader().read(pom);
+
+    assertThat(got.artifactId).isEqualTo("child");
+    assertThat(got.groupId()).isEqualTo("com.test");
+    assertThat(got.version()).isEqualTo("1.0");
+    assertThat(got.parent).isEqualTo(new MavenDependency("com.test", "parent", "1.0"));
+  }
+
+  @Test
+  void testOnlyProjectDependenciesAreRead() throws Exception {
+    var pom =
+        write(
+            "<project>",
+            "  <dependencyManagement>",
+            "    <dependencies>",
+            "      <dependency>",
+            "        <groupId>com.test</groupId>",
+            "        <artifactId>managed</artifactId>",
+            "        <version>1.0</version>",
+            "      </dependency>",
+            "    </dependencies>",
+            "  </dependencyManagement>",
+            "  <dependencies>",
+            "    <dependency>",
+            "      <groupId>com.test</groupId>",
+            "      <artifactId>direct</artifactId>",
+            "      <version>2.0</version>",
+            "      <exclusions>",
+            "        <exclusion>",
+            "          <groupId>com.test</groupId>",
+            "          <artifactId>excluded</artifactId>",
+            "        </exclusion>",
+            "      </exclusions>",
+            "    </dependency>",
+            "  </dependencies>",
+            "  <build>",
+            "    <plugins>",
+            "      <plugin>",
+            "        <dependencies>",
+            "          <dependency>",
+            "            <groupId>com.test</groupId>",
+            "            <artifactId>plugin-dependency</artifactId>",
+            "          </dependency>",
+            "        </dependencies>",
+            "      </plugin>",
+            "    </plugins>",
+            "  </build>",
+            "</project>");
+
+    MavenPom got = new MavenPomReader().read(pom);
+
+    assertThat(got.dependencies).containsExactly(new MavenDependency("com.test", "direct", "2.0"));
+  }
+
+  @Test
+  void testPropertiesAreUsedForInterpolation() throws Exception {
+    var pom =
+        write(
+            "<project>",
+            "  <groupId>com.test</groupId>",
+            "  <artifactId>app</artifactId>",
+            "  <version>3.0</version>",
+            "  <properties>",
+            "    <guava.version>28.1-jre</guava.version>",
+            "  </properties>",
+            "</project>");
+
+    MavenPom got = new MavenPomReader().read(pom);
+
+    assertThat(got.interpolate("${guava.version}")).isEqualTo("28.1-jre");
+    assertThat(got.interpolate("${project.version}")).isEqualTo("3.0");
+    assertThat(got.interpolate("${unknown.version}")).isEqualTo("${unknown.version}");
+  }
+
+  @Test
+  void testCommentsCdataAndEntitiesAreHandled() throws Exception {
+    var pom =
+        write(
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+            "<!-- <project><artifactId>commented</artifactId></project> -->",
+            "<project>",
+            "  <groupId><![CDATA[com.test]]></groupId>",
+            "  <artifactId>a&amp;b<!-- comment --></artifactId>",
+            "  <version/>",
+            "  <dependencies>",
+            "    <dependency>",
+            "      <groupId>com.test</groupId>",
+            "      <artifactId>dep</artifactId>",
+            "      <optional/>",
+            "    </dependency>",
+            "  </dependencies>",
+            "</project>");
+
+    MavenPom got = new MavenPomReader().read(pom);
+
+    assertThat(got.groupId).isEqualTo("com.test");
+    assertThat(got.artifactId).isEqualTo("a&b");
+    assertThat(got.version).isNull();
+    assertThat(got.dependencies).containsExactly(new MavenDependency("com.test", "dep", null));
+  }
+
+  @Test
+  void testBlankVersionsAreInheritedFromTheParent() throws Exception {
+    var pom =
+        write(
+            "<project>",
+            "  <parent>",
+            "    <groupId>com.test</groupId>",
+            "    <artifactId>parent</artifactId>",
+            "    <version>1.0</version>",
+            "  </parent>",
+            "  <groupId> </groupId>",
+            "  <artifactId>child</artifactId>",
+            "  <version/>",
+            "  <dependencies>",
+            "    <dependency>",
+            "      <groupId>com.test</groupId>",
+            "      <artifactId>dep</artifactId>",
+            "      <version></version>",
+            "    </dependency>",
+            "  </dependencies>",
+            "</project>");
+
+    MavenPom got = new MavenPomReader().read(pom);
+
+    assertThat(got.version()).isEqualTo("1.0");
+    assertThat(got.groupId()).isEqualTo("com.test");
+    assertThat(got.interpolate("${project.version}")).isEqualTo("1.0");
+    assertThat(got.dependencies).containsExactly(new MavenDependency("com.test", "dep", null));
+  }
+
+  @Test
+  void testInvalidPomThrows() throws Exception {
+    var pom = write("this is not a valid pom!");
+
+    assertThrows(IOException.class, () -> new MavenPomReader().read(pom));
+  }
+
+  Path write(String... lines) throws Exception {
+    return Files.write(tmp.resolve("pom.xml"), String.join("\n", lines).getBytes());
+  }
+}
@@ -1,13 +1,16 @@
 package com.nikodoko.javaimports.environment.maven;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.nikodoko.javaimports.Cancellation;
 import com.nikodoko.javaimports.Options;
 import com.nikodoko.packagetest.BuildSystem;
 import com.nikodoko.packagetest.Export;
 import com.nikodoko.packagetest.Exported;
 import com.nikodoko.packagetest.Module;
 import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
@@ -37,6 +40,21 @@ public class MavenProjectParserTest {
     assertThat(got.project.allFiles()).hasSize(2);
   }
 
+  @Test
+  void testFindingFilesStopsOnceCancelled() throws Exception {
+    Module module =
+        Module.named("test.module")
+            .containing(Module.file("Main.java", "package test.module; public class Main {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Cancellation cancellation = Cancellation.create();
+    cancellation.cancel();
+
+    MavenProjectFinder finder =
+        MavenProjectFinder.withRoot(project.root()).cancelledBy(cancellation);
+
+    assertThrows(CancellationException.class, finder::findAll);
+  }
+
   @Test
   void testExcludedFilesAreIgnored() throws Exception {
     Module module =
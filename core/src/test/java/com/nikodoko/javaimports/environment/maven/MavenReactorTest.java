@@ -0,0 +1,183 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.Profile;
+import com.nikodoko.javaimports.Profile.Counter;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import com.nikodoko.javaimports.environment.Environment;
+import com.nikodoko.javaimports.environment.Environments;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MavenReactorTest {
+  Path root;
+
+  @BeforeEach
+  void setup() throws Exception {
+    root = Files.createTempDirectory("").toRealPath();
+    write(
+        "pom.xml",
+        "<project>",
+        "  <groupId>com.test</groupId>",
+        "  <artifactId>parent</artifactId>",
+        "  <version>1.0</version>",
+        "  <modules>",
+        "    <module>a</module>",
+        "    <module>b</module>",
+        "  </modules>",
+        "</project>");
+    write(
+        "a/pom.xml",
+        "<project>",
+        "  <parent>",
+        "    <groupId>com.test</groupId>",
+        "    <artifactId>parent</artifactId>",
+        "    <version>1.0</version>",
+        "  </parent>",
+        "  <artifactId>a</artifactId>",
+        "</project>");
+    write(
+        "b/pom.xml",
+        "<project>",
+        "  <parent>",
+        "    <groupId>com.test</groupId>",
+        "    <artifactId>parent</artifactId>",
+        "    <version>1.0</version>",
+        "  </parent>",
+        "  <artifactId>b</artifactId>",
+        "  <dependencies>",
+        "    <dependency>",
+        "      <groupId>com.test</groupId>",
+        "      <artifactId>a</artifactId>",
+        "      <version>${project.version}</version>",
+        "    </dependency>",
+        "  </dependencies>",
+        "</project>");
+    write("b/src/main/java/com/test/b/Main.java", "package com.test.b;", "public class Main {}");
+  }
+
+  @Test
+  void testReactorIsDiscoveredFromAnyModule() throws Exception {
+    MavenReactor reactor = MavenReactor.containing(root.resolve("b"));
+
+    assertThat(reactor.root).isEqualTo(root);
+    assertThat(reactor.moduleFor(new MavenDependency("com.test", "a", "1.0")))
+        .hasValue(root.resolve("a"));
+    assertThat(reactor.moduleFor(new MavenDependency("com.test", "c", "1.0"))).isEmpty();
+  }
+
+  @Test
+  void testSiblingModuleIsIndexedFromCompiledClasses() throws Exception {
+    write("a/src/main/java/com/test/a/Source.java", "package com.test.a;", "class Source {}");
+    write("a/target/classes/com/test/a/Compiled.class");
+    write("a/target/classes/com/test/a/Compiled$Inner.class");
+    write("a/target/classes/com/test/a/Compiled$1.class");
+
+    var got = MavenReactor.containing(root.resolve("b")).importsIn(root.resolve("a"), options());
+
+    assertThat(got)
+        .containsExactly(
+            new Import(Selector.parse("com.test.a.Compiled"), false),
+            new Import(Selector.parse("com.test.a.Compiled.Inner"), false));
+  }
+
+  @Test
+  void testIndexIsRefreshedWhenClassesAreAddedToSubpackages() throws Exception {
+    write("a/target/classes/com/test/a/Compiled.class");
+    var reactor = MavenReactor.containing(root.resolve("b"));
+    reactor.importsIn(root.resolve("a"), options());
+
+    // This does not modify target/classes itself
+    write("a/target/classes/com/test/a/sub/Added.class");
+    var got = reactor.importsIn(root.resolve("a"), options());
+
+    assertThat(got)
+        .containsExactly(
+            new Import(Selector.parse("com.test.a.Compiled"), false),
+            new Import(Selector.parse("com.test.a.sub.Added"), false));
+  }
+
+  @Test
+  void testIndexIsRefreshedWhenClassesAreRecompiled() throws Exception {
+    write("a/target/classes/com/test/a/Compiled.class");
+    var reactor = MavenReactor.containing(root.resolve("b"));
+    var options = options();
+    reactor.importsIn(root.resolve("a"), options);
+
+    Path compiled = root.resolve("a/target/classes/com/test/a/Compiled.class");
+    Files.setLastModifiedTime(
+        compiled, FileTime.fromMillis(Files.getLastModifiedTime(compiled).toMillis() + 10_000));
+    reactor.importsIn(root.resolve("a"), options);
+
+    assertThat(options.profile().count(Counter.CACHE_MISSES)).isEqualTo(2);
+  }
+
+  @Test
+  void testIndexIsPersistedInTheCacheDirectory() throws Exception {
+    write("a/target/classes/com/test/a/Compiled.class");
+    Path cache = Files.createTempDirectory("");
+    var first = options(cache);
+    MavenReactor.containing(root.resolve("b")).importsIn(root.resolve("a"), first);
+
+    // Reactors are rediscovered when their POM changes, which drops their in-memory indexes
+    Path pom = root.resolve("pom.xml");
+    Files.setLastModifiedTime(
+        pom, FileTime.fromMillis(Files.getLastModifiedTime(pom).toMillis() + 10_000));
+    var second = options(cache);
+    var got = MavenReactor.containing(root.resolve("b")).importsIn(root.resolve("a"), second);
+
+    assertThat(got).containsExactly(new Import(Selector.parse("com.test.a.Compiled"), false));
+    assertThat(first.profile().count(Counter.CACHE_MISSES)).isEqualTo(1);
+    assertThat(second.profile().count(Counter.CACHE_MISSES)).isEqualTo(0);
+    assertThat(second.profile().count(Counter.CACHE_HITS)).isEqualTo(1);
+  }
+
+  @Test
+  void testSiblingModuleIsIndexedFromSourcesIfNotCompiled() throws Exception {
+    write("a/src/main/java/com/test/a/Source.java", "package com.test.a;", "class Source {}");
+
+    var got = MavenReactor.containing(root.resolve("b")).importsIn(root.resolve("a"), options());
+
+    assertThat(got).containsExactly(new Import(Selector.parse("com.test.a.Source"), false));
+  }
+
+  @Test
+  void testSiblingModulesAreFoundWithoutBeingInstalled() throws Exception {
+    write("a/target/classes/com/test/a/Compiled.class");
+    Path target = root.resolve("b/src/main/java/com/test/b/Main.java");
+
+    Environment environment = Environments.autoSelect(target, "com.test.b", options());
+
+    assertThat(environment.search("Compiled"))
+        .hasValue(new Import(Selector.parse("com.test.a.Compiled"), false));
+  }
+
+  Options options() throws Exception {
+    // Make sure nothing gets resolved from a local repository
+    return Options.builder()
+        .repository(Files.createTempDirectory(""))
+        .profile(Profile.create())
+        .build();
+  }
+
+  Options options(Path cache) throws Exception {
+    return Options.builder()
+        .repository(Files.createTempDirectory(""))
+        .profile(Profile.create())
+        .cache(cache)
+        .build();
+  }
+
+  void write(String path, String... lines) throws Exception {
+    Path file = root.resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.write(file, String.join("\n", lines).getBytes());
+  }
+}
@@ -0,0 +1,122 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.common.Identifier;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MavenSymbolIndexTest {
+  static final List<Import> SYMBOLS =
+      List.of(
+          new Import(Selector.parse("com.google.common.collect.Lists"), false),
+          new Import(Selector.parse("com.google.common.collect.Sets"), false),
+          new Import(Selector.parse("com.google.common.collect.Lists.newArrayList"), true),
+          new Import(Selector.parse("com.test.Main"), false));
+
+  Path root;
+  Path jar;
+
+  @BeforeEach
+  void setup() throws Exception {
+    root = Files.createTempDirectory("");
+    Files.write(root.resolve("pom.xml"), "<project></project>".getBytes());
+    jar = Files.write(Files.createTempDirectory("").resolve("dependency.jar"), new byte[0]);
+  }
+
+  @Test
+  void testFreshIndexIsOpened() throws Exception {
+    MavenSymbolIndex.write(root, SYMBOLS, List.of(jar));
+
+    var got = MavenSymbolIndex.openIfFresh(root);
+
+    assertThat(got.get().lookup("Lists"))
+        .containsExactly(new Import(Selector.parse("com.google.common.collect.Lists"), false));
+  }
+
+  @Test
+  void testIndexOlderThanPomIsIgnored() throws Exception {
+    Path index = root.resolve(MavenSymbolIndex.LOCATION);
+    MavenSymbolIndex.write(root, SYMBOLS, List.of(jar));
+    Files.setLastModifiedTime(index, FileTime.fromMillis(0));
+
+    assertThat(MavenSymbolIndex.openIfFresh(root)).isEmpty();
+  }
+
+  @Test
+  void testIndexOlderThanADependencyIsIgnored() throws Exception {
+    MavenSymbolIndex.write(root, SYMBOLS, List.of(jar));
+    Path index = root.resolve(MavenSymbolIndex.LOCATION);
+    Files.setLastModifiedTime(
+        jar, FileTime.fromMillis(Files.getLastModifiedTime(index).toMillis() + 10_000));
+
+    assertThat(MavenSymbolIndex.openIfFresh(root)).isEmpty();
+  }
+
+  @Test
+  void testIndexOfADeletedDependencyIsIgnored() throws Exception {
+    MavenSymbolIndex.write(root, SYMBOLS, List.of(jar));
+    Files.delete(jar);
+
+    assertThat(MavenSymbolIndex.openIfFresh(root)).isEmpty();
+  }
+
+  @Test
+  void testStaticMembersAreNotSuggestedByDefault() throws Exception {
+    MavenSymbolIndex.write(
+        root,
+        List.of(
+            new Import(Selector.parse("com.google.common.collect.ImmutableList.of"), true),
+            new Import(Selector.parse("com.google.common.primitives.UnsignedLong.valueOf"), true)),
+        List.of(jar));
+    Options options = Options.builder().repository(Files.createTempDirectory("")).build();
+
+    var environment = new MavenEnvironment(root, root.resolve("Main.java"), "com.test", options);
+
+    // Most likely an inherited method or a method of the file, not a static member of a dependency
+    assertThat(environment.search("of")).isEmpty();
+    assertThat(environment.findImports(List.of(Identifier.of("valueOf")))).isEmpty();
+  }
+
+  @Test
+  void testFreshIndexIsUsedInsteadOfDependencies() throws Exception {
+    MavenSymbolIndex.write(root, SYMBOLS, List.of(jar));
+    Options options =
+        Options.builder().repository(Files.createTempDirectory("")).staticImports(true).build();
+
+    var environment = new MavenEnvironment(root, root.resolve("Main.java"), "com.test", options);
+
+    assertThat(environment.search("Sets"))
+        .hasValue(new Import(Selector.parse("com.google.common.collect.Sets"), false));
+    assertThat(environment.search("newArrayList"))
+        .hasValue(new Import(Selector.parse("com.google.common.collect.Lists.newArrayList"), true));
+    assertThat(environment.search("Main"))
+        .hasValue(new Import(Selector.parse("com.test.Main"), false));
+  }
+
+  @Test
+  void testIndexIsQueriedForManyIdentifiersAtOnce() throws Exception {
+    MavenSymbolIndex.write(root, SYMBOLS, List.of(jar));
+    Options options = Options.builder().repository(Files.createTempDirectory("")).build();
+    var environment = new MavenEnvironment(root, root.resolve("Main.java"), "com.test", options);
+
+    var got =
+        environment.findImports(
+            List.of(Identifier.of("Sets"), Identifier.of("Main"), Identifier.of("Missing")));
+
+    assertThat(got)
+        .containsExactly(
+            Identifier.of("Sets"),
+            List.of(new Import(Selector.parse("com.google.common.collect.Sets"), false)),
+            Identifier.of("Main"),
+            List.of(new Import(Selector.parse("com.test.Main"), false)));
+  }
+}
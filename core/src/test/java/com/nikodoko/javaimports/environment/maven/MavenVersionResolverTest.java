@@ -0,0 +1,110 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MavenVersionResolverTest {
+  Path artifact;
+  Path cache;
+
+  @BeforeEach
+  void setup() throws Exception {
+    var tmp = Files.createTempDirectory("");
+    artifact = Files.createDirectories(tmp.resolve("repository/com/test/app"));
+    cache = tmp.resolve("cache");
+  }
+
+  @Test
+  void testLatestVersionIsFoundByListing() throws Exception {
+    versions("1.0", "1.10", "1.2", "2.0-SNAPSHOT", "1.9-beta");
+
+    var got = MavenVersionResolver.withCache(Optional.empty()).latestVersion(artifact);
+
+    assertThat(got).isEqualTo("2.0-SNAPSHOT");
+  }
+
+  @Test
+  void testLocalMetadataIsPreferred() throws Exception {
+    versions("1.0", "2.0", "3.0");
+    Files.write(
+        artifact.resolve("maven-metadata-local.xml"),
+        String.join(
+                "\n",
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+                "<metadata>",
+                "  <groupId>com.test</groupId>",
+                "  <artifactId>app</artifactId>",
+                "  <versioning>",
+                "    <versions>",
+                "      <version>1.0</version>",
+                "      <version>2.0</version>",
+                "    </versions>",
+                "    <lastUpdated>20200101000000</lastUpdated>",
+                "  </versioning>",
+                "</metadata>")
+            .getBytes());
+
+    var got = MavenVersionResolver.withCache(Optional.empty()).latestVersion(artifact);
+
+    assertThat(got).isEqualTo("2.0");
+  }
+
+  @Test
+  void testResolvedVersionsArePersisted() throws Exception {
+    versions("1.0", "2.0");
+    var resolver = MavenVersionResolver.withCache(Optional.of(cache));
+    resolver.latestVersion(artifact);
+    resolver.persist();
+
+    var persisted = Files.readString(cache.resolve(MavenVersionResolver.CACHE_FILE));
+
+    assertThat(persisted).contains(":2.0");
+  }
+
+  @Test
+  void testCachesArePersistedIndependently() throws Exception {
+    versions("1.0");
+    var otherArtifact = Files.createDirectories(artifact.resolveSibling("other").resolve("3.0"));
+    var otherCache = cache.resolveSibling("other-cache");
+    var resolver = MavenVersionResolver.withCache(Optional.of(cache));
+    var otherResolver = MavenVersionResolver.withCache(Optional.of(otherCache));
+    resolver.latestVersion(artifact);
+    otherResolver.latestVersion(otherArtifact.getParent());
+
+    otherResolver.persist();
+    resolver.persist();
+
+    var persisted = Files.readString(cache.resolve(MavenVersionResolver.CACHE_FILE));
+    var otherPersisted = Files.readString(otherCache.resolve(MavenVersionResolver.CACHE_FILE));
+    assertThat(persisted).contains(":1.0");
+    assertThat(persisted).doesNotContain(":3.0");
+    assertThat(otherPersisted).contains(":3.0");
+    assertThat(otherPersisted).doesNotContain(":1.0");
+  }
+
+  @Test
+  void testResultsAreInvalidatedWhenVersionsAreAdded() throws Exception {
+    versions("1.0");
+    var resolver = MavenVersionResolver.withCache(Optional.of(cache));
+    assertThat(resolver.latestVersion(artifact)).isEqualTo("1.0");
+
+    versions("2.0");
+    // Make sure the modification is visible even on filesystems with a coarse resolution
+    Files.setLastModifiedTime(
+        artifact, FileTime.fromMillis(Files.getLastModifiedTime(artifact).toMillis() + 10_000));
+
+    assertThat(resolver.latestVersion(artifact)).isEqualTo("2.0");
+  }
+
+  void versions(String... versions) throws Exception {
+    for (String version : versions) {
+      Files.createDirectories(artifact.resolve(version));
+    }
+  }
+}
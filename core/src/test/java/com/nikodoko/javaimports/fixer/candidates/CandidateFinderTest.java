@@ -8,6 +8,7 @@ import com.nikodoko.javaimports.common.ImportProvider;
 import com.nikodoko.javaimports.common.Selector;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import net.jqwik.api.Example;
@@ -47,6 +48,79 @@ public class CandidateFinderTest {
                 .build());
   }
 
+  @Example
+  void itShouldLookUpQualifiedSelectorsBySuffix() {
+    var finder = new CandidateFinder();
+    finder.add(
+        Candidate.Source.STDLIB,
+        new ImportProvider() {
+          @Override
+          public Collection<Import> findImports(Identifier i) {
+            throw new AssertionError("should look up the whole selector");
+          }
+
+          @Override
+          public Collection<Import> findImports(Selector s) {
+            return s.equals(Selector.of("Map", "Entry"))
+                ? List.of(importOf("java.util.Map.Entry"))
+                : List.of();
+          }
+        });
+
+    assertThat(finder.find(List.of(Selector.of("Map", "Entry"))))
+        .isEqualTo(
+            Candidates.forSelector(Selector.of("Map", "Entry"))
+                .add(new Candidate(importOf("java.util.Map"), Candidate.Source.STDLIB))
+                .build());
+  }
+
+  @Example
+  void itShouldFindCandidatesForAllSelectorsAtOnce() {
+    var finder = new CandidateFinder();
+    finder.add(Candidate.Source.STDLIB, providerOf("com.myapp.MyClass", "java.util.List"));
+    finder.add(
+        Candidate.Source.EXTERNAL, providerOf("com.other.MyClass", "com.other.MyClass.Subclass"));
+    var selectors =
+        List.of(
+            Selector.of("MyClass"),
+            Selector.of("MyClass", "Subclass"),
+            Selector.of("List"),
+            Selector.of("Missing"));
+
+    var expected = selectors.stream().map(finder::find).reduce(Candidates::merge).orElseThrow();
+    assertThat(finder.find(selectors)).isEqualTo(expected);
+  }
+
+  @Example
+  void itShouldOnlyLookUpLowerPrioritySourcesForSelectorsWithoutCandidates() {
+    var finder = new CandidateFinder();
+    finder.add(Candidate.Source.EXTERNAL, providerOf("com.other.MyClass", "com.other.Other"));
+    finder.add(Candidate.Source.STDLIB, providerOf("com.myapp.MyClass"));
+
+    assertThat(finder.find(List.of(Selector.of("MyClass"), Selector.of("Other"))))
+        .isEqualTo(
+            Candidates.merge(
+                Candidates.forSelector(Selector.of("MyClass"))
+                    .add(new Candidate(importOf("com.myapp.MyClass"), Candidate.Source.STDLIB))
+                    .build(),
+                Candidates.forSelector(Selector.of("Other"))
+                    .add(new Candidate(importOf("com.other.Other"), Candidate.Source.EXTERNAL))
+                    .build()));
+  }
+
+  @Example
+  void itShouldNotQueryLowerPrioritySourcesWhenEverythingIsFound() {
+    var finder = new CandidateFinder();
+    finder.add(Candidate.Source.SIBLING, providerOf("com.myapp.MyClass"));
+    finder.add(
+        Candidate.Source.EXTERNAL,
+        ident -> {
+          throw new AssertionError("should not be queried");
+        });
+
+    assertThat(finder.find(List.of(Selector.of("MyClass")))).isNotEqualTo(Candidates.EMPTY);
+  }
+
   static ImportProvider providerOf(String... importStatements) {
     var importsByIdentifier = new HashMap<Identifier, List<Import>>();
     for (String statement : importStatements) {
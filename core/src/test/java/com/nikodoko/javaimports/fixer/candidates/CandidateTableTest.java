@@ -0,0 +1,55 @@
+package com.nikodoko.javaimports.fixer.candidates;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import net.jqwik.api.Example;
+
+public class CandidateTableTest {
+  static final Candidate LIST_UTIL =
+      new Candidate(new Import(Selector.parse("java.util.List"), false), Candidate.Source.STDLIB);
+  static final Candidate LIST_AWT =
+      new Candidate(new Import(Selector.parse("java.awt.List"), false), Candidate.Source.STDLIB);
+  static final Candidate MAP_UTIL =
+      new Candidate(new Import(Selector.parse("java.util.Map"), false), Candidate.Source.STDLIB);
+
+  @Example
+  void itShouldGroupRowsBySelector() {
+    var candidates =
+        Candidates.merge(
+            Candidates.forSelector(Selector.of("List")).add(LIST_UTIL, LIST_AWT).build(),
+            Candidates.forSelector(Selector.of("Map")).add(MAP_UTIL).build());
+
+    var table = CandidateTable.of(candidates);
+
+    assertThat(table.selectorCount()).isEqualTo(2);
+    for (int s = 0; s < table.selectorCount(); s++) {
+      var expected = candidates.getFor(table.selector(s));
+      assertThat(table.end(s) - table.start(s)).isEqualTo(expected.size());
+      for (int row = table.start(s); row < table.end(s); row++) {
+        var candidate = expected.get(row - table.start(s));
+        assertThat(table.importAt(row)).isEqualTo(candidate.i);
+        assertThat(table.source(row)).isEqualTo(candidate.s);
+        assertThat(table.scope(row)).isEqualTo(candidate.i.selector.scope());
+      }
+    }
+  }
+
+  @Example
+  void itShouldKeepTrackOfRemovedRows() {
+    var table =
+        CandidateTable.of(
+            Candidates.forSelector(Selector.of("List")).add(LIST_AWT, LIST_UTIL).build());
+
+    table.remove(table.start(0));
+
+    assertThat(table.remaining(0)).isEqualTo(1);
+    assertThat(table.importAt(table.first(0))).isEqualTo(LIST_UTIL.i);
+
+    table.remove(table.first(0));
+
+    assertThat(table.remaining(0)).isEqualTo(0);
+    assertThat(table.first(0)).isEqualTo(-1);
+  }
+}
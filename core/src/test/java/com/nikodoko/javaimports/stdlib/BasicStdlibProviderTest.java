@@ -3,7 +3,9 @@ package com.nikodoko.javaimports.stdlib;
 import static com.google.common.truth.Truth.assertThat;
 
 import com.google.common.collect.ImmutableSet;
-import com.nikodoko.javaimports.parser.Import;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 
@@ -13,7 +15,7 @@ class BasicStdlibProviderTest {
   @Test
   void testFindImportWithNoDuplicates() {
     Map<String, Import> got = stdlib.find(ImmutableSet.of("Component"));
-    Import expected = new Import("Component", "java.awt", false);
+    Import expected = new Import(Selector.parse("java.awt.Component"), false);
 
     assertThat(got.get("Component")).isEqualTo(expected);
   }
@@ -21,7 +23,7 @@ class BasicStdlibProviderTest {
   @Test
   void testFindPrioritizesShortPath() {
     Map<String, Import> got = stdlib.find(ImmutableSet.of("Duration"));
-    Import expected = new Import("Duration", "java.time", false);
+    Import expected = new Import(Selector.parse("java.time.Duration"), false);
 
     assertThat(got.get("Duration")).isEqualTo(expected);
   }
@@ -29,7 +31,7 @@ class BasicStdlibProviderTest {
   @Test
   void testFindPrioritizesJavaUtilIfConflict() {
     Map<String, Import> got = stdlib.find(ImmutableSet.of("List"));
-    Import expected = new Import("List", "java.util", false);
+    Import expected = new Import(Selector.parse("java.util.List"), false);
 
     assertThat(got.get("List")).isEqualTo(expected);
   }
@@ -37,7 +39,7 @@ class BasicStdlibProviderTest {
   @Test
   void testFindPrioritizesPackagesAlreadyInUse() {
     Map<String, Import> got = stdlib.find(ImmutableSet.of("List", "Component"));
-    Import expected = new Import("List", "java.awt", false);
+    Import expected = new Import(Selector.parse("java.awt.List"), false);
 
     assertThat(got.get("List")).isEqualTo(expected);
   }
@@ -61,4 +63,23 @@ class BasicStdlibProviderTest {
   void testIdentifierInSubScopeOfJavaLangIsNotConsideredInJavaLang() {
     assertThat(stdlib.isInJavaLang("State")).isFalse();
   }
+
+  @Test
+  void testOnlyIdentifiersInTheStdlibAreMemoized() {
+    Map<String, Integer> lookups = new HashMap<>();
+    BasicStdlibProvider counting =
+        new BasicStdlibProvider(
+            identifier -> {
+              lookups.merge(identifier, 1, Integer::sum);
+              return new FakeStdlib().getClassesFor(identifier);
+            });
+
+    for (int i = 0; i < 3; i++) {
+      counting.isInJavaLang("Object");
+      counting.isInJavaLang("Derp");
+    }
+
+    // Memoizing misses would keep every identifier of every project in memory
+    assertThat(lookups).containsExactly("Object", 1, "Derp", 3);
+  }
 }
@@ -1,39 +1,24 @@
 package com.nikodoko.javaimports.stdlib;
 
 import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
 import com.nikodoko.javaimports.stdlib.internal.Stdlib;
 import java.util.Map;
 
 public class FakeStdlib implements Stdlib {
-  private static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
+  private static final Map<String, String[]> CLASSES =
+      new ImmutableMap.Builder<String, String[]>()
           .put(
               "State",
-              new Import[] {
-                new Import("State", "java.lang.Thread", false),
+              new String[] {
+                "java.lang.Thread.State",
               })
-          .put(
-              "Object",
-              new Import[] {
-                new Import("Object", "java.lang", false),
-                new Import("Object", "org.omg.CORBA", false)
-              })
-          .put(
-              "List",
-              new Import[] {
-                new Import("List", "java.awt", false), new Import("List", "java.util", false)
-              })
-          .put(
-              "Duration",
-              new Import[] {
-                new Import("Duration", "java.time", false),
-                new Import("Duration", "javax.xml.datatype", false)
-              })
-          .put("Component", new Import[] {new Import("Component", "java.awt", false)})
+          .put("Object", new String[] {"java.lang.Object", "org.omg.CORBA.Object"})
+          .put("List", new String[] {"java.awt.List", "java.util.List"})
+          .put("Duration", new String[] {"java.time.Duration", "javax.xml.datatype.Duration"})
+          .put("Component", new String[] {"java.awt.Component"})
           .build();
 
-  public Import[] getClassesFor(String identifier) {
+  public String[] getClassesFor(String identifier) {
     return CLASSES.get(identifier);
   }
 }
@@ -1,7 +1,7 @@
 package com.nikodoko.javaimports.stdlib;
 
 import com.nikodoko.javaimports.common.Identifier;
-import com.nikodoko.javaimports.parser.Import;
+import com.nikodoko.javaimports.common.Import;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -13,7 +13,7 @@ public class FakeStdlibProvider implements StdlibProvider {
   public static FakeStdlibProvider of(Import... imports) {
     Map<String, Import> byIdentifier = new HashMap<>();
     for (Import i : imports) {
-      byIdentifier.put(i.name(), i);
+      byIdentifier.put(i.name().toString(), i);
     }
 
     return new FakeStdlibProvider(byIdentifier);
@@ -36,13 +36,13 @@ public class FakeStdlibProvider implements StdlibProvider {
   }
 
   @Override
-  public Collection<com.nikodoko.javaimports.common.Import> findImports(Identifier i) {
+  public Collection<Import> findImports(Identifier i) {
     var found = imports.get(i.toString());
     if (found == null) {
       return List.of();
     }
 
-    return List.of(found.toNew());
+    return List.of(found);
   }
 
   @Override
@@ -0,0 +1,90 @@
+package com.nikodoko.javaimports.plugin;
+
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.environment.JarLoader;
+import com.nikodoko.javaimports.environment.maven.MavenSymbolIndex;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Writes the symbol index of the project ({@code target/javaimports-index.bin}), so that
+ * javaimports does not have to parse POMs and scan dependencies on every run.
+ *
+ * <p>The index covers the types and static members of all dependencies (as resolved by Maven,
+ * transitive ones included) and of the project itself.
+ */
+@Mojo(
+    name = "index",
+    defaultPhase = LifecyclePhase.COMPILE,
+    requiresDependencyResolution = ResolutionScope.TEST,
+    threadSafe = true)
+public class IndexMojo extends AbstractMojo {
+  @Parameter(defaultValue = "${project}", readonly = true, required = true)
+  private MavenProject project;
+
+  @Parameter(property = "javaimports.skip", defaultValue = "false")
+  private boolean skip;
+
+  @Override
+  public void execute() throws MojoExecutionException {
+    if (skip) {
+      getLog().info("skipping symbol index generation");
+      return;
+    }
+
+    List<Path> entries = new ArrayList<>();
+    for (Artifact artifact : project.getArtifacts()) {
+      if (artifact.getFile() != null) {
+        entries.add(artifact.getFile().toPath());
+      }
+    }
+    entries.add(Path.of(project.getBuild().getOutputDirectory()));
+
+    List<Import> imports = new ArrayList<>();
+    for (Path entry : entries) {
+      imports.addAll(load(entry));
+    }
+
+    Path root = project.getBasedir().toPath();
+    Path index = root.resolve(MavenSymbolIndex.LOCATION);
+    try {
+      MavenSymbolIndex.write(root, imports, entries);
+    } catch (IOException e) {
+      throw new MojoExecutionException("could not write symbol index " + index, e);
+    }
+
+    getLog()
+        .info(
+            String.format(
+                "indexed %d symbols from %d classpath entries in %s",
+                imports.size(), entries.size(), MavenSymbolIndex.LOCATION));
+  }
+
+  private List<Import> load(Path entry) {
+    if (!Files.exists(entry)) {
+      return List.of();
+    }
+
+    List<Import> imports = new ArrayList<>();
+    try {
+      imports.addAll(new JarLoader().load(entry));
+      imports.addAll(new StaticMembers().load(entry));
+    } catch (IOException e) {
+      // An incomplete index is better than none
+      getLog().warn(String.format("could not index %s", entry), e);
+    }
+
+    return imports;
+  }
+}
@@ -0,0 +1,202 @@
+package com.nikodoko.javaimports.plugin;
+
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Extracts the statically importable members (public static fields and methods of public classes)
+ * of a .jar or a directory of compiled classes.
+ *
+ * <p>This only reads what it needs from class files (the constant pool, the class access flags and
+ * the members), which is much cheaper than loading the classes.
+ */
+class StaticMembers {
+  private static final int ACC_PUBLIC = 0x0001;
+  private static final int ACC_STATIC = 0x0008;
+  private static final int ACC_SYNTHETIC = 0x1000;
+  private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+
+  // Constant pool tags
+  private static final int UTF8 = 1;
+  private static final int INTEGER = 3;
+  private static final int FLOAT = 4;
+  private static final int LONG = 5;
+  private static final int DOUBLE = 6;
+  private static final int CLASS = 7;
+  private static final int STRING = 8;
+  private static final int FIELD_REF = 9;
+  private static final int METHOD_REF = 10;
+  private static final int INTERFACE_METHOD_REF = 11;
+  private static final int NAME_AND_TYPE = 12;
+  private static final int METHOD_HANDLE = 15;
+  private static final int METHOD_TYPE = 16;
+  private static final int DYNAMIC = 17;
+  private static final int INVOKE_DYNAMIC = 18;
+  private static final int MODULE = 19;
+  private static final int PACKAGE = 20;
+
+  List<Import> load(Path dependency) throws IOException {
+    if (Files.isDirectory(dependency)) {
+      return scanDirectory(dependency);
+    }
+
+    return scanJar(dependency);
+  }
+
+  private List<Import> scanJar(Path jar) throws IOException {
+    List<Import> imports = new ArrayList<>();
+    try (JarInputStream in = new JarInputStream(new FileInputStream(jar.toString()))) {
+      JarEntry entry;
+      while ((entry = in.getNextJarEntry()) != null) {
+        if (isClassFile(entry.getName())) {
+          imports.addAll(read(in));
+        }
+      }
+    }
+
+    return imports;
+  }
+
+  private List<Import> scanDirectory(Path directory) throws IOException {
+    List<Path> classes;
+    try (Stream<Path> files = Files.walk(directory)) {
+      classes = files.filter(f -> isClassFile(f.toString())).collect(Collectors.toList());
+    }
+
+    List<Import> imports = new ArrayList<>();
+    for (Path c : classes) {
+      try (InputStream in = Files.newInputStream(c)) {
+        imports.addAll(read(in));
+      }
+    }
+
+    return imports;
+  }
+
+  private static boolean isClassFile(String name) {
+    return name.endsWith(".class") && !name.endsWith("module-info.class");
+  }
+
+  /** Reads the static members of the class file in {@code in}, without closing it. */
+  static List<Import> read(InputStream in) throws IOException {
+    // The stream might be a jar entry, so read it fully first to avoid closing it
+    DataInputStream data = new DataInputStream(new ByteArrayInputStream(in.readAllBytes()));
+    if (data.readInt() != CLASS_FILE_MAGIC) {
+      throw new IOException("not a class file");
+    }
+
+    data.readUnsignedShort(); // minor version
+    data.readUnsignedShort(); // major version
+    String[] utf8 = new String[data.readUnsignedShort()];
+    int[] classNames = new int[utf8.length];
+    for (int i = 1; i < utf8.length; i++) {
+      int tag = data.readUnsignedByte();
+      switch (tag) {
+        case UTF8:
+          utf8[i] = data.readUTF();
+          break;
+        case CLASS:
+          classNames[i] = data.readUnsignedShort();
+          break;
+        case STRING:
+        case METHOD_TYPE:
+        case MODULE:
+        case PACKAGE:
+          data.skipBytes(2);
+          break;
+        case METHOD_HANDLE:
+          data.skipBytes(3);
+          break;
+        case INTEGER:
+        case FLOAT:
+        case FIELD_REF:
+        case METHOD_REF:
+        case INTERFACE_METHOD_REF:
+        case NAME_AND_TYPE:
+        case DYNAMIC:
+        case INVOKE_DYNAMIC:
+          data.skipBytes(4);
+          break;
+        case LONG:
+        case DOUBLE:
+          // These take two entries in the constant pool
+          data.skipBytes(8);
+          i++;
+          break;
+        default:
+          throw new IOException("unknown constant pool tag " + tag);
+      }
+    }
+
+    int access = data.readUnsignedShort();
+    String binaryName = utf8[classNames[data.readUnsignedShort()]];
+    if ((access & ACC_PUBLIC) == 0 || isAnonymousOrLocal(binaryName)) {
+      return List.of();
+    }
+
+    data.readUnsignedShort(); // super class
+    data.skipBytes(2 * data.readUnsignedShort()); // interfaces
+
+    // Overloaded methods share the same import
+    Set<String> names = new LinkedHashSet<>();
+    readMembers(data, utf8, names); // fields
+    readMembers(data, utf8, names); // methods
+
+    Selector qualifier = Selector.parse(binaryName.replace('/', '.').replace('$', '.'));
+    return names.stream()
+        .map(n -> new Import(qualifier.combine(Selector.of(n)), true))
+        .collect(Collectors.toList());
+  }
+
+  private static void readMembers(DataInputStream data, String[] utf8, Set<String> names)
+      throws IOException {
+    int count = data.readUnsignedShort();
+    for (int i = 0; i < count; i++) {
+      int access = data.readUnsignedShort();
+      String name = utf8[data.readUnsignedShort()];
+      data.readUnsignedShort(); // descriptor
+      int attributes = data.readUnsignedShort();
+      for (int j = 0; j < attributes; j++) {
+        data.readUnsignedShort(); // name
+        data.skipBytes(data.readInt());
+      }
+
+      boolean isImportable =
+          (access & (ACC_PUBLIC | ACC_STATIC)) == (ACC_PUBLIC | ACC_STATIC)
+              && (access & ACC_SYNTHETIC) == 0
+              && !name.startsWith("<");
+      if (isImportable) {
+        names.add(name);
+      }
+    }
+  }
+
+  // Anonymous and local classes are compiled to Outer$1, Outer$1Local, etc.
+  private static boolean isAnonymousOrLocal(String binaryName) {
+    int separator = binaryName.indexOf('$');
+    while (separator >= 0 && separator + 1 < binaryName.length()) {
+      if (Character.isDigit(binaryName.charAt(separator + 1))) {
+        return true;
+      }
+
+      separator = binaryName.indexOf('$', separator + 1);
+    }
+
+    return false;
+  }
+}
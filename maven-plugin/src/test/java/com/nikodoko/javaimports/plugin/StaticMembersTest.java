@@ -0,0 +1,61 @@
+package com.nikodoko.javaimports.plugin;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import java.io.InputStream;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class StaticMembersTest {
+  public static class Fixture {
+    public static final long CONSTANT = 1L;
+    public static double field = 0.5;
+    static int packagePrivate;
+    public int notStatic;
+
+    static {
+      packagePrivate = 1;
+    }
+
+    public static void overloaded() {}
+
+    public static void overloaded(String s) {}
+
+    private static void notPublic() {}
+
+    public Runnable lambda() {
+      return () -> notPublic();
+    }
+  }
+
+  static class NotPublic {
+    public static void method() {}
+  }
+
+  @Test
+  void testPublicStaticMembersAreRead() throws Exception {
+    var got = read(Fixture.class);
+
+    Selector qualifier =
+        Selector.parse("com.nikodoko.javaimports.plugin.StaticMembersTest.Fixture");
+    assertThat(got)
+        .containsExactly(
+            new Import(qualifier.combine(Selector.of("CONSTANT")), true),
+            new Import(qualifier.combine(Selector.of("field")), true),
+            new Import(qualifier.combine(Selector.of("overloaded")), true));
+  }
+
+  @Test
+  void testMembersOfNonPublicClassesAreIgnored() throws Exception {
+    assertThat(read(NotPublic.class)).isEmpty();
+  }
+
+  List<Import> read(Class<?> c) throws Exception {
+    String name = c.getName().substring(c.getName().lastIndexOf('.') + 1);
+    try (InputStream in = c.getResourceAsStream(name + ".class")) {
+      return StaticMembers.read(in);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+#!/usr/bin/env bash
+#
+# Fails when a JMH run is slower than a baseline run by more than a given percentage.
+#
+# usage: check-benchmarks.sh baseline.csv results.csv [max-regression-percent]
+#
+# Both files are JMH results in CSV format (`-rf csv -rff results.csv`), ideally produced on the
+# same machine. Benchmarks are matched by name, mode and parameters. Scores are times (lower is
+# better), except in throughput mode (higher is better). Benchmarks that are only in one of the
+# files are reported but do not fail the check. The default maximum regression is 10%.
+
+set -euo pipefail
+
+if [[ $# -lt 2 ]]; then
+  echo "usage: $(basename "$0") baseline.csv results.csv [max-regression-percent]" >&2
+  exit 2
+fi
+
+baseline="$1"
+results="$2"
+threshold="${3:-10}"
+
+awk -F, -v threshold="$threshold" '
+  function unquote(s) {
+    gsub(/"/, "", s)
+    return s
+  }
+
+  # Columns are: Benchmark, Mode, Threads, Samples, Score, Score Error, Unit, then parameters
+  function key(   k, i) {
+    k = unquote($1) " " unquote($2)
+    for (i = 8; i <= NF; i++) {
+      k = k " " unquote($i)
+    }
+    return k
+  }
+
+  FNR == 1 { next }
+
+  FNR == NR {
+    base[key()] = $5
+    next
+  }
+
+  {
+    k = key()
+    if (!(k in base)) {
+      printf "new        %s\n", k
+      next
+    }
+
+    seen[k] = 1
+    mode = unquote($2)
+    # Percent change, positive when worse
+    if (base[k] == 0) {
+      change = 0
+    } else if (mode == "thrpt") {
+      change = (base[k] - $5) / base[k] * 100
+    } else {
+      change = ($5 - base[k]) / base[k] * 100
+    }
+
+    status = change > threshold ? "REGRESSED" : "ok"
+    printf "%-10s %s: %g -> %g %s (%+.1f%%)\n", status, k, base[k], $5, unquote($7), change
+    if (change > threshold) {
+      failed++
+    }
+  }
+
+  END {
+    for (k in base) {
+      if (!(k in seen)) {
+        printf "missing    %s\n", k
+      }
+    }
+
+    if (failed > 0) {
+      printf "%d benchmark(s) regressed by more than %s%%\n", failed, threshold
+      exit 1
+    }
+  }
+' "$baseline" "$results"
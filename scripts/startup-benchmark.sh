@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+#
+# Compares the time javaimports takes to fix a small file with and without its AppCDS archive.
+#
+# usage: startup-benchmark.sh [runs]
+#
+# Build the jar and its archive first, with `mvn package -DskipTests -Pappcds`. Other variables
+# are passed to the launcher (see ./javaimports).
+
+set -euo pipefail
+
+runs="${1:-10}"
+launcher="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)/javaimports"
+dir="$(mktemp -d)"
+trap 'rm -rf "$dir"' EXIT
+
+# Small enough for startup to dominate, but with imports to add from the stdlib
+mkdir -p "$dir/com/example"
+cat > "$dir/com/example/Small.java" <<'JAVA'
+package com.example;
+
+class Small {
+  List<String> names = new ArrayList<>();
+  Map<String, Duration> timeouts = new HashMap<>();
+}
+JAVA
+
+now_ms() {
+  # EPOCHREALTIME needs bash 5, date +%N is not supported everywhere
+  if [[ -n "${EPOCHREALTIME:-}" ]]; then
+    local t="${EPOCHREALTIME/[,.]/}"
+    echo $((t / 1000))
+  else
+    echo $(($(date +%s%N) / 1000000))
+  fi
+}
+
+measure() {
+  local cds="$1" times=() start
+  # A first run to warm up the file system caches
+  JAVAIMPORTS_CDS="$cds" "$launcher" "$dir/com/example/Small.java" > /dev/null
+  for ((i = 0; i < runs; i++)); do
+    start="$(now_ms)"
+    JAVAIMPORTS_CDS="$cds" "$launcher" "$dir/com/example/Small.java" > /dev/null
+    times+=($(($(now_ms) - start)))
+  done
+
+  printf '%s\n' "${times[@]}" | sort -n | awk -v cds="$cds" '
+    { t[NR] = $1 }
+    END { printf "cds=%-3s  min %5d ms  median %5d ms  max %5d ms\n", cds, t[1], t[int((NR + 1) / 2)], t[NR] }'
+}
+
+measure off
+measure on